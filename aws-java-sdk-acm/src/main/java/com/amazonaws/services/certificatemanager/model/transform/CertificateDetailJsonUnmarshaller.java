@@ -47,78 +47,63 @@ public class CertificateDetailJsonUnmarshaller implements Unmarshaller<Certifica
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CertificateArn", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubjectAlternativeNames", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setSubjectAlternativeNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("DomainValidationOptions", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setDomainValidationOptions(new ListUnmarshaller<DomainValidation>(DomainValidationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Serial", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setSerial(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Subject", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setSubject(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Issuer", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setIssuer(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("IssuedAt", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setIssuedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RevokedAt", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setRevokedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("RevocationReason", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setRevocationReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NotBefore", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setNotBefore(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("NotAfter", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setNotAfter(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyAlgorithm", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setKeyAlgorithm(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SignatureAlgorithm", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setSignatureAlgorithm(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InUseBy", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setInUseBy(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("FailureReason", targetDepth)) {
-                    context.nextToken();
-                    certificateDetail.setFailureReason(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CertificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubjectAlternativeNames".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setSubjectAlternativeNames(subjectAlternativeNamesUnmarshaller.unmarshall(context));
+                    } else if ("DomainValidationOptions".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setDomainValidationOptions(domainValidationOptionsUnmarshaller.unmarshall(context));
+                    } else if ("Serial".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setSerial(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Subject".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setSubject(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Issuer".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setIssuer(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("IssuedAt".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setIssuedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RevokedAt".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setRevokedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("RevocationReason".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setRevocationReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NotBefore".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setNotBefore(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("NotAfter".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setNotAfter(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("KeyAlgorithm".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setKeyAlgorithm(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SignatureAlgorithm".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setSignatureAlgorithm(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InUseBy".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setInUseBy(inUseByUnmarshaller.unmarshall(context));
+                    } else if ("FailureReason".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDetail.setFailureReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -132,6 +117,25 @@ public class CertificateDetailJsonUnmarshaller implements Unmarshaller<Certifica
         return certificateDetail;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> subjectAlternativeNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<DomainValidation>, JsonUnmarshallerContext> domainValidationOptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DomainValidation>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DomainValidation>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DomainValidation>(DomainValidationJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> inUseByUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CertificateDetailJsonUnmarshaller instance;
 
     public static CertificateDetailJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class CertificateSummaryJsonUnmarshaller implements Unmarshaller<Certific
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CertificateArn", targetDepth)) {
-                    context.nextToken();
-                    certificateSummary.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    certificateSummary.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CertificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        certificateSummary.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        certificateSummary.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DescribeCertificateResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Certificate", targetDepth)) {
-                    context.nextToken();
-                    describeCertificateResult.setCertificate(CertificateDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Certificate".equals(fieldName)) {
+                        context.nextToken();
+                        describeCertificateResult.setCertificate(CertificateDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class DomainValidationJsonUnmarshaller implements Unmarshaller<DomainVali
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    domainValidation.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidationEmails", targetDepth)) {
-                    context.nextToken();
-                    domainValidation.setValidationEmails(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("ValidationDomain", targetDepth)) {
-                    context.nextToken();
-                    domainValidation.setValidationDomain(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        domainValidation.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ValidationEmails".equals(fieldName)) {
+                        context.nextToken();
+                        domainValidation.setValidationEmails(validationEmailsUnmarshaller.unmarshall(context));
+                    } else if ("ValidationDomain".equals(fieldName)) {
+                        context.nextToken();
+                        domainValidation.setValidationDomain(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class DomainValidationJsonUnmarshaller implements Unmarshaller<DomainVali
         return domainValidation;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> validationEmailsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DomainValidationJsonUnmarshaller instance;
 
     public static DomainValidationJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DomainValidationOptionJsonUnmarshaller implements Unmarshaller<Doma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    domainValidationOption.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidationDomain", targetDepth)) {
-                    context.nextToken();
-                    domainValidationOption.setValidationDomain(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        domainValidationOption.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ValidationDomain".equals(fieldName)) {
+                        context.nextToken();
+                        domainValidationOption.setValidationDomain(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class GetCertificateResultJsonUnmarshaller implements Unmarshaller<GetCer
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Certificate", targetDepth)) {
-                    context.nextToken();
-                    getCertificateResult.setCertificate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificateChain", targetDepth)) {
-                    context.nextToken();
-                    getCertificateResult.setCertificateChain(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Certificate".equals(fieldName)) {
+                        context.nextToken();
+                        getCertificateResult.setCertificate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CertificateChain".equals(fieldName)) {
+                        context.nextToken();
+                        getCertificateResult.setCertificateChain(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class ListCertificatesResultJsonUnmarshaller implements Unmarshaller<List
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listCertificatesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificateSummaryList", targetDepth)) {
-                    context.nextToken();
-                    listCertificatesResult.setCertificateSummaryList(new ListUnmarshaller<CertificateSummary>(CertificateSummaryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listCertificatesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CertificateSummaryList".equals(fieldName)) {
+                        context.nextToken();
+                        listCertificatesResult.setCertificateSummaryList(certificateSummaryListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListCertificatesResultJsonUnmarshaller implements Unmarshaller<List
         return listCertificatesResult;
     }
 
+    private final Unmarshaller<java.util.List<CertificateSummary>, JsonUnmarshallerContext> certificateSummaryListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CertificateSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CertificateSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CertificateSummary>(CertificateSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListCertificatesResultJsonUnmarshaller instance;
 
     public static ListCertificatesResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class ListTagsForCertificateResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    listTagsForCertificateResult.setTags(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Tags".equals(fieldName)) {
+                        context.nextToken();
+                        listTagsForCertificateResult.setTags(tagsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class ListTagsForCertificateResultJsonUnmarshaller implements Unmarshalle
         return listTagsForCertificateResult;
     }
 
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListTagsForCertificateResultJsonUnmarshaller instance;
 
     public static ListTagsForCertificateResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class RequestCertificateResultJsonUnmarshaller implements Unmarshaller<Re
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CertificateArn", targetDepth)) {
-                    context.nextToken();
-                    requestCertificateResult.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CertificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        requestCertificateResult.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
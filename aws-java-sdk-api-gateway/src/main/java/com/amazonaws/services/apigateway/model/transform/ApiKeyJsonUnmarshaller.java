@@ -47,37 +47,33 @@ public class ApiKeyJsonUnmarshaller implements Unmarshaller<ApiKey, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("enabled", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stageKeys", targetDepth)) {
-                    context.nextToken();
-                    apiKey.setStageKeys(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        apiKey.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("value".equals(fieldName)) {
+                        context.nextToken();
+                        apiKey.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        apiKey.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        apiKey.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("enabled".equals(fieldName)) {
+                        context.nextToken();
+                        apiKey.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("createdDate".equals(fieldName)) {
+                        context.nextToken();
+                        apiKey.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lastUpdatedDate".equals(fieldName)) {
+                        context.nextToken();
+                        apiKey.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("stageKeys".equals(fieldName)) {
+                        context.nextToken();
+                        apiKey.setStageKeys(stageKeysUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -91,6 +87,13 @@ public class ApiKeyJsonUnmarshaller implements Unmarshaller<ApiKey, JsonUnmarsha
         return apiKey;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> stageKeysUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ApiKeyJsonUnmarshaller instance;
 
     public static ApiKeyJsonUnmarshaller getInstance() {
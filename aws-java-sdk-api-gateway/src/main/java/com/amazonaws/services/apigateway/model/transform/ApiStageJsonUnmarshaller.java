@@ -47,13 +47,15 @@ public class ApiStageJsonUnmarshaller implements Unmarshaller<ApiStage, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("apiId", targetDepth)) {
-                    context.nextToken();
-                    apiStage.setApiId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stage", targetDepth)) {
-                    context.nextToken();
-                    apiStage.setStage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("apiId".equals(fieldName)) {
+                        context.nextToken();
+                        apiStage.setApiId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stage".equals(fieldName)) {
+                        context.nextToken();
+                        apiStage.setStage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
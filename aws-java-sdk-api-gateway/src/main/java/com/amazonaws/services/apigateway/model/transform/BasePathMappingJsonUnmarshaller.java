@@ -47,17 +47,18 @@ public class BasePathMappingJsonUnmarshaller implements Unmarshaller<BasePathMap
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("basePath", targetDepth)) {
-                    context.nextToken();
-                    basePathMapping.setBasePath(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("restApiId", targetDepth)) {
-                    context.nextToken();
-                    basePathMapping.setRestApiId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stage", targetDepth)) {
-                    context.nextToken();
-                    basePathMapping.setStage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("basePath".equals(fieldName)) {
+                        context.nextToken();
+                        basePathMapping.setBasePath(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("restApiId".equals(fieldName)) {
+                        context.nextToken();
+                        basePathMapping.setRestApiId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stage".equals(fieldName)) {
+                        context.nextToken();
+                        basePathMapping.setStage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class ClientCertificateJsonUnmarshaller implements Unmarshaller<ClientCer
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clientCertificateId", targetDepth)) {
-                    context.nextToken();
-                    clientCertificate.setClientCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    clientCertificate.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("pemEncodedCertificate", targetDepth)) {
-                    context.nextToken();
-                    clientCertificate.setPemEncodedCertificate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    clientCertificate.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("expirationDate", targetDepth)) {
-                    context.nextToken();
-                    clientCertificate.setExpirationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("clientCertificateId".equals(fieldName)) {
+                        context.nextToken();
+                        clientCertificate.setClientCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        clientCertificate.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("pemEncodedCertificate".equals(fieldName)) {
+                        context.nextToken();
+                        clientCertificate.setPemEncodedCertificate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createdDate".equals(fieldName)) {
+                        context.nextToken();
+                        clientCertificate.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("expirationDate".equals(fieldName)) {
+                        context.nextToken();
+                        clientCertificate.setExpirationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
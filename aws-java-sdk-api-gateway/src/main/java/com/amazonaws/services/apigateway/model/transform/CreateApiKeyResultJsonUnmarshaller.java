@@ -47,37 +47,33 @@ public class CreateApiKeyResultJsonUnmarshaller implements Unmarshaller<CreateAp
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("enabled", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stageKeys", targetDepth)) {
-                    context.nextToken();
-                    createApiKeyResult.setStageKeys(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        createApiKeyResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("value".equals(fieldName)) {
+                        context.nextToken();
+                        createApiKeyResult.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        createApiKeyResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        createApiKeyResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("enabled".equals(fieldName)) {
+                        context.nextToken();
+                        createApiKeyResult.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("createdDate".equals(fieldName)) {
+                        context.nextToken();
+                        createApiKeyResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lastUpdatedDate".equals(fieldName)) {
+                        context.nextToken();
+                        createApiKeyResult.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("stageKeys".equals(fieldName)) {
+                        context.nextToken();
+                        createApiKeyResult.setStageKeys(stageKeysUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -91,6 +87,13 @@ public class CreateApiKeyResultJsonUnmarshaller implements Unmarshaller<CreateAp
         return createApiKeyResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> stageKeysUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CreateApiKeyResultJsonUnmarshaller instance;
 
     public static CreateApiKeyResultJsonUnmarshaller getInstance() {
@@ -47,45 +47,39 @@ public class CreateAuthorizerResultJsonUnmarshaller implements Unmarshaller<Crea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("providerARNs", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setProviderARNs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("authType", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setAuthType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerUri", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setAuthorizerUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerCredentials", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setAuthorizerCredentials(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identitySource", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setIdentitySource(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identityValidationExpression", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setIdentityValidationExpression(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerResultTtlInSeconds", targetDepth)) {
-                    context.nextToken();
-                    createAuthorizerResult.setAuthorizerResultTtlInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        createAuthorizerResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        createAuthorizerResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        createAuthorizerResult.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("providerARNs".equals(fieldName)) {
+                        context.nextToken();
+                        createAuthorizerResult.setProviderARNs(providerARNsUnmarshaller.unmarshall(context));
+                    } else if ("authType".equals(fieldName)) {
+                        context.nextToken();
+                        createAuthorizerResult.setAuthType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizerUri".equals(fieldName)) {
+                        context.nextToken();
+                        createAuthorizerResult.setAuthorizerUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizerCredentials".equals(fieldName)) {
+                        context.nextToken();
+                        createAuthorizerResult.setAuthorizerCredentials(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("identitySource".equals(fieldName)) {
+                        context.nextToken();
+                        createAuthorizerResult.setIdentitySource(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("identityValidationExpression".equals(fieldName)) {
+                        context.nextToken();
+                        createAuthorizerResult.setIdentityValidationExpression(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizerResultTtlInSeconds".equals(fieldName)) {
+                        context.nextToken();
+                        createAuthorizerResult.setAuthorizerResultTtlInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -99,6 +93,13 @@ public class CreateAuthorizerResultJsonUnmarshaller implements Unmarshaller<Crea
         return createAuthorizerResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> providerARNsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CreateAuthorizerResultJsonUnmarshaller instance;
 
     public static CreateAuthorizerResultJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class CreateModelResultJsonUnmarshaller implements Unmarshaller<CreateMod
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createModelResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    createModelResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    createModelResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("schema", targetDepth)) {
-                    context.nextToken();
-                    createModelResult.setSchema(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("contentType", targetDepth)) {
-                    context.nextToken();
-                    createModelResult.setContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        createModelResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        createModelResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        createModelResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("schema".equals(fieldName)) {
+                        context.nextToken();
+                        createModelResult.setSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("contentType".equals(fieldName)) {
+                        context.nextToken();
+                        createModelResult.setContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
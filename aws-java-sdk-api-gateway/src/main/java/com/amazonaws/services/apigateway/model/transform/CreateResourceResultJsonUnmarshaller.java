@@ -47,26 +47,24 @@ public class CreateResourceResultJsonUnmarshaller implements Unmarshaller<Create
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createResourceResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("parentId", targetDepth)) {
-                    context.nextToken();
-                    createResourceResult.setParentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("pathPart", targetDepth)) {
-                    context.nextToken();
-                    createResourceResult.setPathPart(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("path", targetDepth)) {
-                    context.nextToken();
-                    createResourceResult.setPath(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceMethods", targetDepth)) {
-                    context.nextToken();
-                    createResourceResult.setResourceMethods(new MapUnmarshaller<String, Method>(context.getUnmarshaller(String.class), MethodJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        createResourceResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("parentId".equals(fieldName)) {
+                        context.nextToken();
+                        createResourceResult.setParentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("pathPart".equals(fieldName)) {
+                        context.nextToken();
+                        createResourceResult.setPathPart(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("path".equals(fieldName)) {
+                        context.nextToken();
+                        createResourceResult.setPath(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceMethods".equals(fieldName)) {
+                        context.nextToken();
+                        createResourceResult.setResourceMethods(resourceMethodsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -80,6 +78,13 @@ public class CreateResourceResultJsonUnmarshaller implements Unmarshaller<Create
         return createResourceResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, Method>, JsonUnmarshallerContext> resourceMethodsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, Method>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, Method>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, Method>(context.getUnmarshaller(String.class), MethodJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static CreateResourceResultJsonUnmarshaller instance;
 
     public static CreateResourceResultJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class CreateRestApiResultJsonUnmarshaller implements Unmarshaller<CreateR
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createRestApiResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    createRestApiResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    createRestApiResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    createRestApiResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("warnings", targetDepth)) {
-                    context.nextToken();
-                    createRestApiResult.setWarnings(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        createRestApiResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        createRestApiResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        createRestApiResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createdDate".equals(fieldName)) {
+                        context.nextToken();
+                        createRestApiResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("warnings".equals(fieldName)) {
+                        context.nextToken();
+                        createRestApiResult.setWarnings(warningsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class CreateRestApiResultJsonUnmarshaller implements Unmarshaller<CreateR
         return createRestApiResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> warningsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CreateRestApiResultJsonUnmarshaller instance;
 
     public static CreateRestApiResultJsonUnmarshaller getInstance() {
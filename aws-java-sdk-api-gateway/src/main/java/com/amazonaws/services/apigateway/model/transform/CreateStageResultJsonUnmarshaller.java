@@ -47,51 +47,42 @@ public class CreateStageResultJsonUnmarshaller implements Unmarshaller<CreateSta
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentId", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("clientCertificateId", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setClientCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stageName", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterEnabled", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setCacheClusterEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterSize", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setCacheClusterSize(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterStatus", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setCacheClusterStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("methodSettings", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setMethodSettings(new MapUnmarshaller<String, MethodSetting>(context.getUnmarshaller(String.class),
-                            MethodSettingJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("variables", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setVariables(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    createStageResult.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentId".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("clientCertificateId".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setClientCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stageName".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cacheClusterEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setCacheClusterEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("cacheClusterSize".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setCacheClusterSize(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cacheClusterStatus".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setCacheClusterStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("methodSettings".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setMethodSettings(methodSettingsUnmarshaller.unmarshall(context));
+                    } else if ("variables".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setVariables(variablesUnmarshaller.unmarshall(context));
+                    } else if ("createdDate".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lastUpdatedDate".equals(fieldName)) {
+                        context.nextToken();
+                        createStageResult.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -105,6 +96,19 @@ public class CreateStageResultJsonUnmarshaller implements Unmarshaller<CreateSta
         return createStageResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, MethodSetting>, JsonUnmarshallerContext> methodSettingsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, MethodSetting>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, MethodSetting>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, MethodSetting>(context.getUnmarshaller(String.class), MethodSettingJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> variablesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CreateStageResultJsonUnmarshaller instance;
 
     public static CreateStageResultJsonUnmarshaller getInstance() {
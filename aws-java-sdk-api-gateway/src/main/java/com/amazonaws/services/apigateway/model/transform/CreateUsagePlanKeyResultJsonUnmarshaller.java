@@ -47,21 +47,21 @@ public class CreateUsagePlanKeyResultJsonUnmarshaller implements Unmarshaller<Cr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createUsagePlanKeyResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    createUsagePlanKeyResult.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    createUsagePlanKeyResult.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    createUsagePlanKeyResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        createUsagePlanKeyResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        createUsagePlanKeyResult.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("value".equals(fieldName)) {
+                        context.nextToken();
+                        createUsagePlanKeyResult.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        createUsagePlanKeyResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
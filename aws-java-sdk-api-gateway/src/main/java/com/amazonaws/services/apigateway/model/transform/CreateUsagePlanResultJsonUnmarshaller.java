@@ -47,29 +47,27 @@ public class CreateUsagePlanResultJsonUnmarshaller implements Unmarshaller<Creat
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    createUsagePlanResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    createUsagePlanResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    createUsagePlanResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("apiStages", targetDepth)) {
-                    context.nextToken();
-                    createUsagePlanResult.setApiStages(new ListUnmarshaller<ApiStage>(ApiStageJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("throttle", targetDepth)) {
-                    context.nextToken();
-                    createUsagePlanResult.setThrottle(ThrottleSettingsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("quota", targetDepth)) {
-                    context.nextToken();
-                    createUsagePlanResult.setQuota(QuotaSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        createUsagePlanResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        createUsagePlanResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        createUsagePlanResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("apiStages".equals(fieldName)) {
+                        context.nextToken();
+                        createUsagePlanResult.setApiStages(apiStagesUnmarshaller.unmarshall(context));
+                    } else if ("throttle".equals(fieldName)) {
+                        context.nextToken();
+                        createUsagePlanResult.setThrottle(ThrottleSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("quota".equals(fieldName)) {
+                        context.nextToken();
+                        createUsagePlanResult.setQuota(QuotaSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -83,6 +81,13 @@ public class CreateUsagePlanResultJsonUnmarshaller implements Unmarshaller<Creat
         return createUsagePlanResult;
     }
 
+    private final Unmarshaller<java.util.List<ApiStage>, JsonUnmarshallerContext> apiStagesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ApiStage>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ApiStage>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ApiStage>(ApiStageJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static CreateUsagePlanResultJsonUnmarshaller instance;
 
     public static CreateUsagePlanResultJsonUnmarshaller getInstance() {
@@ -47,23 +47,21 @@ public class DeploymentJsonUnmarshaller implements Unmarshaller<Deployment, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    deployment.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    deployment.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("apiSummary", targetDepth)) {
-                    context.nextToken();
-                    deployment.setApiSummary(new MapUnmarshaller<String, java.util.Map<String, MethodSnapshot>>(context.getUnmarshaller(String.class),
-                            new MapUnmarshaller<String, MethodSnapshot>(context.getUnmarshaller(String.class), MethodSnapshotJsonUnmarshaller.getInstance()))
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createdDate".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("apiSummary".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setApiSummary(apiSummaryUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -77,6 +75,15 @@ public class DeploymentJsonUnmarshaller implements Unmarshaller<Deployment, Json
         return deployment;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.Map<String, MethodSnapshot>>, JsonUnmarshallerContext> apiSummaryUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.Map<String, MethodSnapshot>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.Map<String, MethodSnapshot>>, JsonUnmarshallerContext> createUnmarshaller(
+                JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.Map<String, MethodSnapshot>>(context.getUnmarshaller(String.class),
+                    new MapUnmarshaller<String, MethodSnapshot>(context.getUnmarshaller(String.class), MethodSnapshotJsonUnmarshaller.getInstance()));
+        }
+    };
+
     private static DeploymentJsonUnmarshaller instance;
 
     public static DeploymentJsonUnmarshaller getInstance() {
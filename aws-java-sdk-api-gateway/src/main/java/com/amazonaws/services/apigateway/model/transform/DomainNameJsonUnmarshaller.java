@@ -47,21 +47,21 @@ public class DomainNameJsonUnmarshaller implements Unmarshaller<DomainName, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("domainName", targetDepth)) {
-                    context.nextToken();
-                    domainName.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateName", targetDepth)) {
-                    context.nextToken();
-                    domainName.setCertificateName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateUploadDate", targetDepth)) {
-                    context.nextToken();
-                    domainName.setCertificateUploadDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("distributionDomainName", targetDepth)) {
-                    context.nextToken();
-                    domainName.setDistributionDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("domainName".equals(fieldName)) {
+                        context.nextToken();
+                        domainName.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateName".equals(fieldName)) {
+                        context.nextToken();
+                        domainName.setCertificateName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateUploadDate".equals(fieldName)) {
+                        context.nextToken();
+                        domainName.setCertificateUploadDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("distributionDomainName".equals(fieldName)) {
+                        context.nextToken();
+                        domainName.setDistributionDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class GetAccountResultJsonUnmarshaller implements Unmarshaller<GetAccount
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cloudwatchRoleArn", targetDepth)) {
-                    context.nextToken();
-                    getAccountResult.setCloudwatchRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("throttleSettings", targetDepth)) {
-                    context.nextToken();
-                    getAccountResult.setThrottleSettings(ThrottleSettingsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("features", targetDepth)) {
-                    context.nextToken();
-                    getAccountResult.setFeatures(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("apiKeyVersion", targetDepth)) {
-                    context.nextToken();
-                    getAccountResult.setApiKeyVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("cloudwatchRoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        getAccountResult.setCloudwatchRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("throttleSettings".equals(fieldName)) {
+                        context.nextToken();
+                        getAccountResult.setThrottleSettings(ThrottleSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("features".equals(fieldName)) {
+                        context.nextToken();
+                        getAccountResult.setFeatures(featuresUnmarshaller.unmarshall(context));
+                    } else if ("apiKeyVersion".equals(fieldName)) {
+                        context.nextToken();
+                        getAccountResult.setApiKeyVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +75,13 @@ public class GetAccountResultJsonUnmarshaller implements Unmarshaller<GetAccount
         return getAccountResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> featuresUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GetAccountResultJsonUnmarshaller instance;
 
     public static GetAccountResultJsonUnmarshaller getInstance() {
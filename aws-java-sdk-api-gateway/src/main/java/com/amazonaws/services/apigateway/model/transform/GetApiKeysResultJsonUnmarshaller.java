@@ -47,17 +47,18 @@ public class GetApiKeysResultJsonUnmarshaller implements Unmarshaller<GetApiKeys
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("warnings", targetDepth)) {
-                    context.nextToken();
-                    getApiKeysResult.setWarnings(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getApiKeysResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getApiKeysResult.setItems(new ListUnmarshaller<ApiKey>(ApiKeyJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("warnings".equals(fieldName)) {
+                        context.nextToken();
+                        getApiKeysResult.setWarnings(warningsUnmarshaller.unmarshall(context));
+                    } else if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getApiKeysResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getApiKeysResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,19 @@ public class GetApiKeysResultJsonUnmarshaller implements Unmarshaller<GetApiKeys
         return getApiKeysResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> warningsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<ApiKey>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ApiKey>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ApiKey>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ApiKey>(ApiKeyJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetApiKeysResultJsonUnmarshaller instance;
 
     public static GetApiKeysResultJsonUnmarshaller getInstance() {
@@ -47,45 +47,39 @@ public class GetAuthorizerResultJsonUnmarshaller implements Unmarshaller<GetAuth
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("providerARNs", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setProviderARNs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("authType", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setAuthType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerUri", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setAuthorizerUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerCredentials", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setAuthorizerCredentials(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identitySource", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setIdentitySource(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("identityValidationExpression", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setIdentityValidationExpression(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerResultTtlInSeconds", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizerResult.setAuthorizerResultTtlInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizerResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizerResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizerResult.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("providerARNs".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizerResult.setProviderARNs(providerARNsUnmarshaller.unmarshall(context));
+                    } else if ("authType".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizerResult.setAuthType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizerUri".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizerResult.setAuthorizerUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizerCredentials".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizerResult.setAuthorizerCredentials(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("identitySource".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizerResult.setIdentitySource(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("identityValidationExpression".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizerResult.setIdentityValidationExpression(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizerResultTtlInSeconds".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizerResult.setAuthorizerResultTtlInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -99,6 +93,13 @@ public class GetAuthorizerResultJsonUnmarshaller implements Unmarshaller<GetAuth
         return getAuthorizerResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> providerARNsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GetAuthorizerResultJsonUnmarshaller instance;
 
     public static GetAuthorizerResultJsonUnmarshaller getInstance() {
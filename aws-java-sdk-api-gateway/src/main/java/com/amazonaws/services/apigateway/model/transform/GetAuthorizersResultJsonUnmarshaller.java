@@ -47,13 +47,15 @@ public class GetAuthorizersResultJsonUnmarshaller implements Unmarshaller<GetAut
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizersResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizersResult.setItems(new ListUnmarshaller<Authorizer>(AuthorizerJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizersResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizersResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class GetAuthorizersResultJsonUnmarshaller implements Unmarshaller<GetAut
         return getAuthorizersResult;
     }
 
+    private final Unmarshaller<java.util.List<Authorizer>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Authorizer>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Authorizer>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Authorizer>(AuthorizerJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetAuthorizersResultJsonUnmarshaller instance;
 
     public static GetAuthorizersResultJsonUnmarshaller getInstance() {
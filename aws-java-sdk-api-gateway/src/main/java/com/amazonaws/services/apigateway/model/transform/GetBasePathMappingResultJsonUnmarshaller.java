@@ -47,17 +47,18 @@ public class GetBasePathMappingResultJsonUnmarshaller implements Unmarshaller<Ge
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("basePath", targetDepth)) {
-                    context.nextToken();
-                    getBasePathMappingResult.setBasePath(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("restApiId", targetDepth)) {
-                    context.nextToken();
-                    getBasePathMappingResult.setRestApiId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stage", targetDepth)) {
-                    context.nextToken();
-                    getBasePathMappingResult.setStage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("basePath".equals(fieldName)) {
+                        context.nextToken();
+                        getBasePathMappingResult.setBasePath(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("restApiId".equals(fieldName)) {
+                        context.nextToken();
+                        getBasePathMappingResult.setRestApiId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stage".equals(fieldName)) {
+                        context.nextToken();
+                        getBasePathMappingResult.setStage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
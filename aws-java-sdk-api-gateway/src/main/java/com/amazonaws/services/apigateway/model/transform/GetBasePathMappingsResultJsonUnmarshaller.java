@@ -47,14 +47,15 @@ public class GetBasePathMappingsResultJsonUnmarshaller implements Unmarshaller<G
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getBasePathMappingsResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getBasePathMappingsResult
-                            .setItems(new ListUnmarshaller<BasePathMapping>(BasePathMappingJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getBasePathMappingsResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getBasePathMappingsResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class GetBasePathMappingsResultJsonUnmarshaller implements Unmarshaller<G
         return getBasePathMappingsResult;
     }
 
+    private final Unmarshaller<java.util.List<BasePathMapping>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<BasePathMapping>>() {
+        @Override
+        protected Unmarshaller<java.util.List<BasePathMapping>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<BasePathMapping>(BasePathMappingJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetBasePathMappingsResultJsonUnmarshaller instance;
 
     public static GetBasePathMappingsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class GetClientCertificatesResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getClientCertificatesResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getClientCertificatesResult.setItems(new ListUnmarshaller<ClientCertificate>(ClientCertificateJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getClientCertificatesResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getClientCertificatesResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class GetClientCertificatesResultJsonUnmarshaller implements Unmarshaller
         return getClientCertificatesResult;
     }
 
+    private final Unmarshaller<java.util.List<ClientCertificate>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ClientCertificate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ClientCertificate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ClientCertificate>(ClientCertificateJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetClientCertificatesResultJsonUnmarshaller instance;
 
     public static GetClientCertificatesResultJsonUnmarshaller getInstance() {
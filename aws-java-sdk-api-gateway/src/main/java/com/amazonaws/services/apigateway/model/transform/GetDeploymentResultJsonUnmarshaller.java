@@ -47,23 +47,21 @@ public class GetDeploymentResultJsonUnmarshaller implements Unmarshaller<GetDepl
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("apiSummary", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentResult.setApiSummary(new MapUnmarshaller<String, java.util.Map<String, MethodSnapshot>>(context.getUnmarshaller(String.class),
-                            new MapUnmarshaller<String, MethodSnapshot>(context.getUnmarshaller(String.class), MethodSnapshotJsonUnmarshaller.getInstance()))
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        getDeploymentResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        getDeploymentResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createdDate".equals(fieldName)) {
+                        context.nextToken();
+                        getDeploymentResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("apiSummary".equals(fieldName)) {
+                        context.nextToken();
+                        getDeploymentResult.setApiSummary(apiSummaryUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -77,6 +75,15 @@ public class GetDeploymentResultJsonUnmarshaller implements Unmarshaller<GetDepl
         return getDeploymentResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.Map<String, MethodSnapshot>>, JsonUnmarshallerContext> apiSummaryUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.Map<String, MethodSnapshot>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.Map<String, MethodSnapshot>>, JsonUnmarshallerContext> createUnmarshaller(
+                JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.Map<String, MethodSnapshot>>(context.getUnmarshaller(String.class),
+                    new MapUnmarshaller<String, MethodSnapshot>(context.getUnmarshaller(String.class), MethodSnapshotJsonUnmarshaller.getInstance()));
+        }
+    };
+
     private static GetDeploymentResultJsonUnmarshaller instance;
 
     public static GetDeploymentResultJsonUnmarshaller getInstance() {
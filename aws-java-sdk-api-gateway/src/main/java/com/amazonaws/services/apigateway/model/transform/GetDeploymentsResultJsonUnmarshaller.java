@@ -47,13 +47,15 @@ public class GetDeploymentsResultJsonUnmarshaller implements Unmarshaller<GetDep
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentsResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentsResult.setItems(new ListUnmarshaller<Deployment>(DeploymentJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getDeploymentsResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getDeploymentsResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class GetDeploymentsResultJsonUnmarshaller implements Unmarshaller<GetDep
         return getDeploymentsResult;
     }
 
+    private final Unmarshaller<java.util.List<Deployment>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Deployment>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Deployment>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Deployment>(DeploymentJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetDeploymentsResultJsonUnmarshaller instance;
 
     public static GetDeploymentsResultJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class GetDomainNameResultJsonUnmarshaller implements Unmarshaller<GetDoma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("domainName", targetDepth)) {
-                    context.nextToken();
-                    getDomainNameResult.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateName", targetDepth)) {
-                    context.nextToken();
-                    getDomainNameResult.setCertificateName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateUploadDate", targetDepth)) {
-                    context.nextToken();
-                    getDomainNameResult.setCertificateUploadDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("distributionDomainName", targetDepth)) {
-                    context.nextToken();
-                    getDomainNameResult.setDistributionDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("domainName".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainNameResult.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateName".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainNameResult.setCertificateName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateUploadDate".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainNameResult.setCertificateUploadDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("distributionDomainName".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainNameResult.setDistributionDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class GetDomainNamesResultJsonUnmarshaller implements Unmarshaller<GetDom
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getDomainNamesResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getDomainNamesResult.setItems(new ListUnmarshaller<DomainName>(DomainNameJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainNamesResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainNamesResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class GetDomainNamesResultJsonUnmarshaller implements Unmarshaller<GetDom
         return getDomainNamesResult;
     }
 
+    private final Unmarshaller<java.util.List<DomainName>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DomainName>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DomainName>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DomainName>(DomainNameJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetDomainNamesResultJsonUnmarshaller instance;
 
     public static GetDomainNamesResultJsonUnmarshaller getInstance() {
@@ -47,23 +47,21 @@ public class GetIntegrationResponseResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("statusCode", targetDepth)) {
-                    context.nextToken();
-                    getIntegrationResponseResult.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("selectionPattern", targetDepth)) {
-                    context.nextToken();
-                    getIntegrationResponseResult.setSelectionPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("responseParameters", targetDepth)) {
-                    context.nextToken();
-                    getIntegrationResponseResult.setResponseParameters(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("responseTemplates", targetDepth)) {
-                    context.nextToken();
-                    getIntegrationResponseResult.setResponseTemplates(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("statusCode".equals(fieldName)) {
+                        context.nextToken();
+                        getIntegrationResponseResult.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("selectionPattern".equals(fieldName)) {
+                        context.nextToken();
+                        getIntegrationResponseResult.setSelectionPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("responseParameters".equals(fieldName)) {
+                        context.nextToken();
+                        getIntegrationResponseResult.setResponseParameters(responseParametersUnmarshaller.unmarshall(context));
+                    } else if ("responseTemplates".equals(fieldName)) {
+                        context.nextToken();
+                        getIntegrationResponseResult.setResponseTemplates(responseTemplatesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -77,6 +75,19 @@ public class GetIntegrationResponseResultJsonUnmarshaller implements Unmarshalle
         return getIntegrationResponseResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> responseParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> responseTemplatesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GetIntegrationResponseResultJsonUnmarshaller instance;
 
     public static GetIntegrationResponseResultJsonUnmarshaller getInstance() {
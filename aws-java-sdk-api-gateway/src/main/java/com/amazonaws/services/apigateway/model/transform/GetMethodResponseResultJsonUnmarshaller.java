@@ -47,19 +47,18 @@ public class GetMethodResponseResultJsonUnmarshaller implements Unmarshaller<Get
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("statusCode", targetDepth)) {
-                    context.nextToken();
-                    getMethodResponseResult.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("responseParameters", targetDepth)) {
-                    context.nextToken();
-                    getMethodResponseResult.setResponseParameters(new MapUnmarshaller<String, Boolean>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(Boolean.class)).unmarshall(context));
-                }
-                if (context.testExpression("responseModels", targetDepth)) {
-                    context.nextToken();
-                    getMethodResponseResult.setResponseModels(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("statusCode".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResponseResult.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("responseParameters".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResponseResult.setResponseParameters(responseParametersUnmarshaller.unmarshall(context));
+                    } else if ("responseModels".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResponseResult.setResponseModels(responseModelsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -73,6 +72,19 @@ public class GetMethodResponseResultJsonUnmarshaller implements Unmarshaller<Get
         return getMethodResponseResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, Boolean>, JsonUnmarshallerContext> responseParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, Boolean>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, Boolean>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, Boolean>(context.getUnmarshaller(String.class), context.getUnmarshaller(Boolean.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> responseModelsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GetMethodResponseResultJsonUnmarshaller instance;
 
     public static GetMethodResponseResultJsonUnmarshaller getInstance() {
@@ -47,40 +47,33 @@ public class GetMethodResultJsonUnmarshaller implements Unmarshaller<GetMethodRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("httpMethod", targetDepth)) {
-                    context.nextToken();
-                    getMethodResult.setHttpMethod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizationType", targetDepth)) {
-                    context.nextToken();
-                    getMethodResult.setAuthorizationType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerId", targetDepth)) {
-                    context.nextToken();
-                    getMethodResult.setAuthorizerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("apiKeyRequired", targetDepth)) {
-                    context.nextToken();
-                    getMethodResult.setApiKeyRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("requestParameters", targetDepth)) {
-                    context.nextToken();
-                    getMethodResult.setRequestParameters(new MapUnmarshaller<String, Boolean>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(Boolean.class)).unmarshall(context));
-                }
-                if (context.testExpression("requestModels", targetDepth)) {
-                    context.nextToken();
-                    getMethodResult.setRequestModels(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("methodResponses", targetDepth)) {
-                    context.nextToken();
-                    getMethodResult.setMethodResponses(new MapUnmarshaller<String, MethodResponse>(context.getUnmarshaller(String.class),
-                            MethodResponseJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("methodIntegration", targetDepth)) {
-                    context.nextToken();
-                    getMethodResult.setMethodIntegration(IntegrationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("httpMethod".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResult.setHttpMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizationType".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResult.setAuthorizationType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizerId".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResult.setAuthorizerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("apiKeyRequired".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResult.setApiKeyRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("requestParameters".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResult.setRequestParameters(requestParametersUnmarshaller.unmarshall(context));
+                    } else if ("requestModels".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResult.setRequestModels(requestModelsUnmarshaller.unmarshall(context));
+                    } else if ("methodResponses".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResult.setMethodResponses(methodResponsesUnmarshaller.unmarshall(context));
+                    } else if ("methodIntegration".equals(fieldName)) {
+                        context.nextToken();
+                        getMethodResult.setMethodIntegration(IntegrationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -94,6 +87,25 @@ public class GetMethodResultJsonUnmarshaller implements Unmarshaller<GetMethodRe
         return getMethodResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, Boolean>, JsonUnmarshallerContext> requestParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, Boolean>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, Boolean>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, Boolean>(context.getUnmarshaller(String.class), context.getUnmarshaller(Boolean.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> requestModelsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, MethodResponse>, JsonUnmarshallerContext> methodResponsesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, MethodResponse>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, MethodResponse>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, MethodResponse>(context.getUnmarshaller(String.class), MethodResponseJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetMethodResultJsonUnmarshaller instance;
 
     public static GetMethodResultJsonUnmarshaller getInstance() {
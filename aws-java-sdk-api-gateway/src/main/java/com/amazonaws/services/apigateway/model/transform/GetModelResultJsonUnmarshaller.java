@@ -47,25 +47,24 @@ public class GetModelResultJsonUnmarshaller implements Unmarshaller<GetModelResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    getModelResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    getModelResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    getModelResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("schema", targetDepth)) {
-                    context.nextToken();
-                    getModelResult.setSchema(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("contentType", targetDepth)) {
-                    context.nextToken();
-                    getModelResult.setContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        getModelResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        getModelResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        getModelResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("schema".equals(fieldName)) {
+                        context.nextToken();
+                        getModelResult.setSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("contentType".equals(fieldName)) {
+                        context.nextToken();
+                        getModelResult.setContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
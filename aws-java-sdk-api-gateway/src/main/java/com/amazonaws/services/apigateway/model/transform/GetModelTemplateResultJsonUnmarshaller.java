@@ -47,9 +47,12 @@ public class GetModelTemplateResultJsonUnmarshaller implements Unmarshaller<GetM
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    getModelTemplateResult.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("value".equals(fieldName)) {
+                        context.nextToken();
+                        getModelTemplateResult.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class GetModelsResultJsonUnmarshaller implements Unmarshaller<GetModelsRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getModelsResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getModelsResult.setItems(new ListUnmarshaller<Model>(ModelJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getModelsResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getModelsResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class GetModelsResultJsonUnmarshaller implements Unmarshaller<GetModelsRe
         return getModelsResult;
     }
 
+    private final Unmarshaller<java.util.List<Model>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Model>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Model>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Model>(ModelJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetModelsResultJsonUnmarshaller instance;
 
     public static GetModelsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class GetResourcesResultJsonUnmarshaller implements Unmarshaller<GetResou
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getResourcesResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getResourcesResult.setItems(new ListUnmarshaller<Resource>(ResourceJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getResourcesResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getResourcesResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class GetResourcesResultJsonUnmarshaller implements Unmarshaller<GetResou
         return getResourcesResult;
     }
 
+    private final Unmarshaller<java.util.List<Resource>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Resource>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Resource>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Resource>(ResourceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetResourcesResultJsonUnmarshaller instance;
 
     public static GetResourcesResultJsonUnmarshaller getInstance() {
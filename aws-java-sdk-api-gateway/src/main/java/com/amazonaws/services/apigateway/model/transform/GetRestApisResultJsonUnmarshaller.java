@@ -47,13 +47,15 @@ public class GetRestApisResultJsonUnmarshaller implements Unmarshaller<GetRestAp
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getRestApisResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getRestApisResult.setItems(new ListUnmarshaller<RestApi>(RestApiJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getRestApisResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getRestApisResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class GetRestApisResultJsonUnmarshaller implements Unmarshaller<GetRestAp
         return getRestApisResult;
     }
 
+    private final Unmarshaller<java.util.List<RestApi>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RestApi>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RestApi>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RestApi>(RestApiJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetRestApisResultJsonUnmarshaller instance;
 
     public static GetRestApisResultJsonUnmarshaller getInstance() {
@@ -47,51 +47,42 @@ public class GetStageResultJsonUnmarshaller implements Unmarshaller<GetStageResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentId", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("clientCertificateId", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setClientCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stageName", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterEnabled", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setCacheClusterEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterSize", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setCacheClusterSize(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterStatus", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setCacheClusterStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("methodSettings", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setMethodSettings(new MapUnmarshaller<String, MethodSetting>(context.getUnmarshaller(String.class),
-                            MethodSettingJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("variables", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setVariables(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    getStageResult.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentId".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("clientCertificateId".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setClientCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stageName".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cacheClusterEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setCacheClusterEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("cacheClusterSize".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setCacheClusterSize(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cacheClusterStatus".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setCacheClusterStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("methodSettings".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setMethodSettings(methodSettingsUnmarshaller.unmarshall(context));
+                    } else if ("variables".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setVariables(variablesUnmarshaller.unmarshall(context));
+                    } else if ("createdDate".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lastUpdatedDate".equals(fieldName)) {
+                        context.nextToken();
+                        getStageResult.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -105,6 +96,19 @@ public class GetStageResultJsonUnmarshaller implements Unmarshaller<GetStageResu
         return getStageResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, MethodSetting>, JsonUnmarshallerContext> methodSettingsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, MethodSetting>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, MethodSetting>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, MethodSetting>(context.getUnmarshaller(String.class), MethodSettingJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> variablesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GetStageResultJsonUnmarshaller instance;
 
     public static GetStageResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class GetStagesResultJsonUnmarshaller implements Unmarshaller<GetStagesRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getStagesResult.setItem(new ListUnmarshaller<Stage>(StageJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getStagesResult.setItem(itemUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class GetStagesResultJsonUnmarshaller implements Unmarshaller<GetStagesRe
         return getStagesResult;
     }
 
+    private final Unmarshaller<java.util.List<Stage>, JsonUnmarshallerContext> itemUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Stage>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Stage>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Stage>(StageJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetStagesResultJsonUnmarshaller instance;
 
     public static GetStagesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class GetUsagePlanKeysResultJsonUnmarshaller implements Unmarshaller<GetU
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getUsagePlanKeysResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getUsagePlanKeysResult.setItems(new ListUnmarshaller<UsagePlanKey>(UsagePlanKeyJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getUsagePlanKeysResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getUsagePlanKeysResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class GetUsagePlanKeysResultJsonUnmarshaller implements Unmarshaller<GetU
         return getUsagePlanKeysResult;
     }
 
+    private final Unmarshaller<java.util.List<UsagePlanKey>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<UsagePlanKey>>() {
+        @Override
+        protected Unmarshaller<java.util.List<UsagePlanKey>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<UsagePlanKey>(UsagePlanKeyJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetUsagePlanKeysResultJsonUnmarshaller instance;
 
     public static GetUsagePlanKeysResultJsonUnmarshaller getInstance() {
@@ -47,29 +47,27 @@ public class GetUsagePlanResultJsonUnmarshaller implements Unmarshaller<GetUsage
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    getUsagePlanResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    getUsagePlanResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    getUsagePlanResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("apiStages", targetDepth)) {
-                    context.nextToken();
-                    getUsagePlanResult.setApiStages(new ListUnmarshaller<ApiStage>(ApiStageJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("throttle", targetDepth)) {
-                    context.nextToken();
-                    getUsagePlanResult.setThrottle(ThrottleSettingsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("quota", targetDepth)) {
-                    context.nextToken();
-                    getUsagePlanResult.setQuota(QuotaSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        getUsagePlanResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        getUsagePlanResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        getUsagePlanResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("apiStages".equals(fieldName)) {
+                        context.nextToken();
+                        getUsagePlanResult.setApiStages(apiStagesUnmarshaller.unmarshall(context));
+                    } else if ("throttle".equals(fieldName)) {
+                        context.nextToken();
+                        getUsagePlanResult.setThrottle(ThrottleSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("quota".equals(fieldName)) {
+                        context.nextToken();
+                        getUsagePlanResult.setQuota(QuotaSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -83,6 +81,13 @@ public class GetUsagePlanResultJsonUnmarshaller implements Unmarshaller<GetUsage
         return getUsagePlanResult;
     }
 
+    private final Unmarshaller<java.util.List<ApiStage>, JsonUnmarshallerContext> apiStagesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ApiStage>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ApiStage>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ApiStage>(ApiStageJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetUsagePlanResultJsonUnmarshaller instance;
 
     public static GetUsagePlanResultJsonUnmarshaller getInstance() {
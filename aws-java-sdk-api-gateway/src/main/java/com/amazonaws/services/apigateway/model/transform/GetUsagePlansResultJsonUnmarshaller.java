@@ -47,13 +47,15 @@ public class GetUsagePlansResultJsonUnmarshaller implements Unmarshaller<GetUsag
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getUsagePlansResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("item", targetDepth)) {
-                    context.nextToken();
-                    getUsagePlansResult.setItems(new ListUnmarshaller<UsagePlan>(UsagePlanJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getUsagePlansResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("item".equals(fieldName)) {
+                        context.nextToken();
+                        getUsagePlansResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class GetUsagePlansResultJsonUnmarshaller implements Unmarshaller<GetUsag
         return getUsagePlansResult;
     }
 
+    private final Unmarshaller<java.util.List<UsagePlan>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<UsagePlan>>() {
+        @Override
+        protected Unmarshaller<java.util.List<UsagePlan>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<UsagePlan>(UsagePlanJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetUsagePlansResultJsonUnmarshaller instance;
 
     public static GetUsagePlansResultJsonUnmarshaller getInstance() {
@@ -47,26 +47,24 @@ public class GetUsageResultJsonUnmarshaller implements Unmarshaller<GetUsageResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("usagePlanId", targetDepth)) {
-                    context.nextToken();
-                    getUsageResult.setUsagePlanId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("startDate", targetDepth)) {
-                    context.nextToken();
-                    getUsageResult.setStartDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("endDate", targetDepth)) {
-                    context.nextToken();
-                    getUsageResult.setEndDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("position", targetDepth)) {
-                    context.nextToken();
-                    getUsageResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("values", targetDepth)) {
-                    context.nextToken();
-                    getUsageResult.setItems(new MapUnmarshaller<String, java.util.List<java.util.List<Long>>>(context.getUnmarshaller(String.class),
-                            new ListUnmarshaller<java.util.List<Long>>(new ListUnmarshaller<Long>(context.getUnmarshaller(Long.class)))).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("usagePlanId".equals(fieldName)) {
+                        context.nextToken();
+                        getUsageResult.setUsagePlanId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("startDate".equals(fieldName)) {
+                        context.nextToken();
+                        getUsageResult.setStartDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("endDate".equals(fieldName)) {
+                        context.nextToken();
+                        getUsageResult.setEndDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("position".equals(fieldName)) {
+                        context.nextToken();
+                        getUsageResult.setPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("values".equals(fieldName)) {
+                        context.nextToken();
+                        getUsageResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -80,6 +78,15 @@ public class GetUsageResultJsonUnmarshaller implements Unmarshaller<GetUsageResu
         return getUsageResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.List<java.util.List<Long>>>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<java.util.List<Long>>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<java.util.List<Long>>>, JsonUnmarshallerContext> createUnmarshaller(
+                JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<java.util.List<Long>>>(context.getUnmarshaller(String.class),
+                    new ListUnmarshaller<java.util.List<Long>>(new ListUnmarshaller<Long>(context.getUnmarshaller(Long.class))));
+        }
+    };
+
     private static GetUsageResultJsonUnmarshaller instance;
 
     public static GetUsageResultJsonUnmarshaller getInstance() {
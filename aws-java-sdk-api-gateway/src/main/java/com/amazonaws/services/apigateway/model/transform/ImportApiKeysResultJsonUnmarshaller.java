@@ -47,13 +47,15 @@ public class ImportApiKeysResultJsonUnmarshaller implements Unmarshaller<ImportA
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ids", targetDepth)) {
-                    context.nextToken();
-                    importApiKeysResult.setIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("warnings", targetDepth)) {
-                    context.nextToken();
-                    importApiKeysResult.setWarnings(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ids".equals(fieldName)) {
+                        context.nextToken();
+                        importApiKeysResult.setIds(idsUnmarshaller.unmarshall(context));
+                    } else if ("warnings".equals(fieldName)) {
+                        context.nextToken();
+                        importApiKeysResult.setWarnings(warningsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,19 @@ public class ImportApiKeysResultJsonUnmarshaller implements Unmarshaller<ImportA
         return importApiKeysResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> idsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> warningsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ImportApiKeysResultJsonUnmarshaller instance;
 
     public static ImportApiKeysResultJsonUnmarshaller getInstance() {
@@ -47,48 +47,39 @@ public class IntegrationJsonUnmarshaller implements Unmarshaller<Integration, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    integration.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("httpMethod", targetDepth)) {
-                    context.nextToken();
-                    integration.setHttpMethod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("uri", targetDepth)) {
-                    context.nextToken();
-                    integration.setUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("credentials", targetDepth)) {
-                    context.nextToken();
-                    integration.setCredentials(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("requestParameters", targetDepth)) {
-                    context.nextToken();
-                    integration.setRequestParameters(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("requestTemplates", targetDepth)) {
-                    context.nextToken();
-                    integration.setRequestTemplates(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("passthroughBehavior", targetDepth)) {
-                    context.nextToken();
-                    integration.setPassthroughBehavior(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheNamespace", targetDepth)) {
-                    context.nextToken();
-                    integration.setCacheNamespace(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheKeyParameters", targetDepth)) {
-                    context.nextToken();
-                    integration.setCacheKeyParameters(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("integrationResponses", targetDepth)) {
-                    context.nextToken();
-                    integration.setIntegrationResponses(new MapUnmarshaller<String, IntegrationResponse>(context.getUnmarshaller(String.class),
-                            IntegrationResponseJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        integration.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("httpMethod".equals(fieldName)) {
+                        context.nextToken();
+                        integration.setHttpMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("uri".equals(fieldName)) {
+                        context.nextToken();
+                        integration.setUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("credentials".equals(fieldName)) {
+                        context.nextToken();
+                        integration.setCredentials(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("requestParameters".equals(fieldName)) {
+                        context.nextToken();
+                        integration.setRequestParameters(requestParametersUnmarshaller.unmarshall(context));
+                    } else if ("requestTemplates".equals(fieldName)) {
+                        context.nextToken();
+                        integration.setRequestTemplates(requestTemplatesUnmarshaller.unmarshall(context));
+                    } else if ("passthroughBehavior".equals(fieldName)) {
+                        context.nextToken();
+                        integration.setPassthroughBehavior(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cacheNamespace".equals(fieldName)) {
+                        context.nextToken();
+                        integration.setCacheNamespace(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cacheKeyParameters".equals(fieldName)) {
+                        context.nextToken();
+                        integration.setCacheKeyParameters(cacheKeyParametersUnmarshaller.unmarshall(context));
+                    } else if ("integrationResponses".equals(fieldName)) {
+                        context.nextToken();
+                        integration.setIntegrationResponses(integrationResponsesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -102,6 +93,31 @@ public class IntegrationJsonUnmarshaller implements Unmarshaller<Integration, Js
         return integration;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> requestParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> requestTemplatesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> cacheKeyParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, IntegrationResponse>, JsonUnmarshallerContext> integrationResponsesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, IntegrationResponse>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, IntegrationResponse>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, IntegrationResponse>(context.getUnmarshaller(String.class), IntegrationResponseJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static IntegrationJsonUnmarshaller instance;
 
     public static IntegrationJsonUnmarshaller getInstance() {
@@ -47,45 +47,39 @@ public class MethodSettingJsonUnmarshaller implements Unmarshaller<MethodSetting
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("metricsEnabled", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setMetricsEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("loggingLevel", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setLoggingLevel(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("dataTraceEnabled", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setDataTraceEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("throttlingBurstLimit", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setThrottlingBurstLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("throttlingRateLimit", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setThrottlingRateLimit(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("cachingEnabled", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setCachingEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheTtlInSeconds", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setCacheTtlInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheDataEncrypted", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setCacheDataEncrypted(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("requireAuthorizationForCacheControl", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setRequireAuthorizationForCacheControl(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("unauthorizedCacheControlHeaderStrategy", targetDepth)) {
-                    context.nextToken();
-                    methodSetting.setUnauthorizedCacheControlHeaderStrategy(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("metricsEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        methodSetting.setMetricsEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("loggingLevel".equals(fieldName)) {
+                        context.nextToken();
+                        methodSetting.setLoggingLevel(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("dataTraceEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        methodSetting.setDataTraceEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("throttlingBurstLimit".equals(fieldName)) {
+                        context.nextToken();
+                        methodSetting.setThrottlingBurstLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("throttlingRateLimit".equals(fieldName)) {
+                        context.nextToken();
+                        methodSetting.setThrottlingRateLimit(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("cachingEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        methodSetting.setCachingEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("cacheTtlInSeconds".equals(fieldName)) {
+                        context.nextToken();
+                        methodSetting.setCacheTtlInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("cacheDataEncrypted".equals(fieldName)) {
+                        context.nextToken();
+                        methodSetting.setCacheDataEncrypted(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("requireAuthorizationForCacheControl".equals(fieldName)) {
+                        context.nextToken();
+                        methodSetting.setRequireAuthorizationForCacheControl(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("unauthorizedCacheControlHeaderStrategy".equals(fieldName)) {
+                        context.nextToken();
+                        methodSetting.setUnauthorizedCacheControlHeaderStrategy(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class MethodSnapshotJsonUnmarshaller implements Unmarshaller<MethodSnapsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("authorizationType", targetDepth)) {
-                    context.nextToken();
-                    methodSnapshot.setAuthorizationType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("apiKeyRequired", targetDepth)) {
-                    context.nextToken();
-                    methodSnapshot.setApiKeyRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("authorizationType".equals(fieldName)) {
+                        context.nextToken();
+                        methodSnapshot.setAuthorizationType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("apiKeyRequired".equals(fieldName)) {
+                        context.nextToken();
+                        methodSnapshot.setApiKeyRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class ModelJsonUnmarshaller implements Unmarshaller<Model, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    model.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    model.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    model.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("schema", targetDepth)) {
-                    context.nextToken();
-                    model.setSchema(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("contentType", targetDepth)) {
-                    context.nextToken();
-                    model.setContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        model.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        model.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        model.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("schema".equals(fieldName)) {
+                        context.nextToken();
+                        model.setSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("contentType".equals(fieldName)) {
+                        context.nextToken();
+                        model.setContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class PatchOperationJsonUnmarshaller implements Unmarshaller<PatchOperati
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("op", targetDepth)) {
-                    context.nextToken();
-                    patchOperation.setOp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("path", targetDepth)) {
-                    context.nextToken();
-                    patchOperation.setPath(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    patchOperation.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("from", targetDepth)) {
-                    context.nextToken();
-                    patchOperation.setFrom(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("op".equals(fieldName)) {
+                        context.nextToken();
+                        patchOperation.setOp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("path".equals(fieldName)) {
+                        context.nextToken();
+                        patchOperation.setPath(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("value".equals(fieldName)) {
+                        context.nextToken();
+                        patchOperation.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("from".equals(fieldName)) {
+                        context.nextToken();
+                        patchOperation.setFrom(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
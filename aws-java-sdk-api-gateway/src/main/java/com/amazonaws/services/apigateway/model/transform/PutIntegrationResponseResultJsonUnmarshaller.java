@@ -47,23 +47,21 @@ public class PutIntegrationResponseResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("statusCode", targetDepth)) {
-                    context.nextToken();
-                    putIntegrationResponseResult.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("selectionPattern", targetDepth)) {
-                    context.nextToken();
-                    putIntegrationResponseResult.setSelectionPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("responseParameters", targetDepth)) {
-                    context.nextToken();
-                    putIntegrationResponseResult.setResponseParameters(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("responseTemplates", targetDepth)) {
-                    context.nextToken();
-                    putIntegrationResponseResult.setResponseTemplates(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("statusCode".equals(fieldName)) {
+                        context.nextToken();
+                        putIntegrationResponseResult.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("selectionPattern".equals(fieldName)) {
+                        context.nextToken();
+                        putIntegrationResponseResult.setSelectionPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("responseParameters".equals(fieldName)) {
+                        context.nextToken();
+                        putIntegrationResponseResult.setResponseParameters(responseParametersUnmarshaller.unmarshall(context));
+                    } else if ("responseTemplates".equals(fieldName)) {
+                        context.nextToken();
+                        putIntegrationResponseResult.setResponseTemplates(responseTemplatesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -77,6 +75,19 @@ public class PutIntegrationResponseResultJsonUnmarshaller implements Unmarshalle
         return putIntegrationResponseResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> responseParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> responseTemplatesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static PutIntegrationResponseResultJsonUnmarshaller instance;
 
     public static PutIntegrationResponseResultJsonUnmarshaller getInstance() {
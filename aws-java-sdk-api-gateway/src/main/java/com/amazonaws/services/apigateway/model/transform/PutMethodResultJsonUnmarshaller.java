@@ -47,40 +47,33 @@ public class PutMethodResultJsonUnmarshaller implements Unmarshaller<PutMethodRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("httpMethod", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setHttpMethod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizationType", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setAuthorizationType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerId", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setAuthorizerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("apiKeyRequired", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setApiKeyRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("requestParameters", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setRequestParameters(new MapUnmarshaller<String, Boolean>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(Boolean.class)).unmarshall(context));
-                }
-                if (context.testExpression("requestModels", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setRequestModels(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("methodResponses", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setMethodResponses(new MapUnmarshaller<String, MethodResponse>(context.getUnmarshaller(String.class),
-                            MethodResponseJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("methodIntegration", targetDepth)) {
-                    context.nextToken();
-                    putMethodResult.setMethodIntegration(IntegrationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("httpMethod".equals(fieldName)) {
+                        context.nextToken();
+                        putMethodResult.setHttpMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizationType".equals(fieldName)) {
+                        context.nextToken();
+                        putMethodResult.setAuthorizationType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizerId".equals(fieldName)) {
+                        context.nextToken();
+                        putMethodResult.setAuthorizerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("apiKeyRequired".equals(fieldName)) {
+                        context.nextToken();
+                        putMethodResult.setApiKeyRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("requestParameters".equals(fieldName)) {
+                        context.nextToken();
+                        putMethodResult.setRequestParameters(requestParametersUnmarshaller.unmarshall(context));
+                    } else if ("requestModels".equals(fieldName)) {
+                        context.nextToken();
+                        putMethodResult.setRequestModels(requestModelsUnmarshaller.unmarshall(context));
+                    } else if ("methodResponses".equals(fieldName)) {
+                        context.nextToken();
+                        putMethodResult.setMethodResponses(methodResponsesUnmarshaller.unmarshall(context));
+                    } else if ("methodIntegration".equals(fieldName)) {
+                        context.nextToken();
+                        putMethodResult.setMethodIntegration(IntegrationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -94,6 +87,25 @@ public class PutMethodResultJsonUnmarshaller implements Unmarshaller<PutMethodRe
         return putMethodResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, Boolean>, JsonUnmarshallerContext> requestParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, Boolean>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, Boolean>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, Boolean>(context.getUnmarshaller(String.class), context.getUnmarshaller(Boolean.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> requestModelsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, MethodResponse>, JsonUnmarshallerContext> methodResponsesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, MethodResponse>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, MethodResponse>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, MethodResponse>(context.getUnmarshaller(String.class), MethodResponseJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PutMethodResultJsonUnmarshaller instance;
 
     public static PutMethodResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class QuotaSettingsJsonUnmarshaller implements Unmarshaller<QuotaSettings
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("limit", targetDepth)) {
-                    context.nextToken();
-                    quotaSettings.setLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("offset", targetDepth)) {
-                    context.nextToken();
-                    quotaSettings.setOffset(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("period", targetDepth)) {
-                    context.nextToken();
-                    quotaSettings.setPeriod(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("limit".equals(fieldName)) {
+                        context.nextToken();
+                        quotaSettings.setLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("offset".equals(fieldName)) {
+                        context.nextToken();
+                        quotaSettings.setOffset(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("period".equals(fieldName)) {
+                        context.nextToken();
+                        quotaSettings.setPeriod(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,51 +47,42 @@ public class StageJsonUnmarshaller implements Unmarshaller<Stage, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentId", targetDepth)) {
-                    context.nextToken();
-                    stage.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("clientCertificateId", targetDepth)) {
-                    context.nextToken();
-                    stage.setClientCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stageName", targetDepth)) {
-                    context.nextToken();
-                    stage.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    stage.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterEnabled", targetDepth)) {
-                    context.nextToken();
-                    stage.setCacheClusterEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterSize", targetDepth)) {
-                    context.nextToken();
-                    stage.setCacheClusterSize(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterStatus", targetDepth)) {
-                    context.nextToken();
-                    stage.setCacheClusterStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("methodSettings", targetDepth)) {
-                    context.nextToken();
-                    stage.setMethodSettings(new MapUnmarshaller<String, MethodSetting>(context.getUnmarshaller(String.class), MethodSettingJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("variables", targetDepth)) {
-                    context.nextToken();
-                    stage.setVariables(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    stage.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    stage.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentId".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("clientCertificateId".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setClientCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stageName".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cacheClusterEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setCacheClusterEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("cacheClusterSize".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setCacheClusterSize(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cacheClusterStatus".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setCacheClusterStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("methodSettings".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setMethodSettings(methodSettingsUnmarshaller.unmarshall(context));
+                    } else if ("variables".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setVariables(variablesUnmarshaller.unmarshall(context));
+                    } else if ("createdDate".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lastUpdatedDate".equals(fieldName)) {
+                        context.nextToken();
+                        stage.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -105,6 +96,19 @@ public class StageJsonUnmarshaller implements Unmarshaller<Stage, JsonUnmarshall
         return stage;
     }
 
+    private final Unmarshaller<java.util.Map<String, MethodSetting>, JsonUnmarshallerContext> methodSettingsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, MethodSetting>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, MethodSetting>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, MethodSetting>(context.getUnmarshaller(String.class), MethodSettingJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> variablesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static StageJsonUnmarshaller instance;
 
     public static StageJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class StageKeyJsonUnmarshaller implements Unmarshaller<StageKey, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("restApiId", targetDepth)) {
-                    context.nextToken();
-                    stageKey.setRestApiId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stageName", targetDepth)) {
-                    context.nextToken();
-                    stageKey.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("restApiId".equals(fieldName)) {
+                        context.nextToken();
+                        stageKey.setRestApiId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stageName".equals(fieldName)) {
+                        context.nextToken();
+                        stageKey.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,35 +47,30 @@ public class TestInvokeAuthorizerResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clientStatus", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setClientStatus(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("log", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setLog(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("latency", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setLatency(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("principalId", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setPrincipalId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policy", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorization", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setAuthorization(new MapUnmarshaller<String, java.util.List<String>>(context.getUnmarshaller(String.class),
-                            new ListUnmarshaller<String>(context.getUnmarshaller(String.class))).unmarshall(context));
-                }
-                if (context.testExpression("claims", targetDepth)) {
-                    context.nextToken();
-                    testInvokeAuthorizerResult.setClaims(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("clientStatus".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeAuthorizerResult.setClientStatus(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("log".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeAuthorizerResult.setLog(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("latency".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeAuthorizerResult.setLatency(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("principalId".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeAuthorizerResult.setPrincipalId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policy".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeAuthorizerResult.setPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorization".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeAuthorizerResult.setAuthorization(authorizationUnmarshaller.unmarshall(context));
+                    } else if ("claims".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeAuthorizerResult.setClaims(claimsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -89,6 +84,20 @@ public class TestInvokeAuthorizerResultJsonUnmarshaller implements Unmarshaller<
         return testInvokeAuthorizerResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.List<String>>, JsonUnmarshallerContext> authorizationUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<String>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<String>>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<String>>(context.getUnmarshaller(String.class), new ListUnmarshaller<String>(
+                    context.getUnmarshaller(String.class)));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> claimsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static TestInvokeAuthorizerResultJsonUnmarshaller instance;
 
     public static TestInvokeAuthorizerResultJsonUnmarshaller getInstance() {
@@ -47,26 +47,24 @@ public class TestInvokeMethodResultJsonUnmarshaller implements Unmarshaller<Test
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    testInvokeMethodResult.setStatus(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("body", targetDepth)) {
-                    context.nextToken();
-                    testInvokeMethodResult.setBody(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("headers", targetDepth)) {
-                    context.nextToken();
-                    testInvokeMethodResult.setHeaders(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("log", targetDepth)) {
-                    context.nextToken();
-                    testInvokeMethodResult.setLog(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("latency", targetDepth)) {
-                    context.nextToken();
-                    testInvokeMethodResult.setLatency(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeMethodResult.setStatus(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("body".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeMethodResult.setBody(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("headers".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeMethodResult.setHeaders(headersUnmarshaller.unmarshall(context));
+                    } else if ("log".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeMethodResult.setLog(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("latency".equals(fieldName)) {
+                        context.nextToken();
+                        testInvokeMethodResult.setLatency(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -80,6 +78,13 @@ public class TestInvokeMethodResultJsonUnmarshaller implements Unmarshaller<Test
         return testInvokeMethodResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> headersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static TestInvokeMethodResultJsonUnmarshaller instance;
 
     public static TestInvokeMethodResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ThrottleSettingsJsonUnmarshaller implements Unmarshaller<ThrottleSe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("burstLimit", targetDepth)) {
-                    context.nextToken();
-                    throttleSettings.setBurstLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("rateLimit", targetDepth)) {
-                    context.nextToken();
-                    throttleSettings.setRateLimit(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("burstLimit".equals(fieldName)) {
+                        context.nextToken();
+                        throttleSettings.setBurstLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("rateLimit".equals(fieldName)) {
+                        context.nextToken();
+                        throttleSettings.setRateLimit(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,23 +47,21 @@ public class UpdateIntegrationResponseResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("statusCode", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResponseResult.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("selectionPattern", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResponseResult.setSelectionPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("responseParameters", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResponseResult.setResponseParameters(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("responseTemplates", targetDepth)) {
-                    context.nextToken();
-                    updateIntegrationResponseResult.setResponseTemplates(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("statusCode".equals(fieldName)) {
+                        context.nextToken();
+                        updateIntegrationResponseResult.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("selectionPattern".equals(fieldName)) {
+                        context.nextToken();
+                        updateIntegrationResponseResult.setSelectionPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("responseParameters".equals(fieldName)) {
+                        context.nextToken();
+                        updateIntegrationResponseResult.setResponseParameters(responseParametersUnmarshaller.unmarshall(context));
+                    } else if ("responseTemplates".equals(fieldName)) {
+                        context.nextToken();
+                        updateIntegrationResponseResult.setResponseTemplates(responseTemplatesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -77,6 +75,19 @@ public class UpdateIntegrationResponseResultJsonUnmarshaller implements Unmarsha
         return updateIntegrationResponseResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> responseParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> responseTemplatesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static UpdateIntegrationResponseResultJsonUnmarshaller instance;
 
     public static UpdateIntegrationResponseResultJsonUnmarshaller getInstance() {
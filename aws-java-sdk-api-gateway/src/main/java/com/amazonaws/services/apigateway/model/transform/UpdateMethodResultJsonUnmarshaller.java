@@ -47,40 +47,33 @@ public class UpdateMethodResultJsonUnmarshaller implements Unmarshaller<UpdateMe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("httpMethod", targetDepth)) {
-                    context.nextToken();
-                    updateMethodResult.setHttpMethod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizationType", targetDepth)) {
-                    context.nextToken();
-                    updateMethodResult.setAuthorizationType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("authorizerId", targetDepth)) {
-                    context.nextToken();
-                    updateMethodResult.setAuthorizerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("apiKeyRequired", targetDepth)) {
-                    context.nextToken();
-                    updateMethodResult.setApiKeyRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("requestParameters", targetDepth)) {
-                    context.nextToken();
-                    updateMethodResult.setRequestParameters(new MapUnmarshaller<String, Boolean>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(Boolean.class)).unmarshall(context));
-                }
-                if (context.testExpression("requestModels", targetDepth)) {
-                    context.nextToken();
-                    updateMethodResult.setRequestModels(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("methodResponses", targetDepth)) {
-                    context.nextToken();
-                    updateMethodResult.setMethodResponses(new MapUnmarshaller<String, MethodResponse>(context.getUnmarshaller(String.class),
-                            MethodResponseJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("methodIntegration", targetDepth)) {
-                    context.nextToken();
-                    updateMethodResult.setMethodIntegration(IntegrationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("httpMethod".equals(fieldName)) {
+                        context.nextToken();
+                        updateMethodResult.setHttpMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizationType".equals(fieldName)) {
+                        context.nextToken();
+                        updateMethodResult.setAuthorizationType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("authorizerId".equals(fieldName)) {
+                        context.nextToken();
+                        updateMethodResult.setAuthorizerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("apiKeyRequired".equals(fieldName)) {
+                        context.nextToken();
+                        updateMethodResult.setApiKeyRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("requestParameters".equals(fieldName)) {
+                        context.nextToken();
+                        updateMethodResult.setRequestParameters(requestParametersUnmarshaller.unmarshall(context));
+                    } else if ("requestModels".equals(fieldName)) {
+                        context.nextToken();
+                        updateMethodResult.setRequestModels(requestModelsUnmarshaller.unmarshall(context));
+                    } else if ("methodResponses".equals(fieldName)) {
+                        context.nextToken();
+                        updateMethodResult.setMethodResponses(methodResponsesUnmarshaller.unmarshall(context));
+                    } else if ("methodIntegration".equals(fieldName)) {
+                        context.nextToken();
+                        updateMethodResult.setMethodIntegration(IntegrationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -94,6 +87,25 @@ public class UpdateMethodResultJsonUnmarshaller implements Unmarshaller<UpdateMe
         return updateMethodResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, Boolean>, JsonUnmarshallerContext> requestParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, Boolean>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, Boolean>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, Boolean>(context.getUnmarshaller(String.class), context.getUnmarshaller(Boolean.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> requestModelsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, MethodResponse>, JsonUnmarshallerContext> methodResponsesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, MethodResponse>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, MethodResponse>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, MethodResponse>(context.getUnmarshaller(String.class), MethodResponseJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static UpdateMethodResultJsonUnmarshaller instance;
 
     public static UpdateMethodResultJsonUnmarshaller getInstance() {
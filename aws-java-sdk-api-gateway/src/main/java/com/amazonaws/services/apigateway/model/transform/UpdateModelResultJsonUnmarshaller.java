@@ -47,25 +47,24 @@ public class UpdateModelResultJsonUnmarshaller implements Unmarshaller<UpdateMod
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    updateModelResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    updateModelResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    updateModelResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("schema", targetDepth)) {
-                    context.nextToken();
-                    updateModelResult.setSchema(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("contentType", targetDepth)) {
-                    context.nextToken();
-                    updateModelResult.setContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        updateModelResult.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        updateModelResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        updateModelResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("schema".equals(fieldName)) {
+                        context.nextToken();
+                        updateModelResult.setSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("contentType".equals(fieldName)) {
+                        context.nextToken();
+                        updateModelResult.setContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,51 +47,42 @@ public class UpdateStageResultJsonUnmarshaller implements Unmarshaller<UpdateSta
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentId", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("clientCertificateId", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setClientCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stageName", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterEnabled", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setCacheClusterEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterSize", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setCacheClusterSize(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cacheClusterStatus", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setCacheClusterStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("methodSettings", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setMethodSettings(new MapUnmarshaller<String, MethodSetting>(context.getUnmarshaller(String.class),
-                            MethodSettingJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("variables", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setVariables(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("createdDate", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    updateStageResult.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentId".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("clientCertificateId".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setClientCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stageName".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cacheClusterEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setCacheClusterEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("cacheClusterSize".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setCacheClusterSize(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cacheClusterStatus".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setCacheClusterStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("methodSettings".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setMethodSettings(methodSettingsUnmarshaller.unmarshall(context));
+                    } else if ("variables".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setVariables(variablesUnmarshaller.unmarshall(context));
+                    } else if ("createdDate".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lastUpdatedDate".equals(fieldName)) {
+                        context.nextToken();
+                        updateStageResult.setLastUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -105,6 +96,19 @@ public class UpdateStageResultJsonUnmarshaller implements Unmarshaller<UpdateSta
         return updateStageResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, MethodSetting>, JsonUnmarshallerContext> methodSettingsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, MethodSetting>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, MethodSetting>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, MethodSetting>(context.getUnmarshaller(String.class), MethodSettingJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> variablesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static UpdateStageResultJsonUnmarshaller instance;
 
     public static UpdateStageResultJsonUnmarshaller getInstance() {
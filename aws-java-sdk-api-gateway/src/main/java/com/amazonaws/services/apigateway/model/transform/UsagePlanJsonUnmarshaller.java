@@ -47,29 +47,27 @@ public class UsagePlanJsonUnmarshaller implements Unmarshaller<UsagePlan, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    usagePlan.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    usagePlan.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    usagePlan.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("apiStages", targetDepth)) {
-                    context.nextToken();
-                    usagePlan.setApiStages(new ListUnmarshaller<ApiStage>(ApiStageJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("throttle", targetDepth)) {
-                    context.nextToken();
-                    usagePlan.setThrottle(ThrottleSettingsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("quota", targetDepth)) {
-                    context.nextToken();
-                    usagePlan.setQuota(QuotaSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        usagePlan.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        usagePlan.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        usagePlan.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("apiStages".equals(fieldName)) {
+                        context.nextToken();
+                        usagePlan.setApiStages(apiStagesUnmarshaller.unmarshall(context));
+                    } else if ("throttle".equals(fieldName)) {
+                        context.nextToken();
+                        usagePlan.setThrottle(ThrottleSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("quota".equals(fieldName)) {
+                        context.nextToken();
+                        usagePlan.setQuota(QuotaSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -83,6 +81,13 @@ public class UsagePlanJsonUnmarshaller implements Unmarshaller<UsagePlan, JsonUn
         return usagePlan;
     }
 
+    private final Unmarshaller<java.util.List<ApiStage>, JsonUnmarshallerContext> apiStagesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ApiStage>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ApiStage>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ApiStage>(ApiStageJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static UsagePlanJsonUnmarshaller instance;
 
     public static UsagePlanJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class AlarmJsonUnmarshaller implements Unmarshaller<Alarm, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AlarmName", targetDepth)) {
-                    context.nextToken();
-                    alarm.setAlarmName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AlarmARN", targetDepth)) {
-                    context.nextToken();
-                    alarm.setAlarmARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AlarmName".equals(fieldName)) {
+                        context.nextToken();
+                        alarm.setAlarmName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AlarmARN".equals(fieldName)) {
+                        context.nextToken();
+                        alarm.setAlarmARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class DescribeScalableTargetsResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ScalableTargets", targetDepth)) {
-                    context.nextToken();
-                    describeScalableTargetsResult.setScalableTargets(new ListUnmarshaller<ScalableTarget>(ScalableTargetJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeScalableTargetsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ScalableTargets".equals(fieldName)) {
+                        context.nextToken();
+                        describeScalableTargetsResult.setScalableTargets(scalableTargetsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeScalableTargetsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeScalableTargetsResultJsonUnmarshaller implements Unmarshall
         return describeScalableTargetsResult;
     }
 
+    private final Unmarshaller<java.util.List<ScalableTarget>, JsonUnmarshallerContext> scalableTargetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ScalableTarget>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ScalableTarget>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ScalableTarget>(ScalableTargetJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeScalableTargetsResultJsonUnmarshaller instance;
 
     public static DescribeScalableTargetsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class DescribeScalingActivitiesResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ScalingActivities", targetDepth)) {
-                    context.nextToken();
-                    describeScalingActivitiesResult.setScalingActivities(new ListUnmarshaller<ScalingActivity>(ScalingActivityJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeScalingActivitiesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ScalingActivities".equals(fieldName)) {
+                        context.nextToken();
+                        describeScalingActivitiesResult.setScalingActivities(scalingActivitiesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeScalingActivitiesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeScalingActivitiesResultJsonUnmarshaller implements Unmarsha
         return describeScalingActivitiesResult;
     }
 
+    private final Unmarshaller<java.util.List<ScalingActivity>, JsonUnmarshallerContext> scalingActivitiesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ScalingActivity>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ScalingActivity>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ScalingActivity>(ScalingActivityJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeScalingActivitiesResultJsonUnmarshaller instance;
 
     public static DescribeScalingActivitiesResultJsonUnmarshaller getInstance() {
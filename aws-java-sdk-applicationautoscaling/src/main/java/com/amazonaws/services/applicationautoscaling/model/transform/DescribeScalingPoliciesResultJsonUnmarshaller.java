@@ -47,14 +47,15 @@ public class DescribeScalingPoliciesResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ScalingPolicies", targetDepth)) {
-                    context.nextToken();
-                    describeScalingPoliciesResult.setScalingPolicies(new ListUnmarshaller<ScalingPolicy>(ScalingPolicyJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeScalingPoliciesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ScalingPolicies".equals(fieldName)) {
+                        context.nextToken();
+                        describeScalingPoliciesResult.setScalingPolicies(scalingPoliciesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeScalingPoliciesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeScalingPoliciesResultJsonUnmarshaller implements Unmarshall
         return describeScalingPoliciesResult;
     }
 
+    private final Unmarshaller<java.util.List<ScalingPolicy>, JsonUnmarshallerContext> scalingPoliciesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ScalingPolicy>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ScalingPolicy>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ScalingPolicy>(ScalingPolicyJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeScalingPoliciesResultJsonUnmarshaller instance;
 
     public static DescribeScalingPoliciesResultJsonUnmarshaller getInstance() {
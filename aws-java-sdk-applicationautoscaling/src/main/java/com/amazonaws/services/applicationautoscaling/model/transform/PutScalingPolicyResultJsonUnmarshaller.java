@@ -47,9 +47,12 @@ public class PutScalingPolicyResultJsonUnmarshaller implements Unmarshaller<PutS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PolicyARN", targetDepth)) {
-                    context.nextToken();
-                    putScalingPolicyResult.setPolicyARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PolicyARN".equals(fieldName)) {
+                        context.nextToken();
+                        putScalingPolicyResult.setPolicyARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
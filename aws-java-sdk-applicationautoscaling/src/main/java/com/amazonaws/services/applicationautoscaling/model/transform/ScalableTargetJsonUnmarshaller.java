@@ -47,33 +47,30 @@ public class ScalableTargetJsonUnmarshaller implements Unmarshaller<ScalableTarg
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ServiceNamespace", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setServiceNamespace(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalableDimension", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setScalableDimension(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MinCapacity", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setMinCapacity(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxCapacity", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setMaxCapacity(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    scalableTarget.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ServiceNamespace".equals(fieldName)) {
+                        context.nextToken();
+                        scalableTarget.setServiceNamespace(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceId".equals(fieldName)) {
+                        context.nextToken();
+                        scalableTarget.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ScalableDimension".equals(fieldName)) {
+                        context.nextToken();
+                        scalableTarget.setScalableDimension(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MinCapacity".equals(fieldName)) {
+                        context.nextToken();
+                        scalableTarget.setMinCapacity(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MaxCapacity".equals(fieldName)) {
+                        context.nextToken();
+                        scalableTarget.setMaxCapacity(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        scalableTarget.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationTime".equals(fieldName)) {
+                        context.nextToken();
+                        scalableTarget.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,49 +47,42 @@ public class ScalingActivityJsonUnmarshaller implements Unmarshaller<ScalingActi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ActivityId", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceNamespace", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setServiceNamespace(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalableDimension", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setScalableDimension(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Cause", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setCause(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StartTime", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndTime", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setEndTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusCode", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusMessage", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Details", targetDepth)) {
-                    context.nextToken();
-                    scalingActivity.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ActivityId".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServiceNamespace".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setServiceNamespace(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceId".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ScalableDimension".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setScalableDimension(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Cause".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StartTime".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("EndTime".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setEndTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StatusCode".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StatusMessage".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Details".equals(fieldName)) {
+                        context.nextToken();
+                        scalingActivity.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
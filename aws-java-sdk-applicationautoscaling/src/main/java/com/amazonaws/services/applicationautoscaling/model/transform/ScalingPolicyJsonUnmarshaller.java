@@ -47,41 +47,36 @@ public class ScalingPolicyJsonUnmarshaller implements Unmarshaller<ScalingPolicy
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PolicyARN", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setPolicyARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PolicyName", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setPolicyName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceNamespace", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setServiceNamespace(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalableDimension", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setScalableDimension(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PolicyType", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setPolicyType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StepScalingPolicyConfiguration", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setStepScalingPolicyConfiguration(StepScalingPolicyConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Alarms", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setAlarms(new ListUnmarshaller<Alarm>(AlarmJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PolicyARN".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setPolicyARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PolicyName".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setPolicyName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServiceNamespace".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setServiceNamespace(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceId".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ScalableDimension".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setScalableDimension(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PolicyType".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setPolicyType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StepScalingPolicyConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setStepScalingPolicyConfiguration(StepScalingPolicyConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Alarms".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setAlarms(alarmsUnmarshaller.unmarshall(context));
+                    } else if ("CreationTime".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -95,6 +90,13 @@ public class ScalingPolicyJsonUnmarshaller implements Unmarshaller<ScalingPolicy
         return scalingPolicy;
     }
 
+    private final Unmarshaller<java.util.List<Alarm>, JsonUnmarshallerContext> alarmsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Alarm>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Alarm>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Alarm>(AlarmJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ScalingPolicyJsonUnmarshaller instance;
 
     public static ScalingPolicyJsonUnmarshaller getInstance() {
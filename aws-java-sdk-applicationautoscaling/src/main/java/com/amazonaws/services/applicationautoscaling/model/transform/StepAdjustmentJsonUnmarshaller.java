@@ -47,17 +47,18 @@ public class StepAdjustmentJsonUnmarshaller implements Unmarshaller<StepAdjustme
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MetricIntervalLowerBound", targetDepth)) {
-                    context.nextToken();
-                    stepAdjustment.setMetricIntervalLowerBound(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("MetricIntervalUpperBound", targetDepth)) {
-                    context.nextToken();
-                    stepAdjustment.setMetricIntervalUpperBound(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalingAdjustment", targetDepth)) {
-                    context.nextToken();
-                    stepAdjustment.setScalingAdjustment(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MetricIntervalLowerBound".equals(fieldName)) {
+                        context.nextToken();
+                        stepAdjustment.setMetricIntervalLowerBound(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("MetricIntervalUpperBound".equals(fieldName)) {
+                        context.nextToken();
+                        stepAdjustment.setMetricIntervalUpperBound(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("ScalingAdjustment".equals(fieldName)) {
+                        context.nextToken();
+                        stepAdjustment.setScalingAdjustment(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
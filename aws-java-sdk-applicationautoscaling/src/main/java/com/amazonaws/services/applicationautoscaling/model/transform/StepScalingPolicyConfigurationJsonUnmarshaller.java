@@ -47,26 +47,24 @@ public class StepScalingPolicyConfigurationJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AdjustmentType", targetDepth)) {
-                    context.nextToken();
-                    stepScalingPolicyConfiguration.setAdjustmentType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StepAdjustments", targetDepth)) {
-                    context.nextToken();
-                    stepScalingPolicyConfiguration.setStepAdjustments(new ListUnmarshaller<StepAdjustment>(StepAdjustmentJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("MinAdjustmentMagnitude", targetDepth)) {
-                    context.nextToken();
-                    stepScalingPolicyConfiguration.setMinAdjustmentMagnitude(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Cooldown", targetDepth)) {
-                    context.nextToken();
-                    stepScalingPolicyConfiguration.setCooldown(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MetricAggregationType", targetDepth)) {
-                    context.nextToken();
-                    stepScalingPolicyConfiguration.setMetricAggregationType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AdjustmentType".equals(fieldName)) {
+                        context.nextToken();
+                        stepScalingPolicyConfiguration.setAdjustmentType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StepAdjustments".equals(fieldName)) {
+                        context.nextToken();
+                        stepScalingPolicyConfiguration.setStepAdjustments(stepAdjustmentsUnmarshaller.unmarshall(context));
+                    } else if ("MinAdjustmentMagnitude".equals(fieldName)) {
+                        context.nextToken();
+                        stepScalingPolicyConfiguration.setMinAdjustmentMagnitude(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Cooldown".equals(fieldName)) {
+                        context.nextToken();
+                        stepScalingPolicyConfiguration.setCooldown(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MetricAggregationType".equals(fieldName)) {
+                        context.nextToken();
+                        stepScalingPolicyConfiguration.setMetricAggregationType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -80,6 +78,13 @@ public class StepScalingPolicyConfigurationJsonUnmarshaller implements Unmarshal
         return stepScalingPolicyConfiguration;
     }
 
+    private final Unmarshaller<java.util.List<StepAdjustment>, JsonUnmarshallerContext> stepAdjustmentsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<StepAdjustment>>() {
+        @Override
+        protected Unmarshaller<java.util.List<StepAdjustment>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<StepAdjustment>(StepAdjustmentJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static StepScalingPolicyConfigurationJsonUnmarshaller instance;
 
     public static StepScalingPolicyConfigurationJsonUnmarshaller getInstance() {
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.auth;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Measures {@link AWS4Signer#sign} for the small requests that dominate
+ * DynamoDB (JSON body) and SQS (query string) traffic.
+ */
+@State(Scope.Benchmark)
+public class AWS4SignerBenchmark {
+
+    private static final byte[] DYNAMODB_GET_ITEM_BODY = (
+            "{\"TableName\":\"benchmark-table\",\"Key\":{\"hashKey\":{\"S\":\"some-hash-key\"},"
+            + "\"rangeKey\":{\"N\":\"42\"}},\"ConsistentRead\":true}").getBytes(StringUtils.UTF8);
+
+    private final AWSCredentials credentials = new BasicAWSCredentials(
+            "AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+    private AWS4Signer dynamoDbSigner;
+    private AWS4Signer sqsSigner;
+
+    @Setup
+    public void setup() {
+        dynamoDbSigner = new AWS4Signer();
+        dynamoDbSigner.setServiceName("dynamodb");
+        dynamoDbSigner.setRegionName("us-east-1");
+
+        sqsSigner = new AWS4Signer();
+        sqsSigner.setServiceName("sqs");
+        sqsSigner.setRegionName("us-east-1");
+    }
+
+    @Benchmark
+    public DefaultRequest<Void> signDynamoDbGetItem() {
+        DefaultRequest<Void> request = new DefaultRequest<Void>("AmazonDynamoDBv2");
+        request.setEndpoint(URI.create("https://dynamodb.us-east-1.amazonaws.com"));
+        request.setHttpMethod(HttpMethodName.POST);
+        request.addHeader("X-Amz-Target", "DynamoDB_20120810.GetItem");
+        request.addHeader("Content-Type", "application/x-amz-json-1.0");
+        request.setContent(new ByteArrayInputStream(DYNAMODB_GET_ITEM_BODY));
+        dynamoDbSigner.sign(request, credentials);
+        return request;
+    }
+
+    @Benchmark
+    public DefaultRequest<Void> signSqsReceiveMessage() {
+        DefaultRequest<Void> request = new DefaultRequest<Void>("AmazonSQS");
+        request.setEndpoint(URI.create("https://sqs.us-east-1.amazonaws.com"));
+        request.setResourcePath("/123456789012/benchmark-queue");
+        request.setHttpMethod(HttpMethodName.POST);
+        request.addParameter("Action", "ReceiveMessage");
+        request.addParameter("Version", "2012-11-05");
+        request.addParameter("MaxNumberOfMessages", "10");
+        request.addParameter("WaitTimeSeconds", "20");
+        request.addParameter("AttributeName.1", "All");
+        sqsSigner.sign(request, credentials);
+        return request;
+    }
+}
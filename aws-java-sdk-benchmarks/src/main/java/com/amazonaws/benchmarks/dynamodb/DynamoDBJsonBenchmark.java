@@ -0,0 +1,124 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.dynamodb;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.amazonaws.Request;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.protocol.json.SdkStructuredPlainJsonFactory;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.ComparisonOperator;
+import com.amazonaws.services.dynamodbv2.model.Condition;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.transform.QueryRequestMarshaller;
+import com.amazonaws.services.dynamodbv2.model.transform.QueryResultJsonUnmarshaller;
+import com.amazonaws.transform.JsonUnmarshallerContextImpl;
+import com.amazonaws.util.StringUtils;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Measures the generated DynamoDB JSON marshaller and unmarshallers
+ * (including {@code AttributeValueJsonUnmarshaller}) on Query pages of
+ * varying size.
+ */
+@State(Scope.Benchmark)
+public class DynamoDBJsonBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int itemCount;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private final SdkJsonProtocolFactory protocolFactory = new SdkJsonProtocolFactory(
+            new JsonClientMetadata()
+                    .withProtocolVersion("1.0")
+                    .withSupportsCbor(false)
+                    .withSupportsIon(false));
+
+    private QueryRequest queryRequest;
+    private byte[] queryResponse;
+
+    @Setup
+    public void setup() {
+        Map<String, Condition> keyConditions = new HashMap<String, Condition>();
+        keyConditions.put("hashKey", new Condition()
+                .withComparisonOperator(ComparisonOperator.EQ)
+                .withAttributeValueList(new AttributeValue().withS("customer-0042")));
+        keyConditions.put("rangeKey", new Condition()
+                .withComparisonOperator(ComparisonOperator.BETWEEN)
+                .withAttributeValueList(new AttributeValue().withN("1"),
+                        new AttributeValue().withN("100000")));
+        queryRequest = new QueryRequest()
+                .withTableName("benchmark-table")
+                .withKeyConditions(keyConditions)
+                .withConsistentRead(true)
+                .withLimit(itemCount);
+
+        queryResponse = createQueryResponse(itemCount).getBytes(StringUtils.UTF8);
+    }
+
+    @Benchmark
+    public Request<QueryRequest> marshallQueryRequest() {
+        return new QueryRequestMarshaller(protocolFactory).marshall(queryRequest);
+    }
+
+    @Benchmark
+    public QueryResult unmarshallQueryResult() throws Exception {
+        JsonParser parser = jsonFactory.createParser(new ByteArrayInputStream(queryResponse));
+        try {
+            return QueryResultJsonUnmarshaller.getInstance().unmarshall(
+                    new JsonUnmarshallerContextImpl(parser,
+                            SdkStructuredPlainJsonFactory.JSON_SCALAR_UNMARSHALLERS,
+                            null));
+        } finally {
+            parser.close();
+        }
+    }
+
+    private static String createQueryResponse(int itemCount) {
+        StringBuilder json = new StringBuilder("{\"Count\":").append(itemCount)
+                .append(",\"ScannedCount\":").append(itemCount)
+                .append(",\"Items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"hashKey\":{\"S\":\"customer-0042\"},")
+                .append("\"rangeKey\":{\"N\":\"").append(i).append("\"},")
+                .append("\"status\":{\"S\":\"SHIPPED\"},")
+                .append("\"total\":{\"N\":\"129.99\"},")
+                .append("\"gift\":{\"BOOL\":false},")
+                .append("\"tags\":{\"SS\":[\"priority\",\"international\",\"fragile\"]},")
+                .append("\"lines\":{\"L\":[{\"M\":{\"sku\":{\"S\":\"SKU-1\"},\"qty\":{\"N\":\"2\"}}},")
+                .append("{\"M\":{\"sku\":{\"S\":\"SKU-2\"},\"qty\":{\"N\":\"1\"}}}]},")
+                .append("\"address\":{\"M\":{\"city\":{\"S\":\"Seattle\"},\"zip\":{\"S\":\"98109\"}}}}");
+        }
+        json.append("],\"LastEvaluatedKey\":{\"hashKey\":{\"S\":\"customer-0042\"},")
+            .append("\"rangeKey\":{\"N\":\"").append(itemCount).append("\"}}}");
+        return json.toString();
+    }
+}
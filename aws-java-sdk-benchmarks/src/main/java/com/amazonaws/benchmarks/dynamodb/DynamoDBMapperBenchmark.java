@@ -0,0 +1,210 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.dynamodb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+/**
+ * Measures the {@link DynamoDBMapper} converting items of an annotated class
+ * to and from attribute values, which is dominated by the reflective get and
+ * set of every mapped property.
+ * <p>
+ * Unmarshalling goes through {@code marshallIntoObjects}, as for every page
+ * of a query or scan. Marshalling goes through {@code batchSave} against a
+ * stub client that accepts every batch.
+ */
+@State(Scope.Benchmark)
+public class DynamoDBMapperBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int itemCount;
+
+    private DynamoDBMapper mapper;
+    private List<Order> orders;
+    private List<Map<String, AttributeValue>> items;
+
+    @Setup
+    public void setup() {
+        mapper = new DynamoDBMapper(new StubAmazonDynamoDB());
+        orders = new ArrayList<Order>(itemCount);
+        items = new ArrayList<Map<String, AttributeValue>>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Order order = createOrder(i);
+            orders.add(order);
+            items.add(toItem(order));
+        }
+    }
+
+    @Benchmark
+    public List<Order> unmarshallItems() {
+        return mapper.marshallIntoObjects(Order.class, items);
+    }
+
+    @Benchmark
+    public List<FailedBatch> marshallItems() {
+        return mapper.batchSave(orders);
+    }
+
+    private static Order createOrder(int i) {
+        Order order = new Order();
+        order.setCustomerId("customer-0042");
+        order.setOrderId(i);
+        order.setStatus("SHIPPED");
+        order.setTotal(129.99);
+        order.setGift(false);
+        order.setQuantity(3);
+        order.setCarrier("UPS");
+        order.setTrackingNumber("1Z999AA10123456784");
+        order.setTags(new LinkedHashSet<String>(Arrays.asList("priority", "international", "fragile")));
+        return order;
+    }
+
+    private static Map<String, AttributeValue> toItem(Order order) {
+        Map<String, AttributeValue> item = new HashMap<String, AttributeValue>();
+        item.put("customerId", new AttributeValue().withS(order.getCustomerId()));
+        item.put("orderId", new AttributeValue().withN(Integer.toString(order.getOrderId())));
+        item.put("status", new AttributeValue().withS(order.getStatus()));
+        item.put("total", new AttributeValue().withN(Double.toString(order.getTotal())));
+        item.put("gift", new AttributeValue().withN("0"));
+        item.put("quantity", new AttributeValue().withN(Integer.toString(order.getQuantity())));
+        item.put("carrier", new AttributeValue().withS(order.getCarrier()));
+        item.put("tracking", new AttributeValue().withS(order.getTrackingNumber()));
+        item.put("tags", new AttributeValue().withSS(order.getTags()));
+        return item;
+    }
+
+    /**
+     * Accepts every batch write without any unprocessed item.
+     */
+    private static class StubAmazonDynamoDB extends AbstractAmazonDynamoDB {
+        @Override
+        public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+            return new BatchWriteItemResult()
+                    .withUnprocessedItems(new HashMap<String, List<WriteRequest>>());
+        }
+    }
+
+    @DynamoDBTable(tableName = "benchmark-orders")
+    public static class Order {
+        private String customerId;
+        private Integer orderId;
+        private String status;
+        private Double total;
+        private Boolean gift;
+        private Integer quantity;
+        private String carrier;
+        private String trackingNumber;
+        private Set<String> tags;
+
+        @DynamoDBHashKey
+        public String getCustomerId() {
+            return customerId;
+        }
+
+        public void setCustomerId(String customerId) {
+            this.customerId = customerId;
+        }
+
+        @DynamoDBRangeKey
+        public Integer getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(Integer orderId) {
+            this.orderId = orderId;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public Double getTotal() {
+            return total;
+        }
+
+        public void setTotal(Double total) {
+            this.total = total;
+        }
+
+        public Boolean getGift() {
+            return gift;
+        }
+
+        public void setGift(Boolean gift) {
+            this.gift = gift;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        public String getCarrier() {
+            return carrier;
+        }
+
+        public void setCarrier(String carrier) {
+            this.carrier = carrier;
+        }
+
+        @DynamoDBAttribute(attributeName = "tracking")
+        public String getTrackingNumber() {
+            return trackingNumber;
+        }
+
+        public void setTrackingNumber(String trackingNumber) {
+            this.trackingNumber = trackingNumber;
+        }
+
+        public Set<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(Set<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
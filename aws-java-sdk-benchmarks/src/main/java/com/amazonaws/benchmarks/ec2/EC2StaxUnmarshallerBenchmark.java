@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.ec2;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.amazonaws.ResponseMetadata;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.transform.DescribeInstancesResultStaxUnmarshaller;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Measures the generated StAX unmarshallers on an EC2 DescribeInstances
+ * response built from a captured reservation, repeated to the requested
+ * number of reservations.
+ */
+@State(Scope.Benchmark)
+public class EC2StaxUnmarshallerBenchmark {
+
+    private static final String RESERVATION_RESOURCE = "describe-instances-reservation.xml";
+
+    @Param({ "1", "50", "500" })
+    public int reservationCount;
+
+    private final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+
+    private byte[] response;
+
+    @Setup
+    public void setup() throws Exception {
+        InputStream reservation = EC2StaxUnmarshallerBenchmark.class.getResourceAsStream(RESERVATION_RESOURCE);
+        String reservationXml;
+        try {
+            reservationXml = IOUtils.toString(reservation);
+        } finally {
+            reservation.close();
+        }
+
+        StringBuilder xml = new StringBuilder()
+                .append("<DescribeInstancesResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-09-15/\">")
+                .append("<requestId>8f7724cf-496f-496e-8fe3-example</requestId>")
+                .append("<reservationSet>");
+        for (int i = 0; i < reservationCount; i++) {
+            xml.append(reservationXml);
+        }
+        xml.append("</reservationSet></DescribeInstancesResponse>");
+        response = xml.toString().getBytes(StringUtils.UTF8);
+    }
+
+    @Benchmark
+    public DescribeInstancesResult unmarshallDescribeInstances() throws Exception {
+        XMLEventReader eventReader = xmlInputFactory.createXMLEventReader(
+                new ByteArrayInputStream(response));
+        try {
+            StaxUnmarshallerContext context = new StaxUnmarshallerContext(eventReader);
+            context.registerMetadataExpression("ResponseMetadata/RequestId", 2,
+                    ResponseMetadata.AWS_REQUEST_ID);
+            context.registerMetadataExpression("requestId", 2, ResponseMetadata.AWS_REQUEST_ID);
+            return DescribeInstancesResultStaxUnmarshaller.getInstance().unmarshall(context);
+        } finally {
+            eventReader.close();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.internal.AmazonWebServiceRequestAdapter;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Measures the overhead of {@link AmazonHttpClient} around a single request:
+ * handler chain, retry bookkeeping, metrics and the Apache connection pool.
+ * Requests are sent to an in-process HTTP stub so that the network does not
+ * dominate the result.
+ */
+@State(Scope.Benchmark)
+public class AmazonHttpClientBenchmark {
+
+    private static final byte[] RESPONSE_BODY = "{\"ok\":true}".getBytes(StringUtils.UTF8);
+
+    private static final HttpResponseHandler<String> STRING_RESPONSE_HANDLER = new HttpResponseHandler<String>() {
+        @Override
+        public String handle(HttpResponse response) throws Exception {
+            return IOUtils.toString(response.getContent());
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    };
+
+    private static final HttpResponseHandler<AmazonServiceException> ERROR_RESPONSE_HANDLER = new HttpResponseHandler<AmazonServiceException>() {
+        @Override
+        public AmazonServiceException handle(HttpResponse response) throws Exception {
+            AmazonServiceException exception = new AmazonServiceException("Stub error response");
+            exception.setStatusCode(response.getStatusCode());
+            return exception;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    };
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private AmazonHttpClient client;
+    private URI endpoint;
+
+    @Setup
+    public void setup() throws IOException {
+        // Avoid Nagle/delayed-ACK stalls between the response headers and body.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                IOUtils.toByteArray(exchange.getRequestBody());
+                exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.0");
+                exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(RESPONSE_BODY);
+                out.close();
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        endpoint = URI.create("http://localhost:" + server.getAddress().getPort());
+        client = new AmazonHttpClient(new ClientConfiguration().withMaxConnections(64));
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public String execute() {
+        return executeOnce();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String executeContended() {
+        return executeOnce();
+    }
+
+    private String executeOnce() {
+        Request<?> request = new DefaultRequest<Void>("stub");
+        request.setEndpoint(endpoint);
+        request.setResourcePath("/operation");
+        request.setHttpMethod(HttpMethodName.GET);
+        return client.requestExecutionBuilder()
+                .request(request)
+                .requestConfig(new AmazonWebServiceRequestAdapter(request.getOriginalRequest()))
+                .errorResponseHandler(ERROR_RESPONSE_HANDLER)
+                .executionContext(new ExecutionContext())
+                .execute(STRING_RESPONSE_HANDLER)
+                .getAwsResponse();
+    }
+}
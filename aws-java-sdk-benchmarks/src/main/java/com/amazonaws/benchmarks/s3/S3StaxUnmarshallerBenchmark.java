@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.s3;
+
+import java.io.ByteArrayInputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.amazonaws.services.s3.model.BucketNotificationConfiguration;
+import com.amazonaws.services.s3.model.transform.BucketNotificationConfigurationStaxUnmarshaller;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Measures the StAX unmarshaller of S3's GetBucketNotificationConfiguration
+ * response, whose nested filter rules exercise the path matching of
+ * {@link com.amazonaws.transform.StaxUnmarshallerContext} at depth.
+ */
+@State(Scope.Benchmark)
+public class S3StaxUnmarshallerBenchmark {
+
+    @Param({ "1", "100" })
+    public int configurationCount;
+
+    private byte[] notificationConfigurationResponse;
+
+    @Setup
+    public void setup() {
+        StringBuilder xml = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<NotificationConfiguration xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">");
+        for (int i = 0; i < configurationCount; i++) {
+            xml.append("<QueueConfiguration>")
+               .append("<Id>queue-notification-").append(i).append("</Id>")
+               .append("<Queue>arn:aws:sqs:us-west-2:123456789012:benchmark-queue</Queue>")
+               .append("<Event>s3:ObjectCreated:Put</Event>")
+               .append("<Event>s3:ObjectCreated:CompleteMultipartUpload</Event>")
+               .append("<Filter><S3Key>")
+               .append("<FilterRule><Name>prefix</Name><Value>logs/").append(i).append("/</Value></FilterRule>")
+               .append("<FilterRule><Name>suffix</Name><Value>.gz</Value></FilterRule>")
+               .append("</S3Key></Filter>")
+               .append("</QueueConfiguration>");
+        }
+        xml.append("</NotificationConfiguration>");
+        notificationConfigurationResponse = xml.toString().getBytes(StringUtils.UTF8);
+    }
+
+    @Benchmark
+    public BucketNotificationConfiguration unmarshallNotificationConfiguration() throws Exception {
+        return BucketNotificationConfigurationStaxUnmarshaller.getInstance()
+                .unmarshall(new ByteArrayInputStream(notificationConfigurationResponse));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.s3;
+
+import java.io.ByteArrayInputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.transform.XmlResponsesSaxParser;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Measures {@link XmlResponsesSaxParser} on ListObjects pages, which is the
+ * hot path of every bucket listing crawl.
+ */
+@State(Scope.Benchmark)
+public class S3XmlResponsesSaxParserBenchmark {
+
+    @Param({ "10", "1000" })
+    public int keyCount;
+
+    private byte[] listObjectsResponse;
+
+    @Setup
+    public void setup() {
+        StringBuilder xml = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                .append("<Name>benchmark-bucket</Name><Prefix>logs/</Prefix><Marker></Marker>")
+                .append("<MaxKeys>").append(keyCount).append("</MaxKeys>")
+                .append("<IsTruncated>true</IsTruncated>");
+        for (int i = 0; i < keyCount; i++) {
+            xml.append("<Contents>")
+               .append("<Key>logs/2016/10/17/host-").append(i).append("/access.log.gz</Key>")
+               .append("<LastModified>2016-10-17T09:26:43.000Z</LastModified>")
+               .append("<ETag>&quot;fba9dede5f27731c9771645a39863328&quot;</ETag>")
+               .append("<Size>434234</Size>")
+               .append("<Owner><ID>75aa57f09aa0c8caeab4f8c24e99d10f8e7faeebf76c078efc7c6caea54ba06a</ID>")
+               .append("<DisplayName>benchmark</DisplayName></Owner>")
+               .append("<StorageClass>STANDARD</StorageClass>")
+               .append("</Contents>");
+        }
+        xml.append("</ListBucketResult>");
+        listObjectsResponse = xml.toString().getBytes(StringUtils.UTF8);
+    }
+
+    @Benchmark
+    public ObjectListing parseListObjects() throws Exception {
+        return new XmlResponsesSaxParser()
+                .parseListBucketObjectsResponse(new ByteArrayInputStream(listObjectsResponse), false)
+                .getObjectListing();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import com.amazonaws.util.CapacityManager;
+
+/**
+ * Measures the retry capacity bucket as used by {@code AmazonHttpClient}:
+ * every request releases a unit on success and retries acquire
+ * {@code THROTTLED_RETRY_COST} units. The shared bucket is hammered from
+ * all available cores; run with {@code -t 1,2,4,...} to see how it scales.
+ * The monitor based implementation the SDK used previously is kept as a
+ * baseline.
+ */
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+public class CapacityManagerBenchmark {
+
+    private static final int THROTTLED_RETRY_COST = 5;
+    private static final int THROTTLED_RETRIES = 100;
+
+    @Param({ "lock-free", "synchronized" })
+    public String implementation;
+
+    private Capacity capacity;
+
+    @Setup
+    public void setup() {
+        final int maxCapacity = THROTTLED_RETRY_COST * THROTTLED_RETRIES;
+        if ("synchronized".equals(implementation)) {
+            capacity = new SynchronizedCapacity(maxCapacity);
+        } else {
+            final CapacityManager capacityManager = new CapacityManager(maxCapacity);
+            capacity = new Capacity() {
+                @Override
+                public boolean acquire(int amount) {
+                    return capacityManager.acquire(amount);
+                }
+
+                @Override
+                public void release(int amount) {
+                    capacityManager.release(amount);
+                }
+            };
+        }
+    }
+
+    /**
+     * The steady state: requests succeed and release into a full bucket.
+     */
+    @Benchmark
+    public void releaseOnSuccess() {
+        capacity.release(1);
+    }
+
+    /**
+     * A throttling storm: every request acquires retry capacity and hands it
+     * back.
+     */
+    @Benchmark
+    public boolean acquireAndReleaseRetry() {
+        boolean acquired = capacity.acquire(THROTTLED_RETRY_COST);
+        if (acquired) {
+            capacity.release(THROTTLED_RETRY_COST);
+        }
+        return acquired;
+    }
+
+    private interface Capacity {
+        boolean acquire(int amount);
+
+        void release(int amount);
+    }
+
+    /**
+     * The previous, monitor based, CapacityManager implementation.
+     */
+    private static final class SynchronizedCapacity implements Capacity {
+        private final Object lock = new Object();
+        private final int maxCapacity;
+        private volatile int availableCapacity;
+
+        SynchronizedCapacity(int maxCapacity) {
+            this.maxCapacity = maxCapacity;
+            this.availableCapacity = maxCapacity;
+        }
+
+        @Override
+        public boolean acquire(int amount) {
+            if (availableCapacity < 0) {
+                return true;
+            }
+            synchronized (lock) {
+                if (availableCapacity - amount >= 0) {
+                    availableCapacity -= amount;
+                    return true;
+                }
+                return false;
+            }
+        }
+
+        @Override
+        public void release(int amount) {
+            if (availableCapacity >= 0 && availableCapacity != maxCapacity) {
+                synchronized (lock) {
+                    availableCapacity = Math.min(availableCapacity + amount, maxCapacity);
+                }
+            }
+        }
+    }
+}
@@ -47,9 +47,12 @@ public class AddTagsToResourceResultJsonUnmarshaller implements Unmarshaller<Add
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    addTagsToResourceResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        addTagsToResourceResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
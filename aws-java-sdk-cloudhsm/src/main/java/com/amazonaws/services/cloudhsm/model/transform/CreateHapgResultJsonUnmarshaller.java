@@ -47,9 +47,12 @@ public class CreateHapgResultJsonUnmarshaller implements Unmarshaller<CreateHapg
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HapgArn", targetDepth)) {
-                    context.nextToken();
-                    createHapgResult.setHapgArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("HapgArn".equals(fieldName)) {
+                        context.nextToken();
+                        createHapgResult.setHapgArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
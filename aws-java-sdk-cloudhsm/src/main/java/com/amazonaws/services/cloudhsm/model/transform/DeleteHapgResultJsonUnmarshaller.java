@@ -47,9 +47,12 @@ public class DeleteHapgResultJsonUnmarshaller implements Unmarshaller<DeleteHapg
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    deleteHapgResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        deleteHapgResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,41 +47,36 @@ public class DescribeHapgResultJsonUnmarshaller implements Unmarshaller<Describe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HapgArn", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setHapgArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HapgSerial", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setHapgSerial(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HsmsLastActionFailed", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setHsmsLastActionFailed(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("HsmsPendingDeletion", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setHsmsPendingDeletion(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("HsmsPendingRegistration", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setHsmsPendingRegistration(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Label", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setLabel(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedTimestamp", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setLastModifiedTimestamp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PartitionSerialList", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setPartitionSerialList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    describeHapgResult.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("HapgArn".equals(fieldName)) {
+                        context.nextToken();
+                        describeHapgResult.setHapgArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HapgSerial".equals(fieldName)) {
+                        context.nextToken();
+                        describeHapgResult.setHapgSerial(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HsmsLastActionFailed".equals(fieldName)) {
+                        context.nextToken();
+                        describeHapgResult.setHsmsLastActionFailed(hsmsLastActionFailedUnmarshaller.unmarshall(context));
+                    } else if ("HsmsPendingDeletion".equals(fieldName)) {
+                        context.nextToken();
+                        describeHapgResult.setHsmsPendingDeletion(hsmsPendingDeletionUnmarshaller.unmarshall(context));
+                    } else if ("HsmsPendingRegistration".equals(fieldName)) {
+                        context.nextToken();
+                        describeHapgResult.setHsmsPendingRegistration(hsmsPendingRegistrationUnmarshaller.unmarshall(context));
+                    } else if ("Label".equals(fieldName)) {
+                        context.nextToken();
+                        describeHapgResult.setLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastModifiedTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        describeHapgResult.setLastModifiedTimestamp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PartitionSerialList".equals(fieldName)) {
+                        context.nextToken();
+                        describeHapgResult.setPartitionSerialList(partitionSerialListUnmarshaller.unmarshall(context));
+                    } else if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        describeHapgResult.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -95,6 +90,31 @@ public class DescribeHapgResultJsonUnmarshaller implements Unmarshaller<Describe
         return describeHapgResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> hsmsLastActionFailedUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> hsmsPendingDeletionUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> hsmsPendingRegistrationUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> partitionSerialListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeHapgResultJsonUnmarshaller instance;
 
     public static DescribeHapgResultJsonUnmarshaller getInstance() {
@@ -47,89 +47,72 @@ public class DescribeHsmResultJsonUnmarshaller implements Unmarshaller<DescribeH
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HsmArn", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setHsmArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusDetails", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setStatusDetails(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EniId", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setEniId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EniIp", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setEniIp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubscriptionType", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSubscriptionType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubscriptionStartDate", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSubscriptionStartDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubscriptionEndDate", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSubscriptionEndDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IamRoleArn", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setIamRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SerialNumber", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSerialNumber(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VendorName", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setVendorName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HsmType", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setHsmType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SoftwareVersion", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSoftwareVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshPublicKey", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSshPublicKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshKeyLastUpdated", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setSshKeyLastUpdated(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServerCertUri", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setServerCertUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServerCertLastUpdated", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setServerCertLastUpdated(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Partitions", targetDepth)) {
-                    context.nextToken();
-                    describeHsmResult.setPartitions(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("HsmArn".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setHsmArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StatusDetails".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setStatusDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AvailabilityZone".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EniId".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setEniId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EniIp".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setEniIp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubscriptionType".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setSubscriptionType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubscriptionStartDate".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setSubscriptionStartDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubscriptionEndDate".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setSubscriptionEndDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VpcId".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetId".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IamRoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setIamRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SerialNumber".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setSerialNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VendorName".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setVendorName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HsmType".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setHsmType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SoftwareVersion".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setSoftwareVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SshPublicKey".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setSshPublicKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SshKeyLastUpdated".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setSshKeyLastUpdated(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServerCertUri".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setServerCertUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServerCertLastUpdated".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setServerCertLastUpdated(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Partitions".equals(fieldName)) {
+                        context.nextToken();
+                        describeHsmResult.setPartitions(partitionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -143,6 +126,13 @@ public class DescribeHsmResultJsonUnmarshaller implements Unmarshaller<DescribeH
         return describeHsmResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> partitionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeHsmResultJsonUnmarshaller instance;
 
     public static DescribeHsmResultJsonUnmarshaller getInstance() {
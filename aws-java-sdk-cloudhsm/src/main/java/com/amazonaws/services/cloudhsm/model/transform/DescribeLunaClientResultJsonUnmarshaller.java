@@ -47,25 +47,24 @@ public class DescribeLunaClientResultJsonUnmarshaller implements Unmarshaller<De
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ClientArn", targetDepth)) {
-                    context.nextToken();
-                    describeLunaClientResult.setClientArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Certificate", targetDepth)) {
-                    context.nextToken();
-                    describeLunaClientResult.setCertificate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificateFingerprint", targetDepth)) {
-                    context.nextToken();
-                    describeLunaClientResult.setCertificateFingerprint(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedTimestamp", targetDepth)) {
-                    context.nextToken();
-                    describeLunaClientResult.setLastModifiedTimestamp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Label", targetDepth)) {
-                    context.nextToken();
-                    describeLunaClientResult.setLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ClientArn".equals(fieldName)) {
+                        context.nextToken();
+                        describeLunaClientResult.setClientArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Certificate".equals(fieldName)) {
+                        context.nextToken();
+                        describeLunaClientResult.setCertificate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CertificateFingerprint".equals(fieldName)) {
+                        context.nextToken();
+                        describeLunaClientResult.setCertificateFingerprint(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastModifiedTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        describeLunaClientResult.setLastModifiedTimestamp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Label".equals(fieldName)) {
+                        context.nextToken();
+                        describeLunaClientResult.setLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class GetConfigResultJsonUnmarshaller implements Unmarshaller<GetConfigRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigType", targetDepth)) {
-                    context.nextToken();
-                    getConfigResult.setConfigType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigFile", targetDepth)) {
-                    context.nextToken();
-                    getConfigResult.setConfigFile(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigCred", targetDepth)) {
-                    context.nextToken();
-                    getConfigResult.setConfigCred(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ConfigType".equals(fieldName)) {
+                        context.nextToken();
+                        getConfigResult.setConfigType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConfigFile".equals(fieldName)) {
+                        context.nextToken();
+                        getConfigResult.setConfigFile(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConfigCred".equals(fieldName)) {
+                        context.nextToken();
+                        getConfigResult.setConfigCred(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
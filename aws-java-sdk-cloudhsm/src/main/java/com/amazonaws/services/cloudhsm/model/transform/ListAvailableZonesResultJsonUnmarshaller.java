@@ -47,9 +47,12 @@ public class ListAvailableZonesResultJsonUnmarshaller implements Unmarshaller<Li
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AZList", targetDepth)) {
-                    context.nextToken();
-                    listAvailableZonesResult.setAZList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AZList".equals(fieldName)) {
+                        context.nextToken();
+                        listAvailableZonesResult.setAZList(aZListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class ListAvailableZonesResultJsonUnmarshaller implements Unmarshaller<Li
         return listAvailableZonesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> aZListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListAvailableZonesResultJsonUnmarshaller instance;
 
     public static ListAvailableZonesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListHapgsResultJsonUnmarshaller implements Unmarshaller<ListHapgsRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HapgList", targetDepth)) {
-                    context.nextToken();
-                    listHapgsResult.setHapgList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listHapgsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("HapgList".equals(fieldName)) {
+                        context.nextToken();
+                        listHapgsResult.setHapgList(hapgListUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listHapgsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListHapgsResultJsonUnmarshaller implements Unmarshaller<ListHapgsRe
         return listHapgsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> hapgListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListHapgsResultJsonUnmarshaller instance;
 
     public static ListHapgsResultJsonUnmarshaller getInstance() {
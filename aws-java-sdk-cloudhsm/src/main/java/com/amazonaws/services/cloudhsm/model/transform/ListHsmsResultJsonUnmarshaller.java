@@ -47,13 +47,15 @@ public class ListHsmsResultJsonUnmarshaller implements Unmarshaller<ListHsmsResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HsmList", targetDepth)) {
-                    context.nextToken();
-                    listHsmsResult.setHsmList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listHsmsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("HsmList".equals(fieldName)) {
+                        context.nextToken();
+                        listHsmsResult.setHsmList(hsmListUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listHsmsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListHsmsResultJsonUnmarshaller implements Unmarshaller<ListHsmsResu
         return listHsmsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> hsmListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListHsmsResultJsonUnmarshaller instance;
 
     public static ListHsmsResultJsonUnmarshaller getInstance() {
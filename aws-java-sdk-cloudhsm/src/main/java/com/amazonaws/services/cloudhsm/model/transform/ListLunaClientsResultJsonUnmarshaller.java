@@ -47,13 +47,15 @@ public class ListLunaClientsResultJsonUnmarshaller implements Unmarshaller<ListL
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ClientList", targetDepth)) {
-                    context.nextToken();
-                    listLunaClientsResult.setClientList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listLunaClientsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ClientList".equals(fieldName)) {
+                        context.nextToken();
+                        listLunaClientsResult.setClientList(clientListUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listLunaClientsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListLunaClientsResultJsonUnmarshaller implements Unmarshaller<ListL
         return listLunaClientsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> clientListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListLunaClientsResultJsonUnmarshaller instance;
 
     public static ListLunaClientsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class ModifyHapgResultJsonUnmarshaller implements Unmarshaller<ModifyHapg
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HapgArn", targetDepth)) {
-                    context.nextToken();
-                    modifyHapgResult.setHapgArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("HapgArn".equals(fieldName)) {
+                        context.nextToken();
+                        modifyHapgResult.setHapgArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class ModifyHsmResultJsonUnmarshaller implements Unmarshaller<ModifyHsmRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("HsmArn", targetDepth)) {
-                    context.nextToken();
-                    modifyHsmResult.setHsmArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("HsmArn".equals(fieldName)) {
+                        context.nextToken();
+                        modifyHsmResult.setHsmArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
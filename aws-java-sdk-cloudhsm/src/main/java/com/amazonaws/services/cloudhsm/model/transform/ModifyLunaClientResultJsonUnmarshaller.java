@@ -47,9 +47,12 @@ public class ModifyLunaClientResultJsonUnmarshaller implements Unmarshaller<Modi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ClientArn", targetDepth)) {
-                    context.nextToken();
-                    modifyLunaClientResult.setClientArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ClientArn".equals(fieldName)) {
+                        context.nextToken();
+                        modifyLunaClientResult.setClientArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
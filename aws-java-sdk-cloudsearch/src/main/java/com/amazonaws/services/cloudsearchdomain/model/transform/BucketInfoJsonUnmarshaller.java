@@ -47,9 +47,12 @@ public class BucketInfoJsonUnmarshaller implements Unmarshaller<BucketInfo, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("buckets", targetDepth)) {
-                    context.nextToken();
-                    bucketInfo.setBuckets(new ListUnmarshaller<Bucket>(BucketJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("buckets".equals(fieldName)) {
+                        context.nextToken();
+                        bucketInfo.setBuckets(bucketsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class BucketInfoJsonUnmarshaller implements Unmarshaller<BucketInfo, Json
         return bucketInfo;
     }
 
+    private final Unmarshaller<java.util.List<Bucket>, JsonUnmarshallerContext> bucketsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Bucket>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Bucket>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Bucket>(BucketJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BucketInfoJsonUnmarshaller instance;
 
     public static BucketInfoJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class BucketJsonUnmarshaller implements Unmarshaller<Bucket, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    bucket.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("count", targetDepth)) {
-                    context.nextToken();
-                    bucket.setCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("value".equals(fieldName)) {
+                        context.nextToken();
+                        bucket.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("count".equals(fieldName)) {
+                        context.nextToken();
+                        bucket.setCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
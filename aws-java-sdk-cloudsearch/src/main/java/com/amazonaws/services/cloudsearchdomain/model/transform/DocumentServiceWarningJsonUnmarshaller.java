@@ -47,9 +47,12 @@ public class DocumentServiceWarningJsonUnmarshaller implements Unmarshaller<Docu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    documentServiceWarning.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        documentServiceWarning.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
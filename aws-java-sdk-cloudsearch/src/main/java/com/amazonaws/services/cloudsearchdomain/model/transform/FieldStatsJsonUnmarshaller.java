@@ -47,37 +47,33 @@ public class FieldStatsJsonUnmarshaller implements Unmarshaller<FieldStats, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("min", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setMin(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("max", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setMax(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("count", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("missing", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setMissing(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("sum", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setSum(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("sumOfSquares", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setSumOfSquares(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("mean", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setMean(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stddev", targetDepth)) {
-                    context.nextToken();
-                    fieldStats.setStddev(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("min".equals(fieldName)) {
+                        context.nextToken();
+                        fieldStats.setMin(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("max".equals(fieldName)) {
+                        context.nextToken();
+                        fieldStats.setMax(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("count".equals(fieldName)) {
+                        context.nextToken();
+                        fieldStats.setCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("missing".equals(fieldName)) {
+                        context.nextToken();
+                        fieldStats.setMissing(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("sum".equals(fieldName)) {
+                        context.nextToken();
+                        fieldStats.setSum(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("sumOfSquares".equals(fieldName)) {
+                        context.nextToken();
+                        fieldStats.setSumOfSquares(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("mean".equals(fieldName)) {
+                        context.nextToken();
+                        fieldStats.setMean(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stddev".equals(fieldName)) {
+                        context.nextToken();
+                        fieldStats.setStddev(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
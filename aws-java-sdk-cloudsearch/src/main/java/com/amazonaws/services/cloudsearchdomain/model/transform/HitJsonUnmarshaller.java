@@ -47,24 +47,21 @@ public class HitJsonUnmarshaller implements Unmarshaller<Hit, JsonUnmarshallerCo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    hit.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("fields", targetDepth)) {
-                    context.nextToken();
-                    hit.setFields(new MapUnmarshaller<String, java.util.List<String>>(context.getUnmarshaller(String.class), new ListUnmarshaller<String>(
-                            context.getUnmarshaller(String.class))).unmarshall(context));
-                }
-                if (context.testExpression("exprs", targetDepth)) {
-                    context.nextToken();
-                    hit.setExprs(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("highlights", targetDepth)) {
-                    context.nextToken();
-                    hit.setHighlights(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        hit.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("fields".equals(fieldName)) {
+                        context.nextToken();
+                        hit.setFields(fieldsUnmarshaller.unmarshall(context));
+                    } else if ("exprs".equals(fieldName)) {
+                        context.nextToken();
+                        hit.setExprs(exprsUnmarshaller.unmarshall(context));
+                    } else if ("highlights".equals(fieldName)) {
+                        context.nextToken();
+                        hit.setHighlights(highlightsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -78,6 +75,26 @@ public class HitJsonUnmarshaller implements Unmarshaller<Hit, JsonUnmarshallerCo
         return hit;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.List<String>>, JsonUnmarshallerContext> fieldsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<String>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<String>>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<String>>(context.getUnmarshaller(String.class), new ListUnmarshaller<String>(
+                    context.getUnmarshaller(String.class)));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> exprsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> highlightsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static HitJsonUnmarshaller instance;
 
     public static HitJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class HitsJsonUnmarshaller implements Unmarshaller<Hits, JsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("found", targetDepth)) {
-                    context.nextToken();
-                    hits.setFound(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("start", targetDepth)) {
-                    context.nextToken();
-                    hits.setStart(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("cursor", targetDepth)) {
-                    context.nextToken();
-                    hits.setCursor(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hit", targetDepth)) {
-                    context.nextToken();
-                    hits.setHit(new ListUnmarshaller<Hit>(HitJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("found".equals(fieldName)) {
+                        context.nextToken();
+                        hits.setFound(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("start".equals(fieldName)) {
+                        context.nextToken();
+                        hits.setStart(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("cursor".equals(fieldName)) {
+                        context.nextToken();
+                        hits.setCursor(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hit".equals(fieldName)) {
+                        context.nextToken();
+                        hits.setHit(hitUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +75,13 @@ public class HitsJsonUnmarshaller implements Unmarshaller<Hits, JsonUnmarshaller
         return hits;
     }
 
+    private final Unmarshaller<java.util.List<Hit>, JsonUnmarshallerContext> hitUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Hit>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Hit>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Hit>(HitJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static HitsJsonUnmarshaller instance;
 
     public static HitsJsonUnmarshaller getInstance() {
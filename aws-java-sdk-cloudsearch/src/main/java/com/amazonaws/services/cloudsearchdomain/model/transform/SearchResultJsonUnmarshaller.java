@@ -47,23 +47,21 @@ public class SearchResultJsonUnmarshaller implements Unmarshaller<SearchResult,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    searchResult.setStatus(SearchStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("hits", targetDepth)) {
-                    context.nextToken();
-                    searchResult.setHits(HitsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("facets", targetDepth)) {
-                    context.nextToken();
-                    searchResult.setFacets(new MapUnmarshaller<String, BucketInfo>(context.getUnmarshaller(String.class), BucketInfoJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("stats", targetDepth)) {
-                    context.nextToken();
-                    searchResult.setStats(new MapUnmarshaller<String, FieldStats>(context.getUnmarshaller(String.class), FieldStatsJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        searchResult.setStatus(SearchStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("hits".equals(fieldName)) {
+                        context.nextToken();
+                        searchResult.setHits(HitsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("facets".equals(fieldName)) {
+                        context.nextToken();
+                        searchResult.setFacets(facetsUnmarshaller.unmarshall(context));
+                    } else if ("stats".equals(fieldName)) {
+                        context.nextToken();
+                        searchResult.setStats(statsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -77,6 +75,19 @@ public class SearchResultJsonUnmarshaller implements Unmarshaller<SearchResult,
         return searchResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, BucketInfo>, JsonUnmarshallerContext> facetsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, BucketInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, BucketInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, BucketInfo>(context.getUnmarshaller(String.class), BucketInfoJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, FieldStats>, JsonUnmarshallerContext> statsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, FieldStats>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, FieldStats>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, FieldStats>(context.getUnmarshaller(String.class), FieldStatsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static SearchResultJsonUnmarshaller instance;
 
     public static SearchResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class SearchStatusJsonUnmarshaller implements Unmarshaller<SearchStatus,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timems", targetDepth)) {
-                    context.nextToken();
-                    searchStatus.setTimems(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("rid", targetDepth)) {
-                    context.nextToken();
-                    searchStatus.setRid(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("timems".equals(fieldName)) {
+                        context.nextToken();
+                        searchStatus.setTimems(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("rid".equals(fieldName)) {
+                        context.nextToken();
+                        searchStatus.setRid(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
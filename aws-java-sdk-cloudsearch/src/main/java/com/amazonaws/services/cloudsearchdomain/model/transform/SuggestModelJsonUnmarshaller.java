@@ -47,17 +47,18 @@ public class SuggestModelJsonUnmarshaller implements Unmarshaller<SuggestModel,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("query", targetDepth)) {
-                    context.nextToken();
-                    suggestModel.setQuery(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("found", targetDepth)) {
-                    context.nextToken();
-                    suggestModel.setFound(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("suggestions", targetDepth)) {
-                    context.nextToken();
-                    suggestModel.setSuggestions(new ListUnmarshaller<SuggestionMatch>(SuggestionMatchJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("query".equals(fieldName)) {
+                        context.nextToken();
+                        suggestModel.setQuery(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("found".equals(fieldName)) {
+                        context.nextToken();
+                        suggestModel.setFound(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("suggestions".equals(fieldName)) {
+                        context.nextToken();
+                        suggestModel.setSuggestions(suggestionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class SuggestModelJsonUnmarshaller implements Unmarshaller<SuggestModel,
         return suggestModel;
     }
 
+    private final Unmarshaller<java.util.List<SuggestionMatch>, JsonUnmarshallerContext> suggestionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SuggestionMatch>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SuggestionMatch>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SuggestionMatch>(SuggestionMatchJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static SuggestModelJsonUnmarshaller instance;
 
     public static SuggestModelJsonUnmarshaller getInstance() {
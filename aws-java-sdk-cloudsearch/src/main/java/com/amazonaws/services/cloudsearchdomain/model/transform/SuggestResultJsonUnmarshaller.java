@@ -47,13 +47,15 @@ public class SuggestResultJsonUnmarshaller implements Unmarshaller<SuggestResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    suggestResult.setStatus(SuggestStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("suggest", targetDepth)) {
-                    context.nextToken();
-                    suggestResult.setSuggest(SuggestModelJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        suggestResult.setStatus(SuggestStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("suggest".equals(fieldName)) {
+                        context.nextToken();
+                        suggestResult.setSuggest(SuggestModelJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class SuggestionMatchJsonUnmarshaller implements Unmarshaller<SuggestionM
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("suggestion", targetDepth)) {
-                    context.nextToken();
-                    suggestionMatch.setSuggestion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("score", targetDepth)) {
-                    context.nextToken();
-                    suggestionMatch.setScore(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    suggestionMatch.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("suggestion".equals(fieldName)) {
+                        context.nextToken();
+                        suggestionMatch.setSuggestion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("score".equals(fieldName)) {
+                        context.nextToken();
+                        suggestionMatch.setScore(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        suggestionMatch.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
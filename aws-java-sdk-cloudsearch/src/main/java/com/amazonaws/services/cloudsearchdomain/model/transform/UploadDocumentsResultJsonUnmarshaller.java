@@ -47,22 +47,21 @@ public class UploadDocumentsResultJsonUnmarshaller implements Unmarshaller<Uploa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    uploadDocumentsResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("adds", targetDepth)) {
-                    context.nextToken();
-                    uploadDocumentsResult.setAdds(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("deletes", targetDepth)) {
-                    context.nextToken();
-                    uploadDocumentsResult.setDeletes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("warnings", targetDepth)) {
-                    context.nextToken();
-                    uploadDocumentsResult.setWarnings(new ListUnmarshaller<DocumentServiceWarning>(DocumentServiceWarningJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        uploadDocumentsResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("adds".equals(fieldName)) {
+                        context.nextToken();
+                        uploadDocumentsResult.setAdds(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("deletes".equals(fieldName)) {
+                        context.nextToken();
+                        uploadDocumentsResult.setDeletes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("warnings".equals(fieldName)) {
+                        context.nextToken();
+                        uploadDocumentsResult.setWarnings(warningsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,13 @@ public class UploadDocumentsResultJsonUnmarshaller implements Unmarshaller<Uploa
         return uploadDocumentsResult;
     }
 
+    private final Unmarshaller<java.util.List<DocumentServiceWarning>, JsonUnmarshallerContext> warningsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DocumentServiceWarning>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DocumentServiceWarning>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DocumentServiceWarning>(DocumentServiceWarningJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static UploadDocumentsResultJsonUnmarshaller instance;
 
     public static UploadDocumentsResultJsonUnmarshaller getInstance() {
@@ -47,53 +47,45 @@ public class CreateTrailResultJsonUnmarshaller implements Unmarshaller<CreateTra
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3BucketName", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicName", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setSnsTopicName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicARN", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setSnsTopicARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IncludeGlobalServiceEvents", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setIncludeGlobalServiceEvents(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("IsMultiRegionTrail", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setIsMultiRegionTrail(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TrailARN", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setTrailARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogFileValidationEnabled", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setLogFileValidationEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLogsLogGroupArn", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setCloudWatchLogsLogGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLogsRoleArn", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setCloudWatchLogsRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KmsKeyId", targetDepth)) {
-                    context.nextToken();
-                    createTrailResult.setKmsKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3BucketName".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3KeyPrefix".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SnsTopicName".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setSnsTopicName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SnsTopicARN".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setSnsTopicARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IncludeGlobalServiceEvents".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setIncludeGlobalServiceEvents(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("IsMultiRegionTrail".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setIsMultiRegionTrail(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("TrailARN".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setTrailARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LogFileValidationEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setLogFileValidationEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("CloudWatchLogsLogGroupArn".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setCloudWatchLogsLogGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CloudWatchLogsRoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setCloudWatchLogsRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KmsKeyId".equals(fieldName)) {
+                        context.nextToken();
+                        createTrailResult.setKmsKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
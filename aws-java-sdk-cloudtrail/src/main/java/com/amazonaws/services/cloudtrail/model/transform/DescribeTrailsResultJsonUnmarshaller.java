@@ -47,9 +47,12 @@ public class DescribeTrailsResultJsonUnmarshaller implements Unmarshaller<Descri
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("trailList", targetDepth)) {
-                    context.nextToken();
-                    describeTrailsResult.setTrailList(new ListUnmarshaller<Trail>(TrailJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("trailList".equals(fieldName)) {
+                        context.nextToken();
+                        describeTrailsResult.setTrailList(trailListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeTrailsResultJsonUnmarshaller implements Unmarshaller<Descri
         return describeTrailsResult;
     }
 
+    private final Unmarshaller<java.util.List<Trail>, JsonUnmarshallerContext> trailListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Trail>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Trail>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Trail>(TrailJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTrailsResultJsonUnmarshaller instance;
 
     public static DescribeTrailsResultJsonUnmarshaller getInstance() {
@@ -47,29 +47,27 @@ public class EventJsonUnmarshaller implements Unmarshaller<Event, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EventId", targetDepth)) {
-                    context.nextToken();
-                    event.setEventId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EventName", targetDepth)) {
-                    context.nextToken();
-                    event.setEventName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EventTime", targetDepth)) {
-                    context.nextToken();
-                    event.setEventTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    event.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Resources", targetDepth)) {
-                    context.nextToken();
-                    event.setResources(new ListUnmarshaller<Resource>(ResourceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("CloudTrailEvent", targetDepth)) {
-                    context.nextToken();
-                    event.setCloudTrailEvent(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EventId".equals(fieldName)) {
+                        context.nextToken();
+                        event.setEventId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EventName".equals(fieldName)) {
+                        context.nextToken();
+                        event.setEventName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EventTime".equals(fieldName)) {
+                        context.nextToken();
+                        event.setEventTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        event.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Resources".equals(fieldName)) {
+                        context.nextToken();
+                        event.setResources(resourcesUnmarshaller.unmarshall(context));
+                    } else if ("CloudTrailEvent".equals(fieldName)) {
+                        context.nextToken();
+                        event.setCloudTrailEvent(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -83,6 +81,13 @@ public class EventJsonUnmarshaller implements Unmarshaller<Event, JsonUnmarshall
         return event;
     }
 
+    private final Unmarshaller<java.util.List<Resource>, JsonUnmarshallerContext> resourcesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Resource>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Resource>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Resource>(ResourceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static EventJsonUnmarshaller instance;
 
     public static EventJsonUnmarshaller getInstance() {
@@ -47,73 +47,60 @@ public class GetTrailStatusResultJsonUnmarshaller implements Unmarshaller<GetTra
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IsLogging", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setIsLogging(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestDeliveryError", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDeliveryError(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestNotificationError", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestNotificationError(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestDeliveryTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDeliveryTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestNotificationTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestNotificationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartLoggingTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setStartLoggingTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StopLoggingTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setStopLoggingTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestCloudWatchLogsDeliveryError", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestCloudWatchLogsDeliveryError(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestCloudWatchLogsDeliveryTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestCloudWatchLogsDeliveryTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestDigestDeliveryTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDigestDeliveryTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestDigestDeliveryError", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDigestDeliveryError(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestDeliveryAttemptTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDeliveryAttemptTime(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestNotificationAttemptTime", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestNotificationAttemptTime(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestNotificationAttemptSucceeded", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestNotificationAttemptSucceeded(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestDeliveryAttemptSucceeded", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setLatestDeliveryAttemptSucceeded(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TimeLoggingStarted", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setTimeLoggingStarted(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TimeLoggingStopped", targetDepth)) {
-                    context.nextToken();
-                    getTrailStatusResult.setTimeLoggingStopped(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IsLogging".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setIsLogging(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("LatestDeliveryError".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestDeliveryError(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LatestNotificationError".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestNotificationError(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LatestDeliveryTime".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestDeliveryTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LatestNotificationTime".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestNotificationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartLoggingTime".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setStartLoggingTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StopLoggingTime".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setStopLoggingTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LatestCloudWatchLogsDeliveryError".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestCloudWatchLogsDeliveryError(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LatestCloudWatchLogsDeliveryTime".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestCloudWatchLogsDeliveryTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LatestDigestDeliveryTime".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestDigestDeliveryTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LatestDigestDeliveryError".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestDigestDeliveryError(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LatestDeliveryAttemptTime".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestDeliveryAttemptTime(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LatestNotificationAttemptTime".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestNotificationAttemptTime(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LatestNotificationAttemptSucceeded".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestNotificationAttemptSucceeded(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LatestDeliveryAttemptSucceeded".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setLatestDeliveryAttemptSucceeded(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TimeLoggingStarted".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setTimeLoggingStarted(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TimeLoggingStopped".equals(fieldName)) {
+                        context.nextToken();
+                        getTrailStatusResult.setTimeLoggingStopped(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ListPublicKeysResultJsonUnmarshaller implements Unmarshaller<ListPu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PublicKeyList", targetDepth)) {
-                    context.nextToken();
-                    listPublicKeysResult.setPublicKeyList(new ListUnmarshaller<PublicKey>(PublicKeyJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listPublicKeysResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PublicKeyList".equals(fieldName)) {
+                        context.nextToken();
+                        listPublicKeysResult.setPublicKeyList(publicKeyListUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listPublicKeysResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListPublicKeysResultJsonUnmarshaller implements Unmarshaller<ListPu
         return listPublicKeysResult;
     }
 
+    private final Unmarshaller<java.util.List<PublicKey>, JsonUnmarshallerContext> publicKeyListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PublicKey>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PublicKey>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PublicKey>(PublicKeyJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListPublicKeysResultJsonUnmarshaller instance;
 
     public static ListPublicKeysResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListTagsResultJsonUnmarshaller implements Unmarshaller<ListTagsResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceTagList", targetDepth)) {
-                    context.nextToken();
-                    listTagsResult.setResourceTagList(new ListUnmarshaller<ResourceTag>(ResourceTagJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listTagsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ResourceTagList".equals(fieldName)) {
+                        context.nextToken();
+                        listTagsResult.setResourceTagList(resourceTagListUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listTagsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTagsResultJsonUnmarshaller implements Unmarshaller<ListTagsResu
         return listTagsResult;
     }
 
+    private final Unmarshaller<java.util.List<ResourceTag>, JsonUnmarshallerContext> resourceTagListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ResourceTag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ResourceTag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ResourceTag>(ResourceTagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListTagsResultJsonUnmarshaller instance;
 
     public static ListTagsResultJsonUnmarshaller getInstance() {
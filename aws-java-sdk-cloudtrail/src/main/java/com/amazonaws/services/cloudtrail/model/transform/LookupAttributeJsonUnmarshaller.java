@@ -47,13 +47,15 @@ public class LookupAttributeJsonUnmarshaller implements Unmarshaller<LookupAttri
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeKey", targetDepth)) {
-                    context.nextToken();
-                    lookupAttribute.setAttributeKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeValue", targetDepth)) {
-                    context.nextToken();
-                    lookupAttribute.setAttributeValue(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AttributeKey".equals(fieldName)) {
+                        context.nextToken();
+                        lookupAttribute.setAttributeKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AttributeValue".equals(fieldName)) {
+                        context.nextToken();
+                        lookupAttribute.setAttributeValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class LookupEventsResultJsonUnmarshaller implements Unmarshaller<LookupEv
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Events", targetDepth)) {
-                    context.nextToken();
-                    lookupEventsResult.setEvents(new ListUnmarshaller<Event>(EventJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    lookupEventsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Events".equals(fieldName)) {
+                        context.nextToken();
+                        lookupEventsResult.setEvents(eventsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        lookupEventsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class LookupEventsResultJsonUnmarshaller implements Unmarshaller<LookupEv
         return lookupEventsResult;
     }
 
+    private final Unmarshaller<java.util.List<Event>, JsonUnmarshallerContext> eventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Event>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Event>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Event>(EventJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static LookupEventsResultJsonUnmarshaller instance;
 
     public static LookupEventsResultJsonUnmarshaller getInstance() {
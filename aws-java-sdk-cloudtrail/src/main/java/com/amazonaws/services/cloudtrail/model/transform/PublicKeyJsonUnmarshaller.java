@@ -47,21 +47,21 @@ public class PublicKeyJsonUnmarshaller implements Unmarshaller<PublicKey, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    publicKey.setValue(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidityStartTime", targetDepth)) {
-                    context.nextToken();
-                    publicKey.setValidityStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidityEndTime", targetDepth)) {
-                    context.nextToken();
-                    publicKey.setValidityEndTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Fingerprint", targetDepth)) {
-                    context.nextToken();
-                    publicKey.setFingerprint(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        publicKey.setValue(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("ValidityStartTime".equals(fieldName)) {
+                        context.nextToken();
+                        publicKey.setValidityStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ValidityEndTime".equals(fieldName)) {
+                        context.nextToken();
+                        publicKey.setValidityEndTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Fingerprint".equals(fieldName)) {
+                        context.nextToken();
+                        publicKey.setFingerprint(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ResourceJsonUnmarshaller implements Unmarshaller<Resource, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceType", targetDepth)) {
-                    context.nextToken();
-                    resource.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceName", targetDepth)) {
-                    context.nextToken();
-                    resource.setResourceName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ResourceType".equals(fieldName)) {
+                        context.nextToken();
+                        resource.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceName".equals(fieldName)) {
+                        context.nextToken();
+                        resource.setResourceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ResourceTagJsonUnmarshaller implements Unmarshaller<ResourceTag, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    resourceTag.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TagsList", targetDepth)) {
-                    context.nextToken();
-                    resourceTag.setTagsList(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ResourceId".equals(fieldName)) {
+                        context.nextToken();
+                        resourceTag.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TagsList".equals(fieldName)) {
+                        context.nextToken();
+                        resourceTag.setTagsList(tagsListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ResourceTagJsonUnmarshaller implements Unmarshaller<ResourceTag, Js
         return resourceTag;
     }
 
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagsListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ResourceTagJsonUnmarshaller instance;
 
     public static ResourceTagJsonUnmarshaller getInstance() {
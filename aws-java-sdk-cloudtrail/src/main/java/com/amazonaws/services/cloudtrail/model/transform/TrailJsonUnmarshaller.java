@@ -47,57 +47,48 @@ public class TrailJsonUnmarshaller implements Unmarshaller<Trail, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    trail.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3BucketName", targetDepth)) {
-                    context.nextToken();
-                    trail.setS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    trail.setS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicName", targetDepth)) {
-                    context.nextToken();
-                    trail.setSnsTopicName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicARN", targetDepth)) {
-                    context.nextToken();
-                    trail.setSnsTopicARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IncludeGlobalServiceEvents", targetDepth)) {
-                    context.nextToken();
-                    trail.setIncludeGlobalServiceEvents(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("IsMultiRegionTrail", targetDepth)) {
-                    context.nextToken();
-                    trail.setIsMultiRegionTrail(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("HomeRegion", targetDepth)) {
-                    context.nextToken();
-                    trail.setHomeRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrailARN", targetDepth)) {
-                    context.nextToken();
-                    trail.setTrailARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogFileValidationEnabled", targetDepth)) {
-                    context.nextToken();
-                    trail.setLogFileValidationEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLogsLogGroupArn", targetDepth)) {
-                    context.nextToken();
-                    trail.setCloudWatchLogsLogGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLogsRoleArn", targetDepth)) {
-                    context.nextToken();
-                    trail.setCloudWatchLogsRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KmsKeyId", targetDepth)) {
-                    context.nextToken();
-                    trail.setKmsKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3BucketName".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3KeyPrefix".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SnsTopicName".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setSnsTopicName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SnsTopicARN".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setSnsTopicARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IncludeGlobalServiceEvents".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setIncludeGlobalServiceEvents(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("IsMultiRegionTrail".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setIsMultiRegionTrail(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("HomeRegion".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setHomeRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TrailARN".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setTrailARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LogFileValidationEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setLogFileValidationEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("CloudWatchLogsLogGroupArn".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setCloudWatchLogsLogGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CloudWatchLogsRoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setCloudWatchLogsRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KmsKeyId".equals(fieldName)) {
+                        context.nextToken();
+                        trail.setKmsKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,53 +47,45 @@ public class UpdateTrailResultJsonUnmarshaller implements Unmarshaller<UpdateTra
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3BucketName", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicName", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setSnsTopicName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnsTopicARN", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setSnsTopicARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IncludeGlobalServiceEvents", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setIncludeGlobalServiceEvents(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("IsMultiRegionTrail", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setIsMultiRegionTrail(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TrailARN", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setTrailARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogFileValidationEnabled", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setLogFileValidationEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLogsLogGroupArn", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setCloudWatchLogsLogGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLogsRoleArn", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setCloudWatchLogsRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KmsKeyId", targetDepth)) {
-                    context.nextToken();
-                    updateTrailResult.setKmsKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3BucketName".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3KeyPrefix".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SnsTopicName".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setSnsTopicName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SnsTopicARN".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setSnsTopicARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IncludeGlobalServiceEvents".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setIncludeGlobalServiceEvents(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("IsMultiRegionTrail".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setIsMultiRegionTrail(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("TrailARN".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setTrailARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LogFileValidationEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setLogFileValidationEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("CloudWatchLogsLogGroupArn".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setCloudWatchLogsLogGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CloudWatchLogsRoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setCloudWatchLogsRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KmsKeyId".equals(fieldName)) {
+                        context.nextToken();
+                        updateTrailResult.setKmsKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
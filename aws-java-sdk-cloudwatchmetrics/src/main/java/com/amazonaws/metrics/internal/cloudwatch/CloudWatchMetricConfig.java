@@ -66,9 +66,9 @@ public class CloudWatchMetricConfig {
      */
     static final int MAX_METRICS_DATUM_SIZE = 20;
     /**
-     * Default metrics queue size. If the queue size
-     * exceeds this value, then excessive metrics will be dropped to prevent
-     * resource exhaustion.
+     * Default maximum number of unique metrics (metric name and dimensions)
+     * summarized per upload. Data points of further unique metrics will be
+     * dropped to prevent resource exhaustion.
      */
     public static final int DEFAULT_METRICS_QSIZE = 1000;
     /**
@@ -183,8 +183,11 @@ public class CloudWatchMetricConfig {
     }
 
     /**
-     * Configure the metric queue size, overriding the default. Must be at
-     * least 1.
+     * Configure the maximum number of unique metrics summarized per upload,
+     * overriding the default. Must be at least 1. Data points are summarized
+     * into statistics as they are collected, so this bounds the memory used
+     * and the number of metric data uploaded per interval regardless of the
+     * request rate.
      *
      * @see #DEFAULT_METRICS_QSIZE
      */
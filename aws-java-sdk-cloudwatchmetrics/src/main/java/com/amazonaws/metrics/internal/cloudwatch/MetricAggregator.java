@@ -0,0 +1,247 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.http.annotation.ThreadSafe;
+
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+/**
+ * Summarizes the metric data points added by the collectors into the
+ * statistics (minimum, maximum, sum and sample count) of each unique metric
+ * as they are added, so that the memory used and the number of data uploaded
+ * to Amazon CloudWatch per upload interval depend on the number of unique
+ * metrics only, not on the request rate.
+ * <p>
+ * Adding a data point is lock-free. The number of unique metrics is bounded;
+ * data points of new metrics beyond the bound are dropped and counted.
+ */
+@ThreadSafe
+class MetricAggregator {
+
+    /** Marks a statistic that has been drained and removed from the map. */
+    private static final Statistic RETIRED = new Statistic(0, 0, 0, 0);
+
+    private final ConcurrentMap<String, Accumulator> accumulators = new ConcurrentHashMap<String, Accumulator>();
+    private final int maxUniqueMetrics;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Object signal = new Object();
+    private volatile boolean awaiting;
+
+    MetricAggregator(int maxUniqueMetrics) {
+        if (maxUniqueMetrics < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maxUniqueMetrics = maxUniqueMetrics;
+    }
+
+    /**
+     * Summarizes the given datum into the statistics of its unique metric,
+     * returning true if successful or false if the maximum number of unique
+     * metrics has been reached.
+     */
+    boolean add(MetricDatum datum) {
+        final Double value = datum.getValue();
+        if (value == null) {
+            return true;
+        }
+        final String key = keyOf(datum);
+        while (true) {
+            Accumulator accumulator = accumulators.get(key);
+            if (accumulator == null) {
+                if (accumulators.size() >= maxUniqueMetrics) {
+                    droppedCount.incrementAndGet();
+                    return false;
+                }
+                final Accumulator created = new Accumulator(datum);
+                accumulator = accumulators.putIfAbsent(key, created);
+                if (accumulator == null) {
+                    accumulator = created;
+                }
+            }
+            if (accumulator.add(value)) {
+                break;
+            }
+            // Drained and retired concurrently; start over with a new one
+            accumulators.remove(key, accumulator);
+        }
+        if (awaiting) {
+            synchronized (signal) {
+                signal.notifyAll();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the statistics summarized since the last call, keyed by unique
+     * metric, and resets them. Metrics without any data point since the last
+     * call are removed.
+     */
+    Map<String, MetricDatum> drain() {
+        final Map<String, MetricDatum> data = new HashMap<String, MetricDatum>();
+        for (Map.Entry<String, Accumulator> entry : accumulators.entrySet()) {
+            final Accumulator accumulator = entry.getValue();
+            final MetricDatum datum = accumulator.drain();
+            if (datum != null) {
+                data.put(entry.getKey(), datum);
+            } else if (accumulator.retire()) {
+                accumulators.remove(entry.getKey(), accumulator);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Blocks until at least one data point has been added since the last
+     * {@link #drain()}.
+     */
+    void awaitData() throws InterruptedException {
+        synchronized (signal) {
+            awaiting = true;
+            try {
+                while (!hasData()) {
+                    signal.wait();
+                }
+            } finally {
+                awaiting = false;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of data points dropped so far because the maximum
+     * number of unique metrics had been reached.
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private boolean hasData() {
+        for (Accumulator accumulator : accumulators.values()) {
+            if (accumulator.hasData()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the key identifying the unique metric of the given datum, which
+     * is its name and sorted dimensions.
+     */
+    static String keyOf(MetricDatum datum) {
+        final List<Dimension> dims = datum.getDimensions();
+        final StringBuilder key = new StringBuilder().append(datum.getMetricName());
+        if (dims.size() > 1) {
+            Collections.sort(dims, DimensionComparator.INSTANCE);
+        }
+        for (Dimension dim : dims) {
+            key.append('\u0000').append(dim.getName()).append('=').append(dim.getValue());
+        }
+        return key.toString();
+    }
+
+    /**
+     * Statistics of a unique metric, replaced as a whole on every data point.
+     */
+    private static final class Statistic {
+        private final double minimum;
+        private final double maximum;
+        private final double sum;
+        private final double sampleCount;
+
+        private Statistic(double minimum, double maximum, double sum, double sampleCount) {
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.sum = sum;
+            this.sampleCount = sampleCount;
+        }
+
+        private Statistic plus(double value) {
+            return new Statistic(Math.min(minimum, value), Math.max(maximum, value),
+                    sum + value, sampleCount + 1.0);
+        }
+    }
+
+    private static final class Accumulator {
+        private final String metricName;
+        private final List<Dimension> dimensions;
+        private final String unit;
+        /** Null if no data point has been added since the last drain. */
+        private final AtomicReference<Statistic> statistic = new AtomicReference<Statistic>();
+
+        private Accumulator(MetricDatum datum) {
+            this.metricName = datum.getMetricName();
+            this.dimensions = new ArrayList<Dimension>(datum.getDimensions());
+            this.unit = datum.getUnit();
+        }
+
+        private boolean add(double value) {
+            while (true) {
+                final Statistic current = statistic.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+                final Statistic next = current == null
+                        ? new Statistic(value, value, value, 1.0)
+                        : current.plus(value);
+                if (statistic.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        private boolean hasData() {
+            final Statistic current = statistic.get();
+            return current != null && current != RETIRED;
+        }
+
+        private MetricDatum drain() {
+            Statistic current;
+            do {
+                current = statistic.get();
+                if (current == null || current == RETIRED) {
+                    return null;
+                }
+            } while (!statistic.compareAndSet(current, null));
+            return new MetricDatum()
+                .withMetricName(metricName)
+                .withDimensions(dimensions)
+                .withUnit(unit)
+                .withStatisticValues(new StatisticSet()
+                    .withMinimum(current.minimum)
+                    .withMaximum(current.maximum)
+                    .withSum(current.sum)
+                    .withSampleCount(current.sampleCount));
+        }
+
+        private boolean retire() {
+            return statistic.compareAndSet(null, RETIRED);
+        }
+    }
+}
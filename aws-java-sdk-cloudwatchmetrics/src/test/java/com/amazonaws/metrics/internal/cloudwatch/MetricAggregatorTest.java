@@ -0,0 +1,262 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.StandardUnit;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+public class MetricAggregatorTest {
+
+    @Test
+    public void dataPoints_AreSummarizedIntoStatisticSet() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+        assertTrue(aggregator.add(datum("Latency", 3.0)));
+        assertTrue(aggregator.add(datum("Latency", 1.0)));
+        assertTrue(aggregator.add(datum("Latency", 5.0)));
+
+        Map<String, MetricDatum> data = aggregator.drain();
+
+        assertEquals(1, data.size());
+        MetricDatum datum = data.get(MetricAggregator.keyOf(datum("Latency", 0)));
+        assertEquals("Latency", datum.getMetricName());
+        assertEquals(StandardUnit.Milliseconds.toString(), datum.getUnit());
+        assertEquals(1, datum.getDimensions().size());
+        StatisticSet statistics = datum.getStatisticValues();
+        assertEquals(1.0, statistics.getMinimum(), 0.0);
+        assertEquals(5.0, statistics.getMaximum(), 0.0);
+        assertEquals(9.0, statistics.getSum(), 0.0);
+        assertEquals(3.0, statistics.getSampleCount(), 0.0);
+    }
+
+    @Test
+    public void dimensionsInAnyOrder_AreTheSameMetric() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+        aggregator.add(new MetricDatum().withMetricName("Latency").withValue(1.0)
+                .withDimensions(dimension("a", "1"), dimension("b", "2")));
+        aggregator.add(new MetricDatum().withMetricName("Latency").withValue(2.0)
+                .withDimensions(dimension("b", "2"), dimension("a", "1")));
+
+        Map<String, MetricDatum> data = aggregator.drain();
+
+        assertEquals(1, data.size());
+        assertEquals(2.0, data.values().iterator().next().getStatisticValues().getSampleCount(), 0.0);
+    }
+
+    @Test
+    public void datumWithoutValue_IsIgnored() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+        assertTrue(aggregator.add(new MetricDatum().withMetricName("Latency")));
+        assertTrue(aggregator.drain().isEmpty());
+    }
+
+    @Test
+    public void drain_ResetsStatistics() {
+        MetricAggregator aggregator = new MetricAggregator(10);
+        aggregator.add(datum("Latency", 10.0));
+        aggregator.drain();
+        assertTrue(aggregator.drain().isEmpty());
+
+        aggregator.add(datum("Latency", 2.0));
+        StatisticSet statistics = aggregator.drain().values().iterator().next().getStatisticValues();
+        assertEquals(2.0, statistics.getMinimum(), 0.0);
+        assertEquals(2.0, statistics.getMaximum(), 0.0);
+        assertEquals(2.0, statistics.getSum(), 0.0);
+        assertEquals(1.0, statistics.getSampleCount(), 0.0);
+    }
+
+    @Test
+    public void newMetricsBeyondLimit_AreDroppedAndCounted() {
+        MetricAggregator aggregator = new MetricAggregator(2);
+        assertTrue(aggregator.add(datum("A", 1.0)));
+        assertTrue(aggregator.add(datum("B", 1.0)));
+        assertFalse(aggregator.add(datum("C", 1.0)));
+        assertFalse(aggregator.add(datum("C", 1.0)));
+        // Metrics already tracked keep being summarized
+        assertTrue(aggregator.add(datum("A", 2.0)));
+
+        assertEquals(2, aggregator.getDroppedCount());
+        Map<String, MetricDatum> data = aggregator.drain();
+        assertEquals(2, data.size());
+        assertEquals(2.0, data.get(MetricAggregator.keyOf(datum("A", 0))).getStatisticValues().getSampleCount(), 0.0);
+    }
+
+    @Test
+    public void idleMetrics_AreRetiredAndFreeTheirSlot() {
+        MetricAggregator aggregator = new MetricAggregator(1);
+        aggregator.add(datum("A", 1.0));
+        assertFalse(aggregator.add(datum("B", 1.0)));
+
+        // The first drain returns A, the second finds it idle and retires it
+        assertEquals(1, aggregator.drain().size());
+        assertTrue(aggregator.drain().isEmpty());
+
+        assertTrue(aggregator.add(datum("B", 1.0)));
+        assertFalse(aggregator.add(datum("A", 1.0)));
+        assertEquals(1, aggregator.drain().size());
+    }
+
+    @Test
+    public void retiredMetric_IsRecreatedOnNextDataPoint() {
+        MetricAggregator aggregator = new MetricAggregator(1);
+        aggregator.add(datum("A", 1.0));
+        aggregator.drain();
+        aggregator.drain();
+
+        assertTrue(aggregator.add(datum("A", 7.0)));
+
+        StatisticSet statistics = aggregator.drain().values().iterator().next().getStatisticValues();
+        assertEquals(7.0, statistics.getSum(), 0.0);
+        assertEquals(1.0, statistics.getSampleCount(), 0.0);
+    }
+
+    @Test(timeout = 5000)
+    public void awaitData_ReturnsOnceDataIsAdded() throws Exception {
+        final MetricAggregator aggregator = new MetricAggregator(10);
+        final CountDownLatch returned = new CountDownLatch(1);
+        Thread waiter = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    aggregator.awaitData();
+                    returned.countDown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        waiter.start();
+        Thread.sleep(100);
+        assertEquals(1, returned.getCount());
+
+        aggregator.add(datum("A", 1.0));
+        waiter.join();
+        assertEquals(0, returned.getCount());
+    }
+
+    @Test(timeout = 5000)
+    public void awaitData_ReturnsImmediatelyIfDataIsPending() throws Exception {
+        MetricAggregator aggregator = new MetricAggregator(10);
+        aggregator.add(datum("A", 1.0));
+        aggregator.awaitData();
+    }
+
+    /**
+     * Adds data points from several threads while another thread keeps
+     * draining, so that metrics are drained, retired and recreated while
+     * data points are added to them. Every data point must end up in exactly
+     * one drained statistic set.
+     */
+    @Test(timeout = 30000)
+    public void addRacingWithDrain_LosesAndDoubleCountsNothing() throws Exception {
+        final int threads = 4;
+        final int metrics = 8;
+        final int dataPointsPerThread = 50000;
+        final MetricAggregator aggregator = new MetricAggregator(metrics);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean adding = new AtomicBoolean(true);
+
+        List<Thread> adders = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            Thread adder = new Thread() {
+                @Override
+                public void run() {
+                    awaitQuietly(start);
+                    for (int i = 0; i < dataPointsPerThread; i++) {
+                        // Bursts on one metric at a time, so the others go idle and get retired
+                        String name = "Metric" + (((i / 100) + thread) % metrics);
+                        if (!aggregator.add(datum(name, 1.0))) {
+                            throw new AssertionError("Dropped a data point of " + name);
+                        }
+                    }
+                }
+            };
+            adder.start();
+            adders.add(adder);
+        }
+
+        final double[] drained = new double[2];
+        Thread drainer = new Thread() {
+            @Override
+            public void run() {
+                awaitQuietly(start);
+                while (adding.get()) {
+                    accumulate(aggregator.drain(), drained);
+                }
+            }
+        };
+        drainer.start();
+
+        start.countDown();
+        for (Thread adder : adders) {
+            adder.join();
+        }
+        adding.set(false);
+        drainer.join();
+        accumulate(aggregator.drain(), drained);
+
+        assertEquals(0, aggregator.getDroppedCount());
+        assertEquals((double) threads * dataPointsPerThread, drained[0], 0.0);
+        assertEquals((double) threads * dataPointsPerThread, drained[1], 0.0);
+    }
+
+    /**
+     * Adds the sample counts and sums of the given data to the first and
+     * second element of the totals.
+     */
+    private static void accumulate(Map<String, MetricDatum> data, double[] totals) {
+        for (MetricDatum datum : data.values()) {
+            StatisticSet statistics = datum.getStatisticValues();
+            assertEquals(1.0, statistics.getMinimum(), 0.0);
+            assertEquals(1.0, statistics.getMaximum(), 0.0);
+            totals[0] += statistics.getSampleCount();
+            totals[1] += statistics.getSum();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static MetricDatum datum(String name, double value) {
+        return new MetricDatum()
+                .withMetricName(name)
+                .withUnit(StandardUnit.Milliseconds)
+                .withDimensions(dimension("ServiceName", "AmazonS3"))
+                .withValue(value);
+    }
+
+    private static Dimension dimension(String name, String value) {
+        return new Dimension().withName(name).withValue(value);
+    }
+}
@@ -0,0 +1,452 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.codegen;
+
+import com.amazonaws.codegen.model.intermediate.AcceptorEvaluatorModel;
+import com.amazonaws.codegen.model.intermediate.IntermediateModel;
+import com.amazonaws.codegen.model.intermediate.MemberModel;
+import com.amazonaws.codegen.model.intermediate.ShapeModel;
+import com.amazonaws.jmespath.*;
+import org.apache.commons.lang3.StringEscapeUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Generates Java code that evaluates a JmesPath expression directly against
+ * the getters of a modeled result, producing the same JsonNode the
+ * {@link JmesPathEvaluationVisitor} would produce from the Jackson tree of the
+ * result. Only the values the expression selects are converted to JsonNodes.
+ * <p>
+ * Fields, sub-expressions, list projections, flattening, functions,
+ * comparators, literals and boolean operators are supported. Expressions
+ * containing anything else (filters, value projections, multi-select lists
+ * or fields of maps) are rejected by {@link #generate}, in which case the
+ * expression has to be evaluated against the Jackson tree as before.
+ */
+public class JmesPathGetterCodeGenVisitor
+        implements JmesPathVisitor<JmesPathGetterCodeGenVisitor.TypedValue, JmesPathGetterCodeGenVisitor.TypedValue> {
+
+    private static final String NULL_NODE = "NullNode.getInstance()";
+
+    /** Variable name of values that are known to be null. */
+    private static final String NULL_LITERAL = "null";
+
+    private final IntermediateModel model;
+
+    private final List<String> declarations = new ArrayList<>();
+
+    private final Map<String, Integer> declarationCounts = new HashMap<>();
+
+    private final StringBuilder body = new StringBuilder();
+
+    private int variableCount;
+
+    private JmesPathGetterCodeGenVisitor(IntermediateModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Generates the evaluator of the given expression for results of the given
+     * output shape.
+     *
+     * @param ast         JmesPath expression of the acceptor
+     * @param outputShape Shape of the operation result
+     * @param model       Intermediate model of the service
+     * @return The generated evaluator, or null if the expression cannot be
+     * evaluated against the getters of the result
+     */
+    public static AcceptorEvaluatorModel generate(JmesPathExpression ast, ShapeModel outputShape,
+                                                  IntermediateModel model) {
+        if (ast == null || outputShape == null) {
+            return null;
+        }
+        JmesPathGetterCodeGenVisitor visitor = new JmesPathGetterCodeGenVisitor(model);
+        try {
+            TypedValue result = ast.accept(visitor,
+                    TypedValue.structure("result", outputShape.getShapeName(), outputShape));
+            visitor.emit("return " + visitor.toJsonVariable(result) + ";");
+        } catch (UnsupportedExpressionException e) {
+            return null;
+        }
+        return new AcceptorEvaluatorModel(String.join("\n", visitor.declarations), visitor.body.toString().trim());
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathSubExpression subExpression, final TypedValue input)
+            throws InvalidTypeException {
+        TypedValue result = input;
+        for (JmesPathExpression expression : subExpression.getExpressions()) {
+            result = expression.accept(this, result);
+        }
+        return result;
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathField fieldNode, final TypedValue input) {
+        if (input.kind != Kind.STRUCTURE) {
+            throw new UnsupportedExpressionException();
+        }
+        MemberModel member = input.shape.getMemberByC2jName(fieldNode.getValue());
+        if (member == null) {
+            throw new UnsupportedExpressionException();
+        }
+        if (NULL_LITERAL.equals(input.variable)) {
+            return typedValue(NULL_LITERAL, member);
+        }
+        TypedValue value = typedValue(newVariable(), member);
+        emit(String.format("%s %s = %s == null ? null : %s.get%s();", value.type, value.variable,
+                input.variable, input.variable, member.getName()));
+        return value;
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathProjection jmesPathProjection, final TypedValue input)
+            throws InvalidTypeException {
+        return collect(jmesPathProjection.getLhsExpr(), input,
+                element -> jmesPathProjection.getProjectionExpr().accept(this, element));
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathFlatten flatten, final TypedValue input)
+            throws InvalidTypeException {
+        return collect(flatten, input, element -> element);
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathIdentity jmesPathIdentity, final TypedValue input) {
+        return input;
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathValueProjection valueProjection, final TypedValue input) {
+        throw new UnsupportedExpressionException();
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathLiteral literal, final TypedValue input) {
+        return TypedValue.json(declare("literal", "JsonNode", String.format("new JmesPathLiteral(\"%s\").getValue()",
+                StringEscapeUtils.escapeJava(literal.getValue().toString()))));
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathFilter filter, final TypedValue input) {
+        throw new UnsupportedExpressionException();
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathFunction function, final TypedValue input)
+            throws InvalidTypeException {
+        List<String> arguments = function.getExpressions().stream()
+                .map(a -> toJsonVariable(function instanceof JmesPathLengthFunction && isProjectionOfPath(a)
+                        ? collectPlaceholders(a, input) : a.accept(this, input)))
+                .collect(Collectors.toList());
+        String functionVariable = declare("function", function.getClass().getSimpleName(),
+                function.accept(new JmesPathCodeGenVisitor(), null));
+        String variable = newVariable();
+        emit(String.format("JsonNode %s = %s.evaluate(java.util.Arrays.asList(%s));", variable, functionVariable,
+                String.join(", ", arguments)));
+        return TypedValue.json(variable);
+    }
+
+    @Override
+    public TypedValue visit(final Comparator op, final TypedValue input) throws InvalidTypeException {
+        String lhs = toJsonVariable(op.getLhsExpr().accept(this, input));
+        String rhs = toJsonVariable(op.getRhsExpr().accept(this, input));
+        String comparatorVariable = declare("comparator", op.getClass().getSimpleName(),
+                op.accept(new JmesPathCodeGenVisitor(), null));
+        String variable = newVariable();
+        emit(String.format("JsonNode %s = %s.matches(%s, %s) ? BooleanNode.TRUE : BooleanNode.FALSE;", variable,
+                comparatorVariable, lhs, rhs));
+        return TypedValue.json(variable);
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathNotExpression notExpression, final TypedValue input)
+            throws InvalidTypeException {
+        String expression = toJsonVariable(notExpression.getExpr().accept(this, input));
+        String variable = newVariable();
+        emit(String.format("JsonNode %s = %s != BooleanNode.TRUE ? BooleanNode.TRUE : BooleanNode.FALSE;", variable,
+                expression));
+        return TypedValue.json(variable);
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathAndExpression andExpression, final TypedValue input)
+            throws InvalidTypeException {
+        String lhs = toJsonVariable(andExpression.getLhsExpr().accept(this, input));
+        String rhs = toJsonVariable(andExpression.getRhsExpr().accept(this, input));
+        String variable = newVariable();
+        emit(String.format("JsonNode %s = %s == BooleanNode.TRUE ? %s : %s;", variable, lhs, rhs, lhs));
+        return TypedValue.json(variable);
+    }
+
+    @Override
+    public TypedValue visit(final JmesPathMultiSelectList multiSelectList, final TypedValue input) {
+        throw new UnsupportedExpressionException();
+    }
+
+    /**
+     * Generates code that collects the result of the given projection for
+     * every element of the list the source expression evaluates to into an
+     * ArrayNode. As with the tree evaluation, the result is a NullNode if the
+     * source is null.
+     */
+    private TypedValue collect(JmesPathExpression source, TypedValue input,
+                               Function<TypedValue, TypedValue> projection) {
+        final String result = newVariable();
+        final String[] array = new String[1];
+        emit(String.format("JsonNode %s = %s;", result, NULL_NODE));
+        forEachElement(source, input,
+                () -> {
+                    array[0] = newVariable();
+                    emit(String.format("ArrayNode %s = ObjectMapperSingleton.getObjectMapper().createArrayNode();",
+                            array[0]));
+                    emit(String.format("%s = %s;", result, array[0]));
+                },
+                element -> emit(String.format("%s.add(%s);", array[0], toJson(projection.apply(element)))));
+        return TypedValue.json(result);
+    }
+
+    /**
+     * Generates code that collects a NullNode for every element the given
+     * projection or flatten expression would project. Suffices wherever only
+     * the number of projected elements matters, without converting the
+     * elements to JsonNodes.
+     */
+    private TypedValue collectPlaceholders(JmesPathExpression projection, TypedValue input) {
+        JmesPathExpression source = projection instanceof JmesPathProjection
+                ? ((JmesPathProjection) projection).getLhsExpr() : projection;
+        return collect(source, input, element -> TypedValue.json(NULL_NODE));
+    }
+
+    /**
+     * @return True if the expression is a projection or flatten expression
+     * projecting each element to a path of fields, which never fails
+     */
+    private static boolean isProjectionOfPath(JmesPathExpression expression) {
+        if (expression instanceof JmesPathFlatten) {
+            return true;
+        }
+        return expression instanceof JmesPathProjection
+                && isPath(((JmesPathProjection) expression).getProjectionExpr());
+    }
+
+    private static boolean isPath(JmesPathExpression expression) {
+        if (expression instanceof JmesPathSubExpression) {
+            return ((JmesPathSubExpression) expression).getExpressions().stream()
+                    .allMatch(JmesPathGetterCodeGenVisitor::isPath);
+        }
+        return expression instanceof JmesPathField || expression instanceof JmesPathIdentity;
+    }
+
+    /**
+     * Generates a loop that passes every element of the list the source
+     * expression evaluates to on to the given action. If the source is a
+     * flatten expression, elements that are lists themselves are spliced into
+     * the iterated elements. Nested projections are evaluated within the loop
+     * of the projection they project, so that no intermediate lists are built.
+     *
+     * @param onList Generates the code run once the source turned out not to
+     *               be null, before the first element is visited
+     */
+    private void forEachElement(JmesPathExpression source, TypedValue input, Runnable onList,
+                                Consumer<TypedValue> action) {
+        final boolean flatten = source instanceof JmesPathFlatten;
+        final JmesPathExpression listExpression = flatten ? ((JmesPathFlatten) source).getFlattenExpr() : source;
+        final Consumer<TypedValue> elementAction = flatten ? element -> splice(element, action) : action;
+
+        if (listExpression instanceof JmesPathProjection) {
+            final JmesPathProjection projection = (JmesPathProjection) listExpression;
+            forEachElement(projection.getLhsExpr(), input, onList,
+                    element -> elementAction.accept(projection.getProjectionExpr().accept(this, element)));
+            return;
+        }
+
+        TypedValue list = listExpression.accept(this, input);
+        if (list.kind != Kind.LIST) {
+            throw new UnsupportedExpressionException();
+        }
+        if (NULL_LITERAL.equals(list.variable)) {
+            // A projection of null is null, so there is nothing to visit
+            return;
+        }
+        emit(String.format("if (%s != null) {", list.variable));
+        onList.run();
+        TypedValue element = typedValue(newVariable(), list.listMember);
+        emit(String.format("for (%s %s : %s) {", element.type, element.variable, list.variable));
+        elementAction.accept(element);
+        emit("}");
+        emit("}");
+    }
+
+    /**
+     * Passes the elements of the given value on to the given action if it is
+     * a list, and the value itself otherwise, including values known to be
+     * null.
+     */
+    private void splice(TypedValue value, Consumer<TypedValue> action) {
+        if (value.kind == Kind.JSON) {
+            String element = newVariable();
+            emit(String.format("if (%s.isArray()) {", value.variable));
+            emit(String.format("for (JsonNode %s : %s) {", element, value.variable));
+            action.accept(TypedValue.json(element));
+            emit("}");
+            emit("} else {");
+            action.accept(value);
+            emit("}");
+        } else if (value.kind == Kind.LIST && !NULL_LITERAL.equals(value.variable)) {
+            // A null list is not an array, so it is passed on as a null element of the list
+            emit(String.format("if (%s == null) {", value.variable));
+            action.accept(typedValue(NULL_LITERAL, value.listMember));
+            emit("} else {");
+            TypedValue element = typedValue(newVariable(), value.listMember);
+            emit(String.format("for (%s %s : %s) {", element.type, element.variable, value.variable));
+            action.accept(element);
+            emit("}");
+            emit("}");
+        } else {
+            action.accept(value);
+        }
+    }
+
+    /**
+     * Returns an expression converting the given value into the JsonNode the
+     * value is serialized to by the Jackson object mapper.
+     */
+    private String toJson(TypedValue value) {
+        if (NULL_LITERAL.equals(value.variable)) {
+            return NULL_NODE;
+        }
+        switch (value.kind) {
+            case JSON:
+                return value.variable;
+            case SCALAR:
+                if ("String".equals(value.type)) {
+                    return String.format("%s == null ? %s : TextNode.valueOf(%s)", value.variable, NULL_NODE,
+                            value.variable);
+                } else if ("Boolean".equals(value.type)) {
+                    return String.format("%s == null ? %s : BooleanNode.valueOf(%s)", value.variable, NULL_NODE,
+                            value.variable);
+                }
+                // Fall through, numbers and dates depend on the configuration of the mapper
+            default:
+                return String.format("%s == null ? %s : ObjectMapperSingleton.getObjectMapper().<JsonNode> valueToTree(%s)",
+                        value.variable, NULL_NODE, value.variable);
+        }
+    }
+
+    private String toJsonVariable(TypedValue value) {
+        if (value.kind == Kind.JSON) {
+            return value.variable;
+        }
+        String variable = newVariable();
+        emit(String.format("JsonNode %s = %s;", variable, toJson(value)));
+        return variable;
+    }
+
+    private TypedValue typedValue(String variable, MemberModel member) {
+        String type = member.getGetterModel().getReturnType();
+        if (member.isList()) {
+            return TypedValue.list(variable, type, member.getListModel().getListMemberModel());
+        } else if (member.isMap()) {
+            throw new UnsupportedExpressionException();
+        } else if (member.isSimple()) {
+            return TypedValue.scalar(variable, type);
+        }
+        ShapeModel shape = model.getShapeByC2jName(member.getC2jShape());
+        if (shape == null) {
+            throw new UnsupportedExpressionException();
+        }
+        return TypedValue.structure(variable, type, shape);
+    }
+
+    /**
+     * Declares a static field of the generated class holding the given
+     * constant, and returns its name.
+     */
+    private String declare(String prefix, String type, String initializer) {
+        String name = prefix + declarationCounts.merge(prefix, 1, Integer::sum);
+        declarations.add(String.format("private static final %s %s = %s;", type, name, initializer));
+        return name;
+    }
+
+    private String newVariable() {
+        return "value" + ++variableCount;
+    }
+
+    private void emit(String statement) {
+        body.append(statement).append("\n");
+    }
+
+    enum Kind {
+        /** A modeled structure; the shape holds its members. */
+        STRUCTURE,
+        /** A java.util.List of modeled values; the list member describes its elements. */
+        LIST,
+        /** A simple type, e.g. a String or a number. */
+        SCALAR,
+        /** A JsonNode, which is never null. */
+        JSON
+    }
+
+    /**
+     * A variable of the generated code along with its type.
+     */
+    static final class TypedValue {
+        private final Kind kind;
+        private final String variable;
+        private final String type;
+        private final ShapeModel shape;
+        private final MemberModel listMember;
+
+        private TypedValue(Kind kind, String variable, String type, ShapeModel shape, MemberModel listMember) {
+            this.kind = kind;
+            this.variable = variable;
+            this.type = type;
+            this.shape = shape;
+            this.listMember = listMember;
+        }
+
+        static TypedValue structure(String variable, String type, ShapeModel shape) {
+            return new TypedValue(Kind.STRUCTURE, variable, type, shape, null);
+        }
+
+        static TypedValue list(String variable, String type, MemberModel listMember) {
+            return new TypedValue(Kind.LIST, variable, type, null, listMember);
+        }
+
+        static TypedValue scalar(String variable, String type) {
+            return new TypedValue(Kind.SCALAR, variable, type, null, null);
+        }
+
+        static TypedValue json(String variable) {
+            return new TypedValue(Kind.JSON, variable, "JsonNode", null, null);
+        }
+    }
+
+    /**
+     * Thrown when the expression contains a construct that cannot be
+     * evaluated against the getters of the result.
+     */
+    private static class UnsupportedExpressionException extends RuntimeException {
+    }
+}
@@ -16,14 +16,17 @@
 package com.amazonaws.codegen.emitters;
 
 
+import com.amazonaws.codegen.JmesPathGetterCodeGenVisitor;
 import com.amazonaws.codegen.internal.Freemarker;
 import com.amazonaws.codegen.internal.ImmutableMapParameter;
 import com.amazonaws.codegen.internal.Utils;
 import com.amazonaws.codegen.model.config.customization.AuthPolicyActions;
 import com.amazonaws.codegen.model.config.customization.CustomizationConfig;
 import com.amazonaws.codegen.model.config.templates.CodeGenTemplatesConfig;
+import com.amazonaws.codegen.model.intermediate.AcceptorModel;
 import com.amazonaws.codegen.model.intermediate.IntermediateModel;
 import com.amazonaws.codegen.model.intermediate.Metadata;
+import com.amazonaws.codegen.model.intermediate.OperationModel;
 import com.amazonaws.codegen.model.intermediate.Protocol;
 import com.amazonaws.codegen.model.intermediate.ShapeModel;
 import com.amazonaws.codegen.model.intermediate.ShapeType;
@@ -526,11 +529,17 @@ public class CodeEmitter implements AutoCloseable {
 
             final String waiterName = entry.getKey();
             final WaiterDefinitionModel waiterModel = entry.getValue();
+            final OperationModel operation = model.getOperation(waiterModel.getOperationName());
+
+            for (AcceptorModel acceptor : waiterModel.getAcceptors()) {
+                acceptor.setEvaluator(JmesPathGetterCodeGenVisitor.generate(
+                        acceptor.getAstExpression(), operation.getOutputShape(), model));
+            }
 
             Map<String, Object> dataModel = ImmutableMapParameter.of(
                     "fileHeader", model.getFileHeader(),
                     "waiter", waiterModel,
-                    "operation", model.getOperation(waiterModel.getOperationName()),
+                    "operation", operation,
                     "metadata", model.getMetadata());
 
             submitTask(new ClassGeneratorTask(waiterClassDir, waiterName,
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.codegen.model.intermediate;
+
+/**
+ * Generated code that evaluates the JmesPath expression of an acceptor by
+ * calling the getters of the operation result, instead of converting the
+ * whole result into a Jackson tree first.
+ */
+public class AcceptorEvaluatorModel {
+
+    private final String declarations;
+
+    private final String body;
+
+    public AcceptorEvaluatorModel(String declarations, String body) {
+        this.declarations = declarations;
+        this.body = body;
+    }
+
+    /**
+     * @return Static field declarations the evaluator depends on, e.g. the
+     *         functions and literals of the expression. May be empty.
+     */
+    public String getDeclarations() {
+        return declarations;
+    }
+
+    /**
+     * @return Body of the evaluator method, which takes the operation result
+     *         as its "result" parameter and returns the JsonNode the
+     *         expression evaluates to.
+     */
+    public String getBody() {
+        return body;
+    }
+}
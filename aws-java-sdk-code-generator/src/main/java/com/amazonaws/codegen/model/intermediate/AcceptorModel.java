@@ -18,6 +18,7 @@ package com.amazonaws.codegen.model.intermediate;
 import com.amazonaws.codegen.JmesPathCodeGenVisitor;
 import com.amazonaws.codegen.internal.Utils;
 import com.amazonaws.jmespath.JmesPathExpression;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.commons.lang3.StringEscapeUtils;
 
@@ -35,10 +36,17 @@ public class AcceptorModel {
 
     private JmesPathExpression ast;
 
+    private AcceptorEvaluatorModel evaluator;
+
     public void setAst(JmesPathExpression ast) {
         this.ast = ast;
     }
 
+    @JsonIgnore
+    public JmesPathExpression getAstExpression() {
+        return ast;
+    }
+
     public String getAst() {
         if(ast != null) {
             return ast.accept(new JmesPathCodeGenVisitor(), null);
@@ -46,6 +54,20 @@ public class AcceptorModel {
         return null;
     }
 
+    /**
+     * @return The evaluator of the JmesPath expression generated against the
+     *         getters of the operation result, or null if the expression has
+     *         to be evaluated against the Jackson tree of the result.
+     */
+    @JsonIgnore
+    public AcceptorEvaluatorModel getEvaluator() {
+        return evaluator;
+    }
+
+    public void setEvaluator(AcceptorEvaluatorModel evaluator) {
+        this.evaluator = evaluator;
+    }
+
     public void setState(String state) {
         this.state = state;
     }
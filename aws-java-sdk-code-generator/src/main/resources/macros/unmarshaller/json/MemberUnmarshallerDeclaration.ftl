@@ -26,4 +26,11 @@
     <#else>
         ${memberModel.variable.simpleType}JsonUnmarshaller.getInstance()
     </#if>
-</#macro>
\ No newline at end of file
+</#macro>
+<#--
+True if the unmarshaller of the member is a collection unmarshaller, which is built once per
+protocol by a CachingJsonUnmarshaller field and reused instead of being built for every value.
+-->
+<#function isCacheable memberModel>
+    <#return memberModel.list || memberModel.map />
+</#function>
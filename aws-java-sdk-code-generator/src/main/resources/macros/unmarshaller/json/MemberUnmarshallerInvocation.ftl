@@ -1,6 +1,10 @@
-<#macro content shapeVarName memberModel >
-if (context.testExpression("${memberModel.http.unmarshallLocationName}", targetDepth)) {
+<#macro content shapeVarName memberModel isChained=false >
+<#if isChained>else </#if>if ("${memberModel.http.unmarshallLocationName}".equals(fieldName)) {
     context.nextToken();
+    <#if MemberUnmarshallerDeclarationMacro.isCacheable(memberModel)>
+    ${shapeVarName}.set${memberModel.name}(${memberModel.variable.variableName}Unmarshaller.unmarshall(context));
+    <#else>
     ${shapeVarName}.set${memberModel.name}(<@MemberUnmarshallerDeclarationMacro.content memberModel />.unmarshall(context));
+    </#if>
 }
 </#macro>
@@ -19,9 +19,13 @@
         artificial container object) -->
         <#else>
             if (token == FIELD_NAME || token == START_OBJECT) {
-                <#list shape.unboundMembers as payloadMember>
-                    <@MemberUnmarshallerInvocationMacro.content shape.variable.variableName payloadMember />
-                </#list>
+                <#-- Check the depth and look up the field name once, then dispatch on the name -->
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    <#list shape.unboundMembers as payloadMember>
+                        <@MemberUnmarshallerInvocationMacro.content shape.variable.variableName payloadMember payloadMember?index != 0 />
+                    </#list>
+                }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
                     if (context.getCurrentDepth() <= originalDepth) break;
@@ -69,6 +69,19 @@ public class ${shape.shapeName}JsonUnmarshaller implements Unmarshaller<${shape.
         return ${shape.variable.variableName};
     }
 
+<#if !shape.hasPayloadMember>
+    <#list shape.unboundMembers as memberModel>
+        <#if MemberUnmarshallerDeclarationMacro.isCacheable(memberModel)>
+    private final Unmarshaller<${memberModel.variable.variableType}, JsonUnmarshallerContext> ${memberModel.variable.variableName}Unmarshaller = new CachingJsonUnmarshaller<${memberModel.variable.variableType}>() {
+        @Override
+        protected Unmarshaller<${memberModel.variable.variableType}, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return <@MemberUnmarshallerDeclarationMacro.content memberModel />;
+        }
+    };
+        </#if>
+    </#list>
+
+</#if>
     private static ${shape.shapeName}JsonUnmarshaller instance;
     public static ${shape.shapeName}JsonUnmarshaller getInstance() {
         if (instance == null) instance = new ${shape.shapeName}JsonUnmarshaller();
@@ -1,5 +1,11 @@
 ${fileHeader}
 <#assign outputType = operation.returnType.returnType>
+<#assign hasEvaluators = false>
+<#list waiter.acceptors as acceptor>
+    <#if acceptor.evaluator??>
+        <#assign hasEvaluators = true>
+    </#if>
+</#list>
 
 package ${metadata.packageName}.waiters;
 
@@ -11,6 +17,12 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import ${metadata.packageName}.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+<#if hasEvaluators>
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+</#if>
 
 import com.amazonaws.jmespath.*;
 
@@ -48,7 +60,11 @@ class ${waiter.waiterName} {
                  }
             }
 
+            <#if acceptor.evaluator??>
+            ${acceptor.evaluator.declarations}
+            <#else>
             private static final JmesPathExpression ast = ${acceptor.ast};
+            </#if>
 
             /**
               * Takes the result and determines whether the state of the
@@ -62,10 +78,28 @@ class ${waiter.waiterName} {
               */
             @Override
             public boolean matches(${outputType} result) {
+            <#if acceptor.evaluator??>
+                return AcceptorPathMatcher.${acceptor.matcher}(expectedResult, evaluate(result));
+            <#else>
                 JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
                 JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
                 return AcceptorPathMatcher.${acceptor.matcher}(expectedResult, finalResult);
+            </#if>
+            }
+            <#if acceptor.evaluator??>
+
+            /**
+              * Evaluates the JmesPath expression of this acceptor by calling
+              * the getters of the result, so that only the values selected by
+              * the expression are converted to JsonNodes.
+              * @param result
+              *          Corresponding result of the operation
+              * @return The value the JmesPath expression evaluates to
+              */
+            private static JsonNode evaluate(${outputType} result) {
+                ${acceptor.evaluator.body}
             }
+            </#if>
         </#if>
 
         /**
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.codegen;
+
+import com.amazonaws.codegen.internal.Jackson;
+import com.amazonaws.codegen.jmespath.DescribeReservationsResult;
+import com.amazonaws.codegen.jmespath.Instance;
+import com.amazonaws.codegen.jmespath.InstanceState;
+import com.amazonaws.codegen.jmespath.Reservation;
+import com.amazonaws.codegen.model.config.BasicCodeGenConfig;
+import com.amazonaws.codegen.model.config.customization.CustomizationConfig;
+import com.amazonaws.codegen.model.intermediate.AcceptorEvaluatorModel;
+import com.amazonaws.codegen.model.intermediate.IntermediateModel;
+import com.amazonaws.codegen.model.intermediate.ServiceExamples;
+import com.amazonaws.codegen.model.intermediate.ShapeModel;
+import com.amazonaws.codegen.model.service.ServiceModel;
+import com.amazonaws.codegen.model.service.Waiters;
+import com.amazonaws.jmespath.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Compiles the evaluators generated for waiter acceptor expressions against
+ * the getters of the DescribeReservations result of a test service model, and
+ * checks that they evaluate sample results to the same JsonNodes as the
+ * {@link JmesPathEvaluationVisitor} evaluating the Jackson tree of the result.
+ */
+public class JmesPathGetterCodeGenVisitorTest {
+
+    private static final String EVALUATOR_PACKAGE = DescribeReservationsResult.class.getPackage().getName();
+
+    private static IntermediateModel model;
+
+    private static ShapeModel outputShape;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void buildModel() throws Exception {
+        ServiceModel service;
+        try (InputStream in = JmesPathGetterCodeGenVisitorTest.class
+                .getResourceAsStream("jmespath-getter-service-2.json")) {
+            service = Jackson.load(ServiceModel.class, in);
+        }
+        model = new IntermediateModelBuilder(new CustomizationConfig(),
+                new BasicCodeGenConfig("ThingsService", null, null, null), service, new ServiceExamples(),
+                new Waiters()).build();
+        outputShape = model.getOperation("DescribeReservations").getOutputShape();
+    }
+
+    /** Status */
+    @Test
+    public void field() throws Exception {
+        assertEvaluatesLikeTree(field("Status"));
+    }
+
+    /** Reservations[].Instances[].State.Name */
+    @Test
+    public void nestedProjections() throws Exception {
+        assertEvaluatesLikeTree(projection(projection(field("Reservations"), field("Instances")),
+                new JmesPathSubExpression(field("State"), field("Name"))));
+    }
+
+    /** Reservations[].Instances[].State.Code */
+    @Test
+    public void projectionOfNumbers() throws Exception {
+        assertEvaluatesLikeTree(projection(projection(field("Reservations"), field("Instances")),
+                new JmesPathSubExpression(field("State"), field("Code"))));
+    }
+
+    /** Reservations[].Instances[].Attachments[] */
+    @Test
+    public void flattenOfProjectedLists() throws Exception {
+        assertEvaluatesLikeTree(projection(
+                projection(projection(field("Reservations"), field("Instances")), field("Attachments")),
+                new JmesPathIdentity()));
+    }
+
+    /** Reservations[].GroupNames[][] */
+    @Test
+    public void flattenOfListsOfLists() throws Exception {
+        assertEvaluatesLikeTree(projection(
+                projection(projection(field("Reservations"), field("GroupNames")), new JmesPathIdentity()),
+                new JmesPathIdentity()));
+    }
+
+    /** length(Reservations[].Instances[]) > `0` */
+    @Test
+    public void lengthOfProjection() throws Exception {
+        assertEvaluatesLikeTree(new OpGreaterThan(
+                new JmesPathLengthFunction(projection(projection(field("Reservations"), field("Instances")),
+                        new JmesPathIdentity())),
+                new JmesPathLiteral("0")));
+    }
+
+    /** length(Reservations) */
+    @Test
+    public void lengthOfList() throws Exception {
+        assertEvaluatesLikeTree(new JmesPathLengthFunction(field("Reservations")));
+    }
+
+    /** contains(Reservations[].Instances[].State.Name, 'stopped') */
+    @Test
+    public void containsOfProjection() throws Exception {
+        assertEvaluatesLikeTree(new JmesPathContainsFunction(
+                projection(projection(field("Reservations"), field("Instances")),
+                        new JmesPathSubExpression(field("State"), field("Name"))),
+                new JmesPathLiteral("\"stopped\"")));
+    }
+
+    /** Status == 'ok', Status != 'ok' */
+    @Test
+    public void equalityComparisons() throws Exception {
+        assertEvaluatesLikeTree(new OpEquals(field("Status"), new JmesPathLiteral("\"ok\"")));
+        assertEvaluatesLikeTree(new OpNotEquals(field("Status"), new JmesPathLiteral("\"ok\"")));
+    }
+
+    /** Count >= `3`, Count < `1` */
+    @Test
+    public void numericComparisons() throws Exception {
+        assertEvaluatesLikeTree(new OpGreaterThanOrEqualTo(field("Count"), new JmesPathLiteral("3")));
+        assertEvaluatesLikeTree(new OpLessThan(field("Count"), new JmesPathLiteral("1")));
+    }
+
+    /** !Ready && Count <= `3` */
+    @Test
+    public void booleanOperators() throws Exception {
+        assertEvaluatesLikeTree(new JmesPathAndExpression(new JmesPathNotExpression(field("Ready")),
+                new OpLessThanOrEqualTo(field("Count"), new JmesPathLiteral("3"))));
+    }
+
+    /** `[1, "a", {"b": null}]` */
+    @Test
+    public void literal() throws Exception {
+        assertEvaluatesLikeTree(new JmesPathLiteral("[1, \"a\", {\"b\": null}]"));
+    }
+
+    /** Reservations[].Instances[].Tags, Reservations[?Status == 'ok'] */
+    @Test
+    public void unsupportedExpressions_FallBackToTreeEvaluation() {
+        assertNull(JmesPathGetterCodeGenVisitor.generate(
+                projection(projection(field("Reservations"), field("Instances")), field("Tags")),
+                outputShape, model));
+        assertNull(JmesPathGetterCodeGenVisitor.generate(
+                new JmesPathFilter(field("Reservations"), new JmesPathIdentity(),
+                        new OpEquals(field("Status"), new JmesPathLiteral("\"ok\""))),
+                outputShape, model));
+    }
+
+    /** Reservations[][], which is a flatten of a flatten */
+    @Test
+    public void flattenOfFlatten_FallsBackToTreeEvaluation() {
+        assertNull(JmesPathGetterCodeGenVisitor.generate(
+                projection(new JmesPathFlatten(field("Reservations")), new JmesPathIdentity()),
+                outputShape, model));
+    }
+
+    /**
+     * Compiles the evaluator generated for the given expression and checks its
+     * results on every sample result against the tree evaluation. Where the
+     * tree evaluation fails, e.g. when taking the length of null, the
+     * evaluator has to fail with the same exception.
+     */
+    private void assertEvaluatesLikeTree(JmesPathExpression ast) throws Exception {
+        AcceptorEvaluatorModel evaluator = JmesPathGetterCodeGenVisitor.generate(ast, outputShape, model);
+        assertNotNull(evaluator);
+        Method evaluate = compile(evaluator);
+        for (DescribeReservationsResult result : sampleResults()) {
+            Object expected;
+            try {
+                expected = ast.accept(new JmesPathEvaluationVisitor(),
+                        ObjectMapperSingleton.getObjectMapper().<JsonNode> valueToTree(result));
+            } catch (InvalidTypeException e) {
+                expected = e.getMessage();
+            }
+            Object actual;
+            try {
+                actual = evaluate.invoke(null, result);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof InvalidTypeException)) {
+                    throw e;
+                }
+                actual = e.getCause().getMessage();
+            }
+            assertEquals(expected, actual);
+        }
+    }
+
+    private Method compile(AcceptorEvaluatorModel evaluator) throws Exception {
+        String source = "package " + EVALUATOR_PACKAGE + ";\n"
+                + "import com.amazonaws.jmespath.*;\n"
+                + "import com.fasterxml.jackson.databind.JsonNode;\n"
+                + "import com.fasterxml.jackson.databind.node.ArrayNode;\n"
+                + "import com.fasterxml.jackson.databind.node.BooleanNode;\n"
+                + "import com.fasterxml.jackson.databind.node.NullNode;\n"
+                + "import com.fasterxml.jackson.databind.node.TextNode;\n"
+                + "public class Evaluator {\n"
+                + evaluator.getDeclarations() + "\n"
+                + "public static JsonNode evaluate(DescribeReservationsResult result) {\n"
+                + evaluator.getBody() + "\n"
+                + "}\n"
+                + "}\n";
+        File root = temporaryFolder.newFolder();
+        File sourceFile = new File(root, EVALUATOR_PACKAGE.replace('.', '/') + "/Evaluator.java");
+        sourceFile.getParentFile().mkdirs();
+        Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(source, 0, compiler.run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"), "-d", root.getPath(), sourceFile.getPath()));
+
+        ClassLoader loader = new URLClassLoader(new URL[] { root.toURI().toURL() }, getClass().getClassLoader());
+        return loader.loadClass(EVALUATOR_PACKAGE + ".Evaluator")
+                .getMethod("evaluate", DescribeReservationsResult.class);
+    }
+
+    private static List<DescribeReservationsResult> sampleResults() {
+        List<DescribeReservationsResult> results = new ArrayList<>();
+        results.add(new DescribeReservationsResult()
+                .withStatus("ok")
+                .withCount(3)
+                .withReady(true)
+                .withReservations(
+                        new Reservation()
+                                .withInstances(
+                                        new Instance().withInstanceId("i-1")
+                                                .withState(new InstanceState("running", 16))
+                                                .withAttachments("vol-1", "vol-2"),
+                                        new Instance().withInstanceId("i-2")
+                                                .withState(new InstanceState("stopped", 80))
+                                                .withAttachments("vol-3"))
+                                .withGroupNames(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c"))),
+                        new Reservation()
+                                .withInstances(new Instance().withInstanceId("i-3")
+                                        .withState(new InstanceState("running", 16))
+                                        .withTags(Collections.singletonMap("Name", "web")))));
+        results.add(new DescribeReservationsResult()
+                .withStatus("failed")
+                .withCount(0)
+                .withReady(false)
+                .withReservations(new Reservation().withInstances()));
+        results.add(new DescribeReservationsResult()
+                .withReservations(
+                        new Reservation(),
+                        new Reservation()
+                                .withInstances(
+                                        new Instance(),
+                                        new Instance().withState(new InstanceState(null, null)))
+                                .withGroupNames(Arrays.asList(null, Collections.<String> emptyList())))
+                .withReady(false)
+                .withCount(1));
+        results.add(new DescribeReservationsResult().withReservations());
+        results.add(new DescribeReservationsResult());
+        return results;
+    }
+
+    private static JmesPathField field(String name) {
+        return new JmesPathField(name);
+    }
+
+    /**
+     * @return The expression {@code source[].projection} as it is parsed from
+     * the waiter definitions
+     */
+    private static JmesPathProjection projection(JmesPathExpression source, JmesPathExpression projection) {
+        return new JmesPathProjection(new JmesPathFlatten(source), projection);
+    }
+}
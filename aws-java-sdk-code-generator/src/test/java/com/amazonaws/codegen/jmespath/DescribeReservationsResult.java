@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.codegen.jmespath;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Result of the DescribeReservations operation of the test service model, as
+ * the generated evaluators of its waiter acceptors see it.
+ */
+public class DescribeReservationsResult {
+
+    private List<Reservation> reservations;
+    private String status;
+    private Integer count;
+    private Boolean ready;
+
+    public List<Reservation> getReservations() {
+        return reservations;
+    }
+
+    public DescribeReservationsResult withReservations(Reservation... reservations) {
+        this.reservations = reservations == null ? null : Arrays.asList(reservations);
+        return this;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public DescribeReservationsResult withStatus(String status) {
+        this.status = status;
+        return this;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public DescribeReservationsResult withCount(Integer count) {
+        this.count = count;
+        return this;
+    }
+
+    public Boolean getReady() {
+        return ready;
+    }
+
+    public DescribeReservationsResult withReady(Boolean ready) {
+        this.ready = ready;
+        return this;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.codegen.jmespath;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class Instance {
+
+    private String instanceId;
+    private InstanceState state;
+    private List<String> attachments;
+    private Map<String, String> tags;
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public Instance withInstanceId(String instanceId) {
+        this.instanceId = instanceId;
+        return this;
+    }
+
+    public InstanceState getState() {
+        return state;
+    }
+
+    public Instance withState(InstanceState state) {
+        this.state = state;
+        return this;
+    }
+
+    public List<String> getAttachments() {
+        return attachments;
+    }
+
+    public Instance withAttachments(String... attachments) {
+        this.attachments = attachments == null ? null : Arrays.asList(attachments);
+        return this;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public Instance withTags(Map<String, String> tags) {
+        this.tags = tags;
+        return this;
+    }
+}
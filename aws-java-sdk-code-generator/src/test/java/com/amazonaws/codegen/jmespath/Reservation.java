@@ -0,0 +1,43 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.codegen.jmespath;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class Reservation {
+
+    private List<Instance> instances;
+    private List<List<String>> groupNames;
+
+    public List<Instance> getInstances() {
+        return instances;
+    }
+
+    public Reservation withInstances(Instance... instances) {
+        this.instances = instances == null ? null : Arrays.asList(instances);
+        return this;
+    }
+
+    public List<List<String>> getGroupNames() {
+        return groupNames;
+    }
+
+    public Reservation withGroupNames(List<List<String>> groupNames) {
+        this.groupNames = groupNames;
+        return this;
+    }
+}
@@ -47,14 +47,15 @@ public class BatchGetRepositoriesResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositories", targetDepth)) {
-                    context.nextToken();
-                    batchGetRepositoriesResult.setRepositories(new ListUnmarshaller<RepositoryMetadata>(RepositoryMetadataJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("repositoriesNotFound", targetDepth)) {
-                    context.nextToken();
-                    batchGetRepositoriesResult.setRepositoriesNotFound(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("repositories".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetRepositoriesResult.setRepositories(repositoriesUnmarshaller.unmarshall(context));
+                    } else if ("repositoriesNotFound".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetRepositoriesResult.setRepositoriesNotFound(repositoriesNotFoundUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,19 @@ public class BatchGetRepositoriesResultJsonUnmarshaller implements Unmarshaller<
         return batchGetRepositoriesResult;
     }
 
+    private final Unmarshaller<java.util.List<RepositoryMetadata>, JsonUnmarshallerContext> repositoriesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RepositoryMetadata>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RepositoryMetadata>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RepositoryMetadata>(RepositoryMetadataJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> repositoriesNotFoundUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static BatchGetRepositoriesResultJsonUnmarshaller instance;
 
     public static BatchGetRepositoriesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class BranchInfoJsonUnmarshaller implements Unmarshaller<BranchInfo, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("branchName", targetDepth)) {
-                    context.nextToken();
-                    branchInfo.setBranchName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("commitId", targetDepth)) {
-                    context.nextToken();
-                    branchInfo.setCommitId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("branchName".equals(fieldName)) {
+                        context.nextToken();
+                        branchInfo.setBranchName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("commitId".equals(fieldName)) {
+                        context.nextToken();
+                        branchInfo.setCommitId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class CommitJsonUnmarshaller implements Unmarshaller<Commit, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("treeId", targetDepth)) {
-                    context.nextToken();
-                    commit.setTreeId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("parents", targetDepth)) {
-                    context.nextToken();
-                    commit.setParents(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    commit.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("author", targetDepth)) {
-                    context.nextToken();
-                    commit.setAuthor(UserInfoJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("committer", targetDepth)) {
-                    context.nextToken();
-                    commit.setCommitter(UserInfoJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("additionalData", targetDepth)) {
-                    context.nextToken();
-                    commit.setAdditionalData(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("treeId".equals(fieldName)) {
+                        context.nextToken();
+                        commit.setTreeId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("parents".equals(fieldName)) {
+                        context.nextToken();
+                        commit.setParents(parentsUnmarshaller.unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        commit.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("author".equals(fieldName)) {
+                        context.nextToken();
+                        commit.setAuthor(UserInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("committer".equals(fieldName)) {
+                        context.nextToken();
+                        commit.setCommitter(UserInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("additionalData".equals(fieldName)) {
+                        context.nextToken();
+                        commit.setAdditionalData(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -83,6 +81,13 @@ public class CommitJsonUnmarshaller implements Unmarshaller<Commit, JsonUnmarsha
         return commit;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> parentsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CommitJsonUnmarshaller instance;
 
     public static CommitJsonUnmarshaller getInstance() {
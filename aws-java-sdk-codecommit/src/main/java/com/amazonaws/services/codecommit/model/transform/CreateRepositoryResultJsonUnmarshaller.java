@@ -47,9 +47,12 @@ public class CreateRepositoryResultJsonUnmarshaller implements Unmarshaller<Crea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositoryMetadata", targetDepth)) {
-                    context.nextToken();
-                    createRepositoryResult.setRepositoryMetadata(RepositoryMetadataJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("repositoryMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        createRepositoryResult.setRepositoryMetadata(RepositoryMetadataJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
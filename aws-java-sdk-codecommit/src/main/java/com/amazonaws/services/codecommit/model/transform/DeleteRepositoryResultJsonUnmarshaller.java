@@ -47,9 +47,12 @@ public class DeleteRepositoryResultJsonUnmarshaller implements Unmarshaller<Dele
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositoryId", targetDepth)) {
-                    context.nextToken();
-                    deleteRepositoryResult.setRepositoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("repositoryId".equals(fieldName)) {
+                        context.nextToken();
+                        deleteRepositoryResult.setRepositoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetBranchResultJsonUnmarshaller implements Unmarshaller<GetBranchRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("branch", targetDepth)) {
-                    context.nextToken();
-                    getBranchResult.setBranch(BranchInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("branch".equals(fieldName)) {
+                        context.nextToken();
+                        getBranchResult.setBranch(BranchInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
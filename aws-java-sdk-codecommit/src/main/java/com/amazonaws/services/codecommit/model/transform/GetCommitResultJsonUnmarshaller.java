@@ -47,9 +47,12 @@ public class GetCommitResultJsonUnmarshaller implements Unmarshaller<GetCommitRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("commit", targetDepth)) {
-                    context.nextToken();
-                    getCommitResult.setCommit(CommitJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("commit".equals(fieldName)) {
+                        context.nextToken();
+                        getCommitResult.setCommit(CommitJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
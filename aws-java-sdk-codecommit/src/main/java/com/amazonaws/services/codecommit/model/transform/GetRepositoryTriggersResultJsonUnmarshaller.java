@@ -47,14 +47,15 @@ public class GetRepositoryTriggersResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurationId", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryTriggersResult.setConfigurationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("triggers", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryTriggersResult.setTriggers(new ListUnmarshaller<RepositoryTrigger>(RepositoryTriggerJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("configurationId".equals(fieldName)) {
+                        context.nextToken();
+                        getRepositoryTriggersResult.setConfigurationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("triggers".equals(fieldName)) {
+                        context.nextToken();
+                        getRepositoryTriggersResult.setTriggers(triggersUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class GetRepositoryTriggersResultJsonUnmarshaller implements Unmarshaller
         return getRepositoryTriggersResult;
     }
 
+    private final Unmarshaller<java.util.List<RepositoryTrigger>, JsonUnmarshallerContext> triggersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RepositoryTrigger>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RepositoryTrigger>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RepositoryTrigger>(RepositoryTriggerJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetRepositoryTriggersResultJsonUnmarshaller instance;
 
     public static GetRepositoryTriggersResultJsonUnmarshaller getInstance() {
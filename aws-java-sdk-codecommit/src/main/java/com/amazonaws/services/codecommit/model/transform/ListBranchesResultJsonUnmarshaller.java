@@ -47,13 +47,15 @@ public class ListBranchesResultJsonUnmarshaller implements Unmarshaller<ListBran
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("branches", targetDepth)) {
-                    context.nextToken();
-                    listBranchesResult.setBranches(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listBranchesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("branches".equals(fieldName)) {
+                        context.nextToken();
+                        listBranchesResult.setBranches(branchesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listBranchesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListBranchesResultJsonUnmarshaller implements Unmarshaller<ListBran
         return listBranchesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> branchesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListBranchesResultJsonUnmarshaller instance;
 
     public static ListBranchesResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListRepositoriesResultJsonUnmarshaller implements Unmarshaller<List
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositories", targetDepth)) {
-                    context.nextToken();
-                    listRepositoriesResult.setRepositories(new ListUnmarshaller<RepositoryNameIdPair>(RepositoryNameIdPairJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listRepositoriesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("repositories".equals(fieldName)) {
+                        context.nextToken();
+                        listRepositoriesResult.setRepositories(repositoriesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listRepositoriesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListRepositoriesResultJsonUnmarshaller implements Unmarshaller<List
         return listRepositoriesResult;
     }
 
+    private final Unmarshaller<java.util.List<RepositoryNameIdPair>, JsonUnmarshallerContext> repositoriesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RepositoryNameIdPair>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RepositoryNameIdPair>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RepositoryNameIdPair>(RepositoryNameIdPairJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListRepositoriesResultJsonUnmarshaller instance;
 
     public static ListRepositoriesResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class PutRepositoryTriggersResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurationId", targetDepth)) {
-                    context.nextToken();
-                    putRepositoryTriggersResult.setConfigurationId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("configurationId".equals(fieldName)) {
+                        context.nextToken();
+                        putRepositoryTriggersResult.setConfigurationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,45 +47,39 @@ public class RepositoryMetadataJsonUnmarshaller implements Unmarshaller<Reposito
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("accountId", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setAccountId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryId", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setRepositoryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryDescription", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setRepositoryDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultBranch", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setDefaultBranch(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("creationDate", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("cloneUrlHttp", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setCloneUrlHttp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cloneUrlSsh", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setCloneUrlSsh(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    repositoryMetadata.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("accountId".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryMetadata.setAccountId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryId".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryMetadata.setRepositoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryName".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryMetadata.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryDescription".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryMetadata.setRepositoryDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultBranch".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryMetadata.setDefaultBranch(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryMetadata.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("creationDate".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryMetadata.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("cloneUrlHttp".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryMetadata.setCloneUrlHttp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cloneUrlSsh".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryMetadata.setCloneUrlSsh(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryMetadata.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class RepositoryNameIdPairJsonUnmarshaller implements Unmarshaller<Reposi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    repositoryNameIdPair.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryId", targetDepth)) {
-                    context.nextToken();
-                    repositoryNameIdPair.setRepositoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("repositoryName".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryNameIdPair.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryId".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryNameIdPair.setRepositoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class RepositoryTriggerExecutionFailureJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("trigger", targetDepth)) {
-                    context.nextToken();
-                    repositoryTriggerExecutionFailure.setTrigger(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("failureMessage", targetDepth)) {
-                    context.nextToken();
-                    repositoryTriggerExecutionFailure.setFailureMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("trigger".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryTriggerExecutionFailure.setTrigger(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("failureMessage".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryTriggerExecutionFailure.setFailureMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class RepositoryTriggerJsonUnmarshaller implements Unmarshaller<Repositor
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    repositoryTrigger.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("destinationArn", targetDepth)) {
-                    context.nextToken();
-                    repositoryTrigger.setDestinationArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("customData", targetDepth)) {
-                    context.nextToken();
-                    repositoryTrigger.setCustomData(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("branches", targetDepth)) {
-                    context.nextToken();
-                    repositoryTrigger.setBranches(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    repositoryTrigger.setEvents(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryTrigger.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("destinationArn".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryTrigger.setDestinationArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("customData".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryTrigger.setCustomData(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("branches".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryTrigger.setBranches(branchesUnmarshaller.unmarshall(context));
+                    } else if ("events".equals(fieldName)) {
+                        context.nextToken();
+                        repositoryTrigger.setEvents(eventsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,19 @@ public class RepositoryTriggerJsonUnmarshaller implements Unmarshaller<Repositor
         return repositoryTrigger;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> branchesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> eventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static RepositoryTriggerJsonUnmarshaller instance;
 
     public static RepositoryTriggerJsonUnmarshaller getInstance() {
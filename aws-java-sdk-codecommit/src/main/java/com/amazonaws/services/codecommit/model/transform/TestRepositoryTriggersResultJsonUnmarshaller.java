@@ -47,15 +47,15 @@ public class TestRepositoryTriggersResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("successfulExecutions", targetDepth)) {
-                    context.nextToken();
-                    testRepositoryTriggersResult.setSuccessfulExecutions(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("failedExecutions", targetDepth)) {
-                    context.nextToken();
-                    testRepositoryTriggersResult.setFailedExecutions(new ListUnmarshaller<RepositoryTriggerExecutionFailure>(
-                            RepositoryTriggerExecutionFailureJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("successfulExecutions".equals(fieldName)) {
+                        context.nextToken();
+                        testRepositoryTriggersResult.setSuccessfulExecutions(successfulExecutionsUnmarshaller.unmarshall(context));
+                    } else if ("failedExecutions".equals(fieldName)) {
+                        context.nextToken();
+                        testRepositoryTriggersResult.setFailedExecutions(failedExecutionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +69,19 @@ public class TestRepositoryTriggersResultJsonUnmarshaller implements Unmarshalle
         return testRepositoryTriggersResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> successfulExecutionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<RepositoryTriggerExecutionFailure>, JsonUnmarshallerContext> failedExecutionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RepositoryTriggerExecutionFailure>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RepositoryTriggerExecutionFailure>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RepositoryTriggerExecutionFailure>(RepositoryTriggerExecutionFailureJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static TestRepositoryTriggersResultJsonUnmarshaller instance;
 
     public static TestRepositoryTriggersResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class UserInfoJsonUnmarshaller implements Unmarshaller<UserInfo, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    userInfo.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("email", targetDepth)) {
-                    context.nextToken();
-                    userInfo.setEmail(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("date", targetDepth)) {
-                    context.nextToken();
-                    userInfo.setDate(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        userInfo.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("email".equals(fieldName)) {
+                        context.nextToken();
+                        userInfo.setEmail(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("date".equals(fieldName)) {
+                        context.nextToken();
+                        userInfo.setDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class AlarmConfigurationJsonUnmarshaller implements Unmarshaller<AlarmCon
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("enabled", targetDepth)) {
-                    context.nextToken();
-                    alarmConfiguration.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ignorePollAlarmFailure", targetDepth)) {
-                    context.nextToken();
-                    alarmConfiguration.setIgnorePollAlarmFailure(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("alarms", targetDepth)) {
-                    context.nextToken();
-                    alarmConfiguration.setAlarms(new ListUnmarshaller<Alarm>(AlarmJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("enabled".equals(fieldName)) {
+                        context.nextToken();
+                        alarmConfiguration.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("ignorePollAlarmFailure".equals(fieldName)) {
+                        context.nextToken();
+                        alarmConfiguration.setIgnorePollAlarmFailure(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("alarms".equals(fieldName)) {
+                        context.nextToken();
+                        alarmConfiguration.setAlarms(alarmsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class AlarmConfigurationJsonUnmarshaller implements Unmarshaller<AlarmCon
         return alarmConfiguration;
     }
 
+    private final Unmarshaller<java.util.List<Alarm>, JsonUnmarshallerContext> alarmsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Alarm>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Alarm>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Alarm>(AlarmJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AlarmConfigurationJsonUnmarshaller instance;
 
     public static AlarmConfigurationJsonUnmarshaller getInstance() {
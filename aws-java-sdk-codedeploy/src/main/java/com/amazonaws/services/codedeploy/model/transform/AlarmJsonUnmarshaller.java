@@ -47,9 +47,12 @@ public class AlarmJsonUnmarshaller implements Unmarshaller<Alarm, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    alarm.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        alarm.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class ApplicationInfoJsonUnmarshaller implements Unmarshaller<Application
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationId", targetDepth)) {
-                    context.nextToken();
-                    applicationInfo.setApplicationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    applicationInfo.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createTime", targetDepth)) {
-                    context.nextToken();
-                    applicationInfo.setCreateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("linkedToGitHub", targetDepth)) {
-                    context.nextToken();
-                    applicationInfo.setLinkedToGitHub(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("applicationId".equals(fieldName)) {
+                        context.nextToken();
+                        applicationInfo.setApplicationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("applicationName".equals(fieldName)) {
+                        context.nextToken();
+                        applicationInfo.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createTime".equals(fieldName)) {
+                        context.nextToken();
+                        applicationInfo.setCreateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("linkedToGitHub".equals(fieldName)) {
+                        context.nextToken();
+                        applicationInfo.setLinkedToGitHub(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class AutoRollbackConfigurationJsonUnmarshaller implements Unmarshaller<A
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("enabled", targetDepth)) {
-                    context.nextToken();
-                    autoRollbackConfiguration.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    autoRollbackConfiguration.setEvents(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("enabled".equals(fieldName)) {
+                        context.nextToken();
+                        autoRollbackConfiguration.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("events".equals(fieldName)) {
+                        context.nextToken();
+                        autoRollbackConfiguration.setEvents(eventsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class AutoRollbackConfigurationJsonUnmarshaller implements Unmarshaller<A
         return autoRollbackConfiguration;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> eventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AutoRollbackConfigurationJsonUnmarshaller instance;
 
     public static AutoRollbackConfigurationJsonUnmarshaller getInstance() {
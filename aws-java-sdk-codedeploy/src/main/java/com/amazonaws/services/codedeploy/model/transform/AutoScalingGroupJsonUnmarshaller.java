@@ -47,13 +47,15 @@ public class AutoScalingGroupJsonUnmarshaller implements Unmarshaller<AutoScalin
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    autoScalingGroup.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hook", targetDepth)) {
-                    context.nextToken();
-                    autoScalingGroup.setHook(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        autoScalingGroup.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hook".equals(fieldName)) {
+                        context.nextToken();
+                        autoScalingGroup.setHook(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,18 +47,18 @@ public class BatchGetApplicationRevisionsResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    batchGetApplicationRevisionsResult.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("errorMessage", targetDepth)) {
-                    context.nextToken();
-                    batchGetApplicationRevisionsResult.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisions", targetDepth)) {
-                    context.nextToken();
-                    batchGetApplicationRevisionsResult.setRevisions(new ListUnmarshaller<RevisionInfo>(RevisionInfoJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("applicationName".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetApplicationRevisionsResult.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("errorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetApplicationRevisionsResult.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revisions".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetApplicationRevisionsResult.setRevisions(revisionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class BatchGetApplicationRevisionsResultJsonUnmarshaller implements Unmar
         return batchGetApplicationRevisionsResult;
     }
 
+    private final Unmarshaller<java.util.List<RevisionInfo>, JsonUnmarshallerContext> revisionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RevisionInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RevisionInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RevisionInfo>(RevisionInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchGetApplicationRevisionsResultJsonUnmarshaller instance;
 
     public static BatchGetApplicationRevisionsResultJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class BatchGetApplicationsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationsInfo", targetDepth)) {
-                    context.nextToken();
-                    batchGetApplicationsResult.setApplicationsInfo(new ListUnmarshaller<ApplicationInfo>(ApplicationInfoJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("applicationsInfo".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetApplicationsResult.setApplicationsInfo(applicationsInfoUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class BatchGetApplicationsResultJsonUnmarshaller implements Unmarshaller<
         return batchGetApplicationsResult;
     }
 
+    private final Unmarshaller<java.util.List<ApplicationInfo>, JsonUnmarshallerContext> applicationsInfoUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ApplicationInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ApplicationInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ApplicationInfo>(ApplicationInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchGetApplicationsResultJsonUnmarshaller instance;
 
     public static BatchGetApplicationsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class BatchGetDeploymentGroupsResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentGroupsInfo", targetDepth)) {
-                    context.nextToken();
-                    batchGetDeploymentGroupsResult.setDeploymentGroupsInfo(new ListUnmarshaller<DeploymentGroupInfo>(DeploymentGroupInfoJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("errorMessage", targetDepth)) {
-                    context.nextToken();
-                    batchGetDeploymentGroupsResult.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentGroupsInfo".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetDeploymentGroupsResult.setDeploymentGroupsInfo(deploymentGroupsInfoUnmarshaller.unmarshall(context));
+                    } else if ("errorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetDeploymentGroupsResult.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class BatchGetDeploymentGroupsResultJsonUnmarshaller implements Unmarshal
         return batchGetDeploymentGroupsResult;
     }
 
+    private final Unmarshaller<java.util.List<DeploymentGroupInfo>, JsonUnmarshallerContext> deploymentGroupsInfoUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DeploymentGroupInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DeploymentGroupInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DeploymentGroupInfo>(DeploymentGroupInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchGetDeploymentGroupsResultJsonUnmarshaller instance;
 
     public static BatchGetDeploymentGroupsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class BatchGetDeploymentInstancesResultJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instancesSummary", targetDepth)) {
-                    context.nextToken();
-                    batchGetDeploymentInstancesResult.setInstancesSummary(new ListUnmarshaller<InstanceSummary>(InstanceSummaryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("errorMessage", targetDepth)) {
-                    context.nextToken();
-                    batchGetDeploymentInstancesResult.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("instancesSummary".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetDeploymentInstancesResult.setInstancesSummary(instancesSummaryUnmarshaller.unmarshall(context));
+                    } else if ("errorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetDeploymentInstancesResult.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class BatchGetDeploymentInstancesResultJsonUnmarshaller implements Unmars
         return batchGetDeploymentInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<InstanceSummary>, JsonUnmarshallerContext> instancesSummaryUnmarshaller = new CachingJsonUnmarshaller<java.util.List<InstanceSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<InstanceSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<InstanceSummary>(InstanceSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchGetDeploymentInstancesResultJsonUnmarshaller instance;
 
     public static BatchGetDeploymentInstancesResultJsonUnmarshaller getInstance() {
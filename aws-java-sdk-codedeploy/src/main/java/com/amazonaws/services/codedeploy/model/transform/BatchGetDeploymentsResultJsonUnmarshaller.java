@@ -47,10 +47,12 @@ public class BatchGetDeploymentsResultJsonUnmarshaller implements Unmarshaller<B
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentsInfo", targetDepth)) {
-                    context.nextToken();
-                    batchGetDeploymentsResult.setDeploymentsInfo(new ListUnmarshaller<DeploymentInfo>(DeploymentInfoJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentsInfo".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetDeploymentsResult.setDeploymentsInfo(deploymentsInfoUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class BatchGetDeploymentsResultJsonUnmarshaller implements Unmarshaller<B
         return batchGetDeploymentsResult;
     }
 
+    private final Unmarshaller<java.util.List<DeploymentInfo>, JsonUnmarshallerContext> deploymentsInfoUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DeploymentInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DeploymentInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DeploymentInfo>(DeploymentInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchGetDeploymentsResultJsonUnmarshaller instance;
 
     public static BatchGetDeploymentsResultJsonUnmarshaller getInstance() {
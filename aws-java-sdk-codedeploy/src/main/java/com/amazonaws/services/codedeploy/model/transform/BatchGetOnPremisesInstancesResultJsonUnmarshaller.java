@@ -47,10 +47,12 @@ public class BatchGetOnPremisesInstancesResultJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instanceInfos", targetDepth)) {
-                    context.nextToken();
-                    batchGetOnPremisesInstancesResult.setInstanceInfos(new ListUnmarshaller<InstanceInfo>(InstanceInfoJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("instanceInfos".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetOnPremisesInstancesResult.setInstanceInfos(instanceInfosUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class BatchGetOnPremisesInstancesResultJsonUnmarshaller implements Unmars
         return batchGetOnPremisesInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<InstanceInfo>, JsonUnmarshallerContext> instanceInfosUnmarshaller = new CachingJsonUnmarshaller<java.util.List<InstanceInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<InstanceInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<InstanceInfo>(InstanceInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchGetOnPremisesInstancesResultJsonUnmarshaller instance;
 
     public static BatchGetOnPremisesInstancesResultJsonUnmarshaller getInstance() {
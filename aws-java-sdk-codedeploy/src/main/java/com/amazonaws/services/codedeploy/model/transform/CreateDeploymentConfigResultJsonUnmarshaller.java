@@ -47,9 +47,12 @@ public class CreateDeploymentConfigResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentConfigId", targetDepth)) {
-                    context.nextToken();
-                    createDeploymentConfigResult.setDeploymentConfigId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentConfigId".equals(fieldName)) {
+                        context.nextToken();
+                        createDeploymentConfigResult.setDeploymentConfigId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class DeploymentConfigInfoJsonUnmarshaller implements Unmarshaller<Deploy
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentConfigId", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfigInfo.setDeploymentConfigId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentConfigName", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfigInfo.setDeploymentConfigName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("minimumHealthyHosts", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfigInfo.setMinimumHealthyHosts(MinimumHealthyHostsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("createTime", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfigInfo.setCreateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentConfigId".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentConfigInfo.setDeploymentConfigId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deploymentConfigName".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentConfigInfo.setDeploymentConfigName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("minimumHealthyHosts".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentConfigInfo.setMinimumHealthyHosts(MinimumHealthyHostsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("createTime".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentConfigInfo.setCreateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
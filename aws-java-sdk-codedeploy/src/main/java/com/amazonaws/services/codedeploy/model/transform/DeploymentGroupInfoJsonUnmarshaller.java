@@ -47,56 +47,45 @@ public class DeploymentGroupInfoJsonUnmarshaller implements Unmarshaller<Deploym
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentGroupId", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setDeploymentGroupId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentGroupName", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setDeploymentGroupName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentConfigName", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setDeploymentConfigName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ec2TagFilters", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setEc2TagFilters(new ListUnmarshaller<EC2TagFilter>(EC2TagFilterJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("onPremisesInstanceTagFilters", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setOnPremisesInstanceTagFilters(new ListUnmarshaller<TagFilter>(TagFilterJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("autoScalingGroups", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setAutoScalingGroups(new ListUnmarshaller<AutoScalingGroup>(AutoScalingGroupJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("serviceRoleArn", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setServiceRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("targetRevision", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setTargetRevision(RevisionLocationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("triggerConfigurations", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setTriggerConfigurations(new ListUnmarshaller<TriggerConfig>(TriggerConfigJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("alarmConfiguration", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setAlarmConfiguration(AlarmConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("autoRollbackConfiguration", targetDepth)) {
-                    context.nextToken();
-                    deploymentGroupInfo.setAutoRollbackConfiguration(AutoRollbackConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("applicationName".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deploymentGroupId".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setDeploymentGroupId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deploymentGroupName".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setDeploymentGroupName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deploymentConfigName".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setDeploymentConfigName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ec2TagFilters".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setEc2TagFilters(ec2TagFiltersUnmarshaller.unmarshall(context));
+                    } else if ("onPremisesInstanceTagFilters".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setOnPremisesInstanceTagFilters(onPremisesInstanceTagFiltersUnmarshaller.unmarshall(context));
+                    } else if ("autoScalingGroups".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setAutoScalingGroups(autoScalingGroupsUnmarshaller.unmarshall(context));
+                    } else if ("serviceRoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setServiceRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("targetRevision".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setTargetRevision(RevisionLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("triggerConfigurations".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setTriggerConfigurations(triggerConfigurationsUnmarshaller.unmarshall(context));
+                    } else if ("alarmConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setAlarmConfiguration(AlarmConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("autoRollbackConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentGroupInfo.setAutoRollbackConfiguration(AutoRollbackConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -110,6 +99,31 @@ public class DeploymentGroupInfoJsonUnmarshaller implements Unmarshaller<Deploym
         return deploymentGroupInfo;
     }
 
+    private final Unmarshaller<java.util.List<EC2TagFilter>, JsonUnmarshallerContext> ec2TagFiltersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EC2TagFilter>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EC2TagFilter>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EC2TagFilter>(EC2TagFilterJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<TagFilter>, JsonUnmarshallerContext> onPremisesInstanceTagFiltersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TagFilter>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TagFilter>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TagFilter>(TagFilterJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<AutoScalingGroup>, JsonUnmarshallerContext> autoScalingGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AutoScalingGroup>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AutoScalingGroup>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AutoScalingGroup>(AutoScalingGroupJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<TriggerConfig>, JsonUnmarshallerContext> triggerConfigurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TriggerConfig>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TriggerConfig>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TriggerConfig>(TriggerConfigJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DeploymentGroupInfoJsonUnmarshaller instance;
 
     public static DeploymentGroupInfoJsonUnmarshaller getInstance() {
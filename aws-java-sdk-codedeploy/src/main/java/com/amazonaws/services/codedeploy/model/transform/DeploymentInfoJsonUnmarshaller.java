@@ -47,73 +47,60 @@ public class DeploymentInfoJsonUnmarshaller implements Unmarshaller<DeploymentIn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentGroupName", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setDeploymentGroupName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentConfigName", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setDeploymentConfigName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentId", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revision", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setRevision(RevisionLocationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("errorInformation", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setErrorInformation(ErrorInformationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("createTime", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setCreateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("startTime", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("completeTime", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setCompleteTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentOverview", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setDeploymentOverview(DeploymentOverviewJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creator", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setCreator(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ignoreApplicationStopFailures", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setIgnoreApplicationStopFailures(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("autoRollbackConfiguration", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setAutoRollbackConfiguration(AutoRollbackConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("updateOutdatedInstancesOnly", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setUpdateOutdatedInstancesOnly(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("rollbackInfo", targetDepth)) {
-                    context.nextToken();
-                    deploymentInfo.setRollbackInfo(RollbackInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("applicationName".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deploymentGroupName".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setDeploymentGroupName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deploymentConfigName".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setDeploymentConfigName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deploymentId".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revision".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setRevision(RevisionLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("errorInformation".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setErrorInformation(ErrorInformationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("createTime".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setCreateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("startTime".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("completeTime".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setCompleteTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("deploymentOverview".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setDeploymentOverview(DeploymentOverviewJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("creator".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setCreator(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ignoreApplicationStopFailures".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setIgnoreApplicationStopFailures(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("autoRollbackConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setAutoRollbackConfiguration(AutoRollbackConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("updateOutdatedInstancesOnly".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setUpdateOutdatedInstancesOnly(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("rollbackInfo".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentInfo.setRollbackInfo(RollbackInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
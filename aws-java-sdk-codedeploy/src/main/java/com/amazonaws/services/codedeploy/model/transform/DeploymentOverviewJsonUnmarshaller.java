@@ -47,25 +47,24 @@ public class DeploymentOverviewJsonUnmarshaller implements Unmarshaller<Deployme
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Pending", targetDepth)) {
-                    context.nextToken();
-                    deploymentOverview.setPending(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("InProgress", targetDepth)) {
-                    context.nextToken();
-                    deploymentOverview.setInProgress(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Succeeded", targetDepth)) {
-                    context.nextToken();
-                    deploymentOverview.setSucceeded(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Failed", targetDepth)) {
-                    context.nextToken();
-                    deploymentOverview.setFailed(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Skipped", targetDepth)) {
-                    context.nextToken();
-                    deploymentOverview.setSkipped(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Pending".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentOverview.setPending(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("InProgress".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentOverview.setInProgress(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Succeeded".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentOverview.setSucceeded(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Failed".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentOverview.setFailed(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Skipped".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentOverview.setSkipped(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class DiagnosticsJsonUnmarshaller implements Unmarshaller<Diagnostics, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("errorCode", targetDepth)) {
-                    context.nextToken();
-                    diagnostics.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scriptName", targetDepth)) {
-                    context.nextToken();
-                    diagnostics.setScriptName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    diagnostics.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("logTail", targetDepth)) {
-                    context.nextToken();
-                    diagnostics.setLogTail(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("errorCode".equals(fieldName)) {
+                        context.nextToken();
+                        diagnostics.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("scriptName".equals(fieldName)) {
+                        context.nextToken();
+                        diagnostics.setScriptName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        diagnostics.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("logTail".equals(fieldName)) {
+                        context.nextToken();
+                        diagnostics.setLogTail(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
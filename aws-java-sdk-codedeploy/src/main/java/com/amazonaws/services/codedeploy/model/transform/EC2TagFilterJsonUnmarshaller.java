@@ -47,17 +47,18 @@ public class EC2TagFilterJsonUnmarshaller implements Unmarshaller<EC2TagFilter,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    eC2TagFilter.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    eC2TagFilter.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    eC2TagFilter.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        eC2TagFilter.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        eC2TagFilter.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        eC2TagFilter.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ErrorInformationJsonUnmarshaller implements Unmarshaller<ErrorInfor
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("code", targetDepth)) {
-                    context.nextToken();
-                    errorInformation.setCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    errorInformation.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("code".equals(fieldName)) {
+                        context.nextToken();
+                        errorInformation.setCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        errorInformation.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
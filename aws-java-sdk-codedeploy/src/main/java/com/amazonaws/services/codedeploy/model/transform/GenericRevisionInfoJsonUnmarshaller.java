@@ -47,25 +47,24 @@ public class GenericRevisionInfoJsonUnmarshaller implements Unmarshaller<Generic
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    genericRevisionInfo.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentGroups", targetDepth)) {
-                    context.nextToken();
-                    genericRevisionInfo.setDeploymentGroups(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("firstUsedTime", targetDepth)) {
-                    context.nextToken();
-                    genericRevisionInfo.setFirstUsedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUsedTime", targetDepth)) {
-                    context.nextToken();
-                    genericRevisionInfo.setLastUsedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("registerTime", targetDepth)) {
-                    context.nextToken();
-                    genericRevisionInfo.setRegisterTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        genericRevisionInfo.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deploymentGroups".equals(fieldName)) {
+                        context.nextToken();
+                        genericRevisionInfo.setDeploymentGroups(deploymentGroupsUnmarshaller.unmarshall(context));
+                    } else if ("firstUsedTime".equals(fieldName)) {
+                        context.nextToken();
+                        genericRevisionInfo.setFirstUsedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lastUsedTime".equals(fieldName)) {
+                        context.nextToken();
+                        genericRevisionInfo.setLastUsedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("registerTime".equals(fieldName)) {
+                        context.nextToken();
+                        genericRevisionInfo.setRegisterTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class GenericRevisionInfoJsonUnmarshaller implements Unmarshaller<Generic
         return genericRevisionInfo;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> deploymentGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GenericRevisionInfoJsonUnmarshaller instance;
 
     public static GenericRevisionInfoJsonUnmarshaller getInstance() {
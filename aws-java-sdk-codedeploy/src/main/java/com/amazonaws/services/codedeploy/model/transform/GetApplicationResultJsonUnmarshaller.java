@@ -47,9 +47,12 @@ public class GetApplicationResultJsonUnmarshaller implements Unmarshaller<GetApp
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("application", targetDepth)) {
-                    context.nextToken();
-                    getApplicationResult.setApplication(ApplicationInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("application".equals(fieldName)) {
+                        context.nextToken();
+                        getApplicationResult.setApplication(ApplicationInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class GetApplicationRevisionResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    getApplicationRevisionResult.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revision", targetDepth)) {
-                    context.nextToken();
-                    getApplicationRevisionResult.setRevision(RevisionLocationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("revisionInfo", targetDepth)) {
-                    context.nextToken();
-                    getApplicationRevisionResult.setRevisionInfo(GenericRevisionInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("applicationName".equals(fieldName)) {
+                        context.nextToken();
+                        getApplicationRevisionResult.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revision".equals(fieldName)) {
+                        context.nextToken();
+                        getApplicationRevisionResult.setRevision(RevisionLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("revisionInfo".equals(fieldName)) {
+                        context.nextToken();
+                        getApplicationRevisionResult.setRevisionInfo(GenericRevisionInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetDeploymentConfigResultJsonUnmarshaller implements Unmarshaller<G
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentConfigInfo", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentConfigResult.setDeploymentConfigInfo(DeploymentConfigInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentConfigInfo".equals(fieldName)) {
+                        context.nextToken();
+                        getDeploymentConfigResult.setDeploymentConfigInfo(DeploymentConfigInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetDeploymentGroupResultJsonUnmarshaller implements Unmarshaller<Ge
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentGroupInfo", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentGroupResult.setDeploymentGroupInfo(DeploymentGroupInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentGroupInfo".equals(fieldName)) {
+                        context.nextToken();
+                        getDeploymentGroupResult.setDeploymentGroupInfo(DeploymentGroupInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
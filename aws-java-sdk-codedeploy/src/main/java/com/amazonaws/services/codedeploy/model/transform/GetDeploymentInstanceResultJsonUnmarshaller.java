@@ -47,9 +47,12 @@ public class GetDeploymentInstanceResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instanceSummary", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentInstanceResult.setInstanceSummary(InstanceSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("instanceSummary".equals(fieldName)) {
+                        context.nextToken();
+                        getDeploymentInstanceResult.setInstanceSummary(InstanceSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetDeploymentResultJsonUnmarshaller implements Unmarshaller<GetDepl
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentInfo", targetDepth)) {
-                    context.nextToken();
-                    getDeploymentResult.setDeploymentInfo(DeploymentInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentInfo".equals(fieldName)) {
+                        context.nextToken();
+                        getDeploymentResult.setDeploymentInfo(DeploymentInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetOnPremisesInstanceResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instanceInfo", targetDepth)) {
-                    context.nextToken();
-                    getOnPremisesInstanceResult.setInstanceInfo(InstanceInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("instanceInfo".equals(fieldName)) {
+                        context.nextToken();
+                        getOnPremisesInstanceResult.setInstanceInfo(InstanceInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class GitHubLocationJsonUnmarshaller implements Unmarshaller<GitHubLocati
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repository", targetDepth)) {
-                    context.nextToken();
-                    gitHubLocation.setRepository(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("commitId", targetDepth)) {
-                    context.nextToken();
-                    gitHubLocation.setCommitId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("repository".equals(fieldName)) {
+                        context.nextToken();
+                        gitHubLocation.setRepository(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("commitId".equals(fieldName)) {
+                        context.nextToken();
+                        gitHubLocation.setCommitId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class InstanceInfoJsonUnmarshaller implements Unmarshaller<InstanceInfo,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instanceName", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setInstanceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("iamUserArn", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("instanceArn", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("registerTime", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setRegisterTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("deregisterTime", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setDeregisterTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("tags", targetDepth)) {
-                    context.nextToken();
-                    instanceInfo.setTags(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("instanceName".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInfo.setInstanceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("iamUserArn".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInfo.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("instanceArn".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInfo.setInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("registerTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInfo.setRegisterTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("deregisterTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInfo.setDeregisterTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("tags".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInfo.setTags(tagsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -83,6 +81,13 @@ public class InstanceInfoJsonUnmarshaller implements Unmarshaller<InstanceInfo,
         return instanceInfo;
     }
 
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static InstanceInfoJsonUnmarshaller instance;
 
     public static InstanceInfoJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class InstanceSummaryJsonUnmarshaller implements Unmarshaller<InstanceSum
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentId", targetDepth)) {
-                    context.nextToken();
-                    instanceSummary.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("instanceId", targetDepth)) {
-                    context.nextToken();
-                    instanceSummary.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    instanceSummary.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    instanceSummary.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lifecycleEvents", targetDepth)) {
-                    context.nextToken();
-                    instanceSummary.setLifecycleEvents(new ListUnmarshaller<LifecycleEvent>(LifecycleEventJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentId".equals(fieldName)) {
+                        context.nextToken();
+                        instanceSummary.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("instanceId".equals(fieldName)) {
+                        context.nextToken();
+                        instanceSummary.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        instanceSummary.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        instanceSummary.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lifecycleEvents".equals(fieldName)) {
+                        context.nextToken();
+                        instanceSummary.setLifecycleEvents(lifecycleEventsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class InstanceSummaryJsonUnmarshaller implements Unmarshaller<InstanceSum
         return instanceSummary;
     }
 
+    private final Unmarshaller<java.util.List<LifecycleEvent>, JsonUnmarshallerContext> lifecycleEventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<LifecycleEvent>>() {
+        @Override
+        protected Unmarshaller<java.util.List<LifecycleEvent>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<LifecycleEvent>(LifecycleEventJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static InstanceSummaryJsonUnmarshaller instance;
 
     public static InstanceSummaryJsonUnmarshaller getInstance() {
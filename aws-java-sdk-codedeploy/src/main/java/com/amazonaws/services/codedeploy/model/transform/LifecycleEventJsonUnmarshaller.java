@@ -47,25 +47,24 @@ public class LifecycleEventJsonUnmarshaller implements Unmarshaller<LifecycleEve
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("lifecycleEventName", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEvent.setLifecycleEventName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("diagnostics", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEvent.setDiagnostics(DiagnosticsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("startTime", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEvent.setStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("endTime", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEvent.setEndTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEvent.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("lifecycleEventName".equals(fieldName)) {
+                        context.nextToken();
+                        lifecycleEvent.setLifecycleEventName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("diagnostics".equals(fieldName)) {
+                        context.nextToken();
+                        lifecycleEvent.setDiagnostics(DiagnosticsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("startTime".equals(fieldName)) {
+                        context.nextToken();
+                        lifecycleEvent.setStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("endTime".equals(fieldName)) {
+                        context.nextToken();
+                        lifecycleEvent.setEndTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        lifecycleEvent.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
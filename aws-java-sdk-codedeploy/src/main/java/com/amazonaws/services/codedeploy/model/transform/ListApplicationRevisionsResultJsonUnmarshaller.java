@@ -47,14 +47,15 @@ public class ListApplicationRevisionsResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("revisions", targetDepth)) {
-                    context.nextToken();
-                    listApplicationRevisionsResult.setRevisions(new ListUnmarshaller<RevisionLocation>(RevisionLocationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listApplicationRevisionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("revisions".equals(fieldName)) {
+                        context.nextToken();
+                        listApplicationRevisionsResult.setRevisions(revisionsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listApplicationRevisionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListApplicationRevisionsResultJsonUnmarshaller implements Unmarshal
         return listApplicationRevisionsResult;
     }
 
+    private final Unmarshaller<java.util.List<RevisionLocation>, JsonUnmarshallerContext> revisionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RevisionLocation>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RevisionLocation>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RevisionLocation>(RevisionLocationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListApplicationRevisionsResultJsonUnmarshaller instance;
 
     public static ListApplicationRevisionsResultJsonUnmarshaller getInstance() {
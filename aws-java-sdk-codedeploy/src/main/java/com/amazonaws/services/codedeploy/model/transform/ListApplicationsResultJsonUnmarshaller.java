@@ -47,13 +47,15 @@ public class ListApplicationsResultJsonUnmarshaller implements Unmarshaller<List
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applications", targetDepth)) {
-                    context.nextToken();
-                    listApplicationsResult.setApplications(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listApplicationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("applications".equals(fieldName)) {
+                        context.nextToken();
+                        listApplicationsResult.setApplications(applicationsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listApplicationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListApplicationsResultJsonUnmarshaller implements Unmarshaller<List
         return listApplicationsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> applicationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListApplicationsResultJsonUnmarshaller instance;
 
     public static ListApplicationsResultJsonUnmarshaller getInstance() {
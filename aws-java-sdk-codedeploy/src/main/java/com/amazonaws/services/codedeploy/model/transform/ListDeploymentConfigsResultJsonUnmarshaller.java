@@ -47,14 +47,15 @@ public class ListDeploymentConfigsResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deploymentConfigsList", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentConfigsResult.setDeploymentConfigsList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentConfigsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deploymentConfigsList".equals(fieldName)) {
+                        context.nextToken();
+                        listDeploymentConfigsResult.setDeploymentConfigsList(deploymentConfigsListUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listDeploymentConfigsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListDeploymentConfigsResultJsonUnmarshaller implements Unmarshaller
         return listDeploymentConfigsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> deploymentConfigsListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListDeploymentConfigsResultJsonUnmarshaller instance;
 
     public static ListDeploymentConfigsResultJsonUnmarshaller getInstance() {
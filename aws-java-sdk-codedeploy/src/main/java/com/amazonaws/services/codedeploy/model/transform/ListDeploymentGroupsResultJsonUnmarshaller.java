@@ -47,17 +47,18 @@ public class ListDeploymentGroupsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("applicationName", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentGroupsResult.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentGroups", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentGroupsResult.setDeploymentGroups(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentGroupsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("applicationName".equals(fieldName)) {
+                        context.nextToken();
+                        listDeploymentGroupsResult.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deploymentGroups".equals(fieldName)) {
+                        context.nextToken();
+                        listDeploymentGroupsResult.setDeploymentGroups(deploymentGroupsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listDeploymentGroupsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ListDeploymentGroupsResultJsonUnmarshaller implements Unmarshaller<
         return listDeploymentGroupsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> deploymentGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListDeploymentGroupsResultJsonUnmarshaller instance;
 
     public static ListDeploymentGroupsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListDeploymentInstancesResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instancesList", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentInstancesResult.setInstancesList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentInstancesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("instancesList".equals(fieldName)) {
+                        context.nextToken();
+                        listDeploymentInstancesResult.setInstancesList(instancesListUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listDeploymentInstancesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListDeploymentInstancesResultJsonUnmarshaller implements Unmarshall
         return listDeploymentInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> instancesListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListDeploymentInstancesResultJsonUnmarshaller instance;
 
     public static ListDeploymentInstancesResultJsonUnmarshaller getInstance() {
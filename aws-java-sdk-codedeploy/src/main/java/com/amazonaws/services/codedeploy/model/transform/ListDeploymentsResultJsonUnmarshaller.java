@@ -47,13 +47,15 @@ public class ListDeploymentsResultJsonUnmarshaller implements Unmarshaller<ListD
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deployments", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentsResult.setDeployments(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listDeploymentsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deployments".equals(fieldName)) {
+                        context.nextToken();
+                        listDeploymentsResult.setDeployments(deploymentsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listDeploymentsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListDeploymentsResultJsonUnmarshaller implements Unmarshaller<ListD
         return listDeploymentsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> deploymentsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListDeploymentsResultJsonUnmarshaller instance;
 
     public static ListDeploymentsResultJsonUnmarshaller getInstance() {
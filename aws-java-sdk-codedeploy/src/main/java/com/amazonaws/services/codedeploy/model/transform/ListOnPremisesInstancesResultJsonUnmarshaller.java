@@ -47,13 +47,15 @@ public class ListOnPremisesInstancesResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("instanceNames", targetDepth)) {
-                    context.nextToken();
-                    listOnPremisesInstancesResult.setInstanceNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listOnPremisesInstancesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("instanceNames".equals(fieldName)) {
+                        context.nextToken();
+                        listOnPremisesInstancesResult.setInstanceNames(instanceNamesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listOnPremisesInstancesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListOnPremisesInstancesResultJsonUnmarshaller implements Unmarshall
         return listOnPremisesInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> instanceNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListOnPremisesInstancesResultJsonUnmarshaller instance;
 
     public static ListOnPremisesInstancesResultJsonUnmarshaller getInstance() {
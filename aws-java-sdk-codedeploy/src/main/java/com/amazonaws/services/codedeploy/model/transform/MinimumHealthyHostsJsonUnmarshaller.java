@@ -47,13 +47,15 @@ public class MinimumHealthyHostsJsonUnmarshaller implements Unmarshaller<Minimum
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    minimumHealthyHosts.setValue(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    minimumHealthyHosts.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("value".equals(fieldName)) {
+                        context.nextToken();
+                        minimumHealthyHosts.setValue(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        minimumHealthyHosts.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
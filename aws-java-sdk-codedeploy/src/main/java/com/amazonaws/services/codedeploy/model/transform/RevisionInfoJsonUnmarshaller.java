@@ -47,13 +47,15 @@ public class RevisionInfoJsonUnmarshaller implements Unmarshaller<RevisionInfo,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("revisionLocation", targetDepth)) {
-                    context.nextToken();
-                    revisionInfo.setRevisionLocation(RevisionLocationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("genericRevisionInfo", targetDepth)) {
-                    context.nextToken();
-                    revisionInfo.setGenericRevisionInfo(GenericRevisionInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("revisionLocation".equals(fieldName)) {
+                        context.nextToken();
+                        revisionInfo.setRevisionLocation(RevisionLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("genericRevisionInfo".equals(fieldName)) {
+                        context.nextToken();
+                        revisionInfo.setGenericRevisionInfo(GenericRevisionInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
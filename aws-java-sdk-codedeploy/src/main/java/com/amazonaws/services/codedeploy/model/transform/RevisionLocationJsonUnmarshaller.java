@@ -47,17 +47,18 @@ public class RevisionLocationJsonUnmarshaller implements Unmarshaller<RevisionLo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("revisionType", targetDepth)) {
-                    context.nextToken();
-                    revisionLocation.setRevisionType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("s3Location", targetDepth)) {
-                    context.nextToken();
-                    revisionLocation.setS3Location(S3LocationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("gitHubLocation", targetDepth)) {
-                    context.nextToken();
-                    revisionLocation.setGitHubLocation(GitHubLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("revisionType".equals(fieldName)) {
+                        context.nextToken();
+                        revisionLocation.setRevisionType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("s3Location".equals(fieldName)) {
+                        context.nextToken();
+                        revisionLocation.setS3Location(S3LocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("gitHubLocation".equals(fieldName)) {
+                        context.nextToken();
+                        revisionLocation.setGitHubLocation(GitHubLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class RollbackInfoJsonUnmarshaller implements Unmarshaller<RollbackInfo,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("rollbackDeploymentId", targetDepth)) {
-                    context.nextToken();
-                    rollbackInfo.setRollbackDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rollbackTriggeringDeploymentId", targetDepth)) {
-                    context.nextToken();
-                    rollbackInfo.setRollbackTriggeringDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rollbackMessage", targetDepth)) {
-                    context.nextToken();
-                    rollbackInfo.setRollbackMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("rollbackDeploymentId".equals(fieldName)) {
+                        context.nextToken();
+                        rollbackInfo.setRollbackDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("rollbackTriggeringDeploymentId".equals(fieldName)) {
+                        context.nextToken();
+                        rollbackInfo.setRollbackTriggeringDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("rollbackMessage".equals(fieldName)) {
+                        context.nextToken();
+                        rollbackInfo.setRollbackMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
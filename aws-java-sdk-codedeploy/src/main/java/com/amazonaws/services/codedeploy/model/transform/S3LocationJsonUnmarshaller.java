@@ -47,25 +47,24 @@ public class S3LocationJsonUnmarshaller implements Unmarshaller<S3Location, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("bucket", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setBucket(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("bundleType", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setBundleType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("eTag", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setETag(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("bucket".equals(fieldName)) {
+                        context.nextToken();
+                        s3Location.setBucket(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("key".equals(fieldName)) {
+                        context.nextToken();
+                        s3Location.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("bundleType".equals(fieldName)) {
+                        context.nextToken();
+                        s3Location.setBundleType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("version".equals(fieldName)) {
+                        context.nextToken();
+                        s3Location.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("eTag".equals(fieldName)) {
+                        context.nextToken();
+                        s3Location.setETag(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class StopDeploymentResultJsonUnmarshaller implements Unmarshaller<StopDe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    stopDeploymentResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("statusMessage", targetDepth)) {
-                    context.nextToken();
-                    stopDeploymentResult.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        stopDeploymentResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("statusMessage".equals(fieldName)) {
+                        context.nextToken();
+                        stopDeploymentResult.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class TagFilterJsonUnmarshaller implements Unmarshaller<TagFilter, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    tagFilter.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    tagFilter.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    tagFilter.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        tagFilter.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        tagFilter.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        tagFilter.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class TimeRangeJsonUnmarshaller implements Unmarshaller<TimeRange, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("start", targetDepth)) {
-                    context.nextToken();
-                    timeRange.setStart(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("end", targetDepth)) {
-                    context.nextToken();
-                    timeRange.setEnd(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("start".equals(fieldName)) {
+                        context.nextToken();
+                        timeRange.setStart(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("end".equals(fieldName)) {
+                        context.nextToken();
+                        timeRange.setEnd(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class TriggerConfigJsonUnmarshaller implements Unmarshaller<TriggerConfig
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("triggerName", targetDepth)) {
-                    context.nextToken();
-                    triggerConfig.setTriggerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("triggerTargetArn", targetDepth)) {
-                    context.nextToken();
-                    triggerConfig.setTriggerTargetArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("triggerEvents", targetDepth)) {
-                    context.nextToken();
-                    triggerConfig.setTriggerEvents(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("triggerName".equals(fieldName)) {
+                        context.nextToken();
+                        triggerConfig.setTriggerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("triggerTargetArn".equals(fieldName)) {
+                        context.nextToken();
+                        triggerConfig.setTriggerTargetArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("triggerEvents".equals(fieldName)) {
+                        context.nextToken();
+                        triggerConfig.setTriggerEvents(triggerEventsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class TriggerConfigJsonUnmarshaller implements Unmarshaller<TriggerConfig
         return triggerConfig;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> triggerEventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static TriggerConfigJsonUnmarshaller instance;
 
     public static TriggerConfigJsonUnmarshaller getInstance() {
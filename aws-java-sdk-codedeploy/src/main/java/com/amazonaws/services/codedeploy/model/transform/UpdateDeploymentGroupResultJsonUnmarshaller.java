@@ -47,10 +47,12 @@ public class UpdateDeploymentGroupResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("hooksNotCleanedUp", targetDepth)) {
-                    context.nextToken();
-                    updateDeploymentGroupResult.setHooksNotCleanedUp(new ListUnmarshaller<AutoScalingGroup>(AutoScalingGroupJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("hooksNotCleanedUp".equals(fieldName)) {
+                        context.nextToken();
+                        updateDeploymentGroupResult.setHooksNotCleanedUp(hooksNotCleanedUpUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class UpdateDeploymentGroupResultJsonUnmarshaller implements Unmarshaller
         return updateDeploymentGroupResult;
     }
 
+    private final Unmarshaller<java.util.List<AutoScalingGroup>, JsonUnmarshallerContext> hooksNotCleanedUpUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AutoScalingGroup>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AutoScalingGroup>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AutoScalingGroup>(AutoScalingGroupJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static UpdateDeploymentGroupResultJsonUnmarshaller instance;
 
     public static UpdateDeploymentGroupResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class AWSSessionCredentialsJsonUnmarshaller implements Unmarshaller<AWSSe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("accessKeyId", targetDepth)) {
-                    context.nextToken();
-                    aWSSessionCredentials.setAccessKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("secretAccessKey", targetDepth)) {
-                    context.nextToken();
-                    aWSSessionCredentials.setSecretAccessKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("sessionToken", targetDepth)) {
-                    context.nextToken();
-                    aWSSessionCredentials.setSessionToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("accessKeyId".equals(fieldName)) {
+                        context.nextToken();
+                        aWSSessionCredentials.setAccessKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("secretAccessKey".equals(fieldName)) {
+                        context.nextToken();
+                        aWSSessionCredentials.setSecretAccessKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("sessionToken".equals(fieldName)) {
+                        context.nextToken();
+                        aWSSessionCredentials.setSessionToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,10 +47,12 @@ public class ActionConfigurationJsonUnmarshaller implements Unmarshaller<ActionC
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configuration", targetDepth)) {
-                    context.nextToken();
-                    actionConfiguration.setConfiguration(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("configuration".equals(fieldName)) {
+                        context.nextToken();
+                        actionConfiguration.setConfiguration(configurationUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class ActionConfigurationJsonUnmarshaller implements Unmarshaller<ActionC
         return actionConfiguration;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> configurationUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ActionConfigurationJsonUnmarshaller instance;
 
     public static ActionConfigurationJsonUnmarshaller getInstance() {
@@ -47,33 +47,30 @@ public class ActionConfigurationPropertyJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("required", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setKey(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("secret", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setSecret(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("queryable", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setQueryable(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    actionConfigurationProperty.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        actionConfigurationProperty.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("required".equals(fieldName)) {
+                        context.nextToken();
+                        actionConfigurationProperty.setRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("key".equals(fieldName)) {
+                        context.nextToken();
+                        actionConfigurationProperty.setKey(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("secret".equals(fieldName)) {
+                        context.nextToken();
+                        actionConfigurationProperty.setSecret(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("queryable".equals(fieldName)) {
+                        context.nextToken();
+                        actionConfigurationProperty.setQueryable(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        actionConfigurationProperty.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        actionConfigurationProperty.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,35 +47,30 @@ public class ActionDeclarationJsonUnmarshaller implements Unmarshaller<ActionDec
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("actionTypeId", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration.setActionTypeId(ActionTypeIdJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("runOrder", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration.setRunOrder(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("configuration", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration.setConfiguration(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("outputArtifacts", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration
-                            .setOutputArtifacts(new ListUnmarshaller<OutputArtifact>(OutputArtifactJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("inputArtifacts", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration.setInputArtifacts(new ListUnmarshaller<InputArtifact>(InputArtifactJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    actionDeclaration.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        actionDeclaration.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("actionTypeId".equals(fieldName)) {
+                        context.nextToken();
+                        actionDeclaration.setActionTypeId(ActionTypeIdJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("runOrder".equals(fieldName)) {
+                        context.nextToken();
+                        actionDeclaration.setRunOrder(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("configuration".equals(fieldName)) {
+                        context.nextToken();
+                        actionDeclaration.setConfiguration(configurationUnmarshaller.unmarshall(context));
+                    } else if ("outputArtifacts".equals(fieldName)) {
+                        context.nextToken();
+                        actionDeclaration.setOutputArtifacts(outputArtifactsUnmarshaller.unmarshall(context));
+                    } else if ("inputArtifacts".equals(fieldName)) {
+                        context.nextToken();
+                        actionDeclaration.setInputArtifacts(inputArtifactsUnmarshaller.unmarshall(context));
+                    } else if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        actionDeclaration.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -89,6 +84,25 @@ public class ActionDeclarationJsonUnmarshaller implements Unmarshaller<ActionDec
         return actionDeclaration;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> configurationUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<OutputArtifact>, JsonUnmarshallerContext> outputArtifactsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<OutputArtifact>>() {
+        @Override
+        protected Unmarshaller<java.util.List<OutputArtifact>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<OutputArtifact>(OutputArtifactJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<InputArtifact>, JsonUnmarshallerContext> inputArtifactsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<InputArtifact>>() {
+        @Override
+        protected Unmarshaller<java.util.List<InputArtifact>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<InputArtifact>(InputArtifactJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ActionDeclarationJsonUnmarshaller instance;
 
     public static ActionDeclarationJsonUnmarshaller getInstance() {
@@ -47,41 +47,36 @@ public class ActionExecutionJsonUnmarshaller implements Unmarshaller<ActionExecu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("summary", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setSummary(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStatusChange", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setLastStatusChange(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("token", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastUpdatedBy", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setLastUpdatedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("externalExecutionId", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setExternalExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("externalExecutionUrl", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setExternalExecutionUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("percentComplete", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setPercentComplete(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("errorDetails", targetDepth)) {
-                    context.nextToken();
-                    actionExecution.setErrorDetails(ErrorDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        actionExecution.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("summary".equals(fieldName)) {
+                        context.nextToken();
+                        actionExecution.setSummary(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastStatusChange".equals(fieldName)) {
+                        context.nextToken();
+                        actionExecution.setLastStatusChange(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("token".equals(fieldName)) {
+                        context.nextToken();
+                        actionExecution.setToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastUpdatedBy".equals(fieldName)) {
+                        context.nextToken();
+                        actionExecution.setLastUpdatedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("externalExecutionId".equals(fieldName)) {
+                        context.nextToken();
+                        actionExecution.setExternalExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("externalExecutionUrl".equals(fieldName)) {
+                        context.nextToken();
+                        actionExecution.setExternalExecutionUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("percentComplete".equals(fieldName)) {
+                        context.nextToken();
+                        actionExecution.setPercentComplete(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("errorDetails".equals(fieldName)) {
+                        context.nextToken();
+                        actionExecution.setErrorDetails(ErrorDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class ActionRevisionJsonUnmarshaller implements Unmarshaller<ActionRevisi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("revisionId", targetDepth)) {
-                    context.nextToken();
-                    actionRevision.setRevisionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionChangeId", targetDepth)) {
-                    context.nextToken();
-                    actionRevision.setRevisionChangeId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    actionRevision.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("revisionId".equals(fieldName)) {
+                        context.nextToken();
+                        actionRevision.setRevisionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revisionChangeId".equals(fieldName)) {
+                        context.nextToken();
+                        actionRevision.setRevisionChangeId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        actionRevision.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
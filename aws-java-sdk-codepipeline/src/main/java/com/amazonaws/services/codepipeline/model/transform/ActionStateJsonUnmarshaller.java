@@ -47,25 +47,24 @@ public class ActionStateJsonUnmarshaller implements Unmarshaller<ActionState, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("actionName", targetDepth)) {
-                    context.nextToken();
-                    actionState.setActionName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("currentRevision", targetDepth)) {
-                    context.nextToken();
-                    actionState.setCurrentRevision(ActionRevisionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("latestExecution", targetDepth)) {
-                    context.nextToken();
-                    actionState.setLatestExecution(ActionExecutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("entityUrl", targetDepth)) {
-                    context.nextToken();
-                    actionState.setEntityUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionUrl", targetDepth)) {
-                    context.nextToken();
-                    actionState.setRevisionUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("actionName".equals(fieldName)) {
+                        context.nextToken();
+                        actionState.setActionName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("currentRevision".equals(fieldName)) {
+                        context.nextToken();
+                        actionState.setCurrentRevision(ActionRevisionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("latestExecution".equals(fieldName)) {
+                        context.nextToken();
+                        actionState.setLatestExecution(ActionExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("entityUrl".equals(fieldName)) {
+                        context.nextToken();
+                        actionState.setEntityUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revisionUrl".equals(fieldName)) {
+                        context.nextToken();
+                        actionState.setRevisionUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class ActionTypeIdJsonUnmarshaller implements Unmarshaller<ActionTypeId,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("category", targetDepth)) {
-                    context.nextToken();
-                    actionTypeId.setCategory(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("owner", targetDepth)) {
-                    context.nextToken();
-                    actionTypeId.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("provider", targetDepth)) {
-                    context.nextToken();
-                    actionTypeId.setProvider(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    actionTypeId.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("category".equals(fieldName)) {
+                        context.nextToken();
+                        actionTypeId.setCategory(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("owner".equals(fieldName)) {
+                        context.nextToken();
+                        actionTypeId.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("provider".equals(fieldName)) {
+                        context.nextToken();
+                        actionTypeId.setProvider(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("version".equals(fieldName)) {
+                        context.nextToken();
+                        actionTypeId.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,26 +47,24 @@ public class ActionTypeJsonUnmarshaller implements Unmarshaller<ActionType, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    actionType.setId(ActionTypeIdJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("settings", targetDepth)) {
-                    context.nextToken();
-                    actionType.setSettings(ActionTypeSettingsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("actionConfigurationProperties", targetDepth)) {
-                    context.nextToken();
-                    actionType.setActionConfigurationProperties(new ListUnmarshaller<ActionConfigurationProperty>(ActionConfigurationPropertyJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("inputArtifactDetails", targetDepth)) {
-                    context.nextToken();
-                    actionType.setInputArtifactDetails(ArtifactDetailsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("outputArtifactDetails", targetDepth)) {
-                    context.nextToken();
-                    actionType.setOutputArtifactDetails(ArtifactDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        actionType.setId(ActionTypeIdJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("settings".equals(fieldName)) {
+                        context.nextToken();
+                        actionType.setSettings(ActionTypeSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("actionConfigurationProperties".equals(fieldName)) {
+                        context.nextToken();
+                        actionType.setActionConfigurationProperties(actionConfigurationPropertiesUnmarshaller.unmarshall(context));
+                    } else if ("inputArtifactDetails".equals(fieldName)) {
+                        context.nextToken();
+                        actionType.setInputArtifactDetails(ArtifactDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("outputArtifactDetails".equals(fieldName)) {
+                        context.nextToken();
+                        actionType.setOutputArtifactDetails(ArtifactDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -80,6 +78,13 @@ public class ActionTypeJsonUnmarshaller implements Unmarshaller<ActionType, Json
         return actionType;
     }
 
+    private final Unmarshaller<java.util.List<ActionConfigurationProperty>, JsonUnmarshallerContext> actionConfigurationPropertiesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ActionConfigurationProperty>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ActionConfigurationProperty>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ActionConfigurationProperty>(ActionConfigurationPropertyJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ActionTypeJsonUnmarshaller instance;
 
     public static ActionTypeJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class ActionTypeSettingsJsonUnmarshaller implements Unmarshaller<ActionTy
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("thirdPartyConfigurationUrl", targetDepth)) {
-                    context.nextToken();
-                    actionTypeSettings.setThirdPartyConfigurationUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("entityUrlTemplate", targetDepth)) {
-                    context.nextToken();
-                    actionTypeSettings.setEntityUrlTemplate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("executionUrlTemplate", targetDepth)) {
-                    context.nextToken();
-                    actionTypeSettings.setExecutionUrlTemplate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionUrlTemplate", targetDepth)) {
-                    context.nextToken();
-                    actionTypeSettings.setRevisionUrlTemplate(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("thirdPartyConfigurationUrl".equals(fieldName)) {
+                        context.nextToken();
+                        actionTypeSettings.setThirdPartyConfigurationUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("entityUrlTemplate".equals(fieldName)) {
+                        context.nextToken();
+                        actionTypeSettings.setEntityUrlTemplate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("executionUrlTemplate".equals(fieldName)) {
+                        context.nextToken();
+                        actionTypeSettings.setExecutionUrlTemplate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revisionUrlTemplate".equals(fieldName)) {
+                        context.nextToken();
+                        actionTypeSettings.setRevisionUrlTemplate(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ApprovalResultJsonUnmarshaller implements Unmarshaller<ApprovalResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("summary", targetDepth)) {
-                    context.nextToken();
-                    approvalResult.setSummary(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    approvalResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("summary".equals(fieldName)) {
+                        context.nextToken();
+                        approvalResult.setSummary(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        approvalResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ArtifactDetailsJsonUnmarshaller implements Unmarshaller<ArtifactDet
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("minimumCount", targetDepth)) {
-                    context.nextToken();
-                    artifactDetails.setMinimumCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("maximumCount", targetDepth)) {
-                    context.nextToken();
-                    artifactDetails.setMaximumCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("minimumCount".equals(fieldName)) {
+                        context.nextToken();
+                        artifactDetails.setMinimumCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("maximumCount".equals(fieldName)) {
+                        context.nextToken();
+                        artifactDetails.setMaximumCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
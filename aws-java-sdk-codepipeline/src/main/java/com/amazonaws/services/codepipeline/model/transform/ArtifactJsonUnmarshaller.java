@@ -47,17 +47,18 @@ public class ArtifactJsonUnmarshaller implements Unmarshaller<Artifact, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    artifact.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revision", targetDepth)) {
-                    context.nextToken();
-                    artifact.setRevision(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    artifact.setLocation(ArtifactLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        artifact.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revision".equals(fieldName)) {
+                        context.nextToken();
+                        artifact.setRevision(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        artifact.setLocation(ArtifactLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ArtifactLocationJsonUnmarshaller implements Unmarshaller<ArtifactLo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    artifactLocation.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("s3Location", targetDepth)) {
-                    context.nextToken();
-                    artifactLocation.setS3Location(S3ArtifactLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        artifactLocation.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("s3Location".equals(fieldName)) {
+                        context.nextToken();
+                        artifactLocation.setS3Location(S3ArtifactLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
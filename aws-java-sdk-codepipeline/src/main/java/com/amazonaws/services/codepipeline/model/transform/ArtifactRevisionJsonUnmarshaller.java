@@ -47,29 +47,27 @@ public class ArtifactRevisionJsonUnmarshaller implements Unmarshaller<ArtifactRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    artifactRevision.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionId", targetDepth)) {
-                    context.nextToken();
-                    artifactRevision.setRevisionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionChangeIdentifier", targetDepth)) {
-                    context.nextToken();
-                    artifactRevision.setRevisionChangeIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionSummary", targetDepth)) {
-                    context.nextToken();
-                    artifactRevision.setRevisionSummary(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    artifactRevision.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionUrl", targetDepth)) {
-                    context.nextToken();
-                    artifactRevision.setRevisionUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        artifactRevision.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revisionId".equals(fieldName)) {
+                        context.nextToken();
+                        artifactRevision.setRevisionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revisionChangeIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        artifactRevision.setRevisionChangeIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revisionSummary".equals(fieldName)) {
+                        context.nextToken();
+                        artifactRevision.setRevisionSummary(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        artifactRevision.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("revisionUrl".equals(fieldName)) {
+                        context.nextToken();
+                        artifactRevision.setRevisionUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class ArtifactStoreJsonUnmarshaller implements Unmarshaller<ArtifactStore
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    artifactStore.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    artifactStore.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("encryptionKey", targetDepth)) {
-                    context.nextToken();
-                    artifactStore.setEncryptionKey(EncryptionKeyJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        artifactStore.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        artifactStore.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("encryptionKey".equals(fieldName)) {
+                        context.nextToken();
+                        artifactStore.setEncryptionKey(EncryptionKeyJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
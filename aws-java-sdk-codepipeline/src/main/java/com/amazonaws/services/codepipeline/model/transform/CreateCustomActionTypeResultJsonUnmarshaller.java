@@ -47,9 +47,12 @@ public class CreateCustomActionTypeResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("actionType", targetDepth)) {
-                    context.nextToken();
-                    createCustomActionTypeResult.setActionType(ActionTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("actionType".equals(fieldName)) {
+                        context.nextToken();
+                        createCustomActionTypeResult.setActionType(ActionTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
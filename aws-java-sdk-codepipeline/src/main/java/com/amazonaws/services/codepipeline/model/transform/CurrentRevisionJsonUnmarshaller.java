@@ -47,21 +47,21 @@ public class CurrentRevisionJsonUnmarshaller implements Unmarshaller<CurrentRevi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("revision", targetDepth)) {
-                    context.nextToken();
-                    currentRevision.setRevision(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("changeIdentifier", targetDepth)) {
-                    context.nextToken();
-                    currentRevision.setChangeIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    currentRevision.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("revisionSummary", targetDepth)) {
-                    context.nextToken();
-                    currentRevision.setRevisionSummary(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("revision".equals(fieldName)) {
+                        context.nextToken();
+                        currentRevision.setRevision(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("changeIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        currentRevision.setChangeIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        currentRevision.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("revisionSummary".equals(fieldName)) {
+                        context.nextToken();
+                        currentRevision.setRevisionSummary(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
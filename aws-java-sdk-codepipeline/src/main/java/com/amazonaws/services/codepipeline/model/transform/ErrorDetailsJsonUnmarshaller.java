@@ -47,13 +47,15 @@ public class ErrorDetailsJsonUnmarshaller implements Unmarshaller<ErrorDetails,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("code", targetDepth)) {
-                    context.nextToken();
-                    errorDetails.setCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    errorDetails.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("code".equals(fieldName)) {
+                        context.nextToken();
+                        errorDetails.setCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        errorDetails.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
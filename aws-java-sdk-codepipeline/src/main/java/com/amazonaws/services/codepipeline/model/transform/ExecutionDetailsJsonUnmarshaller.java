@@ -47,17 +47,18 @@ public class ExecutionDetailsJsonUnmarshaller implements Unmarshaller<ExecutionD
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("summary", targetDepth)) {
-                    context.nextToken();
-                    executionDetails.setSummary(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("externalExecutionId", targetDepth)) {
-                    context.nextToken();
-                    executionDetails.setExternalExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("percentComplete", targetDepth)) {
-                    context.nextToken();
-                    executionDetails.setPercentComplete(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("summary".equals(fieldName)) {
+                        context.nextToken();
+                        executionDetails.setSummary(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("externalExecutionId".equals(fieldName)) {
+                        context.nextToken();
+                        executionDetails.setExternalExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("percentComplete".equals(fieldName)) {
+                        context.nextToken();
+                        executionDetails.setPercentComplete(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
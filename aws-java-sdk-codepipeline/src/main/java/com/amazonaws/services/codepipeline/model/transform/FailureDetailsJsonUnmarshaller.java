@@ -47,17 +47,18 @@ public class FailureDetailsJsonUnmarshaller implements Unmarshaller<FailureDetai
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    failureDetails.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    failureDetails.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("externalExecutionId", targetDepth)) {
-                    context.nextToken();
-                    failureDetails.setExternalExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        failureDetails.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        failureDetails.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("externalExecutionId".equals(fieldName)) {
+                        context.nextToken();
+                        failureDetails.setExternalExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetJobDetailsResultJsonUnmarshaller implements Unmarshaller<GetJobD
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("jobDetails", targetDepth)) {
-                    context.nextToken();
-                    getJobDetailsResult.setJobDetails(JobDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("jobDetails".equals(fieldName)) {
+                        context.nextToken();
+                        getJobDetailsResult.setJobDetails(JobDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetPipelineExecutionResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineExecution", targetDepth)) {
-                    context.nextToken();
-                    getPipelineExecutionResult.setPipelineExecution(PipelineExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineExecution".equals(fieldName)) {
+                        context.nextToken();
+                        getPipelineExecutionResult.setPipelineExecution(PipelineExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
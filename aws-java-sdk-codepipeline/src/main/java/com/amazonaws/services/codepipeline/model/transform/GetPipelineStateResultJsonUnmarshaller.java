@@ -47,25 +47,24 @@ public class GetPipelineStateResultJsonUnmarshaller implements Unmarshaller<GetP
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineName", targetDepth)) {
-                    context.nextToken();
-                    getPipelineStateResult.setPipelineName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("pipelineVersion", targetDepth)) {
-                    context.nextToken();
-                    getPipelineStateResult.setPipelineVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("stageStates", targetDepth)) {
-                    context.nextToken();
-                    getPipelineStateResult.setStageStates(new ListUnmarshaller<StageState>(StageStateJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    getPipelineStateResult.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("updated", targetDepth)) {
-                    context.nextToken();
-                    getPipelineStateResult.setUpdated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineName".equals(fieldName)) {
+                        context.nextToken();
+                        getPipelineStateResult.setPipelineName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("pipelineVersion".equals(fieldName)) {
+                        context.nextToken();
+                        getPipelineStateResult.setPipelineVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("stageStates".equals(fieldName)) {
+                        context.nextToken();
+                        getPipelineStateResult.setStageStates(stageStatesUnmarshaller.unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        getPipelineStateResult.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("updated".equals(fieldName)) {
+                        context.nextToken();
+                        getPipelineStateResult.setUpdated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class GetPipelineStateResultJsonUnmarshaller implements Unmarshaller<GetP
         return getPipelineStateResult;
     }
 
+    private final Unmarshaller<java.util.List<StageState>, JsonUnmarshallerContext> stageStatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<StageState>>() {
+        @Override
+        protected Unmarshaller<java.util.List<StageState>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<StageState>(StageStateJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetPipelineStateResultJsonUnmarshaller instance;
 
     public static GetPipelineStateResultJsonUnmarshaller getInstance() {
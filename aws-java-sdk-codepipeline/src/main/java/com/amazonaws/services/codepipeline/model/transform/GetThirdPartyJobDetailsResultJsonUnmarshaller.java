@@ -47,9 +47,12 @@ public class GetThirdPartyJobDetailsResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("jobDetails", targetDepth)) {
-                    context.nextToken();
-                    getThirdPartyJobDetailsResult.setJobDetails(ThirdPartyJobDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("jobDetails".equals(fieldName)) {
+                        context.nextToken();
+                        getThirdPartyJobDetailsResult.setJobDetails(ThirdPartyJobDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
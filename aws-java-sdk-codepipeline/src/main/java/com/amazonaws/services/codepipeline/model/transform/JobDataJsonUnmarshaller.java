@@ -47,37 +47,33 @@ public class JobDataJsonUnmarshaller implements Unmarshaller<JobData, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("actionTypeId", targetDepth)) {
-                    context.nextToken();
-                    jobData.setActionTypeId(ActionTypeIdJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("actionConfiguration", targetDepth)) {
-                    context.nextToken();
-                    jobData.setActionConfiguration(ActionConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("pipelineContext", targetDepth)) {
-                    context.nextToken();
-                    jobData.setPipelineContext(PipelineContextJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("inputArtifacts", targetDepth)) {
-                    context.nextToken();
-                    jobData.setInputArtifacts(new ListUnmarshaller<Artifact>(ArtifactJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("outputArtifacts", targetDepth)) {
-                    context.nextToken();
-                    jobData.setOutputArtifacts(new ListUnmarshaller<Artifact>(ArtifactJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("artifactCredentials", targetDepth)) {
-                    context.nextToken();
-                    jobData.setArtifactCredentials(AWSSessionCredentialsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("continuationToken", targetDepth)) {
-                    context.nextToken();
-                    jobData.setContinuationToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("encryptionKey", targetDepth)) {
-                    context.nextToken();
-                    jobData.setEncryptionKey(EncryptionKeyJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("actionTypeId".equals(fieldName)) {
+                        context.nextToken();
+                        jobData.setActionTypeId(ActionTypeIdJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("actionConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        jobData.setActionConfiguration(ActionConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("pipelineContext".equals(fieldName)) {
+                        context.nextToken();
+                        jobData.setPipelineContext(PipelineContextJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("inputArtifacts".equals(fieldName)) {
+                        context.nextToken();
+                        jobData.setInputArtifacts(inputArtifactsUnmarshaller.unmarshall(context));
+                    } else if ("outputArtifacts".equals(fieldName)) {
+                        context.nextToken();
+                        jobData.setOutputArtifacts(outputArtifactsUnmarshaller.unmarshall(context));
+                    } else if ("artifactCredentials".equals(fieldName)) {
+                        context.nextToken();
+                        jobData.setArtifactCredentials(AWSSessionCredentialsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("continuationToken".equals(fieldName)) {
+                        context.nextToken();
+                        jobData.setContinuationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("encryptionKey".equals(fieldName)) {
+                        context.nextToken();
+                        jobData.setEncryptionKey(EncryptionKeyJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -91,6 +87,19 @@ public class JobDataJsonUnmarshaller implements Unmarshaller<JobData, JsonUnmars
         return jobData;
     }
 
+    private final Unmarshaller<java.util.List<Artifact>, JsonUnmarshallerContext> inputArtifactsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Artifact>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Artifact>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Artifact>(ArtifactJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Artifact>, JsonUnmarshallerContext> outputArtifactsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Artifact>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Artifact>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Artifact>(ArtifactJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static JobDataJsonUnmarshaller instance;
 
     public static JobDataJsonUnmarshaller getInstance() {
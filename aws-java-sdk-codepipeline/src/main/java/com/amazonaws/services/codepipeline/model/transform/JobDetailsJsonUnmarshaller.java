@@ -47,17 +47,18 @@ public class JobDetailsJsonUnmarshaller implements Unmarshaller<JobDetails, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    jobDetails.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("data", targetDepth)) {
-                    context.nextToken();
-                    jobDetails.setData(JobDataJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("accountId", targetDepth)) {
-                    context.nextToken();
-                    jobDetails.setAccountId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        jobDetails.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("data".equals(fieldName)) {
+                        context.nextToken();
+                        jobDetails.setData(JobDataJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("accountId".equals(fieldName)) {
+                        context.nextToken();
+                        jobDetails.setAccountId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
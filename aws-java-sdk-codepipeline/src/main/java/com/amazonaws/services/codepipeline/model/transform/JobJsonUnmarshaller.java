@@ -47,21 +47,21 @@ public class JobJsonUnmarshaller implements Unmarshaller<Job, JsonUnmarshallerCo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    job.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("data", targetDepth)) {
-                    context.nextToken();
-                    job.setData(JobDataJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("nonce", targetDepth)) {
-                    context.nextToken();
-                    job.setNonce(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("accountId", targetDepth)) {
-                    context.nextToken();
-                    job.setAccountId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        job.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("data".equals(fieldName)) {
+                        context.nextToken();
+                        job.setData(JobDataJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("nonce".equals(fieldName)) {
+                        context.nextToken();
+                        job.setNonce(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("accountId".equals(fieldName)) {
+                        context.nextToken();
+                        job.setAccountId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
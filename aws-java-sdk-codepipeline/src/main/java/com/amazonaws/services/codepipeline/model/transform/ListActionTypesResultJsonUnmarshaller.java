@@ -47,13 +47,15 @@ public class ListActionTypesResultJsonUnmarshaller implements Unmarshaller<ListA
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("actionTypes", targetDepth)) {
-                    context.nextToken();
-                    listActionTypesResult.setActionTypes(new ListUnmarshaller<ActionType>(ActionTypeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listActionTypesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("actionTypes".equals(fieldName)) {
+                        context.nextToken();
+                        listActionTypesResult.setActionTypes(actionTypesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listActionTypesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListActionTypesResultJsonUnmarshaller implements Unmarshaller<ListA
         return listActionTypesResult;
     }
 
+    private final Unmarshaller<java.util.List<ActionType>, JsonUnmarshallerContext> actionTypesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ActionType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ActionType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ActionType>(ActionTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListActionTypesResultJsonUnmarshaller instance;
 
     public static ListActionTypesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListPipelinesResultJsonUnmarshaller implements Unmarshaller<ListPip
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelines", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult.setPipelines(new ListUnmarshaller<PipelineSummary>(PipelineSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelines".equals(fieldName)) {
+                        context.nextToken();
+                        listPipelinesResult.setPipelines(pipelinesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listPipelinesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListPipelinesResultJsonUnmarshaller implements Unmarshaller<ListPip
         return listPipelinesResult;
     }
 
+    private final Unmarshaller<java.util.List<PipelineSummary>, JsonUnmarshallerContext> pipelinesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PipelineSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PipelineSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PipelineSummary>(PipelineSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListPipelinesResultJsonUnmarshaller instance;
 
     public static ListPipelinesResultJsonUnmarshaller getInstance() {
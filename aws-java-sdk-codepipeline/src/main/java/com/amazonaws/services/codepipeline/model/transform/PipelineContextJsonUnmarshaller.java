@@ -47,17 +47,18 @@ public class PipelineContextJsonUnmarshaller implements Unmarshaller<PipelineCon
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineName", targetDepth)) {
-                    context.nextToken();
-                    pipelineContext.setPipelineName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stage", targetDepth)) {
-                    context.nextToken();
-                    pipelineContext.setStage(StageContextJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("action", targetDepth)) {
-                    context.nextToken();
-                    pipelineContext.setAction(ActionContextJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineName".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineContext.setPipelineName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stage".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineContext.setStage(StageContextJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("action".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineContext.setAction(ActionContextJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
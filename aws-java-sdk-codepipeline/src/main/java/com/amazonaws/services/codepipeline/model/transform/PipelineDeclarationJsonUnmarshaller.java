@@ -47,25 +47,24 @@ public class PipelineDeclarationJsonUnmarshaller implements Unmarshaller<Pipelin
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    pipelineDeclaration.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    pipelineDeclaration.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("artifactStore", targetDepth)) {
-                    context.nextToken();
-                    pipelineDeclaration.setArtifactStore(ArtifactStoreJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("stages", targetDepth)) {
-                    context.nextToken();
-                    pipelineDeclaration.setStages(new ListUnmarshaller<StageDeclaration>(StageDeclarationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    pipelineDeclaration.setVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineDeclaration.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineDeclaration.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("artifactStore".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineDeclaration.setArtifactStore(ArtifactStoreJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("stages".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineDeclaration.setStages(stagesUnmarshaller.unmarshall(context));
+                    } else if ("version".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineDeclaration.setVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class PipelineDeclarationJsonUnmarshaller implements Unmarshaller<Pipelin
         return pipelineDeclaration;
     }
 
+    private final Unmarshaller<java.util.List<StageDeclaration>, JsonUnmarshallerContext> stagesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<StageDeclaration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<StageDeclaration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<StageDeclaration>(StageDeclarationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PipelineDeclarationJsonUnmarshaller instance;
 
     public static PipelineDeclarationJsonUnmarshaller getInstance() {
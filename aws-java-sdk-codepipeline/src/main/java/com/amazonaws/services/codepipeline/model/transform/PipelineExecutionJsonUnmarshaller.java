@@ -47,26 +47,24 @@ public class PipelineExecutionJsonUnmarshaller implements Unmarshaller<PipelineE
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineName", targetDepth)) {
-                    context.nextToken();
-                    pipelineExecution.setPipelineName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("pipelineVersion", targetDepth)) {
-                    context.nextToken();
-                    pipelineExecution.setPipelineVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("pipelineExecutionId", targetDepth)) {
-                    context.nextToken();
-                    pipelineExecution.setPipelineExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    pipelineExecution.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("artifactRevisions", targetDepth)) {
-                    context.nextToken();
-                    pipelineExecution.setArtifactRevisions(new ListUnmarshaller<ArtifactRevision>(ArtifactRevisionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineName".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineExecution.setPipelineName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("pipelineVersion".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineExecution.setPipelineVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("pipelineExecutionId".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineExecution.setPipelineExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineExecution.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("artifactRevisions".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineExecution.setArtifactRevisions(artifactRevisionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -80,6 +78,13 @@ public class PipelineExecutionJsonUnmarshaller implements Unmarshaller<PipelineE
         return pipelineExecution;
     }
 
+    private final Unmarshaller<java.util.List<ArtifactRevision>, JsonUnmarshallerContext> artifactRevisionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ArtifactRevision>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ArtifactRevision>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ArtifactRevision>(ArtifactRevisionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PipelineExecutionJsonUnmarshaller instance;
 
     public static PipelineExecutionJsonUnmarshaller getInstance() {
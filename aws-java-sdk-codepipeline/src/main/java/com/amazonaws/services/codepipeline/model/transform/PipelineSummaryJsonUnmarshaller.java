@@ -47,21 +47,21 @@ public class PipelineSummaryJsonUnmarshaller implements Unmarshaller<PipelineSum
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    pipelineSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    pipelineSummary.setVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    pipelineSummary.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("updated", targetDepth)) {
-                    context.nextToken();
-                    pipelineSummary.setUpdated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("version".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineSummary.setVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineSummary.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("updated".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineSummary.setUpdated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
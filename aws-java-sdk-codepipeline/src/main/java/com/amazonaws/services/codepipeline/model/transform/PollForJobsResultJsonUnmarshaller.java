@@ -47,9 +47,12 @@ public class PollForJobsResultJsonUnmarshaller implements Unmarshaller<PollForJo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("jobs", targetDepth)) {
-                    context.nextToken();
-                    pollForJobsResult.setJobs(new ListUnmarshaller<Job>(JobJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("jobs".equals(fieldName)) {
+                        context.nextToken();
+                        pollForJobsResult.setJobs(jobsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class PollForJobsResultJsonUnmarshaller implements Unmarshaller<PollForJo
         return pollForJobsResult;
     }
 
+    private final Unmarshaller<java.util.List<Job>, JsonUnmarshallerContext> jobsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Job>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Job>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Job>(JobJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PollForJobsResultJsonUnmarshaller instance;
 
     public static PollForJobsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class PollForThirdPartyJobsResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("jobs", targetDepth)) {
-                    context.nextToken();
-                    pollForThirdPartyJobsResult.setJobs(new ListUnmarshaller<ThirdPartyJob>(ThirdPartyJobJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("jobs".equals(fieldName)) {
+                        context.nextToken();
+                        pollForThirdPartyJobsResult.setJobs(jobsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class PollForThirdPartyJobsResultJsonUnmarshaller implements Unmarshaller
         return pollForThirdPartyJobsResult;
     }
 
+    private final Unmarshaller<java.util.List<ThirdPartyJob>, JsonUnmarshallerContext> jobsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ThirdPartyJob>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ThirdPartyJob>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ThirdPartyJob>(ThirdPartyJobJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PollForThirdPartyJobsResultJsonUnmarshaller instance;
 
     public static PollForThirdPartyJobsResultJsonUnmarshaller getInstance() {
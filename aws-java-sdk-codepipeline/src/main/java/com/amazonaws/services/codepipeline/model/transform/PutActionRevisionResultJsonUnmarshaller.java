@@ -47,13 +47,15 @@ public class PutActionRevisionResultJsonUnmarshaller implements Unmarshaller<Put
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("newRevision", targetDepth)) {
-                    context.nextToken();
-                    putActionRevisionResult.setNewRevision(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("pipelineExecutionId", targetDepth)) {
-                    context.nextToken();
-                    putActionRevisionResult.setPipelineExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("newRevision".equals(fieldName)) {
+                        context.nextToken();
+                        putActionRevisionResult.setNewRevision(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("pipelineExecutionId".equals(fieldName)) {
+                        context.nextToken();
+                        putActionRevisionResult.setPipelineExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
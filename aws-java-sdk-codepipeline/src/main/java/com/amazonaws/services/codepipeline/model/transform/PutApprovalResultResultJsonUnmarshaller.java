@@ -47,9 +47,12 @@ public class PutApprovalResultResultJsonUnmarshaller implements Unmarshaller<Put
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("approvedAt", targetDepth)) {
-                    context.nextToken();
-                    putApprovalResultResult.setApprovedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("approvedAt".equals(fieldName)) {
+                        context.nextToken();
+                        putApprovalResultResult.setApprovedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
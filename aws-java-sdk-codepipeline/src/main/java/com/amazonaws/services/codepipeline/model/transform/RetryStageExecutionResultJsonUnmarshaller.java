@@ -47,9 +47,12 @@ public class RetryStageExecutionResultJsonUnmarshaller implements Unmarshaller<R
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineExecutionId", targetDepth)) {
-                    context.nextToken();
-                    retryStageExecutionResult.setPipelineExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineExecutionId".equals(fieldName)) {
+                        context.nextToken();
+                        retryStageExecutionResult.setPipelineExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
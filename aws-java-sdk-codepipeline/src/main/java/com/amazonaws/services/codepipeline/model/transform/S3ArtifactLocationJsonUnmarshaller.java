@@ -47,13 +47,15 @@ public class S3ArtifactLocationJsonUnmarshaller implements Unmarshaller<S3Artifa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("bucketName", targetDepth)) {
-                    context.nextToken();
-                    s3ArtifactLocation.setBucketName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("objectKey", targetDepth)) {
-                    context.nextToken();
-                    s3ArtifactLocation.setObjectKey(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("bucketName".equals(fieldName)) {
+                        context.nextToken();
+                        s3ArtifactLocation.setBucketName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("objectKey".equals(fieldName)) {
+                        context.nextToken();
+                        s3ArtifactLocation.setObjectKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,18 +47,18 @@ public class StageDeclarationJsonUnmarshaller implements Unmarshaller<StageDecla
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    stageDeclaration.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("blockers", targetDepth)) {
-                    context.nextToken();
-                    stageDeclaration
-                            .setBlockers(new ListUnmarshaller<BlockerDeclaration>(BlockerDeclarationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("actions", targetDepth)) {
-                    context.nextToken();
-                    stageDeclaration.setActions(new ListUnmarshaller<ActionDeclaration>(ActionDeclarationJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        stageDeclaration.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("blockers".equals(fieldName)) {
+                        context.nextToken();
+                        stageDeclaration.setBlockers(blockersUnmarshaller.unmarshall(context));
+                    } else if ("actions".equals(fieldName)) {
+                        context.nextToken();
+                        stageDeclaration.setActions(actionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,19 @@ public class StageDeclarationJsonUnmarshaller implements Unmarshaller<StageDecla
         return stageDeclaration;
     }
 
+    private final Unmarshaller<java.util.List<BlockerDeclaration>, JsonUnmarshallerContext> blockersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<BlockerDeclaration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<BlockerDeclaration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<BlockerDeclaration>(BlockerDeclarationJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ActionDeclaration>, JsonUnmarshallerContext> actionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ActionDeclaration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ActionDeclaration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ActionDeclaration>(ActionDeclarationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static StageDeclarationJsonUnmarshaller instance;
 
     public static StageDeclarationJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class StageExecutionJsonUnmarshaller implements Unmarshaller<StageExecuti
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineExecutionId", targetDepth)) {
-                    context.nextToken();
-                    stageExecution.setPipelineExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    stageExecution.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineExecutionId".equals(fieldName)) {
+                        context.nextToken();
+                        stageExecution.setPipelineExecutionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        stageExecution.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
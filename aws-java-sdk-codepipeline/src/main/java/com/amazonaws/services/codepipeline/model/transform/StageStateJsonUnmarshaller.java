@@ -47,21 +47,21 @@ public class StageStateJsonUnmarshaller implements Unmarshaller<StageState, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("stageName", targetDepth)) {
-                    context.nextToken();
-                    stageState.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("inboundTransitionState", targetDepth)) {
-                    context.nextToken();
-                    stageState.setInboundTransitionState(TransitionStateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("actionStates", targetDepth)) {
-                    context.nextToken();
-                    stageState.setActionStates(new ListUnmarshaller<ActionState>(ActionStateJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("latestExecution", targetDepth)) {
-                    context.nextToken();
-                    stageState.setLatestExecution(StageExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("stageName".equals(fieldName)) {
+                        context.nextToken();
+                        stageState.setStageName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("inboundTransitionState".equals(fieldName)) {
+                        context.nextToken();
+                        stageState.setInboundTransitionState(TransitionStateJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("actionStates".equals(fieldName)) {
+                        context.nextToken();
+                        stageState.setActionStates(actionStatesUnmarshaller.unmarshall(context));
+                    } else if ("latestExecution".equals(fieldName)) {
+                        context.nextToken();
+                        stageState.setLatestExecution(StageExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +75,13 @@ public class StageStateJsonUnmarshaller implements Unmarshaller<StageState, Json
         return stageState;
     }
 
+    private final Unmarshaller<java.util.List<ActionState>, JsonUnmarshallerContext> actionStatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ActionState>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ActionState>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ActionState>(ActionStateJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static StageStateJsonUnmarshaller instance;
 
     public static StageStateJsonUnmarshaller getInstance() {
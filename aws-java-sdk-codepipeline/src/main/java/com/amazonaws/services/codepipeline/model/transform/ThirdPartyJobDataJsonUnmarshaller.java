@@ -47,37 +47,33 @@ public class ThirdPartyJobDataJsonUnmarshaller implements Unmarshaller<ThirdPart
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("actionTypeId", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData.setActionTypeId(ActionTypeIdJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("actionConfiguration", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData.setActionConfiguration(ActionConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("pipelineContext", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData.setPipelineContext(PipelineContextJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("inputArtifacts", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData.setInputArtifacts(new ListUnmarshaller<Artifact>(ArtifactJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("outputArtifacts", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData.setOutputArtifacts(new ListUnmarshaller<Artifact>(ArtifactJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("artifactCredentials", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData.setArtifactCredentials(AWSSessionCredentialsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("continuationToken", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData.setContinuationToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("encryptionKey", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobData.setEncryptionKey(EncryptionKeyJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("actionTypeId".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobData.setActionTypeId(ActionTypeIdJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("actionConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobData.setActionConfiguration(ActionConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("pipelineContext".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobData.setPipelineContext(PipelineContextJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("inputArtifacts".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobData.setInputArtifacts(inputArtifactsUnmarshaller.unmarshall(context));
+                    } else if ("outputArtifacts".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobData.setOutputArtifacts(outputArtifactsUnmarshaller.unmarshall(context));
+                    } else if ("artifactCredentials".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobData.setArtifactCredentials(AWSSessionCredentialsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("continuationToken".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobData.setContinuationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("encryptionKey".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobData.setEncryptionKey(EncryptionKeyJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -91,6 +87,19 @@ public class ThirdPartyJobDataJsonUnmarshaller implements Unmarshaller<ThirdPart
         return thirdPartyJobData;
     }
 
+    private final Unmarshaller<java.util.List<Artifact>, JsonUnmarshallerContext> inputArtifactsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Artifact>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Artifact>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Artifact>(ArtifactJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Artifact>, JsonUnmarshallerContext> outputArtifactsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Artifact>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Artifact>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Artifact>(ArtifactJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ThirdPartyJobDataJsonUnmarshaller instance;
 
     public static ThirdPartyJobDataJsonUnmarshaller getInstance() {
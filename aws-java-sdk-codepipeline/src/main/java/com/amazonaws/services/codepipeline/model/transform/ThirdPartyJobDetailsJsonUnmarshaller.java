@@ -47,17 +47,18 @@ public class ThirdPartyJobDetailsJsonUnmarshaller implements Unmarshaller<ThirdP
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobDetails.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("data", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobDetails.setData(ThirdPartyJobDataJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("nonce", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJobDetails.setNonce(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobDetails.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("data".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobDetails.setData(ThirdPartyJobDataJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("nonce".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJobDetails.setNonce(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ThirdPartyJobJsonUnmarshaller implements Unmarshaller<ThirdPartyJob
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clientId", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJob.setClientId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("jobId", targetDepth)) {
-                    context.nextToken();
-                    thirdPartyJob.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("clientId".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJob.setClientId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("jobId".equals(fieldName)) {
+                        context.nextToken();
+                        thirdPartyJob.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
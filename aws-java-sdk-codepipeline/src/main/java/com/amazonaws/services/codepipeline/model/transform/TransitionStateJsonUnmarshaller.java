@@ -47,21 +47,21 @@ public class TransitionStateJsonUnmarshaller implements Unmarshaller<TransitionS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("enabled", targetDepth)) {
-                    context.nextToken();
-                    transitionState.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("lastChangedBy", targetDepth)) {
-                    context.nextToken();
-                    transitionState.setLastChangedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastChangedAt", targetDepth)) {
-                    context.nextToken();
-                    transitionState.setLastChangedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("disabledReason", targetDepth)) {
-                    context.nextToken();
-                    transitionState.setDisabledReason(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("enabled".equals(fieldName)) {
+                        context.nextToken();
+                        transitionState.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("lastChangedBy".equals(fieldName)) {
+                        context.nextToken();
+                        transitionState.setLastChangedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastChangedAt".equals(fieldName)) {
+                        context.nextToken();
+                        transitionState.setLastChangedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("disabledReason".equals(fieldName)) {
+                        context.nextToken();
+                        transitionState.setDisabledReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class CognitoIdentityProviderJsonUnmarshaller implements Unmarshaller<Cog
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ProviderName", targetDepth)) {
-                    context.nextToken();
-                    cognitoIdentityProvider.setProviderName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClientId", targetDepth)) {
-                    context.nextToken();
-                    cognitoIdentityProvider.setClientId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ProviderName".equals(fieldName)) {
+                        context.nextToken();
+                        cognitoIdentityProvider.setProviderName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ClientId".equals(fieldName)) {
+                        context.nextToken();
+                        cognitoIdentityProvider.setClientId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,40 +47,33 @@ public class CreateIdentityPoolResultJsonUnmarshaller implements Unmarshaller<Cr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IdentityPoolName", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setIdentityPoolName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowUnauthenticatedIdentities", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setAllowUnauthenticatedIdentities(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("SupportedLoginProviders", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setSupportedLoginProviders(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("DeveloperProviderName", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setDeveloperProviderName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OpenIdConnectProviderARNs", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setOpenIdConnectProviderARNs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CognitoIdentityProviders", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setCognitoIdentityProviders(new ListUnmarshaller<CognitoIdentityProvider>(CognitoIdentityProviderJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SamlProviderARNs", targetDepth)) {
-                    context.nextToken();
-                    createIdentityPoolResult.setSamlProviderARNs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        createIdentityPoolResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IdentityPoolName".equals(fieldName)) {
+                        context.nextToken();
+                        createIdentityPoolResult.setIdentityPoolName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AllowUnauthenticatedIdentities".equals(fieldName)) {
+                        context.nextToken();
+                        createIdentityPoolResult.setAllowUnauthenticatedIdentities(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("SupportedLoginProviders".equals(fieldName)) {
+                        context.nextToken();
+                        createIdentityPoolResult.setSupportedLoginProviders(supportedLoginProvidersUnmarshaller.unmarshall(context));
+                    } else if ("DeveloperProviderName".equals(fieldName)) {
+                        context.nextToken();
+                        createIdentityPoolResult.setDeveloperProviderName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OpenIdConnectProviderARNs".equals(fieldName)) {
+                        context.nextToken();
+                        createIdentityPoolResult.setOpenIdConnectProviderARNs(openIdConnectProviderARNsUnmarshaller.unmarshall(context));
+                    } else if ("CognitoIdentityProviders".equals(fieldName)) {
+                        context.nextToken();
+                        createIdentityPoolResult.setCognitoIdentityProviders(cognitoIdentityProvidersUnmarshaller.unmarshall(context));
+                    } else if ("SamlProviderARNs".equals(fieldName)) {
+                        context.nextToken();
+                        createIdentityPoolResult.setSamlProviderARNs(samlProviderARNsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -94,6 +87,31 @@ public class CreateIdentityPoolResultJsonUnmarshaller implements Unmarshaller<Cr
         return createIdentityPoolResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> supportedLoginProvidersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> openIdConnectProviderARNsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<CognitoIdentityProvider>, JsonUnmarshallerContext> cognitoIdentityProvidersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CognitoIdentityProvider>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CognitoIdentityProvider>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CognitoIdentityProvider>(CognitoIdentityProviderJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> samlProviderARNsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CreateIdentityPoolResultJsonUnmarshaller instance;
 
     public static CreateIdentityPoolResultJsonUnmarshaller getInstance() {
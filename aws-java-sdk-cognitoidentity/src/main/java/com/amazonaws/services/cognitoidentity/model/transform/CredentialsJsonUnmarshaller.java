@@ -47,21 +47,21 @@ public class CredentialsJsonUnmarshaller implements Unmarshaller<Credentials, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccessKeyId", targetDepth)) {
-                    context.nextToken();
-                    credentials.setAccessKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecretKey", targetDepth)) {
-                    context.nextToken();
-                    credentials.setSecretKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SessionToken", targetDepth)) {
-                    context.nextToken();
-                    credentials.setSessionToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Expiration", targetDepth)) {
-                    context.nextToken();
-                    credentials.setExpiration(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AccessKeyId".equals(fieldName)) {
+                        context.nextToken();
+                        credentials.setAccessKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SecretKey".equals(fieldName)) {
+                        context.nextToken();
+                        credentials.setSecretKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SessionToken".equals(fieldName)) {
+                        context.nextToken();
+                        credentials.setSessionToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Expiration".equals(fieldName)) {
+                        context.nextToken();
+                        credentials.setExpiration(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
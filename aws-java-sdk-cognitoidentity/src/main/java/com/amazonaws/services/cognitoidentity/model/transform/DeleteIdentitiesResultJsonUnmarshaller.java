@@ -47,10 +47,12 @@ public class DeleteIdentitiesResultJsonUnmarshaller implements Unmarshaller<Dele
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UnprocessedIdentityIds", targetDepth)) {
-                    context.nextToken();
-                    deleteIdentitiesResult.setUnprocessedIdentityIds(new ListUnmarshaller<UnprocessedIdentityId>(UnprocessedIdentityIdJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UnprocessedIdentityIds".equals(fieldName)) {
+                        context.nextToken();
+                        deleteIdentitiesResult.setUnprocessedIdentityIds(unprocessedIdentityIdsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DeleteIdentitiesResultJsonUnmarshaller implements Unmarshaller<Dele
         return deleteIdentitiesResult;
     }
 
+    private final Unmarshaller<java.util.List<UnprocessedIdentityId>, JsonUnmarshallerContext> unprocessedIdentityIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<UnprocessedIdentityId>>() {
+        @Override
+        protected Unmarshaller<java.util.List<UnprocessedIdentityId>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<UnprocessedIdentityId>(UnprocessedIdentityIdJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DeleteIdentitiesResultJsonUnmarshaller instance;
 
     public static DeleteIdentitiesResultJsonUnmarshaller getInstance() {
@@ -47,40 +47,33 @@ public class DescribeIdentityPoolResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityPoolResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IdentityPoolName", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityPoolResult.setIdentityPoolName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowUnauthenticatedIdentities", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityPoolResult.setAllowUnauthenticatedIdentities(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("SupportedLoginProviders", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityPoolResult.setSupportedLoginProviders(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("DeveloperProviderName", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityPoolResult.setDeveloperProviderName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OpenIdConnectProviderARNs", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityPoolResult.setOpenIdConnectProviderARNs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CognitoIdentityProviders", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityPoolResult.setCognitoIdentityProviders(new ListUnmarshaller<CognitoIdentityProvider>(
-                            CognitoIdentityProviderJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SamlProviderARNs", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityPoolResult.setSamlProviderARNs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        describeIdentityPoolResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IdentityPoolName".equals(fieldName)) {
+                        context.nextToken();
+                        describeIdentityPoolResult.setIdentityPoolName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AllowUnauthenticatedIdentities".equals(fieldName)) {
+                        context.nextToken();
+                        describeIdentityPoolResult.setAllowUnauthenticatedIdentities(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("SupportedLoginProviders".equals(fieldName)) {
+                        context.nextToken();
+                        describeIdentityPoolResult.setSupportedLoginProviders(supportedLoginProvidersUnmarshaller.unmarshall(context));
+                    } else if ("DeveloperProviderName".equals(fieldName)) {
+                        context.nextToken();
+                        describeIdentityPoolResult.setDeveloperProviderName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OpenIdConnectProviderARNs".equals(fieldName)) {
+                        context.nextToken();
+                        describeIdentityPoolResult.setOpenIdConnectProviderARNs(openIdConnectProviderARNsUnmarshaller.unmarshall(context));
+                    } else if ("CognitoIdentityProviders".equals(fieldName)) {
+                        context.nextToken();
+                        describeIdentityPoolResult.setCognitoIdentityProviders(cognitoIdentityProvidersUnmarshaller.unmarshall(context));
+                    } else if ("SamlProviderARNs".equals(fieldName)) {
+                        context.nextToken();
+                        describeIdentityPoolResult.setSamlProviderARNs(samlProviderARNsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -94,6 +87,31 @@ public class DescribeIdentityPoolResultJsonUnmarshaller implements Unmarshaller<
         return describeIdentityPoolResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> supportedLoginProvidersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> openIdConnectProviderARNsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<CognitoIdentityProvider>, JsonUnmarshallerContext> cognitoIdentityProvidersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CognitoIdentityProvider>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CognitoIdentityProvider>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CognitoIdentityProvider>(CognitoIdentityProviderJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> samlProviderARNsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeIdentityPoolResultJsonUnmarshaller instance;
 
     public static DescribeIdentityPoolResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class GetCredentialsForIdentityResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    getCredentialsForIdentityResult.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Credentials", targetDepth)) {
-                    context.nextToken();
-                    getCredentialsForIdentityResult.setCredentials(CredentialsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityId".equals(fieldName)) {
+                        context.nextToken();
+                        getCredentialsForIdentityResult.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Credentials".equals(fieldName)) {
+                        context.nextToken();
+                        getCredentialsForIdentityResult.setCredentials(CredentialsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
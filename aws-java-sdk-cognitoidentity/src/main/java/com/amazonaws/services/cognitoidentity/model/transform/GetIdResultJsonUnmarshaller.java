@@ -47,9 +47,12 @@ public class GetIdResultJsonUnmarshaller implements Unmarshaller<GetIdResult, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    getIdResult.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityId".equals(fieldName)) {
+                        context.nextToken();
+                        getIdResult.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class GetIdentityPoolRolesResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    getIdentityPoolRolesResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Roles", targetDepth)) {
-                    context.nextToken();
-                    getIdentityPoolRolesResult.setRoles(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        getIdentityPoolRolesResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Roles".equals(fieldName)) {
+                        context.nextToken();
+                        getIdentityPoolRolesResult.setRoles(rolesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class GetIdentityPoolRolesResultJsonUnmarshaller implements Unmarshaller<
         return getIdentityPoolRolesResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> rolesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GetIdentityPoolRolesResultJsonUnmarshaller instance;
 
     public static GetIdentityPoolRolesResultJsonUnmarshaller getInstance() {
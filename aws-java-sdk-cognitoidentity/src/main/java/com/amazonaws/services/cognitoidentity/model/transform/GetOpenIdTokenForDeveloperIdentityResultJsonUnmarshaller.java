@@ -48,13 +48,15 @@ public class GetOpenIdTokenForDeveloperIdentityResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    getOpenIdTokenForDeveloperIdentityResult.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Token", targetDepth)) {
-                    context.nextToken();
-                    getOpenIdTokenForDeveloperIdentityResult.setToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityId".equals(fieldName)) {
+                        context.nextToken();
+                        getOpenIdTokenForDeveloperIdentityResult.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Token".equals(fieldName)) {
+                        context.nextToken();
+                        getOpenIdTokenForDeveloperIdentityResult.setToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class GetOpenIdTokenResultJsonUnmarshaller implements Unmarshaller<GetOpe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    getOpenIdTokenResult.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Token", targetDepth)) {
-                    context.nextToken();
-                    getOpenIdTokenResult.setToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityId".equals(fieldName)) {
+                        context.nextToken();
+                        getOpenIdTokenResult.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Token".equals(fieldName)) {
+                        context.nextToken();
+                        getOpenIdTokenResult.setToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
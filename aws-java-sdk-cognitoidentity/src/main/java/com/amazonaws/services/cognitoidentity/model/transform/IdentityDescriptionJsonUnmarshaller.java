@@ -47,21 +47,21 @@ public class IdentityDescriptionJsonUnmarshaller implements Unmarshaller<Identit
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    identityDescription.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Logins", targetDepth)) {
-                    context.nextToken();
-                    identityDescription.setLogins(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    identityDescription.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    identityDescription.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityId".equals(fieldName)) {
+                        context.nextToken();
+                        identityDescription.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Logins".equals(fieldName)) {
+                        context.nextToken();
+                        identityDescription.setLogins(loginsUnmarshaller.unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        identityDescription.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        identityDescription.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +75,13 @@ public class IdentityDescriptionJsonUnmarshaller implements Unmarshaller<Identit
         return identityDescription;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> loginsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static IdentityDescriptionJsonUnmarshaller instance;
 
     public static IdentityDescriptionJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class IdentityPoolShortDescriptionJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    identityPoolShortDescription.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IdentityPoolName", targetDepth)) {
-                    context.nextToken();
-                    identityPoolShortDescription.setIdentityPoolName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        identityPoolShortDescription.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IdentityPoolName".equals(fieldName)) {
+                        context.nextToken();
+                        identityPoolShortDescription.setIdentityPoolName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
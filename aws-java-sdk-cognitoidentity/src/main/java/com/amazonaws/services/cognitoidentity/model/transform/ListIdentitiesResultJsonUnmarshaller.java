@@ -47,18 +47,18 @@ public class ListIdentitiesResultJsonUnmarshaller implements Unmarshaller<ListId
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    listIdentitiesResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Identities", targetDepth)) {
-                    context.nextToken();
-                    listIdentitiesResult.setIdentities(new ListUnmarshaller<IdentityDescription>(IdentityDescriptionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listIdentitiesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        listIdentitiesResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Identities".equals(fieldName)) {
+                        context.nextToken();
+                        listIdentitiesResult.setIdentities(identitiesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listIdentitiesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class ListIdentitiesResultJsonUnmarshaller implements Unmarshaller<ListId
         return listIdentitiesResult;
     }
 
+    private final Unmarshaller<java.util.List<IdentityDescription>, JsonUnmarshallerContext> identitiesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<IdentityDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<IdentityDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<IdentityDescription>(IdentityDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListIdentitiesResultJsonUnmarshaller instance;
 
     public static ListIdentitiesResultJsonUnmarshaller getInstance() {
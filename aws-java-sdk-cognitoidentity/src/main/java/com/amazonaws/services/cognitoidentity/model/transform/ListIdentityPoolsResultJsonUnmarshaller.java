@@ -47,14 +47,15 @@ public class ListIdentityPoolsResultJsonUnmarshaller implements Unmarshaller<Lis
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPools", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolsResult.setIdentityPools(new ListUnmarshaller<IdentityPoolShortDescription>(IdentityPoolShortDescriptionJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPools".equals(fieldName)) {
+                        context.nextToken();
+                        listIdentityPoolsResult.setIdentityPools(identityPoolsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listIdentityPoolsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListIdentityPoolsResultJsonUnmarshaller implements Unmarshaller<Lis
         return listIdentityPoolsResult;
     }
 
+    private final Unmarshaller<java.util.List<IdentityPoolShortDescription>, JsonUnmarshallerContext> identityPoolsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<IdentityPoolShortDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<IdentityPoolShortDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<IdentityPoolShortDescription>(IdentityPoolShortDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListIdentityPoolsResultJsonUnmarshaller instance;
 
     public static ListIdentityPoolsResultJsonUnmarshaller getInstance() {
@@ -47,18 +47,18 @@ public class LookupDeveloperIdentityResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    lookupDeveloperIdentityResult.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeveloperUserIdentifierList", targetDepth)) {
-                    context.nextToken();
-                    lookupDeveloperIdentityResult.setDeveloperUserIdentifierList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    lookupDeveloperIdentityResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityId".equals(fieldName)) {
+                        context.nextToken();
+                        lookupDeveloperIdentityResult.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeveloperUserIdentifierList".equals(fieldName)) {
+                        context.nextToken();
+                        lookupDeveloperIdentityResult.setDeveloperUserIdentifierList(developerUserIdentifierListUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        lookupDeveloperIdentityResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class LookupDeveloperIdentityResultJsonUnmarshaller implements Unmarshall
         return lookupDeveloperIdentityResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> developerUserIdentifierListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static LookupDeveloperIdentityResultJsonUnmarshaller instance;
 
     public static LookupDeveloperIdentityResultJsonUnmarshaller getInstance() {
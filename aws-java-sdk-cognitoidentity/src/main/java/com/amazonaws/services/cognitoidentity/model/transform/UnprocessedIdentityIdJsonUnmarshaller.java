@@ -47,13 +47,15 @@ public class UnprocessedIdentityIdJsonUnmarshaller implements Unmarshaller<Unpro
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    unprocessedIdentityId.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    unprocessedIdentityId.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityId".equals(fieldName)) {
+                        context.nextToken();
+                        unprocessedIdentityId.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        unprocessedIdentityId.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
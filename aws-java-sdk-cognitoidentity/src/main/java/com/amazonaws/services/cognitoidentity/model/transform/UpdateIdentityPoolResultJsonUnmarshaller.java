@@ -47,40 +47,33 @@ public class UpdateIdentityPoolResultJsonUnmarshaller implements Unmarshaller<Up
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IdentityPoolName", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setIdentityPoolName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowUnauthenticatedIdentities", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setAllowUnauthenticatedIdentities(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("SupportedLoginProviders", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setSupportedLoginProviders(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("DeveloperProviderName", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setDeveloperProviderName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OpenIdConnectProviderARNs", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setOpenIdConnectProviderARNs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CognitoIdentityProviders", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setCognitoIdentityProviders(new ListUnmarshaller<CognitoIdentityProvider>(CognitoIdentityProviderJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SamlProviderARNs", targetDepth)) {
-                    context.nextToken();
-                    updateIdentityPoolResult.setSamlProviderARNs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        updateIdentityPoolResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IdentityPoolName".equals(fieldName)) {
+                        context.nextToken();
+                        updateIdentityPoolResult.setIdentityPoolName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AllowUnauthenticatedIdentities".equals(fieldName)) {
+                        context.nextToken();
+                        updateIdentityPoolResult.setAllowUnauthenticatedIdentities(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("SupportedLoginProviders".equals(fieldName)) {
+                        context.nextToken();
+                        updateIdentityPoolResult.setSupportedLoginProviders(supportedLoginProvidersUnmarshaller.unmarshall(context));
+                    } else if ("DeveloperProviderName".equals(fieldName)) {
+                        context.nextToken();
+                        updateIdentityPoolResult.setDeveloperProviderName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OpenIdConnectProviderARNs".equals(fieldName)) {
+                        context.nextToken();
+                        updateIdentityPoolResult.setOpenIdConnectProviderARNs(openIdConnectProviderARNsUnmarshaller.unmarshall(context));
+                    } else if ("CognitoIdentityProviders".equals(fieldName)) {
+                        context.nextToken();
+                        updateIdentityPoolResult.setCognitoIdentityProviders(cognitoIdentityProvidersUnmarshaller.unmarshall(context));
+                    } else if ("SamlProviderARNs".equals(fieldName)) {
+                        context.nextToken();
+                        updateIdentityPoolResult.setSamlProviderARNs(samlProviderARNsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -94,6 +87,31 @@ public class UpdateIdentityPoolResultJsonUnmarshaller implements Unmarshaller<Up
         return updateIdentityPoolResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> supportedLoginProvidersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> openIdConnectProviderARNsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<CognitoIdentityProvider>, JsonUnmarshallerContext> cognitoIdentityProvidersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CognitoIdentityProvider>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CognitoIdentityProvider>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CognitoIdentityProvider>(CognitoIdentityProviderJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> samlProviderARNsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static UpdateIdentityPoolResultJsonUnmarshaller instance;
 
     public static UpdateIdentityPoolResultJsonUnmarshaller getInstance() {
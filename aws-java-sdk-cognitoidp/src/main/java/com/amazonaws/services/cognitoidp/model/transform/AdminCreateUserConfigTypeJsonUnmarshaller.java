@@ -47,17 +47,18 @@ public class AdminCreateUserConfigTypeJsonUnmarshaller implements Unmarshaller<A
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AllowAdminCreateUserOnly", targetDepth)) {
-                    context.nextToken();
-                    adminCreateUserConfigType.setAllowAdminCreateUserOnly(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("UnusedAccountValidityDays", targetDepth)) {
-                    context.nextToken();
-                    adminCreateUserConfigType.setUnusedAccountValidityDays(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InviteMessageTemplate", targetDepth)) {
-                    context.nextToken();
-                    adminCreateUserConfigType.setInviteMessageTemplate(MessageTemplateTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AllowAdminCreateUserOnly".equals(fieldName)) {
+                        context.nextToken();
+                        adminCreateUserConfigType.setAllowAdminCreateUserOnly(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("UnusedAccountValidityDays".equals(fieldName)) {
+                        context.nextToken();
+                        adminCreateUserConfigType.setUnusedAccountValidityDays(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("InviteMessageTemplate".equals(fieldName)) {
+                        context.nextToken();
+                        adminCreateUserConfigType.setInviteMessageTemplate(MessageTemplateTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class AdminCreateUserResultJsonUnmarshaller implements Unmarshaller<Admin
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("User", targetDepth)) {
-                    context.nextToken();
-                    adminCreateUserResult.setUser(UserTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("User".equals(fieldName)) {
+                        context.nextToken();
+                        adminCreateUserResult.setUser(UserTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class AdminGetDeviceResultJsonUnmarshaller implements Unmarshaller<AdminG
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Device", targetDepth)) {
-                    context.nextToken();
-                    adminGetDeviceResult.setDevice(DeviceTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Device".equals(fieldName)) {
+                        context.nextToken();
+                        adminGetDeviceResult.setDevice(DeviceTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class AdminGetUserResultJsonUnmarshaller implements Unmarshaller<AdminGet
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserAttributes", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setUserAttributes(new ListUnmarshaller<AttributeType>(AttributeTypeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("UserCreateDate", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setUserCreateDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("UserLastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setUserLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Enabled", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("UserStatus", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setUserStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MFAOptions", targetDepth)) {
-                    context.nextToken();
-                    adminGetUserResult.setMFAOptions(new ListUnmarshaller<MFAOptionType>(MFAOptionTypeJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        adminGetUserResult.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        adminGetUserResult.setUserAttributes(userAttributesUnmarshaller.unmarshall(context));
+                    } else if ("UserCreateDate".equals(fieldName)) {
+                        context.nextToken();
+                        adminGetUserResult.setUserCreateDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("UserLastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        adminGetUserResult.setUserLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Enabled".equals(fieldName)) {
+                        context.nextToken();
+                        adminGetUserResult.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("UserStatus".equals(fieldName)) {
+                        context.nextToken();
+                        adminGetUserResult.setUserStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MFAOptions".equals(fieldName)) {
+                        context.nextToken();
+                        adminGetUserResult.setMFAOptions(mFAOptionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -87,6 +84,19 @@ public class AdminGetUserResultJsonUnmarshaller implements Unmarshaller<AdminGet
         return adminGetUserResult;
     }
 
+    private final Unmarshaller<java.util.List<AttributeType>, JsonUnmarshallerContext> userAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AttributeType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AttributeType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AttributeType>(AttributeTypeJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<MFAOptionType>, JsonUnmarshallerContext> mFAOptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<MFAOptionType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<MFAOptionType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<MFAOptionType>(MFAOptionTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AdminGetUserResultJsonUnmarshaller instance;
 
     public static AdminGetUserResultJsonUnmarshaller getInstance() {
@@ -47,22 +47,21 @@ public class AdminInitiateAuthResultJsonUnmarshaller implements Unmarshaller<Adm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ChallengeName", targetDepth)) {
-                    context.nextToken();
-                    adminInitiateAuthResult.setChallengeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Session", targetDepth)) {
-                    context.nextToken();
-                    adminInitiateAuthResult.setSession(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ChallengeParameters", targetDepth)) {
-                    context.nextToken();
-                    adminInitiateAuthResult.setChallengeParameters(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("AuthenticationResult", targetDepth)) {
-                    context.nextToken();
-                    adminInitiateAuthResult.setAuthenticationResult(AuthenticationResultTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ChallengeName".equals(fieldName)) {
+                        context.nextToken();
+                        adminInitiateAuthResult.setChallengeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Session".equals(fieldName)) {
+                        context.nextToken();
+                        adminInitiateAuthResult.setSession(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ChallengeParameters".equals(fieldName)) {
+                        context.nextToken();
+                        adminInitiateAuthResult.setChallengeParameters(challengeParametersUnmarshaller.unmarshall(context));
+                    } else if ("AuthenticationResult".equals(fieldName)) {
+                        context.nextToken();
+                        adminInitiateAuthResult.setAuthenticationResult(AuthenticationResultTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,13 @@ public class AdminInitiateAuthResultJsonUnmarshaller implements Unmarshaller<Adm
         return adminInitiateAuthResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> challengeParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AdminInitiateAuthResultJsonUnmarshaller instance;
 
     public static AdminInitiateAuthResultJsonUnmarshaller getInstance() {
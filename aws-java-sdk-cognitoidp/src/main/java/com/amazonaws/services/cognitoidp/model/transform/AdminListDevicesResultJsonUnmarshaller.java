@@ -47,13 +47,15 @@ public class AdminListDevicesResultJsonUnmarshaller implements Unmarshaller<Admi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Devices", targetDepth)) {
-                    context.nextToken();
-                    adminListDevicesResult.setDevices(new ListUnmarshaller<DeviceType>(DeviceTypeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("PaginationToken", targetDepth)) {
-                    context.nextToken();
-                    adminListDevicesResult.setPaginationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Devices".equals(fieldName)) {
+                        context.nextToken();
+                        adminListDevicesResult.setDevices(devicesUnmarshaller.unmarshall(context));
+                    } else if ("PaginationToken".equals(fieldName)) {
+                        context.nextToken();
+                        adminListDevicesResult.setPaginationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class AdminListDevicesResultJsonUnmarshaller implements Unmarshaller<Admi
         return adminListDevicesResult;
     }
 
+    private final Unmarshaller<java.util.List<DeviceType>, JsonUnmarshallerContext> devicesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DeviceType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DeviceType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DeviceType>(DeviceTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AdminListDevicesResultJsonUnmarshaller instance;
 
     public static AdminListDevicesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class AttributeTypeJsonUnmarshaller implements Unmarshaller<AttributeType
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    attributeType.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    attributeType.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        attributeType.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        attributeType.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class AuthenticationResultTypeJsonUnmarshaller implements Unmarshaller<Au
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccessToken", targetDepth)) {
-                    context.nextToken();
-                    authenticationResultType.setAccessToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExpiresIn", targetDepth)) {
-                    context.nextToken();
-                    authenticationResultType.setExpiresIn(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("TokenType", targetDepth)) {
-                    context.nextToken();
-                    authenticationResultType.setTokenType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RefreshToken", targetDepth)) {
-                    context.nextToken();
-                    authenticationResultType.setRefreshToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IdToken", targetDepth)) {
-                    context.nextToken();
-                    authenticationResultType.setIdToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NewDeviceMetadata", targetDepth)) {
-                    context.nextToken();
-                    authenticationResultType.setNewDeviceMetadata(NewDeviceMetadataTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AccessToken".equals(fieldName)) {
+                        context.nextToken();
+                        authenticationResultType.setAccessToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ExpiresIn".equals(fieldName)) {
+                        context.nextToken();
+                        authenticationResultType.setExpiresIn(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("TokenType".equals(fieldName)) {
+                        context.nextToken();
+                        authenticationResultType.setTokenType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RefreshToken".equals(fieldName)) {
+                        context.nextToken();
+                        authenticationResultType.setRefreshToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IdToken".equals(fieldName)) {
+                        context.nextToken();
+                        authenticationResultType.setIdToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NewDeviceMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        authenticationResultType.setNewDeviceMetadata(NewDeviceMetadataTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
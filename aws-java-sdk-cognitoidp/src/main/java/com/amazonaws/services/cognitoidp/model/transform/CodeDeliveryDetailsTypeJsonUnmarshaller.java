@@ -47,17 +47,18 @@ public class CodeDeliveryDetailsTypeJsonUnmarshaller implements Unmarshaller<Cod
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Destination", targetDepth)) {
-                    context.nextToken();
-                    codeDeliveryDetailsType.setDestination(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeliveryMedium", targetDepth)) {
-                    context.nextToken();
-                    codeDeliveryDetailsType.setDeliveryMedium(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    codeDeliveryDetailsType.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Destination".equals(fieldName)) {
+                        context.nextToken();
+                        codeDeliveryDetailsType.setDestination(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeliveryMedium".equals(fieldName)) {
+                        context.nextToken();
+                        codeDeliveryDetailsType.setDeliveryMedium(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AttributeName".equals(fieldName)) {
+                        context.nextToken();
+                        codeDeliveryDetailsType.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
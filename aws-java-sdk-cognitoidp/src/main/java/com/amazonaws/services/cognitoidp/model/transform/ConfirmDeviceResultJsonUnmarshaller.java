@@ -47,9 +47,12 @@ public class ConfirmDeviceResultJsonUnmarshaller implements Unmarshaller<Confirm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserConfirmationNecessary", targetDepth)) {
-                    context.nextToken();
-                    confirmDeviceResult.setUserConfirmationNecessary(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UserConfirmationNecessary".equals(fieldName)) {
+                        context.nextToken();
+                        confirmDeviceResult.setUserConfirmationNecessary(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateUserPoolResultJsonUnmarshaller implements Unmarshaller<Create
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserPool", targetDepth)) {
-                    context.nextToken();
-                    createUserPoolResult.setUserPool(UserPoolTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UserPool".equals(fieldName)) {
+                        context.nextToken();
+                        createUserPoolResult.setUserPool(UserPoolTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class DeviceConfigurationTypeJsonUnmarshaller implements Unmarshaller<Dev
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ChallengeRequiredOnNewDevice", targetDepth)) {
-                    context.nextToken();
-                    deviceConfigurationType.setChallengeRequiredOnNewDevice(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceOnlyRememberedOnUserPrompt", targetDepth)) {
-                    context.nextToken();
-                    deviceConfigurationType.setDeviceOnlyRememberedOnUserPrompt(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ChallengeRequiredOnNewDevice".equals(fieldName)) {
+                        context.nextToken();
+                        deviceConfigurationType.setChallengeRequiredOnNewDevice(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("DeviceOnlyRememberedOnUserPrompt".equals(fieldName)) {
+                        context.nextToken();
+                        deviceConfigurationType.setDeviceOnlyRememberedOnUserPrompt(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class DeviceSecretVerifierConfigTypeJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PasswordVerifier", targetDepth)) {
-                    context.nextToken();
-                    deviceSecretVerifierConfigType.setPasswordVerifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Salt", targetDepth)) {
-                    context.nextToken();
-                    deviceSecretVerifierConfigType.setSalt(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PasswordVerifier".equals(fieldName)) {
+                        context.nextToken();
+                        deviceSecretVerifierConfigType.setPasswordVerifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Salt".equals(fieldName)) {
+                        context.nextToken();
+                        deviceSecretVerifierConfigType.setSalt(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class DeviceTypeJsonUnmarshaller implements Unmarshaller<DeviceType, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeviceKey", targetDepth)) {
-                    context.nextToken();
-                    deviceType.setDeviceKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceAttributes", targetDepth)) {
-                    context.nextToken();
-                    deviceType.setDeviceAttributes(new ListUnmarshaller<AttributeType>(AttributeTypeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("DeviceCreateDate", targetDepth)) {
-                    context.nextToken();
-                    deviceType.setDeviceCreateDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceLastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    deviceType.setDeviceLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceLastAuthenticatedDate", targetDepth)) {
-                    context.nextToken();
-                    deviceType.setDeviceLastAuthenticatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeviceKey".equals(fieldName)) {
+                        context.nextToken();
+                        deviceType.setDeviceKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeviceAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        deviceType.setDeviceAttributes(deviceAttributesUnmarshaller.unmarshall(context));
+                    } else if ("DeviceCreateDate".equals(fieldName)) {
+                        context.nextToken();
+                        deviceType.setDeviceCreateDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("DeviceLastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        deviceType.setDeviceLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("DeviceLastAuthenticatedDate".equals(fieldName)) {
+                        context.nextToken();
+                        deviceType.setDeviceLastAuthenticatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class DeviceTypeJsonUnmarshaller implements Unmarshaller<DeviceType, Json
         return deviceType;
     }
 
+    private final Unmarshaller<java.util.List<AttributeType>, JsonUnmarshallerContext> deviceAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AttributeType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AttributeType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AttributeType>(AttributeTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DeviceTypeJsonUnmarshaller instance;
 
     public static DeviceTypeJsonUnmarshaller getInstance() {
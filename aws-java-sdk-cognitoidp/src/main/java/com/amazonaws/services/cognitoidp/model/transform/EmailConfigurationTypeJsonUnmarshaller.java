@@ -47,13 +47,15 @@ public class EmailConfigurationTypeJsonUnmarshaller implements Unmarshaller<Emai
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SourceArn", targetDepth)) {
-                    context.nextToken();
-                    emailConfigurationType.setSourceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplyToEmailAddress", targetDepth)) {
-                    context.nextToken();
-                    emailConfigurationType.setReplyToEmailAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SourceArn".equals(fieldName)) {
+                        context.nextToken();
+                        emailConfigurationType.setSourceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplyToEmailAddress".equals(fieldName)) {
+                        context.nextToken();
+                        emailConfigurationType.setReplyToEmailAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class GetCSVHeaderResultJsonUnmarshaller implements Unmarshaller<GetCSVHe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserPoolId", targetDepth)) {
-                    context.nextToken();
-                    getCSVHeaderResult.setUserPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CSVHeader", targetDepth)) {
-                    context.nextToken();
-                    getCSVHeaderResult.setCSVHeader(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UserPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        getCSVHeaderResult.setUserPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CSVHeader".equals(fieldName)) {
+                        context.nextToken();
+                        getCSVHeaderResult.setCSVHeader(cSVHeaderUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class GetCSVHeaderResultJsonUnmarshaller implements Unmarshaller<GetCSVHe
         return getCSVHeaderResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> cSVHeaderUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GetCSVHeaderResultJsonUnmarshaller instance;
 
     public static GetCSVHeaderResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,13 @@ public class GetUserAttributeVerificationCodeResultJsonUnmarshaller implements U
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CodeDeliveryDetails", targetDepth)) {
-                    context.nextToken();
-                    getUserAttributeVerificationCodeResult.setCodeDeliveryDetails(CodeDeliveryDetailsTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CodeDeliveryDetails".equals(fieldName)) {
+                        context.nextToken();
+                        getUserAttributeVerificationCodeResult
+                                .setCodeDeliveryDetails(CodeDeliveryDetailsTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class GetUserResultJsonUnmarshaller implements Unmarshaller<GetUserResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    getUserResult.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserAttributes", targetDepth)) {
-                    context.nextToken();
-                    getUserResult.setUserAttributes(new ListUnmarshaller<AttributeType>(AttributeTypeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("MFAOptions", targetDepth)) {
-                    context.nextToken();
-                    getUserResult.setMFAOptions(new ListUnmarshaller<MFAOptionType>(MFAOptionTypeJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        getUserResult.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        getUserResult.setUserAttributes(userAttributesUnmarshaller.unmarshall(context));
+                    } else if ("MFAOptions".equals(fieldName)) {
+                        context.nextToken();
+                        getUserResult.setMFAOptions(mFAOptionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,19 @@ public class GetUserResultJsonUnmarshaller implements Unmarshaller<GetUserResult
         return getUserResult;
     }
 
+    private final Unmarshaller<java.util.List<AttributeType>, JsonUnmarshallerContext> userAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AttributeType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AttributeType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AttributeType>(AttributeTypeJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<MFAOptionType>, JsonUnmarshallerContext> mFAOptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<MFAOptionType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<MFAOptionType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<MFAOptionType>(MFAOptionTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetUserResultJsonUnmarshaller instance;
 
     public static GetUserResultJsonUnmarshaller getInstance() {
@@ -47,37 +47,33 @@ public class LambdaConfigTypeJsonUnmarshaller implements Unmarshaller<LambdaConf
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PreSignUp", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setPreSignUp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CustomMessage", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setCustomMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PostConfirmation", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setPostConfirmation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PreAuthentication", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setPreAuthentication(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PostAuthentication", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setPostAuthentication(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefineAuthChallenge", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setDefineAuthChallenge(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreateAuthChallenge", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setCreateAuthChallenge(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VerifyAuthChallengeResponse", targetDepth)) {
-                    context.nextToken();
-                    lambdaConfigType.setVerifyAuthChallengeResponse(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PreSignUp".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaConfigType.setPreSignUp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CustomMessage".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaConfigType.setCustomMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PostConfirmation".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaConfigType.setPostConfirmation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PreAuthentication".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaConfigType.setPreAuthentication(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PostAuthentication".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaConfigType.setPostAuthentication(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DefineAuthChallenge".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaConfigType.setDefineAuthChallenge(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreateAuthChallenge".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaConfigType.setCreateAuthChallenge(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VerifyAuthChallengeResponse".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaConfigType.setVerifyAuthChallengeResponse(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ListDevicesResultJsonUnmarshaller implements Unmarshaller<ListDevic
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Devices", targetDepth)) {
-                    context.nextToken();
-                    listDevicesResult.setDevices(new ListUnmarshaller<DeviceType>(DeviceTypeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("PaginationToken", targetDepth)) {
-                    context.nextToken();
-                    listDevicesResult.setPaginationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Devices".equals(fieldName)) {
+                        context.nextToken();
+                        listDevicesResult.setDevices(devicesUnmarshaller.unmarshall(context));
+                    } else if ("PaginationToken".equals(fieldName)) {
+                        context.nextToken();
+                        listDevicesResult.setPaginationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListDevicesResultJsonUnmarshaller implements Unmarshaller<ListDevic
         return listDevicesResult;
     }
 
+    private final Unmarshaller<java.util.List<DeviceType>, JsonUnmarshallerContext> devicesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DeviceType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DeviceType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DeviceType>(DeviceTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListDevicesResultJsonUnmarshaller instance;
 
     public static ListDevicesResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListUserImportJobsResultJsonUnmarshaller implements Unmarshaller<Li
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserImportJobs", targetDepth)) {
-                    context.nextToken();
-                    listUserImportJobsResult.setUserImportJobs(new ListUnmarshaller<UserImportJobType>(UserImportJobTypeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PaginationToken", targetDepth)) {
-                    context.nextToken();
-                    listUserImportJobsResult.setPaginationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UserImportJobs".equals(fieldName)) {
+                        context.nextToken();
+                        listUserImportJobsResult.setUserImportJobs(userImportJobsUnmarshaller.unmarshall(context));
+                    } else if ("PaginationToken".equals(fieldName)) {
+                        context.nextToken();
+                        listUserImportJobsResult.setPaginationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListUserImportJobsResultJsonUnmarshaller implements Unmarshaller<Li
         return listUserImportJobsResult;
     }
 
+    private final Unmarshaller<java.util.List<UserImportJobType>, JsonUnmarshallerContext> userImportJobsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<UserImportJobType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<UserImportJobType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<UserImportJobType>(UserImportJobTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListUserImportJobsResultJsonUnmarshaller instance;
 
     public static ListUserImportJobsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListUserPoolClientsResultJsonUnmarshaller implements Unmarshaller<L
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserPoolClients", targetDepth)) {
-                    context.nextToken();
-                    listUserPoolClientsResult.setUserPoolClients(new ListUnmarshaller<UserPoolClientDescription>(UserPoolClientDescriptionJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listUserPoolClientsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UserPoolClients".equals(fieldName)) {
+                        context.nextToken();
+                        listUserPoolClientsResult.setUserPoolClients(userPoolClientsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listUserPoolClientsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListUserPoolClientsResultJsonUnmarshaller implements Unmarshaller<L
         return listUserPoolClientsResult;
     }
 
+    private final Unmarshaller<java.util.List<UserPoolClientDescription>, JsonUnmarshallerContext> userPoolClientsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<UserPoolClientDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<UserPoolClientDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<UserPoolClientDescription>(UserPoolClientDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListUserPoolClientsResultJsonUnmarshaller instance;
 
     public static ListUserPoolClientsResultJsonUnmarshaller getInstance() {
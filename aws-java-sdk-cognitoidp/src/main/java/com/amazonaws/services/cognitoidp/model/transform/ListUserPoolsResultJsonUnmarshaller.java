@@ -47,14 +47,15 @@ public class ListUserPoolsResultJsonUnmarshaller implements Unmarshaller<ListUse
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserPools", targetDepth)) {
-                    context.nextToken();
-                    listUserPoolsResult.setUserPools(new ListUnmarshaller<UserPoolDescriptionType>(UserPoolDescriptionTypeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listUserPoolsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UserPools".equals(fieldName)) {
+                        context.nextToken();
+                        listUserPoolsResult.setUserPools(userPoolsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listUserPoolsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListUserPoolsResultJsonUnmarshaller implements Unmarshaller<ListUse
         return listUserPoolsResult;
     }
 
+    private final Unmarshaller<java.util.List<UserPoolDescriptionType>, JsonUnmarshallerContext> userPoolsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<UserPoolDescriptionType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<UserPoolDescriptionType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<UserPoolDescriptionType>(UserPoolDescriptionTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListUserPoolsResultJsonUnmarshaller instance;
 
     public static ListUserPoolsResultJsonUnmarshaller getInstance() {
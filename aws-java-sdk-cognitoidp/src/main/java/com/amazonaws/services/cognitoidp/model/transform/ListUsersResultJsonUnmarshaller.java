@@ -47,13 +47,15 @@ public class ListUsersResultJsonUnmarshaller implements Unmarshaller<ListUsersRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Users", targetDepth)) {
-                    context.nextToken();
-                    listUsersResult.setUsers(new ListUnmarshaller<UserType>(UserTypeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("PaginationToken", targetDepth)) {
-                    context.nextToken();
-                    listUsersResult.setPaginationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Users".equals(fieldName)) {
+                        context.nextToken();
+                        listUsersResult.setUsers(usersUnmarshaller.unmarshall(context));
+                    } else if ("PaginationToken".equals(fieldName)) {
+                        context.nextToken();
+                        listUsersResult.setPaginationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListUsersResultJsonUnmarshaller implements Unmarshaller<ListUsersRe
         return listUsersResult;
     }
 
+    private final Unmarshaller<java.util.List<UserType>, JsonUnmarshallerContext> usersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<UserType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<UserType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<UserType>(UserTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListUsersResultJsonUnmarshaller instance;
 
     public static ListUsersResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class MFAOptionTypeJsonUnmarshaller implements Unmarshaller<MFAOptionType
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryMedium", targetDepth)) {
-                    context.nextToken();
-                    mFAOptionType.setDeliveryMedium(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    mFAOptionType.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeliveryMedium".equals(fieldName)) {
+                        context.nextToken();
+                        mFAOptionType.setDeliveryMedium(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AttributeName".equals(fieldName)) {
+                        context.nextToken();
+                        mFAOptionType.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class MessageTemplateTypeJsonUnmarshaller implements Unmarshaller<Message
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SMSMessage", targetDepth)) {
-                    context.nextToken();
-                    messageTemplateType.setSMSMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmailMessage", targetDepth)) {
-                    context.nextToken();
-                    messageTemplateType.setEmailMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmailSubject", targetDepth)) {
-                    context.nextToken();
-                    messageTemplateType.setEmailSubject(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SMSMessage".equals(fieldName)) {
+                        context.nextToken();
+                        messageTemplateType.setSMSMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EmailMessage".equals(fieldName)) {
+                        context.nextToken();
+                        messageTemplateType.setEmailMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EmailSubject".equals(fieldName)) {
+                        context.nextToken();
+                        messageTemplateType.setEmailSubject(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
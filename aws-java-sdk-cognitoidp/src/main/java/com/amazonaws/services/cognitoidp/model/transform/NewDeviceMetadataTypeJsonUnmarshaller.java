@@ -47,13 +47,15 @@ public class NewDeviceMetadataTypeJsonUnmarshaller implements Unmarshaller<NewDe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeviceKey", targetDepth)) {
-                    context.nextToken();
-                    newDeviceMetadataType.setDeviceKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceGroupKey", targetDepth)) {
-                    context.nextToken();
-                    newDeviceMetadataType.setDeviceGroupKey(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeviceKey".equals(fieldName)) {
+                        context.nextToken();
+                        newDeviceMetadataType.setDeviceKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeviceGroupKey".equals(fieldName)) {
+                        context.nextToken();
+                        newDeviceMetadataType.setDeviceGroupKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class NumberAttributeConstraintsTypeJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MinValue", targetDepth)) {
-                    context.nextToken();
-                    numberAttributeConstraintsType.setMinValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxValue", targetDepth)) {
-                    context.nextToken();
-                    numberAttributeConstraintsType.setMaxValue(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MinValue".equals(fieldName)) {
+                        context.nextToken();
+                        numberAttributeConstraintsType.setMinValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxValue".equals(fieldName)) {
+                        context.nextToken();
+                        numberAttributeConstraintsType.setMaxValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class PasswordPolicyTypeJsonUnmarshaller implements Unmarshaller<Password
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MinimumLength", targetDepth)) {
-                    context.nextToken();
-                    passwordPolicyType.setMinimumLength(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RequireUppercase", targetDepth)) {
-                    context.nextToken();
-                    passwordPolicyType.setRequireUppercase(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RequireLowercase", targetDepth)) {
-                    context.nextToken();
-                    passwordPolicyType.setRequireLowercase(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RequireNumbers", targetDepth)) {
-                    context.nextToken();
-                    passwordPolicyType.setRequireNumbers(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RequireSymbols", targetDepth)) {
-                    context.nextToken();
-                    passwordPolicyType.setRequireSymbols(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MinimumLength".equals(fieldName)) {
+                        context.nextToken();
+                        passwordPolicyType.setMinimumLength(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("RequireUppercase".equals(fieldName)) {
+                        context.nextToken();
+                        passwordPolicyType.setRequireUppercase(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("RequireLowercase".equals(fieldName)) {
+                        context.nextToken();
+                        passwordPolicyType.setRequireLowercase(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("RequireNumbers".equals(fieldName)) {
+                        context.nextToken();
+                        passwordPolicyType.setRequireNumbers(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("RequireSymbols".equals(fieldName)) {
+                        context.nextToken();
+                        passwordPolicyType.setRequireSymbols(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class SchemaAttributeTypeJsonUnmarshaller implements Unmarshaller<SchemaA
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeDataType", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setAttributeDataType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeveloperOnlyAttribute", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setDeveloperOnlyAttribute(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Mutable", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setMutable(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Required", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberAttributeConstraints", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setNumberAttributeConstraints(NumberAttributeConstraintsTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("StringAttributeConstraints", targetDepth)) {
-                    context.nextToken();
-                    schemaAttributeType.setStringAttributeConstraints(StringAttributeConstraintsTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        schemaAttributeType.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AttributeDataType".equals(fieldName)) {
+                        context.nextToken();
+                        schemaAttributeType.setAttributeDataType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeveloperOnlyAttribute".equals(fieldName)) {
+                        context.nextToken();
+                        schemaAttributeType.setDeveloperOnlyAttribute(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Mutable".equals(fieldName)) {
+                        context.nextToken();
+                        schemaAttributeType.setMutable(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Required".equals(fieldName)) {
+                        context.nextToken();
+                        schemaAttributeType.setRequired(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("NumberAttributeConstraints".equals(fieldName)) {
+                        context.nextToken();
+                        schemaAttributeType.setNumberAttributeConstraints(NumberAttributeConstraintsTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("StringAttributeConstraints".equals(fieldName)) {
+                        context.nextToken();
+                        schemaAttributeType.setStringAttributeConstraints(StringAttributeConstraintsTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class SignUpResultJsonUnmarshaller implements Unmarshaller<SignUpResult,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserConfirmed", targetDepth)) {
-                    context.nextToken();
-                    signUpResult.setUserConfirmed(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeDeliveryDetails", targetDepth)) {
-                    context.nextToken();
-                    signUpResult.setCodeDeliveryDetails(CodeDeliveryDetailsTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UserConfirmed".equals(fieldName)) {
+                        context.nextToken();
+                        signUpResult.setUserConfirmed(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("CodeDeliveryDetails".equals(fieldName)) {
+                        context.nextToken();
+                        signUpResult.setCodeDeliveryDetails(CodeDeliveryDetailsTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
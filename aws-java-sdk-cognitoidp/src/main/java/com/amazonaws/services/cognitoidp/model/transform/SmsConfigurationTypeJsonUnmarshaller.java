@@ -47,13 +47,15 @@ public class SmsConfigurationTypeJsonUnmarshaller implements Unmarshaller<SmsCon
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnsCallerArn", targetDepth)) {
-                    context.nextToken();
-                    smsConfigurationType.setSnsCallerArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExternalId", targetDepth)) {
-                    context.nextToken();
-                    smsConfigurationType.setExternalId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SnsCallerArn".equals(fieldName)) {
+                        context.nextToken();
+                        smsConfigurationType.setSnsCallerArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ExternalId".equals(fieldName)) {
+                        context.nextToken();
+                        smsConfigurationType.setExternalId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class StringAttributeConstraintsTypeJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MinLength", targetDepth)) {
-                    context.nextToken();
-                    stringAttributeConstraintsType.setMinLength(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxLength", targetDepth)) {
-                    context.nextToken();
-                    stringAttributeConstraintsType.setMaxLength(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MinLength".equals(fieldName)) {
+                        context.nextToken();
+                        stringAttributeConstraintsType.setMinLength(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxLength".equals(fieldName)) {
+                        context.nextToken();
+                        stringAttributeConstraintsType.setMaxLength(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
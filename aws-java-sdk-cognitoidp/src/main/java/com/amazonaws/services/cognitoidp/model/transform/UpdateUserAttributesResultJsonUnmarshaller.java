@@ -47,10 +47,12 @@ public class UpdateUserAttributesResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CodeDeliveryDetailsList", targetDepth)) {
-                    context.nextToken();
-                    updateUserAttributesResult.setCodeDeliveryDetailsList(new ListUnmarshaller<CodeDeliveryDetailsType>(CodeDeliveryDetailsTypeJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CodeDeliveryDetailsList".equals(fieldName)) {
+                        context.nextToken();
+                        updateUserAttributesResult.setCodeDeliveryDetailsList(codeDeliveryDetailsListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class UpdateUserAttributesResultJsonUnmarshaller implements Unmarshaller<
         return updateUserAttributesResult;
     }
 
+    private final Unmarshaller<java.util.List<CodeDeliveryDetailsType>, JsonUnmarshallerContext> codeDeliveryDetailsListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CodeDeliveryDetailsType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CodeDeliveryDetailsType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CodeDeliveryDetailsType>(CodeDeliveryDetailsTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static UpdateUserAttributesResultJsonUnmarshaller instance;
 
     public static UpdateUserAttributesResultJsonUnmarshaller getInstance() {
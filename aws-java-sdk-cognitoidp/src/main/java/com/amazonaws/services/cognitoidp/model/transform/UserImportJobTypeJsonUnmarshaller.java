@@ -47,57 +47,48 @@ public class UserImportJobTypeJsonUnmarshaller implements Unmarshaller<UserImpor
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobName", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setJobName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobId", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserPoolId", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setUserPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PreSignedUrl", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setPreSignedUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartDate", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setStartDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletionDate", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setCompletionDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLogsRoleArn", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setCloudWatchLogsRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ImportedUsers", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setImportedUsers(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("SkippedUsers", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setSkippedUsers(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FailedUsers", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setFailedUsers(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletionMessage", targetDepth)) {
-                    context.nextToken();
-                    userImportJobType.setCompletionMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobName".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setJobName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("JobId".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setUserPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PreSignedUrl".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setPreSignedUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartDate".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setStartDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("CompletionDate".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setCompletionDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CloudWatchLogsRoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setCloudWatchLogsRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ImportedUsers".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setImportedUsers(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("SkippedUsers".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setSkippedUsers(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FailedUsers".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setFailedUsers(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("CompletionMessage".equals(fieldName)) {
+                        context.nextToken();
+                        userImportJobType.setCompletionMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class UserPoolClientDescriptionJsonUnmarshaller implements Unmarshaller<U
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ClientId", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientDescription.setClientId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserPoolId", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientDescription.setUserPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClientName", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientDescription.setClientName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ClientId".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientDescription.setClientId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientDescription.setUserPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ClientName".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientDescription.setClientName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
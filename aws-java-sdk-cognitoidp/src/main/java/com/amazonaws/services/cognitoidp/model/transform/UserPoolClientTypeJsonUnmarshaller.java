@@ -47,45 +47,39 @@ public class UserPoolClientTypeJsonUnmarshaller implements Unmarshaller<UserPool
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserPoolId", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setUserPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClientName", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setClientName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClientId", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setClientId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClientSecret", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setClientSecret(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("RefreshTokenValidity", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setRefreshTokenValidity(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ReadAttributes", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setReadAttributes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("WriteAttributes", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setWriteAttributes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("ExplicitAuthFlows", targetDepth)) {
-                    context.nextToken();
-                    userPoolClientType.setExplicitAuthFlows(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UserPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientType.setUserPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ClientName".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientType.setClientName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ClientId".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientType.setClientId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ClientSecret".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientType.setClientSecret(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientType.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientType.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("RefreshTokenValidity".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientType.setRefreshTokenValidity(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ReadAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientType.setReadAttributes(readAttributesUnmarshaller.unmarshall(context));
+                    } else if ("WriteAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientType.setWriteAttributes(writeAttributesUnmarshaller.unmarshall(context));
+                    } else if ("ExplicitAuthFlows".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolClientType.setExplicitAuthFlows(explicitAuthFlowsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -99,6 +93,25 @@ public class UserPoolClientTypeJsonUnmarshaller implements Unmarshaller<UserPool
         return userPoolClientType;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> readAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> writeAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> explicitAuthFlowsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static UserPoolClientTypeJsonUnmarshaller instance;
 
     public static UserPoolClientTypeJsonUnmarshaller getInstance() {
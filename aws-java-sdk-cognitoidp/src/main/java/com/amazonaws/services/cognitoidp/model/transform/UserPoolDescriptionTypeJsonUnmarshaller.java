@@ -47,29 +47,27 @@ public class UserPoolDescriptionTypeJsonUnmarshaller implements Unmarshaller<Use
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LambdaConfig", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setLambdaConfig(LambdaConfigTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolDescriptionType.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolDescriptionType.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolDescriptionType.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LambdaConfig".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolDescriptionType.setLambdaConfig(LambdaConfigTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolDescriptionType.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolDescriptionType.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolDescriptionType.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,94 +47,75 @@ public class UserPoolTypeJsonUnmarshaller implements Unmarshaller<UserPoolType,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Policies", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setPolicies(UserPoolPolicyTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LambdaConfig", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setLambdaConfig(LambdaConfigTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("SchemaAttributes", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setSchemaAttributes(new ListUnmarshaller<SchemaAttributeType>(SchemaAttributeTypeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("AutoVerifiedAttributes", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setAutoVerifiedAttributes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("AliasAttributes", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setAliasAttributes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("SmsVerificationMessage", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setSmsVerificationMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmailVerificationMessage", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setEmailVerificationMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmailVerificationSubject", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setEmailVerificationSubject(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SmsAuthenticationMessage", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setSmsAuthenticationMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MfaConfiguration", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setMfaConfiguration(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceConfiguration", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setDeviceConfiguration(DeviceConfigurationTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("EstimatedNumberOfUsers", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setEstimatedNumberOfUsers(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("EmailConfiguration", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setEmailConfiguration(EmailConfigurationTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SmsConfiguration", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setSmsConfiguration(SmsConfigurationTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SmsConfigurationFailure", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setSmsConfigurationFailure(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmailConfigurationFailure", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setEmailConfigurationFailure(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AdminCreateUserConfig", targetDepth)) {
-                    context.nextToken();
-                    userPoolType.setAdminCreateUserConfig(AdminCreateUserConfigTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Policies".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setPolicies(UserPoolPolicyTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("LambdaConfig".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setLambdaConfig(LambdaConfigTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("SchemaAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setSchemaAttributes(schemaAttributesUnmarshaller.unmarshall(context));
+                    } else if ("AutoVerifiedAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setAutoVerifiedAttributes(autoVerifiedAttributesUnmarshaller.unmarshall(context));
+                    } else if ("AliasAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setAliasAttributes(aliasAttributesUnmarshaller.unmarshall(context));
+                    } else if ("SmsVerificationMessage".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setSmsVerificationMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EmailVerificationMessage".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setEmailVerificationMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EmailVerificationSubject".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setEmailVerificationSubject(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SmsAuthenticationMessage".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setSmsAuthenticationMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MfaConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setMfaConfiguration(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeviceConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setDeviceConfiguration(DeviceConfigurationTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("EstimatedNumberOfUsers".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setEstimatedNumberOfUsers(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("EmailConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setEmailConfiguration(EmailConfigurationTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("SmsConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setSmsConfiguration(SmsConfigurationTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("SmsConfigurationFailure".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setSmsConfigurationFailure(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EmailConfigurationFailure".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setEmailConfigurationFailure(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AdminCreateUserConfig".equals(fieldName)) {
+                        context.nextToken();
+                        userPoolType.setAdminCreateUserConfig(AdminCreateUserConfigTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -148,6 +129,25 @@ public class UserPoolTypeJsonUnmarshaller implements Unmarshaller<UserPoolType,
         return userPoolType;
     }
 
+    private final Unmarshaller<java.util.List<SchemaAttributeType>, JsonUnmarshallerContext> schemaAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SchemaAttributeType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SchemaAttributeType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SchemaAttributeType>(SchemaAttributeTypeJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> autoVerifiedAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> aliasAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static UserPoolTypeJsonUnmarshaller instance;
 
     public static UserPoolTypeJsonUnmarshaller getInstance() {
@@ -47,33 +47,30 @@ public class UserTypeJsonUnmarshaller implements Unmarshaller<UserType, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    userType.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    userType.setAttributes(new ListUnmarshaller<AttributeType>(AttributeTypeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("UserCreateDate", targetDepth)) {
-                    context.nextToken();
-                    userType.setUserCreateDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("UserLastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    userType.setUserLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Enabled", targetDepth)) {
-                    context.nextToken();
-                    userType.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("UserStatus", targetDepth)) {
-                    context.nextToken();
-                    userType.setUserStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MFAOptions", targetDepth)) {
-                    context.nextToken();
-                    userType.setMFAOptions(new ListUnmarshaller<MFAOptionType>(MFAOptionTypeJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        userType.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Attributes".equals(fieldName)) {
+                        context.nextToken();
+                        userType.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("UserCreateDate".equals(fieldName)) {
+                        context.nextToken();
+                        userType.setUserCreateDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("UserLastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        userType.setUserLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Enabled".equals(fieldName)) {
+                        context.nextToken();
+                        userType.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("UserStatus".equals(fieldName)) {
+                        context.nextToken();
+                        userType.setUserStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MFAOptions".equals(fieldName)) {
+                        context.nextToken();
+                        userType.setMFAOptions(mFAOptionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -87,6 +84,19 @@ public class UserTypeJsonUnmarshaller implements Unmarshaller<UserType, JsonUnma
         return userType;
     }
 
+    private final Unmarshaller<java.util.List<AttributeType>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AttributeType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AttributeType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AttributeType>(AttributeTypeJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<MFAOptionType>, JsonUnmarshallerContext> mFAOptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<MFAOptionType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<MFAOptionType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<MFAOptionType>(MFAOptionTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static UserTypeJsonUnmarshaller instance;
 
     public static UserTypeJsonUnmarshaller getInstance() {
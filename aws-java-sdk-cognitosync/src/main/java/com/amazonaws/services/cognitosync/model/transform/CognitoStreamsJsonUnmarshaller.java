@@ -47,17 +47,18 @@ public class CognitoStreamsJsonUnmarshaller implements Unmarshaller<CognitoStrea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamName", targetDepth)) {
-                    context.nextToken();
-                    cognitoStreams.setStreamName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleArn", targetDepth)) {
-                    context.nextToken();
-                    cognitoStreams.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamingStatus", targetDepth)) {
-                    context.nextToken();
-                    cognitoStreams.setStreamingStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StreamName".equals(fieldName)) {
+                        context.nextToken();
+                        cognitoStreams.setStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        cognitoStreams.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StreamingStatus".equals(fieldName)) {
+                        context.nextToken();
+                        cognitoStreams.setStreamingStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class DatasetJsonUnmarshaller implements Unmarshaller<Dataset, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    dataset.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DatasetName", targetDepth)) {
-                    context.nextToken();
-                    dataset.setDatasetName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    dataset.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    dataset.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedBy", targetDepth)) {
-                    context.nextToken();
-                    dataset.setLastModifiedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataStorage", targetDepth)) {
-                    context.nextToken();
-                    dataset.setDataStorage(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("NumRecords", targetDepth)) {
-                    context.nextToken();
-                    dataset.setNumRecords(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityId".equals(fieldName)) {
+                        context.nextToken();
+                        dataset.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DatasetName".equals(fieldName)) {
+                        context.nextToken();
+                        dataset.setDatasetName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        dataset.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        dataset.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastModifiedBy".equals(fieldName)) {
+                        context.nextToken();
+                        dataset.setLastModifiedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataStorage".equals(fieldName)) {
+                        context.nextToken();
+                        dataset.setDataStorage(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("NumRecords".equals(fieldName)) {
+                        context.nextToken();
+                        dataset.setNumRecords(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
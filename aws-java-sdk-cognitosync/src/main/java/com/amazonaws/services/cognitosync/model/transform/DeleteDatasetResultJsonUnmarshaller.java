@@ -47,9 +47,12 @@ public class DeleteDatasetResultJsonUnmarshaller implements Unmarshaller<DeleteD
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Dataset", targetDepth)) {
-                    context.nextToken();
-                    deleteDatasetResult.setDataset(DatasetJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Dataset".equals(fieldName)) {
+                        context.nextToken();
+                        deleteDatasetResult.setDataset(DatasetJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DescribeDatasetResultJsonUnmarshaller implements Unmarshaller<Descr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Dataset", targetDepth)) {
-                    context.nextToken();
-                    describeDatasetResult.setDataset(DatasetJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Dataset".equals(fieldName)) {
+                        context.nextToken();
+                        describeDatasetResult.setDataset(DatasetJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DescribeIdentityPoolUsageResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolUsage", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityPoolUsageResult.setIdentityPoolUsage(IdentityPoolUsageJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPoolUsage".equals(fieldName)) {
+                        context.nextToken();
+                        describeIdentityPoolUsageResult.setIdentityPoolUsage(IdentityPoolUsageJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DescribeIdentityUsageResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityUsage", targetDepth)) {
-                    context.nextToken();
-                    describeIdentityUsageResult.setIdentityUsage(IdentityUsageJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityUsage".equals(fieldName)) {
+                        context.nextToken();
+                        describeIdentityUsageResult.setIdentityUsage(IdentityUsageJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
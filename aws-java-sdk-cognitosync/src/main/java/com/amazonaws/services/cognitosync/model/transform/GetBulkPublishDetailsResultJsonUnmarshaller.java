@@ -47,25 +47,24 @@ public class GetBulkPublishDetailsResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    getBulkPublishDetailsResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BulkPublishStartTime", targetDepth)) {
-                    context.nextToken();
-                    getBulkPublishDetailsResult.setBulkPublishStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("BulkPublishCompleteTime", targetDepth)) {
-                    context.nextToken();
-                    getBulkPublishDetailsResult.setBulkPublishCompleteTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("BulkPublishStatus", targetDepth)) {
-                    context.nextToken();
-                    getBulkPublishDetailsResult.setBulkPublishStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FailureMessage", targetDepth)) {
-                    context.nextToken();
-                    getBulkPublishDetailsResult.setFailureMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        getBulkPublishDetailsResult.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BulkPublishStartTime".equals(fieldName)) {
+                        context.nextToken();
+                        getBulkPublishDetailsResult.setBulkPublishStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("BulkPublishCompleteTime".equals(fieldName)) {
+                        context.nextToken();
+                        getBulkPublishDetailsResult.setBulkPublishCompleteTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("BulkPublishStatus".equals(fieldName)) {
+                        context.nextToken();
+                        getBulkPublishDetailsResult.setBulkPublishStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FailureMessage".equals(fieldName)) {
+                        context.nextToken();
+                        getBulkPublishDetailsResult.setFailureMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,10 +47,12 @@ public class GetCognitoEventsResultJsonUnmarshaller implements Unmarshaller<GetC
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Events", targetDepth)) {
-                    context.nextToken();
-                    getCognitoEventsResult.setEvents(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Events".equals(fieldName)) {
+                        context.nextToken();
+                        getCognitoEventsResult.setEvents(eventsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class GetCognitoEventsResultJsonUnmarshaller implements Unmarshaller<GetC
         return getCognitoEventsResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> eventsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GetCognitoEventsResultJsonUnmarshaller instance;
 
     public static GetCognitoEventsResultJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class IdentityPoolUsageJsonUnmarshaller implements Unmarshaller<IdentityP
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    identityPoolUsage.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SyncSessionsCount", targetDepth)) {
-                    context.nextToken();
-                    identityPoolUsage.setSyncSessionsCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("DataStorage", targetDepth)) {
-                    context.nextToken();
-                    identityPoolUsage.setDataStorage(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    identityPoolUsage.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        identityPoolUsage.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SyncSessionsCount".equals(fieldName)) {
+                        context.nextToken();
+                        identityPoolUsage.setSyncSessionsCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("DataStorage".equals(fieldName)) {
+                        context.nextToken();
+                        identityPoolUsage.setDataStorage(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("LastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        identityPoolUsage.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class IdentityUsageJsonUnmarshaller implements Unmarshaller<IdentityUsage
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityId", targetDepth)) {
-                    context.nextToken();
-                    identityUsage.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IdentityPoolId", targetDepth)) {
-                    context.nextToken();
-                    identityUsage.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    identityUsage.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("DatasetCount", targetDepth)) {
-                    context.nextToken();
-                    identityUsage.setDatasetCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DataStorage", targetDepth)) {
-                    context.nextToken();
-                    identityUsage.setDataStorage(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityId".equals(fieldName)) {
+                        context.nextToken();
+                        identityUsage.setIdentityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IdentityPoolId".equals(fieldName)) {
+                        context.nextToken();
+                        identityUsage.setIdentityPoolId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        identityUsage.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("DatasetCount".equals(fieldName)) {
+                        context.nextToken();
+                        identityUsage.setDatasetCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("DataStorage".equals(fieldName)) {
+                        context.nextToken();
+                        identityUsage.setDataStorage(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
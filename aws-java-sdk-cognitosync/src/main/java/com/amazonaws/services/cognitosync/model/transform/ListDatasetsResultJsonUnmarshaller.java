@@ -47,17 +47,18 @@ public class ListDatasetsResultJsonUnmarshaller implements Unmarshaller<ListData
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Datasets", targetDepth)) {
-                    context.nextToken();
-                    listDatasetsResult.setDatasets(new ListUnmarshaller<Dataset>(DatasetJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
-                    context.nextToken();
-                    listDatasetsResult.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listDatasetsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Datasets".equals(fieldName)) {
+                        context.nextToken();
+                        listDatasetsResult.setDatasets(datasetsUnmarshaller.unmarshall(context));
+                    } else if ("Count".equals(fieldName)) {
+                        context.nextToken();
+                        listDatasetsResult.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listDatasetsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ListDatasetsResultJsonUnmarshaller implements Unmarshaller<ListData
         return listDatasetsResult;
     }
 
+    private final Unmarshaller<java.util.List<Dataset>, JsonUnmarshallerContext> datasetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Dataset>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Dataset>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Dataset>(DatasetJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListDatasetsResultJsonUnmarshaller instance;
 
     public static ListDatasetsResultJsonUnmarshaller getInstance() {
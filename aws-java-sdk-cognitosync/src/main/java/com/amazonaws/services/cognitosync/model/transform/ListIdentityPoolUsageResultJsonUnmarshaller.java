@@ -47,22 +47,21 @@ public class ListIdentityPoolUsageResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IdentityPoolUsages", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolUsageResult.setIdentityPoolUsages(new ListUnmarshaller<IdentityPoolUsage>(IdentityPoolUsageJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("MaxResults", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolUsageResult.setMaxResults(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolUsageResult.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listIdentityPoolUsageResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IdentityPoolUsages".equals(fieldName)) {
+                        context.nextToken();
+                        listIdentityPoolUsageResult.setIdentityPoolUsages(identityPoolUsagesUnmarshaller.unmarshall(context));
+                    } else if ("MaxResults".equals(fieldName)) {
+                        context.nextToken();
+                        listIdentityPoolUsageResult.setMaxResults(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Count".equals(fieldName)) {
+                        context.nextToken();
+                        listIdentityPoolUsageResult.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listIdentityPoolUsageResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,13 @@ public class ListIdentityPoolUsageResultJsonUnmarshaller implements Unmarshaller
         return listIdentityPoolUsageResult;
     }
 
+    private final Unmarshaller<java.util.List<IdentityPoolUsage>, JsonUnmarshallerContext> identityPoolUsagesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<IdentityPoolUsage>>() {
+        @Override
+        protected Unmarshaller<java.util.List<IdentityPoolUsage>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<IdentityPoolUsage>(IdentityPoolUsageJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListIdentityPoolUsageResultJsonUnmarshaller instance;
 
     public static ListIdentityPoolUsageResultJsonUnmarshaller getInstance() {
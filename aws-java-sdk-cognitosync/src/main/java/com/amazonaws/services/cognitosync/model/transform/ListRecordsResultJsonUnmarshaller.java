@@ -47,41 +47,36 @@ public class ListRecordsResultJsonUnmarshaller implements Unmarshaller<ListRecor
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Records", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setRecords(new ListUnmarshaller<Record>(RecordJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DatasetSyncCount", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setDatasetSyncCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedBy", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setLastModifiedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MergedDatasetNames", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setMergedDatasetNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("DatasetExists", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setDatasetExists(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("DatasetDeletedAfterRequestedSyncCount", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setDatasetDeletedAfterRequestedSyncCount(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("SyncSessionToken", targetDepth)) {
-                    context.nextToken();
-                    listRecordsResult.setSyncSessionToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Records".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordsResult.setRecords(recordsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Count".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordsResult.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("DatasetSyncCount".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordsResult.setDatasetSyncCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("LastModifiedBy".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordsResult.setLastModifiedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MergedDatasetNames".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordsResult.setMergedDatasetNames(mergedDatasetNamesUnmarshaller.unmarshall(context));
+                    } else if ("DatasetExists".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordsResult.setDatasetExists(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("DatasetDeletedAfterRequestedSyncCount".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordsResult.setDatasetDeletedAfterRequestedSyncCount(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("SyncSessionToken".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordsResult.setSyncSessionToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -95,6 +90,19 @@ public class ListRecordsResultJsonUnmarshaller implements Unmarshaller<ListRecor
         return listRecordsResult;
     }
 
+    private final Unmarshaller<java.util.List<Record>, JsonUnmarshallerContext> recordsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Record>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Record>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Record>(RecordJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> mergedDatasetNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListRecordsResultJsonUnmarshaller instance;
 
     public static ListRecordsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class PushSyncJsonUnmarshaller implements Unmarshaller<PushSync, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ApplicationArns", targetDepth)) {
-                    context.nextToken();
-                    pushSync.setApplicationArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("RoleArn", targetDepth)) {
-                    context.nextToken();
-                    pushSync.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ApplicationArns".equals(fieldName)) {
+                        context.nextToken();
+                        pushSync.setApplicationArns(applicationArnsUnmarshaller.unmarshall(context));
+                    } else if ("RoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        pushSync.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class PushSyncJsonUnmarshaller implements Unmarshaller<PushSync, JsonUnma
         return pushSync;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> applicationArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static PushSyncJsonUnmarshaller instance;
 
     public static PushSyncJsonUnmarshaller getInstance() {
@@ -47,29 +47,27 @@ public class RecordJsonUnmarshaller implements Unmarshaller<Record, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    record.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    record.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SyncCount", targetDepth)) {
-                    context.nextToken();
-                    record.setSyncCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    record.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModifiedBy", targetDepth)) {
-                    context.nextToken();
-                    record.setLastModifiedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceLastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    record.setDeviceLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        record.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        record.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SyncCount".equals(fieldName)) {
+                        context.nextToken();
+                        record.setSyncCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("LastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        record.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastModifiedBy".equals(fieldName)) {
+                        context.nextToken();
+                        record.setLastModifiedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeviceLastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        record.setDeviceLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
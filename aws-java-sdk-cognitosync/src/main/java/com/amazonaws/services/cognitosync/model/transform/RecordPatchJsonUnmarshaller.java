@@ -47,25 +47,24 @@ public class RecordPatchJsonUnmarshaller implements Unmarshaller<RecordPatch, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Op", targetDepth)) {
-                    context.nextToken();
-                    recordPatch.setOp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    recordPatch.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    recordPatch.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SyncCount", targetDepth)) {
-                    context.nextToken();
-                    recordPatch.setSyncCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceLastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    recordPatch.setDeviceLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Op".equals(fieldName)) {
+                        context.nextToken();
+                        recordPatch.setOp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        recordPatch.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        recordPatch.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SyncCount".equals(fieldName)) {
+                        context.nextToken();
+                        recordPatch.setSyncCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("DeviceLastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        recordPatch.setDeviceLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class RegisterDeviceResultJsonUnmarshaller implements Unmarshaller<Regist
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeviceId", targetDepth)) {
-                    context.nextToken();
-                    registerDeviceResult.setDeviceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeviceId".equals(fieldName)) {
+                        context.nextToken();
+                        registerDeviceResult.setDeviceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class UpdateRecordsResultJsonUnmarshaller implements Unmarshaller<UpdateR
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Records", targetDepth)) {
-                    context.nextToken();
-                    updateRecordsResult.setRecords(new ListUnmarshaller<Record>(RecordJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Records".equals(fieldName)) {
+                        context.nextToken();
+                        updateRecordsResult.setRecords(recordsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class UpdateRecordsResultJsonUnmarshaller implements Unmarshaller<UpdateR
         return updateRecordsResult;
     }
 
+    private final Unmarshaller<java.util.List<Record>, JsonUnmarshallerContext> recordsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Record>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Record>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Record>(RecordJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static UpdateRecordsResultJsonUnmarshaller instance;
 
     public static UpdateRecordsResultJsonUnmarshaller getInstance() {
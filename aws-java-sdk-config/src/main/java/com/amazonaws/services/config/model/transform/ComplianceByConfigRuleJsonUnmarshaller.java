@@ -47,13 +47,15 @@ public class ComplianceByConfigRuleJsonUnmarshaller implements Unmarshaller<Comp
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRuleName", targetDepth)) {
-                    context.nextToken();
-                    complianceByConfigRule.setConfigRuleName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Compliance", targetDepth)) {
-                    context.nextToken();
-                    complianceByConfigRule.setCompliance(ComplianceJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ConfigRuleName".equals(fieldName)) {
+                        context.nextToken();
+                        complianceByConfigRule.setConfigRuleName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Compliance".equals(fieldName)) {
+                        context.nextToken();
+                        complianceByConfigRule.setCompliance(ComplianceJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
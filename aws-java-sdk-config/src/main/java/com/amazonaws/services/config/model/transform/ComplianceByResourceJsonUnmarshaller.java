@@ -47,17 +47,18 @@ public class ComplianceByResourceJsonUnmarshaller implements Unmarshaller<Compli
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceType", targetDepth)) {
-                    context.nextToken();
-                    complianceByResource.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    complianceByResource.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Compliance", targetDepth)) {
-                    context.nextToken();
-                    complianceByResource.setCompliance(ComplianceJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ResourceType".equals(fieldName)) {
+                        context.nextToken();
+                        complianceByResource.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceId".equals(fieldName)) {
+                        context.nextToken();
+                        complianceByResource.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Compliance".equals(fieldName)) {
+                        context.nextToken();
+                        complianceByResource.setCompliance(ComplianceJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
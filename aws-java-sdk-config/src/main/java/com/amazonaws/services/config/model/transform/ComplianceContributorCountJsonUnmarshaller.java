@@ -47,13 +47,15 @@ public class ComplianceContributorCountJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CappedCount", targetDepth)) {
-                    context.nextToken();
-                    complianceContributorCount.setCappedCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CapExceeded", targetDepth)) {
-                    context.nextToken();
-                    complianceContributorCount.setCapExceeded(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CappedCount".equals(fieldName)) {
+                        context.nextToken();
+                        complianceContributorCount.setCappedCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("CapExceeded".equals(fieldName)) {
+                        context.nextToken();
+                        complianceContributorCount.setCapExceeded(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ComplianceJsonUnmarshaller implements Unmarshaller<Compliance, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceType", targetDepth)) {
-                    context.nextToken();
-                    compliance.setComplianceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComplianceContributorCount", targetDepth)) {
-                    context.nextToken();
-                    compliance.setComplianceContributorCount(ComplianceContributorCountJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ComplianceType".equals(fieldName)) {
+                        context.nextToken();
+                        compliance.setComplianceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComplianceContributorCount".equals(fieldName)) {
+                        context.nextToken();
+                        compliance.setComplianceContributorCount(ComplianceContributorCountJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
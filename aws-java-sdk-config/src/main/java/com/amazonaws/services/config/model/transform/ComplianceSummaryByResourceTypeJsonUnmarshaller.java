@@ -47,13 +47,15 @@ public class ComplianceSummaryByResourceTypeJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceType", targetDepth)) {
-                    context.nextToken();
-                    complianceSummaryByResourceType.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComplianceSummary", targetDepth)) {
-                    context.nextToken();
-                    complianceSummaryByResourceType.setComplianceSummary(ComplianceSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ResourceType".equals(fieldName)) {
+                        context.nextToken();
+                        complianceSummaryByResourceType.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComplianceSummary".equals(fieldName)) {
+                        context.nextToken();
+                        complianceSummaryByResourceType.setComplianceSummary(ComplianceSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
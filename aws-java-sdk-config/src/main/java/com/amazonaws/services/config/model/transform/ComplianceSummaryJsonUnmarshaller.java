@@ -47,17 +47,18 @@ public class ComplianceSummaryJsonUnmarshaller implements Unmarshaller<Complianc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CompliantResourceCount", targetDepth)) {
-                    context.nextToken();
-                    complianceSummary.setCompliantResourceCount(ComplianceContributorCountJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("NonCompliantResourceCount", targetDepth)) {
-                    context.nextToken();
-                    complianceSummary.setNonCompliantResourceCount(ComplianceContributorCountJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ComplianceSummaryTimestamp", targetDepth)) {
-                    context.nextToken();
-                    complianceSummary.setComplianceSummaryTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CompliantResourceCount".equals(fieldName)) {
+                        context.nextToken();
+                        complianceSummary.setCompliantResourceCount(ComplianceContributorCountJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("NonCompliantResourceCount".equals(fieldName)) {
+                        context.nextToken();
+                        complianceSummary.setNonCompliantResourceCount(ComplianceContributorCountJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ComplianceSummaryTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        complianceSummary.setComplianceSummaryTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
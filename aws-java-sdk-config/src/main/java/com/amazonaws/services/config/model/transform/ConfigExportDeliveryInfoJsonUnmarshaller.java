@@ -47,29 +47,27 @@ public class ConfigExportDeliveryInfoJsonUnmarshaller implements Unmarshaller<Co
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("lastStatus", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setLastStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorCode", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setLastErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setLastErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastAttemptTime", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setLastAttemptTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastSuccessfulTime", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setLastSuccessfulTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("nextDeliveryTime", targetDepth)) {
-                    context.nextToken();
-                    configExportDeliveryInfo.setNextDeliveryTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("lastStatus".equals(fieldName)) {
+                        context.nextToken();
+                        configExportDeliveryInfo.setLastStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        configExportDeliveryInfo.setLastErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        configExportDeliveryInfo.setLastErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastAttemptTime".equals(fieldName)) {
+                        context.nextToken();
+                        configExportDeliveryInfo.setLastAttemptTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lastSuccessfulTime".equals(fieldName)) {
+                        context.nextToken();
+                        configExportDeliveryInfo.setLastSuccessfulTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("nextDeliveryTime".equals(fieldName)) {
+                        context.nextToken();
+                        configExportDeliveryInfo.setNextDeliveryTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
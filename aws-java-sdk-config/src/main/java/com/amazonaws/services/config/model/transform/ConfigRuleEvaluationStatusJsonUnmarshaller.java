@@ -47,49 +47,42 @@ public class ConfigRuleEvaluationStatusJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRuleName", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setConfigRuleName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleArn", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setConfigRuleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleId", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setConfigRuleId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastSuccessfulInvocationTime", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setLastSuccessfulInvocationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastFailedInvocationTime", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setLastFailedInvocationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastSuccessfulEvaluationTime", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setLastSuccessfulEvaluationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastFailedEvaluationTime", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setLastFailedEvaluationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("FirstActivatedTime", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setFirstActivatedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastErrorCode", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setLastErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setLastErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FirstEvaluationStarted", targetDepth)) {
-                    context.nextToken();
-                    configRuleEvaluationStatus.setFirstEvaluationStarted(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ConfigRuleName".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setConfigRuleName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConfigRuleArn".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setConfigRuleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConfigRuleId".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setConfigRuleId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastSuccessfulInvocationTime".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setLastSuccessfulInvocationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastFailedInvocationTime".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setLastFailedInvocationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastSuccessfulEvaluationTime".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setLastSuccessfulEvaluationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastFailedEvaluationTime".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setLastFailedEvaluationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("FirstActivatedTime".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setFirstActivatedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setLastErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setLastErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FirstEvaluationStarted".equals(fieldName)) {
+                        context.nextToken();
+                        configRuleEvaluationStatus.setFirstEvaluationStarted(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
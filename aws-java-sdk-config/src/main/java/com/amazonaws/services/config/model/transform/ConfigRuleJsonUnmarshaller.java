@@ -47,41 +47,36 @@ public class ConfigRuleJsonUnmarshaller implements Unmarshaller<ConfigRule, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRuleName", targetDepth)) {
-                    context.nextToken();
-                    configRule.setConfigRuleName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleArn", targetDepth)) {
-                    context.nextToken();
-                    configRule.setConfigRuleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleId", targetDepth)) {
-                    context.nextToken();
-                    configRule.setConfigRuleId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    configRule.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Scope", targetDepth)) {
-                    context.nextToken();
-                    configRule.setScope(ScopeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Source", targetDepth)) {
-                    context.nextToken();
-                    configRule.setSource(SourceJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("InputParameters", targetDepth)) {
-                    context.nextToken();
-                    configRule.setInputParameters(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaximumExecutionFrequency", targetDepth)) {
-                    context.nextToken();
-                    configRule.setMaximumExecutionFrequency(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleState", targetDepth)) {
-                    context.nextToken();
-                    configRule.setConfigRuleState(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ConfigRuleName".equals(fieldName)) {
+                        context.nextToken();
+                        configRule.setConfigRuleName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConfigRuleArn".equals(fieldName)) {
+                        context.nextToken();
+                        configRule.setConfigRuleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConfigRuleId".equals(fieldName)) {
+                        context.nextToken();
+                        configRule.setConfigRuleId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        configRule.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Scope".equals(fieldName)) {
+                        context.nextToken();
+                        configRule.setScope(ScopeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Source".equals(fieldName)) {
+                        context.nextToken();
+                        configRule.setSource(SourceJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("InputParameters".equals(fieldName)) {
+                        context.nextToken();
+                        configRule.setInputParameters(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaximumExecutionFrequency".equals(fieldName)) {
+                        context.nextToken();
+                        configRule.setMaximumExecutionFrequency(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConfigRuleState".equals(fieldName)) {
+                        context.nextToken();
+                        configRule.setConfigRuleState(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
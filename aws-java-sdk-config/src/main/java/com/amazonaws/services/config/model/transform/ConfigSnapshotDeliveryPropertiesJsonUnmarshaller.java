@@ -47,9 +47,12 @@ public class ConfigSnapshotDeliveryPropertiesJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deliveryFrequency", targetDepth)) {
-                    context.nextToken();
-                    configSnapshotDeliveryProperties.setDeliveryFrequency(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deliveryFrequency".equals(fieldName)) {
+                        context.nextToken();
+                        configSnapshotDeliveryProperties.setDeliveryFrequency(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class ConfigStreamDeliveryInfoJsonUnmarshaller implements Unmarshaller<Co
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("lastStatus", targetDepth)) {
-                    context.nextToken();
-                    configStreamDeliveryInfo.setLastStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorCode", targetDepth)) {
-                    context.nextToken();
-                    configStreamDeliveryInfo.setLastErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    configStreamDeliveryInfo.setLastErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStatusChangeTime", targetDepth)) {
-                    context.nextToken();
-                    configStreamDeliveryInfo.setLastStatusChangeTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("lastStatus".equals(fieldName)) {
+                        context.nextToken();
+                        configStreamDeliveryInfo.setLastStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        configStreamDeliveryInfo.setLastErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        configStreamDeliveryInfo.setLastErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastStatusChangeTime".equals(fieldName)) {
+                        context.nextToken();
+                        configStreamDeliveryInfo.setLastStatusChangeTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
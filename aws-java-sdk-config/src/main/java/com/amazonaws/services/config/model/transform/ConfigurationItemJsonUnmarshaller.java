@@ -47,79 +47,63 @@ public class ConfigurationItemJsonUnmarshaller implements Unmarshaller<Configura
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("accountId", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setAccountId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationItemCaptureTime", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setConfigurationItemCaptureTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationItemStatus", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setConfigurationItemStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationStateId", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setConfigurationStateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationItemMD5Hash", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setConfigurationItemMD5Hash(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceType", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceId", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceName", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setResourceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("awsRegion", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setAwsRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("availabilityZone", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceCreationTime", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setResourceCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("tags", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setTags(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("relatedEvents", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setRelatedEvents(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("relationships", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setRelationships(new ListUnmarshaller<Relationship>(RelationshipJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("configuration", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setConfiguration(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("supplementaryConfiguration", targetDepth)) {
-                    context.nextToken();
-                    configurationItem.setSupplementaryConfiguration(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("version".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("accountId".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setAccountId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("configurationItemCaptureTime".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setConfigurationItemCaptureTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("configurationItemStatus".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setConfigurationItemStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("configurationStateId".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setConfigurationStateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("configurationItemMD5Hash".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setConfigurationItemMD5Hash(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceType".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceId".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceName".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setResourceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("awsRegion".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setAwsRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("availabilityZone".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceCreationTime".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setResourceCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("tags".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setTags(tagsUnmarshaller.unmarshall(context));
+                    } else if ("relatedEvents".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setRelatedEvents(relatedEventsUnmarshaller.unmarshall(context));
+                    } else if ("relationships".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setRelationships(relationshipsUnmarshaller.unmarshall(context));
+                    } else if ("configuration".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setConfiguration(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("supplementaryConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        configurationItem.setSupplementaryConfiguration(supplementaryConfigurationUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -133,6 +117,31 @@ public class ConfigurationItemJsonUnmarshaller implements Unmarshaller<Configura
         return configurationItem;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> relatedEventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<Relationship>, JsonUnmarshallerContext> relationshipsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Relationship>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Relationship>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Relationship>(RelationshipJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> supplementaryConfigurationUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ConfigurationItemJsonUnmarshaller instance;
 
     public static ConfigurationItemJsonUnmarshaller getInstance() {
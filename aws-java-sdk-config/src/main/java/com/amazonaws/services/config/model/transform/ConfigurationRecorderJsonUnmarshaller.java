@@ -47,17 +47,18 @@ public class ConfigurationRecorderJsonUnmarshaller implements Unmarshaller<Confi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorder.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleARN", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorder.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("recordingGroup", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorder.setRecordingGroup(RecordingGroupJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorder.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("roleARN".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorder.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("recordingGroup".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorder.setRecordingGroup(RecordingGroupJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
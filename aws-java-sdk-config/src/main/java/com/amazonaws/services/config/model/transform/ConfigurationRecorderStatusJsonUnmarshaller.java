@@ -47,37 +47,33 @@ public class ConfigurationRecorderStatusJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStartTime", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStopTime", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastStopTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("recording", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setRecording(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStatus", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorCode", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStatusChangeTime", targetDepth)) {
-                    context.nextToken();
-                    configurationRecorderStatus.setLastStatusChangeTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorderStatus.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastStartTime".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorderStatus.setLastStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lastStopTime".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorderStatus.setLastStopTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("recording".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorderStatus.setRecording(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("lastStatus".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorderStatus.setLastStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorderStatus.setLastErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorderStatus.setLastErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastStatusChangeTime".equals(fieldName)) {
+                        context.nextToken();
+                        configurationRecorderStatus.setLastStatusChangeTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
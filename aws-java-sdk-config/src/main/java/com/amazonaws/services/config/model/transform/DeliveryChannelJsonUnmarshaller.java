@@ -47,25 +47,24 @@ public class DeliveryChannelJsonUnmarshaller implements Unmarshaller<DeliveryCha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannel.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("s3BucketName", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannel.setS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("s3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannel.setS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("snsTopicARN", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannel.setSnsTopicARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("configSnapshotDeliveryProperties", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannel.setConfigSnapshotDeliveryProperties(ConfigSnapshotDeliveryPropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryChannel.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("s3BucketName".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryChannel.setS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("s3KeyPrefix".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryChannel.setS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("snsTopicARN".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryChannel.setSnsTopicARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("configSnapshotDeliveryProperties".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryChannel.setConfigSnapshotDeliveryProperties(ConfigSnapshotDeliveryPropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class DeliveryChannelStatusJsonUnmarshaller implements Unmarshaller<Deliv
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannelStatus.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("configSnapshotDeliveryInfo", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannelStatus.setConfigSnapshotDeliveryInfo(ConfigExportDeliveryInfoJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("configHistoryDeliveryInfo", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannelStatus.setConfigHistoryDeliveryInfo(ConfigExportDeliveryInfoJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("configStreamDeliveryInfo", targetDepth)) {
-                    context.nextToken();
-                    deliveryChannelStatus.setConfigStreamDeliveryInfo(ConfigStreamDeliveryInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryChannelStatus.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("configSnapshotDeliveryInfo".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryChannelStatus.setConfigSnapshotDeliveryInfo(ConfigExportDeliveryInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("configHistoryDeliveryInfo".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryChannelStatus.setConfigHistoryDeliveryInfo(ConfigExportDeliveryInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("configStreamDeliveryInfo".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryChannelStatus.setConfigStreamDeliveryInfo(ConfigStreamDeliveryInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
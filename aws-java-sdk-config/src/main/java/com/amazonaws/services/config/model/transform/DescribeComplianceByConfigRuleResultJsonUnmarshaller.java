@@ -47,14 +47,15 @@ public class DescribeComplianceByConfigRuleResultJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceByConfigRules", targetDepth)) {
-                    context.nextToken();
-                    describeComplianceByConfigRuleResult.setComplianceByConfigRules(new ListUnmarshaller<ComplianceByConfigRule>(
-                            ComplianceByConfigRuleJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeComplianceByConfigRuleResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ComplianceByConfigRules".equals(fieldName)) {
+                        context.nextToken();
+                        describeComplianceByConfigRuleResult.setComplianceByConfigRules(complianceByConfigRulesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeComplianceByConfigRuleResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeComplianceByConfigRuleResultJsonUnmarshaller implements Unm
         return describeComplianceByConfigRuleResult;
     }
 
+    private final Unmarshaller<java.util.List<ComplianceByConfigRule>, JsonUnmarshallerContext> complianceByConfigRulesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ComplianceByConfigRule>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ComplianceByConfigRule>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ComplianceByConfigRule>(ComplianceByConfigRuleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeComplianceByConfigRuleResultJsonUnmarshaller instance;
 
     public static DescribeComplianceByConfigRuleResultJsonUnmarshaller getInstance() {
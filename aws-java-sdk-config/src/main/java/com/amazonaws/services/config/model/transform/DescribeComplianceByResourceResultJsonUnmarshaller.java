@@ -47,14 +47,15 @@ public class DescribeComplianceByResourceResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceByResources", targetDepth)) {
-                    context.nextToken();
-                    describeComplianceByResourceResult.setComplianceByResources(new ListUnmarshaller<ComplianceByResource>(ComplianceByResourceJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeComplianceByResourceResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ComplianceByResources".equals(fieldName)) {
+                        context.nextToken();
+                        describeComplianceByResourceResult.setComplianceByResources(complianceByResourcesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeComplianceByResourceResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeComplianceByResourceResultJsonUnmarshaller implements Unmar
         return describeComplianceByResourceResult;
     }
 
+    private final Unmarshaller<java.util.List<ComplianceByResource>, JsonUnmarshallerContext> complianceByResourcesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ComplianceByResource>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ComplianceByResource>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ComplianceByResource>(ComplianceByResourceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeComplianceByResourceResultJsonUnmarshaller instance;
 
     public static DescribeComplianceByResourceResultJsonUnmarshaller getInstance() {
@@ -48,10 +48,12 @@ public class DescribeConfigRuleEvaluationStatusResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRulesEvaluationStatus", targetDepth)) {
-                    context.nextToken();
-                    describeConfigRuleEvaluationStatusResult.setConfigRulesEvaluationStatus(new ListUnmarshaller<ConfigRuleEvaluationStatus>(
-                            ConfigRuleEvaluationStatusJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ConfigRulesEvaluationStatus".equals(fieldName)) {
+                        context.nextToken();
+                        describeConfigRuleEvaluationStatusResult.setConfigRulesEvaluationStatus(configRulesEvaluationStatusUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -65,6 +67,13 @@ public class DescribeConfigRuleEvaluationStatusResultJsonUnmarshaller implements
         return describeConfigRuleEvaluationStatusResult;
     }
 
+    private final Unmarshaller<java.util.List<ConfigRuleEvaluationStatus>, JsonUnmarshallerContext> configRulesEvaluationStatusUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConfigRuleEvaluationStatus>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConfigRuleEvaluationStatus>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConfigRuleEvaluationStatus>(ConfigRuleEvaluationStatusJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeConfigRuleEvaluationStatusResultJsonUnmarshaller instance;
 
     public static DescribeConfigRuleEvaluationStatusResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DescribeConfigRulesResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRules", targetDepth)) {
-                    context.nextToken();
-                    describeConfigRulesResult.setConfigRules(new ListUnmarshaller<ConfigRule>(ConfigRuleJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeConfigRulesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ConfigRules".equals(fieldName)) {
+                        context.nextToken();
+                        describeConfigRulesResult.setConfigRules(configRulesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeConfigRulesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeConfigRulesResultJsonUnmarshaller implements Unmarshaller<D
         return describeConfigRulesResult;
     }
 
+    private final Unmarshaller<java.util.List<ConfigRule>, JsonUnmarshallerContext> configRulesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConfigRule>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConfigRule>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConfigRule>(ConfigRuleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeConfigRulesResultJsonUnmarshaller instance;
 
     public static DescribeConfigRulesResultJsonUnmarshaller getInstance() {
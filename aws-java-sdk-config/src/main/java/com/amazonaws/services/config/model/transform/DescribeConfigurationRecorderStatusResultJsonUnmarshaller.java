@@ -48,10 +48,12 @@ public class DescribeConfigurationRecorderStatusResultJsonUnmarshaller implement
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigurationRecordersStatus", targetDepth)) {
-                    context.nextToken();
-                    describeConfigurationRecorderStatusResult.setConfigurationRecordersStatus(new ListUnmarshaller<ConfigurationRecorderStatus>(
-                            ConfigurationRecorderStatusJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ConfigurationRecordersStatus".equals(fieldName)) {
+                        context.nextToken();
+                        describeConfigurationRecorderStatusResult.setConfigurationRecordersStatus(configurationRecordersStatusUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -65,6 +67,13 @@ public class DescribeConfigurationRecorderStatusResultJsonUnmarshaller implement
         return describeConfigurationRecorderStatusResult;
     }
 
+    private final Unmarshaller<java.util.List<ConfigurationRecorderStatus>, JsonUnmarshallerContext> configurationRecordersStatusUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConfigurationRecorderStatus>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConfigurationRecorderStatus>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConfigurationRecorderStatus>(ConfigurationRecorderStatusJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeConfigurationRecorderStatusResultJsonUnmarshaller instance;
 
     public static DescribeConfigurationRecorderStatusResultJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class DescribeConfigurationRecordersResultJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigurationRecorders", targetDepth)) {
-                    context.nextToken();
-                    describeConfigurationRecordersResult.setConfigurationRecorders(new ListUnmarshaller<ConfigurationRecorder>(
-                            ConfigurationRecorderJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ConfigurationRecorders".equals(fieldName)) {
+                        context.nextToken();
+                        describeConfigurationRecordersResult.setConfigurationRecorders(configurationRecordersUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeConfigurationRecordersResultJsonUnmarshaller implements Unm
         return describeConfigurationRecordersResult;
     }
 
+    private final Unmarshaller<java.util.List<ConfigurationRecorder>, JsonUnmarshallerContext> configurationRecordersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConfigurationRecorder>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConfigurationRecorder>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConfigurationRecorder>(ConfigurationRecorderJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeConfigurationRecordersResultJsonUnmarshaller instance;
 
     public static DescribeConfigurationRecordersResultJsonUnmarshaller getInstance() {
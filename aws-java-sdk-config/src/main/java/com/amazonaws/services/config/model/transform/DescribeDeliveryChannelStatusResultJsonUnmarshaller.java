@@ -47,10 +47,12 @@ public class DescribeDeliveryChannelStatusResultJsonUnmarshaller implements Unma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryChannelsStatus", targetDepth)) {
-                    context.nextToken();
-                    describeDeliveryChannelStatusResult.setDeliveryChannelsStatus(new ListUnmarshaller<DeliveryChannelStatus>(
-                            DeliveryChannelStatusJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeliveryChannelsStatus".equals(fieldName)) {
+                        context.nextToken();
+                        describeDeliveryChannelStatusResult.setDeliveryChannelsStatus(deliveryChannelsStatusUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeDeliveryChannelStatusResultJsonUnmarshaller implements Unma
         return describeDeliveryChannelStatusResult;
     }
 
+    private final Unmarshaller<java.util.List<DeliveryChannelStatus>, JsonUnmarshallerContext> deliveryChannelsStatusUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DeliveryChannelStatus>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DeliveryChannelStatus>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DeliveryChannelStatus>(DeliveryChannelStatusJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeDeliveryChannelStatusResultJsonUnmarshaller instance;
 
     public static DescribeDeliveryChannelStatusResultJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class DescribeDeliveryChannelsResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryChannels", targetDepth)) {
-                    context.nextToken();
-                    describeDeliveryChannelsResult.setDeliveryChannels(new ListUnmarshaller<DeliveryChannel>(DeliveryChannelJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeliveryChannels".equals(fieldName)) {
+                        context.nextToken();
+                        describeDeliveryChannelsResult.setDeliveryChannels(deliveryChannelsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeDeliveryChannelsResultJsonUnmarshaller implements Unmarshal
         return describeDeliveryChannelsResult;
     }
 
+    private final Unmarshaller<java.util.List<DeliveryChannel>, JsonUnmarshallerContext> deliveryChannelsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DeliveryChannel>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DeliveryChannel>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DeliveryChannel>(DeliveryChannelJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeDeliveryChannelsResultJsonUnmarshaller instance;
 
     public static DescribeDeliveryChannelsResultJsonUnmarshaller getInstance() {
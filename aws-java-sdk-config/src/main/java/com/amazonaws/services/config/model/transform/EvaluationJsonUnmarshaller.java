@@ -47,25 +47,24 @@ public class EvaluationJsonUnmarshaller implements Unmarshaller<Evaluation, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceResourceType", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setComplianceResourceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComplianceResourceId", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setComplianceResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComplianceType", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setComplianceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Annotation", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setAnnotation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OrderingTimestamp", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setOrderingTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ComplianceResourceType".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setComplianceResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComplianceResourceId".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setComplianceResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComplianceType".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setComplianceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Annotation".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setAnnotation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OrderingTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setOrderingTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class EvaluationResultIdentifierJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EvaluationResultQualifier", targetDepth)) {
-                    context.nextToken();
-                    evaluationResultIdentifier.setEvaluationResultQualifier(EvaluationResultQualifierJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("OrderingTimestamp", targetDepth)) {
-                    context.nextToken();
-                    evaluationResultIdentifier.setOrderingTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EvaluationResultQualifier".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResultIdentifier.setEvaluationResultQualifier(EvaluationResultQualifierJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("OrderingTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResultIdentifier.setOrderingTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class EvaluationResultJsonUnmarshaller implements Unmarshaller<Evaluation
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EvaluationResultIdentifier", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setEvaluationResultIdentifier(EvaluationResultIdentifierJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ComplianceType", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setComplianceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResultRecordedTime", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setResultRecordedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigRuleInvokedTime", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setConfigRuleInvokedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Annotation", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setAnnotation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResultToken", targetDepth)) {
-                    context.nextToken();
-                    evaluationResult.setResultToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EvaluationResultIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResult.setEvaluationResultIdentifier(EvaluationResultIdentifierJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ComplianceType".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResult.setComplianceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResultRecordedTime".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResult.setResultRecordedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ConfigRuleInvokedTime".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResult.setConfigRuleInvokedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Annotation".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResult.setAnnotation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResultToken".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResult.setResultToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class EvaluationResultQualifierJsonUnmarshaller implements Unmarshaller<E
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConfigRuleName", targetDepth)) {
-                    context.nextToken();
-                    evaluationResultQualifier.setConfigRuleName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceType", targetDepth)) {
-                    context.nextToken();
-                    evaluationResultQualifier.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    evaluationResultQualifier.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ConfigRuleName".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResultQualifier.setConfigRuleName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceType".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResultQualifier.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceId".equals(fieldName)) {
+                        context.nextToken();
+                        evaluationResultQualifier.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class GetComplianceDetailsByResourceResultJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EvaluationResults", targetDepth)) {
-                    context.nextToken();
-                    getComplianceDetailsByResourceResult.setEvaluationResults(new ListUnmarshaller<EvaluationResult>(EvaluationResultJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    getComplianceDetailsByResourceResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EvaluationResults".equals(fieldName)) {
+                        context.nextToken();
+                        getComplianceDetailsByResourceResult.setEvaluationResults(evaluationResultsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        getComplianceDetailsByResourceResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class GetComplianceDetailsByResourceResultJsonUnmarshaller implements Unm
         return getComplianceDetailsByResourceResult;
     }
 
+    private final Unmarshaller<java.util.List<EvaluationResult>, JsonUnmarshallerContext> evaluationResultsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EvaluationResult>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EvaluationResult>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EvaluationResult>(EvaluationResultJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetComplianceDetailsByResourceResultJsonUnmarshaller instance;
 
     public static GetComplianceDetailsByResourceResultJsonUnmarshaller getInstance() {
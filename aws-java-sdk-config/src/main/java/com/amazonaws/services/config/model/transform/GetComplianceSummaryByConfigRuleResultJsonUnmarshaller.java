@@ -47,9 +47,12 @@ public class GetComplianceSummaryByConfigRuleResultJsonUnmarshaller implements U
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceSummary", targetDepth)) {
-                    context.nextToken();
-                    getComplianceSummaryByConfigRuleResult.setComplianceSummary(ComplianceSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ComplianceSummary".equals(fieldName)) {
+                        context.nextToken();
+                        getComplianceSummaryByConfigRuleResult.setComplianceSummary(ComplianceSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
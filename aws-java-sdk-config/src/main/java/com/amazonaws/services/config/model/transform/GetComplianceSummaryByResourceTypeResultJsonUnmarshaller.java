@@ -48,10 +48,13 @@ public class GetComplianceSummaryByResourceTypeResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceSummariesByResourceType", targetDepth)) {
-                    context.nextToken();
-                    getComplianceSummaryByResourceTypeResult.setComplianceSummariesByResourceType(new ListUnmarshaller<ComplianceSummaryByResourceType>(
-                            ComplianceSummaryByResourceTypeJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ComplianceSummariesByResourceType".equals(fieldName)) {
+                        context.nextToken();
+                        getComplianceSummaryByResourceTypeResult.setComplianceSummariesByResourceType(complianceSummariesByResourceTypeUnmarshaller
+                                .unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -65,6 +68,13 @@ public class GetComplianceSummaryByResourceTypeResultJsonUnmarshaller implements
         return getComplianceSummaryByResourceTypeResult;
     }
 
+    private final Unmarshaller<java.util.List<ComplianceSummaryByResourceType>, JsonUnmarshallerContext> complianceSummariesByResourceTypeUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ComplianceSummaryByResourceType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ComplianceSummaryByResourceType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ComplianceSummaryByResourceType>(ComplianceSummaryByResourceTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetComplianceSummaryByResourceTypeResultJsonUnmarshaller instance;
 
     public static GetComplianceSummaryByResourceTypeResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class GetResourceConfigHistoryResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurationItems", targetDepth)) {
-                    context.nextToken();
-                    getResourceConfigHistoryResult.setConfigurationItems(new ListUnmarshaller<ConfigurationItem>(ConfigurationItemJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    getResourceConfigHistoryResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("configurationItems".equals(fieldName)) {
+                        context.nextToken();
+                        getResourceConfigHistoryResult.setConfigurationItems(configurationItemsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        getResourceConfigHistoryResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class GetResourceConfigHistoryResultJsonUnmarshaller implements Unmarshal
         return getResourceConfigHistoryResult;
     }
 
+    private final Unmarshaller<java.util.List<ConfigurationItem>, JsonUnmarshallerContext> configurationItemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConfigurationItem>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConfigurationItem>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConfigurationItem>(ConfigurationItemJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetResourceConfigHistoryResultJsonUnmarshaller instance;
 
     public static GetResourceConfigHistoryResultJsonUnmarshaller getInstance() {
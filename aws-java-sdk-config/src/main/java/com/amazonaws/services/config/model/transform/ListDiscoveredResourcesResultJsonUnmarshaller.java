@@ -47,14 +47,15 @@ public class ListDiscoveredResourcesResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceIdentifiers", targetDepth)) {
-                    context.nextToken();
-                    listDiscoveredResourcesResult.setResourceIdentifiers(new ListUnmarshaller<ResourceIdentifier>(ResourceIdentifierJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listDiscoveredResourcesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("resourceIdentifiers".equals(fieldName)) {
+                        context.nextToken();
+                        listDiscoveredResourcesResult.setResourceIdentifiers(resourceIdentifiersUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listDiscoveredResourcesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListDiscoveredResourcesResultJsonUnmarshaller implements Unmarshall
         return listDiscoveredResourcesResult;
     }
 
+    private final Unmarshaller<java.util.List<ResourceIdentifier>, JsonUnmarshallerContext> resourceIdentifiersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ResourceIdentifier>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ResourceIdentifier>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ResourceIdentifier>(ResourceIdentifierJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListDiscoveredResourcesResultJsonUnmarshaller instance;
 
     public static ListDiscoveredResourcesResultJsonUnmarshaller getInstance() {
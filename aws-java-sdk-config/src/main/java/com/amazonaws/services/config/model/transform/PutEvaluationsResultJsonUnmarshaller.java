@@ -47,9 +47,12 @@ public class PutEvaluationsResultJsonUnmarshaller implements Unmarshaller<PutEva
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedEvaluations", targetDepth)) {
-                    context.nextToken();
-                    putEvaluationsResult.setFailedEvaluations(new ListUnmarshaller<Evaluation>(EvaluationJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FailedEvaluations".equals(fieldName)) {
+                        context.nextToken();
+                        putEvaluationsResult.setFailedEvaluations(failedEvaluationsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class PutEvaluationsResultJsonUnmarshaller implements Unmarshaller<PutEva
         return putEvaluationsResult;
     }
 
+    private final Unmarshaller<java.util.List<Evaluation>, JsonUnmarshallerContext> failedEvaluationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Evaluation>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Evaluation>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Evaluation>(EvaluationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PutEvaluationsResultJsonUnmarshaller instance;
 
     public static PutEvaluationsResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class RecordingGroupJsonUnmarshaller implements Unmarshaller<RecordingGro
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("allSupported", targetDepth)) {
-                    context.nextToken();
-                    recordingGroup.setAllSupported(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("includeGlobalResourceTypes", targetDepth)) {
-                    context.nextToken();
-                    recordingGroup.setIncludeGlobalResourceTypes(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceTypes", targetDepth)) {
-                    context.nextToken();
-                    recordingGroup.setResourceTypes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("allSupported".equals(fieldName)) {
+                        context.nextToken();
+                        recordingGroup.setAllSupported(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("includeGlobalResourceTypes".equals(fieldName)) {
+                        context.nextToken();
+                        recordingGroup.setIncludeGlobalResourceTypes(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("resourceTypes".equals(fieldName)) {
+                        context.nextToken();
+                        recordingGroup.setResourceTypes(resourceTypesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class RecordingGroupJsonUnmarshaller implements Unmarshaller<RecordingGro
         return recordingGroup;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> resourceTypesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static RecordingGroupJsonUnmarshaller instance;
 
     public static RecordingGroupJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class RelationshipJsonUnmarshaller implements Unmarshaller<Relationship,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceType", targetDepth)) {
-                    context.nextToken();
-                    relationship.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceId", targetDepth)) {
-                    context.nextToken();
-                    relationship.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceName", targetDepth)) {
-                    context.nextToken();
-                    relationship.setResourceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("relationshipName", targetDepth)) {
-                    context.nextToken();
-                    relationship.setRelationshipName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("resourceType".equals(fieldName)) {
+                        context.nextToken();
+                        relationship.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceId".equals(fieldName)) {
+                        context.nextToken();
+                        relationship.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceName".equals(fieldName)) {
+                        context.nextToken();
+                        relationship.setResourceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("relationshipName".equals(fieldName)) {
+                        context.nextToken();
+                        relationship.setRelationshipName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class ResourceIdentifierJsonUnmarshaller implements Unmarshaller<Resource
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceType", targetDepth)) {
-                    context.nextToken();
-                    resourceIdentifier.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceId", targetDepth)) {
-                    context.nextToken();
-                    resourceIdentifier.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceName", targetDepth)) {
-                    context.nextToken();
-                    resourceIdentifier.setResourceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceDeletionTime", targetDepth)) {
-                    context.nextToken();
-                    resourceIdentifier.setResourceDeletionTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("resourceType".equals(fieldName)) {
+                        context.nextToken();
+                        resourceIdentifier.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceId".equals(fieldName)) {
+                        context.nextToken();
+                        resourceIdentifier.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceName".equals(fieldName)) {
+                        context.nextToken();
+                        resourceIdentifier.setResourceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceDeletionTime".equals(fieldName)) {
+                        context.nextToken();
+                        resourceIdentifier.setResourceDeletionTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
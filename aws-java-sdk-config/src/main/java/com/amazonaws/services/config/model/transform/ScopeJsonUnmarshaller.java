@@ -47,21 +47,21 @@ public class ScopeJsonUnmarshaller implements Unmarshaller<Scope, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComplianceResourceTypes", targetDepth)) {
-                    context.nextToken();
-                    scope.setComplianceResourceTypes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("TagKey", targetDepth)) {
-                    context.nextToken();
-                    scope.setTagKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TagValue", targetDepth)) {
-                    context.nextToken();
-                    scope.setTagValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComplianceResourceId", targetDepth)) {
-                    context.nextToken();
-                    scope.setComplianceResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ComplianceResourceTypes".equals(fieldName)) {
+                        context.nextToken();
+                        scope.setComplianceResourceTypes(complianceResourceTypesUnmarshaller.unmarshall(context));
+                    } else if ("TagKey".equals(fieldName)) {
+                        context.nextToken();
+                        scope.setTagKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TagValue".equals(fieldName)) {
+                        context.nextToken();
+                        scope.setTagValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComplianceResourceId".equals(fieldName)) {
+                        context.nextToken();
+                        scope.setComplianceResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +75,13 @@ public class ScopeJsonUnmarshaller implements Unmarshaller<Scope, JsonUnmarshall
         return scope;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> complianceResourceTypesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ScopeJsonUnmarshaller instance;
 
     public static ScopeJsonUnmarshaller getInstance() {
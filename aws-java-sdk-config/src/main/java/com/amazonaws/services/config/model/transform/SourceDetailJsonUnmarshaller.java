@@ -47,17 +47,18 @@ public class SourceDetailJsonUnmarshaller implements Unmarshaller<SourceDetail,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EventSource", targetDepth)) {
-                    context.nextToken();
-                    sourceDetail.setEventSource(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MessageType", targetDepth)) {
-                    context.nextToken();
-                    sourceDetail.setMessageType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaximumExecutionFrequency", targetDepth)) {
-                    context.nextToken();
-                    sourceDetail.setMaximumExecutionFrequency(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EventSource".equals(fieldName)) {
+                        context.nextToken();
+                        sourceDetail.setEventSource(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MessageType".equals(fieldName)) {
+                        context.nextToken();
+                        sourceDetail.setMessageType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaximumExecutionFrequency".equals(fieldName)) {
+                        context.nextToken();
+                        sourceDetail.setMaximumExecutionFrequency(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class SourceJsonUnmarshaller implements Unmarshaller<Source, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Owner", targetDepth)) {
-                    context.nextToken();
-                    source.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceIdentifier", targetDepth)) {
-                    context.nextToken();
-                    source.setSourceIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceDetails", targetDepth)) {
-                    context.nextToken();
-                    source.setSourceDetails(new ListUnmarshaller<SourceDetail>(SourceDetailJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Owner".equals(fieldName)) {
+                        context.nextToken();
+                        source.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SourceIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        source.setSourceIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SourceDetails".equals(fieldName)) {
+                        context.nextToken();
+                        source.setSourceDetails(sourceDetailsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class SourceJsonUnmarshaller implements Unmarshaller<Source, JsonUnmarsha
         return source;
     }
 
+    private final Unmarshaller<java.util.List<SourceDetail>, JsonUnmarshallerContext> sourceDetailsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SourceDetail>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SourceDetail>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SourceDetail>(SourceDetailJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static SourceJsonUnmarshaller instance;
 
     public static SourceJsonUnmarshaller getInstance() {
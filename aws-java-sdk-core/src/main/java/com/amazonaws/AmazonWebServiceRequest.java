@@ -329,9 +329,8 @@ public abstract class AmazonWebServiceRequest implements Cloneable, ReadLimitInf
      * Returns the amount of time to wait (in milliseconds) for the request to complete before
      * giving up and timing out. A non-positive value disables this feature.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The request timeout feature doesn't have strict guarantees on how quickly a request is
@@ -357,9 +356,8 @@ public abstract class AmazonWebServiceRequest implements Cloneable, ReadLimitInf
      * Sets the amount of time to wait (in milliseconds) for the request to complete before giving
      * up and timing out. A non-positive value disables this feature.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The request timeout feature doesn't have strict guarantees on how quickly a request is
@@ -388,9 +386,8 @@ public abstract class AmazonWebServiceRequest implements Cloneable, ReadLimitInf
      * up and timing out. A non-positive value disables this feature. Returns the updated
      * AmazonWebServiceRequest object so that additional method calls may be chained together.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The request timeout feature doesn't have strict guarantees on how quickly a request is
@@ -423,9 +420,8 @@ public abstract class AmazonWebServiceRequest implements Cloneable, ReadLimitInf
      * an API call. This timeout covers the entire client execution except for marshalling. This
      * includes request handler execution, all HTTP request including retries, unmarshalling, etc.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The client execution timeout feature doesn't have strict guarantees on how quickly a request
@@ -458,9 +454,8 @@ public abstract class AmazonWebServiceRequest implements Cloneable, ReadLimitInf
      * an API call. This timeout covers the entire client execution except for marshalling. This
      * includes request handler execution, all HTTP request including retries, unmarshalling, etc.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The client execution timeout feature doesn't have strict guarantees on how quickly a request
@@ -494,9 +489,8 @@ public abstract class AmazonWebServiceRequest implements Cloneable, ReadLimitInf
      * an API call. This timeout covers the entire client execution except for marshalling. This
      * includes request handler execution, all HTTP request including retries, unmarshalling, etc.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The client execution timeout feature doesn't have strict guarantees on how quickly a request
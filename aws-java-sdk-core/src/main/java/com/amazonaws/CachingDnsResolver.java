@@ -0,0 +1,323 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * DNS resolver that caches the addresses returned by another resolver for a
+ * fixed time, independently of the JVM-wide caching of
+ * {@link InetAddress}.
+ * <p>
+ * Cached addresses are refreshed in the background once three quarters of
+ * their time to live have elapsed, so that callers only block on a lookup
+ * for hosts they have not resolved recently. The addresses of a host are
+ * returned in a different order on every call (see {@link AddressOrder}), so
+ * that the connections of the HTTP client connection pool are spread over
+ * all the addresses of an endpoint rather than pinned to the first one.
+ * <p>
+ * Failed lookups are not cached. The number of cached hosts is bounded;
+ * entries closest to expiry are evicted first.
+ */
+@ThreadSafe
+public class CachingDnsResolver implements DnsResolver {
+
+    private static final Log log = LogFactory.getLog(CachingDnsResolver.class);
+
+    /** Default time (in milliseconds) addresses are cached for. */
+    public static final long DEFAULT_TTL_IN_MILLIS = 60 * 1000;
+
+    /** Default maximum number of hosts whose addresses are cached. */
+    public static final int DEFAULT_MAX_ENTRIES = 512;
+
+    /**
+     * Order in which the cached addresses of a host are returned.
+     */
+    public enum AddressOrder {
+        /** The order returned by the underlying resolver. */
+        AS_RESOLVED,
+        /** Rotated by one address on every call. */
+        ROUND_ROBIN,
+        /** Randomly shuffled on every call. */
+        SHUFFLED
+    }
+
+    /**
+     * Executor running the background refreshes of all the resolvers; lazily
+     * initialized and backed by a single daemon thread that exits when idle.
+     */
+    private static volatile Executor refreshExecutor;
+
+    private static final Random random = new Random();
+
+    private final DnsResolver delegate;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final int maxEntries;
+    private final AddressOrder addressOrder;
+
+    private final ConcurrentMap<String, CacheEntry> cache = new ConcurrentHashMap<String, CacheEntry>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+    private final AtomicLong refreshFailureCount = new AtomicLong();
+
+    /**
+     * Creates a resolver caching the addresses returned by the
+     * {@link SystemDefaultDnsResolver} for {@value #DEFAULT_TTL_IN_MILLIS}
+     * milliseconds, and returning them in {@link AddressOrder#ROUND_ROBIN}
+     * order.
+     */
+    public CachingDnsResolver() {
+        this(new SystemDefaultDnsResolver(), DEFAULT_TTL_IN_MILLIS, TimeUnit.MILLISECONDS,
+                DEFAULT_MAX_ENTRIES, AddressOrder.ROUND_ROBIN);
+    }
+
+    /**
+     * Creates a resolver caching the addresses returned by the given
+     * resolver.
+     *
+     * @param delegate
+     *            The resolver performing the actual lookups.
+     * @param ttl
+     *            The time addresses are cached for.
+     * @param unit
+     *            The unit of the time to live.
+     * @param maxEntries
+     *            The maximum number of hosts whose addresses are cached.
+     * @param addressOrder
+     *            The order in which the addresses of a host are returned.
+     */
+    public CachingDnsResolver(DnsResolver delegate, long ttl, TimeUnit unit, int maxEntries,
+                              AddressOrder addressOrder) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        if (addressOrder == null) {
+            throw new IllegalArgumentException("addressOrder cannot be null");
+        }
+        this.delegate = delegate;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.refreshAheadNanos = this.ttlNanos / 4;
+        this.maxEntries = maxEntries;
+        this.addressOrder = addressOrder;
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        final long now = nanoTime();
+        CacheEntry entry = cache.get(host);
+        if (entry != null && now - entry.expiresAt < 0) {
+            hitCount.incrementAndGet();
+            if (now - (entry.expiresAt - refreshAheadNanos) >= 0) {
+                refreshAsync(host, entry);
+            }
+            return order(entry);
+        }
+
+        missCount.incrementAndGet();
+        final InetAddress[] addresses = delegate.resolve(host);
+        if (addresses == null || addresses.length == 0) {
+            return addresses;
+        }
+        entry = new CacheEntry(addresses, nanoTime() + ttlNanos, new AtomicInteger());
+        cache.put(host, entry);
+        evictIfFull();
+        return order(entry);
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of lookups that were delegated to the underlying
+     * resolver because the host was not cached or its addresses had expired.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of cached hosts successfully refreshed in the
+     * background.
+     */
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    /**
+     * Returns the number of background refreshes that failed; the previously
+     * cached addresses are kept until they expire in that case.
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.get();
+    }
+
+    /**
+     * Returns the number of hosts currently cached, including expired ones
+     * not evicted yet.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all the cached addresses.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /** Returns the current value of the clock expiry times are based on. */
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private void refreshAsync(final String host, final CacheEntry entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            getRefreshExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    refresh(host, entry);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void refresh(String host, CacheEntry entry) {
+        try {
+            final InetAddress[] addresses = delegate.resolve(host);
+            if (addresses != null && addresses.length > 0) {
+                cache.replace(host, entry, new CacheEntry(addresses, nanoTime() + ttlNanos, entry.next));
+                refreshCount.incrementAndGet();
+                return;
+            }
+        } catch (UnknownHostException e) {
+            log.debug("Unable to refresh the cached addresses of " + host, e);
+        } catch (RuntimeException e) {
+            log.debug("Unable to refresh the cached addresses of " + host, e);
+        }
+        // Keep serving the cached addresses until they expire; the entry is
+        // not refreshed again so that a failing resolver is not hammered.
+        refreshFailureCount.incrementAndGet();
+    }
+
+    private void evictIfFull() {
+        while (cache.size() > maxEntries) {
+            Map.Entry<String, CacheEntry> eldest = null;
+            for (Map.Entry<String, CacheEntry> candidate : cache.entrySet()) {
+                if (eldest == null || candidate.getValue().expiresAt - eldest.getValue().expiresAt < 0) {
+                    eldest = candidate;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            cache.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private InetAddress[] order(CacheEntry entry) {
+        final InetAddress[] addresses = entry.addresses;
+        final int length = addresses.length;
+        switch (addressOrder) {
+            case ROUND_ROBIN:
+                final InetAddress[] rotated = new InetAddress[length];
+                final int offset = (entry.next.getAndIncrement() & Integer.MAX_VALUE) % length;
+                System.arraycopy(addresses, offset, rotated, 0, length - offset);
+                System.arraycopy(addresses, 0, rotated, length - offset, offset);
+                return rotated;
+            case SHUFFLED:
+                final InetAddress[] shuffled = addresses.clone();
+                Collections.shuffle(Arrays.asList(shuffled), random);
+                return shuffled;
+            default:
+                return addresses.clone();
+        }
+    }
+
+    private static Executor getRefreshExecutor() {
+        if (refreshExecutor == null) {
+            synchronized (CachingDnsResolver.class) {
+                if (refreshExecutor == null) {
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                                @Override
+                                public Thread newThread(Runnable runnable) {
+                                    Thread thread = new Thread(runnable, "aws-sdk-dns-refresh");
+                                    thread.setDaemon(true);
+                                    return thread;
+                                }
+                            });
+                    executor.allowCoreThreadTimeOut(true);
+                    refreshExecutor = executor;
+                }
+            }
+        }
+        return refreshExecutor;
+    }
+
+    private static final class CacheEntry {
+
+        private final InetAddress[] addresses;
+        private final long expiresAt;
+        /** Rotation counter, carried over to the refreshed entry. */
+        private final AtomicInteger next;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CacheEntry(InetAddress[] addresses, long expiresAt, AtomicInteger next) {
+            this.addresses = addresses.clone();
+            this.expiresAt = expiresAt;
+            this.next = next;
+        }
+    }
+}
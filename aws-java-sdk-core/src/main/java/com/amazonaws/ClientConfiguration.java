@@ -98,6 +98,11 @@ public class ClientConfiguration {
      */
     public static final boolean DEFAULT_TCP_KEEP_ALIVE = false;
 
+    /**
+     * The default on whether to schedule timeouts on a hashed wheel timer.
+     */
+    public static final boolean DEFAULT_USE_HASHED_WHEEL_TIMER = false;
+
     /**
      * The default on whether to throttle retries.
      */
@@ -249,6 +254,14 @@ public class ClientConfiguration {
      */
     private boolean tcpKeepAlive = DEFAULT_TCP_KEEP_ALIVE;
 
+    /**
+     * Optional override to schedule the request timeout and client execution timeout timers on a
+     * hashed wheel timer instead of a scheduled thread pool. Scheduling and canceling a timer on
+     * the wheel takes constant time and doesn't allocate, at the cost of timeouts expiring up to
+     * ten milliseconds late.
+     */
+    private boolean useHashedWheelTimer = DEFAULT_USE_HASHED_WHEEL_TIMER;
+
     /**
      * Whether or not to cache response metadata.
      * <p>
@@ -341,6 +354,7 @@ public class ClientConfiguration {
         this.connectionTTL = other.connectionTTL;
         this.connectionMaxIdleMillis = other.connectionMaxIdleMillis;
         this.tcpKeepAlive = other.tcpKeepAlive;
+        this.useHashedWheelTimer = other.useHashedWheelTimer;
         this.secureRandom = other.secureRandom;
         this.headers.clear();
         this.headers.putAll(other.headers);
@@ -1035,9 +1049,8 @@ public class ClientConfiguration {
      * Returns the amount of time to wait (in milliseconds) for the request to complete before
      * giving up and timing out. A non-positive value disables this feature.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The request timeout feature doesn't have strict guarantees on how quickly a request is
@@ -1062,9 +1075,8 @@ public class ClientConfiguration {
      * Sets the amount of time to wait (in milliseconds) for the request to complete before giving
      * up and timing out. A non-positive value disables this feature.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The request timeout feature doesn't have strict guarantees on how quickly a request is
@@ -1092,9 +1104,8 @@ public class ClientConfiguration {
      * up and timing out. A non-positive value disables this feature. Returns the updated
      * ClientConfiguration object so that additional method calls may be chained together.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The request timeout feature doesn't have strict guarantees on how quickly a request is
@@ -1124,9 +1135,8 @@ public class ClientConfiguration {
      * an API call. This timeout covers the entire client execution except for marshalling. This
      * includes request handler execution, all HTTP request including retries, unmarshalling, etc.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The client execution timeout feature doesn't have strict guarantees on how quickly a request
@@ -1158,9 +1168,8 @@ public class ClientConfiguration {
      * an API call. This timeout covers the entire client execution except for marshalling. This
      * includes request handler execution, all HTTP request including retries, unmarshalling, etc.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The client execution timeout feature doesn't have strict guarantees on how quickly a request
@@ -1193,9 +1202,8 @@ public class ClientConfiguration {
      * an API call. This timeout covers the entire client execution except for marshalling. This
      * includes request handler execution, all HTTP request including retries, unmarshalling, etc.
      * <p>
-     * This feature requires buffering the entire response (for non-streaming APIs) into memory to
-     * enforce a hard timeout when reading the response. For APIs that return large responses this
-     * could be expensive.
+     * For non-streaming APIs the timeout also covers reading and unmarshalling the response, which
+     * is aborted if it isn't entirely read in time.
      * <p>
      * <p>
      * The client execution timeout feature doesn't have strict guarantees on how quickly a request
@@ -1730,6 +1738,36 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns whether or not the request timeout and client execution timeout timers are scheduled
+     * on a hashed wheel timer.
+     */
+    public boolean useHashedWheelTimer() {
+        return useHashedWheelTimer;
+    }
+
+    /**
+     * Sets whether or not to schedule the request timeout and client execution timeout timers on a
+     * hashed wheel timer instead of a scheduled thread pool. Scheduling and canceling a timer on
+     * the wheel takes constant time and doesn't allocate, which helps clients sending many requests
+     * with timeouts enabled, at the cost of timeouts expiring up to ten milliseconds late.
+     */
+    public void setUseHashedWheelTimer(final boolean use) {
+        this.useHashedWheelTimer = use;
+    }
+
+    /**
+     * Sets whether or not to schedule the request timeout and client execution timeout timers on a
+     * hashed wheel timer instead of a scheduled thread pool.
+     *
+     * @return The updated ClientConfiguration object.
+     * @see #setUseHashedWheelTimer(boolean)
+     */
+    public ClientConfiguration withHashedWheelTimer(final boolean use) {
+        setUseHashedWheelTimer(use);
+        return this;
+    }
+
     /**
      * Returns the DnsResolver for resolving AWS IP addresses.
      * Returns the {@link SystemDefaultDnsResolver} by default if not
@@ -1741,6 +1779,8 @@ public class ClientConfiguration {
 
     /**
      * Sets the DNS Resolver that should be used to for resolving AWS IP addresses.
+     * Use a {@link CachingDnsResolver} to cache addresses independently of the
+     * JVM and spread connections over all the addresses of an endpoint.
      */
     public void setDnsResolver(final DnsResolver resolver) {
         if (resolver == null) {
@@ -20,7 +20,6 @@ import com.amazonaws.SignableRequest;
 import com.amazonaws.auth.internal.AWS4SignerRequestParams;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
 import com.amazonaws.auth.internal.SignerKey;
-import com.amazonaws.internal.FIFOCache;
 import com.amazonaws.log.InternalLogApi;
 import com.amazonaws.log.InternalLogFactory;
 import com.amazonaws.util.BinaryUtils;
@@ -36,10 +35,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
 import static com.amazonaws.auth.internal.SignerConstants.AUTHORIZATION;
 import static com.amazonaws.auth.internal.SignerConstants.AWS4_SIGNING_ALGORITHM;
 import static com.amazonaws.auth.internal.SignerConstants.AWS4_TERMINATOR;
@@ -63,9 +68,21 @@ public class AWS4Signer extends AbstractAWSSigner implements
 
     protected static final InternalLogApi log = InternalLogFactory.getLog(AWS4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FIFOCache<SignerKey> signerCache = new FIFOCache<SignerKey>(SIGNER_CACHE_MAX_SIZE);
+    private static final ConcurrentMap<SignerKeyId, SignerKey> signerCache =
+            new ConcurrentHashMap<SignerKeyId, SignerKey>();
     private static final List<String> listOfHeadersToIgnoreInLowerCase = Arrays.asList("connection");
 
+    /**
+     * HmacSHA256 instance of the current thread for computing signatures,
+     * kept initialized with the signing key it was last used with.
+     */
+    private static final ThreadLocal<SignatureMac> signatureMac = new ThreadLocal<SignatureMac>() {
+        @Override
+        protected SignatureMac initialValue() {
+            return new SignatureMac();
+        }
+    };
+
     /**
      * Service name override for use when the endpoint can't be used to
      * determine the service name.
@@ -281,8 +298,8 @@ public class AWS4Signer extends AbstractAWSSigner implements
         final String path = SdkHttpUtils.appendUri(
                 request.getEndpoint().getPath(), request.getResourcePath());
 
-        final StringBuilder canonicalRequestBuilder = new StringBuilder(request
-                .getHttpMethod().toString());
+        final StringBuilder canonicalRequestBuilder = new StringBuilder(512)
+                .append(request.getHttpMethod().toString());
 
         canonicalRequestBuilder.append(LINE_SEPARATOR)
                 // This would optionally double url-encode the resource path
@@ -337,8 +354,9 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private final byte[] deriveSigningKey(AWSCredentials credentials,
             AWS4SignerRequestParams signerRequestParams) {
 
-        final String cacheKey = computeSigningCacheKeyName(credentials,
-                signerRequestParams);
+        final SignerKeyId cacheKey = new SignerKeyId(hash(credentials.getAWSSecretKey()),
+                signerRequestParams.getRegionName(),
+                signerRequestParams.getServiceName());
         final long daysSinceEpochSigningDate = DateUtils
                 .numberOfDaysSinceEpoch(signerRequestParams
                         .getSigningDateTimeMilli());
@@ -359,23 +377,25 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 signerRequestParams.getFormattedSigningDate(),
                 signerRequestParams.getRegionName(),
                 signerRequestParams.getServiceName());
-        signerCache.add(cacheKey, new SignerKey(
-                daysSinceEpochSigningDate, signingKey));
+        if (signerCache.put(cacheKey, new SignerKey(
+                daysSinceEpochSigningDate, signingKey)) == null) {
+            evictSignerKeys();
+        }
         return signingKey;
     }
 
     /**
-     * Computes the name to be used to reference the signing key in the cache.
+     * Evicts arbitrary signing keys until the cache is back to its maximum
+     * size.
      */
-    private final String computeSigningCacheKeyName(AWSCredentials credentials,
-            AWS4SignerRequestParams signerRequestParams) {
-        final StringBuilder hashKeyBuilder = new StringBuilder(
-                credentials.getAWSSecretKey());
-
-        return hashKeyBuilder.append("-")
-                .append(signerRequestParams.getRegionName())
-                .append("-")
-                .append(signerRequestParams.getServiceName()).toString();
+    private static void evictSignerKeys() {
+        if (signerCache.size() > SIGNER_CACHE_MAX_SIZE) {
+            final Iterator<SignerKeyId> keys = signerCache.keySet().iterator();
+            while (keys.hasNext() && signerCache.size() > SIGNER_CACHE_MAX_SIZE) {
+                keys.next();
+                keys.remove();
+            }
+        }
     }
 
     /**
@@ -386,8 +406,8 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     protected final byte[] computeSignature(String stringToSign,
             byte[] signingKey, AWS4SignerRequestParams signerRequestParams) {
-        return sign(stringToSign.getBytes(Charset.forName("UTF-8")), signingKey,
-                SigningAlgorithm.HmacSHA256);
+        return signatureMac.get().sign(
+                stringToSign.getBytes(StringUtils.UTF8), signingKey);
     }
 
     /**
@@ -396,25 +416,17 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private String buildAuthorizationHeader(SignableRequest<?> request,
             byte[] signature, AWSCredentials credentials,
             AWS4SignerRequestParams signerParams) {
-        final String signingCredentials = credentials.getAWSAccessKeyId() + "/"
-                + signerParams.getScope();
-
-        final String credential = "Credential="
-                + signingCredentials;
-        final String signerHeaders = "SignedHeaders="
-                + getSignedHeadersString(request);
-        final String signatureHeader = "Signature="
-                + BinaryUtils.toHex(signature);
-
-        final StringBuilder authHeaderBuilder = new StringBuilder();
+        final StringBuilder authHeaderBuilder = new StringBuilder(256);
 
         authHeaderBuilder.append(AWS4_SIGNING_ALGORITHM)
-                         .append(" ")
-                         .append(credential)
-                         .append(", ")
-                         .append(signerHeaders)
-                         .append(", ")
-                         .append(signatureHeader);
+                         .append(" Credential=")
+                         .append(credentials.getAWSAccessKeyId())
+                         .append("/")
+                         .append(signerParams.getScope())
+                         .append(", SignedHeaders=")
+                         .append(getSignedHeadersString(request))
+                         .append(", Signature=")
+                         .append(BinaryUtils.toHex(signature));
 
         return authHeaderBuilder.toString();
     }
@@ -450,7 +462,7 @@ public class AWS4Signer extends AbstractAWSSigner implements
         Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
 
         final Map<String, String> requestHeaders = request.getHeaders();
-        StringBuilder buffer = new StringBuilder();
+        StringBuilder buffer = new StringBuilder(256);
         for (String header : sortedHeaders) {
             if (shouldExcludeHeaderFromSigning(header)) {
                 continue;
@@ -489,7 +501,12 @@ public class AWS4Signer extends AbstractAWSSigner implements
     }
 
     protected boolean shouldExcludeHeaderFromSigning(String header) {
-        return listOfHeadersToIgnoreInLowerCase.contains(header.toLowerCase());
+        for (String headerToIgnore : listOfHeadersToIgnoreInLowerCase) {
+            if (headerToIgnore.equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     protected void addHostHeader(SignableRequest<?> request) {
@@ -592,4 +609,89 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 SigningAlgorithm.HmacSHA256);
         return sign(AWS4_TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
     }
+
+    /**
+     * Identifies a cached signing key by the SHA-256 digest of the secret key,
+     * and the region and service it was derived from. The cache outlives the
+     * credentials, so it never holds on to the secret key itself.
+     */
+    private static final class SignerKeyId {
+
+        private final byte[] secretKeyDigest;
+        private final String regionName;
+        private final String serviceName;
+        private final int hashCode;
+
+        SignerKeyId(byte[] secretKeyDigest, String regionName, String serviceName) {
+            this.secretKeyDigest = secretKeyDigest;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            this.hashCode = 31 * (31 * Arrays.hashCode(secretKeyDigest) + hashCode(regionName))
+                    + hashCode(serviceName);
+        }
+
+        private static int hashCode(String value) {
+            return value == null ? 0 : value.hashCode();
+        }
+
+        private static boolean equals(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SignerKeyId)) {
+                return false;
+            }
+            final SignerKeyId other = (SignerKeyId) obj;
+            return hashCode == other.hashCode
+                    && Arrays.equals(secretKeyDigest, other.secretKeyDigest)
+                    && equals(regionName, other.regionName)
+                    && equals(serviceName, other.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * HmacSHA256 instance that is only re-initialized when it is used with a
+     * different signing key, as the same key signs all requests to a service
+     * on a given day.
+     */
+    private static final class SignatureMac {
+
+        private final Mac mac = newMac();
+        private byte[] signingKey;
+
+        private static Mac newMac() {
+            try {
+                return Mac.getInstance(SigningAlgorithm.HmacSHA256.toString());
+            } catch (Exception e) {
+                throw new AmazonClientException(
+                        "Unable to fetch Mac instance for Algorithm "
+                                + SigningAlgorithm.HmacSHA256 + e.getMessage(), e);
+            }
+        }
+
+        byte[] sign(byte[] data, byte[] key) {
+            try {
+                if (!Arrays.equals(signingKey, key)) {
+                    signingKey = null;
+                    mac.init(new SecretKeySpec(key, SigningAlgorithm.HmacSHA256.toString()));
+                    signingKey = key.clone();
+                }
+                return mac.doFinal(data);
+            } catch (Exception e) {
+                throw new AmazonClientException(
+                        "Unable to calculate a request signature: "
+                                + e.getMessage(), e);
+            }
+        }
+    }
 }
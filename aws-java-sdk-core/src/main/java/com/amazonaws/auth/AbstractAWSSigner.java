@@ -49,6 +49,12 @@ public abstract class AbstractAWSSigner implements Signer {
 
     public static final String EMPTY_STRING_SHA256_HEX;
     private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST;
+    private static final ThreadLocal<byte[]> HASH_BUFFER = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[1024];
+        }
+    };
 
     static {
         SHA256_MESSAGE_DIGEST = new ThreadLocal<MessageDigest>() {
@@ -145,7 +151,7 @@ public abstract class AbstractAWSSigner implements Signer {
     private static byte[] doHash(String text) throws AmazonClientException {
         try {
             MessageDigest md = getMessageDigestInstance();
-            md.update(text.getBytes(UTF8));
+            updateWithUtf8(md, text);
             return md.digest();
         } catch (Exception e) {
             throw new AmazonClientException(
@@ -469,6 +475,32 @@ public abstract class AbstractAWSSigner implements Signer {
             AWSSessionCredentials credentials);
 
 
+    /**
+     * Updates the digest with the UTF-8 encoding of the given text. ASCII
+     * characters, which make up canonical requests and strings to sign, are
+     * copied into a re-usable thread local buffer instead of encoding the
+     * whole text into a new array.
+     */
+    private static void updateWithUtf8(MessageDigest md, String text) {
+        final byte[] buffer = HASH_BUFFER.get();
+        final int length = text.length();
+        int start = 0;
+        while (start < length) {
+            final int end = Math.min(length, start + buffer.length);
+            for (int i = start; i < end; i++) {
+                final char c = text.charAt(i);
+                if (c >= 0x80) {
+                    md.update(buffer, 0, i - start);
+                    md.update(text.substring(i).getBytes(UTF8));
+                    return;
+                }
+                buffer[i - start] = (byte) c;
+            }
+            md.update(buffer, 0, end - start);
+            start = end;
+        }
+    }
+
     /**
      * Returns the re-usable thread local version of MessageDigest.
      * @return
@@ -14,6 +14,7 @@
  */
 package com.amazonaws.auth.internal;
 
+import org.joda.time.DateTimeConstants;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 
@@ -29,6 +30,10 @@ public final class AWS4SignerUtils {
     private static final DateTimeFormatter timeFormatter = DateTimeFormat
             .forPattern("yyyyMMdd'T'HHmmss'Z'").withZoneUTC();
 
+    private static volatile FormattedTime lastDateStamp;
+
+    private static volatile FormattedTime lastTimestamp;
+
     /**
      * Returns a string representation of the given date time in yyyyMMdd
      * format. The date returned is in the UTC zone.
@@ -36,7 +41,16 @@ public final class AWS4SignerUtils {
      * For example, given a time "1416863450581", this method returns "20141124"
      */
     public static String formatDateStamp(long timeMilli) {
-        return dateFormatter.print(timeMilli);
+        final long day = timeMilli / DateTimeConstants.MILLIS_PER_DAY;
+        final FormattedTime last = lastDateStamp;
+        if (timeMilli >= 0 && last != null && last.unit == day) {
+            return last.formatted;
+        }
+        final String formatted = dateFormatter.print(timeMilli);
+        if (timeMilli >= 0) {
+            lastDateStamp = new FormattedTime(day, formatted);
+        }
+        return formatted;
     }
 
     /**
@@ -47,6 +61,30 @@ public final class AWS4SignerUtils {
      * "20141124T211050Z"
      */
     public static String formatTimestamp(long timeMilli) {
-        return timeFormatter.print(timeMilli);
+        final long second = timeMilli / DateTimeConstants.MILLIS_PER_SECOND;
+        final FormattedTime last = lastTimestamp;
+        if (timeMilli >= 0 && last != null && last.unit == second) {
+            return last.formatted;
+        }
+        final String formatted = timeFormatter.print(timeMilli);
+        if (timeMilli >= 0) {
+            lastTimestamp = new FormattedTime(second, formatted);
+        }
+        return formatted;
+    }
+
+    /**
+     * A formatted time, along with the day or second it was formatted for.
+     * Requests signed at about the same time share the most recent one
+     * instead of formatting the same value again.
+     */
+    private static final class FormattedTime {
+        private final long unit;
+        private final String formatted;
+
+        private FormattedTime(long unit, String formatted) {
+            this.unit = unit;
+            this.formatted = formatted;
+        }
     }
 }
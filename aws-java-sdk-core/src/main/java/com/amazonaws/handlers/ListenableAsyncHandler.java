@@ -0,0 +1,390 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * An {@link AsyncHandler} that is also a {@link Future} of the result of the
+ * asynchronous call it is passed to, and that lets callers register
+ * {@link Listener}s to be notified of the outcome of the call.
+ * <p>
+ * Listeners are notified from the thread that executed the call, as soon as
+ * it completes, so calls can be chained or combined without blocking a
+ * thread on {@link Future#get()}:
+ *
+ * <pre class="brush: java">
+ * ListenableAsyncHandler&lt;GetItemRequest, GetItemResult&gt; getItem =
+ *         new ListenableAsyncHandler&lt;GetItemRequest, GetItemResult&gt;();
+ * getItem.withFuture(dynamoDB.getItemAsync(request, getItem));
+ * getItem.addListener(new ListenableAsyncHandler.Listener&lt;GetItemResult&gt;() {
+ *     public void onSuccess(GetItemResult result) {
+ *         // start the next call
+ *     }
+ *     public void onError(Exception exception) {
+ *         // handle the failure
+ *     }
+ * });
+ * </pre>
+ *
+ * {@link #thenCall(AsyncFunction)} and {@link #allOf(List)} build on the
+ * listeners to chain calls and to wait for several calls at once.
+ * <p>
+ * A listener added after the call has completed is notified immediately, on
+ * the thread adding it. An instance must be passed to a single call only.
+ * Cancelling it cancels the {@link Future} of the call set with
+ * {@link #withFuture(Future)}, and notifies the listeners with a
+ * {@link CancellationException}.
+ *
+ * @param <REQUEST>
+ *            The request type of the call.
+ * @param <RESULT>
+ *            The result type of the call.
+ */
+@ThreadSafe
+public class ListenableAsyncHandler<REQUEST extends AmazonWebServiceRequest, RESULT>
+        implements AsyncHandler<REQUEST, RESULT>, Future<RESULT> {
+
+    private static final Log log = LogFactory.getLog(ListenableAsyncHandler.class);
+
+    /**
+     * Callback notified of the outcome of the call of a
+     * {@link ListenableAsyncHandler}.
+     */
+    public interface Listener<RESULT> {
+
+        /**
+         * Invoked after the call has completed successfully.
+         *
+         * @param result
+         *            The successful result of the call.
+         */
+        void onSuccess(RESULT result);
+
+        /**
+         * Invoked after the call has failed or has been cancelled.
+         *
+         * @param exception
+         *            The exception the call failed with, or a
+         *            {@link CancellationException} if it was cancelled.
+         */
+        void onError(Exception exception);
+    }
+
+    /**
+     * Starts the next asynchronous call of a chain from the result of the
+     * previous one; see {@link ListenableAsyncHandler#thenCall(AsyncFunction)}.
+     */
+    public interface AsyncFunction<INPUT, OUTPUT> {
+
+        /**
+         * Starts an asynchronous call for the given input.
+         *
+         * @param input
+         *            The result of the previous call.
+         * @return The handler passed to the call that was started.
+         * @throws Exception
+         *             If the call could not be started, which fails the chain.
+         */
+        ListenableAsyncHandler<?, OUTPUT> apply(INPUT input) throws Exception;
+    }
+
+    private final CountDownLatch completed = new CountDownLatch(1);
+
+    /** Listeners waiting for the call to complete; guarded by this. */
+    private List<Listener<? super RESULT>> listeners = new ArrayList<Listener<? super RESULT>>();
+
+    /** Future of the call, cancelled along with this handler; guarded by this. */
+    private Future<?> future;
+
+    /** Whether cancel interrupts the call; guarded by this. */
+    private boolean mayInterruptIfRunning;
+
+    private volatile RESULT result;
+
+    private volatile Exception exception;
+
+    private volatile boolean cancelled;
+
+    @Override
+    public void onError(Exception exception) {
+        complete(null, exception);
+    }
+
+    @Override
+    public void onSuccess(REQUEST request, RESULT result) {
+        complete(result, null);
+    }
+
+    /**
+     * Sets the {@link Future} returned by the asynchronous call this handler
+     * was passed to, so that cancelling this handler cancels the call. If
+     * this handler has already been cancelled, the future is cancelled right
+     * away.
+     *
+     * @param future
+     *            The future of the call.
+     * @return This object for method chaining.
+     */
+    public ListenableAsyncHandler<REQUEST, RESULT> withFuture(Future<?> future) {
+        final boolean interrupt;
+        synchronized (this) {
+            this.future = future;
+            if (!cancelled) {
+                return this;
+            }
+            interrupt = mayInterruptIfRunning;
+        }
+        future.cancel(interrupt);
+        return this;
+    }
+
+    /**
+     * Registers a listener to be notified of the outcome of the call, or
+     * notifies it right away if the call has already completed.
+     *
+     * @param listener
+     *            The listener to notify.
+     * @return This object for method chaining.
+     */
+    public ListenableAsyncHandler<REQUEST, RESULT> addListener(Listener<? super RESULT> listener) {
+        synchronized (this) {
+            if (listeners != null) {
+                listeners.add(listener);
+                return this;
+            }
+        }
+        notifyListener(listener);
+        return this;
+    }
+
+    /**
+     * Chains an asynchronous call to this one. Once this call succeeds, the
+     * given function starts the next call with its result. The returned
+     * handler completes with the outcome of the next call, or fails as soon
+     * as this call fails. Cancelling it cancels whichever of the two calls is
+     * running.
+     *
+     * @param next
+     *            Starts the next call from the result of this one.
+     * @return A handler completing with the result of the next call.
+     */
+    public <OUTPUT> ListenableAsyncHandler<AmazonWebServiceRequest, OUTPUT> thenCall(
+            final AsyncFunction<? super RESULT, OUTPUT> next) {
+        final ListenableAsyncHandler<AmazonWebServiceRequest, OUTPUT> chained =
+                new ListenableAsyncHandler<AmazonWebServiceRequest, OUTPUT>();
+        chained.withFuture(this);
+        addListener(new Listener<RESULT>() {
+            @Override
+            public void onSuccess(RESULT result) {
+                final ListenableAsyncHandler<?, OUTPUT> step;
+                try {
+                    step = next.apply(result);
+                } catch (Exception e) {
+                    chained.onError(e);
+                    return;
+                }
+                chained.withFuture(step);
+                step.addListener(new Listener<OUTPUT>() {
+                    @Override
+                    public void onSuccess(OUTPUT output) {
+                        chained.onSuccess(AmazonWebServiceRequest.NOOP, output);
+                    }
+
+                    @Override
+                    public void onError(Exception exception) {
+                        chained.onError(exception);
+                    }
+                });
+            }
+
+            @Override
+            public void onError(Exception exception) {
+                chained.onError(exception);
+            }
+        });
+        return chained;
+    }
+
+    /**
+     * Combines the given handlers into one that completes with the list of
+     * their results, in the same order, once all of them have succeeded. It
+     * fails as soon as any of them fails. Cancelling it cancels all of them.
+     *
+     * @param handlers
+     *            The handlers of the calls to wait for.
+     * @return A handler completing with the results of all the calls.
+     */
+    public static <RESULT> ListenableAsyncHandler<AmazonWebServiceRequest, List<RESULT>> allOf(
+            final List<? extends ListenableAsyncHandler<?, ? extends RESULT>> handlers) {
+        final ListenableAsyncHandler<AmazonWebServiceRequest, List<RESULT>> combined =
+                new ListenableAsyncHandler<AmazonWebServiceRequest, List<RESULT>>();
+        if (handlers.isEmpty()) {
+            combined.onSuccess(AmazonWebServiceRequest.NOOP, Collections.<RESULT>emptyList());
+            return combined;
+        }
+        @SuppressWarnings("unchecked")
+        final RESULT[] results = (RESULT[]) new Object[handlers.size()];
+        final AtomicInteger remaining = new AtomicInteger(handlers.size());
+        for (int i = 0; i < handlers.size(); i++) {
+            final int index = i;
+            handlers.get(i).addListener(new Listener<RESULT>() {
+                @Override
+                public void onSuccess(RESULT result) {
+                    results[index] = result;
+                    if (remaining.decrementAndGet() == 0) {
+                        combined.onSuccess(AmazonWebServiceRequest.NOOP, Arrays.asList(results));
+                    }
+                }
+
+                @Override
+                public void onError(Exception exception) {
+                    combined.onError(exception);
+                }
+            });
+        }
+        combined.addListener(new Listener<List<RESULT>>() {
+            @Override
+            public void onSuccess(List<RESULT> result) {
+            }
+
+            @Override
+            public void onError(Exception exception) {
+                if (combined.isCancelled()) {
+                    final boolean interrupt = combined.interruptsOnCancel();
+                    for (ListenableAsyncHandler<?, ? extends RESULT> handler : handlers) {
+                        handler.cancel(interrupt);
+                    }
+                }
+            }
+        });
+        return combined;
+    }
+
+    private void complete(RESULT result, Exception exception) {
+        complete(result, exception, false, false);
+    }
+
+    /**
+     * Records the outcome of the call, unless it has already completed, and
+     * notifies the listeners.
+     *
+     * @return False if the call had already completed.
+     */
+    private boolean complete(RESULT result, Exception exception, boolean cancel,
+            boolean mayInterruptIfRunning) {
+        final List<Listener<? super RESULT>> toNotify;
+        final Future<?> toCancel;
+        synchronized (this) {
+            if (listeners == null) {
+                return false;
+            }
+            this.result = result;
+            this.exception = exception;
+            this.cancelled = cancel;
+            this.mayInterruptIfRunning = mayInterruptIfRunning;
+            toNotify = listeners;
+            listeners = null;
+            toCancel = cancel ? future : null;
+        }
+        completed.countDown();
+        if (toCancel != null) {
+            toCancel.cancel(mayInterruptIfRunning);
+        }
+        for (Listener<? super RESULT> listener : toNotify) {
+            notifyListener(listener);
+        }
+        return true;
+    }
+
+    private void notifyListener(Listener<? super RESULT> listener) {
+        try {
+            if (exception == null) {
+                listener.onSuccess(result);
+            } else {
+                listener.onError(exception);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Listener of an asynchronous call failed", e);
+        }
+    }
+
+    private synchronized boolean interruptsOnCancel() {
+        return mayInterruptIfRunning;
+    }
+
+    /**
+     * Cancels the call if it has not completed yet: cancels the
+     * {@link Future} set with {@link #withFuture(Future)}, if any, and
+     * notifies the listeners with a {@link CancellationException}. A
+     * completion reported by the call afterwards is ignored.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return complete(null, new CancellationException("The asynchronous call was cancelled"),
+                true, mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+        return completed.getCount() == 0;
+    }
+
+    @Override
+    public RESULT get() throws InterruptedException, ExecutionException {
+        completed.await();
+        return getResult();
+    }
+
+    @Override
+    public RESULT get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (!completed.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return getResult();
+    }
+
+    private RESULT getResult() throws ExecutionException {
+        if (cancelled) {
+            throw new CancellationException("The asynchronous call was cancelled");
+        }
+        if (exception != null) {
+            throw new ExecutionException(exception);
+        }
+        return result;
+    }
+}
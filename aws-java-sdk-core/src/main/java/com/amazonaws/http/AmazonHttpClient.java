@@ -91,7 +91,6 @@ import org.apache.http.StatusLine;
 import org.apache.http.annotation.ThreadSafe;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
-import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.protocol.HttpContext;
 
@@ -322,8 +321,8 @@ public class AmazonHttpClient {
                 clientConfig.getCacheResponseMetadata() ?
                         new ResponseMetadataCache(clientConfig.getResponseMetadataCacheSize()) :
                         new NullResponseMetadataCache();
-        this.httpRequestTimer = new HttpRequestTimer();
-        this.clientExecutionTimer = new ClientExecutionTimer();
+        this.httpRequestTimer = new HttpRequestTimer(clientConfig.useHashedWheelTimer());
+        this.clientExecutionTimer = new ClientExecutionTimer(clientConfig.useHashedWheelTimer());
 
         // When enabled, total retry capacity is computed based on retry cost
         // and desired number of retries.
@@ -1096,15 +1095,36 @@ public class AmazonHttpClient {
                     .startTimer(execOneParams.apacheRequest, getRequestTimeout(requestConfig));
 
             try {
-                execOneParams.apacheResponse = httpClient.execute(execOneParams.apacheRequest, localRequestContext);
-                if (shouldBufferHttpEntity(responseHandler.needsConnectionLeftOpen(),
-                                           executionContext,
-                                           execOneParams,
-                                           requestAbortTaskTracker)) {
-                    execOneParams.apacheResponse
-                            .setEntity(new BufferedHttpEntity(
-                                    execOneParams.apacheResponse.getEntity()));
+                try {
+                    execOneParams.apacheResponse = httpClient.execute(execOneParams.apacheRequest, localRequestContext);
+                } finally {
+                    awsRequestMetrics.endEvent(Field.HttpRequestTime);
+                }
+                if (responseHandler.needsConnectionLeftOpen()) {
+                    // The caller reads the content of a streamed response after we return
+                    requestAbortTaskTracker.cancelTask();
+                }
+                /*
+                 * The timers stay armed while the response content is read and unmarshalled
+                 * straight from the connection; if one of them fires it aborts the request, and
+                 * whatever was read from the aborted response is discarded below.
+                 */
+                Response<Output> response;
+                try {
+                    response = handleHttpResponse(execOneParams, localRequestContext);
+                } finally {
+                    if (executionContext.getClientExecutionTrackerTask().isEnabled() ||
+                        requestAbortTaskTracker.isEnabled()) {
+                        drainResponseContent(execOneParams);
+                    }
+                }
+                if (executionContext.getClientExecutionTrackerTask().hasTimeoutExpired()) {
+                    throw new InterruptedException();
+                } else if (requestAbortTaskTracker.httpRequestAborted()) {
+                    throw new HttpRequestTimeoutException(
+                            "Request did not complete before the request timeout configuration.");
                 }
+                return response;
             } catch (IOException ioe) {
                 // Client execution timeouts take precedence as it's not retryable
                 if (executionContext.getClientExecutionTrackerTask().hasTimeoutExpired()) {
@@ -1114,11 +1134,56 @@ public class AmazonHttpClient {
                 } else {
                     throw ioe;
                 }
+            } catch (AmazonClientException ace) {
+                // Includes failures to unmarshall content cut short by an aborted request
+                if (executionContext.getClientExecutionTrackerTask().hasTimeoutExpired()) {
+                    throw new InterruptedException();
+                } else if (requestAbortTaskTracker.httpRequestAborted()) {
+                    throw new HttpRequestTimeoutException(ace);
+                } else {
+                    throw ace;
+                }
             } finally {
                 requestAbortTaskTracker.cancelTask();
-                awsRequestMetrics.endEvent(Field.HttpRequestTime);
             }
+        }
+
+        /**
+         * Reads whatever the response handlers left unread of a response that isn't handed back
+         * to the caller, so that the whole response still has to arrive before the timers
+         * expire. Failures are ignored here; an aborted request is detected through the timers.
+         */
+        private void drainResponseContent(ExecOneRequestParams execOneParams) {
+            if (execOneParams.leaveHttpConnectionOpen || execOneParams.apacheResponse == null) {
+                return;
+            }
+            HttpEntity entity = execOneParams.apacheResponse.getEntity();
+            if (entity == null) {
+                return;
+            }
+            try {
+                InputStream content = entity.getContent();
+                if (content != null) {
+                    byte[] buffer = new byte[1024 * 4];
+                    while (content.read(buffer) != -1) {
+                        // Discard
+                    }
+                }
+            } catch (IOException ignored) {
+                // The content was already closed by the response handler or the request aborted
+            }
+        }
 
+        /**
+         * Handles the response of one HTTP request, unmarshalling either the result or the error
+         * returned by the service.
+         *
+         * @return The response; or null for retry.
+         */
+        private Response<Output> handleHttpResponse(ExecOneRequestParams execOneParams,
+                                                    HttpContext localRequestContext)
+                throws IOException, InterruptedException {
+            final ProgressListener listener = requestConfig.getProgressListener();
             publishProgress(listener, ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
             final StatusLine statusLine = execOneParams.apacheResponse.getStatusLine();
             final int statusCode = statusLine == null ? -1 : statusLine.getStatusCode();
@@ -1224,18 +1289,6 @@ public class AmazonHttpClient {
             }
         }
 
-        /**
-         * @return True if the {@link HttpEntity} should be wrapped in a {@link BufferedHttpEntity}
-         */
-        private boolean shouldBufferHttpEntity(final boolean needsConnectionLeftOpen,
-                                               final ExecutionContext execContext,
-                                               ExecOneRequestParams execParams,
-                                               final HttpRequestAbortTaskTracker requestAbortTaskTracker) {
-            return (execContext.getClientExecutionTrackerTask().isEnabled() ||
-                    requestAbortTaskTracker.isEnabled())
-                   && !needsConnectionLeftOpen && execParams.apacheResponse.getEntity() != null;
-        }
-
 
         /**
          * Captures the connection pool metrics.
@@ -22,6 +22,7 @@ import com.amazonaws.internal.http.JsonErrorMessageParser;
 import com.amazonaws.protocol.json.JsonContent;
 import com.amazonaws.transform.JsonErrorUnmarshaller;
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -38,7 +39,7 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
     private final List<JsonErrorUnmarshaller> unmarshallers;
     private final ErrorCodeParser errorCodeParser;
     private final JsonErrorMessageParser errorMessageParser;
-    private final JsonFactory jsonFactory;
+    private final ObjectMapper mapper;
 
     public JsonErrorResponseHandler(
             List<JsonErrorUnmarshaller> errorUnmarshallers,
@@ -48,7 +49,8 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
         this.unmarshallers = errorUnmarshallers;
         this.errorCodeParser = errorCodeParser;
         this.errorMessageParser = errorMessageParser;
-        this.jsonFactory = jsonFactory;
+        // Shared between responses as creating a mapper is expensive
+        this.mapper = JsonContent.createObjectMapper(jsonFactory);
     }
 
     @Override
@@ -58,7 +60,7 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
 
     @Override
     public AmazonServiceException handle(HttpResponse response) throws Exception {
-        JsonContent jsonContent = JsonContent.createJsonContent(response, jsonFactory);
+        JsonContent jsonContent = JsonContent.createJsonContent(response, mapper);
         String errorCode = errorCodeParser.parseErrorCode(response, jsonContent);
         AmazonServiceException ase = createException(errorCode, jsonContent);
 
@@ -66,8 +68,7 @@ public class JsonErrorResponseHandler implements HttpResponseHandler<AmazonServi
         // Throwables, but sometimes the service passes the error message in
         // other JSON fields - handle it here.
         if (ase.getErrorMessage() == null) {
-            ase.setErrorMessage(errorMessageParser
-                    .parseErrorMessage(jsonContent.getJsonNode()));
+            ase.setErrorMessage(errorMessageParser.parseErrorMessage(jsonContent));
         }
 
         ase.setErrorCode(errorCode);
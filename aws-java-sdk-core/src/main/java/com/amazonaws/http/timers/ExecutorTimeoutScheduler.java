@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.util.ValidationUtils;
+
+/**
+ * {@link TimeoutScheduler} backed by a {@link ScheduledThreadPoolExecutor}, by default the one built
+ * by {@link TimeoutThreadPoolBuilder}.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class ExecutorTimeoutScheduler implements TimeoutScheduler {
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    public ExecutorTimeoutScheduler() {
+        this(TimeoutThreadPoolBuilder.buildDefaultTimeoutThreadPool());
+    }
+
+    public ExecutorTimeoutScheduler(ScheduledThreadPoolExecutor executor) {
+        this.executor = ValidationUtils.assertNotNull(executor, "executor");
+    }
+
+    @Override
+    public ScheduledTimeout schedule(Runnable task, long delayMillis) {
+        final ScheduledFuture<?> future = executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        return new ScheduledTimeout() {
+            @Override
+            public void cancel() {
+                future.cancel(false);
+            }
+        };
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * @return The underlying {@link ScheduledThreadPoolExecutor}
+     */
+    public ScheduledThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.SdkTestInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * {@link TimeoutScheduler} that keeps timeouts in a hashed timing wheel, so that scheduling and
+ * canceling a timeout are constant time operations instead of the logarithmic heap operations of a
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}.
+ * <p>
+ * The wheel is an array of buckets, each holding a linked list of the timeouts that expire in one
+ * tick of the wheel (modulo the number of buckets). A single worker thread advances the wheel one
+ * tick at a time and runs the tasks of the timeouts whose deadline has passed, so timeouts expire
+ * up to one tick late. A worker that falls behind still goes through the ticks it missed one at a
+ * time, so timeouts expire in the order of their deadlines, to the tick. Canceled timeouts are
+ * returned to a pool and reused for later tasks. The worker thread is started with the first
+ * timeout and waits without ticking while there are no timeouts scheduled.
+ * <p>
+ * Tasks run on the worker thread and so should be short, as the abort tasks of the timers are.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class HashedWheelTimeoutScheduler implements TimeoutScheduler {
+
+    private static final Log log = LogFactory.getLog(HashedWheelTimeoutScheduler.class);
+
+    /**
+     * Default duration of a tick of the wheel in milliseconds.
+     */
+    public static final int DEFAULT_TICK_MILLIS = 10;
+
+    /**
+     * Default number of buckets in the wheel, which covers a little over five seconds in one
+     * revolution with the default tick.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    /**
+     * Maximum number of canceled timeouts kept for reuse.
+     */
+    private static final int MAX_POOLED_TIMEOUTS = 1024;
+
+    private static final int SCHEDULED = 0;
+    private static final int EXPIRED = 1;
+    private static final int CANCELED = 2;
+
+    private final Object lock = new Object();
+    private final long tickNanos;
+    private final WheelTimeout[] wheel;
+    private final int mask;
+
+    /* The fields below are guarded by the lock. */
+    private Thread worker;
+    private boolean started;
+    private boolean shutdown;
+    private long startNanos;
+    /** The next tick of the wheel to process, counted from startNanos. */
+    private long tick;
+    private int scheduledCount;
+    private long expiredCount;
+    private WheelTimeout pool;
+    private int pooledCount;
+
+    public HashedWheelTimeoutScheduler() {
+        this(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @param tickMillis
+     *            Duration of a tick of the wheel, which bounds how late a timeout may expire
+     * @param wheelSize
+     *            Number of buckets in the wheel, rounded up to a power of two
+     */
+    public HashedWheelTimeoutScheduler(int tickMillis, int wheelSize) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("wheelSize must be positive and at most 2^30: " + wheelSize);
+        }
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new WheelTimeout[size];
+        this.mask = size - 1;
+    }
+
+    @Override
+    public ScheduledTimeout schedule(Runnable task, long delayMillis) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        final long now = System.nanoTime();
+        final long deadline = now + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0));
+        synchronized (lock) {
+            if (shutdown) {
+                throw new RejectedExecutionException("The timeout scheduler has been shut down");
+            }
+            if (!started) {
+                startNanos = now;
+                started = true;
+            } else if (scheduledCount == 0) {
+                // The worker stops ticking while idle, so skip the ticks it missed
+                tick = Math.max(tick, (now - startNanos) / tickNanos);
+                lock.notifyAll();
+            }
+            if (worker == null) {
+                startWorker();
+            }
+            WheelTimeout timeout = pool;
+            if (timeout != null) {
+                pool = timeout.next;
+                pooledCount--;
+            } else {
+                timeout = new WheelTimeout();
+            }
+            timeout.task = task;
+            timeout.state = SCHEDULED;
+            // The timeout expires at the first tick that starts at or after its deadline
+            timeout.expiryTick = Math.max(tick, (deadline - startNanos + tickNanos - 1) / tickNanos);
+            link(timeout, (int) (timeout.expiryTick & mask));
+            scheduledCount++;
+            return timeout;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * @return The number of tasks the worker has run so far
+     */
+    @SdkTestInternalApi
+    public long getExpiredCount() {
+        synchronized (lock) {
+            return expiredCount;
+        }
+    }
+
+    private void startWorker() {
+        worker = new Thread(new Worker(), "aws-sdk-timeout-wheel");
+        worker.setDaemon(true);
+        worker.setPriority(Thread.MAX_PRIORITY);
+        worker.start();
+    }
+
+    private void cancel(WheelTimeout timeout) {
+        synchronized (lock) {
+            if (timeout.state == CANCELED) {
+                return;
+            }
+            if (timeout.state == SCHEDULED) {
+                unlink(timeout);
+                scheduledCount--;
+            }
+            timeout.state = CANCELED;
+            timeout.task = null;
+            if (pooledCount < MAX_POOLED_TIMEOUTS && !shutdown) {
+                timeout.next = pool;
+                pool = timeout;
+                pooledCount++;
+            }
+        }
+    }
+
+    private void link(WheelTimeout timeout, int bucket) {
+        WheelTimeout head = wheel[bucket];
+        timeout.bucket = bucket;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        wheel[bucket] = timeout;
+    }
+
+    private void unlink(WheelTimeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            wheel[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    /**
+     * Removes the timeouts of the current bucket that expire at the current tick and adds their
+     * tasks to the given list, then moves to the next tick.
+     */
+    private void expireCurrentBucket(List<Runnable> expired) {
+        WheelTimeout timeout = wheel[(int) (tick & mask)];
+        while (timeout != null) {
+            WheelTimeout next = timeout.next;
+            // Timeouts of a later revolution of the wheel stay for that revolution, even when the
+            // worker is late and their deadline has already passed, so that they don't expire
+            // before the timeouts of the buckets in between
+            if (timeout.expiryTick <= tick) {
+                unlink(timeout);
+                timeout.state = EXPIRED;
+                expired.add(timeout.task);
+                timeout.task = null;
+                scheduledCount--;
+                expiredCount++;
+            }
+            timeout = next;
+        }
+        tick++;
+    }
+
+    private final class Worker implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+                runWheel();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                synchronized (lock) {
+                    worker = null;
+                }
+            }
+        }
+
+        private void runWheel() throws InterruptedException {
+            final List<Runnable> expired = new ArrayList<Runnable>();
+            while (true) {
+                synchronized (lock) {
+                    if (!awaitTick()) {
+                        return;
+                    }
+                    expireCurrentBucket(expired);
+                }
+                for (int i = 0; i < expired.size(); i++) {
+                    try {
+                        expired.get(i).run();
+                    } catch (RuntimeException e) {
+                        log.warn("Timeout task failed", e);
+                    }
+                }
+                expired.clear();
+            }
+        }
+
+        /**
+         * Waits, holding the lock, until the current tick starts.
+         *
+         * @return False once the scheduler is shut down and no timeouts are left.
+         */
+        private boolean awaitTick() throws InterruptedException {
+            while (true) {
+                if (scheduledCount == 0) {
+                    if (shutdown) {
+                        return false;
+                    }
+                    lock.wait();
+                    continue;
+                }
+                long remainingNanos = startNanos + tick * tickNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return true;
+                }
+                lock.wait(TimeUnit.NANOSECONDS.toMillis(remainingNanos),
+                          (int) (remainingNanos % 1000000));
+            }
+        }
+    }
+
+    /**
+     * A timeout in a bucket of the wheel, or in the pool once canceled.
+     */
+    private final class WheelTimeout implements ScheduledTimeout {
+        private Runnable task;
+        /** The tick of the wheel at which the timeout expires. */
+        private long expiryTick;
+        private int state;
+        private int bucket;
+        private WheelTimeout prev;
+        private WheelTimeout next;
+
+        @Override
+        public void cancel() {
+            HashedWheelTimeoutScheduler.this.cancel(this);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Schedules the tasks of the request timeout and client execution timeout features.
+ *
+ * @see ExecutorTimeoutScheduler
+ * @see HashedWheelTimeoutScheduler
+ */
+@SdkInternalApi
+@ThreadSafe
+public interface TimeoutScheduler {
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task
+     *            Task to run when the timeout expires
+     * @param delayMillis
+     *            Delay in milliseconds after which the task is run
+     * @return The {@link ScheduledTimeout} to cancel the task with, which must be canceled exactly
+     *         once, whether or not the task has run
+     */
+    ScheduledTimeout schedule(Runnable task, long delayMillis);
+
+    /**
+     * Stops accepting new tasks. Tasks already scheduled still run when they expire unless they're
+     * canceled.
+     */
+    void shutdown();
+
+    /**
+     * A task scheduled by a {@link TimeoutScheduler}.
+     */
+    interface ScheduledTimeout {
+
+        /**
+         * Cancels the task if it hasn't run yet, without interrupting it if it's running. The
+         * scheduler may reuse the timeout once it's canceled, so it must not be used afterwards.
+         */
+        void cancel();
+    }
+}
@@ -14,25 +14,24 @@
  */
 package com.amazonaws.http.timers.client;
 
-import java.util.concurrent.ScheduledFuture;
-
 import org.apache.http.client.methods.HttpRequestBase;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.http.timers.TimeoutScheduler.ScheduledTimeout;
 import com.amazonaws.util.ValidationUtils;
 
 /**
- * Keeps track of the scheduled {@link ClientExecutionAbortTask} and the associated {@link Future}
+ * Keeps track of the scheduled {@link ClientExecutionAbortTask} and the associated {@link ScheduledTimeout}
  */
 @SdkInternalApi
 public class ClientExecutionAbortTrackerTaskImpl implements ClientExecutionAbortTrackerTask {
 
     private final ClientExecutionAbortTask task;
-    private final ScheduledFuture<?> future;
+    private ScheduledTimeout timeout;
 
-    public ClientExecutionAbortTrackerTaskImpl(final ClientExecutionAbortTask task, final ScheduledFuture<?> future) {
+    public ClientExecutionAbortTrackerTaskImpl(final ClientExecutionAbortTask task, final ScheduledTimeout timeout) {
         this.task = ValidationUtils.assertNotNull(task, "task");
-        this.future = ValidationUtils.assertNotNull(future, "future");
+        this.timeout = ValidationUtils.assertNotNull(timeout, "timeout");
     }
 
     @Override
@@ -53,7 +52,11 @@ public class ClientExecutionAbortTrackerTaskImpl implements ClientExecutionAbort
     @Override
     public void cancelTask() {
         // Ensure task is canceled even if it's running as we don't want the Thread to be
-        // interrupted in the caller's code
-        future.cancel(false);
+        // interrupted in the caller's code. The timeout may be reused by the scheduler once
+        // canceled, so only cancel it once
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
     }
 }
\ No newline at end of file
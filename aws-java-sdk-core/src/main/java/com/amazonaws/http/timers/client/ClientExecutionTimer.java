@@ -14,15 +14,16 @@
  */
 package com.amazonaws.http.timers.client;
 
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkTestInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
 import com.amazonaws.http.AmazonHttpClient;
-import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
+import com.amazonaws.http.timers.ExecutorTimeoutScheduler;
+import com.amazonaws.http.timers.HashedWheelTimeoutScheduler;
+import com.amazonaws.http.timers.TimeoutScheduler;
+import com.amazonaws.http.timers.TimeoutScheduler.ScheduledTimeout;
 
 /**
  * Represents a timer to enforce a timeout on the total client execution time. That is the time
@@ -33,7 +34,22 @@ import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
 @ThreadSafe
 public class ClientExecutionTimer {
 
-    private volatile ScheduledThreadPoolExecutor executor;
+    private final boolean useHashedWheelTimer;
+
+    private volatile TimeoutScheduler scheduler;
+
+    public ClientExecutionTimer() {
+        this(false);
+    }
+
+    /**
+     * @param useHashedWheelTimer
+     *            True to schedule the timer tasks on a {@link HashedWheelTimeoutScheduler}, false to
+     *            schedule them on a {@link ScheduledThreadPoolExecutor}
+     */
+    public ClientExecutionTimer(boolean useHashedWheelTimer) {
+        this.useHashedWheelTimer = useHashedWheelTimer;
+    }
 
     /**
      * Start the timer with the specified timeout and return a object that can be used to track the
@@ -48,46 +64,58 @@ public class ClientExecutionTimer {
     public ClientExecutionAbortTrackerTask startTimer(int clientExecutionTimeoutMillis) {
         if (isTimeoutDisabled(clientExecutionTimeoutMillis)) {
             return NoOpClientExecutionAbortTrackerTask.INSTANCE;
-        } else if (executor == null) {
-            initializeExecutor();
+        } else if (scheduler == null) {
+            initializeScheduler();
         }
         return scheduleTimerTask(clientExecutionTimeoutMillis);
     }
 
     /**
-     * Executor is lazily initialized as it's not compatible with Java 6
+     * Scheduler is lazily initialized as the executor is not compatible with Java 6
      */
-    private synchronized void initializeExecutor() {
-        if (executor == null) {
-            executor = TimeoutThreadPoolBuilder.buildDefaultTimeoutThreadPool();
+    private synchronized void initializeScheduler() {
+        if (scheduler == null) {
+            scheduler = useHashedWheelTimer ? new HashedWheelTimeoutScheduler() : new ExecutorTimeoutScheduler();
         }
     }
 
     /**
      * This method is current exposed for testing purposes
      * 
-     * @return The underlying {@link ScheduledThreadPoolExecutor}
+     * @return The underlying {@link TimeoutScheduler}
+     */
+    @SdkTestInternalApi
+    public TimeoutScheduler getScheduler() {
+        return this.scheduler;
+    }
+
+    /**
+     * This method is current exposed for testing purposes
+     * 
+     * @return The underlying {@link ScheduledThreadPoolExecutor}, or null if the timer uses a
+     *         {@link HashedWheelTimeoutScheduler}
      */
     @SdkTestInternalApi
     public ScheduledThreadPoolExecutor getExecutor() {
-        return this.executor;
+        TimeoutScheduler scheduler = this.scheduler;
+        return scheduler instanceof ExecutorTimeoutScheduler
+                ? ((ExecutorTimeoutScheduler) scheduler).getExecutor() : null;
     }
 
     /**
-     * Shutdown the underlying {@link ScheduledThreadPoolExecutor}. Should be invoked when
+     * Shutdown the underlying {@link TimeoutScheduler}. Should be invoked when
      * {@link AmazonHttpClient} is shutdown
      */
     public synchronized void shutdown() {
-        if (executor != null) {
-            executor.shutdown();
+        if (scheduler != null) {
+            scheduler.shutdown();
         }
     }
 
     private ClientExecutionAbortTrackerTask scheduleTimerTask(int clientExecutionTimeoutMillis) {
         ClientExecutionAbortTask timerTask = new ClientExecutionAbortTaskImpl(Thread.currentThread());
-        ScheduledFuture<?> timerTaskFuture = executor.schedule(timerTask, clientExecutionTimeoutMillis,
-                TimeUnit.MILLISECONDS);
-        return new ClientExecutionAbortTrackerTaskImpl(timerTask, timerTaskFuture);
+        ScheduledTimeout timeout = scheduler.schedule(timerTask, clientExecutionTimeoutMillis);
+        return new ClientExecutionAbortTrackerTaskImpl(timerTask, timeout);
     }
 
     private boolean isTimeoutDisabled(int clientExecutionTimeoutMillis) {
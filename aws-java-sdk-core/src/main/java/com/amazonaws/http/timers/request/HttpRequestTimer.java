@@ -14,16 +14,17 @@
  */
 package com.amazonaws.http.timers.request;
 
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import org.apache.http.client.methods.HttpRequestBase;
 
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkTestInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
-import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
+import com.amazonaws.http.timers.ExecutorTimeoutScheduler;
+import com.amazonaws.http.timers.HashedWheelTimeoutScheduler;
+import com.amazonaws.http.timers.TimeoutScheduler;
+import com.amazonaws.http.timers.TimeoutScheduler.ScheduledTimeout;
 
 /**
  * Represents a timer class to enforce HTTP request timeouts.
@@ -32,7 +33,22 @@ import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
 @SdkInternalApi
 public class HttpRequestTimer {
 
-    private volatile ScheduledThreadPoolExecutor executor;
+    private final boolean useHashedWheelTimer;
+
+    private volatile TimeoutScheduler scheduler;
+
+    public HttpRequestTimer() {
+        this(false);
+    }
+
+    /**
+     * @param useHashedWheelTimer
+     *            True to schedule the timer tasks on a {@link HashedWheelTimeoutScheduler}, false to
+     *            schedule them on a {@link ScheduledThreadPoolExecutor}
+     */
+    public HttpRequestTimer(boolean useHashedWheelTimer) {
+        this.useHashedWheelTimer = useHashedWheelTimer;
+    }
 
     /**
      * Start the timer with the specified timeout and return a object that can be used to track the
@@ -49,12 +65,12 @@ public class HttpRequestTimer {
     public HttpRequestAbortTaskTracker startTimer(final HttpRequestBase apacheRequest, final int requestTimeoutMillis) {
         if (isTimeoutDisabled(requestTimeoutMillis)) {
             return NoOpHttpRequestAbortTaskTracker.INSTANCE;
-        } else if (executor == null) {
-            initializeExecutor();
+        } else if (scheduler == null) {
+            initializeScheduler();
         }
         HttpRequestAbortTaskImpl timerTask = new HttpRequestAbortTaskImpl(apacheRequest);
-        ScheduledFuture<?> timerTaskFuture = executor.schedule(timerTask, requestTimeoutMillis, TimeUnit.MILLISECONDS);
-        return new HttpRequestAbortTaskTrackerImpl(timerTask, timerTaskFuture);
+        ScheduledTimeout timeout = scheduler.schedule(timerTask, requestTimeoutMillis);
+        return new HttpRequestAbortTaskTrackerImpl(timerTask, timeout);
     }
 
     private boolean isTimeoutDisabled(final int requestTimeoutMillis) {
@@ -62,32 +78,45 @@ public class HttpRequestTimer {
     }
 
     /**
-     * Executor is lazily initialized as it's not compatible with Java 6
+     * Scheduler is lazily initialized as the executor is not compatible with Java 6
      */
-    private synchronized void initializeExecutor() {
-        if (executor == null) {
-            executor = TimeoutThreadPoolBuilder.buildDefaultTimeoutThreadPool();
+    private synchronized void initializeScheduler() {
+        if (scheduler == null) {
+            scheduler = useHashedWheelTimer ? new HashedWheelTimeoutScheduler() : new ExecutorTimeoutScheduler();
         }
     }
 
     /**
-     * Shutdown the underlying {@link ScheduledThreadPoolExecutor}. Should be invoked when
+     * Shutdown the underlying {@link TimeoutScheduler}. Should be invoked when
      * {@link AmazonHttpClient} is shutdown
      */
     public synchronized void shutdown() {
-        if (executor != null) {
-            executor.shutdown();
+        if (scheduler != null) {
+            scheduler.shutdown();
         }
     }
 
     /**
      * This method is current exposed for testing purposes
      * 
-     * @return The underlying {@link ScheduledThreadPoolExecutor}
+     * @return The underlying {@link TimeoutScheduler}
+     */
+    @SdkTestInternalApi
+    public TimeoutScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * This method is current exposed for testing purposes
+     * 
+     * @return The underlying {@link ScheduledThreadPoolExecutor}, or null if the timer uses a
+     *         {@link HashedWheelTimeoutScheduler}
      */
     @SdkTestInternalApi
     public ScheduledThreadPoolExecutor getExecutor() {
-        return executor;
+        TimeoutScheduler scheduler = this.scheduler;
+        return scheduler instanceof ExecutorTimeoutScheduler
+                ? ((ExecutorTimeoutScheduler) scheduler).getExecutor() : null;
     }
 
 }
@@ -19,7 +19,6 @@ import java.util.Map;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.http.HttpResponse;
 import com.amazonaws.protocol.json.JsonContent;
-import com.fasterxml.jackson.databind.JsonNode;
 
 @SdkInternalApi
 public class JsonErrorCodeParser implements ErrorCodeParser {
@@ -50,7 +49,7 @@ public class JsonErrorCodeParser implements ErrorCodeParser {
         if (errorCodeFromHeader != null) {
             return errorCodeFromHeader;
         } else if (jsonContent != null) {
-            return parseErrorCodeFromContents(jsonContent.getJsonNode());
+            return parseErrorCodeFromContents(jsonContent);
         } else {
             return null;
         }
@@ -76,11 +75,11 @@ public class JsonErrorCodeParser implements ErrorCodeParser {
      * present in the content. Codes are expected to be in the form <b>"typeName"</b> or
      * <b>"prefix#typeName"</b> Examples : "AccessDeniedException", "com.amazonaws.dynamodb.v20111205#ProvisionedThroughputExceededException"
      */
-    private String parseErrorCodeFromContents(JsonNode jsonContents) {
-        if (jsonContents == null || !jsonContents.has(errorCodeFieldName)) {
+    private String parseErrorCodeFromContents(JsonContent jsonContents) {
+        String code = jsonContents.getTopLevelText(errorCodeFieldName);
+        if (code == null) {
             return null;
         }
-        String code = jsonContents.findValue(errorCodeFieldName).asText();
         int separator = code.lastIndexOf("#");
         return code.substring(separator + 1);
     }
@@ -19,6 +19,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.protocol.json.JsonContent;
 import com.fasterxml.jackson.databind.JsonNode;
 
 @SdkInternalApi
@@ -59,4 +60,20 @@ public class JsonErrorMessageParser {
         return null;
     }
 
+    /**
+     * Parse the error message from the top level fields of the response content, without parsing
+     * the content into a tree if it hasn't been already.
+     *
+     * @return Error message of exceptional response or null if it can't be determined
+     */
+    public String parseErrorMessage(JsonContent jsonContent) {
+        for (String field : errorMessageJsonLocations) {
+            String value = jsonContent.getTopLevelText(field);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
 }
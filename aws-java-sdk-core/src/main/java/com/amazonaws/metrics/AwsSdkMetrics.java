@@ -627,6 +627,35 @@ public enum AwsSdkMetrics {
         return false;
     }
 
+    /**
+     * Starts a {@link HistogramRequestMetricCollector} aggregating the request
+     * metrics in memory at the AWS SDK level, but only if no metric collector
+     * is currently in use at the AWS SDK level.
+     *
+     * @return true if the collector has been started by this call; false
+     *         otherwise.
+     */
+    public static synchronized boolean enableLatencyHistograms() {
+        if (mc == null || !mc.isEnabled()) {
+            setMetricCollector(new HistogramRequestMetricCollector().asMetricCollector());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the {@link HistogramRequestMetricCollector} in use at the AWS
+     * SDK level; or null if the request metric collector in use is of a
+     * different type.
+     */
+    public static HistogramRequestMetricCollector getLatencyHistograms() {
+        MetricCollector mc = AwsSdkMetrics.mc;
+        RequestMetricCollector rmc = mc == null ? null : mc.getRequestMetricCollector();
+        return rmc instanceof HistogramRequestMetricCollector
+             ? (HistogramRequestMetricCollector) rmc
+             : null;
+    }
+
     /**
      * Convenient method to disable the metric collector at the AWS SDK
      * level.
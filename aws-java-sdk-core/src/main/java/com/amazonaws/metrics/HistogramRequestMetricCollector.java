@@ -0,0 +1,274 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.TimingInfo;
+
+/**
+ * Request metric collector aggregating the metrics of every request in
+ * memory, per service and operation, instead of forwarding them to
+ * CloudWatch. Latencies are recorded in microseconds into pre-allocated
+ * {@link LatencyHistogram}s, so that collecting the metrics of a request
+ * allocates nothing once its operation has been seen.
+ * <p>
+ * The aggregated metrics can be pulled with {@link #getSnapshots()}, or
+ * through the {@link MetricAdminMBean} once the collector is installed at the
+ * AWS SDK level with {@link AwsSdkMetrics#enableLatencyHistograms()}.
+ */
+@ThreadSafe
+public class HistogramRequestMetricCollector extends RequestMetricCollector {
+
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, OperationMetrics>> metricsByService =
+            new ConcurrentHashMap<String, ConcurrentMap<Class<?>, OperationMetrics>>();
+
+    @Override
+    public void collectMetrics(Request<?> request, Response<?> response) {
+        final AWSRequestMetrics awsRequestMetrics = request.getAWSRequestMetrics();
+        if (awsRequestMetrics == null || request.getOriginalRequest() == null) {
+            return;
+        }
+        final OperationMetrics metrics = getOperationMetrics(request.getServiceName(),
+                request.getOriginalRequest().getClass());
+        final TimingInfo timingInfo = awsRequestMetrics.getTimingInfo();
+
+        if (timingInfo.isEndTimeKnown()) {
+            metrics.clientExecuteTime.record(toMicros(timingInfo));
+        }
+        recordSubMeasurements(timingInfo, Field.RequestSigningTime, metrics.requestSigningTime);
+        recordSubMeasurements(timingInfo, Field.HttpRequestTime, metrics.httpRequestTime);
+
+        metrics.requestCount.incrementAndGet();
+        final Number requestCount = timingInfo.getCounter(Field.RequestCount.name());
+        if (requestCount != null && requestCount.longValue() > 1) {
+            metrics.retryCount.addAndGet(requestCount.longValue() - 1);
+        }
+        final Number bytesProcessed = timingInfo.getCounter(Field.BytesProcessed.name());
+        if (bytesProcessed != null) {
+            metrics.bytesProcessed.addAndGet(bytesProcessed.longValue());
+        }
+        if (response == null) {
+            metrics.errorCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the metrics aggregated so far for every operation
+     * that has been called.
+     */
+    public List<OperationSnapshot> getSnapshots() {
+        final List<OperationSnapshot> snapshots = new ArrayList<OperationSnapshot>();
+        for (ConcurrentMap<Class<?>, OperationMetrics> operations : metricsByService.values()) {
+            for (OperationMetrics metrics : operations.values()) {
+                snapshots.add(metrics.snapshot());
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Clears the metrics aggregated so far.
+     */
+    public void reset() {
+        metricsByService.clear();
+    }
+
+    /**
+     * Returns a {@link MetricCollector} wrapping this request metric
+     * collector, for use with {@link AwsSdkMetrics#setMetricCollector}.
+     */
+    public MetricCollector asMetricCollector() {
+        return new MetricCollector() {
+            @Override public boolean start() { return true; }
+            @Override public boolean stop() { return true; }
+            @Override public boolean isEnabled() { return true; }
+            @Override public RequestMetricCollector getRequestMetricCollector() {
+                return HistogramRequestMetricCollector.this;
+            }
+            @Override public ServiceMetricCollector getServiceMetricCollector() {
+                return ServiceMetricCollector.NONE;
+            }
+        };
+    }
+
+    private OperationMetrics getOperationMetrics(String serviceName, Class<?> requestClass) {
+        ConcurrentMap<Class<?>, OperationMetrics> operations = metricsByService.get(serviceName);
+        if (operations == null) {
+            operations = new ConcurrentHashMap<Class<?>, OperationMetrics>();
+            final ConcurrentMap<Class<?>, OperationMetrics> existing =
+                    metricsByService.putIfAbsent(serviceName, operations);
+            if (existing != null) {
+                operations = existing;
+            }
+        }
+        OperationMetrics metrics = operations.get(requestClass);
+        if (metrics == null) {
+            metrics = new OperationMetrics(serviceName, operationNameOf(requestClass));
+            final OperationMetrics existing = operations.putIfAbsent(requestClass, metrics);
+            if (existing != null) {
+                metrics = existing;
+            }
+        }
+        return metrics;
+    }
+
+    private static String operationNameOf(Class<?> requestClass) {
+        final String name = requestClass.getSimpleName();
+        return name.endsWith("Request") && name.length() > "Request".length()
+                ? name.substring(0, name.length() - "Request".length())
+                : name;
+    }
+
+    private static void recordSubMeasurements(TimingInfo timingInfo, Field field, LatencyHistogram histogram) {
+        final List<TimingInfo> subMeasurements = timingInfo.getAllSubMeasurements(field.name());
+        if (subMeasurements == null) {
+            return;
+        }
+        for (int i = 0; i < subMeasurements.size(); i++) {
+            final TimingInfo subMeasurement = subMeasurements.get(i);
+            if (subMeasurement.isEndTimeKnown()) {
+                histogram.record(toMicros(subMeasurement));
+            }
+        }
+    }
+
+    private static long toMicros(TimingInfo timingInfo) {
+        return TimeUnit.NANOSECONDS.toMicros(timingInfo.getEndTimeNano() - timingInfo.getStartTimeNano());
+    }
+
+    private static final class OperationMetrics {
+
+        private final String serviceName;
+        private final String operationName;
+        private final LatencyHistogram clientExecuteTime = new LatencyHistogram();
+        private final LatencyHistogram requestSigningTime = new LatencyHistogram();
+        private final LatencyHistogram httpRequestTime = new LatencyHistogram();
+        private final AtomicLong requestCount = new AtomicLong();
+        private final AtomicLong retryCount = new AtomicLong();
+        private final AtomicLong errorCount = new AtomicLong();
+        private final AtomicLong bytesProcessed = new AtomicLong();
+
+        private OperationMetrics(String serviceName, String operationName) {
+            this.serviceName = serviceName;
+            this.operationName = operationName;
+        }
+
+        private OperationSnapshot snapshot() {
+            return new OperationSnapshot(serviceName, operationName,
+                    clientExecuteTime.snapshot(), requestSigningTime.snapshot(), httpRequestTime.snapshot(),
+                    requestCount.get(), retryCount.get(), errorCount.get(), bytesProcessed.get());
+        }
+    }
+
+    /**
+     * Metrics aggregated for one operation of a service. All latencies are
+     * in microseconds.
+     */
+    public static final class OperationSnapshot {
+
+        private final String serviceName;
+        private final String operationName;
+        private final LatencyHistogram.Snapshot clientExecuteTime;
+        private final LatencyHistogram.Snapshot requestSigningTime;
+        private final LatencyHistogram.Snapshot httpRequestTime;
+        private final long requestCount;
+        private final long retryCount;
+        private final long errorCount;
+        private final long bytesProcessed;
+
+        private OperationSnapshot(String serviceName, String operationName,
+                                  LatencyHistogram.Snapshot clientExecuteTime,
+                                  LatencyHistogram.Snapshot requestSigningTime,
+                                  LatencyHistogram.Snapshot httpRequestTime,
+                                  long requestCount, long retryCount, long errorCount, long bytesProcessed) {
+            this.serviceName = serviceName;
+            this.operationName = operationName;
+            this.clientExecuteTime = clientExecuteTime;
+            this.requestSigningTime = requestSigningTime;
+            this.httpRequestTime = httpRequestTime;
+            this.requestCount = requestCount;
+            this.retryCount = retryCount;
+            this.errorCount = errorCount;
+            this.bytesProcessed = bytesProcessed;
+        }
+
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        /** Returns the name of the request class, without its Request suffix. */
+        public String getOperationName() {
+            return operationName;
+        }
+
+        /** Returns the end-to-end latencies of the client executions. */
+        public LatencyHistogram.Snapshot getClientExecuteTime() {
+            return clientExecuteTime;
+        }
+
+        /** Returns the latencies of every signing, including retries. */
+        public LatencyHistogram.Snapshot getRequestSigningTime() {
+            return requestSigningTime;
+        }
+
+        /** Returns the latencies of every HTTP round trip, including retries. */
+        public LatencyHistogram.Snapshot getHttpRequestTime() {
+            return httpRequestTime;
+        }
+
+        /** Returns the number of client executions. */
+        public long getRequestCount() {
+            return requestCount;
+        }
+
+        /** Returns the number of retries over all client executions. */
+        public long getRetryCount() {
+            return retryCount;
+        }
+
+        /** Returns the number of client executions that failed. */
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        /** Returns the number of response bytes processed. */
+        public long getBytesProcessed() {
+            return bytesProcessed;
+        }
+
+        @Override
+        public String toString() {
+            return serviceName + "." + operationName
+                    + ": requests=" + requestCount
+                    + ", retries=" + retryCount
+                    + ", errors=" + errorCount
+                    + ", bytes=" + bytesProcessed
+                    + ", clientExecuteTime[" + clientExecuteTime + "]"
+                    + ", requestSigningTime[" + requestSigningTime + "]"
+                    + ", httpRequestTime[" + httpRequestTime + "]";
+        }
+    }
+}
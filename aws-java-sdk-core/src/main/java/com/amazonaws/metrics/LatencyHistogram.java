@@ -0,0 +1,202 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Histogram of non-negative values (typically latencies in microseconds)
+ * with a fixed set of pre-allocated buckets, so that recording a value never
+ * allocates nor locks.
+ * <p>
+ * Buckets are log-linear: each power of two is split into
+ * {@value #SUB_BUCKET_COUNT} buckets of equal width, which bounds the
+ * relative error of the reported percentiles to about 3%. Values of
+ * 2<sup>{@value #MAX_EXPONENT}</sup> and above are counted in the last
+ * bucket, although the exact maximum is still tracked.
+ */
+@ThreadSafe
+public class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 36;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (MAX_EXPONENT - SUB_BUCKET_BITS + 1);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Records the given value; negative values are ignored.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            return;
+        }
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        long current;
+        while (value < (current = min.get()) && !min.compareAndSet(current, value)) {
+        }
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+        }
+    }
+
+    /**
+     * Returns a snapshot of the values recorded so far. Values recorded
+     * concurrently may be partially reflected.
+     */
+    public Snapshot snapshot() {
+        final long[] bucketCounts = new long[BUCKET_COUNT];
+        long snapshotCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts[i] = counts.get(i);
+            snapshotCount += bucketCounts[i];
+        }
+        return new Snapshot(bucketCounts, snapshotCount, total.get(), min.get(), max.get());
+    }
+
+    /**
+     * Clears all the recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        total.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+    }
+
+    /**
+     * Returns the number of values recorded so far.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT * (shift + 1) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /** Returns the highest value counted in the given bucket. */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKET_COUNT - 1;
+        final long mantissa = SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Immutable view of the values recorded by a {@link LatencyHistogram} at
+     * some point in time.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long total;
+        private final long min;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long total, long min, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.total = total;
+            this.min = min;
+            this.max = max;
+        }
+
+        /** Returns the number of recorded values. */
+        public long getCount() {
+            return count;
+        }
+
+        /** Returns the sum of the recorded values. */
+        public long getTotal() {
+            return total;
+        }
+
+        /** Returns the smallest recorded value, or 0 if there is none. */
+        public long getMin() {
+            return count == 0 ? 0 : min;
+        }
+
+        /** Returns the largest recorded value, or 0 if there is none. */
+        public long getMax() {
+            return count == 0 ? 0 : max;
+        }
+
+        /** Returns the mean of the recorded values, or 0 if there is none. */
+        public double getMean() {
+            return count == 0 ? 0 : (double) total / count;
+        }
+
+        /**
+         * Returns the value below or at which the given percentage of the
+         * recorded values fall, or 0 if there is none.
+         *
+         * @param percentile
+         *            The percentile, between 0 and 100 (e.g. 99.9).
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.max(getMin(), Math.min(highestValueOf(i), getMax()));
+                }
+            }
+            return getMax();
+        }
+
+        @Override
+        public String toString() {
+            return "count=" + count
+                    + ", min=" + getMin()
+                    + ", mean=" + Math.round(getMean())
+                    + ", p50=" + getValueAtPercentile(50)
+                    + ", p90=" + getValueAtPercentile(90)
+                    + ", p99=" + getValueAtPercentile(99)
+                    + ", p99.9=" + getValueAtPercentile(99.9)
+                    + ", max=" + getMax();
+        }
+    }
+}
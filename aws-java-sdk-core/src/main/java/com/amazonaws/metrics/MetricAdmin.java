@@ -16,6 +16,7 @@ package com.amazonaws.metrics;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.List;
 
 import com.amazonaws.regions.Regions;
 
@@ -140,4 +141,28 @@ public class MetricAdmin implements MetricAdminMBean {
     public void setSingleMetricNamespace(boolean singleMetricNamespace) {
         AwsSdkMetrics.setSingleMetricNamespace(singleMetricNamespace);
     }
+    @Override
+    public boolean enableLatencyHistograms() {
+        return AwsSdkMetrics.enableLatencyHistograms();
+    }
+    @Override
+    public String[] getLatencyHistograms() {
+        HistogramRequestMetricCollector histograms = AwsSdkMetrics.getLatencyHistograms();
+        if (histograms == null) {
+            return new String[0];
+        }
+        List<HistogramRequestMetricCollector.OperationSnapshot> snapshots = histograms.getSnapshots();
+        String[] summaries = new String[snapshots.size()];
+        for (int i = 0; i < summaries.length; i++) {
+            summaries[i] = snapshots.get(i).toString();
+        }
+        return summaries;
+    }
+    @Override
+    public void resetLatencyHistograms() {
+        HistogramRequestMetricCollector histograms = AwsSdkMetrics.getLatencyHistograms();
+        if (histograms != null) {
+            histograms.reset();
+        }
+    }
 }
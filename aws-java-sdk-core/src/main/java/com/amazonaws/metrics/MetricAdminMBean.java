@@ -184,4 +184,26 @@ public interface MetricAdminMBean {
      * Used to set whether a single metric name space is to be used.
      */
     public void setSingleMetricNamespace(boolean singleMetricNamespace);
-}
\ No newline at end of file
+
+    /**
+     * Starts aggregating the request metrics in memory into latency
+     * histograms, but only if no metric collector is currently in use at the
+     * AWS SDK level.
+     *
+     * @return true if the latency histograms have been successfully started
+     *         by this call; false otherwise.
+     */
+    public boolean enableLatencyHistograms();
+
+    /**
+     * Returns a summary of the latency histograms of every operation called
+     * so far, one per line; or an empty array if the latency histograms are
+     * not in use.
+     */
+    public String[] getLatencyHistograms();
+
+    /**
+     * Clears the latency histograms, if in use.
+     */
+    public void resetLatencyHistograms();
+}
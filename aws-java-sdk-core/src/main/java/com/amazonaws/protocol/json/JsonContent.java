@@ -19,14 +19,20 @@ import com.amazonaws.http.HttpResponse;
 import com.amazonaws.util.IOUtils;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
- * Simple struct like class to hold both the raw json string content and it's parsed JsonNode
+ * Simple struct like class to hold both the raw json string content and it's parsed JsonNode. The
+ * JsonNode is only parsed when it's first requested, while single top level text fields can be
+ * read without parsing it.
  */
 @SdkInternalApi
 public class JsonContent {
@@ -34,7 +40,9 @@ public class JsonContent {
     private static final Log LOG = LogFactory.getLog(JsonContent.class);
 
     private final byte[] rawContent;
-    private final JsonNode jsonNode;
+    private final ObjectMapper mapper;
+    private JsonNode jsonNode;
+    private Map<String, String> topLevelTextFields;
 
     /**
      * Static factory method to create a JsonContent object from the contents of the HttpResponse
@@ -42,6 +50,19 @@ public class JsonContent {
      */
     public static JsonContent createJsonContent(HttpResponse httpResponse,
                                                 JsonFactory jsonFactory) {
+        return createJsonContent(httpResponse, createObjectMapper(jsonFactory));
+    }
+
+    /**
+     * Static factory method to create a JsonContent object from the contents of the HttpResponse
+     * provided, which is parsed with the given mapper when needed.
+     *
+     * @param mapper
+     *            Mapper created by {@link #createObjectMapper(JsonFactory)}, which should be shared
+     *            between responses as creating a mapper is expensive
+     */
+    public static JsonContent createJsonContent(HttpResponse httpResponse,
+                                                ObjectMapper mapper) {
         byte[] rawJsonContent = null;
         try {
             if (httpResponse.getContent() != null) {
@@ -50,18 +71,26 @@ public class JsonContent {
         } catch (Exception e) {
             LOG.info("Unable to read HTTP response content", e);
         }
-        return new JsonContent(rawJsonContent, new ObjectMapper(jsonFactory)
-                .configure(JsonParser.Feature.ALLOW_COMMENTS, true));
+        return new JsonContent(rawJsonContent, mapper);
+    }
+
+    /**
+     * @return A new mapper to parse content created with the given factory
+     */
+    public static ObjectMapper createObjectMapper(JsonFactory jsonFactory) {
+        return new ObjectMapper(jsonFactory)
+                .configure(JsonParser.Feature.ALLOW_COMMENTS, true);
     }
 
     public JsonContent(byte[] rawJsonContent, JsonNode jsonNode) {
         this.rawContent = rawJsonContent;
+        this.mapper = null;
         this.jsonNode = jsonNode;
     }
 
     private JsonContent(byte[] rawJsonContent, ObjectMapper mapper) {
         this.rawContent = rawJsonContent;
-        this.jsonNode = parseJsonContent(rawJsonContent, mapper);
+        this.mapper = mapper;
     }
 
     private static JsonNode parseJsonContent(byte[] rawJsonContent, ObjectMapper mapper) {
@@ -76,11 +105,67 @@ public class JsonContent {
         }
     }
 
+    /**
+     * Reads the text fields at the top level of the content, skipping over any nested structure.
+     * The content is expected to be small, as error responses are.
+     */
+    private static Map<String, String> parseTopLevelTextFields(byte[] rawJsonContent,
+                                                               JsonFactory jsonFactory) {
+        Map<String, String> fields = new HashMap<String, String>();
+        if (rawJsonContent == null) {
+            return fields;
+        }
+        JsonParser parser = null;
+        try {
+            parser = jsonFactory.createParser(rawJsonContent);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return fields;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.VALUE_STRING) {
+                    fields.put(fieldName, parser.getText());
+                } else {
+                    // The last value of a duplicate field wins, as when parsing the tree
+                    fields.remove(fieldName);
+                    parser.skipChildren();
+                }
+            }
+        } catch (Exception e) {
+            LOG.info("Unable to parse HTTP response content", e);
+            fields.clear();
+        } finally {
+            IOUtils.closeQuietly(parser, LOG);
+        }
+        return fields;
+    }
+
     public byte[] getRawContent() {
         return rawContent;
     }
 
     public JsonNode getJsonNode() {
+        if (jsonNode == null && mapper != null) {
+            jsonNode = parseJsonContent(rawContent, mapper);
+        }
         return jsonNode;
     }
+
+    /**
+     * Returns the value of a text field at the top level of the content. Unless the JsonNode has
+     * already been parsed, the value is read by streaming over the raw content without building
+     * the tree.
+     *
+     * @return The text value of the field or null if there's no such field or it isn't text
+     */
+    public String getTopLevelText(String fieldName) {
+        if (jsonNode != null || mapper == null) {
+            JsonNode value = jsonNode == null ? null : jsonNode.get(fieldName);
+            return value != null && value.isTextual() ? value.asText() : null;
+        }
+        if (topLevelTextFields == null) {
+            topLevelTextFields = parseTopLevelTextFields(rawContent, mapper.getFactory());
+        }
+        return topLevelTextFields.get(fieldName);
+    }
 }
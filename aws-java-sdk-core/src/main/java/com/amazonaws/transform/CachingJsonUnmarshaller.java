@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import com.amazonaws.annotation.SdkProtectedApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Unmarshaller that delegates to an unmarshaller built from the scalar type
+ * unmarshallers of the context, such as a {@link ListUnmarshaller} or
+ * {@link MapUnmarshaller}. The delegate is built once and reused for every
+ * context with the same scalar type unmarshallers (see
+ * {@link JsonUnmarshallerContext#getUnmarshallerKey()}), instead of once per
+ * unmarshalled value, and is rebuilt when used with a context of another
+ * protocol.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public abstract class CachingJsonUnmarshaller<T> implements Unmarshaller<T, JsonUnmarshallerContext> {
+
+    private volatile Delegate<T> delegate;
+
+    @Override
+    public T unmarshall(JsonUnmarshallerContext context) throws Exception {
+        final Object key = context.getUnmarshallerKey();
+        Delegate<T> current = delegate;
+        if (current == null || current.key != key) {
+            current = new Delegate<T>(key, createUnmarshaller(context));
+            delegate = current;
+        }
+        return current.unmarshaller.unmarshall(context);
+    }
+
+    /**
+     * Builds the unmarshaller to delegate to for contexts with the same
+     * scalar type unmarshallers as the given one.
+     */
+    protected abstract Unmarshaller<T, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context);
+
+    private static final class Delegate<T> {
+        private final Object key;
+        private final Unmarshaller<T, JsonUnmarshallerContext> unmarshaller;
+
+        private Delegate(Object key, Unmarshaller<T, JsonUnmarshallerContext> unmarshaller) {
+            this.key = key;
+            this.unmarshaller = unmarshaller;
+        }
+    }
+}
@@ -216,4 +216,14 @@ public abstract class JsonUnmarshallerContext {
         return null;
     }
 
+    /**
+     * Returns an object identifying the scalar type unmarshallers of this
+     * context: contexts returning the same object return the same
+     * unmarshaller from {@link #getUnmarshaller(Class)} for every type.
+     * Returns the context itself by default.
+     */
+    public Object getUnmarshallerKey() {
+        return this;
+    }
+
 }
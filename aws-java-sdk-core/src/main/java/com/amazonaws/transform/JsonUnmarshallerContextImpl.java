@@ -231,6 +231,11 @@ public class JsonUnmarshallerContextImpl extends JsonUnmarshallerContext {
                 (type);
     }
 
+    @Override
+    public Object getUnmarshallerKey() {
+        return unmarshallerMap;
+    }
+
     @Override
     public JsonToken getCurrentToken() {
         return currentToken;
@@ -40,8 +40,27 @@ public class StaxUnmarshallerContext {
     private XMLEvent currentEvent;
     private final XMLEventReader eventReader;
 
+    /**
+     * Retained so that unmarshallers compiled against it still link, but no
+     * longer maintained: it stays empty while the document is parsed.
+     *
+     * @deprecated No longer updated as elements are entered and left. Use
+     *             {@link #getCurrentDepth()} and
+     *             {@link #testExpression(String)} instead.
+     */
+    @Deprecated
     public final Stack<String> stack = new Stack<String>();
-    private String stackString = "";
+
+    /** Number of elements enclosing the current position. */
+    private int depth;
+    /**
+     * Path of the current position, in the form "/a/b/c" (with a trailing
+     * "/@attr" while positioned on an attribute), maintained incrementally
+     * as elements are entered and left.
+     */
+    private final StringBuilder path = new StringBuilder();
+    /** Length of {@link #path} at each element depth, for truncating it on exit. */
+    private int[] pathLengths = new int[16];
 
     private Map<String, String> metadata = new HashMap<String, String>();
     private List<MetadataExpression> metadataExpressions = new ArrayList<MetadataExpression>();
@@ -137,7 +156,7 @@ public class StaxUnmarshallerContext {
      *         document being parsed.
      */
     public int getCurrentDepth() {
-        return stack.size();
+        return depth;
     }
 
     /**
@@ -151,7 +170,7 @@ public class StaxUnmarshallerContext {
      */
     public boolean testExpression(String expression) {
         if (expression.equals(".")) return true;
-        return stackString.endsWith(expression);
+        return pathEndsWith(expression, false);
     }
 
     /**
@@ -171,17 +190,38 @@ public class StaxUnmarshallerContext {
     public boolean testExpression(String expression, int startingStackDepth) {
         if (expression.equals(".")) return true;
 
-        int index = -1;
-        while ((index = expression.indexOf("/", index + 1)) > -1) {
+        for (int i = 0, length = expression.length() - 1; i < length; i++) {
             // Don't consider attributes a new depth level
-            if (expression.charAt(index + 1) != '@') {
+            if (expression.charAt(i) == '/' && expression.charAt(i + 1) != '@') {
                 startingStackDepth++;
             }
         }
 
-
         return (startingStackDepth == getCurrentDepth()
-                && stackString.endsWith("/" + expression));
+                && pathEndsWith(expression, true));
+    }
+
+    /**
+     * Returns true if the path of the current position ends with the given
+     * suffix, without allocating a new string for the comparison.
+     *
+     * @param suffix
+     *            The suffix to compare against the end of the path.
+     * @param atSegmentStart
+     *            True if the suffix must also be preceded by a '/' in the
+     *            path, i.e. match whole path segments.
+     */
+    private boolean pathEndsWith(String suffix, boolean atSegmentStart) {
+        int offset = path.length() - suffix.length();
+        if (offset < 0 || (atSegmentStart && (offset == 0 || path.charAt(offset - 1) != '/'))) {
+            return false;
+        }
+        for (int i = suffix.length() - 1; i >= 0; i--) {
+            if (path.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -283,22 +323,24 @@ public class StaxUnmarshallerContext {
     private void updateContext(XMLEvent event) {
         if (event == null) return;
 
+        // Drop any attribute segment left by the previous event
+        path.setLength(depth == 0 ? 0 : pathLengths[depth - 1]);
+
         if (event.isEndElement()) {
-            stack.pop();
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
+            depth--;
+            path.setLength(depth == 0 ? 0 : pathLengths[depth - 1]);
         } else if (event.isStartElement()) {
-            stack.push(event.asStartElement().getName().getLocalPart());
-            stackString += "/" + event.asStartElement().getName().getLocalPart();
+            final String localPart = event.asStartElement().getName().getLocalPart();
+            path.append('/').append(localPart);
+            if (depth == pathLengths.length) {
+                int[] newPathLengths = new int[depth * 2];
+                System.arraycopy(pathLengths, 0, newPathLengths, 0, depth);
+                pathLengths = newPathLengths;
+            }
+            pathLengths[depth++] = path.length();
         } else if (event.isAttribute()) {
             Attribute attribute = (Attribute)event;
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
-            stackString += "/@" + attribute.getName().getLocalPart();
+            path.append("/@").append(attribute.getName().getLocalPart());
         }
     }
 
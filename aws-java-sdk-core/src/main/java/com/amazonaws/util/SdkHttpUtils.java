@@ -32,6 +32,8 @@ public class SdkHttpUtils {
 
     private static final String DEFAULT_ENCODING = "UTF-8";
 
+    private static final char[] UPPER_HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
     /**
      * Regex which matches any of the sequences that we need to fix up after
      * URLEncoder.encode().
@@ -68,6 +70,11 @@ public class SdkHttpUtils {
             return "";
         }
 
+        final String asciiEncoded = urlEncodeAscii(value, path);
+        if (asciiEncoded != null) {
+            return asciiEncoded;
+        }
+
         try {
             String encoded = URLEncoder.encode(value, DEFAULT_ENCODING);
 
@@ -98,6 +105,43 @@ public class SdkHttpUtils {
         }
     }
 
+    /**
+     * Encodes the given value like {@link #urlEncode(String, boolean)} in a
+     * single pass, without a regex or intermediate strings, if it contains
+     * ASCII characters only. Returns null otherwise.
+     */
+    private static String urlEncodeAscii(final String value, final boolean path) {
+        StringBuilder encoded = null;
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x80) {
+                return null;
+            }
+            if (isUnreserved(c) || (path && c == '/')) {
+                if (encoded != null) {
+                    encoded.append(c);
+                }
+                continue;
+            }
+            if (encoded == null) {
+                encoded = new StringBuilder(length + 16);
+                encoded.append(value, 0, i);
+            }
+            encoded.append('%').append(UPPER_HEX_DIGITS[c >> 4]).append(UPPER_HEX_DIGITS[c & 0xF]);
+        }
+        return encoded == null ? value : encoded.toString();
+    }
+
+    /**
+     * Returns true if the given character is an unreserved character of RFC
+     * 3986, which is never percent-encoded.
+     */
+    private static boolean isUnreserved(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c == '.' || c == '~';
+    }
+
     /**
      * Decode a string for use in the path of a URL; uses URLDecoder.decode,
      * which decodes a string for use in the query portion of a URL.
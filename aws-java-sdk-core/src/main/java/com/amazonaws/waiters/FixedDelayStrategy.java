@@ -15,7 +15,7 @@
 
 package com.amazonaws.waiters;
 
-public class FixedDelayStrategy implements PollingStrategy.DelayStrategy{
+public class FixedDelayStrategy implements PollingStrategy.ScheduledDelayStrategy {
 
     /**
      * Represents default delay time in seconds
@@ -42,6 +42,18 @@ public class FixedDelayStrategy implements PollingStrategy.DelayStrategy{
      */
     @Override
     public void delayBeforeNextRetry(PollingStrategyContext pollingStrategyContext) throws InterruptedException {
-        Thread.sleep(defaultDelayInSeconds * 1000);
+        Thread.sleep(computeDelayBeforeNextRetry(pollingStrategyContext));
+    }
+
+    /**
+     * Returns the default delay associated with the corresponding waiter
+     * definition
+     *
+     * @param pollingStrategyContext Provides the polling context required to define custom delay
+     * @return Delay before the next retry in milliseconds
+     */
+    @Override
+    public long computeDelayBeforeNextRetry(PollingStrategyContext pollingStrategyContext) {
+        return defaultDelayInSeconds * 1000L;
     }
 }
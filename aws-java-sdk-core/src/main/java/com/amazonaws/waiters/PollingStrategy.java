@@ -90,4 +90,24 @@ public class PollingStrategy{
         void delayBeforeNextRetry(PollingStrategyContext pollingStrategyContext) throws InterruptedException;
 
     }
+
+    /**
+     * A delay strategy that can compute the time to wait before the next
+     * retry up front. Asynchronous waiters schedule the next poll after the
+     * computed delay instead of calling
+     * {@link #delayBeforeNextRetry(PollingStrategyContext)}, so they don't
+     * hold a thread while waiting.
+     */
+    public interface ScheduledDelayStrategy extends DelayStrategy {
+
+        /**
+         * Computes the time to wait before the next retry
+         *
+         * @param pollingStrategyContext Provides the polling context required to define custom delay
+         * @return Delay before the next retry in milliseconds
+         * @see PollingStrategyContext
+         */
+        long computeDelayBeforeNextRetry(PollingStrategyContext pollingStrategyContext);
+
+    }
 }
@@ -19,6 +19,11 @@ import com.amazonaws.*;
 import com.amazonaws.annotation.SdkProtectedApi;
 import com.amazonaws.util.ValidationUtils;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 @SdkProtectedApi
 public class WaiterExecution<Input extends AmazonWebServiceRequest, Output> {
 
@@ -91,6 +96,26 @@ public class WaiterExecution<Input extends AmazonWebServiceRequest, Output> {
         }
     }
 
+    /**
+     * Polls asynchronously until a specified resource transitions into either success or
+     * failure state or until the specified number of retries has been made. Every poll is
+     * submitted to the executor service as a separate task. If the delay strategy is a
+     * {@link PollingStrategy.ScheduledDelayStrategy}, the next poll is scheduled on the
+     * scheduler once the delay has passed, so no thread is held between polls.
+     *
+     * @param executorService Executor service the polls are run on
+     * @param scheduler       Scheduler the delays between polls are scheduled on
+     * @param callback        Custom callback, invoked before the returned future completes
+     * @param callbackRequest Request passed on to the callback on success
+     * @return Future object that completes once the waiter completes
+     */
+    Future<Void> pollResourceAsync(ExecutorService executorService, ScheduledExecutorService scheduler,
+                                   WaiterHandler callback, AmazonWebServiceRequest callbackRequest) {
+        AsyncPoll asyncPoll = new AsyncPoll(executorService, scheduler, callback, callbackRequest);
+        asyncPoll.submit();
+        return asyncPoll.future;
+    }
+
     /**
      * Fetches the current state of the resource based on the acceptor it matches
      *
@@ -122,4 +147,113 @@ public class WaiterExecution<Input extends AmazonWebServiceRequest, Output> {
         }
     }
 
+    /**
+     * A single poll of an asynchronous waiter, which submits or schedules the
+     * next poll if the resource has to be polled again.
+     */
+    private final class AsyncPoll implements Runnable {
+
+        private final WaiterFuture future = new WaiterFuture();
+
+        private final ExecutorService executorService;
+
+        private final ScheduledExecutorService scheduler;
+
+        private final WaiterHandler callback;
+
+        private final AmazonWebServiceRequest callbackRequest;
+
+        /**
+         * Polls never run concurrently and each poll is handed over to the
+         * next through the executor services, so no synchronization is needed
+         */
+        private int retriesAttempted;
+
+        private AsyncPoll(ExecutorService executorService, ScheduledExecutorService scheduler,
+                          WaiterHandler callback, AmazonWebServiceRequest callbackRequest) {
+            this.executorService = executorService;
+            this.scheduler = scheduler;
+            this.callback = callback;
+            this.callbackRequest = callbackRequest;
+        }
+
+        private void submit() {
+            try {
+                future.setPendingTask(executorService.submit(this));
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                switch (getCurrentState()) {
+                    case SUCCESS:
+                        succeed();
+                        break;
+                    case FAILURE:
+                        fail(new WaiterUnrecoverableException("Resource never entered the desired state as it failed."));
+                        break;
+                    case RETRY:
+                        PollingStrategyContext pollingStrategyContext = new PollingStrategyContext(request, retriesAttempted);
+                        if (pollingStrategy.getRetryStrategy().shouldRetry(pollingStrategyContext)) {
+                            retriesAttempted++;
+                            pollAfterDelay(pollingStrategyContext);
+                        } else {
+                            fail(new WaiterTimedOutException("Reached maximum attempts without transitioning to the desired state"));
+                        }
+                        break;
+                }
+            } catch (Exception e) {
+                fail(e);
+            } catch (Error e) {
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        private void pollAfterDelay(PollingStrategyContext pollingStrategyContext) {
+            PollingStrategy.DelayStrategy delayStrategy = pollingStrategy.getDelayStrategy();
+            if (delayStrategy instanceof PollingStrategy.ScheduledDelayStrategy) {
+                long delay = ((PollingStrategy.ScheduledDelayStrategy) delayStrategy)
+                        .computeDelayBeforeNextRetry(pollingStrategyContext);
+                future.setPendingTask(scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        submit();
+                    }
+                }, delay, TimeUnit.MILLISECONDS));
+            } else {
+                // A custom delay strategy can only be waited out by blocking this thread
+                safeCustomDelay(pollingStrategyContext);
+                submit();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void succeed() {
+            try {
+                callback.onWaitSuccess(callbackRequest);
+            } catch (Exception e) {
+                fail(e);
+                return;
+            }
+            future.complete();
+        }
+
+        private void fail(Exception e) {
+            try {
+                callback.onWaitFailure(e);
+            } catch (Exception callbackException) {
+                future.completeExceptionally(callbackException);
+                return;
+            }
+            future.completeExceptionally(e);
+        }
+    }
+
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.waiters;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Future of an asynchronous waiter, completed explicitly by the poll that
+ * determines the outcome of the waiter rather than by the return of a
+ * single task.
+ */
+class WaiterFuture implements Future<Void> {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    private volatile Throwable failure;
+
+    private volatile boolean cancelled;
+
+    /**
+     * The poll or the scheduled delay the waiter is currently executing,
+     * cancelled along with this future.
+     */
+    private volatile Future<?> pendingTask;
+
+    /**
+     * Completes this future successfully
+     *
+     * @return True if this call completed the future, false if it was
+     * already completed or cancelled
+     */
+    boolean complete() {
+        return finish(null, false);
+    }
+
+    /**
+     * Completes this future with the given failure
+     *
+     * @return True if this call completed the future, false if it was
+     * already completed or cancelled
+     */
+    boolean completeExceptionally(Throwable failure) {
+        return finish(failure, false);
+    }
+
+    /**
+     * Sets the task the waiter is currently executing, so that cancelling this
+     * future stops the waiter.
+     */
+    void setPendingTask(Future<?> task) {
+        pendingTask = task;
+        if (cancelled) {
+            task.cancel(false);
+        }
+    }
+
+    private boolean finish(Throwable failure, boolean cancelled) {
+        if (!completed.compareAndSet(false, true)) {
+            return false;
+        }
+        this.failure = failure;
+        this.cancelled = cancelled;
+        latch.countDown();
+        return true;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (!finish(null, true)) {
+            return false;
+        }
+        Future<?> task = pendingTask;
+        if (task != null) {
+            task.cancel(mayInterruptIfRunning);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+        return latch.getCount() == 0;
+    }
+
+    @Override
+    public Void get() throws InterruptedException, ExecutionException {
+        latch.await();
+        return getResult();
+    }
+
+    @Override
+    public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!latch.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return getResult();
+    }
+
+    private Void getResult() throws ExecutionException {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+        return null;
+    }
+}
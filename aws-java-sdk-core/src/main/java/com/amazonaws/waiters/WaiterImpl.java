@@ -23,6 +23,7 @@ import com.amazonaws.util.ValidationUtils;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 
 @SdkProtectedApi
 public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implements Waiter<Input>{
@@ -74,25 +75,16 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
     public void run(WaiterParameters<Input> waiterParameters)
             throws AmazonServiceException, WaiterTimedOutException, WaiterUnrecoverableException {
 
-        ValidationUtils.assertNotNull(waiterParameters, "waiterParameters");
-        @SuppressWarnings("unchecked")
-        Input request = (Input) ValidationUtils.assertNotNull(waiterParameters.getRequest(), "request").clone();
-        request.getRequestClientOptions().appendUserAgent("waiter-request");
-        WaiterExecution<Input, Output> waiterExecution = new WaiterExecutionBuilder<Input, Output>()
-                .withRequest(request)
-                .withPollingStrategy(waiterParameters.getPollingStrategy() != null ? waiterParameters.getPollingStrategy() : defaultPollingStrategy)
-                .withAcceptors(acceptors)
-                .withSdkFunction(sdkFunction)
-                .build();
-
-        waiterExecution.pollResource();
+        newWaiterExecution(waiterParameters).pollResource();
 
     }
 
     /**
      * Polls asynchronously until it is determined that the resource
      * transitioned into the desired state or not. Includes additional
-     * callback.
+     * callback. Each poll runs as a separate task on the executor service;
+     * the delays in between are scheduled rather than slept through, so
+     * waiting doesn't hold a thread of the executor service.
      *
      * @param waiterParameters Custom provided parameters. Includes request and
      *                         optional custom polling strategy
@@ -103,20 +95,32 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
     public Future<Void> runAsync(final WaiterParameters<Input> waiterParameters, final WaiterHandler callback)
             throws AmazonServiceException, WaiterTimedOutException, WaiterUnrecoverableException {
 
-        return executorService.submit(new java.util.concurrent.Callable<Void>() {
-            @Override
-            public Void call() throws Exception {
-                try {
-                    run(waiterParameters);
-                    callback.onWaitSuccess(waiterParameters.getRequest());
-                } catch (Exception ex) {
-                    callback.onWaitFailure(ex);
-
-                    throw ex;
-                }
-                return null;
-            }
-        });
+        return newWaiterExecution(waiterParameters).pollResourceAsync(executorService,
+                getScheduler(), callback, waiterParameters.getRequest());
 
     }
+
+    private WaiterExecution<Input, Output> newWaiterExecution(WaiterParameters<Input> waiterParameters) {
+        ValidationUtils.assertNotNull(waiterParameters, "waiterParameters");
+        @SuppressWarnings("unchecked")
+        Input request = (Input) ValidationUtils.assertNotNull(waiterParameters.getRequest(), "request").clone();
+        request.getRequestClientOptions().appendUserAgent("waiter-request");
+        return new WaiterExecutionBuilder<Input, Output>()
+                .withRequest(request)
+                .withPollingStrategy(waiterParameters.getPollingStrategy() != null ? waiterParameters.getPollingStrategy() : defaultPollingStrategy)
+                .withAcceptors(acceptors)
+                .withSdkFunction(sdkFunction)
+                .build();
+    }
+
+    /**
+     * Delays between polls are scheduled on the executor service of the waiter
+     * if it is able to, and on the scheduler shared by all waiters otherwise.
+     */
+    private ScheduledExecutorService getScheduler() {
+        if (executorService instanceof ScheduledExecutorService) {
+            return (ScheduledExecutorService) executorService;
+        }
+        return WaiterScheduler.getScheduler();
+    }
 }
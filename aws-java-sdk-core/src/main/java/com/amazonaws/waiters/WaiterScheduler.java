@@ -0,0 +1,66 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.waiters;
+
+import com.amazonaws.annotation.SdkInternalApi;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the scheduler shared by all asynchronous waiters to wait out the
+ * delay between two polls. The scheduled tasks only hand the next poll over
+ * to the executor service of the waiter, so a single daemon thread can serve
+ * any number of waiters.
+ */
+@SdkInternalApi
+final class WaiterScheduler {
+
+    private static volatile ScheduledExecutorService scheduler;
+
+    private WaiterScheduler() {
+    }
+
+    /**
+     * Scheduler is lazily initialized so that synchronous waiters never
+     * create it
+     */
+    static ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            synchronized (WaiterScheduler.class) {
+                if (scheduler == null) {
+                    scheduler = createScheduler();
+                }
+            }
+        }
+        return scheduler;
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "aws-sdk-waiter-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
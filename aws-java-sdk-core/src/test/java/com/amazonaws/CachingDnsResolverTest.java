@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.CachingDnsResolver.AddressOrder;
+
+public class CachingDnsResolverTest {
+
+    private static final long TTL_SECONDS = 60;
+
+    private final CountingResolver delegate = new CountingResolver();
+
+    private volatile long now;
+
+    @Test
+    public void addressesAreCachedUntilExpiry() throws Exception {
+        CachingDnsResolver resolver = newResolver(10, AddressOrder.AS_RESOLVED);
+
+        resolver.resolve("host");
+        resolver.resolve("host");
+        assertEquals(1, delegate.lookups.get());
+        assertEquals(1, resolver.getHitCount());
+        assertEquals(1, resolver.getMissCount());
+
+        now += TimeUnit.SECONDS.toNanos(TTL_SECONDS);
+        resolver.resolve("host");
+        assertEquals(2, delegate.lookups.get());
+        assertEquals(2, resolver.getMissCount());
+    }
+
+    @Test
+    public void roundRobinRotatesAddresses() throws Exception {
+        CachingDnsResolver resolver = newResolver(10, AddressOrder.ROUND_ROBIN);
+
+        InetAddress[] first = resolver.resolve("host");
+        InetAddress[] second = resolver.resolve("host");
+        InetAddress[] third = resolver.resolve("host");
+        InetAddress[] fourth = resolver.resolve("host");
+
+        assertEquals(CountingResolver.ADDRESSES[0], first[0]);
+        assertEquals(CountingResolver.ADDRESSES[1], second[0]);
+        assertEquals(CountingResolver.ADDRESSES[2], third[0]);
+        assertArrayEquals(first, fourth);
+        assertEquals(new HashSet<InetAddress>(Arrays.asList(CountingResolver.ADDRESSES)),
+                new HashSet<InetAddress>(Arrays.asList(second)));
+    }
+
+    @Test
+    public void shuffledReturnsAllAddresses() throws Exception {
+        CachingDnsResolver resolver = newResolver(10, AddressOrder.SHUFFLED);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(new HashSet<InetAddress>(Arrays.asList(CountingResolver.ADDRESSES)),
+                    new HashSet<InetAddress>(Arrays.asList(resolver.resolve("host"))));
+        }
+    }
+
+    @Test
+    public void addressesAreRefreshedAheadOfExpiry() throws Exception {
+        CachingDnsResolver resolver = newResolver(10, AddressOrder.AS_RESOLVED);
+        resolver.resolve("host");
+
+        now += TimeUnit.SECONDS.toNanos(TTL_SECONDS) * 3 / 4;
+        resolver.resolve("host");
+
+        for (int i = 0; i < 100 && resolver.getRefreshCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, resolver.getRefreshCount());
+        assertEquals(2, delegate.lookups.get());
+
+        now += TimeUnit.SECONDS.toNanos(TTL_SECONDS) / 2;
+        resolver.resolve("host");
+        assertEquals("Refreshed addresses should not have expired", 2, delegate.lookups.get());
+        assertEquals(1, resolver.getMissCount());
+    }
+
+    @Test
+    public void cacheIsBounded() throws Exception {
+        CachingDnsResolver resolver = newResolver(2, AddressOrder.AS_RESOLVED);
+
+        resolver.resolve("first");
+        now++;
+        resolver.resolve("second");
+        now++;
+        resolver.resolve("third");
+        assertEquals(2, resolver.size());
+
+        resolver.resolve("third");
+        resolver.resolve("second");
+        assertEquals(3, delegate.lookups.get());
+        resolver.resolve("first");
+        assertEquals(4, delegate.lookups.get());
+    }
+
+    @Test
+    public void failedLookupsAreNotCached() throws Exception {
+        CachingDnsResolver resolver = newResolver(10, AddressOrder.AS_RESOLVED);
+        delegate.fail = true;
+        try {
+            resolver.resolve("host");
+            fail("Expected UnknownHostException");
+        } catch (UnknownHostException expected) {
+        }
+
+        delegate.fail = false;
+        assertTrue(resolver.resolve("host").length > 0);
+        assertEquals(2, resolver.getMissCount());
+    }
+
+    private CachingDnsResolver newResolver(int maxEntries, AddressOrder order) {
+        return new CachingDnsResolver(delegate, TTL_SECONDS, TimeUnit.SECONDS, maxEntries, order) {
+            @Override
+            long nanoTime() {
+                return now;
+            }
+        };
+    }
+
+    private static class CountingResolver implements DnsResolver {
+
+        private static final InetAddress[] ADDRESSES = new InetAddress[3];
+
+        static {
+            try {
+                for (int i = 0; i < ADDRESSES.length; i++) {
+                    ADDRESSES[i] = InetAddress.getByAddress(new byte[] {10, 0, 0, (byte) (i + 1)});
+                }
+            } catch (UnknownHostException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private final AtomicInteger lookups = new AtomicInteger();
+        private volatile boolean fail;
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            lookups.incrementAndGet();
+            if (fail) {
+                throw new UnknownHostException(host);
+            }
+            return ADDRESSES.clone();
+        }
+    }
+}
@@ -19,14 +19,18 @@ import com.amazonaws.auth.internal.AWS4SignerUtils;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.Map;
 import java.util.SimpleTimeZone;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -174,6 +178,59 @@ public class AWS4SignerTest {
         return dateTimeFormat.format(date);
     }
 
+    @Test
+    public void testSigningKeysAreCachedPerSecretKey() throws Exception {
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        signer.setOverrideDate(c.getTime());
+        signer.setServiceName("demo");
+
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        AWSCredentials rotatedCredentials = new BasicAWSCredentials("access", "rotated");
+
+        String first = signBasicRequest(credentials);
+        String rotated = signBasicRequest(rotatedCredentials);
+
+        assertFalse(first.equals(rotated));
+        assertEquals(first, signBasicRequest(credentials));
+        assertEquals(rotated, signBasicRequest(rotatedCredentials));
+    }
+
+    @Test
+    public void testSigningKeyCacheDoesNotHoldSecretKey() throws Exception {
+        signer.setServiceName("demo");
+        String secretKey = "cached-secret-" + System.nanoTime();
+        signBasicRequest(new BasicAWSCredentials("access", secretKey));
+
+        Field cacheField = AWS4Signer.class.getDeclaredField("signerCache");
+        cacheField.setAccessible(true);
+        Map<?, ?> cache = (Map<?, ?>) cacheField.get(null);
+        assertFalse(cache.isEmpty());
+        for (Object cacheKey : cache.keySet()) {
+            for (Field field : cacheKey.getClass().getDeclaredFields()) {
+                field.setAccessible(true);
+                assertFalse(secretKey.equals(field.get(cacheKey)));
+            }
+        }
+    }
+
+    private String signBasicRequest(AWSCredentials credentials) throws Exception {
+        SignableRequest<?> request = generateBasicRequest();
+        signer.sign(request, credentials);
+        return request.getHeaders().get("Authorization");
+    }
+
+    @Test
+    public void formattedTimesOfTheSameSecondAreShared() {
+        long time = 1416863450000L;
+        assertEquals("20141124T211050Z", AWS4SignerUtils.formatTimestamp(time));
+        assertEquals("20141124T211050Z", AWS4SignerUtils.formatTimestamp(time + 999));
+        assertEquals("20141124T211051Z", AWS4SignerUtils.formatTimestamp(time + 1000));
+        assertEquals("20141124", AWS4SignerUtils.formatDateStamp(time));
+        assertEquals("20141125", AWS4SignerUtils.formatDateStamp(time + TimeUnit.HOURS.toMillis(3)));
+    }
+
     @Test
     public void getTimeStamp() {
         Date now = new Date();
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+
+public class ListenableAsyncHandlerTest {
+
+    private final ListenableAsyncHandler<AmazonWebServiceRequest, String> handler =
+            new ListenableAsyncHandler<AmazonWebServiceRequest, String>();
+
+    @Test
+    public void listenersAreNotifiedOnSuccess() throws Exception {
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+        handler.addListener(first).addListener(second);
+        assertFalse(handler.isDone());
+
+        handler.onSuccess(AmazonWebServiceRequest.NOOP, "result");
+
+        assertTrue(handler.isDone());
+        assertEquals("result", handler.get());
+        assertEquals("result", first.events.get(0));
+        assertEquals("result", second.events.get(0));
+    }
+
+    @Test
+    public void listenersAreNotifiedOnError() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        handler.addListener(listener);
+        Exception exception = new RuntimeException("BOOM");
+
+        handler.onError(exception);
+
+        assertSame(exception, listener.events.get(0));
+        try {
+            handler.get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException expected) {
+            assertSame(exception, expected.getCause());
+        }
+    }
+
+    @Test
+    public void listenerAddedAfterCompletionIsNotifiedImmediately() {
+        handler.onSuccess(AmazonWebServiceRequest.NOOP, "result");
+
+        RecordingListener listener = new RecordingListener();
+        handler.addListener(listener);
+
+        assertEquals(1, listener.events.size());
+        assertEquals("result", listener.events.get(0));
+    }
+
+    @Test
+    public void onlyFirstOutcomeIsReported() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        handler.addListener(listener);
+
+        handler.onSuccess(AmazonWebServiceRequest.NOOP, "result");
+        handler.onError(new RuntimeException("BOOM"));
+
+        assertEquals(1, listener.events.size());
+        assertEquals("result", handler.get());
+    }
+
+    @Test
+    public void failingListenerDoesNotPreventOthers() {
+        RecordingListener listener = new RecordingListener();
+        handler.addListener(new RecordingListener() {
+            @Override
+            public void onSuccess(String result) {
+                throw new IllegalStateException();
+            }
+        }).addListener(listener);
+
+        handler.onSuccess(AmazonWebServiceRequest.NOOP, "result");
+
+        assertEquals("result", listener.events.get(0));
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void getTimesOutWhileCallIsRunning() throws Exception {
+        handler.get(10, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void cancelCancelsFutureOfCallAndNotifiesListeners() throws Exception {
+        FutureTask<String> future = newFuture();
+        RecordingListener listener = new RecordingListener();
+        handler.withFuture(future).addListener(listener);
+
+        assertTrue(handler.cancel(true));
+        handler.onSuccess(AmazonWebServiceRequest.NOOP, "result");
+
+        assertTrue(future.isCancelled());
+        assertTrue(handler.isCancelled());
+        assertTrue(handler.isDone());
+        assertEquals(1, listener.events.size());
+        assertTrue(listener.events.get(0) instanceof CancellationException);
+        try {
+            handler.get();
+            fail("Expected CancellationException");
+        } catch (CancellationException expected) {
+        }
+    }
+
+    @Test
+    public void futureSetAfterCancelIsCancelled() {
+        handler.cancel(false);
+        FutureTask<String> future = newFuture();
+
+        handler.withFuture(future);
+
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void cancelAfterCompletionHasNoEffect() throws Exception {
+        FutureTask<String> future = newFuture();
+        handler.withFuture(future);
+        handler.onSuccess(AmazonWebServiceRequest.NOOP, "result");
+
+        assertFalse(handler.cancel(true));
+        assertFalse(handler.isCancelled());
+        assertFalse(future.isCancelled());
+        assertEquals("result", handler.get());
+    }
+
+    @Test
+    public void thenCallStartsNextCallWithResult() throws Exception {
+        final ListenableAsyncHandler<AmazonWebServiceRequest, Integer> next =
+                new ListenableAsyncHandler<AmazonWebServiceRequest, Integer>();
+        final List<String> inputs = new ArrayList<String>();
+        ListenableAsyncHandler<AmazonWebServiceRequest, Integer> chained = handler.thenCall(
+                new ListenableAsyncHandler.AsyncFunction<String, Integer>() {
+                    @Override
+                    public ListenableAsyncHandler<?, Integer> apply(String input) {
+                        inputs.add(input);
+                        return next;
+                    }
+                });
+
+        handler.onSuccess(AmazonWebServiceRequest.NOOP, "result");
+        assertEquals(Arrays.asList("result"), inputs);
+        assertFalse(chained.isDone());
+
+        next.onSuccess(AmazonWebServiceRequest.NOOP, 42);
+        assertEquals(Integer.valueOf(42), chained.get());
+    }
+
+    @Test
+    public void thenCallFailsWithoutCallingNextWhenCallFails() throws Exception {
+        ListenableAsyncHandler<AmazonWebServiceRequest, Integer> chained = handler.thenCall(
+                new ListenableAsyncHandler.AsyncFunction<String, Integer>() {
+                    @Override
+                    public ListenableAsyncHandler<?, Integer> apply(String input) {
+                        throw new AssertionError("Should not be called");
+                    }
+                });
+        Exception exception = new RuntimeException("BOOM");
+
+        handler.onError(exception);
+
+        try {
+            chained.get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException expected) {
+            assertSame(exception, expected.getCause());
+        }
+    }
+
+    @Test
+    public void cancellingChainCancelsRunningCall() {
+        final ListenableAsyncHandler<AmazonWebServiceRequest, Integer> next =
+                new ListenableAsyncHandler<AmazonWebServiceRequest, Integer>();
+        ListenableAsyncHandler<AmazonWebServiceRequest, Integer> chained = handler.thenCall(
+                new ListenableAsyncHandler.AsyncFunction<String, Integer>() {
+                    @Override
+                    public ListenableAsyncHandler<?, Integer> apply(String input) {
+                        return next;
+                    }
+                });
+        handler.onSuccess(AmazonWebServiceRequest.NOOP, "result");
+
+        chained.cancel(true);
+
+        assertTrue(next.isCancelled());
+        assertFalse(handler.isCancelled());
+    }
+
+    @Test
+    public void cancellingChainBeforeFirstCallCompletesCancelsFirstCall() {
+        FutureTask<String> future = newFuture();
+        handler.withFuture(future);
+        ListenableAsyncHandler<AmazonWebServiceRequest, Integer> chained = handler.thenCall(
+                new ListenableAsyncHandler.AsyncFunction<String, Integer>() {
+                    @Override
+                    public ListenableAsyncHandler<?, Integer> apply(String input) {
+                        throw new AssertionError("Should not be called");
+                    }
+                });
+
+        chained.cancel(false);
+
+        assertTrue(handler.isCancelled());
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void allOfCompletesWithResultsInOrder() throws Exception {
+        ListenableAsyncHandler<AmazonWebServiceRequest, String> other =
+                new ListenableAsyncHandler<AmazonWebServiceRequest, String>();
+        ListenableAsyncHandler<AmazonWebServiceRequest, List<String>> combined =
+                ListenableAsyncHandler.allOf(Arrays.asList(handler, other));
+
+        other.onSuccess(AmazonWebServiceRequest.NOOP, "second");
+        assertFalse(combined.isDone());
+        handler.onSuccess(AmazonWebServiceRequest.NOOP, "first");
+
+        assertEquals(Arrays.asList("first", "second"), combined.get());
+    }
+
+    @Test
+    public void allOfFailsAsSoonAsOneCallFails() throws Exception {
+        ListenableAsyncHandler<AmazonWebServiceRequest, String> other =
+                new ListenableAsyncHandler<AmazonWebServiceRequest, String>();
+        ListenableAsyncHandler<AmazonWebServiceRequest, List<String>> combined =
+                ListenableAsyncHandler.allOf(Arrays.asList(handler, other));
+        Exception exception = new RuntimeException("BOOM");
+
+        other.onError(exception);
+
+        assertTrue(combined.isDone());
+        try {
+            combined.get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException expected) {
+            assertSame(exception, expected.getCause());
+        }
+    }
+
+    @Test
+    public void cancellingAllOfCancelsAllCalls() {
+        ListenableAsyncHandler<AmazonWebServiceRequest, String> other =
+                new ListenableAsyncHandler<AmazonWebServiceRequest, String>();
+        ListenableAsyncHandler<AmazonWebServiceRequest, List<String>> combined =
+                ListenableAsyncHandler.allOf(Arrays.asList(handler, other));
+
+        combined.cancel(true);
+
+        assertTrue(handler.isCancelled());
+        assertTrue(other.isCancelled());
+    }
+
+    @Test
+    public void allOfNoCallsCompletesImmediately() throws Exception {
+        List<ListenableAsyncHandler<AmazonWebServiceRequest, String>> none = Collections.emptyList();
+
+        assertTrue(ListenableAsyncHandler.allOf(none).get().isEmpty());
+    }
+
+    private static FutureTask<String> newFuture() {
+        return new FutureTask<String>(new Callable<String>() {
+            @Override
+            public String call() {
+                return null;
+            }
+        });
+    }
+
+    private static class RecordingListener implements ListenableAsyncHandler.Listener<String> {
+
+        private final List<Object> events = new ArrayList<Object>();
+
+        @Override
+        public void onSuccess(String result) {
+            events.add(result);
+        }
+
+        @Override
+        public void onError(Exception exception) {
+            events.add(exception);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.http.timers.TimeoutScheduler.ScheduledTimeout;
+
+public class HashedWheelTimeoutSchedulerTest {
+
+    private static final int TICK_MILLIS = 10;
+
+    /**
+     * A small wheel so that the tests go through several revolutions.
+     */
+    private final HashedWheelTimeoutScheduler scheduler = new HashedWheelTimeoutScheduler(TICK_MILLIS, 8);
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test(timeout = 5000)
+    public void scheduledTask_RunsAfterDelay() throws InterruptedException {
+        final long delayMillis = 200;
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        final long[] elapsedMillis = new long[1];
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                elapsedMillis[0] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                latch.countDown();
+            }
+        }, delayMillis);
+
+        latch.await();
+        assertTrue(elapsedMillis[0] >= delayMillis);
+        assertEquals(1, scheduler.getExpiredCount());
+    }
+
+    @Test(timeout = 5000)
+    public void tasksWithDifferentDelays_RunInOrder() throws InterruptedException {
+        final int count = 20;
+        final CountDownLatch latch = new CountDownLatch(count);
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicInteger outOfOrder = new AtomicInteger();
+        // Scheduled in reverse order, spread over several revolutions of the wheel
+        for (int i = count - 1; i >= 0; i--) {
+            final int expected = i;
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (next.getAndIncrement() != expected) {
+                        outOfOrder.incrementAndGet();
+                    }
+                    latch.countDown();
+                }
+            }, (i + 1) * TICK_MILLIS * 3);
+        }
+
+        latch.await();
+        assertEquals(0, outOfOrder.get());
+    }
+
+    @Test(timeout = 5000)
+    public void tasksOverdueBySeveralRevolutions_RunInOrder() throws InterruptedException {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        // Holds up the worker until every task below is overdue
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, 0);
+        blocked.await();
+
+        final int count = 20;
+        final CountDownLatch latch = new CountDownLatch(count);
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicInteger outOfOrder = new AtomicInteger();
+        for (int i = count - 1; i >= 0; i--) {
+            final int expected = i;
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (next.getAndIncrement() != expected) {
+                        outOfOrder.incrementAndGet();
+                    }
+                    latch.countDown();
+                }
+            }, (i + 1) * TICK_MILLIS * 3);
+        }
+        Thread.sleep(count * TICK_MILLIS * 3 + 100);
+        release.countDown();
+
+        latch.await();
+        assertEquals(0, outOfOrder.get());
+    }
+
+    @Test(timeout = 5000)
+    public void canceledTask_DoesNotRun() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        ScheduledTimeout timeout = scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        }, 50);
+        timeout.cancel();
+
+        Thread.sleep(200);
+        assertEquals(0, runs.get());
+        assertEquals(0, scheduler.getExpiredCount());
+    }
+
+    @Test
+    public void canceledTimeout_IsReused() {
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+        ScheduledTimeout first = scheduler.schedule(task, 60 * 1000);
+        first.cancel();
+
+        assertSame(first, scheduler.schedule(task, 60 * 1000));
+    }
+
+    @Test(timeout = 5000)
+    public void idleScheduler_RunsTasksAfterDelay() throws InterruptedException {
+        final CountDownLatch first = new CountDownLatch(1);
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                first.countDown();
+            }
+        }, 0);
+        first.await();
+        // Idle for several revolutions of the wheel
+        Thread.sleep(TICK_MILLIS * 8 * 5);
+
+        final CountDownLatch second = new CountDownLatch(1);
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                second.countDown();
+            }
+        }, 200);
+        assertFalse(second.await(100, TimeUnit.MILLISECONDS));
+        second.await();
+        assertEquals(2, scheduler.getExpiredCount());
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void shutdownScheduler_RejectsNewTasks() {
+        scheduler.shutdown();
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+            }
+        }, 10);
+    }
+
+    @Test(timeout = 5000)
+    public void shutdownScheduler_StillRunsScheduledTasks() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        }, 50);
+        scheduler.shutdown();
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+}
@@ -40,6 +40,7 @@ import com.amazonaws.http.UnresponsiveMockServerTestBase;
 import com.amazonaws.http.exception.HttpRequestTimeoutException;
 import com.amazonaws.http.response.NullErrorResponseHandler;
 import com.amazonaws.http.response.NullResponseHandler;
+import com.amazonaws.http.timers.HashedWheelTimeoutScheduler;
 import com.amazonaws.retry.FixedTimeBackoffStrategy;
 import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.retry.RetryPolicy;
@@ -118,6 +119,23 @@ public class UnresponsiveServerIntegrationTests extends UnresponsiveMockServerTe
         }
     }
 
+    @Test(timeout = TEST_TIMEOUT)
+    public void clientExecutionTimeoutEnabled_WithHashedWheelTimer_ThrowsClientExecutionTimeoutException()
+            throws IOException {
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withClientExecutionTimeout(CLIENT_EXECUTION_TIMEOUT)
+                .withSocketTimeout(LONGER_SOCKET_TIMEOUT).withMaxErrorRetry(0).withHashedWheelTimer(true));
+
+        try {
+            httpClient.execute(newGetRequest(), new NullResponseHandler(), new NullErrorResponseHandler(),
+                    new ExecutionContext());
+            fail("Exception expected");
+        } catch (AmazonClientException e) {
+            assertThat(e, instanceOf(ClientExecutionTimeoutException.class));
+            assertThat(httpClient.getClientExecutionTimer().getScheduler(),
+                    instanceOf(HashedWheelTimeoutScheduler.class));
+        }
+    }
+
     @Test(timeout = TEST_TIMEOUT)
     public void clientExecutionTimeoutEnabled_WithShorterSocketTimeout_ThrowsSocketTimeoutException()
             throws IOException {
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers.request;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.TestPreConditions;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.http.MockServerTestBase;
+import com.amazonaws.http.exception.HttpRequestTimeoutException;
+import com.amazonaws.http.response.DummyResponseHandler;
+import com.amazonaws.http.response.NullErrorResponseHandler;
+import com.amazonaws.http.server.MockServer;
+import com.amazonaws.util.IOUtils;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertNumberOfTasksTriggered;
+import static com.amazonaws.http.timers.TimeoutTestConstants.TEST_TIMEOUT;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the request timeout covers the reading and unmarshalling of the response content,
+ * using a server that returns a successful response within the timeout limit
+ */
+public class DummySuccessfulResponseServerIntegrationTests extends MockServerTestBase {
+
+    private static final int STATUS_CODE = 200;
+    private static final int REQUEST_TIMEOUT = 1000;
+
+    private AmazonHttpClient httpClient;
+
+    @BeforeClass
+    public static void preConditions() {
+        TestPreConditions.assumeNotJava6();
+    }
+
+    @Override
+    protected MockServer buildMockServer() {
+        return new MockServer(MockServer.DummyResponseServerBehavior.build(STATUS_CODE, "OK", "Hi"));
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void requestTimeoutEnabled_SlowResponseHandler_ThrowsRequestTimeoutException() throws Exception {
+        httpClient = new AmazonHttpClient(
+                new ClientConfiguration().withRequestTimeout(REQUEST_TIMEOUT).withMaxErrorRetry(0));
+
+        try {
+            httpClient.execute(newGetRequest(), new SlowReadingResponseHandler(), new NullErrorResponseHandler(),
+                    new ExecutionContext());
+            fail("Exception expected");
+        } catch (AmazonClientException e) {
+            assertThat(e.getCause(), instanceOf(HttpRequestTimeoutException.class));
+            assertNumberOfTasksTriggered(httpClient.getHttpRequestTimer(), 1);
+        }
+    }
+
+    @Test(timeout = TEST_TIMEOUT)
+    public void requestTimeoutEnabled_StreamedResponse_NotAbortedAfterRequestCompletes() throws Exception {
+        httpClient = new AmazonHttpClient(
+                new ClientConfiguration().withRequestTimeout(REQUEST_TIMEOUT).withMaxErrorRetry(0));
+
+        assertNotNull(httpClient.execute(newGetRequest(), new DummyResponseHandler().leaveConnectionOpen(),
+                new NullErrorResponseHandler(), new ExecutionContext()));
+        Thread.sleep(REQUEST_TIMEOUT * 2);
+        assertNumberOfTasksTriggered(httpClient.getHttpRequestTimer(), 0);
+    }
+
+    /**
+     * Reads the response content only after the request timeout has expired.
+     */
+    private static class SlowReadingResponseHandler
+            implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+            Thread.sleep(REQUEST_TIMEOUT * 2);
+            AmazonWebServiceResponse<String> awsResponse = new AmazonWebServiceResponse<String>();
+            awsResponse.setResult(IOUtils.toString(response.getContent()));
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+}
@@ -16,7 +16,6 @@ package com.amazonaws.http.timers.request;
 
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertCanceledTasksRemoved;
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertCoreThreadsShutDownAfterBeingIdle;
-import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertResponseIsBuffered;
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertResponseWasNotBuffered;
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.assertTimerNeverTriggered;
 import static com.amazonaws.http.timers.ClientExecutionAndRequestTimerTestUtils.createHttpHeadResponseProxy;
@@ -65,7 +64,7 @@ public class MockedClientTests {
     }
 
     @Test
-    public void requestTimeoutEnabled_RequestCompletesWithinTimeout_TaskCanceledAndEntityBuffered() throws Exception {
+    public void requestTimeoutEnabled_RequestCompletesWithinTimeout_TaskCanceledAndEntityNotBuffered() throws Exception {
         ClientConfiguration config = new ClientConfiguration().withRequestTimeout(5 * 1000).withMaxErrorRetry(0);
         ConnectionManagerAwareHttpClient rawHttpClient = createRawHttpClientSpy(config);
 
@@ -81,7 +80,7 @@ public class MockedClientTests {
             NullResponseHandler.assertIsUnmarshallingException(e);
         }
 
-        assertResponseIsBuffered(responseProxy);
+        assertResponseWasNotBuffered(responseProxy);
         ScheduledThreadPoolExecutor requestTimerExecutor = httpClient.getHttpRequestTimer().getExecutor();
         assertTimerNeverTriggered(requestTimerExecutor);
         assertCanceledTasksRemoved(requestTimerExecutor);
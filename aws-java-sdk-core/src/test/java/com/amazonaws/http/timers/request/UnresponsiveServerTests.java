@@ -34,6 +34,7 @@ import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.UnresponsiveMockServerTestBase;
 import com.amazonaws.http.exception.HttpRequestTimeoutException;
 import com.amazonaws.http.request.EmptyHttpRequest;
+import com.amazonaws.http.timers.HashedWheelTimeoutScheduler;
 
 import utils.model.EmptyAmazonWebServiceRequest;
 
@@ -84,6 +85,20 @@ public class UnresponsiveServerTests extends UnresponsiveMockServerTestBase {
         }
     }
 
+    @Test(timeout = TEST_TIMEOUT)
+    public void requestTimeoutEnabled_WithHashedWheelTimer_ThrowsRequestTimeoutException() {
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withSocketTimeout(LONGER_SOCKET_TIMEOUT)
+                .withRequestTimeout(REQUEST_TIMEOUT).withMaxErrorRetry(0).withHashedWheelTimer(true));
+
+        try {
+            execute(httpClient, newGetRequest());
+            fail("Exception expected");
+        } catch (AmazonClientException e) {
+            assertThat(e.getCause(), instanceOf(HttpRequestTimeoutException.class));
+            assertThat(httpClient.getHttpRequestTimer().getScheduler(), instanceOf(HashedWheelTimeoutScheduler.class));
+        }
+    }
+
     @Test(timeout = TEST_TIMEOUT)
     public void requestTimeoutSetInRequestObject_WithShorterSocketTimeout_ThrowsRequestTimeoutException() {
         httpClient = new AmazonHttpClient(
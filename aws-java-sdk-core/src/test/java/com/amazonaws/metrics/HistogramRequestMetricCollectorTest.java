@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Response;
+import com.amazonaws.metrics.HistogramRequestMetricCollector.OperationSnapshot;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+
+public class HistogramRequestMetricCollectorTest {
+
+    private final HistogramRequestMetricCollector collector = new HistogramRequestMetricCollector();
+
+    @Test
+    public void metricsAreAggregatedPerOperation() {
+        collector.collectMetrics(newRequest(new GetThingRequest(), 1),
+                new Response<String>("result", null));
+        collector.collectMetrics(newRequest(new GetThingRequest(), 3), null);
+
+        List<OperationSnapshot> snapshots = collector.getSnapshots();
+        assertEquals(1, snapshots.size());
+        OperationSnapshot snapshot = snapshots.get(0);
+        assertEquals("TestService", snapshot.getServiceName());
+        assertEquals("GetThing", snapshot.getOperationName());
+        assertEquals(2, snapshot.getRequestCount());
+        assertEquals(2, snapshot.getRetryCount());
+        assertEquals(1, snapshot.getErrorCount());
+        assertEquals(200, snapshot.getBytesProcessed());
+        assertEquals(2, snapshot.getClientExecuteTime().getCount());
+        assertEquals(4, snapshot.getRequestSigningTime().getCount());
+        assertEquals(4, snapshot.getHttpRequestTime().getCount());
+
+        collector.reset();
+        assertTrue(collector.getSnapshots().isEmpty());
+    }
+
+    @Test
+    public void latencyHistogramsCanBeEnabledAtSdkLevel() {
+        assertNull(AwsSdkMetrics.getLatencyHistograms());
+        try {
+            assertTrue(AwsSdkMetrics.enableLatencyHistograms());
+            assertFalse(AwsSdkMetrics.enableLatencyHistograms());
+            HistogramRequestMetricCollector histograms = AwsSdkMetrics.getLatencyHistograms();
+            assertSame(histograms, AwsSdkMetrics.getRequestMetricCollector());
+
+            histograms.collectMetrics(newRequest(new GetThingRequest(), 1), null);
+            String[] summaries = new MetricAdmin().getLatencyHistograms();
+            assertEquals(1, summaries.length);
+            assertTrue(summaries[0].startsWith("TestService.GetThing: requests=1"));
+        } finally {
+            AwsSdkMetrics.setMetricCollector(null);
+        }
+    }
+
+    private static DefaultRequest<?> newRequest(AmazonWebServiceRequest originalRequest, int attempts) {
+        DefaultRequest<?> request = new DefaultRequest<Object>(originalRequest, "TestService");
+        AWSRequestMetrics metrics = new AWSRequestMetricsFullSupport();
+        metrics.startEvent(Field.ClientExecuteTime);
+        for (int i = 0; i < attempts; i++) {
+            metrics.incrementCounter(Field.RequestCount);
+            metrics.startEvent(Field.RequestSigningTime);
+            metrics.endEvent(Field.RequestSigningTime);
+            metrics.startEvent(Field.HttpRequestTime);
+            metrics.endEvent(Field.HttpRequestTime);
+        }
+        metrics.setCounter(Field.BytesProcessed, 100);
+        metrics.endEvent(Field.ClientExecuteTime);
+        metrics.getTimingInfo().endTiming();
+        request.setAWSRequestMetrics(metrics);
+        return request;
+    }
+
+    private static class GetThingRequest extends AmazonWebServiceRequest {
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.protocol.json;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.util.StringInputStream;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class JsonContentTest {
+
+    private static final ObjectMapper MAPPER = JsonContent.createObjectMapper(new JsonFactory());
+
+    @Test
+    public void getTopLevelText_ReturnsTextFields() throws Exception {
+        JsonContent content = createJsonContent("{\"__type\":\"ThrottlingException\",\"message\":\"Slow down\"}");
+
+        assertEquals("ThrottlingException", content.getTopLevelText("__type"));
+        assertEquals("Slow down", content.getTopLevelText("message"));
+        assertNull(content.getTopLevelText("Message"));
+    }
+
+    @Test
+    public void getTopLevelText_IgnoresNestedAndNonTextFields() throws Exception {
+        JsonContent content = createJsonContent(
+                "{\"nested\":{\"message\":\"inner\",\"list\":[1,{\"a\":\"b\"}]},\"count\":3,\"message\":\"outer\"}");
+
+        assertEquals("outer", content.getTopLevelText("message"));
+        assertNull(content.getTopLevelText("nested"));
+        assertNull(content.getTopLevelText("count"));
+        assertNull(content.getTopLevelText("a"));
+    }
+
+    @Test
+    public void getTopLevelText_LastDuplicateFieldWins() throws Exception {
+        JsonContent content = createJsonContent("{\"message\":\"first\",\"message\":\"second\",\"code\":\"a\",\"code\":1}");
+
+        assertEquals("second", content.getTopLevelText("message"));
+        assertNull(content.getTopLevelText("code"));
+    }
+
+    @Test
+    public void getTopLevelText_MalformedContent_ReturnsNull() throws Exception {
+        JsonContent content = createJsonContent("{\"message\":\"text\",");
+
+        assertNull(content.getTopLevelText("message"));
+    }
+
+    @Test
+    public void getTopLevelText_NullContent_ReturnsNull() throws Exception {
+        HttpResponse response = new HttpResponse(new DefaultRequest<String>("someService"), null);
+        JsonContent content = JsonContent.createJsonContent(response, MAPPER);
+
+        assertNull(content.getTopLevelText("message"));
+        assertNull(content.getJsonNode());
+    }
+
+    @Test
+    public void getJsonNode_ParsesRawContent() throws Exception {
+        String json = "{\"message\":\"text\",\"nested\":{\"field\":\"value\"}}";
+        JsonContent content = createJsonContent(json);
+
+        assertEquals("value", content.getJsonNode().get("nested").get("field").asText());
+        assertEquals("text", content.getTopLevelText("message"));
+        assertArrayEquals(json.getBytes("UTF-8"), content.getRawContent());
+    }
+
+    private static JsonContent createJsonContent(String json) throws Exception {
+        HttpResponse response = new HttpResponse(new DefaultRequest<String>("someService"), null);
+        response.setContent(new StringInputStream(json));
+        return JsonContent.createJsonContent(response, MAPPER);
+    }
+}
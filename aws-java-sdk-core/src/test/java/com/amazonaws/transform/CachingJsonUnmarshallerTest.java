@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.amazonaws.protocol.json.SdkStructuredPlainJsonFactory;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+public class CachingJsonUnmarshallerTest {
+
+    private int created;
+
+    private final CachingJsonUnmarshaller<List<String>> unmarshaller = new CachingJsonUnmarshaller<List<String>>() {
+        @Override
+        protected Unmarshaller<List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            created++;
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
+    @Test
+    public void contextsWithSameUnmarshallers_ReuseDelegate() throws Exception {
+        assertEquals(Arrays.asList("a", "b"), unmarshaller.unmarshall(createContext("[\"a\",\"b\"]",
+                SdkStructuredPlainJsonFactory.JSON_SCALAR_UNMARSHALLERS)));
+        assertEquals(Arrays.asList("c"), unmarshaller.unmarshall(createContext("[\"c\"]",
+                SdkStructuredPlainJsonFactory.JSON_SCALAR_UNMARSHALLERS)));
+
+        assertEquals(1, created);
+    }
+
+    @Test
+    public void contextWithOtherUnmarshallers_RebuildsDelegate() throws Exception {
+        unmarshaller.unmarshall(createContext("[\"a\"]", SdkStructuredPlainJsonFactory.JSON_SCALAR_UNMARSHALLERS));
+        unmarshaller.unmarshall(createContext("[\"a\"]",
+                new HashMap<Class<?>, Unmarshaller<?, JsonUnmarshallerContext>>(
+                        SdkStructuredPlainJsonFactory.JSON_SCALAR_UNMARSHALLERS)));
+
+        assertEquals(2, created);
+    }
+
+    private static JsonUnmarshallerContext createContext(
+            String json, Map<Class<?>, Unmarshaller<?, JsonUnmarshallerContext>> unmarshallers) throws Exception {
+        JsonParser parser = new JsonFactory().createParser(json);
+        JsonUnmarshallerContext context = new JsonUnmarshallerContextImpl(parser, unmarshallers, null);
+        context.nextToken();
+        return context;
+    }
+}
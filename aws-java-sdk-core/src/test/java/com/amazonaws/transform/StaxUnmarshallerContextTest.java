@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.XMLEvent;
+
+import org.junit.Test;
+
+public class StaxUnmarshallerContextTest {
+
+    private static final String XML = "<Response>"
+            + "<Item id=\"1\"><Name>foo</Name></Item>"
+            + "<Item><Nested><Name>bar</Name></Nested></Item>"
+            + "<RequestId>abc</RequestId>"
+            + "</Response>";
+
+    private static StaxUnmarshallerContext newContext() throws Exception {
+        return new StaxUnmarshallerContext(
+                XMLInputFactory.newInstance().createXMLEventReader(new StringReader(XML)));
+    }
+
+    /**
+     * Advances the context to the next start element or attribute with the
+     * given local name.
+     */
+    private static void advanceTo(StaxUnmarshallerContext context, String name) throws Exception {
+        while (true) {
+            XMLEvent event = context.nextEvent();
+            if (event.isStartElement() && event.asStartElement().getName().getLocalPart().equals(name)) {
+                return;
+            }
+            if (event.isAttribute() && name.equals("@" + ((Attribute) event).getName().getLocalPart())) {
+                return;
+            }
+            if (event.isEndDocument()) {
+                throw new AssertionError("Did not find " + name);
+            }
+        }
+    }
+
+    @Test
+    public void tracksDepthAndPathOfElements() throws Exception {
+        StaxUnmarshallerContext context = newContext();
+        advanceTo(context, "Name");
+
+        assertEquals(3, context.getCurrentDepth());
+        assertTrue(context.testExpression("Name"));
+        assertTrue(context.testExpression("Item/Name"));
+        assertTrue(context.testExpression("Name", 3));
+        assertTrue(context.testExpression("Item/Name", 2));
+        assertFalse(context.testExpression("Name", 2));
+        assertFalse(context.testExpression("Nested/Name", 2));
+        assertFalse(context.testExpression("ame", 3));
+    }
+
+    @Test
+    public void attributeIsMatchedAtElementDepth() throws Exception {
+        StaxUnmarshallerContext context = newContext();
+        advanceTo(context, "@id");
+
+        assertEquals(2, context.getCurrentDepth());
+        assertTrue(context.testExpression("Item/@id", 2));
+        assertTrue(context.testExpression("@id", 2));
+
+        // The attribute is no longer part of the path once its element's children are reached
+        advanceTo(context, "Name");
+        assertTrue(context.testExpression("Item/Name", 2));
+    }
+
+    @Test
+    public void pathIsRestoredAfterEndElements() throws Exception {
+        StaxUnmarshallerContext context = newContext();
+        advanceTo(context, "Nested");
+        assertTrue(context.testExpression("Response/Item/Nested", 1));
+
+        advanceTo(context, "RequestId");
+        assertEquals(2, context.getCurrentDepth());
+        assertTrue(context.testExpression("Response/RequestId", 1));
+        assertFalse(context.testExpression("Item/RequestId"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecatedStackIsNotMaintained() throws Exception {
+        StaxUnmarshallerContext context = newContext();
+        advanceTo(context, "Nested");
+        assertTrue(context.stack.isEmpty());
+
+        advanceTo(context, "RequestId");
+        assertTrue(context.stack.isEmpty());
+    }
+
+    @Test
+    public void collectsMetadataExpressions() throws Exception {
+        StaxUnmarshallerContext context = newContext();
+        context.registerMetadataExpression("Response/RequestId", 1, "requestId");
+        while (!context.nextEvent().isEndDocument()) {
+        }
+
+        assertEquals("abc", context.getMetadata().get("requestId"));
+    }
+}
@@ -15,6 +15,15 @@
 
 package com.amazonaws.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -69,4 +78,54 @@ public class CapacityManagerTest {
         Assert.assertEquals(mgr.consumedCapacity(), 0);
     }
 
+    /**
+     * Tests that concurrent acquire and release calls never hand out more
+     * capacity than is available, and that all capacity is returned once every
+     * caller has released what it acquired.
+     */
+    @Test
+    public void concurrentAcquireAndRelease() throws Exception {
+        final int maxCapacity = 25;
+        final int threads = 8;
+        final int iterations = 20000;
+        final CapacityManager mgr = new CapacityManager(maxCapacity);
+        final AtomicInteger inUse = new AtomicInteger();
+        final AtomicInteger maxInUse = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        start.await();
+                        for (int j = 0; j < iterations; j++) {
+                            if (mgr.acquire(5)) {
+                                int current = inUse.addAndGet(5);
+                                int max;
+                                while (current > (max = maxInUse.get())) {
+                                    maxInUse.compareAndSet(max, current);
+                                }
+                                inUse.addAndGet(-5);
+                                mgr.release(5);
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertTrue(maxInUse.get() <= maxCapacity);
+        Assert.assertEquals(maxCapacity, mgr.availableCapacity());
+        Assert.assertEquals(0, mgr.consumedCapacity());
+    }
 }
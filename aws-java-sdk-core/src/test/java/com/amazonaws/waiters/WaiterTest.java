@@ -26,6 +26,13 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -115,6 +122,99 @@ public class WaiterTest {
         waiter.pollResource();
     }
 
+    @Test
+    public void asyncWaitersShareThreadsBetweenPolls() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch succeeded = new CountDownLatch(50);
+            WaiterHandler<MockDescribeRequest> callback = new WaiterHandler<MockDescribeRequest>() {
+                @Override
+                public void onWaitSuccess(MockDescribeRequest request) {
+                    succeeded.countDown();
+                }
+
+                @Override
+                public void onWaitFailure(Exception e) {
+                }
+            };
+            List<Future<Void>> futures = new ArrayList<Future<Void>>();
+            long start = System.nanoTime();
+            for (int i = 0; i < 50; i++) {
+                futures.add(newAsyncWaiter(executorService, new SuccessStateResultAcceptor())
+                        .runAsync(new WaiterParameters<MockDescribeRequest>(new MockDescribeRequest()), callback));
+            }
+            for (Future<Void> future : futures) {
+                Assert.assertNull(future.get(10, TimeUnit.SECONDS));
+            }
+            // Each waiter delays twice for a second, which a sleeping thread would serialize
+            Assert.assertTrue("Waiters did not run concurrently", System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+            Assert.assertEquals(0, succeeded.getCount());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void asyncWaiterTimesOut() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicInteger failures = new AtomicInteger();
+            Future<Void> future = newAsyncWaiter(executorService, new RetryStateResultAcceptor())
+                    .runAsync(new WaiterParameters<MockDescribeRequest>(new MockDescribeRequest())
+                            .withPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(3), new FixedDelayStrategy(0))),
+                            new WaiterHandler<MockDescribeRequest>() {
+                                @Override
+                                public void onWaitSuccess(MockDescribeRequest request) {
+                                }
+
+                                @Override
+                                public void onWaitFailure(Exception e) {
+                                    failures.incrementAndGet();
+                                }
+                            });
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                Assert.fail("Expected the waiter to time out");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof WaiterTimedOutException);
+            }
+            Assert.assertEquals(1, failures.get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void cancelledAsyncWaiterStopsPolling() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            RetryStateResultAcceptor acceptor = new RetryStateResultAcceptor();
+            Future<Void> future = newAsyncWaiter(executorService, acceptor)
+                    .runAsync(new WaiterParameters<MockDescribeRequest>(new MockDescribeRequest()), new NoOpWaiterHandler());
+            while (acceptor.polls.get() == 0) {
+                Thread.sleep(10);
+            }
+            Assert.assertTrue(future.cancel(false));
+            Assert.assertTrue(future.isCancelled());
+            Assert.assertTrue(future.isDone());
+            int polls = acceptor.polls.get();
+            Thread.sleep(2500);
+            Assert.assertEquals("Waiter kept polling after being cancelled", polls, acceptor.polls.get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Waiter<MockDescribeRequest> newAsyncWaiter(ExecutorService executorService,
+                                                       WaiterAcceptor<MockDescribeResult> acceptor) {
+        return new WaiterBuilder<MockDescribeRequest, MockDescribeResult>()
+                .withSdkFunction(new MockDescribeFunction())
+                .withAcceptors(acceptor)
+                .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(5), new FixedDelayStrategy(1)))
+                .withExecutorService(executorService)
+                .build();
+    }
 
     class MockDescribeRequest extends AmazonWebServiceRequest {
         private String tableName;
@@ -170,6 +270,20 @@ public class WaiterTest {
 
     }
 
+    class RetryStateResultAcceptor extends WaiterAcceptor<MockDescribeResult> {
+
+        final AtomicInteger polls = new AtomicInteger();
+
+        public boolean matches(MockDescribeResult result) {
+            polls.incrementAndGet();
+            return true;
+        }
+
+        public WaiterState getState() {
+            return WaiterState.RETRY;
+        }
+    }
+
     class ExceptionAcceptor extends WaiterAcceptor<MockDescribeResult> {
 
         public boolean matches(Exception e) {
@@ -47,9 +47,12 @@ public class CreatePipelineResultJsonUnmarshaller implements Unmarshaller<Create
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineId", targetDepth)) {
-                    context.nextToken();
-                    createPipelineResult.setPipelineId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineId".equals(fieldName)) {
+                        context.nextToken();
+                        createPipelineResult.setPipelineId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
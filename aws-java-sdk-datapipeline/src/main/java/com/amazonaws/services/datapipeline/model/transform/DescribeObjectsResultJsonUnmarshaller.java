@@ -47,18 +47,18 @@ public class DescribeObjectsResultJsonUnmarshaller implements Unmarshaller<Descr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineObjects", targetDepth)) {
-                    context.nextToken();
-                    describeObjectsResult.setPipelineObjects(new ListUnmarshaller<PipelineObject>(PipelineObjectJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("marker", targetDepth)) {
-                    context.nextToken();
-                    describeObjectsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hasMoreResults", targetDepth)) {
-                    context.nextToken();
-                    describeObjectsResult.setHasMoreResults(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineObjects".equals(fieldName)) {
+                        context.nextToken();
+                        describeObjectsResult.setPipelineObjects(pipelineObjectsUnmarshaller.unmarshall(context));
+                    } else if ("marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeObjectsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hasMoreResults".equals(fieldName)) {
+                        context.nextToken();
+                        describeObjectsResult.setHasMoreResults(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class DescribeObjectsResultJsonUnmarshaller implements Unmarshaller<Descr
         return describeObjectsResult;
     }
 
+    private final Unmarshaller<java.util.List<PipelineObject>, JsonUnmarshallerContext> pipelineObjectsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PipelineObject>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PipelineObject>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PipelineObject>(PipelineObjectJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeObjectsResultJsonUnmarshaller instance;
 
     public static DescribeObjectsResultJsonUnmarshaller getInstance() {
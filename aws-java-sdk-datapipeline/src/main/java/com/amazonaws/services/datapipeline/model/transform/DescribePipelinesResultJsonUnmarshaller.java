@@ -47,10 +47,12 @@ public class DescribePipelinesResultJsonUnmarshaller implements Unmarshaller<Des
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineDescriptionList", targetDepth)) {
-                    context.nextToken();
-                    describePipelinesResult.setPipelineDescriptionList(new ListUnmarshaller<PipelineDescription>(PipelineDescriptionJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineDescriptionList".equals(fieldName)) {
+                        context.nextToken();
+                        describePipelinesResult.setPipelineDescriptionList(pipelineDescriptionListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribePipelinesResultJsonUnmarshaller implements Unmarshaller<Des
         return describePipelinesResult;
     }
 
+    private final Unmarshaller<java.util.List<PipelineDescription>, JsonUnmarshallerContext> pipelineDescriptionListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PipelineDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PipelineDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PipelineDescription>(PipelineDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribePipelinesResultJsonUnmarshaller instance;
 
     public static DescribePipelinesResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class EvaluateExpressionResultJsonUnmarshaller implements Unmarshaller<Ev
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("evaluatedExpression", targetDepth)) {
-                    context.nextToken();
-                    evaluateExpressionResult.setEvaluatedExpression(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("evaluatedExpression".equals(fieldName)) {
+                        context.nextToken();
+                        evaluateExpressionResult.setEvaluatedExpression(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class FieldJsonUnmarshaller implements Unmarshaller<Field, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    field.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stringValue", targetDepth)) {
-                    context.nextToken();
-                    field.setStringValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("refValue", targetDepth)) {
-                    context.nextToken();
-                    field.setRefValue(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("key".equals(fieldName)) {
+                        context.nextToken();
+                        field.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stringValue".equals(fieldName)) {
+                        context.nextToken();
+                        field.setStringValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("refValue".equals(fieldName)) {
+                        context.nextToken();
+                        field.setRefValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
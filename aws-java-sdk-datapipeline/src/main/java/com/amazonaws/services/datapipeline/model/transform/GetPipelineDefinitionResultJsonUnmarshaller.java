@@ -47,20 +47,18 @@ public class GetPipelineDefinitionResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineObjects", targetDepth)) {
-                    context.nextToken();
-                    getPipelineDefinitionResult.setPipelineObjects(new ListUnmarshaller<PipelineObject>(PipelineObjectJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("parameterObjects", targetDepth)) {
-                    context.nextToken();
-                    getPipelineDefinitionResult.setParameterObjects(new ListUnmarshaller<ParameterObject>(ParameterObjectJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("parameterValues", targetDepth)) {
-                    context.nextToken();
-                    getPipelineDefinitionResult.setParameterValues(new ListUnmarshaller<ParameterValue>(ParameterValueJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineObjects".equals(fieldName)) {
+                        context.nextToken();
+                        getPipelineDefinitionResult.setPipelineObjects(pipelineObjectsUnmarshaller.unmarshall(context));
+                    } else if ("parameterObjects".equals(fieldName)) {
+                        context.nextToken();
+                        getPipelineDefinitionResult.setParameterObjects(parameterObjectsUnmarshaller.unmarshall(context));
+                    } else if ("parameterValues".equals(fieldName)) {
+                        context.nextToken();
+                        getPipelineDefinitionResult.setParameterValues(parameterValuesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -74,6 +72,25 @@ public class GetPipelineDefinitionResultJsonUnmarshaller implements Unmarshaller
         return getPipelineDefinitionResult;
     }
 
+    private final Unmarshaller<java.util.List<PipelineObject>, JsonUnmarshallerContext> pipelineObjectsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PipelineObject>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PipelineObject>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PipelineObject>(PipelineObjectJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ParameterObject>, JsonUnmarshallerContext> parameterObjectsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ParameterObject>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ParameterObject>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ParameterObject>(ParameterObjectJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ParameterValue>, JsonUnmarshallerContext> parameterValuesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ParameterValue>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ParameterValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ParameterValue>(ParameterValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetPipelineDefinitionResultJsonUnmarshaller instance;
 
     public static GetPipelineDefinitionResultJsonUnmarshaller getInstance() {
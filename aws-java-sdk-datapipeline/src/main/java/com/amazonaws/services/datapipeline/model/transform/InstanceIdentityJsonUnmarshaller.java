@@ -47,13 +47,15 @@ public class InstanceIdentityJsonUnmarshaller implements Unmarshaller<InstanceId
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("document", targetDepth)) {
-                    context.nextToken();
-                    instanceIdentity.setDocument(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("signature", targetDepth)) {
-                    context.nextToken();
-                    instanceIdentity.setSignature(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("document".equals(fieldName)) {
+                        context.nextToken();
+                        instanceIdentity.setDocument(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("signature".equals(fieldName)) {
+                        context.nextToken();
+                        instanceIdentity.setSignature(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
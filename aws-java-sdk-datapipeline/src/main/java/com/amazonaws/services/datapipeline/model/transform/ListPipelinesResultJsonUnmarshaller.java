@@ -47,18 +47,18 @@ public class ListPipelinesResultJsonUnmarshaller implements Unmarshaller<ListPip
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineIdList", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult.setPipelineIdList(new ListUnmarshaller<PipelineIdName>(PipelineIdNameJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("marker", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hasMoreResults", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult.setHasMoreResults(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineIdList".equals(fieldName)) {
+                        context.nextToken();
+                        listPipelinesResult.setPipelineIdList(pipelineIdListUnmarshaller.unmarshall(context));
+                    } else if ("marker".equals(fieldName)) {
+                        context.nextToken();
+                        listPipelinesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hasMoreResults".equals(fieldName)) {
+                        context.nextToken();
+                        listPipelinesResult.setHasMoreResults(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class ListPipelinesResultJsonUnmarshaller implements Unmarshaller<ListPip
         return listPipelinesResult;
     }
 
+    private final Unmarshaller<java.util.List<PipelineIdName>, JsonUnmarshallerContext> pipelineIdListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PipelineIdName>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PipelineIdName>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PipelineIdName>(PipelineIdNameJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListPipelinesResultJsonUnmarshaller instance;
 
     public static ListPipelinesResultJsonUnmarshaller getInstance() {
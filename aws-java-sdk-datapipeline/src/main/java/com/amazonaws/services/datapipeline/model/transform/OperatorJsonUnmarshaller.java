@@ -47,13 +47,15 @@ public class OperatorJsonUnmarshaller implements Unmarshaller<Operator, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    operator.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("values", targetDepth)) {
-                    context.nextToken();
-                    operator.setValues(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        operator.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("values".equals(fieldName)) {
+                        context.nextToken();
+                        operator.setValues(valuesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class OperatorJsonUnmarshaller implements Unmarshaller<Operator, JsonUnma
         return operator;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> valuesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static OperatorJsonUnmarshaller instance;
 
     public static OperatorJsonUnmarshaller getInstance() {
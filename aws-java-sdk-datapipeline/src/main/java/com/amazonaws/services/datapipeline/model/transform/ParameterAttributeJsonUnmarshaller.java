@@ -47,13 +47,15 @@ public class ParameterAttributeJsonUnmarshaller implements Unmarshaller<Paramete
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    parameterAttribute.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stringValue", targetDepth)) {
-                    context.nextToken();
-                    parameterAttribute.setStringValue(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("key".equals(fieldName)) {
+                        context.nextToken();
+                        parameterAttribute.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stringValue".equals(fieldName)) {
+                        context.nextToken();
+                        parameterAttribute.setStringValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
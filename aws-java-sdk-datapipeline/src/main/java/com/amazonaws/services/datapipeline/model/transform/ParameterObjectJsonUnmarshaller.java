@@ -47,14 +47,15 @@ public class ParameterObjectJsonUnmarshaller implements Unmarshaller<ParameterOb
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    parameterObject.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("attributes", targetDepth)) {
-                    context.nextToken();
-                    parameterObject.setAttributes(new ListUnmarshaller<ParameterAttribute>(ParameterAttributeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        parameterObject.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("attributes".equals(fieldName)) {
+                        context.nextToken();
+                        parameterObject.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ParameterObjectJsonUnmarshaller implements Unmarshaller<ParameterOb
         return parameterObject;
     }
 
+    private final Unmarshaller<java.util.List<ParameterAttribute>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ParameterAttribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ParameterAttribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ParameterAttribute>(ParameterAttributeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ParameterObjectJsonUnmarshaller instance;
 
     public static ParameterObjectJsonUnmarshaller getInstance() {
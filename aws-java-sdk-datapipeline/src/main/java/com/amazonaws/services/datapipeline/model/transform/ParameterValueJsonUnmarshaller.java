@@ -47,13 +47,15 @@ public class ParameterValueJsonUnmarshaller implements Unmarshaller<ParameterVal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    parameterValue.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stringValue", targetDepth)) {
-                    context.nextToken();
-                    parameterValue.setStringValue(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        parameterValue.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stringValue".equals(fieldName)) {
+                        context.nextToken();
+                        parameterValue.setStringValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class PipelineDescriptionJsonUnmarshaller implements Unmarshaller<Pipelin
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("pipelineId", targetDepth)) {
-                    context.nextToken();
-                    pipelineDescription.setPipelineId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    pipelineDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("fields", targetDepth)) {
-                    context.nextToken();
-                    pipelineDescription.setFields(new ListUnmarshaller<Field>(FieldJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    pipelineDescription.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("tags", targetDepth)) {
-                    context.nextToken();
-                    pipelineDescription.setTags(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("pipelineId".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineDescription.setPipelineId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("fields".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineDescription.setFields(fieldsUnmarshaller.unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineDescription.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("tags".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineDescription.setTags(tagsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,19 @@ public class PipelineDescriptionJsonUnmarshaller implements Unmarshaller<Pipelin
         return pipelineDescription;
     }
 
+    private final Unmarshaller<java.util.List<Field>, JsonUnmarshallerContext> fieldsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Field>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Field>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Field>(FieldJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PipelineDescriptionJsonUnmarshaller instance;
 
     public static PipelineDescriptionJsonUnmarshaller getInstance() {
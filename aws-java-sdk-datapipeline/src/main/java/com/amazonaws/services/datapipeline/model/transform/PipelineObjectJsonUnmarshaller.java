@@ -47,17 +47,18 @@ public class PipelineObjectJsonUnmarshaller implements Unmarshaller<PipelineObje
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    pipelineObject.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    pipelineObject.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("fields", targetDepth)) {
-                    context.nextToken();
-                    pipelineObject.setFields(new ListUnmarshaller<Field>(FieldJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineObject.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineObject.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("fields".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineObject.setFields(fieldsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class PipelineObjectJsonUnmarshaller implements Unmarshaller<PipelineObje
         return pipelineObject;
     }
 
+    private final Unmarshaller<java.util.List<Field>, JsonUnmarshallerContext> fieldsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Field>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Field>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Field>(FieldJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PipelineObjectJsonUnmarshaller instance;
 
     public static PipelineObjectJsonUnmarshaller getInstance() {
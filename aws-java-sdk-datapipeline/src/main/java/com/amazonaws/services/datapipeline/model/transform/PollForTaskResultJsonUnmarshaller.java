@@ -47,9 +47,12 @@ public class PollForTaskResultJsonUnmarshaller implements Unmarshaller<PollForTa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskObject", targetDepth)) {
-                    context.nextToken();
-                    pollForTaskResult.setTaskObject(TaskObjectJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("taskObject".equals(fieldName)) {
+                        context.nextToken();
+                        pollForTaskResult.setTaskObject(TaskObjectJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
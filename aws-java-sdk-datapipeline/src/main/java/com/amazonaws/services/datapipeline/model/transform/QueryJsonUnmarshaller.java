@@ -47,9 +47,12 @@ public class QueryJsonUnmarshaller implements Unmarshaller<Query, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("selectors", targetDepth)) {
-                    context.nextToken();
-                    query.setSelectors(new ListUnmarshaller<Selector>(SelectorJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("selectors".equals(fieldName)) {
+                        context.nextToken();
+                        query.setSelectors(selectorsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class QueryJsonUnmarshaller implements Unmarshaller<Query, JsonUnmarshall
         return query;
     }
 
+    private final Unmarshaller<java.util.List<Selector>, JsonUnmarshallerContext> selectorsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Selector>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Selector>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Selector>(SelectorJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static QueryJsonUnmarshaller instance;
 
     public static QueryJsonUnmarshaller getInstance() {
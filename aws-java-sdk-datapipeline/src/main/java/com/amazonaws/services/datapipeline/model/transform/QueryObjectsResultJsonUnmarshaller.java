@@ -47,17 +47,18 @@ public class QueryObjectsResultJsonUnmarshaller implements Unmarshaller<QueryObj
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ids", targetDepth)) {
-                    context.nextToken();
-                    queryObjectsResult.setIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("marker", targetDepth)) {
-                    context.nextToken();
-                    queryObjectsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hasMoreResults", targetDepth)) {
-                    context.nextToken();
-                    queryObjectsResult.setHasMoreResults(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ids".equals(fieldName)) {
+                        context.nextToken();
+                        queryObjectsResult.setIds(idsUnmarshaller.unmarshall(context));
+                    } else if ("marker".equals(fieldName)) {
+                        context.nextToken();
+                        queryObjectsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hasMoreResults".equals(fieldName)) {
+                        context.nextToken();
+                        queryObjectsResult.setHasMoreResults(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class QueryObjectsResultJsonUnmarshaller implements Unmarshaller<QueryObj
         return queryObjectsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> idsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static QueryObjectsResultJsonUnmarshaller instance;
 
     public static QueryObjectsResultJsonUnmarshaller getInstance() {
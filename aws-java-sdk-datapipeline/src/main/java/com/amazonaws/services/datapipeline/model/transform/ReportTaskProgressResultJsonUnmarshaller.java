@@ -47,9 +47,12 @@ public class ReportTaskProgressResultJsonUnmarshaller implements Unmarshaller<Re
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("canceled", targetDepth)) {
-                    context.nextToken();
-                    reportTaskProgressResult.setCanceled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("canceled".equals(fieldName)) {
+                        context.nextToken();
+                        reportTaskProgressResult.setCanceled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class ReportTaskRunnerHeartbeatResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("terminate", targetDepth)) {
-                    context.nextToken();
-                    reportTaskRunnerHeartbeatResult.setTerminate(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("terminate".equals(fieldName)) {
+                        context.nextToken();
+                        reportTaskRunnerHeartbeatResult.setTerminate(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
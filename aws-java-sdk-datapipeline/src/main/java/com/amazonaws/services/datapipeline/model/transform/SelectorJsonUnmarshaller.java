@@ -47,13 +47,15 @@ public class SelectorJsonUnmarshaller implements Unmarshaller<Selector, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("fieldName", targetDepth)) {
-                    context.nextToken();
-                    selector.setFieldName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("operator", targetDepth)) {
-                    context.nextToken();
-                    selector.setOperator(OperatorJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("fieldName".equals(fieldName)) {
+                        context.nextToken();
+                        selector.setFieldName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("operator".equals(fieldName)) {
+                        context.nextToken();
+                        selector.setOperator(OperatorJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,22 +47,21 @@ public class TaskObjectJsonUnmarshaller implements Unmarshaller<TaskObject, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskId", targetDepth)) {
-                    context.nextToken();
-                    taskObject.setTaskId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("pipelineId", targetDepth)) {
-                    context.nextToken();
-                    taskObject.setPipelineId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("attemptId", targetDepth)) {
-                    context.nextToken();
-                    taskObject.setAttemptId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("objects", targetDepth)) {
-                    context.nextToken();
-                    taskObject.setObjects(new MapUnmarshaller<String, PipelineObject>(context.getUnmarshaller(String.class), PipelineObjectJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("taskId".equals(fieldName)) {
+                        context.nextToken();
+                        taskObject.setTaskId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("pipelineId".equals(fieldName)) {
+                        context.nextToken();
+                        taskObject.setPipelineId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("attemptId".equals(fieldName)) {
+                        context.nextToken();
+                        taskObject.setAttemptId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("objects".equals(fieldName)) {
+                        context.nextToken();
+                        taskObject.setObjects(objectsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,13 @@ public class TaskObjectJsonUnmarshaller implements Unmarshaller<TaskObject, Json
         return taskObject;
     }
 
+    private final Unmarshaller<java.util.Map<String, PipelineObject>, JsonUnmarshallerContext> objectsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, PipelineObject>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, PipelineObject>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, PipelineObject>(context.getUnmarshaller(String.class), PipelineObjectJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static TaskObjectJsonUnmarshaller instance;
 
     public static TaskObjectJsonUnmarshaller getInstance() {
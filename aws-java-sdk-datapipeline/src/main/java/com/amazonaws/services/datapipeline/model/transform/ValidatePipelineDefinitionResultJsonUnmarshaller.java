@@ -47,19 +47,18 @@ public class ValidatePipelineDefinitionResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("validationErrors", targetDepth)) {
-                    context.nextToken();
-                    validatePipelineDefinitionResult.setValidationErrors(new ListUnmarshaller<ValidationError>(ValidationErrorJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("validationWarnings", targetDepth)) {
-                    context.nextToken();
-                    validatePipelineDefinitionResult.setValidationWarnings(new ListUnmarshaller<ValidationWarning>(ValidationWarningJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("errored", targetDepth)) {
-                    context.nextToken();
-                    validatePipelineDefinitionResult.setErrored(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("validationErrors".equals(fieldName)) {
+                        context.nextToken();
+                        validatePipelineDefinitionResult.setValidationErrors(validationErrorsUnmarshaller.unmarshall(context));
+                    } else if ("validationWarnings".equals(fieldName)) {
+                        context.nextToken();
+                        validatePipelineDefinitionResult.setValidationWarnings(validationWarningsUnmarshaller.unmarshall(context));
+                    } else if ("errored".equals(fieldName)) {
+                        context.nextToken();
+                        validatePipelineDefinitionResult.setErrored(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -73,6 +72,19 @@ public class ValidatePipelineDefinitionResultJsonUnmarshaller implements Unmarsh
         return validatePipelineDefinitionResult;
     }
 
+    private final Unmarshaller<java.util.List<ValidationError>, JsonUnmarshallerContext> validationErrorsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ValidationError>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ValidationError>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ValidationError>(ValidationErrorJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ValidationWarning>, JsonUnmarshallerContext> validationWarningsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ValidationWarning>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ValidationWarning>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ValidationWarning>(ValidationWarningJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ValidatePipelineDefinitionResultJsonUnmarshaller instance;
 
     public static ValidatePipelineDefinitionResultJsonUnmarshaller getInstance() {
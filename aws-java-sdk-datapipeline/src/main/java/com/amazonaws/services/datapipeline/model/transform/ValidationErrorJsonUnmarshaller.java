@@ -47,13 +47,15 @@ public class ValidationErrorJsonUnmarshaller implements Unmarshaller<ValidationE
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    validationError.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("errors", targetDepth)) {
-                    context.nextToken();
-                    validationError.setErrors(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        validationError.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("errors".equals(fieldName)) {
+                        context.nextToken();
+                        validationError.setErrors(errorsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ValidationErrorJsonUnmarshaller implements Unmarshaller<ValidationE
         return validationError;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> errorsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ValidationErrorJsonUnmarshaller instance;
 
     public static ValidationErrorJsonUnmarshaller getInstance() {
@@ -47,19 +47,18 @@ public class AccountSettingsJsonUnmarshaller implements Unmarshaller<AccountSett
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("awsAccountNumber", targetDepth)) {
-                    context.nextToken();
-                    accountSettings.setAwsAccountNumber(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("unmeteredDevices", targetDepth)) {
-                    context.nextToken();
-                    accountSettings.setUnmeteredDevices(new MapUnmarshaller<String, Integer>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(Integer.class)).unmarshall(context));
-                }
-                if (context.testExpression("unmeteredRemoteAccessDevices", targetDepth)) {
-                    context.nextToken();
-                    accountSettings.setUnmeteredRemoteAccessDevices(new MapUnmarshaller<String, Integer>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(Integer.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("awsAccountNumber".equals(fieldName)) {
+                        context.nextToken();
+                        accountSettings.setAwsAccountNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("unmeteredDevices".equals(fieldName)) {
+                        context.nextToken();
+                        accountSettings.setUnmeteredDevices(unmeteredDevicesUnmarshaller.unmarshall(context));
+                    } else if ("unmeteredRemoteAccessDevices".equals(fieldName)) {
+                        context.nextToken();
+                        accountSettings.setUnmeteredRemoteAccessDevices(unmeteredRemoteAccessDevicesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -73,6 +72,19 @@ public class AccountSettingsJsonUnmarshaller implements Unmarshaller<AccountSett
         return accountSettings;
     }
 
+    private final Unmarshaller<java.util.Map<String, Integer>, JsonUnmarshallerContext> unmeteredDevicesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, Integer>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, Integer>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, Integer>(context.getUnmarshaller(String.class), context.getUnmarshaller(Integer.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, Integer>, JsonUnmarshallerContext> unmeteredRemoteAccessDevicesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, Integer>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, Integer>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, Integer>(context.getUnmarshaller(String.class), context.getUnmarshaller(Integer.class));
+        }
+    };
+
     private static AccountSettingsJsonUnmarshaller instance;
 
     public static AccountSettingsJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class ArtifactJsonUnmarshaller implements Unmarshaller<Artifact, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    artifact.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    artifact.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    artifact.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("extension", targetDepth)) {
-                    context.nextToken();
-                    artifact.setExtension(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("url", targetDepth)) {
-                    context.nextToken();
-                    artifact.setUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        artifact.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        artifact.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        artifact.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("extension".equals(fieldName)) {
+                        context.nextToken();
+                        artifact.setExtension(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("url".equals(fieldName)) {
+                        context.nextToken();
+                        artifact.setUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class CPUJsonUnmarshaller implements Unmarshaller<CPU, JsonUnmarshallerCo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("frequency", targetDepth)) {
-                    context.nextToken();
-                    cPU.setFrequency(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("architecture", targetDepth)) {
-                    context.nextToken();
-                    cPU.setArchitecture(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("clock", targetDepth)) {
-                    context.nextToken();
-                    cPU.setClock(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("frequency".equals(fieldName)) {
+                        context.nextToken();
+                        cPU.setFrequency(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("architecture".equals(fieldName)) {
+                        context.nextToken();
+                        cPU.setArchitecture(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("clock".equals(fieldName)) {
+                        context.nextToken();
+                        cPU.setClock(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
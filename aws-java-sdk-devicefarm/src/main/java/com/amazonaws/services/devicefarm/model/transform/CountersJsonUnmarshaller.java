@@ -47,33 +47,30 @@ public class CountersJsonUnmarshaller implements Unmarshaller<Counters, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("total", targetDepth)) {
-                    context.nextToken();
-                    counters.setTotal(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("passed", targetDepth)) {
-                    context.nextToken();
-                    counters.setPassed(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("failed", targetDepth)) {
-                    context.nextToken();
-                    counters.setFailed(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("warned", targetDepth)) {
-                    context.nextToken();
-                    counters.setWarned(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("errored", targetDepth)) {
-                    context.nextToken();
-                    counters.setErrored(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("stopped", targetDepth)) {
-                    context.nextToken();
-                    counters.setStopped(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("skipped", targetDepth)) {
-                    context.nextToken();
-                    counters.setSkipped(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("total".equals(fieldName)) {
+                        context.nextToken();
+                        counters.setTotal(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("passed".equals(fieldName)) {
+                        context.nextToken();
+                        counters.setPassed(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("failed".equals(fieldName)) {
+                        context.nextToken();
+                        counters.setFailed(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("warned".equals(fieldName)) {
+                        context.nextToken();
+                        counters.setWarned(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("errored".equals(fieldName)) {
+                        context.nextToken();
+                        counters.setErrored(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("stopped".equals(fieldName)) {
+                        context.nextToken();
+                        counters.setStopped(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("skipped".equals(fieldName)) {
+                        context.nextToken();
+                        counters.setSkipped(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
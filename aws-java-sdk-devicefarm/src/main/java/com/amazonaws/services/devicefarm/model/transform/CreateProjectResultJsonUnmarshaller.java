@@ -47,9 +47,12 @@ public class CreateProjectResultJsonUnmarshaller implements Unmarshaller<CreateP
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("project", targetDepth)) {
-                    context.nextToken();
-                    createProjectResult.setProject(ProjectJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("project".equals(fieldName)) {
+                        context.nextToken();
+                        createProjectResult.setProject(ProjectJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateRemoteAccessSessionConfigurationJsonUnmarshaller implements U
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("billingMethod", targetDepth)) {
-                    context.nextToken();
-                    createRemoteAccessSessionConfiguration.setBillingMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("billingMethod".equals(fieldName)) {
+                        context.nextToken();
+                        createRemoteAccessSessionConfiguration.setBillingMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateUploadResultJsonUnmarshaller implements Unmarshaller<CreateUp
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("upload", targetDepth)) {
-                    context.nextToken();
-                    createUploadResult.setUpload(UploadJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("upload".equals(fieldName)) {
+                        context.nextToken();
+                        createUploadResult.setUpload(UploadJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
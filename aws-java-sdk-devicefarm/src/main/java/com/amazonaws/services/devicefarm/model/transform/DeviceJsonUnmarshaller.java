@@ -47,73 +47,60 @@ public class DeviceJsonUnmarshaller implements Unmarshaller<Device, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    device.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    device.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("manufacturer", targetDepth)) {
-                    context.nextToken();
-                    device.setManufacturer(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("model", targetDepth)) {
-                    context.nextToken();
-                    device.setModel(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("formFactor", targetDepth)) {
-                    context.nextToken();
-                    device.setFormFactor(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("platform", targetDepth)) {
-                    context.nextToken();
-                    device.setPlatform(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("os", targetDepth)) {
-                    context.nextToken();
-                    device.setOs(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cpu", targetDepth)) {
-                    context.nextToken();
-                    device.setCpu(CPUJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("resolution", targetDepth)) {
-                    context.nextToken();
-                    device.setResolution(ResolutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("heapSize", targetDepth)) {
-                    context.nextToken();
-                    device.setHeapSize(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("memory", targetDepth)) {
-                    context.nextToken();
-                    device.setMemory(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("image", targetDepth)) {
-                    context.nextToken();
-                    device.setImage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("carrier", targetDepth)) {
-                    context.nextToken();
-                    device.setCarrier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("radio", targetDepth)) {
-                    context.nextToken();
-                    device.setRadio(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("remoteAccessEnabled", targetDepth)) {
-                    context.nextToken();
-                    device.setRemoteAccessEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("fleetType", targetDepth)) {
-                    context.nextToken();
-                    device.setFleetType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("fleetName", targetDepth)) {
-                    context.nextToken();
-                    device.setFleetName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        device.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        device.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("manufacturer".equals(fieldName)) {
+                        context.nextToken();
+                        device.setManufacturer(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("model".equals(fieldName)) {
+                        context.nextToken();
+                        device.setModel(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("formFactor".equals(fieldName)) {
+                        context.nextToken();
+                        device.setFormFactor(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("platform".equals(fieldName)) {
+                        context.nextToken();
+                        device.setPlatform(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("os".equals(fieldName)) {
+                        context.nextToken();
+                        device.setOs(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cpu".equals(fieldName)) {
+                        context.nextToken();
+                        device.setCpu(CPUJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("resolution".equals(fieldName)) {
+                        context.nextToken();
+                        device.setResolution(ResolutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("heapSize".equals(fieldName)) {
+                        context.nextToken();
+                        device.setHeapSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("memory".equals(fieldName)) {
+                        context.nextToken();
+                        device.setMemory(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("image".equals(fieldName)) {
+                        context.nextToken();
+                        device.setImage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("carrier".equals(fieldName)) {
+                        context.nextToken();
+                        device.setCarrier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("radio".equals(fieldName)) {
+                        context.nextToken();
+                        device.setRadio(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("remoteAccessEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        device.setRemoteAccessEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("fleetType".equals(fieldName)) {
+                        context.nextToken();
+                        device.setFleetType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("fleetName".equals(fieldName)) {
+                        context.nextToken();
+                        device.setFleetName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class DeviceMinutesJsonUnmarshaller implements Unmarshaller<DeviceMinutes
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("total", targetDepth)) {
-                    context.nextToken();
-                    deviceMinutes.setTotal(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("metered", targetDepth)) {
-                    context.nextToken();
-                    deviceMinutes.setMetered(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("unmetered", targetDepth)) {
-                    context.nextToken();
-                    deviceMinutes.setUnmetered(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("total".equals(fieldName)) {
+                        context.nextToken();
+                        deviceMinutes.setTotal(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("metered".equals(fieldName)) {
+                        context.nextToken();
+                        deviceMinutes.setMetered(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("unmetered".equals(fieldName)) {
+                        context.nextToken();
+                        deviceMinutes.setUnmetered(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
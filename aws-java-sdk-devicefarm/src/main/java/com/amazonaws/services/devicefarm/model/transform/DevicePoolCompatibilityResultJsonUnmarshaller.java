@@ -47,18 +47,18 @@ public class DevicePoolCompatibilityResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("device", targetDepth)) {
-                    context.nextToken();
-                    devicePoolCompatibilityResult.setDevice(DeviceJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("compatible", targetDepth)) {
-                    context.nextToken();
-                    devicePoolCompatibilityResult.setCompatible(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("incompatibilityMessages", targetDepth)) {
-                    context.nextToken();
-                    devicePoolCompatibilityResult.setIncompatibilityMessages(new ListUnmarshaller<IncompatibilityMessage>(
-                            IncompatibilityMessageJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("device".equals(fieldName)) {
+                        context.nextToken();
+                        devicePoolCompatibilityResult.setDevice(DeviceJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("compatible".equals(fieldName)) {
+                        context.nextToken();
+                        devicePoolCompatibilityResult.setCompatible(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("incompatibilityMessages".equals(fieldName)) {
+                        context.nextToken();
+                        devicePoolCompatibilityResult.setIncompatibilityMessages(incompatibilityMessagesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class DevicePoolCompatibilityResultJsonUnmarshaller implements Unmarshall
         return devicePoolCompatibilityResult;
     }
 
+    private final Unmarshaller<java.util.List<IncompatibilityMessage>, JsonUnmarshallerContext> incompatibilityMessagesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<IncompatibilityMessage>>() {
+        @Override
+        protected Unmarshaller<java.util.List<IncompatibilityMessage>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<IncompatibilityMessage>(IncompatibilityMessageJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DevicePoolCompatibilityResultJsonUnmarshaller instance;
 
     public static DevicePoolCompatibilityResultJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class DevicePoolJsonUnmarshaller implements Unmarshaller<DevicePool, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    devicePool.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    devicePool.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    devicePool.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    devicePool.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rules", targetDepth)) {
-                    context.nextToken();
-                    devicePool.setRules(new ListUnmarshaller<Rule>(RuleJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        devicePool.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        devicePool.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        devicePool.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        devicePool.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("rules".equals(fieldName)) {
+                        context.nextToken();
+                        devicePool.setRules(rulesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class DevicePoolJsonUnmarshaller implements Unmarshaller<DevicePool, Json
         return devicePool;
     }
 
+    private final Unmarshaller<java.util.List<Rule>, JsonUnmarshallerContext> rulesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Rule>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Rule>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Rule>(RuleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DevicePoolJsonUnmarshaller instance;
 
     public static DevicePoolJsonUnmarshaller getInstance() {
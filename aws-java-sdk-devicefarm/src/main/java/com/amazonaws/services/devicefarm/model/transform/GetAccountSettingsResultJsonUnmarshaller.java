@@ -47,9 +47,12 @@ public class GetAccountSettingsResultJsonUnmarshaller implements Unmarshaller<Ge
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("accountSettings", targetDepth)) {
-                    context.nextToken();
-                    getAccountSettingsResult.setAccountSettings(AccountSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("accountSettings".equals(fieldName)) {
+                        context.nextToken();
+                        getAccountSettingsResult.setAccountSettings(AccountSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
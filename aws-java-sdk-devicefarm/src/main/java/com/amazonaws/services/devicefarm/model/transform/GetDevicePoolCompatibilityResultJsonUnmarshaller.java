@@ -47,15 +47,15 @@ public class GetDevicePoolCompatibilityResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("compatibleDevices", targetDepth)) {
-                    context.nextToken();
-                    getDevicePoolCompatibilityResult.setCompatibleDevices(new ListUnmarshaller<DevicePoolCompatibilityResult>(
-                            DevicePoolCompatibilityResultJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("incompatibleDevices", targetDepth)) {
-                    context.nextToken();
-                    getDevicePoolCompatibilityResult.setIncompatibleDevices(new ListUnmarshaller<DevicePoolCompatibilityResult>(
-                            DevicePoolCompatibilityResultJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("compatibleDevices".equals(fieldName)) {
+                        context.nextToken();
+                        getDevicePoolCompatibilityResult.setCompatibleDevices(compatibleDevicesUnmarshaller.unmarshall(context));
+                    } else if ("incompatibleDevices".equals(fieldName)) {
+                        context.nextToken();
+                        getDevicePoolCompatibilityResult.setIncompatibleDevices(incompatibleDevicesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +69,19 @@ public class GetDevicePoolCompatibilityResultJsonUnmarshaller implements Unmarsh
         return getDevicePoolCompatibilityResult;
     }
 
+    private final Unmarshaller<java.util.List<DevicePoolCompatibilityResult>, JsonUnmarshallerContext> compatibleDevicesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DevicePoolCompatibilityResult>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DevicePoolCompatibilityResult>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DevicePoolCompatibilityResult>(DevicePoolCompatibilityResultJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<DevicePoolCompatibilityResult>, JsonUnmarshallerContext> incompatibleDevicesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DevicePoolCompatibilityResult>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DevicePoolCompatibilityResult>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DevicePoolCompatibilityResult>(DevicePoolCompatibilityResultJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetDevicePoolCompatibilityResultJsonUnmarshaller instance;
 
     public static GetDevicePoolCompatibilityResultJsonUnmarshaller getInstance() {
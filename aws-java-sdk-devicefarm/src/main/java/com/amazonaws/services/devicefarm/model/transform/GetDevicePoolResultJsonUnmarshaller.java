@@ -47,9 +47,12 @@ public class GetDevicePoolResultJsonUnmarshaller implements Unmarshaller<GetDevi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("devicePool", targetDepth)) {
-                    context.nextToken();
-                    getDevicePoolResult.setDevicePool(DevicePoolJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("devicePool".equals(fieldName)) {
+                        context.nextToken();
+                        getDevicePoolResult.setDevicePool(DevicePoolJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
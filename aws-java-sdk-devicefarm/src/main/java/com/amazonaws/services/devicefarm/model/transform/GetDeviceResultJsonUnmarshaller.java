@@ -47,9 +47,12 @@ public class GetDeviceResultJsonUnmarshaller implements Unmarshaller<GetDeviceRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("device", targetDepth)) {
-                    context.nextToken();
-                    getDeviceResult.setDevice(DeviceJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("device".equals(fieldName)) {
+                        context.nextToken();
+                        getDeviceResult.setDevice(DeviceJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
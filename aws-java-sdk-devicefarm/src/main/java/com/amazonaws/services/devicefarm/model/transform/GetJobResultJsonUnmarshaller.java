@@ -47,9 +47,12 @@ public class GetJobResultJsonUnmarshaller implements Unmarshaller<GetJobResult,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("job", targetDepth)) {
-                    context.nextToken();
-                    getJobResult.setJob(JobJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("job".equals(fieldName)) {
+                        context.nextToken();
+                        getJobResult.setJob(JobJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,19 +47,18 @@ public class GetOfferingStatusResultJsonUnmarshaller implements Unmarshaller<Get
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("current", targetDepth)) {
-                    context.nextToken();
-                    getOfferingStatusResult.setCurrent(new MapUnmarshaller<String, OfferingStatus>(context.getUnmarshaller(String.class),
-                            OfferingStatusJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextPeriod", targetDepth)) {
-                    context.nextToken();
-                    getOfferingStatusResult.setNextPeriod(new MapUnmarshaller<String, OfferingStatus>(context.getUnmarshaller(String.class),
-                            OfferingStatusJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    getOfferingStatusResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("current".equals(fieldName)) {
+                        context.nextToken();
+                        getOfferingStatusResult.setCurrent(currentUnmarshaller.unmarshall(context));
+                    } else if ("nextPeriod".equals(fieldName)) {
+                        context.nextToken();
+                        getOfferingStatusResult.setNextPeriod(nextPeriodUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        getOfferingStatusResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -73,6 +72,19 @@ public class GetOfferingStatusResultJsonUnmarshaller implements Unmarshaller<Get
         return getOfferingStatusResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, OfferingStatus>, JsonUnmarshallerContext> currentUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, OfferingStatus>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, OfferingStatus>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, OfferingStatus>(context.getUnmarshaller(String.class), OfferingStatusJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, OfferingStatus>, JsonUnmarshallerContext> nextPeriodUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, OfferingStatus>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, OfferingStatus>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, OfferingStatus>(context.getUnmarshaller(String.class), OfferingStatusJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetOfferingStatusResultJsonUnmarshaller instance;
 
     public static GetOfferingStatusResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class GetProjectResultJsonUnmarshaller implements Unmarshaller<GetProject
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("project", targetDepth)) {
-                    context.nextToken();
-                    getProjectResult.setProject(ProjectJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("project".equals(fieldName)) {
+                        context.nextToken();
+                        getProjectResult.setProject(ProjectJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
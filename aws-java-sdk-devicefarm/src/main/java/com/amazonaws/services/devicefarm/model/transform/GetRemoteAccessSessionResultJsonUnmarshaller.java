@@ -47,9 +47,12 @@ public class GetRemoteAccessSessionResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("remoteAccessSession", targetDepth)) {
-                    context.nextToken();
-                    getRemoteAccessSessionResult.setRemoteAccessSession(RemoteAccessSessionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("remoteAccessSession".equals(fieldName)) {
+                        context.nextToken();
+                        getRemoteAccessSessionResult.setRemoteAccessSession(RemoteAccessSessionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
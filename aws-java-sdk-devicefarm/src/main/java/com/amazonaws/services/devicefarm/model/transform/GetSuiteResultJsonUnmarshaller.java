@@ -47,9 +47,12 @@ public class GetSuiteResultJsonUnmarshaller implements Unmarshaller<GetSuiteResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("suite", targetDepth)) {
-                    context.nextToken();
-                    getSuiteResult.setSuite(SuiteJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("suite".equals(fieldName)) {
+                        context.nextToken();
+                        getSuiteResult.setSuite(SuiteJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
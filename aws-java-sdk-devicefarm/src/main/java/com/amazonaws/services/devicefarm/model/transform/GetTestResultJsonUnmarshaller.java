@@ -47,9 +47,12 @@ public class GetTestResultJsonUnmarshaller implements Unmarshaller<GetTestResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("test", targetDepth)) {
-                    context.nextToken();
-                    getTestResult.setTest(TestJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("test".equals(fieldName)) {
+                        context.nextToken();
+                        getTestResult.setTest(TestJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
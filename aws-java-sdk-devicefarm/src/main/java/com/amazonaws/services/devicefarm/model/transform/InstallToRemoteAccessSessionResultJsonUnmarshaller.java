@@ -47,9 +47,12 @@ public class InstallToRemoteAccessSessionResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("appUpload", targetDepth)) {
-                    context.nextToken();
-                    installToRemoteAccessSessionResult.setAppUpload(UploadJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("appUpload".equals(fieldName)) {
+                        context.nextToken();
+                        installToRemoteAccessSessionResult.setAppUpload(UploadJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
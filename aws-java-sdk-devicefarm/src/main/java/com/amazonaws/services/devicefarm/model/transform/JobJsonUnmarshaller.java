@@ -47,53 +47,45 @@ public class JobJsonUnmarshaller implements Unmarshaller<Job, JsonUnmarshallerCo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    job.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    job.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    job.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    job.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    job.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    job.setResult(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("started", targetDepth)) {
-                    context.nextToken();
-                    job.setStarted(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stopped", targetDepth)) {
-                    context.nextToken();
-                    job.setStopped(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("counters", targetDepth)) {
-                    context.nextToken();
-                    job.setCounters(CountersJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    job.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("device", targetDepth)) {
-                    context.nextToken();
-                    job.setDevice(DeviceJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("deviceMinutes", targetDepth)) {
-                    context.nextToken();
-                    job.setDeviceMinutes(DeviceMinutesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        job.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        job.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        job.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        job.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        job.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        job.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("started".equals(fieldName)) {
+                        context.nextToken();
+                        job.setStarted(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("stopped".equals(fieldName)) {
+                        context.nextToken();
+                        job.setStopped(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("counters".equals(fieldName)) {
+                        context.nextToken();
+                        job.setCounters(CountersJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        job.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("device".equals(fieldName)) {
+                        context.nextToken();
+                        job.setDevice(DeviceJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("deviceMinutes".equals(fieldName)) {
+                        context.nextToken();
+                        job.setDeviceMinutes(DeviceMinutesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ListArtifactsResultJsonUnmarshaller implements Unmarshaller<ListArt
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("artifacts", targetDepth)) {
-                    context.nextToken();
-                    listArtifactsResult.setArtifacts(new ListUnmarshaller<Artifact>(ArtifactJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listArtifactsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("artifacts".equals(fieldName)) {
+                        context.nextToken();
+                        listArtifactsResult.setArtifacts(artifactsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listArtifactsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListArtifactsResultJsonUnmarshaller implements Unmarshaller<ListArt
         return listArtifactsResult;
     }
 
+    private final Unmarshaller<java.util.List<Artifact>, JsonUnmarshallerContext> artifactsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Artifact>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Artifact>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Artifact>(ArtifactJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListArtifactsResultJsonUnmarshaller instance;
 
     public static ListArtifactsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListDevicePoolsResultJsonUnmarshaller implements Unmarshaller<ListD
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("devicePools", targetDepth)) {
-                    context.nextToken();
-                    listDevicePoolsResult.setDevicePools(new ListUnmarshaller<DevicePool>(DevicePoolJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listDevicePoolsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("devicePools".equals(fieldName)) {
+                        context.nextToken();
+                        listDevicePoolsResult.setDevicePools(devicePoolsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listDevicePoolsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListDevicePoolsResultJsonUnmarshaller implements Unmarshaller<ListD
         return listDevicePoolsResult;
     }
 
+    private final Unmarshaller<java.util.List<DevicePool>, JsonUnmarshallerContext> devicePoolsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DevicePool>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DevicePool>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DevicePool>(DevicePoolJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListDevicePoolsResultJsonUnmarshaller instance;
 
     public static ListDevicePoolsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListDevicesResultJsonUnmarshaller implements Unmarshaller<ListDevic
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("devices", targetDepth)) {
-                    context.nextToken();
-                    listDevicesResult.setDevices(new ListUnmarshaller<Device>(DeviceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listDevicesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("devices".equals(fieldName)) {
+                        context.nextToken();
+                        listDevicesResult.setDevices(devicesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listDevicesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListDevicesResultJsonUnmarshaller implements Unmarshaller<ListDevic
         return listDevicesResult;
     }
 
+    private final Unmarshaller<java.util.List<Device>, JsonUnmarshallerContext> devicesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Device>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Device>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Device>(DeviceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListDevicesResultJsonUnmarshaller instance;
 
     public static ListDevicesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListJobsResultJsonUnmarshaller implements Unmarshaller<ListJobsResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("jobs", targetDepth)) {
-                    context.nextToken();
-                    listJobsResult.setJobs(new ListUnmarshaller<Job>(JobJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listJobsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("jobs".equals(fieldName)) {
+                        context.nextToken();
+                        listJobsResult.setJobs(jobsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listJobsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListJobsResultJsonUnmarshaller implements Unmarshaller<ListJobsResu
         return listJobsResult;
     }
 
+    private final Unmarshaller<java.util.List<Job>, JsonUnmarshallerContext> jobsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Job>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Job>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Job>(JobJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListJobsResultJsonUnmarshaller instance;
 
     public static ListJobsResultJsonUnmarshaller getInstance() {
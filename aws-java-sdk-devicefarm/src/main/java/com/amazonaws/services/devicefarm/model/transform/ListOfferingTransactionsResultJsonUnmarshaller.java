@@ -47,14 +47,15 @@ public class ListOfferingTransactionsResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("offeringTransactions", targetDepth)) {
-                    context.nextToken();
-                    listOfferingTransactionsResult.setOfferingTransactions(new ListUnmarshaller<OfferingTransaction>(OfferingTransactionJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listOfferingTransactionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("offeringTransactions".equals(fieldName)) {
+                        context.nextToken();
+                        listOfferingTransactionsResult.setOfferingTransactions(offeringTransactionsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listOfferingTransactionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListOfferingTransactionsResultJsonUnmarshaller implements Unmarshal
         return listOfferingTransactionsResult;
     }
 
+    private final Unmarshaller<java.util.List<OfferingTransaction>, JsonUnmarshallerContext> offeringTransactionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<OfferingTransaction>>() {
+        @Override
+        protected Unmarshaller<java.util.List<OfferingTransaction>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<OfferingTransaction>(OfferingTransactionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListOfferingTransactionsResultJsonUnmarshaller instance;
 
     public static ListOfferingTransactionsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListOfferingsResultJsonUnmarshaller implements Unmarshaller<ListOff
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("offerings", targetDepth)) {
-                    context.nextToken();
-                    listOfferingsResult.setOfferings(new ListUnmarshaller<Offering>(OfferingJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listOfferingsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("offerings".equals(fieldName)) {
+                        context.nextToken();
+                        listOfferingsResult.setOfferings(offeringsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listOfferingsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListOfferingsResultJsonUnmarshaller implements Unmarshaller<ListOff
         return listOfferingsResult;
     }
 
+    private final Unmarshaller<java.util.List<Offering>, JsonUnmarshallerContext> offeringsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Offering>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Offering>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Offering>(OfferingJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListOfferingsResultJsonUnmarshaller instance;
 
     public static ListOfferingsResultJsonUnmarshaller getInstance() {
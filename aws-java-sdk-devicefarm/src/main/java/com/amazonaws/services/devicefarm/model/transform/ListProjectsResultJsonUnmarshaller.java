@@ -47,13 +47,15 @@ public class ListProjectsResultJsonUnmarshaller implements Unmarshaller<ListProj
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("projects", targetDepth)) {
-                    context.nextToken();
-                    listProjectsResult.setProjects(new ListUnmarshaller<Project>(ProjectJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listProjectsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("projects".equals(fieldName)) {
+                        context.nextToken();
+                        listProjectsResult.setProjects(projectsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listProjectsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListProjectsResultJsonUnmarshaller implements Unmarshaller<ListProj
         return listProjectsResult;
     }
 
+    private final Unmarshaller<java.util.List<Project>, JsonUnmarshallerContext> projectsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Project>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Project>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Project>(ProjectJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListProjectsResultJsonUnmarshaller instance;
 
     public static ListProjectsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListRemoteAccessSessionsResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("remoteAccessSessions", targetDepth)) {
-                    context.nextToken();
-                    listRemoteAccessSessionsResult.setRemoteAccessSessions(new ListUnmarshaller<RemoteAccessSession>(RemoteAccessSessionJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listRemoteAccessSessionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("remoteAccessSessions".equals(fieldName)) {
+                        context.nextToken();
+                        listRemoteAccessSessionsResult.setRemoteAccessSessions(remoteAccessSessionsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listRemoteAccessSessionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListRemoteAccessSessionsResultJsonUnmarshaller implements Unmarshal
         return listRemoteAccessSessionsResult;
     }
 
+    private final Unmarshaller<java.util.List<RemoteAccessSession>, JsonUnmarshallerContext> remoteAccessSessionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RemoteAccessSession>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RemoteAccessSession>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RemoteAccessSession>(RemoteAccessSessionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListRemoteAccessSessionsResultJsonUnmarshaller instance;
 
     public static ListRemoteAccessSessionsResultJsonUnmarshaller getInstance() {
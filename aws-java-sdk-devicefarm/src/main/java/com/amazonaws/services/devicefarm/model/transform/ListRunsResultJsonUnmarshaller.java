@@ -47,13 +47,15 @@ public class ListRunsResultJsonUnmarshaller implements Unmarshaller<ListRunsResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("runs", targetDepth)) {
-                    context.nextToken();
-                    listRunsResult.setRuns(new ListUnmarshaller<Run>(RunJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listRunsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("runs".equals(fieldName)) {
+                        context.nextToken();
+                        listRunsResult.setRuns(runsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listRunsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListRunsResultJsonUnmarshaller implements Unmarshaller<ListRunsResu
         return listRunsResult;
     }
 
+    private final Unmarshaller<java.util.List<Run>, JsonUnmarshallerContext> runsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Run>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Run>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Run>(RunJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListRunsResultJsonUnmarshaller instance;
 
     public static ListRunsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListSamplesResultJsonUnmarshaller implements Unmarshaller<ListSampl
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("samples", targetDepth)) {
-                    context.nextToken();
-                    listSamplesResult.setSamples(new ListUnmarshaller<Sample>(SampleJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listSamplesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("samples".equals(fieldName)) {
+                        context.nextToken();
+                        listSamplesResult.setSamples(samplesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listSamplesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListSamplesResultJsonUnmarshaller implements Unmarshaller<ListSampl
         return listSamplesResult;
     }
 
+    private final Unmarshaller<java.util.List<Sample>, JsonUnmarshallerContext> samplesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Sample>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Sample>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Sample>(SampleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListSamplesResultJsonUnmarshaller instance;
 
     public static ListSamplesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListSuitesResultJsonUnmarshaller implements Unmarshaller<ListSuites
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("suites", targetDepth)) {
-                    context.nextToken();
-                    listSuitesResult.setSuites(new ListUnmarshaller<Suite>(SuiteJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listSuitesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("suites".equals(fieldName)) {
+                        context.nextToken();
+                        listSuitesResult.setSuites(suitesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listSuitesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListSuitesResultJsonUnmarshaller implements Unmarshaller<ListSuites
         return listSuitesResult;
     }
 
+    private final Unmarshaller<java.util.List<Suite>, JsonUnmarshallerContext> suitesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Suite>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Suite>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Suite>(SuiteJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListSuitesResultJsonUnmarshaller instance;
 
     public static ListSuitesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListTestsResultJsonUnmarshaller implements Unmarshaller<ListTestsRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tests", targetDepth)) {
-                    context.nextToken();
-                    listTestsResult.setTests(new ListUnmarshaller<Test>(TestJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listTestsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("tests".equals(fieldName)) {
+                        context.nextToken();
+                        listTestsResult.setTests(testsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listTestsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTestsResultJsonUnmarshaller implements Unmarshaller<ListTestsRe
         return listTestsResult;
     }
 
+    private final Unmarshaller<java.util.List<Test>, JsonUnmarshallerContext> testsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Test>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Test>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Test>(TestJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListTestsResultJsonUnmarshaller instance;
 
     public static ListTestsResultJsonUnmarshaller getInstance() {
@@ -47,15 +47,15 @@ public class ListUniqueProblemsResultJsonUnmarshaller implements Unmarshaller<Li
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("uniqueProblems", targetDepth)) {
-                    context.nextToken();
-                    listUniqueProblemsResult.setUniqueProblems(new MapUnmarshaller<String, java.util.List<UniqueProblem>>(
-                            context.getUnmarshaller(String.class), new ListUnmarshaller<UniqueProblem>(UniqueProblemJsonUnmarshaller.getInstance()))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listUniqueProblemsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("uniqueProblems".equals(fieldName)) {
+                        context.nextToken();
+                        listUniqueProblemsResult.setUniqueProblems(uniqueProblemsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listUniqueProblemsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +69,14 @@ public class ListUniqueProblemsResultJsonUnmarshaller implements Unmarshaller<Li
         return listUniqueProblemsResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.List<UniqueProblem>>, JsonUnmarshallerContext> uniqueProblemsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<UniqueProblem>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<UniqueProblem>>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<UniqueProblem>>(context.getUnmarshaller(String.class), new ListUnmarshaller<UniqueProblem>(
+                    UniqueProblemJsonUnmarshaller.getInstance()));
+        }
+    };
+
     private static ListUniqueProblemsResultJsonUnmarshaller instance;
 
     public static ListUniqueProblemsResultJsonUnmarshaller getInstance() {
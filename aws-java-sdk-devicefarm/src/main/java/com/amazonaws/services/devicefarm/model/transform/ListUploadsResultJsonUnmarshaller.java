@@ -47,13 +47,15 @@ public class ListUploadsResultJsonUnmarshaller implements Unmarshaller<ListUploa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("uploads", targetDepth)) {
-                    context.nextToken();
-                    listUploadsResult.setUploads(new ListUnmarshaller<Upload>(UploadJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listUploadsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("uploads".equals(fieldName)) {
+                        context.nextToken();
+                        listUploadsResult.setUploads(uploadsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listUploadsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListUploadsResultJsonUnmarshaller implements Unmarshaller<ListUploa
         return listUploadsResult;
     }
 
+    private final Unmarshaller<java.util.List<Upload>, JsonUnmarshallerContext> uploadsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Upload>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Upload>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Upload>(UploadJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListUploadsResultJsonUnmarshaller instance;
 
     public static ListUploadsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class LocationJsonUnmarshaller implements Unmarshaller<Location, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("latitude", targetDepth)) {
-                    context.nextToken();
-                    location.setLatitude(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("longitude", targetDepth)) {
-                    context.nextToken();
-                    location.setLongitude(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("latitude".equals(fieldName)) {
+                        context.nextToken();
+                        location.setLatitude(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("longitude".equals(fieldName)) {
+                        context.nextToken();
+                        location.setLongitude(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
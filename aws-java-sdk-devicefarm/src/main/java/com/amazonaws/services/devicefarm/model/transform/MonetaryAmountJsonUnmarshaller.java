@@ -47,13 +47,15 @@ public class MonetaryAmountJsonUnmarshaller implements Unmarshaller<MonetaryAmou
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("amount", targetDepth)) {
-                    context.nextToken();
-                    monetaryAmount.setAmount(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("currencyCode", targetDepth)) {
-                    context.nextToken();
-                    monetaryAmount.setCurrencyCode(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("amount".equals(fieldName)) {
+                        context.nextToken();
+                        monetaryAmount.setAmount(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("currencyCode".equals(fieldName)) {
+                        context.nextToken();
+                        monetaryAmount.setCurrencyCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
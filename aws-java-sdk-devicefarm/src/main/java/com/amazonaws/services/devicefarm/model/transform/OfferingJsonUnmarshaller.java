@@ -47,25 +47,24 @@ public class OfferingJsonUnmarshaller implements Unmarshaller<Offering, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    offering.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    offering.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    offering.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("platform", targetDepth)) {
-                    context.nextToken();
-                    offering.setPlatform(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("recurringCharges", targetDepth)) {
-                    context.nextToken();
-                    offering.setRecurringCharges(new ListUnmarshaller<RecurringCharge>(RecurringChargeJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        offering.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        offering.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        offering.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("platform".equals(fieldName)) {
+                        context.nextToken();
+                        offering.setPlatform(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("recurringCharges".equals(fieldName)) {
+                        context.nextToken();
+                        offering.setRecurringCharges(recurringChargesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class OfferingJsonUnmarshaller implements Unmarshaller<Offering, JsonUnma
         return offering;
     }
 
+    private final Unmarshaller<java.util.List<RecurringCharge>, JsonUnmarshallerContext> recurringChargesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RecurringCharge>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RecurringCharge>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RecurringCharge>(RecurringChargeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static OfferingJsonUnmarshaller instance;
 
     public static OfferingJsonUnmarshaller getInstance() {
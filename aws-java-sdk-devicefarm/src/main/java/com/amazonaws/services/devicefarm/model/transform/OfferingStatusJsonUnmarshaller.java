@@ -47,21 +47,21 @@ public class OfferingStatusJsonUnmarshaller implements Unmarshaller<OfferingStat
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    offeringStatus.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("offering", targetDepth)) {
-                    context.nextToken();
-                    offeringStatus.setOffering(OfferingJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("quantity", targetDepth)) {
-                    context.nextToken();
-                    offeringStatus.setQuantity(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("effectiveOn", targetDepth)) {
-                    context.nextToken();
-                    offeringStatus.setEffectiveOn(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        offeringStatus.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("offering".equals(fieldName)) {
+                        context.nextToken();
+                        offeringStatus.setOffering(OfferingJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("quantity".equals(fieldName)) {
+                        context.nextToken();
+                        offeringStatus.setQuantity(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("effectiveOn".equals(fieldName)) {
+                        context.nextToken();
+                        offeringStatus.setEffectiveOn(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class OfferingTransactionJsonUnmarshaller implements Unmarshaller<Offerin
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("offeringStatus", targetDepth)) {
-                    context.nextToken();
-                    offeringTransaction.setOfferingStatus(OfferingStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("transactionId", targetDepth)) {
-                    context.nextToken();
-                    offeringTransaction.setTransactionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdOn", targetDepth)) {
-                    context.nextToken();
-                    offeringTransaction.setCreatedOn(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("cost", targetDepth)) {
-                    context.nextToken();
-                    offeringTransaction.setCost(MonetaryAmountJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("offeringStatus".equals(fieldName)) {
+                        context.nextToken();
+                        offeringTransaction.setOfferingStatus(OfferingStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("transactionId".equals(fieldName)) {
+                        context.nextToken();
+                        offeringTransaction.setTransactionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createdOn".equals(fieldName)) {
+                        context.nextToken();
+                        offeringTransaction.setCreatedOn(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("cost".equals(fieldName)) {
+                        context.nextToken();
+                        offeringTransaction.setCost(MonetaryAmountJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class ProblemJsonUnmarshaller implements Unmarshaller<Problem, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("run", targetDepth)) {
-                    context.nextToken();
-                    problem.setRun(ProblemDetailJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("job", targetDepth)) {
-                    context.nextToken();
-                    problem.setJob(ProblemDetailJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("suite", targetDepth)) {
-                    context.nextToken();
-                    problem.setSuite(ProblemDetailJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("test", targetDepth)) {
-                    context.nextToken();
-                    problem.setTest(ProblemDetailJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("device", targetDepth)) {
-                    context.nextToken();
-                    problem.setDevice(DeviceJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    problem.setResult(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    problem.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("run".equals(fieldName)) {
+                        context.nextToken();
+                        problem.setRun(ProblemDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("job".equals(fieldName)) {
+                        context.nextToken();
+                        problem.setJob(ProblemDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("suite".equals(fieldName)) {
+                        context.nextToken();
+                        problem.setSuite(ProblemDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("test".equals(fieldName)) {
+                        context.nextToken();
+                        problem.setTest(ProblemDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("device".equals(fieldName)) {
+                        context.nextToken();
+                        problem.setDevice(DeviceJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        problem.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        problem.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class RadiosJsonUnmarshaller implements Unmarshaller<Radios, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("wifi", targetDepth)) {
-                    context.nextToken();
-                    radios.setWifi(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("bluetooth", targetDepth)) {
-                    context.nextToken();
-                    radios.setBluetooth(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("nfc", targetDepth)) {
-                    context.nextToken();
-                    radios.setNfc(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("gps", targetDepth)) {
-                    context.nextToken();
-                    radios.setGps(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("wifi".equals(fieldName)) {
+                        context.nextToken();
+                        radios.setWifi(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("bluetooth".equals(fieldName)) {
+                        context.nextToken();
+                        radios.setBluetooth(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("nfc".equals(fieldName)) {
+                        context.nextToken();
+                        radios.setNfc(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("gps".equals(fieldName)) {
+                        context.nextToken();
+                        radios.setGps(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
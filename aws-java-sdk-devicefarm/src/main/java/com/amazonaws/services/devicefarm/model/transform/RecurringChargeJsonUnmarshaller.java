@@ -47,13 +47,15 @@ public class RecurringChargeJsonUnmarshaller implements Unmarshaller<RecurringCh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cost", targetDepth)) {
-                    context.nextToken();
-                    recurringCharge.setCost(MonetaryAmountJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("frequency", targetDepth)) {
-                    context.nextToken();
-                    recurringCharge.setFrequency(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("cost".equals(fieldName)) {
+                        context.nextToken();
+                        recurringCharge.setCost(MonetaryAmountJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("frequency".equals(fieldName)) {
+                        context.nextToken();
+                        recurringCharge.setFrequency(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
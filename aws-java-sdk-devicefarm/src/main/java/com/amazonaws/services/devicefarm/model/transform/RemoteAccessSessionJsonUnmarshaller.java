@@ -47,53 +47,45 @@ public class RemoteAccessSessionJsonUnmarshaller implements Unmarshaller<RemoteA
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setResult(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("started", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setStarted(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stopped", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setStopped(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("device", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setDevice(DeviceJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("billingMethod", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setBillingMethod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deviceMinutes", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setDeviceMinutes(DeviceMinutesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("endpoint", targetDepth)) {
-                    context.nextToken();
-                    remoteAccessSession.setEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("started".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setStarted(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("stopped".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setStopped(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("device".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setDevice(DeviceJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("billingMethod".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setBillingMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deviceMinutes".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setDeviceMinutes(DeviceMinutesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("endpoint".equals(fieldName)) {
+                        context.nextToken();
+                        remoteAccessSession.setEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
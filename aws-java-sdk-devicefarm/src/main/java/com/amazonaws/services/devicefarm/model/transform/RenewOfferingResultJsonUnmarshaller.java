@@ -47,9 +47,12 @@ public class RenewOfferingResultJsonUnmarshaller implements Unmarshaller<RenewOf
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("offeringTransaction", targetDepth)) {
-                    context.nextToken();
-                    renewOfferingResult.setOfferingTransaction(OfferingTransactionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("offeringTransaction".equals(fieldName)) {
+                        context.nextToken();
+                        renewOfferingResult.setOfferingTransaction(OfferingTransactionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
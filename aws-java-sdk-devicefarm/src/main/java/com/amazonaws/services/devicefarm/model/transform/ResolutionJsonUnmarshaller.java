@@ -47,13 +47,15 @@ public class ResolutionJsonUnmarshaller implements Unmarshaller<Resolution, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("width", targetDepth)) {
-                    context.nextToken();
-                    resolution.setWidth(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("height", targetDepth)) {
-                    context.nextToken();
-                    resolution.setHeight(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("width".equals(fieldName)) {
+                        context.nextToken();
+                        resolution.setWidth(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("height".equals(fieldName)) {
+                        context.nextToken();
+                        resolution.setHeight(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class RuleJsonUnmarshaller implements Unmarshaller<Rule, JsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("attribute", targetDepth)) {
-                    context.nextToken();
-                    rule.setAttribute(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("operator", targetDepth)) {
-                    context.nextToken();
-                    rule.setOperator(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    rule.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("attribute".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setAttribute(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("operator".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setOperator(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("value".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
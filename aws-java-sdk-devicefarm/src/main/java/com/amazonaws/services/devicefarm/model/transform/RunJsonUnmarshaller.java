@@ -47,65 +47,54 @@ public class RunJsonUnmarshaller implements Unmarshaller<Run, JsonUnmarshallerCo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    run.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    run.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    run.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("platform", targetDepth)) {
-                    context.nextToken();
-                    run.setPlatform(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    run.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    run.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    run.setResult(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("started", targetDepth)) {
-                    context.nextToken();
-                    run.setStarted(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stopped", targetDepth)) {
-                    context.nextToken();
-                    run.setStopped(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("counters", targetDepth)) {
-                    context.nextToken();
-                    run.setCounters(CountersJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    run.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("totalJobs", targetDepth)) {
-                    context.nextToken();
-                    run.setTotalJobs(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("completedJobs", targetDepth)) {
-                    context.nextToken();
-                    run.setCompletedJobs(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("billingMethod", targetDepth)) {
-                    context.nextToken();
-                    run.setBillingMethod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deviceMinutes", targetDepth)) {
-                    context.nextToken();
-                    run.setDeviceMinutes(DeviceMinutesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        run.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        run.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        run.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("platform".equals(fieldName)) {
+                        context.nextToken();
+                        run.setPlatform(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        run.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        run.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        run.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("started".equals(fieldName)) {
+                        context.nextToken();
+                        run.setStarted(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("stopped".equals(fieldName)) {
+                        context.nextToken();
+                        run.setStopped(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("counters".equals(fieldName)) {
+                        context.nextToken();
+                        run.setCounters(CountersJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        run.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("totalJobs".equals(fieldName)) {
+                        context.nextToken();
+                        run.setTotalJobs(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("completedJobs".equals(fieldName)) {
+                        context.nextToken();
+                        run.setCompletedJobs(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("billingMethod".equals(fieldName)) {
+                        context.nextToken();
+                        run.setBillingMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deviceMinutes".equals(fieldName)) {
+                        context.nextToken();
+                        run.setDeviceMinutes(DeviceMinutesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class SampleJsonUnmarshaller implements Unmarshaller<Sample, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    sample.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    sample.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("url", targetDepth)) {
-                    context.nextToken();
-                    sample.setUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        sample.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        sample.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("url".equals(fieldName)) {
+                        context.nextToken();
+                        sample.setUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class ScheduleRunConfigurationJsonUnmarshaller implements Unmarshaller<Sc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("extraDataPackageArn", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setExtraDataPackageArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("networkProfileArn", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setNetworkProfileArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("locale", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setLocale(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setLocation(LocationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("radios", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setRadios(RadiosJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("auxiliaryApps", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setAuxiliaryApps(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("billingMethod", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunConfiguration.setBillingMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("extraDataPackageArn".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunConfiguration.setExtraDataPackageArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("networkProfileArn".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunConfiguration.setNetworkProfileArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("locale".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunConfiguration.setLocale(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunConfiguration.setLocation(LocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("radios".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunConfiguration.setRadios(RadiosJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("auxiliaryApps".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunConfiguration.setAuxiliaryApps(auxiliaryAppsUnmarshaller.unmarshall(context));
+                    } else if ("billingMethod".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunConfiguration.setBillingMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -87,6 +84,13 @@ public class ScheduleRunConfigurationJsonUnmarshaller implements Unmarshaller<Sc
         return scheduleRunConfiguration;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> auxiliaryAppsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ScheduleRunConfigurationJsonUnmarshaller instance;
 
     public static ScheduleRunConfigurationJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class ScheduleRunResultJsonUnmarshaller implements Unmarshaller<ScheduleR
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("run", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunResult.setRun(RunJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("run".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunResult.setRun(RunJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,22 +47,21 @@ public class ScheduleRunTestJsonUnmarshaller implements Unmarshaller<ScheduleRun
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunTest.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("testPackageArn", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunTest.setTestPackageArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("filter", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunTest.setFilter(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("parameters", targetDepth)) {
-                    context.nextToken();
-                    scheduleRunTest.setParameters(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunTest.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("testPackageArn".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunTest.setTestPackageArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("filter".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunTest.setFilter(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("parameters".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleRunTest.setParameters(parametersUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,13 @@ public class ScheduleRunTestJsonUnmarshaller implements Unmarshaller<ScheduleRun
         return scheduleRunTest;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> parametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ScheduleRunTestJsonUnmarshaller instance;
 
     public static ScheduleRunTestJsonUnmarshaller getInstance() {
@@ -47,49 +47,42 @@ public class SuiteJsonUnmarshaller implements Unmarshaller<Suite, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    suite.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    suite.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    suite.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    suite.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    suite.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    suite.setResult(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("started", targetDepth)) {
-                    context.nextToken();
-                    suite.setStarted(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stopped", targetDepth)) {
-                    context.nextToken();
-                    suite.setStopped(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("counters", targetDepth)) {
-                    context.nextToken();
-                    suite.setCounters(CountersJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    suite.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deviceMinutes", targetDepth)) {
-                    context.nextToken();
-                    suite.setDeviceMinutes(DeviceMinutesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("started".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setStarted(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("stopped".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setStopped(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("counters".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setCounters(CountersJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deviceMinutes".equals(fieldName)) {
+                        context.nextToken();
+                        suite.setDeviceMinutes(DeviceMinutesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
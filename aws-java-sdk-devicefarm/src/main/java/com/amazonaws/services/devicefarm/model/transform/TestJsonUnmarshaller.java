@@ -47,49 +47,42 @@ public class TestJsonUnmarshaller implements Unmarshaller<Test, JsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    test.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    test.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    test.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    test.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    test.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    test.setResult(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("started", targetDepth)) {
-                    context.nextToken();
-                    test.setStarted(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stopped", targetDepth)) {
-                    context.nextToken();
-                    test.setStopped(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("counters", targetDepth)) {
-                    context.nextToken();
-                    test.setCounters(CountersJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    test.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deviceMinutes", targetDepth)) {
-                    context.nextToken();
-                    test.setDeviceMinutes(DeviceMinutesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        test.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        test.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        test.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        test.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        test.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        test.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("started".equals(fieldName)) {
+                        context.nextToken();
+                        test.setStarted(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("stopped".equals(fieldName)) {
+                        context.nextToken();
+                        test.setStopped(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("counters".equals(fieldName)) {
+                        context.nextToken();
+                        test.setCounters(CountersJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        test.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deviceMinutes".equals(fieldName)) {
+                        context.nextToken();
+                        test.setDeviceMinutes(DeviceMinutesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class UniqueProblemJsonUnmarshaller implements Unmarshaller<UniqueProblem
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    uniqueProblem.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("problems", targetDepth)) {
-                    context.nextToken();
-                    uniqueProblem.setProblems(new ListUnmarshaller<Problem>(ProblemJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        uniqueProblem.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("problems".equals(fieldName)) {
+                        context.nextToken();
+                        uniqueProblem.setProblems(problemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class UniqueProblemJsonUnmarshaller implements Unmarshaller<UniqueProblem
         return uniqueProblem;
     }
 
+    private final Unmarshaller<java.util.List<Problem>, JsonUnmarshallerContext> problemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Problem>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Problem>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Problem>(ProblemJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static UniqueProblemJsonUnmarshaller instance;
 
     public static UniqueProblemJsonUnmarshaller getInstance() {
@@ -47,41 +47,36 @@ public class UploadJsonUnmarshaller implements Unmarshaller<Upload, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    upload.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    upload.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("created", targetDepth)) {
-                    context.nextToken();
-                    upload.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    upload.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    upload.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("url", targetDepth)) {
-                    context.nextToken();
-                    upload.setUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metadata", targetDepth)) {
-                    context.nextToken();
-                    upload.setMetadata(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("contentType", targetDepth)) {
-                    context.nextToken();
-                    upload.setContentType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    upload.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        upload.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        upload.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("created".equals(fieldName)) {
+                        context.nextToken();
+                        upload.setCreated(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        upload.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        upload.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("url".equals(fieldName)) {
+                        context.nextToken();
+                        upload.setUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("metadata".equals(fieldName)) {
+                        context.nextToken();
+                        upload.setMetadata(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("contentType".equals(fieldName)) {
+                        context.nextToken();
+                        upload.setContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        upload.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,66 +47,54 @@ public class AllocatePrivateVirtualInterfaceResultJsonUnmarshaller implements Un
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ownerAccount", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setVirtualInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionId", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceType", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setVirtualInterfaceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceName", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setVirtualInterfaceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("asn", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setAsn(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("authKey", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setAuthKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("amazonAddress", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setAmazonAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerAddress", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setCustomerAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceState", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setVirtualInterfaceState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerRouterConfig", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setCustomerRouterConfig(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualGatewayId", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setVirtualGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("routeFilterPrefixes", targetDepth)) {
-                    context.nextToken();
-                    allocatePrivateVirtualInterfaceResult.setRouteFilterPrefixes(new ListUnmarshaller<RouteFilterPrefix>(RouteFilterPrefixJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ownerAccount".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceId".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setVirtualInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionId".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceType".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setVirtualInterfaceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceName".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setVirtualInterfaceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("vlan".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("asn".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setAsn(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("authKey".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setAuthKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("amazonAddress".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setAmazonAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("customerAddress".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setCustomerAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceState".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setVirtualInterfaceState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("customerRouterConfig".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setCustomerRouterConfig(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualGatewayId".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setVirtualGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("routeFilterPrefixes".equals(fieldName)) {
+                        context.nextToken();
+                        allocatePrivateVirtualInterfaceResult.setRouteFilterPrefixes(routeFilterPrefixesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -120,6 +108,13 @@ public class AllocatePrivateVirtualInterfaceResultJsonUnmarshaller implements Un
         return allocatePrivateVirtualInterfaceResult;
     }
 
+    private final Unmarshaller<java.util.List<RouteFilterPrefix>, JsonUnmarshallerContext> routeFilterPrefixesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RouteFilterPrefix>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RouteFilterPrefix>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RouteFilterPrefix>(RouteFilterPrefixJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AllocatePrivateVirtualInterfaceResultJsonUnmarshaller instance;
 
     public static AllocatePrivateVirtualInterfaceResultJsonUnmarshaller getInstance() {
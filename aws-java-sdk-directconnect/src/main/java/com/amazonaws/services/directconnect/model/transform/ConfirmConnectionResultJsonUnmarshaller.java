@@ -47,9 +47,12 @@ public class ConfirmConnectionResultJsonUnmarshaller implements Unmarshaller<Con
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("connectionState", targetDepth)) {
-                    context.nextToken();
-                    confirmConnectionResult.setConnectionState(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("connectionState".equals(fieldName)) {
+                        context.nextToken();
+                        confirmConnectionResult.setConnectionState(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,45 +47,39 @@ public class ConnectionJsonUnmarshaller implements Unmarshaller<Connection, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ownerAccount", targetDepth)) {
-                    context.nextToken();
-                    connection.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionId", targetDepth)) {
-                    context.nextToken();
-                    connection.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionName", targetDepth)) {
-                    context.nextToken();
-                    connection.setConnectionName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionState", targetDepth)) {
-                    context.nextToken();
-                    connection.setConnectionState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("region", targetDepth)) {
-                    context.nextToken();
-                    connection.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    connection.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("bandwidth", targetDepth)) {
-                    context.nextToken();
-                    connection.setBandwidth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    connection.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("partnerName", targetDepth)) {
-                    context.nextToken();
-                    connection.setPartnerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("loaIssueTime", targetDepth)) {
-                    context.nextToken();
-                    connection.setLoaIssueTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ownerAccount".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionId".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionName".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setConnectionName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionState".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setConnectionState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("region".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("bandwidth".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setBandwidth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("vlan".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("partnerName".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setPartnerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("loaIssueTime".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setLoaIssueTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
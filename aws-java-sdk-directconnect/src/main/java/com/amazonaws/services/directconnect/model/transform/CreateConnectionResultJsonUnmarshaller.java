@@ -47,45 +47,39 @@ public class CreateConnectionResultJsonUnmarshaller implements Unmarshaller<Crea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ownerAccount", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionId", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionName", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setConnectionName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionState", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setConnectionState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("region", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("bandwidth", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setBandwidth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("partnerName", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setPartnerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("loaIssueTime", targetDepth)) {
-                    context.nextToken();
-                    createConnectionResult.setLoaIssueTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ownerAccount".equals(fieldName)) {
+                        context.nextToken();
+                        createConnectionResult.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionId".equals(fieldName)) {
+                        context.nextToken();
+                        createConnectionResult.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionName".equals(fieldName)) {
+                        context.nextToken();
+                        createConnectionResult.setConnectionName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionState".equals(fieldName)) {
+                        context.nextToken();
+                        createConnectionResult.setConnectionState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("region".equals(fieldName)) {
+                        context.nextToken();
+                        createConnectionResult.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        createConnectionResult.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("bandwidth".equals(fieldName)) {
+                        context.nextToken();
+                        createConnectionResult.setBandwidth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("vlan".equals(fieldName)) {
+                        context.nextToken();
+                        createConnectionResult.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("partnerName".equals(fieldName)) {
+                        context.nextToken();
+                        createConnectionResult.setPartnerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("loaIssueTime".equals(fieldName)) {
+                        context.nextToken();
+                        createConnectionResult.setLoaIssueTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class CreateInterconnectResultJsonUnmarshaller implements Unmarshaller<Cr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("interconnectId", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setInterconnectId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("interconnectName", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setInterconnectName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("interconnectState", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setInterconnectState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("region", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("bandwidth", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setBandwidth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("loaIssueTime", targetDepth)) {
-                    context.nextToken();
-                    createInterconnectResult.setLoaIssueTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("interconnectId".equals(fieldName)) {
+                        context.nextToken();
+                        createInterconnectResult.setInterconnectId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("interconnectName".equals(fieldName)) {
+                        context.nextToken();
+                        createInterconnectResult.setInterconnectName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("interconnectState".equals(fieldName)) {
+                        context.nextToken();
+                        createInterconnectResult.setInterconnectState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("region".equals(fieldName)) {
+                        context.nextToken();
+                        createInterconnectResult.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        createInterconnectResult.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("bandwidth".equals(fieldName)) {
+                        context.nextToken();
+                        createInterconnectResult.setBandwidth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("loaIssueTime".equals(fieldName)) {
+                        context.nextToken();
+                        createInterconnectResult.setLoaIssueTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
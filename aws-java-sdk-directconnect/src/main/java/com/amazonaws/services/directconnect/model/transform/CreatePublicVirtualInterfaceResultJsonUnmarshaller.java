@@ -47,66 +47,54 @@ public class CreatePublicVirtualInterfaceResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ownerAccount", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setVirtualInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionId", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceType", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setVirtualInterfaceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceName", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setVirtualInterfaceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("asn", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setAsn(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("authKey", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setAuthKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("amazonAddress", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setAmazonAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerAddress", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setCustomerAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceState", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setVirtualInterfaceState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerRouterConfig", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setCustomerRouterConfig(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualGatewayId", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setVirtualGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("routeFilterPrefixes", targetDepth)) {
-                    context.nextToken();
-                    createPublicVirtualInterfaceResult.setRouteFilterPrefixes(new ListUnmarshaller<RouteFilterPrefix>(RouteFilterPrefixJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ownerAccount".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceId".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setVirtualInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionId".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceType".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setVirtualInterfaceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceName".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setVirtualInterfaceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("vlan".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("asn".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setAsn(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("authKey".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setAuthKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("amazonAddress".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setAmazonAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("customerAddress".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setCustomerAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceState".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setVirtualInterfaceState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("customerRouterConfig".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setCustomerRouterConfig(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualGatewayId".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setVirtualGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("routeFilterPrefixes".equals(fieldName)) {
+                        context.nextToken();
+                        createPublicVirtualInterfaceResult.setRouteFilterPrefixes(routeFilterPrefixesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -120,6 +108,13 @@ public class CreatePublicVirtualInterfaceResultJsonUnmarshaller implements Unmar
         return createPublicVirtualInterfaceResult;
     }
 
+    private final Unmarshaller<java.util.List<RouteFilterPrefix>, JsonUnmarshallerContext> routeFilterPrefixesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RouteFilterPrefix>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RouteFilterPrefix>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RouteFilterPrefix>(RouteFilterPrefixJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static CreatePublicVirtualInterfaceResultJsonUnmarshaller instance;
 
     public static CreatePublicVirtualInterfaceResultJsonUnmarshaller getInstance() {
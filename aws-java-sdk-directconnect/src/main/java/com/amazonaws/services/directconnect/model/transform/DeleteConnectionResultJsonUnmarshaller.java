@@ -47,45 +47,39 @@ public class DeleteConnectionResultJsonUnmarshaller implements Unmarshaller<Dele
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ownerAccount", targetDepth)) {
-                    context.nextToken();
-                    deleteConnectionResult.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionId", targetDepth)) {
-                    context.nextToken();
-                    deleteConnectionResult.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionName", targetDepth)) {
-                    context.nextToken();
-                    deleteConnectionResult.setConnectionName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionState", targetDepth)) {
-                    context.nextToken();
-                    deleteConnectionResult.setConnectionState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("region", targetDepth)) {
-                    context.nextToken();
-                    deleteConnectionResult.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    deleteConnectionResult.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("bandwidth", targetDepth)) {
-                    context.nextToken();
-                    deleteConnectionResult.setBandwidth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    deleteConnectionResult.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("partnerName", targetDepth)) {
-                    context.nextToken();
-                    deleteConnectionResult.setPartnerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("loaIssueTime", targetDepth)) {
-                    context.nextToken();
-                    deleteConnectionResult.setLoaIssueTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ownerAccount".equals(fieldName)) {
+                        context.nextToken();
+                        deleteConnectionResult.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionId".equals(fieldName)) {
+                        context.nextToken();
+                        deleteConnectionResult.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionName".equals(fieldName)) {
+                        context.nextToken();
+                        deleteConnectionResult.setConnectionName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionState".equals(fieldName)) {
+                        context.nextToken();
+                        deleteConnectionResult.setConnectionState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("region".equals(fieldName)) {
+                        context.nextToken();
+                        deleteConnectionResult.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        deleteConnectionResult.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("bandwidth".equals(fieldName)) {
+                        context.nextToken();
+                        deleteConnectionResult.setBandwidth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("vlan".equals(fieldName)) {
+                        context.nextToken();
+                        deleteConnectionResult.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("partnerName".equals(fieldName)) {
+                        context.nextToken();
+                        deleteConnectionResult.setPartnerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("loaIssueTime".equals(fieldName)) {
+                        context.nextToken();
+                        deleteConnectionResult.setLoaIssueTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
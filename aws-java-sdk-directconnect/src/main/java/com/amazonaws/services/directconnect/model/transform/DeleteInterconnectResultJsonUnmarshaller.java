@@ -47,9 +47,12 @@ public class DeleteInterconnectResultJsonUnmarshaller implements Unmarshaller<De
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("interconnectState", targetDepth)) {
-                    context.nextToken();
-                    deleteInterconnectResult.setInterconnectState(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("interconnectState".equals(fieldName)) {
+                        context.nextToken();
+                        deleteInterconnectResult.setInterconnectState(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
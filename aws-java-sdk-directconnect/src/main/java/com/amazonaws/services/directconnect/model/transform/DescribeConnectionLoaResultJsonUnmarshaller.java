@@ -47,9 +47,12 @@ public class DescribeConnectionLoaResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("loa", targetDepth)) {
-                    context.nextToken();
-                    describeConnectionLoaResult.setLoa(LoaJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("loa".equals(fieldName)) {
+                        context.nextToken();
+                        describeConnectionLoaResult.setLoa(LoaJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
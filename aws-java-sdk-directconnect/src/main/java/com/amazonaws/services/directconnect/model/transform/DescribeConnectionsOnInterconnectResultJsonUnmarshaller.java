@@ -47,10 +47,12 @@ public class DescribeConnectionsOnInterconnectResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("connections", targetDepth)) {
-                    context.nextToken();
-                    describeConnectionsOnInterconnectResult.setConnections(new ListUnmarshaller<Connection>(ConnectionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("connections".equals(fieldName)) {
+                        context.nextToken();
+                        describeConnectionsOnInterconnectResult.setConnections(connectionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeConnectionsOnInterconnectResultJsonUnmarshaller implements
         return describeConnectionsOnInterconnectResult;
     }
 
+    private final Unmarshaller<java.util.List<Connection>, JsonUnmarshallerContext> connectionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Connection>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Connection>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Connection>(ConnectionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeConnectionsOnInterconnectResultJsonUnmarshaller instance;
 
     public static DescribeConnectionsOnInterconnectResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DescribeConnectionsResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("connections", targetDepth)) {
-                    context.nextToken();
-                    describeConnectionsResult.setConnections(new ListUnmarshaller<Connection>(ConnectionJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("connections".equals(fieldName)) {
+                        context.nextToken();
+                        describeConnectionsResult.setConnections(connectionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeConnectionsResultJsonUnmarshaller implements Unmarshaller<D
         return describeConnectionsResult;
     }
 
+    private final Unmarshaller<java.util.List<Connection>, JsonUnmarshallerContext> connectionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Connection>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Connection>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Connection>(ConnectionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeConnectionsResultJsonUnmarshaller instance;
 
     public static DescribeConnectionsResultJsonUnmarshaller getInstance() {
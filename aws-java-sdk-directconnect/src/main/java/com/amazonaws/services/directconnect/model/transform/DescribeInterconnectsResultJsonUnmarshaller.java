@@ -47,10 +47,12 @@ public class DescribeInterconnectsResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("interconnects", targetDepth)) {
-                    context.nextToken();
-                    describeInterconnectsResult.setInterconnects(new ListUnmarshaller<Interconnect>(InterconnectJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("interconnects".equals(fieldName)) {
+                        context.nextToken();
+                        describeInterconnectsResult.setInterconnects(interconnectsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeInterconnectsResultJsonUnmarshaller implements Unmarshaller
         return describeInterconnectsResult;
     }
 
+    private final Unmarshaller<java.util.List<Interconnect>, JsonUnmarshallerContext> interconnectsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Interconnect>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Interconnect>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Interconnect>(InterconnectJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeInterconnectsResultJsonUnmarshaller instance;
 
     public static DescribeInterconnectsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DescribeLocationsResultJsonUnmarshaller implements Unmarshaller<Des
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("locations", targetDepth)) {
-                    context.nextToken();
-                    describeLocationsResult.setLocations(new ListUnmarshaller<Location>(LocationJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("locations".equals(fieldName)) {
+                        context.nextToken();
+                        describeLocationsResult.setLocations(locationsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeLocationsResultJsonUnmarshaller implements Unmarshaller<Des
         return describeLocationsResult;
     }
 
+    private final Unmarshaller<java.util.List<Location>, JsonUnmarshallerContext> locationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Location>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Location>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Location>(LocationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeLocationsResultJsonUnmarshaller instance;
 
     public static DescribeLocationsResultJsonUnmarshaller getInstance() {
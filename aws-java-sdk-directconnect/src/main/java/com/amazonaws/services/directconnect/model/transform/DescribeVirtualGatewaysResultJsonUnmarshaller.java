@@ -47,10 +47,12 @@ public class DescribeVirtualGatewaysResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("virtualGateways", targetDepth)) {
-                    context.nextToken();
-                    describeVirtualGatewaysResult.setVirtualGateways(new ListUnmarshaller<VirtualGateway>(VirtualGatewayJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("virtualGateways".equals(fieldName)) {
+                        context.nextToken();
+                        describeVirtualGatewaysResult.setVirtualGateways(virtualGatewaysUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeVirtualGatewaysResultJsonUnmarshaller implements Unmarshall
         return describeVirtualGatewaysResult;
     }
 
+    private final Unmarshaller<java.util.List<VirtualGateway>, JsonUnmarshallerContext> virtualGatewaysUnmarshaller = new CachingJsonUnmarshaller<java.util.List<VirtualGateway>>() {
+        @Override
+        protected Unmarshaller<java.util.List<VirtualGateway>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<VirtualGateway>(VirtualGatewayJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeVirtualGatewaysResultJsonUnmarshaller instance;
 
     public static DescribeVirtualGatewaysResultJsonUnmarshaller getInstance() {
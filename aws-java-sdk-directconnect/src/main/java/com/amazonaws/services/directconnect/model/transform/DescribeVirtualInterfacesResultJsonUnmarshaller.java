@@ -47,10 +47,12 @@ public class DescribeVirtualInterfacesResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("virtualInterfaces", targetDepth)) {
-                    context.nextToken();
-                    describeVirtualInterfacesResult.setVirtualInterfaces(new ListUnmarshaller<VirtualInterface>(VirtualInterfaceJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("virtualInterfaces".equals(fieldName)) {
+                        context.nextToken();
+                        describeVirtualInterfacesResult.setVirtualInterfaces(virtualInterfacesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeVirtualInterfacesResultJsonUnmarshaller implements Unmarsha
         return describeVirtualInterfacesResult;
     }
 
+    private final Unmarshaller<java.util.List<VirtualInterface>, JsonUnmarshallerContext> virtualInterfacesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<VirtualInterface>>() {
+        @Override
+        protected Unmarshaller<java.util.List<VirtualInterface>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<VirtualInterface>(VirtualInterfaceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeVirtualInterfacesResultJsonUnmarshaller instance;
 
     public static DescribeVirtualInterfacesResultJsonUnmarshaller getInstance() {
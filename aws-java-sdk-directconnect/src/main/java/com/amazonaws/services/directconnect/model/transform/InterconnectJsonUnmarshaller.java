@@ -47,33 +47,30 @@ public class InterconnectJsonUnmarshaller implements Unmarshaller<Interconnect,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("interconnectId", targetDepth)) {
-                    context.nextToken();
-                    interconnect.setInterconnectId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("interconnectName", targetDepth)) {
-                    context.nextToken();
-                    interconnect.setInterconnectName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("interconnectState", targetDepth)) {
-                    context.nextToken();
-                    interconnect.setInterconnectState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("region", targetDepth)) {
-                    context.nextToken();
-                    interconnect.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    interconnect.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("bandwidth", targetDepth)) {
-                    context.nextToken();
-                    interconnect.setBandwidth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("loaIssueTime", targetDepth)) {
-                    context.nextToken();
-                    interconnect.setLoaIssueTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("interconnectId".equals(fieldName)) {
+                        context.nextToken();
+                        interconnect.setInterconnectId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("interconnectName".equals(fieldName)) {
+                        context.nextToken();
+                        interconnect.setInterconnectName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("interconnectState".equals(fieldName)) {
+                        context.nextToken();
+                        interconnect.setInterconnectState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("region".equals(fieldName)) {
+                        context.nextToken();
+                        interconnect.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        interconnect.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("bandwidth".equals(fieldName)) {
+                        context.nextToken();
+                        interconnect.setBandwidth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("loaIssueTime".equals(fieldName)) {
+                        context.nextToken();
+                        interconnect.setLoaIssueTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class LoaJsonUnmarshaller implements Unmarshaller<Loa, JsonUnmarshallerCo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("loaContent", targetDepth)) {
-                    context.nextToken();
-                    loa.setLoaContent(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("loaContentType", targetDepth)) {
-                    context.nextToken();
-                    loa.setLoaContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("loaContent".equals(fieldName)) {
+                        context.nextToken();
+                        loa.setLoaContent(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("loaContentType".equals(fieldName)) {
+                        context.nextToken();
+                        loa.setLoaContentType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class LocationJsonUnmarshaller implements Unmarshaller<Location, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("locationCode", targetDepth)) {
-                    context.nextToken();
-                    location.setLocationCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("locationName", targetDepth)) {
-                    context.nextToken();
-                    location.setLocationName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("locationCode".equals(fieldName)) {
+                        context.nextToken();
+                        location.setLocationCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("locationName".equals(fieldName)) {
+                        context.nextToken();
+                        location.setLocationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class NewPrivateVirtualInterfaceAllocationJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("virtualInterfaceName", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation.setVirtualInterfaceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("asn", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation.setAsn(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("authKey", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation.setAuthKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("amazonAddress", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation.setAmazonAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerAddress", targetDepth)) {
-                    context.nextToken();
-                    newPrivateVirtualInterfaceAllocation.setCustomerAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("virtualInterfaceName".equals(fieldName)) {
+                        context.nextToken();
+                        newPrivateVirtualInterfaceAllocation.setVirtualInterfaceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("vlan".equals(fieldName)) {
+                        context.nextToken();
+                        newPrivateVirtualInterfaceAllocation.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("asn".equals(fieldName)) {
+                        context.nextToken();
+                        newPrivateVirtualInterfaceAllocation.setAsn(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("authKey".equals(fieldName)) {
+                        context.nextToken();
+                        newPrivateVirtualInterfaceAllocation.setAuthKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("amazonAddress".equals(fieldName)) {
+                        context.nextToken();
+                        newPrivateVirtualInterfaceAllocation.setAmazonAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("customerAddress".equals(fieldName)) {
+                        context.nextToken();
+                        newPrivateVirtualInterfaceAllocation.setCustomerAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class RouteFilterPrefixJsonUnmarshaller implements Unmarshaller<RouteFilt
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cidr", targetDepth)) {
-                    context.nextToken();
-                    routeFilterPrefix.setCidr(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("cidr".equals(fieldName)) {
+                        context.nextToken();
+                        routeFilterPrefix.setCidr(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class VirtualGatewayJsonUnmarshaller implements Unmarshaller<VirtualGatew
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("virtualGatewayId", targetDepth)) {
-                    context.nextToken();
-                    virtualGateway.setVirtualGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualGatewayState", targetDepth)) {
-                    context.nextToken();
-                    virtualGateway.setVirtualGatewayState(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("virtualGatewayId".equals(fieldName)) {
+                        context.nextToken();
+                        virtualGateway.setVirtualGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualGatewayState".equals(fieldName)) {
+                        context.nextToken();
+                        virtualGateway.setVirtualGatewayState(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,66 +47,54 @@ public class VirtualInterfaceJsonUnmarshaller implements Unmarshaller<VirtualInt
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ownerAccount", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setVirtualInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("location", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("connectionId", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceType", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setVirtualInterfaceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceName", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setVirtualInterfaceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("vlan", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("asn", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setAsn(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("authKey", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setAuthKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("amazonAddress", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setAmazonAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerAddress", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setCustomerAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualInterfaceState", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setVirtualInterfaceState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("customerRouterConfig", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setCustomerRouterConfig(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("virtualGatewayId", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setVirtualGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("routeFilterPrefixes", targetDepth)) {
-                    context.nextToken();
-                    virtualInterface.setRouteFilterPrefixes(new ListUnmarshaller<RouteFilterPrefix>(RouteFilterPrefixJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ownerAccount".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setOwnerAccount(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceId".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setVirtualInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("location".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("connectionId".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setConnectionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceType".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setVirtualInterfaceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceName".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setVirtualInterfaceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("vlan".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setVlan(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("asn".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setAsn(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("authKey".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setAuthKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("amazonAddress".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setAmazonAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("customerAddress".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setCustomerAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualInterfaceState".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setVirtualInterfaceState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("customerRouterConfig".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setCustomerRouterConfig(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("virtualGatewayId".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setVirtualGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("routeFilterPrefixes".equals(fieldName)) {
+                        context.nextToken();
+                        virtualInterface.setRouteFilterPrefixes(routeFilterPrefixesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -120,6 +108,13 @@ public class VirtualInterfaceJsonUnmarshaller implements Unmarshaller<VirtualInt
         return virtualInterface;
     }
 
+    private final Unmarshaller<java.util.List<RouteFilterPrefix>, JsonUnmarshallerContext> routeFilterPrefixesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RouteFilterPrefix>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RouteFilterPrefix>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RouteFilterPrefix>(RouteFilterPrefixJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static VirtualInterfaceJsonUnmarshaller instance;
 
     public static VirtualInterfaceJsonUnmarshaller getInstance() {
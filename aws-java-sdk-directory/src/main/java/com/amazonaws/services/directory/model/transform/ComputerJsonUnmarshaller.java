@@ -47,17 +47,18 @@ public class ComputerJsonUnmarshaller implements Unmarshaller<Computer, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ComputerId", targetDepth)) {
-                    context.nextToken();
-                    computer.setComputerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputerName", targetDepth)) {
-                    context.nextToken();
-                    computer.setComputerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputerAttributes", targetDepth)) {
-                    context.nextToken();
-                    computer.setComputerAttributes(new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ComputerId".equals(fieldName)) {
+                        context.nextToken();
+                        computer.setComputerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputerName".equals(fieldName)) {
+                        context.nextToken();
+                        computer.setComputerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputerAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        computer.setComputerAttributes(computerAttributesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ComputerJsonUnmarshaller implements Unmarshaller<Computer, JsonUnma
         return computer;
     }
 
+    private final Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> computerAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Attribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ComputerJsonUnmarshaller instance;
 
     public static ComputerJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class ConditionalForwarderJsonUnmarshaller implements Unmarshaller<Condit
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RemoteDomainName", targetDepth)) {
-                    context.nextToken();
-                    conditionalForwarder.setRemoteDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DnsIpAddrs", targetDepth)) {
-                    context.nextToken();
-                    conditionalForwarder.setDnsIpAddrs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationScope", targetDepth)) {
-                    context.nextToken();
-                    conditionalForwarder.setReplicationScope(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RemoteDomainName".equals(fieldName)) {
+                        context.nextToken();
+                        conditionalForwarder.setRemoteDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DnsIpAddrs".equals(fieldName)) {
+                        context.nextToken();
+                        conditionalForwarder.setDnsIpAddrs(dnsIpAddrsUnmarshaller.unmarshall(context));
+                    } else if ("ReplicationScope".equals(fieldName)) {
+                        context.nextToken();
+                        conditionalForwarder.setReplicationScope(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ConditionalForwarderJsonUnmarshaller implements Unmarshaller<Condit
         return conditionalForwarder;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> dnsIpAddrsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ConditionalForwarderJsonUnmarshaller instance;
 
     public static ConditionalForwarderJsonUnmarshaller getInstance() {
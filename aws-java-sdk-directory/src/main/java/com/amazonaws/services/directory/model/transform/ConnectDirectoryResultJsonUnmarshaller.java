@@ -47,9 +47,12 @@ public class ConnectDirectoryResultJsonUnmarshaller implements Unmarshaller<Conn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    connectDirectoryResult.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryId".equals(fieldName)) {
+                        context.nextToken();
+                        connectDirectoryResult.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class CreateAliasResultJsonUnmarshaller implements Unmarshaller<CreateAli
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    createAliasResult.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Alias", targetDepth)) {
-                    context.nextToken();
-                    createAliasResult.setAlias(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryId".equals(fieldName)) {
+                        context.nextToken();
+                        createAliasResult.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Alias".equals(fieldName)) {
+                        context.nextToken();
+                        createAliasResult.setAlias(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateComputerResultJsonUnmarshaller implements Unmarshaller<Create
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Computer", targetDepth)) {
-                    context.nextToken();
-                    createComputerResult.setComputer(ComputerJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Computer".equals(fieldName)) {
+                        context.nextToken();
+                        createComputerResult.setComputer(ComputerJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateSnapshotResultJsonUnmarshaller implements Unmarshaller<Create
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnapshotId", targetDepth)) {
-                    context.nextToken();
-                    createSnapshotResult.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SnapshotId".equals(fieldName)) {
+                        context.nextToken();
+                        createSnapshotResult.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateTrustResultJsonUnmarshaller implements Unmarshaller<CreateTru
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TrustId", targetDepth)) {
-                    context.nextToken();
-                    createTrustResult.setTrustId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TrustId".equals(fieldName)) {
+                        context.nextToken();
+                        createTrustResult.setTrustId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DeleteSnapshotResultJsonUnmarshaller implements Unmarshaller<Delete
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnapshotId", targetDepth)) {
-                    context.nextToken();
-                    deleteSnapshotResult.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SnapshotId".equals(fieldName)) {
+                        context.nextToken();
+                        deleteSnapshotResult.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
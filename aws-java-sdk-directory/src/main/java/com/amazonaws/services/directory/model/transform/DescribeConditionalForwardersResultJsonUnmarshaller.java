@@ -47,10 +47,12 @@ public class DescribeConditionalForwardersResultJsonUnmarshaller implements Unma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ConditionalForwarders", targetDepth)) {
-                    context.nextToken();
-                    describeConditionalForwardersResult.setConditionalForwarders(new ListUnmarshaller<ConditionalForwarder>(
-                            ConditionalForwarderJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ConditionalForwarders".equals(fieldName)) {
+                        context.nextToken();
+                        describeConditionalForwardersResult.setConditionalForwarders(conditionalForwardersUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeConditionalForwardersResultJsonUnmarshaller implements Unma
         return describeConditionalForwardersResult;
     }
 
+    private final Unmarshaller<java.util.List<ConditionalForwarder>, JsonUnmarshallerContext> conditionalForwardersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConditionalForwarder>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConditionalForwarder>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConditionalForwarder>(ConditionalForwarderJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeConditionalForwardersResultJsonUnmarshaller instance;
 
     public static DescribeConditionalForwardersResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class DescribeDirectoriesResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryDescriptions", targetDepth)) {
-                    context.nextToken();
-                    describeDirectoriesResult.setDirectoryDescriptions(new ListUnmarshaller<DirectoryDescription>(DirectoryDescriptionJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeDirectoriesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryDescriptions".equals(fieldName)) {
+                        context.nextToken();
+                        describeDirectoriesResult.setDirectoryDescriptions(directoryDescriptionsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeDirectoriesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeDirectoriesResultJsonUnmarshaller implements Unmarshaller<D
         return describeDirectoriesResult;
     }
 
+    private final Unmarshaller<java.util.List<DirectoryDescription>, JsonUnmarshallerContext> directoryDescriptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DirectoryDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DirectoryDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DirectoryDescription>(DirectoryDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeDirectoriesResultJsonUnmarshaller instance;
 
     public static DescribeDirectoriesResultJsonUnmarshaller getInstance() {
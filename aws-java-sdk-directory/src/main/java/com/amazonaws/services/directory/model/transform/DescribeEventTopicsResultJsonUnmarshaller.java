@@ -47,9 +47,12 @@ public class DescribeEventTopicsResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EventTopics", targetDepth)) {
-                    context.nextToken();
-                    describeEventTopicsResult.setEventTopics(new ListUnmarshaller<EventTopic>(EventTopicJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EventTopics".equals(fieldName)) {
+                        context.nextToken();
+                        describeEventTopicsResult.setEventTopics(eventTopicsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeEventTopicsResultJsonUnmarshaller implements Unmarshaller<D
         return describeEventTopicsResult;
     }
 
+    private final Unmarshaller<java.util.List<EventTopic>, JsonUnmarshallerContext> eventTopicsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EventTopic>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EventTopic>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EventTopic>(EventTopicJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeEventTopicsResultJsonUnmarshaller instance;
 
     public static DescribeEventTopicsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DescribeSnapshotsResultJsonUnmarshaller implements Unmarshaller<Des
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Snapshots", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotsResult.setSnapshots(new ListUnmarshaller<Snapshot>(SnapshotJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Snapshots".equals(fieldName)) {
+                        context.nextToken();
+                        describeSnapshotsResult.setSnapshots(snapshotsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeSnapshotsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeSnapshotsResultJsonUnmarshaller implements Unmarshaller<Des
         return describeSnapshotsResult;
     }
 
+    private final Unmarshaller<java.util.List<Snapshot>, JsonUnmarshallerContext> snapshotsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Snapshot>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Snapshot>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Snapshot>(SnapshotJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeSnapshotsResultJsonUnmarshaller instance;
 
     public static DescribeSnapshotsResultJsonUnmarshaller getInstance() {
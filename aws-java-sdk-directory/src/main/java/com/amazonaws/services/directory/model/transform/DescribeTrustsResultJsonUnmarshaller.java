@@ -47,13 +47,15 @@ public class DescribeTrustsResultJsonUnmarshaller implements Unmarshaller<Descri
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Trusts", targetDepth)) {
-                    context.nextToken();
-                    describeTrustsResult.setTrusts(new ListUnmarshaller<Trust>(TrustJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeTrustsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Trusts".equals(fieldName)) {
+                        context.nextToken();
+                        describeTrustsResult.setTrusts(trustsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeTrustsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeTrustsResultJsonUnmarshaller implements Unmarshaller<Descri
         return describeTrustsResult;
     }
 
+    private final Unmarshaller<java.util.List<Trust>, JsonUnmarshallerContext> trustsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Trust>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Trust>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Trust>(TrustJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTrustsResultJsonUnmarshaller instance;
 
     public static DescribeTrustsResultJsonUnmarshaller getInstance() {
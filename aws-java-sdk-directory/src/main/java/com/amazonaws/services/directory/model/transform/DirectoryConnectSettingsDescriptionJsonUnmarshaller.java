@@ -47,30 +47,27 @@ public class DirectoryConnectSettingsDescriptionJsonUnmarshaller implements Unma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription.setSubnetIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("CustomerUserName", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription.setCustomerUserName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupId", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription.setSecurityGroupId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZones", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription.setAvailabilityZones(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ConnectIps", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettingsDescription.setConnectIps(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VpcId".equals(fieldName)) {
+                        context.nextToken();
+                        directoryConnectSettingsDescription.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetIds".equals(fieldName)) {
+                        context.nextToken();
+                        directoryConnectSettingsDescription.setSubnetIds(subnetIdsUnmarshaller.unmarshall(context));
+                    } else if ("CustomerUserName".equals(fieldName)) {
+                        context.nextToken();
+                        directoryConnectSettingsDescription.setCustomerUserName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SecurityGroupId".equals(fieldName)) {
+                        context.nextToken();
+                        directoryConnectSettingsDescription.setSecurityGroupId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AvailabilityZones".equals(fieldName)) {
+                        context.nextToken();
+                        directoryConnectSettingsDescription.setAvailabilityZones(availabilityZonesUnmarshaller.unmarshall(context));
+                    } else if ("ConnectIps".equals(fieldName)) {
+                        context.nextToken();
+                        directoryConnectSettingsDescription.setConnectIps(connectIpsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -84,6 +81,25 @@ public class DirectoryConnectSettingsDescriptionJsonUnmarshaller implements Unma
         return directoryConnectSettingsDescription;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> subnetIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> availabilityZonesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> connectIpsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DirectoryConnectSettingsDescriptionJsonUnmarshaller instance;
 
     public static DirectoryConnectSettingsDescriptionJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class DirectoryConnectSettingsJsonUnmarshaller implements Unmarshaller<Di
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettings.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettings.setSubnetIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("CustomerDnsIps", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettings.setCustomerDnsIps(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("CustomerUserName", targetDepth)) {
-                    context.nextToken();
-                    directoryConnectSettings.setCustomerUserName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VpcId".equals(fieldName)) {
+                        context.nextToken();
+                        directoryConnectSettings.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetIds".equals(fieldName)) {
+                        context.nextToken();
+                        directoryConnectSettings.setSubnetIds(subnetIdsUnmarshaller.unmarshall(context));
+                    } else if ("CustomerDnsIps".equals(fieldName)) {
+                        context.nextToken();
+                        directoryConnectSettings.setCustomerDnsIps(customerDnsIpsUnmarshaller.unmarshall(context));
+                    } else if ("CustomerUserName".equals(fieldName)) {
+                        context.nextToken();
+                        directoryConnectSettings.setCustomerUserName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +75,19 @@ public class DirectoryConnectSettingsJsonUnmarshaller implements Unmarshaller<Di
         return directoryConnectSettings;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> subnetIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> customerDnsIpsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DirectoryConnectSettingsJsonUnmarshaller instance;
 
     public static DirectoryConnectSettingsJsonUnmarshaller getInstance() {
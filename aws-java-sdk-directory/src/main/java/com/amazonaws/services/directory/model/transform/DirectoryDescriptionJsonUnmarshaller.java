@@ -47,77 +47,63 @@ public class DirectoryDescriptionJsonUnmarshaller implements Unmarshaller<Direct
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ShortName", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setShortName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Size", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setSize(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Alias", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setAlias(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AccessUrl", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setAccessUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DnsIpAddrs", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setDnsIpAddrs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Stage", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setStage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LaunchTime", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setLaunchTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StageLastUpdatedDateTime", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setStageLastUpdatedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcSettings", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setVpcSettings(DirectoryVpcSettingsDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ConnectSettings", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setConnectSettings(DirectoryConnectSettingsDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RadiusSettings", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setRadiusSettings(RadiusSettingsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RadiusStatus", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setRadiusStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StageReason", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setStageReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SsoEnabled", targetDepth)) {
-                    context.nextToken();
-                    directoryDescription.setSsoEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryId".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ShortName".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setShortName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Size".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setSize(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Alias".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setAlias(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AccessUrl".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setAccessUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DnsIpAddrs".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setDnsIpAddrs(dnsIpAddrsUnmarshaller.unmarshall(context));
+                    } else if ("Stage".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setStage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LaunchTime".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setLaunchTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StageLastUpdatedDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setStageLastUpdatedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VpcSettings".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setVpcSettings(DirectoryVpcSettingsDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ConnectSettings".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setConnectSettings(DirectoryConnectSettingsDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RadiusSettings".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setRadiusSettings(RadiusSettingsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RadiusStatus".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setRadiusStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StageReason".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setStageReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SsoEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        directoryDescription.setSsoEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -131,6 +117,13 @@ public class DirectoryDescriptionJsonUnmarshaller implements Unmarshaller<Direct
         return directoryDescription;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> dnsIpAddrsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DirectoryDescriptionJsonUnmarshaller instance;
 
     public static DirectoryDescriptionJsonUnmarshaller getInstance() {
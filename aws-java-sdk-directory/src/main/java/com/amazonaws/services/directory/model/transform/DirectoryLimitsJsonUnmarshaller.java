@@ -47,41 +47,36 @@ public class DirectoryLimitsJsonUnmarshaller implements Unmarshaller<DirectoryLi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CloudOnlyDirectoriesLimit", targetDepth)) {
-                    context.nextToken();
-                    directoryLimits.setCloudOnlyDirectoriesLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudOnlyDirectoriesCurrentCount", targetDepth)) {
-                    context.nextToken();
-                    directoryLimits.setCloudOnlyDirectoriesCurrentCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudOnlyDirectoriesLimitReached", targetDepth)) {
-                    context.nextToken();
-                    directoryLimits.setCloudOnlyDirectoriesLimitReached(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudOnlyMicrosoftADLimit", targetDepth)) {
-                    context.nextToken();
-                    directoryLimits.setCloudOnlyMicrosoftADLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudOnlyMicrosoftADCurrentCount", targetDepth)) {
-                    context.nextToken();
-                    directoryLimits.setCloudOnlyMicrosoftADCurrentCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CloudOnlyMicrosoftADLimitReached", targetDepth)) {
-                    context.nextToken();
-                    directoryLimits.setCloudOnlyMicrosoftADLimitReached(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ConnectedDirectoriesLimit", targetDepth)) {
-                    context.nextToken();
-                    directoryLimits.setConnectedDirectoriesLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ConnectedDirectoriesCurrentCount", targetDepth)) {
-                    context.nextToken();
-                    directoryLimits.setConnectedDirectoriesCurrentCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ConnectedDirectoriesLimitReached", targetDepth)) {
-                    context.nextToken();
-                    directoryLimits.setConnectedDirectoriesLimitReached(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CloudOnlyDirectoriesLimit".equals(fieldName)) {
+                        context.nextToken();
+                        directoryLimits.setCloudOnlyDirectoriesLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("CloudOnlyDirectoriesCurrentCount".equals(fieldName)) {
+                        context.nextToken();
+                        directoryLimits.setCloudOnlyDirectoriesCurrentCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("CloudOnlyDirectoriesLimitReached".equals(fieldName)) {
+                        context.nextToken();
+                        directoryLimits.setCloudOnlyDirectoriesLimitReached(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("CloudOnlyMicrosoftADLimit".equals(fieldName)) {
+                        context.nextToken();
+                        directoryLimits.setCloudOnlyMicrosoftADLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("CloudOnlyMicrosoftADCurrentCount".equals(fieldName)) {
+                        context.nextToken();
+                        directoryLimits.setCloudOnlyMicrosoftADCurrentCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("CloudOnlyMicrosoftADLimitReached".equals(fieldName)) {
+                        context.nextToken();
+                        directoryLimits.setCloudOnlyMicrosoftADLimitReached(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("ConnectedDirectoriesLimit".equals(fieldName)) {
+                        context.nextToken();
+                        directoryLimits.setConnectedDirectoriesLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ConnectedDirectoriesCurrentCount".equals(fieldName)) {
+                        context.nextToken();
+                        directoryLimits.setConnectedDirectoriesCurrentCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ConnectedDirectoriesLimitReached".equals(fieldName)) {
+                        context.nextToken();
+                        directoryLimits.setConnectedDirectoriesLimitReached(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
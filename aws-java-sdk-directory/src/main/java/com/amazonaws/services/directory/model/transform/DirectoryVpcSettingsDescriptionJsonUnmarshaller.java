@@ -47,22 +47,21 @@ public class DirectoryVpcSettingsDescriptionJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    directoryVpcSettingsDescription.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    directoryVpcSettingsDescription.setSubnetIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupId", targetDepth)) {
-                    context.nextToken();
-                    directoryVpcSettingsDescription.setSecurityGroupId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZones", targetDepth)) {
-                    context.nextToken();
-                    directoryVpcSettingsDescription.setAvailabilityZones(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VpcId".equals(fieldName)) {
+                        context.nextToken();
+                        directoryVpcSettingsDescription.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetIds".equals(fieldName)) {
+                        context.nextToken();
+                        directoryVpcSettingsDescription.setSubnetIds(subnetIdsUnmarshaller.unmarshall(context));
+                    } else if ("SecurityGroupId".equals(fieldName)) {
+                        context.nextToken();
+                        directoryVpcSettingsDescription.setSecurityGroupId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AvailabilityZones".equals(fieldName)) {
+                        context.nextToken();
+                        directoryVpcSettingsDescription.setAvailabilityZones(availabilityZonesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,19 @@ public class DirectoryVpcSettingsDescriptionJsonUnmarshaller implements Unmarsha
         return directoryVpcSettingsDescription;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> subnetIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> availabilityZonesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DirectoryVpcSettingsDescriptionJsonUnmarshaller instance;
 
     public static DirectoryVpcSettingsDescriptionJsonUnmarshaller getInstance() {
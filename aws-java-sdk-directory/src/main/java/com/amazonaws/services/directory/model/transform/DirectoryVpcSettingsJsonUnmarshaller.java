@@ -47,13 +47,15 @@ public class DirectoryVpcSettingsJsonUnmarshaller implements Unmarshaller<Direct
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    directoryVpcSettings.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    directoryVpcSettings.setSubnetIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VpcId".equals(fieldName)) {
+                        context.nextToken();
+                        directoryVpcSettings.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetIds".equals(fieldName)) {
+                        context.nextToken();
+                        directoryVpcSettings.setSubnetIds(subnetIdsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DirectoryVpcSettingsJsonUnmarshaller implements Unmarshaller<Direct
         return directoryVpcSettings;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> subnetIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DirectoryVpcSettingsJsonUnmarshaller instance;
 
     public static DirectoryVpcSettingsJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class EventTopicJsonUnmarshaller implements Unmarshaller<EventTopic, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    eventTopic.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TopicName", targetDepth)) {
-                    context.nextToken();
-                    eventTopic.setTopicName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TopicArn", targetDepth)) {
-                    context.nextToken();
-                    eventTopic.setTopicArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedDateTime", targetDepth)) {
-                    context.nextToken();
-                    eventTopic.setCreatedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    eventTopic.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryId".equals(fieldName)) {
+                        context.nextToken();
+                        eventTopic.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TopicName".equals(fieldName)) {
+                        context.nextToken();
+                        eventTopic.setTopicName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TopicArn".equals(fieldName)) {
+                        context.nextToken();
+                        eventTopic.setTopicArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        eventTopic.setCreatedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        eventTopic.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetDirectoryLimitsResultJsonUnmarshaller implements Unmarshaller<Ge
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryLimits", targetDepth)) {
-                    context.nextToken();
-                    getDirectoryLimitsResult.setDirectoryLimits(DirectoryLimitsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryLimits".equals(fieldName)) {
+                        context.nextToken();
+                        getDirectoryLimitsResult.setDirectoryLimits(DirectoryLimitsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
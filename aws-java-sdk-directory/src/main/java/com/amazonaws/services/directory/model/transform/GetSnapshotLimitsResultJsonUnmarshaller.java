@@ -47,9 +47,12 @@ public class GetSnapshotLimitsResultJsonUnmarshaller implements Unmarshaller<Get
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnapshotLimits", targetDepth)) {
-                    context.nextToken();
-                    getSnapshotLimitsResult.setSnapshotLimits(SnapshotLimitsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SnapshotLimits".equals(fieldName)) {
+                        context.nextToken();
+                        getSnapshotLimitsResult.setSnapshotLimits(SnapshotLimitsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
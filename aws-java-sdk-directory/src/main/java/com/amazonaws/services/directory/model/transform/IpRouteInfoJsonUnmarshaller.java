@@ -47,29 +47,27 @@ public class IpRouteInfoJsonUnmarshaller implements Unmarshaller<IpRouteInfo, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    ipRouteInfo.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CidrIp", targetDepth)) {
-                    context.nextToken();
-                    ipRouteInfo.setCidrIp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IpRouteStatusMsg", targetDepth)) {
-                    context.nextToken();
-                    ipRouteInfo.setIpRouteStatusMsg(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AddedDateTime", targetDepth)) {
-                    context.nextToken();
-                    ipRouteInfo.setAddedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("IpRouteStatusReason", targetDepth)) {
-                    context.nextToken();
-                    ipRouteInfo.setIpRouteStatusReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    ipRouteInfo.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryId".equals(fieldName)) {
+                        context.nextToken();
+                        ipRouteInfo.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CidrIp".equals(fieldName)) {
+                        context.nextToken();
+                        ipRouteInfo.setCidrIp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IpRouteStatusMsg".equals(fieldName)) {
+                        context.nextToken();
+                        ipRouteInfo.setIpRouteStatusMsg(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AddedDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        ipRouteInfo.setAddedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("IpRouteStatusReason".equals(fieldName)) {
+                        context.nextToken();
+                        ipRouteInfo.setIpRouteStatusReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        ipRouteInfo.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
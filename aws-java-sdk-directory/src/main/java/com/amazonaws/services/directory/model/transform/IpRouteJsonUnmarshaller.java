@@ -47,13 +47,15 @@ public class IpRouteJsonUnmarshaller implements Unmarshaller<IpRoute, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CidrIp", targetDepth)) {
-                    context.nextToken();
-                    ipRoute.setCidrIp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    ipRoute.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CidrIp".equals(fieldName)) {
+                        context.nextToken();
+                        ipRoute.setCidrIp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        ipRoute.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
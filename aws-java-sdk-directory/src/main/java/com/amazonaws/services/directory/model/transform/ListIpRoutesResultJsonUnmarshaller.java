@@ -47,13 +47,15 @@ public class ListIpRoutesResultJsonUnmarshaller implements Unmarshaller<ListIpRo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IpRoutesInfo", targetDepth)) {
-                    context.nextToken();
-                    listIpRoutesResult.setIpRoutesInfo(new ListUnmarshaller<IpRouteInfo>(IpRouteInfoJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listIpRoutesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IpRoutesInfo".equals(fieldName)) {
+                        context.nextToken();
+                        listIpRoutesResult.setIpRoutesInfo(ipRoutesInfoUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listIpRoutesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListIpRoutesResultJsonUnmarshaller implements Unmarshaller<ListIpRo
         return listIpRoutesResult;
     }
 
+    private final Unmarshaller<java.util.List<IpRouteInfo>, JsonUnmarshallerContext> ipRoutesInfoUnmarshaller = new CachingJsonUnmarshaller<java.util.List<IpRouteInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<IpRouteInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<IpRouteInfo>(IpRouteInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListIpRoutesResultJsonUnmarshaller instance;
 
     public static ListIpRoutesResultJsonUnmarshaller getInstance() {
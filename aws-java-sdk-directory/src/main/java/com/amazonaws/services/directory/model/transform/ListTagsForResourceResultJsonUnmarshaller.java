@@ -47,13 +47,15 @@ public class ListTagsForResourceResultJsonUnmarshaller implements Unmarshaller<L
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    listTagsForResourceResult.setTags(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listTagsForResourceResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Tags".equals(fieldName)) {
+                        context.nextToken();
+                        listTagsForResourceResult.setTags(tagsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listTagsForResourceResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTagsForResourceResultJsonUnmarshaller implements Unmarshaller<L
         return listTagsForResourceResult;
     }
 
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListTagsForResourceResultJsonUnmarshaller instance;
 
     public static ListTagsForResourceResultJsonUnmarshaller getInstance() {
@@ -47,37 +47,33 @@ public class RadiusSettingsJsonUnmarshaller implements Unmarshaller<RadiusSettin
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RadiusServers", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setRadiusServers(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("RadiusPort", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setRadiusPort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RadiusTimeout", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setRadiusTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RadiusRetries", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setRadiusRetries(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SharedSecret", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setSharedSecret(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AuthenticationProtocol", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setAuthenticationProtocol(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DisplayLabel", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setDisplayLabel(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UseSameUsername", targetDepth)) {
-                    context.nextToken();
-                    radiusSettings.setUseSameUsername(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RadiusServers".equals(fieldName)) {
+                        context.nextToken();
+                        radiusSettings.setRadiusServers(radiusServersUnmarshaller.unmarshall(context));
+                    } else if ("RadiusPort".equals(fieldName)) {
+                        context.nextToken();
+                        radiusSettings.setRadiusPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("RadiusTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        radiusSettings.setRadiusTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("RadiusRetries".equals(fieldName)) {
+                        context.nextToken();
+                        radiusSettings.setRadiusRetries(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("SharedSecret".equals(fieldName)) {
+                        context.nextToken();
+                        radiusSettings.setSharedSecret(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AuthenticationProtocol".equals(fieldName)) {
+                        context.nextToken();
+                        radiusSettings.setAuthenticationProtocol(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DisplayLabel".equals(fieldName)) {
+                        context.nextToken();
+                        radiusSettings.setDisplayLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UseSameUsername".equals(fieldName)) {
+                        context.nextToken();
+                        radiusSettings.setUseSameUsername(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -91,6 +87,13 @@ public class RadiusSettingsJsonUnmarshaller implements Unmarshaller<RadiusSettin
         return radiusSettings;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> radiusServersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static RadiusSettingsJsonUnmarshaller instance;
 
     public static RadiusSettingsJsonUnmarshaller getInstance() {
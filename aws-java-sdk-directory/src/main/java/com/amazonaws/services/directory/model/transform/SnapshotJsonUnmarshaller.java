@@ -47,29 +47,27 @@ public class SnapshotJsonUnmarshaller implements Unmarshaller<Snapshot, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    snapshot.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnapshotId", targetDepth)) {
-                    context.nextToken();
-                    snapshot.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    snapshot.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    snapshot.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    snapshot.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StartTime", targetDepth)) {
-                    context.nextToken();
-                    snapshot.setStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryId".equals(fieldName)) {
+                        context.nextToken();
+                        snapshot.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SnapshotId".equals(fieldName)) {
+                        context.nextToken();
+                        snapshot.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        snapshot.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        snapshot.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        snapshot.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StartTime".equals(fieldName)) {
+                        context.nextToken();
+                        snapshot.setStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class SnapshotLimitsJsonUnmarshaller implements Unmarshaller<SnapshotLimi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ManualSnapshotsLimit", targetDepth)) {
-                    context.nextToken();
-                    snapshotLimits.setManualSnapshotsLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ManualSnapshotsCurrentCount", targetDepth)) {
-                    context.nextToken();
-                    snapshotLimits.setManualSnapshotsCurrentCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ManualSnapshotsLimitReached", targetDepth)) {
-                    context.nextToken();
-                    snapshotLimits.setManualSnapshotsLimitReached(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ManualSnapshotsLimit".equals(fieldName)) {
+                        context.nextToken();
+                        snapshotLimits.setManualSnapshotsLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ManualSnapshotsCurrentCount".equals(fieldName)) {
+                        context.nextToken();
+                        snapshotLimits.setManualSnapshotsCurrentCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ManualSnapshotsLimitReached".equals(fieldName)) {
+                        context.nextToken();
+                        snapshotLimits.setManualSnapshotsLimitReached(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
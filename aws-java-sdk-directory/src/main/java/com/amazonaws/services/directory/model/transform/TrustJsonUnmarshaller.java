@@ -47,45 +47,39 @@ public class TrustJsonUnmarshaller implements Unmarshaller<Trust, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    trust.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrustId", targetDepth)) {
-                    context.nextToken();
-                    trust.setTrustId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RemoteDomainName", targetDepth)) {
-                    context.nextToken();
-                    trust.setRemoteDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrustType", targetDepth)) {
-                    context.nextToken();
-                    trust.setTrustType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrustDirection", targetDepth)) {
-                    context.nextToken();
-                    trust.setTrustDirection(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrustState", targetDepth)) {
-                    context.nextToken();
-                    trust.setTrustState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedDateTime", targetDepth)) {
-                    context.nextToken();
-                    trust.setCreatedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedDateTime", targetDepth)) {
-                    context.nextToken();
-                    trust.setLastUpdatedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StateLastUpdatedDateTime", targetDepth)) {
-                    context.nextToken();
-                    trust.setStateLastUpdatedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TrustStateReason", targetDepth)) {
-                    context.nextToken();
-                    trust.setTrustStateReason(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryId".equals(fieldName)) {
+                        context.nextToken();
+                        trust.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TrustId".equals(fieldName)) {
+                        context.nextToken();
+                        trust.setTrustId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RemoteDomainName".equals(fieldName)) {
+                        context.nextToken();
+                        trust.setRemoteDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TrustType".equals(fieldName)) {
+                        context.nextToken();
+                        trust.setTrustType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TrustDirection".equals(fieldName)) {
+                        context.nextToken();
+                        trust.setTrustDirection(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TrustState".equals(fieldName)) {
+                        context.nextToken();
+                        trust.setTrustState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        trust.setCreatedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdatedDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        trust.setLastUpdatedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StateLastUpdatedDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        trust.setStateLastUpdatedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("TrustStateReason".equals(fieldName)) {
+                        context.nextToken();
+                        trust.setTrustStateReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
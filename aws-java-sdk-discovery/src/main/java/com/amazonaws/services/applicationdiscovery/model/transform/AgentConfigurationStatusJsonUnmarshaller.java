@@ -47,17 +47,18 @@ public class AgentConfigurationStatusJsonUnmarshaller implements Unmarshaller<Ag
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    agentConfigurationStatus.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("operationSucceeded", targetDepth)) {
-                    context.nextToken();
-                    agentConfigurationStatus.setOperationSucceeded(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    agentConfigurationStatus.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentId".equals(fieldName)) {
+                        context.nextToken();
+                        agentConfigurationStatus.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("operationSucceeded".equals(fieldName)) {
+                        context.nextToken();
+                        agentConfigurationStatus.setOperationSucceeded(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        agentConfigurationStatus.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
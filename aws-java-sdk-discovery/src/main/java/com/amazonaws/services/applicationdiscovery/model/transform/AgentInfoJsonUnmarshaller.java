@@ -47,30 +47,27 @@ public class AgentInfoJsonUnmarshaller implements Unmarshaller<AgentInfo, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hostName", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setHostName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentNetworkInfoList", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setAgentNetworkInfoList(new ListUnmarshaller<AgentNetworkInfo>(AgentNetworkInfoJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("connectorId", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setConnectorId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("health", targetDepth)) {
-                    context.nextToken();
-                    agentInfo.setHealth(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentId".equals(fieldName)) {
+                        context.nextToken();
+                        agentInfo.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hostName".equals(fieldName)) {
+                        context.nextToken();
+                        agentInfo.setHostName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("agentNetworkInfoList".equals(fieldName)) {
+                        context.nextToken();
+                        agentInfo.setAgentNetworkInfoList(agentNetworkInfoListUnmarshaller.unmarshall(context));
+                    } else if ("connectorId".equals(fieldName)) {
+                        context.nextToken();
+                        agentInfo.setConnectorId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("version".equals(fieldName)) {
+                        context.nextToken();
+                        agentInfo.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("health".equals(fieldName)) {
+                        context.nextToken();
+                        agentInfo.setHealth(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -84,6 +81,13 @@ public class AgentInfoJsonUnmarshaller implements Unmarshaller<AgentInfo, JsonUn
         return agentInfo;
     }
 
+    private final Unmarshaller<java.util.List<AgentNetworkInfo>, JsonUnmarshallerContext> agentNetworkInfoListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AgentNetworkInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AgentNetworkInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AgentNetworkInfo>(AgentNetworkInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AgentInfoJsonUnmarshaller instance;
 
     public static AgentInfoJsonUnmarshaller getInstance() {
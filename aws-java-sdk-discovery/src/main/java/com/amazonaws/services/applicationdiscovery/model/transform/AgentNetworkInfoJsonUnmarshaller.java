@@ -47,13 +47,15 @@ public class AgentNetworkInfoJsonUnmarshaller implements Unmarshaller<AgentNetwo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ipAddress", targetDepth)) {
-                    context.nextToken();
-                    agentNetworkInfo.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("macAddress", targetDepth)) {
-                    context.nextToken();
-                    agentNetworkInfo.setMacAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ipAddress".equals(fieldName)) {
+                        context.nextToken();
+                        agentNetworkInfo.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("macAddress".equals(fieldName)) {
+                        context.nextToken();
+                        agentNetworkInfo.setMacAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
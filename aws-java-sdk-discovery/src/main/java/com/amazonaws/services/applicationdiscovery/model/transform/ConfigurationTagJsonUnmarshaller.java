@@ -47,25 +47,24 @@ public class ConfigurationTagJsonUnmarshaller implements Unmarshaller<Configurat
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurationType", targetDepth)) {
-                    context.nextToken();
-                    configurationTag.setConfigurationType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationId", targetDepth)) {
-                    context.nextToken();
-                    configurationTag.setConfigurationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    configurationTag.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("value", targetDepth)) {
-                    context.nextToken();
-                    configurationTag.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("timeOfCreation", targetDepth)) {
-                    context.nextToken();
-                    configurationTag.setTimeOfCreation(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("configurationType".equals(fieldName)) {
+                        context.nextToken();
+                        configurationTag.setConfigurationType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("configurationId".equals(fieldName)) {
+                        context.nextToken();
+                        configurationTag.setConfigurationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("key".equals(fieldName)) {
+                        context.nextToken();
+                        configurationTag.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("value".equals(fieldName)) {
+                        context.nextToken();
+                        configurationTag.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("timeOfCreation".equals(fieldName)) {
+                        context.nextToken();
+                        configurationTag.setTimeOfCreation(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
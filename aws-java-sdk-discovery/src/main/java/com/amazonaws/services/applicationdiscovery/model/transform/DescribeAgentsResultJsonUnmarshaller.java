@@ -47,13 +47,15 @@ public class DescribeAgentsResultJsonUnmarshaller implements Unmarshaller<Descri
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentsInfo", targetDepth)) {
-                    context.nextToken();
-                    describeAgentsResult.setAgentsInfo(new ListUnmarshaller<AgentInfo>(AgentInfoJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeAgentsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentsInfo".equals(fieldName)) {
+                        context.nextToken();
+                        describeAgentsResult.setAgentsInfo(agentsInfoUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeAgentsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeAgentsResultJsonUnmarshaller implements Unmarshaller<Descri
         return describeAgentsResult;
     }
 
+    private final Unmarshaller<java.util.List<AgentInfo>, JsonUnmarshallerContext> agentsInfoUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AgentInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AgentInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AgentInfo>(AgentInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeAgentsResultJsonUnmarshaller instance;
 
     public static DescribeAgentsResultJsonUnmarshaller getInstance() {
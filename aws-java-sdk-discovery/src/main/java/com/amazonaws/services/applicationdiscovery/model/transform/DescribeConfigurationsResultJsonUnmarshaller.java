@@ -47,10 +47,12 @@ public class DescribeConfigurationsResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurations", targetDepth)) {
-                    context.nextToken();
-                    describeConfigurationsResult.setConfigurations(new ListUnmarshaller<java.util.Map<String, String>>(new MapUnmarshaller<String, String>(
-                            context.getUnmarshaller(String.class), context.getUnmarshaller(String.class))).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("configurations".equals(fieldName)) {
+                        context.nextToken();
+                        describeConfigurationsResult.setConfigurations(configurationsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,14 @@ public class DescribeConfigurationsResultJsonUnmarshaller implements Unmarshalle
         return describeConfigurationsResult;
     }
 
+    private final Unmarshaller<java.util.List<java.util.Map<String, String>>, JsonUnmarshallerContext> configurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<java.util.Map<String, String>>>() {
+        @Override
+        protected Unmarshaller<java.util.List<java.util.Map<String, String>>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<java.util.Map<String, String>>(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class),
+                    context.getUnmarshaller(String.class)));
+        }
+    };
+
     private static DescribeConfigurationsResultJsonUnmarshaller instance;
 
     public static DescribeConfigurationsResultJsonUnmarshaller getInstance() {
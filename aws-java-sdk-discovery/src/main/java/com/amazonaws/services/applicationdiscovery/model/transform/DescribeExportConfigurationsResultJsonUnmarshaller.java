@@ -47,14 +47,15 @@ public class DescribeExportConfigurationsResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("exportsInfo", targetDepth)) {
-                    context.nextToken();
-                    describeExportConfigurationsResult.setExportsInfo(new ListUnmarshaller<ExportInfo>(ExportInfoJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeExportConfigurationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("exportsInfo".equals(fieldName)) {
+                        context.nextToken();
+                        describeExportConfigurationsResult.setExportsInfo(exportsInfoUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeExportConfigurationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeExportConfigurationsResultJsonUnmarshaller implements Unmar
         return describeExportConfigurationsResult;
     }
 
+    private final Unmarshaller<java.util.List<ExportInfo>, JsonUnmarshallerContext> exportsInfoUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ExportInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ExportInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ExportInfo>(ExportInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeExportConfigurationsResultJsonUnmarshaller instance;
 
     public static DescribeExportConfigurationsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DescribeTagsResultJsonUnmarshaller implements Unmarshaller<Describe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tags", targetDepth)) {
-                    context.nextToken();
-                    describeTagsResult.setTags(new ListUnmarshaller<ConfigurationTag>(ConfigurationTagJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeTagsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("tags".equals(fieldName)) {
+                        context.nextToken();
+                        describeTagsResult.setTags(tagsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeTagsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeTagsResultJsonUnmarshaller implements Unmarshaller<Describe
         return describeTagsResult;
     }
 
+    private final Unmarshaller<java.util.List<ConfigurationTag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConfigurationTag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConfigurationTag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConfigurationTag>(ConfigurationTagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTagsResultJsonUnmarshaller instance;
 
     public static DescribeTagsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class ExportConfigurationsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("exportId", targetDepth)) {
-                    context.nextToken();
-                    exportConfigurationsResult.setExportId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("exportId".equals(fieldName)) {
+                        context.nextToken();
+                        exportConfigurationsResult.setExportId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
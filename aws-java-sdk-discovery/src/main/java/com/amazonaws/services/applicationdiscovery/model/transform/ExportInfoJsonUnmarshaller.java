@@ -47,25 +47,24 @@ public class ExportInfoJsonUnmarshaller implements Unmarshaller<ExportInfo, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("exportId", targetDepth)) {
-                    context.nextToken();
-                    exportInfo.setExportId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("exportStatus", targetDepth)) {
-                    context.nextToken();
-                    exportInfo.setExportStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("statusMessage", targetDepth)) {
-                    context.nextToken();
-                    exportInfo.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("configurationsDownloadUrl", targetDepth)) {
-                    context.nextToken();
-                    exportInfo.setConfigurationsDownloadUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("exportRequestTime", targetDepth)) {
-                    context.nextToken();
-                    exportInfo.setExportRequestTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("exportId".equals(fieldName)) {
+                        context.nextToken();
+                        exportInfo.setExportId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("exportStatus".equals(fieldName)) {
+                        context.nextToken();
+                        exportInfo.setExportStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("statusMessage".equals(fieldName)) {
+                        context.nextToken();
+                        exportInfo.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("configurationsDownloadUrl".equals(fieldName)) {
+                        context.nextToken();
+                        exportInfo.setConfigurationsDownloadUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("exportRequestTime".equals(fieldName)) {
+                        context.nextToken();
+                        exportInfo.setExportRequestTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class FilterJsonUnmarshaller implements Unmarshaller<Filter, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    filter.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("values", targetDepth)) {
-                    context.nextToken();
-                    filter.setValues(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("condition", targetDepth)) {
-                    context.nextToken();
-                    filter.setCondition(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        filter.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("values".equals(fieldName)) {
+                        context.nextToken();
+                        filter.setValues(valuesUnmarshaller.unmarshall(context));
+                    } else if ("condition".equals(fieldName)) {
+                        context.nextToken();
+                        filter.setCondition(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class FilterJsonUnmarshaller implements Unmarshaller<Filter, JsonUnmarsha
         return filter;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> valuesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static FilterJsonUnmarshaller instance;
 
     public static FilterJsonUnmarshaller getInstance() {
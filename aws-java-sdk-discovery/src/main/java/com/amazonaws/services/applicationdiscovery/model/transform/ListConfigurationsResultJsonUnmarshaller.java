@@ -47,14 +47,15 @@ public class ListConfigurationsResultJsonUnmarshaller implements Unmarshaller<Li
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("configurations", targetDepth)) {
-                    context.nextToken();
-                    listConfigurationsResult.setConfigurations(new ListUnmarshaller<java.util.Map<String, String>>(new MapUnmarshaller<String, String>(context
-                            .getUnmarshaller(String.class), context.getUnmarshaller(String.class))).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listConfigurationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("configurations".equals(fieldName)) {
+                        context.nextToken();
+                        listConfigurationsResult.setConfigurations(configurationsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listConfigurationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,14 @@ public class ListConfigurationsResultJsonUnmarshaller implements Unmarshaller<Li
         return listConfigurationsResult;
     }
 
+    private final Unmarshaller<java.util.List<java.util.Map<String, String>>, JsonUnmarshallerContext> configurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<java.util.Map<String, String>>>() {
+        @Override
+        protected Unmarshaller<java.util.List<java.util.Map<String, String>>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<java.util.Map<String, String>>(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class),
+                    context.getUnmarshaller(String.class)));
+        }
+    };
+
     private static ListConfigurationsResultJsonUnmarshaller instance;
 
     public static ListConfigurationsResultJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class StartDataCollectionByAgentIdsResultJsonUnmarshaller implements Unma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentsConfigurationStatus", targetDepth)) {
-                    context.nextToken();
-                    startDataCollectionByAgentIdsResult.setAgentsConfigurationStatus(new ListUnmarshaller<AgentConfigurationStatus>(
-                            AgentConfigurationStatusJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentsConfigurationStatus".equals(fieldName)) {
+                        context.nextToken();
+                        startDataCollectionByAgentIdsResult.setAgentsConfigurationStatus(agentsConfigurationStatusUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class StartDataCollectionByAgentIdsResultJsonUnmarshaller implements Unma
         return startDataCollectionByAgentIdsResult;
     }
 
+    private final Unmarshaller<java.util.List<AgentConfigurationStatus>, JsonUnmarshallerContext> agentsConfigurationStatusUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AgentConfigurationStatus>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AgentConfigurationStatus>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AgentConfigurationStatus>(AgentConfigurationStatusJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static StartDataCollectionByAgentIdsResultJsonUnmarshaller instance;
 
     public static StartDataCollectionByAgentIdsResultJsonUnmarshaller getInstance() {
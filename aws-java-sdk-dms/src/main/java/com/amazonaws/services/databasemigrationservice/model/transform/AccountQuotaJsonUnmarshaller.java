@@ -47,17 +47,18 @@ public class AccountQuotaJsonUnmarshaller implements Unmarshaller<AccountQuota,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccountQuotaName", targetDepth)) {
-                    context.nextToken();
-                    accountQuota.setAccountQuotaName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Used", targetDepth)) {
-                    context.nextToken();
-                    accountQuota.setUsed(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Max", targetDepth)) {
-                    context.nextToken();
-                    accountQuota.setMax(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AccountQuotaName".equals(fieldName)) {
+                        context.nextToken();
+                        accountQuota.setAccountQuotaName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Used".equals(fieldName)) {
+                        context.nextToken();
+                        accountQuota.setUsed(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Max".equals(fieldName)) {
+                        context.nextToken();
+                        accountQuota.setMax(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
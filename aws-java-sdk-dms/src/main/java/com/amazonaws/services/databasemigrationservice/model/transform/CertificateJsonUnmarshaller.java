@@ -47,41 +47,36 @@ public class CertificateJsonUnmarshaller implements Unmarshaller<Certificate, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CertificateIdentifier", targetDepth)) {
-                    context.nextToken();
-                    certificate.setCertificateIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificateCreationDate", targetDepth)) {
-                    context.nextToken();
-                    certificate.setCertificateCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificatePem", targetDepth)) {
-                    context.nextToken();
-                    certificate.setCertificatePem(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificateArn", targetDepth)) {
-                    context.nextToken();
-                    certificate.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificateOwner", targetDepth)) {
-                    context.nextToken();
-                    certificate.setCertificateOwner(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidFromDate", targetDepth)) {
-                    context.nextToken();
-                    certificate.setValidFromDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidToDate", targetDepth)) {
-                    context.nextToken();
-                    certificate.setValidToDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("SigningAlgorithm", targetDepth)) {
-                    context.nextToken();
-                    certificate.setSigningAlgorithm(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyLength", targetDepth)) {
-                    context.nextToken();
-                    certificate.setKeyLength(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CertificateIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setCertificateIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CertificateCreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setCertificateCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("CertificatePem".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setCertificatePem(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CertificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CertificateOwner".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setCertificateOwner(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ValidFromDate".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setValidFromDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ValidToDate".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setValidToDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("SigningAlgorithm".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setSigningAlgorithm(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyLength".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setKeyLength(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class ConnectionJsonUnmarshaller implements Unmarshaller<Connection, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    connection.setReplicationInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointArn", targetDepth)) {
-                    context.nextToken();
-                    connection.setEndpointArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    connection.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastFailureMessage", targetDepth)) {
-                    context.nextToken();
-                    connection.setLastFailureMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointIdentifier", targetDepth)) {
-                    context.nextToken();
-                    connection.setEndpointIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceIdentifier", targetDepth)) {
-                    context.nextToken();
-                    connection.setReplicationInstanceIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReplicationInstanceArn".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setReplicationInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EndpointArn".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setEndpointArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastFailureMessage".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setLastFailureMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EndpointIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setEndpointIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstanceIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        connection.setReplicationInstanceIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
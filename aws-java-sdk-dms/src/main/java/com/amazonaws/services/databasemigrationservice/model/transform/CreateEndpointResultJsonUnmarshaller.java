@@ -47,9 +47,12 @@ public class CreateEndpointResultJsonUnmarshaller implements Unmarshaller<Create
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Endpoint", targetDepth)) {
-                    context.nextToken();
-                    createEndpointResult.setEndpoint(EndpointJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Endpoint".equals(fieldName)) {
+                        context.nextToken();
+                        createEndpointResult.setEndpoint(EndpointJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateReplicationTaskResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationTask", targetDepth)) {
-                    context.nextToken();
-                    createReplicationTaskResult.setReplicationTask(ReplicationTaskJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReplicationTask".equals(fieldName)) {
+                        context.nextToken();
+                        createReplicationTaskResult.setReplicationTask(ReplicationTaskJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
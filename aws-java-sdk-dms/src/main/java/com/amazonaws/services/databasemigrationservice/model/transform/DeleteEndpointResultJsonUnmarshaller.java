@@ -47,9 +47,12 @@ public class DeleteEndpointResultJsonUnmarshaller implements Unmarshaller<Delete
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Endpoint", targetDepth)) {
-                    context.nextToken();
-                    deleteEndpointResult.setEndpoint(EndpointJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Endpoint".equals(fieldName)) {
+                        context.nextToken();
+                        deleteEndpointResult.setEndpoint(EndpointJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
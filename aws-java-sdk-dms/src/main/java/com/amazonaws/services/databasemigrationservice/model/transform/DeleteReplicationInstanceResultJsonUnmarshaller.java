@@ -47,9 +47,12 @@ public class DeleteReplicationInstanceResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationInstance", targetDepth)) {
-                    context.nextToken();
-                    deleteReplicationInstanceResult.setReplicationInstance(ReplicationInstanceJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReplicationInstance".equals(fieldName)) {
+                        context.nextToken();
+                        deleteReplicationInstanceResult.setReplicationInstance(ReplicationInstanceJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
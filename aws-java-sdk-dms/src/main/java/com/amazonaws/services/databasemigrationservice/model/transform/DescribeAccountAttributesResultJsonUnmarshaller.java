@@ -47,10 +47,12 @@ public class DescribeAccountAttributesResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccountQuotas", targetDepth)) {
-                    context.nextToken();
-                    describeAccountAttributesResult.setAccountQuotas(new ListUnmarshaller<AccountQuota>(AccountQuotaJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AccountQuotas".equals(fieldName)) {
+                        context.nextToken();
+                        describeAccountAttributesResult.setAccountQuotas(accountQuotasUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeAccountAttributesResultJsonUnmarshaller implements Unmarsha
         return describeAccountAttributesResult;
     }
 
+    private final Unmarshaller<java.util.List<AccountQuota>, JsonUnmarshallerContext> accountQuotasUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AccountQuota>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AccountQuota>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AccountQuota>(AccountQuotaJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeAccountAttributesResultJsonUnmarshaller instance;
 
     public static DescribeAccountAttributesResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class DescribeCertificatesResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeCertificatesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Certificates", targetDepth)) {
-                    context.nextToken();
-                    describeCertificatesResult
-                            .setCertificates(new ListUnmarshaller<Certificate>(CertificateJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeCertificatesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Certificates".equals(fieldName)) {
+                        context.nextToken();
+                        describeCertificatesResult.setCertificates(certificatesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeCertificatesResultJsonUnmarshaller implements Unmarshaller<
         return describeCertificatesResult;
     }
 
+    private final Unmarshaller<java.util.List<Certificate>, JsonUnmarshallerContext> certificatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Certificate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Certificate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Certificate>(CertificateJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeCertificatesResultJsonUnmarshaller instance;
 
     public static DescribeCertificatesResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class DescribeEndpointTypesResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeEndpointTypesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SupportedEndpointTypes", targetDepth)) {
-                    context.nextToken();
-                    describeEndpointTypesResult.setSupportedEndpointTypes(new ListUnmarshaller<SupportedEndpointType>(SupportedEndpointTypeJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeEndpointTypesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SupportedEndpointTypes".equals(fieldName)) {
+                        context.nextToken();
+                        describeEndpointTypesResult.setSupportedEndpointTypes(supportedEndpointTypesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeEndpointTypesResultJsonUnmarshaller implements Unmarshaller
         return describeEndpointTypesResult;
     }
 
+    private final Unmarshaller<java.util.List<SupportedEndpointType>, JsonUnmarshallerContext> supportedEndpointTypesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SupportedEndpointType>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SupportedEndpointType>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SupportedEndpointType>(SupportedEndpointTypeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeEndpointTypesResultJsonUnmarshaller instance;
 
     public static DescribeEndpointTypesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DescribeEndpointsResultJsonUnmarshaller implements Unmarshaller<Des
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeEndpointsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Endpoints", targetDepth)) {
-                    context.nextToken();
-                    describeEndpointsResult.setEndpoints(new ListUnmarshaller<Endpoint>(EndpointJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeEndpointsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Endpoints".equals(fieldName)) {
+                        context.nextToken();
+                        describeEndpointsResult.setEndpoints(endpointsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeEndpointsResultJsonUnmarshaller implements Unmarshaller<Des
         return describeEndpointsResult;
     }
 
+    private final Unmarshaller<java.util.List<Endpoint>, JsonUnmarshallerContext> endpointsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Endpoint>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Endpoint>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Endpoint>(EndpointJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeEndpointsResultJsonUnmarshaller instance;
 
     public static DescribeEndpointsResultJsonUnmarshaller getInstance() {
@@ -48,14 +48,16 @@ public class DescribeOrderableReplicationInstancesResultJsonUnmarshaller impleme
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OrderableReplicationInstances", targetDepth)) {
-                    context.nextToken();
-                    describeOrderableReplicationInstancesResult.setOrderableReplicationInstances(new ListUnmarshaller<OrderableReplicationInstance>(
-                            OrderableReplicationInstanceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeOrderableReplicationInstancesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OrderableReplicationInstances".equals(fieldName)) {
+                        context.nextToken();
+                        describeOrderableReplicationInstancesResult.setOrderableReplicationInstances(orderableReplicationInstancesUnmarshaller
+                                .unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeOrderableReplicationInstancesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +71,13 @@ public class DescribeOrderableReplicationInstancesResultJsonUnmarshaller impleme
         return describeOrderableReplicationInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<OrderableReplicationInstance>, JsonUnmarshallerContext> orderableReplicationInstancesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<OrderableReplicationInstance>>() {
+        @Override
+        protected Unmarshaller<java.util.List<OrderableReplicationInstance>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<OrderableReplicationInstance>(OrderableReplicationInstanceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeOrderableReplicationInstancesResultJsonUnmarshaller instance;
 
     public static DescribeOrderableReplicationInstancesResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DescribeRefreshSchemasStatusResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RefreshSchemasStatus", targetDepth)) {
-                    context.nextToken();
-                    describeRefreshSchemasStatusResult.setRefreshSchemasStatus(RefreshSchemasStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RefreshSchemasStatus".equals(fieldName)) {
+                        context.nextToken();
+                        describeRefreshSchemasStatusResult.setRefreshSchemasStatus(RefreshSchemasStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class DescribeReplicationInstancesResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationInstancesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstances", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationInstancesResult.setReplicationInstances(new ListUnmarshaller<ReplicationInstance>(ReplicationInstanceJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeReplicationInstancesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstances".equals(fieldName)) {
+                        context.nextToken();
+                        describeReplicationInstancesResult.setReplicationInstances(replicationInstancesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeReplicationInstancesResultJsonUnmarshaller implements Unmar
         return describeReplicationInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<ReplicationInstance>, JsonUnmarshallerContext> replicationInstancesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ReplicationInstance>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ReplicationInstance>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ReplicationInstance>(ReplicationInstanceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeReplicationInstancesResultJsonUnmarshaller instance;
 
     public static DescribeReplicationInstancesResultJsonUnmarshaller getInstance() {
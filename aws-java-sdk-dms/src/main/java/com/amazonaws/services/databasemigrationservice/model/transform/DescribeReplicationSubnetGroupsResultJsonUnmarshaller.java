@@ -47,14 +47,15 @@ public class DescribeReplicationSubnetGroupsResultJsonUnmarshaller implements Un
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationSubnetGroupsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationSubnetGroups", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationSubnetGroupsResult.setReplicationSubnetGroups(new ListUnmarshaller<ReplicationSubnetGroup>(
-                            ReplicationSubnetGroupJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeReplicationSubnetGroupsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationSubnetGroups".equals(fieldName)) {
+                        context.nextToken();
+                        describeReplicationSubnetGroupsResult.setReplicationSubnetGroups(replicationSubnetGroupsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeReplicationSubnetGroupsResultJsonUnmarshaller implements Un
         return describeReplicationSubnetGroupsResult;
     }
 
+    private final Unmarshaller<java.util.List<ReplicationSubnetGroup>, JsonUnmarshallerContext> replicationSubnetGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ReplicationSubnetGroup>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ReplicationSubnetGroup>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ReplicationSubnetGroup>(ReplicationSubnetGroupJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeReplicationSubnetGroupsResultJsonUnmarshaller instance;
 
     public static DescribeReplicationSubnetGroupsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class DescribeReplicationTasksResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationTasksResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationTasks", targetDepth)) {
-                    context.nextToken();
-                    describeReplicationTasksResult.setReplicationTasks(new ListUnmarshaller<ReplicationTask>(ReplicationTaskJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeReplicationTasksResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationTasks".equals(fieldName)) {
+                        context.nextToken();
+                        describeReplicationTasksResult.setReplicationTasks(replicationTasksUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeReplicationTasksResultJsonUnmarshaller implements Unmarshal
         return describeReplicationTasksResult;
     }
 
+    private final Unmarshaller<java.util.List<ReplicationTask>, JsonUnmarshallerContext> replicationTasksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ReplicationTask>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ReplicationTask>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ReplicationTask>(ReplicationTaskJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeReplicationTasksResultJsonUnmarshaller instance;
 
     public static DescribeReplicationTasksResultJsonUnmarshaller getInstance() {
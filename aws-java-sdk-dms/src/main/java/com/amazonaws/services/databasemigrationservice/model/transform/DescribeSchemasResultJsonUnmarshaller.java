@@ -47,13 +47,15 @@ public class DescribeSchemasResultJsonUnmarshaller implements Unmarshaller<Descr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeSchemasResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Schemas", targetDepth)) {
-                    context.nextToken();
-                    describeSchemasResult.setSchemas(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeSchemasResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Schemas".equals(fieldName)) {
+                        context.nextToken();
+                        describeSchemasResult.setSchemas(schemasUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeSchemasResultJsonUnmarshaller implements Unmarshaller<Descr
         return describeSchemasResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> schemasUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeSchemasResultJsonUnmarshaller instance;
 
     public static DescribeSchemasResultJsonUnmarshaller getInstance() {
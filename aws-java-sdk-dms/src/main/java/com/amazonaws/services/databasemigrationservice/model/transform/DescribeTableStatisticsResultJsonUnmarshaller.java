@@ -47,18 +47,18 @@ public class DescribeTableStatisticsResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationTaskArn", targetDepth)) {
-                    context.nextToken();
-                    describeTableStatisticsResult.setReplicationTaskArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableStatistics", targetDepth)) {
-                    context.nextToken();
-                    describeTableStatisticsResult.setTableStatistics(new ListUnmarshaller<TableStatistics>(TableStatisticsJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeTableStatisticsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReplicationTaskArn".equals(fieldName)) {
+                        context.nextToken();
+                        describeTableStatisticsResult.setReplicationTaskArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TableStatistics".equals(fieldName)) {
+                        context.nextToken();
+                        describeTableStatisticsResult.setTableStatistics(tableStatisticsUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeTableStatisticsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class DescribeTableStatisticsResultJsonUnmarshaller implements Unmarshall
         return describeTableStatisticsResult;
     }
 
+    private final Unmarshaller<java.util.List<TableStatistics>, JsonUnmarshallerContext> tableStatisticsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TableStatistics>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TableStatistics>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TableStatistics>(TableStatisticsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTableStatisticsResultJsonUnmarshaller instance;
 
     public static DescribeTableStatisticsResultJsonUnmarshaller getInstance() {
@@ -47,57 +47,48 @@ public class EndpointJsonUnmarshaller implements Unmarshaller<Endpoint, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EndpointIdentifier", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setEndpointIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointType", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setEndpointType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EngineName", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setEngineName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServerName", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setServerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Port", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setPort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DatabaseName", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setDatabaseName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExtraConnectionAttributes", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setExtraConnectionAttributes(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KmsKeyId", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setKmsKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointArn", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setEndpointArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CertificateArn", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SslMode", targetDepth)) {
-                    context.nextToken();
-                    endpoint.setSslMode(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EndpointIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setEndpointIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EndpointType".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setEndpointType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EngineName".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setEngineName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServerName".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setServerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Port".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("DatabaseName".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setDatabaseName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ExtraConnectionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setExtraConnectionAttributes(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KmsKeyId".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setKmsKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EndpointArn".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setEndpointArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CertificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SslMode".equals(fieldName)) {
+                        context.nextToken();
+                        endpoint.setSslMode(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
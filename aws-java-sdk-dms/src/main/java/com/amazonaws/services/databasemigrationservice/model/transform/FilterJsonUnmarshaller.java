@@ -47,13 +47,15 @@ public class FilterJsonUnmarshaller implements Unmarshaller<Filter, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    filter.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Values", targetDepth)) {
-                    context.nextToken();
-                    filter.setValues(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        filter.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Values".equals(fieldName)) {
+                        context.nextToken();
+                        filter.setValues(valuesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class FilterJsonUnmarshaller implements Unmarshaller<Filter, JsonUnmarsha
         return filter;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> valuesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static FilterJsonUnmarshaller instance;
 
     public static FilterJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class ListTagsForResourceResultJsonUnmarshaller implements Unmarshaller<L
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TagList", targetDepth)) {
-                    context.nextToken();
-                    listTagsForResourceResult.setTagList(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TagList".equals(fieldName)) {
+                        context.nextToken();
+                        listTagsForResourceResult.setTagList(tagListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class ListTagsForResourceResultJsonUnmarshaller implements Unmarshaller<L
         return listTagsForResourceResult;
     }
 
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListTagsForResourceResultJsonUnmarshaller instance;
 
     public static ListTagsForResourceResultJsonUnmarshaller getInstance() {
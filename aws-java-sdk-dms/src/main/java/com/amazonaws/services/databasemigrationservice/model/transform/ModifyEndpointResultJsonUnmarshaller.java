@@ -47,9 +47,12 @@ public class ModifyEndpointResultJsonUnmarshaller implements Unmarshaller<Modify
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Endpoint", targetDepth)) {
-                    context.nextToken();
-                    modifyEndpointResult.setEndpoint(EndpointJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Endpoint".equals(fieldName)) {
+                        context.nextToken();
+                        modifyEndpointResult.setEndpoint(EndpointJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class ModifyReplicationInstanceResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationInstance", targetDepth)) {
-                    context.nextToken();
-                    modifyReplicationInstanceResult.setReplicationInstance(ReplicationInstanceJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReplicationInstance".equals(fieldName)) {
+                        context.nextToken();
+                        modifyReplicationInstanceResult.setReplicationInstance(ReplicationInstanceJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class OrderableReplicationInstanceJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EngineVersion", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance.setEngineVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceClass", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance.setReplicationInstanceClass(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StorageType", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance.setStorageType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MinAllocatedStorage", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance.setMinAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxAllocatedStorage", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance.setMaxAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultAllocatedStorage", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance.setDefaultAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IncludedAllocatedStorage", targetDepth)) {
-                    context.nextToken();
-                    orderableReplicationInstance.setIncludedAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EngineVersion".equals(fieldName)) {
+                        context.nextToken();
+                        orderableReplicationInstance.setEngineVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstanceClass".equals(fieldName)) {
+                        context.nextToken();
+                        orderableReplicationInstance.setReplicationInstanceClass(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StorageType".equals(fieldName)) {
+                        context.nextToken();
+                        orderableReplicationInstance.setStorageType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MinAllocatedStorage".equals(fieldName)) {
+                        context.nextToken();
+                        orderableReplicationInstance.setMinAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MaxAllocatedStorage".equals(fieldName)) {
+                        context.nextToken();
+                        orderableReplicationInstance.setMaxAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("DefaultAllocatedStorage".equals(fieldName)) {
+                        context.nextToken();
+                        orderableReplicationInstance.setDefaultAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("IncludedAllocatedStorage".equals(fieldName)) {
+                        context.nextToken();
+                        orderableReplicationInstance.setIncludedAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class RefreshSchemasStatusJsonUnmarshaller implements Unmarshaller<Refres
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EndpointArn", targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasStatus.setEndpointArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasStatus.setReplicationInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasStatus.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastRefreshDate", targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasStatus.setLastRefreshDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastFailureMessage", targetDepth)) {
-                    context.nextToken();
-                    refreshSchemasStatus.setLastFailureMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EndpointArn".equals(fieldName)) {
+                        context.nextToken();
+                        refreshSchemasStatus.setEndpointArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstanceArn".equals(fieldName)) {
+                        context.nextToken();
+                        refreshSchemasStatus.setReplicationInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        refreshSchemasStatus.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastRefreshDate".equals(fieldName)) {
+                        context.nextToken();
+                        refreshSchemasStatus.setLastRefreshDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastFailureMessage".equals(fieldName)) {
+                        context.nextToken();
+                        refreshSchemasStatus.setLastFailureMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,88 +47,69 @@ public class ReplicationInstanceJsonUnmarshaller implements Unmarshaller<Replica
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationInstanceIdentifier", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstanceIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceClass", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstanceClass(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceStatus", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstanceStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllocatedStorage", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCreateTime", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setInstanceCreateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcSecurityGroups", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setVpcSecurityGroups(new ListUnmarshaller<VpcSecurityGroupMembership>(VpcSecurityGroupMembershipJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationSubnetGroup", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationSubnetGroup(ReplicationSubnetGroupJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("PreferredMaintenanceWindow", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setPreferredMaintenanceWindow(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PendingModifiedValues", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setPendingModifiedValues(ReplicationPendingModifiedValuesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("MultiAZ", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setMultiAZ(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("EngineVersion", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setEngineVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoMinorVersionUpgrade", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setAutoMinorVersionUpgrade(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("KmsKeyId", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setKmsKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstancePublicIpAddress", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstancePublicIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstancePrivateIpAddress", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstancePrivateIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstancePublicIpAddresses", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstancePublicIpAddresses(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstancePrivateIpAddresses", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setReplicationInstancePrivateIpAddresses(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PubliclyAccessible", targetDepth)) {
-                    context.nextToken();
-                    replicationInstance.setPubliclyAccessible(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReplicationInstanceIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setReplicationInstanceIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstanceClass".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setReplicationInstanceClass(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstanceStatus".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setReplicationInstanceStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AllocatedStorage".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("InstanceCreateTime".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setInstanceCreateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("VpcSecurityGroups".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setVpcSecurityGroups(vpcSecurityGroupsUnmarshaller.unmarshall(context));
+                    } else if ("AvailabilityZone".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationSubnetGroup".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setReplicationSubnetGroup(ReplicationSubnetGroupJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("PreferredMaintenanceWindow".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setPreferredMaintenanceWindow(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PendingModifiedValues".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setPendingModifiedValues(ReplicationPendingModifiedValuesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("MultiAZ".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setMultiAZ(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("EngineVersion".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setEngineVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AutoMinorVersionUpgrade".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setAutoMinorVersionUpgrade(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("KmsKeyId".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setKmsKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstanceArn".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setReplicationInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstancePublicIpAddress".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setReplicationInstancePublicIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstancePrivateIpAddress".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setReplicationInstancePrivateIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstancePublicIpAddresses".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setReplicationInstancePublicIpAddresses(replicationInstancePublicIpAddressesUnmarshaller.unmarshall(context));
+                    } else if ("ReplicationInstancePrivateIpAddresses".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setReplicationInstancePrivateIpAddresses(replicationInstancePrivateIpAddressesUnmarshaller.unmarshall(context));
+                    } else if ("PubliclyAccessible".equals(fieldName)) {
+                        context.nextToken();
+                        replicationInstance.setPubliclyAccessible(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -142,6 +123,25 @@ public class ReplicationInstanceJsonUnmarshaller implements Unmarshaller<Replica
         return replicationInstance;
     }
 
+    private final Unmarshaller<java.util.List<VpcSecurityGroupMembership>, JsonUnmarshallerContext> vpcSecurityGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<VpcSecurityGroupMembership>>() {
+        @Override
+        protected Unmarshaller<java.util.List<VpcSecurityGroupMembership>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<VpcSecurityGroupMembership>(VpcSecurityGroupMembershipJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> replicationInstancePublicIpAddressesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> replicationInstancePrivateIpAddressesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ReplicationInstanceJsonUnmarshaller instance;
 
     public static ReplicationInstanceJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class ReplicationPendingModifiedValuesJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationInstanceClass", targetDepth)) {
-                    context.nextToken();
-                    replicationPendingModifiedValues.setReplicationInstanceClass(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllocatedStorage", targetDepth)) {
-                    context.nextToken();
-                    replicationPendingModifiedValues.setAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MultiAZ", targetDepth)) {
-                    context.nextToken();
-                    replicationPendingModifiedValues.setMultiAZ(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("EngineVersion", targetDepth)) {
-                    context.nextToken();
-                    replicationPendingModifiedValues.setEngineVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReplicationInstanceClass".equals(fieldName)) {
+                        context.nextToken();
+                        replicationPendingModifiedValues.setReplicationInstanceClass(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AllocatedStorage".equals(fieldName)) {
+                        context.nextToken();
+                        replicationPendingModifiedValues.setAllocatedStorage(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MultiAZ".equals(fieldName)) {
+                        context.nextToken();
+                        replicationPendingModifiedValues.setMultiAZ(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("EngineVersion".equals(fieldName)) {
+                        context.nextToken();
+                        replicationPendingModifiedValues.setEngineVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
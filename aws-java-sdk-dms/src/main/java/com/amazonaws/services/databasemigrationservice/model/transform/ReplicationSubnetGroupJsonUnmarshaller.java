@@ -47,25 +47,24 @@ public class ReplicationSubnetGroupJsonUnmarshaller implements Unmarshaller<Repl
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationSubnetGroupIdentifier", targetDepth)) {
-                    context.nextToken();
-                    replicationSubnetGroup.setReplicationSubnetGroupIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationSubnetGroupDescription", targetDepth)) {
-                    context.nextToken();
-                    replicationSubnetGroup.setReplicationSubnetGroupDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    replicationSubnetGroup.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetGroupStatus", targetDepth)) {
-                    context.nextToken();
-                    replicationSubnetGroup.setSubnetGroupStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Subnets", targetDepth)) {
-                    context.nextToken();
-                    replicationSubnetGroup.setSubnets(new ListUnmarshaller<Subnet>(SubnetJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReplicationSubnetGroupIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        replicationSubnetGroup.setReplicationSubnetGroupIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationSubnetGroupDescription".equals(fieldName)) {
+                        context.nextToken();
+                        replicationSubnetGroup.setReplicationSubnetGroupDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VpcId".equals(fieldName)) {
+                        context.nextToken();
+                        replicationSubnetGroup.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetGroupStatus".equals(fieldName)) {
+                        context.nextToken();
+                        replicationSubnetGroup.setSubnetGroupStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Subnets".equals(fieldName)) {
+                        context.nextToken();
+                        replicationSubnetGroup.setSubnets(subnetsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class ReplicationSubnetGroupJsonUnmarshaller implements Unmarshaller<Repl
         return replicationSubnetGroup;
     }
 
+    private final Unmarshaller<java.util.List<Subnet>, JsonUnmarshallerContext> subnetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Subnet>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Subnet>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Subnet>(SubnetJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ReplicationSubnetGroupJsonUnmarshaller instance;
 
     public static ReplicationSubnetGroupJsonUnmarshaller getInstance() {
@@ -47,57 +47,48 @@ public class ReplicationTaskJsonUnmarshaller implements Unmarshaller<Replication
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReplicationTaskIdentifier", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceEndpointArn", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setSourceEndpointArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TargetEndpointArn", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setTargetEndpointArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MigrationType", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setMigrationType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableMappings", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setTableMappings(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationTaskSettings", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskSettings(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastFailureMessage", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setLastFailureMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationTaskCreationDate", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationTaskStartDate", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskStartDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationTaskArn", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReplicationTaskStats", targetDepth)) {
-                    context.nextToken();
-                    replicationTask.setReplicationTaskStats(ReplicationTaskStatsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReplicationTaskIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setReplicationTaskIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SourceEndpointArn".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setSourceEndpointArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TargetEndpointArn".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setTargetEndpointArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationInstanceArn".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setReplicationInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MigrationType".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setMigrationType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TableMappings".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setTableMappings(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationTaskSettings".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setReplicationTaskSettings(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastFailureMessage".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setLastFailureMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationTaskCreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setReplicationTaskCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ReplicationTaskStartDate".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setReplicationTaskStartDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ReplicationTaskArn".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setReplicationTaskArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReplicationTaskStats".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTask.setReplicationTaskStats(ReplicationTaskStatsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
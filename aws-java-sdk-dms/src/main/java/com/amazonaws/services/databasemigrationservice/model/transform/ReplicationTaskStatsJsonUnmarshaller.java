@@ -47,29 +47,27 @@ public class ReplicationTaskStatsJsonUnmarshaller implements Unmarshaller<Replic
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FullLoadProgressPercent", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats.setFullLoadProgressPercent(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ElapsedTimeMillis", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats.setElapsedTimeMillis(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TablesLoaded", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats.setTablesLoaded(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("TablesLoading", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats.setTablesLoading(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("TablesQueued", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats.setTablesQueued(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("TablesErrored", targetDepth)) {
-                    context.nextToken();
-                    replicationTaskStats.setTablesErrored(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FullLoadProgressPercent".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTaskStats.setFullLoadProgressPercent(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ElapsedTimeMillis".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTaskStats.setElapsedTimeMillis(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TablesLoaded".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTaskStats.setTablesLoaded(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("TablesLoading".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTaskStats.setTablesLoading(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("TablesQueued".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTaskStats.setTablesQueued(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("TablesErrored".equals(fieldName)) {
+                        context.nextToken();
+                        replicationTaskStats.setTablesErrored(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
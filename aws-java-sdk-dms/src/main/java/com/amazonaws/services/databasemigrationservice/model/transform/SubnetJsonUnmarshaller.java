@@ -47,17 +47,18 @@ public class SubnetJsonUnmarshaller implements Unmarshaller<Subnet, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SubnetIdentifier", targetDepth)) {
-                    context.nextToken();
-                    subnet.setSubnetIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetAvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    subnet.setSubnetAvailabilityZone(AvailabilityZoneJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SubnetStatus", targetDepth)) {
-                    context.nextToken();
-                    subnet.setSubnetStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SubnetIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        subnet.setSubnetIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetAvailabilityZone".equals(fieldName)) {
+                        context.nextToken();
+                        subnet.setSubnetAvailabilityZone(AvailabilityZoneJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("SubnetStatus".equals(fieldName)) {
+                        context.nextToken();
+                        subnet.setSubnetStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class SupportedEndpointTypeJsonUnmarshaller implements Unmarshaller<Suppo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EngineName", targetDepth)) {
-                    context.nextToken();
-                    supportedEndpointType.setEngineName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SupportsCDC", targetDepth)) {
-                    context.nextToken();
-                    supportedEndpointType.setSupportsCDC(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointType", targetDepth)) {
-                    context.nextToken();
-                    supportedEndpointType.setEndpointType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EngineName".equals(fieldName)) {
+                        context.nextToken();
+                        supportedEndpointType.setEngineName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SupportsCDC".equals(fieldName)) {
+                        context.nextToken();
+                        supportedEndpointType.setSupportsCDC(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("EndpointType".equals(fieldName)) {
+                        context.nextToken();
+                        supportedEndpointType.setEndpointType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
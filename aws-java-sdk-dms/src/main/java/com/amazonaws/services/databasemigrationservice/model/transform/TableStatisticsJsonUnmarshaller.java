@@ -47,41 +47,36 @@ public class TableStatisticsJsonUnmarshaller implements Unmarshaller<TableStatis
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SchemaName", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setSchemaName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Inserts", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setInserts(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Deletes", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setDeletes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Updates", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setUpdates(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Ddls", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setDdls(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FullLoadRows", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setFullLoadRows(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdateTime", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setLastUpdateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TableState", targetDepth)) {
-                    context.nextToken();
-                    tableStatistics.setTableState(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SchemaName".equals(fieldName)) {
+                        context.nextToken();
+                        tableStatistics.setSchemaName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TableName".equals(fieldName)) {
+                        context.nextToken();
+                        tableStatistics.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Inserts".equals(fieldName)) {
+                        context.nextToken();
+                        tableStatistics.setInserts(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Deletes".equals(fieldName)) {
+                        context.nextToken();
+                        tableStatistics.setDeletes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Updates".equals(fieldName)) {
+                        context.nextToken();
+                        tableStatistics.setUpdates(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Ddls".equals(fieldName)) {
+                        context.nextToken();
+                        tableStatistics.setDdls(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FullLoadRows".equals(fieldName)) {
+                        context.nextToken();
+                        tableStatistics.setFullLoadRows(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("LastUpdateTime".equals(fieldName)) {
+                        context.nextToken();
+                        tableStatistics.setLastUpdateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("TableState".equals(fieldName)) {
+                        context.nextToken();
+                        tableStatistics.setTableState(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class TestConnectionResultJsonUnmarshaller implements Unmarshaller<TestCo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Connection", targetDepth)) {
-                    context.nextToken();
-                    testConnectionResult.setConnection(ConnectionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Connection".equals(fieldName)) {
+                        context.nextToken();
+                        testConnectionResult.setConnection(ConnectionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class VpcSecurityGroupMembershipJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VpcSecurityGroupId", targetDepth)) {
-                    context.nextToken();
-                    vpcSecurityGroupMembership.setVpcSecurityGroupId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    vpcSecurityGroupMembership.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VpcSecurityGroupId".equals(fieldName)) {
+                        context.nextToken();
+                        vpcSecurityGroupMembership.setVpcSecurityGroupId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        vpcSecurityGroupMembership.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import com.amazonaws.annotation.SdkInternalApi;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-table delay shared by the batches of one batch operation that are in
+ * flight at the same time. The delay of a table doubles every time a call
+ * leaves items of the table unprocessed, and halves every time a call
+ * processes all of them, so that concurrent batches slow down together on a
+ * table that is out of provisioned throughput without holding back the
+ * others.
+ */
+@SdkInternalApi
+final class BatchBackoff {
+
+    static final long BASE_DELAY_IN_MILLISECONDS = 50;
+    static final long MAX_DELAY_IN_MILLISECONDS = 1000 * 3;
+
+    private final ConcurrentMap<String, AtomicLong> delays = new ConcurrentHashMap<String, AtomicLong>();
+
+    /**
+     * Returns the delay (in milliseconds) before the next call to any of the
+     * given tables.
+     */
+    long getDelay(final Collection<String> tableNames) {
+        long delay = 0;
+        for (final String tableName : tableNames) {
+            final AtomicLong tableDelay = delays.get(tableName);
+            if (tableDelay != null) {
+                delay = Math.max(delay, tableDelay.get());
+            }
+        }
+        return delay;
+    }
+
+    /**
+     * Updates the delays after a call to the requested tables, of which the
+     * unprocessed tables still have items left to process.
+     */
+    void update(final Collection<String> requestedTableNames, final Collection<String> unprocessedTableNames) {
+        for (final String tableName : requestedTableNames) {
+            if (unprocessedTableNames.contains(tableName)) {
+                increase(tableName);
+            } else {
+                decrease(tableName);
+            }
+        }
+    }
+
+    /**
+     * Increases the delays of the given tables after a throttled call.
+     */
+    void throttled(final Collection<String> tableNames) {
+        for (final String tableName : tableNames) {
+            increase(tableName);
+        }
+    }
+
+    private void increase(final String tableName) {
+        AtomicLong tableDelay = delays.get(tableName);
+        if (tableDelay == null) {
+            final AtomicLong existing = delays.putIfAbsent(tableName, tableDelay = new AtomicLong());
+            if (existing != null) {
+                tableDelay = existing;
+            }
+        }
+        long delay;
+        do {
+            delay = tableDelay.get();
+        } while (!tableDelay.compareAndSet(delay,
+                Math.min(Math.max(delay * 2, BASE_DELAY_IN_MILLISECONDS), MAX_DELAY_IN_MILLISECONDS)));
+    }
+
+    private void decrease(final String tableName) {
+        final AtomicLong tableDelay = delays.get(tableName);
+        if (tableDelay == null) {
+            return;
+        }
+        long delay;
+        do {
+            delay = tableDelay.get();
+        } while (delay > 0 && !tableDelay.compareAndSet(delay,
+                delay / 2 < BASE_DELAY_IN_MILLISECONDS ? 0 : delay / 2));
+    }
+
+}
@@ -30,6 +30,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,6 +44,7 @@ import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchExecution;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchLoadRetryStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ConsistentReads;
@@ -1132,15 +1137,22 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         }
 
         // Break into chunks of 25 items and make service requests to DynamoDB
-        for (final StringListMap<WriteRequest> batch : requestItems.subMaps(MAX_ITEMS_PER_BATCH, true)) {
-            List<FailedBatch> failedBatches = writeOneBatch(batch, config.getBatchWriteRetryStrategy());
-            if (failedBatches != null) {
-                totalFailedBatches.addAll(failedBatches);
-
-                // If contains throttling exception, we do a backoff
-                if (containsThrottlingException(failedBatches)) {
-                    pause(config.getBatchWriteRetryStrategy().getDelayBeforeRetryUnprocessedItems(
-                            Collections.unmodifiableMap(batch), 0));
+        if (config.getBatchExecution() != null) {
+            totalFailedBatches.addAll(writeBatchesConcurrently(
+                    requestItems.subMaps(MAX_ITEMS_PER_BATCH, true),
+                    config.getBatchWriteRetryStrategy(),
+                    config.getBatchExecution()));
+        } else {
+            for (final StringListMap<WriteRequest> batch : requestItems.subMaps(MAX_ITEMS_PER_BATCH, true)) {
+                List<FailedBatch> failedBatches = writeOneBatch(batch, config.getBatchWriteRetryStrategy(), null);
+                if (failedBatches != null) {
+                    totalFailedBatches.addAll(failedBatches);
+
+                    // If contains throttling exception, we do a backoff
+                    if (containsThrottlingException(failedBatches)) {
+                        pause(config.getBatchWriteRetryStrategy().getDelayBeforeRetryUnprocessedItems(
+                                Collections.unmodifiableMap(batch), 0));
+                    }
                 }
             }
         }
@@ -1153,16 +1165,47 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         return totalFailedBatches;
     }
 
+    /**
+     * Writes the batches with up to the configured number of batches in
+     * flight at once, backing off the tables that are out of throughput.
+     * The failed batches are returned in the order of the batches.
+     */
+    private List<FailedBatch> writeBatchesConcurrently(
+            final List<StringListMap<WriteRequest>> batches,
+            final BatchWriteRetryStrategy batchWriteRetryStrategy,
+            final BatchExecution batchExecution) {
+
+        final BatchBackoff backoff = new BatchBackoff();
+        final List<Callable<List<FailedBatch>>> tasks = new ArrayList<Callable<List<FailedBatch>>>(batches.size());
+        for (final StringListMap<WriteRequest> batch : batches) {
+            tasks.add(new Callable<List<FailedBatch>>() {
+                @Override
+                public List<FailedBatch> call() {
+                    return writeOneBatch(batch, batchWriteRetryStrategy, backoff);
+                }
+            });
+        }
+
+        final List<FailedBatch> failedBatches = new LinkedList<FailedBatch>();
+        for (final List<FailedBatch> batchFailedBatches : invokeBatches(tasks, batchExecution)) {
+            failedBatches.addAll(batchFailedBatches);
+        }
+        return failedBatches;
+    }
+
     /**
      * Process one batch of requests(max 25). It will divide the batch if
      * receives request too large exception(the total size of the request is beyond 1M).
+     *
+     * @param backoff the backoff shared with concurrent batches, or null
      */
     private List<FailedBatch> writeOneBatch(
             StringListMap<WriteRequest> batch,
-            BatchWriteRetryStrategy batchWriteRetryStrategy) {
+            BatchWriteRetryStrategy batchWriteRetryStrategy,
+            BatchBackoff backoff) {
 
         List<FailedBatch> failedBatches = new LinkedList<FailedBatch>();
-        FailedBatch failedBatch = doBatchWriteItemWithRetry(batch, batchWriteRetryStrategy);
+        FailedBatch failedBatch = doBatchWriteItemWithRetry(batch, batchWriteRetryStrategy, backoff);
 
         if (failedBatch != null) {
             // If the exception is request entity too large, we divide the batch
@@ -1177,7 +1220,7 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
                     failedBatches.add(failedBatch);
                 } else {
                     for (final StringListMap<WriteRequest> subBatch : batch.subMaps(2, false)) {
-                        failedBatches.addAll(writeOneBatch(subBatch, batchWriteRetryStrategy));
+                        failedBatches.addAll(writeOneBatch(subBatch, batchWriteRetryStrategy, backoff));
                     }
                 }
 
@@ -1204,10 +1247,13 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
     /**
      * Continue trying to process the batch and retry on UnproccessedItems as
      * according to the specified BatchWriteRetryStrategy
+     *
+     * @param backoff the backoff shared with concurrent batches, or null
      */
     private FailedBatch doBatchWriteItemWithRetry(
             Map<String, List<WriteRequest>> batch,
-            BatchWriteRetryStrategy batchWriteRetryStrategy) {
+            BatchWriteRetryStrategy batchWriteRetryStrategy,
+            BatchBackoff backoff) {
 
         BatchWriteItemResult result = null;
         int retries = 0;
@@ -1219,6 +1265,9 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         Map<String, List<WriteRequest>> pendingItems = batch;
 
         while (true) {
+            if (backoff != null) {
+                pause(backoff.getDelay(pendingItems.keySet()));
+            }
             try {
                 result = db.batchWriteItem(applyBatchOperationUserAgent(
                         new BatchWriteItemRequest().withRequestItems(pendingItems)));
@@ -1226,8 +1275,14 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
                 failedBatch = new FailedBatch();
                 failedBatch.setUnprocessedItems(pendingItems);
                 failedBatch.setException(e);
+                if (backoff != null && failedBatch.isThrottling()) {
+                    backoff.throttled(pendingItems.keySet());
+                }
                 return failedBatch;
             }
+            if (backoff != null) {
+                backoff.update(pendingItems.keySet(), result.getUnprocessedItems().keySet());
+            }
             pendingItems = result.getUnprocessedItems();
 
             if (pendingItems.size() > 0) {
@@ -1264,6 +1319,11 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
         int count = 0;
 
+        final BatchExecution batchExecution = config.getBatchExecution();
+        final BatchBackoff backoff = batchExecution == null ? null : new BatchBackoff();
+        final List<Callable<Map<String, List<Object>>>> tasks =
+            batchExecution == null ? null : new ArrayList<Callable<Map<String, List<Object>>>>();
+
         for ( Object keyObject : itemsToGet ) {
             Class<Object> clazz = (Class<Object>)keyObject.getClass();
             final DynamoDBMapperTableModel model = getTableModel(clazz, config);
@@ -1282,14 +1342,36 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
 
             // Reach the maximum number which can be handled in a single batchGet
             if ( ++count == 100 ) {
-                processBatchGetRequest(classesByTableName, requestItems, resultSet, config);
-                requestItems.clear();
+                if ( tasks == null ) {
+                    processBatchGetRequest(classesByTableName, requestItems, resultSet, config, null);
+                    requestItems.clear();
+                } else {
+                    tasks.add(newBatchGetTask(classesByTableName, requestItems, config, backoff));
+                    requestItems = new HashMap<String, KeysAndAttributes>();
+                }
                 count = 0;
             }
         }
 
         if ( count > 0 ) {
-            processBatchGetRequest(classesByTableName, requestItems, resultSet, config);
+            if ( tasks == null ) {
+                processBatchGetRequest(classesByTableName, requestItems, resultSet, config, null);
+            } else {
+                tasks.add(newBatchGetTask(classesByTableName, requestItems, config, backoff));
+            }
+        }
+
+        if ( tasks != null ) {
+            for ( Map<String, List<Object>> batchResultSet : invokeBatches(tasks, batchExecution) ) {
+                for ( Entry<String, List<Object>> entry : batchResultSet.entrySet() ) {
+                    List<Object> objects = resultSet.get(entry.getKey());
+                    if ( objects == null ) {
+                        resultSet.put(entry.getKey(), entry.getValue());
+                    } else {
+                        objects.addAll(entry.getValue());
+                    }
+                }
+            }
         }
 
         return resultSet;
@@ -1312,14 +1394,38 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         return batchLoad(keys, config);
     }
 
+    /**
+     * Returns a task loading one batch of keys into a result set of its own,
+     * to be run concurrently with the other batches.
+     */
+    private Callable<Map<String, List<Object>>> newBatchGetTask(
+            final Map<String, Class<?>> classesByTableName,
+            final Map<String, KeysAndAttributes> requestItems,
+            final DynamoDBMapperConfig config,
+            final BatchBackoff backoff) {
+
+        // The caller keeps adding tables while the batch is in flight
+        final Map<String, Class<?>> classes = new HashMap<String, Class<?>>(classesByTableName);
+        return new Callable<Map<String, List<Object>>>() {
+            @Override
+            public Map<String, List<Object>> call() {
+                Map<String, List<Object>> resultSet = new HashMap<String, List<Object>>();
+                processBatchGetRequest(classes, requestItems, resultSet, config, backoff);
+                return resultSet;
+            }
+        };
+    }
+
     /**
      * @param config never null
+     * @param backoff the backoff shared with concurrent batches, or null
      */
     private void processBatchGetRequest(
             final Map<String, Class<?>> classesByTableName,
             final Map<String, KeysAndAttributes> requestItems,
             final Map<String, List<Object>> resultSet,
-            final DynamoDBMapperConfig config) {
+            final DynamoDBMapperConfig config,
+            final BatchBackoff backoff) {
 
         BatchGetItemResult batchGetItemResult = null;
         BatchGetItemRequest batchGetItemRequest = new BatchGetItemRequest()
@@ -1344,9 +1450,18 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
                 }
             }
 
+            if ( backoff != null ) {
+                pause(backoff.getDelay(batchGetItemRequest.getRequestItems().keySet()));
+            }
+
             batchGetItemResult = db.batchGetItem(
                     applyBatchOperationUserAgent(batchGetItemRequest));
 
+            if ( backoff != null ) {
+                backoff.update(batchGetItemRequest.getRequestItems().keySet(),
+                        batchGetItemResult.getUnprocessedKeys().keySet());
+            }
+
             Map<String, List<Map<String, AttributeValue>>> responses = batchGetItemResult.getResponses();
             for ( String tableName : responses.keySet() ) {
                 List<Object> objects = null;
@@ -2262,6 +2377,61 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         }
     }
 
+    /**
+     * Runs the batch tasks on the executor of the batch execution, with no
+     * more than the configured number of them in flight at once, and returns
+     * their results in the order of the tasks. The first batch to fail
+     * cancels the batches that are still pending.
+     */
+    private static <T> List<T> invokeBatches(final List<Callable<T>> tasks, final BatchExecution batchExecution) {
+        final ExecutorCompletionService<T> completionService =
+            new ExecutorCompletionService<T>(batchExecution.getExecutorService());
+        final List<Future<T>> futures = new ArrayList<Future<T>>(tasks.size());
+        try {
+            int completed = 0;
+            for (final Callable<T> task : tasks) {
+                if (futures.size() - completed >= batchExecution.getMaxBatchesInFlight()) {
+                    getBatchResult(completionService.take());
+                    completed++;
+                }
+                futures.add(completionService.submit(task));
+            }
+            for (; completed < futures.size(); completed++) {
+                getBatchResult(completionService.take());
+            }
+
+            final List<T> results = new ArrayList<T>(futures.size());
+            for (final Future<T> future : futures) {
+                results.add(getBatchResult(future));
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException(e.getMessage(), e);
+        } finally {
+            for (final Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Returns the result of a completed batch task, rethrowing its failure.
+     */
+    private static <T> T getBatchResult(final Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new AmazonClientException(cause.getMessage(), cause);
+        }
+    }
+
     /**
      * Batch pause.
      */
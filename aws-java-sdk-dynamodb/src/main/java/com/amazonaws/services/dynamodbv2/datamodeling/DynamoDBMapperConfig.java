@@ -21,6 +21,7 @@ import com.amazonaws.services.dynamodbv2.model.WriteRequest;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Immutable configuration object for service call behavior. An instance of this
@@ -90,6 +91,7 @@ public class DynamoDBMapperConfig {
         private BatchWriteRetryStrategy batchWriteRetryStrategy;
         private BatchLoadRetryStrategy batchLoadRetryStrategy;
         private DynamoDBTypeConverterFactory typeConverterFactory;
+        private BatchExecution batchExecution;
 
         /**
          * Creates a new builder initialized with the {@link #DEFAULT} values.
@@ -128,6 +130,7 @@ public class DynamoDBMapperConfig {
             if (o.batchWriteRetryStrategy != null) batchWriteRetryStrategy = o.batchWriteRetryStrategy;
             if (o.batchLoadRetryStrategy != null) batchLoadRetryStrategy = o.batchLoadRetryStrategy;
             if (o.typeConverterFactory != null) typeConverterFactory = o.typeConverterFactory;
+            if (o.batchExecution != null) batchExecution = o.batchExecution;
             return this;
         }
 
@@ -423,6 +426,38 @@ public class DynamoDBMapperConfig {
             return this;
         }
 
+        /**
+         * @return the current batch execution, or null if batches are
+         *         dispatched sequentially
+         */
+        public final BatchExecution getBatchExecution() {
+            return batchExecution;
+        }
+
+        /**
+         * @param value the new batch execution
+         */
+        public final void setBatchExecution(BatchExecution value) {
+            this.batchExecution = value;
+        }
+
+        /**
+         * Dispatches the batches of {@link DynamoDBMapper#batchWrite} and
+         * {@link DynamoDBMapper#batchLoad} concurrently on an executor.
+         * <pre class="brush: java">
+         * DynamoDBMapperConfig config = DynamoDBMapperConfig.builder()
+         *     .withBatchExecution(new BatchExecution(executorService, 8))
+         *     .build();
+         * </pre>
+         * @param value the new batch execution
+         * @return this builder
+         * @see BatchExecution
+         */
+        public final Builder withBatchExecution(BatchExecution value) {
+            setBatchExecution(value);
+            return this;
+        }
+
         /**
          * Builds a new {@code DynamoDBMapperConfig} object.
          *
@@ -833,6 +868,56 @@ public class DynamoDBMapperConfig {
         }
     }
 
+    /**
+     * Dispatches the batches of {@link DynamoDBMapper#batchWrite} and
+     * {@link DynamoDBMapper#batchLoad} concurrently, keeping up to a maximum
+     * number of BatchWriteItem or BatchGetItem calls in flight on the given
+     * executor. The caller still blocks until every batch is complete.
+     * <p>
+     * While the batches are in flight, the mapper backs off each table that
+     * returns UnprocessedItems, UnprocessedKeys or a throttling error by
+     * delaying the following calls to that table, and reduces the delay again
+     * as calls succeed. The batch retry strategies are applied as usual on
+     * top of it.
+     * <p>
+     * The executor is not shut down by the mapper.
+     */
+    public static final class BatchExecution {
+
+        private final ExecutorService executorService;
+        private final int maxBatchesInFlight;
+
+        /**
+         * @param executorService The executor running the batches.
+         * @param maxBatchesInFlight The maximum number of batches dispatched
+         *            at once; must be positive.
+         */
+        public BatchExecution(ExecutorService executorService, int maxBatchesInFlight) {
+            if (executorService == null) {
+                throw new IllegalArgumentException("executorService must not be null");
+            }
+            if (maxBatchesInFlight < 1) {
+                throw new IllegalArgumentException("maxBatchesInFlight must be positive");
+            }
+            this.executorService = executorService;
+            this.maxBatchesInFlight = maxBatchesInFlight;
+        }
+
+        /**
+         * Returns the executor running the batches.
+         */
+        public ExecutorService getExecutorService() {
+            return executorService;
+        }
+
+        /**
+         * Returns the maximum number of batches dispatched at once.
+         */
+        public int getMaxBatchesInFlight() {
+            return maxBatchesInFlight;
+        }
+    }
+
     /**
      * The default BatchWriteRetryStrategy which always retries on
      * UnprocessedItem up to a maximum number of times and use exponential
@@ -895,6 +980,7 @@ public class DynamoDBMapperConfig {
     private final BatchWriteRetryStrategy batchWriteRetryStrategy;
     private final BatchLoadRetryStrategy batchLoadRetryStrategy;
     private final DynamoDBTypeConverterFactory typeConverterFactory;
+    private final BatchExecution batchExecution;
 
     /**
      * Internal constructor; builds from the builder.
@@ -911,6 +997,7 @@ public class DynamoDBMapperConfig {
         this.batchWriteRetryStrategy = builder.batchWriteRetryStrategy;
         this.batchLoadRetryStrategy = builder.batchLoadRetryStrategy;
         this.typeConverterFactory = builder.typeConverterFactory;
+        this.batchExecution = builder.batchExecution;
     }
 
     /**
@@ -1022,6 +1109,7 @@ public class DynamoDBMapperConfig {
         this.batchWriteRetryStrategy = batchWriteRetryStrategy;
         this.batchLoadRetryStrategy = batchLoadRetryStrategy;
         this.typeConverterFactory = null;
+        this.batchExecution = null;
     }
 
     /**
@@ -1220,4 +1308,12 @@ public class DynamoDBMapperConfig {
         return typeConverterFactory;
     }
 
+    /**
+     * Returns the batch execution for this configuration, or null if the
+     * batches of batch operations are dispatched one after the other.
+     */
+    public final BatchExecution getBatchExecution() {
+        return batchExecution;
+    }
+
 }
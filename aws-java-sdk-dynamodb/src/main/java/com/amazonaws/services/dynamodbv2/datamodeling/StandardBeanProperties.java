@@ -50,11 +50,13 @@ final class StandardBeanProperties {
         private final ConcurrentMap<Class<T>,Beans<T>> cache = new ConcurrentHashMap<Class<T>,Beans<T>>();
 
         private final Beans<T> getBeans(Class<T> clazz) {
-            if (!cache.containsKey(clazz)) {
-                final TableMap<T> annotations = StandardAnnotationMaps.<T>of(clazz);
-                final BeanMap<T,Object> map = new BeanMap<T,Object>(clazz, false);
-                cache.putIfAbsent(clazz, new Beans<T>(annotations, map));
+            final Beans<T> beans = cache.get(clazz);
+            if (beans != null) {
+                return beans;
             }
+            final TableMap<T> annotations = StandardAnnotationMaps.<T>of(clazz);
+            final BeanMap<T,Object> map = new BeanMap<T,Object>(clazz, false);
+            cache.putIfAbsent(clazz, new Beans<T>(annotations, map));
             return cache.get(clazz);
         }
     }
@@ -109,19 +111,23 @@ final class StandardBeanProperties {
 
     /**
      * Get/set reflection operations.
+     * <p>
+     * The methods are made accessible once, when the bean mappings are built,
+     * so that invoking them for every item does not repeat the access checks.
      */
     static final class MethodReflect<T,V> implements Reflect<T,V> {
+        private static final Object[] NO_ARGS = new Object[0];
         private final Method getter, setter;
 
         private MethodReflect(Method getter) {
-            this.setter = setterOf(getter);
-            this.getter = getter;
+            this.setter = accessible(setterOf(getter));
+            this.getter = accessible(getter);
         }
 
         @Override
         public V get(T object) {
             try {
-                return (V)getter.invoke(object);
+                return (V)getter.invoke(object, NO_ARGS);
             } catch (final Exception e) {
                 throw new DynamoDBMappingException("could not invoke " + getter + " on " + object.getClass(), e);
             }
@@ -144,6 +150,15 @@ final class StandardBeanProperties {
             } catch (final Exception no) {}
             return null;
         }
+
+        private static Method accessible(Method method) {
+            if (method != null) {
+                try {
+                    method.setAccessible(true);
+                } catch (final SecurityException e) {} //<- keep the checked invocation
+            }
+            return method;
+        }
     }
 
     /**
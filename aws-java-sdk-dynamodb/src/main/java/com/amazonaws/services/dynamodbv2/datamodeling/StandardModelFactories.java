@@ -79,11 +79,13 @@ final class StandardModelFactories {
         @Override
         public TableFactory getTableFactory(DynamoDBMapperConfig config) {
             final ConversionSchema schema = config.getConversionSchema();
-            if (!cache.containsKey(schema)) {
-                RuleFactory<Object> rules = rulesOf(config, s3Links, this);
-                rules = new ConversionSchemas.ItemConverterRuleFactory<Object>(config, s3Links, rules);
-                cache.putIfAbsent(schema, new StandardTableFactory(rules));
+            final TableFactory factory = cache.get(schema);
+            if (factory != null) {
+                return factory;
             }
+            RuleFactory<Object> rules = rulesOf(config, s3Links, this);
+            rules = new ConversionSchemas.ItemConverterRuleFactory<Object>(config, s3Links, rules);
+            cache.putIfAbsent(schema, new StandardTableFactory(rules));
             return cache.get(schema);
         }
     }
@@ -103,9 +105,11 @@ final class StandardModelFactories {
         @Override
         @SuppressWarnings("unchecked")
         public <T> DynamoDBMapperTableModel<T> getTable(Class<T> clazz) {
-            if (!this.cache.containsKey(clazz)) {
-                this.cache.putIfAbsent(clazz, new TableBuilder<T>(clazz, rules).build());
+            final DynamoDBMapperTableModel<?> table = this.cache.get(clazz);
+            if (table != null) {
+                return (DynamoDBMapperTableModel<T>)table;
             }
+            this.cache.putIfAbsent(clazz, new TableBuilder<T>(clazz, rules).build());
             return (DynamoDBMapperTableModel<T>)this.cache.get(clazz);
         }
     }
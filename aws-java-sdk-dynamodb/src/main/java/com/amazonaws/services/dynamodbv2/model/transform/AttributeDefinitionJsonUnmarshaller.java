@@ -47,13 +47,15 @@ public class AttributeDefinitionJsonUnmarshaller implements Unmarshaller<Attribu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    attributeDefinition.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeType", targetDepth)) {
-                    context.nextToken();
-                    attributeDefinition.setAttributeType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AttributeName".equals(fieldName)) {
+                        context.nextToken();
+                        attributeDefinition.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AttributeType".equals(fieldName)) {
+                        context.nextToken();
+                        attributeDefinition.setAttributeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,46 +47,39 @@ public class AttributeValueJsonUnmarshaller implements Unmarshaller<AttributeVal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("S", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setS(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("N", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("B", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setB(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("SS", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setSS(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NS", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setNS(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("BS", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setBS(new ListUnmarshaller<java.nio.ByteBuffer>(context.getUnmarshaller(java.nio.ByteBuffer.class)).unmarshall(context));
-                }
-                if (context.testExpression("M", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setM(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("L", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setL(new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NULL", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setNULL(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("BOOL", targetDepth)) {
-                    context.nextToken();
-                    attributeValue.setBOOL(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("S".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValue.setS(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("N".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValue.setN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("B".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValue.setB(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("SS".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValue.setSS(sSUnmarshaller.unmarshall(context));
+                    } else if ("NS".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValue.setNS(nSUnmarshaller.unmarshall(context));
+                    } else if ("BS".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValue.setBS(bSUnmarshaller.unmarshall(context));
+                    } else if ("M".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValue.setM(mUnmarshaller.unmarshall(context));
+                    } else if ("L".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValue.setL(lUnmarshaller.unmarshall(context));
+                    } else if ("NULL".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValue.setNULL(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("BOOL".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValue.setBOOL(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -100,6 +93,37 @@ public class AttributeValueJsonUnmarshaller implements Unmarshaller<AttributeVal
         return attributeValue;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> sSUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> nSUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<java.nio.ByteBuffer>, JsonUnmarshallerContext> bSUnmarshaller = new CachingJsonUnmarshaller<java.util.List<java.nio.ByteBuffer>>() {
+        @Override
+        protected Unmarshaller<java.util.List<java.nio.ByteBuffer>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<java.nio.ByteBuffer>(context.getUnmarshaller(java.nio.ByteBuffer.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> mUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<AttributeValue>, JsonUnmarshallerContext> lUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AttributeValueJsonUnmarshaller instance;
 
     public static AttributeValueJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class AttributeValueUpdateJsonUnmarshaller implements Unmarshaller<Attrib
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    attributeValueUpdate.setValue(AttributeValueJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    attributeValueUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValueUpdate.setValue(AttributeValueJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        attributeValueUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,22 +47,18 @@ public class BatchGetItemResultJsonUnmarshaller implements Unmarshaller<BatchGet
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Responses", targetDepth)) {
-                    context.nextToken();
-                    batchGetItemResult.setResponses(new MapUnmarshaller<String, java.util.List<java.util.Map<String, AttributeValue>>>(context
-                            .getUnmarshaller(String.class), new ListUnmarshaller<java.util.Map<String, AttributeValue>>(
-                            new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance())))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("UnprocessedKeys", targetDepth)) {
-                    context.nextToken();
-                    batchGetItemResult.setUnprocessedKeys(new MapUnmarshaller<String, KeysAndAttributes>(context.getUnmarshaller(String.class),
-                            KeysAndAttributesJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    batchGetItemResult.setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(ConsumedCapacityJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Responses".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetItemResult.setResponses(responsesUnmarshaller.unmarshall(context));
+                    } else if ("UnprocessedKeys".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetItemResult.setUnprocessedKeys(unprocessedKeysUnmarshaller.unmarshall(context));
+                    } else if ("ConsumedCapacity".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetItemResult.setConsumedCapacity(consumedCapacityUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +72,28 @@ public class BatchGetItemResultJsonUnmarshaller implements Unmarshaller<BatchGet
         return batchGetItemResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.List<java.util.Map<String, AttributeValue>>>, JsonUnmarshallerContext> responsesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<java.util.Map<String, AttributeValue>>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<java.util.Map<String, AttributeValue>>>, JsonUnmarshallerContext> createUnmarshaller(
+                JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<java.util.Map<String, AttributeValue>>>(context.getUnmarshaller(String.class),
+                    new ListUnmarshaller<java.util.Map<String, AttributeValue>>(new MapUnmarshaller<String, AttributeValue>(
+                            context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance())));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, KeysAndAttributes>, JsonUnmarshallerContext> unprocessedKeysUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, KeysAndAttributes>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, KeysAndAttributes>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, KeysAndAttributes>(context.getUnmarshaller(String.class), KeysAndAttributesJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ConsumedCapacity>, JsonUnmarshallerContext> consumedCapacityUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConsumedCapacity>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConsumedCapacity>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConsumedCapacity>(ConsumedCapacityJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchGetItemResultJsonUnmarshaller instance;
 
     public static BatchGetItemResultJsonUnmarshaller getInstance() {
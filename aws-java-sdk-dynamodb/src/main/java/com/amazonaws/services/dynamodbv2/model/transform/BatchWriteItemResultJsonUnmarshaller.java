@@ -47,21 +47,18 @@ public class BatchWriteItemResultJsonUnmarshaller implements Unmarshaller<BatchW
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UnprocessedItems", targetDepth)) {
-                    context.nextToken();
-                    batchWriteItemResult.setUnprocessedItems(new MapUnmarshaller<String, java.util.List<WriteRequest>>(context.getUnmarshaller(String.class),
-                            new ListUnmarshaller<WriteRequest>(WriteRequestJsonUnmarshaller.getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("ItemCollectionMetrics", targetDepth)) {
-                    context.nextToken();
-                    batchWriteItemResult.setItemCollectionMetrics(new MapUnmarshaller<String, java.util.List<ItemCollectionMetrics>>(context
-                            .getUnmarshaller(String.class), new ListUnmarshaller<ItemCollectionMetrics>(ItemCollectionMetricsJsonUnmarshaller.getInstance()))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    batchWriteItemResult.setConsumedCapacity(new ListUnmarshaller<ConsumedCapacity>(ConsumedCapacityJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UnprocessedItems".equals(fieldName)) {
+                        context.nextToken();
+                        batchWriteItemResult.setUnprocessedItems(unprocessedItemsUnmarshaller.unmarshall(context));
+                    } else if ("ItemCollectionMetrics".equals(fieldName)) {
+                        context.nextToken();
+                        batchWriteItemResult.setItemCollectionMetrics(itemCollectionMetricsUnmarshaller.unmarshall(context));
+                    } else if ("ConsumedCapacity".equals(fieldName)) {
+                        context.nextToken();
+                        batchWriteItemResult.setConsumedCapacity(consumedCapacityUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +72,28 @@ public class BatchWriteItemResultJsonUnmarshaller implements Unmarshaller<BatchW
         return batchWriteItemResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.List<WriteRequest>>, JsonUnmarshallerContext> unprocessedItemsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<WriteRequest>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<WriteRequest>>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<WriteRequest>>(context.getUnmarshaller(String.class), new ListUnmarshaller<WriteRequest>(
+                    WriteRequestJsonUnmarshaller.getInstance()));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, java.util.List<ItemCollectionMetrics>>, JsonUnmarshallerContext> itemCollectionMetricsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<ItemCollectionMetrics>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<ItemCollectionMetrics>>, JsonUnmarshallerContext> createUnmarshaller(
+                JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<ItemCollectionMetrics>>(context.getUnmarshaller(String.class),
+                    new ListUnmarshaller<ItemCollectionMetrics>(ItemCollectionMetricsJsonUnmarshaller.getInstance()));
+        }
+    };
+    private final Unmarshaller<java.util.List<ConsumedCapacity>, JsonUnmarshallerContext> consumedCapacityUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConsumedCapacity>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConsumedCapacity>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConsumedCapacity>(ConsumedCapacityJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchWriteItemResultJsonUnmarshaller instance;
 
     public static BatchWriteItemResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class CapacityJsonUnmarshaller implements Unmarshaller<Capacity, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    capacity.setCapacityUnits(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CapacityUnits".equals(fieldName)) {
+                        context.nextToken();
+                        capacity.setCapacityUnits(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
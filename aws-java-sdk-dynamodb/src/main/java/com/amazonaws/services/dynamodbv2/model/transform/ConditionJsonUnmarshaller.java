@@ -47,13 +47,15 @@ public class ConditionJsonUnmarshaller implements Unmarshaller<Condition, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeValueList", targetDepth)) {
-                    context.nextToken();
-                    condition.setAttributeValueList(new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
-                    context.nextToken();
-                    condition.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AttributeValueList".equals(fieldName)) {
+                        context.nextToken();
+                        condition.setAttributeValueList(attributeValueListUnmarshaller.unmarshall(context));
+                    } else if ("ComparisonOperator".equals(fieldName)) {
+                        context.nextToken();
+                        condition.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ConditionJsonUnmarshaller implements Unmarshaller<Condition, JsonUn
         return condition;
     }
 
+    private final Unmarshaller<java.util.List<AttributeValue>, JsonUnmarshallerContext> attributeValueListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ConditionJsonUnmarshaller instance;
 
     public static ConditionJsonUnmarshaller getInstance() {
@@ -47,27 +47,24 @@ public class ConsumedCapacityJsonUnmarshaller implements Unmarshaller<ConsumedCa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    consumedCapacity.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    consumedCapacity.setCapacityUnits(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("Table", targetDepth)) {
-                    context.nextToken();
-                    consumedCapacity.setTable(CapacityJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LocalSecondaryIndexes", targetDepth)) {
-                    context.nextToken();
-                    consumedCapacity.setLocalSecondaryIndexes(new MapUnmarshaller<String, Capacity>(context.getUnmarshaller(String.class),
-                            CapacityJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("GlobalSecondaryIndexes", targetDepth)) {
-                    context.nextToken();
-                    consumedCapacity.setGlobalSecondaryIndexes(new MapUnmarshaller<String, Capacity>(context.getUnmarshaller(String.class),
-                            CapacityJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TableName".equals(fieldName)) {
+                        context.nextToken();
+                        consumedCapacity.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CapacityUnits".equals(fieldName)) {
+                        context.nextToken();
+                        consumedCapacity.setCapacityUnits(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("Table".equals(fieldName)) {
+                        context.nextToken();
+                        consumedCapacity.setTable(CapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("LocalSecondaryIndexes".equals(fieldName)) {
+                        context.nextToken();
+                        consumedCapacity.setLocalSecondaryIndexes(localSecondaryIndexesUnmarshaller.unmarshall(context));
+                    } else if ("GlobalSecondaryIndexes".equals(fieldName)) {
+                        context.nextToken();
+                        consumedCapacity.setGlobalSecondaryIndexes(globalSecondaryIndexesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -81,6 +78,19 @@ public class ConsumedCapacityJsonUnmarshaller implements Unmarshaller<ConsumedCa
         return consumedCapacity;
     }
 
+    private final Unmarshaller<java.util.Map<String, Capacity>, JsonUnmarshallerContext> localSecondaryIndexesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, Capacity>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, Capacity>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, Capacity>(context.getUnmarshaller(String.class), CapacityJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, Capacity>, JsonUnmarshallerContext> globalSecondaryIndexesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, Capacity>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, Capacity>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, Capacity>(context.getUnmarshaller(String.class), CapacityJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ConsumedCapacityJsonUnmarshaller instance;
 
     public static ConsumedCapacityJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class CreateTableResultJsonUnmarshaller implements Unmarshaller<CreateTab
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableDescription", targetDepth)) {
-                    context.nextToken();
-                    createTableResult.setTableDescription(TableDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TableDescription".equals(fieldName)) {
+                        context.nextToken();
+                        createTableResult.setTableDescription(TableDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DeleteGlobalSecondaryIndexActionJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    deleteGlobalSecondaryIndexAction.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IndexName".equals(fieldName)) {
+                        context.nextToken();
+                        deleteGlobalSecondaryIndexAction.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,18 +47,18 @@ public class DeleteItemResultJsonUnmarshaller implements Unmarshaller<DeleteItem
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    deleteItemResult.setAttributes(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class),
-                            AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    deleteItemResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ItemCollectionMetrics", targetDepth)) {
-                    context.nextToken();
-                    deleteItemResult.setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Attributes".equals(fieldName)) {
+                        context.nextToken();
+                        deleteItemResult.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("ConsumedCapacity".equals(fieldName)) {
+                        context.nextToken();
+                        deleteItemResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ItemCollectionMetrics".equals(fieldName)) {
+                        context.nextToken();
+                        deleteItemResult.setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class DeleteItemResultJsonUnmarshaller implements Unmarshaller<DeleteItem
         return deleteItemResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DeleteItemResultJsonUnmarshaller instance;
 
     public static DeleteItemResultJsonUnmarshaller getInstance() {
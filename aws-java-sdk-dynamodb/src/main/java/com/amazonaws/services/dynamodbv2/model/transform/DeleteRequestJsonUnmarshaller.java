@@ -47,10 +47,12 @@ public class DeleteRequestJsonUnmarshaller implements Unmarshaller<DeleteRequest
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    deleteRequest.setKey(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        deleteRequest.setKey(keyUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DeleteRequestJsonUnmarshaller implements Unmarshaller<DeleteRequest
         return deleteRequest;
     }
 
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> keyUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DeleteRequestJsonUnmarshaller instance;
 
     public static DeleteRequestJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class DescribeLimitsResultJsonUnmarshaller implements Unmarshaller<Descri
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccountMaxReadCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    describeLimitsResult.setAccountMaxReadCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("AccountMaxWriteCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    describeLimitsResult.setAccountMaxWriteCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TableMaxReadCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    describeLimitsResult.setTableMaxReadCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TableMaxWriteCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    describeLimitsResult.setTableMaxWriteCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AccountMaxReadCapacityUnits".equals(fieldName)) {
+                        context.nextToken();
+                        describeLimitsResult.setAccountMaxReadCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("AccountMaxWriteCapacityUnits".equals(fieldName)) {
+                        context.nextToken();
+                        describeLimitsResult.setAccountMaxWriteCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TableMaxReadCapacityUnits".equals(fieldName)) {
+                        context.nextToken();
+                        describeLimitsResult.setTableMaxReadCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TableMaxWriteCapacityUnits".equals(fieldName)) {
+                        context.nextToken();
+                        describeLimitsResult.setTableMaxWriteCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DescribeTableResultJsonUnmarshaller implements Unmarshaller<Describ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Table", targetDepth)) {
-                    context.nextToken();
-                    describeTableResult.setTable(TableDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Table".equals(fieldName)) {
+                        context.nextToken();
+                        describeTableResult.setTable(TableDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,22 +47,21 @@ public class ExpectedAttributeValueJsonUnmarshaller implements Unmarshaller<Expe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    expectedAttributeValue.setValue(AttributeValueJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Exists", targetDepth)) {
-                    context.nextToken();
-                    expectedAttributeValue.setExists(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
-                    context.nextToken();
-                    expectedAttributeValue.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AttributeValueList", targetDepth)) {
-                    context.nextToken();
-                    expectedAttributeValue.setAttributeValueList(new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        expectedAttributeValue.setValue(AttributeValueJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Exists".equals(fieldName)) {
+                        context.nextToken();
+                        expectedAttributeValue.setExists(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("ComparisonOperator".equals(fieldName)) {
+                        context.nextToken();
+                        expectedAttributeValue.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AttributeValueList".equals(fieldName)) {
+                        context.nextToken();
+                        expectedAttributeValue.setAttributeValueList(attributeValueListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,13 @@ public class ExpectedAttributeValueJsonUnmarshaller implements Unmarshaller<Expe
         return expectedAttributeValue;
     }
 
+    private final Unmarshaller<java.util.List<AttributeValue>, JsonUnmarshallerContext> attributeValueListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AttributeValue>(AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ExpectedAttributeValueJsonUnmarshaller instance;
 
     public static ExpectedAttributeValueJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class GetItemResultJsonUnmarshaller implements Unmarshaller<GetItemResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Item", targetDepth)) {
-                    context.nextToken();
-                    getItemResult.setItem(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    getItemResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Item".equals(fieldName)) {
+                        context.nextToken();
+                        getItemResult.setItem(itemUnmarshaller.unmarshall(context));
+                    } else if ("ConsumedCapacity".equals(fieldName)) {
+                        context.nextToken();
+                        getItemResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class GetItemResultJsonUnmarshaller implements Unmarshaller<GetItemResult
         return getItemResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> itemUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetItemResultJsonUnmarshaller instance;
 
     public static GetItemResultJsonUnmarshaller getInstance() {
@@ -47,43 +47,37 @@ public class GlobalSecondaryIndexDescriptionJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setProjection(ProjectionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexStatus", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setIndexStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Backfilling", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setBackfilling(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ProvisionedThroughput", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription
-                            .setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexSizeBytes", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setIndexSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setItemCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexArn", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexDescription.setIndexArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IndexName".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexDescription.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeySchema".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexDescription.setKeySchema(keySchemaUnmarshaller.unmarshall(context));
+                    } else if ("Projection".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexDescription.setProjection(ProjectionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("IndexStatus".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexDescription.setIndexStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Backfilling".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexDescription.setBackfilling(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("ProvisionedThroughput".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexDescription.setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("IndexSizeBytes".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexDescription.setIndexSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("ItemCount".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexDescription.setItemCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("IndexArn".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexDescription.setIndexArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -97,6 +91,13 @@ public class GlobalSecondaryIndexDescriptionJsonUnmarshaller implements Unmarsha
         return globalSecondaryIndexDescription;
     }
 
+    private final Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> keySchemaUnmarshaller = new CachingJsonUnmarshaller<java.util.List<KeySchemaElement>>() {
+        @Override
+        protected Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GlobalSecondaryIndexDescriptionJsonUnmarshaller instance;
 
     public static GlobalSecondaryIndexDescriptionJsonUnmarshaller getInstance() {
@@ -47,22 +47,21 @@ public class GlobalSecondaryIndexJsonUnmarshaller implements Unmarshaller<Global
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndex.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndex.setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndex.setProjection(ProjectionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ProvisionedThroughput", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndex.setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IndexName".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndex.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeySchema".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndex.setKeySchema(keySchemaUnmarshaller.unmarshall(context));
+                    } else if ("Projection".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndex.setProjection(ProjectionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ProvisionedThroughput".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndex.setProvisionedThroughput(ProvisionedThroughputJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,13 @@ public class GlobalSecondaryIndexJsonUnmarshaller implements Unmarshaller<Global
         return globalSecondaryIndex;
     }
 
+    private final Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> keySchemaUnmarshaller = new CachingJsonUnmarshaller<java.util.List<KeySchemaElement>>() {
+        @Override
+        protected Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GlobalSecondaryIndexJsonUnmarshaller instance;
 
     public static GlobalSecondaryIndexJsonUnmarshaller getInstance() {
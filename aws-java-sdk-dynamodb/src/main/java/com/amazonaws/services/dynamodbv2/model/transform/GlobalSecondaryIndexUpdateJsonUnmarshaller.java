@@ -47,17 +47,18 @@ public class GlobalSecondaryIndexUpdateJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Update", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexUpdate.setUpdate(UpdateGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Create", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexUpdate.setCreate(CreateGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Delete", targetDepth)) {
-                    context.nextToken();
-                    globalSecondaryIndexUpdate.setDelete(DeleteGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Update".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexUpdate.setUpdate(UpdateGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Create".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexUpdate.setCreate(CreateGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Delete".equals(fieldName)) {
+                        context.nextToken();
+                        globalSecondaryIndexUpdate.setDelete(DeleteGlobalSecondaryIndexActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
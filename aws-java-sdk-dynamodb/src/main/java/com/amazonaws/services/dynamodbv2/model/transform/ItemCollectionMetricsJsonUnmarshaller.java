@@ -47,14 +47,15 @@ public class ItemCollectionMetricsJsonUnmarshaller implements Unmarshaller<ItemC
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ItemCollectionKey", targetDepth)) {
-                    context.nextToken();
-                    itemCollectionMetrics.setItemCollectionKey(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class),
-                            AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SizeEstimateRangeGB", targetDepth)) {
-                    context.nextToken();
-                    itemCollectionMetrics.setSizeEstimateRangeGB(new ListUnmarshaller<Double>(context.getUnmarshaller(Double.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ItemCollectionKey".equals(fieldName)) {
+                        context.nextToken();
+                        itemCollectionMetrics.setItemCollectionKey(itemCollectionKeyUnmarshaller.unmarshall(context));
+                    } else if ("SizeEstimateRangeGB".equals(fieldName)) {
+                        context.nextToken();
+                        itemCollectionMetrics.setSizeEstimateRangeGB(sizeEstimateRangeGBUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,19 @@ public class ItemCollectionMetricsJsonUnmarshaller implements Unmarshaller<ItemC
         return itemCollectionMetrics;
     }
 
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> itemCollectionKeyUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Double>, JsonUnmarshallerContext> sizeEstimateRangeGBUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Double>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Double>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Double>(context.getUnmarshaller(Double.class));
+        }
+    };
+
     private static ItemCollectionMetricsJsonUnmarshaller instance;
 
     public static ItemCollectionMetricsJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class KeySchemaElementJsonUnmarshaller implements Unmarshaller<KeySchemaE
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeName", targetDepth)) {
-                    context.nextToken();
-                    keySchemaElement.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyType", targetDepth)) {
-                    context.nextToken();
-                    keySchemaElement.setKeyType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AttributeName".equals(fieldName)) {
+                        context.nextToken();
+                        keySchemaElement.setAttributeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyType".equals(fieldName)) {
+                        context.nextToken();
+                        keySchemaElement.setKeyType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,27 +47,24 @@ public class KeysAndAttributesJsonUnmarshaller implements Unmarshaller<KeysAndAt
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Keys", targetDepth)) {
-                    context.nextToken();
-                    keysAndAttributes.setKeys(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(new MapUnmarshaller<String, AttributeValue>(context
-                            .getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("AttributesToGet", targetDepth)) {
-                    context.nextToken();
-                    keysAndAttributes.setAttributesToGet(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("ConsistentRead", targetDepth)) {
-                    context.nextToken();
-                    keysAndAttributes.setConsistentRead(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ProjectionExpression", targetDepth)) {
-                    context.nextToken();
-                    keysAndAttributes.setProjectionExpression(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExpressionAttributeNames", targetDepth)) {
-                    context.nextToken();
-                    keysAndAttributes.setExpressionAttributeNames(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Keys".equals(fieldName)) {
+                        context.nextToken();
+                        keysAndAttributes.setKeys(keysUnmarshaller.unmarshall(context));
+                    } else if ("AttributesToGet".equals(fieldName)) {
+                        context.nextToken();
+                        keysAndAttributes.setAttributesToGet(attributesToGetUnmarshaller.unmarshall(context));
+                    } else if ("ConsistentRead".equals(fieldName)) {
+                        context.nextToken();
+                        keysAndAttributes.setConsistentRead(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("ProjectionExpression".equals(fieldName)) {
+                        context.nextToken();
+                        keysAndAttributes.setProjectionExpression(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ExpressionAttributeNames".equals(fieldName)) {
+                        context.nextToken();
+                        keysAndAttributes.setExpressionAttributeNames(expressionAttributeNamesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -81,6 +78,27 @@ public class KeysAndAttributesJsonUnmarshaller implements Unmarshaller<KeysAndAt
         return keysAndAttributes;
     }
 
+    private final Unmarshaller<java.util.List<java.util.Map<String, AttributeValue>>, JsonUnmarshallerContext> keysUnmarshaller = new CachingJsonUnmarshaller<java.util.List<java.util.Map<String, AttributeValue>>>() {
+        @Override
+        protected Unmarshaller<java.util.List<java.util.Map<String, AttributeValue>>, JsonUnmarshallerContext> createUnmarshaller(
+                JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<java.util.Map<String, AttributeValue>>(new MapUnmarshaller<String, AttributeValue>(
+                    context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance()));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> attributesToGetUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> expressionAttributeNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static KeysAndAttributesJsonUnmarshaller instance;
 
     public static KeysAndAttributesJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListStreamsResultJsonUnmarshaller implements Unmarshaller<ListStrea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Streams", targetDepth)) {
-                    context.nextToken();
-                    listStreamsResult.setStreams(new ListUnmarshaller<Stream>(StreamJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedStreamArn", targetDepth)) {
-                    context.nextToken();
-                    listStreamsResult.setLastEvaluatedStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Streams".equals(fieldName)) {
+                        context.nextToken();
+                        listStreamsResult.setStreams(streamsUnmarshaller.unmarshall(context));
+                    } else if ("LastEvaluatedStreamArn".equals(fieldName)) {
+                        context.nextToken();
+                        listStreamsResult.setLastEvaluatedStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListStreamsResultJsonUnmarshaller implements Unmarshaller<ListStrea
         return listStreamsResult;
     }
 
+    private final Unmarshaller<java.util.List<Stream>, JsonUnmarshallerContext> streamsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Stream>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Stream>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Stream>(StreamJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListStreamsResultJsonUnmarshaller instance;
 
     public static ListStreamsResultJsonUnmarshaller getInstance() {
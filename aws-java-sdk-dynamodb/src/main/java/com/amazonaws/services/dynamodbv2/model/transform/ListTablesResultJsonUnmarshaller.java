@@ -47,13 +47,15 @@ public class ListTablesResultJsonUnmarshaller implements Unmarshaller<ListTables
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableNames", targetDepth)) {
-                    context.nextToken();
-                    listTablesResult.setTableNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedTableName", targetDepth)) {
-                    context.nextToken();
-                    listTablesResult.setLastEvaluatedTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TableNames".equals(fieldName)) {
+                        context.nextToken();
+                        listTablesResult.setTableNames(tableNamesUnmarshaller.unmarshall(context));
+                    } else if ("LastEvaluatedTableName".equals(fieldName)) {
+                        context.nextToken();
+                        listTablesResult.setLastEvaluatedTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTablesResultJsonUnmarshaller implements Unmarshaller<ListTables
         return listTablesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> tableNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListTablesResultJsonUnmarshaller instance;
 
     public static ListTablesResultJsonUnmarshaller getInstance() {
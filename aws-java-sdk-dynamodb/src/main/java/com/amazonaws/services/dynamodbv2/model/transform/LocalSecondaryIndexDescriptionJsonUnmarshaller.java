@@ -47,30 +47,27 @@ public class LocalSecondaryIndexDescriptionJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription.setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription.setProjection(ProjectionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("IndexSizeBytes", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription.setIndexSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription.setItemCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexArn", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndexDescription.setIndexArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IndexName".equals(fieldName)) {
+                        context.nextToken();
+                        localSecondaryIndexDescription.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeySchema".equals(fieldName)) {
+                        context.nextToken();
+                        localSecondaryIndexDescription.setKeySchema(keySchemaUnmarshaller.unmarshall(context));
+                    } else if ("Projection".equals(fieldName)) {
+                        context.nextToken();
+                        localSecondaryIndexDescription.setProjection(ProjectionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("IndexSizeBytes".equals(fieldName)) {
+                        context.nextToken();
+                        localSecondaryIndexDescription.setIndexSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("ItemCount".equals(fieldName)) {
+                        context.nextToken();
+                        localSecondaryIndexDescription.setItemCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("IndexArn".equals(fieldName)) {
+                        context.nextToken();
+                        localSecondaryIndexDescription.setIndexArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -84,6 +81,13 @@ public class LocalSecondaryIndexDescriptionJsonUnmarshaller implements Unmarshal
         return localSecondaryIndexDescription;
     }
 
+    private final Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> keySchemaUnmarshaller = new CachingJsonUnmarshaller<java.util.List<KeySchemaElement>>() {
+        @Override
+        protected Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static LocalSecondaryIndexDescriptionJsonUnmarshaller instance;
 
     public static LocalSecondaryIndexDescriptionJsonUnmarshaller getInstance() {
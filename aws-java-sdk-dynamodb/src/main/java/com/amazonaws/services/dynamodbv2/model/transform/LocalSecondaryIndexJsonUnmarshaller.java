@@ -47,18 +47,18 @@ public class LocalSecondaryIndexJsonUnmarshaller implements Unmarshaller<LocalSe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndex.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndex
-                            .setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Projection", targetDepth)) {
-                    context.nextToken();
-                    localSecondaryIndex.setProjection(ProjectionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IndexName".equals(fieldName)) {
+                        context.nextToken();
+                        localSecondaryIndex.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeySchema".equals(fieldName)) {
+                        context.nextToken();
+                        localSecondaryIndex.setKeySchema(keySchemaUnmarshaller.unmarshall(context));
+                    } else if ("Projection".equals(fieldName)) {
+                        context.nextToken();
+                        localSecondaryIndex.setProjection(ProjectionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class LocalSecondaryIndexJsonUnmarshaller implements Unmarshaller<LocalSe
         return localSecondaryIndex;
     }
 
+    private final Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> keySchemaUnmarshaller = new CachingJsonUnmarshaller<java.util.List<KeySchemaElement>>() {
+        @Override
+        protected Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static LocalSecondaryIndexJsonUnmarshaller instance;
 
     public static LocalSecondaryIndexJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ProjectionJsonUnmarshaller implements Unmarshaller<Projection, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ProjectionType", targetDepth)) {
-                    context.nextToken();
-                    projection.setProjectionType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NonKeyAttributes", targetDepth)) {
-                    context.nextToken();
-                    projection.setNonKeyAttributes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ProjectionType".equals(fieldName)) {
+                        context.nextToken();
+                        projection.setProjectionType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NonKeyAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        projection.setNonKeyAttributes(nonKeyAttributesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ProjectionJsonUnmarshaller implements Unmarshaller<Projection, Json
         return projection;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> nonKeyAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ProjectionJsonUnmarshaller instance;
 
     public static ProjectionJsonUnmarshaller getInstance() {
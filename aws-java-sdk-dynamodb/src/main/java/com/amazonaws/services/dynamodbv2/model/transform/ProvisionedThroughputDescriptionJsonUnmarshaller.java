@@ -47,25 +47,24 @@ public class ProvisionedThroughputDescriptionJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LastIncreaseDateTime", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughputDescription.setLastIncreaseDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastDecreaseDateTime", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughputDescription.setLastDecreaseDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfDecreasesToday", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughputDescription.setNumberOfDecreasesToday(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ReadCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughputDescription.setReadCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("WriteCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughputDescription.setWriteCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("LastIncreaseDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedThroughputDescription.setLastIncreaseDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastDecreaseDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedThroughputDescription.setLastDecreaseDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("NumberOfDecreasesToday".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedThroughputDescription.setNumberOfDecreasesToday(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("ReadCapacityUnits".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedThroughputDescription.setReadCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("WriteCapacityUnits".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedThroughputDescription.setWriteCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
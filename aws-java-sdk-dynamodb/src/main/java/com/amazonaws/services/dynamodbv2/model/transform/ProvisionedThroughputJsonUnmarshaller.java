@@ -47,13 +47,15 @@ public class ProvisionedThroughputJsonUnmarshaller implements Unmarshaller<Provi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReadCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughput.setReadCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("WriteCapacityUnits", targetDepth)) {
-                    context.nextToken();
-                    provisionedThroughput.setWriteCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReadCapacityUnits".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedThroughput.setReadCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("WriteCapacityUnits".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedThroughput.setWriteCapacityUnits(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
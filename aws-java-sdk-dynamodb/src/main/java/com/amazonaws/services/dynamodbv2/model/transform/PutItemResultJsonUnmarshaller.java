@@ -47,18 +47,18 @@ public class PutItemResultJsonUnmarshaller implements Unmarshaller<PutItemResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    putItemResult.setAttributes(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class),
-                            AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    putItemResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ItemCollectionMetrics", targetDepth)) {
-                    context.nextToken();
-                    putItemResult.setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Attributes".equals(fieldName)) {
+                        context.nextToken();
+                        putItemResult.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("ConsumedCapacity".equals(fieldName)) {
+                        context.nextToken();
+                        putItemResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ItemCollectionMetrics".equals(fieldName)) {
+                        context.nextToken();
+                        putItemResult.setItemCollectionMetrics(ItemCollectionMetricsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class PutItemResultJsonUnmarshaller implements Unmarshaller<PutItemResult
         return putItemResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PutItemResultJsonUnmarshaller instance;
 
     public static PutItemResultJsonUnmarshaller getInstance() {
@@ -47,27 +47,24 @@ public class QueryResultJsonUnmarshaller implements Unmarshaller<QueryResult, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Items", targetDepth)) {
-                    context.nextToken();
-                    queryResult.setItems(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(new MapUnmarshaller<String, AttributeValue>(context
-                            .getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
-                    context.nextToken();
-                    queryResult.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ScannedCount", targetDepth)) {
-                    context.nextToken();
-                    queryResult.setScannedCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedKey", targetDepth)) {
-                    context.nextToken();
-                    queryResult.setLastEvaluatedKey(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class),
-                            AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    queryResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Items".equals(fieldName)) {
+                        context.nextToken();
+                        queryResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    } else if ("Count".equals(fieldName)) {
+                        context.nextToken();
+                        queryResult.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ScannedCount".equals(fieldName)) {
+                        context.nextToken();
+                        queryResult.setScannedCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("LastEvaluatedKey".equals(fieldName)) {
+                        context.nextToken();
+                        queryResult.setLastEvaluatedKey(lastEvaluatedKeyUnmarshaller.unmarshall(context));
+                    } else if ("ConsumedCapacity".equals(fieldName)) {
+                        context.nextToken();
+                        queryResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -81,6 +78,21 @@ public class QueryResultJsonUnmarshaller implements Unmarshaller<QueryResult, Js
         return queryResult;
     }
 
+    private final Unmarshaller<java.util.List<java.util.Map<String, AttributeValue>>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<java.util.Map<String, AttributeValue>>>() {
+        @Override
+        protected Unmarshaller<java.util.List<java.util.Map<String, AttributeValue>>, JsonUnmarshallerContext> createUnmarshaller(
+                JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<java.util.Map<String, AttributeValue>>(new MapUnmarshaller<String, AttributeValue>(
+                    context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance()));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> lastEvaluatedKeyUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static QueryResultJsonUnmarshaller instance;
 
     public static QueryResultJsonUnmarshaller getInstance() {
@@ -47,29 +47,27 @@ public class RecordJsonUnmarshaller implements Unmarshaller<Record, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("eventID", targetDepth)) {
-                    context.nextToken();
-                    record.setEventID(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("eventName", targetDepth)) {
-                    context.nextToken();
-                    record.setEventName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("eventVersion", targetDepth)) {
-                    context.nextToken();
-                    record.setEventVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("eventSource", targetDepth)) {
-                    context.nextToken();
-                    record.setEventSource(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("awsRegion", targetDepth)) {
-                    context.nextToken();
-                    record.setAwsRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("dynamodb", targetDepth)) {
-                    context.nextToken();
-                    record.setDynamodb(StreamRecordJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("eventID".equals(fieldName)) {
+                        context.nextToken();
+                        record.setEventID(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("eventName".equals(fieldName)) {
+                        context.nextToken();
+                        record.setEventName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("eventVersion".equals(fieldName)) {
+                        context.nextToken();
+                        record.setEventVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("eventSource".equals(fieldName)) {
+                        context.nextToken();
+                        record.setEventSource(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("awsRegion".equals(fieldName)) {
+                        context.nextToken();
+                        record.setAwsRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("dynamodb".equals(fieldName)) {
+                        context.nextToken();
+                        record.setDynamodb(StreamRecordJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
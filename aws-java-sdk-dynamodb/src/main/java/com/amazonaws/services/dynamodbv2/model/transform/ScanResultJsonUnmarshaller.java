@@ -47,27 +47,24 @@ public class ScanResultJsonUnmarshaller implements Unmarshaller<ScanResult, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Items", targetDepth)) {
-                    context.nextToken();
-                    scanResult.setItems(new ListUnmarshaller<java.util.Map<String, AttributeValue>>(new MapUnmarshaller<String, AttributeValue>(context
-                            .getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("Count", targetDepth)) {
-                    context.nextToken();
-                    scanResult.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ScannedCount", targetDepth)) {
-                    context.nextToken();
-                    scanResult.setScannedCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedKey", targetDepth)) {
-                    context.nextToken();
-                    scanResult.setLastEvaluatedKey(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class),
-                            AttributeValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConsumedCapacity", targetDepth)) {
-                    context.nextToken();
-                    scanResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Items".equals(fieldName)) {
+                        context.nextToken();
+                        scanResult.setItems(itemsUnmarshaller.unmarshall(context));
+                    } else if ("Count".equals(fieldName)) {
+                        context.nextToken();
+                        scanResult.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ScannedCount".equals(fieldName)) {
+                        context.nextToken();
+                        scanResult.setScannedCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("LastEvaluatedKey".equals(fieldName)) {
+                        context.nextToken();
+                        scanResult.setLastEvaluatedKey(lastEvaluatedKeyUnmarshaller.unmarshall(context));
+                    } else if ("ConsumedCapacity".equals(fieldName)) {
+                        context.nextToken();
+                        scanResult.setConsumedCapacity(ConsumedCapacityJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -81,6 +78,21 @@ public class ScanResultJsonUnmarshaller implements Unmarshaller<ScanResult, Json
         return scanResult;
     }
 
+    private final Unmarshaller<java.util.List<java.util.Map<String, AttributeValue>>, JsonUnmarshallerContext> itemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<java.util.Map<String, AttributeValue>>>() {
+        @Override
+        protected Unmarshaller<java.util.List<java.util.Map<String, AttributeValue>>, JsonUnmarshallerContext> createUnmarshaller(
+                JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<java.util.Map<String, AttributeValue>>(new MapUnmarshaller<String, AttributeValue>(
+                    context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance()));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> lastEvaluatedKeyUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ScanResultJsonUnmarshaller instance;
 
     public static ScanResultJsonUnmarshaller getInstance() {
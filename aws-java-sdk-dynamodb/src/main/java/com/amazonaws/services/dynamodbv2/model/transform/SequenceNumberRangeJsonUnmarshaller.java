@@ -47,13 +47,15 @@ public class SequenceNumberRangeJsonUnmarshaller implements Unmarshaller<Sequenc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartingSequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    sequenceNumberRange.setStartingSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndingSequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    sequenceNumberRange.setEndingSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StartingSequenceNumber".equals(fieldName)) {
+                        context.nextToken();
+                        sequenceNumberRange.setStartingSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EndingSequenceNumber".equals(fieldName)) {
+                        context.nextToken();
+                        sequenceNumberRange.setEndingSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
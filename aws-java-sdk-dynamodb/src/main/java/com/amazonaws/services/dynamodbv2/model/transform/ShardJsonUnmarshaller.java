@@ -47,17 +47,18 @@ public class ShardJsonUnmarshaller implements Unmarshaller<Shard, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardId", targetDepth)) {
-                    context.nextToken();
-                    shard.setShardId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SequenceNumberRange", targetDepth)) {
-                    context.nextToken();
-                    shard.setSequenceNumberRange(SequenceNumberRangeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ParentShardId", targetDepth)) {
-                    context.nextToken();
-                    shard.setParentShardId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ShardId".equals(fieldName)) {
+                        context.nextToken();
+                        shard.setShardId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SequenceNumberRange".equals(fieldName)) {
+                        context.nextToken();
+                        shard.setSequenceNumberRange(SequenceNumberRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ParentShardId".equals(fieldName)) {
+                        context.nextToken();
+                        shard.setParentShardId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,41 +47,36 @@ public class StreamDescriptionJsonUnmarshaller implements Unmarshaller<StreamDes
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamArn", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamLabel", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamLabel(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamStatus", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamViewType", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamViewType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationRequestDateTime", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setCreationRequestDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Shards", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setShards(new ListUnmarshaller<Shard>(ShardJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("LastEvaluatedShardId", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setLastEvaluatedShardId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StreamArn".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StreamLabel".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setStreamLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StreamStatus".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setStreamStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StreamViewType".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setStreamViewType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationRequestDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setCreationRequestDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("TableName".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeySchema".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setKeySchema(keySchemaUnmarshaller.unmarshall(context));
+                    } else if ("Shards".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setShards(shardsUnmarshaller.unmarshall(context));
+                    } else if ("LastEvaluatedShardId".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setLastEvaluatedShardId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -95,6 +90,19 @@ public class StreamDescriptionJsonUnmarshaller implements Unmarshaller<StreamDes
         return streamDescription;
     }
 
+    private final Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> keySchemaUnmarshaller = new CachingJsonUnmarshaller<java.util.List<KeySchemaElement>>() {
+        @Override
+        protected Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Shard>, JsonUnmarshallerContext> shardsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Shard>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Shard>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Shard>(ShardJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static StreamDescriptionJsonUnmarshaller instance;
 
     public static StreamDescriptionJsonUnmarshaller getInstance() {
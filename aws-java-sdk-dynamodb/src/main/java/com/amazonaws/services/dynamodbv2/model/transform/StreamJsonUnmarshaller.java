@@ -47,17 +47,18 @@ public class StreamJsonUnmarshaller implements Unmarshaller<Stream, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamArn", targetDepth)) {
-                    context.nextToken();
-                    stream.setStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    stream.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamLabel", targetDepth)) {
-                    context.nextToken();
-                    stream.setStreamLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StreamArn".equals(fieldName)) {
+                        context.nextToken();
+                        stream.setStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TableName".equals(fieldName)) {
+                        context.nextToken();
+                        stream.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StreamLabel".equals(fieldName)) {
+                        context.nextToken();
+                        stream.setStreamLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,36 +47,30 @@ public class StreamRecordJsonUnmarshaller implements Unmarshaller<StreamRecord,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ApproximateCreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setApproximateCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Keys", targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setKeys(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NewImage", targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setNewImage(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("OldImage", targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setOldImage(new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeBytes", targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamViewType", targetDepth)) {
-                    context.nextToken();
-                    streamRecord.setStreamViewType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ApproximateCreationDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        streamRecord.setApproximateCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Keys".equals(fieldName)) {
+                        context.nextToken();
+                        streamRecord.setKeys(keysUnmarshaller.unmarshall(context));
+                    } else if ("NewImage".equals(fieldName)) {
+                        context.nextToken();
+                        streamRecord.setNewImage(newImageUnmarshaller.unmarshall(context));
+                    } else if ("OldImage".equals(fieldName)) {
+                        context.nextToken();
+                        streamRecord.setOldImage(oldImageUnmarshaller.unmarshall(context));
+                    } else if ("SequenceNumber".equals(fieldName)) {
+                        context.nextToken();
+                        streamRecord.setSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizeBytes".equals(fieldName)) {
+                        context.nextToken();
+                        streamRecord.setSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("StreamViewType".equals(fieldName)) {
+                        context.nextToken();
+                        streamRecord.setStreamViewType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -90,6 +84,25 @@ public class StreamRecordJsonUnmarshaller implements Unmarshaller<StreamRecord,
         return streamRecord;
     }
 
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> keysUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> newImageUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> oldImageUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, AttributeValue>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, AttributeValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, AttributeValue>(context.getUnmarshaller(String.class), AttributeValueJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static StreamRecordJsonUnmarshaller instance;
 
     public static StreamRecordJsonUnmarshaller getInstance() {
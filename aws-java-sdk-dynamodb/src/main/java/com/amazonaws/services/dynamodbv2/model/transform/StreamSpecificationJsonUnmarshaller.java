@@ -47,13 +47,15 @@ public class StreamSpecificationJsonUnmarshaller implements Unmarshaller<StreamS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamEnabled", targetDepth)) {
-                    context.nextToken();
-                    streamSpecification.setStreamEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamViewType", targetDepth)) {
-                    context.nextToken();
-                    streamSpecification.setStreamViewType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StreamEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        streamSpecification.setStreamEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("StreamViewType".equals(fieldName)) {
+                        context.nextToken();
+                        streamSpecification.setStreamViewType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,64 +47,51 @@ public class TableDescriptionJsonUnmarshaller implements Unmarshaller<TableDescr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AttributeDefinitions", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setAttributeDefinitions(new ListUnmarshaller<AttributeDefinition>(AttributeDefinitionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeySchema", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setKeySchema(new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("TableStatus", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setTableStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ProvisionedThroughput", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TableSizeBytes", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setTableSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ItemCount", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setItemCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TableArn", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setTableArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LocalSecondaryIndexes", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setLocalSecondaryIndexes(new ListUnmarshaller<LocalSecondaryIndexDescription>(
-                            LocalSecondaryIndexDescriptionJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("GlobalSecondaryIndexes", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setGlobalSecondaryIndexes(new ListUnmarshaller<GlobalSecondaryIndexDescription>(
-                            GlobalSecondaryIndexDescriptionJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("StreamSpecification", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setStreamSpecification(StreamSpecificationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LatestStreamLabel", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setLatestStreamLabel(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LatestStreamArn", targetDepth)) {
-                    context.nextToken();
-                    tableDescription.setLatestStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AttributeDefinitions".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setAttributeDefinitions(attributeDefinitionsUnmarshaller.unmarshall(context));
+                    } else if ("TableName".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeySchema".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setKeySchema(keySchemaUnmarshaller.unmarshall(context));
+                    } else if ("TableStatus".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setTableStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ProvisionedThroughput".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setProvisionedThroughput(ProvisionedThroughputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("TableSizeBytes".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setTableSizeBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("ItemCount".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setItemCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TableArn".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setTableArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LocalSecondaryIndexes".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setLocalSecondaryIndexes(localSecondaryIndexesUnmarshaller.unmarshall(context));
+                    } else if ("GlobalSecondaryIndexes".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setGlobalSecondaryIndexes(globalSecondaryIndexesUnmarshaller.unmarshall(context));
+                    } else if ("StreamSpecification".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setStreamSpecification(StreamSpecificationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("LatestStreamLabel".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setLatestStreamLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LatestStreamArn".equals(fieldName)) {
+                        context.nextToken();
+                        tableDescription.setLatestStreamArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -118,6 +105,31 @@ public class TableDescriptionJsonUnmarshaller implements Unmarshaller<TableDescr
         return tableDescription;
     }
 
+    private final Unmarshaller<java.util.List<AttributeDefinition>, JsonUnmarshallerContext> attributeDefinitionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AttributeDefinition>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AttributeDefinition>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AttributeDefinition>(AttributeDefinitionJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> keySchemaUnmarshaller = new CachingJsonUnmarshaller<java.util.List<KeySchemaElement>>() {
+        @Override
+        protected Unmarshaller<java.util.List<KeySchemaElement>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<KeySchemaElement>(KeySchemaElementJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<LocalSecondaryIndexDescription>, JsonUnmarshallerContext> localSecondaryIndexesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<LocalSecondaryIndexDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<LocalSecondaryIndexDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<LocalSecondaryIndexDescription>(LocalSecondaryIndexDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<GlobalSecondaryIndexDescription>, JsonUnmarshallerContext> globalSecondaryIndexesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<GlobalSecondaryIndexDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<GlobalSecondaryIndexDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<GlobalSecondaryIndexDescription>(GlobalSecondaryIndexDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static TableDescriptionJsonUnmarshaller instance;
 
     public static TableDescriptionJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class WriteRequestJsonUnmarshaller implements Unmarshaller<WriteRequest,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PutRequest", targetDepth)) {
-                    context.nextToken();
-                    writeRequest.setPutRequest(PutRequestJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DeleteRequest", targetDepth)) {
-                    context.nextToken();
-                    writeRequest.setDeleteRequest(DeleteRequestJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PutRequest".equals(fieldName)) {
+                        context.nextToken();
+                        writeRequest.setPutRequest(PutRequestJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("DeleteRequest".equals(fieldName)) {
+                        context.nextToken();
+                        writeRequest.setDeleteRequest(DeleteRequestJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2016-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchExecution;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+public class BatchExecutionTest {
+
+    private static final String TABLE_NAME = "tableName";
+    private static final String HASH_ATTR = "hash";
+    private static final int MAX_BATCHES_IN_FLIGHT = 3;
+
+    private ExecutorService executorService;
+    private ConcurrencyTrackingDynamoDB ddb;
+    private DynamoDBMapper mapper;
+
+    @Before
+    public void setup() {
+        executorService = Executors.newFixedThreadPool(8);
+        ddb = new ConcurrencyTrackingDynamoDB();
+        mapper = new DynamoDBMapper(ddb, DynamoDBMapperConfig.builder()
+                .withBatchExecution(new BatchExecution(executorService, MAX_BATCHES_IN_FLIGHT))
+                .build());
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void batchWriteKeepsBatchesInFlight() {
+        List<Item> items = items(250);
+
+        List<FailedBatch> failedBatches = mapper.batchSave(items);
+
+        assertEquals(0, failedBatches.size());
+        assertEquals(10, ddb.calls.get());
+        assertEquals(250, ddb.written.size());
+        assertTrue("Batches should run concurrently", ddb.maxInFlight.get() > 1);
+        assertTrue("No more than " + MAX_BATCHES_IN_FLIGHT + " batches should be in flight",
+                ddb.maxInFlight.get() <= MAX_BATCHES_IN_FLIGHT);
+    }
+
+    @Test
+    public void failedBatchesAreReturnedInBatchOrder() {
+        ddb.failure = new AmazonServiceException("BOOM");
+
+        List<FailedBatch> failedBatches = mapper.batchSave(items(100));
+
+        assertEquals(4, failedBatches.size());
+        for (int i = 0; i < failedBatches.size(); i++) {
+            List<WriteRequest> requests = failedBatches.get(i).getUnprocessedItems().get(TABLE_NAME);
+            assertEquals(25, requests.size());
+            assertEquals(String.valueOf(i * 25),
+                    requests.get(0).getPutRequest().getItem().get(HASH_ATTR).getS());
+        }
+    }
+
+    @Test
+    public void batchLoadKeepsBatchesInFlight() {
+        Map<String, List<Object>> results = mapper.batchLoad(items(450));
+
+        assertEquals(5, ddb.calls.get());
+        assertEquals(450, results.get(TABLE_NAME).size());
+        assertTrue("Batches should run concurrently", ddb.maxInFlight.get() > 1);
+        assertTrue("No more than " + MAX_BATCHES_IN_FLIGHT + " batches should be in flight",
+                ddb.maxInFlight.get() <= MAX_BATCHES_IN_FLIGHT);
+    }
+
+    @Test
+    public void backoffAdaptsPerTable() {
+        BatchBackoff backoff = new BatchBackoff();
+        List<String> tables = Arrays.asList("a", "b");
+
+        backoff.update(tables, Collections.singleton("a"));
+        assertEquals(BatchBackoff.BASE_DELAY_IN_MILLISECONDS, backoff.getDelay(tables));
+        assertEquals(0, backoff.getDelay(Collections.singleton("b")));
+
+        backoff.throttled(Collections.singleton("a"));
+        assertEquals(BatchBackoff.BASE_DELAY_IN_MILLISECONDS * 2, backoff.getDelay(tables));
+
+        for (int i = 0; i < 20; i++) {
+            backoff.throttled(Collections.singleton("a"));
+        }
+        assertEquals(BatchBackoff.MAX_DELAY_IN_MILLISECONDS, backoff.getDelay(tables));
+
+        for (int i = 0; i < 10; i++) {
+            backoff.update(tables, Collections.<String>emptySet());
+        }
+        assertEquals(0, backoff.getDelay(tables));
+    }
+
+    private static List<Item> items(int count) {
+        List<Item> items = new ArrayList<Item>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(String.valueOf(i)));
+        }
+        return items;
+    }
+
+    /**
+     * Answers every batch call after a short delay and records how many calls
+     * were in flight at once.
+     */
+    private static class ConcurrencyTrackingDynamoDB extends AbstractAmazonDynamoDB {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final Set<String> written = Collections.synchronizedSet(new HashSet<String>());
+        private volatile RuntimeException failure;
+
+        @Override
+        public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+            enter();
+            try {
+                if (failure != null) {
+                    throw failure;
+                }
+                for (WriteRequest writeRequest : request.getRequestItems().get(TABLE_NAME)) {
+                    written.add(writeRequest.getPutRequest().getItem().get(HASH_ATTR).getS());
+                }
+                return new BatchWriteItemResult()
+                        .withUnprocessedItems(Collections.<String, List<WriteRequest>>emptyMap());
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public BatchGetItemResult batchGetItem(BatchGetItemRequest request) {
+            enter();
+            try {
+                List<Map<String, AttributeValue>> items = new LinkedList<Map<String, AttributeValue>>(
+                        request.getRequestItems().get(TABLE_NAME).getKeys());
+                return new BatchGetItemResult()
+                        .withResponses(Collections.singletonMap(TABLE_NAME, items))
+                        .withUnprocessedKeys(Collections.<String, KeysAndAttributes>emptyMap());
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private void enter() {
+            calls.incrementAndGet();
+            int current = inFlight.incrementAndGet();
+            int max;
+            while ((max = maxInFlight.get()) < current && !maxInFlight.compareAndSet(max, current)) {
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @DynamoDBTable(tableName = TABLE_NAME)
+    public static class Item {
+
+        private String hash;
+
+        public Item() {
+        }
+
+        public Item(String hash) {
+            this.hash = hash;
+        }
+
+        @DynamoDBHashKey
+        @DynamoDBAttribute(attributeName = HASH_ATTR)
+        public String getHash() {
+            return hash;
+        }
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+    }
+
+}
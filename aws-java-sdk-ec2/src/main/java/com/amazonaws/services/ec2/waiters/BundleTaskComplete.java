@@ -21,6 +21,10 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import com.amazonaws.services.ec2.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 import com.amazonaws.jmespath.*;
 
@@ -40,8 +44,6 @@ class BundleTaskComplete {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathField("BundleTasks")), new JmesPathField("State"));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -52,9 +54,29 @@ class BundleTaskComplete {
          */
         @Override
         public boolean matches(DescribeBundleTasksResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAll(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAll(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeBundleTasksResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<BundleTask> value2 = result == null ? null : result.getBundleTasks();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (BundleTask value4 : value2) {
+                    String value5 = value4 == null ? null : value4.getState();
+                    value3.add(value5 == null ? NullNode.getInstance() : TextNode.valueOf(value5));
+                }
+            }
+            return value1;
         }
 
         /**
@@ -79,8 +101,6 @@ class BundleTaskComplete {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathField("BundleTasks")), new JmesPathField("State"));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -91,9 +111,29 @@ class BundleTaskComplete {
          */
         @Override
         public boolean matches(DescribeBundleTasksResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeBundleTasksResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<BundleTask> value2 = result == null ? null : result.getBundleTasks();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (BundleTask value4 : value2) {
+                    String value5 = value4 == null ? null : value4.getState();
+                    value3.add(value5 == null ? NullNode.getInstance() : TextNode.valueOf(value5));
+                }
+            }
+            return value1;
         }
 
         /**
@@ -21,6 +21,10 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import com.amazonaws.services.ec2.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 import com.amazonaws.jmespath.*;
 
@@ -40,9 +44,6 @@ class ConversionTaskCompleted {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathField("ConversionTasks")), new JmesPathField(
-                "State"));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -53,9 +54,29 @@ class ConversionTaskCompleted {
          */
         @Override
         public boolean matches(DescribeConversionTasksResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAll(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAll(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeConversionTasksResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<ConversionTask> value2 = result == null ? null : result.getConversionTasks();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (ConversionTask value4 : value2) {
+                    String value5 = value4 == null ? null : value4.getState();
+                    value3.add(value5 == null ? NullNode.getInstance() : TextNode.valueOf(value5));
+                }
+            }
+            return value1;
         }
 
         /**
@@ -80,9 +101,6 @@ class ConversionTaskCompleted {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathField("ConversionTasks")), new JmesPathField(
-                "State"));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -93,9 +111,29 @@ class ConversionTaskCompleted {
          */
         @Override
         public boolean matches(DescribeConversionTasksResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeConversionTasksResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<ConversionTask> value2 = result == null ? null : result.getConversionTasks();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (ConversionTask value4 : value2) {
+                    String value5 = value4 == null ? null : value4.getState();
+                    value3.add(value5 == null ? NullNode.getInstance() : TextNode.valueOf(value5));
+                }
+            }
+            return value1;
         }
 
         /**
@@ -120,9 +158,6 @@ class ConversionTaskCompleted {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathField("ConversionTasks")), new JmesPathField(
-                "State"));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -133,9 +168,29 @@ class ConversionTaskCompleted {
          */
         @Override
         public boolean matches(DescribeConversionTasksResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeConversionTasksResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<ConversionTask> value2 = result == null ? null : result.getConversionTasks();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (ConversionTask value4 : value2) {
+                    String value5 = value4 == null ? null : value4.getState();
+                    value3.add(value5 == null ? NullNode.getInstance() : TextNode.valueOf(value5));
+                }
+            }
+            return value1;
         }
 
         /**
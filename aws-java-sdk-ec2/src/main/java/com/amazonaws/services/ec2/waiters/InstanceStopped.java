@@ -21,6 +21,10 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import com.amazonaws.services.ec2.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 import com.amazonaws.jmespath.*;
 
@@ -40,9 +44,6 @@ class InstanceStopped {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathProjection(new JmesPathFlatten(new JmesPathField(
-                "Reservations")), new JmesPathField("Instances"))), new JmesPathSubExpression(new JmesPathField("State"), new JmesPathField("Name")));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -53,9 +54,37 @@ class InstanceStopped {
          */
         @Override
         public boolean matches(DescribeInstancesResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAll(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAll(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeInstancesResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<Reservation> value2 = result == null ? null : result.getReservations();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (Reservation value4 : value2) {
+                    java.util.List<Instance> value5 = value4 == null ? null : value4.getInstances();
+                    if (value5 == null) {
+                        value3.add(NullNode.getInstance());
+                    } else {
+                        for (Instance value6 : value5) {
+                            InstanceState value7 = value6 == null ? null : value6.getState();
+                            String value8 = value7 == null ? null : value7.getName();
+                            value3.add(value8 == null ? NullNode.getInstance() : TextNode.valueOf(value8));
+                        }
+                    }
+                }
+            }
+            return value1;
         }
 
         /**
@@ -80,9 +109,6 @@ class InstanceStopped {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathProjection(new JmesPathFlatten(new JmesPathField(
-                "Reservations")), new JmesPathField("Instances"))), new JmesPathSubExpression(new JmesPathField("State"), new JmesPathField("Name")));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -93,9 +119,37 @@ class InstanceStopped {
          */
         @Override
         public boolean matches(DescribeInstancesResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeInstancesResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<Reservation> value2 = result == null ? null : result.getReservations();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (Reservation value4 : value2) {
+                    java.util.List<Instance> value5 = value4 == null ? null : value4.getInstances();
+                    if (value5 == null) {
+                        value3.add(NullNode.getInstance());
+                    } else {
+                        for (Instance value6 : value5) {
+                            InstanceState value7 = value6 == null ? null : value6.getState();
+                            String value8 = value7 == null ? null : value7.getName();
+                            value3.add(value8 == null ? NullNode.getInstance() : TextNode.valueOf(value8));
+                        }
+                    }
+                }
+            }
+            return value1;
         }
 
         /**
@@ -120,9 +174,6 @@ class InstanceStopped {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathProjection(new JmesPathFlatten(new JmesPathField(
-                "Reservations")), new JmesPathField("Instances"))), new JmesPathSubExpression(new JmesPathField("State"), new JmesPathField("Name")));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -133,9 +184,37 @@ class InstanceStopped {
          */
         @Override
         public boolean matches(DescribeInstancesResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeInstancesResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<Reservation> value2 = result == null ? null : result.getReservations();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (Reservation value4 : value2) {
+                    java.util.List<Instance> value5 = value4 == null ? null : value4.getInstances();
+                    if (value5 == null) {
+                        value3.add(NullNode.getInstance());
+                    } else {
+                        for (Instance value6 : value5) {
+                            InstanceState value7 = value6 == null ? null : value6.getState();
+                            String value8 = value7 == null ? null : value7.getName();
+                            value3.add(value8 == null ? NullNode.getInstance() : TextNode.valueOf(value8));
+                        }
+                    }
+                }
+            }
+            return value1;
         }
 
         /**
@@ -21,6 +21,10 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import com.amazonaws.services.ec2.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 import com.amazonaws.jmespath.*;
 
@@ -40,7 +44,10 @@ class KeyPairExists {
             }
         }
 
-        private static final JmesPathExpression ast = new OpGreaterThan(new JmesPathLengthFunction(new JmesPathProjection(new JmesPathFlatten(
+        private static final JmesPathLengthFunction function1 = new JmesPathLengthFunction(new JmesPathProjection(new JmesPathFlatten(new JmesPathField(
+                "KeyPairs")), new JmesPathField("KeyName")));
+        private static final JsonNode literal1 = new JmesPathLiteral("0").getValue();
+        private static final OpGreaterThan comparator1 = new OpGreaterThan(new JmesPathLengthFunction(new JmesPathProjection(new JmesPathFlatten(
                 new JmesPathField("KeyPairs")), new JmesPathField("KeyName"))), new JmesPathLiteral("0"));
 
         /**
@@ -53,9 +60,30 @@ class KeyPairExists {
          */
         @Override
         public boolean matches(DescribeKeyPairsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAll(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAll(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeKeyPairsResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<KeyPairInfo> value2 = result == null ? null : result.getKeyPairs();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (KeyPairInfo value4 : value2) {
+                    value3.add(NullNode.getInstance());
+                }
+            }
+            JsonNode value5 = function1.evaluate(java.util.Arrays.asList(value1));
+            JsonNode value6 = comparator1.matches(value5, literal1) ? BooleanNode.TRUE : BooleanNode.FALSE;
+            return value6;
         }
 
         /**
@@ -21,6 +21,10 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import com.amazonaws.services.ec2.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 import com.amazonaws.jmespath.*;
 
@@ -40,7 +44,10 @@ class PasswordDataAvailable {
             }
         }
 
-        private static final JmesPathExpression ast = new OpGreaterThan(new JmesPathLengthFunction(new JmesPathField("PasswordData")), new JmesPathLiteral("0"));
+        private static final JmesPathLengthFunction function1 = new JmesPathLengthFunction(new JmesPathField("PasswordData"));
+        private static final JsonNode literal1 = new JmesPathLiteral("0").getValue();
+        private static final OpGreaterThan comparator1 = new OpGreaterThan(new JmesPathLengthFunction(new JmesPathField("PasswordData")), new JmesPathLiteral(
+                "0"));
 
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
@@ -52,9 +59,23 @@ class PasswordDataAvailable {
          */
         @Override
         public boolean matches(GetPasswordDataResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.path(expectedResult, finalResult);
+            return AcceptorPathMatcher.path(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(GetPasswordDataResult result) {
+            String value1 = result == null ? null : result.getPasswordData();
+            JsonNode value2 = value1 == null ? NullNode.getInstance() : TextNode.valueOf(value1);
+            JsonNode value3 = function1.evaluate(java.util.Arrays.asList(value2));
+            JsonNode value4 = comparator1.matches(value3, literal1) ? BooleanNode.TRUE : BooleanNode.FALSE;
+            return value4;
         }
 
         /**
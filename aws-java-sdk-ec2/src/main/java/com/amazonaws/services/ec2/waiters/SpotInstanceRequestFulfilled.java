@@ -21,6 +21,10 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import com.amazonaws.services.ec2.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 import com.amazonaws.jmespath.*;
 
@@ -40,9 +44,6 @@ class SpotInstanceRequestFulfilled {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
-                new JmesPathSubExpression(new JmesPathField("Status"), new JmesPathField("Code")));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -53,9 +54,30 @@ class SpotInstanceRequestFulfilled {
          */
         @Override
         public boolean matches(DescribeSpotInstanceRequestsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAll(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAll(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeSpotInstanceRequestsResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<SpotInstanceRequest> value2 = result == null ? null : result.getSpotInstanceRequests();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (SpotInstanceRequest value4 : value2) {
+                    SpotInstanceStatus value5 = value4 == null ? null : value4.getStatus();
+                    String value6 = value5 == null ? null : value5.getCode();
+                    value3.add(value6 == null ? NullNode.getInstance() : TextNode.valueOf(value6));
+                }
+            }
+            return value1;
         }
 
         /**
@@ -80,9 +102,6 @@ class SpotInstanceRequestFulfilled {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
-                new JmesPathSubExpression(new JmesPathField("Status"), new JmesPathField("Code")));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -93,9 +112,30 @@ class SpotInstanceRequestFulfilled {
          */
         @Override
         public boolean matches(DescribeSpotInstanceRequestsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeSpotInstanceRequestsResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<SpotInstanceRequest> value2 = result == null ? null : result.getSpotInstanceRequests();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (SpotInstanceRequest value4 : value2) {
+                    SpotInstanceStatus value5 = value4 == null ? null : value4.getStatus();
+                    String value6 = value5 == null ? null : value5.getCode();
+                    value3.add(value6 == null ? NullNode.getInstance() : TextNode.valueOf(value6));
+                }
+            }
+            return value1;
         }
 
         /**
@@ -120,9 +160,6 @@ class SpotInstanceRequestFulfilled {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
-                new JmesPathSubExpression(new JmesPathField("Status"), new JmesPathField("Code")));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -133,9 +170,30 @@ class SpotInstanceRequestFulfilled {
          */
         @Override
         public boolean matches(DescribeSpotInstanceRequestsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeSpotInstanceRequestsResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<SpotInstanceRequest> value2 = result == null ? null : result.getSpotInstanceRequests();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (SpotInstanceRequest value4 : value2) {
+                    SpotInstanceStatus value5 = value4 == null ? null : value4.getStatus();
+                    String value6 = value5 == null ? null : value5.getCode();
+                    value3.add(value6 == null ? NullNode.getInstance() : TextNode.valueOf(value6));
+                }
+            }
+            return value1;
         }
 
         /**
@@ -160,9 +218,6 @@ class SpotInstanceRequestFulfilled {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
-                new JmesPathSubExpression(new JmesPathField("Status"), new JmesPathField("Code")));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -173,9 +228,30 @@ class SpotInstanceRequestFulfilled {
          */
         @Override
         public boolean matches(DescribeSpotInstanceRequestsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeSpotInstanceRequestsResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<SpotInstanceRequest> value2 = result == null ? null : result.getSpotInstanceRequests();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (SpotInstanceRequest value4 : value2) {
+                    SpotInstanceStatus value5 = value4 == null ? null : value4.getStatus();
+                    String value6 = value5 == null ? null : value5.getCode();
+                    value3.add(value6 == null ? NullNode.getInstance() : TextNode.valueOf(value6));
+                }
+            }
+            return value1;
         }
 
         /**
@@ -200,9 +276,6 @@ class SpotInstanceRequestFulfilled {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
-                new JmesPathSubExpression(new JmesPathField("Status"), new JmesPathField("Code")));
-
         /**
          * Takes the result and determines whether the state of the resource matches the expected state. To determine
          * the current state of the resource, JmesPath expression is evaluated and compared against the expected result.
@@ -213,9 +286,30 @@ class SpotInstanceRequestFulfilled {
          */
         @Override
         public boolean matches(DescribeSpotInstanceRequestsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher.pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by calling the getters of the result, so that only the
+         * values selected by the expression are converted to JsonNodes.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return The value the JmesPath expression evaluates to
+         */
+        private static JsonNode evaluate(DescribeSpotInstanceRequestsResult result) {
+            JsonNode value1 = NullNode.getInstance();
+            java.util.List<SpotInstanceRequest> value2 = result == null ? null : result.getSpotInstanceRequests();
+            if (value2 != null) {
+                ArrayNode value3 = ObjectMapperSingleton.getObjectMapper().createArrayNode();
+                value1 = value3;
+                for (SpotInstanceRequest value4 : value2) {
+                    SpotInstanceStatus value5 = value4 == null ? null : value4.getStatus();
+                    String value6 = value5 == null ? null : value5.getCode();
+                    value3.add(value6 == null ? NullNode.getInstance() : TextNode.valueOf(value6));
+                }
+            }
+            return value1;
         }
 
         /**
@@ -47,17 +47,18 @@ public class AuthorizationDataJsonUnmarshaller implements Unmarshaller<Authoriza
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("authorizationToken", targetDepth)) {
-                    context.nextToken();
-                    authorizationData.setAuthorizationToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("expiresAt", targetDepth)) {
-                    context.nextToken();
-                    authorizationData.setExpiresAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("proxyEndpoint", targetDepth)) {
-                    context.nextToken();
-                    authorizationData.setProxyEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("authorizationToken".equals(fieldName)) {
+                        context.nextToken();
+                        authorizationData.setAuthorizationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("expiresAt".equals(fieldName)) {
+                        context.nextToken();
+                        authorizationData.setExpiresAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("proxyEndpoint".equals(fieldName)) {
+                        context.nextToken();
+                        authorizationData.setProxyEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class BatchCheckLayerAvailabilityResultJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("layers", targetDepth)) {
-                    context.nextToken();
-                    batchCheckLayerAvailabilityResult.setLayers(new ListUnmarshaller<Layer>(LayerJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    batchCheckLayerAvailabilityResult.setFailures(new ListUnmarshaller<LayerFailure>(LayerFailureJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("layers".equals(fieldName)) {
+                        context.nextToken();
+                        batchCheckLayerAvailabilityResult.setLayers(layersUnmarshaller.unmarshall(context));
+                    } else if ("failures".equals(fieldName)) {
+                        context.nextToken();
+                        batchCheckLayerAvailabilityResult.setFailures(failuresUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,19 @@ public class BatchCheckLayerAvailabilityResultJsonUnmarshaller implements Unmars
         return batchCheckLayerAvailabilityResult;
     }
 
+    private final Unmarshaller<java.util.List<Layer>, JsonUnmarshallerContext> layersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Layer>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Layer>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Layer>(LayerJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<LayerFailure>, JsonUnmarshallerContext> failuresUnmarshaller = new CachingJsonUnmarshaller<java.util.List<LayerFailure>>() {
+        @Override
+        protected Unmarshaller<java.util.List<LayerFailure>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<LayerFailure>(LayerFailureJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchCheckLayerAvailabilityResultJsonUnmarshaller instance;
 
     public static BatchCheckLayerAvailabilityResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class BatchDeleteImageResultJsonUnmarshaller implements Unmarshaller<Batc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("imageIds", targetDepth)) {
-                    context.nextToken();
-                    batchDeleteImageResult
-                            .setImageIds(new ListUnmarshaller<ImageIdentifier>(ImageIdentifierJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    batchDeleteImageResult.setFailures(new ListUnmarshaller<ImageFailure>(ImageFailureJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("imageIds".equals(fieldName)) {
+                        context.nextToken();
+                        batchDeleteImageResult.setImageIds(imageIdsUnmarshaller.unmarshall(context));
+                    } else if ("failures".equals(fieldName)) {
+                        context.nextToken();
+                        batchDeleteImageResult.setFailures(failuresUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,19 @@ public class BatchDeleteImageResultJsonUnmarshaller implements Unmarshaller<Batc
         return batchDeleteImageResult;
     }
 
+    private final Unmarshaller<java.util.List<ImageIdentifier>, JsonUnmarshallerContext> imageIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ImageIdentifier>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ImageIdentifier>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ImageIdentifier>(ImageIdentifierJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ImageFailure>, JsonUnmarshallerContext> failuresUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ImageFailure>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ImageFailure>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ImageFailure>(ImageFailureJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchDeleteImageResultJsonUnmarshaller instance;
 
     public static BatchDeleteImageResultJsonUnmarshaller getInstance() {
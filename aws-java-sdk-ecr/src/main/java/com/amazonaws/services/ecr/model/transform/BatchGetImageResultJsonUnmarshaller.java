@@ -47,13 +47,15 @@ public class BatchGetImageResultJsonUnmarshaller implements Unmarshaller<BatchGe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("images", targetDepth)) {
-                    context.nextToken();
-                    batchGetImageResult.setImages(new ListUnmarshaller<Image>(ImageJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    batchGetImageResult.setFailures(new ListUnmarshaller<ImageFailure>(ImageFailureJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("images".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetImageResult.setImages(imagesUnmarshaller.unmarshall(context));
+                    } else if ("failures".equals(fieldName)) {
+                        context.nextToken();
+                        batchGetImageResult.setFailures(failuresUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,19 @@ public class BatchGetImageResultJsonUnmarshaller implements Unmarshaller<BatchGe
         return batchGetImageResult;
     }
 
+    private final Unmarshaller<java.util.List<Image>, JsonUnmarshallerContext> imagesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Image>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Image>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Image>(ImageJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ImageFailure>, JsonUnmarshallerContext> failuresUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ImageFailure>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ImageFailure>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ImageFailure>(ImageFailureJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static BatchGetImageResultJsonUnmarshaller instance;
 
     public static BatchGetImageResultJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class CompleteLayerUploadResultJsonUnmarshaller implements Unmarshaller<C
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    completeLayerUploadResult.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    completeLayerUploadResult.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("uploadId", targetDepth)) {
-                    context.nextToken();
-                    completeLayerUploadResult.setUploadId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("layerDigest", targetDepth)) {
-                    context.nextToken();
-                    completeLayerUploadResult.setLayerDigest(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("registryId".equals(fieldName)) {
+                        context.nextToken();
+                        completeLayerUploadResult.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryName".equals(fieldName)) {
+                        context.nextToken();
+                        completeLayerUploadResult.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("uploadId".equals(fieldName)) {
+                        context.nextToken();
+                        completeLayerUploadResult.setUploadId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("layerDigest".equals(fieldName)) {
+                        context.nextToken();
+                        completeLayerUploadResult.setLayerDigest(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateRepositoryResultJsonUnmarshaller implements Unmarshaller<Crea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repository", targetDepth)) {
-                    context.nextToken();
-                    createRepositoryResult.setRepository(RepositoryJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("repository".equals(fieldName)) {
+                        context.nextToken();
+                        createRepositoryResult.setRepository(RepositoryJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class DeleteRepositoryPolicyResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    deleteRepositoryPolicyResult.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    deleteRepositoryPolicyResult.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyText", targetDepth)) {
-                    context.nextToken();
-                    deleteRepositoryPolicyResult.setPolicyText(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("registryId".equals(fieldName)) {
+                        context.nextToken();
+                        deleteRepositoryPolicyResult.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryName".equals(fieldName)) {
+                        context.nextToken();
+                        deleteRepositoryPolicyResult.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyText".equals(fieldName)) {
+                        context.nextToken();
+                        deleteRepositoryPolicyResult.setPolicyText(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DeleteRepositoryResultJsonUnmarshaller implements Unmarshaller<Dele
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repository", targetDepth)) {
-                    context.nextToken();
-                    deleteRepositoryResult.setRepository(RepositoryJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("repository".equals(fieldName)) {
+                        context.nextToken();
+                        deleteRepositoryResult.setRepository(RepositoryJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class DescribeRepositoriesResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositories", targetDepth)) {
-                    context.nextToken();
-                    describeRepositoriesResult.setRepositories(new ListUnmarshaller<Repository>(RepositoryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeRepositoriesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("repositories".equals(fieldName)) {
+                        context.nextToken();
+                        describeRepositoriesResult.setRepositories(repositoriesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeRepositoriesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeRepositoriesResultJsonUnmarshaller implements Unmarshaller<
         return describeRepositoriesResult;
     }
 
+    private final Unmarshaller<java.util.List<Repository>, JsonUnmarshallerContext> repositoriesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Repository>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Repository>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Repository>(RepositoryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeRepositoriesResultJsonUnmarshaller instance;
 
     public static DescribeRepositoriesResultJsonUnmarshaller getInstance() {
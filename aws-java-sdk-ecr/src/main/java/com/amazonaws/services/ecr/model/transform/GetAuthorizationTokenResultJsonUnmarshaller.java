@@ -47,10 +47,12 @@ public class GetAuthorizationTokenResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("authorizationData", targetDepth)) {
-                    context.nextToken();
-                    getAuthorizationTokenResult.setAuthorizationData(new ListUnmarshaller<AuthorizationData>(AuthorizationDataJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("authorizationData".equals(fieldName)) {
+                        context.nextToken();
+                        getAuthorizationTokenResult.setAuthorizationData(authorizationDataUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class GetAuthorizationTokenResultJsonUnmarshaller implements Unmarshaller
         return getAuthorizationTokenResult;
     }
 
+    private final Unmarshaller<java.util.List<AuthorizationData>, JsonUnmarshallerContext> authorizationDataUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AuthorizationData>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AuthorizationData>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AuthorizationData>(AuthorizationDataJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetAuthorizationTokenResultJsonUnmarshaller instance;
 
     public static GetAuthorizationTokenResultJsonUnmarshaller getInstance() {
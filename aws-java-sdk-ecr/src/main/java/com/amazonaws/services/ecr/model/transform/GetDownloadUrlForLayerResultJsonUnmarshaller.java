@@ -47,13 +47,15 @@ public class GetDownloadUrlForLayerResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("downloadUrl", targetDepth)) {
-                    context.nextToken();
-                    getDownloadUrlForLayerResult.setDownloadUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("layerDigest", targetDepth)) {
-                    context.nextToken();
-                    getDownloadUrlForLayerResult.setLayerDigest(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("downloadUrl".equals(fieldName)) {
+                        context.nextToken();
+                        getDownloadUrlForLayerResult.setDownloadUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("layerDigest".equals(fieldName)) {
+                        context.nextToken();
+                        getDownloadUrlForLayerResult.setLayerDigest(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
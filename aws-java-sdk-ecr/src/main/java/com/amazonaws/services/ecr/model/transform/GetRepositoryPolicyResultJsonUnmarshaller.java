@@ -47,17 +47,18 @@ public class GetRepositoryPolicyResultJsonUnmarshaller implements Unmarshaller<G
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryPolicyResult.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryPolicyResult.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyText", targetDepth)) {
-                    context.nextToken();
-                    getRepositoryPolicyResult.setPolicyText(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("registryId".equals(fieldName)) {
+                        context.nextToken();
+                        getRepositoryPolicyResult.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryName".equals(fieldName)) {
+                        context.nextToken();
+                        getRepositoryPolicyResult.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyText".equals(fieldName)) {
+                        context.nextToken();
+                        getRepositoryPolicyResult.setPolicyText(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class ImageFailureJsonUnmarshaller implements Unmarshaller<ImageFailure,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("imageId", targetDepth)) {
-                    context.nextToken();
-                    imageFailure.setImageId(ImageIdentifierJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("failureCode", targetDepth)) {
-                    context.nextToken();
-                    imageFailure.setFailureCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("failureReason", targetDepth)) {
-                    context.nextToken();
-                    imageFailure.setFailureReason(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("imageId".equals(fieldName)) {
+                        context.nextToken();
+                        imageFailure.setImageId(ImageIdentifierJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("failureCode".equals(fieldName)) {
+                        context.nextToken();
+                        imageFailure.setFailureCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("failureReason".equals(fieldName)) {
+                        context.nextToken();
+                        imageFailure.setFailureReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
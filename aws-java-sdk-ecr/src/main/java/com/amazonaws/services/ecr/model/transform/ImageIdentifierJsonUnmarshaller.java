@@ -47,13 +47,15 @@ public class ImageIdentifierJsonUnmarshaller implements Unmarshaller<ImageIdenti
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("imageDigest", targetDepth)) {
-                    context.nextToken();
-                    imageIdentifier.setImageDigest(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("imageTag", targetDepth)) {
-                    context.nextToken();
-                    imageIdentifier.setImageTag(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("imageDigest".equals(fieldName)) {
+                        context.nextToken();
+                        imageIdentifier.setImageDigest(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("imageTag".equals(fieldName)) {
+                        context.nextToken();
+                        imageIdentifier.setImageTag(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
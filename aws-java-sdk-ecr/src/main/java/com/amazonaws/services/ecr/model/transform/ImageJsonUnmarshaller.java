@@ -47,21 +47,21 @@ public class ImageJsonUnmarshaller implements Unmarshaller<Image, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    image.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    image.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("imageId", targetDepth)) {
-                    context.nextToken();
-                    image.setImageId(ImageIdentifierJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("imageManifest", targetDepth)) {
-                    context.nextToken();
-                    image.setImageManifest(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("registryId".equals(fieldName)) {
+                        context.nextToken();
+                        image.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryName".equals(fieldName)) {
+                        context.nextToken();
+                        image.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("imageId".equals(fieldName)) {
+                        context.nextToken();
+                        image.setImageId(ImageIdentifierJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("imageManifest".equals(fieldName)) {
+                        context.nextToken();
+                        image.setImageManifest(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
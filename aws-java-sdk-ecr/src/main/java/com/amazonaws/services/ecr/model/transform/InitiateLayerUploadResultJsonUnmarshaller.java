@@ -47,13 +47,15 @@ public class InitiateLayerUploadResultJsonUnmarshaller implements Unmarshaller<I
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("uploadId", targetDepth)) {
-                    context.nextToken();
-                    initiateLayerUploadResult.setUploadId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("partSize", targetDepth)) {
-                    context.nextToken();
-                    initiateLayerUploadResult.setPartSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("uploadId".equals(fieldName)) {
+                        context.nextToken();
+                        initiateLayerUploadResult.setUploadId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("partSize".equals(fieldName)) {
+                        context.nextToken();
+                        initiateLayerUploadResult.setPartSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class LayerFailureJsonUnmarshaller implements Unmarshaller<LayerFailure,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("layerDigest", targetDepth)) {
-                    context.nextToken();
-                    layerFailure.setLayerDigest(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("failureCode", targetDepth)) {
-                    context.nextToken();
-                    layerFailure.setFailureCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("failureReason", targetDepth)) {
-                    context.nextToken();
-                    layerFailure.setFailureReason(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("layerDigest".equals(fieldName)) {
+                        context.nextToken();
+                        layerFailure.setLayerDigest(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("failureCode".equals(fieldName)) {
+                        context.nextToken();
+                        layerFailure.setFailureCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("failureReason".equals(fieldName)) {
+                        context.nextToken();
+                        layerFailure.setFailureReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class LayerJsonUnmarshaller implements Unmarshaller<Layer, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("layerDigest", targetDepth)) {
-                    context.nextToken();
-                    layer.setLayerDigest(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("layerAvailability", targetDepth)) {
-                    context.nextToken();
-                    layer.setLayerAvailability(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("layerSize", targetDepth)) {
-                    context.nextToken();
-                    layer.setLayerSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("layerDigest".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setLayerDigest(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("layerAvailability".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setLayerAvailability(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("layerSize".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setLayerSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
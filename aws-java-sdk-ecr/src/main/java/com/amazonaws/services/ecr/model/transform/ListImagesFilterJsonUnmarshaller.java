@@ -47,9 +47,12 @@ public class ListImagesFilterJsonUnmarshaller implements Unmarshaller<ListImages
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tagStatus", targetDepth)) {
-                    context.nextToken();
-                    listImagesFilter.setTagStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("tagStatus".equals(fieldName)) {
+                        context.nextToken();
+                        listImagesFilter.setTagStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
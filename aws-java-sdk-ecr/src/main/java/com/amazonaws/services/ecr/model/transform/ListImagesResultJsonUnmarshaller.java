@@ -47,13 +47,15 @@ public class ListImagesResultJsonUnmarshaller implements Unmarshaller<ListImages
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("imageIds", targetDepth)) {
-                    context.nextToken();
-                    listImagesResult.setImageIds(new ListUnmarshaller<ImageIdentifier>(ImageIdentifierJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listImagesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("imageIds".equals(fieldName)) {
+                        context.nextToken();
+                        listImagesResult.setImageIds(imageIdsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listImagesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListImagesResultJsonUnmarshaller implements Unmarshaller<ListImages
         return listImagesResult;
     }
 
+    private final Unmarshaller<java.util.List<ImageIdentifier>, JsonUnmarshallerContext> imageIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ImageIdentifier>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ImageIdentifier>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ImageIdentifier>(ImageIdentifierJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListImagesResultJsonUnmarshaller instance;
 
     public static ListImagesResultJsonUnmarshaller getInstance() {
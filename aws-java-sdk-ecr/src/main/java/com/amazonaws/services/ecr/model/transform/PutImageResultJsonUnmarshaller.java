@@ -47,9 +47,12 @@ public class PutImageResultJsonUnmarshaller implements Unmarshaller<PutImageResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("image", targetDepth)) {
-                    context.nextToken();
-                    putImageResult.setImage(ImageJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("image".equals(fieldName)) {
+                        context.nextToken();
+                        putImageResult.setImage(ImageJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
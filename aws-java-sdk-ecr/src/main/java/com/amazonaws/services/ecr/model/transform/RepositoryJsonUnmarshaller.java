@@ -47,21 +47,21 @@ public class RepositoryJsonUnmarshaller implements Unmarshaller<Repository, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("repositoryArn", targetDepth)) {
-                    context.nextToken();
-                    repository.setRepositoryArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    repository.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    repository.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryUri", targetDepth)) {
-                    context.nextToken();
-                    repository.setRepositoryUri(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("repositoryArn".equals(fieldName)) {
+                        context.nextToken();
+                        repository.setRepositoryArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("registryId".equals(fieldName)) {
+                        context.nextToken();
+                        repository.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryName".equals(fieldName)) {
+                        context.nextToken();
+                        repository.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryUri".equals(fieldName)) {
+                        context.nextToken();
+                        repository.setRepositoryUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
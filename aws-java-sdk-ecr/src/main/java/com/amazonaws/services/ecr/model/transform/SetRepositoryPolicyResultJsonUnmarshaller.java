@@ -47,17 +47,18 @@ public class SetRepositoryPolicyResultJsonUnmarshaller implements Unmarshaller<S
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    setRepositoryPolicyResult.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    setRepositoryPolicyResult.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyText", targetDepth)) {
-                    context.nextToken();
-                    setRepositoryPolicyResult.setPolicyText(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("registryId".equals(fieldName)) {
+                        context.nextToken();
+                        setRepositoryPolicyResult.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryName".equals(fieldName)) {
+                        context.nextToken();
+                        setRepositoryPolicyResult.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyText".equals(fieldName)) {
+                        context.nextToken();
+                        setRepositoryPolicyResult.setPolicyText(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class UploadLayerPartResultJsonUnmarshaller implements Unmarshaller<Uploa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registryId", targetDepth)) {
-                    context.nextToken();
-                    uploadLayerPartResult.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("repositoryName", targetDepth)) {
-                    context.nextToken();
-                    uploadLayerPartResult.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("uploadId", targetDepth)) {
-                    context.nextToken();
-                    uploadLayerPartResult.setUploadId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastByteReceived", targetDepth)) {
-                    context.nextToken();
-                    uploadLayerPartResult.setLastByteReceived(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("registryId".equals(fieldName)) {
+                        context.nextToken();
+                        uploadLayerPartResult.setRegistryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("repositoryName".equals(fieldName)) {
+                        context.nextToken();
+                        uploadLayerPartResult.setRepositoryName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("uploadId".equals(fieldName)) {
+                        context.nextToken();
+                        uploadLayerPartResult.setUploadId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastByteReceived".equals(fieldName)) {
+                        context.nextToken();
+                        uploadLayerPartResult.setLastByteReceived(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
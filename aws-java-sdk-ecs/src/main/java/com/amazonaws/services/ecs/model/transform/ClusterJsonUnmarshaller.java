@@ -47,33 +47,30 @@ public class ClusterJsonUnmarshaller implements Unmarshaller<Cluster, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clusterArn", targetDepth)) {
-                    context.nextToken();
-                    cluster.setClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("clusterName", targetDepth)) {
-                    context.nextToken();
-                    cluster.setClusterName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    cluster.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("registeredContainerInstancesCount", targetDepth)) {
-                    context.nextToken();
-                    cluster.setRegisteredContainerInstancesCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("runningTasksCount", targetDepth)) {
-                    context.nextToken();
-                    cluster.setRunningTasksCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("pendingTasksCount", targetDepth)) {
-                    context.nextToken();
-                    cluster.setPendingTasksCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("activeServicesCount", targetDepth)) {
-                    context.nextToken();
-                    cluster.setActiveServicesCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("clusterArn".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("clusterName".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setClusterName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("registeredContainerInstancesCount".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setRegisteredContainerInstancesCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("runningTasksCount".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setRunningTasksCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("pendingTasksCount".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setPendingTasksCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("activeServicesCount".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setActiveServicesCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
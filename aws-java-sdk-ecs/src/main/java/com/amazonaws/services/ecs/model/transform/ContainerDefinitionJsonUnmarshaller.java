@@ -47,110 +47,87 @@ public class ContainerDefinitionJsonUnmarshaller implements Unmarshaller<Contain
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("image", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setImage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cpu", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setCpu(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("memory", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setMemory(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("memoryReservation", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setMemoryReservation(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("links", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setLinks(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("portMappings", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setPortMappings(new ListUnmarshaller<PortMapping>(PortMappingJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("essential", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setEssential(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("entryPoint", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setEntryPoint(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("command", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setCommand(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("environment", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setEnvironment(new ListUnmarshaller<KeyValuePair>(KeyValuePairJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("mountPoints", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setMountPoints(new ListUnmarshaller<MountPoint>(MountPointJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("volumesFrom", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setVolumesFrom(new ListUnmarshaller<VolumeFrom>(VolumeFromJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("hostname", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setHostname(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("user", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setUser(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("workingDirectory", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setWorkingDirectory(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("disableNetworking", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setDisableNetworking(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("privileged", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setPrivileged(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("readonlyRootFilesystem", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setReadonlyRootFilesystem(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("dnsServers", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setDnsServers(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("dnsSearchDomains", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setDnsSearchDomains(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("extraHosts", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setExtraHosts(new ListUnmarshaller<HostEntry>(HostEntryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("dockerSecurityOptions", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setDockerSecurityOptions(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("dockerLabels", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setDockerLabels(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("ulimits", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setUlimits(new ListUnmarshaller<Ulimit>(UlimitJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("logConfiguration", targetDepth)) {
-                    context.nextToken();
-                    containerDefinition.setLogConfiguration(LogConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("image".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setImage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cpu".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setCpu(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("memory".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setMemory(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("memoryReservation".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setMemoryReservation(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("links".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setLinks(linksUnmarshaller.unmarshall(context));
+                    } else if ("portMappings".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setPortMappings(portMappingsUnmarshaller.unmarshall(context));
+                    } else if ("essential".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setEssential(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("entryPoint".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setEntryPoint(entryPointUnmarshaller.unmarshall(context));
+                    } else if ("command".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setCommand(commandUnmarshaller.unmarshall(context));
+                    } else if ("environment".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setEnvironment(environmentUnmarshaller.unmarshall(context));
+                    } else if ("mountPoints".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setMountPoints(mountPointsUnmarshaller.unmarshall(context));
+                    } else if ("volumesFrom".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setVolumesFrom(volumesFromUnmarshaller.unmarshall(context));
+                    } else if ("hostname".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setHostname(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("user".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setUser(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("workingDirectory".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setWorkingDirectory(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("disableNetworking".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setDisableNetworking(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("privileged".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setPrivileged(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("readonlyRootFilesystem".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setReadonlyRootFilesystem(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("dnsServers".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setDnsServers(dnsServersUnmarshaller.unmarshall(context));
+                    } else if ("dnsSearchDomains".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setDnsSearchDomains(dnsSearchDomainsUnmarshaller.unmarshall(context));
+                    } else if ("extraHosts".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setExtraHosts(extraHostsUnmarshaller.unmarshall(context));
+                    } else if ("dockerSecurityOptions".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setDockerSecurityOptions(dockerSecurityOptionsUnmarshaller.unmarshall(context));
+                    } else if ("dockerLabels".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setDockerLabels(dockerLabelsUnmarshaller.unmarshall(context));
+                    } else if ("ulimits".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setUlimits(ulimitsUnmarshaller.unmarshall(context));
+                    } else if ("logConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        containerDefinition.setLogConfiguration(LogConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -164,6 +141,85 @@ public class ContainerDefinitionJsonUnmarshaller implements Unmarshaller<Contain
         return containerDefinition;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> linksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<PortMapping>, JsonUnmarshallerContext> portMappingsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PortMapping>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PortMapping>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PortMapping>(PortMappingJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> entryPointUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> commandUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<KeyValuePair>, JsonUnmarshallerContext> environmentUnmarshaller = new CachingJsonUnmarshaller<java.util.List<KeyValuePair>>() {
+        @Override
+        protected Unmarshaller<java.util.List<KeyValuePair>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<KeyValuePair>(KeyValuePairJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<MountPoint>, JsonUnmarshallerContext> mountPointsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<MountPoint>>() {
+        @Override
+        protected Unmarshaller<java.util.List<MountPoint>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<MountPoint>(MountPointJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<VolumeFrom>, JsonUnmarshallerContext> volumesFromUnmarshaller = new CachingJsonUnmarshaller<java.util.List<VolumeFrom>>() {
+        @Override
+        protected Unmarshaller<java.util.List<VolumeFrom>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<VolumeFrom>(VolumeFromJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> dnsServersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> dnsSearchDomainsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<HostEntry>, JsonUnmarshallerContext> extraHostsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<HostEntry>>() {
+        @Override
+        protected Unmarshaller<java.util.List<HostEntry>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<HostEntry>(HostEntryJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> dockerSecurityOptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> dockerLabelsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<Ulimit>, JsonUnmarshallerContext> ulimitsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Ulimit>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Ulimit>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Ulimit>(UlimitJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ContainerDefinitionJsonUnmarshaller instance;
 
     public static ContainerDefinitionJsonUnmarshaller getInstance() {
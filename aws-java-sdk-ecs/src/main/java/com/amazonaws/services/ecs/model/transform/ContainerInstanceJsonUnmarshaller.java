@@ -47,49 +47,42 @@ public class ContainerInstanceJsonUnmarshaller implements Unmarshaller<Container
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setContainerInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ec2InstanceId", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setEc2InstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("versionInfo", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setVersionInfo(VersionInfoJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("remainingResources", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setRemainingResources(new ListUnmarshaller<Resource>(ResourceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("registeredResources", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setRegisteredResources(new ListUnmarshaller<Resource>(ResourceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentConnected", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setAgentConnected(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("runningTasksCount", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setRunningTasksCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("pendingTasksCount", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setPendingTasksCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("agentUpdateStatus", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setAgentUpdateStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("attributes", targetDepth)) {
-                    context.nextToken();
-                    containerInstance.setAttributes(new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("containerInstanceArn".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setContainerInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ec2InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setEc2InstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("versionInfo".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setVersionInfo(VersionInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("remainingResources".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setRemainingResources(remainingResourcesUnmarshaller.unmarshall(context));
+                    } else if ("registeredResources".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setRegisteredResources(registeredResourcesUnmarshaller.unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("agentConnected".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setAgentConnected(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("runningTasksCount".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setRunningTasksCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("pendingTasksCount".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setPendingTasksCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("agentUpdateStatus".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setAgentUpdateStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("attributes".equals(fieldName)) {
+                        context.nextToken();
+                        containerInstance.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -103,6 +96,25 @@ public class ContainerInstanceJsonUnmarshaller implements Unmarshaller<Container
         return containerInstance;
     }
 
+    private final Unmarshaller<java.util.List<Resource>, JsonUnmarshallerContext> remainingResourcesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Resource>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Resource>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Resource>(ResourceJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Resource>, JsonUnmarshallerContext> registeredResourcesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Resource>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Resource>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Resource>(ResourceJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Attribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ContainerInstanceJsonUnmarshaller instance;
 
     public static ContainerInstanceJsonUnmarshaller getInstance() {
@@ -47,33 +47,30 @@ public class ContainerJsonUnmarshaller implements Unmarshaller<Container, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerArn", targetDepth)) {
-                    context.nextToken();
-                    container.setContainerArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskArn", targetDepth)) {
-                    context.nextToken();
-                    container.setTaskArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    container.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lastStatus", targetDepth)) {
-                    context.nextToken();
-                    container.setLastStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("exitCode", targetDepth)) {
-                    context.nextToken();
-                    container.setExitCode(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("reason", targetDepth)) {
-                    context.nextToken();
-                    container.setReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("networkBindings", targetDepth)) {
-                    context.nextToken();
-                    container.setNetworkBindings(new ListUnmarshaller<NetworkBinding>(NetworkBindingJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("containerArn".equals(fieldName)) {
+                        context.nextToken();
+                        container.setContainerArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskArn".equals(fieldName)) {
+                        context.nextToken();
+                        container.setTaskArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        container.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lastStatus".equals(fieldName)) {
+                        context.nextToken();
+                        container.setLastStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("exitCode".equals(fieldName)) {
+                        context.nextToken();
+                        container.setExitCode(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("reason".equals(fieldName)) {
+                        context.nextToken();
+                        container.setReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("networkBindings".equals(fieldName)) {
+                        context.nextToken();
+                        container.setNetworkBindings(networkBindingsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -87,6 +84,13 @@ public class ContainerJsonUnmarshaller implements Unmarshaller<Container, JsonUn
         return container;
     }
 
+    private final Unmarshaller<java.util.List<NetworkBinding>, JsonUnmarshallerContext> networkBindingsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<NetworkBinding>>() {
+        @Override
+        protected Unmarshaller<java.util.List<NetworkBinding>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<NetworkBinding>(NetworkBindingJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ContainerJsonUnmarshaller instance;
 
     public static ContainerJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class ContainerOverrideJsonUnmarshaller implements Unmarshaller<Container
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    containerOverride.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("command", targetDepth)) {
-                    context.nextToken();
-                    containerOverride.setCommand(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("environment", targetDepth)) {
-                    context.nextToken();
-                    containerOverride.setEnvironment(new ListUnmarshaller<KeyValuePair>(KeyValuePairJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        containerOverride.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("command".equals(fieldName)) {
+                        context.nextToken();
+                        containerOverride.setCommand(commandUnmarshaller.unmarshall(context));
+                    } else if ("environment".equals(fieldName)) {
+                        context.nextToken();
+                        containerOverride.setEnvironment(environmentUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,19 @@ public class ContainerOverrideJsonUnmarshaller implements Unmarshaller<Container
         return containerOverride;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> commandUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<KeyValuePair>, JsonUnmarshallerContext> environmentUnmarshaller = new CachingJsonUnmarshaller<java.util.List<KeyValuePair>>() {
+        @Override
+        protected Unmarshaller<java.util.List<KeyValuePair>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<KeyValuePair>(KeyValuePairJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ContainerOverrideJsonUnmarshaller instance;
 
     public static ContainerOverrideJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class CreateClusterResultJsonUnmarshaller implements Unmarshaller<CreateC
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cluster", targetDepth)) {
-                    context.nextToken();
-                    createClusterResult.setCluster(ClusterJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("cluster".equals(fieldName)) {
+                        context.nextToken();
+                        createClusterResult.setCluster(ClusterJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class DeploymentConfigurationJsonUnmarshaller implements Unmarshaller<Dep
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("maximumPercent", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfiguration.setMaximumPercent(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("minimumHealthyPercent", targetDepth)) {
-                    context.nextToken();
-                    deploymentConfiguration.setMinimumHealthyPercent(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("maximumPercent".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentConfiguration.setMaximumPercent(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("minimumHealthyPercent".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentConfiguration.setMinimumHealthyPercent(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
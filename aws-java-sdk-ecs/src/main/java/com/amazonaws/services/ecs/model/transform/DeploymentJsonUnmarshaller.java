@@ -47,37 +47,33 @@ public class DeploymentJsonUnmarshaller implements Unmarshaller<Deployment, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    deployment.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    deployment.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskDefinition", targetDepth)) {
-                    context.nextToken();
-                    deployment.setTaskDefinition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("desiredCount", targetDepth)) {
-                    context.nextToken();
-                    deployment.setDesiredCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("pendingCount", targetDepth)) {
-                    context.nextToken();
-                    deployment.setPendingCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("runningCount", targetDepth)) {
-                    context.nextToken();
-                    deployment.setRunningCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("updatedAt", targetDepth)) {
-                    context.nextToken();
-                    deployment.setUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskDefinition".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setTaskDefinition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("desiredCount".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setDesiredCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("pendingCount".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setPendingCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("runningCount".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setRunningCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("updatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DeregisterTaskDefinitionResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskDefinition", targetDepth)) {
-                    context.nextToken();
-                    deregisterTaskDefinitionResult.setTaskDefinition(TaskDefinitionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("taskDefinition".equals(fieldName)) {
+                        context.nextToken();
+                        deregisterTaskDefinitionResult.setTaskDefinition(TaskDefinitionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
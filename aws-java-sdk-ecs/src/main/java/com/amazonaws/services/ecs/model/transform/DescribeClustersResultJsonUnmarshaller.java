@@ -47,13 +47,15 @@ public class DescribeClustersResultJsonUnmarshaller implements Unmarshaller<Desc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clusters", targetDepth)) {
-                    context.nextToken();
-                    describeClustersResult.setClusters(new ListUnmarshaller<Cluster>(ClusterJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    describeClustersResult.setFailures(new ListUnmarshaller<Failure>(FailureJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("clusters".equals(fieldName)) {
+                        context.nextToken();
+                        describeClustersResult.setClusters(clustersUnmarshaller.unmarshall(context));
+                    } else if ("failures".equals(fieldName)) {
+                        context.nextToken();
+                        describeClustersResult.setFailures(failuresUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,19 @@ public class DescribeClustersResultJsonUnmarshaller implements Unmarshaller<Desc
         return describeClustersResult;
     }
 
+    private final Unmarshaller<java.util.List<Cluster>, JsonUnmarshallerContext> clustersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Cluster>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Cluster>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Cluster>(ClusterJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Failure>, JsonUnmarshallerContext> failuresUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Failure>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Failure>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Failure>(FailureJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeClustersResultJsonUnmarshaller instance;
 
     public static DescribeClustersResultJsonUnmarshaller getInstance() {
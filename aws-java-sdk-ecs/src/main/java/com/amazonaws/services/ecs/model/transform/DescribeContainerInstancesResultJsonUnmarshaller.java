@@ -47,14 +47,15 @@ public class DescribeContainerInstancesResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerInstances", targetDepth)) {
-                    context.nextToken();
-                    describeContainerInstancesResult.setContainerInstances(new ListUnmarshaller<ContainerInstance>(ContainerInstanceJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    describeContainerInstancesResult.setFailures(new ListUnmarshaller<Failure>(FailureJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("containerInstances".equals(fieldName)) {
+                        context.nextToken();
+                        describeContainerInstancesResult.setContainerInstances(containerInstancesUnmarshaller.unmarshall(context));
+                    } else if ("failures".equals(fieldName)) {
+                        context.nextToken();
+                        describeContainerInstancesResult.setFailures(failuresUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,19 @@ public class DescribeContainerInstancesResultJsonUnmarshaller implements Unmarsh
         return describeContainerInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<ContainerInstance>, JsonUnmarshallerContext> containerInstancesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ContainerInstance>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ContainerInstance>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ContainerInstance>(ContainerInstanceJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Failure>, JsonUnmarshallerContext> failuresUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Failure>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Failure>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Failure>(FailureJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeContainerInstancesResultJsonUnmarshaller instance;
 
     public static DescribeContainerInstancesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DescribeServicesResultJsonUnmarshaller implements Unmarshaller<Desc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("services", targetDepth)) {
-                    context.nextToken();
-                    describeServicesResult.setServices(new ListUnmarshaller<Service>(ServiceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    describeServicesResult.setFailures(new ListUnmarshaller<Failure>(FailureJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("services".equals(fieldName)) {
+                        context.nextToken();
+                        describeServicesResult.setServices(servicesUnmarshaller.unmarshall(context));
+                    } else if ("failures".equals(fieldName)) {
+                        context.nextToken();
+                        describeServicesResult.setFailures(failuresUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,19 @@ public class DescribeServicesResultJsonUnmarshaller implements Unmarshaller<Desc
         return describeServicesResult;
     }
 
+    private final Unmarshaller<java.util.List<Service>, JsonUnmarshallerContext> servicesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Service>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Service>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Service>(ServiceJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Failure>, JsonUnmarshallerContext> failuresUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Failure>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Failure>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Failure>(FailureJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeServicesResultJsonUnmarshaller instance;
 
     public static DescribeServicesResultJsonUnmarshaller getInstance() {
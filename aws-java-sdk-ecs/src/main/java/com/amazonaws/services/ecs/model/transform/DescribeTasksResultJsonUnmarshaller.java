@@ -47,13 +47,15 @@ public class DescribeTasksResultJsonUnmarshaller implements Unmarshaller<Describ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tasks", targetDepth)) {
-                    context.nextToken();
-                    describeTasksResult.setTasks(new ListUnmarshaller<Task>(TaskJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    describeTasksResult.setFailures(new ListUnmarshaller<Failure>(FailureJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("tasks".equals(fieldName)) {
+                        context.nextToken();
+                        describeTasksResult.setTasks(tasksUnmarshaller.unmarshall(context));
+                    } else if ("failures".equals(fieldName)) {
+                        context.nextToken();
+                        describeTasksResult.setFailures(failuresUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,19 @@ public class DescribeTasksResultJsonUnmarshaller implements Unmarshaller<Describ
         return describeTasksResult;
     }
 
+    private final Unmarshaller<java.util.List<Task>, JsonUnmarshallerContext> tasksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Task>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Task>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Task>(TaskJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Failure>, JsonUnmarshallerContext> failuresUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Failure>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Failure>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Failure>(FailureJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTasksResultJsonUnmarshaller instance;
 
     public static DescribeTasksResultJsonUnmarshaller getInstance() {
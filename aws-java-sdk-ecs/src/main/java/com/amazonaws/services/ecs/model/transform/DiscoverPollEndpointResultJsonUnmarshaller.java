@@ -47,13 +47,15 @@ public class DiscoverPollEndpointResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("endpoint", targetDepth)) {
-                    context.nextToken();
-                    discoverPollEndpointResult.setEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("telemetryEndpoint", targetDepth)) {
-                    context.nextToken();
-                    discoverPollEndpointResult.setTelemetryEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("endpoint".equals(fieldName)) {
+                        context.nextToken();
+                        discoverPollEndpointResult.setEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("telemetryEndpoint".equals(fieldName)) {
+                        context.nextToken();
+                        discoverPollEndpointResult.setTelemetryEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class FailureJsonUnmarshaller implements Unmarshaller<Failure, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    failure.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("reason", targetDepth)) {
-                    context.nextToken();
-                    failure.setReason(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        failure.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("reason".equals(fieldName)) {
+                        context.nextToken();
+                        failure.setReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class HostEntryJsonUnmarshaller implements Unmarshaller<HostEntry, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("hostname", targetDepth)) {
-                    context.nextToken();
-                    hostEntry.setHostname(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ipAddress", targetDepth)) {
-                    context.nextToken();
-                    hostEntry.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("hostname".equals(fieldName)) {
+                        context.nextToken();
+                        hostEntry.setHostname(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ipAddress".equals(fieldName)) {
+                        context.nextToken();
+                        hostEntry.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class HostVolumePropertiesJsonUnmarshaller implements Unmarshaller<HostVo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("sourcePath", targetDepth)) {
-                    context.nextToken();
-                    hostVolumeProperties.setSourcePath(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("sourcePath".equals(fieldName)) {
+                        context.nextToken();
+                        hostVolumeProperties.setSourcePath(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ListClustersResultJsonUnmarshaller implements Unmarshaller<ListClus
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("clusterArns", targetDepth)) {
-                    context.nextToken();
-                    listClustersResult.setClusterArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listClustersResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("clusterArns".equals(fieldName)) {
+                        context.nextToken();
+                        listClustersResult.setClusterArns(clusterArnsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listClustersResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListClustersResultJsonUnmarshaller implements Unmarshaller<ListClus
         return listClustersResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> clusterArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListClustersResultJsonUnmarshaller instance;
 
     public static ListClustersResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListContainerInstancesResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerInstanceArns", targetDepth)) {
-                    context.nextToken();
-                    listContainerInstancesResult.setContainerInstanceArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listContainerInstancesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("containerInstanceArns".equals(fieldName)) {
+                        context.nextToken();
+                        listContainerInstancesResult.setContainerInstanceArns(containerInstanceArnsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listContainerInstancesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListContainerInstancesResultJsonUnmarshaller implements Unmarshalle
         return listContainerInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> containerInstanceArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListContainerInstancesResultJsonUnmarshaller instance;
 
     public static ListContainerInstancesResultJsonUnmarshaller getInstance() {
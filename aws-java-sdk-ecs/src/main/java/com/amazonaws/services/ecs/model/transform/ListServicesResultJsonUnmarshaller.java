@@ -47,13 +47,15 @@ public class ListServicesResultJsonUnmarshaller implements Unmarshaller<ListServ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("serviceArns", targetDepth)) {
-                    context.nextToken();
-                    listServicesResult.setServiceArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listServicesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("serviceArns".equals(fieldName)) {
+                        context.nextToken();
+                        listServicesResult.setServiceArns(serviceArnsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listServicesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListServicesResultJsonUnmarshaller implements Unmarshaller<ListServ
         return listServicesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> serviceArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListServicesResultJsonUnmarshaller instance;
 
     public static ListServicesResultJsonUnmarshaller getInstance() {
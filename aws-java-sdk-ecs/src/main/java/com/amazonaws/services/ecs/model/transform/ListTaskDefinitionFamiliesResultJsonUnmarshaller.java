@@ -47,13 +47,15 @@ public class ListTaskDefinitionFamiliesResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("families", targetDepth)) {
-                    context.nextToken();
-                    listTaskDefinitionFamiliesResult.setFamilies(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listTaskDefinitionFamiliesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("families".equals(fieldName)) {
+                        context.nextToken();
+                        listTaskDefinitionFamiliesResult.setFamilies(familiesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listTaskDefinitionFamiliesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTaskDefinitionFamiliesResultJsonUnmarshaller implements Unmarsh
         return listTaskDefinitionFamiliesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> familiesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListTaskDefinitionFamiliesResultJsonUnmarshaller instance;
 
     public static ListTaskDefinitionFamiliesResultJsonUnmarshaller getInstance() {
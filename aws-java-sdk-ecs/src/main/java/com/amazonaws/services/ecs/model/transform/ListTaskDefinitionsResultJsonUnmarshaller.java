@@ -47,13 +47,15 @@ public class ListTaskDefinitionsResultJsonUnmarshaller implements Unmarshaller<L
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskDefinitionArns", targetDepth)) {
-                    context.nextToken();
-                    listTaskDefinitionsResult.setTaskDefinitionArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listTaskDefinitionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("taskDefinitionArns".equals(fieldName)) {
+                        context.nextToken();
+                        listTaskDefinitionsResult.setTaskDefinitionArns(taskDefinitionArnsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listTaskDefinitionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTaskDefinitionsResultJsonUnmarshaller implements Unmarshaller<L
         return listTaskDefinitionsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> taskDefinitionArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListTaskDefinitionsResultJsonUnmarshaller instance;
 
     public static ListTaskDefinitionsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListTasksResultJsonUnmarshaller implements Unmarshaller<ListTasksRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskArns", targetDepth)) {
-                    context.nextToken();
-                    listTasksResult.setTaskArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listTasksResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("taskArns".equals(fieldName)) {
+                        context.nextToken();
+                        listTasksResult.setTaskArns(taskArnsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listTasksResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTasksResultJsonUnmarshaller implements Unmarshaller<ListTasksRe
         return listTasksResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> taskArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListTasksResultJsonUnmarshaller instance;
 
     public static ListTasksResultJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class LoadBalancerJsonUnmarshaller implements Unmarshaller<LoadBalancer,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("targetGroupArn", targetDepth)) {
-                    context.nextToken();
-                    loadBalancer.setTargetGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("loadBalancerName", targetDepth)) {
-                    context.nextToken();
-                    loadBalancer.setLoadBalancerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerName", targetDepth)) {
-                    context.nextToken();
-                    loadBalancer.setContainerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerPort", targetDepth)) {
-                    context.nextToken();
-                    loadBalancer.setContainerPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("targetGroupArn".equals(fieldName)) {
+                        context.nextToken();
+                        loadBalancer.setTargetGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("loadBalancerName".equals(fieldName)) {
+                        context.nextToken();
+                        loadBalancer.setLoadBalancerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("containerName".equals(fieldName)) {
+                        context.nextToken();
+                        loadBalancer.setContainerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("containerPort".equals(fieldName)) {
+                        context.nextToken();
+                        loadBalancer.setContainerPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class LogConfigurationJsonUnmarshaller implements Unmarshaller<LogConfigu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logDriver", targetDepth)) {
-                    context.nextToken();
-                    logConfiguration.setLogDriver(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("options", targetDepth)) {
-                    context.nextToken();
-                    logConfiguration.setOptions(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("logDriver".equals(fieldName)) {
+                        context.nextToken();
+                        logConfiguration.setLogDriver(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("options".equals(fieldName)) {
+                        context.nextToken();
+                        logConfiguration.setOptions(optionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class LogConfigurationJsonUnmarshaller implements Unmarshaller<LogConfigu
         return logConfiguration;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> optionsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static LogConfigurationJsonUnmarshaller instance;
 
     public static LogConfigurationJsonUnmarshaller getInstance() {
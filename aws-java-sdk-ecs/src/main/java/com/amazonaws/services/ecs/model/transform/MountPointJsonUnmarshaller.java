@@ -47,17 +47,18 @@ public class MountPointJsonUnmarshaller implements Unmarshaller<MountPoint, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("sourceVolume", targetDepth)) {
-                    context.nextToken();
-                    mountPoint.setSourceVolume(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerPath", targetDepth)) {
-                    context.nextToken();
-                    mountPoint.setContainerPath(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("readOnly", targetDepth)) {
-                    context.nextToken();
-                    mountPoint.setReadOnly(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("sourceVolume".equals(fieldName)) {
+                        context.nextToken();
+                        mountPoint.setSourceVolume(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("containerPath".equals(fieldName)) {
+                        context.nextToken();
+                        mountPoint.setContainerPath(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("readOnly".equals(fieldName)) {
+                        context.nextToken();
+                        mountPoint.setReadOnly(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class NetworkBindingJsonUnmarshaller implements Unmarshaller<NetworkBindi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("bindIP", targetDepth)) {
-                    context.nextToken();
-                    networkBinding.setBindIP(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerPort", targetDepth)) {
-                    context.nextToken();
-                    networkBinding.setContainerPort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("hostPort", targetDepth)) {
-                    context.nextToken();
-                    networkBinding.setHostPort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("protocol", targetDepth)) {
-                    context.nextToken();
-                    networkBinding.setProtocol(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("bindIP".equals(fieldName)) {
+                        context.nextToken();
+                        networkBinding.setBindIP(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("containerPort".equals(fieldName)) {
+                        context.nextToken();
+                        networkBinding.setContainerPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("hostPort".equals(fieldName)) {
+                        context.nextToken();
+                        networkBinding.setHostPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("protocol".equals(fieldName)) {
+                        context.nextToken();
+                        networkBinding.setProtocol(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
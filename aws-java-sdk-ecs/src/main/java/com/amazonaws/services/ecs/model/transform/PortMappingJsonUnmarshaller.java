@@ -47,17 +47,18 @@ public class PortMappingJsonUnmarshaller implements Unmarshaller<PortMapping, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerPort", targetDepth)) {
-                    context.nextToken();
-                    portMapping.setContainerPort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("hostPort", targetDepth)) {
-                    context.nextToken();
-                    portMapping.setHostPort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("protocol", targetDepth)) {
-                    context.nextToken();
-                    portMapping.setProtocol(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("containerPort".equals(fieldName)) {
+                        context.nextToken();
+                        portMapping.setContainerPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("hostPort".equals(fieldName)) {
+                        context.nextToken();
+                        portMapping.setHostPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("protocol".equals(fieldName)) {
+                        context.nextToken();
+                        portMapping.setProtocol(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class RegisterContainerInstanceResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerInstance", targetDepth)) {
-                    context.nextToken();
-                    registerContainerInstanceResult.setContainerInstance(ContainerInstanceJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("containerInstance".equals(fieldName)) {
+                        context.nextToken();
+                        registerContainerInstanceResult.setContainerInstance(ContainerInstanceJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
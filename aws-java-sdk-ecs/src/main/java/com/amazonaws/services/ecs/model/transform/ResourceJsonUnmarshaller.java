@@ -47,29 +47,27 @@ public class ResourceJsonUnmarshaller implements Unmarshaller<Resource, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    resource.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    resource.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("doubleValue", targetDepth)) {
-                    context.nextToken();
-                    resource.setDoubleValue(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("longValue", targetDepth)) {
-                    context.nextToken();
-                    resource.setLongValue(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("integerValue", targetDepth)) {
-                    context.nextToken();
-                    resource.setIntegerValue(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("stringSetValue", targetDepth)) {
-                    context.nextToken();
-                    resource.setStringSetValue(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        resource.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        resource.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("doubleValue".equals(fieldName)) {
+                        context.nextToken();
+                        resource.setDoubleValue(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("longValue".equals(fieldName)) {
+                        context.nextToken();
+                        resource.setLongValue(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("integerValue".equals(fieldName)) {
+                        context.nextToken();
+                        resource.setIntegerValue(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("stringSetValue".equals(fieldName)) {
+                        context.nextToken();
+                        resource.setStringSetValue(stringSetValueUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -83,6 +81,13 @@ public class ResourceJsonUnmarshaller implements Unmarshaller<Resource, JsonUnma
         return resource;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> stringSetValueUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ResourceJsonUnmarshaller instance;
 
     public static ResourceJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class ServiceEventJsonUnmarshaller implements Unmarshaller<ServiceEvent,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    serviceEvent.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    serviceEvent.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    serviceEvent.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        serviceEvent.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        serviceEvent.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        serviceEvent.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
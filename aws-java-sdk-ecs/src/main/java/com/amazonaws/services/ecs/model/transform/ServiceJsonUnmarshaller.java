@@ -47,61 +47,51 @@ public class ServiceJsonUnmarshaller implements Unmarshaller<Service, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("serviceArn", targetDepth)) {
-                    context.nextToken();
-                    service.setServiceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("serviceName", targetDepth)) {
-                    context.nextToken();
-                    service.setServiceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("clusterArn", targetDepth)) {
-                    context.nextToken();
-                    service.setClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("loadBalancers", targetDepth)) {
-                    context.nextToken();
-                    service.setLoadBalancers(new ListUnmarshaller<LoadBalancer>(LoadBalancerJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    service.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("desiredCount", targetDepth)) {
-                    context.nextToken();
-                    service.setDesiredCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("runningCount", targetDepth)) {
-                    context.nextToken();
-                    service.setRunningCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("pendingCount", targetDepth)) {
-                    context.nextToken();
-                    service.setPendingCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("taskDefinition", targetDepth)) {
-                    context.nextToken();
-                    service.setTaskDefinition(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deploymentConfiguration", targetDepth)) {
-                    context.nextToken();
-                    service.setDeploymentConfiguration(DeploymentConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("deployments", targetDepth)) {
-                    context.nextToken();
-                    service.setDeployments(new ListUnmarshaller<Deployment>(DeploymentJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    service.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    service.setEvents(new ListUnmarshaller<ServiceEvent>(ServiceEventJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    service.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("serviceArn".equals(fieldName)) {
+                        context.nextToken();
+                        service.setServiceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("serviceName".equals(fieldName)) {
+                        context.nextToken();
+                        service.setServiceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("clusterArn".equals(fieldName)) {
+                        context.nextToken();
+                        service.setClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("loadBalancers".equals(fieldName)) {
+                        context.nextToken();
+                        service.setLoadBalancers(loadBalancersUnmarshaller.unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        service.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("desiredCount".equals(fieldName)) {
+                        context.nextToken();
+                        service.setDesiredCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("runningCount".equals(fieldName)) {
+                        context.nextToken();
+                        service.setRunningCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("pendingCount".equals(fieldName)) {
+                        context.nextToken();
+                        service.setPendingCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("taskDefinition".equals(fieldName)) {
+                        context.nextToken();
+                        service.setTaskDefinition(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deploymentConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        service.setDeploymentConfiguration(DeploymentConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("deployments".equals(fieldName)) {
+                        context.nextToken();
+                        service.setDeployments(deploymentsUnmarshaller.unmarshall(context));
+                    } else if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        service.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("events".equals(fieldName)) {
+                        context.nextToken();
+                        service.setEvents(eventsUnmarshaller.unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        service.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -115,6 +105,25 @@ public class ServiceJsonUnmarshaller implements Unmarshaller<Service, JsonUnmars
         return service;
     }
 
+    private final Unmarshaller<java.util.List<LoadBalancer>, JsonUnmarshallerContext> loadBalancersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<LoadBalancer>>() {
+        @Override
+        protected Unmarshaller<java.util.List<LoadBalancer>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<LoadBalancer>(LoadBalancerJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Deployment>, JsonUnmarshallerContext> deploymentsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Deployment>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Deployment>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Deployment>(DeploymentJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ServiceEvent>, JsonUnmarshallerContext> eventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ServiceEvent>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ServiceEvent>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ServiceEvent>(ServiceEventJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ServiceJsonUnmarshaller instance;
 
     public static ServiceJsonUnmarshaller getInstance() {
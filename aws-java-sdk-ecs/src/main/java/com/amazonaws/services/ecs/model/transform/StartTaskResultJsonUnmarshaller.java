@@ -47,13 +47,15 @@ public class StartTaskResultJsonUnmarshaller implements Unmarshaller<StartTaskRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tasks", targetDepth)) {
-                    context.nextToken();
-                    startTaskResult.setTasks(new ListUnmarshaller<Task>(TaskJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failures", targetDepth)) {
-                    context.nextToken();
-                    startTaskResult.setFailures(new ListUnmarshaller<Failure>(FailureJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("tasks".equals(fieldName)) {
+                        context.nextToken();
+                        startTaskResult.setTasks(tasksUnmarshaller.unmarshall(context));
+                    } else if ("failures".equals(fieldName)) {
+                        context.nextToken();
+                        startTaskResult.setFailures(failuresUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,19 @@ public class StartTaskResultJsonUnmarshaller implements Unmarshaller<StartTaskRe
         return startTaskResult;
     }
 
+    private final Unmarshaller<java.util.List<Task>, JsonUnmarshallerContext> tasksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Task>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Task>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Task>(TaskJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Failure>, JsonUnmarshallerContext> failuresUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Failure>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Failure>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Failure>(FailureJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static StartTaskResultJsonUnmarshaller instance;
 
     public static StartTaskResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class StopTaskResultJsonUnmarshaller implements Unmarshaller<StopTaskResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("task", targetDepth)) {
-                    context.nextToken();
-                    stopTaskResult.setTask(TaskJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("task".equals(fieldName)) {
+                        context.nextToken();
+                        stopTaskResult.setTask(TaskJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class SubmitTaskStateChangeResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("acknowledgment", targetDepth)) {
-                    context.nextToken();
-                    submitTaskStateChangeResult.setAcknowledgment(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("acknowledgment".equals(fieldName)) {
+                        context.nextToken();
+                        submitTaskStateChangeResult.setAcknowledgment(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
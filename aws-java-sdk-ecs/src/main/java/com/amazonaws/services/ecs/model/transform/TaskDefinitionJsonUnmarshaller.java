@@ -47,42 +47,36 @@ public class TaskDefinitionJsonUnmarshaller implements Unmarshaller<TaskDefiniti
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskDefinitionArn", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setTaskDefinitionArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerDefinitions", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setContainerDefinitions(new ListUnmarshaller<ContainerDefinition>(ContainerDefinitionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("family", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setFamily(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskRoleArn", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setTaskRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("networkMode", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setNetworkMode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("revision", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setRevision(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("volumes", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setVolumes(new ListUnmarshaller<Volume>(VolumeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("requiresAttributes", targetDepth)) {
-                    context.nextToken();
-                    taskDefinition.setRequiresAttributes(new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("taskDefinitionArn".equals(fieldName)) {
+                        context.nextToken();
+                        taskDefinition.setTaskDefinitionArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("containerDefinitions".equals(fieldName)) {
+                        context.nextToken();
+                        taskDefinition.setContainerDefinitions(containerDefinitionsUnmarshaller.unmarshall(context));
+                    } else if ("family".equals(fieldName)) {
+                        context.nextToken();
+                        taskDefinition.setFamily(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskRoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        taskDefinition.setTaskRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("networkMode".equals(fieldName)) {
+                        context.nextToken();
+                        taskDefinition.setNetworkMode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("revision".equals(fieldName)) {
+                        context.nextToken();
+                        taskDefinition.setRevision(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("volumes".equals(fieldName)) {
+                        context.nextToken();
+                        taskDefinition.setVolumes(volumesUnmarshaller.unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        taskDefinition.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("requiresAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        taskDefinition.setRequiresAttributes(requiresAttributesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -96,6 +90,25 @@ public class TaskDefinitionJsonUnmarshaller implements Unmarshaller<TaskDefiniti
         return taskDefinition;
     }
 
+    private final Unmarshaller<java.util.List<ContainerDefinition>, JsonUnmarshallerContext> containerDefinitionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ContainerDefinition>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ContainerDefinition>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ContainerDefinition>(ContainerDefinitionJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Volume>, JsonUnmarshallerContext> volumesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Volume>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Volume>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Volume>(VolumeJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> requiresAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Attribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static TaskDefinitionJsonUnmarshaller instance;
 
     public static TaskDefinitionJsonUnmarshaller getInstance() {
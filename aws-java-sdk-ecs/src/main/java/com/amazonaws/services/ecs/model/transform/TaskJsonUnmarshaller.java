@@ -47,57 +47,48 @@ public class TaskJsonUnmarshaller implements Unmarshaller<Task, JsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskArn", targetDepth)) {
-                    context.nextToken();
-                    task.setTaskArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("clusterArn", targetDepth)) {
-                    context.nextToken();
-                    task.setClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskDefinitionArn", targetDepth)) {
-                    context.nextToken();
-                    task.setTaskDefinitionArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("containerInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    task.setContainerInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("overrides", targetDepth)) {
-                    context.nextToken();
-                    task.setOverrides(TaskOverrideJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("lastStatus", targetDepth)) {
-                    context.nextToken();
-                    task.setLastStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("desiredStatus", targetDepth)) {
-                    context.nextToken();
-                    task.setDesiredStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("containers", targetDepth)) {
-                    context.nextToken();
-                    task.setContainers(new ListUnmarshaller<Container>(ContainerJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("startedBy", targetDepth)) {
-                    context.nextToken();
-                    task.setStartedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stoppedReason", targetDepth)) {
-                    context.nextToken();
-                    task.setStoppedReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    task.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("startedAt", targetDepth)) {
-                    context.nextToken();
-                    task.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stoppedAt", targetDepth)) {
-                    context.nextToken();
-                    task.setStoppedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("taskArn".equals(fieldName)) {
+                        context.nextToken();
+                        task.setTaskArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("clusterArn".equals(fieldName)) {
+                        context.nextToken();
+                        task.setClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskDefinitionArn".equals(fieldName)) {
+                        context.nextToken();
+                        task.setTaskDefinitionArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("containerInstanceArn".equals(fieldName)) {
+                        context.nextToken();
+                        task.setContainerInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("overrides".equals(fieldName)) {
+                        context.nextToken();
+                        task.setOverrides(TaskOverrideJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("lastStatus".equals(fieldName)) {
+                        context.nextToken();
+                        task.setLastStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("desiredStatus".equals(fieldName)) {
+                        context.nextToken();
+                        task.setDesiredStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("containers".equals(fieldName)) {
+                        context.nextToken();
+                        task.setContainers(containersUnmarshaller.unmarshall(context));
+                    } else if ("startedBy".equals(fieldName)) {
+                        context.nextToken();
+                        task.setStartedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stoppedReason".equals(fieldName)) {
+                        context.nextToken();
+                        task.setStoppedReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        task.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("startedAt".equals(fieldName)) {
+                        context.nextToken();
+                        task.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("stoppedAt".equals(fieldName)) {
+                        context.nextToken();
+                        task.setStoppedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -111,6 +102,13 @@ public class TaskJsonUnmarshaller implements Unmarshaller<Task, JsonUnmarshaller
         return task;
     }
 
+    private final Unmarshaller<java.util.List<Container>, JsonUnmarshallerContext> containersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Container>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Container>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Container>(ContainerJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static TaskJsonUnmarshaller instance;
 
     public static TaskJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class TaskOverrideJsonUnmarshaller implements Unmarshaller<TaskOverride,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("containerOverrides", targetDepth)) {
-                    context.nextToken();
-                    taskOverride.setContainerOverrides(new ListUnmarshaller<ContainerOverride>(ContainerOverrideJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("taskRoleArn", targetDepth)) {
-                    context.nextToken();
-                    taskOverride.setTaskRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("containerOverrides".equals(fieldName)) {
+                        context.nextToken();
+                        taskOverride.setContainerOverrides(containerOverridesUnmarshaller.unmarshall(context));
+                    } else if ("taskRoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        taskOverride.setTaskRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class TaskOverrideJsonUnmarshaller implements Unmarshaller<TaskOverride,
         return taskOverride;
     }
 
+    private final Unmarshaller<java.util.List<ContainerOverride>, JsonUnmarshallerContext> containerOverridesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ContainerOverride>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ContainerOverride>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ContainerOverride>(ContainerOverrideJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static TaskOverrideJsonUnmarshaller instance;
 
     public static TaskOverrideJsonUnmarshaller getInstance() {
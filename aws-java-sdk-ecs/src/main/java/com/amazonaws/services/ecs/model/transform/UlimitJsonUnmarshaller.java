@@ -47,17 +47,18 @@ public class UlimitJsonUnmarshaller implements Unmarshaller<Ulimit, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    ulimit.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("softLimit", targetDepth)) {
-                    context.nextToken();
-                    ulimit.setSoftLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("hardLimit", targetDepth)) {
-                    context.nextToken();
-                    ulimit.setHardLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        ulimit.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("softLimit".equals(fieldName)) {
+                        context.nextToken();
+                        ulimit.setSoftLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("hardLimit".equals(fieldName)) {
+                        context.nextToken();
+                        ulimit.setHardLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class UpdateServiceResultJsonUnmarshaller implements Unmarshaller<UpdateS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("service", targetDepth)) {
-                    context.nextToken();
-                    updateServiceResult.setService(ServiceJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("service".equals(fieldName)) {
+                        context.nextToken();
+                        updateServiceResult.setService(ServiceJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
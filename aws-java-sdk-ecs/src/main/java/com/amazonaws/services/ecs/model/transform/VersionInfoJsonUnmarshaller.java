@@ -47,17 +47,18 @@ public class VersionInfoJsonUnmarshaller implements Unmarshaller<VersionInfo, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentVersion", targetDepth)) {
-                    context.nextToken();
-                    versionInfo.setAgentVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentHash", targetDepth)) {
-                    context.nextToken();
-                    versionInfo.setAgentHash(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("dockerVersion", targetDepth)) {
-                    context.nextToken();
-                    versionInfo.setDockerVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentVersion".equals(fieldName)) {
+                        context.nextToken();
+                        versionInfo.setAgentVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("agentHash".equals(fieldName)) {
+                        context.nextToken();
+                        versionInfo.setAgentHash(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("dockerVersion".equals(fieldName)) {
+                        context.nextToken();
+                        versionInfo.setDockerVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class VolumeFromJsonUnmarshaller implements Unmarshaller<VolumeFrom, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("sourceContainer", targetDepth)) {
-                    context.nextToken();
-                    volumeFrom.setSourceContainer(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("readOnly", targetDepth)) {
-                    context.nextToken();
-                    volumeFrom.setReadOnly(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("sourceContainer".equals(fieldName)) {
+                        context.nextToken();
+                        volumeFrom.setSourceContainer(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("readOnly".equals(fieldName)) {
+                        context.nextToken();
+                        volumeFrom.setReadOnly(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class VolumeJsonUnmarshaller implements Unmarshaller<Volume, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    volume.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("host", targetDepth)) {
-                    context.nextToken();
-                    volume.setHost(HostVolumePropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("host".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setHost(HostVolumePropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
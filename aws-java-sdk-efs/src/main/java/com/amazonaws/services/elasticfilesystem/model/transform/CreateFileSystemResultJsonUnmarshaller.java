@@ -47,41 +47,36 @@ public class CreateFileSystemResultJsonUnmarshaller implements Unmarshaller<Crea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OwnerId", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setOwnerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationToken", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setCreationToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSystemId", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setFileSystemId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LifeCycleState", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setLifeCycleState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfMountTargets", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setNumberOfMountTargets(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setSizeInBytes(FileSystemSizeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("PerformanceMode", targetDepth)) {
-                    context.nextToken();
-                    createFileSystemResult.setPerformanceMode(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OwnerId".equals(fieldName)) {
+                        context.nextToken();
+                        createFileSystemResult.setOwnerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationToken".equals(fieldName)) {
+                        context.nextToken();
+                        createFileSystemResult.setCreationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FileSystemId".equals(fieldName)) {
+                        context.nextToken();
+                        createFileSystemResult.setFileSystemId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationTime".equals(fieldName)) {
+                        context.nextToken();
+                        createFileSystemResult.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LifeCycleState".equals(fieldName)) {
+                        context.nextToken();
+                        createFileSystemResult.setLifeCycleState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        createFileSystemResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NumberOfMountTargets".equals(fieldName)) {
+                        context.nextToken();
+                        createFileSystemResult.setNumberOfMountTargets(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("SizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        createFileSystemResult.setSizeInBytes(FileSystemSizeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("PerformanceMode".equals(fieldName)) {
+                        context.nextToken();
+                        createFileSystemResult.setPerformanceMode(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
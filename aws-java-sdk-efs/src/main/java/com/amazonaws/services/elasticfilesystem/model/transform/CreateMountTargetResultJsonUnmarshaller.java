@@ -47,33 +47,30 @@ public class CreateMountTargetResultJsonUnmarshaller implements Unmarshaller<Cre
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OwnerId", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setOwnerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MountTargetId", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setMountTargetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSystemId", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setFileSystemId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LifeCycleState", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setLifeCycleState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IpAddress", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NetworkInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    createMountTargetResult.setNetworkInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OwnerId".equals(fieldName)) {
+                        context.nextToken();
+                        createMountTargetResult.setOwnerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MountTargetId".equals(fieldName)) {
+                        context.nextToken();
+                        createMountTargetResult.setMountTargetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FileSystemId".equals(fieldName)) {
+                        context.nextToken();
+                        createMountTargetResult.setFileSystemId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetId".equals(fieldName)) {
+                        context.nextToken();
+                        createMountTargetResult.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LifeCycleState".equals(fieldName)) {
+                        context.nextToken();
+                        createMountTargetResult.setLifeCycleState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IpAddress".equals(fieldName)) {
+                        context.nextToken();
+                        createMountTargetResult.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NetworkInterfaceId".equals(fieldName)) {
+                        context.nextToken();
+                        createMountTargetResult.setNetworkInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
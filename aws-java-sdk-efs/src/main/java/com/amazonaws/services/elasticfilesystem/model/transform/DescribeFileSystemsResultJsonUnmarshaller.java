@@ -47,18 +47,18 @@ public class DescribeFileSystemsResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeFileSystemsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSystems", targetDepth)) {
-                    context.nextToken();
-                    describeFileSystemsResult.setFileSystems(new ListUnmarshaller<FileSystemDescription>(FileSystemDescriptionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    describeFileSystemsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeFileSystemsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FileSystems".equals(fieldName)) {
+                        context.nextToken();
+                        describeFileSystemsResult.setFileSystems(fileSystemsUnmarshaller.unmarshall(context));
+                    } else if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        describeFileSystemsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class DescribeFileSystemsResultJsonUnmarshaller implements Unmarshaller<D
         return describeFileSystemsResult;
     }
 
+    private final Unmarshaller<java.util.List<FileSystemDescription>, JsonUnmarshallerContext> fileSystemsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<FileSystemDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<FileSystemDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<FileSystemDescription>(FileSystemDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeFileSystemsResultJsonUnmarshaller instance;
 
     public static DescribeFileSystemsResultJsonUnmarshaller getInstance() {
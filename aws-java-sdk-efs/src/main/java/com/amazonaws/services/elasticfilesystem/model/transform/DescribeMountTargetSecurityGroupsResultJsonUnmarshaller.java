@@ -47,10 +47,12 @@ public class DescribeMountTargetSecurityGroupsResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SecurityGroups", targetDepth)) {
-                    context.nextToken();
-                    describeMountTargetSecurityGroupsResult.setSecurityGroups(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SecurityGroups".equals(fieldName)) {
+                        context.nextToken();
+                        describeMountTargetSecurityGroupsResult.setSecurityGroups(securityGroupsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeMountTargetSecurityGroupsResultJsonUnmarshaller implements
         return describeMountTargetSecurityGroupsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> securityGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeMountTargetSecurityGroupsResultJsonUnmarshaller instance;
 
     public static DescribeMountTargetSecurityGroupsResultJsonUnmarshaller getInstance() {
@@ -47,18 +47,18 @@ public class DescribeMountTargetsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeMountTargetsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MountTargets", targetDepth)) {
-                    context.nextToken();
-                    describeMountTargetsResult.setMountTargets(new ListUnmarshaller<MountTargetDescription>(MountTargetDescriptionJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    describeMountTargetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeMountTargetsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MountTargets".equals(fieldName)) {
+                        context.nextToken();
+                        describeMountTargetsResult.setMountTargets(mountTargetsUnmarshaller.unmarshall(context));
+                    } else if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        describeMountTargetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class DescribeMountTargetsResultJsonUnmarshaller implements Unmarshaller<
         return describeMountTargetsResult;
     }
 
+    private final Unmarshaller<java.util.List<MountTargetDescription>, JsonUnmarshallerContext> mountTargetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<MountTargetDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<MountTargetDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<MountTargetDescription>(MountTargetDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeMountTargetsResultJsonUnmarshaller instance;
 
     public static DescribeMountTargetsResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class DescribeTagsResultJsonUnmarshaller implements Unmarshaller<Describe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeTagsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    describeTagsResult.setTags(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    describeTagsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeTagsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Tags".equals(fieldName)) {
+                        context.nextToken();
+                        describeTagsResult.setTags(tagsUnmarshaller.unmarshall(context));
+                    } else if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        describeTagsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class DescribeTagsResultJsonUnmarshaller implements Unmarshaller<Describe
         return describeTagsResult;
     }
 
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTagsResultJsonUnmarshaller instance;
 
     public static DescribeTagsResultJsonUnmarshaller getInstance() {
@@ -47,41 +47,36 @@ public class FileSystemDescriptionJsonUnmarshaller implements Unmarshaller<FileS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OwnerId", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setOwnerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationToken", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setCreationToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSystemId", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setFileSystemId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LifeCycleState", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setLifeCycleState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfMountTargets", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setNumberOfMountTargets(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setSizeInBytes(FileSystemSizeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("PerformanceMode", targetDepth)) {
-                    context.nextToken();
-                    fileSystemDescription.setPerformanceMode(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OwnerId".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemDescription.setOwnerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationToken".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemDescription.setCreationToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FileSystemId".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemDescription.setFileSystemId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationTime".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemDescription.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LifeCycleState".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemDescription.setLifeCycleState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NumberOfMountTargets".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemDescription.setNumberOfMountTargets(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("SizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemDescription.setSizeInBytes(FileSystemSizeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("PerformanceMode".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemDescription.setPerformanceMode(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
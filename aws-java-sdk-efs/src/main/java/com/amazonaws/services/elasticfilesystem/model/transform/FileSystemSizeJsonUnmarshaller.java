@@ -47,13 +47,15 @@ public class FileSystemSizeJsonUnmarshaller implements Unmarshaller<FileSystemSi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    fileSystemSize.setValue(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Timestamp", targetDepth)) {
-                    context.nextToken();
-                    fileSystemSize.setTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemSize.setValue(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Timestamp".equals(fieldName)) {
+                        context.nextToken();
+                        fileSystemSize.setTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class MountTargetDescriptionJsonUnmarshaller implements Unmarshaller<Moun
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OwnerId", targetDepth)) {
-                    context.nextToken();
-                    mountTargetDescription.setOwnerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MountTargetId", targetDepth)) {
-                    context.nextToken();
-                    mountTargetDescription.setMountTargetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSystemId", targetDepth)) {
-                    context.nextToken();
-                    mountTargetDescription.setFileSystemId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    mountTargetDescription.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LifeCycleState", targetDepth)) {
-                    context.nextToken();
-                    mountTargetDescription.setLifeCycleState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IpAddress", targetDepth)) {
-                    context.nextToken();
-                    mountTargetDescription.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NetworkInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    mountTargetDescription.setNetworkInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OwnerId".equals(fieldName)) {
+                        context.nextToken();
+                        mountTargetDescription.setOwnerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MountTargetId".equals(fieldName)) {
+                        context.nextToken();
+                        mountTargetDescription.setMountTargetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FileSystemId".equals(fieldName)) {
+                        context.nextToken();
+                        mountTargetDescription.setFileSystemId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetId".equals(fieldName)) {
+                        context.nextToken();
+                        mountTargetDescription.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LifeCycleState".equals(fieldName)) {
+                        context.nextToken();
+                        mountTargetDescription.setLifeCycleState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IpAddress".equals(fieldName)) {
+                        context.nextToken();
+                        mountTargetDescription.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NetworkInterfaceId".equals(fieldName)) {
+                        context.nextToken();
+                        mountTargetDescription.setNetworkInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
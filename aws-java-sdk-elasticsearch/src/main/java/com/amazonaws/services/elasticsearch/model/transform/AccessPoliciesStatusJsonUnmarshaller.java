@@ -47,13 +47,15 @@ public class AccessPoliciesStatusJsonUnmarshaller implements Unmarshaller<Access
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Options", targetDepth)) {
-                    context.nextToken();
-                    accessPoliciesStatus.setOptions(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    accessPoliciesStatus.setStatus(OptionStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Options".equals(fieldName)) {
+                        context.nextToken();
+                        accessPoliciesStatus.setOptions(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        accessPoliciesStatus.setStatus(OptionStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
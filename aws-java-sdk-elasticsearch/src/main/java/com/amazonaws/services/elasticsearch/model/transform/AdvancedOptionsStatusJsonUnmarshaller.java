@@ -47,14 +47,15 @@ public class AdvancedOptionsStatusJsonUnmarshaller implements Unmarshaller<Advan
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Options", targetDepth)) {
-                    context.nextToken();
-                    advancedOptionsStatus.setOptions(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    advancedOptionsStatus.setStatus(OptionStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Options".equals(fieldName)) {
+                        context.nextToken();
+                        advancedOptionsStatus.setOptions(optionsUnmarshaller.unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        advancedOptionsStatus.setStatus(OptionStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class AdvancedOptionsStatusJsonUnmarshaller implements Unmarshaller<Advan
         return advancedOptionsStatus;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> optionsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AdvancedOptionsStatusJsonUnmarshaller instance;
 
     public static AdvancedOptionsStatusJsonUnmarshaller getInstance() {
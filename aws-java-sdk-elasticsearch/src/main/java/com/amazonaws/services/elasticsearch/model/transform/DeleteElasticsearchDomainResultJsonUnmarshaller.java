@@ -47,9 +47,12 @@ public class DeleteElasticsearchDomainResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainStatus", targetDepth)) {
-                    context.nextToken();
-                    deleteElasticsearchDomainResult.setDomainStatus(ElasticsearchDomainStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainStatus".equals(fieldName)) {
+                        context.nextToken();
+                        deleteElasticsearchDomainResult.setDomainStatus(ElasticsearchDomainStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
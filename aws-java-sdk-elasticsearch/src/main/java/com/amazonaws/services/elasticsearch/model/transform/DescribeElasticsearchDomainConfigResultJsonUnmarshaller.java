@@ -47,9 +47,12 @@ public class DescribeElasticsearchDomainConfigResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainConfig", targetDepth)) {
-                    context.nextToken();
-                    describeElasticsearchDomainConfigResult.setDomainConfig(ElasticsearchDomainConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainConfig".equals(fieldName)) {
+                        context.nextToken();
+                        describeElasticsearchDomainConfigResult.setDomainConfig(ElasticsearchDomainConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
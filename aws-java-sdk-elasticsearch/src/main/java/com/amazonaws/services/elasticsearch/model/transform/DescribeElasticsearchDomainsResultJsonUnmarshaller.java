@@ -47,10 +47,12 @@ public class DescribeElasticsearchDomainsResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainStatusList", targetDepth)) {
-                    context.nextToken();
-                    describeElasticsearchDomainsResult.setDomainStatusList(new ListUnmarshaller<ElasticsearchDomainStatus>(
-                            ElasticsearchDomainStatusJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainStatusList".equals(fieldName)) {
+                        context.nextToken();
+                        describeElasticsearchDomainsResult.setDomainStatusList(domainStatusListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeElasticsearchDomainsResultJsonUnmarshaller implements Unmar
         return describeElasticsearchDomainsResult;
     }
 
+    private final Unmarshaller<java.util.List<ElasticsearchDomainStatus>, JsonUnmarshallerContext> domainStatusListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ElasticsearchDomainStatus>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ElasticsearchDomainStatus>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ElasticsearchDomainStatus>(ElasticsearchDomainStatusJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeElasticsearchDomainsResultJsonUnmarshaller instance;
 
     public static DescribeElasticsearchDomainsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DomainInfoJsonUnmarshaller implements Unmarshaller<DomainInfo, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    domainInfo.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        domainInfo.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
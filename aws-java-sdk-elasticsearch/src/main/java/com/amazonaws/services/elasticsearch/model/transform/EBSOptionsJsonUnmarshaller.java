@@ -47,21 +47,21 @@ public class EBSOptionsJsonUnmarshaller implements Unmarshaller<EBSOptions, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EBSEnabled", targetDepth)) {
-                    context.nextToken();
-                    eBSOptions.setEBSEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    eBSOptions.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSize", targetDepth)) {
-                    context.nextToken();
-                    eBSOptions.setVolumeSize(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    eBSOptions.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EBSEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        eBSOptions.setEBSEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("VolumeType".equals(fieldName)) {
+                        context.nextToken();
+                        eBSOptions.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeSize".equals(fieldName)) {
+                        context.nextToken();
+                        eBSOptions.setVolumeSize(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Iops".equals(fieldName)) {
+                        context.nextToken();
+                        eBSOptions.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
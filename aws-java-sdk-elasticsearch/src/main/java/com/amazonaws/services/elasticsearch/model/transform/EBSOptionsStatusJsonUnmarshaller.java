@@ -47,13 +47,15 @@ public class EBSOptionsStatusJsonUnmarshaller implements Unmarshaller<EBSOptions
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Options", targetDepth)) {
-                    context.nextToken();
-                    eBSOptionsStatus.setOptions(EBSOptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    eBSOptionsStatus.setStatus(OptionStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Options".equals(fieldName)) {
+                        context.nextToken();
+                        eBSOptionsStatus.setOptions(EBSOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        eBSOptionsStatus.setStatus(OptionStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
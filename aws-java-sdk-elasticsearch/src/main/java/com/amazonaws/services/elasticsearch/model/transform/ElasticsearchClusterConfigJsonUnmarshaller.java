@@ -47,29 +47,27 @@ public class ElasticsearchClusterConfigJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DedicatedMasterEnabled", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig.setDedicatedMasterEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ZoneAwarenessEnabled", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig.setZoneAwarenessEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("DedicatedMasterType", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig.setDedicatedMasterType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DedicatedMasterCount", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfig.setDedicatedMasterCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchClusterConfig.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceCount".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchClusterConfig.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("DedicatedMasterEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchClusterConfig.setDedicatedMasterEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("ZoneAwarenessEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchClusterConfig.setZoneAwarenessEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("DedicatedMasterType".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchClusterConfig.setDedicatedMasterType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DedicatedMasterCount".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchClusterConfig.setDedicatedMasterCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
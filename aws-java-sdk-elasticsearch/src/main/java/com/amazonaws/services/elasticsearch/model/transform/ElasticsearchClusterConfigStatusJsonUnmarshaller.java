@@ -47,13 +47,15 @@ public class ElasticsearchClusterConfigStatusJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Options", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfigStatus.setOptions(ElasticsearchClusterConfigJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchClusterConfigStatus.setStatus(OptionStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Options".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchClusterConfigStatus.setOptions(ElasticsearchClusterConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchClusterConfigStatus.setStatus(OptionStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,28 @@ public class ElasticsearchDomainConfigJsonUnmarshaller implements Unmarshaller<E
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ElasticsearchVersion", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig.setElasticsearchVersion(ElasticsearchVersionStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ElasticsearchClusterConfig", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig.setElasticsearchClusterConfig(ElasticsearchClusterConfigStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("EBSOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig.setEBSOptions(EBSOptionsStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AccessPolicies", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig.setAccessPolicies(AccessPoliciesStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SnapshotOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig.setSnapshotOptions(SnapshotOptionsStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AdvancedOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainConfig.setAdvancedOptions(AdvancedOptionsStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ElasticsearchVersion".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainConfig.setElasticsearchVersion(ElasticsearchVersionStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ElasticsearchClusterConfig".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainConfig.setElasticsearchClusterConfig(ElasticsearchClusterConfigStatusJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("EBSOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainConfig.setEBSOptions(EBSOptionsStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("AccessPolicies".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainConfig.setAccessPolicies(AccessPoliciesStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("SnapshotOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainConfig.setSnapshotOptions(SnapshotOptionsStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("AdvancedOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainConfig.setAdvancedOptions(AdvancedOptionsStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
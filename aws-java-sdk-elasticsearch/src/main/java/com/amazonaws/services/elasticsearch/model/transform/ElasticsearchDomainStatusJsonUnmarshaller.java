@@ -47,58 +47,48 @@ public class ElasticsearchDomainStatusJsonUnmarshaller implements Unmarshaller<E
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainId", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setDomainId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Created", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setCreated(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Deleted", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setDeleted(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Endpoint", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Processing", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setProcessing(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ElasticsearchVersion", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setElasticsearchVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ElasticsearchClusterConfig", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setElasticsearchClusterConfig(ElasticsearchClusterConfigJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("EBSOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setEBSOptions(EBSOptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AccessPolicies", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setAccessPolicies(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnapshotOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setSnapshotOptions(SnapshotOptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AdvancedOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDomainStatus.setAdvancedOptions(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainId".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setDomainId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ARN".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Created".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setCreated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Deleted".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setDeleted(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Endpoint".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Processing".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setProcessing(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("ElasticsearchVersion".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setElasticsearchVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ElasticsearchClusterConfig".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setElasticsearchClusterConfig(ElasticsearchClusterConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("EBSOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setEBSOptions(EBSOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("AccessPolicies".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setAccessPolicies(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SnapshotOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setSnapshotOptions(SnapshotOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("AdvancedOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDomainStatus.setAdvancedOptions(advancedOptionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -112,6 +102,13 @@ public class ElasticsearchDomainStatusJsonUnmarshaller implements Unmarshaller<E
         return elasticsearchDomainStatus;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> advancedOptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ElasticsearchDomainStatusJsonUnmarshaller instance;
 
     public static ElasticsearchDomainStatusJsonUnmarshaller getInstance() {
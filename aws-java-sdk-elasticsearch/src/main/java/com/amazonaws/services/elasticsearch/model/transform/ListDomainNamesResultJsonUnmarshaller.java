@@ -47,9 +47,12 @@ public class ListDomainNamesResultJsonUnmarshaller implements Unmarshaller<ListD
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainNames", targetDepth)) {
-                    context.nextToken();
-                    listDomainNamesResult.setDomainNames(new ListUnmarshaller<DomainInfo>(DomainInfoJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainNames".equals(fieldName)) {
+                        context.nextToken();
+                        listDomainNamesResult.setDomainNames(domainNamesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class ListDomainNamesResultJsonUnmarshaller implements Unmarshaller<ListD
         return listDomainNamesResult;
     }
 
+    private final Unmarshaller<java.util.List<DomainInfo>, JsonUnmarshallerContext> domainNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DomainInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DomainInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DomainInfo>(DomainInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListDomainNamesResultJsonUnmarshaller instance;
 
     public static ListDomainNamesResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class ListTagsResultJsonUnmarshaller implements Unmarshaller<ListTagsResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TagList", targetDepth)) {
-                    context.nextToken();
-                    listTagsResult.setTagList(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TagList".equals(fieldName)) {
+                        context.nextToken();
+                        listTagsResult.setTagList(tagListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class ListTagsResultJsonUnmarshaller implements Unmarshaller<ListTagsResu
         return listTagsResult;
     }
 
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListTagsResultJsonUnmarshaller instance;
 
     public static ListTagsResultJsonUnmarshaller getInstance() {
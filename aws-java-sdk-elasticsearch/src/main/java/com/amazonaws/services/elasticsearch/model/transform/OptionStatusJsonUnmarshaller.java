@@ -47,25 +47,24 @@ public class OptionStatusJsonUnmarshaller implements Unmarshaller<OptionStatus,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    optionStatus.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("UpdateDate", targetDepth)) {
-                    context.nextToken();
-                    optionStatus.setUpdateDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("UpdateVersion", targetDepth)) {
-                    context.nextToken();
-                    optionStatus.setUpdateVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    optionStatus.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PendingDeletion", targetDepth)) {
-                    context.nextToken();
-                    optionStatus.setPendingDeletion(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        optionStatus.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("UpdateDate".equals(fieldName)) {
+                        context.nextToken();
+                        optionStatus.setUpdateDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("UpdateVersion".equals(fieldName)) {
+                        context.nextToken();
+                        optionStatus.setUpdateVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        optionStatus.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PendingDeletion".equals(fieldName)) {
+                        context.nextToken();
+                        optionStatus.setPendingDeletion(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
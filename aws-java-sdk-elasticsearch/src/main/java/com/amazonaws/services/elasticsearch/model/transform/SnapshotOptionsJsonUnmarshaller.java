@@ -47,9 +47,12 @@ public class SnapshotOptionsJsonUnmarshaller implements Unmarshaller<SnapshotOpt
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AutomatedSnapshotStartHour", targetDepth)) {
-                    context.nextToken();
-                    snapshotOptions.setAutomatedSnapshotStartHour(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AutomatedSnapshotStartHour".equals(fieldName)) {
+                        context.nextToken();
+                        snapshotOptions.setAutomatedSnapshotStartHour(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
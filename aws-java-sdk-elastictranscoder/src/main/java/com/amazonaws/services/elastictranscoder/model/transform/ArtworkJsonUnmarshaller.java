@@ -47,33 +47,30 @@ public class ArtworkJsonUnmarshaller implements Unmarshaller<Artwork, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InputKey", targetDepth)) {
-                    context.nextToken();
-                    artwork.setInputKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxWidth", targetDepth)) {
-                    context.nextToken();
-                    artwork.setMaxWidth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxHeight", targetDepth)) {
-                    context.nextToken();
-                    artwork.setMaxHeight(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizingPolicy", targetDepth)) {
-                    context.nextToken();
-                    artwork.setSizingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PaddingPolicy", targetDepth)) {
-                    context.nextToken();
-                    artwork.setPaddingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AlbumArtFormat", targetDepth)) {
-                    context.nextToken();
-                    artwork.setAlbumArtFormat(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    artwork.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InputKey".equals(fieldName)) {
+                        context.nextToken();
+                        artwork.setInputKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxWidth".equals(fieldName)) {
+                        context.nextToken();
+                        artwork.setMaxWidth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxHeight".equals(fieldName)) {
+                        context.nextToken();
+                        artwork.setMaxHeight(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizingPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        artwork.setSizingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PaddingPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        artwork.setPaddingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AlbumArtFormat".equals(fieldName)) {
+                        context.nextToken();
+                        artwork.setAlbumArtFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Encryption".equals(fieldName)) {
+                        context.nextToken();
+                        artwork.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
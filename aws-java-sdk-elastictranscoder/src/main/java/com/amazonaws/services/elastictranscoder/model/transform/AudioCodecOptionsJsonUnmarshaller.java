@@ -47,21 +47,21 @@ public class AudioCodecOptionsJsonUnmarshaller implements Unmarshaller<AudioCode
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Profile", targetDepth)) {
-                    context.nextToken();
-                    audioCodecOptions.setProfile(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BitDepth", targetDepth)) {
-                    context.nextToken();
-                    audioCodecOptions.setBitDepth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BitOrder", targetDepth)) {
-                    context.nextToken();
-                    audioCodecOptions.setBitOrder(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Signed", targetDepth)) {
-                    context.nextToken();
-                    audioCodecOptions.setSigned(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Profile".equals(fieldName)) {
+                        context.nextToken();
+                        audioCodecOptions.setProfile(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BitDepth".equals(fieldName)) {
+                        context.nextToken();
+                        audioCodecOptions.setBitDepth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BitOrder".equals(fieldName)) {
+                        context.nextToken();
+                        audioCodecOptions.setBitOrder(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Signed".equals(fieldName)) {
+                        context.nextToken();
+                        audioCodecOptions.setSigned(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
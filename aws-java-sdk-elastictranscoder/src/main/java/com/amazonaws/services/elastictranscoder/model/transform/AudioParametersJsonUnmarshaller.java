@@ -47,29 +47,27 @@ public class AudioParametersJsonUnmarshaller implements Unmarshaller<AudioParame
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Codec", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setCodec(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SampleRate", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setSampleRate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BitRate", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setBitRate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Channels", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setChannels(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AudioPackingMode", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setAudioPackingMode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodecOptions", targetDepth)) {
-                    context.nextToken();
-                    audioParameters.setCodecOptions(AudioCodecOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Codec".equals(fieldName)) {
+                        context.nextToken();
+                        audioParameters.setCodec(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SampleRate".equals(fieldName)) {
+                        context.nextToken();
+                        audioParameters.setSampleRate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BitRate".equals(fieldName)) {
+                        context.nextToken();
+                        audioParameters.setBitRate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Channels".equals(fieldName)) {
+                        context.nextToken();
+                        audioParameters.setChannels(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AudioPackingMode".equals(fieldName)) {
+                        context.nextToken();
+                        audioParameters.setAudioPackingMode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CodecOptions".equals(fieldName)) {
+                        context.nextToken();
+                        audioParameters.setCodecOptions(AudioCodecOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class CaptionFormatJsonUnmarshaller implements Unmarshaller<CaptionFormat
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    captionFormat.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Pattern", targetDepth)) {
-                    context.nextToken();
-                    captionFormat.setPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    captionFormat.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Format".equals(fieldName)) {
+                        context.nextToken();
+                        captionFormat.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Pattern".equals(fieldName)) {
+                        context.nextToken();
+                        captionFormat.setPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Encryption".equals(fieldName)) {
+                        context.nextToken();
+                        captionFormat.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
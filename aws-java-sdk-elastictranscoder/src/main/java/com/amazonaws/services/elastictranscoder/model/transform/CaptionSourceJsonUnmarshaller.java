@@ -47,25 +47,24 @@ public class CaptionSourceJsonUnmarshaller implements Unmarshaller<CaptionSource
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    captionSource.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Language", targetDepth)) {
-                    context.nextToken();
-                    captionSource.setLanguage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TimeOffset", targetDepth)) {
-                    context.nextToken();
-                    captionSource.setTimeOffset(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Label", targetDepth)) {
-                    context.nextToken();
-                    captionSource.setLabel(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    captionSource.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        captionSource.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Language".equals(fieldName)) {
+                        context.nextToken();
+                        captionSource.setLanguage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TimeOffset".equals(fieldName)) {
+                        context.nextToken();
+                        captionSource.setTimeOffset(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Label".equals(fieldName)) {
+                        context.nextToken();
+                        captionSource.setLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Encryption".equals(fieldName)) {
+                        context.nextToken();
+                        captionSource.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class CaptionsJsonUnmarshaller implements Unmarshaller<Captions, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MergePolicy", targetDepth)) {
-                    context.nextToken();
-                    captions.setMergePolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CaptionSources", targetDepth)) {
-                    context.nextToken();
-                    captions.setCaptionSources(new ListUnmarshaller<CaptionSource>(CaptionSourceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("CaptionFormats", targetDepth)) {
-                    context.nextToken();
-                    captions.setCaptionFormats(new ListUnmarshaller<CaptionFormat>(CaptionFormatJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MergePolicy".equals(fieldName)) {
+                        context.nextToken();
+                        captions.setMergePolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CaptionSources".equals(fieldName)) {
+                        context.nextToken();
+                        captions.setCaptionSources(captionSourcesUnmarshaller.unmarshall(context));
+                    } else if ("CaptionFormats".equals(fieldName)) {
+                        context.nextToken();
+                        captions.setCaptionFormats(captionFormatsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,19 @@ public class CaptionsJsonUnmarshaller implements Unmarshaller<Captions, JsonUnma
         return captions;
     }
 
+    private final Unmarshaller<java.util.List<CaptionSource>, JsonUnmarshallerContext> captionSourcesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CaptionSource>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CaptionSource>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CaptionSource>(CaptionSourceJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<CaptionFormat>, JsonUnmarshallerContext> captionFormatsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CaptionFormat>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CaptionFormat>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CaptionFormat>(CaptionFormatJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static CaptionsJsonUnmarshaller instance;
 
     public static CaptionsJsonUnmarshaller getInstance() {
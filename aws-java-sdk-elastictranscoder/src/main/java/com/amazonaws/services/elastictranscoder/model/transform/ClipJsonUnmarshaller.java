@@ -47,9 +47,12 @@ public class ClipJsonUnmarshaller implements Unmarshaller<Clip, JsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TimeSpan", targetDepth)) {
-                    context.nextToken();
-                    clip.setTimeSpan(TimeSpanJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TimeSpan".equals(fieldName)) {
+                        context.nextToken();
+                        clip.setTimeSpan(TimeSpanJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,49 +47,42 @@ public class CreateJobOutputJsonUnmarshaller implements Unmarshaller<CreateJobOu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ThumbnailPattern", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setThumbnailPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ThumbnailEncryption", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setThumbnailEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Rotate", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setRotate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PresetId", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setPresetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SegmentDuration", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setSegmentDuration(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Watermarks", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setWatermarks(new ListUnmarshaller<JobWatermark>(JobWatermarkJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("AlbumArt", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setAlbumArt(JobAlbumArtJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Composition", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setComposition(new ListUnmarshaller<Clip>(ClipJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Captions", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setCaptions(CaptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    createJobOutput.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ThumbnailPattern".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setThumbnailPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ThumbnailEncryption".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setThumbnailEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Rotate".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setRotate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PresetId".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setPresetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SegmentDuration".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setSegmentDuration(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Watermarks".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setWatermarks(watermarksUnmarshaller.unmarshall(context));
+                    } else if ("AlbumArt".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setAlbumArt(JobAlbumArtJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Composition".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setComposition(compositionUnmarshaller.unmarshall(context));
+                    } else if ("Captions".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setCaptions(CaptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Encryption".equals(fieldName)) {
+                        context.nextToken();
+                        createJobOutput.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -103,6 +96,19 @@ public class CreateJobOutputJsonUnmarshaller implements Unmarshaller<CreateJobOu
         return createJobOutput;
     }
 
+    private final Unmarshaller<java.util.List<JobWatermark>, JsonUnmarshallerContext> watermarksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<JobWatermark>>() {
+        @Override
+        protected Unmarshaller<java.util.List<JobWatermark>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<JobWatermark>(JobWatermarkJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Clip>, JsonUnmarshallerContext> compositionUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Clip>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Clip>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Clip>(ClipJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static CreateJobOutputJsonUnmarshaller instance;
 
     public static CreateJobOutputJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class CreateJobPlaylistJsonUnmarshaller implements Unmarshaller<CreateJob
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    createJobPlaylist.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    createJobPlaylist.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputKeys", targetDepth)) {
-                    context.nextToken();
-                    createJobPlaylist.setOutputKeys(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("HlsContentProtection", targetDepth)) {
-                    context.nextToken();
-                    createJobPlaylist.setHlsContentProtection(HlsContentProtectionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("PlayReadyDrm", targetDepth)) {
-                    context.nextToken();
-                    createJobPlaylist.setPlayReadyDrm(PlayReadyDrmJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        createJobPlaylist.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Format".equals(fieldName)) {
+                        context.nextToken();
+                        createJobPlaylist.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputKeys".equals(fieldName)) {
+                        context.nextToken();
+                        createJobPlaylist.setOutputKeys(outputKeysUnmarshaller.unmarshall(context));
+                    } else if ("HlsContentProtection".equals(fieldName)) {
+                        context.nextToken();
+                        createJobPlaylist.setHlsContentProtection(HlsContentProtectionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("PlayReadyDrm".equals(fieldName)) {
+                        context.nextToken();
+                        createJobPlaylist.setPlayReadyDrm(PlayReadyDrmJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class CreateJobPlaylistJsonUnmarshaller implements Unmarshaller<CreateJob
         return createJobPlaylist;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> outputKeysUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CreateJobPlaylistJsonUnmarshaller instance;
 
     public static CreateJobPlaylistJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class CreateJobResultJsonUnmarshaller implements Unmarshaller<CreateJobRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Job", targetDepth)) {
-                    context.nextToken();
-                    createJobResult.setJob(JobJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Job".equals(fieldName)) {
+                        context.nextToken();
+                        createJobResult.setJob(JobJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
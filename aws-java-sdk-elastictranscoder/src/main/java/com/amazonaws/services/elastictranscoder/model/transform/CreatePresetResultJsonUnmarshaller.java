@@ -47,13 +47,15 @@ public class CreatePresetResultJsonUnmarshaller implements Unmarshaller<CreatePr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Preset", targetDepth)) {
-                    context.nextToken();
-                    createPresetResult.setPreset(PresetJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Warning", targetDepth)) {
-                    context.nextToken();
-                    createPresetResult.setWarning(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Preset".equals(fieldName)) {
+                        context.nextToken();
+                        createPresetResult.setPreset(PresetJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Warning".equals(fieldName)) {
+                        context.nextToken();
+                        createPresetResult.setWarning(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
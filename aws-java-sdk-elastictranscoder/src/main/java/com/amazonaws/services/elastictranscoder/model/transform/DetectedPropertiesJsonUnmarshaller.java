@@ -47,25 +47,24 @@ public class DetectedPropertiesJsonUnmarshaller implements Unmarshaller<Detected
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Width", targetDepth)) {
-                    context.nextToken();
-                    detectedProperties.setWidth(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Height", targetDepth)) {
-                    context.nextToken();
-                    detectedProperties.setHeight(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("FrameRate", targetDepth)) {
-                    context.nextToken();
-                    detectedProperties.setFrameRate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSize", targetDepth)) {
-                    context.nextToken();
-                    detectedProperties.setFileSize(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("DurationMillis", targetDepth)) {
-                    context.nextToken();
-                    detectedProperties.setDurationMillis(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Width".equals(fieldName)) {
+                        context.nextToken();
+                        detectedProperties.setWidth(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Height".equals(fieldName)) {
+                        context.nextToken();
+                        detectedProperties.setHeight(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("FrameRate".equals(fieldName)) {
+                        context.nextToken();
+                        detectedProperties.setFrameRate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FileSize".equals(fieldName)) {
+                        context.nextToken();
+                        detectedProperties.setFileSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("DurationMillis".equals(fieldName)) {
+                        context.nextToken();
+                        detectedProperties.setDurationMillis(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class EncryptionJsonUnmarshaller implements Unmarshaller<Encryption, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Mode", targetDepth)) {
-                    context.nextToken();
-                    encryption.setMode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    encryption.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyMd5", targetDepth)) {
-                    context.nextToken();
-                    encryption.setKeyMd5(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InitializationVector", targetDepth)) {
-                    context.nextToken();
-                    encryption.setInitializationVector(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Mode".equals(fieldName)) {
+                        context.nextToken();
+                        encryption.setMode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        encryption.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyMd5".equals(fieldName)) {
+                        context.nextToken();
+                        encryption.setKeyMd5(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InitializationVector".equals(fieldName)) {
+                        context.nextToken();
+                        encryption.setInitializationVector(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
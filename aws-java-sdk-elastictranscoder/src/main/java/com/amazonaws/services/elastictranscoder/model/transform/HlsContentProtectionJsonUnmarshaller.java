@@ -47,29 +47,27 @@ public class HlsContentProtectionJsonUnmarshaller implements Unmarshaller<HlsCon
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Method", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setMethod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyMd5", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setKeyMd5(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InitializationVector", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setInitializationVector(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LicenseAcquisitionUrl", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setLicenseAcquisitionUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyStoragePolicy", targetDepth)) {
-                    context.nextToken();
-                    hlsContentProtection.setKeyStoragePolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Method".equals(fieldName)) {
+                        context.nextToken();
+                        hlsContentProtection.setMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        hlsContentProtection.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyMd5".equals(fieldName)) {
+                        context.nextToken();
+                        hlsContentProtection.setKeyMd5(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InitializationVector".equals(fieldName)) {
+                        context.nextToken();
+                        hlsContentProtection.setInitializationVector(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LicenseAcquisitionUrl".equals(fieldName)) {
+                        context.nextToken();
+                        hlsContentProtection.setLicenseAcquisitionUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyStoragePolicy".equals(fieldName)) {
+                        context.nextToken();
+                        hlsContentProtection.setKeyStoragePolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
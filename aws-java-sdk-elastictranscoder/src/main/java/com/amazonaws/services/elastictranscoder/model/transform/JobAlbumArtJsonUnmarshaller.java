@@ -47,13 +47,15 @@ public class JobAlbumArtJsonUnmarshaller implements Unmarshaller<JobAlbumArt, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MergePolicy", targetDepth)) {
-                    context.nextToken();
-                    jobAlbumArt.setMergePolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Artwork", targetDepth)) {
-                    context.nextToken();
-                    jobAlbumArt.setArtwork(new ListUnmarshaller<Artwork>(ArtworkJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MergePolicy".equals(fieldName)) {
+                        context.nextToken();
+                        jobAlbumArt.setMergePolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Artwork".equals(fieldName)) {
+                        context.nextToken();
+                        jobAlbumArt.setArtwork(artworkUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class JobAlbumArtJsonUnmarshaller implements Unmarshaller<JobAlbumArt, Js
         return jobAlbumArt;
     }
 
+    private final Unmarshaller<java.util.List<Artwork>, JsonUnmarshallerContext> artworkUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Artwork>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Artwork>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Artwork>(ArtworkJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static JobAlbumArtJsonUnmarshaller instance;
 
     public static JobAlbumArtJsonUnmarshaller getInstance() {
@@ -47,37 +47,33 @@ public class JobInputJsonUnmarshaller implements Unmarshaller<JobInput, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FrameRate", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setFrameRate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Resolution", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setResolution(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AspectRatio", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setAspectRatio(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Interlaced", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setInterlaced(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Container", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setContainer(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DetectedProperties", targetDepth)) {
-                    context.nextToken();
-                    jobInput.setDetectedProperties(DetectedPropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        jobInput.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FrameRate".equals(fieldName)) {
+                        context.nextToken();
+                        jobInput.setFrameRate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Resolution".equals(fieldName)) {
+                        context.nextToken();
+                        jobInput.setResolution(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AspectRatio".equals(fieldName)) {
+                        context.nextToken();
+                        jobInput.setAspectRatio(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Interlaced".equals(fieldName)) {
+                        context.nextToken();
+                        jobInput.setInterlaced(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Container".equals(fieldName)) {
+                        context.nextToken();
+                        jobInput.setContainer(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Encryption".equals(fieldName)) {
+                        context.nextToken();
+                        jobInput.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("DetectedProperties".equals(fieldName)) {
+                        context.nextToken();
+                        jobInput.setDetectedProperties(DetectedPropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,50 +47,42 @@ public class JobJsonUnmarshaller implements Unmarshaller<Job, JsonUnmarshallerCo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    job.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    job.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PipelineId", targetDepth)) {
-                    context.nextToken();
-                    job.setPipelineId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Input", targetDepth)) {
-                    context.nextToken();
-                    job.setInput(JobInputJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Output", targetDepth)) {
-                    context.nextToken();
-                    job.setOutput(JobOutputJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Outputs", targetDepth)) {
-                    context.nextToken();
-                    job.setOutputs(new ListUnmarshaller<JobOutput>(JobOutputJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("OutputKeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    job.setOutputKeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Playlists", targetDepth)) {
-                    context.nextToken();
-                    job.setPlaylists(new ListUnmarshaller<Playlist>(PlaylistJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    job.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserMetadata", targetDepth)) {
-                    context.nextToken();
-                    job.setUserMetadata(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Timing", targetDepth)) {
-                    context.nextToken();
-                    job.setTiming(TimingJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        job.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        job.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PipelineId".equals(fieldName)) {
+                        context.nextToken();
+                        job.setPipelineId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Input".equals(fieldName)) {
+                        context.nextToken();
+                        job.setInput(JobInputJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Output".equals(fieldName)) {
+                        context.nextToken();
+                        job.setOutput(JobOutputJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Outputs".equals(fieldName)) {
+                        context.nextToken();
+                        job.setOutputs(outputsUnmarshaller.unmarshall(context));
+                    } else if ("OutputKeyPrefix".equals(fieldName)) {
+                        context.nextToken();
+                        job.setOutputKeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Playlists".equals(fieldName)) {
+                        context.nextToken();
+                        job.setPlaylists(playlistsUnmarshaller.unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        job.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        job.setUserMetadata(userMetadataUnmarshaller.unmarshall(context));
+                    } else if ("Timing".equals(fieldName)) {
+                        context.nextToken();
+                        job.setTiming(TimingJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -104,6 +96,25 @@ public class JobJsonUnmarshaller implements Unmarshaller<Job, JsonUnmarshallerCo
         return job;
     }
 
+    private final Unmarshaller<java.util.List<JobOutput>, JsonUnmarshallerContext> outputsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<JobOutput>>() {
+        @Override
+        protected Unmarshaller<java.util.List<JobOutput>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<JobOutput>(JobOutputJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Playlist>, JsonUnmarshallerContext> playlistsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Playlist>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Playlist>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Playlist>(PlaylistJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> userMetadataUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static JobJsonUnmarshaller instance;
 
     public static JobJsonUnmarshaller getInstance() {
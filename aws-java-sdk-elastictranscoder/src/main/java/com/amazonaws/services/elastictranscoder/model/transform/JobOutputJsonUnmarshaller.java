@@ -47,89 +47,72 @@ public class JobOutputJsonUnmarshaller implements Unmarshaller<JobOutput, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ThumbnailPattern", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setThumbnailPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ThumbnailEncryption", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setThumbnailEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Rotate", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setRotate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PresetId", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setPresetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SegmentDuration", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setSegmentDuration(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusDetail", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setStatusDetail(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Duration", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setDuration(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Width", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setWidth(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Height", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setHeight(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("FrameRate", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setFrameRate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileSize", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setFileSize(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("DurationMillis", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setDurationMillis(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Watermarks", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setWatermarks(new ListUnmarshaller<JobWatermark>(JobWatermarkJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("AlbumArt", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setAlbumArt(JobAlbumArtJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Composition", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setComposition(new ListUnmarshaller<Clip>(ClipJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Captions", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setCaptions(CaptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AppliedColorSpaceConversion", targetDepth)) {
-                    context.nextToken();
-                    jobOutput.setAppliedColorSpaceConversion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ThumbnailPattern".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setThumbnailPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ThumbnailEncryption".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setThumbnailEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Rotate".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setRotate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PresetId".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setPresetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SegmentDuration".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setSegmentDuration(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StatusDetail".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setStatusDetail(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Duration".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setDuration(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Width".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setWidth(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Height".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setHeight(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("FrameRate".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setFrameRate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FileSize".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setFileSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("DurationMillis".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setDurationMillis(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Watermarks".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setWatermarks(watermarksUnmarshaller.unmarshall(context));
+                    } else if ("AlbumArt".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setAlbumArt(JobAlbumArtJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Composition".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setComposition(compositionUnmarshaller.unmarshall(context));
+                    } else if ("Captions".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setCaptions(CaptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Encryption".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("AppliedColorSpaceConversion".equals(fieldName)) {
+                        context.nextToken();
+                        jobOutput.setAppliedColorSpaceConversion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -143,6 +126,19 @@ public class JobOutputJsonUnmarshaller implements Unmarshaller<JobOutput, JsonUn
         return jobOutput;
     }
 
+    private final Unmarshaller<java.util.List<JobWatermark>, JsonUnmarshallerContext> watermarksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<JobWatermark>>() {
+        @Override
+        protected Unmarshaller<java.util.List<JobWatermark>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<JobWatermark>(JobWatermarkJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Clip>, JsonUnmarshallerContext> compositionUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Clip>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Clip>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Clip>(ClipJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static JobOutputJsonUnmarshaller instance;
 
     public static JobOutputJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class JobWatermarkJsonUnmarshaller implements Unmarshaller<JobWatermark,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PresetWatermarkId", targetDepth)) {
-                    context.nextToken();
-                    jobWatermark.setPresetWatermarkId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InputKey", targetDepth)) {
-                    context.nextToken();
-                    jobWatermark.setInputKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Encryption", targetDepth)) {
-                    context.nextToken();
-                    jobWatermark.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PresetWatermarkId".equals(fieldName)) {
+                        context.nextToken();
+                        jobWatermark.setPresetWatermarkId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InputKey".equals(fieldName)) {
+                        context.nextToken();
+                        jobWatermark.setInputKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Encryption".equals(fieldName)) {
+                        context.nextToken();
+                        jobWatermark.setEncryption(EncryptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ListJobsByPipelineResultJsonUnmarshaller implements Unmarshaller<Li
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Jobs", targetDepth)) {
-                    context.nextToken();
-                    listJobsByPipelineResult.setJobs(new ListUnmarshaller<Job>(JobJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    listJobsByPipelineResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Jobs".equals(fieldName)) {
+                        context.nextToken();
+                        listJobsByPipelineResult.setJobs(jobsUnmarshaller.unmarshall(context));
+                    } else if ("NextPageToken".equals(fieldName)) {
+                        context.nextToken();
+                        listJobsByPipelineResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListJobsByPipelineResultJsonUnmarshaller implements Unmarshaller<Li
         return listJobsByPipelineResult;
     }
 
+    private final Unmarshaller<java.util.List<Job>, JsonUnmarshallerContext> jobsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Job>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Job>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Job>(JobJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListJobsByPipelineResultJsonUnmarshaller instance;
 
     public static ListJobsByPipelineResultJsonUnmarshaller getInstance() {
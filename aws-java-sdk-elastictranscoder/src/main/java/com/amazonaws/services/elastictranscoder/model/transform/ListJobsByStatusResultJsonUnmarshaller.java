@@ -47,13 +47,15 @@ public class ListJobsByStatusResultJsonUnmarshaller implements Unmarshaller<List
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Jobs", targetDepth)) {
-                    context.nextToken();
-                    listJobsByStatusResult.setJobs(new ListUnmarshaller<Job>(JobJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    listJobsByStatusResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Jobs".equals(fieldName)) {
+                        context.nextToken();
+                        listJobsByStatusResult.setJobs(jobsUnmarshaller.unmarshall(context));
+                    } else if ("NextPageToken".equals(fieldName)) {
+                        context.nextToken();
+                        listJobsByStatusResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListJobsByStatusResultJsonUnmarshaller implements Unmarshaller<List
         return listJobsByStatusResult;
     }
 
+    private final Unmarshaller<java.util.List<Job>, JsonUnmarshallerContext> jobsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Job>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Job>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Job>(JobJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListJobsByStatusResultJsonUnmarshaller instance;
 
     public static ListJobsByStatusResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListPipelinesResultJsonUnmarshaller implements Unmarshaller<ListPip
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Pipelines", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult.setPipelines(new ListUnmarshaller<Pipeline>(PipelineJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    listPipelinesResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Pipelines".equals(fieldName)) {
+                        context.nextToken();
+                        listPipelinesResult.setPipelines(pipelinesUnmarshaller.unmarshall(context));
+                    } else if ("NextPageToken".equals(fieldName)) {
+                        context.nextToken();
+                        listPipelinesResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListPipelinesResultJsonUnmarshaller implements Unmarshaller<ListPip
         return listPipelinesResult;
     }
 
+    private final Unmarshaller<java.util.List<Pipeline>, JsonUnmarshallerContext> pipelinesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Pipeline>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Pipeline>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Pipeline>(PipelineJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListPipelinesResultJsonUnmarshaller instance;
 
     public static ListPipelinesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListPresetsResultJsonUnmarshaller implements Unmarshaller<ListPrese
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Presets", targetDepth)) {
-                    context.nextToken();
-                    listPresetsResult.setPresets(new ListUnmarshaller<Preset>(PresetJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    listPresetsResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Presets".equals(fieldName)) {
+                        context.nextToken();
+                        listPresetsResult.setPresets(presetsUnmarshaller.unmarshall(context));
+                    } else if ("NextPageToken".equals(fieldName)) {
+                        context.nextToken();
+                        listPresetsResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListPresetsResultJsonUnmarshaller implements Unmarshaller<ListPrese
         return listPresetsResult;
     }
 
+    private final Unmarshaller<java.util.List<Preset>, JsonUnmarshallerContext> presetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Preset>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Preset>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Preset>(PresetJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListPresetsResultJsonUnmarshaller instance;
 
     public static ListPresetsResultJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class NotificationsJsonUnmarshaller implements Unmarshaller<Notifications
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Progressing", targetDepth)) {
-                    context.nextToken();
-                    notifications.setProgressing(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Completed", targetDepth)) {
-                    context.nextToken();
-                    notifications.setCompleted(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Warning", targetDepth)) {
-                    context.nextToken();
-                    notifications.setWarning(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Error", targetDepth)) {
-                    context.nextToken();
-                    notifications.setError(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Progressing".equals(fieldName)) {
+                        context.nextToken();
+                        notifications.setProgressing(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Completed".equals(fieldName)) {
+                        context.nextToken();
+                        notifications.setCompleted(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Warning".equals(fieldName)) {
+                        context.nextToken();
+                        notifications.setWarning(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Error".equals(fieldName)) {
+                        context.nextToken();
+                        notifications.setError(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class PermissionJsonUnmarshaller implements Unmarshaller<Permission, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GranteeType", targetDepth)) {
-                    context.nextToken();
-                    permission.setGranteeType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Grantee", targetDepth)) {
-                    context.nextToken();
-                    permission.setGrantee(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Access", targetDepth)) {
-                    context.nextToken();
-                    permission.setAccess(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GranteeType".equals(fieldName)) {
+                        context.nextToken();
+                        permission.setGranteeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Grantee".equals(fieldName)) {
+                        context.nextToken();
+                        permission.setGrantee(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Access".equals(fieldName)) {
+                        context.nextToken();
+                        permission.setAccess(accessUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class PermissionJsonUnmarshaller implements Unmarshaller<Permission, Json
         return permission;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> accessUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static PermissionJsonUnmarshaller instance;
 
     public static PermissionJsonUnmarshaller getInstance() {
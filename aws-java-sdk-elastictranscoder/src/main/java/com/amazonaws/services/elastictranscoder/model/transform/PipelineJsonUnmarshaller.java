@@ -47,49 +47,42 @@ public class PipelineJsonUnmarshaller implements Unmarshaller<Pipeline, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InputBucket", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setInputBucket(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputBucket", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setOutputBucket(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Role", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AwsKmsKeyArn", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setAwsKmsKeyArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Notifications", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setNotifications(NotificationsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ContentConfig", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setContentConfig(PipelineOutputConfigJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ThumbnailConfig", targetDepth)) {
-                    context.nextToken();
-                    pipeline.setThumbnailConfig(PipelineOutputConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InputBucket".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setInputBucket(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputBucket".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setOutputBucket(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Role".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AwsKmsKeyArn".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setAwsKmsKeyArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Notifications".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setNotifications(NotificationsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ContentConfig".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setContentConfig(PipelineOutputConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ThumbnailConfig".equals(fieldName)) {
+                        context.nextToken();
+                        pipeline.setThumbnailConfig(PipelineOutputConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
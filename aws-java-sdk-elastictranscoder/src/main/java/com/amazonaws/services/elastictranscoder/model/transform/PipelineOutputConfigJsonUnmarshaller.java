@@ -47,17 +47,18 @@ public class PipelineOutputConfigJsonUnmarshaller implements Unmarshaller<Pipeli
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Bucket", targetDepth)) {
-                    context.nextToken();
-                    pipelineOutputConfig.setBucket(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StorageClass", targetDepth)) {
-                    context.nextToken();
-                    pipelineOutputConfig.setStorageClass(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Permissions", targetDepth)) {
-                    context.nextToken();
-                    pipelineOutputConfig.setPermissions(new ListUnmarshaller<Permission>(PermissionJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Bucket".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineOutputConfig.setBucket(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StorageClass".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineOutputConfig.setStorageClass(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Permissions".equals(fieldName)) {
+                        context.nextToken();
+                        pipelineOutputConfig.setPermissions(permissionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class PipelineOutputConfigJsonUnmarshaller implements Unmarshaller<Pipeli
         return pipelineOutputConfig;
     }
 
+    private final Unmarshaller<java.util.List<Permission>, JsonUnmarshallerContext> permissionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Permission>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Permission>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Permission>(PermissionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PipelineOutputConfigJsonUnmarshaller instance;
 
     public static PipelineOutputConfigJsonUnmarshaller getInstance() {
@@ -47,29 +47,27 @@ public class PlayReadyDrmJsonUnmarshaller implements Unmarshaller<PlayReadyDrm,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyMd5", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setKeyMd5(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InitializationVector", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setInitializationVector(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LicenseAcquisitionUrl", targetDepth)) {
-                    context.nextToken();
-                    playReadyDrm.setLicenseAcquisitionUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Format".equals(fieldName)) {
+                        context.nextToken();
+                        playReadyDrm.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        playReadyDrm.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyMd5".equals(fieldName)) {
+                        context.nextToken();
+                        playReadyDrm.setKeyMd5(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        playReadyDrm.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InitializationVector".equals(fieldName)) {
+                        context.nextToken();
+                        playReadyDrm.setInitializationVector(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LicenseAcquisitionUrl".equals(fieldName)) {
+                        context.nextToken();
+                        playReadyDrm.setLicenseAcquisitionUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
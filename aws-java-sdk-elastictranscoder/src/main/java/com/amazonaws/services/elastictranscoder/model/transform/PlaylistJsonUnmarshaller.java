@@ -47,33 +47,30 @@ public class PlaylistJsonUnmarshaller implements Unmarshaller<Playlist, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    playlist.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    playlist.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputKeys", targetDepth)) {
-                    context.nextToken();
-                    playlist.setOutputKeys(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("HlsContentProtection", targetDepth)) {
-                    context.nextToken();
-                    playlist.setHlsContentProtection(HlsContentProtectionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("PlayReadyDrm", targetDepth)) {
-                    context.nextToken();
-                    playlist.setPlayReadyDrm(PlayReadyDrmJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    playlist.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusDetail", targetDepth)) {
-                    context.nextToken();
-                    playlist.setStatusDetail(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        playlist.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Format".equals(fieldName)) {
+                        context.nextToken();
+                        playlist.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputKeys".equals(fieldName)) {
+                        context.nextToken();
+                        playlist.setOutputKeys(outputKeysUnmarshaller.unmarshall(context));
+                    } else if ("HlsContentProtection".equals(fieldName)) {
+                        context.nextToken();
+                        playlist.setHlsContentProtection(HlsContentProtectionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("PlayReadyDrm".equals(fieldName)) {
+                        context.nextToken();
+                        playlist.setPlayReadyDrm(PlayReadyDrmJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        playlist.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StatusDetail".equals(fieldName)) {
+                        context.nextToken();
+                        playlist.setStatusDetail(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -87,6 +84,13 @@ public class PlaylistJsonUnmarshaller implements Unmarshaller<Playlist, JsonUnma
         return playlist;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> outputKeysUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static PlaylistJsonUnmarshaller instance;
 
     public static PlaylistJsonUnmarshaller getInstance() {
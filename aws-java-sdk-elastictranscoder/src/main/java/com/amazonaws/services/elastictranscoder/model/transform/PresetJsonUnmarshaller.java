@@ -47,41 +47,36 @@ public class PresetJsonUnmarshaller implements Unmarshaller<Preset, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    preset.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    preset.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    preset.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    preset.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Container", targetDepth)) {
-                    context.nextToken();
-                    preset.setContainer(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Audio", targetDepth)) {
-                    context.nextToken();
-                    preset.setAudio(AudioParametersJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Video", targetDepth)) {
-                    context.nextToken();
-                    preset.setVideo(VideoParametersJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Thumbnails", targetDepth)) {
-                    context.nextToken();
-                    preset.setThumbnails(ThumbnailsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    preset.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        preset.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        preset.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        preset.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        preset.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Container".equals(fieldName)) {
+                        context.nextToken();
+                        preset.setContainer(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Audio".equals(fieldName)) {
+                        context.nextToken();
+                        preset.setAudio(AudioParametersJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Video".equals(fieldName)) {
+                        context.nextToken();
+                        preset.setVideo(VideoParametersJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Thumbnails".equals(fieldName)) {
+                        context.nextToken();
+                        preset.setThumbnails(ThumbnailsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        preset.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
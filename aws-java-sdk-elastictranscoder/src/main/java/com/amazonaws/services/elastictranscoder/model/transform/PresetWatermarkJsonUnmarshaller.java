@@ -47,45 +47,39 @@ public class PresetWatermarkJsonUnmarshaller implements Unmarshaller<PresetWater
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxWidth", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setMaxWidth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxHeight", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setMaxHeight(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizingPolicy", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setSizingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HorizontalAlign", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setHorizontalAlign(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HorizontalOffset", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setHorizontalOffset(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VerticalAlign", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setVerticalAlign(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VerticalOffset", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setVerticalOffset(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Opacity", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setOpacity(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Target", targetDepth)) {
-                    context.nextToken();
-                    presetWatermark.setTarget(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        presetWatermark.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxWidth".equals(fieldName)) {
+                        context.nextToken();
+                        presetWatermark.setMaxWidth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxHeight".equals(fieldName)) {
+                        context.nextToken();
+                        presetWatermark.setMaxHeight(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizingPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        presetWatermark.setSizingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HorizontalAlign".equals(fieldName)) {
+                        context.nextToken();
+                        presetWatermark.setHorizontalAlign(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HorizontalOffset".equals(fieldName)) {
+                        context.nextToken();
+                        presetWatermark.setHorizontalOffset(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VerticalAlign".equals(fieldName)) {
+                        context.nextToken();
+                        presetWatermark.setVerticalAlign(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VerticalOffset".equals(fieldName)) {
+                        context.nextToken();
+                        presetWatermark.setVerticalOffset(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Opacity".equals(fieldName)) {
+                        context.nextToken();
+                        presetWatermark.setOpacity(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Target".equals(fieldName)) {
+                        context.nextToken();
+                        presetWatermark.setTarget(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class ReadJobResultJsonUnmarshaller implements Unmarshaller<ReadJobResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Job", targetDepth)) {
-                    context.nextToken();
-                    readJobResult.setJob(JobJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Job".equals(fieldName)) {
+                        context.nextToken();
+                        readJobResult.setJob(JobJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class ReadPresetResultJsonUnmarshaller implements Unmarshaller<ReadPreset
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Preset", targetDepth)) {
-                    context.nextToken();
-                    readPresetResult.setPreset(PresetJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Preset".equals(fieldName)) {
+                        context.nextToken();
+                        readPresetResult.setPreset(PresetJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class TestRoleResultJsonUnmarshaller implements Unmarshaller<TestRoleResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Success", targetDepth)) {
-                    context.nextToken();
-                    testRoleResult.setSuccess(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Messages", targetDepth)) {
-                    context.nextToken();
-                    testRoleResult.setMessages(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Success".equals(fieldName)) {
+                        context.nextToken();
+                        testRoleResult.setSuccess(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Messages".equals(fieldName)) {
+                        context.nextToken();
+                        testRoleResult.setMessages(messagesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class TestRoleResultJsonUnmarshaller implements Unmarshaller<TestRoleResu
         return testRoleResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> messagesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static TestRoleResultJsonUnmarshaller instance;
 
     public static TestRoleResultJsonUnmarshaller getInstance() {
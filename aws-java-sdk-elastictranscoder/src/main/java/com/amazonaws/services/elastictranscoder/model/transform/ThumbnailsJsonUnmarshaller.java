@@ -47,37 +47,33 @@ public class ThumbnailsJsonUnmarshaller implements Unmarshaller<Thumbnails, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Interval", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setInterval(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Resolution", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setResolution(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AspectRatio", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setAspectRatio(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxWidth", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setMaxWidth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxHeight", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setMaxHeight(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizingPolicy", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setSizingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PaddingPolicy", targetDepth)) {
-                    context.nextToken();
-                    thumbnails.setPaddingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Format".equals(fieldName)) {
+                        context.nextToken();
+                        thumbnails.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Interval".equals(fieldName)) {
+                        context.nextToken();
+                        thumbnails.setInterval(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Resolution".equals(fieldName)) {
+                        context.nextToken();
+                        thumbnails.setResolution(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AspectRatio".equals(fieldName)) {
+                        context.nextToken();
+                        thumbnails.setAspectRatio(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxWidth".equals(fieldName)) {
+                        context.nextToken();
+                        thumbnails.setMaxWidth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxHeight".equals(fieldName)) {
+                        context.nextToken();
+                        thumbnails.setMaxHeight(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizingPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        thumbnails.setSizingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PaddingPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        thumbnails.setPaddingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class TimeSpanJsonUnmarshaller implements Unmarshaller<TimeSpan, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartTime", targetDepth)) {
-                    context.nextToken();
-                    timeSpan.setStartTime(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Duration", targetDepth)) {
-                    context.nextToken();
-                    timeSpan.setDuration(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StartTime".equals(fieldName)) {
+                        context.nextToken();
+                        timeSpan.setStartTime(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Duration".equals(fieldName)) {
+                        context.nextToken();
+                        timeSpan.setDuration(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
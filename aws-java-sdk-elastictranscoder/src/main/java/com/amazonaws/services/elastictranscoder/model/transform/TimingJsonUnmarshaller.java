@@ -47,17 +47,18 @@ public class TimingJsonUnmarshaller implements Unmarshaller<Timing, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SubmitTimeMillis", targetDepth)) {
-                    context.nextToken();
-                    timing.setSubmitTimeMillis(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("StartTimeMillis", targetDepth)) {
-                    context.nextToken();
-                    timing.setStartTimeMillis(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FinishTimeMillis", targetDepth)) {
-                    context.nextToken();
-                    timing.setFinishTimeMillis(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SubmitTimeMillis".equals(fieldName)) {
+                        context.nextToken();
+                        timing.setSubmitTimeMillis(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("StartTimeMillis".equals(fieldName)) {
+                        context.nextToken();
+                        timing.setStartTimeMillis(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FinishTimeMillis".equals(fieldName)) {
+                        context.nextToken();
+                        timing.setFinishTimeMillis(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class UpdatePipelineNotificationsResultJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Pipeline", targetDepth)) {
-                    context.nextToken();
-                    updatePipelineNotificationsResult.setPipeline(PipelineJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Pipeline".equals(fieldName)) {
+                        context.nextToken();
+                        updatePipelineNotificationsResult.setPipeline(PipelineJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
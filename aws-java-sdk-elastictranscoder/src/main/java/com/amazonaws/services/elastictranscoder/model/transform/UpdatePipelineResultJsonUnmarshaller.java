@@ -47,13 +47,15 @@ public class UpdatePipelineResultJsonUnmarshaller implements Unmarshaller<Update
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Pipeline", targetDepth)) {
-                    context.nextToken();
-                    updatePipelineResult.setPipeline(PipelineJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Warnings", targetDepth)) {
-                    context.nextToken();
-                    updatePipelineResult.setWarnings(new ListUnmarshaller<Warning>(WarningJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Pipeline".equals(fieldName)) {
+                        context.nextToken();
+                        updatePipelineResult.setPipeline(PipelineJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Warnings".equals(fieldName)) {
+                        context.nextToken();
+                        updatePipelineResult.setWarnings(warningsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class UpdatePipelineResultJsonUnmarshaller implements Unmarshaller<Update
         return updatePipelineResult;
     }
 
+    private final Unmarshaller<java.util.List<Warning>, JsonUnmarshallerContext> warningsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Warning>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Warning>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Warning>(WarningJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static UpdatePipelineResultJsonUnmarshaller instance;
 
     public static UpdatePipelineResultJsonUnmarshaller getInstance() {
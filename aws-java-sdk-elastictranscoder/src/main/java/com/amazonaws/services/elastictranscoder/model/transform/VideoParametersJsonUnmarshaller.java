@@ -47,66 +47,54 @@ public class VideoParametersJsonUnmarshaller implements Unmarshaller<VideoParame
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Codec", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setCodec(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodecOptions", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setCodecOptions(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("KeyframesMaxDist", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setKeyframesMaxDist(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FixedGOP", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setFixedGOP(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BitRate", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setBitRate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FrameRate", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setFrameRate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxFrameRate", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setMaxFrameRate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Resolution", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setResolution(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AspectRatio", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setAspectRatio(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxWidth", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setMaxWidth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MaxHeight", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setMaxHeight(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DisplayAspectRatio", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setDisplayAspectRatio(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizingPolicy", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setSizingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PaddingPolicy", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setPaddingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Watermarks", targetDepth)) {
-                    context.nextToken();
-                    videoParameters.setWatermarks(new ListUnmarshaller<PresetWatermark>(PresetWatermarkJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Codec".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setCodec(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CodecOptions".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setCodecOptions(codecOptionsUnmarshaller.unmarshall(context));
+                    } else if ("KeyframesMaxDist".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setKeyframesMaxDist(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FixedGOP".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setFixedGOP(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BitRate".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setBitRate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FrameRate".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setFrameRate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxFrameRate".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setMaxFrameRate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Resolution".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setResolution(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AspectRatio".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setAspectRatio(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxWidth".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setMaxWidth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MaxHeight".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setMaxHeight(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DisplayAspectRatio".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setDisplayAspectRatio(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizingPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setSizingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PaddingPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setPaddingPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Watermarks".equals(fieldName)) {
+                        context.nextToken();
+                        videoParameters.setWatermarks(watermarksUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -120,6 +108,19 @@ public class VideoParametersJsonUnmarshaller implements Unmarshaller<VideoParame
         return videoParameters;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> codecOptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<PresetWatermark>, JsonUnmarshallerContext> watermarksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PresetWatermark>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PresetWatermark>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PresetWatermark>(PresetWatermarkJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static VideoParametersJsonUnmarshaller instance;
 
     public static VideoParametersJsonUnmarshaller getInstance() {
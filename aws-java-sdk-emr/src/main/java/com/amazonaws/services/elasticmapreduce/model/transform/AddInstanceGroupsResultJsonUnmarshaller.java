@@ -47,13 +47,15 @@ public class AddInstanceGroupsResultJsonUnmarshaller implements Unmarshaller<Add
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobFlowId", targetDepth)) {
-                    context.nextToken();
-                    addInstanceGroupsResult.setJobFlowId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceGroupIds", targetDepth)) {
-                    context.nextToken();
-                    addInstanceGroupsResult.setInstanceGroupIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobFlowId".equals(fieldName)) {
+                        context.nextToken();
+                        addInstanceGroupsResult.setJobFlowId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceGroupIds".equals(fieldName)) {
+                        context.nextToken();
+                        addInstanceGroupsResult.setInstanceGroupIds(instanceGroupIdsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class AddInstanceGroupsResultJsonUnmarshaller implements Unmarshaller<Add
         return addInstanceGroupsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> instanceGroupIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AddInstanceGroupsResultJsonUnmarshaller instance;
 
     public static AddInstanceGroupsResultJsonUnmarshaller getInstance() {
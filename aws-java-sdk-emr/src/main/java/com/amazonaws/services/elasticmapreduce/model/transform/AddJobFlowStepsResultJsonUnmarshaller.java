@@ -47,9 +47,12 @@ public class AddJobFlowStepsResultJsonUnmarshaller implements Unmarshaller<AddJo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StepIds", targetDepth)) {
-                    context.nextToken();
-                    addJobFlowStepsResult.setStepIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StepIds".equals(fieldName)) {
+                        context.nextToken();
+                        addJobFlowStepsResult.setStepIds(stepIdsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class AddJobFlowStepsResultJsonUnmarshaller implements Unmarshaller<AddJo
         return addJobFlowStepsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> stepIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AddJobFlowStepsResultJsonUnmarshaller instance;
 
     public static AddJobFlowStepsResultJsonUnmarshaller getInstance() {
@@ -47,22 +47,21 @@ public class ApplicationJsonUnmarshaller implements Unmarshaller<Application, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    application.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Version", targetDepth)) {
-                    context.nextToken();
-                    application.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Args", targetDepth)) {
-                    context.nextToken();
-                    application.setArgs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("AdditionalInfo", targetDepth)) {
-                    context.nextToken();
-                    application.setAdditionalInfo(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        application.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Version".equals(fieldName)) {
+                        context.nextToken();
+                        application.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Args".equals(fieldName)) {
+                        context.nextToken();
+                        application.setArgs(argsUnmarshaller.unmarshall(context));
+                    } else if ("AdditionalInfo".equals(fieldName)) {
+                        context.nextToken();
+                        application.setAdditionalInfo(additionalInfoUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,19 @@ public class ApplicationJsonUnmarshaller implements Unmarshaller<Application, Js
         return application;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> argsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> additionalInfoUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ApplicationJsonUnmarshaller instance;
 
     public static ApplicationJsonUnmarshaller getInstance() {
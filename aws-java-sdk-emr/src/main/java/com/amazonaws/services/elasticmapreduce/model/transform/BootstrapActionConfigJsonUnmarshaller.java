@@ -47,13 +47,15 @@ public class BootstrapActionConfigJsonUnmarshaller implements Unmarshaller<Boots
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    bootstrapActionConfig.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScriptBootstrapAction", targetDepth)) {
-                    context.nextToken();
-                    bootstrapActionConfig.setScriptBootstrapAction(ScriptBootstrapActionConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        bootstrapActionConfig.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ScriptBootstrapAction".equals(fieldName)) {
+                        context.nextToken();
+                        bootstrapActionConfig.setScriptBootstrapAction(ScriptBootstrapActionConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class BootstrapActionDetailJsonUnmarshaller implements Unmarshaller<Boots
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BootstrapActionConfig", targetDepth)) {
-                    context.nextToken();
-                    bootstrapActionDetail.setBootstrapActionConfig(BootstrapActionConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BootstrapActionConfig".equals(fieldName)) {
+                        context.nextToken();
+                        bootstrapActionDetail.setBootstrapActionConfig(BootstrapActionConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,77 +47,63 @@ public class ClusterJsonUnmarshaller implements Unmarshaller<Cluster, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    cluster.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    cluster.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    cluster.setStatus(ClusterStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Ec2InstanceAttributes", targetDepth)) {
-                    context.nextToken();
-                    cluster.setEc2InstanceAttributes(Ec2InstanceAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    cluster.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RequestedAmiVersion", targetDepth)) {
-                    context.nextToken();
-                    cluster.setRequestedAmiVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RunningAmiVersion", targetDepth)) {
-                    context.nextToken();
-                    cluster.setRunningAmiVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReleaseLabel", targetDepth)) {
-                    context.nextToken();
-                    cluster.setReleaseLabel(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoTerminate", targetDepth)) {
-                    context.nextToken();
-                    cluster.setAutoTerminate(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TerminationProtected", targetDepth)) {
-                    context.nextToken();
-                    cluster.setTerminationProtected(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("VisibleToAllUsers", targetDepth)) {
-                    context.nextToken();
-                    cluster.setVisibleToAllUsers(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Applications", targetDepth)) {
-                    context.nextToken();
-                    cluster.setApplications(new ListUnmarshaller<Application>(ApplicationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    cluster.setTags(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ServiceRole", targetDepth)) {
-                    context.nextToken();
-                    cluster.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NormalizedInstanceHours", targetDepth)) {
-                    context.nextToken();
-                    cluster.setNormalizedInstanceHours(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MasterPublicDnsName", targetDepth)) {
-                    context.nextToken();
-                    cluster.setMasterPublicDnsName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Configurations", targetDepth)) {
-                    context.nextToken();
-                    cluster.setConfigurations(new ListUnmarshaller<Configuration>(ConfigurationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("SecurityConfiguration", targetDepth)) {
-                    context.nextToken();
-                    cluster.setSecurityConfiguration(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setStatus(ClusterStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Ec2InstanceAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setEc2InstanceAttributes(Ec2InstanceAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("LogUri".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RequestedAmiVersion".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setRequestedAmiVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RunningAmiVersion".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setRunningAmiVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReleaseLabel".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setReleaseLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AutoTerminate".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setAutoTerminate(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("TerminationProtected".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setTerminationProtected(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("VisibleToAllUsers".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setVisibleToAllUsers(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Applications".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setApplications(applicationsUnmarshaller.unmarshall(context));
+                    } else if ("Tags".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setTags(tagsUnmarshaller.unmarshall(context));
+                    } else if ("ServiceRole".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NormalizedInstanceHours".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setNormalizedInstanceHours(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MasterPublicDnsName".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setMasterPublicDnsName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Configurations".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setConfigurations(configurationsUnmarshaller.unmarshall(context));
+                    } else if ("SecurityConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        cluster.setSecurityConfiguration(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -131,6 +117,25 @@ public class ClusterJsonUnmarshaller implements Unmarshaller<Cluster, JsonUnmars
         return cluster;
     }
 
+    private final Unmarshaller<java.util.List<Application>, JsonUnmarshallerContext> applicationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Application>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Application>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Application>(ApplicationJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Configuration>, JsonUnmarshallerContext> configurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Configuration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Configuration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Configuration>(ConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ClusterJsonUnmarshaller instance;
 
     public static ClusterJsonUnmarshaller getInstance() {
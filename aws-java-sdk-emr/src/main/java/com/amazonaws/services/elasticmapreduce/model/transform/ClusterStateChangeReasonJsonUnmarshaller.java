@@ -47,13 +47,15 @@ public class ClusterStateChangeReasonJsonUnmarshaller implements Unmarshaller<Cl
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Code", targetDepth)) {
-                    context.nextToken();
-                    clusterStateChangeReason.setCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    clusterStateChangeReason.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Code".equals(fieldName)) {
+                        context.nextToken();
+                        clusterStateChangeReason.setCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        clusterStateChangeReason.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class ClusterStatusJsonUnmarshaller implements Unmarshaller<ClusterStatus
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    clusterStatus.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StateChangeReason", targetDepth)) {
-                    context.nextToken();
-                    clusterStatus.setStateChangeReason(ClusterStateChangeReasonJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Timeline", targetDepth)) {
-                    context.nextToken();
-                    clusterStatus.setTimeline(ClusterTimelineJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        clusterStatus.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StateChangeReason".equals(fieldName)) {
+                        context.nextToken();
+                        clusterStatus.setStateChangeReason(ClusterStateChangeReasonJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Timeline".equals(fieldName)) {
+                        context.nextToken();
+                        clusterStatus.setTimeline(ClusterTimelineJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
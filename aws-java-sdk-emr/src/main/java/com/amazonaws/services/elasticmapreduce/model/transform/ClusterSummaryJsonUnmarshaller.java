@@ -47,21 +47,21 @@ public class ClusterSummaryJsonUnmarshaller implements Unmarshaller<ClusterSumma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    clusterSummary.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    clusterSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    clusterSummary.setStatus(ClusterStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("NormalizedInstanceHours", targetDepth)) {
-                    context.nextToken();
-                    clusterSummary.setNormalizedInstanceHours(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        clusterSummary.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        clusterSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        clusterSummary.setStatus(ClusterStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("NormalizedInstanceHours".equals(fieldName)) {
+                        context.nextToken();
+                        clusterSummary.setNormalizedInstanceHours(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class CommandJsonUnmarshaller implements Unmarshaller<Command, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    command.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScriptPath", targetDepth)) {
-                    context.nextToken();
-                    command.setScriptPath(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Args", targetDepth)) {
-                    context.nextToken();
-                    command.setArgs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        command.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ScriptPath".equals(fieldName)) {
+                        context.nextToken();
+                        command.setScriptPath(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Args".equals(fieldName)) {
+                        context.nextToken();
+                        command.setArgs(argsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class CommandJsonUnmarshaller implements Unmarshaller<Command, JsonUnmars
         return command;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> argsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CommandJsonUnmarshaller instance;
 
     public static CommandJsonUnmarshaller getInstance() {
@@ -47,18 +47,18 @@ public class ConfigurationJsonUnmarshaller implements Unmarshaller<Configuration
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Classification", targetDepth)) {
-                    context.nextToken();
-                    configuration.setClassification(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Configurations", targetDepth)) {
-                    context.nextToken();
-                    configuration.setConfigurations(new ListUnmarshaller<Configuration>(ConfigurationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Properties", targetDepth)) {
-                    context.nextToken();
-                    configuration.setProperties(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Classification".equals(fieldName)) {
+                        context.nextToken();
+                        configuration.setClassification(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Configurations".equals(fieldName)) {
+                        context.nextToken();
+                        configuration.setConfigurations(configurationsUnmarshaller.unmarshall(context));
+                    } else if ("Properties".equals(fieldName)) {
+                        context.nextToken();
+                        configuration.setProperties(propertiesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,19 @@ public class ConfigurationJsonUnmarshaller implements Unmarshaller<Configuration
         return configuration;
     }
 
+    private final Unmarshaller<java.util.List<Configuration>, JsonUnmarshallerContext> configurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Configuration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Configuration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Configuration>(ConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> propertiesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ConfigurationJsonUnmarshaller instance;
 
     public static ConfigurationJsonUnmarshaller getInstance() {
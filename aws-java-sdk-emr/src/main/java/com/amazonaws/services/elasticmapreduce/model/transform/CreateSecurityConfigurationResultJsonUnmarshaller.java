@@ -47,13 +47,15 @@ public class CreateSecurityConfigurationResultJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    createSecurityConfigurationResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    createSecurityConfigurationResult.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        createSecurityConfigurationResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        createSecurityConfigurationResult.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DescribeClusterResultJsonUnmarshaller implements Unmarshaller<Descr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Cluster", targetDepth)) {
-                    context.nextToken();
-                    describeClusterResult.setCluster(ClusterJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Cluster".equals(fieldName)) {
+                        context.nextToken();
+                        describeClusterResult.setCluster(ClusterJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
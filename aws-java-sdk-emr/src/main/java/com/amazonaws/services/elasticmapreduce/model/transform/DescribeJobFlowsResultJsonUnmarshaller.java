@@ -47,9 +47,12 @@ public class DescribeJobFlowsResultJsonUnmarshaller implements Unmarshaller<Desc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobFlows", targetDepth)) {
-                    context.nextToken();
-                    describeJobFlowsResult.setJobFlows(new ListUnmarshaller<JobFlowDetail>(JobFlowDetailJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobFlows".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobFlowsResult.setJobFlows(jobFlowsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeJobFlowsResultJsonUnmarshaller implements Unmarshaller<Desc
         return describeJobFlowsResult;
     }
 
+    private final Unmarshaller<java.util.List<JobFlowDetail>, JsonUnmarshallerContext> jobFlowsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<JobFlowDetail>>() {
+        @Override
+        protected Unmarshaller<java.util.List<JobFlowDetail>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<JobFlowDetail>(JobFlowDetailJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeJobFlowsResultJsonUnmarshaller instance;
 
     public static DescribeJobFlowsResultJsonUnmarshaller getInstance() {
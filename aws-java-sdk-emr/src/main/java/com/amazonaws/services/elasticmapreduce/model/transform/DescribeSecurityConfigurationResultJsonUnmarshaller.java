@@ -47,17 +47,18 @@ public class DescribeSecurityConfigurationResultJsonUnmarshaller implements Unma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    describeSecurityConfigurationResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecurityConfiguration", targetDepth)) {
-                    context.nextToken();
-                    describeSecurityConfigurationResult.setSecurityConfiguration(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    describeSecurityConfigurationResult.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        describeSecurityConfigurationResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SecurityConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        describeSecurityConfigurationResult.setSecurityConfiguration(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        describeSecurityConfigurationResult.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DescribeStepResultJsonUnmarshaller implements Unmarshaller<Describe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Step", targetDepth)) {
-                    context.nextToken();
-                    describeStepResult.setStep(StepJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Step".equals(fieldName)) {
+                        context.nextToken();
+                        describeStepResult.setStep(StepJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class EbsBlockDeviceConfigJsonUnmarshaller implements Unmarshaller<EbsBlo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeSpecification", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDeviceConfig.setVolumeSpecification(VolumeSpecificationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("VolumesPerInstance", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDeviceConfig.setVolumesPerInstance(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeSpecification".equals(fieldName)) {
+                        context.nextToken();
+                        ebsBlockDeviceConfig.setVolumeSpecification(VolumeSpecificationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("VolumesPerInstance".equals(fieldName)) {
+                        context.nextToken();
+                        ebsBlockDeviceConfig.setVolumesPerInstance(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class EbsBlockDeviceJsonUnmarshaller implements Unmarshaller<EbsBlockDevi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeSpecification", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setVolumeSpecification(VolumeSpecificationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Device", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setDevice(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeSpecification".equals(fieldName)) {
+                        context.nextToken();
+                        ebsBlockDevice.setVolumeSpecification(VolumeSpecificationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Device".equals(fieldName)) {
+                        context.nextToken();
+                        ebsBlockDevice.setDevice(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class EbsConfigurationJsonUnmarshaller implements Unmarshaller<EbsConfigu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EbsBlockDeviceConfigs", targetDepth)) {
-                    context.nextToken();
-                    ebsConfiguration.setEbsBlockDeviceConfigs(new ListUnmarshaller<EbsBlockDeviceConfig>(EbsBlockDeviceConfigJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("EbsOptimized", targetDepth)) {
-                    context.nextToken();
-                    ebsConfiguration.setEbsOptimized(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EbsBlockDeviceConfigs".equals(fieldName)) {
+                        context.nextToken();
+                        ebsConfiguration.setEbsBlockDeviceConfigs(ebsBlockDeviceConfigsUnmarshaller.unmarshall(context));
+                    } else if ("EbsOptimized".equals(fieldName)) {
+                        context.nextToken();
+                        ebsConfiguration.setEbsOptimized(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class EbsConfigurationJsonUnmarshaller implements Unmarshaller<EbsConfigu
         return ebsConfiguration;
     }
 
+    private final Unmarshaller<java.util.List<EbsBlockDeviceConfig>, JsonUnmarshallerContext> ebsBlockDeviceConfigsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EbsBlockDeviceConfig>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EbsBlockDeviceConfig>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EbsBlockDeviceConfig>(EbsBlockDeviceConfigJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static EbsConfigurationJsonUnmarshaller instance;
 
     public static EbsConfigurationJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class EbsVolumeJsonUnmarshaller implements Unmarshaller<EbsVolume, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Device", targetDepth)) {
-                    context.nextToken();
-                    ebsVolume.setDevice(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeId", targetDepth)) {
-                    context.nextToken();
-                    ebsVolume.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Device".equals(fieldName)) {
+                        context.nextToken();
+                        ebsVolume.setDevice(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeId".equals(fieldName)) {
+                        context.nextToken();
+                        ebsVolume.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
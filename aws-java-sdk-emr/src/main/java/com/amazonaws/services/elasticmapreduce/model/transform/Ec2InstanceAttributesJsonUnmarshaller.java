@@ -47,43 +47,36 @@ public class Ec2InstanceAttributesJsonUnmarshaller implements Unmarshaller<Ec2In
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Ec2KeyName", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setEc2KeyName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2SubnetId", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setEc2SubnetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setEc2AvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IamInstanceProfile", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setIamInstanceProfile(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmrManagedMasterSecurityGroup", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setEmrManagedMasterSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmrManagedSlaveSecurityGroup", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setEmrManagedSlaveSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceAccessSecurityGroup", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setServiceAccessSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AdditionalMasterSecurityGroups", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setAdditionalMasterSecurityGroups(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("AdditionalSlaveSecurityGroups", targetDepth)) {
-                    context.nextToken();
-                    ec2InstanceAttributes.setAdditionalSlaveSecurityGroups(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Ec2KeyName".equals(fieldName)) {
+                        context.nextToken();
+                        ec2InstanceAttributes.setEc2KeyName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Ec2SubnetId".equals(fieldName)) {
+                        context.nextToken();
+                        ec2InstanceAttributes.setEc2SubnetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Ec2AvailabilityZone".equals(fieldName)) {
+                        context.nextToken();
+                        ec2InstanceAttributes.setEc2AvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IamInstanceProfile".equals(fieldName)) {
+                        context.nextToken();
+                        ec2InstanceAttributes.setIamInstanceProfile(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EmrManagedMasterSecurityGroup".equals(fieldName)) {
+                        context.nextToken();
+                        ec2InstanceAttributes.setEmrManagedMasterSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EmrManagedSlaveSecurityGroup".equals(fieldName)) {
+                        context.nextToken();
+                        ec2InstanceAttributes.setEmrManagedSlaveSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServiceAccessSecurityGroup".equals(fieldName)) {
+                        context.nextToken();
+                        ec2InstanceAttributes.setServiceAccessSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AdditionalMasterSecurityGroups".equals(fieldName)) {
+                        context.nextToken();
+                        ec2InstanceAttributes.setAdditionalMasterSecurityGroups(additionalMasterSecurityGroupsUnmarshaller.unmarshall(context));
+                    } else if ("AdditionalSlaveSecurityGroups".equals(fieldName)) {
+                        context.nextToken();
+                        ec2InstanceAttributes.setAdditionalSlaveSecurityGroups(additionalSlaveSecurityGroupsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -97,6 +90,19 @@ public class Ec2InstanceAttributesJsonUnmarshaller implements Unmarshaller<Ec2In
         return ec2InstanceAttributes;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> additionalMasterSecurityGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> additionalSlaveSecurityGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static Ec2InstanceAttributesJsonUnmarshaller instance;
 
     public static Ec2InstanceAttributesJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class FailureDetailsJsonUnmarshaller implements Unmarshaller<FailureDetai
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Reason", targetDepth)) {
-                    context.nextToken();
-                    failureDetails.setReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    failureDetails.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogFile", targetDepth)) {
-                    context.nextToken();
-                    failureDetails.setLogFile(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Reason".equals(fieldName)) {
+                        context.nextToken();
+                        failureDetails.setReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        failureDetails.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LogFile".equals(fieldName)) {
+                        context.nextToken();
+                        failureDetails.setLogFile(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class HadoopJarStepConfigJsonUnmarshaller implements Unmarshaller<HadoopJ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Properties", targetDepth)) {
-                    context.nextToken();
-                    hadoopJarStepConfig.setProperties(new ListUnmarshaller<KeyValue>(KeyValueJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Jar", targetDepth)) {
-                    context.nextToken();
-                    hadoopJarStepConfig.setJar(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MainClass", targetDepth)) {
-                    context.nextToken();
-                    hadoopJarStepConfig.setMainClass(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Args", targetDepth)) {
-                    context.nextToken();
-                    hadoopJarStepConfig.setArgs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Properties".equals(fieldName)) {
+                        context.nextToken();
+                        hadoopJarStepConfig.setProperties(propertiesUnmarshaller.unmarshall(context));
+                    } else if ("Jar".equals(fieldName)) {
+                        context.nextToken();
+                        hadoopJarStepConfig.setJar(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MainClass".equals(fieldName)) {
+                        context.nextToken();
+                        hadoopJarStepConfig.setMainClass(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Args".equals(fieldName)) {
+                        context.nextToken();
+                        hadoopJarStepConfig.setArgs(argsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +75,19 @@ public class HadoopJarStepConfigJsonUnmarshaller implements Unmarshaller<HadoopJ
         return hadoopJarStepConfig;
     }
 
+    private final Unmarshaller<java.util.List<KeyValue>, JsonUnmarshallerContext> propertiesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<KeyValue>>() {
+        @Override
+        protected Unmarshaller<java.util.List<KeyValue>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<KeyValue>(KeyValueJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> argsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static HadoopJarStepConfigJsonUnmarshaller instance;
 
     public static HadoopJarStepConfigJsonUnmarshaller getInstance() {
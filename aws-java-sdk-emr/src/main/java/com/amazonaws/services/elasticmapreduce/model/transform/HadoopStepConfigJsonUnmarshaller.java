@@ -47,22 +47,21 @@ public class HadoopStepConfigJsonUnmarshaller implements Unmarshaller<HadoopStep
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Jar", targetDepth)) {
-                    context.nextToken();
-                    hadoopStepConfig.setJar(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Properties", targetDepth)) {
-                    context.nextToken();
-                    hadoopStepConfig.setProperties(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("MainClass", targetDepth)) {
-                    context.nextToken();
-                    hadoopStepConfig.setMainClass(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Args", targetDepth)) {
-                    context.nextToken();
-                    hadoopStepConfig.setArgs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Jar".equals(fieldName)) {
+                        context.nextToken();
+                        hadoopStepConfig.setJar(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Properties".equals(fieldName)) {
+                        context.nextToken();
+                        hadoopStepConfig.setProperties(propertiesUnmarshaller.unmarshall(context));
+                    } else if ("MainClass".equals(fieldName)) {
+                        context.nextToken();
+                        hadoopStepConfig.setMainClass(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Args".equals(fieldName)) {
+                        context.nextToken();
+                        hadoopStepConfig.setArgs(argsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,19 @@ public class HadoopStepConfigJsonUnmarshaller implements Unmarshaller<HadoopStep
         return hadoopStepConfig;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> propertiesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> argsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static HadoopStepConfigJsonUnmarshaller instance;
 
     public static HadoopStepConfigJsonUnmarshaller getInstance() {
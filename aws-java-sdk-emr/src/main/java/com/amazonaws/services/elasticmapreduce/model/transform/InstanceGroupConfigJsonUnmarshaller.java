@@ -47,37 +47,33 @@ public class InstanceGroupConfigJsonUnmarshaller implements Unmarshaller<Instanc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Market", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setMarket(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceRole", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setInstanceRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BidPrice", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setBidPrice(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Configurations", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setConfigurations(new ListUnmarshaller<Configuration>(ConfigurationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("EbsConfiguration", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupConfig.setEbsConfiguration(EbsConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupConfig.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Market".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupConfig.setMarket(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceRole".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupConfig.setInstanceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BidPrice".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupConfig.setBidPrice(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupConfig.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceCount".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupConfig.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Configurations".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupConfig.setConfigurations(configurationsUnmarshaller.unmarshall(context));
+                    } else if ("EbsConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupConfig.setEbsConfiguration(EbsConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -91,6 +87,13 @@ public class InstanceGroupConfigJsonUnmarshaller implements Unmarshaller<Instanc
         return instanceGroupConfig;
     }
 
+    private final Unmarshaller<java.util.List<Configuration>, JsonUnmarshallerContext> configurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Configuration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Configuration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Configuration>(ConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static InstanceGroupConfigJsonUnmarshaller instance;
 
     public static InstanceGroupConfigJsonUnmarshaller getInstance() {
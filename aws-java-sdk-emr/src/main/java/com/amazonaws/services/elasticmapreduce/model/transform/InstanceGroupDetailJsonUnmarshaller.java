@@ -47,61 +47,51 @@ public class InstanceGroupDetailJsonUnmarshaller implements Unmarshaller<Instanc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceGroupId", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setInstanceGroupId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Market", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setMarket(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceRole", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setInstanceRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BidPrice", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setBidPrice(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceRequestCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setInstanceRequestCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceRunningCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setInstanceRunningCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastStateChangeReason", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setLastStateChangeReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setStartDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ReadyDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setReadyDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupDetail.setEndDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstanceGroupId".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setInstanceGroupId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Market".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setMarket(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceRole".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setInstanceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BidPrice".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setBidPrice(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceRequestCount".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setInstanceRequestCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("InstanceRunningCount".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setInstanceRunningCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastStateChangeReason".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setLastStateChangeReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setStartDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ReadyDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setReadyDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("EndDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupDetail.setEndDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
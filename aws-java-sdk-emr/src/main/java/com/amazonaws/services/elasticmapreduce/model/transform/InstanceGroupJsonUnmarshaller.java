@@ -47,57 +47,48 @@ public class InstanceGroupJsonUnmarshaller implements Unmarshaller<InstanceGroup
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Market", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setMarket(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceGroupType", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setInstanceGroupType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BidPrice", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setBidPrice(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RequestedInstanceCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setRequestedInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RunningInstanceCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setRunningInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setStatus(InstanceGroupStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Configurations", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setConfigurations(new ListUnmarshaller<Configuration>(ConfigurationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("EbsBlockDevices", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setEbsBlockDevices(new ListUnmarshaller<EbsBlockDevice>(EbsBlockDeviceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("EbsOptimized", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setEbsOptimized(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ShrinkPolicy", targetDepth)) {
-                    context.nextToken();
-                    instanceGroup.setShrinkPolicy(ShrinkPolicyJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Market".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setMarket(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceGroupType".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setInstanceGroupType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BidPrice".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setBidPrice(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RequestedInstanceCount".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setRequestedInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("RunningInstanceCount".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setRunningInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setStatus(InstanceGroupStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Configurations".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setConfigurations(configurationsUnmarshaller.unmarshall(context));
+                    } else if ("EbsBlockDevices".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setEbsBlockDevices(ebsBlockDevicesUnmarshaller.unmarshall(context));
+                    } else if ("EbsOptimized".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setEbsOptimized(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("ShrinkPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroup.setShrinkPolicy(ShrinkPolicyJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -111,6 +102,19 @@ public class InstanceGroupJsonUnmarshaller implements Unmarshaller<InstanceGroup
         return instanceGroup;
     }
 
+    private final Unmarshaller<java.util.List<Configuration>, JsonUnmarshallerContext> configurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Configuration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Configuration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Configuration>(ConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<EbsBlockDevice>, JsonUnmarshallerContext> ebsBlockDevicesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EbsBlockDevice>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EbsBlockDevice>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EbsBlockDevice>(EbsBlockDeviceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static InstanceGroupJsonUnmarshaller instance;
 
     public static InstanceGroupJsonUnmarshaller getInstance() {
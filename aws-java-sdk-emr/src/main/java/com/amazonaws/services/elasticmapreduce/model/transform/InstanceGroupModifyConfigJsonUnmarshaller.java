@@ -47,22 +47,21 @@ public class InstanceGroupModifyConfigJsonUnmarshaller implements Unmarshaller<I
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceGroupId", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupModifyConfig.setInstanceGroupId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupModifyConfig.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("EC2InstanceIdsToTerminate", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupModifyConfig.setEC2InstanceIdsToTerminate(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ShrinkPolicy", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupModifyConfig.setShrinkPolicy(ShrinkPolicyJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstanceGroupId".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupModifyConfig.setInstanceGroupId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceCount".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupModifyConfig.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("EC2InstanceIdsToTerminate".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupModifyConfig.setEC2InstanceIdsToTerminate(eC2InstanceIdsToTerminateUnmarshaller.unmarshall(context));
+                    } else if ("ShrinkPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupModifyConfig.setShrinkPolicy(ShrinkPolicyJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,13 @@ public class InstanceGroupModifyConfigJsonUnmarshaller implements Unmarshaller<I
         return instanceGroupModifyConfig;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> eC2InstanceIdsToTerminateUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static InstanceGroupModifyConfigJsonUnmarshaller instance;
 
     public static InstanceGroupModifyConfigJsonUnmarshaller getInstance() {
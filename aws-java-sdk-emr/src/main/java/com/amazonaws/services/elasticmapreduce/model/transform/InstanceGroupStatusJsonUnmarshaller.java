@@ -47,17 +47,18 @@ public class InstanceGroupStatusJsonUnmarshaller implements Unmarshaller<Instanc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupStatus.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StateChangeReason", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupStatus.setStateChangeReason(InstanceGroupStateChangeReasonJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Timeline", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupStatus.setTimeline(InstanceGroupTimelineJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupStatus.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StateChangeReason".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupStatus.setStateChangeReason(InstanceGroupStateChangeReasonJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Timeline".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupStatus.setTimeline(InstanceGroupTimelineJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
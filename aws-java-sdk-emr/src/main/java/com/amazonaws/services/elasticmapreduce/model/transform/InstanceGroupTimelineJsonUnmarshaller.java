@@ -47,17 +47,18 @@ public class InstanceGroupTimelineJsonUnmarshaller implements Unmarshaller<Insta
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupTimeline.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ReadyDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupTimeline.setReadyDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceGroupTimeline.setEndDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CreationDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupTimeline.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ReadyDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupTimeline.setReadyDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("EndDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceGroupTimeline.setEndDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
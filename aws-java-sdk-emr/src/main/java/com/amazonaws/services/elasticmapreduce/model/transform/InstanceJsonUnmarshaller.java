@@ -47,41 +47,36 @@ public class InstanceJsonUnmarshaller implements Unmarshaller<Instance, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    instance.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2InstanceId", targetDepth)) {
-                    context.nextToken();
-                    instance.setEc2InstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PublicDnsName", targetDepth)) {
-                    context.nextToken();
-                    instance.setPublicDnsName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PublicIpAddress", targetDepth)) {
-                    context.nextToken();
-                    instance.setPublicIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrivateDnsName", targetDepth)) {
-                    context.nextToken();
-                    instance.setPrivateDnsName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrivateIpAddress", targetDepth)) {
-                    context.nextToken();
-                    instance.setPrivateIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    instance.setStatus(InstanceStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("InstanceGroupId", targetDepth)) {
-                    context.nextToken();
-                    instance.setInstanceGroupId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EbsVolumes", targetDepth)) {
-                    context.nextToken();
-                    instance.setEbsVolumes(new ListUnmarshaller<EbsVolume>(EbsVolumeJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Ec2InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setEc2InstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PublicDnsName".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setPublicDnsName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PublicIpAddress".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setPublicIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PrivateDnsName".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setPrivateDnsName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PrivateIpAddress".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setPrivateIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setStatus(InstanceStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("InstanceGroupId".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setInstanceGroupId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EbsVolumes".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setEbsVolumes(ebsVolumesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -95,6 +90,13 @@ public class InstanceJsonUnmarshaller implements Unmarshaller<Instance, JsonUnma
         return instance;
     }
 
+    private final Unmarshaller<java.util.List<EbsVolume>, JsonUnmarshallerContext> ebsVolumesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EbsVolume>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EbsVolume>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EbsVolume>(EbsVolumeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static InstanceJsonUnmarshaller instance;
 
     public static InstanceJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class InstanceResizePolicyJsonUnmarshaller implements Unmarshaller<Instan
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstancesToTerminate", targetDepth)) {
-                    context.nextToken();
-                    instanceResizePolicy.setInstancesToTerminate(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("InstancesToProtect", targetDepth)) {
-                    context.nextToken();
-                    instanceResizePolicy.setInstancesToProtect(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("InstanceTerminationTimeout", targetDepth)) {
-                    context.nextToken();
-                    instanceResizePolicy.setInstanceTerminationTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstancesToTerminate".equals(fieldName)) {
+                        context.nextToken();
+                        instanceResizePolicy.setInstancesToTerminate(instancesToTerminateUnmarshaller.unmarshall(context));
+                    } else if ("InstancesToProtect".equals(fieldName)) {
+                        context.nextToken();
+                        instanceResizePolicy.setInstancesToProtect(instancesToProtectUnmarshaller.unmarshall(context));
+                    } else if ("InstanceTerminationTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        instanceResizePolicy.setInstanceTerminationTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,19 @@ public class InstanceResizePolicyJsonUnmarshaller implements Unmarshaller<Instan
         return instanceResizePolicy;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> instancesToTerminateUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> instancesToProtectUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static InstanceResizePolicyJsonUnmarshaller instance;
 
     public static InstanceResizePolicyJsonUnmarshaller getInstance() {
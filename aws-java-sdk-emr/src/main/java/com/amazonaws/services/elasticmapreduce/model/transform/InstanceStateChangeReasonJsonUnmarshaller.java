@@ -47,13 +47,15 @@ public class InstanceStateChangeReasonJsonUnmarshaller implements Unmarshaller<I
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Code", targetDepth)) {
-                    context.nextToken();
-                    instanceStateChangeReason.setCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    instanceStateChangeReason.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Code".equals(fieldName)) {
+                        context.nextToken();
+                        instanceStateChangeReason.setCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        instanceStateChangeReason.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class InstanceTimelineJsonUnmarshaller implements Unmarshaller<InstanceTi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceTimeline.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ReadyDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceTimeline.setReadyDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceTimeline.setEndDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CreationDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceTimeline.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ReadyDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceTimeline.setReadyDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("EndDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceTimeline.setEndDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
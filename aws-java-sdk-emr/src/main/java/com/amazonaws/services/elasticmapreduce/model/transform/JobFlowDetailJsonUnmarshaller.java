@@ -47,54 +47,45 @@ public class JobFlowDetailJsonUnmarshaller implements Unmarshaller<JobFlowDetail
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobFlowId", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setJobFlowId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AmiVersion", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setAmiVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExecutionStatusDetail", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setExecutionStatusDetail(JobFlowExecutionStatusDetailJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Instances", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setInstances(JobFlowInstancesDetailJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Steps", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setSteps(new ListUnmarshaller<StepDetail>(StepDetailJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("BootstrapActions", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setBootstrapActions(new ListUnmarshaller<BootstrapActionDetail>(BootstrapActionDetailJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("SupportedProducts", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setSupportedProducts(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("VisibleToAllUsers", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setVisibleToAllUsers(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("JobFlowRole", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setJobFlowRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceRole", targetDepth)) {
-                    context.nextToken();
-                    jobFlowDetail.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobFlowId".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setJobFlowId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LogUri".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AmiVersion".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setAmiVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ExecutionStatusDetail".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setExecutionStatusDetail(JobFlowExecutionStatusDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Instances".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setInstances(JobFlowInstancesDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Steps".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setSteps(stepsUnmarshaller.unmarshall(context));
+                    } else if ("BootstrapActions".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setBootstrapActions(bootstrapActionsUnmarshaller.unmarshall(context));
+                    } else if ("SupportedProducts".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setSupportedProducts(supportedProductsUnmarshaller.unmarshall(context));
+                    } else if ("VisibleToAllUsers".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setVisibleToAllUsers(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("JobFlowRole".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setJobFlowRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServiceRole".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowDetail.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -108,6 +99,25 @@ public class JobFlowDetailJsonUnmarshaller implements Unmarshaller<JobFlowDetail
         return jobFlowDetail;
     }
 
+    private final Unmarshaller<java.util.List<StepDetail>, JsonUnmarshallerContext> stepsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<StepDetail>>() {
+        @Override
+        protected Unmarshaller<java.util.List<StepDetail>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<StepDetail>(StepDetailJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<BootstrapActionDetail>, JsonUnmarshallerContext> bootstrapActionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<BootstrapActionDetail>>() {
+        @Override
+        protected Unmarshaller<java.util.List<BootstrapActionDetail>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<BootstrapActionDetail>(BootstrapActionDetailJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> supportedProductsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static JobFlowDetailJsonUnmarshaller instance;
 
     public static JobFlowDetailJsonUnmarshaller getInstance() {
@@ -47,29 +47,27 @@ public class JobFlowExecutionStatusDetailJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartDateTime", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setStartDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ReadyDateTime", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setReadyDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndDateTime", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setEndDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastStateChangeReason", targetDepth)) {
-                    context.nextToken();
-                    jobFlowExecutionStatusDetail.setLastStateChangeReason(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowExecutionStatusDetail.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowExecutionStatusDetail.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowExecutionStatusDetail.setStartDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ReadyDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowExecutionStatusDetail.setReadyDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("EndDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowExecutionStatusDetail.setEndDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastStateChangeReason".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowExecutionStatusDetail.setLastStateChangeReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,68 +47,54 @@ public class JobFlowInstancesConfigJsonUnmarshaller implements Unmarshaller<JobF
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MasterInstanceType", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setMasterInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SlaveInstanceType", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setSlaveInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceGroups", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setInstanceGroups(new ListUnmarshaller<InstanceGroupConfig>(InstanceGroupConfigJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Ec2KeyName", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setEc2KeyName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Placement", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setPlacement(PlacementTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KeepJobFlowAliveWhenNoSteps", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setKeepJobFlowAliveWhenNoSteps(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TerminationProtected", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setTerminationProtected(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("HadoopVersion", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setHadoopVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2SubnetId", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setEc2SubnetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmrManagedMasterSecurityGroup", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setEmrManagedMasterSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EmrManagedSlaveSecurityGroup", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setEmrManagedSlaveSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceAccessSecurityGroup", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setServiceAccessSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AdditionalMasterSecurityGroups", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setAdditionalMasterSecurityGroups(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("AdditionalSlaveSecurityGroups", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesConfig.setAdditionalSlaveSecurityGroups(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MasterInstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setMasterInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SlaveInstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setSlaveInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceCount".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("InstanceGroups".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setInstanceGroups(instanceGroupsUnmarshaller.unmarshall(context));
+                    } else if ("Ec2KeyName".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setEc2KeyName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Placement".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setPlacement(PlacementTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("KeepJobFlowAliveWhenNoSteps".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setKeepJobFlowAliveWhenNoSteps(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("TerminationProtected".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setTerminationProtected(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("HadoopVersion".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setHadoopVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Ec2SubnetId".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setEc2SubnetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EmrManagedMasterSecurityGroup".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setEmrManagedMasterSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EmrManagedSlaveSecurityGroup".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setEmrManagedSlaveSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServiceAccessSecurityGroup".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setServiceAccessSecurityGroup(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AdditionalMasterSecurityGroups".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setAdditionalMasterSecurityGroups(additionalMasterSecurityGroupsUnmarshaller.unmarshall(context));
+                    } else if ("AdditionalSlaveSecurityGroups".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesConfig.setAdditionalSlaveSecurityGroups(additionalSlaveSecurityGroupsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -122,6 +108,25 @@ public class JobFlowInstancesConfigJsonUnmarshaller implements Unmarshaller<JobF
         return jobFlowInstancesConfig;
     }
 
+    private final Unmarshaller<java.util.List<InstanceGroupConfig>, JsonUnmarshallerContext> instanceGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<InstanceGroupConfig>>() {
+        @Override
+        protected Unmarshaller<java.util.List<InstanceGroupConfig>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<InstanceGroupConfig>(InstanceGroupConfigJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> additionalMasterSecurityGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> additionalSlaveSecurityGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static JobFlowInstancesConfigJsonUnmarshaller instance;
 
     public static JobFlowInstancesConfigJsonUnmarshaller getInstance() {
@@ -47,58 +47,48 @@ public class JobFlowInstancesDetailJsonUnmarshaller implements Unmarshaller<JobF
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MasterInstanceType", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setMasterInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MasterPublicDnsName", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setMasterPublicDnsName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MasterInstanceId", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setMasterInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SlaveInstanceType", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setSlaveInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceGroups", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setInstanceGroups(new ListUnmarshaller<InstanceGroupDetail>(InstanceGroupDetailJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NormalizedInstanceHours", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setNormalizedInstanceHours(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2KeyName", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setEc2KeyName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2SubnetId", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setEc2SubnetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Placement", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setPlacement(PlacementTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KeepJobFlowAliveWhenNoSteps", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setKeepJobFlowAliveWhenNoSteps(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TerminationProtected", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setTerminationProtected(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("HadoopVersion", targetDepth)) {
-                    context.nextToken();
-                    jobFlowInstancesDetail.setHadoopVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MasterInstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setMasterInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MasterPublicDnsName".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setMasterPublicDnsName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MasterInstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setMasterInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SlaveInstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setSlaveInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceCount".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("InstanceGroups".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setInstanceGroups(instanceGroupsUnmarshaller.unmarshall(context));
+                    } else if ("NormalizedInstanceHours".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setNormalizedInstanceHours(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Ec2KeyName".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setEc2KeyName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Ec2SubnetId".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setEc2SubnetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Placement".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setPlacement(PlacementTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("KeepJobFlowAliveWhenNoSteps".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setKeepJobFlowAliveWhenNoSteps(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("TerminationProtected".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setTerminationProtected(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("HadoopVersion".equals(fieldName)) {
+                        context.nextToken();
+                        jobFlowInstancesDetail.setHadoopVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -112,6 +102,13 @@ public class JobFlowInstancesDetailJsonUnmarshaller implements Unmarshaller<JobF
         return jobFlowInstancesDetail;
     }
 
+    private final Unmarshaller<java.util.List<InstanceGroupDetail>, JsonUnmarshallerContext> instanceGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<InstanceGroupDetail>>() {
+        @Override
+        protected Unmarshaller<java.util.List<InstanceGroupDetail>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<InstanceGroupDetail>(InstanceGroupDetailJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static JobFlowInstancesDetailJsonUnmarshaller instance;
 
     public static JobFlowInstancesDetailJsonUnmarshaller getInstance() {
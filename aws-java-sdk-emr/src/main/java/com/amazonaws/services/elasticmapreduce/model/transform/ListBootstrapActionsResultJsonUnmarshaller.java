@@ -47,13 +47,15 @@ public class ListBootstrapActionsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BootstrapActions", targetDepth)) {
-                    context.nextToken();
-                    listBootstrapActionsResult.setBootstrapActions(new ListUnmarshaller<Command>(CommandJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listBootstrapActionsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BootstrapActions".equals(fieldName)) {
+                        context.nextToken();
+                        listBootstrapActionsResult.setBootstrapActions(bootstrapActionsUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listBootstrapActionsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListBootstrapActionsResultJsonUnmarshaller implements Unmarshaller<
         return listBootstrapActionsResult;
     }
 
+    private final Unmarshaller<java.util.List<Command>, JsonUnmarshallerContext> bootstrapActionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Command>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Command>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Command>(CommandJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListBootstrapActionsResultJsonUnmarshaller instance;
 
     public static ListBootstrapActionsResultJsonUnmarshaller getInstance() {
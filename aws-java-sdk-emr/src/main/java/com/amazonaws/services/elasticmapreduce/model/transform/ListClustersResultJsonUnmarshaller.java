@@ -47,13 +47,15 @@ public class ListClustersResultJsonUnmarshaller implements Unmarshaller<ListClus
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Clusters", targetDepth)) {
-                    context.nextToken();
-                    listClustersResult.setClusters(new ListUnmarshaller<ClusterSummary>(ClusterSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listClustersResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Clusters".equals(fieldName)) {
+                        context.nextToken();
+                        listClustersResult.setClusters(clustersUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listClustersResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListClustersResultJsonUnmarshaller implements Unmarshaller<ListClus
         return listClustersResult;
     }
 
+    private final Unmarshaller<java.util.List<ClusterSummary>, JsonUnmarshallerContext> clustersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ClusterSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ClusterSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ClusterSummary>(ClusterSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListClustersResultJsonUnmarshaller instance;
 
     public static ListClustersResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListInstanceGroupsResultJsonUnmarshaller implements Unmarshaller<Li
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceGroups", targetDepth)) {
-                    context.nextToken();
-                    listInstanceGroupsResult.setInstanceGroups(new ListUnmarshaller<InstanceGroup>(InstanceGroupJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listInstanceGroupsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstanceGroups".equals(fieldName)) {
+                        context.nextToken();
+                        listInstanceGroupsResult.setInstanceGroups(instanceGroupsUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listInstanceGroupsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListInstanceGroupsResultJsonUnmarshaller implements Unmarshaller<Li
         return listInstanceGroupsResult;
     }
 
+    private final Unmarshaller<java.util.List<InstanceGroup>, JsonUnmarshallerContext> instanceGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<InstanceGroup>>() {
+        @Override
+        protected Unmarshaller<java.util.List<InstanceGroup>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<InstanceGroup>(InstanceGroupJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListInstanceGroupsResultJsonUnmarshaller instance;
 
     public static ListInstanceGroupsResultJsonUnmarshaller getInstance() {
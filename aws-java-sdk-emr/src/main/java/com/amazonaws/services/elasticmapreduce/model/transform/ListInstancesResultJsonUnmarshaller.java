@@ -47,13 +47,15 @@ public class ListInstancesResultJsonUnmarshaller implements Unmarshaller<ListIns
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Instances", targetDepth)) {
-                    context.nextToken();
-                    listInstancesResult.setInstances(new ListUnmarshaller<Instance>(InstanceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listInstancesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Instances".equals(fieldName)) {
+                        context.nextToken();
+                        listInstancesResult.setInstances(instancesUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listInstancesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListInstancesResultJsonUnmarshaller implements Unmarshaller<ListIns
         return listInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<Instance>, JsonUnmarshallerContext> instancesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Instance>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Instance>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Instance>(InstanceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListInstancesResultJsonUnmarshaller instance;
 
     public static ListInstancesResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListSecurityConfigurationsResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SecurityConfigurations", targetDepth)) {
-                    context.nextToken();
-                    listSecurityConfigurationsResult.setSecurityConfigurations(new ListUnmarshaller<SecurityConfigurationSummary>(
-                            SecurityConfigurationSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listSecurityConfigurationsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SecurityConfigurations".equals(fieldName)) {
+                        context.nextToken();
+                        listSecurityConfigurationsResult.setSecurityConfigurations(securityConfigurationsUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listSecurityConfigurationsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListSecurityConfigurationsResultJsonUnmarshaller implements Unmarsh
         return listSecurityConfigurationsResult;
     }
 
+    private final Unmarshaller<java.util.List<SecurityConfigurationSummary>, JsonUnmarshallerContext> securityConfigurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SecurityConfigurationSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SecurityConfigurationSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SecurityConfigurationSummary>(SecurityConfigurationSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListSecurityConfigurationsResultJsonUnmarshaller instance;
 
     public static ListSecurityConfigurationsResultJsonUnmarshaller getInstance() {
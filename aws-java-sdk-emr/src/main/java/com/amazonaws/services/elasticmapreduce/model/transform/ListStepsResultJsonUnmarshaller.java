@@ -47,13 +47,15 @@ public class ListStepsResultJsonUnmarshaller implements Unmarshaller<ListStepsRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Steps", targetDepth)) {
-                    context.nextToken();
-                    listStepsResult.setSteps(new ListUnmarshaller<StepSummary>(StepSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listStepsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Steps".equals(fieldName)) {
+                        context.nextToken();
+                        listStepsResult.setSteps(stepsUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listStepsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListStepsResultJsonUnmarshaller implements Unmarshaller<ListStepsRe
         return listStepsResult;
     }
 
+    private final Unmarshaller<java.util.List<StepSummary>, JsonUnmarshallerContext> stepsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<StepSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<StepSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<StepSummary>(StepSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListStepsResultJsonUnmarshaller instance;
 
     public static ListStepsResultJsonUnmarshaller getInstance() {
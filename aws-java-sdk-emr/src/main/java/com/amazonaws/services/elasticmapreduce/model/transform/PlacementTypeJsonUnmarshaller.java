@@ -47,9 +47,12 @@ public class PlacementTypeJsonUnmarshaller implements Unmarshaller<PlacementType
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    placementType.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AvailabilityZone".equals(fieldName)) {
+                        context.nextToken();
+                        placementType.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class RunJobFlowResultJsonUnmarshaller implements Unmarshaller<RunJobFlow
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobFlowId", targetDepth)) {
-                    context.nextToken();
-                    runJobFlowResult.setJobFlowId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobFlowId".equals(fieldName)) {
+                        context.nextToken();
+                        runJobFlowResult.setJobFlowId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ScriptBootstrapActionConfigJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Path", targetDepth)) {
-                    context.nextToken();
-                    scriptBootstrapActionConfig.setPath(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Args", targetDepth)) {
-                    context.nextToken();
-                    scriptBootstrapActionConfig.setArgs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Path".equals(fieldName)) {
+                        context.nextToken();
+                        scriptBootstrapActionConfig.setPath(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Args".equals(fieldName)) {
+                        context.nextToken();
+                        scriptBootstrapActionConfig.setArgs(argsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ScriptBootstrapActionConfigJsonUnmarshaller implements Unmarshaller
         return scriptBootstrapActionConfig;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> argsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ScriptBootstrapActionConfigJsonUnmarshaller instance;
 
     public static ScriptBootstrapActionConfigJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ShrinkPolicyJsonUnmarshaller implements Unmarshaller<ShrinkPolicy,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DecommissionTimeout", targetDepth)) {
-                    context.nextToken();
-                    shrinkPolicy.setDecommissionTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceResizePolicy", targetDepth)) {
-                    context.nextToken();
-                    shrinkPolicy.setInstanceResizePolicy(InstanceResizePolicyJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DecommissionTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        shrinkPolicy.setDecommissionTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("InstanceResizePolicy".equals(fieldName)) {
+                        context.nextToken();
+                        shrinkPolicy.setInstanceResizePolicy(InstanceResizePolicyJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
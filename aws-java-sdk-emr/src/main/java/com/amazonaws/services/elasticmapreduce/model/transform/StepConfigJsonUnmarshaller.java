@@ -47,17 +47,18 @@ public class StepConfigJsonUnmarshaller implements Unmarshaller<StepConfig, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    stepConfig.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ActionOnFailure", targetDepth)) {
-                    context.nextToken();
-                    stepConfig.setActionOnFailure(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HadoopJarStep", targetDepth)) {
-                    context.nextToken();
-                    stepConfig.setHadoopJarStep(HadoopJarStepConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        stepConfig.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ActionOnFailure".equals(fieldName)) {
+                        context.nextToken();
+                        stepConfig.setActionOnFailure(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HadoopJarStep".equals(fieldName)) {
+                        context.nextToken();
+                        stepConfig.setHadoopJarStep(HadoopJarStepConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class StepDetailJsonUnmarshaller implements Unmarshaller<StepDetail, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StepConfig", targetDepth)) {
-                    context.nextToken();
-                    stepDetail.setStepConfig(StepConfigJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ExecutionStatusDetail", targetDepth)) {
-                    context.nextToken();
-                    stepDetail.setExecutionStatusDetail(StepExecutionStatusDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StepConfig".equals(fieldName)) {
+                        context.nextToken();
+                        stepDetail.setStepConfig(StepConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ExecutionStatusDetail".equals(fieldName)) {
+                        context.nextToken();
+                        stepDetail.setExecutionStatusDetail(StepExecutionStatusDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class StepExecutionStatusDetailJsonUnmarshaller implements Unmarshaller<S
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    stepExecutionStatusDetail.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDateTime", targetDepth)) {
-                    context.nextToken();
-                    stepExecutionStatusDetail.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartDateTime", targetDepth)) {
-                    context.nextToken();
-                    stepExecutionStatusDetail.setStartDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndDateTime", targetDepth)) {
-                    context.nextToken();
-                    stepExecutionStatusDetail.setEndDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastStateChangeReason", targetDepth)) {
-                    context.nextToken();
-                    stepExecutionStatusDetail.setLastStateChangeReason(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        stepExecutionStatusDetail.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        stepExecutionStatusDetail.setCreationDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        stepExecutionStatusDetail.setStartDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("EndDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        stepExecutionStatusDetail.setEndDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastStateChangeReason".equals(fieldName)) {
+                        context.nextToken();
+                        stepExecutionStatusDetail.setLastStateChangeReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
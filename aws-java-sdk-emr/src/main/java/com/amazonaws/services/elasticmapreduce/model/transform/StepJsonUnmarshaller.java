@@ -47,25 +47,24 @@ public class StepJsonUnmarshaller implements Unmarshaller<Step, JsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    step.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    step.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Config", targetDepth)) {
-                    context.nextToken();
-                    step.setConfig(HadoopStepConfigJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ActionOnFailure", targetDepth)) {
-                    context.nextToken();
-                    step.setActionOnFailure(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    step.setStatus(StepStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        step.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        step.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Config".equals(fieldName)) {
+                        context.nextToken();
+                        step.setConfig(HadoopStepConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ActionOnFailure".equals(fieldName)) {
+                        context.nextToken();
+                        step.setActionOnFailure(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        step.setStatus(StepStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
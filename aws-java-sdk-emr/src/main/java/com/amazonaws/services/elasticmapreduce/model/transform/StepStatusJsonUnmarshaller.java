@@ -47,21 +47,21 @@ public class StepStatusJsonUnmarshaller implements Unmarshaller<StepStatus, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    stepStatus.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StateChangeReason", targetDepth)) {
-                    context.nextToken();
-                    stepStatus.setStateChangeReason(StepStateChangeReasonJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("FailureDetails", targetDepth)) {
-                    context.nextToken();
-                    stepStatus.setFailureDetails(FailureDetailsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Timeline", targetDepth)) {
-                    context.nextToken();
-                    stepStatus.setTimeline(StepTimelineJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        stepStatus.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StateChangeReason".equals(fieldName)) {
+                        context.nextToken();
+                        stepStatus.setStateChangeReason(StepStateChangeReasonJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("FailureDetails".equals(fieldName)) {
+                        context.nextToken();
+                        stepStatus.setFailureDetails(FailureDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Timeline".equals(fieldName)) {
+                        context.nextToken();
+                        stepStatus.setTimeline(StepTimelineJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
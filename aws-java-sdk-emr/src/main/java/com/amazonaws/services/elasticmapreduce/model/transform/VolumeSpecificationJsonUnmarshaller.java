@@ -47,17 +47,18 @@ public class VolumeSpecificationJsonUnmarshaller implements Unmarshaller<VolumeS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    volumeSpecification.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    volumeSpecification.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInGB", targetDepth)) {
-                    context.nextToken();
-                    volumeSpecification.setSizeInGB(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeType".equals(fieldName)) {
+                        context.nextToken();
+                        volumeSpecification.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Iops".equals(fieldName)) {
+                        context.nextToken();
+                        volumeSpecification.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("SizeInGB".equals(fieldName)) {
+                        context.nextToken();
+                        volumeSpecification.setSizeInGB(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
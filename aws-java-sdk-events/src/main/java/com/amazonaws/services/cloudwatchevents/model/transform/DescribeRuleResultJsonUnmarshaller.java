@@ -47,33 +47,30 @@ public class DescribeRuleResultJsonUnmarshaller implements Unmarshaller<Describe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EventPattern", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setEventPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScheduleExpression", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setScheduleExpression(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleArn", targetDepth)) {
-                    context.nextToken();
-                    describeRuleResult.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        describeRuleResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        describeRuleResult.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EventPattern".equals(fieldName)) {
+                        context.nextToken();
+                        describeRuleResult.setEventPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ScheduleExpression".equals(fieldName)) {
+                        context.nextToken();
+                        describeRuleResult.setScheduleExpression(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        describeRuleResult.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        describeRuleResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        describeRuleResult.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
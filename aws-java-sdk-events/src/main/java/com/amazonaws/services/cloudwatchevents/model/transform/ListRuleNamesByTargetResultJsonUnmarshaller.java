@@ -47,13 +47,15 @@ public class ListRuleNamesByTargetResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RuleNames", targetDepth)) {
-                    context.nextToken();
-                    listRuleNamesByTargetResult.setRuleNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listRuleNamesByTargetResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RuleNames".equals(fieldName)) {
+                        context.nextToken();
+                        listRuleNamesByTargetResult.setRuleNames(ruleNamesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listRuleNamesByTargetResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListRuleNamesByTargetResultJsonUnmarshaller implements Unmarshaller
         return listRuleNamesByTargetResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> ruleNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListRuleNamesByTargetResultJsonUnmarshaller instance;
 
     public static ListRuleNamesByTargetResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListRulesResultJsonUnmarshaller implements Unmarshaller<ListRulesRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Rules", targetDepth)) {
-                    context.nextToken();
-                    listRulesResult.setRules(new ListUnmarshaller<Rule>(RuleJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listRulesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Rules".equals(fieldName)) {
+                        context.nextToken();
+                        listRulesResult.setRules(rulesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listRulesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListRulesResultJsonUnmarshaller implements Unmarshaller<ListRulesRe
         return listRulesResult;
     }
 
+    private final Unmarshaller<java.util.List<Rule>, JsonUnmarshallerContext> rulesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Rule>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Rule>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Rule>(RuleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListRulesResultJsonUnmarshaller instance;
 
     public static ListRulesResultJsonUnmarshaller getInstance() {
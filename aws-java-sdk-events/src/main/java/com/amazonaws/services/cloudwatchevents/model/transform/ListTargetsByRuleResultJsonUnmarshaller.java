@@ -47,13 +47,15 @@ public class ListTargetsByRuleResultJsonUnmarshaller implements Unmarshaller<Lis
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Targets", targetDepth)) {
-                    context.nextToken();
-                    listTargetsByRuleResult.setTargets(new ListUnmarshaller<Target>(TargetJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listTargetsByRuleResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Targets".equals(fieldName)) {
+                        context.nextToken();
+                        listTargetsByRuleResult.setTargets(targetsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listTargetsByRuleResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTargetsByRuleResultJsonUnmarshaller implements Unmarshaller<Lis
         return listTargetsByRuleResult;
     }
 
+    private final Unmarshaller<java.util.List<Target>, JsonUnmarshallerContext> targetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Target>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Target>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Target>(TargetJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListTargetsByRuleResultJsonUnmarshaller instance;
 
     public static ListTargetsByRuleResultJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class PutEventsRequestEntryJsonUnmarshaller implements Unmarshaller<PutEv
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Time", targetDepth)) {
-                    context.nextToken();
-                    putEventsRequestEntry.setTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Source", targetDepth)) {
-                    context.nextToken();
-                    putEventsRequestEntry.setSource(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Resources", targetDepth)) {
-                    context.nextToken();
-                    putEventsRequestEntry.setResources(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("DetailType", targetDepth)) {
-                    context.nextToken();
-                    putEventsRequestEntry.setDetailType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Detail", targetDepth)) {
-                    context.nextToken();
-                    putEventsRequestEntry.setDetail(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Time".equals(fieldName)) {
+                        context.nextToken();
+                        putEventsRequestEntry.setTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Source".equals(fieldName)) {
+                        context.nextToken();
+                        putEventsRequestEntry.setSource(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Resources".equals(fieldName)) {
+                        context.nextToken();
+                        putEventsRequestEntry.setResources(resourcesUnmarshaller.unmarshall(context));
+                    } else if ("DetailType".equals(fieldName)) {
+                        context.nextToken();
+                        putEventsRequestEntry.setDetailType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Detail".equals(fieldName)) {
+                        context.nextToken();
+                        putEventsRequestEntry.setDetail(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class PutEventsRequestEntryJsonUnmarshaller implements Unmarshaller<PutEv
         return putEventsRequestEntry;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> resourcesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static PutEventsRequestEntryJsonUnmarshaller instance;
 
     public static PutEventsRequestEntryJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class PutEventsResultEntryJsonUnmarshaller implements Unmarshaller<PutEve
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EventId", targetDepth)) {
-                    context.nextToken();
-                    putEventsResultEntry.setEventId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    putEventsResultEntry.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    putEventsResultEntry.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EventId".equals(fieldName)) {
+                        context.nextToken();
+                        putEventsResultEntry.setEventId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        putEventsResultEntry.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        putEventsResultEntry.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
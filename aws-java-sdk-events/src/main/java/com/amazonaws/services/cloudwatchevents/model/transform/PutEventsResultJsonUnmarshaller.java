@@ -47,14 +47,15 @@ public class PutEventsResultJsonUnmarshaller implements Unmarshaller<PutEventsRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedEntryCount", targetDepth)) {
-                    context.nextToken();
-                    putEventsResult.setFailedEntryCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Entries", targetDepth)) {
-                    context.nextToken();
-                    putEventsResult.setEntries(new ListUnmarshaller<PutEventsResultEntry>(PutEventsResultEntryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FailedEntryCount".equals(fieldName)) {
+                        context.nextToken();
+                        putEventsResult.setFailedEntryCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Entries".equals(fieldName)) {
+                        context.nextToken();
+                        putEventsResult.setEntries(entriesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class PutEventsResultJsonUnmarshaller implements Unmarshaller<PutEventsRe
         return putEventsResult;
     }
 
+    private final Unmarshaller<java.util.List<PutEventsResultEntry>, JsonUnmarshallerContext> entriesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PutEventsResultEntry>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PutEventsResultEntry>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PutEventsResultEntry>(PutEventsResultEntryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PutEventsResultJsonUnmarshaller instance;
 
     public static PutEventsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class PutRuleResultJsonUnmarshaller implements Unmarshaller<PutRuleResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RuleArn", targetDepth)) {
-                    context.nextToken();
-                    putRuleResult.setRuleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RuleArn".equals(fieldName)) {
+                        context.nextToken();
+                        putRuleResult.setRuleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
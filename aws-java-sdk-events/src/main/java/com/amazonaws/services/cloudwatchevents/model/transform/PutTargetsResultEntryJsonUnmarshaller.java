@@ -47,17 +47,18 @@ public class PutTargetsResultEntryJsonUnmarshaller implements Unmarshaller<PutTa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TargetId", targetDepth)) {
-                    context.nextToken();
-                    putTargetsResultEntry.setTargetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    putTargetsResultEntry.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    putTargetsResultEntry.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TargetId".equals(fieldName)) {
+                        context.nextToken();
+                        putTargetsResultEntry.setTargetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        putTargetsResultEntry.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        putTargetsResultEntry.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
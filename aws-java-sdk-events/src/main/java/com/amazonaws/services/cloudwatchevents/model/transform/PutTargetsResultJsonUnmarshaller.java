@@ -47,14 +47,15 @@ public class PutTargetsResultJsonUnmarshaller implements Unmarshaller<PutTargets
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedEntryCount", targetDepth)) {
-                    context.nextToken();
-                    putTargetsResult.setFailedEntryCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("FailedEntries", targetDepth)) {
-                    context.nextToken();
-                    putTargetsResult.setFailedEntries(new ListUnmarshaller<PutTargetsResultEntry>(PutTargetsResultEntryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FailedEntryCount".equals(fieldName)) {
+                        context.nextToken();
+                        putTargetsResult.setFailedEntryCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("FailedEntries".equals(fieldName)) {
+                        context.nextToken();
+                        putTargetsResult.setFailedEntries(failedEntriesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class PutTargetsResultJsonUnmarshaller implements Unmarshaller<PutTargets
         return putTargetsResult;
     }
 
+    private final Unmarshaller<java.util.List<PutTargetsResultEntry>, JsonUnmarshallerContext> failedEntriesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PutTargetsResultEntry>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PutTargetsResultEntry>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PutTargetsResultEntry>(PutTargetsResultEntryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PutTargetsResultJsonUnmarshaller instance;
 
     public static PutTargetsResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class RemoveTargetsResultEntryJsonUnmarshaller implements Unmarshaller<Re
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TargetId", targetDepth)) {
-                    context.nextToken();
-                    removeTargetsResultEntry.setTargetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    removeTargetsResultEntry.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    removeTargetsResultEntry.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TargetId".equals(fieldName)) {
+                        context.nextToken();
+                        removeTargetsResultEntry.setTargetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        removeTargetsResultEntry.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        removeTargetsResultEntry.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
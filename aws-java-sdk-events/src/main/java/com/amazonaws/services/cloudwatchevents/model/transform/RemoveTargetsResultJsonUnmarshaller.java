@@ -47,14 +47,15 @@ public class RemoveTargetsResultJsonUnmarshaller implements Unmarshaller<RemoveT
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedEntryCount", targetDepth)) {
-                    context.nextToken();
-                    removeTargetsResult.setFailedEntryCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("FailedEntries", targetDepth)) {
-                    context.nextToken();
-                    removeTargetsResult.setFailedEntries(new ListUnmarshaller<RemoveTargetsResultEntry>(RemoveTargetsResultEntryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FailedEntryCount".equals(fieldName)) {
+                        context.nextToken();
+                        removeTargetsResult.setFailedEntryCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("FailedEntries".equals(fieldName)) {
+                        context.nextToken();
+                        removeTargetsResult.setFailedEntries(failedEntriesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class RemoveTargetsResultJsonUnmarshaller implements Unmarshaller<RemoveT
         return removeTargetsResult;
     }
 
+    private final Unmarshaller<java.util.List<RemoveTargetsResultEntry>, JsonUnmarshallerContext> failedEntriesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RemoveTargetsResultEntry>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RemoveTargetsResultEntry>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RemoveTargetsResultEntry>(RemoveTargetsResultEntryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static RemoveTargetsResultJsonUnmarshaller instance;
 
     public static RemoveTargetsResultJsonUnmarshaller getInstance() {
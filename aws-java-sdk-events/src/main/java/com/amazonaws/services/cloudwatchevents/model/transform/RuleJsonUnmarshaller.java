@@ -47,33 +47,30 @@ public class RuleJsonUnmarshaller implements Unmarshaller<Rule, JsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    rule.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    rule.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EventPattern", targetDepth)) {
-                    context.nextToken();
-                    rule.setEventPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    rule.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    rule.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScheduleExpression", targetDepth)) {
-                    context.nextToken();
-                    rule.setScheduleExpression(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleArn", targetDepth)) {
-                    context.nextToken();
-                    rule.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EventPattern".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setEventPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ScheduleExpression".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setScheduleExpression(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class TargetJsonUnmarshaller implements Unmarshaller<Target, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    target.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    target.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Input", targetDepth)) {
-                    context.nextToken();
-                    target.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InputPath", targetDepth)) {
-                    context.nextToken();
-                    target.setInputPath(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        target.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        target.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Input".equals(fieldName)) {
+                        context.nextToken();
+                        target.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InputPath".equals(fieldName)) {
+                        context.nextToken();
+                        target.setInputPath(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class TestEventPatternResultJsonUnmarshaller implements Unmarshaller<Test
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Result", targetDepth)) {
-                    context.nextToken();
-                    testEventPatternResult.setResult(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Result".equals(fieldName)) {
+                        context.nextToken();
+                        testEventPatternResult.setResult(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
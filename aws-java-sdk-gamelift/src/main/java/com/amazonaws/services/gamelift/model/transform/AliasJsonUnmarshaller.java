@@ -47,29 +47,27 @@ public class AliasJsonUnmarshaller implements Unmarshaller<Alias, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AliasId", targetDepth)) {
-                    context.nextToken();
-                    alias.setAliasId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    alias.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    alias.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoutingStrategy", targetDepth)) {
-                    context.nextToken();
-                    alias.setRoutingStrategy(RoutingStrategyJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    alias.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedTime", targetDepth)) {
-                    context.nextToken();
-                    alias.setLastUpdatedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AliasId".equals(fieldName)) {
+                        context.nextToken();
+                        alias.setAliasId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        alias.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        alias.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RoutingStrategy".equals(fieldName)) {
+                        context.nextToken();
+                        alias.setRoutingStrategy(RoutingStrategyJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CreationTime".equals(fieldName)) {
+                        context.nextToken();
+                        alias.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdatedTime".equals(fieldName)) {
+                        context.nextToken();
+                        alias.setLastUpdatedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
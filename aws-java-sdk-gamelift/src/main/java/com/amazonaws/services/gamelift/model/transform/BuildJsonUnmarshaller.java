@@ -47,33 +47,30 @@ public class BuildJsonUnmarshaller implements Unmarshaller<Build, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BuildId", targetDepth)) {
-                    context.nextToken();
-                    build.setBuildId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    build.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Version", targetDepth)) {
-                    context.nextToken();
-                    build.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    build.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeOnDisk", targetDepth)) {
-                    context.nextToken();
-                    build.setSizeOnDisk(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("OperatingSystem", targetDepth)) {
-                    context.nextToken();
-                    build.setOperatingSystem(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    build.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BuildId".equals(fieldName)) {
+                        context.nextToken();
+                        build.setBuildId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        build.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Version".equals(fieldName)) {
+                        context.nextToken();
+                        build.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        build.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizeOnDisk".equals(fieldName)) {
+                        context.nextToken();
+                        build.setSizeOnDisk(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("OperatingSystem".equals(fieldName)) {
+                        context.nextToken();
+                        build.setOperatingSystem(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationTime".equals(fieldName)) {
+                        context.nextToken();
+                        build.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateAliasResultJsonUnmarshaller implements Unmarshaller<CreateAli
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Alias", targetDepth)) {
-                    context.nextToken();
-                    createAliasResult.setAlias(AliasJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Alias".equals(fieldName)) {
+                        context.nextToken();
+                        createAliasResult.setAlias(AliasJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class CreateBuildResultJsonUnmarshaller implements Unmarshaller<CreateBui
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Build", targetDepth)) {
-                    context.nextToken();
-                    createBuildResult.setBuild(BuildJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("UploadCredentials", targetDepth)) {
-                    context.nextToken();
-                    createBuildResult.setUploadCredentials(CredentialsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("StorageLocation", targetDepth)) {
-                    context.nextToken();
-                    createBuildResult.setStorageLocation(S3LocationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Build".equals(fieldName)) {
+                        context.nextToken();
+                        createBuildResult.setBuild(BuildJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("UploadCredentials".equals(fieldName)) {
+                        context.nextToken();
+                        createBuildResult.setUploadCredentials(CredentialsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("StorageLocation".equals(fieldName)) {
+                        context.nextToken();
+                        createBuildResult.setStorageLocation(S3LocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateFleetResultJsonUnmarshaller implements Unmarshaller<CreateFle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetAttributes", targetDepth)) {
-                    context.nextToken();
-                    createFleetResult.setFleetAttributes(FleetAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FleetAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        createFleetResult.setFleetAttributes(FleetAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
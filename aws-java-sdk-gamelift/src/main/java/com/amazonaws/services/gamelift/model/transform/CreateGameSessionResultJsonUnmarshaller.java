@@ -47,9 +47,12 @@ public class CreateGameSessionResultJsonUnmarshaller implements Unmarshaller<Cre
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GameSession", targetDepth)) {
-                    context.nextToken();
-                    createGameSessionResult.setGameSession(GameSessionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GameSession".equals(fieldName)) {
+                        context.nextToken();
+                        createGameSessionResult.setGameSession(GameSessionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreatePlayerSessionResultJsonUnmarshaller implements Unmarshaller<C
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PlayerSession", targetDepth)) {
-                    context.nextToken();
-                    createPlayerSessionResult.setPlayerSession(PlayerSessionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PlayerSession".equals(fieldName)) {
+                        context.nextToken();
+                        createPlayerSessionResult.setPlayerSession(PlayerSessionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,10 +47,12 @@ public class CreatePlayerSessionsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PlayerSessions", targetDepth)) {
-                    context.nextToken();
-                    createPlayerSessionsResult.setPlayerSessions(new ListUnmarshaller<PlayerSession>(PlayerSessionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PlayerSessions".equals(fieldName)) {
+                        context.nextToken();
+                        createPlayerSessionsResult.setPlayerSessions(playerSessionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class CreatePlayerSessionsResultJsonUnmarshaller implements Unmarshaller<
         return createPlayerSessionsResult;
     }
 
+    private final Unmarshaller<java.util.List<PlayerSession>, JsonUnmarshallerContext> playerSessionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PlayerSession>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PlayerSession>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PlayerSession>(PlayerSessionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static CreatePlayerSessionsResultJsonUnmarshaller instance;
 
     public static CreatePlayerSessionsResultJsonUnmarshaller getInstance() {
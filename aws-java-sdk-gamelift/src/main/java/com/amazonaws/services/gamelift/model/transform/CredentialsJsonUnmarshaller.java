@@ -47,17 +47,18 @@ public class CredentialsJsonUnmarshaller implements Unmarshaller<Credentials, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccessKeyId", targetDepth)) {
-                    context.nextToken();
-                    credentials.setAccessKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecretAccessKey", targetDepth)) {
-                    context.nextToken();
-                    credentials.setSecretAccessKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SessionToken", targetDepth)) {
-                    context.nextToken();
-                    credentials.setSessionToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AccessKeyId".equals(fieldName)) {
+                        context.nextToken();
+                        credentials.setAccessKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SecretAccessKey".equals(fieldName)) {
+                        context.nextToken();
+                        credentials.setSecretAccessKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SessionToken".equals(fieldName)) {
+                        context.nextToken();
+                        credentials.setSessionToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
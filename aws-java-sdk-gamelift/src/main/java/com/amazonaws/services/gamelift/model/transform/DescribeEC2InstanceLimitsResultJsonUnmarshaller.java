@@ -47,10 +47,12 @@ public class DescribeEC2InstanceLimitsResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EC2InstanceLimits", targetDepth)) {
-                    context.nextToken();
-                    describeEC2InstanceLimitsResult.setEC2InstanceLimits(new ListUnmarshaller<EC2InstanceLimit>(EC2InstanceLimitJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EC2InstanceLimits".equals(fieldName)) {
+                        context.nextToken();
+                        describeEC2InstanceLimitsResult.setEC2InstanceLimits(eC2InstanceLimitsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeEC2InstanceLimitsResultJsonUnmarshaller implements Unmarsha
         return describeEC2InstanceLimitsResult;
     }
 
+    private final Unmarshaller<java.util.List<EC2InstanceLimit>, JsonUnmarshallerContext> eC2InstanceLimitsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EC2InstanceLimit>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EC2InstanceLimit>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EC2InstanceLimit>(EC2InstanceLimitJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeEC2InstanceLimitsResultJsonUnmarshaller instance;
 
     public static DescribeEC2InstanceLimitsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class DescribeFleetAttributesResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetAttributes", targetDepth)) {
-                    context.nextToken();
-                    describeFleetAttributesResult.setFleetAttributes(new ListUnmarshaller<FleetAttributes>(FleetAttributesJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeFleetAttributesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FleetAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        describeFleetAttributesResult.setFleetAttributes(fleetAttributesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeFleetAttributesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeFleetAttributesResultJsonUnmarshaller implements Unmarshall
         return describeFleetAttributesResult;
     }
 
+    private final Unmarshaller<java.util.List<FleetAttributes>, JsonUnmarshallerContext> fleetAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<FleetAttributes>>() {
+        @Override
+        protected Unmarshaller<java.util.List<FleetAttributes>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<FleetAttributes>(FleetAttributesJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeFleetAttributesResultJsonUnmarshaller instance;
 
     public static DescribeFleetAttributesResultJsonUnmarshaller getInstance() {
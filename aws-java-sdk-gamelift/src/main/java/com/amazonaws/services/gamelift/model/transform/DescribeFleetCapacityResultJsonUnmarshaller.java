@@ -47,14 +47,15 @@ public class DescribeFleetCapacityResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetCapacity", targetDepth)) {
-                    context.nextToken();
-                    describeFleetCapacityResult.setFleetCapacity(new ListUnmarshaller<FleetCapacity>(FleetCapacityJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeFleetCapacityResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FleetCapacity".equals(fieldName)) {
+                        context.nextToken();
+                        describeFleetCapacityResult.setFleetCapacity(fleetCapacityUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeFleetCapacityResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeFleetCapacityResultJsonUnmarshaller implements Unmarshaller
         return describeFleetCapacityResult;
     }
 
+    private final Unmarshaller<java.util.List<FleetCapacity>, JsonUnmarshallerContext> fleetCapacityUnmarshaller = new CachingJsonUnmarshaller<java.util.List<FleetCapacity>>() {
+        @Override
+        protected Unmarshaller<java.util.List<FleetCapacity>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<FleetCapacity>(FleetCapacityJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeFleetCapacityResultJsonUnmarshaller instance;
 
     public static DescribeFleetCapacityResultJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class DescribeFleetPortSettingsResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InboundPermissions", targetDepth)) {
-                    context.nextToken();
-                    describeFleetPortSettingsResult.setInboundPermissions(new ListUnmarshaller<IpPermission>(IpPermissionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InboundPermissions".equals(fieldName)) {
+                        context.nextToken();
+                        describeFleetPortSettingsResult.setInboundPermissions(inboundPermissionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeFleetPortSettingsResultJsonUnmarshaller implements Unmarsha
         return describeFleetPortSettingsResult;
     }
 
+    private final Unmarshaller<java.util.List<IpPermission>, JsonUnmarshallerContext> inboundPermissionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<IpPermission>>() {
+        @Override
+        protected Unmarshaller<java.util.List<IpPermission>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<IpPermission>(IpPermissionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeFleetPortSettingsResultJsonUnmarshaller instance;
 
     public static DescribeFleetPortSettingsResultJsonUnmarshaller getInstance() {
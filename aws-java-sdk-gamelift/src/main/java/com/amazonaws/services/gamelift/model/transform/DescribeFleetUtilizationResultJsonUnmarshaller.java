@@ -47,14 +47,15 @@ public class DescribeFleetUtilizationResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetUtilization", targetDepth)) {
-                    context.nextToken();
-                    describeFleetUtilizationResult.setFleetUtilization(new ListUnmarshaller<FleetUtilization>(FleetUtilizationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeFleetUtilizationResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FleetUtilization".equals(fieldName)) {
+                        context.nextToken();
+                        describeFleetUtilizationResult.setFleetUtilization(fleetUtilizationUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeFleetUtilizationResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeFleetUtilizationResultJsonUnmarshaller implements Unmarshal
         return describeFleetUtilizationResult;
     }
 
+    private final Unmarshaller<java.util.List<FleetUtilization>, JsonUnmarshallerContext> fleetUtilizationUnmarshaller = new CachingJsonUnmarshaller<java.util.List<FleetUtilization>>() {
+        @Override
+        protected Unmarshaller<java.util.List<FleetUtilization>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<FleetUtilization>(FleetUtilizationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeFleetUtilizationResultJsonUnmarshaller instance;
 
     public static DescribeFleetUtilizationResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class DescribeGameSessionDetailsResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GameSessionDetails", targetDepth)) {
-                    context.nextToken();
-                    describeGameSessionDetailsResult.setGameSessionDetails(new ListUnmarshaller<GameSessionDetail>(GameSessionDetailJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeGameSessionDetailsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GameSessionDetails".equals(fieldName)) {
+                        context.nextToken();
+                        describeGameSessionDetailsResult.setGameSessionDetails(gameSessionDetailsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeGameSessionDetailsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeGameSessionDetailsResultJsonUnmarshaller implements Unmarsh
         return describeGameSessionDetailsResult;
     }
 
+    private final Unmarshaller<java.util.List<GameSessionDetail>, JsonUnmarshallerContext> gameSessionDetailsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<GameSessionDetail>>() {
+        @Override
+        protected Unmarshaller<java.util.List<GameSessionDetail>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<GameSessionDetail>(GameSessionDetailJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeGameSessionDetailsResultJsonUnmarshaller instance;
 
     public static DescribeGameSessionDetailsResultJsonUnmarshaller getInstance() {
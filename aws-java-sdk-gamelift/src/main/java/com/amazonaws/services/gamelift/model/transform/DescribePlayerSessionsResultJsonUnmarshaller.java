@@ -47,14 +47,15 @@ public class DescribePlayerSessionsResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PlayerSessions", targetDepth)) {
-                    context.nextToken();
-                    describePlayerSessionsResult.setPlayerSessions(new ListUnmarshaller<PlayerSession>(PlayerSessionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describePlayerSessionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PlayerSessions".equals(fieldName)) {
+                        context.nextToken();
+                        describePlayerSessionsResult.setPlayerSessions(playerSessionsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describePlayerSessionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribePlayerSessionsResultJsonUnmarshaller implements Unmarshalle
         return describePlayerSessionsResult;
     }
 
+    private final Unmarshaller<java.util.List<PlayerSession>, JsonUnmarshallerContext> playerSessionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PlayerSession>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PlayerSession>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PlayerSession>(PlayerSessionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribePlayerSessionsResultJsonUnmarshaller instance;
 
     public static DescribePlayerSessionsResultJsonUnmarshaller getInstance() {
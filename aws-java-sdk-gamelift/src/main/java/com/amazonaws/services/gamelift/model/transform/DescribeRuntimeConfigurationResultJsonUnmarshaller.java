@@ -47,9 +47,12 @@ public class DescribeRuntimeConfigurationResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RuntimeConfiguration", targetDepth)) {
-                    context.nextToken();
-                    describeRuntimeConfigurationResult.setRuntimeConfiguration(RuntimeConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RuntimeConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        describeRuntimeConfigurationResult.setRuntimeConfiguration(RuntimeConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class EC2InstanceCountsJsonUnmarshaller implements Unmarshaller<EC2Instan
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DESIRED", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setDESIRED(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MINIMUM", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setMINIMUM(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MAXIMUM", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setMAXIMUM(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("PENDING", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setPENDING(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ACTIVE", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setACTIVE(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IDLE", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setIDLE(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("TERMINATING", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceCounts.setTERMINATING(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DESIRED".equals(fieldName)) {
+                        context.nextToken();
+                        eC2InstanceCounts.setDESIRED(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MINIMUM".equals(fieldName)) {
+                        context.nextToken();
+                        eC2InstanceCounts.setMINIMUM(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MAXIMUM".equals(fieldName)) {
+                        context.nextToken();
+                        eC2InstanceCounts.setMAXIMUM(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("PENDING".equals(fieldName)) {
+                        context.nextToken();
+                        eC2InstanceCounts.setPENDING(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ACTIVE".equals(fieldName)) {
+                        context.nextToken();
+                        eC2InstanceCounts.setACTIVE(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("IDLE".equals(fieldName)) {
+                        context.nextToken();
+                        eC2InstanceCounts.setIDLE(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("TERMINATING".equals(fieldName)) {
+                        context.nextToken();
+                        eC2InstanceCounts.setTERMINATING(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
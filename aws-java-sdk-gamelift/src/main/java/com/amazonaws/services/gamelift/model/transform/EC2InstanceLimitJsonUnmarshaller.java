@@ -47,17 +47,18 @@ public class EC2InstanceLimitJsonUnmarshaller implements Unmarshaller<EC2Instanc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EC2InstanceType", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceLimit.setEC2InstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CurrentInstances", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceLimit.setCurrentInstances(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceLimit", targetDepth)) {
-                    context.nextToken();
-                    eC2InstanceLimit.setInstanceLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EC2InstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        eC2InstanceLimit.setEC2InstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CurrentInstances".equals(fieldName)) {
+                        context.nextToken();
+                        eC2InstanceLimit.setCurrentInstances(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("InstanceLimit".equals(fieldName)) {
+                        context.nextToken();
+                        eC2InstanceLimit.setInstanceLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
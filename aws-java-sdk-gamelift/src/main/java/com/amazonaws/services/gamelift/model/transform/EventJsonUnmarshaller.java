@@ -47,25 +47,24 @@ public class EventJsonUnmarshaller implements Unmarshaller<Event, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EventId", targetDepth)) {
-                    context.nextToken();
-                    event.setEventId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    event.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EventCode", targetDepth)) {
-                    context.nextToken();
-                    event.setEventCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    event.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EventTime", targetDepth)) {
-                    context.nextToken();
-                    event.setEventTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EventId".equals(fieldName)) {
+                        context.nextToken();
+                        event.setEventId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceId".equals(fieldName)) {
+                        context.nextToken();
+                        event.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EventCode".equals(fieldName)) {
+                        context.nextToken();
+                        event.setEventCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        event.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EventTime".equals(fieldName)) {
+                        context.nextToken();
+                        event.setEventTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
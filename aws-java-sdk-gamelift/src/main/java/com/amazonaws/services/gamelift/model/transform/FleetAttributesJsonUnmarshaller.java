@@ -47,53 +47,45 @@ public class FleetAttributesJsonUnmarshaller implements Unmarshaller<FleetAttrib
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TerminationTime", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setTerminationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BuildId", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setBuildId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServerLaunchPath", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setServerLaunchPath(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServerLaunchParameters", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setServerLaunchParameters(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogPaths", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setLogPaths(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NewGameSessionProtectionPolicy", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setNewGameSessionProtectionPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OperatingSystem", targetDepth)) {
-                    context.nextToken();
-                    fleetAttributes.setOperatingSystem(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FleetId".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationTime".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("TerminationTime".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setTerminationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BuildId".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setBuildId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServerLaunchPath".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setServerLaunchPath(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServerLaunchParameters".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setServerLaunchParameters(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LogPaths".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setLogPaths(logPathsUnmarshaller.unmarshall(context));
+                    } else if ("NewGameSessionProtectionPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setNewGameSessionProtectionPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OperatingSystem".equals(fieldName)) {
+                        context.nextToken();
+                        fleetAttributes.setOperatingSystem(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -107,6 +99,13 @@ public class FleetAttributesJsonUnmarshaller implements Unmarshaller<FleetAttrib
         return fleetAttributes;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> logPathsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static FleetAttributesJsonUnmarshaller instance;
 
     public static FleetAttributesJsonUnmarshaller getInstance() {
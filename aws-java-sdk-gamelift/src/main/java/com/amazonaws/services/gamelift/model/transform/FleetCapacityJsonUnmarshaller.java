@@ -47,17 +47,18 @@ public class FleetCapacityJsonUnmarshaller implements Unmarshaller<FleetCapacity
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    fleetCapacity.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    fleetCapacity.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceCounts", targetDepth)) {
-                    context.nextToken();
-                    fleetCapacity.setInstanceCounts(EC2InstanceCountsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FleetId".equals(fieldName)) {
+                        context.nextToken();
+                        fleetCapacity.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        fleetCapacity.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceCounts".equals(fieldName)) {
+                        context.nextToken();
+                        fleetCapacity.setInstanceCounts(EC2InstanceCountsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class FleetUtilizationJsonUnmarshaller implements Unmarshaller<FleetUtili
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    fleetUtilization.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ActiveServerProcessCount", targetDepth)) {
-                    context.nextToken();
-                    fleetUtilization.setActiveServerProcessCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ActiveGameSessionCount", targetDepth)) {
-                    context.nextToken();
-                    fleetUtilization.setActiveGameSessionCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CurrentPlayerSessionCount", targetDepth)) {
-                    context.nextToken();
-                    fleetUtilization.setCurrentPlayerSessionCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MaximumPlayerSessionCount", targetDepth)) {
-                    context.nextToken();
-                    fleetUtilization.setMaximumPlayerSessionCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FleetId".equals(fieldName)) {
+                        context.nextToken();
+                        fleetUtilization.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ActiveServerProcessCount".equals(fieldName)) {
+                        context.nextToken();
+                        fleetUtilization.setActiveServerProcessCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ActiveGameSessionCount".equals(fieldName)) {
+                        context.nextToken();
+                        fleetUtilization.setActiveGameSessionCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("CurrentPlayerSessionCount".equals(fieldName)) {
+                        context.nextToken();
+                        fleetUtilization.setCurrentPlayerSessionCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MaximumPlayerSessionCount".equals(fieldName)) {
+                        context.nextToken();
+                        fleetUtilization.setMaximumPlayerSessionCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class GameSessionDetailJsonUnmarshaller implements Unmarshaller<GameSessi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GameSession", targetDepth)) {
-                    context.nextToken();
-                    gameSessionDetail.setGameSession(GameSessionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ProtectionPolicy", targetDepth)) {
-                    context.nextToken();
-                    gameSessionDetail.setProtectionPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GameSession".equals(fieldName)) {
+                        context.nextToken();
+                        gameSessionDetail.setGameSession(GameSessionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ProtectionPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        gameSessionDetail.setProtectionPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
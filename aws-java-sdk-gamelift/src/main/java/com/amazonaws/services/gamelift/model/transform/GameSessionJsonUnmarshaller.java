@@ -47,53 +47,45 @@ public class GameSessionJsonUnmarshaller implements Unmarshaller<GameSession, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GameSessionId", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setGameSessionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TerminationTime", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setTerminationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("CurrentPlayerSessionCount", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setCurrentPlayerSessionCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MaximumPlayerSessionCount", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setMaximumPlayerSessionCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GameProperties", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setGameProperties(new ListUnmarshaller<GameProperty>(GamePropertyJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("IpAddress", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Port", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setPort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("PlayerSessionCreationPolicy", targetDepth)) {
-                    context.nextToken();
-                    gameSession.setPlayerSessionCreationPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GameSessionId".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setGameSessionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FleetId".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationTime".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("TerminationTime".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setTerminationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("CurrentPlayerSessionCount".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setCurrentPlayerSessionCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MaximumPlayerSessionCount".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setMaximumPlayerSessionCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GameProperties".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setGameProperties(gamePropertiesUnmarshaller.unmarshall(context));
+                    } else if ("IpAddress".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Port".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("PlayerSessionCreationPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        gameSession.setPlayerSessionCreationPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -107,6 +99,13 @@ public class GameSessionJsonUnmarshaller implements Unmarshaller<GameSession, Js
         return gameSession;
     }
 
+    private final Unmarshaller<java.util.List<GameProperty>, JsonUnmarshallerContext> gamePropertiesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<GameProperty>>() {
+        @Override
+        protected Unmarshaller<java.util.List<GameProperty>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<GameProperty>(GamePropertyJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GameSessionJsonUnmarshaller instance;
 
     public static GameSessionJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class IpPermissionJsonUnmarshaller implements Unmarshaller<IpPermission,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FromPort", targetDepth)) {
-                    context.nextToken();
-                    ipPermission.setFromPort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ToPort", targetDepth)) {
-                    context.nextToken();
-                    ipPermission.setToPort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IpRange", targetDepth)) {
-                    context.nextToken();
-                    ipPermission.setIpRange(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Protocol", targetDepth)) {
-                    context.nextToken();
-                    ipPermission.setProtocol(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FromPort".equals(fieldName)) {
+                        context.nextToken();
+                        ipPermission.setFromPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ToPort".equals(fieldName)) {
+                        context.nextToken();
+                        ipPermission.setToPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("IpRange".equals(fieldName)) {
+                        context.nextToken();
+                        ipPermission.setIpRange(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Protocol".equals(fieldName)) {
+                        context.nextToken();
+                        ipPermission.setProtocol(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ListAliasesResultJsonUnmarshaller implements Unmarshaller<ListAlias
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Aliases", targetDepth)) {
-                    context.nextToken();
-                    listAliasesResult.setAliases(new ListUnmarshaller<Alias>(AliasJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listAliasesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Aliases".equals(fieldName)) {
+                        context.nextToken();
+                        listAliasesResult.setAliases(aliasesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listAliasesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListAliasesResultJsonUnmarshaller implements Unmarshaller<ListAlias
         return listAliasesResult;
     }
 
+    private final Unmarshaller<java.util.List<Alias>, JsonUnmarshallerContext> aliasesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Alias>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Alias>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Alias>(AliasJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListAliasesResultJsonUnmarshaller instance;
 
     public static ListAliasesResultJsonUnmarshaller getInstance() {
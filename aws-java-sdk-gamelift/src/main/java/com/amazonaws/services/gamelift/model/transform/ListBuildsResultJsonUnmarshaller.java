@@ -47,13 +47,15 @@ public class ListBuildsResultJsonUnmarshaller implements Unmarshaller<ListBuilds
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Builds", targetDepth)) {
-                    context.nextToken();
-                    listBuildsResult.setBuilds(new ListUnmarshaller<Build>(BuildJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listBuildsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Builds".equals(fieldName)) {
+                        context.nextToken();
+                        listBuildsResult.setBuilds(buildsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listBuildsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListBuildsResultJsonUnmarshaller implements Unmarshaller<ListBuilds
         return listBuildsResult;
     }
 
+    private final Unmarshaller<java.util.List<Build>, JsonUnmarshallerContext> buildsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Build>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Build>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Build>(BuildJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListBuildsResultJsonUnmarshaller instance;
 
     public static ListBuildsResultJsonUnmarshaller getInstance() {
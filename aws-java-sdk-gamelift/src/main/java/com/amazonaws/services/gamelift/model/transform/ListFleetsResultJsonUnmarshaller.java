@@ -47,13 +47,15 @@ public class ListFleetsResultJsonUnmarshaller implements Unmarshaller<ListFleets
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetIds", targetDepth)) {
-                    context.nextToken();
-                    listFleetsResult.setFleetIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listFleetsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FleetIds".equals(fieldName)) {
+                        context.nextToken();
+                        listFleetsResult.setFleetIds(fleetIdsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listFleetsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListFleetsResultJsonUnmarshaller implements Unmarshaller<ListFleets
         return listFleetsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> fleetIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListFleetsResultJsonUnmarshaller instance;
 
     public static ListFleetsResultJsonUnmarshaller getInstance() {
@@ -47,41 +47,36 @@ public class PlayerSessionJsonUnmarshaller implements Unmarshaller<PlayerSession
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PlayerSessionId", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setPlayerSessionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PlayerId", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setPlayerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GameSessionId", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setGameSessionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationTime", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TerminationTime", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setTerminationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IpAddress", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Port", targetDepth)) {
-                    context.nextToken();
-                    playerSession.setPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PlayerSessionId".equals(fieldName)) {
+                        context.nextToken();
+                        playerSession.setPlayerSessionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PlayerId".equals(fieldName)) {
+                        context.nextToken();
+                        playerSession.setPlayerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GameSessionId".equals(fieldName)) {
+                        context.nextToken();
+                        playerSession.setGameSessionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FleetId".equals(fieldName)) {
+                        context.nextToken();
+                        playerSession.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationTime".equals(fieldName)) {
+                        context.nextToken();
+                        playerSession.setCreationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("TerminationTime".equals(fieldName)) {
+                        context.nextToken();
+                        playerSession.setTerminationTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        playerSession.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IpAddress".equals(fieldName)) {
+                        context.nextToken();
+                        playerSession.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Port".equals(fieldName)) {
+                        context.nextToken();
+                        playerSession.setPort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class RequestUploadCredentialsResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UploadCredentials", targetDepth)) {
-                    context.nextToken();
-                    requestUploadCredentialsResult.setUploadCredentials(CredentialsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("StorageLocation", targetDepth)) {
-                    context.nextToken();
-                    requestUploadCredentialsResult.setStorageLocation(S3LocationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UploadCredentials".equals(fieldName)) {
+                        context.nextToken();
+                        requestUploadCredentialsResult.setUploadCredentials(CredentialsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("StorageLocation".equals(fieldName)) {
+                        context.nextToken();
+                        requestUploadCredentialsResult.setStorageLocation(S3LocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class ResolveAliasResultJsonUnmarshaller implements Unmarshaller<ResolveA
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    resolveAliasResult.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FleetId".equals(fieldName)) {
+                        context.nextToken();
+                        resolveAliasResult.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class RoutingStrategyJsonUnmarshaller implements Unmarshaller<RoutingStra
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    routingStrategy.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    routingStrategy.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    routingStrategy.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        routingStrategy.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FleetId".equals(fieldName)) {
+                        context.nextToken();
+                        routingStrategy.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        routingStrategy.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,10 +47,12 @@ public class RuntimeConfigurationJsonUnmarshaller implements Unmarshaller<Runtim
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ServerProcesses", targetDepth)) {
-                    context.nextToken();
-                    runtimeConfiguration.setServerProcesses(new ListUnmarshaller<ServerProcess>(ServerProcessJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ServerProcesses".equals(fieldName)) {
+                        context.nextToken();
+                        runtimeConfiguration.setServerProcesses(serverProcessesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class RuntimeConfigurationJsonUnmarshaller implements Unmarshaller<Runtim
         return runtimeConfiguration;
     }
 
+    private final Unmarshaller<java.util.List<ServerProcess>, JsonUnmarshallerContext> serverProcessesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ServerProcess>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ServerProcess>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ServerProcess>(ServerProcessJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static RuntimeConfigurationJsonUnmarshaller instance;
 
     public static RuntimeConfigurationJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class S3LocationJsonUnmarshaller implements Unmarshaller<S3Location, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Bucket", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setBucket(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleArn", targetDepth)) {
-                    context.nextToken();
-                    s3Location.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Bucket".equals(fieldName)) {
+                        context.nextToken();
+                        s3Location.setBucket(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        s3Location.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        s3Location.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,41 +47,36 @@ public class ScalingPolicyJsonUnmarshaller implements Unmarshaller<ScalingPolicy
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FleetId", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalingAdjustment", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setScalingAdjustment(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ScalingAdjustmentType", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setScalingAdjustmentType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Threshold", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setThreshold(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("EvaluationPeriods", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setEvaluationPeriods(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MetricName", targetDepth)) {
-                    context.nextToken();
-                    scalingPolicy.setMetricName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FleetId".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setFleetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ScalingAdjustment".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setScalingAdjustment(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ScalingAdjustmentType".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setScalingAdjustmentType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComparisonOperator".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Threshold".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setThreshold(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("EvaluationPeriods".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setEvaluationPeriods(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MetricName".equals(fieldName)) {
+                        context.nextToken();
+                        scalingPolicy.setMetricName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
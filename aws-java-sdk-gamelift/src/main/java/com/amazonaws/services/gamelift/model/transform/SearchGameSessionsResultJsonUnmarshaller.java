@@ -47,13 +47,15 @@ public class SearchGameSessionsResultJsonUnmarshaller implements Unmarshaller<Se
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GameSessions", targetDepth)) {
-                    context.nextToken();
-                    searchGameSessionsResult.setGameSessions(new ListUnmarshaller<GameSession>(GameSessionJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    searchGameSessionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GameSessions".equals(fieldName)) {
+                        context.nextToken();
+                        searchGameSessionsResult.setGameSessions(gameSessionsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        searchGameSessionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class SearchGameSessionsResultJsonUnmarshaller implements Unmarshaller<Se
         return searchGameSessionsResult;
     }
 
+    private final Unmarshaller<java.util.List<GameSession>, JsonUnmarshallerContext> gameSessionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<GameSession>>() {
+        @Override
+        protected Unmarshaller<java.util.List<GameSession>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<GameSession>(GameSessionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static SearchGameSessionsResultJsonUnmarshaller instance;
 
     public static SearchGameSessionsResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class ServerProcessJsonUnmarshaller implements Unmarshaller<ServerProcess
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LaunchPath", targetDepth)) {
-                    context.nextToken();
-                    serverProcess.setLaunchPath(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Parameters", targetDepth)) {
-                    context.nextToken();
-                    serverProcess.setParameters(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConcurrentExecutions", targetDepth)) {
-                    context.nextToken();
-                    serverProcess.setConcurrentExecutions(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("LaunchPath".equals(fieldName)) {
+                        context.nextToken();
+                        serverProcess.setLaunchPath(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Parameters".equals(fieldName)) {
+                        context.nextToken();
+                        serverProcess.setParameters(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConcurrentExecutions".equals(fieldName)) {
+                        context.nextToken();
+                        serverProcess.setConcurrentExecutions(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class UpdateBuildResultJsonUnmarshaller implements Unmarshaller<UpdateBui
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Build", targetDepth)) {
-                    context.nextToken();
-                    updateBuildResult.setBuild(BuildJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Build".equals(fieldName)) {
+                        context.nextToken();
+                        updateBuildResult.setBuild(BuildJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
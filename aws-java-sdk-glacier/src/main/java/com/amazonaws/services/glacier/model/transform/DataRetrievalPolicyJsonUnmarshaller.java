@@ -47,9 +47,12 @@ public class DataRetrievalPolicyJsonUnmarshaller implements Unmarshaller<DataRet
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Rules", targetDepth)) {
-                    context.nextToken();
-                    dataRetrievalPolicy.setRules(new ListUnmarshaller<DataRetrievalRule>(DataRetrievalRuleJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Rules".equals(fieldName)) {
+                        context.nextToken();
+                        dataRetrievalPolicy.setRules(rulesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DataRetrievalPolicyJsonUnmarshaller implements Unmarshaller<DataRet
         return dataRetrievalPolicy;
     }
 
+    private final Unmarshaller<java.util.List<DataRetrievalRule>, JsonUnmarshallerContext> rulesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DataRetrievalRule>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DataRetrievalRule>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DataRetrievalRule>(DataRetrievalRuleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DataRetrievalPolicyJsonUnmarshaller instance;
 
     public static DataRetrievalPolicyJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DataRetrievalRuleJsonUnmarshaller implements Unmarshaller<DataRetri
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Strategy", targetDepth)) {
-                    context.nextToken();
-                    dataRetrievalRule.setStrategy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BytesPerHour", targetDepth)) {
-                    context.nextToken();
-                    dataRetrievalRule.setBytesPerHour(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Strategy".equals(fieldName)) {
+                        context.nextToken();
+                        dataRetrievalRule.setStrategy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BytesPerHour".equals(fieldName)) {
+                        context.nextToken();
+                        dataRetrievalRule.setBytesPerHour(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
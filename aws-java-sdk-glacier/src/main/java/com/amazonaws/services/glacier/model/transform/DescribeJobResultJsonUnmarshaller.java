@@ -47,73 +47,60 @@ public class DescribeJobResultJsonUnmarshaller implements Unmarshaller<DescribeJ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobId", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobDescription", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setJobDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setAction(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveId", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setArchiveId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VaultARN", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setVaultARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Completed", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setCompleted(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusCode", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusMessage", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setArchiveSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("InventorySizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setInventorySizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("SNSTopic", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setSNSTopic(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletionDate", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setCompletionDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SHA256TreeHash", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setSHA256TreeHash(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveSHA256TreeHash", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setArchiveSHA256TreeHash(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetrievalByteRange", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setRetrievalByteRange(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InventoryRetrievalParameters", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setInventoryRetrievalParameters(InventoryRetrievalJobDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobId".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("JobDescription".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setJobDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ArchiveId".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setArchiveId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VaultARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setVaultARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Completed".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setCompleted(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("StatusCode".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StatusMessage".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ArchiveSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setArchiveSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("InventorySizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setInventorySizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("SNSTopic".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setSNSTopic(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CompletionDate".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setCompletionDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SHA256TreeHash".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setSHA256TreeHash(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ArchiveSHA256TreeHash".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setArchiveSHA256TreeHash(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RetrievalByteRange".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setRetrievalByteRange(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InventoryRetrievalParameters".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setInventoryRetrievalParameters(InventoryRetrievalJobDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class DescribeVaultResultJsonUnmarshaller implements Unmarshaller<Describ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VaultARN", targetDepth)) {
-                    context.nextToken();
-                    describeVaultResult.setVaultARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VaultName", targetDepth)) {
-                    context.nextToken();
-                    describeVaultResult.setVaultName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    describeVaultResult.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastInventoryDate", targetDepth)) {
-                    context.nextToken();
-                    describeVaultResult.setLastInventoryDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfArchives", targetDepth)) {
-                    context.nextToken();
-                    describeVaultResult.setNumberOfArchives(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeVaultResult.setSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VaultARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeVaultResult.setVaultARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VaultName".equals(fieldName)) {
+                        context.nextToken();
+                        describeVaultResult.setVaultName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        describeVaultResult.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastInventoryDate".equals(fieldName)) {
+                        context.nextToken();
+                        describeVaultResult.setLastInventoryDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NumberOfArchives".equals(fieldName)) {
+                        context.nextToken();
+                        describeVaultResult.setNumberOfArchives(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("SizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        describeVaultResult.setSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
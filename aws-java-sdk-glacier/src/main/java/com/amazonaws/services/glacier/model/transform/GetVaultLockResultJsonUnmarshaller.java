@@ -47,21 +47,21 @@ public class GetVaultLockResultJsonUnmarshaller implements Unmarshaller<GetVault
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Policy", targetDepth)) {
-                    context.nextToken();
-                    getVaultLockResult.setPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    getVaultLockResult.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExpirationDate", targetDepth)) {
-                    context.nextToken();
-                    getVaultLockResult.setExpirationDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    getVaultLockResult.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Policy".equals(fieldName)) {
+                        context.nextToken();
+                        getVaultLockResult.setPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        getVaultLockResult.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ExpirationDate".equals(fieldName)) {
+                        context.nextToken();
+                        getVaultLockResult.setExpirationDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        getVaultLockResult.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
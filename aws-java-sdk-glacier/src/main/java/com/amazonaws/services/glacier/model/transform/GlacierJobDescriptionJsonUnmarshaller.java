@@ -47,73 +47,61 @@ public class GlacierJobDescriptionJsonUnmarshaller implements Unmarshaller<Glaci
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobId", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobDescription", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setJobDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setAction(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveId", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setArchiveId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VaultARN", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setVaultARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Completed", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setCompleted(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusCode", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusMessage", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setArchiveSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("InventorySizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setInventorySizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("SNSTopic", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setSNSTopic(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletionDate", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setCompletionDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SHA256TreeHash", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setSHA256TreeHash(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveSHA256TreeHash", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setArchiveSHA256TreeHash(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetrievalByteRange", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setRetrievalByteRange(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InventoryRetrievalParameters", targetDepth)) {
-                    context.nextToken();
-                    glacierJobDescription.setInventoryRetrievalParameters(InventoryRetrievalJobDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobId".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("JobDescription".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setJobDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ArchiveId".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setArchiveId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VaultARN".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setVaultARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Completed".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setCompleted(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("StatusCode".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StatusMessage".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ArchiveSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setArchiveSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("InventorySizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setInventorySizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("SNSTopic".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setSNSTopic(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CompletionDate".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setCompletionDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SHA256TreeHash".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setSHA256TreeHash(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ArchiveSHA256TreeHash".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setArchiveSHA256TreeHash(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RetrievalByteRange".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setRetrievalByteRange(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InventoryRetrievalParameters".equals(fieldName)) {
+                        context.nextToken();
+                        glacierJobDescription.setInventoryRetrievalParameters(InventoryRetrievalJobDescriptionJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
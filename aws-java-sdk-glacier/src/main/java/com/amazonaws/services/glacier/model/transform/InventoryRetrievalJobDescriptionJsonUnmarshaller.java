@@ -47,25 +47,24 @@ public class InventoryRetrievalJobDescriptionJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobDescription.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StartDate", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobDescription.setStartDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndDate", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobDescription.setEndDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Limit", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobDescription.setLimit(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobDescription.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Format".equals(fieldName)) {
+                        context.nextToken();
+                        inventoryRetrievalJobDescription.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StartDate".equals(fieldName)) {
+                        context.nextToken();
+                        inventoryRetrievalJobDescription.setStartDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EndDate".equals(fieldName)) {
+                        context.nextToken();
+                        inventoryRetrievalJobDescription.setEndDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Limit".equals(fieldName)) {
+                        context.nextToken();
+                        inventoryRetrievalJobDescription.setLimit(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        inventoryRetrievalJobDescription.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class InventoryRetrievalJobInputJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartDate", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobInput.setStartDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndDate", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobInput.setEndDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Limit", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobInput.setLimit(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    inventoryRetrievalJobInput.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StartDate".equals(fieldName)) {
+                        context.nextToken();
+                        inventoryRetrievalJobInput.setStartDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EndDate".equals(fieldName)) {
+                        context.nextToken();
+                        inventoryRetrievalJobInput.setEndDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Limit".equals(fieldName)) {
+                        context.nextToken();
+                        inventoryRetrievalJobInput.setLimit(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        inventoryRetrievalJobInput.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class JobParametersJsonUnmarshaller implements Unmarshaller<JobParameters
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Format", targetDepth)) {
-                    context.nextToken();
-                    jobParameters.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    jobParameters.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveId", targetDepth)) {
-                    context.nextToken();
-                    jobParameters.setArchiveId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    jobParameters.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SNSTopic", targetDepth)) {
-                    context.nextToken();
-                    jobParameters.setSNSTopic(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetrievalByteRange", targetDepth)) {
-                    context.nextToken();
-                    jobParameters.setRetrievalByteRange(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InventoryRetrievalParameters", targetDepth)) {
-                    context.nextToken();
-                    jobParameters.setInventoryRetrievalParameters(InventoryRetrievalJobInputJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Format".equals(fieldName)) {
+                        context.nextToken();
+                        jobParameters.setFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        jobParameters.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ArchiveId".equals(fieldName)) {
+                        context.nextToken();
+                        jobParameters.setArchiveId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        jobParameters.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SNSTopic".equals(fieldName)) {
+                        context.nextToken();
+                        jobParameters.setSNSTopic(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RetrievalByteRange".equals(fieldName)) {
+                        context.nextToken();
+                        jobParameters.setRetrievalByteRange(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InventoryRetrievalParameters".equals(fieldName)) {
+                        context.nextToken();
+                        jobParameters.setInventoryRetrievalParameters(InventoryRetrievalJobInputJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
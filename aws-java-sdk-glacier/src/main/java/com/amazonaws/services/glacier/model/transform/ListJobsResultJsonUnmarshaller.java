@@ -47,14 +47,15 @@ public class ListJobsResultJsonUnmarshaller implements Unmarshaller<ListJobsResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobList", targetDepth)) {
-                    context.nextToken();
-                    listJobsResult.setJobList(new ListUnmarshaller<GlacierJobDescription>(GlacierJobDescriptionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listJobsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobList".equals(fieldName)) {
+                        context.nextToken();
+                        listJobsResult.setJobList(jobListUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listJobsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListJobsResultJsonUnmarshaller implements Unmarshaller<ListJobsResu
         return listJobsResult;
     }
 
+    private final Unmarshaller<java.util.List<GlacierJobDescription>, JsonUnmarshallerContext> jobListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<GlacierJobDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<GlacierJobDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<GlacierJobDescription>(GlacierJobDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListJobsResultJsonUnmarshaller instance;
 
     public static ListJobsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListMultipartUploadsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UploadsList", targetDepth)) {
-                    context.nextToken();
-                    listMultipartUploadsResult.setUploadsList(new ListUnmarshaller<UploadListElement>(UploadListElementJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listMultipartUploadsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UploadsList".equals(fieldName)) {
+                        context.nextToken();
+                        listMultipartUploadsResult.setUploadsList(uploadsListUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listMultipartUploadsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListMultipartUploadsResultJsonUnmarshaller implements Unmarshaller<
         return listMultipartUploadsResult;
     }
 
+    private final Unmarshaller<java.util.List<UploadListElement>, JsonUnmarshallerContext> uploadsListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<UploadListElement>>() {
+        @Override
+        protected Unmarshaller<java.util.List<UploadListElement>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<UploadListElement>(UploadListElementJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListMultipartUploadsResultJsonUnmarshaller instance;
 
     public static ListMultipartUploadsResultJsonUnmarshaller getInstance() {
@@ -47,33 +47,30 @@ public class ListPartsResultJsonUnmarshaller implements Unmarshaller<ListPartsRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MultipartUploadId", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setMultipartUploadId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VaultARN", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setVaultARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveDescription", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setArchiveDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PartSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setPartSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Parts", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setParts(new ListUnmarshaller<PartListElement>(PartListElementJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listPartsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MultipartUploadId".equals(fieldName)) {
+                        context.nextToken();
+                        listPartsResult.setMultipartUploadId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VaultARN".equals(fieldName)) {
+                        context.nextToken();
+                        listPartsResult.setVaultARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ArchiveDescription".equals(fieldName)) {
+                        context.nextToken();
+                        listPartsResult.setArchiveDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PartSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        listPartsResult.setPartSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        listPartsResult.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Parts".equals(fieldName)) {
+                        context.nextToken();
+                        listPartsResult.setParts(partsUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listPartsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -87,6 +84,13 @@ public class ListPartsResultJsonUnmarshaller implements Unmarshaller<ListPartsRe
         return listPartsResult;
     }
 
+    private final Unmarshaller<java.util.List<PartListElement>, JsonUnmarshallerContext> partsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PartListElement>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PartListElement>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PartListElement>(PartListElementJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListPartsResultJsonUnmarshaller instance;
 
     public static ListPartsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListVaultsResultJsonUnmarshaller implements Unmarshaller<ListVaults
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VaultList", targetDepth)) {
-                    context.nextToken();
-                    listVaultsResult.setVaultList(new ListUnmarshaller<DescribeVaultOutput>(DescribeVaultOutputJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listVaultsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VaultList".equals(fieldName)) {
+                        context.nextToken();
+                        listVaultsResult.setVaultList(vaultListUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listVaultsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListVaultsResultJsonUnmarshaller implements Unmarshaller<ListVaults
         return listVaultsResult;
     }
 
+    private final Unmarshaller<java.util.List<DescribeVaultOutput>, JsonUnmarshallerContext> vaultListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DescribeVaultOutput>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DescribeVaultOutput>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DescribeVaultOutput>(DescribeVaultOutputJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListVaultsResultJsonUnmarshaller instance;
 
     public static ListVaultsResultJsonUnmarshaller getInstance() {
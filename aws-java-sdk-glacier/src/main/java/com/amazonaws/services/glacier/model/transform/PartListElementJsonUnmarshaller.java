@@ -47,13 +47,15 @@ public class PartListElementJsonUnmarshaller implements Unmarshaller<PartListEle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RangeInBytes", targetDepth)) {
-                    context.nextToken();
-                    partListElement.setRangeInBytes(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SHA256TreeHash", targetDepth)) {
-                    context.nextToken();
-                    partListElement.setSHA256TreeHash(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RangeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        partListElement.setRangeInBytes(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SHA256TreeHash".equals(fieldName)) {
+                        context.nextToken();
+                        partListElement.setSHA256TreeHash(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
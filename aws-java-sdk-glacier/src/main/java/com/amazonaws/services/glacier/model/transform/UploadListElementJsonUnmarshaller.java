@@ -47,25 +47,24 @@ public class UploadListElementJsonUnmarshaller implements Unmarshaller<UploadLis
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MultipartUploadId", targetDepth)) {
-                    context.nextToken();
-                    uploadListElement.setMultipartUploadId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VaultARN", targetDepth)) {
-                    context.nextToken();
-                    uploadListElement.setVaultARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ArchiveDescription", targetDepth)) {
-                    context.nextToken();
-                    uploadListElement.setArchiveDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PartSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    uploadListElement.setPartSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    uploadListElement.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MultipartUploadId".equals(fieldName)) {
+                        context.nextToken();
+                        uploadListElement.setMultipartUploadId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VaultARN".equals(fieldName)) {
+                        context.nextToken();
+                        uploadListElement.setVaultARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ArchiveDescription".equals(fieldName)) {
+                        context.nextToken();
+                        uploadListElement.setArchiveDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PartSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        uploadListElement.setPartSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        uploadListElement.setCreationDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class VaultLockPolicyJsonUnmarshaller implements Unmarshaller<VaultLockPo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Policy", targetDepth)) {
-                    context.nextToken();
-                    vaultLockPolicy.setPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Policy".equals(fieldName)) {
+                        context.nextToken();
+                        vaultLockPolicy.setPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class VaultNotificationConfigJsonUnmarshaller implements Unmarshaller<Vau
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SNSTopic", targetDepth)) {
-                    context.nextToken();
-                    vaultNotificationConfig.setSNSTopic(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Events", targetDepth)) {
-                    context.nextToken();
-                    vaultNotificationConfig.setEvents(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SNSTopic".equals(fieldName)) {
+                        context.nextToken();
+                        vaultNotificationConfig.setSNSTopic(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Events".equals(fieldName)) {
+                        context.nextToken();
+                        vaultNotificationConfig.setEvents(eventsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class VaultNotificationConfigJsonUnmarshaller implements Unmarshaller<Vau
         return vaultNotificationConfig;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> eventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static VaultNotificationConfigJsonUnmarshaller instance;
 
     public static VaultNotificationConfigJsonUnmarshaller getInstance() {
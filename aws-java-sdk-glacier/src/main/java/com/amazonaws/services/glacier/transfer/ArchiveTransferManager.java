@@ -27,13 +27,26 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.NoSuchAlgorithmException;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.AbortedException;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
@@ -69,6 +82,12 @@ import com.amazonaws.util.BinaryUtils;
 
 /**
  * Utilities for uploading and downloading data to and from AWS Glacier.
+ * <p>
+ * The parts of multipart uploads and the chunks of downloads are transferred
+ * concurrently, each one being hashed and retried on its own. They are
+ * transferred by the executor service specified when constructing the
+ * ArchiveTransferManager, if any, or else by a pool of
+ * {@value #DEFAULT_THREAD_POOL_SIZE} threads created for each transfer.
  */
 public class ArchiveTransferManager {
 
@@ -87,6 +106,9 @@ public class ArchiveTransferManager {
     /** Default retry time when downloading in multiple chunks using range retrieval */
     private static final int DEFAULT_MAX_RETRIES = 3;
 
+    /** Number of parts or chunks transferred concurrently when no executor service is specified. */
+    private static final int DEFAULT_THREAD_POOL_SIZE = 10;
+
     /** Glacier client used for making all requests. */
     private final AmazonGlacier glacier;
 
@@ -98,6 +120,9 @@ public class ArchiveTransferManager {
 
     private final AmazonSNSClient sns;
 
+    /** Executor service transferring the parts and chunks, or null to create one per transfer. */
+    private final ExecutorService executorService;
+
     private static final Log log = LogFactory.getLog(ArchiveTransferManager.class);
 
     /**
@@ -163,11 +188,35 @@ public class ArchiveTransferManager {
      *            timeouts.
      */
     public ArchiveTransferManager(AmazonGlacierClient glacier, AWSCredentialsProvider credentialsProvider, ClientConfiguration clientConfiguration) {
+        this(glacier, credentialsProvider, clientConfiguration, null);
+    }
+
+    /**
+     * Constructs a new ArchiveTransferManager, using the specified Amazon
+     * Glacier client, AWS credentials provider, client configuration and
+     * executor service.
+     *
+     * @param glacier
+     *            The client for working with Amazon Glacier.
+     * @param credentialsProvider
+     *            The AWS credentials provider used to authenticate requests.
+     * @param clientConfiguration
+     *            Client specific options, such as proxy settings, retries, and
+     *            timeouts.
+     * @param executorService
+     *            The executor service transferring the parts of multipart
+     *            uploads and the chunks of downloads concurrently, or null to
+     *            create a pool of threads for each transfer. The executor
+     *            service is not shut down by the ArchiveTransferManager.
+     */
+    public ArchiveTransferManager(AmazonGlacierClient glacier, AWSCredentialsProvider credentialsProvider,
+            ClientConfiguration clientConfiguration, ExecutorService executorService) {
         this.credentialsProvider = credentialsProvider;
         this.clientConfiguration = clientConfiguration;
         this.glacier = glacier;
         this.sns = null;
         this.sqs = null;
+        this.executorService = executorService;
     }
 
     /**
@@ -190,11 +239,36 @@ public class ArchiveTransferManager {
      *            retrieval job status.
      */
     public ArchiveTransferManager(AmazonGlacierClient glacier, AmazonSQSClient sqs, AmazonSNSClient sns) {
+        this(glacier, sqs, sns, null);
+    }
+
+    /**
+     * Constructs a new ArchiveTransferManager, using the specified Amazon
+     * Glacier client, the specified Amazon SQS and Amazon SNS clients for
+     * polling download job status, and the specified executor service.
+     *
+     * @param glacier
+     *            The client for working with Amazon Glacier.
+     * @param sqs
+     *            The client for working with Amazon SQS when polling archive
+     *            retrieval job status.
+     * @param sns
+     *            The client for working with Amazon SNS when polling archive
+     *            retrieval job status.
+     * @param executorService
+     *            The executor service transferring the parts of multipart
+     *            uploads and the chunks of downloads concurrently, or null to
+     *            create a pool of threads for each transfer. The executor
+     *            service is not shut down by the ArchiveTransferManager.
+     */
+    public ArchiveTransferManager(AmazonGlacierClient glacier, AmazonSQSClient sqs, AmazonSNSClient sns,
+            ExecutorService executorService) {
         this.credentialsProvider = null;
         this.clientConfiguration = null;
         this.glacier = glacier;
         this.sqs = sqs;
         this.sns = sns;
+        this.executorService = executorService;
     }
 
     /**
@@ -460,8 +534,12 @@ public class ArchiveTransferManager {
      * Downloads the job output for the specified job (which must be ready to
      * download already, and must be a complete archive retrieval, not a partial
      * range retrieval), into the specified file. This method will request
-     * individual chunks of the data, one at a time, in order to handle any
-     * transient errors along the way.
+     * individual chunks of the data concurrently, and retry each one on its
+     * own, in order to handle any transient errors along the way. The chunks
+     * downloaded are recorded in a state file next to the specified file, so
+     * that downloading the same job output into the same file again after a
+     * failure only requests the missing chunks; the state file is deleted
+     * once the job output has been completely downloaded.
      *
      * @param accountId
      *            The account ID containing the job output to download (or null
@@ -482,9 +560,14 @@ public class ArchiveTransferManager {
      * Downloads the job output for the specified job (which must be ready to
      * download already, and must be a complete archive retrieval, not a partial
      * range retrieval), into the specified file. This method will request
-     * individual chunks of the data, one at a time, in order to handle any
-     * transient errors along the way. You can also add an optional progress
-     * listener for receiving updates about the download status.
+     * individual chunks of the data concurrently, and retry each one on its
+     * own, in order to handle any transient errors along the way. The chunks
+     * downloaded are recorded in a state file next to the specified file, so
+     * that downloading the same job output into the same file again after a
+     * failure only requests the missing chunks; the state file is deleted
+     * once the job output has been completely downloaded. You can also add
+     * an optional progress listener for receiving updates about the download
+     * status.
      *
      * @param accountId
      *            The account ID containing the job output to download (or null
@@ -500,58 +583,76 @@ public class ArchiveTransferManager {
      *            The optional progress listener for receiving updates about the
      *            download status.
      */
-    public void downloadJobOutput(String accountId, String vaultName,
-            String jobId, File file, ProgressListener progressListener) {
-        long archiveSize = 0;
+    public void downloadJobOutput(final String accountId, final String vaultName,
+            final String jobId, File file, ProgressListener progressListener) {
+        // Chunks are downloaded concurrently
+        final ProgressListener listener = SynchronizedProgressListener.wrap(progressListener);
         long chunkSize = DEFAULT_DOWNLOAD_CHUNK_SIZE;
-        long currentPosition = 0;
-        long endPosition = 0;
 
         RandomAccessFile output = null;
         String customizedChunkSize = null;
         customizedChunkSize = System.getProperty("com.amazonaws.services.glacier.transfer.downloadChunkSizeInMB");
 
         DescribeJobResult describeJobResult = glacier.describeJob(new DescribeJobRequest(accountId, vaultName, jobId));
-        archiveSize = describeJobResult.getArchiveSizeInBytes();
+        final long archiveSize = describeJobResult.getArchiveSizeInBytes();
 
         if (customizedChunkSize != null) {
             try {
                 chunkSize = Long.parseLong(customizedChunkSize) * 1024 * 1024;
             } catch (NumberFormatException e) {
-                publishProgress(progressListener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
                 throw new AmazonClientException("Invalid chunk size: " + e.getMessage());
             }
             validateChunkSize(chunkSize);
         }
 
+        final DownloadState state = DownloadState.load(file, jobId, archiveSize, chunkSize);
         try {
             output = new RandomAccessFile(file, "rw");
-        } catch (FileNotFoundException e) {
-            publishProgress(progressListener, ProgressEventType.TRANSFER_FAILED_EVENT);
+            output.setLength(archiveSize);
+        } catch (IOException e) {
+            closeQuietly(output, log);
+            publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
             throw new AmazonClientException("Unable to open the output file " + file.getPath(), e);
         }
 
+        final FileChannel channel = output.getChannel();
+        final ExecutorService executor = executorService == null ? createDefaultExecutorService() : executorService;
+        final CompletionService<Void> completionService = new ExecutorCompletionService<Void>(executor);
+        final List<Future<Void>> futures = new ArrayList<Future<Void>>();
         try {
-            publishProgress(progressListener, ProgressEventType.TRANSFER_STARTED_EVENT);
-            while (currentPosition < archiveSize) {
-                if (currentPosition + chunkSize > archiveSize) {
-                    endPosition = archiveSize - 1;
-                } else {
-                    endPosition = currentPosition + chunkSize - 1;
-                }
-    
-                // Download the chunk
-                try {
-                    downloadOneChunk(accountId, vaultName, jobId, output,
-                            currentPosition, endPosition, progressListener);
-                } catch (Throwable t) {
-                    publishProgress(progressListener, ProgressEventType.TRANSFER_FAILED_EVENT);
-                    throw failure(t);
+            publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+            int chunk = 0;
+            for (long currentPosition = 0; currentPosition < archiveSize; currentPosition += chunkSize, chunk++) {
+                if (state.isCompleted(chunk)) {
+                    continue;
                 }
-                currentPosition += chunkSize;
+                final int chunkIndex = chunk;
+                final long startPosition = currentPosition;
+                final long endPosition = Math.min(currentPosition + chunkSize, archiveSize) - 1;
+                futures.add(completionService.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        downloadOneChunk(accountId, vaultName, jobId, channel,
+                                startPosition, endPosition, listener);
+                        // Only record the chunk once it can survive a crash
+                        channel.force(false);
+                        state.markCompleted(chunkIndex);
+                        return null;
+                    }
+                }));
             }
-            publishProgress(progressListener, ProgressEventType.TRANSFER_COMPLETED_EVENT);
+            waitForAll(completionService, futures.size());
+            state.delete();
+            publishProgress(listener, ProgressEventType.TRANSFER_COMPLETED_EVENT);
+        } catch (Throwable t) {
+            cancelAll(futures);
+            publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+            throw failure(t);
         } finally {
+            if (executor != executorService) {
+                executor.shutdownNow();
+            }
             closeQuietly(output, log);
         }
     }
@@ -568,11 +669,12 @@ public class ArchiveTransferManager {
     }
 
     /**
-     * Download one chunk from Amazon Glacier. It will do the retry if any
-     * errors are encountered while streaming the data from Amazon Glacier.
+     * Download one chunk from Amazon Glacier and write it at its position in
+     * the output file. It will do the retry if any errors are encountered
+     * while streaming the data from Amazon Glacier.
      */
     private void downloadOneChunk(String accountId, String vaultName,
-            String jobId, RandomAccessFile output, long currentPosition,
+            String jobId, FileChannel output, long currentPosition,
             long endPosition, ProgressListener progressListener) {
         final long chunkSize = endPosition - currentPosition + 1;
         TreeHashInputStream input = null;
@@ -589,7 +691,7 @@ public class ArchiveTransferManager {
                 GetJobOutputResult jobOutputResult = glacier.getJobOutput(req);
                 try {
                     input = new TreeHashInputStream(new BufferedInputStream(jobOutputResult.getBody()));
-                    appendToFile(output, input);
+                    writeToFile(output, input, currentPosition);
                 } catch (NoSuchAlgorithmException e) {
                     throw failure(e, "Unable to compute hash for data integrity");
                 } finally {
@@ -612,9 +714,9 @@ public class ArchiveTransferManager {
                 }
                 // Successfully download
                 return;
-                // We will retry IO exception
+                // We will retry IO exception, unless the transfer has been aborted
             } catch (IOException ioe) {
-                if (retries < DEFAULT_MAX_RETRIES) {
+                if (retries < DEFAULT_MAX_RETRIES && output.isOpen()) {
                     retries++;
                     if (log.isDebugEnabled()) {
                         log.debug(retries
@@ -624,11 +726,6 @@ public class ArchiveTransferManager {
                                 + currentPosition + " endPosition="
                                 + endPosition);
                     }
-                    try {
-                        output.seek(currentPosition);
-                    } catch (IOException e) {
-                        throw new AmazonClientException("Unable to download the archive: " + ioe.getMessage(), e);
-                    }
                 } else {
                     throw new AmazonClientException("Unable to download the archive: " + ioe.getMessage(), ioe);
                 }
@@ -637,19 +734,61 @@ public class ArchiveTransferManager {
     }
 
     /**
-     * Writes the data from the given input stream to the given output stream.
+     * Writes the data from the given input stream to the given file channel,
+     * starting at the given position.
      */
-    private void appendToFile(RandomAccessFile output, InputStream input)
+    private void writeToFile(FileChannel output, InputStream input, long position)
             throws IOException {
         byte[] buffer = new byte[1024 * 1024];
-        int bytesRead = 0;
-        do {
-            bytesRead = input.read(buffer);
-            if (bytesRead < 0)
-                break;
-            output.write(buffer, 0, bytesRead);
-        } while (bytesRead > 0);
-        return;
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+        int bytesRead;
+        while ((bytesRead = input.read(buffer)) >= 0) {
+            byteBuffer.clear();
+            byteBuffer.limit(bytesRead);
+            while (byteBuffer.hasRemaining()) {
+                position += output.write(byteBuffer, position);
+            }
+        }
+    }
+
+    /**
+     * Waits for the given number of tasks submitted to the given completion
+     * service to complete, failing as soon as one of them fails.
+     */
+    private static void waitForAll(CompletionService<Void> completionService, int taskCount)
+            throws InterruptedException {
+        for (int i = 0; i < taskCount; i++) {
+            try {
+                completionService.take().get();
+            } catch (ExecutionException e) {
+                throw failure(e.getCause() == null ? e : e.getCause());
+            }
+        }
+    }
+
+    private static void cancelAll(List<Future<Void>> futures) {
+        for (Future<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Returns a new executor service transferring up to
+     * {@value #DEFAULT_THREAD_POOL_SIZE} parts or chunks concurrently, for a
+     * single transfer.
+     */
+    private static ExecutorService createDefaultExecutorService() {
+        return Executors.newFixedThreadPool(DEFAULT_THREAD_POOL_SIZE, new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r);
+                thread.setName("glacier-transfer-manager-worker-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
     }
 
     /**
@@ -677,10 +816,12 @@ public class ArchiveTransferManager {
     private UploadResult uploadInMultipleParts(final String accountId,
             final String vaultName, final String archiveDescription,
             final File file, ProgressListener progressListener) {
+        // Parts are uploaded concurrently
+        final ProgressListener listener = SynchronizedProgressListener.wrap(progressListener);
         final long partSize = calculatePartSize(file.length());
         String partSizeString = Long.toString(partSize);
 
-        publishProgress(progressListener, ProgressEventType.TRANSFER_PREPARING_EVENT);
+        publishProgress(listener, ProgressEventType.TRANSFER_PREPARING_EVENT);
         String uploadId = null;
         try {
             InitiateMultipartUploadResult initiateResult = glacier.initiateMultipartUpload(new InitiateMultipartUploadRequest()
@@ -690,64 +831,37 @@ public class ArchiveTransferManager {
                 .withPartSize(partSizeString));
             uploadId = initiateResult.getUploadId();
         } catch (Throwable t) {
-            publishProgress(progressListener, ProgressEventType.TRANSFER_FAILED_EVENT);
+            publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
             throw failure(t);
         }
-        publishProgress(progressListener, ProgressEventType.TRANSFER_STARTED_EVENT);
-        final String fileNotFoundMsg = "Unable to find file '"
-                + file.getAbsolutePath() + "'";
+        publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+        final long fileLength = file.length();
+        final int partCount = (int) ((fileLength + partSize - 1) / partSize);
+        // Filled in by the worker threads; visible once their futures are done
+        final byte[][] binaryChecksums = new byte[partCount][];
+        final String uploadIdToUse = uploadId;
+        final ExecutorService executor = executorService == null ? createDefaultExecutorService() : executorService;
+        final CompletionService<Void> completionService = new ExecutorCompletionService<Void>(executor);
+        final List<Future<Void>> futures = new ArrayList<Future<Void>>();
         try {
-            List<byte[]> binaryChecksums = new LinkedList<byte[]>();
+            for (int part = 0; part < partCount; part++) {
+                final int partIndex = part;
+                final long currentPosition = part * partSize;
+                final long length = Math.min(partSize, fileLength - currentPosition);
+                futures.add(completionService.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        binaryChecksums[partIndex] = uploadOnePart(accountId, vaultName, uploadIdToUse,
+                                file, currentPosition, length, listener);
+                        return null;
+                    }
+                }));
+            }
+            waitForAll(completionService, partCount);
 
-            long currentPosition = 0;
-            while (currentPosition < file.length()) {
-                long length = partSize;
-                if (currentPosition + partSize > file.length()) {
-                    length = file.length() - currentPosition;
-                }
+            String checksum = TreeHashGenerator.calculateTreeHash(Arrays.asList(binaryChecksums));
 
-                Exception failedException = null;
-                boolean completed = false;
-                int tries = 0;
-                    while (!completed && tries < 5){
-                        tries++;
-                        InputSubstream inputSubStream = null;
-                        try {
-                            inputSubStream = new InputSubstream(
-                                    newResettableInputStream(file, fileNotFoundMsg)
-                                        .disableClose(), // requires explicit release
-                                    currentPosition, length, true);
-                            String checksum = TreeHashGenerator.calculateTreeHash(inputSubStream);
-                            byte[] binaryChecksum = BinaryUtils.fromHex(checksum);
-                            inputSubStream.reset();
-                            UploadMultipartPartRequest req = new UploadMultipartPartRequest()
-                                .withAccountId(accountId)
-                                .withChecksum(checksum)
-                                .withBody(inputSubStream)
-                                .withRange("bytes " + currentPosition + "-" + (currentPosition + length - 1) + "/*")
-                                .withUploadId(uploadId)
-                                .withVaultName(vaultName)
-                                .withGeneralProgressListener(progressListener)
-                                ;
-                            
-                            glacier.uploadMultipartPart(req);
-                            completed = true;
-                            binaryChecksums.add(binaryChecksum);
-                        } catch (Exception e){
-                            failedException = e;
-                        } finally {
-                            // We opened the file underneath; so need to release it
-                            release(inputSubStream, log);
-                        }
-                    } // end inner while
-                if (!completed && failedException!=null)
-                    throw failedException;
-                currentPosition += partSize;
-            } // end outer while
-
-            String checksum = TreeHashGenerator.calculateTreeHash(binaryChecksums);
-
-            String archiveSize = Long.toString(file.length());
+            String archiveSize = Long.toString(fileLength);
             CompleteMultipartUploadResult completeMultipartUploadResult =
                 glacier.completeMultipartUpload(new CompleteMultipartUploadRequest()
                     .withAccountId(accountId)
@@ -757,13 +871,66 @@ public class ArchiveTransferManager {
                     .withUploadId(uploadId));
 
             String artifactId = completeMultipartUploadResult.getArchiveId();
-            publishProgress(progressListener, ProgressEventType.TRANSFER_COMPLETED_EVENT);
+            publishProgress(listener, ProgressEventType.TRANSFER_COMPLETED_EVENT);
             return new UploadResult(artifactId);
         } catch (Throwable t) {
-            publishProgress(progressListener, ProgressEventType.TRANSFER_FAILED_EVENT);
+            cancelAll(futures);
+            publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
             glacier.abortMultipartUpload(new AbortMultipartUploadRequest(accountId, vaultName, uploadId));
             throw failure(t, "Unable to finish the upload");
+        } finally {
+            if (executor != executorService) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Uploads one part of a multipart upload, computing its tree hash on the
+     * calling thread, and returns its binary checksum. The part is retried if
+     * any errors are encountered.
+     */
+    private byte[] uploadOnePart(String accountId, String vaultName, String uploadId,
+            File file, long currentPosition, long length,
+            ProgressListener progressListener) throws Exception {
+        final String fileNotFoundMsg = "Unable to find file '"
+                + file.getAbsolutePath() + "'";
+        Exception failedException = null;
+        int tries = 0;
+        while (tries < 5) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new AbortedException();
+            }
+            tries++;
+            InputSubstream inputSubStream = null;
+            try {
+                inputSubStream = new InputSubstream(
+                        newResettableInputStream(file, fileNotFoundMsg)
+                            .disableClose(), // requires explicit release
+                        currentPosition, length, true);
+                String checksum = TreeHashGenerator.calculateTreeHash(inputSubStream);
+                byte[] binaryChecksum = BinaryUtils.fromHex(checksum);
+                inputSubStream.reset();
+                UploadMultipartPartRequest req = new UploadMultipartPartRequest()
+                    .withAccountId(accountId)
+                    .withChecksum(checksum)
+                    .withBody(inputSubStream)
+                    .withRange("bytes " + currentPosition + "-" + (currentPosition + length - 1) + "/*")
+                    .withUploadId(uploadId)
+                    .withVaultName(vaultName)
+                    .withGeneralProgressListener(progressListener)
+                    ;
+
+                glacier.uploadMultipartPart(req);
+                return binaryChecksum;
+            } catch (Exception e) {
+                failedException = e;
+            } finally {
+                // We opened the file underneath; so need to release it
+                release(inputSubStream, log);
+            }
         }
+        throw failedException;
     }
 
     private UploadResult uploadInSinglePart(final String accountId,
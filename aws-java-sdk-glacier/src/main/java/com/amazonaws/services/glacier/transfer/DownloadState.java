@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.transfer;
+
+import static com.amazonaws.util.IOUtils.closeQuietly;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.BitSet;
+import java.util.Properties;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Records which chunks of a job output have been downloaded into a file, in
+ * a state file next to it, so that an interrupted download of the same job
+ * output can be resumed without downloading those chunks again.
+ * <p>
+ * The state file is rewritten every time a chunk completes, and deleted once
+ * the whole job output has been downloaded. Failures to read or write the
+ * state file never fail the download; the download just starts over.
+ */
+class DownloadState {
+
+    /** Suffix appended to the name of the downloaded file to name its state file. */
+    static final String STATE_FILE_SUFFIX = ".download-state";
+
+    private static final String JOB_ID = "jobId";
+    private static final String ARCHIVE_SIZE = "archiveSize";
+    private static final String CHUNK_SIZE = "chunkSize";
+    private static final String COMPLETED_CHUNKS = "completedChunks";
+
+    private static final Log log = LogFactory.getLog(DownloadState.class);
+
+    private final File stateFile;
+    private final String jobId;
+    private final long archiveSize;
+    private final long chunkSize;
+    private final BitSet completedChunks;
+
+    private DownloadState(File stateFile, String jobId, long archiveSize, long chunkSize,
+            BitSet completedChunks) {
+        this.stateFile = stateFile;
+        this.jobId = jobId;
+        this.archiveSize = archiveSize;
+        this.chunkSize = chunkSize;
+        this.completedChunks = completedChunks;
+    }
+
+    /**
+     * Returns the state of the download of the given job output into the
+     * given file. Chunks recorded as completed by a previous download are
+     * only taken into account if that download was of the same job output,
+     * with the same chunk size, and the file is still there.
+     */
+    static DownloadState load(File file, String jobId, long archiveSize, long chunkSize) {
+        final File stateFile = new File(file.getPath() + STATE_FILE_SUFFIX);
+        final BitSet completedChunks = new BitSet();
+        if (stateFile.isFile() && file.isFile() && file.length() == archiveSize) {
+            InputStream input = null;
+            try {
+                input = new FileInputStream(stateFile);
+                final Properties properties = new Properties();
+                properties.load(input);
+                if (jobId.equals(properties.getProperty(JOB_ID))
+                        && Long.toString(archiveSize).equals(properties.getProperty(ARCHIVE_SIZE))
+                        && Long.toString(chunkSize).equals(properties.getProperty(CHUNK_SIZE))) {
+                    for (String chunk : properties.getProperty(COMPLETED_CHUNKS, "").split(",")) {
+                        if (chunk.length() > 0) {
+                            completedChunks.set(Integer.parseInt(chunk));
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Unable to read the download state " + stateFile.getPath(), e);
+                completedChunks.clear();
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring the corrupted download state " + stateFile.getPath(), e);
+                completedChunks.clear();
+            } finally {
+                closeQuietly(input, log);
+            }
+        }
+        if (!completedChunks.isEmpty() && log.isDebugEnabled()) {
+            log.debug("Resuming the download of job " + jobId + " into " + file.getPath()
+                    + ", " + completedChunks.cardinality() + " chunks already downloaded");
+        }
+        return new DownloadState(stateFile, jobId, archiveSize, chunkSize, completedChunks);
+    }
+
+    /**
+     * Returns true if the chunk at the given index has already been
+     * downloaded.
+     */
+    synchronized boolean isCompleted(int chunk) {
+        return completedChunks.get(chunk);
+    }
+
+    /**
+     * Records the chunk at the given index as downloaded. The chunk must have
+     * been forced to the storage device beforehand.
+     */
+    synchronized void markCompleted(int chunk) {
+        completedChunks.set(chunk);
+        final StringBuilder chunks = new StringBuilder();
+        for (int i = completedChunks.nextSetBit(0); i >= 0; i = completedChunks.nextSetBit(i + 1)) {
+            if (chunks.length() > 0) {
+                chunks.append(',');
+            }
+            chunks.append(i);
+        }
+        final Properties properties = new Properties();
+        properties.setProperty(JOB_ID, jobId);
+        properties.setProperty(ARCHIVE_SIZE, Long.toString(archiveSize));
+        properties.setProperty(CHUNK_SIZE, Long.toString(chunkSize));
+        properties.setProperty(COMPLETED_CHUNKS, chunks.toString());
+        OutputStream output = null;
+        try {
+            output = new FileOutputStream(stateFile);
+            properties.store(output, null);
+        } catch (IOException e) {
+            log.warn("Unable to write the download state " + stateFile.getPath(), e);
+        } finally {
+            closeQuietly(output, log);
+        }
+    }
+
+    /**
+     * Deletes the state file once the whole job output has been downloaded.
+     */
+    synchronized void delete() {
+        if (stateFile.exists() && !stateFile.delete()) {
+            log.warn("Unable to delete the download state " + stateFile.getPath());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.transfer;
+
+import com.amazonaws.event.DeliveryMode;
+import com.amazonaws.event.ProgressEvent;
+import com.amazonaws.event.ProgressListener;
+
+/**
+ * Delivers the progress events of the concurrent parts or chunks of a
+ * transfer to the caller's listener one at a time, so that the listener does
+ * not have to be thread safe. Listeners that are not safe to call
+ * synchronously are still delivered through the SDK's progress publisher
+ * thread.
+ */
+final class SynchronizedProgressListener implements ProgressListener, DeliveryMode {
+
+    private final ProgressListener listener;
+
+    private SynchronizedProgressListener(ProgressListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return A listener delivering events to the given one one at a time, or
+     *         the given listener itself if it ignores events.
+     */
+    static ProgressListener wrap(ProgressListener listener) {
+        if (listener == null || listener == ProgressListener.NOOP) {
+            return listener;
+        }
+        return new SynchronizedProgressListener(listener);
+    }
+
+    @Override
+    public synchronized void progressChanged(ProgressEvent progressEvent) {
+        listener.progressChanged(progressEvent);
+    }
+
+    @Override
+    public boolean isSyncCallSafe() {
+        return DeliveryMode.Check.isSyncCallSafe(listener);
+    }
+}
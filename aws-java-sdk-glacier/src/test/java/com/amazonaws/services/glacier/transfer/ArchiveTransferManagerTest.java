@@ -0,0 +1,234 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.transfer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.event.ProgressEvent;
+import com.amazonaws.event.SyncProgressListener;
+import com.amazonaws.services.glacier.TreeHashGenerator;
+import com.amazonaws.services.glacier.model.GetJobOutputRequest;
+import com.amazonaws.services.glacier.model.GetJobOutputResult;
+import com.amazonaws.services.sns.AmazonSNSClient;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+import com.amazonaws.util.IOUtils;
+
+public class ArchiveTransferManagerTest {
+
+    private static final String CHUNK_SIZE_PROPERTY = "com.amazonaws.services.glacier.transfer.downloadChunkSizeInMB";
+    private static final int MB = 1024 * 1024;
+    private static final String ACCOUNT_ID = "-";
+    private static final String VAULT_NAME = "vault";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** An archive of four 1 MB chunks, the last one partial. */
+    private final byte[] archive = new byte[3 * MB + MB / 2];
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        new Random(42).nextBytes(archive);
+        System.setProperty(CHUNK_SIZE_PROPERTY, "1");
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CHUNK_SIZE_PROPERTY);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void downloadJobOutput_DownloadsChunksConcurrently() throws Exception {
+        InMemoryGlacier glacier = new InMemoryGlacier(archive);
+        glacier.setRequestDelayMillis(100);
+        File file = folder.newFile();
+
+        newTransferManager(glacier, 4).downloadJobOutput(ACCOUNT_ID, VAULT_NAME, InMemoryGlacier.JOB_ID, file, null);
+
+        assertArrayEquals(archive, readFile(file));
+        assertEquals(4, glacier.getGetJobOutputRanges().size());
+        assertTrue(glacier.getMaxInflightRequests() > 1);
+        assertFalse(stateFile(file).exists());
+    }
+
+    @Test(timeout = 10000)
+    public void downloadJobOutput_RetriesOnlyCorruptedChunk() throws Exception {
+        final String corruptedRange = "bytes=" + MB + "-" + (2 * MB - 1);
+        final AtomicInteger corruptions = new AtomicInteger();
+        InMemoryGlacier glacier = new InMemoryGlacier(archive) {
+            @Override
+            protected byte[] serve(String range, byte[] bytes) {
+                if (range.equals(corruptedRange) && corruptions.getAndIncrement() == 0) {
+                    byte[] corrupted = bytes.clone();
+                    corrupted[0]++;
+                    return corrupted;
+                }
+                return bytes;
+            }
+        };
+        File file = folder.newFile();
+
+        newTransferManager(glacier, 4).downloadJobOutput(ACCOUNT_ID, VAULT_NAME, InMemoryGlacier.JOB_ID, file, null);
+
+        assertArrayEquals(archive, readFile(file));
+        List<String> ranges = glacier.getGetJobOutputRanges();
+        assertEquals(5, ranges.size());
+        assertEquals(4, new HashSet<String>(ranges).size());
+    }
+
+    @Test(timeout = 10000)
+    public void downloadJobOutput_ResumesFromStateFileAfterFailure() throws Exception {
+        final String failingRange = "bytes=" + 2 * MB + "-" + (3 * MB - 1);
+        InMemoryGlacier failingGlacier = new InMemoryGlacier(archive) {
+            @Override
+            public GetJobOutputResult getJobOutput(GetJobOutputRequest request) {
+                if (request.getRange().equals(failingRange)) {
+                    throw new AmazonServiceException("Service unavailable");
+                }
+                return super.getJobOutput(request);
+            }
+        };
+        File file = folder.newFile();
+        try {
+            // A single thread downloads the chunks in order and stops at the failing one
+            newTransferManager(failingGlacier, 1).downloadJobOutput(
+                    ACCOUNT_ID, VAULT_NAME, InMemoryGlacier.JOB_ID, file, null);
+            fail("Expected AmazonClientException");
+        } catch (AmazonClientException expected) {
+        }
+        assertTrue(stateFile(file).exists());
+
+        InMemoryGlacier glacier = new InMemoryGlacier(archive);
+        newTransferManager(glacier, 4).downloadJobOutput(ACCOUNT_ID, VAULT_NAME, InMemoryGlacier.JOB_ID, file, null);
+
+        assertArrayEquals(archive, readFile(file));
+        assertEquals(new HashSet<String>(Arrays.asList(failingRange, "bytes=" + 3 * MB + "-" + (archive.length - 1))),
+                new HashSet<String>(glacier.getGetJobOutputRanges()));
+        assertFalse(stateFile(file).exists());
+    }
+
+    @Test(timeout = 10000)
+    public void downloadJobOutput_DeliversProgressEventsOneAtATime() throws Exception {
+        InMemoryGlacier glacier = new InMemoryGlacier(archive);
+        glacier.setRequestDelayMillis(50);
+        ConcurrencyCheckingListener listener = new ConcurrencyCheckingListener();
+
+        newTransferManager(glacier, 4).downloadJobOutput(
+                ACCOUNT_ID, VAULT_NAME, InMemoryGlacier.JOB_ID, folder.newFile(), listener);
+
+        assertTrue(listener.events.get() >= 4);
+        assertEquals(0, listener.concurrentCalls.get());
+    }
+
+    @Test(timeout = 30000)
+    public void upload_UploadsPartsConcurrently() throws Exception {
+        InMemoryGlacier glacier = new InMemoryGlacier(new byte[0]);
+        glacier.setRequestDelayMillis(100);
+        // Just over the multipart threshold of 100 MB, which makes 7 parts of 16 MB
+        File file = folder.newFile();
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(101L * MB);
+            raf.write(archive);
+        } finally {
+            raf.close();
+        }
+        ConcurrencyCheckingListener listener = new ConcurrencyCheckingListener();
+
+        UploadResult result = newTransferManager(glacier, 4).upload(
+                ACCOUNT_ID, VAULT_NAME, "description", file, listener);
+
+        assertEquals(InMemoryGlacier.ARCHIVE_ID, result.getArchiveId());
+        List<String> ranges = glacier.getUploadedRanges();
+        assertEquals(7, ranges.size());
+        assertEquals(7, new HashSet<String>(ranges).size());
+        assertTrue(ranges.contains("bytes " + 96 * MB + "-" + (101 * MB - 1) + "/*"));
+        assertTrue(glacier.getMaxInflightRequests() > 1);
+        assertEquals(TreeHashGenerator.calculateTreeHash(file), glacier.getCompleteRequest().getChecksum());
+        assertEquals(Long.toString(file.length()), glacier.getCompleteRequest().getArchiveSize());
+        assertEquals(0, listener.concurrentCalls.get());
+    }
+
+    private ArchiveTransferManager newTransferManager(InMemoryGlacier glacier, int threads) {
+        executor = Executors.newFixedThreadPool(threads);
+        return new ArchiveTransferManager(glacier, (AmazonSQSClient) null, (AmazonSNSClient) null, executor);
+    }
+
+    private static File stateFile(File file) {
+        return new File(file.getPath() + DownloadState.STATE_FILE_SUFFIX);
+    }
+
+    private static byte[] readFile(File file) throws Exception {
+        FileInputStream input = new FileInputStream(file);
+        try {
+            return IOUtils.toByteArray(input);
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Synchronously delivered listener recording whether it is ever called
+     * by several threads at once.
+     */
+    private static class ConcurrencyCheckingListener extends SyncProgressListener {
+
+        private final AtomicInteger inflightCalls = new AtomicInteger();
+        private final AtomicInteger concurrentCalls = new AtomicInteger();
+        private final AtomicInteger events = new AtomicInteger();
+
+        @Override
+        public void progressChanged(ProgressEvent progressEvent) {
+            if (inflightCalls.incrementAndGet() > 1) {
+                concurrentCalls.incrementAndGet();
+            }
+            events.incrementAndGet();
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inflightCalls.decrementAndGet();
+        }
+    }
+}
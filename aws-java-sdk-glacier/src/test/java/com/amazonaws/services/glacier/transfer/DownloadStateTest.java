@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.transfer;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.RandomAccessFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DownloadStateTest {
+
+    private static final String JOB_ID = "job";
+    private static final long ARCHIVE_SIZE = 4096;
+    private static final long CHUNK_SIZE = 1024;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = folder.newFile();
+        setFileLength(ARCHIVE_SIZE);
+    }
+
+    @Test
+    public void completedChunksAreLoadedForSameJobOutput() {
+        DownloadState state = DownloadState.load(file, JOB_ID, ARCHIVE_SIZE, CHUNK_SIZE);
+        state.markCompleted(0);
+        state.markCompleted(2);
+
+        DownloadState loaded = DownloadState.load(file, JOB_ID, ARCHIVE_SIZE, CHUNK_SIZE);
+
+        assertTrue(loaded.isCompleted(0));
+        assertFalse(loaded.isCompleted(1));
+        assertTrue(loaded.isCompleted(2));
+        assertFalse(loaded.isCompleted(3));
+    }
+
+    @Test
+    public void stateOfOtherJobOrChunkSizeIsIgnored() {
+        DownloadState.load(file, JOB_ID, ARCHIVE_SIZE, CHUNK_SIZE).markCompleted(0);
+
+        assertFalse(DownloadState.load(file, "other-job", ARCHIVE_SIZE, CHUNK_SIZE).isCompleted(0));
+        assertFalse(DownloadState.load(file, JOB_ID, ARCHIVE_SIZE, 2 * CHUNK_SIZE).isCompleted(0));
+    }
+
+    @Test
+    public void stateIsIgnoredWhenFileWasTruncated() throws Exception {
+        DownloadState.load(file, JOB_ID, ARCHIVE_SIZE, CHUNK_SIZE).markCompleted(0);
+        setFileLength(CHUNK_SIZE);
+
+        assertFalse(DownloadState.load(file, JOB_ID, ARCHIVE_SIZE, CHUNK_SIZE).isCompleted(0));
+    }
+
+    @Test
+    public void corruptedStateIsIgnored() throws Exception {
+        FileWriter writer = new FileWriter(stateFile());
+        try {
+            writer.write("jobId=" + JOB_ID + "\narchiveSize=" + ARCHIVE_SIZE + "\nchunkSize=" + CHUNK_SIZE
+                    + "\ncompletedChunks=0,x\n");
+        } finally {
+            writer.close();
+        }
+
+        assertFalse(DownloadState.load(file, JOB_ID, ARCHIVE_SIZE, CHUNK_SIZE).isCompleted(0));
+    }
+
+    @Test
+    public void deleteRemovesStateFile() {
+        DownloadState state = DownloadState.load(file, JOB_ID, ARCHIVE_SIZE, CHUNK_SIZE);
+        state.markCompleted(0);
+        assertTrue(stateFile().exists());
+
+        state.delete();
+
+        assertFalse(stateFile().exists());
+    }
+
+    private File stateFile() {
+        return new File(file.getPath() + DownloadState.STATE_FILE_SUFFIX);
+    }
+
+    private void setFileLength(long length) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(length);
+        } finally {
+            raf.close();
+        }
+    }
+}
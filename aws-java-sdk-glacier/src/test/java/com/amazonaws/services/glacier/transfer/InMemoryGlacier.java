@@ -0,0 +1,183 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.transfer;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.event.ProgressEvent;
+import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.event.ProgressListener;
+import com.amazonaws.services.glacier.AmazonGlacierClient;
+import com.amazonaws.services.glacier.TreeHashGenerator;
+import com.amazonaws.services.glacier.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.glacier.model.AbortMultipartUploadResult;
+import com.amazonaws.services.glacier.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.glacier.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.glacier.model.DescribeJobRequest;
+import com.amazonaws.services.glacier.model.DescribeJobResult;
+import com.amazonaws.services.glacier.model.GetJobOutputRequest;
+import com.amazonaws.services.glacier.model.GetJobOutputResult;
+import com.amazonaws.services.glacier.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.glacier.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.glacier.model.UploadMultipartPartRequest;
+import com.amazonaws.services.glacier.model.UploadMultipartPartResult;
+import com.amazonaws.util.IOUtils;
+
+/**
+ * An Amazon Glacier client that serves the output of a single archive
+ * retrieval job from memory and accepts multipart uploads, recording the
+ * requests it receives. Each request sends a progress event to the listener
+ * of the request from the calling thread, as the HTTP client does.
+ */
+class InMemoryGlacier extends AmazonGlacierClient {
+
+    static final String JOB_ID = "job";
+    static final String UPLOAD_ID = "upload";
+    static final String ARCHIVE_ID = "archive";
+
+    private final byte[] archive;
+    private final List<String> getJobOutputRanges = new ArrayList<String>();
+    private final List<String> uploadedRanges = new ArrayList<String>();
+    private final AtomicInteger inflightRequests = new AtomicInteger();
+    private final AtomicInteger maxInflightRequests = new AtomicInteger();
+    private volatile int requestDelayMillis;
+    private CompleteMultipartUploadRequest completeRequest;
+
+    InMemoryGlacier(byte[] archive) {
+        super(new BasicAWSCredentials("access", "secret"));
+        this.archive = archive;
+    }
+
+    /**
+     * Makes every request take the given time, so that concurrent requests
+     * overlap.
+     */
+    void setRequestDelayMillis(int requestDelayMillis) {
+        this.requestDelayMillis = requestDelayMillis;
+    }
+
+    synchronized List<String> getGetJobOutputRanges() {
+        return new ArrayList<String>(getJobOutputRanges);
+    }
+
+    synchronized List<String> getUploadedRanges() {
+        return new ArrayList<String>(uploadedRanges);
+    }
+
+    synchronized CompleteMultipartUploadRequest getCompleteRequest() {
+        return completeRequest;
+    }
+
+    int getMaxInflightRequests() {
+        return maxInflightRequests.get();
+    }
+
+    /**
+     * Returns the bytes served for the given range, which may be altered to
+     * test checksum failures.
+     */
+    protected byte[] serve(String range, byte[] bytes) {
+        return bytes;
+    }
+
+    @Override
+    public DescribeJobResult describeJob(DescribeJobRequest request) {
+        return new DescribeJobResult().withJobId(request.getJobId())
+                .withArchiveSizeInBytes((long) archive.length);
+    }
+
+    @Override
+    public GetJobOutputResult getJobOutput(GetJobOutputRequest request) {
+        enter(request);
+        try {
+            synchronized (this) {
+                getJobOutputRanges.add(request.getRange());
+            }
+            String[] range = request.getRange().substring("bytes=".length()).split("-");
+            byte[] bytes = Arrays.copyOfRange(archive, Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+            String checksum = TreeHashGenerator.calculateTreeHash(new ByteArrayInputStream(bytes));
+            return new GetJobOutputResult()
+                    .withBody(new ByteArrayInputStream(serve(request.getRange(), bytes)))
+                    .withChecksum(checksum);
+        } finally {
+            exit();
+        }
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        return new InitiateMultipartUploadResult().withUploadId(UPLOAD_ID);
+    }
+
+    @Override
+    public UploadMultipartPartResult uploadMultipartPart(UploadMultipartPartRequest request) {
+        enter(request);
+        try {
+            byte[] bytes = IOUtils.toByteArray(request.getBody());
+            String checksum = TreeHashGenerator.calculateTreeHash(new ByteArrayInputStream(bytes));
+            if (!checksum.equals(request.getChecksum())) {
+                throw new AmazonServiceException("Checksum mismatch for " + request.getRange());
+            }
+            synchronized (this) {
+                uploadedRanges.add(request.getRange());
+            }
+            return new UploadMultipartPartResult().withChecksum(checksum);
+        } catch (java.io.IOException e) {
+            throw new AmazonServiceException("Unable to read the part", e);
+        } finally {
+            exit();
+        }
+    }
+
+    @Override
+    public synchronized CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        completeRequest = request;
+        return new CompleteMultipartUploadResult().withArchiveId(ARCHIVE_ID);
+    }
+
+    @Override
+    public AbortMultipartUploadResult abortMultipartUpload(AbortMultipartUploadRequest request) {
+        return new AbortMultipartUploadResult();
+    }
+
+    private void enter(AmazonWebServiceRequest request) {
+        int inflight = inflightRequests.incrementAndGet();
+        int max;
+        while ((max = maxInflightRequests.get()) < inflight && !maxInflightRequests.compareAndSet(max, inflight)) {
+        }
+        ProgressListener listener = request.getGeneralProgressListener();
+        if (listener != null) {
+            listener.progressChanged(new ProgressEvent(ProgressEventType.HTTP_REQUEST_STARTED_EVENT));
+        }
+        if (requestDelayMillis > 0) {
+            try {
+                Thread.sleep(requestDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void exit() {
+        inflightRequests.decrementAndGet();
+    }
+}
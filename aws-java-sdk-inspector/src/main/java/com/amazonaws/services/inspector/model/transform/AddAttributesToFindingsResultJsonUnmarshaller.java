@@ -47,10 +47,12 @@ public class AddAttributesToFindingsResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    addAttributesToFindingsResult.setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class),
-                            FailedItemDetailsJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("failedItems".equals(fieldName)) {
+                        context.nextToken();
+                        addAttributesToFindingsResult.setFailedItems(failedItemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class AddAttributesToFindingsResultJsonUnmarshaller implements Unmarshall
         return addAttributesToFindingsResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> failedItemsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, FailedItemDetails>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class), FailedItemDetailsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AddAttributesToFindingsResultJsonUnmarshaller instance;
 
     public static AddAttributesToFindingsResultJsonUnmarshaller getInstance() {
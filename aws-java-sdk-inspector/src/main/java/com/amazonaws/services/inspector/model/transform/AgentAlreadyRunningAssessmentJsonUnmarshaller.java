@@ -47,13 +47,15 @@ public class AgentAlreadyRunningAssessmentJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    agentAlreadyRunningAssessment.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("assessmentRunArn", targetDepth)) {
-                    context.nextToken();
-                    agentAlreadyRunningAssessment.setAssessmentRunArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentId".equals(fieldName)) {
+                        context.nextToken();
+                        agentAlreadyRunningAssessment.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("assessmentRunArn".equals(fieldName)) {
+                        context.nextToken();
+                        agentAlreadyRunningAssessment.setAssessmentRunArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class AgentFilterJsonUnmarshaller implements Unmarshaller<AgentFilter, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentHealths", targetDepth)) {
-                    context.nextToken();
-                    agentFilter.setAgentHealths(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("agentHealthCodes", targetDepth)) {
-                    context.nextToken();
-                    agentFilter.setAgentHealthCodes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentHealths".equals(fieldName)) {
+                        context.nextToken();
+                        agentFilter.setAgentHealths(agentHealthsUnmarshaller.unmarshall(context));
+                    } else if ("agentHealthCodes".equals(fieldName)) {
+                        context.nextToken();
+                        agentFilter.setAgentHealthCodes(agentHealthCodesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,19 @@ public class AgentFilterJsonUnmarshaller implements Unmarshaller<AgentFilter, Js
         return agentFilter;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> agentHealthsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> agentHealthCodesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AgentFilterJsonUnmarshaller instance;
 
     public static AgentFilterJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class AgentPreviewJsonUnmarshaller implements Unmarshaller<AgentPreview,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    agentPreview.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("autoScalingGroup", targetDepth)) {
-                    context.nextToken();
-                    agentPreview.setAutoScalingGroup(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentId".equals(fieldName)) {
+                        context.nextToken();
+                        agentPreview.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("autoScalingGroup".equals(fieldName)) {
+                        context.nextToken();
+                        agentPreview.setAutoScalingGroup(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,34 +47,30 @@ public class AssessmentRunAgentJsonUnmarshaller implements Unmarshaller<Assessme
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("assessmentRunArn", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAssessmentRunArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentHealth", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAgentHealth(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentHealthCode", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAgentHealthCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("agentHealthDetails", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAgentHealthDetails(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("autoScalingGroup", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setAutoScalingGroup(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("telemetryMetadata", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunAgent.setTelemetryMetadata(new ListUnmarshaller<TelemetryMetadata>(TelemetryMetadataJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentId".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunAgent.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("assessmentRunArn".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunAgent.setAssessmentRunArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("agentHealth".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunAgent.setAgentHealth(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("agentHealthCode".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunAgent.setAgentHealthCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("agentHealthDetails".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunAgent.setAgentHealthDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("autoScalingGroup".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunAgent.setAutoScalingGroup(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("telemetryMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunAgent.setTelemetryMetadata(telemetryMetadataUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -88,6 +84,13 @@ public class AssessmentRunAgentJsonUnmarshaller implements Unmarshaller<Assessme
         return assessmentRunAgent;
     }
 
+    private final Unmarshaller<java.util.List<TelemetryMetadata>, JsonUnmarshallerContext> telemetryMetadataUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TelemetryMetadata>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TelemetryMetadata>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TelemetryMetadata>(TelemetryMetadataJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AssessmentRunAgentJsonUnmarshaller instance;
 
     public static AssessmentRunAgentJsonUnmarshaller getInstance() {
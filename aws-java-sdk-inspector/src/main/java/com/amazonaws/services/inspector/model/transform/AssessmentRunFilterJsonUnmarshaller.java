@@ -47,33 +47,30 @@ public class AssessmentRunFilterJsonUnmarshaller implements Unmarshaller<Assessm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("namePattern", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter.setNamePattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("states", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter.setStates(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("durationRange", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter.setDurationRange(DurationRangeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter.setRulesPackageArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("startTimeRange", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter.setStartTimeRange(TimestampRangeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("completionTimeRange", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter.setCompletionTimeRange(TimestampRangeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("stateChangeTimeRange", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunFilter.setStateChangeTimeRange(TimestampRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("namePattern".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunFilter.setNamePattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("states".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunFilter.setStates(statesUnmarshaller.unmarshall(context));
+                    } else if ("durationRange".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunFilter.setDurationRange(DurationRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("rulesPackageArns".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunFilter.setRulesPackageArns(rulesPackageArnsUnmarshaller.unmarshall(context));
+                    } else if ("startTimeRange".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunFilter.setStartTimeRange(TimestampRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("completionTimeRange".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunFilter.setCompletionTimeRange(TimestampRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("stateChangeTimeRange".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunFilter.setStateChangeTimeRange(TimestampRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -87,6 +84,19 @@ public class AssessmentRunFilterJsonUnmarshaller implements Unmarshaller<Assessm
         return assessmentRunFilter;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> statesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> rulesPackageArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AssessmentRunFilterJsonUnmarshaller instance;
 
     public static AssessmentRunFilterJsonUnmarshaller getInstance() {
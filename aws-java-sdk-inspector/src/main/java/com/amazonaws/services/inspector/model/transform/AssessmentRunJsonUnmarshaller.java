@@ -47,63 +47,51 @@ public class AssessmentRunJsonUnmarshaller implements Unmarshaller<AssessmentRun
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("assessmentTemplateArn", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setAssessmentTemplateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("state", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("durationInSeconds", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setDurationInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setRulesPackageArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("userAttributesForFindings", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setUserAttributesForFindings(new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("startedAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("completedAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setCompletedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("stateChangedAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setStateChangedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("dataCollected", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setDataCollected(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("stateChanges", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setStateChanges(new ListUnmarshaller<AssessmentRunStateChange>(AssessmentRunStateChangeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("notifications", targetDepth)) {
-                    context.nextToken();
-                    assessmentRun.setNotifications(new ListUnmarshaller<AssessmentRunNotification>(AssessmentRunNotificationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("assessmentTemplateArn".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setAssessmentTemplateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("state".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("durationInSeconds".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setDurationInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("rulesPackageArns".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setRulesPackageArns(rulesPackageArnsUnmarshaller.unmarshall(context));
+                    } else if ("userAttributesForFindings".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setUserAttributesForFindings(userAttributesForFindingsUnmarshaller.unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("startedAt".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("completedAt".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setCompletedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("stateChangedAt".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setStateChangedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("dataCollected".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setDataCollected(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("stateChanges".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setStateChanges(stateChangesUnmarshaller.unmarshall(context));
+                    } else if ("notifications".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRun.setNotifications(notificationsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -117,6 +105,31 @@ public class AssessmentRunJsonUnmarshaller implements Unmarshaller<AssessmentRun
         return assessmentRun;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> rulesPackageArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> userAttributesForFindingsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Attribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<AssessmentRunStateChange>, JsonUnmarshallerContext> stateChangesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AssessmentRunStateChange>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AssessmentRunStateChange>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AssessmentRunStateChange>(AssessmentRunStateChangeJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<AssessmentRunNotification>, JsonUnmarshallerContext> notificationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AssessmentRunNotification>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AssessmentRunNotification>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AssessmentRunNotification>(AssessmentRunNotificationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AssessmentRunJsonUnmarshaller instance;
 
     public static AssessmentRunJsonUnmarshaller getInstance() {
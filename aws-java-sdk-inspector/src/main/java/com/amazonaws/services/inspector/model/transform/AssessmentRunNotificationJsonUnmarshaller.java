@@ -47,29 +47,27 @@ public class AssessmentRunNotificationJsonUnmarshaller implements Unmarshaller<A
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("date", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("event", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setEvent(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("error", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setError(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("snsTopicArn", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setSnsTopicArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("snsPublishStatusCode", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunNotification.setSnsPublishStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("date".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunNotification.setDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("event".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunNotification.setEvent(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunNotification.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("error".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunNotification.setError(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("snsTopicArn".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunNotification.setSnsTopicArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("snsPublishStatusCode".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunNotification.setSnsPublishStatusCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
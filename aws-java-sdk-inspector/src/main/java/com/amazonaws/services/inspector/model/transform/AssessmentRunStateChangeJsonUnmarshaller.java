@@ -47,13 +47,15 @@ public class AssessmentRunStateChangeJsonUnmarshaller implements Unmarshaller<As
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("stateChangedAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunStateChange.setStateChangedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("state", targetDepth)) {
-                    context.nextToken();
-                    assessmentRunStateChange.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("stateChangedAt".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunStateChange.setStateChangedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("state".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentRunStateChange.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
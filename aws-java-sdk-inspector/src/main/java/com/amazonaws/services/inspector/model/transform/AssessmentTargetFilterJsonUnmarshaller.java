@@ -47,9 +47,12 @@ public class AssessmentTargetFilterJsonUnmarshaller implements Unmarshaller<Asse
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTargetNamePattern", targetDepth)) {
-                    context.nextToken();
-                    assessmentTargetFilter.setAssessmentTargetNamePattern(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentTargetNamePattern".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTargetFilter.setAssessmentTargetNamePattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class AssessmentTargetJsonUnmarshaller implements Unmarshaller<Assessment
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    assessmentTarget.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    assessmentTarget.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceGroupArn", targetDepth)) {
-                    context.nextToken();
-                    assessmentTarget.setResourceGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentTarget.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("updatedAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentTarget.setUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTarget.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTarget.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceGroupArn".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTarget.setResourceGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTarget.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("updatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTarget.setUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
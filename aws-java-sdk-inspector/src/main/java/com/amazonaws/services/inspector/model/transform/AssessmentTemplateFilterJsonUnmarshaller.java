@@ -47,17 +47,18 @@ public class AssessmentTemplateFilterJsonUnmarshaller implements Unmarshaller<As
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("namePattern", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplateFilter.setNamePattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("durationRange", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplateFilter.setDurationRange(DurationRangeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplateFilter.setRulesPackageArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("namePattern".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTemplateFilter.setNamePattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("durationRange".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTemplateFilter.setDurationRange(DurationRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("rulesPackageArns".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTemplateFilter.setRulesPackageArns(rulesPackageArnsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class AssessmentTemplateFilterJsonUnmarshaller implements Unmarshaller<As
         return assessmentTemplateFilter;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> rulesPackageArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AssessmentTemplateFilterJsonUnmarshaller instance;
 
     public static AssessmentTemplateFilterJsonUnmarshaller getInstance() {
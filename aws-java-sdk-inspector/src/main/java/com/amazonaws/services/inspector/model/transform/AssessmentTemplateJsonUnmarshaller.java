@@ -47,34 +47,30 @@ public class AssessmentTemplateJsonUnmarshaller implements Unmarshaller<Assessme
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("assessmentTargetArn", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setAssessmentTargetArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("durationInSeconds", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setDurationInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setRulesPackageArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("userAttributesForFindings", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setUserAttributesForFindings(new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    assessmentTemplate.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTemplate.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTemplate.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("assessmentTargetArn".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTemplate.setAssessmentTargetArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("durationInSeconds".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTemplate.setDurationInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("rulesPackageArns".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTemplate.setRulesPackageArns(rulesPackageArnsUnmarshaller.unmarshall(context));
+                    } else if ("userAttributesForFindings".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTemplate.setUserAttributesForFindings(userAttributesForFindingsUnmarshaller.unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        assessmentTemplate.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -88,6 +84,19 @@ public class AssessmentTemplateJsonUnmarshaller implements Unmarshaller<Assessme
         return assessmentTemplate;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> rulesPackageArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> userAttributesForFindingsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Attribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AssessmentTemplateJsonUnmarshaller instance;
 
     public static AssessmentTemplateJsonUnmarshaller getInstance() {
@@ -47,29 +47,27 @@ public class AssetAttributesJsonUnmarshaller implements Unmarshaller<AssetAttrib
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("schemaVersion", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setSchemaVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("agentId", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("autoScalingGroup", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setAutoScalingGroup(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("amiId", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setAmiId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hostname", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setHostname(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ipv4Addresses", targetDepth)) {
-                    context.nextToken();
-                    assetAttributes.setIpv4Addresses(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("schemaVersion".equals(fieldName)) {
+                        context.nextToken();
+                        assetAttributes.setSchemaVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("agentId".equals(fieldName)) {
+                        context.nextToken();
+                        assetAttributes.setAgentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("autoScalingGroup".equals(fieldName)) {
+                        context.nextToken();
+                        assetAttributes.setAutoScalingGroup(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("amiId".equals(fieldName)) {
+                        context.nextToken();
+                        assetAttributes.setAmiId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hostname".equals(fieldName)) {
+                        context.nextToken();
+                        assetAttributes.setHostname(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ipv4Addresses".equals(fieldName)) {
+                        context.nextToken();
+                        assetAttributes.setIpv4Addresses(ipv4AddressesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -83,6 +81,13 @@ public class AssetAttributesJsonUnmarshaller implements Unmarshaller<AssetAttrib
         return assetAttributes;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> ipv4AddressesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AssetAttributesJsonUnmarshaller instance;
 
     public static AssetAttributesJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class CreateAssessmentTargetResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTargetArn", targetDepth)) {
-                    context.nextToken();
-                    createAssessmentTargetResult.setAssessmentTargetArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentTargetArn".equals(fieldName)) {
+                        context.nextToken();
+                        createAssessmentTargetResult.setAssessmentTargetArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
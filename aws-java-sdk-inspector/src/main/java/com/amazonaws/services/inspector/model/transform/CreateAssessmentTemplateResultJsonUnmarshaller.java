@@ -47,9 +47,12 @@ public class CreateAssessmentTemplateResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTemplateArn", targetDepth)) {
-                    context.nextToken();
-                    createAssessmentTemplateResult.setAssessmentTemplateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentTemplateArn".equals(fieldName)) {
+                        context.nextToken();
+                        createAssessmentTemplateResult.setAssessmentTemplateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
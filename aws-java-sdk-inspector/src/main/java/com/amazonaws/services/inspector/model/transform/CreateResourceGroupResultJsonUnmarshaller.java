@@ -47,9 +47,12 @@ public class CreateResourceGroupResultJsonUnmarshaller implements Unmarshaller<C
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceGroupArn", targetDepth)) {
-                    context.nextToken();
-                    createResourceGroupResult.setResourceGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("resourceGroupArn".equals(fieldName)) {
+                        context.nextToken();
+                        createResourceGroupResult.setResourceGroupArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
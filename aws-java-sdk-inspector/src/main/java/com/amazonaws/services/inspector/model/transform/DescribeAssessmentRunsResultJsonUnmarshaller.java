@@ -47,15 +47,15 @@ public class DescribeAssessmentRunsResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentRuns", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentRunsResult.setAssessmentRuns(new ListUnmarshaller<AssessmentRun>(AssessmentRunJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentRunsResult.setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class),
-                            FailedItemDetailsJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentRuns".equals(fieldName)) {
+                        context.nextToken();
+                        describeAssessmentRunsResult.setAssessmentRuns(assessmentRunsUnmarshaller.unmarshall(context));
+                    } else if ("failedItems".equals(fieldName)) {
+                        context.nextToken();
+                        describeAssessmentRunsResult.setFailedItems(failedItemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +69,19 @@ public class DescribeAssessmentRunsResultJsonUnmarshaller implements Unmarshalle
         return describeAssessmentRunsResult;
     }
 
+    private final Unmarshaller<java.util.List<AssessmentRun>, JsonUnmarshallerContext> assessmentRunsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AssessmentRun>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AssessmentRun>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AssessmentRun>(AssessmentRunJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> failedItemsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, FailedItemDetails>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class), FailedItemDetailsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeAssessmentRunsResultJsonUnmarshaller instance;
 
     public static DescribeAssessmentRunsResultJsonUnmarshaller getInstance() {
@@ -47,15 +47,15 @@ public class DescribeAssessmentTargetsResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTargets", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentTargetsResult.setAssessmentTargets(new ListUnmarshaller<AssessmentTarget>(AssessmentTargetJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentTargetsResult.setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class),
-                            FailedItemDetailsJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentTargets".equals(fieldName)) {
+                        context.nextToken();
+                        describeAssessmentTargetsResult.setAssessmentTargets(assessmentTargetsUnmarshaller.unmarshall(context));
+                    } else if ("failedItems".equals(fieldName)) {
+                        context.nextToken();
+                        describeAssessmentTargetsResult.setFailedItems(failedItemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +69,19 @@ public class DescribeAssessmentTargetsResultJsonUnmarshaller implements Unmarsha
         return describeAssessmentTargetsResult;
     }
 
+    private final Unmarshaller<java.util.List<AssessmentTarget>, JsonUnmarshallerContext> assessmentTargetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AssessmentTarget>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AssessmentTarget>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AssessmentTarget>(AssessmentTargetJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> failedItemsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, FailedItemDetails>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class), FailedItemDetailsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeAssessmentTargetsResultJsonUnmarshaller instance;
 
     public static DescribeAssessmentTargetsResultJsonUnmarshaller getInstance() {
@@ -47,15 +47,15 @@ public class DescribeAssessmentTemplatesResultJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTemplates", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentTemplatesResult.setAssessmentTemplates(new ListUnmarshaller<AssessmentTemplate>(AssessmentTemplateJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    describeAssessmentTemplatesResult.setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class),
-                            FailedItemDetailsJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentTemplates".equals(fieldName)) {
+                        context.nextToken();
+                        describeAssessmentTemplatesResult.setAssessmentTemplates(assessmentTemplatesUnmarshaller.unmarshall(context));
+                    } else if ("failedItems".equals(fieldName)) {
+                        context.nextToken();
+                        describeAssessmentTemplatesResult.setFailedItems(failedItemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +69,19 @@ public class DescribeAssessmentTemplatesResultJsonUnmarshaller implements Unmars
         return describeAssessmentTemplatesResult;
     }
 
+    private final Unmarshaller<java.util.List<AssessmentTemplate>, JsonUnmarshallerContext> assessmentTemplatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AssessmentTemplate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AssessmentTemplate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AssessmentTemplate>(AssessmentTemplateJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> failedItemsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, FailedItemDetails>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class), FailedItemDetailsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeAssessmentTemplatesResultJsonUnmarshaller instance;
 
     public static DescribeAssessmentTemplatesResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class DescribeCrossAccountAccessRoleResultJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    describeCrossAccountAccessRoleResult.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("valid", targetDepth)) {
-                    context.nextToken();
-                    describeCrossAccountAccessRoleResult.setValid(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("registeredAt", targetDepth)) {
-                    context.nextToken();
-                    describeCrossAccountAccessRoleResult.setRegisteredAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        describeCrossAccountAccessRoleResult.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("valid".equals(fieldName)) {
+                        context.nextToken();
+                        describeCrossAccountAccessRoleResult.setValid(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("registeredAt".equals(fieldName)) {
+                        context.nextToken();
+                        describeCrossAccountAccessRoleResult.setRegisteredAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
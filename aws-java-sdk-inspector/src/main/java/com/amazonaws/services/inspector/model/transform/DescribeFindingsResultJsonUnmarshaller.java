@@ -47,14 +47,15 @@ public class DescribeFindingsResultJsonUnmarshaller implements Unmarshaller<Desc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("findings", targetDepth)) {
-                    context.nextToken();
-                    describeFindingsResult.setFindings(new ListUnmarshaller<Finding>(FindingJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    describeFindingsResult.setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class),
-                            FailedItemDetailsJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("findings".equals(fieldName)) {
+                        context.nextToken();
+                        describeFindingsResult.setFindings(findingsUnmarshaller.unmarshall(context));
+                    } else if ("failedItems".equals(fieldName)) {
+                        context.nextToken();
+                        describeFindingsResult.setFailedItems(failedItemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,19 @@ public class DescribeFindingsResultJsonUnmarshaller implements Unmarshaller<Desc
         return describeFindingsResult;
     }
 
+    private final Unmarshaller<java.util.List<Finding>, JsonUnmarshallerContext> findingsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Finding>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Finding>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Finding>(FindingJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> failedItemsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, FailedItemDetails>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class), FailedItemDetailsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeFindingsResultJsonUnmarshaller instance;
 
     public static DescribeFindingsResultJsonUnmarshaller getInstance() {
@@ -47,15 +47,15 @@ public class DescribeResourceGroupsResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceGroups", targetDepth)) {
-                    context.nextToken();
-                    describeResourceGroupsResult.setResourceGroups(new ListUnmarshaller<ResourceGroup>(ResourceGroupJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    describeResourceGroupsResult.setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class),
-                            FailedItemDetailsJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("resourceGroups".equals(fieldName)) {
+                        context.nextToken();
+                        describeResourceGroupsResult.setResourceGroups(resourceGroupsUnmarshaller.unmarshall(context));
+                    } else if ("failedItems".equals(fieldName)) {
+                        context.nextToken();
+                        describeResourceGroupsResult.setFailedItems(failedItemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +69,19 @@ public class DescribeResourceGroupsResultJsonUnmarshaller implements Unmarshalle
         return describeResourceGroupsResult;
     }
 
+    private final Unmarshaller<java.util.List<ResourceGroup>, JsonUnmarshallerContext> resourceGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ResourceGroup>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ResourceGroup>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ResourceGroup>(ResourceGroupJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> failedItemsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, FailedItemDetails>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class), FailedItemDetailsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeResourceGroupsResultJsonUnmarshaller instance;
 
     public static DescribeResourceGroupsResultJsonUnmarshaller getInstance() {
@@ -47,15 +47,15 @@ public class DescribeRulesPackagesResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("rulesPackages", targetDepth)) {
-                    context.nextToken();
-                    describeRulesPackagesResult.setRulesPackages(new ListUnmarshaller<RulesPackage>(RulesPackageJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("failedItems", targetDepth)) {
-                    context.nextToken();
-                    describeRulesPackagesResult.setFailedItems(new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class),
-                            FailedItemDetailsJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("rulesPackages".equals(fieldName)) {
+                        context.nextToken();
+                        describeRulesPackagesResult.setRulesPackages(rulesPackagesUnmarshaller.unmarshall(context));
+                    } else if ("failedItems".equals(fieldName)) {
+                        context.nextToken();
+                        describeRulesPackagesResult.setFailedItems(failedItemsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +69,19 @@ public class DescribeRulesPackagesResultJsonUnmarshaller implements Unmarshaller
         return describeRulesPackagesResult;
     }
 
+    private final Unmarshaller<java.util.List<RulesPackage>, JsonUnmarshallerContext> rulesPackagesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RulesPackage>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RulesPackage>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RulesPackage>(RulesPackageJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> failedItemsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, FailedItemDetails>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, FailedItemDetails>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, FailedItemDetails>(context.getUnmarshaller(String.class), FailedItemDetailsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeRulesPackagesResultJsonUnmarshaller instance;
 
     public static DescribeRulesPackagesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DurationRangeJsonUnmarshaller implements Unmarshaller<DurationRange
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("minSeconds", targetDepth)) {
-                    context.nextToken();
-                    durationRange.setMinSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("maxSeconds", targetDepth)) {
-                    context.nextToken();
-                    durationRange.setMaxSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("minSeconds".equals(fieldName)) {
+                        context.nextToken();
+                        durationRange.setMinSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("maxSeconds".equals(fieldName)) {
+                        context.nextToken();
+                        durationRange.setMaxSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class EventSubscriptionJsonUnmarshaller implements Unmarshaller<EventSubs
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("event", targetDepth)) {
-                    context.nextToken();
-                    eventSubscription.setEvent(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("subscribedAt", targetDepth)) {
-                    context.nextToken();
-                    eventSubscription.setSubscribedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("event".equals(fieldName)) {
+                        context.nextToken();
+                        eventSubscription.setEvent(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("subscribedAt".equals(fieldName)) {
+                        context.nextToken();
+                        eventSubscription.setSubscribedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class FailedItemDetailsJsonUnmarshaller implements Unmarshaller<FailedIte
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("failureCode", targetDepth)) {
-                    context.nextToken();
-                    failedItemDetails.setFailureCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("retryable", targetDepth)) {
-                    context.nextToken();
-                    failedItemDetails.setRetryable(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("failureCode".equals(fieldName)) {
+                        context.nextToken();
+                        failedItemDetails.setFailureCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("retryable".equals(fieldName)) {
+                        context.nextToken();
+                        failedItemDetails.setRetryable(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,37 +47,33 @@ public class FindingFilterJsonUnmarshaller implements Unmarshaller<FindingFilter
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentIds", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setAgentIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("autoScalingGroups", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setAutoScalingGroups(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("ruleNames", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setRuleNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("severities", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setSeverities(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setRulesPackageArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("attributes", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setAttributes(new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("userAttributes", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setUserAttributes(new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("creationTimeRange", targetDepth)) {
-                    context.nextToken();
-                    findingFilter.setCreationTimeRange(TimestampRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentIds".equals(fieldName)) {
+                        context.nextToken();
+                        findingFilter.setAgentIds(agentIdsUnmarshaller.unmarshall(context));
+                    } else if ("autoScalingGroups".equals(fieldName)) {
+                        context.nextToken();
+                        findingFilter.setAutoScalingGroups(autoScalingGroupsUnmarshaller.unmarshall(context));
+                    } else if ("ruleNames".equals(fieldName)) {
+                        context.nextToken();
+                        findingFilter.setRuleNames(ruleNamesUnmarshaller.unmarshall(context));
+                    } else if ("severities".equals(fieldName)) {
+                        context.nextToken();
+                        findingFilter.setSeverities(severitiesUnmarshaller.unmarshall(context));
+                    } else if ("rulesPackageArns".equals(fieldName)) {
+                        context.nextToken();
+                        findingFilter.setRulesPackageArns(rulesPackageArnsUnmarshaller.unmarshall(context));
+                    } else if ("attributes".equals(fieldName)) {
+                        context.nextToken();
+                        findingFilter.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("userAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        findingFilter.setUserAttributes(userAttributesUnmarshaller.unmarshall(context));
+                    } else if ("creationTimeRange".equals(fieldName)) {
+                        context.nextToken();
+                        findingFilter.setCreationTimeRange(TimestampRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -91,6 +87,49 @@ public class FindingFilterJsonUnmarshaller implements Unmarshaller<FindingFilter
         return findingFilter;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> agentIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> autoScalingGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> ruleNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> severitiesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> rulesPackageArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Attribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> userAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Attribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static FindingFilterJsonUnmarshaller instance;
 
     public static FindingFilterJsonUnmarshaller getInstance() {
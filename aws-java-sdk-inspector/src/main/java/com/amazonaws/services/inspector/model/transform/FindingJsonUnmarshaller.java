@@ -47,77 +47,63 @@ public class FindingJsonUnmarshaller implements Unmarshaller<Finding, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    finding.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("schemaVersion", targetDepth)) {
-                    context.nextToken();
-                    finding.setSchemaVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("service", targetDepth)) {
-                    context.nextToken();
-                    finding.setService(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("serviceAttributes", targetDepth)) {
-                    context.nextToken();
-                    finding.setServiceAttributes(InspectorServiceAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("assetType", targetDepth)) {
-                    context.nextToken();
-                    finding.setAssetType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("assetAttributes", targetDepth)) {
-                    context.nextToken();
-                    finding.setAssetAttributes(AssetAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    finding.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("title", targetDepth)) {
-                    context.nextToken();
-                    finding.setTitle(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    finding.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("recommendation", targetDepth)) {
-                    context.nextToken();
-                    finding.setRecommendation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("severity", targetDepth)) {
-                    context.nextToken();
-                    finding.setSeverity(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("numericSeverity", targetDepth)) {
-                    context.nextToken();
-                    finding.setNumericSeverity(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("confidence", targetDepth)) {
-                    context.nextToken();
-                    finding.setConfidence(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("indicatorOfCompromise", targetDepth)) {
-                    context.nextToken();
-                    finding.setIndicatorOfCompromise(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("attributes", targetDepth)) {
-                    context.nextToken();
-                    finding.setAttributes(new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("userAttributes", targetDepth)) {
-                    context.nextToken();
-                    finding.setUserAttributes(new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    finding.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("updatedAt", targetDepth)) {
-                    context.nextToken();
-                    finding.setUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("schemaVersion".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setSchemaVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("service".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setService(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("serviceAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setServiceAttributes(InspectorServiceAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("assetType".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setAssetType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("assetAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setAssetAttributes(AssetAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("title".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setTitle(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("recommendation".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setRecommendation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("severity".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setSeverity(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("numericSeverity".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setNumericSeverity(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("confidence".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setConfidence(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("indicatorOfCompromise".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setIndicatorOfCompromise(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("attributes".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("userAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setUserAttributes(userAttributesUnmarshaller.unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("updatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        finding.setUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -131,6 +117,19 @@ public class FindingJsonUnmarshaller implements Unmarshaller<Finding, JsonUnmars
         return finding;
     }
 
+    private final Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Attribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> userAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Attribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Attribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Attribute>(AttributeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static FindingJsonUnmarshaller instance;
 
     public static FindingJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class GetTelemetryMetadataResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("telemetryMetadata", targetDepth)) {
-                    context.nextToken();
-                    getTelemetryMetadataResult.setTelemetryMetadata(new ListUnmarshaller<TelemetryMetadata>(TelemetryMetadataJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("telemetryMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        getTelemetryMetadataResult.setTelemetryMetadata(telemetryMetadataUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class GetTelemetryMetadataResultJsonUnmarshaller implements Unmarshaller<
         return getTelemetryMetadataResult;
     }
 
+    private final Unmarshaller<java.util.List<TelemetryMetadata>, JsonUnmarshallerContext> telemetryMetadataUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TelemetryMetadata>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TelemetryMetadata>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TelemetryMetadata>(TelemetryMetadataJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetTelemetryMetadataResultJsonUnmarshaller instance;
 
     public static GetTelemetryMetadataResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class InspectorServiceAttributesJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("schemaVersion", targetDepth)) {
-                    context.nextToken();
-                    inspectorServiceAttributes.setSchemaVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("assessmentRunArn", targetDepth)) {
-                    context.nextToken();
-                    inspectorServiceAttributes.setAssessmentRunArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rulesPackageArn", targetDepth)) {
-                    context.nextToken();
-                    inspectorServiceAttributes.setRulesPackageArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("schemaVersion".equals(fieldName)) {
+                        context.nextToken();
+                        inspectorServiceAttributes.setSchemaVersion(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("assessmentRunArn".equals(fieldName)) {
+                        context.nextToken();
+                        inspectorServiceAttributes.setAssessmentRunArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("rulesPackageArn".equals(fieldName)) {
+                        context.nextToken();
+                        inspectorServiceAttributes.setRulesPackageArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
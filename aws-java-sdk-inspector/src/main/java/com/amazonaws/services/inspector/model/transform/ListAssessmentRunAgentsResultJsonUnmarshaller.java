@@ -47,14 +47,15 @@ public class ListAssessmentRunAgentsResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentRunAgents", targetDepth)) {
-                    context.nextToken();
-                    listAssessmentRunAgentsResult.setAssessmentRunAgents(new ListUnmarshaller<AssessmentRunAgent>(AssessmentRunAgentJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listAssessmentRunAgentsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentRunAgents".equals(fieldName)) {
+                        context.nextToken();
+                        listAssessmentRunAgentsResult.setAssessmentRunAgents(assessmentRunAgentsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listAssessmentRunAgentsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListAssessmentRunAgentsResultJsonUnmarshaller implements Unmarshall
         return listAssessmentRunAgentsResult;
     }
 
+    private final Unmarshaller<java.util.List<AssessmentRunAgent>, JsonUnmarshallerContext> assessmentRunAgentsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AssessmentRunAgent>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AssessmentRunAgent>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AssessmentRunAgent>(AssessmentRunAgentJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListAssessmentRunAgentsResultJsonUnmarshaller instance;
 
     public static ListAssessmentRunAgentsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListAssessmentRunsResultJsonUnmarshaller implements Unmarshaller<Li
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentRunArns", targetDepth)) {
-                    context.nextToken();
-                    listAssessmentRunsResult.setAssessmentRunArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listAssessmentRunsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentRunArns".equals(fieldName)) {
+                        context.nextToken();
+                        listAssessmentRunsResult.setAssessmentRunArns(assessmentRunArnsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listAssessmentRunsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListAssessmentRunsResultJsonUnmarshaller implements Unmarshaller<Li
         return listAssessmentRunsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> assessmentRunArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListAssessmentRunsResultJsonUnmarshaller instance;
 
     public static ListAssessmentRunsResultJsonUnmarshaller getInstance() {
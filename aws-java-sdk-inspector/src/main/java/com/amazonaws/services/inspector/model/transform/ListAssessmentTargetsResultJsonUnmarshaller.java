@@ -47,14 +47,15 @@ public class ListAssessmentTargetsResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTargetArns", targetDepth)) {
-                    context.nextToken();
-                    listAssessmentTargetsResult
-                            .setAssessmentTargetArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listAssessmentTargetsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentTargetArns".equals(fieldName)) {
+                        context.nextToken();
+                        listAssessmentTargetsResult.setAssessmentTargetArns(assessmentTargetArnsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listAssessmentTargetsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListAssessmentTargetsResultJsonUnmarshaller implements Unmarshaller
         return listAssessmentTargetsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> assessmentTargetArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListAssessmentTargetsResultJsonUnmarshaller instance;
 
     public static ListAssessmentTargetsResultJsonUnmarshaller getInstance() {
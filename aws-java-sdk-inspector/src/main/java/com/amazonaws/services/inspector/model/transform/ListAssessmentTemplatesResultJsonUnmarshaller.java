@@ -47,14 +47,15 @@ public class ListAssessmentTemplatesResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentTemplateArns", targetDepth)) {
-                    context.nextToken();
-                    listAssessmentTemplatesResult.setAssessmentTemplateArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listAssessmentTemplatesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentTemplateArns".equals(fieldName)) {
+                        context.nextToken();
+                        listAssessmentTemplatesResult.setAssessmentTemplateArns(assessmentTemplateArnsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listAssessmentTemplatesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListAssessmentTemplatesResultJsonUnmarshaller implements Unmarshall
         return listAssessmentTemplatesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> assessmentTemplateArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListAssessmentTemplatesResultJsonUnmarshaller instance;
 
     public static ListAssessmentTemplatesResultJsonUnmarshaller getInstance() {
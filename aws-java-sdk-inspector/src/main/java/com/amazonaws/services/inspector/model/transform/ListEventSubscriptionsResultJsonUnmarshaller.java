@@ -47,14 +47,15 @@ public class ListEventSubscriptionsResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("subscriptions", targetDepth)) {
-                    context.nextToken();
-                    listEventSubscriptionsResult.setSubscriptions(new ListUnmarshaller<Subscription>(SubscriptionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listEventSubscriptionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("subscriptions".equals(fieldName)) {
+                        context.nextToken();
+                        listEventSubscriptionsResult.setSubscriptions(subscriptionsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listEventSubscriptionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListEventSubscriptionsResultJsonUnmarshaller implements Unmarshalle
         return listEventSubscriptionsResult;
     }
 
+    private final Unmarshaller<java.util.List<Subscription>, JsonUnmarshallerContext> subscriptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Subscription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Subscription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Subscription>(SubscriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListEventSubscriptionsResultJsonUnmarshaller instance;
 
     public static ListEventSubscriptionsResultJsonUnmarshaller getInstance() {
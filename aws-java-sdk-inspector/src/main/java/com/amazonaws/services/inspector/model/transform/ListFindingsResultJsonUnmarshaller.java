@@ -47,13 +47,15 @@ public class ListFindingsResultJsonUnmarshaller implements Unmarshaller<ListFind
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("findingArns", targetDepth)) {
-                    context.nextToken();
-                    listFindingsResult.setFindingArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listFindingsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("findingArns".equals(fieldName)) {
+                        context.nextToken();
+                        listFindingsResult.setFindingArns(findingArnsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listFindingsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListFindingsResultJsonUnmarshaller implements Unmarshaller<ListFind
         return listFindingsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> findingArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListFindingsResultJsonUnmarshaller instance;
 
     public static ListFindingsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListRulesPackagesResultJsonUnmarshaller implements Unmarshaller<Lis
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("rulesPackageArns", targetDepth)) {
-                    context.nextToken();
-                    listRulesPackagesResult.setRulesPackageArns(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listRulesPackagesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("rulesPackageArns".equals(fieldName)) {
+                        context.nextToken();
+                        listRulesPackagesResult.setRulesPackageArns(rulesPackageArnsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listRulesPackagesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListRulesPackagesResultJsonUnmarshaller implements Unmarshaller<Lis
         return listRulesPackagesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> rulesPackageArnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListRulesPackagesResultJsonUnmarshaller instance;
 
     public static ListRulesPackagesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class PreviewAgentsResultJsonUnmarshaller implements Unmarshaller<Preview
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("agentPreviews", targetDepth)) {
-                    context.nextToken();
-                    previewAgentsResult.setAgentPreviews(new ListUnmarshaller<AgentPreview>(AgentPreviewJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    previewAgentsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("agentPreviews".equals(fieldName)) {
+                        context.nextToken();
+                        previewAgentsResult.setAgentPreviews(agentPreviewsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        previewAgentsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class PreviewAgentsResultJsonUnmarshaller implements Unmarshaller<Preview
         return previewAgentsResult;
     }
 
+    private final Unmarshaller<java.util.List<AgentPreview>, JsonUnmarshallerContext> agentPreviewsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AgentPreview>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AgentPreview>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AgentPreview>(AgentPreviewJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PreviewAgentsResultJsonUnmarshaller instance;
 
     public static PreviewAgentsResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class ResourceGroupJsonUnmarshaller implements Unmarshaller<ResourceGroup
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    resourceGroup.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("tags", targetDepth)) {
-                    context.nextToken();
-                    resourceGroup.setTags(new ListUnmarshaller<ResourceGroupTag>(ResourceGroupTagJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    resourceGroup.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        resourceGroup.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("tags".equals(fieldName)) {
+                        context.nextToken();
+                        resourceGroup.setTags(tagsUnmarshaller.unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        resourceGroup.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ResourceGroupJsonUnmarshaller implements Unmarshaller<ResourceGroup
         return resourceGroup;
     }
 
+    private final Unmarshaller<java.util.List<ResourceGroupTag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ResourceGroupTag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ResourceGroupTag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ResourceGroupTag>(ResourceGroupTagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ResourceGroupJsonUnmarshaller instance;
 
     public static ResourceGroupJsonUnmarshaller getInstance() {
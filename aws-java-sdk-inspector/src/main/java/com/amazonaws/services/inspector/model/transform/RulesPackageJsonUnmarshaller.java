@@ -47,25 +47,24 @@ public class RulesPackageJsonUnmarshaller implements Unmarshaller<RulesPackage,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    rulesPackage.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    rulesPackage.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    rulesPackage.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("provider", targetDepth)) {
-                    context.nextToken();
-                    rulesPackage.setProvider(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    rulesPackage.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        rulesPackage.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        rulesPackage.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("version".equals(fieldName)) {
+                        context.nextToken();
+                        rulesPackage.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("provider".equals(fieldName)) {
+                        context.nextToken();
+                        rulesPackage.setProvider(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        rulesPackage.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class StartAssessmentRunResultJsonUnmarshaller implements Unmarshaller<St
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("assessmentRunArn", targetDepth)) {
-                    context.nextToken();
-                    startAssessmentRunResult.setAssessmentRunArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("assessmentRunArn".equals(fieldName)) {
+                        context.nextToken();
+                        startAssessmentRunResult.setAssessmentRunArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
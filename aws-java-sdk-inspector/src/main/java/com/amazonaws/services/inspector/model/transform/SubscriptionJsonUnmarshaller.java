@@ -47,18 +47,18 @@ public class SubscriptionJsonUnmarshaller implements Unmarshaller<Subscription,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourceArn", targetDepth)) {
-                    context.nextToken();
-                    subscription.setResourceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("topicArn", targetDepth)) {
-                    context.nextToken();
-                    subscription.setTopicArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("eventSubscriptions", targetDepth)) {
-                    context.nextToken();
-                    subscription.setEventSubscriptions(new ListUnmarshaller<EventSubscription>(EventSubscriptionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("resourceArn".equals(fieldName)) {
+                        context.nextToken();
+                        subscription.setResourceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("topicArn".equals(fieldName)) {
+                        context.nextToken();
+                        subscription.setTopicArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("eventSubscriptions".equals(fieldName)) {
+                        context.nextToken();
+                        subscription.setEventSubscriptions(eventSubscriptionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class SubscriptionJsonUnmarshaller implements Unmarshaller<Subscription,
         return subscription;
     }
 
+    private final Unmarshaller<java.util.List<EventSubscription>, JsonUnmarshallerContext> eventSubscriptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EventSubscription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EventSubscription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EventSubscription>(EventSubscriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static SubscriptionJsonUnmarshaller instance;
 
     public static SubscriptionJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class TelemetryMetadataJsonUnmarshaller implements Unmarshaller<Telemetry
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("messageType", targetDepth)) {
-                    context.nextToken();
-                    telemetryMetadata.setMessageType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("count", targetDepth)) {
-                    context.nextToken();
-                    telemetryMetadata.setCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("dataSize", targetDepth)) {
-                    context.nextToken();
-                    telemetryMetadata.setDataSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("messageType".equals(fieldName)) {
+                        context.nextToken();
+                        telemetryMetadata.setMessageType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("count".equals(fieldName)) {
+                        context.nextToken();
+                        telemetryMetadata.setCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("dataSize".equals(fieldName)) {
+                        context.nextToken();
+                        telemetryMetadata.setDataSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class TimestampRangeJsonUnmarshaller implements Unmarshaller<TimestampRan
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("beginDate", targetDepth)) {
-                    context.nextToken();
-                    timestampRange.setBeginDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("endDate", targetDepth)) {
-                    context.nextToken();
-                    timestampRange.setEndDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("beginDate".equals(fieldName)) {
+                        context.nextToken();
+                        timestampRange.setBeginDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("endDate".equals(fieldName)) {
+                        context.nextToken();
+                        timestampRange.setEndDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,49 +47,42 @@ public class ActionJsonUnmarshaller implements Unmarshaller<Action, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("dynamoDB", targetDepth)) {
-                    context.nextToken();
-                    action.setDynamoDB(DynamoDBActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("lambda", targetDepth)) {
-                    context.nextToken();
-                    action.setLambda(LambdaActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("sns", targetDepth)) {
-                    context.nextToken();
-                    action.setSns(SnsActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("sqs", targetDepth)) {
-                    context.nextToken();
-                    action.setSqs(SqsActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("kinesis", targetDepth)) {
-                    context.nextToken();
-                    action.setKinesis(KinesisActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("republish", targetDepth)) {
-                    context.nextToken();
-                    action.setRepublish(RepublishActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("s3", targetDepth)) {
-                    context.nextToken();
-                    action.setS3(S3ActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("firehose", targetDepth)) {
-                    context.nextToken();
-                    action.setFirehose(FirehoseActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("cloudwatchMetric", targetDepth)) {
-                    context.nextToken();
-                    action.setCloudwatchMetric(CloudwatchMetricActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("cloudwatchAlarm", targetDepth)) {
-                    context.nextToken();
-                    action.setCloudwatchAlarm(CloudwatchAlarmActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("elasticsearch", targetDepth)) {
-                    context.nextToken();
-                    action.setElasticsearch(ElasticsearchActionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("dynamoDB".equals(fieldName)) {
+                        context.nextToken();
+                        action.setDynamoDB(DynamoDBActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("lambda".equals(fieldName)) {
+                        context.nextToken();
+                        action.setLambda(LambdaActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("sns".equals(fieldName)) {
+                        context.nextToken();
+                        action.setSns(SnsActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("sqs".equals(fieldName)) {
+                        context.nextToken();
+                        action.setSqs(SqsActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("kinesis".equals(fieldName)) {
+                        context.nextToken();
+                        action.setKinesis(KinesisActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("republish".equals(fieldName)) {
+                        context.nextToken();
+                        action.setRepublish(RepublishActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("s3".equals(fieldName)) {
+                        context.nextToken();
+                        action.setS3(S3ActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("firehose".equals(fieldName)) {
+                        context.nextToken();
+                        action.setFirehose(FirehoseActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("cloudwatchMetric".equals(fieldName)) {
+                        context.nextToken();
+                        action.setCloudwatchMetric(CloudwatchMetricActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("cloudwatchAlarm".equals(fieldName)) {
+                        context.nextToken();
+                        action.setCloudwatchAlarm(CloudwatchAlarmActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("elasticsearch".equals(fieldName)) {
+                        context.nextToken();
+                        action.setElasticsearch(ElasticsearchActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class AttributePayloadJsonUnmarshaller implements Unmarshaller<AttributeP
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("attributes", targetDepth)) {
-                    context.nextToken();
-                    attributePayload.setAttributes(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("merge", targetDepth)) {
-                    context.nextToken();
-                    attributePayload.setMerge(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("attributes".equals(fieldName)) {
+                        context.nextToken();
+                        attributePayload.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("merge".equals(fieldName)) {
+                        context.nextToken();
+                        attributePayload.setMerge(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class AttributePayloadJsonUnmarshaller implements Unmarshaller<AttributeP
         return attributePayload;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AttributePayloadJsonUnmarshaller instance;
 
     public static AttributePayloadJsonUnmarshaller getInstance() {
@@ -47,33 +47,30 @@ public class CACertificateDescriptionJsonUnmarshaller implements Unmarshaller<CA
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificatePem", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setCertificatePem(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ownedBy", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setOwnedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationDate", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("autoRegistrationStatus", targetDepth)) {
-                    context.nextToken();
-                    cACertificateDescription.setAutoRegistrationStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("certificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificateDescription.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateId".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificateDescription.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificateDescription.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificatePem".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificateDescription.setCertificatePem(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ownedBy".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificateDescription.setOwnedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("creationDate".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificateDescription.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("autoRegistrationStatus".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificateDescription.setAutoRegistrationStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class CACertificateJsonUnmarshaller implements Unmarshaller<CACertificate
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    cACertificate.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    cACertificate.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    cACertificate.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationDate", targetDepth)) {
-                    context.nextToken();
-                    cACertificate.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("certificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificate.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateId".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificate.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificate.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("creationDate".equals(fieldName)) {
+                        context.nextToken();
+                        cACertificate.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,45 +47,39 @@ public class CertificateDescriptionJsonUnmarshaller implements Unmarshaller<Cert
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("caCertificateId", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setCaCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificatePem", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setCertificatePem(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ownedBy", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setOwnedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("previousOwnedBy", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setPreviousOwnedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationDate", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("lastModifiedDate", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("transferData", targetDepth)) {
-                    context.nextToken();
-                    certificateDescription.setTransferData(TransferDataJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("certificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDescription.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateId".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDescription.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("caCertificateId".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDescription.setCaCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDescription.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificatePem".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDescription.setCertificatePem(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ownedBy".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDescription.setOwnedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("previousOwnedBy".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDescription.setPreviousOwnedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("creationDate".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDescription.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("lastModifiedDate".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDescription.setLastModifiedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("transferData".equals(fieldName)) {
+                        context.nextToken();
+                        certificateDescription.setTransferData(TransferDataJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
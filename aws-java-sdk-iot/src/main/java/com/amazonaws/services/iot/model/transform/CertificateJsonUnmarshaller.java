@@ -47,21 +47,21 @@ public class CertificateJsonUnmarshaller implements Unmarshaller<Certificate, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    certificate.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    certificate.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    certificate.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationDate", targetDepth)) {
-                    context.nextToken();
-                    certificate.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("certificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateId".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("creationDate".equals(fieldName)) {
+                        context.nextToken();
+                        certificate.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
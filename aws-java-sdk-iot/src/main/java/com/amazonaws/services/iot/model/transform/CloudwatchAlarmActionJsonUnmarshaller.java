@@ -47,21 +47,21 @@ public class CloudwatchAlarmActionJsonUnmarshaller implements Unmarshaller<Cloud
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchAlarmAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("alarmName", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchAlarmAction.setAlarmName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stateReason", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchAlarmAction.setStateReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("stateValue", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchAlarmAction.setStateValue(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        cloudwatchAlarmAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("alarmName".equals(fieldName)) {
+                        context.nextToken();
+                        cloudwatchAlarmAction.setAlarmName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stateReason".equals(fieldName)) {
+                        context.nextToken();
+                        cloudwatchAlarmAction.setStateReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("stateValue".equals(fieldName)) {
+                        context.nextToken();
+                        cloudwatchAlarmAction.setStateValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
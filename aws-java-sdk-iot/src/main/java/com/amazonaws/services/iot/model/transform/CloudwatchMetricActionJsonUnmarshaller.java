@@ -47,29 +47,27 @@ public class CloudwatchMetricActionJsonUnmarshaller implements Unmarshaller<Clou
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricNamespace", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setMetricNamespace(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricName", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setMetricName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricValue", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setMetricValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricUnit", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setMetricUnit(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricTimestamp", targetDepth)) {
-                    context.nextToken();
-                    cloudwatchMetricAction.setMetricTimestamp(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        cloudwatchMetricAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("metricNamespace".equals(fieldName)) {
+                        context.nextToken();
+                        cloudwatchMetricAction.setMetricNamespace(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("metricName".equals(fieldName)) {
+                        context.nextToken();
+                        cloudwatchMetricAction.setMetricName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("metricValue".equals(fieldName)) {
+                        context.nextToken();
+                        cloudwatchMetricAction.setMetricValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("metricUnit".equals(fieldName)) {
+                        context.nextToken();
+                        cloudwatchMetricAction.setMetricUnit(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("metricTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        cloudwatchMetricAction.setMetricTimestamp(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class CreateCertificateFromCsrResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    createCertificateFromCsrResult.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    createCertificateFromCsrResult.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificatePem", targetDepth)) {
-                    context.nextToken();
-                    createCertificateFromCsrResult.setCertificatePem(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("certificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        createCertificateFromCsrResult.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateId".equals(fieldName)) {
+                        context.nextToken();
+                        createCertificateFromCsrResult.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificatePem".equals(fieldName)) {
+                        context.nextToken();
+                        createCertificateFromCsrResult.setCertificatePem(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
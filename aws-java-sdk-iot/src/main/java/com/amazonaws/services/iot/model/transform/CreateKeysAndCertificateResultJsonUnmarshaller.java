@@ -47,21 +47,21 @@ public class CreateKeysAndCertificateResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    createKeysAndCertificateResult.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    createKeysAndCertificateResult.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificatePem", targetDepth)) {
-                    context.nextToken();
-                    createKeysAndCertificateResult.setCertificatePem(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("keyPair", targetDepth)) {
-                    context.nextToken();
-                    createKeysAndCertificateResult.setKeyPair(KeyPairJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("certificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        createKeysAndCertificateResult.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateId".equals(fieldName)) {
+                        context.nextToken();
+                        createKeysAndCertificateResult.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificatePem".equals(fieldName)) {
+                        context.nextToken();
+                        createKeysAndCertificateResult.setCertificatePem(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("keyPair".equals(fieldName)) {
+                        context.nextToken();
+                        createKeysAndCertificateResult.setKeyPair(KeyPairJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
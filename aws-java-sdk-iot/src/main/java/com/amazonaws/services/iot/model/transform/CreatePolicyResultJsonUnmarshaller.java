@@ -47,21 +47,21 @@ public class CreatePolicyResultJsonUnmarshaller implements Unmarshaller<CreatePo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyName", targetDepth)) {
-                    context.nextToken();
-                    createPolicyResult.setPolicyName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyArn", targetDepth)) {
-                    context.nextToken();
-                    createPolicyResult.setPolicyArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyDocument", targetDepth)) {
-                    context.nextToken();
-                    createPolicyResult.setPolicyDocument(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyVersionId", targetDepth)) {
-                    context.nextToken();
-                    createPolicyResult.setPolicyVersionId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("policyName".equals(fieldName)) {
+                        context.nextToken();
+                        createPolicyResult.setPolicyName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyArn".equals(fieldName)) {
+                        context.nextToken();
+                        createPolicyResult.setPolicyArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyDocument".equals(fieldName)) {
+                        context.nextToken();
+                        createPolicyResult.setPolicyDocument(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyVersionId".equals(fieldName)) {
+                        context.nextToken();
+                        createPolicyResult.setPolicyVersionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
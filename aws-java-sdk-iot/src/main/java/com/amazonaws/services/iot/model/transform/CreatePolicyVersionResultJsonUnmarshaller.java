@@ -47,21 +47,21 @@ public class CreatePolicyVersionResultJsonUnmarshaller implements Unmarshaller<C
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyArn", targetDepth)) {
-                    context.nextToken();
-                    createPolicyVersionResult.setPolicyArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyDocument", targetDepth)) {
-                    context.nextToken();
-                    createPolicyVersionResult.setPolicyDocument(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyVersionId", targetDepth)) {
-                    context.nextToken();
-                    createPolicyVersionResult.setPolicyVersionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("isDefaultVersion", targetDepth)) {
-                    context.nextToken();
-                    createPolicyVersionResult.setIsDefaultVersion(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("policyArn".equals(fieldName)) {
+                        context.nextToken();
+                        createPolicyVersionResult.setPolicyArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyDocument".equals(fieldName)) {
+                        context.nextToken();
+                        createPolicyVersionResult.setPolicyDocument(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyVersionId".equals(fieldName)) {
+                        context.nextToken();
+                        createPolicyVersionResult.setPolicyVersionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("isDefaultVersion".equals(fieldName)) {
+                        context.nextToken();
+                        createPolicyVersionResult.setIsDefaultVersion(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class CreateThingResultJsonUnmarshaller implements Unmarshaller<CreateThi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("thingName", targetDepth)) {
-                    context.nextToken();
-                    createThingResult.setThingName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("thingArn", targetDepth)) {
-                    context.nextToken();
-                    createThingResult.setThingArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("thingName".equals(fieldName)) {
+                        context.nextToken();
+                        createThingResult.setThingName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("thingArn".equals(fieldName)) {
+                        context.nextToken();
+                        createThingResult.setThingArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
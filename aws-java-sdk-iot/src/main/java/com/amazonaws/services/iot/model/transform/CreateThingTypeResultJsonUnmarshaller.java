@@ -47,13 +47,15 @@ public class CreateThingTypeResultJsonUnmarshaller implements Unmarshaller<Creat
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("thingTypeName", targetDepth)) {
-                    context.nextToken();
-                    createThingTypeResult.setThingTypeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("thingTypeArn", targetDepth)) {
-                    context.nextToken();
-                    createThingTypeResult.setThingTypeArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("thingTypeName".equals(fieldName)) {
+                        context.nextToken();
+                        createThingTypeResult.setThingTypeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("thingTypeArn".equals(fieldName)) {
+                        context.nextToken();
+                        createThingTypeResult.setThingTypeArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DescribeEndpointResultJsonUnmarshaller implements Unmarshaller<Desc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("endpointAddress", targetDepth)) {
-                    context.nextToken();
-                    describeEndpointResult.setEndpointAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("endpointAddress".equals(fieldName)) {
+                        context.nextToken();
+                        describeEndpointResult.setEndpointAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,26 +47,24 @@ public class DescribeThingResultJsonUnmarshaller implements Unmarshaller<Describ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("defaultClientId", targetDepth)) {
-                    context.nextToken();
-                    describeThingResult.setDefaultClientId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("thingName", targetDepth)) {
-                    context.nextToken();
-                    describeThingResult.setThingName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("thingTypeName", targetDepth)) {
-                    context.nextToken();
-                    describeThingResult.setThingTypeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("attributes", targetDepth)) {
-                    context.nextToken();
-                    describeThingResult.setAttributes(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    describeThingResult.setVersion(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("defaultClientId".equals(fieldName)) {
+                        context.nextToken();
+                        describeThingResult.setDefaultClientId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("thingName".equals(fieldName)) {
+                        context.nextToken();
+                        describeThingResult.setThingName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("thingTypeName".equals(fieldName)) {
+                        context.nextToken();
+                        describeThingResult.setThingTypeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("attributes".equals(fieldName)) {
+                        context.nextToken();
+                        describeThingResult.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("version".equals(fieldName)) {
+                        context.nextToken();
+                        describeThingResult.setVersion(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -80,6 +78,13 @@ public class DescribeThingResultJsonUnmarshaller implements Unmarshaller<Describ
         return describeThingResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeThingResultJsonUnmarshaller instance;
 
     public static DescribeThingResultJsonUnmarshaller getInstance() {
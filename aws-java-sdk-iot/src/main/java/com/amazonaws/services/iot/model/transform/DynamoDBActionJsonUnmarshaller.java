@@ -47,45 +47,39 @@ public class DynamoDBActionJsonUnmarshaller implements Unmarshaller<DynamoDBActi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tableName", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("operation", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setOperation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hashKeyField", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setHashKeyField(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hashKeyValue", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setHashKeyValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hashKeyType", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setHashKeyType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rangeKeyField", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setRangeKeyField(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rangeKeyValue", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setRangeKeyValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rangeKeyType", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setRangeKeyType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("payloadField", targetDepth)) {
-                    context.nextToken();
-                    dynamoDBAction.setPayloadField(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("tableName".equals(fieldName)) {
+                        context.nextToken();
+                        dynamoDBAction.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        dynamoDBAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("operation".equals(fieldName)) {
+                        context.nextToken();
+                        dynamoDBAction.setOperation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hashKeyField".equals(fieldName)) {
+                        context.nextToken();
+                        dynamoDBAction.setHashKeyField(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hashKeyValue".equals(fieldName)) {
+                        context.nextToken();
+                        dynamoDBAction.setHashKeyValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hashKeyType".equals(fieldName)) {
+                        context.nextToken();
+                        dynamoDBAction.setHashKeyType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("rangeKeyField".equals(fieldName)) {
+                        context.nextToken();
+                        dynamoDBAction.setRangeKeyField(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("rangeKeyValue".equals(fieldName)) {
+                        context.nextToken();
+                        dynamoDBAction.setRangeKeyValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("rangeKeyType".equals(fieldName)) {
+                        context.nextToken();
+                        dynamoDBAction.setRangeKeyType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("payloadField".equals(fieldName)) {
+                        context.nextToken();
+                        dynamoDBAction.setPayloadField(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
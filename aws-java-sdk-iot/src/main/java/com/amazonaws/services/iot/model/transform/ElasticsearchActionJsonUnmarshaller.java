@@ -47,25 +47,24 @@ public class ElasticsearchActionJsonUnmarshaller implements Unmarshaller<Elastic
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("endpoint", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchAction.setEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("index", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchAction.setIndex(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("type", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchAction.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchAction.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("endpoint".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchAction.setEndpoint(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("index".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchAction.setIndex(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("type".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchAction.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchAction.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class FirehoseActionJsonUnmarshaller implements Unmarshaller<FirehoseActi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    firehoseAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("deliveryStreamName", targetDepth)) {
-                    context.nextToken();
-                    firehoseAction.setDeliveryStreamName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("separator", targetDepth)) {
-                    context.nextToken();
-                    firehoseAction.setSeparator(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        firehoseAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("deliveryStreamName".equals(fieldName)) {
+                        context.nextToken();
+                        firehoseAction.setDeliveryStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("separator".equals(fieldName)) {
+                        context.nextToken();
+                        firehoseAction.setSeparator(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class GetPolicyResultJsonUnmarshaller implements Unmarshaller<GetPolicyRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyName", targetDepth)) {
-                    context.nextToken();
-                    getPolicyResult.setPolicyName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyArn", targetDepth)) {
-                    context.nextToken();
-                    getPolicyResult.setPolicyArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyDocument", targetDepth)) {
-                    context.nextToken();
-                    getPolicyResult.setPolicyDocument(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultVersionId", targetDepth)) {
-                    context.nextToken();
-                    getPolicyResult.setDefaultVersionId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("policyName".equals(fieldName)) {
+                        context.nextToken();
+                        getPolicyResult.setPolicyName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyArn".equals(fieldName)) {
+                        context.nextToken();
+                        getPolicyResult.setPolicyArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyDocument".equals(fieldName)) {
+                        context.nextToken();
+                        getPolicyResult.setPolicyDocument(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultVersionId".equals(fieldName)) {
+                        context.nextToken();
+                        getPolicyResult.setDefaultVersionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class GetPolicyVersionResultJsonUnmarshaller implements Unmarshaller<GetP
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyArn", targetDepth)) {
-                    context.nextToken();
-                    getPolicyVersionResult.setPolicyArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyName", targetDepth)) {
-                    context.nextToken();
-                    getPolicyVersionResult.setPolicyName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyDocument", targetDepth)) {
-                    context.nextToken();
-                    getPolicyVersionResult.setPolicyDocument(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyVersionId", targetDepth)) {
-                    context.nextToken();
-                    getPolicyVersionResult.setPolicyVersionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("isDefaultVersion", targetDepth)) {
-                    context.nextToken();
-                    getPolicyVersionResult.setIsDefaultVersion(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("policyArn".equals(fieldName)) {
+                        context.nextToken();
+                        getPolicyVersionResult.setPolicyArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyName".equals(fieldName)) {
+                        context.nextToken();
+                        getPolicyVersionResult.setPolicyName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyDocument".equals(fieldName)) {
+                        context.nextToken();
+                        getPolicyVersionResult.setPolicyDocument(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyVersionId".equals(fieldName)) {
+                        context.nextToken();
+                        getPolicyVersionResult.setPolicyVersionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("isDefaultVersion".equals(fieldName)) {
+                        context.nextToken();
+                        getPolicyVersionResult.setIsDefaultVersion(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
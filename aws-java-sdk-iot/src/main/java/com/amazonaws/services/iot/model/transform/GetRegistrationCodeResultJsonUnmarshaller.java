@@ -47,9 +47,12 @@ public class GetRegistrationCodeResultJsonUnmarshaller implements Unmarshaller<G
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("registrationCode", targetDepth)) {
-                    context.nextToken();
-                    getRegistrationCodeResult.setRegistrationCode(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("registrationCode".equals(fieldName)) {
+                        context.nextToken();
+                        getRegistrationCodeResult.setRegistrationCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
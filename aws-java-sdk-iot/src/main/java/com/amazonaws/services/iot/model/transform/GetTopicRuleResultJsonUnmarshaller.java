@@ -47,13 +47,15 @@ public class GetTopicRuleResultJsonUnmarshaller implements Unmarshaller<GetTopic
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ruleArn", targetDepth)) {
-                    context.nextToken();
-                    getTopicRuleResult.setRuleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rule", targetDepth)) {
-                    context.nextToken();
-                    getTopicRuleResult.setRule(TopicRuleJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ruleArn".equals(fieldName)) {
+                        context.nextToken();
+                        getTopicRuleResult.setRuleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("rule".equals(fieldName)) {
+                        context.nextToken();
+                        getTopicRuleResult.setRule(TopicRuleJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class KeyPairJsonUnmarshaller implements Unmarshaller<KeyPair, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PublicKey", targetDepth)) {
-                    context.nextToken();
-                    keyPair.setPublicKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrivateKey", targetDepth)) {
-                    context.nextToken();
-                    keyPair.setPrivateKey(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PublicKey".equals(fieldName)) {
+                        context.nextToken();
+                        keyPair.setPublicKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PrivateKey".equals(fieldName)) {
+                        context.nextToken();
+                        keyPair.setPrivateKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class KinesisActionJsonUnmarshaller implements Unmarshaller<KinesisAction
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    kinesisAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("streamName", targetDepth)) {
-                    context.nextToken();
-                    kinesisAction.setStreamName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("partitionKey", targetDepth)) {
-                    context.nextToken();
-                    kinesisAction.setPartitionKey(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        kinesisAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("streamName".equals(fieldName)) {
+                        context.nextToken();
+                        kinesisAction.setStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("partitionKey".equals(fieldName)) {
+                        context.nextToken();
+                        kinesisAction.setPartitionKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class LambdaActionJsonUnmarshaller implements Unmarshaller<LambdaAction,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("functionArn", targetDepth)) {
-                    context.nextToken();
-                    lambdaAction.setFunctionArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("functionArn".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaAction.setFunctionArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class ListCACertificatesResultJsonUnmarshaller implements Unmarshaller<Li
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificates", targetDepth)) {
-                    context.nextToken();
-                    listCACertificatesResult.setCertificates(new ListUnmarshaller<CACertificate>(CACertificateJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextMarker", targetDepth)) {
-                    context.nextToken();
-                    listCACertificatesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("certificates".equals(fieldName)) {
+                        context.nextToken();
+                        listCACertificatesResult.setCertificates(certificatesUnmarshaller.unmarshall(context));
+                    } else if ("nextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listCACertificatesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListCACertificatesResultJsonUnmarshaller implements Unmarshaller<Li
         return listCACertificatesResult;
     }
 
+    private final Unmarshaller<java.util.List<CACertificate>, JsonUnmarshallerContext> certificatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CACertificate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CACertificate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CACertificate>(CACertificateJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListCACertificatesResultJsonUnmarshaller instance;
 
     public static ListCACertificatesResultJsonUnmarshaller getInstance() {
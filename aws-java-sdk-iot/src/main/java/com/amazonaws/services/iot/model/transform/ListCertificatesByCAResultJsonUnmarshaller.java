@@ -47,14 +47,15 @@ public class ListCertificatesByCAResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificates", targetDepth)) {
-                    context.nextToken();
-                    listCertificatesByCAResult
-                            .setCertificates(new ListUnmarshaller<Certificate>(CertificateJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextMarker", targetDepth)) {
-                    context.nextToken();
-                    listCertificatesByCAResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("certificates".equals(fieldName)) {
+                        context.nextToken();
+                        listCertificatesByCAResult.setCertificates(certificatesUnmarshaller.unmarshall(context));
+                    } else if ("nextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listCertificatesByCAResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListCertificatesByCAResultJsonUnmarshaller implements Unmarshaller<
         return listCertificatesByCAResult;
     }
 
+    private final Unmarshaller<java.util.List<Certificate>, JsonUnmarshallerContext> certificatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Certificate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Certificate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Certificate>(CertificateJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListCertificatesByCAResultJsonUnmarshaller instance;
 
     public static ListCertificatesByCAResultJsonUnmarshaller getInstance() {
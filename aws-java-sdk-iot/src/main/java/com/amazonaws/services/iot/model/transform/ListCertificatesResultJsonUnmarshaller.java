@@ -47,13 +47,15 @@ public class ListCertificatesResultJsonUnmarshaller implements Unmarshaller<List
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificates", targetDepth)) {
-                    context.nextToken();
-                    listCertificatesResult.setCertificates(new ListUnmarshaller<Certificate>(CertificateJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextMarker", targetDepth)) {
-                    context.nextToken();
-                    listCertificatesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("certificates".equals(fieldName)) {
+                        context.nextToken();
+                        listCertificatesResult.setCertificates(certificatesUnmarshaller.unmarshall(context));
+                    } else if ("nextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listCertificatesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListCertificatesResultJsonUnmarshaller implements Unmarshaller<List
         return listCertificatesResult;
     }
 
+    private final Unmarshaller<java.util.List<Certificate>, JsonUnmarshallerContext> certificatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Certificate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Certificate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Certificate>(CertificateJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListCertificatesResultJsonUnmarshaller instance;
 
     public static ListCertificatesResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListOutgoingCertificatesResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("outgoingCertificates", targetDepth)) {
-                    context.nextToken();
-                    listOutgoingCertificatesResult.setOutgoingCertificates(new ListUnmarshaller<OutgoingCertificate>(OutgoingCertificateJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextMarker", targetDepth)) {
-                    context.nextToken();
-                    listOutgoingCertificatesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("outgoingCertificates".equals(fieldName)) {
+                        context.nextToken();
+                        listOutgoingCertificatesResult.setOutgoingCertificates(outgoingCertificatesUnmarshaller.unmarshall(context));
+                    } else if ("nextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listOutgoingCertificatesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListOutgoingCertificatesResultJsonUnmarshaller implements Unmarshal
         return listOutgoingCertificatesResult;
     }
 
+    private final Unmarshaller<java.util.List<OutgoingCertificate>, JsonUnmarshallerContext> outgoingCertificatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<OutgoingCertificate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<OutgoingCertificate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<OutgoingCertificate>(OutgoingCertificateJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListOutgoingCertificatesResultJsonUnmarshaller instance;
 
     public static ListOutgoingCertificatesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListPoliciesResultJsonUnmarshaller implements Unmarshaller<ListPoli
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policies", targetDepth)) {
-                    context.nextToken();
-                    listPoliciesResult.setPolicies(new ListUnmarshaller<Policy>(PolicyJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextMarker", targetDepth)) {
-                    context.nextToken();
-                    listPoliciesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("policies".equals(fieldName)) {
+                        context.nextToken();
+                        listPoliciesResult.setPolicies(policiesUnmarshaller.unmarshall(context));
+                    } else if ("nextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listPoliciesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListPoliciesResultJsonUnmarshaller implements Unmarshaller<ListPoli
         return listPoliciesResult;
     }
 
+    private final Unmarshaller<java.util.List<Policy>, JsonUnmarshallerContext> policiesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Policy>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Policy>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Policy>(PolicyJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListPoliciesResultJsonUnmarshaller instance;
 
     public static ListPoliciesResultJsonUnmarshaller getInstance() {
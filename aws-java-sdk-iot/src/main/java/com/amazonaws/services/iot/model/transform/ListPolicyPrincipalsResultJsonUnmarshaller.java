@@ -47,13 +47,15 @@ public class ListPolicyPrincipalsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("principals", targetDepth)) {
-                    context.nextToken();
-                    listPolicyPrincipalsResult.setPrincipals(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextMarker", targetDepth)) {
-                    context.nextToken();
-                    listPolicyPrincipalsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("principals".equals(fieldName)) {
+                        context.nextToken();
+                        listPolicyPrincipalsResult.setPrincipals(principalsUnmarshaller.unmarshall(context));
+                    } else if ("nextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listPolicyPrincipalsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListPolicyPrincipalsResultJsonUnmarshaller implements Unmarshaller<
         return listPolicyPrincipalsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> principalsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListPolicyPrincipalsResultJsonUnmarshaller instance;
 
     public static ListPolicyPrincipalsResultJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class ListPolicyVersionsResultJsonUnmarshaller implements Unmarshaller<Li
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyVersions", targetDepth)) {
-                    context.nextToken();
-                    listPolicyVersionsResult.setPolicyVersions(new ListUnmarshaller<PolicyVersion>(PolicyVersionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("policyVersions".equals(fieldName)) {
+                        context.nextToken();
+                        listPolicyVersionsResult.setPolicyVersions(policyVersionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class ListPolicyVersionsResultJsonUnmarshaller implements Unmarshaller<Li
         return listPolicyVersionsResult;
     }
 
+    private final Unmarshaller<java.util.List<PolicyVersion>, JsonUnmarshallerContext> policyVersionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PolicyVersion>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PolicyVersion>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PolicyVersion>(PolicyVersionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListPolicyVersionsResultJsonUnmarshaller instance;
 
     public static ListPolicyVersionsResultJsonUnmarshaller getInstance() {
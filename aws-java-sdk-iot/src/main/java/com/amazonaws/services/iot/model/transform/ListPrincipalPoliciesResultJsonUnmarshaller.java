@@ -47,13 +47,15 @@ public class ListPrincipalPoliciesResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policies", targetDepth)) {
-                    context.nextToken();
-                    listPrincipalPoliciesResult.setPolicies(new ListUnmarshaller<Policy>(PolicyJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextMarker", targetDepth)) {
-                    context.nextToken();
-                    listPrincipalPoliciesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("policies".equals(fieldName)) {
+                        context.nextToken();
+                        listPrincipalPoliciesResult.setPolicies(policiesUnmarshaller.unmarshall(context));
+                    } else if ("nextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listPrincipalPoliciesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListPrincipalPoliciesResultJsonUnmarshaller implements Unmarshaller
         return listPrincipalPoliciesResult;
     }
 
+    private final Unmarshaller<java.util.List<Policy>, JsonUnmarshallerContext> policiesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Policy>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Policy>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Policy>(PolicyJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListPrincipalPoliciesResultJsonUnmarshaller instance;
 
     public static ListPrincipalPoliciesResultJsonUnmarshaller getInstance() {
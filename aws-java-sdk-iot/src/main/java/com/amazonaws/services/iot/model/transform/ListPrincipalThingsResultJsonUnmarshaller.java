@@ -47,13 +47,15 @@ public class ListPrincipalThingsResultJsonUnmarshaller implements Unmarshaller<L
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("things", targetDepth)) {
-                    context.nextToken();
-                    listPrincipalThingsResult.setThings(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listPrincipalThingsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("things".equals(fieldName)) {
+                        context.nextToken();
+                        listPrincipalThingsResult.setThings(thingsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listPrincipalThingsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListPrincipalThingsResultJsonUnmarshaller implements Unmarshaller<L
         return listPrincipalThingsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> thingsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListPrincipalThingsResultJsonUnmarshaller instance;
 
     public static ListPrincipalThingsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class ListThingPrincipalsResultJsonUnmarshaller implements Unmarshaller<L
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("principals", targetDepth)) {
-                    context.nextToken();
-                    listThingPrincipalsResult.setPrincipals(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("principals".equals(fieldName)) {
+                        context.nextToken();
+                        listThingPrincipalsResult.setPrincipals(principalsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class ListThingPrincipalsResultJsonUnmarshaller implements Unmarshaller<L
         return listThingPrincipalsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> principalsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListThingPrincipalsResultJsonUnmarshaller instance;
 
     public static ListThingPrincipalsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListThingTypesResultJsonUnmarshaller implements Unmarshaller<ListTh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("thingTypes", targetDepth)) {
-                    context.nextToken();
-                    listThingTypesResult.setThingTypes(new ListUnmarshaller<ThingTypeDefinition>(ThingTypeDefinitionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listThingTypesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("thingTypes".equals(fieldName)) {
+                        context.nextToken();
+                        listThingTypesResult.setThingTypes(thingTypesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listThingTypesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListThingTypesResultJsonUnmarshaller implements Unmarshaller<ListTh
         return listThingTypesResult;
     }
 
+    private final Unmarshaller<java.util.List<ThingTypeDefinition>, JsonUnmarshallerContext> thingTypesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ThingTypeDefinition>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ThingTypeDefinition>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ThingTypeDefinition>(ThingTypeDefinitionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListThingTypesResultJsonUnmarshaller instance;
 
     public static ListThingTypesResultJsonUnmarshaller getInstance() {
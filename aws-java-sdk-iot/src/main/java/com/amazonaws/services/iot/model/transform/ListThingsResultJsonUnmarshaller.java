@@ -47,13 +47,15 @@ public class ListThingsResultJsonUnmarshaller implements Unmarshaller<ListThings
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("things", targetDepth)) {
-                    context.nextToken();
-                    listThingsResult.setThings(new ListUnmarshaller<ThingAttribute>(ThingAttributeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listThingsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("things".equals(fieldName)) {
+                        context.nextToken();
+                        listThingsResult.setThings(thingsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listThingsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListThingsResultJsonUnmarshaller implements Unmarshaller<ListThings
         return listThingsResult;
     }
 
+    private final Unmarshaller<java.util.List<ThingAttribute>, JsonUnmarshallerContext> thingsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ThingAttribute>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ThingAttribute>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ThingAttribute>(ThingAttributeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListThingsResultJsonUnmarshaller instance;
 
     public static ListThingsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListTopicRulesResultJsonUnmarshaller implements Unmarshaller<ListTo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("rules", targetDepth)) {
-                    context.nextToken();
-                    listTopicRulesResult.setRules(new ListUnmarshaller<TopicRuleListItem>(TopicRuleListItemJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    listTopicRulesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("rules".equals(fieldName)) {
+                        context.nextToken();
+                        listTopicRulesResult.setRules(rulesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listTopicRulesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTopicRulesResultJsonUnmarshaller implements Unmarshaller<ListTo
         return listTopicRulesResult;
     }
 
+    private final Unmarshaller<java.util.List<TopicRuleListItem>, JsonUnmarshallerContext> rulesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TopicRuleListItem>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TopicRuleListItem>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TopicRuleListItem>(TopicRuleListItemJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListTopicRulesResultJsonUnmarshaller instance;
 
     public static ListTopicRulesResultJsonUnmarshaller getInstance() {
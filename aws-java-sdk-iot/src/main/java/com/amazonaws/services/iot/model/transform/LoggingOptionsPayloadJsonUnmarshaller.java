@@ -47,13 +47,15 @@ public class LoggingOptionsPayloadJsonUnmarshaller implements Unmarshaller<Loggi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    loggingOptionsPayload.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("logLevel", targetDepth)) {
-                    context.nextToken();
-                    loggingOptionsPayload.setLogLevel(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        loggingOptionsPayload.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("logLevel".equals(fieldName)) {
+                        context.nextToken();
+                        loggingOptionsPayload.setLogLevel(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
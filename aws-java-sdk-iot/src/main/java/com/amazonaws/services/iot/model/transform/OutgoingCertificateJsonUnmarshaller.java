@@ -47,29 +47,27 @@ public class OutgoingCertificateJsonUnmarshaller implements Unmarshaller<Outgoin
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("certificateArn", targetDepth)) {
-                    context.nextToken();
-                    outgoingCertificate.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("certificateId", targetDepth)) {
-                    context.nextToken();
-                    outgoingCertificate.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("transferredTo", targetDepth)) {
-                    context.nextToken();
-                    outgoingCertificate.setTransferredTo(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("transferDate", targetDepth)) {
-                    context.nextToken();
-                    outgoingCertificate.setTransferDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("transferMessage", targetDepth)) {
-                    context.nextToken();
-                    outgoingCertificate.setTransferMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationDate", targetDepth)) {
-                    context.nextToken();
-                    outgoingCertificate.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("certificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        outgoingCertificate.setCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("certificateId".equals(fieldName)) {
+                        context.nextToken();
+                        outgoingCertificate.setCertificateId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("transferredTo".equals(fieldName)) {
+                        context.nextToken();
+                        outgoingCertificate.setTransferredTo(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("transferDate".equals(fieldName)) {
+                        context.nextToken();
+                        outgoingCertificate.setTransferDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("transferMessage".equals(fieldName)) {
+                        context.nextToken();
+                        outgoingCertificate.setTransferMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("creationDate".equals(fieldName)) {
+                        context.nextToken();
+                        outgoingCertificate.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
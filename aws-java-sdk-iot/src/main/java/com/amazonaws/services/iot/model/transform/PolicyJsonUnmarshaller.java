@@ -47,13 +47,15 @@ public class PolicyJsonUnmarshaller implements Unmarshaller<Policy, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("policyName", targetDepth)) {
-                    context.nextToken();
-                    policy.setPolicyName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("policyArn", targetDepth)) {
-                    context.nextToken();
-                    policy.setPolicyArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("policyName".equals(fieldName)) {
+                        context.nextToken();
+                        policy.setPolicyName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("policyArn".equals(fieldName)) {
+                        context.nextToken();
+                        policy.setPolicyArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
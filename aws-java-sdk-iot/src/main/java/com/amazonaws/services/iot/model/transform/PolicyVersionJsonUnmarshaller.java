@@ -47,17 +47,18 @@ public class PolicyVersionJsonUnmarshaller implements Unmarshaller<PolicyVersion
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("versionId", targetDepth)) {
-                    context.nextToken();
-                    policyVersion.setVersionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("isDefaultVersion", targetDepth)) {
-                    context.nextToken();
-                    policyVersion.setIsDefaultVersion(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("createDate", targetDepth)) {
-                    context.nextToken();
-                    policyVersion.setCreateDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("versionId".equals(fieldName)) {
+                        context.nextToken();
+                        policyVersion.setVersionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("isDefaultVersion".equals(fieldName)) {
+                        context.nextToken();
+                        policyVersion.setIsDefaultVersion(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("createDate".equals(fieldName)) {
+                        context.nextToken();
+                        policyVersion.setCreateDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class RepublishActionJsonUnmarshaller implements Unmarshaller<RepublishAc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    republishAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("topic", targetDepth)) {
-                    context.nextToken();
-                    republishAction.setTopic(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        republishAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("topic".equals(fieldName)) {
+                        context.nextToken();
+                        republishAction.setTopic(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
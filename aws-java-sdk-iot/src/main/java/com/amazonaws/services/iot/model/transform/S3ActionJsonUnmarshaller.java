@@ -47,21 +47,21 @@ public class S3ActionJsonUnmarshaller implements Unmarshaller<S3Action, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    s3Action.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("bucketName", targetDepth)) {
-                    context.nextToken();
-                    s3Action.setBucketName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    s3Action.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cannedAcl", targetDepth)) {
-                    context.nextToken();
-                    s3Action.setCannedAcl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        s3Action.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("bucketName".equals(fieldName)) {
+                        context.nextToken();
+                        s3Action.setBucketName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("key".equals(fieldName)) {
+                        context.nextToken();
+                        s3Action.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cannedAcl".equals(fieldName)) {
+                        context.nextToken();
+                        s3Action.setCannedAcl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
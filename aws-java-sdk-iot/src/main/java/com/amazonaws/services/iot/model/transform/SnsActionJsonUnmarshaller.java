@@ -47,17 +47,18 @@ public class SnsActionJsonUnmarshaller implements Unmarshaller<SnsAction, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("targetArn", targetDepth)) {
-                    context.nextToken();
-                    snsAction.setTargetArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    snsAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("messageFormat", targetDepth)) {
-                    context.nextToken();
-                    snsAction.setMessageFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("targetArn".equals(fieldName)) {
+                        context.nextToken();
+                        snsAction.setTargetArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        snsAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("messageFormat".equals(fieldName)) {
+                        context.nextToken();
+                        snsAction.setMessageFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class SqsActionJsonUnmarshaller implements Unmarshaller<SqsAction, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    sqsAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("queueUrl", targetDepth)) {
-                    context.nextToken();
-                    sqsAction.setQueueUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("useBase64", targetDepth)) {
-                    context.nextToken();
-                    sqsAction.setUseBase64(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        sqsAction.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("queueUrl".equals(fieldName)) {
+                        context.nextToken();
+                        sqsAction.setQueueUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("useBase64".equals(fieldName)) {
+                        context.nextToken();
+                        sqsAction.setUseBase64(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,22 +47,21 @@ public class ThingAttributeJsonUnmarshaller implements Unmarshaller<ThingAttribu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("thingName", targetDepth)) {
-                    context.nextToken();
-                    thingAttribute.setThingName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("thingTypeName", targetDepth)) {
-                    context.nextToken();
-                    thingAttribute.setThingTypeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("attributes", targetDepth)) {
-                    context.nextToken();
-                    thingAttribute.setAttributes(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("version", targetDepth)) {
-                    context.nextToken();
-                    thingAttribute.setVersion(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("thingName".equals(fieldName)) {
+                        context.nextToken();
+                        thingAttribute.setThingName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("thingTypeName".equals(fieldName)) {
+                        context.nextToken();
+                        thingAttribute.setThingTypeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("attributes".equals(fieldName)) {
+                        context.nextToken();
+                        thingAttribute.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("version".equals(fieldName)) {
+                        context.nextToken();
+                        thingAttribute.setVersion(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,13 @@ public class ThingAttributeJsonUnmarshaller implements Unmarshaller<ThingAttribu
         return thingAttribute;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ThingAttributeJsonUnmarshaller instance;
 
     public static ThingAttributeJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class ThingTypeDefinitionJsonUnmarshaller implements Unmarshaller<ThingTy
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("thingTypeName", targetDepth)) {
-                    context.nextToken();
-                    thingTypeDefinition.setThingTypeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("thingTypeProperties", targetDepth)) {
-                    context.nextToken();
-                    thingTypeDefinition.setThingTypeProperties(ThingTypePropertiesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("thingTypeMetadata", targetDepth)) {
-                    context.nextToken();
-                    thingTypeDefinition.setThingTypeMetadata(ThingTypeMetadataJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("thingTypeName".equals(fieldName)) {
+                        context.nextToken();
+                        thingTypeDefinition.setThingTypeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("thingTypeProperties".equals(fieldName)) {
+                        context.nextToken();
+                        thingTypeDefinition.setThingTypeProperties(ThingTypePropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("thingTypeMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        thingTypeDefinition.setThingTypeMetadata(ThingTypeMetadataJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class ThingTypeMetadataJsonUnmarshaller implements Unmarshaller<ThingType
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("deprecated", targetDepth)) {
-                    context.nextToken();
-                    thingTypeMetadata.setDeprecated(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("deprecationDate", targetDepth)) {
-                    context.nextToken();
-                    thingTypeMetadata.setDeprecationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("creationDate", targetDepth)) {
-                    context.nextToken();
-                    thingTypeMetadata.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("deprecated".equals(fieldName)) {
+                        context.nextToken();
+                        thingTypeMetadata.setDeprecated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("deprecationDate".equals(fieldName)) {
+                        context.nextToken();
+                        thingTypeMetadata.setDeprecationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("creationDate".equals(fieldName)) {
+                        context.nextToken();
+                        thingTypeMetadata.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
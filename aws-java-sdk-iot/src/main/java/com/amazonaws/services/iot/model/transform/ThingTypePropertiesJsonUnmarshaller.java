@@ -47,13 +47,15 @@ public class ThingTypePropertiesJsonUnmarshaller implements Unmarshaller<ThingTy
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("thingTypeDescription", targetDepth)) {
-                    context.nextToken();
-                    thingTypeProperties.setThingTypeDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("searchableAttributes", targetDepth)) {
-                    context.nextToken();
-                    thingTypeProperties.setSearchableAttributes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("thingTypeDescription".equals(fieldName)) {
+                        context.nextToken();
+                        thingTypeProperties.setThingTypeDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("searchableAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        thingTypeProperties.setSearchableAttributes(searchableAttributesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ThingTypePropertiesJsonUnmarshaller implements Unmarshaller<ThingTy
         return thingTypeProperties;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> searchableAttributesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ThingTypePropertiesJsonUnmarshaller instance;
 
     public static ThingTypePropertiesJsonUnmarshaller getInstance() {
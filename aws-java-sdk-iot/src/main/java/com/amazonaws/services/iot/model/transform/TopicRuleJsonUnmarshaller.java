@@ -47,33 +47,30 @@ public class TopicRuleJsonUnmarshaller implements Unmarshaller<TopicRule, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ruleName", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setRuleName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("sql", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setSql(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("actions", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setActions(new ListUnmarshaller<Action>(ActionJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ruleDisabled", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setRuleDisabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("awsIotSqlVersion", targetDepth)) {
-                    context.nextToken();
-                    topicRule.setAwsIotSqlVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ruleName".equals(fieldName)) {
+                        context.nextToken();
+                        topicRule.setRuleName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("sql".equals(fieldName)) {
+                        context.nextToken();
+                        topicRule.setSql(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        topicRule.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        topicRule.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("actions".equals(fieldName)) {
+                        context.nextToken();
+                        topicRule.setActions(actionsUnmarshaller.unmarshall(context));
+                    } else if ("ruleDisabled".equals(fieldName)) {
+                        context.nextToken();
+                        topicRule.setRuleDisabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("awsIotSqlVersion".equals(fieldName)) {
+                        context.nextToken();
+                        topicRule.setAwsIotSqlVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -87,6 +84,13 @@ public class TopicRuleJsonUnmarshaller implements Unmarshaller<TopicRule, JsonUn
         return topicRule;
     }
 
+    private final Unmarshaller<java.util.List<Action>, JsonUnmarshallerContext> actionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Action>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Action>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Action>(ActionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static TopicRuleJsonUnmarshaller instance;
 
     public static TopicRuleJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class TopicRuleListItemJsonUnmarshaller implements Unmarshaller<TopicRule
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ruleArn", targetDepth)) {
-                    context.nextToken();
-                    topicRuleListItem.setRuleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ruleName", targetDepth)) {
-                    context.nextToken();
-                    topicRuleListItem.setRuleName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("topicPattern", targetDepth)) {
-                    context.nextToken();
-                    topicRuleListItem.setTopicPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("createdAt", targetDepth)) {
-                    context.nextToken();
-                    topicRuleListItem.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ruleDisabled", targetDepth)) {
-                    context.nextToken();
-                    topicRuleListItem.setRuleDisabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ruleArn".equals(fieldName)) {
+                        context.nextToken();
+                        topicRuleListItem.setRuleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ruleName".equals(fieldName)) {
+                        context.nextToken();
+                        topicRuleListItem.setRuleName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("topicPattern".equals(fieldName)) {
+                        context.nextToken();
+                        topicRuleListItem.setTopicPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("createdAt".equals(fieldName)) {
+                        context.nextToken();
+                        topicRuleListItem.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ruleDisabled".equals(fieldName)) {
+                        context.nextToken();
+                        topicRuleListItem.setRuleDisabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class TopicRulePayloadJsonUnmarshaller implements Unmarshaller<TopicRuleP
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("sql", targetDepth)) {
-                    context.nextToken();
-                    topicRulePayload.setSql(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    topicRulePayload.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("actions", targetDepth)) {
-                    context.nextToken();
-                    topicRulePayload.setActions(new ListUnmarshaller<Action>(ActionJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ruleDisabled", targetDepth)) {
-                    context.nextToken();
-                    topicRulePayload.setRuleDisabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("awsIotSqlVersion", targetDepth)) {
-                    context.nextToken();
-                    topicRulePayload.setAwsIotSqlVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("sql".equals(fieldName)) {
+                        context.nextToken();
+                        topicRulePayload.setSql(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        topicRulePayload.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("actions".equals(fieldName)) {
+                        context.nextToken();
+                        topicRulePayload.setActions(actionsUnmarshaller.unmarshall(context));
+                    } else if ("ruleDisabled".equals(fieldName)) {
+                        context.nextToken();
+                        topicRulePayload.setRuleDisabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("awsIotSqlVersion".equals(fieldName)) {
+                        context.nextToken();
+                        topicRulePayload.setAwsIotSqlVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class TopicRulePayloadJsonUnmarshaller implements Unmarshaller<TopicRuleP
         return topicRulePayload;
     }
 
+    private final Unmarshaller<java.util.List<Action>, JsonUnmarshallerContext> actionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Action>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Action>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Action>(ActionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static TopicRulePayloadJsonUnmarshaller instance;
 
     public static TopicRulePayloadJsonUnmarshaller getInstance() {
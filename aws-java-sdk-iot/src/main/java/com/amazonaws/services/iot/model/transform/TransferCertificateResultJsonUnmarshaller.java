@@ -47,9 +47,12 @@ public class TransferCertificateResultJsonUnmarshaller implements Unmarshaller<T
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("transferredCertificateArn", targetDepth)) {
-                    context.nextToken();
-                    transferCertificateResult.setTransferredCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("transferredCertificateArn".equals(fieldName)) {
+                        context.nextToken();
+                        transferCertificateResult.setTransferredCertificateArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class TransferDataJsonUnmarshaller implements Unmarshaller<TransferData,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("transferMessage", targetDepth)) {
-                    context.nextToken();
-                    transferData.setTransferMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rejectReason", targetDepth)) {
-                    context.nextToken();
-                    transferData.setRejectReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("transferDate", targetDepth)) {
-                    context.nextToken();
-                    transferData.setTransferDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("acceptDate", targetDepth)) {
-                    context.nextToken();
-                    transferData.setAcceptDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("rejectDate", targetDepth)) {
-                    context.nextToken();
-                    transferData.setRejectDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("transferMessage".equals(fieldName)) {
+                        context.nextToken();
+                        transferData.setTransferMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("rejectReason".equals(fieldName)) {
+                        context.nextToken();
+                        transferData.setRejectReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("transferDate".equals(fieldName)) {
+                        context.nextToken();
+                        transferData.setTransferDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("acceptDate".equals(fieldName)) {
+                        context.nextToken();
+                        transferData.setAcceptDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("rejectDate".equals(fieldName)) {
+                        context.nextToken();
+                        transferData.setRejectDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
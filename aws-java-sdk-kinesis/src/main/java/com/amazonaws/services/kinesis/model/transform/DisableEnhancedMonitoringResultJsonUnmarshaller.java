@@ -47,19 +47,18 @@ public class DisableEnhancedMonitoringResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamName", targetDepth)) {
-                    context.nextToken();
-                    disableEnhancedMonitoringResult.setStreamName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CurrentShardLevelMetrics", targetDepth)) {
-                    context.nextToken();
-                    disableEnhancedMonitoringResult.setCurrentShardLevelMetrics(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("DesiredShardLevelMetrics", targetDepth)) {
-                    context.nextToken();
-                    disableEnhancedMonitoringResult.setDesiredShardLevelMetrics(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StreamName".equals(fieldName)) {
+                        context.nextToken();
+                        disableEnhancedMonitoringResult.setStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CurrentShardLevelMetrics".equals(fieldName)) {
+                        context.nextToken();
+                        disableEnhancedMonitoringResult.setCurrentShardLevelMetrics(currentShardLevelMetricsUnmarshaller.unmarshall(context));
+                    } else if ("DesiredShardLevelMetrics".equals(fieldName)) {
+                        context.nextToken();
+                        disableEnhancedMonitoringResult.setDesiredShardLevelMetrics(desiredShardLevelMetricsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -73,6 +72,19 @@ public class DisableEnhancedMonitoringResultJsonUnmarshaller implements Unmarsha
         return disableEnhancedMonitoringResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> currentShardLevelMetricsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> desiredShardLevelMetricsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DisableEnhancedMonitoringResultJsonUnmarshaller instance;
 
     public static DisableEnhancedMonitoringResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class EnhancedMetricsJsonUnmarshaller implements Unmarshaller<EnhancedMet
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardLevelMetrics", targetDepth)) {
-                    context.nextToken();
-                    enhancedMetrics.setShardLevelMetrics(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ShardLevelMetrics".equals(fieldName)) {
+                        context.nextToken();
+                        enhancedMetrics.setShardLevelMetrics(shardLevelMetricsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class EnhancedMetricsJsonUnmarshaller implements Unmarshaller<EnhancedMet
         return enhancedMetrics;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> shardLevelMetricsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static EnhancedMetricsJsonUnmarshaller instance;
 
     public static EnhancedMetricsJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class GetRecordsResultJsonUnmarshaller implements Unmarshaller<GetRecords
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Records", targetDepth)) {
-                    context.nextToken();
-                    getRecordsResult.setRecords(new ListUnmarshaller<Record>(RecordJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextShardIterator", targetDepth)) {
-                    context.nextToken();
-                    getRecordsResult.setNextShardIterator(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MillisBehindLatest", targetDepth)) {
-                    context.nextToken();
-                    getRecordsResult.setMillisBehindLatest(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Records".equals(fieldName)) {
+                        context.nextToken();
+                        getRecordsResult.setRecords(recordsUnmarshaller.unmarshall(context));
+                    } else if ("NextShardIterator".equals(fieldName)) {
+                        context.nextToken();
+                        getRecordsResult.setNextShardIterator(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MillisBehindLatest".equals(fieldName)) {
+                        context.nextToken();
+                        getRecordsResult.setMillisBehindLatest(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class GetRecordsResultJsonUnmarshaller implements Unmarshaller<GetRecords
         return getRecordsResult;
     }
 
+    private final Unmarshaller<java.util.List<Record>, JsonUnmarshallerContext> recordsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Record>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Record>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Record>(RecordJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetRecordsResultJsonUnmarshaller instance;
 
     public static GetRecordsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class GetShardIteratorResultJsonUnmarshaller implements Unmarshaller<GetS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardIterator", targetDepth)) {
-                    context.nextToken();
-                    getShardIteratorResult.setShardIterator(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ShardIterator".equals(fieldName)) {
+                        context.nextToken();
+                        getShardIteratorResult.setShardIterator(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class HashKeyRangeJsonUnmarshaller implements Unmarshaller<HashKeyRange,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartingHashKey", targetDepth)) {
-                    context.nextToken();
-                    hashKeyRange.setStartingHashKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndingHashKey", targetDepth)) {
-                    context.nextToken();
-                    hashKeyRange.setEndingHashKey(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StartingHashKey".equals(fieldName)) {
+                        context.nextToken();
+                        hashKeyRange.setStartingHashKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EndingHashKey".equals(fieldName)) {
+                        context.nextToken();
+                        hashKeyRange.setEndingHashKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ListStreamsResultJsonUnmarshaller implements Unmarshaller<ListStrea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamNames", targetDepth)) {
-                    context.nextToken();
-                    listStreamsResult.setStreamNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("HasMoreStreams", targetDepth)) {
-                    context.nextToken();
-                    listStreamsResult.setHasMoreStreams(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StreamNames".equals(fieldName)) {
+                        context.nextToken();
+                        listStreamsResult.setStreamNames(streamNamesUnmarshaller.unmarshall(context));
+                    } else if ("HasMoreStreams".equals(fieldName)) {
+                        context.nextToken();
+                        listStreamsResult.setHasMoreStreams(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListStreamsResultJsonUnmarshaller implements Unmarshaller<ListStrea
         return listStreamsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> streamNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListStreamsResultJsonUnmarshaller instance;
 
     public static ListStreamsResultJsonUnmarshaller getInstance() {
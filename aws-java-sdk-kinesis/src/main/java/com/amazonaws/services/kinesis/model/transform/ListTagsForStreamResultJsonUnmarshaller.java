@@ -47,13 +47,15 @@ public class ListTagsForStreamResultJsonUnmarshaller implements Unmarshaller<Lis
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    listTagsForStreamResult.setTags(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("HasMoreTags", targetDepth)) {
-                    context.nextToken();
-                    listTagsForStreamResult.setHasMoreTags(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Tags".equals(fieldName)) {
+                        context.nextToken();
+                        listTagsForStreamResult.setTags(tagsUnmarshaller.unmarshall(context));
+                    } else if ("HasMoreTags".equals(fieldName)) {
+                        context.nextToken();
+                        listTagsForStreamResult.setHasMoreTags(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTagsForStreamResultJsonUnmarshaller implements Unmarshaller<Lis
         return listTagsForStreamResult;
     }
 
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListTagsForStreamResultJsonUnmarshaller instance;
 
     public static ListTagsForStreamResultJsonUnmarshaller getInstance() {
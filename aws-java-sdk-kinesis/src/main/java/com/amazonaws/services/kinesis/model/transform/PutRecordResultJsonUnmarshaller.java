@@ -47,13 +47,15 @@ public class PutRecordResultJsonUnmarshaller implements Unmarshaller<PutRecordRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShardId", targetDepth)) {
-                    context.nextToken();
-                    putRecordResult.setShardId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    putRecordResult.setSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ShardId".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordResult.setShardId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SequenceNumber".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordResult.setSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
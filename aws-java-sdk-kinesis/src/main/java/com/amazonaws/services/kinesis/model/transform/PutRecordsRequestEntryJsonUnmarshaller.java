@@ -47,17 +47,18 @@ public class PutRecordsRequestEntryJsonUnmarshaller implements Unmarshaller<PutR
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Data", targetDepth)) {
-                    context.nextToken();
-                    putRecordsRequestEntry.setData(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("ExplicitHashKey", targetDepth)) {
-                    context.nextToken();
-                    putRecordsRequestEntry.setExplicitHashKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PartitionKey", targetDepth)) {
-                    context.nextToken();
-                    putRecordsRequestEntry.setPartitionKey(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Data".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordsRequestEntry.setData(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("ExplicitHashKey".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordsRequestEntry.setExplicitHashKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PartitionKey".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordsRequestEntry.setPartitionKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
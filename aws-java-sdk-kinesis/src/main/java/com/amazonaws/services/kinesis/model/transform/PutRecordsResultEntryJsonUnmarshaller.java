@@ -47,21 +47,21 @@ public class PutRecordsResultEntryJsonUnmarshaller implements Unmarshaller<PutRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResultEntry.setSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ShardId", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResultEntry.setShardId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResultEntry.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResultEntry.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SequenceNumber".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordsResultEntry.setSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ShardId".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordsResultEntry.setShardId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordsResultEntry.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordsResultEntry.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
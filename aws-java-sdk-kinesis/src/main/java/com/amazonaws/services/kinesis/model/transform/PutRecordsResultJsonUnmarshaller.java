@@ -47,14 +47,15 @@ public class PutRecordsResultJsonUnmarshaller implements Unmarshaller<PutRecords
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedRecordCount", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResult.setFailedRecordCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Records", targetDepth)) {
-                    context.nextToken();
-                    putRecordsResult.setRecords(new ListUnmarshaller<PutRecordsResultEntry>(PutRecordsResultEntryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FailedRecordCount".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordsResult.setFailedRecordCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Records".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordsResult.setRecords(recordsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class PutRecordsResultJsonUnmarshaller implements Unmarshaller<PutRecords
         return putRecordsResult;
     }
 
+    private final Unmarshaller<java.util.List<PutRecordsResultEntry>, JsonUnmarshallerContext> recordsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PutRecordsResultEntry>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PutRecordsResultEntry>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PutRecordsResultEntry>(PutRecordsResultEntryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PutRecordsResultJsonUnmarshaller instance;
 
     public static PutRecordsResultJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class RecordJsonUnmarshaller implements Unmarshaller<Record, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SequenceNumber", targetDepth)) {
-                    context.nextToken();
-                    record.setSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ApproximateArrivalTimestamp", targetDepth)) {
-                    context.nextToken();
-                    record.setApproximateArrivalTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Data", targetDepth)) {
-                    context.nextToken();
-                    record.setData(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("PartitionKey", targetDepth)) {
-                    context.nextToken();
-                    record.setPartitionKey(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SequenceNumber".equals(fieldName)) {
+                        context.nextToken();
+                        record.setSequenceNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ApproximateArrivalTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        record.setApproximateArrivalTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Data".equals(fieldName)) {
+                        context.nextToken();
+                        record.setData(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("PartitionKey".equals(fieldName)) {
+                        context.nextToken();
+                        record.setPartitionKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
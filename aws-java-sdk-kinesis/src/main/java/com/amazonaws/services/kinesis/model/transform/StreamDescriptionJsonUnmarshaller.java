@@ -47,34 +47,30 @@ public class StreamDescriptionJsonUnmarshaller implements Unmarshaller<StreamDes
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StreamName", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamARN", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StreamStatus", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setStreamStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Shards", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setShards(new ListUnmarshaller<Shard>(ShardJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("HasMoreShards", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setHasMoreShards(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RetentionPeriodHours", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setRetentionPeriodHours(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("EnhancedMonitoring", targetDepth)) {
-                    context.nextToken();
-                    streamDescription.setEnhancedMonitoring(new ListUnmarshaller<EnhancedMetrics>(EnhancedMetricsJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StreamName".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StreamARN".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setStreamARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StreamStatus".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setStreamStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Shards".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setShards(shardsUnmarshaller.unmarshall(context));
+                    } else if ("HasMoreShards".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setHasMoreShards(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("RetentionPeriodHours".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setRetentionPeriodHours(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("EnhancedMonitoring".equals(fieldName)) {
+                        context.nextToken();
+                        streamDescription.setEnhancedMonitoring(enhancedMonitoringUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -88,6 +84,19 @@ public class StreamDescriptionJsonUnmarshaller implements Unmarshaller<StreamDes
         return streamDescription;
     }
 
+    private final Unmarshaller<java.util.List<Shard>, JsonUnmarshallerContext> shardsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Shard>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Shard>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Shard>(ShardJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<EnhancedMetrics>, JsonUnmarshallerContext> enhancedMonitoringUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EnhancedMetrics>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EnhancedMetrics>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EnhancedMetrics>(EnhancedMetricsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static StreamDescriptionJsonUnmarshaller instance;
 
     public static StreamDescriptionJsonUnmarshaller getInstance() {
@@ -47,52 +47,42 @@ public class ApplicationDetailJsonUnmarshaller implements Unmarshaller<Applicati
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ApplicationName", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ApplicationDescription", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setApplicationDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ApplicationARN", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setApplicationARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ApplicationStatus", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setApplicationStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreateTimestamp", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setCreateTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdateTimestamp", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setLastUpdateTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("InputDescriptions", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setInputDescriptions(new ListUnmarshaller<InputDescription>(InputDescriptionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("OutputDescriptions", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setOutputDescriptions(new ListUnmarshaller<OutputDescription>(OutputDescriptionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ReferenceDataSourceDescriptions", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setReferenceDataSourceDescriptions(new ListUnmarshaller<ReferenceDataSourceDescription>(
-                            ReferenceDataSourceDescriptionJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ApplicationCode", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setApplicationCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ApplicationVersionId", targetDepth)) {
-                    context.nextToken();
-                    applicationDetail.setApplicationVersionId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ApplicationName".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ApplicationDescription".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setApplicationDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ApplicationARN".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setApplicationARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ApplicationStatus".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setApplicationStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreateTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setCreateTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdateTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setLastUpdateTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("InputDescriptions".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setInputDescriptions(inputDescriptionsUnmarshaller.unmarshall(context));
+                    } else if ("OutputDescriptions".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setOutputDescriptions(outputDescriptionsUnmarshaller.unmarshall(context));
+                    } else if ("ReferenceDataSourceDescriptions".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setReferenceDataSourceDescriptions(referenceDataSourceDescriptionsUnmarshaller.unmarshall(context));
+                    } else if ("ApplicationCode".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setApplicationCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ApplicationVersionId".equals(fieldName)) {
+                        context.nextToken();
+                        applicationDetail.setApplicationVersionId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -106,6 +96,25 @@ public class ApplicationDetailJsonUnmarshaller implements Unmarshaller<Applicati
         return applicationDetail;
     }
 
+    private final Unmarshaller<java.util.List<InputDescription>, JsonUnmarshallerContext> inputDescriptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<InputDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<InputDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<InputDescription>(InputDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<OutputDescription>, JsonUnmarshallerContext> outputDescriptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<OutputDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<OutputDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<OutputDescription>(OutputDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ReferenceDataSourceDescription>, JsonUnmarshallerContext> referenceDataSourceDescriptionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ReferenceDataSourceDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ReferenceDataSourceDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ReferenceDataSourceDescription>(ReferenceDataSourceDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ApplicationDetailJsonUnmarshaller instance;
 
     public static ApplicationDetailJsonUnmarshaller getInstance() {
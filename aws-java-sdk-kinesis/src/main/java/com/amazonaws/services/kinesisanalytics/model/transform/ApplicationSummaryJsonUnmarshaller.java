@@ -47,17 +47,18 @@ public class ApplicationSummaryJsonUnmarshaller implements Unmarshaller<Applicat
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ApplicationName", targetDepth)) {
-                    context.nextToken();
-                    applicationSummary.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ApplicationARN", targetDepth)) {
-                    context.nextToken();
-                    applicationSummary.setApplicationARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ApplicationStatus", targetDepth)) {
-                    context.nextToken();
-                    applicationSummary.setApplicationStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ApplicationName".equals(fieldName)) {
+                        context.nextToken();
+                        applicationSummary.setApplicationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ApplicationARN".equals(fieldName)) {
+                        context.nextToken();
+                        applicationSummary.setApplicationARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ApplicationStatus".equals(fieldName)) {
+                        context.nextToken();
+                        applicationSummary.setApplicationStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,22 +47,21 @@ public class ApplicationUpdateJsonUnmarshaller implements Unmarshaller<Applicati
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InputUpdates", targetDepth)) {
-                    context.nextToken();
-                    applicationUpdate.setInputUpdates(new ListUnmarshaller<InputUpdate>(InputUpdateJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ApplicationCodeUpdate", targetDepth)) {
-                    context.nextToken();
-                    applicationUpdate.setApplicationCodeUpdate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputUpdates", targetDepth)) {
-                    context.nextToken();
-                    applicationUpdate.setOutputUpdates(new ListUnmarshaller<OutputUpdate>(OutputUpdateJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ReferenceDataSourceUpdates", targetDepth)) {
-                    context.nextToken();
-                    applicationUpdate.setReferenceDataSourceUpdates(new ListUnmarshaller<ReferenceDataSourceUpdate>(ReferenceDataSourceUpdateJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InputUpdates".equals(fieldName)) {
+                        context.nextToken();
+                        applicationUpdate.setInputUpdates(inputUpdatesUnmarshaller.unmarshall(context));
+                    } else if ("ApplicationCodeUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        applicationUpdate.setApplicationCodeUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputUpdates".equals(fieldName)) {
+                        context.nextToken();
+                        applicationUpdate.setOutputUpdates(outputUpdatesUnmarshaller.unmarshall(context));
+                    } else if ("ReferenceDataSourceUpdates".equals(fieldName)) {
+                        context.nextToken();
+                        applicationUpdate.setReferenceDataSourceUpdates(referenceDataSourceUpdatesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,25 @@ public class ApplicationUpdateJsonUnmarshaller implements Unmarshaller<Applicati
         return applicationUpdate;
     }
 
+    private final Unmarshaller<java.util.List<InputUpdate>, JsonUnmarshallerContext> inputUpdatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<InputUpdate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<InputUpdate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<InputUpdate>(InputUpdateJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<OutputUpdate>, JsonUnmarshallerContext> outputUpdatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<OutputUpdate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<OutputUpdate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<OutputUpdate>(OutputUpdateJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ReferenceDataSourceUpdate>, JsonUnmarshallerContext> referenceDataSourceUpdatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ReferenceDataSourceUpdate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ReferenceDataSourceUpdate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ReferenceDataSourceUpdate>(ReferenceDataSourceUpdateJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ApplicationUpdateJsonUnmarshaller instance;
 
     public static ApplicationUpdateJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class CSVMappingParametersJsonUnmarshaller implements Unmarshaller<CSVMap
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordRowDelimiter", targetDepth)) {
-                    context.nextToken();
-                    cSVMappingParameters.setRecordRowDelimiter(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RecordColumnDelimiter", targetDepth)) {
-                    context.nextToken();
-                    cSVMappingParameters.setRecordColumnDelimiter(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordRowDelimiter".equals(fieldName)) {
+                        context.nextToken();
+                        cSVMappingParameters.setRecordRowDelimiter(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RecordColumnDelimiter".equals(fieldName)) {
+                        context.nextToken();
+                        cSVMappingParameters.setRecordColumnDelimiter(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateApplicationResultJsonUnmarshaller implements Unmarshaller<Cre
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ApplicationSummary", targetDepth)) {
-                    context.nextToken();
-                    createApplicationResult.setApplicationSummary(ApplicationSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ApplicationSummary".equals(fieldName)) {
+                        context.nextToken();
+                        createApplicationResult.setApplicationSummary(ApplicationSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
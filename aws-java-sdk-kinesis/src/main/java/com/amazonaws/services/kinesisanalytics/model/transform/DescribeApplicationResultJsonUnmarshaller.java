@@ -47,9 +47,12 @@ public class DescribeApplicationResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ApplicationDetail", targetDepth)) {
-                    context.nextToken();
-                    describeApplicationResult.setApplicationDetail(ApplicationDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ApplicationDetail".equals(fieldName)) {
+                        context.nextToken();
+                        describeApplicationResult.setApplicationDetail(ApplicationDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
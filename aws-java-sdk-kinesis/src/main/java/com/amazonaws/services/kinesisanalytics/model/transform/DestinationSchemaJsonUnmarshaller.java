@@ -47,9 +47,12 @@ public class DestinationSchemaJsonUnmarshaller implements Unmarshaller<Destinati
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordFormatType", targetDepth)) {
-                    context.nextToken();
-                    destinationSchema.setRecordFormatType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordFormatType".equals(fieldName)) {
+                        context.nextToken();
+                        destinationSchema.setRecordFormatType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,18 +47,18 @@ public class DiscoverInputSchemaResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InputSchema", targetDepth)) {
-                    context.nextToken();
-                    discoverInputSchemaResult.setInputSchema(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ParsedInputRecords", targetDepth)) {
-                    context.nextToken();
-                    discoverInputSchemaResult.setParsedInputRecords(new ListUnmarshaller<java.util.List<String>>(new ListUnmarshaller<String>(context
-                            .getUnmarshaller(String.class))).unmarshall(context));
-                }
-                if (context.testExpression("RawInputRecords", targetDepth)) {
-                    context.nextToken();
-                    discoverInputSchemaResult.setRawInputRecords(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InputSchema".equals(fieldName)) {
+                        context.nextToken();
+                        discoverInputSchemaResult.setInputSchema(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ParsedInputRecords".equals(fieldName)) {
+                        context.nextToken();
+                        discoverInputSchemaResult.setParsedInputRecords(parsedInputRecordsUnmarshaller.unmarshall(context));
+                    } else if ("RawInputRecords".equals(fieldName)) {
+                        context.nextToken();
+                        discoverInputSchemaResult.setRawInputRecords(rawInputRecordsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,19 @@ public class DiscoverInputSchemaResultJsonUnmarshaller implements Unmarshaller<D
         return discoverInputSchemaResult;
     }
 
+    private final Unmarshaller<java.util.List<java.util.List<String>>, JsonUnmarshallerContext> parsedInputRecordsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<java.util.List<String>>>() {
+        @Override
+        protected Unmarshaller<java.util.List<java.util.List<String>>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<java.util.List<String>>(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> rawInputRecordsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DiscoverInputSchemaResultJsonUnmarshaller instance;
 
     public static DiscoverInputSchemaResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,16 @@ public class InputConfigurationJsonUnmarshaller implements Unmarshaller<InputCon
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    inputConfiguration.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InputStartingPositionConfiguration", targetDepth)) {
-                    context.nextToken();
-                    inputConfiguration.setInputStartingPositionConfiguration(InputStartingPositionConfigurationJsonUnmarshaller.getInstance().unmarshall(
-                            context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        inputConfiguration.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InputStartingPositionConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        inputConfiguration.setInputStartingPositionConfiguration(InputStartingPositionConfigurationJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,38 +47,34 @@ public class InputDescriptionJsonUnmarshaller implements Unmarshaller<InputDescr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InputId", targetDepth)) {
-                    context.nextToken();
-                    inputDescription.setInputId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NamePrefix", targetDepth)) {
-                    context.nextToken();
-                    inputDescription.setNamePrefix(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InAppStreamNames", targetDepth)) {
-                    context.nextToken();
-                    inputDescription.setInAppStreamNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("KinesisStreamsInputDescription", targetDepth)) {
-                    context.nextToken();
-                    inputDescription.setKinesisStreamsInputDescription(KinesisStreamsInputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KinesisFirehoseInputDescription", targetDepth)) {
-                    context.nextToken();
-                    inputDescription.setKinesisFirehoseInputDescription(KinesisFirehoseInputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("InputSchema", targetDepth)) {
-                    context.nextToken();
-                    inputDescription.setInputSchema(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("InputParallelism", targetDepth)) {
-                    context.nextToken();
-                    inputDescription.setInputParallelism(InputParallelismJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("InputStartingPositionConfiguration", targetDepth)) {
-                    context.nextToken();
-                    inputDescription
-                            .setInputStartingPositionConfiguration(InputStartingPositionConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InputId".equals(fieldName)) {
+                        context.nextToken();
+                        inputDescription.setInputId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NamePrefix".equals(fieldName)) {
+                        context.nextToken();
+                        inputDescription.setNamePrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InAppStreamNames".equals(fieldName)) {
+                        context.nextToken();
+                        inputDescription.setInAppStreamNames(inAppStreamNamesUnmarshaller.unmarshall(context));
+                    } else if ("KinesisStreamsInputDescription".equals(fieldName)) {
+                        context.nextToken();
+                        inputDescription.setKinesisStreamsInputDescription(KinesisStreamsInputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("KinesisFirehoseInputDescription".equals(fieldName)) {
+                        context.nextToken();
+                        inputDescription.setKinesisFirehoseInputDescription(KinesisFirehoseInputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("InputSchema".equals(fieldName)) {
+                        context.nextToken();
+                        inputDescription.setInputSchema(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("InputParallelism".equals(fieldName)) {
+                        context.nextToken();
+                        inputDescription.setInputParallelism(InputParallelismJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("InputStartingPositionConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        inputDescription.setInputStartingPositionConfiguration(InputStartingPositionConfigurationJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -92,6 +88,13 @@ public class InputDescriptionJsonUnmarshaller implements Unmarshaller<InputDescr
         return inputDescription;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> inAppStreamNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static InputDescriptionJsonUnmarshaller instance;
 
     public static InputDescriptionJsonUnmarshaller getInstance() {
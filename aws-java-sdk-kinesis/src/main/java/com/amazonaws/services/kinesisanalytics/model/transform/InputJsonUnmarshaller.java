@@ -47,25 +47,24 @@ public class InputJsonUnmarshaller implements Unmarshaller<Input, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NamePrefix", targetDepth)) {
-                    context.nextToken();
-                    input.setNamePrefix(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KinesisStreamsInput", targetDepth)) {
-                    context.nextToken();
-                    input.setKinesisStreamsInput(KinesisStreamsInputJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KinesisFirehoseInput", targetDepth)) {
-                    context.nextToken();
-                    input.setKinesisFirehoseInput(KinesisFirehoseInputJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("InputParallelism", targetDepth)) {
-                    context.nextToken();
-                    input.setInputParallelism(InputParallelismJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("InputSchema", targetDepth)) {
-                    context.nextToken();
-                    input.setInputSchema(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NamePrefix".equals(fieldName)) {
+                        context.nextToken();
+                        input.setNamePrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KinesisStreamsInput".equals(fieldName)) {
+                        context.nextToken();
+                        input.setKinesisStreamsInput(KinesisStreamsInputJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("KinesisFirehoseInput".equals(fieldName)) {
+                        context.nextToken();
+                        input.setKinesisFirehoseInput(KinesisFirehoseInputJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("InputParallelism".equals(fieldName)) {
+                        context.nextToken();
+                        input.setInputParallelism(InputParallelismJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("InputSchema".equals(fieldName)) {
+                        context.nextToken();
+                        input.setInputSchema(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class InputParallelismJsonUnmarshaller implements Unmarshaller<InputParal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Count", targetDepth)) {
-                    context.nextToken();
-                    inputParallelism.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Count".equals(fieldName)) {
+                        context.nextToken();
+                        inputParallelism.setCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class InputParallelismUpdateJsonUnmarshaller implements Unmarshaller<Inpu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CountUpdate", targetDepth)) {
-                    context.nextToken();
-                    inputParallelismUpdate.setCountUpdate(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CountUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        inputParallelismUpdate.setCountUpdate(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
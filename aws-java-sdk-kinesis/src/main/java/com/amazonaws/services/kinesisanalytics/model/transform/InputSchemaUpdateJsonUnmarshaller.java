@@ -47,18 +47,18 @@ public class InputSchemaUpdateJsonUnmarshaller implements Unmarshaller<InputSche
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordFormatUpdate", targetDepth)) {
-                    context.nextToken();
-                    inputSchemaUpdate.setRecordFormatUpdate(RecordFormatJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RecordEncodingUpdate", targetDepth)) {
-                    context.nextToken();
-                    inputSchemaUpdate.setRecordEncodingUpdate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RecordColumnUpdates", targetDepth)) {
-                    context.nextToken();
-                    inputSchemaUpdate
-                            .setRecordColumnUpdates(new ListUnmarshaller<RecordColumn>(RecordColumnJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordFormatUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        inputSchemaUpdate.setRecordFormatUpdate(RecordFormatJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RecordEncodingUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        inputSchemaUpdate.setRecordEncodingUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RecordColumnUpdates".equals(fieldName)) {
+                        context.nextToken();
+                        inputSchemaUpdate.setRecordColumnUpdates(recordColumnUpdatesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class InputSchemaUpdateJsonUnmarshaller implements Unmarshaller<InputSche
         return inputSchemaUpdate;
     }
 
+    private final Unmarshaller<java.util.List<RecordColumn>, JsonUnmarshallerContext> recordColumnUpdatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RecordColumn>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RecordColumn>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RecordColumn>(RecordColumnJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static InputSchemaUpdateJsonUnmarshaller instance;
 
     public static InputSchemaUpdateJsonUnmarshaller getInstance() {
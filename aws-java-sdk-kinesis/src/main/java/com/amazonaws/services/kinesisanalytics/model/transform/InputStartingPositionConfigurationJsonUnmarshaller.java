@@ -47,9 +47,12 @@ public class InputStartingPositionConfigurationJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InputStartingPosition", targetDepth)) {
-                    context.nextToken();
-                    inputStartingPositionConfiguration.setInputStartingPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InputStartingPosition".equals(fieldName)) {
+                        context.nextToken();
+                        inputStartingPositionConfiguration.setInputStartingPosition(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class InputUpdateJsonUnmarshaller implements Unmarshaller<InputUpdate, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InputId", targetDepth)) {
-                    context.nextToken();
-                    inputUpdate.setInputId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NamePrefixUpdate", targetDepth)) {
-                    context.nextToken();
-                    inputUpdate.setNamePrefixUpdate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KinesisStreamsInputUpdate", targetDepth)) {
-                    context.nextToken();
-                    inputUpdate.setKinesisStreamsInputUpdate(KinesisStreamsInputUpdateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KinesisFirehoseInputUpdate", targetDepth)) {
-                    context.nextToken();
-                    inputUpdate.setKinesisFirehoseInputUpdate(KinesisFirehoseInputUpdateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("InputSchemaUpdate", targetDepth)) {
-                    context.nextToken();
-                    inputUpdate.setInputSchemaUpdate(InputSchemaUpdateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("InputParallelismUpdate", targetDepth)) {
-                    context.nextToken();
-                    inputUpdate.setInputParallelismUpdate(InputParallelismUpdateJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InputId".equals(fieldName)) {
+                        context.nextToken();
+                        inputUpdate.setInputId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NamePrefixUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        inputUpdate.setNamePrefixUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KinesisStreamsInputUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        inputUpdate.setKinesisStreamsInputUpdate(KinesisStreamsInputUpdateJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("KinesisFirehoseInputUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        inputUpdate.setKinesisFirehoseInputUpdate(KinesisFirehoseInputUpdateJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("InputSchemaUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        inputUpdate.setInputSchemaUpdate(InputSchemaUpdateJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("InputParallelismUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        inputUpdate.setInputParallelismUpdate(InputParallelismUpdateJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
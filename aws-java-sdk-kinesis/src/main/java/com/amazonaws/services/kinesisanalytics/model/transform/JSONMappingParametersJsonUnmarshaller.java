@@ -47,9 +47,12 @@ public class JSONMappingParametersJsonUnmarshaller implements Unmarshaller<JSONM
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordRowPath", targetDepth)) {
-                    context.nextToken();
-                    jSONMappingParameters.setRecordRowPath(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordRowPath".equals(fieldName)) {
+                        context.nextToken();
+                        jSONMappingParameters.setRecordRowPath(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class KinesisFirehoseOutputDescriptionJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceARN", targetDepth)) {
-                    context.nextToken();
-                    kinesisFirehoseOutputDescription.setResourceARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    kinesisFirehoseOutputDescription.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ResourceARN".equals(fieldName)) {
+                        context.nextToken();
+                        kinesisFirehoseOutputDescription.setResourceARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        kinesisFirehoseOutputDescription.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
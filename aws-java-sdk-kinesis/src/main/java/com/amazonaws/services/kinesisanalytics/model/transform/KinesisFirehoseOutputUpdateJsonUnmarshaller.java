@@ -47,13 +47,15 @@ public class KinesisFirehoseOutputUpdateJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceARNUpdate", targetDepth)) {
-                    context.nextToken();
-                    kinesisFirehoseOutputUpdate.setResourceARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleARNUpdate", targetDepth)) {
-                    context.nextToken();
-                    kinesisFirehoseOutputUpdate.setRoleARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ResourceARNUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        kinesisFirehoseOutputUpdate.setResourceARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RoleARNUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        kinesisFirehoseOutputUpdate.setRoleARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
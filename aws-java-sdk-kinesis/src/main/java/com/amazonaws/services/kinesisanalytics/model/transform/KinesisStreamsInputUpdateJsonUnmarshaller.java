@@ -47,13 +47,15 @@ public class KinesisStreamsInputUpdateJsonUnmarshaller implements Unmarshaller<K
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceARNUpdate", targetDepth)) {
-                    context.nextToken();
-                    kinesisStreamsInputUpdate.setResourceARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleARNUpdate", targetDepth)) {
-                    context.nextToken();
-                    kinesisStreamsInputUpdate.setRoleARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ResourceARNUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        kinesisStreamsInputUpdate.setResourceARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RoleARNUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        kinesisStreamsInputUpdate.setRoleARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class ListApplicationsResultJsonUnmarshaller implements Unmarshaller<List
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ApplicationSummaries", targetDepth)) {
-                    context.nextToken();
-                    listApplicationsResult.setApplicationSummaries(new ListUnmarshaller<ApplicationSummary>(ApplicationSummaryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("HasMoreApplications", targetDepth)) {
-                    context.nextToken();
-                    listApplicationsResult.setHasMoreApplications(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ApplicationSummaries".equals(fieldName)) {
+                        context.nextToken();
+                        listApplicationsResult.setApplicationSummaries(applicationSummariesUnmarshaller.unmarshall(context));
+                    } else if ("HasMoreApplications".equals(fieldName)) {
+                        context.nextToken();
+                        listApplicationsResult.setHasMoreApplications(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListApplicationsResultJsonUnmarshaller implements Unmarshaller<List
         return listApplicationsResult;
     }
 
+    private final Unmarshaller<java.util.List<ApplicationSummary>, JsonUnmarshallerContext> applicationSummariesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ApplicationSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ApplicationSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ApplicationSummary>(ApplicationSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListApplicationsResultJsonUnmarshaller instance;
 
     public static ListApplicationsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class MappingParametersJsonUnmarshaller implements Unmarshaller<MappingPa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JSONMappingParameters", targetDepth)) {
-                    context.nextToken();
-                    mappingParameters.setJSONMappingParameters(JSONMappingParametersJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CSVMappingParameters", targetDepth)) {
-                    context.nextToken();
-                    mappingParameters.setCSVMappingParameters(CSVMappingParametersJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JSONMappingParameters".equals(fieldName)) {
+                        context.nextToken();
+                        mappingParameters.setJSONMappingParameters(JSONMappingParametersJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CSVMappingParameters".equals(fieldName)) {
+                        context.nextToken();
+                        mappingParameters.setCSVMappingParameters(CSVMappingParametersJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,25 @@ public class OutputDescriptionJsonUnmarshaller implements Unmarshaller<OutputDes
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OutputId", targetDepth)) {
-                    context.nextToken();
-                    outputDescription.setOutputId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    outputDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KinesisStreamsOutputDescription", targetDepth)) {
-                    context.nextToken();
-                    outputDescription.setKinesisStreamsOutputDescription(KinesisStreamsOutputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KinesisFirehoseOutputDescription", targetDepth)) {
-                    context.nextToken();
-                    outputDescription.setKinesisFirehoseOutputDescription(KinesisFirehoseOutputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DestinationSchema", targetDepth)) {
-                    context.nextToken();
-                    outputDescription.setDestinationSchema(DestinationSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OutputId".equals(fieldName)) {
+                        context.nextToken();
+                        outputDescription.setOutputId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        outputDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KinesisStreamsOutputDescription".equals(fieldName)) {
+                        context.nextToken();
+                        outputDescription.setKinesisStreamsOutputDescription(KinesisStreamsOutputDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("KinesisFirehoseOutputDescription".equals(fieldName)) {
+                        context.nextToken();
+                        outputDescription.setKinesisFirehoseOutputDescription(KinesisFirehoseOutputDescriptionJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("DestinationSchema".equals(fieldName)) {
+                        context.nextToken();
+                        outputDescription.setDestinationSchema(DestinationSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class OutputJsonUnmarshaller implements Unmarshaller<Output, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    output.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KinesisStreamsOutput", targetDepth)) {
-                    context.nextToken();
-                    output.setKinesisStreamsOutput(KinesisStreamsOutputJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KinesisFirehoseOutput", targetDepth)) {
-                    context.nextToken();
-                    output.setKinesisFirehoseOutput(KinesisFirehoseOutputJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DestinationSchema", targetDepth)) {
-                    context.nextToken();
-                    output.setDestinationSchema(DestinationSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        output.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KinesisStreamsOutput".equals(fieldName)) {
+                        context.nextToken();
+                        output.setKinesisStreamsOutput(KinesisStreamsOutputJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("KinesisFirehoseOutput".equals(fieldName)) {
+                        context.nextToken();
+                        output.setKinesisFirehoseOutput(KinesisFirehoseOutputJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("DestinationSchema".equals(fieldName)) {
+                        context.nextToken();
+                        output.setDestinationSchema(DestinationSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
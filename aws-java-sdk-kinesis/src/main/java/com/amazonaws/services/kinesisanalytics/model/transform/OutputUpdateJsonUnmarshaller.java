@@ -47,25 +47,24 @@ public class OutputUpdateJsonUnmarshaller implements Unmarshaller<OutputUpdate,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OutputId", targetDepth)) {
-                    context.nextToken();
-                    outputUpdate.setOutputId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NameUpdate", targetDepth)) {
-                    context.nextToken();
-                    outputUpdate.setNameUpdate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KinesisStreamsOutputUpdate", targetDepth)) {
-                    context.nextToken();
-                    outputUpdate.setKinesisStreamsOutputUpdate(KinesisStreamsOutputUpdateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("KinesisFirehoseOutputUpdate", targetDepth)) {
-                    context.nextToken();
-                    outputUpdate.setKinesisFirehoseOutputUpdate(KinesisFirehoseOutputUpdateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DestinationSchemaUpdate", targetDepth)) {
-                    context.nextToken();
-                    outputUpdate.setDestinationSchemaUpdate(DestinationSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OutputId".equals(fieldName)) {
+                        context.nextToken();
+                        outputUpdate.setOutputId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NameUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        outputUpdate.setNameUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KinesisStreamsOutputUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        outputUpdate.setKinesisStreamsOutputUpdate(KinesisStreamsOutputUpdateJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("KinesisFirehoseOutputUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        outputUpdate.setKinesisFirehoseOutputUpdate(KinesisFirehoseOutputUpdateJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("DestinationSchemaUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        outputUpdate.setDestinationSchemaUpdate(DestinationSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
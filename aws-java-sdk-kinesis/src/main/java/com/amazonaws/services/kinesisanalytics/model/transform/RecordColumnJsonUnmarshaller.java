@@ -47,17 +47,18 @@ public class RecordColumnJsonUnmarshaller implements Unmarshaller<RecordColumn,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    recordColumn.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Mapping", targetDepth)) {
-                    context.nextToken();
-                    recordColumn.setMapping(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SqlType", targetDepth)) {
-                    context.nextToken();
-                    recordColumn.setSqlType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        recordColumn.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Mapping".equals(fieldName)) {
+                        context.nextToken();
+                        recordColumn.setMapping(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SqlType".equals(fieldName)) {
+                        context.nextToken();
+                        recordColumn.setSqlType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class RecordFormatJsonUnmarshaller implements Unmarshaller<RecordFormat,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordFormatType", targetDepth)) {
-                    context.nextToken();
-                    recordFormat.setRecordFormatType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MappingParameters", targetDepth)) {
-                    context.nextToken();
-                    recordFormat.setMappingParameters(MappingParametersJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordFormatType".equals(fieldName)) {
+                        context.nextToken();
+                        recordFormat.setRecordFormatType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MappingParameters".equals(fieldName)) {
+                        context.nextToken();
+                        recordFormat.setMappingParameters(MappingParametersJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,22 +47,22 @@ public class ReferenceDataSourceDescriptionJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReferenceId", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSourceDescription.setReferenceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSourceDescription.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3ReferenceDataSourceDescription", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSourceDescription.setS3ReferenceDataSourceDescription(S3ReferenceDataSourceDescriptionJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ReferenceSchema", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSourceDescription.setReferenceSchema(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReferenceId".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSourceDescription.setReferenceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TableName".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSourceDescription.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3ReferenceDataSourceDescription".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSourceDescription.setS3ReferenceDataSourceDescription(S3ReferenceDataSourceDescriptionJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("ReferenceSchema".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSourceDescription.setReferenceSchema(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
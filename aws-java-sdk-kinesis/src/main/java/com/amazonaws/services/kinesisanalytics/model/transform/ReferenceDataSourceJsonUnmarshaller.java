@@ -47,17 +47,18 @@ public class ReferenceDataSourceJsonUnmarshaller implements Unmarshaller<Referen
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TableName", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSource.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3ReferenceDataSource", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSource.setS3ReferenceDataSource(S3ReferenceDataSourceJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ReferenceSchema", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSource.setReferenceSchema(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TableName".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSource.setTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3ReferenceDataSource".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSource.setS3ReferenceDataSource(S3ReferenceDataSourceJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ReferenceSchema".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSource.setReferenceSchema(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class ReferenceDataSourceUpdateJsonUnmarshaller implements Unmarshaller<R
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ReferenceId", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSourceUpdate.setReferenceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TableNameUpdate", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSourceUpdate.setTableNameUpdate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3ReferenceDataSourceUpdate", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSourceUpdate.setS3ReferenceDataSourceUpdate(S3ReferenceDataSourceUpdateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ReferenceSchemaUpdate", targetDepth)) {
-                    context.nextToken();
-                    referenceDataSourceUpdate.setReferenceSchemaUpdate(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ReferenceId".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSourceUpdate.setReferenceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TableNameUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSourceUpdate.setTableNameUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3ReferenceDataSourceUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSourceUpdate.setS3ReferenceDataSourceUpdate(S3ReferenceDataSourceUpdateJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ReferenceSchemaUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        referenceDataSourceUpdate.setReferenceSchemaUpdate(SourceSchemaJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
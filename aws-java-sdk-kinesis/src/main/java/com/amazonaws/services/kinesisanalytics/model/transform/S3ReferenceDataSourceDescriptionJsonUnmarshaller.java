@@ -47,17 +47,18 @@ public class S3ReferenceDataSourceDescriptionJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BucketARN", targetDepth)) {
-                    context.nextToken();
-                    s3ReferenceDataSourceDescription.setBucketARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileKey", targetDepth)) {
-                    context.nextToken();
-                    s3ReferenceDataSourceDescription.setFileKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReferenceRoleARN", targetDepth)) {
-                    context.nextToken();
-                    s3ReferenceDataSourceDescription.setReferenceRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BucketARN".equals(fieldName)) {
+                        context.nextToken();
+                        s3ReferenceDataSourceDescription.setBucketARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FileKey".equals(fieldName)) {
+                        context.nextToken();
+                        s3ReferenceDataSourceDescription.setFileKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReferenceRoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        s3ReferenceDataSourceDescription.setReferenceRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class S3ReferenceDataSourceJsonUnmarshaller implements Unmarshaller<S3Ref
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BucketARN", targetDepth)) {
-                    context.nextToken();
-                    s3ReferenceDataSource.setBucketARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileKey", targetDepth)) {
-                    context.nextToken();
-                    s3ReferenceDataSource.setFileKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReferenceRoleARN", targetDepth)) {
-                    context.nextToken();
-                    s3ReferenceDataSource.setReferenceRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BucketARN".equals(fieldName)) {
+                        context.nextToken();
+                        s3ReferenceDataSource.setBucketARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FileKey".equals(fieldName)) {
+                        context.nextToken();
+                        s3ReferenceDataSource.setFileKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReferenceRoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        s3ReferenceDataSource.setReferenceRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
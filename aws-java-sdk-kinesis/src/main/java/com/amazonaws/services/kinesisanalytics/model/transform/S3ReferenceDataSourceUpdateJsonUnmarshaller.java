@@ -47,17 +47,18 @@ public class S3ReferenceDataSourceUpdateJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BucketARNUpdate", targetDepth)) {
-                    context.nextToken();
-                    s3ReferenceDataSourceUpdate.setBucketARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FileKeyUpdate", targetDepth)) {
-                    context.nextToken();
-                    s3ReferenceDataSourceUpdate.setFileKeyUpdate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReferenceRoleARNUpdate", targetDepth)) {
-                    context.nextToken();
-                    s3ReferenceDataSourceUpdate.setReferenceRoleARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BucketARNUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        s3ReferenceDataSourceUpdate.setBucketARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FileKeyUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        s3ReferenceDataSourceUpdate.setFileKeyUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReferenceRoleARNUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        s3ReferenceDataSourceUpdate.setReferenceRoleARNUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class SourceSchemaJsonUnmarshaller implements Unmarshaller<SourceSchema,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordFormat", targetDepth)) {
-                    context.nextToken();
-                    sourceSchema.setRecordFormat(RecordFormatJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RecordEncoding", targetDepth)) {
-                    context.nextToken();
-                    sourceSchema.setRecordEncoding(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RecordColumns", targetDepth)) {
-                    context.nextToken();
-                    sourceSchema.setRecordColumns(new ListUnmarshaller<RecordColumn>(RecordColumnJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordFormat".equals(fieldName)) {
+                        context.nextToken();
+                        sourceSchema.setRecordFormat(RecordFormatJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RecordEncoding".equals(fieldName)) {
+                        context.nextToken();
+                        sourceSchema.setRecordEncoding(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RecordColumns".equals(fieldName)) {
+                        context.nextToken();
+                        sourceSchema.setRecordColumns(recordColumnsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class SourceSchemaJsonUnmarshaller implements Unmarshaller<SourceSchema,
         return sourceSchema;
     }
 
+    private final Unmarshaller<java.util.List<RecordColumn>, JsonUnmarshallerContext> recordColumnsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RecordColumn>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RecordColumn>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RecordColumn>(RecordColumnJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static SourceSchemaJsonUnmarshaller instance;
 
     public static SourceSchemaJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class BufferingHintsJsonUnmarshaller implements Unmarshaller<BufferingHin
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SizeInMBs", targetDepth)) {
-                    context.nextToken();
-                    bufferingHints.setSizeInMBs(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IntervalInSeconds", targetDepth)) {
-                    context.nextToken();
-                    bufferingHints.setIntervalInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SizeInMBs".equals(fieldName)) {
+                        context.nextToken();
+                        bufferingHints.setSizeInMBs(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("IntervalInSeconds".equals(fieldName)) {
+                        context.nextToken();
+                        bufferingHints.setIntervalInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class CloudWatchLoggingOptionsJsonUnmarshaller implements Unmarshaller<Cl
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Enabled", targetDepth)) {
-                    context.nextToken();
-                    cloudWatchLoggingOptions.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("LogGroupName", targetDepth)) {
-                    context.nextToken();
-                    cloudWatchLoggingOptions.setLogGroupName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogStreamName", targetDepth)) {
-                    context.nextToken();
-                    cloudWatchLoggingOptions.setLogStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Enabled".equals(fieldName)) {
+                        context.nextToken();
+                        cloudWatchLoggingOptions.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("LogGroupName".equals(fieldName)) {
+                        context.nextToken();
+                        cloudWatchLoggingOptions.setLogGroupName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LogStreamName".equals(fieldName)) {
+                        context.nextToken();
+                        cloudWatchLoggingOptions.setLogStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class CopyCommandJsonUnmarshaller implements Unmarshaller<CopyCommand, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DataTableName", targetDepth)) {
-                    context.nextToken();
-                    copyCommand.setDataTableName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataTableColumns", targetDepth)) {
-                    context.nextToken();
-                    copyCommand.setDataTableColumns(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CopyOptions", targetDepth)) {
-                    context.nextToken();
-                    copyCommand.setCopyOptions(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DataTableName".equals(fieldName)) {
+                        context.nextToken();
+                        copyCommand.setDataTableName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataTableColumns".equals(fieldName)) {
+                        context.nextToken();
+                        copyCommand.setDataTableColumns(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CopyOptions".equals(fieldName)) {
+                        context.nextToken();
+                        copyCommand.setCopyOptions(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
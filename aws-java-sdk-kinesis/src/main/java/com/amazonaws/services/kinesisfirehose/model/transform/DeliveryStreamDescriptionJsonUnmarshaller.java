@@ -47,39 +47,33 @@ public class DeliveryStreamDescriptionJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryStreamName", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setDeliveryStreamName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeliveryStreamARN", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setDeliveryStreamARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeliveryStreamStatus", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setDeliveryStreamStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VersionId", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setVersionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreateTimestamp", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setCreateTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdateTimestamp", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setLastUpdateTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Destinations", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription
-                            .setDestinations(new ListUnmarshaller<DestinationDescription>(DestinationDescriptionJsonUnmarshaller.getInstance())
-                                    .unmarshall(context));
-                }
-                if (context.testExpression("HasMoreDestinations", targetDepth)) {
-                    context.nextToken();
-                    deliveryStreamDescription.setHasMoreDestinations(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeliveryStreamName".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryStreamDescription.setDeliveryStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeliveryStreamARN".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryStreamDescription.setDeliveryStreamARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeliveryStreamStatus".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryStreamDescription.setDeliveryStreamStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VersionId".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryStreamDescription.setVersionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreateTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryStreamDescription.setCreateTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdateTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryStreamDescription.setLastUpdateTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Destinations".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryStreamDescription.setDestinations(destinationsUnmarshaller.unmarshall(context));
+                    } else if ("HasMoreDestinations".equals(fieldName)) {
+                        context.nextToken();
+                        deliveryStreamDescription.setHasMoreDestinations(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -93,6 +87,13 @@ public class DeliveryStreamDescriptionJsonUnmarshaller implements Unmarshaller<D
         return deliveryStreamDescription;
     }
 
+    private final Unmarshaller<java.util.List<DestinationDescription>, JsonUnmarshallerContext> destinationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DestinationDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DestinationDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DestinationDescription>(DestinationDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DeliveryStreamDescriptionJsonUnmarshaller instance;
 
     public static DeliveryStreamDescriptionJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DescribeDeliveryStreamResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryStreamDescription", targetDepth)) {
-                    context.nextToken();
-                    describeDeliveryStreamResult.setDeliveryStreamDescription(DeliveryStreamDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeliveryStreamDescription".equals(fieldName)) {
+                        context.nextToken();
+                        describeDeliveryStreamResult.setDeliveryStreamDescription(DeliveryStreamDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
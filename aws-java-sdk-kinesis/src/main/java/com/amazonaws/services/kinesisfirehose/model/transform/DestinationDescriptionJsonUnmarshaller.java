@@ -47,22 +47,23 @@ public class DestinationDescriptionJsonUnmarshaller implements Unmarshaller<Dest
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DestinationId", targetDepth)) {
-                    context.nextToken();
-                    destinationDescription.setDestinationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3DestinationDescription", targetDepth)) {
-                    context.nextToken();
-                    destinationDescription.setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RedshiftDestinationDescription", targetDepth)) {
-                    context.nextToken();
-                    destinationDescription.setRedshiftDestinationDescription(RedshiftDestinationDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ElasticsearchDestinationDescription", targetDepth)) {
-                    context.nextToken();
-                    destinationDescription.setElasticsearchDestinationDescription(ElasticsearchDestinationDescriptionJsonUnmarshaller.getInstance().unmarshall(
-                            context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DestinationId".equals(fieldName)) {
+                        context.nextToken();
+                        destinationDescription.setDestinationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3DestinationDescription".equals(fieldName)) {
+                        context.nextToken();
+                        destinationDescription.setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RedshiftDestinationDescription".equals(fieldName)) {
+                        context.nextToken();
+                        destinationDescription.setRedshiftDestinationDescription(RedshiftDestinationDescriptionJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("ElasticsearchDestinationDescription".equals(fieldName)) {
+                        context.nextToken();
+                        destinationDescription.setElasticsearchDestinationDescription(ElasticsearchDestinationDescriptionJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
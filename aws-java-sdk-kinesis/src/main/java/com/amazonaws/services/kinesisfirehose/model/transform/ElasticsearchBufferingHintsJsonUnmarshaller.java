@@ -47,13 +47,15 @@ public class ElasticsearchBufferingHintsJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IntervalInSeconds", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchBufferingHints.setIntervalInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInMBs", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchBufferingHints.setSizeInMBs(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IntervalInSeconds".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchBufferingHints.setIntervalInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("SizeInMBs".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchBufferingHints.setSizeInMBs(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,46 +47,40 @@ public class ElasticsearchDestinationConfigurationJsonUnmarshaller implements Un
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setDomainARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TypeName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setTypeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexRotationPeriod", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setIndexRotationPeriod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BufferingHints", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3BackupMode", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setS3BackupMode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3Configuration", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setS3Configuration(S3DestinationConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationConfiguration.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationConfiguration.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DomainARN".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationConfiguration.setDomainARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IndexName".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationConfiguration.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TypeName".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationConfiguration.setTypeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IndexRotationPeriod".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationConfiguration.setIndexRotationPeriod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BufferingHints".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationConfiguration.setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RetryOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationConfiguration.setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("S3BackupMode".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationConfiguration.setS3BackupMode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3Configuration".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationConfiguration.setS3Configuration(S3DestinationConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CloudWatchLoggingOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationConfiguration.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,45 +47,41 @@ public class ElasticsearchDestinationDescriptionJsonUnmarshaller implements Unma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setDomainARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TypeName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setTypeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexRotationPeriod", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setIndexRotationPeriod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BufferingHints", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3BackupMode", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setS3BackupMode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3DestinationDescription", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationDescription.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationDescription.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DomainARN".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationDescription.setDomainARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IndexName".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationDescription.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TypeName".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationDescription.setTypeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IndexRotationPeriod".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationDescription.setIndexRotationPeriod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BufferingHints".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationDescription.setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RetryOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationDescription.setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("S3BackupMode".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationDescription.setS3BackupMode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3DestinationDescription".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationDescription.setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("CloudWatchLoggingOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationDescription.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
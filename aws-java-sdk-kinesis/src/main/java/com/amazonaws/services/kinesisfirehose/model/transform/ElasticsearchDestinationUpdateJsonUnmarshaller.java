@@ -47,41 +47,36 @@ public class ElasticsearchDestinationUpdateJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainARN", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setDomainARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TypeName", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setTypeName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IndexRotationPeriod", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setIndexRotationPeriod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BufferingHints", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3Update", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setS3Update(S3DestinationUpdateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchDestinationUpdate.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationUpdate.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DomainARN".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationUpdate.setDomainARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IndexName".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationUpdate.setIndexName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TypeName".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationUpdate.setTypeName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IndexRotationPeriod".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationUpdate.setIndexRotationPeriod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BufferingHints".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationUpdate.setBufferingHints(ElasticsearchBufferingHintsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RetryOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationUpdate.setRetryOptions(ElasticsearchRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("S3Update".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationUpdate.setS3Update(S3DestinationUpdateJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CloudWatchLoggingOptions".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchDestinationUpdate.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class ElasticsearchRetryOptionsJsonUnmarshaller implements Unmarshaller<E
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DurationInSeconds", targetDepth)) {
-                    context.nextToken();
-                    elasticsearchRetryOptions.setDurationInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DurationInSeconds".equals(fieldName)) {
+                        context.nextToken();
+                        elasticsearchRetryOptions.setDurationInSeconds(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
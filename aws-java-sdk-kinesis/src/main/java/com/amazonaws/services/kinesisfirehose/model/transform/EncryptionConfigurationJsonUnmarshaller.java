@@ -47,13 +47,15 @@ public class EncryptionConfigurationJsonUnmarshaller implements Unmarshaller<Enc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NoEncryptionConfig", targetDepth)) {
-                    context.nextToken();
-                    encryptionConfiguration.setNoEncryptionConfig(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KMSEncryptionConfig", targetDepth)) {
-                    context.nextToken();
-                    encryptionConfiguration.setKMSEncryptionConfig(KMSEncryptionConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NoEncryptionConfig".equals(fieldName)) {
+                        context.nextToken();
+                        encryptionConfiguration.setNoEncryptionConfig(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KMSEncryptionConfig".equals(fieldName)) {
+                        context.nextToken();
+                        encryptionConfiguration.setKMSEncryptionConfig(KMSEncryptionConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
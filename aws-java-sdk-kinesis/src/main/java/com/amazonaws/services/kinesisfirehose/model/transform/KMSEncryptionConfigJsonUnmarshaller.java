@@ -47,9 +47,12 @@ public class KMSEncryptionConfigJsonUnmarshaller implements Unmarshaller<KMSEncr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AWSKMSKeyARN", targetDepth)) {
-                    context.nextToken();
-                    kMSEncryptionConfig.setAWSKMSKeyARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AWSKMSKeyARN".equals(fieldName)) {
+                        context.nextToken();
+                        kMSEncryptionConfig.setAWSKMSKeyARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
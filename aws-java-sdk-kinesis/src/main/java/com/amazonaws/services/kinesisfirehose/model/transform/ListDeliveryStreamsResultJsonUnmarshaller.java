@@ -47,13 +47,15 @@ public class ListDeliveryStreamsResultJsonUnmarshaller implements Unmarshaller<L
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeliveryStreamNames", targetDepth)) {
-                    context.nextToken();
-                    listDeliveryStreamsResult.setDeliveryStreamNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("HasMoreDeliveryStreams", targetDepth)) {
-                    context.nextToken();
-                    listDeliveryStreamsResult.setHasMoreDeliveryStreams(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeliveryStreamNames".equals(fieldName)) {
+                        context.nextToken();
+                        listDeliveryStreamsResult.setDeliveryStreamNames(deliveryStreamNamesUnmarshaller.unmarshall(context));
+                    } else if ("HasMoreDeliveryStreams".equals(fieldName)) {
+                        context.nextToken();
+                        listDeliveryStreamsResult.setHasMoreDeliveryStreams(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListDeliveryStreamsResultJsonUnmarshaller implements Unmarshaller<L
         return listDeliveryStreamsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> deliveryStreamNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListDeliveryStreamsResultJsonUnmarshaller instance;
 
     public static ListDeliveryStreamsResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class PutRecordBatchResponseEntryJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordId", targetDepth)) {
-                    context.nextToken();
-                    putRecordBatchResponseEntry.setRecordId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    putRecordBatchResponseEntry.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    putRecordBatchResponseEntry.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordId".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordBatchResponseEntry.setRecordId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordBatchResponseEntry.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordBatchResponseEntry.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
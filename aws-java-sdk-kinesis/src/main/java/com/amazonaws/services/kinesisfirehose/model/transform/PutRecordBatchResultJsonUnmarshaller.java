@@ -47,14 +47,15 @@ public class PutRecordBatchResultJsonUnmarshaller implements Unmarshaller<PutRec
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedPutCount", targetDepth)) {
-                    context.nextToken();
-                    putRecordBatchResult.setFailedPutCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RequestResponses", targetDepth)) {
-                    context.nextToken();
-                    putRecordBatchResult.setRequestResponses(new ListUnmarshaller<PutRecordBatchResponseEntry>(PutRecordBatchResponseEntryJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FailedPutCount".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordBatchResult.setFailedPutCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("RequestResponses".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordBatchResult.setRequestResponses(requestResponsesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class PutRecordBatchResultJsonUnmarshaller implements Unmarshaller<PutRec
         return putRecordBatchResult;
     }
 
+    private final Unmarshaller<java.util.List<PutRecordBatchResponseEntry>, JsonUnmarshallerContext> requestResponsesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<PutRecordBatchResponseEntry>>() {
+        @Override
+        protected Unmarshaller<java.util.List<PutRecordBatchResponseEntry>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<PutRecordBatchResponseEntry>(PutRecordBatchResponseEntryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static PutRecordBatchResultJsonUnmarshaller instance;
 
     public static PutRecordBatchResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class PutRecordResultJsonUnmarshaller implements Unmarshaller<PutRecordRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordId", targetDepth)) {
-                    context.nextToken();
-                    putRecordResult.setRecordId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordId".equals(fieldName)) {
+                        context.nextToken();
+                        putRecordResult.setRecordId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class RecordJsonUnmarshaller implements Unmarshaller<Record, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Data", targetDepth)) {
-                    context.nextToken();
-                    record.setData(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Data".equals(fieldName)) {
+                        context.nextToken();
+                        record.setData(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,37 +47,34 @@ public class RedshiftDestinationConfigurationJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClusterJDBCURL", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setClusterJDBCURL(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CopyCommand", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setCopyCommand(CopyCommandJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Password", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setRetryOptions(RedshiftRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3Configuration", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setS3Configuration(S3DestinationConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationConfiguration.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationConfiguration.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ClusterJDBCURL".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationConfiguration.setClusterJDBCURL(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CopyCommand".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationConfiguration.setCopyCommand(CopyCommandJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationConfiguration.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Password".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationConfiguration.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RetryOptions".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationConfiguration.setRetryOptions(RedshiftRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("S3Configuration".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationConfiguration.setS3Configuration(S3DestinationConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CloudWatchLoggingOptions".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationConfiguration
+                                .setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class RedshiftDestinationDescriptionJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClusterJDBCURL", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription.setClusterJDBCURL(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CopyCommand", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription.setCopyCommand(CopyCommandJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription.setRetryOptions(RedshiftRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3DestinationDescription", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription.setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationDescription.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationDescription.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ClusterJDBCURL".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationDescription.setClusterJDBCURL(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CopyCommand".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationDescription.setCopyCommand(CopyCommandJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationDescription.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RetryOptions".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationDescription.setRetryOptions(RedshiftRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("S3DestinationDescription".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationDescription.setS3DestinationDescription(S3DestinationDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CloudWatchLoggingOptions".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationDescription.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,37 +47,33 @@ public class RedshiftDestinationUpdateJsonUnmarshaller implements Unmarshaller<R
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationUpdate.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClusterJDBCURL", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationUpdate.setClusterJDBCURL(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CopyCommand", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationUpdate.setCopyCommand(CopyCommandJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationUpdate.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Password", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationUpdate.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetryOptions", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationUpdate.setRetryOptions(RedshiftRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3Update", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationUpdate.setS3Update(S3DestinationUpdateJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions", targetDepth)) {
-                    context.nextToken();
-                    redshiftDestinationUpdate.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationUpdate.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ClusterJDBCURL".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationUpdate.setClusterJDBCURL(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CopyCommand".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationUpdate.setCopyCommand(CopyCommandJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationUpdate.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Password".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationUpdate.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RetryOptions".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationUpdate.setRetryOptions(RedshiftRetryOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("S3Update".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationUpdate.setS3Update(S3DestinationUpdateJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CloudWatchLoggingOptions".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDestinationUpdate.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
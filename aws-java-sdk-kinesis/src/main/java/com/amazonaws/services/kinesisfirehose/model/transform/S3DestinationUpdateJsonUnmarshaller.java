@@ -47,33 +47,30 @@ public class S3DestinationUpdateJsonUnmarshaller implements Unmarshaller<S3Desti
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationUpdate.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BucketARN", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationUpdate.setBucketARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Prefix", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationUpdate.setPrefix(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BufferingHints", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationUpdate.setBufferingHints(BufferingHintsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CompressionFormat", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationUpdate.setCompressionFormat(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EncryptionConfiguration", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationUpdate.setEncryptionConfiguration(EncryptionConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CloudWatchLoggingOptions", targetDepth)) {
-                    context.nextToken();
-                    s3DestinationUpdate.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        s3DestinationUpdate.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BucketARN".equals(fieldName)) {
+                        context.nextToken();
+                        s3DestinationUpdate.setBucketARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Prefix".equals(fieldName)) {
+                        context.nextToken();
+                        s3DestinationUpdate.setPrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BufferingHints".equals(fieldName)) {
+                        context.nextToken();
+                        s3DestinationUpdate.setBufferingHints(BufferingHintsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CompressionFormat".equals(fieldName)) {
+                        context.nextToken();
+                        s3DestinationUpdate.setCompressionFormat(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EncryptionConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        s3DestinationUpdate.setEncryptionConfiguration(EncryptionConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CloudWatchLoggingOptions".equals(fieldName)) {
+                        context.nextToken();
+                        s3DestinationUpdate.setCloudWatchLoggingOptions(CloudWatchLoggingOptionsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
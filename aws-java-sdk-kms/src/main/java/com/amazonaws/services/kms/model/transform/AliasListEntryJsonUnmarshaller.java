@@ -47,17 +47,18 @@ public class AliasListEntryJsonUnmarshaller implements Unmarshaller<AliasListEnt
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AliasName", targetDepth)) {
-                    context.nextToken();
-                    aliasListEntry.setAliasName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AliasArn", targetDepth)) {
-                    context.nextToken();
-                    aliasListEntry.setAliasArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TargetKeyId", targetDepth)) {
-                    context.nextToken();
-                    aliasListEntry.setTargetKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AliasName".equals(fieldName)) {
+                        context.nextToken();
+                        aliasListEntry.setAliasName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AliasArn".equals(fieldName)) {
+                        context.nextToken();
+                        aliasListEntry.setAliasArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TargetKeyId".equals(fieldName)) {
+                        context.nextToken();
+                        aliasListEntry.setTargetKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
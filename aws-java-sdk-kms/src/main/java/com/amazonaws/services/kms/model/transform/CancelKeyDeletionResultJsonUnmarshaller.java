@@ -47,9 +47,12 @@ public class CancelKeyDeletionResultJsonUnmarshaller implements Unmarshaller<Can
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    cancelKeyDeletionResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        cancelKeyDeletionResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class CreateGrantResultJsonUnmarshaller implements Unmarshaller<CreateGra
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GrantToken", targetDepth)) {
-                    context.nextToken();
-                    createGrantResult.setGrantToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GrantId", targetDepth)) {
-                    context.nextToken();
-                    createGrantResult.setGrantId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GrantToken".equals(fieldName)) {
+                        context.nextToken();
+                        createGrantResult.setGrantToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GrantId".equals(fieldName)) {
+                        context.nextToken();
+                        createGrantResult.setGrantId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
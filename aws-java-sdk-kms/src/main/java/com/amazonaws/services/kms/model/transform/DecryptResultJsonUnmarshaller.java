@@ -47,13 +47,15 @@ public class DecryptResultJsonUnmarshaller implements Unmarshaller<DecryptResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    decryptResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Plaintext", targetDepth)) {
-                    context.nextToken();
-                    decryptResult.setPlaintext(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        decryptResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Plaintext".equals(fieldName)) {
+                        context.nextToken();
+                        decryptResult.setPlaintext(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class EncryptResultJsonUnmarshaller implements Unmarshaller<EncryptResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CiphertextBlob", targetDepth)) {
-                    context.nextToken();
-                    encryptResult.setCiphertextBlob(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    encryptResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CiphertextBlob".equals(fieldName)) {
+                        context.nextToken();
+                        encryptResult.setCiphertextBlob(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        encryptResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
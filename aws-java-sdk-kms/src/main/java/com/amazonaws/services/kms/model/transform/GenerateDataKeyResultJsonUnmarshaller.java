@@ -47,17 +47,18 @@ public class GenerateDataKeyResultJsonUnmarshaller implements Unmarshaller<Gener
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CiphertextBlob", targetDepth)) {
-                    context.nextToken();
-                    generateDataKeyResult.setCiphertextBlob(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("Plaintext", targetDepth)) {
-                    context.nextToken();
-                    generateDataKeyResult.setPlaintext(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    generateDataKeyResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CiphertextBlob".equals(fieldName)) {
+                        context.nextToken();
+                        generateDataKeyResult.setCiphertextBlob(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("Plaintext".equals(fieldName)) {
+                        context.nextToken();
+                        generateDataKeyResult.setPlaintext(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        generateDataKeyResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
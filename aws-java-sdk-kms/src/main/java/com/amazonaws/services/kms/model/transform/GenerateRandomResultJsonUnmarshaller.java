@@ -47,9 +47,12 @@ public class GenerateRandomResultJsonUnmarshaller implements Unmarshaller<Genera
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Plaintext", targetDepth)) {
-                    context.nextToken();
-                    generateRandomResult.setPlaintext(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Plaintext".equals(fieldName)) {
+                        context.nextToken();
+                        generateRandomResult.setPlaintext(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class GetParametersForImportResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    getParametersForImportResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ImportToken", targetDepth)) {
-                    context.nextToken();
-                    getParametersForImportResult.setImportToken(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("PublicKey", targetDepth)) {
-                    context.nextToken();
-                    getParametersForImportResult.setPublicKey(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("ParametersValidTo", targetDepth)) {
-                    context.nextToken();
-                    getParametersForImportResult.setParametersValidTo(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        getParametersForImportResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ImportToken".equals(fieldName)) {
+                        context.nextToken();
+                        getParametersForImportResult.setImportToken(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("PublicKey".equals(fieldName)) {
+                        context.nextToken();
+                        getParametersForImportResult.setPublicKey(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("ParametersValidTo".equals(fieldName)) {
+                        context.nextToken();
+                        getParametersForImportResult.setParametersValidTo(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,15 +47,15 @@ public class GrantConstraintsJsonUnmarshaller implements Unmarshaller<GrantConst
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EncryptionContextSubset", targetDepth)) {
-                    context.nextToken();
-                    grantConstraints.setEncryptionContextSubset(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("EncryptionContextEquals", targetDepth)) {
-                    context.nextToken();
-                    grantConstraints.setEncryptionContextEquals(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EncryptionContextSubset".equals(fieldName)) {
+                        context.nextToken();
+                        grantConstraints.setEncryptionContextSubset(encryptionContextSubsetUnmarshaller.unmarshall(context));
+                    } else if ("EncryptionContextEquals".equals(fieldName)) {
+                        context.nextToken();
+                        grantConstraints.setEncryptionContextEquals(encryptionContextEqualsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +69,19 @@ public class GrantConstraintsJsonUnmarshaller implements Unmarshaller<GrantConst
         return grantConstraints;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> encryptionContextSubsetUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> encryptionContextEqualsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GrantConstraintsJsonUnmarshaller instance;
 
     public static GrantConstraintsJsonUnmarshaller getInstance() {
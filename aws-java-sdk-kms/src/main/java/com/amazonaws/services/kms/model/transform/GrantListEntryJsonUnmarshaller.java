@@ -47,41 +47,36 @@ public class GrantListEntryJsonUnmarshaller implements Unmarshaller<GrantListEnt
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GrantId", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setGrantId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("GranteePrincipal", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setGranteePrincipal(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RetiringPrincipal", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setRetiringPrincipal(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IssuingAccount", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setIssuingAccount(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Operations", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setOperations(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Constraints", targetDepth)) {
-                    context.nextToken();
-                    grantListEntry.setConstraints(GrantConstraintsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        grantListEntry.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GrantId".equals(fieldName)) {
+                        context.nextToken();
+                        grantListEntry.setGrantId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        grantListEntry.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        grantListEntry.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("GranteePrincipal".equals(fieldName)) {
+                        context.nextToken();
+                        grantListEntry.setGranteePrincipal(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RetiringPrincipal".equals(fieldName)) {
+                        context.nextToken();
+                        grantListEntry.setRetiringPrincipal(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IssuingAccount".equals(fieldName)) {
+                        context.nextToken();
+                        grantListEntry.setIssuingAccount(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Operations".equals(fieldName)) {
+                        context.nextToken();
+                        grantListEntry.setOperations(operationsUnmarshaller.unmarshall(context));
+                    } else if ("Constraints".equals(fieldName)) {
+                        context.nextToken();
+                        grantListEntry.setConstraints(GrantConstraintsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -95,6 +90,13 @@ public class GrantListEntryJsonUnmarshaller implements Unmarshaller<GrantListEnt
         return grantListEntry;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> operationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GrantListEntryJsonUnmarshaller instance;
 
     public static GrantListEntryJsonUnmarshaller getInstance() {
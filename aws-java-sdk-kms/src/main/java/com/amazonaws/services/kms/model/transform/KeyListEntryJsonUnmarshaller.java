@@ -47,13 +47,15 @@ public class KeyListEntryJsonUnmarshaller implements Unmarshaller<KeyListEntry,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    keyListEntry.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyArn", targetDepth)) {
-                    context.nextToken();
-                    keyListEntry.setKeyArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        keyListEntry.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyArn".equals(fieldName)) {
+                        context.nextToken();
+                        keyListEntry.setKeyArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
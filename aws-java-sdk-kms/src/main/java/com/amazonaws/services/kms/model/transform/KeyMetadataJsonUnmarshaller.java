@@ -47,53 +47,45 @@ public class KeyMetadataJsonUnmarshaller implements Unmarshaller<KeyMetadata, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AWSAccountId", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setAWSAccountId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Enabled", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyUsage", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setKeyUsage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyState", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setKeyState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeletionDate", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setDeletionDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidTo", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setValidTo(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Origin", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setOrigin(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExpirationModel", targetDepth)) {
-                    context.nextToken();
-                    keyMetadata.setExpirationModel(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AWSAccountId".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setAWSAccountId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Enabled".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyUsage".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setKeyUsage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyState".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setKeyState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeletionDate".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setDeletionDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ValidTo".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setValidTo(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Origin".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setOrigin(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ExpirationModel".equals(fieldName)) {
+                        context.nextToken();
+                        keyMetadata.setExpirationModel(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
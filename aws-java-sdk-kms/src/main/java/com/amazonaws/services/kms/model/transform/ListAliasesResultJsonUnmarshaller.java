@@ -47,17 +47,18 @@ public class ListAliasesResultJsonUnmarshaller implements Unmarshaller<ListAlias
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Aliases", targetDepth)) {
-                    context.nextToken();
-                    listAliasesResult.setAliases(new ListUnmarshaller<AliasListEntry>(AliasListEntryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listAliasesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Truncated", targetDepth)) {
-                    context.nextToken();
-                    listAliasesResult.setTruncated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Aliases".equals(fieldName)) {
+                        context.nextToken();
+                        listAliasesResult.setAliases(aliasesUnmarshaller.unmarshall(context));
+                    } else if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listAliasesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Truncated".equals(fieldName)) {
+                        context.nextToken();
+                        listAliasesResult.setTruncated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ListAliasesResultJsonUnmarshaller implements Unmarshaller<ListAlias
         return listAliasesResult;
     }
 
+    private final Unmarshaller<java.util.List<AliasListEntry>, JsonUnmarshallerContext> aliasesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AliasListEntry>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AliasListEntry>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AliasListEntry>(AliasListEntryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListAliasesResultJsonUnmarshaller instance;
 
     public static ListAliasesResultJsonUnmarshaller getInstance() {
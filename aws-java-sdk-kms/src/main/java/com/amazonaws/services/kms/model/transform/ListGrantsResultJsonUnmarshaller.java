@@ -47,17 +47,18 @@ public class ListGrantsResultJsonUnmarshaller implements Unmarshaller<ListGrants
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Grants", targetDepth)) {
-                    context.nextToken();
-                    listGrantsResult.setGrants(new ListUnmarshaller<GrantListEntry>(GrantListEntryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listGrantsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Truncated", targetDepth)) {
-                    context.nextToken();
-                    listGrantsResult.setTruncated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Grants".equals(fieldName)) {
+                        context.nextToken();
+                        listGrantsResult.setGrants(grantsUnmarshaller.unmarshall(context));
+                    } else if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listGrantsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Truncated".equals(fieldName)) {
+                        context.nextToken();
+                        listGrantsResult.setTruncated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ListGrantsResultJsonUnmarshaller implements Unmarshaller<ListGrants
         return listGrantsResult;
     }
 
+    private final Unmarshaller<java.util.List<GrantListEntry>, JsonUnmarshallerContext> grantsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<GrantListEntry>>() {
+        @Override
+        protected Unmarshaller<java.util.List<GrantListEntry>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<GrantListEntry>(GrantListEntryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListGrantsResultJsonUnmarshaller instance;
 
     public static ListGrantsResultJsonUnmarshaller getInstance() {
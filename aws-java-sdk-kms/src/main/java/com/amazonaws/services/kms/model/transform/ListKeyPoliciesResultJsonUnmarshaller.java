@@ -47,17 +47,18 @@ public class ListKeyPoliciesResultJsonUnmarshaller implements Unmarshaller<ListK
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PolicyNames", targetDepth)) {
-                    context.nextToken();
-                    listKeyPoliciesResult.setPolicyNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listKeyPoliciesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Truncated", targetDepth)) {
-                    context.nextToken();
-                    listKeyPoliciesResult.setTruncated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PolicyNames".equals(fieldName)) {
+                        context.nextToken();
+                        listKeyPoliciesResult.setPolicyNames(policyNamesUnmarshaller.unmarshall(context));
+                    } else if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listKeyPoliciesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Truncated".equals(fieldName)) {
+                        context.nextToken();
+                        listKeyPoliciesResult.setTruncated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ListKeyPoliciesResultJsonUnmarshaller implements Unmarshaller<ListK
         return listKeyPoliciesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> policyNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListKeyPoliciesResultJsonUnmarshaller instance;
 
     public static ListKeyPoliciesResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class ListKeysResultJsonUnmarshaller implements Unmarshaller<ListKeysResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Keys", targetDepth)) {
-                    context.nextToken();
-                    listKeysResult.setKeys(new ListUnmarshaller<KeyListEntry>(KeyListEntryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listKeysResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Truncated", targetDepth)) {
-                    context.nextToken();
-                    listKeysResult.setTruncated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Keys".equals(fieldName)) {
+                        context.nextToken();
+                        listKeysResult.setKeys(keysUnmarshaller.unmarshall(context));
+                    } else if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listKeysResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Truncated".equals(fieldName)) {
+                        context.nextToken();
+                        listKeysResult.setTruncated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ListKeysResultJsonUnmarshaller implements Unmarshaller<ListKeysResu
         return listKeysResult;
     }
 
+    private final Unmarshaller<java.util.List<KeyListEntry>, JsonUnmarshallerContext> keysUnmarshaller = new CachingJsonUnmarshaller<java.util.List<KeyListEntry>>() {
+        @Override
+        protected Unmarshaller<java.util.List<KeyListEntry>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<KeyListEntry>(KeyListEntryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListKeysResultJsonUnmarshaller instance;
 
     public static ListKeysResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class ReEncryptResultJsonUnmarshaller implements Unmarshaller<ReEncryptRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CiphertextBlob", targetDepth)) {
-                    context.nextToken();
-                    reEncryptResult.setCiphertextBlob(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceKeyId", targetDepth)) {
-                    context.nextToken();
-                    reEncryptResult.setSourceKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    reEncryptResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CiphertextBlob".equals(fieldName)) {
+                        context.nextToken();
+                        reEncryptResult.setCiphertextBlob(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("SourceKeyId".equals(fieldName)) {
+                        context.nextToken();
+                        reEncryptResult.setSourceKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        reEncryptResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ScheduleKeyDeletionResultJsonUnmarshaller implements Unmarshaller<S
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("KeyId", targetDepth)) {
-                    context.nextToken();
-                    scheduleKeyDeletionResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeletionDate", targetDepth)) {
-                    context.nextToken();
-                    scheduleKeyDeletionResult.setDeletionDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("KeyId".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleKeyDeletionResult.setKeyId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeletionDate".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleKeyDeletionResult.setDeletionDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
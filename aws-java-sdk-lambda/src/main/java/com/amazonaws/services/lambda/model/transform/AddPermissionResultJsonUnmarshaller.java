@@ -47,9 +47,12 @@ public class AddPermissionResultJsonUnmarshaller implements Unmarshaller<AddPerm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Statement", targetDepth)) {
-                    context.nextToken();
-                    addPermissionResult.setStatement(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Statement".equals(fieldName)) {
+                        context.nextToken();
+                        addPermissionResult.setStatement(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class AliasConfigurationJsonUnmarshaller implements Unmarshaller<AliasCon
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AliasArn", targetDepth)) {
-                    context.nextToken();
-                    aliasConfiguration.setAliasArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    aliasConfiguration.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FunctionVersion", targetDepth)) {
-                    context.nextToken();
-                    aliasConfiguration.setFunctionVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    aliasConfiguration.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AliasArn".equals(fieldName)) {
+                        context.nextToken();
+                        aliasConfiguration.setAliasArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        aliasConfiguration.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FunctionVersion".equals(fieldName)) {
+                        context.nextToken();
+                        aliasConfiguration.setFunctionVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        aliasConfiguration.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
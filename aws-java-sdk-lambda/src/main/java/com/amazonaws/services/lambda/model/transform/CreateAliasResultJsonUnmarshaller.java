@@ -47,21 +47,21 @@ public class CreateAliasResultJsonUnmarshaller implements Unmarshaller<CreateAli
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AliasArn", targetDepth)) {
-                    context.nextToken();
-                    createAliasResult.setAliasArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    createAliasResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FunctionVersion", targetDepth)) {
-                    context.nextToken();
-                    createAliasResult.setFunctionVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    createAliasResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AliasArn".equals(fieldName)) {
+                        context.nextToken();
+                        createAliasResult.setAliasArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        createAliasResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FunctionVersion".equals(fieldName)) {
+                        context.nextToken();
+                        createAliasResult.setFunctionVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        createAliasResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
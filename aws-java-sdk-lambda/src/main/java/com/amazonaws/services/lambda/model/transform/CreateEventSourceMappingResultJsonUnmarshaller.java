@@ -47,37 +47,33 @@ public class CreateEventSourceMappingResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UUID", targetDepth)) {
-                    context.nextToken();
-                    createEventSourceMappingResult.setUUID(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BatchSize", targetDepth)) {
-                    context.nextToken();
-                    createEventSourceMappingResult.setBatchSize(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("EventSourceArn", targetDepth)) {
-                    context.nextToken();
-                    createEventSourceMappingResult.setEventSourceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FunctionArn", targetDepth)) {
-                    context.nextToken();
-                    createEventSourceMappingResult.setFunctionArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModified", targetDepth)) {
-                    context.nextToken();
-                    createEventSourceMappingResult.setLastModified(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastProcessingResult", targetDepth)) {
-                    context.nextToken();
-                    createEventSourceMappingResult.setLastProcessingResult(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    createEventSourceMappingResult.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StateTransitionReason", targetDepth)) {
-                    context.nextToken();
-                    createEventSourceMappingResult.setStateTransitionReason(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UUID".equals(fieldName)) {
+                        context.nextToken();
+                        createEventSourceMappingResult.setUUID(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BatchSize".equals(fieldName)) {
+                        context.nextToken();
+                        createEventSourceMappingResult.setBatchSize(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("EventSourceArn".equals(fieldName)) {
+                        context.nextToken();
+                        createEventSourceMappingResult.setEventSourceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FunctionArn".equals(fieldName)) {
+                        context.nextToken();
+                        createEventSourceMappingResult.setFunctionArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastModified".equals(fieldName)) {
+                        context.nextToken();
+                        createEventSourceMappingResult.setLastModified(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastProcessingResult".equals(fieldName)) {
+                        context.nextToken();
+                        createEventSourceMappingResult.setLastProcessingResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        createEventSourceMappingResult.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StateTransitionReason".equals(fieldName)) {
+                        context.nextToken();
+                        createEventSourceMappingResult.setStateTransitionReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
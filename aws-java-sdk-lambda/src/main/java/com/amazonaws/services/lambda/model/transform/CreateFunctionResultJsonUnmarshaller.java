@@ -47,57 +47,48 @@ public class CreateFunctionResultJsonUnmarshaller implements Unmarshaller<Create
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FunctionName", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setFunctionName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FunctionArn", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setFunctionArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Runtime", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setRuntime(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Role", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Handler", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setHandler(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeSize", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setCodeSize(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Timeout", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MemorySize", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setMemorySize(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModified", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setLastModified(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeSha256", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setCodeSha256(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Version", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcConfig", targetDepth)) {
-                    context.nextToken();
-                    createFunctionResult.setVpcConfig(VpcConfigResponseJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FunctionName".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setFunctionName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FunctionArn".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setFunctionArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Runtime".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setRuntime(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Role".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Handler".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setHandler(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CodeSize".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setCodeSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Timeout".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MemorySize".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setMemorySize(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("LastModified".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setLastModified(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CodeSha256".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setCodeSha256(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Version".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VpcConfig".equals(fieldName)) {
+                        context.nextToken();
+                        createFunctionResult.setVpcConfig(VpcConfigResponseJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
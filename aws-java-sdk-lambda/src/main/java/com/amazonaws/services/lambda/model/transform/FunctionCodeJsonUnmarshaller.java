@@ -47,21 +47,21 @@ public class FunctionCodeJsonUnmarshaller implements Unmarshaller<FunctionCode,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ZipFile", targetDepth)) {
-                    context.nextToken();
-                    functionCode.setZipFile(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("S3Bucket", targetDepth)) {
-                    context.nextToken();
-                    functionCode.setS3Bucket(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3Key", targetDepth)) {
-                    context.nextToken();
-                    functionCode.setS3Key(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("S3ObjectVersion", targetDepth)) {
-                    context.nextToken();
-                    functionCode.setS3ObjectVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ZipFile".equals(fieldName)) {
+                        context.nextToken();
+                        functionCode.setZipFile(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("S3Bucket".equals(fieldName)) {
+                        context.nextToken();
+                        functionCode.setS3Bucket(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3Key".equals(fieldName)) {
+                        context.nextToken();
+                        functionCode.setS3Key(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("S3ObjectVersion".equals(fieldName)) {
+                        context.nextToken();
+                        functionCode.setS3ObjectVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
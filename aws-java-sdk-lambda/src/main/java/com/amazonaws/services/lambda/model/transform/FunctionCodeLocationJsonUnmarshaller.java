@@ -47,13 +47,15 @@ public class FunctionCodeLocationJsonUnmarshaller implements Unmarshaller<Functi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RepositoryType", targetDepth)) {
-                    context.nextToken();
-                    functionCodeLocation.setRepositoryType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Location", targetDepth)) {
-                    context.nextToken();
-                    functionCodeLocation.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RepositoryType".equals(fieldName)) {
+                        context.nextToken();
+                        functionCodeLocation.setRepositoryType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Location".equals(fieldName)) {
+                        context.nextToken();
+                        functionCodeLocation.setLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
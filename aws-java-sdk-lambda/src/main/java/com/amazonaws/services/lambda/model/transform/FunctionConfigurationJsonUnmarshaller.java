@@ -47,57 +47,48 @@ public class FunctionConfigurationJsonUnmarshaller implements Unmarshaller<Funct
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FunctionName", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setFunctionName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FunctionArn", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setFunctionArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Runtime", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setRuntime(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Role", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Handler", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setHandler(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeSize", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setCodeSize(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Timeout", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MemorySize", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setMemorySize(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModified", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setLastModified(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeSha256", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setCodeSha256(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Version", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcConfig", targetDepth)) {
-                    context.nextToken();
-                    functionConfiguration.setVpcConfig(VpcConfigResponseJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FunctionName".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setFunctionName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FunctionArn".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setFunctionArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Runtime".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setRuntime(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Role".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Handler".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setHandler(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CodeSize".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setCodeSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Timeout".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MemorySize".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setMemorySize(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("LastModified".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setLastModified(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CodeSha256".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setCodeSha256(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Version".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VpcConfig".equals(fieldName)) {
+                        context.nextToken();
+                        functionConfiguration.setVpcConfig(VpcConfigResponseJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,57 +47,48 @@ public class GetFunctionConfigurationResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FunctionName", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setFunctionName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FunctionArn", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setFunctionArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Runtime", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setRuntime(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Role", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Handler", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setHandler(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeSize", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setCodeSize(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Timeout", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MemorySize", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setMemorySize(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LastModified", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setLastModified(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CodeSha256", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setCodeSha256(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Version", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcConfig", targetDepth)) {
-                    context.nextToken();
-                    getFunctionConfigurationResult.setVpcConfig(VpcConfigResponseJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FunctionName".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setFunctionName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FunctionArn".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setFunctionArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Runtime".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setRuntime(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Role".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Handler".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setHandler(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CodeSize".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setCodeSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Timeout".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MemorySize".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setMemorySize(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("LastModified".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setLastModified(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CodeSha256".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setCodeSha256(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Version".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VpcConfig".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionConfigurationResult.setVpcConfig(VpcConfigResponseJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class GetFunctionResultJsonUnmarshaller implements Unmarshaller<GetFuncti
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Configuration", targetDepth)) {
-                    context.nextToken();
-                    getFunctionResult.setConfiguration(FunctionConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Code", targetDepth)) {
-                    context.nextToken();
-                    getFunctionResult.setCode(FunctionCodeLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Configuration".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionResult.setConfiguration(FunctionConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Code".equals(fieldName)) {
+                        context.nextToken();
+                        getFunctionResult.setCode(FunctionCodeLocationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class ListAliasesResultJsonUnmarshaller implements Unmarshaller<ListAlias
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listAliasesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Aliases", targetDepth)) {
-                    context.nextToken();
-                    listAliasesResult
-                            .setAliases(new ListUnmarshaller<AliasConfiguration>(AliasConfigurationJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listAliasesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Aliases".equals(fieldName)) {
+                        context.nextToken();
+                        listAliasesResult.setAliases(aliasesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListAliasesResultJsonUnmarshaller implements Unmarshaller<ListAlias
         return listAliasesResult;
     }
 
+    private final Unmarshaller<java.util.List<AliasConfiguration>, JsonUnmarshallerContext> aliasesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AliasConfiguration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AliasConfiguration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AliasConfiguration>(AliasConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListAliasesResultJsonUnmarshaller instance;
 
     public static ListAliasesResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListEventSourceMappingsResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listEventSourceMappingsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EventSourceMappings", targetDepth)) {
-                    context.nextToken();
-                    listEventSourceMappingsResult.setEventSourceMappings(new ListUnmarshaller<EventSourceMappingConfiguration>(
-                            EventSourceMappingConfigurationJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listEventSourceMappingsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EventSourceMappings".equals(fieldName)) {
+                        context.nextToken();
+                        listEventSourceMappingsResult.setEventSourceMappings(eventSourceMappingsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListEventSourceMappingsResultJsonUnmarshaller implements Unmarshall
         return listEventSourceMappingsResult;
     }
 
+    private final Unmarshaller<java.util.List<EventSourceMappingConfiguration>, JsonUnmarshallerContext> eventSourceMappingsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EventSourceMappingConfiguration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EventSourceMappingConfiguration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EventSourceMappingConfiguration>(EventSourceMappingConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListEventSourceMappingsResultJsonUnmarshaller instance;
 
     public static ListEventSourceMappingsResultJsonUnmarshaller getInstance() {
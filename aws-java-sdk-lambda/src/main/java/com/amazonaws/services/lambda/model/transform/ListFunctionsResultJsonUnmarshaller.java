@@ -47,14 +47,15 @@ public class ListFunctionsResultJsonUnmarshaller implements Unmarshaller<ListFun
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listFunctionsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Functions", targetDepth)) {
-                    context.nextToken();
-                    listFunctionsResult.setFunctions(new ListUnmarshaller<FunctionConfiguration>(FunctionConfigurationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listFunctionsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Functions".equals(fieldName)) {
+                        context.nextToken();
+                        listFunctionsResult.setFunctions(functionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListFunctionsResultJsonUnmarshaller implements Unmarshaller<ListFun
         return listFunctionsResult;
     }
 
+    private final Unmarshaller<java.util.List<FunctionConfiguration>, JsonUnmarshallerContext> functionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<FunctionConfiguration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<FunctionConfiguration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<FunctionConfiguration>(FunctionConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListFunctionsResultJsonUnmarshaller instance;
 
     public static ListFunctionsResultJsonUnmarshaller getInstance() {
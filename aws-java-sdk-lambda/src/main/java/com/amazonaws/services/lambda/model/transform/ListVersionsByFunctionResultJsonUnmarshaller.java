@@ -47,14 +47,15 @@ public class ListVersionsByFunctionResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listVersionsByFunctionResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Versions", targetDepth)) {
-                    context.nextToken();
-                    listVersionsByFunctionResult.setVersions(new ListUnmarshaller<FunctionConfiguration>(FunctionConfigurationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listVersionsByFunctionResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Versions".equals(fieldName)) {
+                        context.nextToken();
+                        listVersionsByFunctionResult.setVersions(versionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListVersionsByFunctionResultJsonUnmarshaller implements Unmarshalle
         return listVersionsByFunctionResult;
     }
 
+    private final Unmarshaller<java.util.List<FunctionConfiguration>, JsonUnmarshallerContext> versionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<FunctionConfiguration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<FunctionConfiguration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<FunctionConfiguration>(FunctionConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListVersionsByFunctionResultJsonUnmarshaller instance;
 
     public static ListVersionsByFunctionResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class VpcConfigJsonUnmarshaller implements Unmarshaller<VpcConfig, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    vpcConfig.setSubnetIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupIds", targetDepth)) {
-                    context.nextToken();
-                    vpcConfig.setSecurityGroupIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SubnetIds".equals(fieldName)) {
+                        context.nextToken();
+                        vpcConfig.setSubnetIds(subnetIdsUnmarshaller.unmarshall(context));
+                    } else if ("SecurityGroupIds".equals(fieldName)) {
+                        context.nextToken();
+                        vpcConfig.setSecurityGroupIds(securityGroupIdsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,19 @@ public class VpcConfigJsonUnmarshaller implements Unmarshaller<VpcConfig, JsonUn
         return vpcConfig;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> subnetIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> securityGroupIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static VpcConfigJsonUnmarshaller instance;
 
     public static VpcConfigJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class VpcConfigResponseJsonUnmarshaller implements Unmarshaller<VpcConfig
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    vpcConfigResponse.setSubnetIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupIds", targetDepth)) {
-                    context.nextToken();
-                    vpcConfigResponse.setSecurityGroupIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    vpcConfigResponse.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SubnetIds".equals(fieldName)) {
+                        context.nextToken();
+                        vpcConfigResponse.setSubnetIds(subnetIdsUnmarshaller.unmarshall(context));
+                    } else if ("SecurityGroupIds".equals(fieldName)) {
+                        context.nextToken();
+                        vpcConfigResponse.setSecurityGroupIds(securityGroupIdsUnmarshaller.unmarshall(context));
+                    } else if ("VpcId".equals(fieldName)) {
+                        context.nextToken();
+                        vpcConfigResponse.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,19 @@ public class VpcConfigResponseJsonUnmarshaller implements Unmarshaller<VpcConfig
         return vpcConfigResponse;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> subnetIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> securityGroupIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static VpcConfigResponseJsonUnmarshaller instance;
 
     public static VpcConfigResponseJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class DescribeDestinationsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("destinations", targetDepth)) {
-                    context.nextToken();
-                    describeDestinationsResult
-                            .setDestinations(new ListUnmarshaller<Destination>(DestinationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeDestinationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("destinations".equals(fieldName)) {
+                        context.nextToken();
+                        describeDestinationsResult.setDestinations(destinationsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeDestinationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeDestinationsResultJsonUnmarshaller implements Unmarshaller<
         return describeDestinationsResult;
     }
 
+    private final Unmarshaller<java.util.List<Destination>, JsonUnmarshallerContext> destinationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Destination>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Destination>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Destination>(DestinationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeDestinationsResultJsonUnmarshaller instance;
 
     public static DescribeDestinationsResultJsonUnmarshaller getInstance() {
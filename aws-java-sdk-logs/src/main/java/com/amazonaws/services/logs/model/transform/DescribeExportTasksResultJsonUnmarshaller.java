@@ -47,13 +47,15 @@ public class DescribeExportTasksResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("exportTasks", targetDepth)) {
-                    context.nextToken();
-                    describeExportTasksResult.setExportTasks(new ListUnmarshaller<ExportTask>(ExportTaskJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeExportTasksResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("exportTasks".equals(fieldName)) {
+                        context.nextToken();
+                        describeExportTasksResult.setExportTasks(exportTasksUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeExportTasksResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeExportTasksResultJsonUnmarshaller implements Unmarshaller<D
         return describeExportTasksResult;
     }
 
+    private final Unmarshaller<java.util.List<ExportTask>, JsonUnmarshallerContext> exportTasksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ExportTask>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ExportTask>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ExportTask>(ExportTaskJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeExportTasksResultJsonUnmarshaller instance;
 
     public static DescribeExportTasksResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DescribeLogGroupsResultJsonUnmarshaller implements Unmarshaller<Des
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logGroups", targetDepth)) {
-                    context.nextToken();
-                    describeLogGroupsResult.setLogGroups(new ListUnmarshaller<LogGroup>(LogGroupJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeLogGroupsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("logGroups".equals(fieldName)) {
+                        context.nextToken();
+                        describeLogGroupsResult.setLogGroups(logGroupsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeLogGroupsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeLogGroupsResultJsonUnmarshaller implements Unmarshaller<Des
         return describeLogGroupsResult;
     }
 
+    private final Unmarshaller<java.util.List<LogGroup>, JsonUnmarshallerContext> logGroupsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<LogGroup>>() {
+        @Override
+        protected Unmarshaller<java.util.List<LogGroup>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<LogGroup>(LogGroupJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeLogGroupsResultJsonUnmarshaller instance;
 
     public static DescribeLogGroupsResultJsonUnmarshaller getInstance() {
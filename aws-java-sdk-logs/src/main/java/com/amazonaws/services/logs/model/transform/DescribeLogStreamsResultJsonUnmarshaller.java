@@ -47,13 +47,15 @@ public class DescribeLogStreamsResultJsonUnmarshaller implements Unmarshaller<De
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logStreams", targetDepth)) {
-                    context.nextToken();
-                    describeLogStreamsResult.setLogStreams(new ListUnmarshaller<LogStream>(LogStreamJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeLogStreamsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("logStreams".equals(fieldName)) {
+                        context.nextToken();
+                        describeLogStreamsResult.setLogStreams(logStreamsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeLogStreamsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeLogStreamsResultJsonUnmarshaller implements Unmarshaller<De
         return describeLogStreamsResult;
     }
 
+    private final Unmarshaller<java.util.List<LogStream>, JsonUnmarshallerContext> logStreamsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<LogStream>>() {
+        @Override
+        protected Unmarshaller<java.util.List<LogStream>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<LogStream>(LogStreamJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeLogStreamsResultJsonUnmarshaller instance;
 
     public static DescribeLogStreamsResultJsonUnmarshaller getInstance() {
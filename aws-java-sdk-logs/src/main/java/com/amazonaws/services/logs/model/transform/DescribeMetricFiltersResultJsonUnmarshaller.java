@@ -47,14 +47,15 @@ public class DescribeMetricFiltersResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("metricFilters", targetDepth)) {
-                    context.nextToken();
-                    describeMetricFiltersResult.setMetricFilters(new ListUnmarshaller<MetricFilter>(MetricFilterJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeMetricFiltersResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("metricFilters".equals(fieldName)) {
+                        context.nextToken();
+                        describeMetricFiltersResult.setMetricFilters(metricFiltersUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeMetricFiltersResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeMetricFiltersResultJsonUnmarshaller implements Unmarshaller
         return describeMetricFiltersResult;
     }
 
+    private final Unmarshaller<java.util.List<MetricFilter>, JsonUnmarshallerContext> metricFiltersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<MetricFilter>>() {
+        @Override
+        protected Unmarshaller<java.util.List<MetricFilter>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<MetricFilter>(MetricFilterJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeMetricFiltersResultJsonUnmarshaller instance;
 
     public static DescribeMetricFiltersResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class DescribeSubscriptionFiltersResultJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("subscriptionFilters", targetDepth)) {
-                    context.nextToken();
-                    describeSubscriptionFiltersResult.setSubscriptionFilters(new ListUnmarshaller<SubscriptionFilter>(SubscriptionFilterJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeSubscriptionFiltersResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("subscriptionFilters".equals(fieldName)) {
+                        context.nextToken();
+                        describeSubscriptionFiltersResult.setSubscriptionFilters(subscriptionFiltersUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeSubscriptionFiltersResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeSubscriptionFiltersResultJsonUnmarshaller implements Unmars
         return describeSubscriptionFiltersResult;
     }
 
+    private final Unmarshaller<java.util.List<SubscriptionFilter>, JsonUnmarshallerContext> subscriptionFiltersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SubscriptionFilter>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SubscriptionFilter>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SubscriptionFilter>(SubscriptionFilterJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeSubscriptionFiltersResultJsonUnmarshaller instance;
 
     public static DescribeSubscriptionFiltersResultJsonUnmarshaller getInstance() {
@@ -47,29 +47,27 @@ public class DestinationJsonUnmarshaller implements Unmarshaller<Destination, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("destinationName", targetDepth)) {
-                    context.nextToken();
-                    destination.setDestinationName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("targetArn", targetDepth)) {
-                    context.nextToken();
-                    destination.setTargetArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    destination.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("accessPolicy", targetDepth)) {
-                    context.nextToken();
-                    destination.setAccessPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    destination.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    destination.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("destinationName".equals(fieldName)) {
+                        context.nextToken();
+                        destination.setDestinationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("targetArn".equals(fieldName)) {
+                        context.nextToken();
+                        destination.setTargetArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        destination.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("accessPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        destination.setAccessPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        destination.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("creationTime".equals(fieldName)) {
+                        context.nextToken();
+                        destination.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
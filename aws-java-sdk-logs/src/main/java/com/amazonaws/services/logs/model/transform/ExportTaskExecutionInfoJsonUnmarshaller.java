@@ -47,13 +47,15 @@ public class ExportTaskExecutionInfoJsonUnmarshaller implements Unmarshaller<Exp
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    exportTaskExecutionInfo.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("completionTime", targetDepth)) {
-                    context.nextToken();
-                    exportTaskExecutionInfo.setCompletionTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("creationTime".equals(fieldName)) {
+                        context.nextToken();
+                        exportTaskExecutionInfo.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("completionTime".equals(fieldName)) {
+                        context.nextToken();
+                        exportTaskExecutionInfo.setCompletionTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
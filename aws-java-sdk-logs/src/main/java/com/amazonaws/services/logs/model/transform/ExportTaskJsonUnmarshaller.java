@@ -47,41 +47,36 @@ public class ExportTaskJsonUnmarshaller implements Unmarshaller<ExportTask, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskId", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setTaskId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskName", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setTaskName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("logGroupName", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setLogGroupName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("from", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setFrom(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("to", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setTo(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("destination", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setDestination(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("destinationPrefix", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setDestinationPrefix(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setStatus(ExportTaskStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("executionInfo", targetDepth)) {
-                    context.nextToken();
-                    exportTask.setExecutionInfo(ExportTaskExecutionInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("taskId".equals(fieldName)) {
+                        context.nextToken();
+                        exportTask.setTaskId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskName".equals(fieldName)) {
+                        context.nextToken();
+                        exportTask.setTaskName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("logGroupName".equals(fieldName)) {
+                        context.nextToken();
+                        exportTask.setLogGroupName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("from".equals(fieldName)) {
+                        context.nextToken();
+                        exportTask.setFrom(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("to".equals(fieldName)) {
+                        context.nextToken();
+                        exportTask.setTo(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("destination".equals(fieldName)) {
+                        context.nextToken();
+                        exportTask.setDestination(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("destinationPrefix".equals(fieldName)) {
+                        context.nextToken();
+                        exportTask.setDestinationPrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        exportTask.setStatus(ExportTaskStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("executionInfo".equals(fieldName)) {
+                        context.nextToken();
+                        exportTask.setExecutionInfo(ExportTaskExecutionInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,18 +47,18 @@ public class FilterLogEventsResultJsonUnmarshaller implements Unmarshaller<Filte
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    filterLogEventsResult.setEvents(new ListUnmarshaller<FilteredLogEvent>(FilteredLogEventJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("searchedLogStreams", targetDepth)) {
-                    context.nextToken();
-                    filterLogEventsResult.setSearchedLogStreams(new ListUnmarshaller<SearchedLogStream>(SearchedLogStreamJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    filterLogEventsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("events".equals(fieldName)) {
+                        context.nextToken();
+                        filterLogEventsResult.setEvents(eventsUnmarshaller.unmarshall(context));
+                    } else if ("searchedLogStreams".equals(fieldName)) {
+                        context.nextToken();
+                        filterLogEventsResult.setSearchedLogStreams(searchedLogStreamsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        filterLogEventsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,19 @@ public class FilterLogEventsResultJsonUnmarshaller implements Unmarshaller<Filte
         return filterLogEventsResult;
     }
 
+    private final Unmarshaller<java.util.List<FilteredLogEvent>, JsonUnmarshallerContext> eventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<FilteredLogEvent>>() {
+        @Override
+        protected Unmarshaller<java.util.List<FilteredLogEvent>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<FilteredLogEvent>(FilteredLogEventJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<SearchedLogStream>, JsonUnmarshallerContext> searchedLogStreamsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SearchedLogStream>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SearchedLogStream>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SearchedLogStream>(SearchedLogStreamJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static FilterLogEventsResultJsonUnmarshaller instance;
 
     public static FilterLogEventsResultJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class FilteredLogEventJsonUnmarshaller implements Unmarshaller<FilteredLo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logStreamName", targetDepth)) {
-                    context.nextToken();
-                    filteredLogEvent.setLogStreamName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("timestamp", targetDepth)) {
-                    context.nextToken();
-                    filteredLogEvent.setTimestamp(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    filteredLogEvent.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ingestionTime", targetDepth)) {
-                    context.nextToken();
-                    filteredLogEvent.setIngestionTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("eventId", targetDepth)) {
-                    context.nextToken();
-                    filteredLogEvent.setEventId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("logStreamName".equals(fieldName)) {
+                        context.nextToken();
+                        filteredLogEvent.setLogStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("timestamp".equals(fieldName)) {
+                        context.nextToken();
+                        filteredLogEvent.setTimestamp(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        filteredLogEvent.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ingestionTime".equals(fieldName)) {
+                        context.nextToken();
+                        filteredLogEvent.setIngestionTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("eventId".equals(fieldName)) {
+                        context.nextToken();
+                        filteredLogEvent.setEventId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
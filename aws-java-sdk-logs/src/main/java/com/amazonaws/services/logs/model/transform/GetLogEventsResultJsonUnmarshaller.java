@@ -47,17 +47,18 @@ public class GetLogEventsResultJsonUnmarshaller implements Unmarshaller<GetLogEv
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("events", targetDepth)) {
-                    context.nextToken();
-                    getLogEventsResult.setEvents(new ListUnmarshaller<OutputLogEvent>(OutputLogEventJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextForwardToken", targetDepth)) {
-                    context.nextToken();
-                    getLogEventsResult.setNextForwardToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("nextBackwardToken", targetDepth)) {
-                    context.nextToken();
-                    getLogEventsResult.setNextBackwardToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("events".equals(fieldName)) {
+                        context.nextToken();
+                        getLogEventsResult.setEvents(eventsUnmarshaller.unmarshall(context));
+                    } else if ("nextForwardToken".equals(fieldName)) {
+                        context.nextToken();
+                        getLogEventsResult.setNextForwardToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("nextBackwardToken".equals(fieldName)) {
+                        context.nextToken();
+                        getLogEventsResult.setNextBackwardToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class GetLogEventsResultJsonUnmarshaller implements Unmarshaller<GetLogEv
         return getLogEventsResult;
     }
 
+    private final Unmarshaller<java.util.List<OutputLogEvent>, JsonUnmarshallerContext> eventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<OutputLogEvent>>() {
+        @Override
+        protected Unmarshaller<java.util.List<OutputLogEvent>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<OutputLogEvent>(OutputLogEventJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetLogEventsResultJsonUnmarshaller instance;
 
     public static GetLogEventsResultJsonUnmarshaller getInstance() {
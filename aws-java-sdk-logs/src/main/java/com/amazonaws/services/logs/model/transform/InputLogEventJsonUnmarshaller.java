@@ -47,13 +47,15 @@ public class InputLogEventJsonUnmarshaller implements Unmarshaller<InputLogEvent
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timestamp", targetDepth)) {
-                    context.nextToken();
-                    inputLogEvent.setTimestamp(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    inputLogEvent.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("timestamp".equals(fieldName)) {
+                        context.nextToken();
+                        inputLogEvent.setTimestamp(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        inputLogEvent.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
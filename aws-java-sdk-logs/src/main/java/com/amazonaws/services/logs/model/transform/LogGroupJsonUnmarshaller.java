@@ -47,29 +47,27 @@ public class LogGroupJsonUnmarshaller implements Unmarshaller<LogGroup, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logGroupName", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setLogGroupName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("retentionInDays", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setRetentionInDays(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("metricFilterCount", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setMetricFilterCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("storedBytes", targetDepth)) {
-                    context.nextToken();
-                    logGroup.setStoredBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("logGroupName".equals(fieldName)) {
+                        context.nextToken();
+                        logGroup.setLogGroupName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("creationTime".equals(fieldName)) {
+                        context.nextToken();
+                        logGroup.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("retentionInDays".equals(fieldName)) {
+                        context.nextToken();
+                        logGroup.setRetentionInDays(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("metricFilterCount".equals(fieldName)) {
+                        context.nextToken();
+                        logGroup.setMetricFilterCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        logGroup.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("storedBytes".equals(fieldName)) {
+                        context.nextToken();
+                        logGroup.setStoredBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,37 +47,33 @@ public class LogStreamJsonUnmarshaller implements Unmarshaller<LogStream, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logStreamName", targetDepth)) {
-                    context.nextToken();
-                    logStream.setLogStreamName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    logStream.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("firstEventTimestamp", targetDepth)) {
-                    context.nextToken();
-                    logStream.setFirstEventTimestamp(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("lastEventTimestamp", targetDepth)) {
-                    context.nextToken();
-                    logStream.setLastEventTimestamp(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("lastIngestionTime", targetDepth)) {
-                    context.nextToken();
-                    logStream.setLastIngestionTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("uploadSequenceToken", targetDepth)) {
-                    context.nextToken();
-                    logStream.setUploadSequenceToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("arn", targetDepth)) {
-                    context.nextToken();
-                    logStream.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("storedBytes", targetDepth)) {
-                    context.nextToken();
-                    logStream.setStoredBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("logStreamName".equals(fieldName)) {
+                        context.nextToken();
+                        logStream.setLogStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("creationTime".equals(fieldName)) {
+                        context.nextToken();
+                        logStream.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("firstEventTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        logStream.setFirstEventTimestamp(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("lastEventTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        logStream.setLastEventTimestamp(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("lastIngestionTime".equals(fieldName)) {
+                        context.nextToken();
+                        logStream.setLastIngestionTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("uploadSequenceToken".equals(fieldName)) {
+                        context.nextToken();
+                        logStream.setUploadSequenceToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("arn".equals(fieldName)) {
+                        context.nextToken();
+                        logStream.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("storedBytes".equals(fieldName)) {
+                        context.nextToken();
+                        logStream.setStoredBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
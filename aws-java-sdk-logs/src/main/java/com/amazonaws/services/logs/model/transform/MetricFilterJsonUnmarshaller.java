@@ -47,22 +47,21 @@ public class MetricFilterJsonUnmarshaller implements Unmarshaller<MetricFilter,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("filterName", targetDepth)) {
-                    context.nextToken();
-                    metricFilter.setFilterName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("filterPattern", targetDepth)) {
-                    context.nextToken();
-                    metricFilter.setFilterPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricTransformations", targetDepth)) {
-                    context.nextToken();
-                    metricFilter.setMetricTransformations(new ListUnmarshaller<MetricTransformation>(MetricTransformationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    metricFilter.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("filterName".equals(fieldName)) {
+                        context.nextToken();
+                        metricFilter.setFilterName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("filterPattern".equals(fieldName)) {
+                        context.nextToken();
+                        metricFilter.setFilterPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("metricTransformations".equals(fieldName)) {
+                        context.nextToken();
+                        metricFilter.setMetricTransformations(metricTransformationsUnmarshaller.unmarshall(context));
+                    } else if ("creationTime".equals(fieldName)) {
+                        context.nextToken();
+                        metricFilter.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,13 @@ public class MetricFilterJsonUnmarshaller implements Unmarshaller<MetricFilter,
         return metricFilter;
     }
 
+    private final Unmarshaller<java.util.List<MetricTransformation>, JsonUnmarshallerContext> metricTransformationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<MetricTransformation>>() {
+        @Override
+        protected Unmarshaller<java.util.List<MetricTransformation>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<MetricTransformation>(MetricTransformationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static MetricFilterJsonUnmarshaller instance;
 
     public static MetricFilterJsonUnmarshaller getInstance() {
@@ -47,18 +47,18 @@ public class MetricFilterMatchRecordJsonUnmarshaller implements Unmarshaller<Met
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("eventNumber", targetDepth)) {
-                    context.nextToken();
-                    metricFilterMatchRecord.setEventNumber(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("eventMessage", targetDepth)) {
-                    context.nextToken();
-                    metricFilterMatchRecord.setEventMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("extractedValues", targetDepth)) {
-                    context.nextToken();
-                    metricFilterMatchRecord.setExtractedValues(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("eventNumber".equals(fieldName)) {
+                        context.nextToken();
+                        metricFilterMatchRecord.setEventNumber(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("eventMessage".equals(fieldName)) {
+                        context.nextToken();
+                        metricFilterMatchRecord.setEventMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("extractedValues".equals(fieldName)) {
+                        context.nextToken();
+                        metricFilterMatchRecord.setExtractedValues(extractedValuesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class MetricFilterMatchRecordJsonUnmarshaller implements Unmarshaller<Met
         return metricFilterMatchRecord;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> extractedValuesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static MetricFilterMatchRecordJsonUnmarshaller instance;
 
     public static MetricFilterMatchRecordJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class MetricTransformationJsonUnmarshaller implements Unmarshaller<Metric
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("metricName", targetDepth)) {
-                    context.nextToken();
-                    metricTransformation.setMetricName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricNamespace", targetDepth)) {
-                    context.nextToken();
-                    metricTransformation.setMetricNamespace(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metricValue", targetDepth)) {
-                    context.nextToken();
-                    metricTransformation.setMetricValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultValue", targetDepth)) {
-                    context.nextToken();
-                    metricTransformation.setDefaultValue(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("metricName".equals(fieldName)) {
+                        context.nextToken();
+                        metricTransformation.setMetricName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("metricNamespace".equals(fieldName)) {
+                        context.nextToken();
+                        metricTransformation.setMetricNamespace(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("metricValue".equals(fieldName)) {
+                        context.nextToken();
+                        metricTransformation.setMetricValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultValue".equals(fieldName)) {
+                        context.nextToken();
+                        metricTransformation.setDefaultValue(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
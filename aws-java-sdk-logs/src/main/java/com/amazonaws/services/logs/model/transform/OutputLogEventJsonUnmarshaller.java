@@ -47,17 +47,18 @@ public class OutputLogEventJsonUnmarshaller implements Unmarshaller<OutputLogEve
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timestamp", targetDepth)) {
-                    context.nextToken();
-                    outputLogEvent.setTimestamp(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("message", targetDepth)) {
-                    context.nextToken();
-                    outputLogEvent.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ingestionTime", targetDepth)) {
-                    context.nextToken();
-                    outputLogEvent.setIngestionTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("timestamp".equals(fieldName)) {
+                        context.nextToken();
+                        outputLogEvent.setTimestamp(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("message".equals(fieldName)) {
+                        context.nextToken();
+                        outputLogEvent.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ingestionTime".equals(fieldName)) {
+                        context.nextToken();
+                        outputLogEvent.setIngestionTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
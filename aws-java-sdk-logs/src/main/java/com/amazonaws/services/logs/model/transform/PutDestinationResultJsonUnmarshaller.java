@@ -47,9 +47,12 @@ public class PutDestinationResultJsonUnmarshaller implements Unmarshaller<PutDes
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("destination", targetDepth)) {
-                    context.nextToken();
-                    putDestinationResult.setDestination(DestinationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("destination".equals(fieldName)) {
+                        context.nextToken();
+                        putDestinationResult.setDestination(DestinationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class PutLogEventsResultJsonUnmarshaller implements Unmarshaller<PutLogEv
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("nextSequenceToken", targetDepth)) {
-                    context.nextToken();
-                    putLogEventsResult.setNextSequenceToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("rejectedLogEventsInfo", targetDepth)) {
-                    context.nextToken();
-                    putLogEventsResult.setRejectedLogEventsInfo(RejectedLogEventsInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("nextSequenceToken".equals(fieldName)) {
+                        context.nextToken();
+                        putLogEventsResult.setNextSequenceToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("rejectedLogEventsInfo".equals(fieldName)) {
+                        context.nextToken();
+                        putLogEventsResult.setRejectedLogEventsInfo(RejectedLogEventsInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class RejectedLogEventsInfoJsonUnmarshaller implements Unmarshaller<Rejec
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tooNewLogEventStartIndex", targetDepth)) {
-                    context.nextToken();
-                    rejectedLogEventsInfo.setTooNewLogEventStartIndex(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("tooOldLogEventEndIndex", targetDepth)) {
-                    context.nextToken();
-                    rejectedLogEventsInfo.setTooOldLogEventEndIndex(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("expiredLogEventEndIndex", targetDepth)) {
-                    context.nextToken();
-                    rejectedLogEventsInfo.setExpiredLogEventEndIndex(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("tooNewLogEventStartIndex".equals(fieldName)) {
+                        context.nextToken();
+                        rejectedLogEventsInfo.setTooNewLogEventStartIndex(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("tooOldLogEventEndIndex".equals(fieldName)) {
+                        context.nextToken();
+                        rejectedLogEventsInfo.setTooOldLogEventEndIndex(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("expiredLogEventEndIndex".equals(fieldName)) {
+                        context.nextToken();
+                        rejectedLogEventsInfo.setExpiredLogEventEndIndex(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
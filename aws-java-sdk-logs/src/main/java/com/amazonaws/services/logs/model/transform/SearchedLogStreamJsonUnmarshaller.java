@@ -47,13 +47,15 @@ public class SearchedLogStreamJsonUnmarshaller implements Unmarshaller<SearchedL
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("logStreamName", targetDepth)) {
-                    context.nextToken();
-                    searchedLogStream.setLogStreamName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("searchedCompletely", targetDepth)) {
-                    context.nextToken();
-                    searchedLogStream.setSearchedCompletely(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("logStreamName".equals(fieldName)) {
+                        context.nextToken();
+                        searchedLogStream.setLogStreamName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("searchedCompletely".equals(fieldName)) {
+                        context.nextToken();
+                        searchedLogStream.setSearchedCompletely(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
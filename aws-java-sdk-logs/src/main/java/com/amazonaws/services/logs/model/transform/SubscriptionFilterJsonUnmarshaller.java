@@ -47,29 +47,27 @@ public class SubscriptionFilterJsonUnmarshaller implements Unmarshaller<Subscrip
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("filterName", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setFilterName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("logGroupName", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setLogGroupName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("filterPattern", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setFilterPattern(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("destinationArn", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setDestinationArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("roleArn", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("creationTime", targetDepth)) {
-                    context.nextToken();
-                    subscriptionFilter.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("filterName".equals(fieldName)) {
+                        context.nextToken();
+                        subscriptionFilter.setFilterName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("logGroupName".equals(fieldName)) {
+                        context.nextToken();
+                        subscriptionFilter.setLogGroupName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("filterPattern".equals(fieldName)) {
+                        context.nextToken();
+                        subscriptionFilter.setFilterPattern(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("destinationArn".equals(fieldName)) {
+                        context.nextToken();
+                        subscriptionFilter.setDestinationArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("roleArn".equals(fieldName)) {
+                        context.nextToken();
+                        subscriptionFilter.setRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("creationTime".equals(fieldName)) {
+                        context.nextToken();
+                        subscriptionFilter.setCreationTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,10 +47,12 @@ public class TestMetricFilterResultJsonUnmarshaller implements Unmarshaller<Test
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("matches", targetDepth)) {
-                    context.nextToken();
-                    testMetricFilterResult.setMatches(new ListUnmarshaller<MetricFilterMatchRecord>(MetricFilterMatchRecordJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("matches".equals(fieldName)) {
+                        context.nextToken();
+                        testMetricFilterResult.setMatches(matchesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class TestMetricFilterResultJsonUnmarshaller implements Unmarshaller<Test
         return testMetricFilterResult;
     }
 
+    private final Unmarshaller<java.util.List<MetricFilterMatchRecord>, JsonUnmarshallerContext> matchesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<MetricFilterMatchRecord>>() {
+        @Override
+        protected Unmarshaller<java.util.List<MetricFilterMatchRecord>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<MetricFilterMatchRecord>(MetricFilterMatchRecordJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static TestMetricFilterResultJsonUnmarshaller instance;
 
     public static TestMetricFilterResultJsonUnmarshaller getInstance() {
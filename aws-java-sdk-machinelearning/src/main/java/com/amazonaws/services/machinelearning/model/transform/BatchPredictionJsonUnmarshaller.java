@@ -47,69 +47,57 @@ public class BatchPredictionJsonUnmarshaller implements Unmarshaller<BatchPredic
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BatchPredictionId", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setBatchPredictionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BatchPredictionDataSourceId", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setBatchPredictionDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InputDataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputUri", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setOutputUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeTime", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FinishedAt", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartedAt", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TotalRecordCount", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setTotalRecordCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("InvalidRecordCount", targetDepth)) {
-                    context.nextToken();
-                    batchPrediction.setInvalidRecordCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BatchPredictionId".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setBatchPredictionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MLModelId".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BatchPredictionDataSourceId".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setBatchPredictionDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InputDataLocationS3".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedByIamUser".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputUri".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setOutputUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputeTime".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FinishedAt".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartedAt".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("TotalRecordCount".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setTotalRecordCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("InvalidRecordCount".equals(fieldName)) {
+                        context.nextToken();
+                        batchPrediction.setInvalidRecordCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateDataSourceFromRDSResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DataSourceId", targetDepth)) {
-                    context.nextToken();
-                    createDataSourceFromRDSResult.setDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DataSourceId".equals(fieldName)) {
+                        context.nextToken();
+                        createDataSourceFromRDSResult.setDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateDataSourceFromS3ResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DataSourceId", targetDepth)) {
-                    context.nextToken();
-                    createDataSourceFromS3Result.setDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DataSourceId".equals(fieldName)) {
+                        context.nextToken();
+                        createDataSourceFromS3Result.setDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
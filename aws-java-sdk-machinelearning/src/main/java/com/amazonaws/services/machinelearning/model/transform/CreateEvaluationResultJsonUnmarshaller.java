@@ -47,9 +47,12 @@ public class CreateEvaluationResultJsonUnmarshaller implements Unmarshaller<Crea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EvaluationId", targetDepth)) {
-                    context.nextToken();
-                    createEvaluationResult.setEvaluationId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EvaluationId".equals(fieldName)) {
+                        context.nextToken();
+                        createEvaluationResult.setEvaluationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
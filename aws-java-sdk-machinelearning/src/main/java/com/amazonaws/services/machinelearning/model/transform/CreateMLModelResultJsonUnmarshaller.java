@@ -47,9 +47,12 @@ public class CreateMLModelResultJsonUnmarshaller implements Unmarshaller<CreateM
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    createMLModelResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MLModelId".equals(fieldName)) {
+                        context.nextToken();
+                        createMLModelResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
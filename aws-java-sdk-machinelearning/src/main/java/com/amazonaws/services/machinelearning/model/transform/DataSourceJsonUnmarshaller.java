@@ -47,77 +47,63 @@ public class DataSourceJsonUnmarshaller implements Unmarshaller<DataSource, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DataSourceId", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataRearrangement", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setDataRearrangement(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setDataSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfFiles", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setNumberOfFiles(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RedshiftMetadata", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setRedshiftMetadata(RedshiftMetadataJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RDSMetadata", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setRDSMetadata(RDSMetadataJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeStatistics", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setComputeStatistics(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeTime", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FinishedAt", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartedAt", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DataSourceId".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataLocationS3".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataRearrangement".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setDataRearrangement(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedByIamUser".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("DataSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setDataSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("NumberOfFiles".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setNumberOfFiles(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RedshiftMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setRedshiftMetadata(RedshiftMetadataJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RDSMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setRDSMetadata(RDSMetadataJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputeStatistics".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setComputeStatistics(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("ComputeTime".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FinishedAt".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartedAt".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DeleteMLModelResultJsonUnmarshaller implements Unmarshaller<DeleteM
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    deleteMLModelResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MLModelId".equals(fieldName)) {
+                        context.nextToken();
+                        deleteMLModelResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
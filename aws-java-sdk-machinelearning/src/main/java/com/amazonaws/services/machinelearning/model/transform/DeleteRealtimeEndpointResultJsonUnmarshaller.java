@@ -47,13 +47,15 @@ public class DeleteRealtimeEndpointResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    deleteRealtimeEndpointResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RealtimeEndpointInfo", targetDepth)) {
-                    context.nextToken();
-                    deleteRealtimeEndpointResult.setRealtimeEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MLModelId".equals(fieldName)) {
+                        context.nextToken();
+                        deleteRealtimeEndpointResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RealtimeEndpointInfo".equals(fieldName)) {
+                        context.nextToken();
+                        deleteRealtimeEndpointResult.setRealtimeEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
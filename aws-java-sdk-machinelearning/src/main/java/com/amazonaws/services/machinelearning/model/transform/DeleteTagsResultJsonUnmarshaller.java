@@ -47,13 +47,15 @@ public class DeleteTagsResultJsonUnmarshaller implements Unmarshaller<DeleteTags
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ResourceId", targetDepth)) {
-                    context.nextToken();
-                    deleteTagsResult.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceType", targetDepth)) {
-                    context.nextToken();
-                    deleteTagsResult.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ResourceId".equals(fieldName)) {
+                        context.nextToken();
+                        deleteTagsResult.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceType".equals(fieldName)) {
+                        context.nextToken();
+                        deleteTagsResult.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class DescribeBatchPredictionsResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Results", targetDepth)) {
-                    context.nextToken();
-                    describeBatchPredictionsResult.setResults(new ListUnmarshaller<BatchPrediction>(BatchPredictionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeBatchPredictionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Results".equals(fieldName)) {
+                        context.nextToken();
+                        describeBatchPredictionsResult.setResults(resultsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeBatchPredictionsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeBatchPredictionsResultJsonUnmarshaller implements Unmarshal
         return describeBatchPredictionsResult;
     }
 
+    private final Unmarshaller<java.util.List<BatchPrediction>, JsonUnmarshallerContext> resultsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<BatchPrediction>>() {
+        @Override
+        protected Unmarshaller<java.util.List<BatchPrediction>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<BatchPrediction>(BatchPredictionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeBatchPredictionsResultJsonUnmarshaller instance;
 
     public static DescribeBatchPredictionsResultJsonUnmarshaller getInstance() {
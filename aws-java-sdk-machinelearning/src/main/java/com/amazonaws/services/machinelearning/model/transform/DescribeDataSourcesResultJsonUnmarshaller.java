@@ -47,13 +47,15 @@ public class DescribeDataSourcesResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Results", targetDepth)) {
-                    context.nextToken();
-                    describeDataSourcesResult.setResults(new ListUnmarshaller<DataSource>(DataSourceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeDataSourcesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Results".equals(fieldName)) {
+                        context.nextToken();
+                        describeDataSourcesResult.setResults(resultsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeDataSourcesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeDataSourcesResultJsonUnmarshaller implements Unmarshaller<D
         return describeDataSourcesResult;
     }
 
+    private final Unmarshaller<java.util.List<DataSource>, JsonUnmarshallerContext> resultsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DataSource>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DataSource>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DataSource>(DataSourceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeDataSourcesResultJsonUnmarshaller instance;
 
     public static DescribeDataSourcesResultJsonUnmarshaller getInstance() {
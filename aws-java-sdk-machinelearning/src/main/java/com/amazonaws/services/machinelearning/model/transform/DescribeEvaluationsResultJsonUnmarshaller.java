@@ -47,13 +47,15 @@ public class DescribeEvaluationsResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Results", targetDepth)) {
-                    context.nextToken();
-                    describeEvaluationsResult.setResults(new ListUnmarshaller<Evaluation>(EvaluationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeEvaluationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Results".equals(fieldName)) {
+                        context.nextToken();
+                        describeEvaluationsResult.setResults(resultsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeEvaluationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeEvaluationsResultJsonUnmarshaller implements Unmarshaller<D
         return describeEvaluationsResult;
     }
 
+    private final Unmarshaller<java.util.List<Evaluation>, JsonUnmarshallerContext> resultsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Evaluation>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Evaluation>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Evaluation>(EvaluationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeEvaluationsResultJsonUnmarshaller instance;
 
     public static DescribeEvaluationsResultJsonUnmarshaller getInstance() {
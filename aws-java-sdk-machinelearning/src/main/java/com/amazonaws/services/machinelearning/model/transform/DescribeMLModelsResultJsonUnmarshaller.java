@@ -47,13 +47,15 @@ public class DescribeMLModelsResultJsonUnmarshaller implements Unmarshaller<Desc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Results", targetDepth)) {
-                    context.nextToken();
-                    describeMLModelsResult.setResults(new ListUnmarshaller<MLModel>(MLModelJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeMLModelsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Results".equals(fieldName)) {
+                        context.nextToken();
+                        describeMLModelsResult.setResults(resultsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeMLModelsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeMLModelsResultJsonUnmarshaller implements Unmarshaller<Desc
         return describeMLModelsResult;
     }
 
+    private final Unmarshaller<java.util.List<MLModel>, JsonUnmarshallerContext> resultsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<MLModel>>() {
+        @Override
+        protected Unmarshaller<java.util.List<MLModel>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<MLModel>(MLModelJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeMLModelsResultJsonUnmarshaller instance;
 
     public static DescribeMLModelsResultJsonUnmarshaller getInstance() {
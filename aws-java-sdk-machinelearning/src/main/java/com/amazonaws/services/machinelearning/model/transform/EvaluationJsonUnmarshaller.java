@@ -47,61 +47,51 @@ public class EvaluationJsonUnmarshaller implements Unmarshaller<Evaluation, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EvaluationId", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setEvaluationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EvaluationDataSourceId", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setEvaluationDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InputDataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PerformanceMetrics", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setPerformanceMetrics(PerformanceMetricsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeTime", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FinishedAt", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartedAt", targetDepth)) {
-                    context.nextToken();
-                    evaluation.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EvaluationId".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setEvaluationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MLModelId".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EvaluationDataSourceId".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setEvaluationDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InputDataLocationS3".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedByIamUser".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PerformanceMetrics".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setPerformanceMetrics(PerformanceMetricsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputeTime".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FinishedAt".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartedAt".equals(fieldName)) {
+                        context.nextToken();
+                        evaluation.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
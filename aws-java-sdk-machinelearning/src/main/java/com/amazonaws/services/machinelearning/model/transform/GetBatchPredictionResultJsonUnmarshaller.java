@@ -47,73 +47,60 @@ public class GetBatchPredictionResultJsonUnmarshaller implements Unmarshaller<Ge
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BatchPredictionId", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setBatchPredictionId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BatchPredictionDataSourceId", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setBatchPredictionDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InputDataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputUri", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setOutputUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeTime", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FinishedAt", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartedAt", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TotalRecordCount", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setTotalRecordCount(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("InvalidRecordCount", targetDepth)) {
-                    context.nextToken();
-                    getBatchPredictionResult.setInvalidRecordCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BatchPredictionId".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setBatchPredictionId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MLModelId".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BatchPredictionDataSourceId".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setBatchPredictionDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InputDataLocationS3".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedByIamUser".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputUri".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setOutputUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LogUri".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputeTime".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FinishedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("TotalRecordCount".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setTotalRecordCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("InvalidRecordCount".equals(fieldName)) {
+                        context.nextToken();
+                        getBatchPredictionResult.setInvalidRecordCount(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,85 +47,69 @@ public class GetDataSourceResultJsonUnmarshaller implements Unmarshaller<GetData
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DataSourceId", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataRearrangement", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setDataRearrangement(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setDataSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfFiles", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setNumberOfFiles(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RedshiftMetadata", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setRedshiftMetadata(RedshiftMetadataJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RDSMetadata", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setRDSMetadata(RDSMetadataJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeStatistics", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setComputeStatistics(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeTime", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FinishedAt", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartedAt", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSourceSchema", targetDepth)) {
-                    context.nextToken();
-                    getDataSourceResult.setDataSourceSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DataSourceId".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataLocationS3".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataRearrangement".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setDataRearrangement(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedByIamUser".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("DataSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setDataSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("NumberOfFiles".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setNumberOfFiles(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LogUri".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RedshiftMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setRedshiftMetadata(RedshiftMetadataJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RDSMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setRDSMetadata(RDSMetadataJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputeStatistics".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setComputeStatistics(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("ComputeTime".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FinishedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("DataSourceSchema".equals(fieldName)) {
+                        context.nextToken();
+                        getDataSourceResult.setDataSourceSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
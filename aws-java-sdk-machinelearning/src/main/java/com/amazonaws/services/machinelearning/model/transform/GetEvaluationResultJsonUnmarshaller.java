@@ -47,65 +47,54 @@ public class GetEvaluationResultJsonUnmarshaller implements Unmarshaller<GetEval
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EvaluationId", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setEvaluationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EvaluationDataSourceId", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setEvaluationDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InputDataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PerformanceMetrics", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setPerformanceMetrics(PerformanceMetricsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeTime", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FinishedAt", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartedAt", targetDepth)) {
-                    context.nextToken();
-                    getEvaluationResult.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EvaluationId".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setEvaluationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MLModelId".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EvaluationDataSourceId".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setEvaluationDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InputDataLocationS3".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedByIamUser".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PerformanceMetrics".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setPerformanceMetrics(PerformanceMetricsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("LogUri".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputeTime".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FinishedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getEvaluationResult.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
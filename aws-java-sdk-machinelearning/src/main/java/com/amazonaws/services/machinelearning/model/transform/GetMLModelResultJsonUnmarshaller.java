@@ -47,90 +47,72 @@ public class GetMLModelResultJsonUnmarshaller implements Unmarshaller<GetMLModel
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrainingDataSourceId", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setTrainingDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointInfo", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TrainingParameters", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setTrainingParameters(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("InputDataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MLModelType", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setMLModelType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScoreThreshold", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setScoreThreshold(context.getUnmarshaller(Float.class).unmarshall(context));
-                }
-                if (context.testExpression("ScoreThresholdLastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setScoreThresholdLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LogUri", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeTime", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FinishedAt", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartedAt", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Recipe", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setRecipe(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Schema", targetDepth)) {
-                    context.nextToken();
-                    getMLModelResult.setSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MLModelId".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TrainingDataSourceId".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setTrainingDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedByIamUser".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("EndpointInfo".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("TrainingParameters".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setTrainingParameters(trainingParametersUnmarshaller.unmarshall(context));
+                    } else if ("InputDataLocationS3".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MLModelType".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setMLModelType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ScoreThreshold".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setScoreThreshold(context.getUnmarshaller(Float.class).unmarshall(context));
+                    } else if ("ScoreThresholdLastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setScoreThresholdLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LogUri".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setLogUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputeTime".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FinishedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartedAt".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Recipe".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setRecipe(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Schema".equals(fieldName)) {
+                        context.nextToken();
+                        getMLModelResult.setSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -144,6 +126,13 @@ public class GetMLModelResultJsonUnmarshaller implements Unmarshaller<GetMLModel
         return getMLModelResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> trainingParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GetMLModelResultJsonUnmarshaller instance;
 
     public static GetMLModelResultJsonUnmarshaller getInstance() {
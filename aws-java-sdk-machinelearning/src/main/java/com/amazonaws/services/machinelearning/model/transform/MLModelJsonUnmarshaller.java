@@ -47,82 +47,66 @@ public class MLModelJsonUnmarshaller implements Unmarshaller<MLModel, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MLModelId", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrainingDataSourceId", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setTrainingDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedByIamUser", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointInfo", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TrainingParameters", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setTrainingParameters(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("InputDataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Algorithm", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setAlgorithm(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MLModelType", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setMLModelType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ScoreThreshold", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setScoreThreshold(context.getUnmarshaller(Float.class).unmarshall(context));
-                }
-                if (context.testExpression("ScoreThresholdLastUpdatedAt", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setScoreThresholdLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputeTime", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("FinishedAt", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("StartedAt", targetDepth)) {
-                    context.nextToken();
-                    mLModel.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MLModelId".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setMLModelId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TrainingDataSourceId".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setTrainingDataSourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedByIamUser".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setCreatedByIamUser(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("EndpointInfo".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setEndpointInfo(RealtimeEndpointInfoJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("TrainingParameters".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setTrainingParameters(trainingParametersUnmarshaller.unmarshall(context));
+                    } else if ("InputDataLocationS3".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setInputDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Algorithm".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setAlgorithm(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MLModelType".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setMLModelType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ScoreThreshold".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setScoreThreshold(context.getUnmarshaller(Float.class).unmarshall(context));
+                    } else if ("ScoreThresholdLastUpdatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setScoreThresholdLastUpdatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputeTime".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setComputeTime(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("FinishedAt".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setFinishedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("StartedAt".equals(fieldName)) {
+                        context.nextToken();
+                        mLModel.setStartedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -136,6 +120,13 @@ public class MLModelJsonUnmarshaller implements Unmarshaller<MLModel, JsonUnmars
         return mLModel;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> trainingParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static MLModelJsonUnmarshaller instance;
 
     public static MLModelJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class PerformanceMetricsJsonUnmarshaller implements Unmarshaller<Performa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Properties", targetDepth)) {
-                    context.nextToken();
-                    performanceMetrics.setProperties(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Properties".equals(fieldName)) {
+                        context.nextToken();
+                        performanceMetrics.setProperties(propertiesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class PerformanceMetricsJsonUnmarshaller implements Unmarshaller<Performa
         return performanceMetrics;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> propertiesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static PerformanceMetricsJsonUnmarshaller instance;
 
     public static PerformanceMetricsJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class PredictResultJsonUnmarshaller implements Unmarshaller<PredictResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Prediction", targetDepth)) {
-                    context.nextToken();
-                    predictResult.setPrediction(PredictionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Prediction".equals(fieldName)) {
+                        context.nextToken();
+                        predictResult.setPrediction(PredictionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
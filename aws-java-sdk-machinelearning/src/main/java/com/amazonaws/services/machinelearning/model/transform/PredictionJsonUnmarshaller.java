@@ -47,23 +47,21 @@ public class PredictionJsonUnmarshaller implements Unmarshaller<Prediction, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("predictedLabel", targetDepth)) {
-                    context.nextToken();
-                    prediction.setPredictedLabel(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("predictedValue", targetDepth)) {
-                    context.nextToken();
-                    prediction.setPredictedValue(context.getUnmarshaller(Float.class).unmarshall(context));
-                }
-                if (context.testExpression("predictedScores", targetDepth)) {
-                    context.nextToken();
-                    prediction.setPredictedScores(new MapUnmarshaller<String, Float>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(Float.class)).unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    prediction.setDetails(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class))
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("predictedLabel".equals(fieldName)) {
+                        context.nextToken();
+                        prediction.setPredictedLabel(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("predictedValue".equals(fieldName)) {
+                        context.nextToken();
+                        prediction.setPredictedValue(context.getUnmarshaller(Float.class).unmarshall(context));
+                    } else if ("predictedScores".equals(fieldName)) {
+                        context.nextToken();
+                        prediction.setPredictedScores(predictedScoresUnmarshaller.unmarshall(context));
+                    } else if ("details".equals(fieldName)) {
+                        context.nextToken();
+                        prediction.setDetails(detailsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -77,6 +75,19 @@ public class PredictionJsonUnmarshaller implements Unmarshaller<Prediction, Json
         return prediction;
     }
 
+    private final Unmarshaller<java.util.Map<String, Float>, JsonUnmarshallerContext> predictedScoresUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, Float>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, Float>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, Float>(context.getUnmarshaller(String.class), context.getUnmarshaller(Float.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> detailsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static PredictionJsonUnmarshaller instance;
 
     public static PredictionJsonUnmarshaller getInstance() {
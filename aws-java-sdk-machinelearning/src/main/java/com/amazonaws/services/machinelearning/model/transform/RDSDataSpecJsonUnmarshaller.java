@@ -47,49 +47,42 @@ public class RDSDataSpecJsonUnmarshaller implements Unmarshaller<RDSDataSpec, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DatabaseInformation", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setDatabaseInformation(RDSDatabaseJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SelectSqlQuery", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setSelectSqlQuery(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DatabaseCredentials", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setDatabaseCredentials(RDSDatabaseCredentialsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3StagingLocation", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setS3StagingLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataRearrangement", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setDataRearrangement(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchema", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setDataSchema(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchemaUri", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setDataSchemaUri(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceRole", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setResourceRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceRole", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupIds", targetDepth)) {
-                    context.nextToken();
-                    rDSDataSpec.setSecurityGroupIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DatabaseInformation".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setDatabaseInformation(RDSDatabaseJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("SelectSqlQuery".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setSelectSqlQuery(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DatabaseCredentials".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setDatabaseCredentials(RDSDatabaseCredentialsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("S3StagingLocation".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setS3StagingLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataRearrangement".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setDataRearrangement(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataSchema".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setDataSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataSchemaUri".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setDataSchemaUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceRole".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setResourceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServiceRole".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetId".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SecurityGroupIds".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDataSpec.setSecurityGroupIds(securityGroupIdsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -103,6 +96,13 @@ public class RDSDataSpecJsonUnmarshaller implements Unmarshaller<RDSDataSpec, Js
         return rDSDataSpec;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> securityGroupIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static RDSDataSpecJsonUnmarshaller instance;
 
     public static RDSDataSpecJsonUnmarshaller getInstance() {
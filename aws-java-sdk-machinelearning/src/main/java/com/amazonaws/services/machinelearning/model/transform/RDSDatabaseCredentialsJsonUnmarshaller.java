@@ -47,13 +47,15 @@ public class RDSDatabaseCredentialsJsonUnmarshaller implements Unmarshaller<RDSD
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    rDSDatabaseCredentials.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Password", targetDepth)) {
-                    context.nextToken();
-                    rDSDatabaseCredentials.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDatabaseCredentials.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Password".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDatabaseCredentials.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
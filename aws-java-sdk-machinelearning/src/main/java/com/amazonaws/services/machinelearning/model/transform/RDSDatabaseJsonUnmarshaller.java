@@ -47,13 +47,15 @@ public class RDSDatabaseJsonUnmarshaller implements Unmarshaller<RDSDatabase, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceIdentifier", targetDepth)) {
-                    context.nextToken();
-                    rDSDatabase.setInstanceIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DatabaseName", targetDepth)) {
-                    context.nextToken();
-                    rDSDatabase.setDatabaseName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstanceIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDatabase.setInstanceIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DatabaseName".equals(fieldName)) {
+                        context.nextToken();
+                        rDSDatabase.setDatabaseName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class RDSMetadataJsonUnmarshaller implements Unmarshaller<RDSMetadata, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Database", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setDatabase(RDSDatabaseJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DatabaseUserName", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setDatabaseUserName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SelectSqlQuery", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setSelectSqlQuery(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceRole", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setResourceRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceRole", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataPipelineId", targetDepth)) {
-                    context.nextToken();
-                    rDSMetadata.setDataPipelineId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Database".equals(fieldName)) {
+                        context.nextToken();
+                        rDSMetadata.setDatabase(RDSDatabaseJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("DatabaseUserName".equals(fieldName)) {
+                        context.nextToken();
+                        rDSMetadata.setDatabaseUserName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SelectSqlQuery".equals(fieldName)) {
+                        context.nextToken();
+                        rDSMetadata.setSelectSqlQuery(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResourceRole".equals(fieldName)) {
+                        context.nextToken();
+                        rDSMetadata.setResourceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServiceRole".equals(fieldName)) {
+                        context.nextToken();
+                        rDSMetadata.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataPipelineId".equals(fieldName)) {
+                        context.nextToken();
+                        rDSMetadata.setDataPipelineId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
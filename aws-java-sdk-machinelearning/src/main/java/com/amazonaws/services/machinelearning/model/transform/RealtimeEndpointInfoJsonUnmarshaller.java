@@ -47,21 +47,21 @@ public class RealtimeEndpointInfoJsonUnmarshaller implements Unmarshaller<Realti
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("PeakRequestsPerSecond", targetDepth)) {
-                    context.nextToken();
-                    realtimeEndpointInfo.setPeakRequestsPerSecond(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    realtimeEndpointInfo.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointUrl", targetDepth)) {
-                    context.nextToken();
-                    realtimeEndpointInfo.setEndpointUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndpointStatus", targetDepth)) {
-                    context.nextToken();
-                    realtimeEndpointInfo.setEndpointStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("PeakRequestsPerSecond".equals(fieldName)) {
+                        context.nextToken();
+                        realtimeEndpointInfo.setPeakRequestsPerSecond(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        realtimeEndpointInfo.setCreatedAt(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("EndpointUrl".equals(fieldName)) {
+                        context.nextToken();
+                        realtimeEndpointInfo.setEndpointUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EndpointStatus".equals(fieldName)) {
+                        context.nextToken();
+                        realtimeEndpointInfo.setEndpointStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,33 +47,30 @@ public class RedshiftDataSpecJsonUnmarshaller implements Unmarshaller<RedshiftDa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DatabaseInformation", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setDatabaseInformation(RedshiftDatabaseJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SelectSqlQuery", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setSelectSqlQuery(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DatabaseCredentials", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setDatabaseCredentials(RedshiftDatabaseCredentialsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("S3StagingLocation", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setS3StagingLocation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataRearrangement", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setDataRearrangement(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchema", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setDataSchema(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchemaUri", targetDepth)) {
-                    context.nextToken();
-                    redshiftDataSpec.setDataSchemaUri(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DatabaseInformation".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDataSpec.setDatabaseInformation(RedshiftDatabaseJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("SelectSqlQuery".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDataSpec.setSelectSqlQuery(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DatabaseCredentials".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDataSpec.setDatabaseCredentials(RedshiftDatabaseCredentialsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("S3StagingLocation".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDataSpec.setS3StagingLocation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataRearrangement".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDataSpec.setDataRearrangement(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataSchema".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDataSpec.setDataSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataSchemaUri".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDataSpec.setDataSchemaUri(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
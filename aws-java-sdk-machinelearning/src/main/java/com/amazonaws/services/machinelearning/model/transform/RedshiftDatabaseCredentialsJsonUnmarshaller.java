@@ -47,13 +47,15 @@ public class RedshiftDatabaseCredentialsJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    redshiftDatabaseCredentials.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Password", targetDepth)) {
-                    context.nextToken();
-                    redshiftDatabaseCredentials.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDatabaseCredentials.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Password".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDatabaseCredentials.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
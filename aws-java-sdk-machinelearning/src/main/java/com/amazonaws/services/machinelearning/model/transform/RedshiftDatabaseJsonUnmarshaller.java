@@ -47,13 +47,15 @@ public class RedshiftDatabaseJsonUnmarshaller implements Unmarshaller<RedshiftDa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DatabaseName", targetDepth)) {
-                    context.nextToken();
-                    redshiftDatabase.setDatabaseName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ClusterIdentifier", targetDepth)) {
-                    context.nextToken();
-                    redshiftDatabase.setClusterIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DatabaseName".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDatabase.setDatabaseName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ClusterIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftDatabase.setClusterIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class RedshiftMetadataJsonUnmarshaller implements Unmarshaller<RedshiftMe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RedshiftDatabase", targetDepth)) {
-                    context.nextToken();
-                    redshiftMetadata.setRedshiftDatabase(RedshiftDatabaseJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DatabaseUserName", targetDepth)) {
-                    context.nextToken();
-                    redshiftMetadata.setDatabaseUserName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SelectSqlQuery", targetDepth)) {
-                    context.nextToken();
-                    redshiftMetadata.setSelectSqlQuery(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RedshiftDatabase".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftMetadata.setRedshiftDatabase(RedshiftDatabaseJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("DatabaseUserName".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftMetadata.setDatabaseUserName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SelectSqlQuery".equals(fieldName)) {
+                        context.nextToken();
+                        redshiftMetadata.setSelectSqlQuery(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class S3DataSpecJsonUnmarshaller implements Unmarshaller<S3DataSpec, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DataLocationS3", targetDepth)) {
-                    context.nextToken();
-                    s3DataSpec.setDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataRearrangement", targetDepth)) {
-                    context.nextToken();
-                    s3DataSpec.setDataRearrangement(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchema", targetDepth)) {
-                    context.nextToken();
-                    s3DataSpec.setDataSchema(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSchemaLocationS3", targetDepth)) {
-                    context.nextToken();
-                    s3DataSpec.setDataSchemaLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DataLocationS3".equals(fieldName)) {
+                        context.nextToken();
+                        s3DataSpec.setDataLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataRearrangement".equals(fieldName)) {
+                        context.nextToken();
+                        s3DataSpec.setDataRearrangement(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataSchema".equals(fieldName)) {
+                        context.nextToken();
+                        s3DataSpec.setDataSchema(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataSchemaLocationS3".equals(fieldName)) {
+                        context.nextToken();
+                        s3DataSpec.setDataSchemaLocationS3(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GenerateDataSetResultJsonUnmarshaller implements Unmarshaller<Gener
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("dataSetRequestId", targetDepth)) {
-                    context.nextToken();
-                    generateDataSetResult.setDataSetRequestId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("dataSetRequestId".equals(fieldName)) {
+                        context.nextToken();
+                        generateDataSetResult.setDataSetRequestId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
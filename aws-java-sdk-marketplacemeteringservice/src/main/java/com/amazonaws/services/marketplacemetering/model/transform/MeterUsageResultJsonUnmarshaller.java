@@ -47,9 +47,12 @@ public class MeterUsageResultJsonUnmarshaller implements Unmarshaller<MeterUsage
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MeteringRecordId", targetDepth)) {
-                    context.nextToken();
-                    meterUsageResult.setMeteringRecordId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MeteringRecordId".equals(fieldName)) {
+                        context.nextToken();
+                        meterUsageResult.setMeteringRecordId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
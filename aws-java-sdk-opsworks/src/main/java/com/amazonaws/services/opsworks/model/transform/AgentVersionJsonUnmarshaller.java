@@ -47,13 +47,15 @@ public class AgentVersionJsonUnmarshaller implements Unmarshaller<AgentVersion,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Version", targetDepth)) {
-                    context.nextToken();
-                    agentVersion.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigurationManager", targetDepth)) {
-                    context.nextToken();
-                    agentVersion.setConfigurationManager(StackConfigurationManagerJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Version".equals(fieldName)) {
+                        context.nextToken();
+                        agentVersion.setVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConfigurationManager".equals(fieldName)) {
+                        context.nextToken();
+                        agentVersion.setConfigurationManager(StackConfigurationManagerJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
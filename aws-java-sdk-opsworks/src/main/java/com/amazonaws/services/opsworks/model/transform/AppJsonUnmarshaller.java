@@ -47,62 +47,51 @@ public class AppJsonUnmarshaller implements Unmarshaller<App, JsonUnmarshallerCo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AppId", targetDepth)) {
-                    context.nextToken();
-                    app.setAppId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    app.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Shortname", targetDepth)) {
-                    context.nextToken();
-                    app.setShortname(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    app.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    app.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataSources", targetDepth)) {
-                    context.nextToken();
-                    app.setDataSources(new ListUnmarshaller<DataSource>(DataSourceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    app.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AppSource", targetDepth)) {
-                    context.nextToken();
-                    app.setAppSource(SourceJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Domains", targetDepth)) {
-                    context.nextToken();
-                    app.setDomains(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("EnableSsl", targetDepth)) {
-                    context.nextToken();
-                    app.setEnableSsl(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("SslConfiguration", targetDepth)) {
-                    context.nextToken();
-                    app.setSslConfiguration(SslConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    app.setAttributes(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    app.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Environment", targetDepth)) {
-                    context.nextToken();
-                    app.setEnvironment(new ListUnmarshaller<EnvironmentVariable>(EnvironmentVariableJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AppId".equals(fieldName)) {
+                        context.nextToken();
+                        app.setAppId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        app.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Shortname".equals(fieldName)) {
+                        context.nextToken();
+                        app.setShortname(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        app.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        app.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataSources".equals(fieldName)) {
+                        context.nextToken();
+                        app.setDataSources(dataSourcesUnmarshaller.unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        app.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AppSource".equals(fieldName)) {
+                        context.nextToken();
+                        app.setAppSource(SourceJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Domains".equals(fieldName)) {
+                        context.nextToken();
+                        app.setDomains(domainsUnmarshaller.unmarshall(context));
+                    } else if ("EnableSsl".equals(fieldName)) {
+                        context.nextToken();
+                        app.setEnableSsl(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("SslConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        app.setSslConfiguration(SslConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Attributes".equals(fieldName)) {
+                        context.nextToken();
+                        app.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        app.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Environment".equals(fieldName)) {
+                        context.nextToken();
+                        app.setEnvironment(environmentUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -116,6 +105,31 @@ public class AppJsonUnmarshaller implements Unmarshaller<App, JsonUnmarshallerCo
         return app;
     }
 
+    private final Unmarshaller<java.util.List<DataSource>, JsonUnmarshallerContext> dataSourcesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DataSource>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DataSource>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DataSource>(DataSourceJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> domainsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<EnvironmentVariable>, JsonUnmarshallerContext> environmentUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EnvironmentVariable>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EnvironmentVariable>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EnvironmentVariable>(EnvironmentVariableJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static AppJsonUnmarshaller instance;
 
     public static AppJsonUnmarshaller getInstance() {
@@ -47,33 +47,30 @@ public class AutoScalingThresholdsJsonUnmarshaller implements Unmarshaller<AutoS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceCount", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ThresholdsWaitTime", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds.setThresholdsWaitTime(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IgnoreMetricsTime", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds.setIgnoreMetricsTime(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("CpuThreshold", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds.setCpuThreshold(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("MemoryThreshold", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds.setMemoryThreshold(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("LoadThreshold", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds.setLoadThreshold(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("Alarms", targetDepth)) {
-                    context.nextToken();
-                    autoScalingThresholds.setAlarms(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstanceCount".equals(fieldName)) {
+                        context.nextToken();
+                        autoScalingThresholds.setInstanceCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ThresholdsWaitTime".equals(fieldName)) {
+                        context.nextToken();
+                        autoScalingThresholds.setThresholdsWaitTime(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("IgnoreMetricsTime".equals(fieldName)) {
+                        context.nextToken();
+                        autoScalingThresholds.setIgnoreMetricsTime(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("CpuThreshold".equals(fieldName)) {
+                        context.nextToken();
+                        autoScalingThresholds.setCpuThreshold(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("MemoryThreshold".equals(fieldName)) {
+                        context.nextToken();
+                        autoScalingThresholds.setMemoryThreshold(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("LoadThreshold".equals(fieldName)) {
+                        context.nextToken();
+                        autoScalingThresholds.setLoadThreshold(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("Alarms".equals(fieldName)) {
+                        context.nextToken();
+                        autoScalingThresholds.setAlarms(alarmsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -87,6 +84,13 @@ public class AutoScalingThresholdsJsonUnmarshaller implements Unmarshaller<AutoS
         return autoScalingThresholds;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> alarmsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static AutoScalingThresholdsJsonUnmarshaller instance;
 
     public static AutoScalingThresholdsJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class BlockDeviceMappingJsonUnmarshaller implements Unmarshaller<BlockDev
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeviceName", targetDepth)) {
-                    context.nextToken();
-                    blockDeviceMapping.setDeviceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NoDevice", targetDepth)) {
-                    context.nextToken();
-                    blockDeviceMapping.setNoDevice(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VirtualName", targetDepth)) {
-                    context.nextToken();
-                    blockDeviceMapping.setVirtualName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ebs", targetDepth)) {
-                    context.nextToken();
-                    blockDeviceMapping.setEbs(EbsBlockDeviceJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeviceName".equals(fieldName)) {
+                        context.nextToken();
+                        blockDeviceMapping.setDeviceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NoDevice".equals(fieldName)) {
+                        context.nextToken();
+                        blockDeviceMapping.setNoDevice(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VirtualName".equals(fieldName)) {
+                        context.nextToken();
+                        blockDeviceMapping.setVirtualName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Ebs".equals(fieldName)) {
+                        context.nextToken();
+                        blockDeviceMapping.setEbs(EbsBlockDeviceJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
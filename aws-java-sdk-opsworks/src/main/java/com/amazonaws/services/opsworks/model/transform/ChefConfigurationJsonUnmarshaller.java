@@ -47,13 +47,15 @@ public class ChefConfigurationJsonUnmarshaller implements Unmarshaller<ChefConfi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ManageBerkshelf", targetDepth)) {
-                    context.nextToken();
-                    chefConfiguration.setManageBerkshelf(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("BerkshelfVersion", targetDepth)) {
-                    context.nextToken();
-                    chefConfiguration.setBerkshelfVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ManageBerkshelf".equals(fieldName)) {
+                        context.nextToken();
+                        chefConfiguration.setManageBerkshelf(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("BerkshelfVersion".equals(fieldName)) {
+                        context.nextToken();
+                        chefConfiguration.setBerkshelfVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CloneStackResultJsonUnmarshaller implements Unmarshaller<CloneStack
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    cloneStackResult.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        cloneStackResult.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,45 +47,39 @@ public class CommandJsonUnmarshaller implements Unmarshaller<Command, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CommandId", targetDepth)) {
-                    context.nextToken();
-                    command.setCommandId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    command.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeploymentId", targetDepth)) {
-                    context.nextToken();
-                    command.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    command.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AcknowledgedAt", targetDepth)) {
-                    context.nextToken();
-                    command.setAcknowledgedAt(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletedAt", targetDepth)) {
-                    context.nextToken();
-                    command.setCompletedAt(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    command.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExitCode", targetDepth)) {
-                    context.nextToken();
-                    command.setExitCode(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LogUrl", targetDepth)) {
-                    context.nextToken();
-                    command.setLogUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    command.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CommandId".equals(fieldName)) {
+                        context.nextToken();
+                        command.setCommandId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        command.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeploymentId".equals(fieldName)) {
+                        context.nextToken();
+                        command.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        command.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AcknowledgedAt".equals(fieldName)) {
+                        context.nextToken();
+                        command.setAcknowledgedAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CompletedAt".equals(fieldName)) {
+                        context.nextToken();
+                        command.setCompletedAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        command.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ExitCode".equals(fieldName)) {
+                        context.nextToken();
+                        command.setExitCode(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("LogUrl".equals(fieldName)) {
+                        context.nextToken();
+                        command.setLogUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        command.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
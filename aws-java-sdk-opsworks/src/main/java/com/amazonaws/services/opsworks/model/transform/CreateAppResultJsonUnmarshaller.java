@@ -47,9 +47,12 @@ public class CreateAppResultJsonUnmarshaller implements Unmarshaller<CreateAppRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AppId", targetDepth)) {
-                    context.nextToken();
-                    createAppResult.setAppId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AppId".equals(fieldName)) {
+                        context.nextToken();
+                        createAppResult.setAppId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateLayerResultJsonUnmarshaller implements Unmarshaller<CreateLay
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LayerId", targetDepth)) {
-                    context.nextToken();
-                    createLayerResult.setLayerId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("LayerId".equals(fieldName)) {
+                        context.nextToken();
+                        createLayerResult.setLayerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
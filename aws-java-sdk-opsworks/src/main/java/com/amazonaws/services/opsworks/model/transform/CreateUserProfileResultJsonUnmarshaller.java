@@ -47,9 +47,12 @@ public class CreateUserProfileResultJsonUnmarshaller implements Unmarshaller<Cre
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IamUserArn", targetDepth)) {
-                    context.nextToken();
-                    createUserProfileResult.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IamUserArn".equals(fieldName)) {
+                        context.nextToken();
+                        createUserProfileResult.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class DataSourceJsonUnmarshaller implements Unmarshaller<DataSource, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DatabaseName", targetDepth)) {
-                    context.nextToken();
-                    dataSource.setDatabaseName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DatabaseName".equals(fieldName)) {
+                        context.nextToken();
+                        dataSource.setDatabaseName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class DeploymentCommandJsonUnmarshaller implements Unmarshaller<Deploymen
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    deploymentCommand.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Args", targetDepth)) {
-                    context.nextToken();
-                    deploymentCommand.setArgs(new MapUnmarshaller<String, java.util.List<String>>(context.getUnmarshaller(String.class),
-                            new ListUnmarshaller<String>(context.getUnmarshaller(String.class))).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentCommand.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Args".equals(fieldName)) {
+                        context.nextToken();
+                        deploymentCommand.setArgs(argsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,14 @@ public class DeploymentCommandJsonUnmarshaller implements Unmarshaller<Deploymen
         return deploymentCommand;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.List<String>>, JsonUnmarshallerContext> argsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<String>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<String>>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<String>>(context.getUnmarshaller(String.class), new ListUnmarshaller<String>(
+                    context.getUnmarshaller(String.class)));
+        }
+    };
+
     private static DeploymentCommandJsonUnmarshaller instance;
 
     public static DeploymentCommandJsonUnmarshaller getInstance() {
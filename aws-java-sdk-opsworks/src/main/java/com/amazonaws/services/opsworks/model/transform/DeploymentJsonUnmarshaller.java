@@ -47,53 +47,45 @@ public class DeploymentJsonUnmarshaller implements Unmarshaller<Deployment, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DeploymentId", targetDepth)) {
-                    context.nextToken();
-                    deployment.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    deployment.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AppId", targetDepth)) {
-                    context.nextToken();
-                    deployment.setAppId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletedAt", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCompletedAt(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Duration", targetDepth)) {
-                    context.nextToken();
-                    deployment.setDuration(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("IamUserArn", targetDepth)) {
-                    context.nextToken();
-                    deployment.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Comment", targetDepth)) {
-                    context.nextToken();
-                    deployment.setComment(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Command", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCommand(DeploymentCommandJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    deployment.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CustomJson", targetDepth)) {
-                    context.nextToken();
-                    deployment.setCustomJson(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceIds", targetDepth)) {
-                    context.nextToken();
-                    deployment.setInstanceIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DeploymentId".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setDeploymentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AppId".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setAppId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CompletedAt".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setCompletedAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Duration".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setDuration(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("IamUserArn".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Comment".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setComment(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Command".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setCommand(DeploymentCommandJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CustomJson".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setCustomJson(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceIds".equals(fieldName)) {
+                        context.nextToken();
+                        deployment.setInstanceIds(instanceIdsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -107,6 +99,13 @@ public class DeploymentJsonUnmarshaller implements Unmarshaller<Deployment, Json
         return deployment;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> instanceIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DeploymentJsonUnmarshaller instance;
 
     public static DeploymentJsonUnmarshaller getInstance() {
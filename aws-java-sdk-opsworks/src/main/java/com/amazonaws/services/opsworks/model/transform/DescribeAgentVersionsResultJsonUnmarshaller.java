@@ -47,10 +47,12 @@ public class DescribeAgentVersionsResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AgentVersions", targetDepth)) {
-                    context.nextToken();
-                    describeAgentVersionsResult.setAgentVersions(new ListUnmarshaller<AgentVersion>(AgentVersionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AgentVersions".equals(fieldName)) {
+                        context.nextToken();
+                        describeAgentVersionsResult.setAgentVersions(agentVersionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeAgentVersionsResultJsonUnmarshaller implements Unmarshaller
         return describeAgentVersionsResult;
     }
 
+    private final Unmarshaller<java.util.List<AgentVersion>, JsonUnmarshallerContext> agentVersionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AgentVersion>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AgentVersion>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AgentVersion>(AgentVersionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeAgentVersionsResultJsonUnmarshaller instance;
 
     public static DescribeAgentVersionsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DescribeAppsResultJsonUnmarshaller implements Unmarshaller<Describe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Apps", targetDepth)) {
-                    context.nextToken();
-                    describeAppsResult.setApps(new ListUnmarshaller<App>(AppJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Apps".equals(fieldName)) {
+                        context.nextToken();
+                        describeAppsResult.setApps(appsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeAppsResultJsonUnmarshaller implements Unmarshaller<Describe
         return describeAppsResult;
     }
 
+    private final Unmarshaller<java.util.List<App>, JsonUnmarshallerContext> appsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<App>>() {
+        @Override
+        protected Unmarshaller<java.util.List<App>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<App>(AppJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeAppsResultJsonUnmarshaller instance;
 
     public static DescribeAppsResultJsonUnmarshaller getInstance() {
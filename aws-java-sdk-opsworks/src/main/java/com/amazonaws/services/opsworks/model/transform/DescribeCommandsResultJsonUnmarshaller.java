@@ -47,9 +47,12 @@ public class DescribeCommandsResultJsonUnmarshaller implements Unmarshaller<Desc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Commands", targetDepth)) {
-                    context.nextToken();
-                    describeCommandsResult.setCommands(new ListUnmarshaller<Command>(CommandJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Commands".equals(fieldName)) {
+                        context.nextToken();
+                        describeCommandsResult.setCommands(commandsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeCommandsResultJsonUnmarshaller implements Unmarshaller<Desc
         return describeCommandsResult;
     }
 
+    private final Unmarshaller<java.util.List<Command>, JsonUnmarshallerContext> commandsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Command>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Command>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Command>(CommandJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeCommandsResultJsonUnmarshaller instance;
 
     public static DescribeCommandsResultJsonUnmarshaller getInstance() {
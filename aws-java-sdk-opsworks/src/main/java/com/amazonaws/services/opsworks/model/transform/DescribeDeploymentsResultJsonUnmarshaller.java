@@ -47,9 +47,12 @@ public class DescribeDeploymentsResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Deployments", targetDepth)) {
-                    context.nextToken();
-                    describeDeploymentsResult.setDeployments(new ListUnmarshaller<Deployment>(DeploymentJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Deployments".equals(fieldName)) {
+                        context.nextToken();
+                        describeDeploymentsResult.setDeployments(deploymentsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeDeploymentsResultJsonUnmarshaller implements Unmarshaller<D
         return describeDeploymentsResult;
     }
 
+    private final Unmarshaller<java.util.List<Deployment>, JsonUnmarshallerContext> deploymentsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Deployment>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Deployment>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Deployment>(DeploymentJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeDeploymentsResultJsonUnmarshaller instance;
 
     public static DescribeDeploymentsResultJsonUnmarshaller getInstance() {
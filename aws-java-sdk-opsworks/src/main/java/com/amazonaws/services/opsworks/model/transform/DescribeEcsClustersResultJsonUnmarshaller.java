@@ -47,13 +47,15 @@ public class DescribeEcsClustersResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EcsClusters", targetDepth)) {
-                    context.nextToken();
-                    describeEcsClustersResult.setEcsClusters(new ListUnmarshaller<EcsCluster>(EcsClusterJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeEcsClustersResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EcsClusters".equals(fieldName)) {
+                        context.nextToken();
+                        describeEcsClustersResult.setEcsClusters(ecsClustersUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeEcsClustersResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeEcsClustersResultJsonUnmarshaller implements Unmarshaller<D
         return describeEcsClustersResult;
     }
 
+    private final Unmarshaller<java.util.List<EcsCluster>, JsonUnmarshallerContext> ecsClustersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<EcsCluster>>() {
+        @Override
+        protected Unmarshaller<java.util.List<EcsCluster>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<EcsCluster>(EcsClusterJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeEcsClustersResultJsonUnmarshaller instance;
 
     public static DescribeEcsClustersResultJsonUnmarshaller getInstance() {
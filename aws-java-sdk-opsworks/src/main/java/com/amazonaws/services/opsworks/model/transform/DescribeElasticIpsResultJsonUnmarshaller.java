@@ -47,9 +47,12 @@ public class DescribeElasticIpsResultJsonUnmarshaller implements Unmarshaller<De
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ElasticIps", targetDepth)) {
-                    context.nextToken();
-                    describeElasticIpsResult.setElasticIps(new ListUnmarshaller<ElasticIp>(ElasticIpJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ElasticIps".equals(fieldName)) {
+                        context.nextToken();
+                        describeElasticIpsResult.setElasticIps(elasticIpsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeElasticIpsResultJsonUnmarshaller implements Unmarshaller<De
         return describeElasticIpsResult;
     }
 
+    private final Unmarshaller<java.util.List<ElasticIp>, JsonUnmarshallerContext> elasticIpsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ElasticIp>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ElasticIp>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ElasticIp>(ElasticIpJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeElasticIpsResultJsonUnmarshaller instance;
 
     public static DescribeElasticIpsResultJsonUnmarshaller getInstance() {
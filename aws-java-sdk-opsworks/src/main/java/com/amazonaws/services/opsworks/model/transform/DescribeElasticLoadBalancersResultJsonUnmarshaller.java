@@ -47,10 +47,12 @@ public class DescribeElasticLoadBalancersResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ElasticLoadBalancers", targetDepth)) {
-                    context.nextToken();
-                    describeElasticLoadBalancersResult.setElasticLoadBalancers(new ListUnmarshaller<ElasticLoadBalancer>(ElasticLoadBalancerJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ElasticLoadBalancers".equals(fieldName)) {
+                        context.nextToken();
+                        describeElasticLoadBalancersResult.setElasticLoadBalancers(elasticLoadBalancersUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeElasticLoadBalancersResultJsonUnmarshaller implements Unmar
         return describeElasticLoadBalancersResult;
     }
 
+    private final Unmarshaller<java.util.List<ElasticLoadBalancer>, JsonUnmarshallerContext> elasticLoadBalancersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ElasticLoadBalancer>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ElasticLoadBalancer>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ElasticLoadBalancer>(ElasticLoadBalancerJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeElasticLoadBalancersResultJsonUnmarshaller instance;
 
     public static DescribeElasticLoadBalancersResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DescribeInstancesResultJsonUnmarshaller implements Unmarshaller<Des
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Instances", targetDepth)) {
-                    context.nextToken();
-                    describeInstancesResult.setInstances(new ListUnmarshaller<Instance>(InstanceJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Instances".equals(fieldName)) {
+                        context.nextToken();
+                        describeInstancesResult.setInstances(instancesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeInstancesResultJsonUnmarshaller implements Unmarshaller<Des
         return describeInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<Instance>, JsonUnmarshallerContext> instancesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Instance>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Instance>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Instance>(InstanceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeInstancesResultJsonUnmarshaller instance;
 
     public static DescribeInstancesResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DescribeLayersResultJsonUnmarshaller implements Unmarshaller<Descri
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Layers", targetDepth)) {
-                    context.nextToken();
-                    describeLayersResult.setLayers(new ListUnmarshaller<Layer>(LayerJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Layers".equals(fieldName)) {
+                        context.nextToken();
+                        describeLayersResult.setLayers(layersUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeLayersResultJsonUnmarshaller implements Unmarshaller<Descri
         return describeLayersResult;
     }
 
+    private final Unmarshaller<java.util.List<Layer>, JsonUnmarshallerContext> layersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Layer>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Layer>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Layer>(LayerJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeLayersResultJsonUnmarshaller instance;
 
     public static DescribeLayersResultJsonUnmarshaller getInstance() {
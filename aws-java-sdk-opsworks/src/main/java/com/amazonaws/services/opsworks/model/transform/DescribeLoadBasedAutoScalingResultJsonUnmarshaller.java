@@ -47,10 +47,13 @@ public class DescribeLoadBasedAutoScalingResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LoadBasedAutoScalingConfigurations", targetDepth)) {
-                    context.nextToken();
-                    describeLoadBasedAutoScalingResult.setLoadBasedAutoScalingConfigurations(new ListUnmarshaller<LoadBasedAutoScalingConfiguration>(
-                            LoadBasedAutoScalingConfigurationJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("LoadBasedAutoScalingConfigurations".equals(fieldName)) {
+                        context.nextToken();
+                        describeLoadBasedAutoScalingResult.setLoadBasedAutoScalingConfigurations(loadBasedAutoScalingConfigurationsUnmarshaller
+                                .unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +67,13 @@ public class DescribeLoadBasedAutoScalingResultJsonUnmarshaller implements Unmar
         return describeLoadBasedAutoScalingResult;
     }
 
+    private final Unmarshaller<java.util.List<LoadBasedAutoScalingConfiguration>, JsonUnmarshallerContext> loadBasedAutoScalingConfigurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<LoadBasedAutoScalingConfiguration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<LoadBasedAutoScalingConfiguration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<LoadBasedAutoScalingConfiguration>(LoadBasedAutoScalingConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeLoadBasedAutoScalingResultJsonUnmarshaller instance;
 
     public static DescribeLoadBasedAutoScalingResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DescribeMyUserProfileResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserProfile", targetDepth)) {
-                    context.nextToken();
-                    describeMyUserProfileResult.setUserProfile(SelfUserProfileJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UserProfile".equals(fieldName)) {
+                        context.nextToken();
+                        describeMyUserProfileResult.setUserProfile(SelfUserProfileJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
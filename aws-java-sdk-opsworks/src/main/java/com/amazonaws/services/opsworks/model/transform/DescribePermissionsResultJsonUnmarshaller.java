@@ -47,9 +47,12 @@ public class DescribePermissionsResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Permissions", targetDepth)) {
-                    context.nextToken();
-                    describePermissionsResult.setPermissions(new ListUnmarshaller<Permission>(PermissionJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Permissions".equals(fieldName)) {
+                        context.nextToken();
+                        describePermissionsResult.setPermissions(permissionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribePermissionsResultJsonUnmarshaller implements Unmarshaller<D
         return describePermissionsResult;
     }
 
+    private final Unmarshaller<java.util.List<Permission>, JsonUnmarshallerContext> permissionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Permission>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Permission>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Permission>(PermissionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribePermissionsResultJsonUnmarshaller instance;
 
     public static DescribePermissionsResultJsonUnmarshaller getInstance() {
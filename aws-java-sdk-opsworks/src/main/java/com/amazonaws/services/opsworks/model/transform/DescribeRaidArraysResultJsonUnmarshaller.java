@@ -47,9 +47,12 @@ public class DescribeRaidArraysResultJsonUnmarshaller implements Unmarshaller<De
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RaidArrays", targetDepth)) {
-                    context.nextToken();
-                    describeRaidArraysResult.setRaidArrays(new ListUnmarshaller<RaidArray>(RaidArrayJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RaidArrays".equals(fieldName)) {
+                        context.nextToken();
+                        describeRaidArraysResult.setRaidArrays(raidArraysUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeRaidArraysResultJsonUnmarshaller implements Unmarshaller<De
         return describeRaidArraysResult;
     }
 
+    private final Unmarshaller<java.util.List<RaidArray>, JsonUnmarshallerContext> raidArraysUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RaidArray>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RaidArray>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RaidArray>(RaidArrayJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeRaidArraysResultJsonUnmarshaller instance;
 
     public static DescribeRaidArraysResultJsonUnmarshaller getInstance() {
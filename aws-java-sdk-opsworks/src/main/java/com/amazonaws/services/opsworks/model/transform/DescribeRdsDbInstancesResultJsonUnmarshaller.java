@@ -47,10 +47,12 @@ public class DescribeRdsDbInstancesResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RdsDbInstances", targetDepth)) {
-                    context.nextToken();
-                    describeRdsDbInstancesResult.setRdsDbInstances(new ListUnmarshaller<RdsDbInstance>(RdsDbInstanceJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RdsDbInstances".equals(fieldName)) {
+                        context.nextToken();
+                        describeRdsDbInstancesResult.setRdsDbInstances(rdsDbInstancesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeRdsDbInstancesResultJsonUnmarshaller implements Unmarshalle
         return describeRdsDbInstancesResult;
     }
 
+    private final Unmarshaller<java.util.List<RdsDbInstance>, JsonUnmarshallerContext> rdsDbInstancesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RdsDbInstance>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RdsDbInstance>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RdsDbInstance>(RdsDbInstanceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeRdsDbInstancesResultJsonUnmarshaller instance;
 
     public static DescribeRdsDbInstancesResultJsonUnmarshaller getInstance() {
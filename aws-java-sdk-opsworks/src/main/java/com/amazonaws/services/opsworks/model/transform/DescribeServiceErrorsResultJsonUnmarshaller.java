@@ -47,10 +47,12 @@ public class DescribeServiceErrorsResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ServiceErrors", targetDepth)) {
-                    context.nextToken();
-                    describeServiceErrorsResult.setServiceErrors(new ListUnmarshaller<ServiceError>(ServiceErrorJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ServiceErrors".equals(fieldName)) {
+                        context.nextToken();
+                        describeServiceErrorsResult.setServiceErrors(serviceErrorsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeServiceErrorsResultJsonUnmarshaller implements Unmarshaller
         return describeServiceErrorsResult;
     }
 
+    private final Unmarshaller<java.util.List<ServiceError>, JsonUnmarshallerContext> serviceErrorsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ServiceError>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ServiceError>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ServiceError>(ServiceErrorJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeServiceErrorsResultJsonUnmarshaller instance;
 
     public static DescribeServiceErrorsResultJsonUnmarshaller getInstance() {
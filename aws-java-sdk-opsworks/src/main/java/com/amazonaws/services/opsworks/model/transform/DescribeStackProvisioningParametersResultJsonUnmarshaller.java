@@ -48,14 +48,15 @@ public class DescribeStackProvisioningParametersResultJsonUnmarshaller implement
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AgentInstallerUrl", targetDepth)) {
-                    context.nextToken();
-                    describeStackProvisioningParametersResult.setAgentInstallerUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Parameters", targetDepth)) {
-                    context.nextToken();
-                    describeStackProvisioningParametersResult.setParameters(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AgentInstallerUrl".equals(fieldName)) {
+                        context.nextToken();
+                        describeStackProvisioningParametersResult.setAgentInstallerUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Parameters".equals(fieldName)) {
+                        context.nextToken();
+                        describeStackProvisioningParametersResult.setParameters(parametersUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +70,13 @@ public class DescribeStackProvisioningParametersResultJsonUnmarshaller implement
         return describeStackProvisioningParametersResult;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> parametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeStackProvisioningParametersResultJsonUnmarshaller instance;
 
     public static DescribeStackProvisioningParametersResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DescribeStackSummaryResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StackSummary", targetDepth)) {
-                    context.nextToken();
-                    describeStackSummaryResult.setStackSummary(StackSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StackSummary".equals(fieldName)) {
+                        context.nextToken();
+                        describeStackSummaryResult.setStackSummary(StackSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
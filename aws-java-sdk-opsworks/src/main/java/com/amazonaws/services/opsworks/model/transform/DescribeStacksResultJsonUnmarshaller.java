@@ -47,9 +47,12 @@ public class DescribeStacksResultJsonUnmarshaller implements Unmarshaller<Descri
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Stacks", targetDepth)) {
-                    context.nextToken();
-                    describeStacksResult.setStacks(new ListUnmarshaller<Stack>(StackJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Stacks".equals(fieldName)) {
+                        context.nextToken();
+                        describeStacksResult.setStacks(stacksUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeStacksResultJsonUnmarshaller implements Unmarshaller<Descri
         return describeStacksResult;
     }
 
+    private final Unmarshaller<java.util.List<Stack>, JsonUnmarshallerContext> stacksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Stack>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Stack>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Stack>(StackJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeStacksResultJsonUnmarshaller instance;
 
     public static DescribeStacksResultJsonUnmarshaller getInstance() {
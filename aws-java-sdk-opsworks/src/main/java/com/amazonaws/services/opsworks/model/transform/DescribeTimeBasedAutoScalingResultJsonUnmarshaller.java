@@ -47,10 +47,13 @@ public class DescribeTimeBasedAutoScalingResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TimeBasedAutoScalingConfigurations", targetDepth)) {
-                    context.nextToken();
-                    describeTimeBasedAutoScalingResult.setTimeBasedAutoScalingConfigurations(new ListUnmarshaller<TimeBasedAutoScalingConfiguration>(
-                            TimeBasedAutoScalingConfigurationJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TimeBasedAutoScalingConfigurations".equals(fieldName)) {
+                        context.nextToken();
+                        describeTimeBasedAutoScalingResult.setTimeBasedAutoScalingConfigurations(timeBasedAutoScalingConfigurationsUnmarshaller
+                                .unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +67,13 @@ public class DescribeTimeBasedAutoScalingResultJsonUnmarshaller implements Unmar
         return describeTimeBasedAutoScalingResult;
     }
 
+    private final Unmarshaller<java.util.List<TimeBasedAutoScalingConfiguration>, JsonUnmarshallerContext> timeBasedAutoScalingConfigurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TimeBasedAutoScalingConfiguration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TimeBasedAutoScalingConfiguration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TimeBasedAutoScalingConfiguration>(TimeBasedAutoScalingConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTimeBasedAutoScalingResultJsonUnmarshaller instance;
 
     public static DescribeTimeBasedAutoScalingResultJsonUnmarshaller getInstance() {
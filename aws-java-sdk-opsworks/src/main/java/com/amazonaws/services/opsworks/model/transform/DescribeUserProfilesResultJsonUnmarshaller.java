@@ -47,10 +47,12 @@ public class DescribeUserProfilesResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UserProfiles", targetDepth)) {
-                    context.nextToken();
-                    describeUserProfilesResult
-                            .setUserProfiles(new ListUnmarshaller<UserProfile>(UserProfileJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UserProfiles".equals(fieldName)) {
+                        context.nextToken();
+                        describeUserProfilesResult.setUserProfiles(userProfilesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeUserProfilesResultJsonUnmarshaller implements Unmarshaller<
         return describeUserProfilesResult;
     }
 
+    private final Unmarshaller<java.util.List<UserProfile>, JsonUnmarshallerContext> userProfilesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<UserProfile>>() {
+        @Override
+        protected Unmarshaller<java.util.List<UserProfile>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<UserProfile>(UserProfileJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeUserProfilesResultJsonUnmarshaller instance;
 
     public static DescribeUserProfilesResultJsonUnmarshaller getInstance() {
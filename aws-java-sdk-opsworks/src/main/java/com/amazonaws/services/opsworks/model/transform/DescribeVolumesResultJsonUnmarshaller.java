@@ -47,9 +47,12 @@ public class DescribeVolumesResultJsonUnmarshaller implements Unmarshaller<Descr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Volumes", targetDepth)) {
-                    context.nextToken();
-                    describeVolumesResult.setVolumes(new ListUnmarshaller<Volume>(VolumeJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Volumes".equals(fieldName)) {
+                        context.nextToken();
+                        describeVolumesResult.setVolumes(volumesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeVolumesResultJsonUnmarshaller implements Unmarshaller<Descr
         return describeVolumesResult;
     }
 
+    private final Unmarshaller<java.util.List<Volume>, JsonUnmarshallerContext> volumesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Volume>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Volume>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Volume>(VolumeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeVolumesResultJsonUnmarshaller instance;
 
     public static DescribeVolumesResultJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class EbsBlockDeviceJsonUnmarshaller implements Unmarshaller<EbsBlockDevi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnapshotId", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSize", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setVolumeSize(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeleteOnTermination", targetDepth)) {
-                    context.nextToken();
-                    ebsBlockDevice.setDeleteOnTermination(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SnapshotId".equals(fieldName)) {
+                        context.nextToken();
+                        ebsBlockDevice.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Iops".equals(fieldName)) {
+                        context.nextToken();
+                        ebsBlockDevice.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("VolumeSize".equals(fieldName)) {
+                        context.nextToken();
+                        ebsBlockDevice.setVolumeSize(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("VolumeType".equals(fieldName)) {
+                        context.nextToken();
+                        ebsBlockDevice.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeleteOnTermination".equals(fieldName)) {
+                        context.nextToken();
+                        ebsBlockDevice.setDeleteOnTermination(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class EcsClusterJsonUnmarshaller implements Unmarshaller<EcsCluster, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EcsClusterArn", targetDepth)) {
-                    context.nextToken();
-                    ecsCluster.setEcsClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EcsClusterName", targetDepth)) {
-                    context.nextToken();
-                    ecsCluster.setEcsClusterName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    ecsCluster.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RegisteredAt", targetDepth)) {
-                    context.nextToken();
-                    ecsCluster.setRegisteredAt(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EcsClusterArn".equals(fieldName)) {
+                        context.nextToken();
+                        ecsCluster.setEcsClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EcsClusterName".equals(fieldName)) {
+                        context.nextToken();
+                        ecsCluster.setEcsClusterName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        ecsCluster.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RegisteredAt".equals(fieldName)) {
+                        context.nextToken();
+                        ecsCluster.setRegisteredAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
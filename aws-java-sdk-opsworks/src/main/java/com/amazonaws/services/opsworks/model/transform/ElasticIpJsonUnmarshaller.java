@@ -47,25 +47,24 @@ public class ElasticIpJsonUnmarshaller implements Unmarshaller<ElasticIp, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Ip", targetDepth)) {
-                    context.nextToken();
-                    elasticIp.setIp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    elasticIp.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Domain", targetDepth)) {
-                    context.nextToken();
-                    elasticIp.setDomain(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Region", targetDepth)) {
-                    context.nextToken();
-                    elasticIp.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    elasticIp.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Ip".equals(fieldName)) {
+                        context.nextToken();
+                        elasticIp.setIp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        elasticIp.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Domain".equals(fieldName)) {
+                        context.nextToken();
+                        elasticIp.setDomain(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Region".equals(fieldName)) {
+                        context.nextToken();
+                        elasticIp.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        elasticIp.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
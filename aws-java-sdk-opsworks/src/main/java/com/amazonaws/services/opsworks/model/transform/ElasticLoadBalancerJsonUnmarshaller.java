@@ -47,41 +47,36 @@ public class ElasticLoadBalancerJsonUnmarshaller implements Unmarshaller<Elastic
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ElasticLoadBalancerName", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setElasticLoadBalancerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Region", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DnsName", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setDnsName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LayerId", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setLayerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZones", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setAvailabilityZones(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setSubnetIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Ec2InstanceIds", targetDepth)) {
-                    context.nextToken();
-                    elasticLoadBalancer.setEc2InstanceIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ElasticLoadBalancerName".equals(fieldName)) {
+                        context.nextToken();
+                        elasticLoadBalancer.setElasticLoadBalancerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Region".equals(fieldName)) {
+                        context.nextToken();
+                        elasticLoadBalancer.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DnsName".equals(fieldName)) {
+                        context.nextToken();
+                        elasticLoadBalancer.setDnsName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        elasticLoadBalancer.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LayerId".equals(fieldName)) {
+                        context.nextToken();
+                        elasticLoadBalancer.setLayerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VpcId".equals(fieldName)) {
+                        context.nextToken();
+                        elasticLoadBalancer.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AvailabilityZones".equals(fieldName)) {
+                        context.nextToken();
+                        elasticLoadBalancer.setAvailabilityZones(availabilityZonesUnmarshaller.unmarshall(context));
+                    } else if ("SubnetIds".equals(fieldName)) {
+                        context.nextToken();
+                        elasticLoadBalancer.setSubnetIds(subnetIdsUnmarshaller.unmarshall(context));
+                    } else if ("Ec2InstanceIds".equals(fieldName)) {
+                        context.nextToken();
+                        elasticLoadBalancer.setEc2InstanceIds(ec2InstanceIdsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -95,6 +90,25 @@ public class ElasticLoadBalancerJsonUnmarshaller implements Unmarshaller<Elastic
         return elasticLoadBalancer;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> availabilityZonesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> subnetIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> ec2InstanceIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ElasticLoadBalancerJsonUnmarshaller instance;
 
     public static ElasticLoadBalancerJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class EnvironmentVariableJsonUnmarshaller implements Unmarshaller<Environ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    environmentVariable.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    environmentVariable.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Secure", targetDepth)) {
-                    context.nextToken();
-                    environmentVariable.setSecure(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        environmentVariable.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        environmentVariable.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Secure".equals(fieldName)) {
+                        context.nextToken();
+                        environmentVariable.setSecure(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
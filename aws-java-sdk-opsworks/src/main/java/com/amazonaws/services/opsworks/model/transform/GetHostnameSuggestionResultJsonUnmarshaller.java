@@ -47,13 +47,15 @@ public class GetHostnameSuggestionResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LayerId", targetDepth)) {
-                    context.nextToken();
-                    getHostnameSuggestionResult.setLayerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Hostname", targetDepth)) {
-                    context.nextToken();
-                    getHostnameSuggestionResult.setHostname(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("LayerId".equals(fieldName)) {
+                        context.nextToken();
+                        getHostnameSuggestionResult.setLayerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Hostname".equals(fieldName)) {
+                        context.nextToken();
+                        getHostnameSuggestionResult.setHostname(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
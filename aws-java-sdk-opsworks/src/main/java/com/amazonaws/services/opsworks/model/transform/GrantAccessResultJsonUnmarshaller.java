@@ -47,9 +47,12 @@ public class GrantAccessResultJsonUnmarshaller implements Unmarshaller<GrantAcce
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TemporaryCredential", targetDepth)) {
-                    context.nextToken();
-                    grantAccessResult.setTemporaryCredential(TemporaryCredentialJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TemporaryCredential".equals(fieldName)) {
+                        context.nextToken();
+                        grantAccessResult.setTemporaryCredential(TemporaryCredentialJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,166 +47,129 @@ public class InstanceJsonUnmarshaller implements Unmarshaller<Instance, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AgentVersion", targetDepth)) {
-                    context.nextToken();
-                    instance.setAgentVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AmiId", targetDepth)) {
-                    context.nextToken();
-                    instance.setAmiId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Architecture", targetDepth)) {
-                    context.nextToken();
-                    instance.setArchitecture(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoScalingType", targetDepth)) {
-                    context.nextToken();
-                    instance.setAutoScalingType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    instance.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BlockDeviceMappings", targetDepth)) {
-                    context.nextToken();
-                    instance.setBlockDeviceMappings(new ListUnmarshaller<BlockDeviceMapping>(BlockDeviceMappingJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    instance.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EbsOptimized", targetDepth)) {
-                    context.nextToken();
-                    instance.setEbsOptimized(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2InstanceId", targetDepth)) {
-                    context.nextToken();
-                    instance.setEc2InstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EcsClusterArn", targetDepth)) {
-                    context.nextToken();
-                    instance.setEcsClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EcsContainerInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    instance.setEcsContainerInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ElasticIp", targetDepth)) {
-                    context.nextToken();
-                    instance.setElasticIp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Hostname", targetDepth)) {
-                    context.nextToken();
-                    instance.setHostname(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InfrastructureClass", targetDepth)) {
-                    context.nextToken();
-                    instance.setInfrastructureClass(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstallUpdatesOnBoot", targetDepth)) {
-                    context.nextToken();
-                    instance.setInstallUpdatesOnBoot(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    instance.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceProfileArn", targetDepth)) {
-                    context.nextToken();
-                    instance.setInstanceProfileArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceType", targetDepth)) {
-                    context.nextToken();
-                    instance.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastServiceErrorId", targetDepth)) {
-                    context.nextToken();
-                    instance.setLastServiceErrorId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LayerIds", targetDepth)) {
-                    context.nextToken();
-                    instance.setLayerIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Os", targetDepth)) {
-                    context.nextToken();
-                    instance.setOs(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Platform", targetDepth)) {
-                    context.nextToken();
-                    instance.setPlatform(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrivateDns", targetDepth)) {
-                    context.nextToken();
-                    instance.setPrivateDns(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrivateIp", targetDepth)) {
-                    context.nextToken();
-                    instance.setPrivateIp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PublicDns", targetDepth)) {
-                    context.nextToken();
-                    instance.setPublicDns(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PublicIp", targetDepth)) {
-                    context.nextToken();
-                    instance.setPublicIp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RegisteredBy", targetDepth)) {
-                    context.nextToken();
-                    instance.setRegisteredBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReportedAgentVersion", targetDepth)) {
-                    context.nextToken();
-                    instance.setReportedAgentVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ReportedOs", targetDepth)) {
-                    context.nextToken();
-                    instance.setReportedOs(ReportedOsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RootDeviceType", targetDepth)) {
-                    context.nextToken();
-                    instance.setRootDeviceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RootDeviceVolumeId", targetDepth)) {
-                    context.nextToken();
-                    instance.setRootDeviceVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecurityGroupIds", targetDepth)) {
-                    context.nextToken();
-                    instance.setSecurityGroupIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("SshHostDsaKeyFingerprint", targetDepth)) {
-                    context.nextToken();
-                    instance.setSshHostDsaKeyFingerprint(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshHostRsaKeyFingerprint", targetDepth)) {
-                    context.nextToken();
-                    instance.setSshHostRsaKeyFingerprint(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshKeyName", targetDepth)) {
-                    context.nextToken();
-                    instance.setSshKeyName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    instance.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    instance.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    instance.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Tenancy", targetDepth)) {
-                    context.nextToken();
-                    instance.setTenancy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VirtualizationType", targetDepth)) {
-                    context.nextToken();
-                    instance.setVirtualizationType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AgentVersion".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setAgentVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AmiId".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setAmiId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Architecture".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setArchitecture(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AutoScalingType".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setAutoScalingType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AvailabilityZone".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BlockDeviceMappings".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setBlockDeviceMappings(blockDeviceMappingsUnmarshaller.unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EbsOptimized".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setEbsOptimized(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Ec2InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setEc2InstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EcsClusterArn".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setEcsClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EcsContainerInstanceArn".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setEcsContainerInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ElasticIp".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setElasticIp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Hostname".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setHostname(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InfrastructureClass".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setInfrastructureClass(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstallUpdatesOnBoot".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setInstallUpdatesOnBoot(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceProfileArn".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setInstanceProfileArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceType".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setInstanceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastServiceErrorId".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setLastServiceErrorId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LayerIds".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setLayerIds(layerIdsUnmarshaller.unmarshall(context));
+                    } else if ("Os".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setOs(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Platform".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setPlatform(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PrivateDns".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setPrivateDns(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PrivateIp".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setPrivateIp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PublicDns".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setPublicDns(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PublicIp".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setPublicIp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RegisteredBy".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setRegisteredBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReportedAgentVersion".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setReportedAgentVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ReportedOs".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setReportedOs(ReportedOsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RootDeviceType".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setRootDeviceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RootDeviceVolumeId".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setRootDeviceVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SecurityGroupIds".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setSecurityGroupIds(securityGroupIdsUnmarshaller.unmarshall(context));
+                    } else if ("SshHostDsaKeyFingerprint".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setSshHostDsaKeyFingerprint(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SshHostRsaKeyFingerprint".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setSshHostRsaKeyFingerprint(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SshKeyName".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setSshKeyName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetId".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Tenancy".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setTenancy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VirtualizationType".equals(fieldName)) {
+                        context.nextToken();
+                        instance.setVirtualizationType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -220,6 +183,25 @@ public class InstanceJsonUnmarshaller implements Unmarshaller<Instance, JsonUnma
         return instance;
     }
 
+    private final Unmarshaller<java.util.List<BlockDeviceMapping>, JsonUnmarshallerContext> blockDeviceMappingsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<BlockDeviceMapping>>() {
+        @Override
+        protected Unmarshaller<java.util.List<BlockDeviceMapping>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<BlockDeviceMapping>(BlockDeviceMappingJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> layerIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> securityGroupIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static InstanceJsonUnmarshaller instance;
 
     public static InstanceJsonUnmarshaller getInstance() {
@@ -47,81 +47,66 @@ public class InstancesCountJsonUnmarshaller implements Unmarshaller<InstancesCou
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Assigning", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setAssigning(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Booting", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setBooting(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ConnectionLost", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setConnectionLost(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Deregistering", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setDeregistering(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Online", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setOnline(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Pending", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setPending(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Rebooting", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setRebooting(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Registered", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setRegistered(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Registering", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setRegistering(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Requested", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setRequested(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RunningSetup", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setRunningSetup(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SetupFailed", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setSetupFailed(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ShuttingDown", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setShuttingDown(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("StartFailed", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setStartFailed(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Stopped", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setStopped(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Stopping", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setStopping(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Terminated", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setTerminated(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Terminating", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setTerminating(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Unassigning", targetDepth)) {
-                    context.nextToken();
-                    instancesCount.setUnassigning(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Assigning".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setAssigning(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Booting".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setBooting(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ConnectionLost".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setConnectionLost(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Deregistering".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setDeregistering(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Online".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setOnline(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Pending".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setPending(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Rebooting".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setRebooting(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Registered".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setRegistered(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Registering".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setRegistering(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Requested".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setRequested(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("RunningSetup".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setRunningSetup(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("SetupFailed".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setSetupFailed(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ShuttingDown".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setShuttingDown(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("StartFailed".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setStartFailed(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Stopped".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setStopped(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Stopping".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setStopping(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Terminated".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setTerminated(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Terminating".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setTerminating(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Unassigning".equals(fieldName)) {
+                        context.nextToken();
+                        instancesCount.setUnassigning(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,91 +47,72 @@ public class LayerJsonUnmarshaller implements Unmarshaller<Layer, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    layer.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LayerId", targetDepth)) {
-                    context.nextToken();
-                    layer.setLayerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    layer.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    layer.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Shortname", targetDepth)) {
-                    context.nextToken();
-                    layer.setShortname(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    layer.setAttributes(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("CustomInstanceProfileArn", targetDepth)) {
-                    context.nextToken();
-                    layer.setCustomInstanceProfileArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CustomJson", targetDepth)) {
-                    context.nextToken();
-                    layer.setCustomJson(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CustomSecurityGroupIds", targetDepth)) {
-                    context.nextToken();
-                    layer.setCustomSecurityGroupIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("DefaultSecurityGroupNames", targetDepth)) {
-                    context.nextToken();
-                    layer.setDefaultSecurityGroupNames(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Packages", targetDepth)) {
-                    context.nextToken();
-                    layer.setPackages(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("VolumeConfigurations", targetDepth)) {
-                    context.nextToken();
-                    layer.setVolumeConfigurations(new ListUnmarshaller<VolumeConfiguration>(VolumeConfigurationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("EnableAutoHealing", targetDepth)) {
-                    context.nextToken();
-                    layer.setEnableAutoHealing(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoAssignElasticIps", targetDepth)) {
-                    context.nextToken();
-                    layer.setAutoAssignElasticIps(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoAssignPublicIps", targetDepth)) {
-                    context.nextToken();
-                    layer.setAutoAssignPublicIps(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultRecipes", targetDepth)) {
-                    context.nextToken();
-                    layer.setDefaultRecipes(RecipesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CustomRecipes", targetDepth)) {
-                    context.nextToken();
-                    layer.setCustomRecipes(RecipesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    layer.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstallUpdatesOnBoot", targetDepth)) {
-                    context.nextToken();
-                    layer.setInstallUpdatesOnBoot(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("UseEbsOptimizedInstances", targetDepth)) {
-                    context.nextToken();
-                    layer.setUseEbsOptimizedInstances(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("LifecycleEventConfiguration", targetDepth)) {
-                    context.nextToken();
-                    layer.setLifecycleEventConfiguration(LifecycleEventConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LayerId".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setLayerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Shortname".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setShortname(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Attributes".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("CustomInstanceProfileArn".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setCustomInstanceProfileArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CustomJson".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setCustomJson(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CustomSecurityGroupIds".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setCustomSecurityGroupIds(customSecurityGroupIdsUnmarshaller.unmarshall(context));
+                    } else if ("DefaultSecurityGroupNames".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setDefaultSecurityGroupNames(defaultSecurityGroupNamesUnmarshaller.unmarshall(context));
+                    } else if ("Packages".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setPackages(packagesUnmarshaller.unmarshall(context));
+                    } else if ("VolumeConfigurations".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setVolumeConfigurations(volumeConfigurationsUnmarshaller.unmarshall(context));
+                    } else if ("EnableAutoHealing".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setEnableAutoHealing(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("AutoAssignElasticIps".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setAutoAssignElasticIps(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("AutoAssignPublicIps".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setAutoAssignPublicIps(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("DefaultRecipes".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setDefaultRecipes(RecipesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CustomRecipes".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setCustomRecipes(RecipesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstallUpdatesOnBoot".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setInstallUpdatesOnBoot(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("UseEbsOptimizedInstances".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setUseEbsOptimizedInstances(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("LifecycleEventConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        layer.setLifecycleEventConfiguration(LifecycleEventConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -145,6 +126,37 @@ public class LayerJsonUnmarshaller implements Unmarshaller<Layer, JsonUnmarshall
         return layer;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> customSecurityGroupIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> defaultSecurityGroupNamesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> packagesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<VolumeConfiguration>, JsonUnmarshallerContext> volumeConfigurationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<VolumeConfiguration>>() {
+        @Override
+        protected Unmarshaller<java.util.List<VolumeConfiguration>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<VolumeConfiguration>(VolumeConfigurationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static LayerJsonUnmarshaller instance;
 
     public static LayerJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class LifecycleEventConfigurationJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Shutdown", targetDepth)) {
-                    context.nextToken();
-                    lifecycleEventConfiguration.setShutdown(ShutdownEventConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Shutdown".equals(fieldName)) {
+                        context.nextToken();
+                        lifecycleEventConfiguration.setShutdown(ShutdownEventConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class LoadBasedAutoScalingConfigurationJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LayerId", targetDepth)) {
-                    context.nextToken();
-                    loadBasedAutoScalingConfiguration.setLayerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Enable", targetDepth)) {
-                    context.nextToken();
-                    loadBasedAutoScalingConfiguration.setEnable(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("UpScaling", targetDepth)) {
-                    context.nextToken();
-                    loadBasedAutoScalingConfiguration.setUpScaling(AutoScalingThresholdsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DownScaling", targetDepth)) {
-                    context.nextToken();
-                    loadBasedAutoScalingConfiguration.setDownScaling(AutoScalingThresholdsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("LayerId".equals(fieldName)) {
+                        context.nextToken();
+                        loadBasedAutoScalingConfiguration.setLayerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Enable".equals(fieldName)) {
+                        context.nextToken();
+                        loadBasedAutoScalingConfiguration.setEnable(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("UpScaling".equals(fieldName)) {
+                        context.nextToken();
+                        loadBasedAutoScalingConfiguration.setUpScaling(AutoScalingThresholdsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("DownScaling".equals(fieldName)) {
+                        context.nextToken();
+                        loadBasedAutoScalingConfiguration.setDownScaling(AutoScalingThresholdsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
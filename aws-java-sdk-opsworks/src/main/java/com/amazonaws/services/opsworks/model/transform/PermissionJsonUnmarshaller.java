@@ -47,25 +47,24 @@ public class PermissionJsonUnmarshaller implements Unmarshaller<Permission, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    permission.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IamUserArn", targetDepth)) {
-                    context.nextToken();
-                    permission.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowSsh", targetDepth)) {
-                    context.nextToken();
-                    permission.setAllowSsh(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowSudo", targetDepth)) {
-                    context.nextToken();
-                    permission.setAllowSudo(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Level", targetDepth)) {
-                    context.nextToken();
-                    permission.setLevel(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        permission.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IamUserArn".equals(fieldName)) {
+                        context.nextToken();
+                        permission.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AllowSsh".equals(fieldName)) {
+                        context.nextToken();
+                        permission.setAllowSsh(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("AllowSudo".equals(fieldName)) {
+                        context.nextToken();
+                        permission.setAllowSudo(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Level".equals(fieldName)) {
+                        context.nextToken();
+                        permission.setLevel(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,57 +47,48 @@ public class RaidArrayJsonUnmarshaller implements Unmarshaller<RaidArray, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RaidArrayId", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setRaidArrayId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RaidLevel", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setRaidLevel(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfDisks", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setNumberOfDisks(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Size", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setSize(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Device", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setDevice(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MountPoint", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setMountPoint(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    raidArray.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RaidArrayId".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setRaidArrayId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RaidLevel".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setRaidLevel(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("NumberOfDisks".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setNumberOfDisks(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Size".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setSize(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Device".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setDevice(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MountPoint".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setMountPoint(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AvailabilityZone".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeType".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Iops".equals(fieldName)) {
+                        context.nextToken();
+                        raidArray.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,41 +47,36 @@ public class RdsDbInstanceJsonUnmarshaller implements Unmarshaller<RdsDbInstance
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RdsDbInstanceArn", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setRdsDbInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DbInstanceIdentifier", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setDbInstanceIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DbUser", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setDbUser(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DbPassword", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setDbPassword(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Region", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Address", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Engine", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setEngine(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MissingOnRds", targetDepth)) {
-                    context.nextToken();
-                    rdsDbInstance.setMissingOnRds(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RdsDbInstanceArn".equals(fieldName)) {
+                        context.nextToken();
+                        rdsDbInstance.setRdsDbInstanceArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DbInstanceIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        rdsDbInstance.setDbInstanceIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DbUser".equals(fieldName)) {
+                        context.nextToken();
+                        rdsDbInstance.setDbUser(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DbPassword".equals(fieldName)) {
+                        context.nextToken();
+                        rdsDbInstance.setDbPassword(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Region".equals(fieldName)) {
+                        context.nextToken();
+                        rdsDbInstance.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Address".equals(fieldName)) {
+                        context.nextToken();
+                        rdsDbInstance.setAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Engine".equals(fieldName)) {
+                        context.nextToken();
+                        rdsDbInstance.setEngine(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        rdsDbInstance.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MissingOnRds".equals(fieldName)) {
+                        context.nextToken();
+                        rdsDbInstance.setMissingOnRds(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class RecipesJsonUnmarshaller implements Unmarshaller<Recipes, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Setup", targetDepth)) {
-                    context.nextToken();
-                    recipes.setSetup(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Configure", targetDepth)) {
-                    context.nextToken();
-                    recipes.setConfigure(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Deploy", targetDepth)) {
-                    context.nextToken();
-                    recipes.setDeploy(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Undeploy", targetDepth)) {
-                    context.nextToken();
-                    recipes.setUndeploy(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Shutdown", targetDepth)) {
-                    context.nextToken();
-                    recipes.setShutdown(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Setup".equals(fieldName)) {
+                        context.nextToken();
+                        recipes.setSetup(setupUnmarshaller.unmarshall(context));
+                    } else if ("Configure".equals(fieldName)) {
+                        context.nextToken();
+                        recipes.setConfigure(configureUnmarshaller.unmarshall(context));
+                    } else if ("Deploy".equals(fieldName)) {
+                        context.nextToken();
+                        recipes.setDeploy(deployUnmarshaller.unmarshall(context));
+                    } else if ("Undeploy".equals(fieldName)) {
+                        context.nextToken();
+                        recipes.setUndeploy(undeployUnmarshaller.unmarshall(context));
+                    } else if ("Shutdown".equals(fieldName)) {
+                        context.nextToken();
+                        recipes.setShutdown(shutdownUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,37 @@ public class RecipesJsonUnmarshaller implements Unmarshaller<Recipes, JsonUnmars
         return recipes;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> setupUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> configureUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> deployUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> undeployUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> shutdownUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static RecipesJsonUnmarshaller instance;
 
     public static RecipesJsonUnmarshaller getInstance() {
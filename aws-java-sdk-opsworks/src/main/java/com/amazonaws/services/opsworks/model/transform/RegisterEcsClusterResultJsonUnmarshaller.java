@@ -47,9 +47,12 @@ public class RegisterEcsClusterResultJsonUnmarshaller implements Unmarshaller<Re
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EcsClusterArn", targetDepth)) {
-                    context.nextToken();
-                    registerEcsClusterResult.setEcsClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EcsClusterArn".equals(fieldName)) {
+                        context.nextToken();
+                        registerEcsClusterResult.setEcsClusterArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class RegisterElasticIpResultJsonUnmarshaller implements Unmarshaller<Reg
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ElasticIp", targetDepth)) {
-                    context.nextToken();
-                    registerElasticIpResult.setElasticIp(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ElasticIp".equals(fieldName)) {
+                        context.nextToken();
+                        registerElasticIpResult.setElasticIp(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class RegisterInstanceResultJsonUnmarshaller implements Unmarshaller<Regi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    registerInstanceResult.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        registerInstanceResult.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
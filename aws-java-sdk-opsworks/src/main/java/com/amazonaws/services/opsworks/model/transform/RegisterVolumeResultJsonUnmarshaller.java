@@ -47,9 +47,12 @@ public class RegisterVolumeResultJsonUnmarshaller implements Unmarshaller<Regist
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeId", targetDepth)) {
-                    context.nextToken();
-                    registerVolumeResult.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeId".equals(fieldName)) {
+                        context.nextToken();
+                        registerVolumeResult.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class SelfUserProfileJsonUnmarshaller implements Unmarshaller<SelfUserPro
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IamUserArn", targetDepth)) {
-                    context.nextToken();
-                    selfUserProfile.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    selfUserProfile.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshUsername", targetDepth)) {
-                    context.nextToken();
-                    selfUserProfile.setSshUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshPublicKey", targetDepth)) {
-                    context.nextToken();
-                    selfUserProfile.setSshPublicKey(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IamUserArn".equals(fieldName)) {
+                        context.nextToken();
+                        selfUserProfile.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        selfUserProfile.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SshUsername".equals(fieldName)) {
+                        context.nextToken();
+                        selfUserProfile.setSshUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SshPublicKey".equals(fieldName)) {
+                        context.nextToken();
+                        selfUserProfile.setSshPublicKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
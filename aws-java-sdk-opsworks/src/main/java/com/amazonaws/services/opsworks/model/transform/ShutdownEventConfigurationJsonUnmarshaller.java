@@ -47,13 +47,15 @@ public class ShutdownEventConfigurationJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ExecutionTimeout", targetDepth)) {
-                    context.nextToken();
-                    shutdownEventConfiguration.setExecutionTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DelayUntilElbConnectionsDrained", targetDepth)) {
-                    context.nextToken();
-                    shutdownEventConfiguration.setDelayUntilElbConnectionsDrained(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ExecutionTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        shutdownEventConfiguration.setExecutionTimeout(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("DelayUntilElbConnectionsDrained".equals(fieldName)) {
+                        context.nextToken();
+                        shutdownEventConfiguration.setDelayUntilElbConnectionsDrained(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
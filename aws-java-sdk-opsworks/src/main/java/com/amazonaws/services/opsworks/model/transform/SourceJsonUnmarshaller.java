@@ -47,29 +47,27 @@ public class SourceJsonUnmarshaller implements Unmarshaller<Source, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    source.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Url", targetDepth)) {
-                    context.nextToken();
-                    source.setUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    source.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Password", targetDepth)) {
-                    context.nextToken();
-                    source.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshKey", targetDepth)) {
-                    context.nextToken();
-                    source.setSshKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Revision", targetDepth)) {
-                    context.nextToken();
-                    source.setRevision(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        source.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Url".equals(fieldName)) {
+                        context.nextToken();
+                        source.setUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        source.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Password".equals(fieldName)) {
+                        context.nextToken();
+                        source.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SshKey".equals(fieldName)) {
+                        context.nextToken();
+                        source.setSshKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Revision".equals(fieldName)) {
+                        context.nextToken();
+                        source.setRevision(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class SslConfigurationJsonUnmarshaller implements Unmarshaller<SslConfigu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Certificate", targetDepth)) {
-                    context.nextToken();
-                    sslConfiguration.setCertificate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrivateKey", targetDepth)) {
-                    context.nextToken();
-                    sslConfiguration.setPrivateKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Chain", targetDepth)) {
-                    context.nextToken();
-                    sslConfiguration.setChain(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Certificate".equals(fieldName)) {
+                        context.nextToken();
+                        sslConfiguration.setCertificate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PrivateKey".equals(fieldName)) {
+                        context.nextToken();
+                        sslConfiguration.setPrivateKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Chain".equals(fieldName)) {
+                        context.nextToken();
+                        sslConfiguration.setChain(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
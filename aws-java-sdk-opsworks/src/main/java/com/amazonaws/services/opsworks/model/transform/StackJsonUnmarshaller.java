@@ -47,94 +47,75 @@ public class StackJsonUnmarshaller implements Unmarshaller<Stack, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    stack.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    stack.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    stack.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Region", targetDepth)) {
-                    context.nextToken();
-                    stack.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VpcId", targetDepth)) {
-                    context.nextToken();
-                    stack.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Attributes", targetDepth)) {
-                    context.nextToken();
-                    stack.setAttributes(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ServiceRoleArn", targetDepth)) {
-                    context.nextToken();
-                    stack.setServiceRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultInstanceProfileArn", targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultInstanceProfileArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultOs", targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultOs(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HostnameTheme", targetDepth)) {
-                    context.nextToken();
-                    stack.setHostnameTheme(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultAvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultSubnetId", targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CustomJson", targetDepth)) {
-                    context.nextToken();
-                    stack.setCustomJson(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConfigurationManager", targetDepth)) {
-                    context.nextToken();
-                    stack.setConfigurationManager(StackConfigurationManagerJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChefConfiguration", targetDepth)) {
-                    context.nextToken();
-                    stack.setChefConfiguration(ChefConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("UseCustomCookbooks", targetDepth)) {
-                    context.nextToken();
-                    stack.setUseCustomCookbooks(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("UseOpsworksSecurityGroups", targetDepth)) {
-                    context.nextToken();
-                    stack.setUseOpsworksSecurityGroups(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("CustomCookbooksSource", targetDepth)) {
-                    context.nextToken();
-                    stack.setCustomCookbooksSource(SourceJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DefaultSshKeyName", targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultSshKeyName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedAt", targetDepth)) {
-                    context.nextToken();
-                    stack.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultRootDeviceType", targetDepth)) {
-                    context.nextToken();
-                    stack.setDefaultRootDeviceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AgentVersion", targetDepth)) {
-                    context.nextToken();
-                    stack.setAgentVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Region".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VpcId".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setVpcId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Attributes".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setAttributes(attributesUnmarshaller.unmarshall(context));
+                    } else if ("ServiceRoleArn".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setServiceRoleArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DefaultInstanceProfileArn".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setDefaultInstanceProfileArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DefaultOs".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setDefaultOs(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HostnameTheme".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setHostnameTheme(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DefaultAvailabilityZone".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setDefaultAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DefaultSubnetId".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setDefaultSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CustomJson".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setCustomJson(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConfigurationManager".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setConfigurationManager(StackConfigurationManagerJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ChefConfiguration".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setChefConfiguration(ChefConfigurationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("UseCustomCookbooks".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setUseCustomCookbooks(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("UseOpsworksSecurityGroups".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setUseOpsworksSecurityGroups(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("CustomCookbooksSource".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setCustomCookbooksSource(SourceJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("DefaultSshKeyName".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setDefaultSshKeyName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedAt".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setCreatedAt(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DefaultRootDeviceType".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setDefaultRootDeviceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AgentVersion".equals(fieldName)) {
+                        context.nextToken();
+                        stack.setAgentVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -148,6 +129,13 @@ public class StackJsonUnmarshaller implements Unmarshaller<Stack, JsonUnmarshall
         return stack;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> attributesUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static StackJsonUnmarshaller instance;
 
     public static StackJsonUnmarshaller getInstance() {
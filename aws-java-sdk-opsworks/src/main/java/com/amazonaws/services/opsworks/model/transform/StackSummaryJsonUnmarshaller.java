@@ -47,29 +47,27 @@ public class StackSummaryJsonUnmarshaller implements Unmarshaller<StackSummary,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StackId", targetDepth)) {
-                    context.nextToken();
-                    stackSummary.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    stackSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    stackSummary.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LayersCount", targetDepth)) {
-                    context.nextToken();
-                    stackSummary.setLayersCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("AppsCount", targetDepth)) {
-                    context.nextToken();
-                    stackSummary.setAppsCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstancesCount", targetDepth)) {
-                    context.nextToken();
-                    stackSummary.setInstancesCount(InstancesCountJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StackId".equals(fieldName)) {
+                        context.nextToken();
+                        stackSummary.setStackId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        stackSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        stackSummary.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LayersCount".equals(fieldName)) {
+                        context.nextToken();
+                        stackSummary.setLayersCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("AppsCount".equals(fieldName)) {
+                        context.nextToken();
+                        stackSummary.setAppsCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("InstancesCount".equals(fieldName)) {
+                        context.nextToken();
+                        stackSummary.setInstancesCount(InstancesCountJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class TemporaryCredentialJsonUnmarshaller implements Unmarshaller<Tempora
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Username", targetDepth)) {
-                    context.nextToken();
-                    temporaryCredential.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Password", targetDepth)) {
-                    context.nextToken();
-                    temporaryCredential.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ValidForInMinutes", targetDepth)) {
-                    context.nextToken();
-                    temporaryCredential.setValidForInMinutes(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    temporaryCredential.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Username".equals(fieldName)) {
+                        context.nextToken();
+                        temporaryCredential.setUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Password".equals(fieldName)) {
+                        context.nextToken();
+                        temporaryCredential.setPassword(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ValidForInMinutes".equals(fieldName)) {
+                        context.nextToken();
+                        temporaryCredential.setValidForInMinutes(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        temporaryCredential.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class TimeBasedAutoScalingConfigurationJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    timeBasedAutoScalingConfiguration.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoScalingSchedule", targetDepth)) {
-                    context.nextToken();
-                    timeBasedAutoScalingConfiguration.setAutoScalingSchedule(WeeklyAutoScalingScheduleJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        timeBasedAutoScalingConfiguration.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AutoScalingSchedule".equals(fieldName)) {
+                        context.nextToken();
+                        timeBasedAutoScalingConfiguration.setAutoScalingSchedule(WeeklyAutoScalingScheduleJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class UserProfileJsonUnmarshaller implements Unmarshaller<UserProfile, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IamUserArn", targetDepth)) {
-                    context.nextToken();
-                    userProfile.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    userProfile.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshUsername", targetDepth)) {
-                    context.nextToken();
-                    userProfile.setSshUsername(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SshPublicKey", targetDepth)) {
-                    context.nextToken();
-                    userProfile.setSshPublicKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AllowSelfManagement", targetDepth)) {
-                    context.nextToken();
-                    userProfile.setAllowSelfManagement(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IamUserArn".equals(fieldName)) {
+                        context.nextToken();
+                        userProfile.setIamUserArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        userProfile.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SshUsername".equals(fieldName)) {
+                        context.nextToken();
+                        userProfile.setSshUsername(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SshPublicKey".equals(fieldName)) {
+                        context.nextToken();
+                        userProfile.setSshPublicKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AllowSelfManagement".equals(fieldName)) {
+                        context.nextToken();
+                        userProfile.setAllowSelfManagement(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class VolumeConfigurationJsonUnmarshaller implements Unmarshaller<VolumeC
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("MountPoint", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setMountPoint(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RaidLevel", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setRaidLevel(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("NumberOfDisks", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setNumberOfDisks(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Size", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setSize(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    volumeConfiguration.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("MountPoint".equals(fieldName)) {
+                        context.nextToken();
+                        volumeConfiguration.setMountPoint(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RaidLevel".equals(fieldName)) {
+                        context.nextToken();
+                        volumeConfiguration.setRaidLevel(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("NumberOfDisks".equals(fieldName)) {
+                        context.nextToken();
+                        volumeConfiguration.setNumberOfDisks(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Size".equals(fieldName)) {
+                        context.nextToken();
+                        volumeConfiguration.setSize(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("VolumeType".equals(fieldName)) {
+                        context.nextToken();
+                        volumeConfiguration.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Iops".equals(fieldName)) {
+                        context.nextToken();
+                        volumeConfiguration.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,57 +47,48 @@ public class VolumeJsonUnmarshaller implements Unmarshaller<Volume, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeId", targetDepth)) {
-                    context.nextToken();
-                    volume.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ec2VolumeId", targetDepth)) {
-                    context.nextToken();
-                    volume.setEc2VolumeId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    volume.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RaidArrayId", targetDepth)) {
-                    context.nextToken();
-                    volume.setRaidArrayId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    volume.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    volume.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Size", targetDepth)) {
-                    context.nextToken();
-                    volume.setSize(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Device", targetDepth)) {
-                    context.nextToken();
-                    volume.setDevice(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MountPoint", targetDepth)) {
-                    context.nextToken();
-                    volume.setMountPoint(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Region", targetDepth)) {
-                    context.nextToken();
-                    volume.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AvailabilityZone", targetDepth)) {
-                    context.nextToken();
-                    volume.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    volume.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Iops", targetDepth)) {
-                    context.nextToken();
-                    volume.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeId".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Ec2VolumeId".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setEc2VolumeId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RaidArrayId".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setRaidArrayId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Size".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setSize(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Device".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setDevice(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MountPoint".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setMountPoint(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Region".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AvailabilityZone".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setAvailabilityZone(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeType".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Iops".equals(fieldName)) {
+                        context.nextToken();
+                        volume.setIops(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
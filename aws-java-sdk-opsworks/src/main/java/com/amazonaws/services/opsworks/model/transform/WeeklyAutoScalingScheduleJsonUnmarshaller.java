@@ -47,40 +47,30 @@ public class WeeklyAutoScalingScheduleJsonUnmarshaller implements Unmarshaller<W
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Monday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule.setMonday(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Tuesday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule.setTuesday(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Wednesday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule.setWednesday(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Thursday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule.setThursday(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Friday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule.setFriday(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Saturday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule.setSaturday(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("Sunday", targetDepth)) {
-                    context.nextToken();
-                    weeklyAutoScalingSchedule.setSunday(new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context
-                            .getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Monday".equals(fieldName)) {
+                        context.nextToken();
+                        weeklyAutoScalingSchedule.setMonday(mondayUnmarshaller.unmarshall(context));
+                    } else if ("Tuesday".equals(fieldName)) {
+                        context.nextToken();
+                        weeklyAutoScalingSchedule.setTuesday(tuesdayUnmarshaller.unmarshall(context));
+                    } else if ("Wednesday".equals(fieldName)) {
+                        context.nextToken();
+                        weeklyAutoScalingSchedule.setWednesday(wednesdayUnmarshaller.unmarshall(context));
+                    } else if ("Thursday".equals(fieldName)) {
+                        context.nextToken();
+                        weeklyAutoScalingSchedule.setThursday(thursdayUnmarshaller.unmarshall(context));
+                    } else if ("Friday".equals(fieldName)) {
+                        context.nextToken();
+                        weeklyAutoScalingSchedule.setFriday(fridayUnmarshaller.unmarshall(context));
+                    } else if ("Saturday".equals(fieldName)) {
+                        context.nextToken();
+                        weeklyAutoScalingSchedule.setSaturday(saturdayUnmarshaller.unmarshall(context));
+                    } else if ("Sunday".equals(fieldName)) {
+                        context.nextToken();
+                        weeklyAutoScalingSchedule.setSunday(sundayUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -94,6 +84,49 @@ public class WeeklyAutoScalingScheduleJsonUnmarshaller implements Unmarshaller<W
         return weeklyAutoScalingSchedule;
     }
 
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> mondayUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> tuesdayUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> wednesdayUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> thursdayUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> fridayUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> saturdayUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> sundayUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, String>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, String>(context.getUnmarshaller(String.class), context.getUnmarshaller(String.class));
+        }
+    };
+
     private static WeeklyAutoScalingScheduleJsonUnmarshaller instance;
 
     public static WeeklyAutoScalingScheduleJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class BillingRecordJsonUnmarshaller implements Unmarshaller<BillingRecord
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    billingRecord.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Operation", targetDepth)) {
-                    context.nextToken();
-                    billingRecord.setOperation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InvoiceId", targetDepth)) {
-                    context.nextToken();
-                    billingRecord.setInvoiceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BillDate", targetDepth)) {
-                    context.nextToken();
-                    billingRecord.setBillDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Price", targetDepth)) {
-                    context.nextToken();
-                    billingRecord.setPrice(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        billingRecord.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Operation".equals(fieldName)) {
+                        context.nextToken();
+                        billingRecord.setOperation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InvoiceId".equals(fieldName)) {
+                        context.nextToken();
+                        billingRecord.setInvoiceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BillDate".equals(fieldName)) {
+                        context.nextToken();
+                        billingRecord.setBillDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Price".equals(fieldName)) {
+                        context.nextToken();
+                        billingRecord.setPrice(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CheckDomainAvailabilityResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Availability", targetDepth)) {
-                    context.nextToken();
-                    checkDomainAvailabilityResult.setAvailability(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Availability".equals(fieldName)) {
+                        context.nextToken();
+                        checkDomainAvailabilityResult.setAvailability(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,61 +47,51 @@ public class ContactDetailJsonUnmarshaller implements Unmarshaller<ContactDetail
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FirstName", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setFirstName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastName", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setLastName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ContactType", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setContactType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OrganizationName", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setOrganizationName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AddressLine1", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setAddressLine1(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AddressLine2", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setAddressLine2(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("City", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setCity(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CountryCode", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setCountryCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ZipCode", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setZipCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PhoneNumber", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setPhoneNumber(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Email", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setEmail(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Fax", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setFax(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExtraParams", targetDepth)) {
-                    context.nextToken();
-                    contactDetail.setExtraParams(new ListUnmarshaller<ExtraParam>(ExtraParamJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FirstName".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setFirstName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastName".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setLastName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ContactType".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setContactType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OrganizationName".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setOrganizationName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AddressLine1".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setAddressLine1(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AddressLine2".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setAddressLine2(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("City".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setCity(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CountryCode".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setCountryCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ZipCode".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setZipCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PhoneNumber".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setPhoneNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Email".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setEmail(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Fax".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setFax(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ExtraParams".equals(fieldName)) {
+                        context.nextToken();
+                        contactDetail.setExtraParams(extraParamsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -115,6 +105,13 @@ public class ContactDetailJsonUnmarshaller implements Unmarshaller<ContactDetail
         return contactDetail;
     }
 
+    private final Unmarshaller<java.util.List<ExtraParam>, JsonUnmarshallerContext> extraParamsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ExtraParam>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ExtraParam>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ExtraParam>(ExtraParamJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ContactDetailJsonUnmarshaller instance;
 
     public static ContactDetailJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DisableDomainTransferLockResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OperationId", targetDepth)) {
-                    context.nextToken();
-                    disableDomainTransferLockResult.setOperationId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OperationId".equals(fieldName)) {
+                        context.nextToken();
+                        disableDomainTransferLockResult.setOperationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class DomainSuggestionJsonUnmarshaller implements Unmarshaller<DomainSugg
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    domainSuggestion.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Availability", targetDepth)) {
-                    context.nextToken();
-                    domainSuggestion.setAvailability(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        domainSuggestion.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Availability".equals(fieldName)) {
+                        context.nextToken();
+                        domainSuggestion.setAvailability(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
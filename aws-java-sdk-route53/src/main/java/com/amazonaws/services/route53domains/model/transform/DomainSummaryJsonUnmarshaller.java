@@ -47,21 +47,21 @@ public class DomainSummaryJsonUnmarshaller implements Unmarshaller<DomainSummary
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    domainSummary.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AutoRenew", targetDepth)) {
-                    context.nextToken();
-                    domainSummary.setAutoRenew(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TransferLock", targetDepth)) {
-                    context.nextToken();
-                    domainSummary.setTransferLock(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Expiry", targetDepth)) {
-                    context.nextToken();
-                    domainSummary.setExpiry(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        domainSummary.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AutoRenew".equals(fieldName)) {
+                        context.nextToken();
+                        domainSummary.setAutoRenew(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("TransferLock".equals(fieldName)) {
+                        context.nextToken();
+                        domainSummary.setTransferLock(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Expiry".equals(fieldName)) {
+                        context.nextToken();
+                        domainSummary.setExpiry(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,89 +47,72 @@ public class GetDomainDetailResultJsonUnmarshaller implements Unmarshaller<GetDo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Nameservers", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setNameservers(new ListUnmarshaller<Nameserver>(NameserverJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("AutoRenew", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setAutoRenew(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("AdminContact", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setAdminContact(ContactDetailJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RegistrantContact", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setRegistrantContact(ContactDetailJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TechContact", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setTechContact(ContactDetailJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("AdminPrivacy", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setAdminPrivacy(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrantPrivacy", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setRegistrantPrivacy(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("TechPrivacy", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setTechPrivacy(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrarName", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setRegistrarName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("WhoIsServer", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setWhoIsServer(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrarUrl", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setRegistrarUrl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AbuseContactEmail", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setAbuseContactEmail(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AbuseContactPhone", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setAbuseContactPhone(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistryDomainId", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setRegistryDomainId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("UpdatedDate", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ExpirationDate", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setExpirationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Reseller", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setReseller(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DnsSec", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setDnsSec(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusList", targetDepth)) {
-                    context.nextToken();
-                    getDomainDetailResult.setStatusList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Nameservers".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setNameservers(nameserversUnmarshaller.unmarshall(context));
+                    } else if ("AutoRenew".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setAutoRenew(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("AdminContact".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setAdminContact(ContactDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RegistrantContact".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setRegistrantContact(ContactDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("TechContact".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setTechContact(ContactDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("AdminPrivacy".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setAdminPrivacy(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("RegistrantPrivacy".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setRegistrantPrivacy(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("TechPrivacy".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setTechPrivacy(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("RegistrarName".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setRegistrarName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("WhoIsServer".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setWhoIsServer(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RegistrarUrl".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setRegistrarUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AbuseContactEmail".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setAbuseContactEmail(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AbuseContactPhone".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setAbuseContactPhone(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RegistryDomainId".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setRegistryDomainId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("UpdatedDate".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setUpdatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ExpirationDate".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setExpirationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Reseller".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setReseller(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DnsSec".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setDnsSec(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StatusList".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainDetailResult.setStatusList(statusListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -143,6 +126,19 @@ public class GetDomainDetailResultJsonUnmarshaller implements Unmarshaller<GetDo
         return getDomainDetailResult;
     }
 
+    private final Unmarshaller<java.util.List<Nameserver>, JsonUnmarshallerContext> nameserversUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Nameserver>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Nameserver>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Nameserver>(NameserverJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> statusListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static GetDomainDetailResultJsonUnmarshaller instance;
 
     public static GetDomainDetailResultJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class GetDomainSuggestionsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SuggestionsList", targetDepth)) {
-                    context.nextToken();
-                    getDomainSuggestionsResult.setSuggestionsList(new ListUnmarshaller<DomainSuggestion>(DomainSuggestionJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SuggestionsList".equals(fieldName)) {
+                        context.nextToken();
+                        getDomainSuggestionsResult.setSuggestionsList(suggestionsListUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class GetDomainSuggestionsResultJsonUnmarshaller implements Unmarshaller<
         return getDomainSuggestionsResult;
     }
 
+    private final Unmarshaller<java.util.List<DomainSuggestion>, JsonUnmarshallerContext> suggestionsListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DomainSuggestion>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DomainSuggestion>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DomainSuggestion>(DomainSuggestionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetDomainSuggestionsResultJsonUnmarshaller instance;
 
     public static GetDomainSuggestionsResultJsonUnmarshaller getInstance() {
@@ -47,29 +47,27 @@ public class GetOperationDetailResultJsonUnmarshaller implements Unmarshaller<Ge
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OperationId", targetDepth)) {
-                    context.nextToken();
-                    getOperationDetailResult.setOperationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    getOperationDetailResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    getOperationDetailResult.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DomainName", targetDepth)) {
-                    context.nextToken();
-                    getOperationDetailResult.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    getOperationDetailResult.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubmittedDate", targetDepth)) {
-                    context.nextToken();
-                    getOperationDetailResult.setSubmittedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OperationId".equals(fieldName)) {
+                        context.nextToken();
+                        getOperationDetailResult.setOperationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        getOperationDetailResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        getOperationDetailResult.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DomainName".equals(fieldName)) {
+                        context.nextToken();
+                        getOperationDetailResult.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        getOperationDetailResult.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubmittedDate".equals(fieldName)) {
+                        context.nextToken();
+                        getOperationDetailResult.setSubmittedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
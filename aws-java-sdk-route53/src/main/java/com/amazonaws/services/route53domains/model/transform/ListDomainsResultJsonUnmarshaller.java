@@ -47,13 +47,15 @@ public class ListDomainsResultJsonUnmarshaller implements Unmarshaller<ListDomai
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Domains", targetDepth)) {
-                    context.nextToken();
-                    listDomainsResult.setDomains(new ListUnmarshaller<DomainSummary>(DomainSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextPageMarker", targetDepth)) {
-                    context.nextToken();
-                    listDomainsResult.setNextPageMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Domains".equals(fieldName)) {
+                        context.nextToken();
+                        listDomainsResult.setDomains(domainsUnmarshaller.unmarshall(context));
+                    } else if ("NextPageMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listDomainsResult.setNextPageMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListDomainsResultJsonUnmarshaller implements Unmarshaller<ListDomai
         return listDomainsResult;
     }
 
+    private final Unmarshaller<java.util.List<DomainSummary>, JsonUnmarshallerContext> domainsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DomainSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DomainSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DomainSummary>(DomainSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListDomainsResultJsonUnmarshaller instance;
 
     public static ListDomainsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListOperationsResultJsonUnmarshaller implements Unmarshaller<ListOp
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Operations", targetDepth)) {
-                    context.nextToken();
-                    listOperationsResult.setOperations(new ListUnmarshaller<OperationSummary>(OperationSummaryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextPageMarker", targetDepth)) {
-                    context.nextToken();
-                    listOperationsResult.setNextPageMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Operations".equals(fieldName)) {
+                        context.nextToken();
+                        listOperationsResult.setOperations(operationsUnmarshaller.unmarshall(context));
+                    } else if ("NextPageMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listOperationsResult.setNextPageMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListOperationsResultJsonUnmarshaller implements Unmarshaller<ListOp
         return listOperationsResult;
     }
 
+    private final Unmarshaller<java.util.List<OperationSummary>, JsonUnmarshallerContext> operationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<OperationSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<OperationSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<OperationSummary>(OperationSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListOperationsResultJsonUnmarshaller instance;
 
     public static ListOperationsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class NameserverJsonUnmarshaller implements Unmarshaller<Nameserver, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    nameserver.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GlueIps", targetDepth)) {
-                    context.nextToken();
-                    nameserver.setGlueIps(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        nameserver.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GlueIps".equals(fieldName)) {
+                        context.nextToken();
+                        nameserver.setGlueIps(glueIpsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class NameserverJsonUnmarshaller implements Unmarshaller<Nameserver, Json
         return nameserver;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> glueIpsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static NameserverJsonUnmarshaller instance;
 
     public static NameserverJsonUnmarshaller getInstance() {
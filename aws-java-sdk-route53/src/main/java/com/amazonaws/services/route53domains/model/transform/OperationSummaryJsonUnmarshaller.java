@@ -47,21 +47,21 @@ public class OperationSummaryJsonUnmarshaller implements Unmarshaller<OperationS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OperationId", targetDepth)) {
-                    context.nextToken();
-                    operationSummary.setOperationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    operationSummary.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    operationSummary.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubmittedDate", targetDepth)) {
-                    context.nextToken();
-                    operationSummary.setSubmittedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OperationId".equals(fieldName)) {
+                        context.nextToken();
+                        operationSummary.setOperationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        operationSummary.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        operationSummary.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubmittedDate".equals(fieldName)) {
+                        context.nextToken();
+                        operationSummary.setSubmittedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
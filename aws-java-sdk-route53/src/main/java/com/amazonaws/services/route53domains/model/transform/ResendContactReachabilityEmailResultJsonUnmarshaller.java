@@ -47,17 +47,18 @@ public class ResendContactReachabilityEmailResultJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("domainName", targetDepth)) {
-                    context.nextToken();
-                    resendContactReachabilityEmailResult.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("emailAddress", targetDepth)) {
-                    context.nextToken();
-                    resendContactReachabilityEmailResult.setEmailAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("isAlreadyVerified", targetDepth)) {
-                    context.nextToken();
-                    resendContactReachabilityEmailResult.setIsAlreadyVerified(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("domainName".equals(fieldName)) {
+                        context.nextToken();
+                        resendContactReachabilityEmailResult.setDomainName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("emailAddress".equals(fieldName)) {
+                        context.nextToken();
+                        resendContactReachabilityEmailResult.setEmailAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("isAlreadyVerified".equals(fieldName)) {
+                        context.nextToken();
+                        resendContactReachabilityEmailResult.setIsAlreadyVerified(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
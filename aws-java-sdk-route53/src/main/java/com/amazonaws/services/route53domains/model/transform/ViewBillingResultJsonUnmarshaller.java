@@ -47,13 +47,15 @@ public class ViewBillingResultJsonUnmarshaller implements Unmarshaller<ViewBilli
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextPageMarker", targetDepth)) {
-                    context.nextToken();
-                    viewBillingResult.setNextPageMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BillingRecords", targetDepth)) {
-                    context.nextToken();
-                    viewBillingResult.setBillingRecords(new ListUnmarshaller<BillingRecord>(BillingRecordJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextPageMarker".equals(fieldName)) {
+                        context.nextToken();
+                        viewBillingResult.setNextPageMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BillingRecords".equals(fieldName)) {
+                        context.nextToken();
+                        viewBillingResult.setBillingRecords(billingRecordsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ViewBillingResultJsonUnmarshaller implements Unmarshaller<ViewBilli
         return viewBillingResult;
     }
 
+    private final Unmarshaller<java.util.List<BillingRecord>, JsonUnmarshallerContext> billingRecordsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<BillingRecord>>() {
+        @Override
+        protected Unmarshaller<java.util.List<BillingRecord>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<BillingRecord>(BillingRecordJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ViewBillingResultJsonUnmarshaller instance;
 
     public static ViewBillingResultJsonUnmarshaller getInstance() {
@@ -18,6 +18,7 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.ClientConfiguration;
+import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.AnonymousAWSCredentials;
@@ -29,6 +30,8 @@ import com.amazonaws.services.s3.internal.MultiFileOutputStream;
 import com.amazonaws.services.s3.internal.PartCreationEvent;
 import com.amazonaws.services.s3.internal.S3Direct;
 import com.amazonaws.services.s3.internal.crypto.CryptoModuleDispatcher;
+import com.amazonaws.services.s3.internal.crypto.RangedDecryptionContext;
+import com.amazonaws.services.s3.internal.crypto.RangedDecryptionSupport;
 import com.amazonaws.services.s3.internal.crypto.S3CryptoModule;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
@@ -78,7 +81,7 @@ import java.util.concurrent.Future;
  * protect the CEK which is then stored along side with the S3 object.
  */
 public class AmazonS3EncryptionClient extends AmazonS3Client implements
-        AmazonS3Encryption {
+        AmazonS3Encryption, RangedDecryptionSupport {
     public static final String USER_AGENT = AmazonS3EncryptionClient.class.getName()
             + "/" + VersionInfoUtils.getVersion();
     private final S3CryptoModule<?> crypto;
@@ -493,6 +496,13 @@ public class AmazonS3EncryptionClient extends AmazonS3Client implements
         return crypto.getObjectSecurely(req, dest);
     }
 
+    @SdkInternalApi
+    @Override
+    public RangedDecryptionContext newRangedDecryptionContext(GetObjectRequest req,
+            ObjectMetadata metadata) {
+        return crypto.newRangedDecryptionContext(req, metadata);
+    }
+
     @Override
     public void deleteObject(DeleteObjectRequest req) {
         req.getRequestClientOptions().appendUserAgent(USER_AGENT);
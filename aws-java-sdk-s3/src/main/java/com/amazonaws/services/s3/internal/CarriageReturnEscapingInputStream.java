@@ -0,0 +1,128 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.amazonaws.internal.SdkFilterInputStream;
+
+/**
+ * Filtered input stream that replaces every carriage return (\r) byte of an
+ * XML document with the explicit character entity <code>&amp;#013;</code> as
+ * the document is read, so that the SAX parser does not normalize 0x0D
+ * characters in object keys into 0x0A.
+ * <p>
+ * The document must be encoded in UTF-8 (or any other ASCII-compatible
+ * encoding in which 0x0D never appears inside a multi-byte sequence), so that
+ * the escaping can be applied to bytes without decoding them first.
+ */
+public final class CarriageReturnEscapingInputStream extends SdkFilterInputStream {
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte[] ESCAPED_CARRIAGE_RETURN = {'&', '#', '0', '1', '3', ';'};
+    private static final int BUFFER_SIZE = 8192;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final byte[] singleByte = new byte[1];
+    /** Position of the next unfiltered byte in the buffer. */
+    private int position;
+    /** Number of valid bytes in the buffer. */
+    private int limit;
+    /**
+     * Position of the next byte of the escape sequence still to be returned;
+     * equal to the length of the escape sequence if none is pending.
+     */
+    private int escapePosition = ESCAPED_CARRIAGE_RETURN.length;
+
+    public CarriageReturnEscapingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int bytesRead = read(singleByte, 0, 1);
+        return bytesRead == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        abortIfNeeded();
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        while (count < len) {
+            if (escapePosition < ESCAPED_CARRIAGE_RETURN.length) {
+                b[off + count++] = ESCAPED_CARRIAGE_RETURN[escapePosition++];
+                continue;
+            }
+            if (position == limit) {
+                // Return what has been filtered so far rather than block
+                if (count > 0) {
+                    break;
+                }
+                int bytesRead = in.read(buffer, 0, buffer.length);
+                if (bytesRead == -1) {
+                    return -1;
+                }
+                position = 0;
+                limit = bytesRead;
+                continue;
+            }
+            byte next = buffer[position++];
+            if (next == CARRIAGE_RETURN) {
+                escapePosition = 0;
+            } else {
+                b[off + count++] = next;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // The escaped bytes have to be counted, so skip by reading
+        byte[] skipBuffer = new byte[(int) Math.min(n, BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int bytesRead = read(skipBuffer, 0, (int) Math.min(n - skipped, skipBuffer.length));
+            if (bytesRead == -1) {
+                break;
+            }
+            skipped += bytesRead;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (ESCAPED_CARRIAGE_RETURN.length - escapePosition) + (limit - position);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readlimit) {
+        // mark is not supported
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
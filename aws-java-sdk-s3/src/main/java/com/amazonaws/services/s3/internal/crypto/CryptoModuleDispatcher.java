@@ -195,4 +195,11 @@ public class CryptoModuleDispatcher extends S3CryptoModule<MultipartUploadContex
         else
             ae.putLocalObjectSecurely(req, uploadId, os);
     }
+
+    @Override
+    public RangedDecryptionContext newRangedDecryptionContext(
+            GetObjectRequest req, ObjectMetadata metadata) {
+        // AE module can handle S3 objects encrypted in either AE or EO format
+        return ae.newRangedDecryptionContext(req, metadata);
+    }
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+/**
+ * GHASH, the universal hash function used by AES/GCM to compute its
+ * authentication tag, as specified in <a href=
+ * "http://csrc.nist.gov/publications/nistpubs/800-38D/SP-800-38D.pdf"> NIST
+ * Special Publication 800-38D</a>.
+ * <p>
+ * Because GHASH is a polynomial in the hash subkey H, the ciphertext can be
+ * hashed in independent block-aligned segments, which are then combined with
+ * {@link #multiply(long[], long[])} and {@link #power(long[], long)}. This
+ * allows the tag of an object downloaded in parallel byte ranges to be
+ * verified without hashing the whole ciphertext on a single thread.
+ * <p>
+ * Field elements are represented as two longs holding the 128-bit blocks in
+ * big-endian order. This class is not thread-safe.
+ */
+final class GHash {
+    static final int BLOCK_SIZE = 16;
+
+    /** The reduction polynomial x^128 + x^7 + x^2 + x + 1, in GCM bit order. */
+    private static final long R = 0xE100000000000000L;
+
+    /**
+     * The multiplicative identity, that is the polynomial 1, in GCM bit
+     * order.
+     */
+    private static final long ONE = 0x8000000000000000L;
+
+    /**
+     * The values to XOR into the high word of an element multiplied by x^4,
+     * indexed by the four bits shifted out of its low word.
+     */
+    private static final long[] REDUCE = new long[16];
+
+    static {
+        for (int i = 0; i < 16; i++) {
+            long hi = 0;
+            long lo = i;
+            for (int j = 0; j < 4; j++) {
+                final boolean carry = (lo & 1) != 0;
+                lo = (lo >>> 1) | (hi << 63);
+                hi >>>= 1;
+                if (carry) {
+                    hi ^= R;
+                }
+            }
+            REDUCE[i] = hi;
+        }
+    }
+
+    /** Multiples of H by every 4-bit polynomial, shared by all the copies. */
+    private final long[] tableHi;
+    private final long[] tableLo;
+
+    private long yHi;
+    private long yLo;
+    private final byte[] block = new byte[BLOCK_SIZE];
+    private int blockLength;
+    private long length;
+
+    /**
+     * @param h
+     *            the 16-byte hash subkey, which is the encryption of the zero
+     *            block under the content encrypting key.
+     */
+    GHash(byte[] h) {
+        if (h.length != BLOCK_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        tableHi = new long[16];
+        tableLo = new long[16];
+        long hi = toLong(h, 0);
+        long lo = toLong(h, 8);
+        // Entries 8, 4, 2 and 1 are H, H.x, H.x^2 and H.x^3
+        for (int i = 8; i > 0; i >>= 1) {
+            tableHi[i] = hi;
+            tableLo[i] = lo;
+            final boolean carry = (lo & 1) != 0;
+            lo = (lo >>> 1) | (hi << 63);
+            hi >>>= 1;
+            if (carry) {
+                hi ^= R;
+            }
+        }
+        for (int i = 2; i < 16; i <<= 1) {
+            for (int j = 1; j < i; j++) {
+                tableHi[i + j] = tableHi[i] ^ tableHi[j];
+                tableLo[i + j] = tableLo[i] ^ tableLo[j];
+            }
+        }
+    }
+
+    private GHash(GHash other) {
+        this.tableHi = other.tableHi;
+        this.tableLo = other.tableLo;
+    }
+
+    /**
+     * Returns a new instance with the same hash subkey and an empty state.
+     */
+    GHash newInstance() {
+        return new GHash(this);
+    }
+
+    /**
+     * Hashes the given bytes. Only the last bytes hashed may not fill a whole
+     * block.
+     */
+    void update(byte[] b, int off, int len) {
+        if (blockLength > 0) {
+            final int n = Math.min(len, BLOCK_SIZE - blockLength);
+            System.arraycopy(b, off, block, blockLength, n);
+            blockLength += n;
+            off += n;
+            len -= n;
+            length += n;
+            if (blockLength < BLOCK_SIZE) {
+                return;
+            }
+            hashBlock(block, 0);
+            blockLength = 0;
+        }
+        final int remaining = len % BLOCK_SIZE;
+        final int end = off + len - remaining;
+        for (; off < end; off += BLOCK_SIZE) {
+            hashBlock(b, off);
+        }
+        if (remaining > 0) {
+            System.arraycopy(b, end, block, 0, remaining);
+            blockLength = remaining;
+        }
+        length += len;
+    }
+
+    /**
+     * Returns the hash of the bytes hashed so far, zero-padding the last
+     * block if needed, without the final length block.
+     */
+    long[] digest() {
+        if (blockLength > 0) {
+            for (int i = blockLength; i < BLOCK_SIZE; i++) {
+                block[i] = 0;
+            }
+            hashBlock(block, 0);
+            blockLength = 0;
+        }
+        return new long[] { yHi, yLo };
+    }
+
+    /** Returns the number of bytes hashed so far. */
+    long getLength() {
+        return length;
+    }
+
+    private void hashBlock(byte[] b, int off) {
+        final long xHi = yHi ^ toLong(b, off);
+        final long xLo = yLo ^ toLong(b, off + 8);
+        // Horner's rule over the 32 nibbles, from the highest degree down
+        long zHi = 0;
+        long zLo = 0;
+        for (int i = 0; i < 64; i += 4) {
+            final int rem = (int) zLo & 0xF;
+            zLo = (zLo >>> 4) | (zHi << 60);
+            zHi = (zHi >>> 4) ^ REDUCE[rem];
+            final int nibble = (int) (xLo >>> i) & 0xF;
+            zHi ^= tableHi[nibble];
+            zLo ^= tableLo[nibble];
+        }
+        for (int i = 0; i < 64; i += 4) {
+            final int rem = (int) zLo & 0xF;
+            zLo = (zLo >>> 4) | (zHi << 60);
+            zHi = (zHi >>> 4) ^ REDUCE[rem];
+            final int nibble = (int) (xHi >>> i) & 0xF;
+            zHi ^= tableHi[nibble];
+            zLo ^= tableLo[nibble];
+        }
+        yHi = zHi;
+        yLo = zLo;
+    }
+
+    /**
+     * Returns the product of the given field elements. This is the slow,
+     * bitwise multiplication; only meant to combine segments.
+     */
+    static long[] multiply(long[] x, long[] y) {
+        long zHi = 0;
+        long zLo = 0;
+        long vHi = y[0];
+        long vLo = y[1];
+        for (int i = 0; i < 128; i++) {
+            final long word = i < 64 ? x[0] : x[1];
+            if (((word >>> (63 - (i & 63))) & 1) != 0) {
+                zHi ^= vHi;
+                zLo ^= vLo;
+            }
+            final boolean carry = (vLo & 1) != 0;
+            vLo = (vLo >>> 1) | (vHi << 63);
+            vHi >>>= 1;
+            if (carry) {
+                vHi ^= R;
+            }
+        }
+        return new long[] { zHi, zLo };
+    }
+
+    /**
+     * Returns the given field element raised to the given non-negative power.
+     */
+    static long[] power(long[] x, long n) {
+        long[] result = { ONE, 0 };
+        long[] square = x;
+        while (n > 0) {
+            if ((n & 1) != 0) {
+                result = multiply(result, square);
+            }
+            n >>>= 1;
+            if (n > 0) {
+                square = multiply(square, square);
+            }
+        }
+        return result;
+    }
+
+    static long toLong(byte[] b, int off) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (b[off + i] & 0xFF);
+        }
+        return value;
+    }
+
+    static byte[] toBytes(long[] x) {
+        final byte[] b = new byte[BLOCK_SIZE];
+        for (int i = 0; i < 8; i++) {
+            b[i] = (byte) (x[0] >>> (56 - 8 * i));
+            b[8 + i] = (byte) (x[1] >>> (56 - 8 * i));
+        }
+        return b;
+    }
+}
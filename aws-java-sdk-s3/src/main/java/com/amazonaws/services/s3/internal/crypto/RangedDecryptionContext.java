@@ -0,0 +1,395 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static com.amazonaws.services.s3.internal.crypto.GHash.BLOCK_SIZE;
+import static com.amazonaws.util.IOUtils.closeQuietly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.Provider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.internal.S3Direct;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.IOUtils;
+
+/**
+ * Decrypts an object encrypted with AES/GCM in independent byte ranges, so
+ * that the ranges can be downloaded concurrently, while still verifying the
+ * authentication tag of the whole object.
+ * <p>
+ * Each range is decrypted with AES/CTR starting at the counter of its first
+ * block, the same way the S3 encryption client decrypts range gets, and its
+ * ciphertext is hashed with GHASH on the same thread. Once all the ranges are
+ * in the destination file, {@link #verify(GetObjectRequest, FileChannel)}
+ * combines the hashes of the ranges into the tag of the whole object and
+ * checks it against the tag stored at the end of the object. Ranges that
+ * were not downloaded through this context, such as the ranges of a resumed
+ * download, are re-encrypted from the destination file to be hashed.
+ * <p>
+ * The content encrypting key is only unwrapped, which may call KMS, when the
+ * context is first used, or by {@link #initialize()}, so that creating the
+ * context does not block the caller of the transfer manager.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class RangedDecryptionContext {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int TAG_LENGTH = ContentCryptoScheme.AES_GCM.getTagLengthInBits() / 8;
+
+    private static final Log log = LogFactory.getLog(RangedDecryptionContext.class);
+
+    private final S3Direct s3;
+    private final Callable<ContentCryptoMaterial> cekMaterialLoader;
+    private final Provider securityProvider;
+    /** The length of the ciphertext, without the tag, which is the length of the plaintext. */
+    private final long ciphertextLength;
+    /** The hashes of the ranges downloaded so far. */
+    private final List<Segment> segments = new ArrayList<Segment>();
+    /** Guarded by this. */
+    private Keys keys;
+
+    /**
+     * @param cekMaterialLoader
+     *            loads the content crypto material of the object, which must
+     *            be encrypted with AES/GCM; only called once.
+     */
+    RangedDecryptionContext(S3Direct s3, Callable<ContentCryptoMaterial> cekMaterialLoader,
+            long objectLength, Provider securityProvider) {
+        this.s3 = s3;
+        this.cekMaterialLoader = cekMaterialLoader;
+        this.securityProvider = securityProvider;
+        this.ciphertextLength = objectLength - TAG_LENGTH;
+        if (ciphertextLength < 0) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Returns the length of the decrypted object.
+     */
+    public long getPlaintextLength() {
+        return ciphertextLength;
+    }
+
+    /**
+     * Loads the content encrypting key of the object, unless already done.
+     *
+     * @throws AmazonClientException
+     *             if the key cannot be loaded.
+     */
+    public void initialize() {
+        keys();
+    }
+
+    private synchronized Keys keys() {
+        if (keys == null) {
+            final ContentCryptoMaterial cekMaterial;
+            try {
+                cekMaterial = cekMaterialLoader.call();
+            } catch (AmazonClientException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new AmazonClientException("Unable to load the content encrypting key: " + e.getMessage(), e);
+            }
+            if (cekMaterial.getContentCryptoScheme() != ContentCryptoScheme.AES_GCM) {
+                throw new AmazonClientException("Unexpected content crypto scheme: "
+                        + cekMaterial.getContentCryptoScheme());
+            }
+            keys = new Keys(cekMaterial.getCipherLite(), securityProvider);
+        }
+        return keys;
+    }
+
+    /**
+     * Downloads the range of plaintext specified in the given request,
+     * decrypts it and writes it at its offset in the given file. The range
+     * must start on a cipher block boundary, and end on one unless it is the
+     * end of the plaintext.
+     *
+     * @param rangeRequest
+     *            the request for the range, with the range in plaintext
+     *            positions.
+     * @param destinationFile
+     *            the pre-sized destination file, which can be written by
+     *            concurrent downloads, each through its own channel.
+     * @return the inclusive range written.
+     */
+    public long[] download(GetObjectRequest rangeRequest, File destinationFile) {
+        final long[] range = rangeRequest.getRange();
+        if (range == null || range[0] % BLOCK_SIZE != 0 || range[1] < range[0]
+                || range[1] >= ciphertextLength
+                || ((range[1] + 1) % BLOCK_SIZE != 0 && range[1] != ciphertextLength - 1)) {
+            throw new IllegalArgumentException("Invalid range for the decryption of "
+                    + rangeRequest.getKey() + ": " + (range == null ? null : range[0] + "-" + range[1]));
+        }
+        final long firstByte = range[0];
+        final long lastByte = range[1];
+        final S3Object part = s3.getObject(rangeRequest);
+        if (part == null) {
+            throw new AmazonClientException(
+                    "There is no object in S3 satisfying this request. The getObject method returned null");
+        }
+        final S3ObjectInputStream content = part.getObjectContent();
+        final long expectedLength = lastByte - firstByte + 1;
+        RandomAccessFile raf = null;
+        boolean completed = false;
+        try {
+            raf = new RandomAccessFile(destinationFile, "rw");
+            final FileChannel destination = raf.getChannel();
+            final Keys keys = keys();
+            final CipherLite cipher = keys.newCtrCipher(firstByte);
+            final GHash hash = keys.ghash.newInstance();
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            long position = firstByte;
+            int bytesRead;
+            while ((bytesRead = content.read(buffer)) > -1) {
+                // Never write past the range, which may belong to another download
+                if (hash.getLength() + bytesRead > expectedLength) {
+                    break;
+                }
+                hash.update(buffer, 0, bytesRead);
+                position = write(cipher.update(buffer, 0, bytesRead), destination, position);
+            }
+            position = write(cipher.doFinal(), destination, position);
+            if (hash.getLength() != expectedLength || position != lastByte + 1) {
+                throw new AmazonClientException("Received an unexpected number of bytes for the range ["
+                        + firstByte + ", " + lastByte + "] of " + rangeRequest.getKey());
+            }
+            addSegment(new Segment(firstByte / BLOCK_SIZE, hash));
+            completed = true;
+            return new long[] { firstByte, lastByte };
+        } catch (IOException e) {
+            throw new AmazonClientException(
+                    "Unable to store object contents to disk: " + e.getMessage(), e);
+        } catch (GeneralSecurityException e) {
+            throw new AmazonClientException("Unable to decrypt " + rangeRequest.getKey()
+                    + ": " + e.getMessage(), e);
+        } finally {
+            if (!completed) {
+                content.abort();
+            }
+            closeQuietly(raf, log);
+            closeQuietly(content, log);
+        }
+    }
+
+    /**
+     * Verifies the authentication tag of the whole object, once all of its
+     * plaintext has been written to the given channel.
+     *
+     * @param tagRequest
+     *            a request for the object, used to retrieve its tag.
+     * @param destination
+     *            a channel on the destination file.
+     * @throws SecurityException
+     *             if the tag computed does not match the tag of the object.
+     */
+    public void verify(GetObjectRequest tagRequest, FileChannel destination) {
+        final Keys keys = keys();
+        final long totalBlocks = (ciphertextLength + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        final List<Segment> hashed;
+        synchronized (segments) {
+            hashed = new ArrayList<Segment>(segments);
+        }
+        long[] y = { 0, 0 };
+        long nextBlock = 0;
+        try {
+            for (Segment segment : hashed) {
+                if (segment.firstBlock > nextBlock) {
+                    y = combine(keys, y, hashFromFile(keys, destination, nextBlock, segment.firstBlock),
+                            totalBlocks);
+                }
+                y = combine(keys, y, segment, totalBlocks);
+                nextBlock = segment.endBlock;
+            }
+            if (nextBlock < totalBlocks) {
+                y = combine(keys, y, hashFromFile(keys, destination, nextBlock, totalBlocks), totalBlocks);
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to read the downloaded contents: " + e.getMessage(), e);
+        } catch (GeneralSecurityException e) {
+            throw new AmazonClientException("Unable to verify " + tagRequest.getKey() + ": " + e.getMessage(), e);
+        }
+        // The final block holds the lengths in bits of the (empty) additional
+        // authenticated data and of the ciphertext
+        y[1] ^= ciphertextLength * 8;
+        final byte[] tag = GHash.toBytes(GHash.multiply(y, keys.hashSubkey));
+        for (int i = 0; i < tag.length; i++) {
+            tag[i] ^= keys.encryptedJ0[i];
+        }
+        if (!MessageDigest.isEqual(tag, retrieveTag(tagRequest))) {
+            throw new SecurityException("The authentication tag of " + tagRequest.getKey()
+                    + " does not match its contents; possible data corruption or tampering");
+        }
+    }
+
+    private byte[] retrieveTag(GetObjectRequest tagRequest) {
+        tagRequest.setRange(ciphertextLength, ciphertextLength + TAG_LENGTH - 1);
+        final S3Object object = s3.getObject(tagRequest);
+        if (object == null) {
+            throw new AmazonClientException(
+                    "There is no object in S3 satisfying this request. The getObject method returned null");
+        }
+        try {
+            final byte[] tag = IOUtils.toByteArray(object.getObjectContent());
+            if (tag.length != TAG_LENGTH) {
+                throw new AmazonClientException("Unable to retrieve the authentication tag of " + tagRequest.getKey());
+            }
+            return tag;
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to retrieve the authentication tag of "
+                    + tagRequest.getKey() + ": " + e.getMessage(), e);
+        } finally {
+            closeQuietly(object, log);
+        }
+    }
+
+    private void addSegment(Segment segment) {
+        synchronized (segments) {
+            int index = segments.size();
+            while (index > 0 && segments.get(index - 1).firstBlock > segment.firstBlock) {
+                index--;
+            }
+            if ((index > 0 && segments.get(index - 1).endBlock > segment.firstBlock)
+                    || (index < segments.size() && segments.get(index).firstBlock < segment.endBlock)) {
+                throw new IllegalStateException("Range starting at block " + segment.firstBlock
+                        + " overlaps a range already downloaded");
+            }
+            segments.add(index, segment);
+        }
+    }
+
+    /**
+     * Adds the hash of the given segment, weighted by its position among the
+     * blocks of the whole ciphertext, to the given partial hash.
+     */
+    private static long[] combine(Keys keys, long[] y, Segment segment, long totalBlocks) {
+        final long[] weighted = GHash.multiply(segment.hash,
+                GHash.power(keys.hashSubkey, totalBlocks - segment.endBlock));
+        return new long[] { y[0] ^ weighted[0], y[1] ^ weighted[1] };
+    }
+
+    /**
+     * Hashes the ciphertext of the given blocks by re-encrypting the plaintext
+     * already in the destination file.
+     */
+    private Segment hashFromFile(Keys keys, FileChannel channel, long firstBlock, long endBlock)
+            throws IOException, GeneralSecurityException {
+        final CipherLite cipher = keys.newCtrCipher(firstBlock * BLOCK_SIZE);
+        final GHash hash = keys.ghash.newInstance();
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        final long end = Math.min(endBlock * BLOCK_SIZE, ciphertextLength);
+        long position = firstBlock * BLOCK_SIZE;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(BUFFER_SIZE, end - position));
+            final int bytesRead = channel.read(buffer, position);
+            if (bytesRead < 0) {
+                throw new IOException("Unexpected end of file at " + position);
+            }
+            update(hash, cipher.update(buffer.array(), 0, bytesRead));
+            position += bytesRead;
+        }
+        update(hash, cipher.doFinal());
+        return new Segment(firstBlock, hash);
+    }
+
+    private static void update(GHash hash, byte[] b) {
+        if (b != null) {
+            hash.update(b, 0, b.length);
+        }
+    }
+
+    private static long write(byte[] b, FileChannel channel, long position) throws IOException {
+        if (b == null) {
+            return position;
+        }
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(b);
+        while (byteBuffer.hasRemaining()) {
+            position += channel.write(byteBuffer, position);
+        }
+        return position;
+    }
+
+    /** The content encrypting key and the values derived from it. */
+    private static final class Keys {
+        private final SecretKey cek;
+        private final byte[] iv;
+        private final Provider securityProvider;
+        private final GHash ghash;
+        private final long[] hashSubkey;
+        private final byte[] encryptedJ0;
+
+        private Keys(CipherLite cipherLite, Provider securityProvider) {
+            this.cek = cipherLite.getSecretKey();
+            this.iv = cipherLite.getIV();
+            this.securityProvider = securityProvider;
+            if (iv.length != 12) {
+                throw new AmazonClientException("Unexpected IV length: " + iv.length);
+            }
+            final byte[] h = encryptBlock(new byte[BLOCK_SIZE]);
+            this.ghash = new GHash(h);
+            this.hashSubkey = new long[] { GHash.toLong(h, 0), GHash.toLong(h, 8) };
+            final byte[] j0 = new byte[BLOCK_SIZE];
+            System.arraycopy(iv, 0, j0, 0, iv.length);
+            j0[BLOCK_SIZE - 1] = 1;
+            this.encryptedJ0 = encryptBlock(j0);
+        }
+
+        private CipherLite newCtrCipher(long startingBytePos) throws GeneralSecurityException {
+            return ContentCryptoScheme.AES_GCM.createAuxillaryCipher(cek, iv,
+                    Cipher.DECRYPT_MODE, securityProvider, startingBytePos);
+        }
+
+        /** Returns the encryption of the given block under the content encrypting key. */
+        private byte[] encryptBlock(byte[] block) {
+            // The first block of AES/CTR is XOR'ed with the encryption of its IV
+            return ContentCryptoScheme.AES_CTR.createCipherLite(cek, block,
+                    Cipher.ENCRYPT_MODE, securityProvider).update(new byte[BLOCK_SIZE], 0, BLOCK_SIZE);
+        }
+    }
+
+    /** The hash of the ciphertext of a contiguous sequence of blocks. */
+    private static final class Segment {
+        private final long firstBlock;
+        /** Exclusive. */
+        private final long endBlock;
+        private final long[] hash;
+
+        private Segment(long firstBlock, GHash hash) {
+            this.firstBlock = firstBlock;
+            this.endBlock = firstBlock + (hash.getLength() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            this.hash = hash.digest();
+        }
+    }
+}
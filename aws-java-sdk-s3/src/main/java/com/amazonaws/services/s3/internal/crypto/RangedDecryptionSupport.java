@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+
+/**
+ * Implemented by the S3 encryption client so that the transfer manager can
+ * download and decrypt its objects in parallel ranges.
+ */
+@SdkInternalApi
+public interface RangedDecryptionSupport {
+
+    /**
+     * Returns a context to download and decrypt the specified object in
+     * independent byte ranges, such as concurrently, or null if the object
+     * cannot be decrypted that way. Only inspects the given metadata; the
+     * content encrypting key is unwrapped when the context is first used.
+     *
+     * @param req
+     *            the request for the whole object.
+     * @param metadata
+     *            the metadata of the object, as returned by
+     *            getObjectMetadata.
+     */
+    RangedDecryptionContext newRangedDecryptionContext(GetObjectRequest req,
+            ObjectMetadata metadata);
+}
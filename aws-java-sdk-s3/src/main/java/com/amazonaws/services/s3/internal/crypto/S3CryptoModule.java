@@ -90,4 +90,20 @@ public abstract class S3CryptoModule<T extends MultipartUploadContext> {
      */
     public abstract void putLocalObjectSecurely(UploadObjectRequest req,
             String uploadId, OutputStream os) throws IOException;
+
+    /**
+     * Returns a context to download and decrypt the specified S3 object in
+     * independent byte ranges; or null if the object cannot be decrypted that
+     * way, in which case it must be downloaded with
+     * {@link #getObjectSecurely(GetObjectRequest, File)}.
+     *
+     * @param req
+     *            the request for the whole object.
+     * @param metadata
+     *            the metadata of the object.
+     */
+    public RangedDecryptionContext newRangedDecryptionContext(
+            GetObjectRequest req, ObjectMetadata metadata) {
+        return null;
+    }
 }
@@ -29,12 +29,14 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.internal.SdkFilterInputStream;
 import com.amazonaws.services.kms.AWSKMSClient;
+import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.internal.S3Direct;
 import com.amazonaws.services.s3.model.CryptoConfiguration;
 import com.amazonaws.services.s3.model.CryptoMode;
@@ -359,6 +361,60 @@ class S3CryptoModuleAE extends S3CryptoModuleBase<MultipartUploadCryptoContext>
         return s3Object.getObjectMetadata();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only objects encrypted with AES/GCM, with their encryption information
+     * in their metadata rather than in an instruction file, can be decrypted
+     * in ranges, and never in strict mode, which does not allow range gets.
+     * The content encrypting key is only unwrapped once the returned context
+     * is first used.
+     */
+    @Override
+    public RangedDecryptionContext newRangedDecryptionContext(
+            final GetObjectRequest req, final ObjectMetadata metadata) {
+        if (isStrict() || req.getRange() != null || req.getPartNumber() != null
+                || metadata.getContentLength() < contentCryptoScheme.getTagLengthInBits() / 8) {
+            return null;
+        }
+        ExtraMaterialsDescription extraMatDesc = NONE;
+        boolean keyWrapExpected = false;
+        if (req instanceof EncryptedGetObjectRequest) {
+            EncryptedGetObjectRequest ereq = (EncryptedGetObjectRequest)req;
+            String suffix = ereq.getInstructionFileSuffix();
+            if (suffix != null && !suffix.trim().isEmpty()) {
+                return null;
+            }
+            extraMatDesc = ereq.getExtraMaterialDescription();
+            keyWrapExpected = ereq.isKeyWrapExpected();
+        }
+        if (!new S3ObjectWrapper(metadataOnly(metadata), req.getS3ObjectId()).hasEncryptionInfo()
+                || !ContentCryptoScheme.AES_GCM.getCipherAlgorithm().equals(
+                        metadata.getUserMetaDataOf(Headers.CRYPTO_CEK_ALGORITHM))) {
+            return null;
+        }
+        final ExtraMaterialsDescription finalExtraMatDesc = extraMatDesc;
+        final boolean finalKeyWrapExpected = keyWrapExpected;
+        return new RangedDecryptionContext(s3, new Callable<ContentCryptoMaterial>() {
+            @Override
+            public ContentCryptoMaterial call() {
+                return ContentCryptoMaterial.fromObjectMetadata(metadata,
+                        kekMaterialsProvider,
+                        cryptoConfig.getCryptoProvider(),
+                        null,
+                        finalExtraMatDesc,
+                        finalKeyWrapExpected,
+                        kms);
+            }
+        }, metadata.getContentLength(), cryptoConfig.getCryptoProvider());
+    }
+
+    private static S3Object metadataOnly(ObjectMetadata metadata) {
+        final S3Object s3object = new S3Object();
+        s3object.setObjectMetadata(metadata);
+        return s3object;
+    }
+
     @Override
     final MultipartUploadCryptoContext newUploadContext(
             InitiateMultipartUploadRequest req, ContentCryptoMaterial cekMaterial) {
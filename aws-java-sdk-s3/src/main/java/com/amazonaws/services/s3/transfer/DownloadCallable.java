@@ -15,10 +15,12 @@
 package com.amazonaws.services.s3.transfer;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.net.SocketException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -26,6 +28,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.net.ssl.SSLProtocolException;
 
@@ -38,11 +43,13 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.internal.FileLocks;
 import com.amazonaws.services.s3.internal.ServiceUtils;
 import com.amazonaws.services.s3.internal.ServiceUtils.RetryableS3DownloadTask;
+import com.amazonaws.services.s3.internal.crypto.RangedDecryptionContext;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.transfer.Transfer.TransferState;
 import com.amazonaws.services.s3.transfer.exception.FileLockException;
 import com.amazonaws.services.s3.transfer.internal.AbstractTransfer;
+import com.amazonaws.services.s3.transfer.internal.CompletedByteRanges;
 import com.amazonaws.services.s3.transfer.internal.DownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.DownloadMonitor;
 import com.amazonaws.services.s3.transfer.internal.DownloadPartCallable;
@@ -51,6 +58,7 @@ import com.amazonaws.util.IOUtils;
 @SdkInternalApi
 final class DownloadCallable implements Callable<File> {
     private static final Log LOG = LogFactory.getLog(DownloadCallable.class);
+    private static final int CIPHER_BLOCK_SIZE = 16;
 
     private final AmazonS3 s3;
     private final CountDownLatch latch;
@@ -63,10 +71,14 @@ final class DownloadCallable implements Callable<File> {
     private final ScheduledExecutorService timedExecutor;
     /** The thread pool in which parts are downloaded downloaded. */
     private final ExecutorService executor;
-    private final List<Future<File>> futureFiles;
     private final boolean isDownloadParallel;
-    private Integer lastFullyMergedPartNumber;
+    /** The number of parts of a multipart object; null if the object was not multipart uploaded. */
+    private final Integer partCount;
+    private final TransferManagerConfiguration configuration;
+    private final CompletedByteRanges completedRanges;
     private final boolean resumeOnRetry;
+    /** Decrypts the ranges of an encrypted object; null if the object is not decrypted in ranges. */
+    private final RangedDecryptionContext decryption;
 
     private long expectedFileLength;
 
@@ -76,7 +88,23 @@ final class DownloadCallable implements Callable<File> {
             long expectedFileLength, long timeout,
             ScheduledExecutorService timedExecutor,
             ExecutorService executor,
-            Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel, boolean resumeOnRetry)
+            long[][] completedRanges, boolean isDownloadParallel, Integer partCount,
+            TransferManagerConfiguration configuration, boolean resumeOnRetry)
+    {
+        this(s3, latch, req, resumeExistingDownload, download, dstfile, origStartingByte,
+                expectedFileLength, timeout, timedExecutor, executor, completedRanges,
+                isDownloadParallel, partCount, configuration, resumeOnRetry, null);
+    }
+
+    DownloadCallable(AmazonS3 s3, CountDownLatch latch,
+            GetObjectRequest req, boolean resumeExistingDownload,
+            DownloadImpl download, File dstfile, long origStartingByte,
+            long expectedFileLength, long timeout,
+            ScheduledExecutorService timedExecutor,
+            ExecutorService executor,
+            long[][] completedRanges, boolean isDownloadParallel, Integer partCount,
+            TransferManagerConfiguration configuration, boolean resumeOnRetry,
+            RangedDecryptionContext decryption)
     {
         if (s3 == null || latch == null || req == null || dstfile == null || download == null)
             throw new IllegalArgumentException();
@@ -91,18 +119,23 @@ final class DownloadCallable implements Callable<File> {
         this.timeout = timeout;
         this.timedExecutor = timedExecutor;
         this.executor = executor;
-        this.futureFiles = new ArrayList<Future<File>>();
-        this.lastFullyMergedPartNumber = lastFullyDownloadedPartNumber;
+        this.completedRanges = new CompletedByteRanges(completedRanges);
         this.isDownloadParallel = isDownloadParallel;
+        this.partCount = partCount;
+        this.configuration = configuration;
         this.resumeOnRetry = resumeOnRetry;
+        this.decryption = decryption;
     }
 
     /**
-     * This method must return a non-null object, or else the existing
-     * implementation in {@link AbstractTransfer#waitForCompletion()}
-     * would block forever.
+     * This method must return a non-null object once the download is done,
+     * or else the existing implementation in
+     * {@link AbstractTransfer#waitForCompletion()} would block forever. A
+     * parallel download returns null as soon as its first parts are started,
+     * after replacing the future of the download by the
+     * {@link ParallelDownload} that its parts complete.
      *
-     * @return the downloaded file
+     * @return the downloaded file, or null for a parallel download
      */
     @Override
     public File call() throws Exception {
@@ -128,19 +161,17 @@ final class DownloadCallable implements Callable<File> {
             ServiceUtils.createParentDirectoryIfNecessary(dstfile);
 
             if (isDownloadParallel) {
-                downloadInParallel(ServiceUtils.getPartCount(req, s3));
-                download.setState(TransferState.Completed);
-            } else {
-                S3Object s3Object = retryableDownloadS3ObjectToFile(dstfile,
-                        new DownloadTaskImpl(s3, download, req));
-                updateDownloadStatus(s3Object);
+                if (decryption != null) {
+                    decryption.initialize();
+                }
+                new ParallelDownload().start();
+                return null;
             }
+            S3Object s3Object = retryableDownloadS3ObjectToFile(dstfile,
+                    new DownloadTaskImpl(s3, download, req));
+            updateDownloadStatus(s3Object);
             return dstfile;
         } catch (Throwable t) {
-            // Cancel all the futures
-            for (Future<File> f : futureFiles) {
-                f.cancel(true);
-            }
             // Downloads aren't allowed to move from canceled to failed
             if (download.getState() != TransferState.Canceled) {
                 download.setState(TransferState.Failed);
@@ -167,81 +198,308 @@ final class DownloadCallable implements Callable<File> {
     }
 
     /**
-     * Downloads each part of the object into a seperate file synchronously and
-     * combines all the files into a single file.
+     * Returns the requests for the parts of the object that are not yet in
+     * the destination file.
+     * <p>
+     * A new download of a multipart object fetches every part by part number.
+     * Objects that were not multipart uploaded, and resumed downloads, fetch
+     * the byte ranges that are not yet in the file, split into ranges of the
+     * configured download range size (or of about one part for multipart
+     * objects).
      */
-    private void downloadInParallel(int partCount) throws Exception {
-        if (lastFullyMergedPartNumber == null) {
-            lastFullyMergedPartNumber = 0;
+    private List<GetObjectRequest> createPartRequests(long objectLength) {
+        final List<GetObjectRequest> partRequests = new ArrayList<GetObjectRequest>();
+        if (decryption != null) {
+            // Ranges must start on a cipher block boundary
+            final long rangeSize = Math.max(CIPHER_BLOCK_SIZE,
+                    configuration.getDownloadRangeSize() / CIPHER_BLOCK_SIZE * CIPHER_BLOCK_SIZE);
+            for (long[] range : completedRanges.getMissingRanges(0, objectLength - 1, rangeSize)) {
+                partRequests.add(createGetPartRequest().withRange(range[0], range[1]));
+            }
+        } else if (partCount != null && completedRanges.isEmpty()) {
+            for (int i = 1; i <= partCount; i++) {
+                partRequests.add(createGetPartRequest().withPartNumber(i));
+            }
+        } else {
+            final long rangeSize = partCount != null
+                    ? (objectLength + partCount - 1) / partCount
+                    : configuration.getDownloadRangeSize();
+            for (long[] range : completedRanges.getMissingRanges(0, objectLength - 1, rangeSize)) {
+                partRequests.add(createGetPartRequest().withRange(range[0], range[1]));
+            }
         }
+        return partRequests;
+    }
 
-        for (int i = lastFullyMergedPartNumber + 1; i <= partCount; i++) {
-            GetObjectRequest getPartRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
-                    req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
-                            .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
-                            .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
-                            .withGeneralProgressListener(req.getGeneralProgressListener());
-
-            getPartRequest.setMatchingETagConstraints(req.getMatchingETagConstraints());
-            getPartRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
-            getPartRequest.setRequesterPays(req.isRequesterPays());
-
-            futureFiles.add(
-                    executor.submit(new DownloadPartCallable(s3, getPartRequest.withPartNumber(i), dstfile)));
+    /**
+     * Verifies the authentication tag of the decrypted object, without
+     * reporting the retrieval of the tag as progress of the download.
+     */
+    private void verify() throws IOException {
+        final GetObjectRequest tagRequest = createGetPartRequest();
+        tagRequest.setGeneralProgressListener(null);
+        RandomAccessFile raf = new RandomAccessFile(dstfile, "r");
+        try {
+            decryption.verify(tagRequest, raf.getChannel());
+        } finally {
+            IOUtils.closeQuietly(raf, LOG);
         }
-
-        combineFiles();
     }
 
     /**
-     * Merges all the individual part Files into dstFile
+     * Returns a request for a part of the object. Unless the original request
+     * has its own ETag constraints, the part must match the ETag of the
+     * object the download started with, so that the parts of two versions
+     * of an object overwritten during the download are never mixed.
      */
-    private void combineFiles() throws Exception {
-        truncateDestinationFileIfNecessary();
+    private GetObjectRequest createGetPartRequest() {
+        GetObjectRequest getPartRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
+                req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
+                        .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
+                        .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
+                        .withGeneralProgressListener(req.getGeneralProgressListener());
 
-        for (Future<File> f : futureFiles) {
-            File partFile = f.get();
-            ServiceUtils.appendFile(partFile, dstfile);
-            download.updatePersistableTransfer(++lastFullyMergedPartNumber);
-            try {
-                if (!partFile.delete()) {
-                    LOG.warn("The file " + partFile.getAbsolutePath() + " could not be deleted.");
-                }
-            } catch (SecurityException exception) {
-                LOG.warn("SecurityException denied delete access to file " + partFile.getAbsolutePath());
-            }
+        getPartRequest.setMatchingETagConstraints(req.getMatchingETagConstraints());
+        getPartRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
+        getPartRequest.setRequesterPays(req.isRequesterPays());
+
+        final String eTag = download.getObjectMetadata().getETag();
+        if (eTag != null && (req.getMatchingETagConstraints() == null
+                || req.getMatchingETagConstraints().isEmpty())) {
+            getPartRequest.setMatchingETagConstraints(Collections.singletonList(eTag));
         }
+        return getPartRequest;
     }
 
     /**
-     * If only partial part object is merged into the dstFile(due to pause
-     * operation), adjust the file length so that the part starts writing from
-     * the correct position.
+     * Sizes the destination file to the length of the object so that every
+     * part can be written at its offset. When resuming, makes sure the ranges
+     * recorded as completed are still in the file.
      */
-    private void truncateDestinationFileIfNecessary() {
+    private void prepareDestinationFile(long objectLength) {
         RandomAccessFile raf = null;
-        if (!FileLocks.lock(dstfile)) {
-            throw new FileLockException("Fail to lock " + dstfile);
-        }
-
         try {
             raf = new RandomAccessFile(dstfile, "rw");
-            if (lastFullyMergedPartNumber == 0) {
-                raf.setLength(0);
-            } else {
-                long lastByte = ServiceUtils.getLastByteInPart(s3, req, lastFullyMergedPartNumber);
-                if (dstfile.length() < lastByte) {
+            if (!completedRanges.isEmpty()) {
+                if (raf.length() <= completedRanges.getLastCompletedByte()) {
                     throw new AmazonClientException(
                             "File " + dstfile.getAbsolutePath() + " has been modified since last pause.");
                 }
-                raf.setLength(lastByte + 1);
-                download.getProgress().updateProgress(lastByte + 1);
+                download.getProgress().updateProgress(completedRanges.getCompletedBytes());
             }
-        } catch (Exception e) {
-            throw new AmazonClientException("Unable to append part file to dstfile " + e.getMessage(), e);
+            raf.setLength(objectLength);
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to prepare " + dstfile.getAbsolutePath()
+                    + " for the download: " + e.getMessage(), e);
         } finally {
             IOUtils.closeQuietly(raf, LOG);
-            FileLocks.unlock(dstfile);
+        }
+    }
+
+    /**
+     * Downloads the parts of the object concurrently, each one written
+     * straight to its offset in the pre-sized destination file. At most
+     * {@link TransferManagerConfiguration#getMaxInflightDownloadRanges()}
+     * parts are requested at a time.
+     * <p>
+     * No thread waits for the parts. Each part starts the next one when it
+     * completes, and the last one completes this future, which replaces the
+     * future of the download. A thread of the pool blocked on parts queued on
+     * the same pool would deadlock it once enough downloads run at the same
+     * time.
+     * <p>
+     * The ranges of an encrypted object are decrypted independently, and the
+     * authentication tag of the whole object is verified once they are all in
+     * the file, which is deleted if the verification fails.
+     */
+    private final class ParallelDownload extends FutureTask<File> {
+        private final long objectLength;
+        private final List<GetObjectRequest> partRequests;
+        /** Set once the download has completed, failed or been canceled. */
+        private final AtomicBoolean finished = new AtomicBoolean();
+        /* The fields below are guarded by this. */
+        private final List<Future<?>> futureParts = new ArrayList<Future<?>>();
+        private int submitted;
+        private int completed;
+        private boolean locked;
+
+        ParallelDownload() {
+            super(new Callable<File>() {
+                public File call() {
+                    throw new IllegalStateException("A parallel download is completed by its parts");
+                }
+            });
+            this.objectLength = decryption != null
+                    ? decryption.getPlaintextLength()
+                    : download.getObjectMetadata().getContentLength();
+            this.partRequests = createPartRequests(objectLength);
+        }
+
+        /**
+         * Prepares the destination file, makes this the future of the
+         * download and starts the first parts.
+         */
+        void start() {
+            if (!FileLocks.lock(dstfile)) {
+                throw new FileLockException("Fail to lock " + dstfile);
+            }
+            locked = true;
+            try {
+                prepareDestinationFile(objectLength);
+            } catch (RuntimeException e) {
+                unlock();
+                throw e;
+            }
+            // Synchronized with DownloadImpl.abort(), which cancels the future
+            final boolean canceled;
+            synchronized (download) {
+                ((DownloadMonitor) download.getMonitor()).setFuture(this);
+                canceled = download.getState() == TransferState.Canceled || Thread.interrupted();
+            }
+            if (canceled) {
+                cancel(true);
+                return;
+            }
+            if (partRequests.isEmpty()) {
+                complete();
+                return;
+            }
+            final int maxInflightRanges = Math.max(1, configuration.getMaxInflightDownloadRanges());
+            int started = 0;
+            while (started < maxInflightRanges && submitNextPart()) {
+                started++;
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean first = finished.compareAndSet(false, true);
+            // Nothing runs this future itself, the parts are interrupted
+            // instead; each of them writes through its own channel.
+            final boolean canceled = super.cancel(false);
+            cancelParts();
+            unlock();
+            // A paused download fails, as when the thread of a download is
+            // interrupted. DownloadImpl.abort() holds the lock of the
+            // download and marks it canceled itself.
+            if (first && !Thread.holdsLock(download) && !download.isDone()) {
+                download.setState(TransferState.Failed);
+            }
+            return canceled;
+        }
+
+        /**
+         * Submits the download of the next part, if any.
+         *
+         * @return false if there are no more parts to download.
+         */
+        private boolean submitNextPart() {
+            final GetObjectRequest partRequest;
+            synchronized (this) {
+                if (isDone() || submitted == partRequests.size()) {
+                    return false;
+                }
+                partRequest = partRequests.get(submitted++);
+            }
+            final Future<?> futurePart;
+            try {
+                futurePart = executor.submit(new Runnable() {
+                    public void run() {
+                        downloadPart(partRequest);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                fail(e);
+                return false;
+            }
+            synchronized (this) {
+                futureParts.add(futurePart);
+                if (isDone()) {
+                    futurePart.cancel(true);
+                }
+            }
+            return true;
+        }
+
+        private void downloadPart(GetObjectRequest partRequest) {
+            final long[] range;
+            try {
+                range = decryption == null
+                        ? new DownloadPartCallable(s3, partRequest, dstfile).call()
+                        : decryption.download(partRequest, dstfile);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            if (partRequest.getPartNumber() != null) {
+                download.recordDownloadedPart(partRequest.getPartNumber(), range[1]);
+            }
+            completedRanges.add(range[0], range[1]);
+            download.updatePersistableTransfer(completedRanges.toArray());
+
+            final boolean last;
+            synchronized (this) {
+                last = ++completed == partRequests.size();
+            }
+            if (last) {
+                complete();
+            } else {
+                submitNextPart();
+            }
+        }
+
+        /**
+         * Completes the download once all the parts are in the file.
+         */
+        private void complete() {
+            if (decryption != null && !isDone()) {
+                try {
+                    verify();
+                } catch (SecurityException e) {
+                    unlock();
+                    if (!dstfile.delete()) {
+                        LOG.warn("Unable to delete " + dstfile.getAbsolutePath()
+                                + " after its authentication failed");
+                    }
+                    fail(e);
+                    return;
+                } catch (Throwable t) {
+                    fail(t);
+                    return;
+                }
+            }
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            unlock();
+            download.setState(TransferState.Completed);
+            set(dstfile);
+        }
+
+        private void fail(Throwable t) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            cancelParts();
+            unlock();
+            // Downloads aren't allowed to move from canceled to failed
+            if (download.getState() != TransferState.Canceled) {
+                download.setState(TransferState.Failed);
+            }
+            setException(t);
+        }
+
+        private synchronized void cancelParts() {
+            for (Future<?> f : futureParts) {
+                f.cancel(true);
+            }
+        }
+
+        private synchronized void unlock() {
+            if (locked) {
+                locked = false;
+                FileLocks.unlock(dstfile);
+            }
         }
     }
 
@@ -19,6 +19,13 @@ import java.io.IOException;
 
 /**
  * Multiple file download of an entire virtual directory.
+ * <p>
+ * A directory download keeps track of the download of each of its objects.
+ * When the directory is downloaded while it is still being listed (see
+ * {@link TransferManagerConfiguration#setPipelineDirectoryDownloads(boolean)}),
+ * it only keeps the object downloads that are in flight, failed or were
+ * canceled, and drops each one that completes, so that its memory use
+ * doesn't grow with the number of objects in the directory.
  */
 public interface  MultipleFileDownload extends Transfer {
 
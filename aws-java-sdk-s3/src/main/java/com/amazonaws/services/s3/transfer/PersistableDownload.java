@@ -65,10 +65,22 @@ public final class PersistableDownload extends PersistableTransfer {
 
     /**
      * The last part that has been successfully written into the downloaded file.
+     *
+     * @deprecated Only present in the state of downloads paused by older
+     *             versions of the SDK; superseded by {@link #completedRanges}.
      */
+    @Deprecated
     @JsonProperty
     private final Integer lastFullyDownloadedPartNumber;
 
+    /**
+     * The byte ranges, as inclusive {firstByte, lastByte} pairs, that have
+     * been successfully written into the downloaded file by a parallel
+     * download.
+     */
+    @JsonProperty
+    private final long[][] completedRanges;
+
     /**
      * Last Modified/created time on Amazon S3 for this object.
      */
@@ -77,9 +89,14 @@ public final class PersistableDownload extends PersistableTransfer {
 
 
     public PersistableDownload() {
-        this(null, null, null, null, null, false, null, null, 0L);
+        this(null, null, null, null, null, false, null, null, null, 0L);
     }
 
+    /**
+     * @deprecated Use the constructor that takes the completed byte ranges of
+     *             the download instead.
+     */
+    @Deprecated
     public PersistableDownload(
             @JsonProperty(value = "bucketName") String bucketName,
             @JsonProperty(value = "key") String key,
@@ -90,6 +107,29 @@ public final class PersistableDownload extends PersistableTransfer {
             @JsonProperty(value = "file") String file,
             @JsonProperty(value = "lastFullyDownloadedPartNumber") Integer lastFullyDownloadedPartNumber,
             @JsonProperty(value = "lastModifiedTime") long lastModifiedTime) {
+        this(bucketName, key, versionId, range, responseHeaders, isRequesterPays, file,
+                lastFullyDownloadedPartNumber, null, lastModifiedTime);
+    }
+
+    /**
+     * Creates the state of a download that has written the given byte ranges
+     * into the downloaded file. The completed ranges come last, so that this
+     * constructor cannot be mistaken for the deprecated one when the ranges or
+     * the last fully downloaded part number are given as a <code>null</code>
+     * literal.
+     */
+    public PersistableDownload(
+            String bucketName, String key, String versionId, long[] range,
+            ResponseHeaderOverrides responseHeaders, boolean isRequesterPays, String file,
+            long lastModifiedTime, long[][] completedRanges) {
+        this(bucketName, key, versionId, range, responseHeaders, isRequesterPays, file,
+                null, completedRanges, lastModifiedTime);
+    }
+
+    private PersistableDownload(
+            String bucketName, String key, String versionId, long[] range,
+            ResponseHeaderOverrides responseHeaders, boolean isRequesterPays, String file,
+            Integer lastFullyDownloadedPartNumber, long[][] completedRanges, long lastModifiedTime) {
         this.bucketName = bucketName;
         this.key = key;
         this.versionId = versionId;
@@ -98,6 +138,7 @@ public final class PersistableDownload extends PersistableTransfer {
         this.isRequesterPays = isRequesterPays;
         this.file = file;
         this.lastFullyDownloadedPartNumber = lastFullyDownloadedPartNumber;
+        this.completedRanges = copyOf(completedRanges);
         this.lastModifiedTime = lastModifiedTime;
     }
 
@@ -156,12 +197,23 @@ public final class PersistableDownload extends PersistableTransfer {
     }
 
     /**
-     * Returns the last part number that was successfully written into the downloaded file.
+     * Returns the last part number that was successfully written into the
+     * downloaded file, for the state of downloads paused by older versions of
+     * the SDK.
      */
+    @Deprecated
     Integer getLastFullyDownloadedPartNumber() {
         return lastFullyDownloadedPartNumber;
     }
 
+    /**
+     * Returns the byte ranges that were successfully written into the
+     * downloaded file, or null if none were recorded.
+     */
+    long[][] getCompletedRanges() {
+        return copyOf(completedRanges);
+    }
+
     /**
      * Returns the last modified/created time of the object represented by
      * the bucketName and key.
@@ -169,4 +221,15 @@ public final class PersistableDownload extends PersistableTransfer {
     Long getlastModifiedTime() {
         return lastModifiedTime;
     }
+
+    private static long[][] copyOf(long[][] ranges) {
+        if (ranges == null) {
+            return null;
+        }
+        long[][] copy = new long[ranges.length][];
+        for (int i = 0; i < ranges.length; i++) {
+            copy[i] = ranges[i].clone();
+        }
+        return copy;
+    }
 }
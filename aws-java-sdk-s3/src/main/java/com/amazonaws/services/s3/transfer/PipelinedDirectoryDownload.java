@@ -0,0 +1,461 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.event.ProgressListener;
+import com.amazonaws.event.ProgressListenerChain;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.services.s3.transfer.internal.DownloadImpl;
+import com.amazonaws.services.s3.transfer.internal.MultipleFileDownloadImpl;
+import com.amazonaws.services.s3.transfer.internal.TransferMonitor;
+import com.amazonaws.services.s3.transfer.internal.TransferStateChangeListener;
+
+/**
+ * Downloads a virtual directory while it is still being listed.
+ * <p>
+ * Listing threads page through the key prefix and each of its common
+ * prefixes at the same time, and put the object summaries they find into a
+ * bounded queue. Dispatching threads take the summaries off the queue and
+ * start the download of each object, with at most a configured number of
+ * object downloads in flight; when that limit is reached the queue fills up
+ * and listing pauses until downloads complete.
+ * <p>
+ * The listing and dispatching threads block on the queue, so they run in a
+ * pool of their own, twice the configured number of listing threads, rather
+ * than in the executor of the transfer manager, where they could take every
+ * thread away from the object downloads they wait for. The pool is shut
+ * down once the directory has been listed.
+ * <p>
+ * Only the object downloads in flight, and those that failed or were
+ * canceled, are kept as sub-transfers of the {@link MultipleFileDownload};
+ * completed downloads are dropped as they finish. The total number of bytes
+ * to transfer grows as objects are listed.
+ *
+ * @see TransferManagerConfiguration#setPipelineDirectoryDownloads(boolean)
+ */
+final class PipelinedDirectoryDownload implements TransferMonitor {
+
+    /** Capacity of the queue of listed objects waiting to be downloaded. */
+    private static final int QUEUE_CAPACITY = 1000;
+
+    /** Marker put into the queue once every prefix has been listed. */
+    private static final S3ObjectSummary END_OF_LISTING = new S3ObjectSummary();
+
+    private static final String DELIMITER = "/";
+
+    private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+    private static final ThreadFactory threadFactory = new ThreadFactory() {
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("S3TransferManagerDirectoryThread-" + threadCount.incrementAndGet());
+            return thread;
+        }
+    };
+
+    private static final Log log = LogFactory.getLog(PipelinedDirectoryDownload.class);
+
+    private final TransferManager transferManager;
+    private final AmazonS3 s3;
+    private final String bucketName;
+    private final File destinationDirectory;
+    private final boolean resumeOnRetry;
+    private final int threads;
+
+    private final MultipleFileDownloadImpl multipleFileDownload;
+    private final TransferProgress transferProgress;
+
+    /** Shared by all object downloads to update the aggregate progress. */
+    private final ProgressListener progressListener;
+
+    /** Object downloads in flight, and those that failed or were canceled. */
+    private final Set<DownloadImpl> downloads = Collections
+            .newSetFromMap(new ConcurrentHashMap<DownloadImpl, Boolean>());
+
+    /**
+     * Object downloads that completed before they could be added to
+     * {@link #downloads}; guarded by {@link #downloads}.
+     */
+    private final Set<Transfer> completedBeforeAdded = new HashSet<Transfer>();
+
+    private final BlockingQueue<S3ObjectSummary> queue =
+            new ArrayBlockingQueue<S3ObjectSummary>(QUEUE_CAPACITY);
+    private final Semaphore downloadPermits;
+    private final AtomicInteger pendingListings = new AtomicInteger(0);
+    private final AtomicInteger activeDispatchers;
+    private final AtomicInteger inflightDownloads = new AtomicInteger(0);
+    private final ExecutorService threadPool;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final Future<?> future;
+
+    /** Total size of the objects listed so far; only updated under lock. */
+    private long totalSize;
+
+    private volatile boolean listingDone;
+    private volatile boolean canceled;
+    private volatile Exception error;
+
+    PipelinedDirectoryDownload(TransferManager transferManager, String bucketName,
+            String keyPrefix, File destinationDirectory, boolean resumeOnRetry) {
+        TransferManagerConfiguration configuration = transferManager.getConfiguration();
+        this.transferManager = transferManager;
+        this.s3 = transferManager.getAmazonS3Client();
+        this.bucketName = bucketName;
+        this.destinationDirectory = destinationDirectory;
+        this.resumeOnRetry = resumeOnRetry;
+        this.threads = Math.max(1, configuration.getDirectoryListingThreads());
+        this.downloadPermits = new Semaphore(Math.max(1, configuration.getMaxInflightDirectoryDownloads()));
+        this.activeDispatchers = new AtomicInteger(threads);
+        this.threadPool = Executors.newFixedThreadPool(2 * threads, threadFactory);
+
+        /* This is the hook for adding additional progress listeners */
+        ProgressListenerChain additionalListeners = new ProgressListenerChain();
+        this.transferProgress = new TransferProgress();
+        this.transferProgress.setTotalBytesToTransfer(0);
+        this.progressListener = new MultipleFileTransferProgressUpdatingListener(
+                transferProgress, additionalListeners);
+
+        String description = "Downloading from " + bucketName + "/" + keyPrefix;
+        this.multipleFileDownload = new MultipleFileDownloadImpl(description, transferProgress,
+                additionalListeners, keyPrefix, bucketName, downloads);
+        this.multipleFileDownload.setMonitor(this);
+        this.future = new DirectoryDownloadFuture();
+
+        for (int i = 0; i < threads; i++) {
+            threadPool.execute(new Runnable() {
+                public void run() {
+                    dispatch();
+                }
+            });
+        }
+        list(keyPrefix);
+    }
+
+    MultipleFileDownload getMultipleFileDownload() {
+        return multipleFileDownload;
+    }
+
+    @Override
+    public Future<?> getFuture() {
+        return future;
+    }
+
+    @Override
+    public boolean isDone() {
+        return done.getCount() == 0;
+    }
+
+    private boolean isStopped() {
+        return canceled || error != null;
+    }
+
+    /**
+     * Records the first error of the transfer; no further objects are listed
+     * or downloaded once an error has occurred.
+     */
+    private void fail(Exception e) {
+        synchronized (this) {
+            if (error == null) {
+                error = e;
+            }
+        }
+        log.debug("Unable to download directory from bucket " + bucketName, e);
+    }
+
+    /**
+     * Stops listing and starting object downloads, so that the object
+     * downloads already started can be aborted.
+     */
+    private void cancel() {
+        canceled = true;
+        checkDone();
+    }
+
+    /**
+     * Submits a task to list the given prefix.
+     */
+    private void list(final String prefix) {
+        pendingListings.incrementAndGet();
+        threadPool.execute(new Runnable() {
+            public void run() {
+                try {
+                    listPrefix(prefix);
+                } catch (Exception e) {
+                    fail(e);
+                } finally {
+                    if (pendingListings.decrementAndGet() == 0) {
+                        enqueue(END_OF_LISTING);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Pages through the objects directly under the given prefix, queueing
+     * each of them for download and submitting a listing of each common
+     * prefix.
+     */
+    private void listPrefix(String prefix) throws InterruptedException {
+        ObjectListing listing = null;
+        do {
+            if (isStopped()) {
+                return;
+            }
+            if (listing == null) {
+                listing = s3.listObjects(new ListObjectsRequest().withBucketName(bucketName)
+                        .withDelimiter(DELIMITER).withPrefix(prefix));
+            } else {
+                listing = s3.listNextBatchOfObjects(listing);
+            }
+
+            for (String commonPrefix : listing.getCommonPrefixes()) {
+                list(commonPrefix);
+            }
+            for (S3ObjectSummary s : listing.getObjectSummaries()) {
+                // Skip any files that are also virtual directories, since
+                // we can't save both a directory and a file of the same
+                // name.
+                if (!s.getKey().equals(prefix)
+                        && !listing.getCommonPrefixes().contains(s.getKey() + DELIMITER)) {
+                    queue.put(s);
+                } else {
+                    log.debug("Skipping download for object " + s.getKey()
+                            + " since it is also a virtual directory");
+                }
+            }
+        } while (listing.isTruncated());
+    }
+
+    private void enqueue(S3ObjectSummary summary) {
+        try {
+            queue.put(summary);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Starts the download of each object taken off the queue until the end
+     * of the listing. Objects are still taken off the queue, but not
+     * downloaded, once the transfer has failed or been canceled, so that the
+     * listing threads are never left blocked.
+     */
+    private void dispatch() {
+        try {
+            S3ObjectSummary summary;
+            while ((summary = queue.take()) != END_OF_LISTING) {
+                if (isStopped()) {
+                    continue;
+                }
+                try {
+                    startDownload(summary);
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    fail(e);
+                }
+            }
+            // Leave the marker for the other dispatching threads
+            enqueue(END_OF_LISTING);
+        } catch (InterruptedException e) {
+            fail(new AmazonClientException("Interrupted while downloading directory", e));
+        } finally {
+            if (activeDispatchers.decrementAndGet() == 0) {
+                threadPool.shutdown();
+                listingDone = true;
+                checkDone();
+            }
+        }
+    }
+
+    private void startDownload(S3ObjectSummary summary) throws Exception {
+        File f = new File(destinationDirectory, summary.getKey());
+        File parentFile = f.getParentFile();
+        if ( !parentFile.exists() && !parentFile.mkdirs() ) {
+            throw new RuntimeException("Couldn't create parent directories for " + f.getAbsolutePath());
+        }
+
+        downloadPermits.acquire();
+        if (isStopped()) {
+            downloadPermits.release();
+            return;
+        }
+        inflightDownloads.incrementAndGet();
+        synchronized (this) {
+            totalSize += summary.getSize();
+            transferProgress.setTotalBytesToTransfer(totalSize);
+        }
+
+        DownloadImpl download;
+        try {
+            GetObjectRequest req = new GetObjectRequest(summary.getBucketName(), summary.getKey())
+                    .<GetObjectRequest>withGeneralProgressListener(progressListener)
+                    .withRange(0L);
+            download = (DownloadImpl) transferManager.downloadDirectoryObject(
+                    req, f, new DownloadStateListener(), resumeOnRetry);
+        } catch (Exception e) {
+            inflightDownloads.decrementAndGet();
+            downloadPermits.release();
+            throw e;
+        }
+
+        synchronized (downloads) {
+            if (!completedBeforeAdded.remove(download)) {
+                downloads.add(download);
+            }
+        }
+        // The transfer may have been aborted while this download was started
+        if (canceled) {
+            download.abort();
+        }
+    }
+
+    private void downloadFinished(Transfer download, TransferState state) {
+        if (state == TransferState.Completed) {
+            synchronized (downloads) {
+                if (!downloads.remove(download)) {
+                    completedBeforeAdded.add(download);
+                }
+            }
+        }
+        inflightDownloads.decrementAndGet();
+        downloadPermits.release();
+        checkDone();
+    }
+
+    /**
+     * Sets the final state of the transfer once the listing is done and no
+     * object download is in flight.
+     */
+    private void checkDone() {
+        synchronized (multipleFileDownload) {
+            if (!listingDone || inflightDownloads.get() > 0 || multipleFileDownload.isDone()) {
+                return;
+            }
+            if (error != null) {
+                multipleFileDownload.setState(TransferState.Failed);
+            } else if (canceled && downloads.isEmpty()) {
+                multipleFileDownload.setState(TransferState.Canceled);
+            } else {
+                multipleFileDownload.collateFinalState();
+            }
+        }
+        done.countDown();
+    }
+
+    /**
+     * Propagates the state of each object download to the directory
+     * download, once for the terminal state.
+     */
+    private final class DownloadStateListener implements TransferStateChangeListener {
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+
+        @Override
+        public void transferStateChanged(Transfer download, TransferState state) {
+            if (state == TransferState.InProgress) {
+                synchronized (multipleFileDownload) {
+                    if (!multipleFileDownload.isDone()
+                            && multipleFileDownload.getState() != TransferState.InProgress) {
+                        multipleFileDownload.setState(state);
+                    }
+                }
+            } else if ((state == TransferState.Completed || state == TransferState.Failed
+                    || state == TransferState.Canceled) && finished.compareAndSet(false, true)) {
+                downloadFinished(download, state);
+            }
+        }
+    }
+
+    /**
+     * Waits for the directory download to finish, and rethrows the error of
+     * the listing or of any failed object download.
+     */
+    private final class DirectoryDownloadFuture implements Future<Object> {
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (isDone()) {
+                return false;
+            }
+            PipelinedDirectoryDownload.this.cancel();
+            return true;
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            done.await();
+            return result();
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+                TimeoutException {
+            if (!done.await(timeout, unit)) {
+                throw new TimeoutException();
+            }
+            return result();
+        }
+
+        private Object result() throws InterruptedException, ExecutionException {
+            if (error != null) {
+                throw new ExecutionException(error);
+            }
+            for (DownloadImpl download : downloads) {
+                download.getMonitor().getFuture().get();
+            }
+            return multipleFileDownload;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return multipleFileDownload.getState() == TransferState.Canceled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return PipelinedDirectoryDownload.this.isDone();
+        }
+    }
+}
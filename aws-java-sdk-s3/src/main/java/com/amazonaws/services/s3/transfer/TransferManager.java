@@ -29,6 +29,8 @@ import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.internal.FileLocks;
 import com.amazonaws.services.s3.internal.Mimetypes;
 import com.amazonaws.services.s3.internal.ServiceUtils;
+import com.amazonaws.services.s3.internal.crypto.RangedDecryptionContext;
+import com.amazonaws.services.s3.internal.crypto.RangedDecryptionSupport;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
@@ -969,11 +971,11 @@ public class TransferManager {
             final S3ProgressListener s3progressListener,
             final boolean resumeExistingDownload,
             final long timeoutMillis,
-            final Integer lastFullyDownloadedPart,
+            final long[][] completedRanges,
             final long lastModifiedTimeRecordedDuringPause)
     {
         return doDownload(getObjectRequest, file, stateListener, s3progressListener,
-                resumeExistingDownload, timeoutMillis, lastFullyDownloadedPart,
+                resumeExistingDownload, timeoutMillis, completedRanges,
                 lastModifiedTimeRecordedDuringPause, false);
     }
 
@@ -988,7 +990,7 @@ public class TransferManager {
             final S3ProgressListener s3progressListener,
             final boolean resumeExistingDownload,
             final long timeoutMillis,
-            final Integer lastFullyDownloadedPart,
+            final long[][] completedRanges,
             final long lastModifiedTimeRecordedDuringPause,
             final boolean resumeOnRetry)
     {
@@ -1035,13 +1037,34 @@ public class TransferManager {
         }
 
         final long origStartingByte = startingByte;
-        final boolean isDownloadParallel =
-                TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest, ServiceUtils.getPartCount(getObjectRequest, s3))
-                        && !configuration.isDisableParallelDownloads();
+        final Integer partCount = ServiceUtils.getPartCount(getObjectRequest, s3);
+        // A resumed download continues in the mode it was paused in: a serial
+        // download appends to the file, and only a parallel one has recorded
+        // its completed ranges
+        final boolean resumeInSeries = resumeExistingDownload && completedRanges == null;
+        final RangedDecryptionContext decryption = resumeInSeries
+                ? null : newRangedDecryptionContext(getObjectRequest, objectMetadata);
+        if (decryption != null) {
+            lastByte = decryption.getPlaintextLength() - 1;
+        }
+        final boolean isDownloadParallel;
+        if (resumeExistingDownload) {
+            isDownloadParallel = !resumeInSeries;
+        } else {
+            isDownloadParallel = decryption != null
+                    || (!configuration.isDisableParallelDownloads()
+                            && (TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest, partCount)
+                                    || TransferManagerUtils.isRangedDownloadParallelizable(s3, getObjectRequest,
+                                            objectMetadata.getContentLength(), configuration)));
+        }
 
         // We still pass the unfiltered listener chain into DownloadImpl
         final DownloadImpl download = new DownloadImpl(description, transferProgress, listenerChain, null,
                 stateListener, getObjectRequest, file, objectMetadata, isDownloadParallel);
+        if (isDownloadParallel && completedRanges != null) {
+            // Pausing again before another range completes keeps the progress
+            download.updatePersistableTransfer(completedRanges);
+        }
 
         long totalBytesToDownload = lastByte - startingByte + 1;
         transferProgress.setTotalBytesToTransfer(totalBytesToDownload);
@@ -1088,12 +1111,45 @@ public class TransferManager {
             new DownloadCallable(s3, latch,
                 getObjectRequest, resumeExistingDownload,
                 download, file, origStartingByte, fileLength, timeoutMillis, timedThreadPool,
-                executorService, lastFullyDownloadedPart, isDownloadParallel, resumeOnRetry));
+                executorService, completedRanges, isDownloadParallel, partCount, configuration,
+                resumeOnRetry, decryption));
         download.setMonitor(new DownloadMonitor(download, future));
         latch.countDown();
         return download;
     }
 
+    /**
+     * Returns a context to download and decrypt an object of the S3
+     * encryption client in parallel ranges, or null if the object is to be
+     * downloaded and decrypted as a whole. Only inspects the metadata of the
+     * object; the download unwraps the content encrypting key on its own
+     * thread.
+     */
+    private RangedDecryptionContext newRangedDecryptionContext(GetObjectRequest getObjectRequest,
+            ObjectMetadata objectMetadata) {
+        if (configuration.isDisableParallelDownloads()
+                || !(s3 instanceof RangedDecryptionSupport)
+                || getObjectRequest.getRange() != null
+                || getObjectRequest.getPartNumber() != null
+                || configuration.getDownloadRangeSize() <= 0
+                || objectMetadata.getContentLength() <= configuration.getDownloadRangeSize()) {
+            return null;
+        }
+        return ((RangedDecryptionSupport) s3).newRangedDecryptionContext(getObjectRequest, objectMetadata);
+    }
+
+    /**
+     * Starts the download of one object of a virtual directory, notifying the
+     * given listener of the state changes of the download.
+     *
+     * @see #downloadDirectory(String, String, File, boolean)
+     */
+    Download downloadDirectoryObject(GetObjectRequest getObjectRequest, File file,
+            TransferStateChangeListener stateListener, boolean resumeOnRetry) {
+        return doDownload(getObjectRequest, file, stateListener, null, false, 0,
+                null, 0L, resumeOnRetry);
+    }
+
     private boolean isS3ObjectModifiedSincePause(final long lastModifiedTimeRecordedDuringResume,
             long lastModifiedTimeRecordedDuringPause) {
         return lastModifiedTimeRecordedDuringResume != lastModifiedTimeRecordedDuringPause;
@@ -1133,6 +1189,10 @@ public class TransferManager {
             boolean resumeOnRetry) {
         if ( keyPrefix == null )
             keyPrefix = "";
+        if ( configuration.isPipelineDirectoryDownloads() ) {
+            return new PipelinedDirectoryDownload(this, bucketName, keyPrefix, destinationDirectory,
+                    resumeOnRetry).getMultipleFileDownload();
+        }
         List<S3ObjectSummary> objectSummaries = new LinkedList<S3ObjectSummary>();
         Stack<String> commonPrefixes = new Stack<String>();
         commonPrefixes.add(keyPrefix);
@@ -1858,9 +1918,18 @@ public class TransferManager {
         request.setRequesterPays(persistableDownload.isRequesterPays());
         request.setResponseHeaders(persistableDownload.getResponseHeaders());
 
+        long[][] completedRanges = persistableDownload.getCompletedRanges();
+        Integer lastFullyDownloadedPart = persistableDownload.getLastFullyDownloadedPartNumber();
+        if (completedRanges == null && lastFullyDownloadedPart != null && lastFullyDownloadedPart > 0) {
+            // Downloads paused by older versions only record how many leading
+            // parts were merged into the file.
+            completedRanges = new long[][] {
+                    { 0, ServiceUtils.getLastByteInPart(s3, request, lastFullyDownloadedPart) } };
+        }
+
         return doDownload(request, new File(persistableDownload.getFile()), null, null,
                 APPEND_MODE, 0,
-                persistableDownload.getLastFullyDownloadedPartNumber(),
+                completedRanges,
                 persistableDownload.getlastModifiedTime());
     }
 
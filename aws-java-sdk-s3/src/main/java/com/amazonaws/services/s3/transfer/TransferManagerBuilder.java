@@ -54,6 +54,10 @@ public final class TransferManagerBuilder {
 
     private Long multipartCopyPartSize;
 
+    private Long downloadRangeSize;
+
+    private Integer maxInflightDownloadRanges;
+
     /**
      * @return Create new instance of builder with all defaults set.
      */
@@ -322,6 +326,66 @@ public final class TransferManagerBuilder {
         return this;
     }
 
+    /**
+     * @return The download range size currently configured in the builder.
+     */
+    public final Long getDownloadRangeSize() {
+        return downloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of each range fetched by a parallel download of an object that was
+     * not uploaded with a multipart upload. Such objects are downloaded in parallel, with ranged
+     * GET requests, when they are larger than this size.
+     *
+     * @param downloadRangeSize New size of each range of a parallel download.
+     */
+    public final void setDownloadRangeSize(Long downloadRangeSize) {
+        this.downloadRangeSize = downloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of each range fetched by a parallel download of an object that was
+     * not uploaded with a multipart upload. Such objects are downloaded in parallel, with ranged
+     * GET requests, when they are larger than this size.
+     *
+     * @param downloadRangeSize New size of each range of a parallel download.
+     * @return This object for method chaining.
+     */
+    public final TransferManagerBuilder withDownloadRangeSize(Long downloadRangeSize) {
+        setDownloadRangeSize(downloadRangeSize);
+        return this;
+    }
+
+    /**
+     * @return The maximum number of in-flight download ranges currently configured in the builder.
+     */
+    public final Integer getMaxInflightDownloadRanges() {
+        return maxInflightDownloadRanges;
+    }
+
+    /**
+     * Sets the maximum number of parts or byte ranges of a single parallel download that are
+     * requested at the same time.
+     *
+     * @param maxInflightDownloadRanges New maximum number of in-flight ranges per download.
+     */
+    public final void setMaxInflightDownloadRanges(Integer maxInflightDownloadRanges) {
+        this.maxInflightDownloadRanges = maxInflightDownloadRanges;
+    }
+
+    /**
+     * Sets the maximum number of parts or byte ranges of a single parallel download that are
+     * requested at the same time.
+     *
+     * @param maxInflightDownloadRanges New maximum number of in-flight ranges per download.
+     * @return This object for method chaining.
+     */
+    public final TransferManagerBuilder withMaxInflightDownloadRanges(Integer maxInflightDownloadRanges) {
+        setMaxInflightDownloadRanges(maxInflightDownloadRanges);
+        return this;
+    }
+
     private TransferManagerConfiguration resolveConfiguration() {
         TransferManagerConfiguration configuration = new TransferManagerConfiguration();
         if (this.minimumUploadPartSize != null) {
@@ -336,6 +400,12 @@ public final class TransferManagerBuilder {
         if (this.multipartUploadThreshold != null) {
             configuration.setMultipartUploadThreshold(multipartUploadThreshold);
         }
+        if (this.downloadRangeSize != null) {
+            configuration.setDownloadRangeSize(downloadRangeSize);
+        }
+        if (this.maxInflightDownloadRanges != null) {
+            configuration.setMaxInflightDownloadRanges(maxInflightDownloadRanges);
+        }
         return configuration;
     }
 
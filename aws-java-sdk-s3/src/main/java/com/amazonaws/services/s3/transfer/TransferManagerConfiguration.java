@@ -45,6 +45,25 @@ public class TransferManagerConfiguration {
     @SdkTestInternalApi
     static final long DEFAULT_MINIMUM_COPY_PART_SIZE = 100 * MB;
 
+    /** Default size of each byte range of a parallel download. */
+    @SdkTestInternalApi
+    static final long DEFAULT_DOWNLOAD_RANGE_SIZE = 16 * MB;
+
+    /** Default maximum number of parts or ranges of one download in flight at a time. */
+    @SdkTestInternalApi
+    static final int DEFAULT_MAX_INFLIGHT_DOWNLOAD_RANGES = 10;
+
+    /** Default number of key prefixes listed at a time by a pipelined directory download. */
+    @SdkTestInternalApi
+    static final int DEFAULT_DIRECTORY_LISTING_THREADS = 4;
+
+    /**
+     * Default maximum number of objects of a pipelined directory download in
+     * flight at a time, the number of threads of the default thread pool.
+     */
+    @SdkTestInternalApi
+    static final int DEFAULT_MAX_INFLIGHT_DIRECTORY_DOWNLOADS = 10;
+
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
      * will cause multipart uploads to be split into a larger number of smaller
@@ -87,13 +106,14 @@ public class TransferManagerConfiguration {
      * Option to disable parallel downloads. By default, the value is set to false.
      *
      * <p>
-     * TransferManager automatically detects and downloads a multipart object
-     * in parallel. Setting this option to true will disable parallel downloads.
+     * TransferManager automatically downloads a multipart object, or an object
+     * larger than the download range size, in parallel. Setting this option to
+     * true will disable parallel downloads.
      * </p>
      * <p>
-     * During parallel downloads, each part is downloaded to a temporary file, gets merged
-     * into the final destination file and will be deleted. These temporary files uses disk space temporarily.
-     * Disable parallel downloads if your system do not have enough space to store these files during download.
+     * During parallel downloads, the destination file is created with the
+     * full length of the object up front and each part is written directly at
+     * its position in the file.
      * </p>
      * <p>
      * Disabling parallel downloads might reduce performance for large files.
@@ -101,6 +121,65 @@ public class TransferManagerConfiguration {
      */
     private boolean disableParallelDownloads = false;
 
+    /**
+     * The size in bytes of each range fetched by a parallel download of an
+     * object that was not uploaded with a multipart upload. Such objects are
+     * downloaded in parallel when they are larger than this size.
+     */
+    private long downloadRangeSize = DEFAULT_DOWNLOAD_RANGE_SIZE;
+
+    /**
+     * The maximum number of parts or byte ranges of a single parallel
+     * download that are requested at the same time.
+     */
+    private int maxInflightDownloadRanges = DEFAULT_MAX_INFLIGHT_DOWNLOAD_RANGES;
+
+    /**
+     * The number of part buffers used to upload an input stream without a
+     * file. By default, the value is zero and such streams are uploaded one
+     * part at a time from the stream itself.
+     * <p>
+     * When set to a positive number, the stream is read into a pool of at
+     * most this many buffers of the upload part size, and the buffered parts
+     * are uploaded in parallel while reading continues. Streams of unknown
+     * length are uploaded this way too, with a multipart upload once they
+     * outgrow the multipart upload threshold.
+     * </p>
+     */
+    private int streamUploadBufferCount = 0;
+
+    /**
+     * Option to allocate the part buffers of a streamed upload as direct
+     * buffers outside of the Java heap. By default, the value is set to false.
+     */
+    private boolean useDirectStreamUploadBuffers = false;
+
+    /**
+     * Option to start downloading the objects of a virtual directory while
+     * it is still being listed. By default, the value is set to false.
+     * <p>
+     * By default, {@link TransferManager#downloadDirectory} lists every
+     * object under the key prefix before starting any download. When this
+     * option is set to true, the prefix and its subdirectories are listed
+     * concurrently and each object is downloaded as soon as it is listed, so
+     * that downloads start right away and the listing is never held in
+     * memory as a whole.
+     * </p>
+     */
+    private boolean pipelineDirectoryDownloads = false;
+
+    /**
+     * The number of key prefixes listed at the same time by a pipelined
+     * directory download.
+     */
+    private int directoryListingThreads = DEFAULT_DIRECTORY_LISTING_THREADS;
+
+    /**
+     * The maximum number of object downloads of a pipelined directory
+     * download that are in flight at the same time.
+     */
+    private int maxInflightDirectoryDownloads = DEFAULT_MAX_INFLIGHT_DIRECTORY_DOWNLOADS;
+
     /**
      * Returns the minimum part size for upload parts.
      * Decreasing the minimum part size causes
@@ -253,13 +332,14 @@ public class TransferManagerConfiguration {
      * Returns if the parallel downloads are disabled or not. By default, the value is set to false.
      *
      * <p>
-     * TransferManager automatically detects and downloads a multipart object
-     * in parallel. Setting this option to true will disable parallel downloads.
+     * TransferManager automatically downloads a multipart object, or an object
+     * larger than the download range size, in parallel. Setting this option to
+     * true will disable parallel downloads.
      * </p>
      * <p>
-     * During parallel downloads, each part is downloaded to a temporary file, gets merged
-     * into the final destination file and will be deleted. These temporary files uses disk space temporarily.
-     * Disable parallel downloads if your system do not have enough space to store these files during download.
+     * During parallel downloads, the destination file is created with the
+     * full length of the object up front and each part is written directly at
+     * its position in the file.
      * </p>
      * <p>
      * Disabling parallel downloads might reduce performance for large files.
@@ -275,13 +355,14 @@ public class TransferManagerConfiguration {
      * Sets the option to disable parallel downloads. By default, the value is set to false.
      *
      * <p>
-     * TransferManager automatically detects and downloads a multipart object
-     * in parallel. Setting this option to true will disable parallel downloads.
+     * TransferManager automatically downloads a multipart object, or an object
+     * larger than the download range size, in parallel. Setting this option to
+     * true will disable parallel downloads.
      * </p>
      * <p>
-     * During parallel downloads, each part is downloaded to a temporary file, gets merged
-     * into the final destination file and will be deleted. These temporary files uses disk space temporarily.
-     * Disable parallel downloads if your system do not have enough space to store these files during download.
+     * During parallel downloads, the destination file is created with the
+     * full length of the object up front and each part is written directly at
+     * its position in the file.
      * </p>
      * <p>
      * Disabling parallel downloads might reduce performance for large files.
@@ -292,4 +373,193 @@ public class TransferManagerConfiguration {
     public void setDisableParallelDownloads(boolean disableParallelDownloads) {
         this.disableParallelDownloads = disableParallelDownloads;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the size in bytes of each range fetched by a parallel download
+     * of an object that was not uploaded with a multipart upload. Such objects
+     * are downloaded in parallel when they are larger than this size.
+     *
+     * @return The size in bytes of each range of a parallel download.
+     */
+    public long getDownloadRangeSize() {
+        return downloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of each range fetched by a parallel download of
+     * an object that was not uploaded with a multipart upload (for example an
+     * object written with a single PUT or by a copy). Such objects are
+     * downloaded in parallel, with ranged GET requests, when they are larger
+     * than this size. Decreasing the range size increases the number of
+     * requests made for each download.
+     *
+     * @param downloadRangeSize
+     *            The size in bytes of each range of a parallel download.
+     */
+    public void setDownloadRangeSize(long downloadRangeSize) {
+        this.downloadRangeSize = downloadRangeSize;
+    }
+
+    /**
+     * Returns the maximum number of parts or byte ranges of a single parallel
+     * download that are requested at the same time.
+     *
+     * @return The maximum number of in-flight parts or ranges per download.
+     */
+    public int getMaxInflightDownloadRanges() {
+        return maxInflightDownloadRanges;
+    }
+
+    /**
+     * Sets the maximum number of parts or byte ranges of a single parallel
+     * download that are requested at the same time. Further parts are only
+     * requested as earlier ones complete, which bounds the number of
+     * connections and threads a single large download can use.
+     *
+     * @param maxInflightDownloadRanges
+     *            The maximum number of in-flight parts or ranges per download.
+     */
+    public void setMaxInflightDownloadRanges(int maxInflightDownloadRanges) {
+        this.maxInflightDownloadRanges = maxInflightDownloadRanges;
+    }
+
+    /**
+     * Returns the number of part buffers used to upload an input stream
+     * without a file, or zero if such streams are uploaded one part at a time.
+     *
+     * @return The number of part buffers per streamed upload.
+     */
+    public int getStreamUploadBufferCount() {
+        return streamUploadBufferCount;
+    }
+
+    /**
+     * Sets the number of part buffers used to upload an input stream without
+     * a file. When positive, the stream is read into a pool of at most this
+     * many buffers and the buffered parts are uploaded in parallel, including
+     * streams whose content length is not known up front. Reading from the
+     * stream pauses while every buffer is waiting to be uploaded, so each
+     * streamed upload holds at most this many times the part size in memory.
+     * <p>
+     * The part size is the minimum upload part size for streams of unknown
+     * length, which also bounds the largest object such a stream can produce
+     * to 10,000 times that size. Streams uploaded through an
+     * {@link com.amazonaws.services.s3.AmazonS3EncryptionClient} are always
+     * uploaded one part at a time.
+     * </p>
+     *
+     * @param streamUploadBufferCount
+     *            The number of part buffers per streamed upload, or zero to
+     *            upload streams one part at a time.
+     */
+    public void setStreamUploadBufferCount(int streamUploadBufferCount) {
+        this.streamUploadBufferCount = streamUploadBufferCount;
+    }
+
+    /**
+     * Returns whether the part buffers of a streamed upload are allocated as
+     * direct buffers outside of the Java heap.
+     *
+     * @return True if streamed uploads use direct buffers.
+     */
+    public boolean isUseDirectStreamUploadBuffers() {
+        return useDirectStreamUploadBuffers;
+    }
+
+    /**
+     * Sets whether the part buffers of a streamed upload are allocated as
+     * direct buffers outside of the Java heap. Direct buffers keep large
+     * parts out of the garbage collected heap, but count against the
+     * maximum direct memory of the JVM instead.
+     *
+     * @param useDirectStreamUploadBuffers
+     *            True to allocate direct buffers for streamed uploads.
+     * @see #setStreamUploadBufferCount(int)
+     */
+    public void setUseDirectStreamUploadBuffers(boolean useDirectStreamUploadBuffers) {
+        this.useDirectStreamUploadBuffers = useDirectStreamUploadBuffers;
+    }
+
+    /**
+     * Returns whether the objects of a virtual directory are downloaded
+     * while the directory is still being listed.
+     *
+     * @return True if directory downloads are pipelined with the listing.
+     */
+    public boolean isPipelineDirectoryDownloads() {
+        return pipelineDirectoryDownloads;
+    }
+
+    /**
+     * Sets whether the objects of a virtual directory are downloaded while
+     * the directory is still being listed. When set to true,
+     * {@link TransferManager#downloadDirectory} returns as soon as the
+     * listing has started; the key prefix and its subdirectories are listed
+     * concurrently, and each object is downloaded as soon as it is listed.
+     * The total number of bytes to transfer reported by the progress of the
+     * download grows as objects are listed, and errors of the listing are
+     * reported when waiting for the download to complete.
+     *
+     * @param pipelineDirectoryDownloads
+     *            True to download the objects of a directory while it is
+     *            being listed.
+     * @see #setDirectoryListingThreads(int)
+     * @see #setMaxInflightDirectoryDownloads(int)
+     */
+    public void setPipelineDirectoryDownloads(boolean pipelineDirectoryDownloads) {
+        this.pipelineDirectoryDownloads = pipelineDirectoryDownloads;
+    }
+
+    /**
+     * Returns the number of key prefixes listed at the same time by a
+     * pipelined directory download.
+     *
+     * @return The number of listing threads per directory download.
+     */
+    public int getDirectoryListingThreads() {
+        return directoryListingThreads;
+    }
+
+    /**
+     * Sets the number of key prefixes listed at the same time by a pipelined
+     * directory download. The same number of threads start the downloads of
+     * the listed objects, so each pipelined directory download runs twice
+     * this many threads of its own, besides the executor of the transfer
+     * manager that downloads the objects. These threads stop once the
+     * directory has been listed.
+     *
+     * @param directoryListingThreads
+     *            The number of listing threads per directory download.
+     */
+    public void setDirectoryListingThreads(int directoryListingThreads) {
+        this.directoryListingThreads = directoryListingThreads;
+    }
+
+    /**
+     * Returns the maximum number of object downloads of a pipelined
+     * directory download that are in flight at the same time.
+     *
+     * @return The maximum number of in-flight object downloads per directory
+     *         download.
+     */
+    public int getMaxInflightDirectoryDownloads() {
+        return maxInflightDirectoryDownloads;
+    }
+
+    /**
+     * Sets the maximum number of object downloads of a pipelined directory
+     * download that are in flight at the same time. Once this many downloads
+     * are in flight, listing pauses until some of them complete, which
+     * bounds the memory used by a directory download however many objects
+     * it contains. There is no point in setting it above the number of
+     * threads of the transfer manager's executor, as the extra downloads
+     * would only wait in the executor's queue.
+     *
+     * @param maxInflightDirectoryDownloads
+     *            The maximum number of in-flight object downloads per
+     *            directory download.
+     */
+    public void setMaxInflightDirectoryDownloads(int maxInflightDirectoryDownloads) {
+        this.maxInflightDirectoryDownloads = maxInflightDirectoryDownloads;
+    }
+}
@@ -121,7 +121,11 @@ public abstract class AbstractTransfer implements Transfer {
      */
     public AmazonClientException waitForException() throws InterruptedException {
         try {
-            monitor.getFuture().get();
+            Object result = null;
+            // The future may be replaced while the transfer is in progress
+            while (!monitor.isDone() || result == null) {
+                result = monitor.getFuture().get();
+            }
             return null;
         } catch (ExecutionException e) {
             return unwrapExecutionException(e);
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.amazonaws.annotation.SdkInternalApi;
+
+/**
+ * Tracks the byte ranges of an object that have been written to the
+ * destination file of a parallel download. Ranges are inclusive on both ends
+ * and are kept sorted and merged, so that the state stays small no matter in
+ * which order the parts complete.
+ */
+@SdkInternalApi
+public final class CompletedByteRanges {
+
+    /** Sorted, non overlapping and non adjacent inclusive ranges. */
+    private final List<long[]> ranges = new ArrayList<long[]>();
+
+    public CompletedByteRanges() {
+    }
+
+    /**
+     * Creates an instance from previously captured ranges, for example the
+     * ranges of a paused download.
+     */
+    public CompletedByteRanges(long[][] completedRanges) {
+        if (completedRanges != null) {
+            for (long[] range : completedRanges) {
+                add(range[0], range[1]);
+            }
+        }
+    }
+
+    /**
+     * Records the inclusive range [firstByte, lastByte] as completed.
+     */
+    public synchronized void add(long firstByte, long lastByte) {
+        if (firstByte < 0 || lastByte < firstByte) {
+            throw new IllegalArgumentException("Invalid byte range [" + firstByte + ", " + lastByte + "]");
+        }
+        long start = firstByte;
+        long end = lastByte;
+        int index = 0;
+        while (index < ranges.size() && ranges.get(index)[1] < start - 1) {
+            index++;
+        }
+        while (index < ranges.size() && ranges.get(index)[0] <= end + 1) {
+            long[] merged = ranges.remove(index);
+            start = Math.min(start, merged[0]);
+            end = Math.max(end, merged[1]);
+        }
+        ranges.add(index, new long[] { start, end });
+    }
+
+    /**
+     * Returns true if no range has been completed.
+     */
+    public synchronized boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    /**
+     * Returns the total number of bytes covered by the completed ranges.
+     */
+    public synchronized long getCompletedBytes() {
+        long completed = 0;
+        for (long[] range : ranges) {
+            completed += range[1] - range[0] + 1;
+        }
+        return completed;
+    }
+
+    /**
+     * Returns the last completed byte, or -1 if no range has been completed.
+     */
+    public synchronized long getLastCompletedByte() {
+        return ranges.isEmpty() ? -1 : ranges.get(ranges.size() - 1)[1];
+    }
+
+    /**
+     * Returns the ranges within [firstByte, lastByte] that have not been
+     * completed yet, split so that no returned range is larger than
+     * maxRangeSize bytes.
+     */
+    public synchronized List<long[]> getMissingRanges(long firstByte, long lastByte, long maxRangeSize) {
+        if (maxRangeSize <= 0) {
+            throw new IllegalArgumentException("maxRangeSize must be positive");
+        }
+        List<long[]> missing = new ArrayList<long[]>();
+        long next = firstByte;
+        for (long[] range : ranges) {
+            if (range[0] > next) {
+                split(next, Math.min(range[0] - 1, lastByte), maxRangeSize, missing);
+            }
+            next = Math.max(next, range[1] + 1);
+            if (next > lastByte) {
+                return missing;
+            }
+        }
+        split(next, lastByte, maxRangeSize, missing);
+        return missing;
+    }
+
+    private static void split(long firstByte, long lastByte, long maxRangeSize, List<long[]> into) {
+        for (long start = firstByte; start <= lastByte; start += maxRangeSize) {
+            into.add(new long[] { start, Math.min(start + maxRangeSize - 1, lastByte) });
+        }
+    }
+
+    /**
+     * Returns a copy of the completed ranges, as {firstByte, lastByte} pairs.
+     */
+    public synchronized long[][] toArray() {
+        long[][] copy = new long[ranges.size()][];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = ranges.get(i).clone();
+        }
+        return copy;
+    }
+}
@@ -16,6 +16,8 @@ package com.amazonaws.services.s3.transfer.internal;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
 
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.event.ProgressEventType;
@@ -37,9 +39,16 @@ public class DownloadImpl extends AbstractTransfer implements Download {
     private PersistableDownload persistableDownload;
 
     /**
-     * The last part that has been successfully written into the downloaded file.
+     * The byte ranges that have been successfully written into the downloaded
+     * file by a parallel download.
      */
-    private Integer lastFullyDownloadedPartNumber;
+    private long[][] completedRanges;
+
+    /**
+     * The last byte of the parts of a multipart object that have been
+     * downloaded by part number, keyed by part number.
+     */
+    private final Map<Integer, Long> partLastBytes = new TreeMap<Integer, Long>();
 
     private final GetObjectRequest getObjectRequest;
     private final File file;
@@ -64,6 +73,9 @@ public class DownloadImpl extends AbstractTransfer implements Download {
         this.getObjectRequest = getObjectRequest;
         this.file = file;
         this.progressListenerChain = progressListenerChain;
+        // The state of a parallel download records its completed ranges, even
+        // before the first one, so that it is resumed in parallel too
+        this.completedRanges = isDownloadParallel ? new long[0][] : null;
         this.persistableDownload = captureDownloadState(getObjectRequest, file);
         S3ProgressPublisher.publishTransferPersistable(progressListenerChain, persistableDownload);
     }
@@ -101,13 +113,13 @@ public class DownloadImpl extends AbstractTransfer implements Download {
     /**
      * Only for internal use.
      * For parallel downloads, Updates the persistableTransfer each time a
-     * part is successfully merged into download file.
+     * part is successfully written into the download file.
      * Then notify the listeners that new persistableTransfer is available.
      */
     @SdkInternalApi
-    public void updatePersistableTransfer(Integer lastFullyDownloadedPartNumber) {
+    public void updatePersistableTransfer(long[][] completedRanges) {
         synchronized (this) {
-            this.lastFullyDownloadedPartNumber = lastFullyDownloadedPartNumber;
+            this.completedRanges = completedRanges;
         }
 
         persistableDownload = captureDownloadState(getObjectRequest, file);
@@ -115,11 +127,50 @@ public class DownloadImpl extends AbstractTransfer implements Download {
     }
 
     /**
-     * For parallel downloads, returns the last part number that was
-     * successfully written into the download file.
+     * For parallel downloads, returns the byte ranges that were successfully
+     * written into the download file.
      * Returns null for serial downloads.
      */
+    public synchronized long[][] getCompletedRanges() {
+        return completedRanges;
+    }
+
+    /**
+     * Only for internal use.
+     * Records the last byte of a part of a multipart object, once the part
+     * has been written into the download file.
+     */
+    @SdkInternalApi
+    public synchronized void recordDownloadedPart(int partNumber, long lastByte) {
+        partLastBytes.put(partNumber, lastByte);
+    }
+
+    /**
+     * For parallel downloads, returns the last part number such that all the
+     * parts up to and including it were successfully written into the
+     * download file, as far as the boundaries of the parts are known.
+     * Returns null for serial downloads.
+     *
+     * @deprecated Parallel downloads write their parts in any order; use
+     *             {@link #getCompletedRanges()} instead.
+     */
+    @Deprecated
     public synchronized Integer getLastFullyDownloadedPartNumber() {
+        if (completedRanges == null) {
+            return null;
+        }
+        if (completedRanges.length == 0 || completedRanges[0][0] != 0) {
+            return 0;
+        }
+        // The parts before a part that ends within the leading range are all
+        // within it too
+        final long leadingLastByte = completedRanges[0][1];
+        int lastFullyDownloadedPartNumber = 0;
+        for (Map.Entry<Integer, Long> part : partLastBytes.entrySet()) {
+            if (part.getValue() <= leadingLastByte) {
+                lastFullyDownloadedPartNumber = part.getKey();
+            }
+        }
         return lastFullyDownloadedPartNumber;
     }
 
@@ -189,8 +240,8 @@ public class DownloadImpl extends AbstractTransfer implements Download {
                     getObjectRequest.getBucketName(), getObjectRequest.getKey(),
                     getObjectRequest.getVersionId(), getObjectRequest.getRange(),
                     getObjectRequest.getResponseHeaders(), getObjectRequest.isRequesterPays(),
-                    file.getAbsolutePath(), getLastFullyDownloadedPartNumber(),
-                    getObjectMetadata().getLastModified().getTime());
+                    file.getAbsolutePath(), getObjectMetadata().getLastModified().getTime(),
+                    getCompletedRanges());
         }
         return null;
     }
@@ -15,50 +15,96 @@
 package com.amazonaws.services.s3.transfer.internal;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.concurrent.Callable;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GetObjectRequest;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.IOUtils;
 
 /**
- * Helper class to get a part from s3,
- * write the part data to a temporary file and
- * return the temporary file.
+ * Helper class to get a part (or a byte range) of an object from s3 and
+ * write the data straight to its final position in the destination file.
+ * Returns the inclusive byte range that was written.
  */
-public class DownloadPartCallable implements Callable<File> {
+public class DownloadPartCallable implements Callable<long[]> {
     private static final Log LOG = LogFactory.getLog(DownloadPartCallable.class);
-    private static final String TEMP_FILE_MIDDLE_NAME = ".part.";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private final AmazonS3 s3;
     private final GetObjectRequest getPartRequest;
     private final File destinationFile;
-    private final String destinationFilePath;
-    private File partFile;
 
+    /**
+     * @param s3
+     *            The Amazon s3 client.
+     * @param getPartRequest
+     *            The request for either a part number or a byte range of the
+     *            object.
+     * @param destinationFile
+     *            The pre-sized destination file. Each part writes through its
+     *            own channel, so that interrupting one part does not close the
+     *            channel other parts are writing to.
+     */
     public DownloadPartCallable(AmazonS3 s3, GetObjectRequest getPartRequest, File destinationFile) {
         this.s3 = s3;
         this.getPartRequest = getPartRequest;
         this.destinationFile = destinationFile;
-        this.destinationFilePath = destinationFile.getAbsolutePath();
     }
 
-    public File call() throws Exception {
-        partFile = File.createTempFile(destinationFile.getName(),
-                TEMP_FILE_MIDDLE_NAME + getPartRequest.getPartNumber().toString(),
-                new File(destinationFilePath.substring(0, destinationFilePath.lastIndexOf(File.separator))));
-        try {
-            partFile.deleteOnExit();
-        } catch (SecurityException exception) {
-            LOG.warn("SecurityException denied delete access to file " + partFile.getAbsolutePath());
+    public long[] call() throws Exception {
+        S3Object part = s3.getObject(getPartRequest);
+        if (part == null) {
+            throw new AmazonClientException(
+                    "There is no object in S3 satisfying this request. The getObject method returned null");
         }
 
-        if (s3.getObject(getPartRequest, partFile) == null) {
+        S3ObjectInputStream content = part.getObjectContent();
+        RandomAccessFile raf = null;
+        try {
+            Long[] contentRange = part.getObjectMetadata().getContentRange();
+            if (contentRange == null) {
+                throw new AmazonClientException(
+                        "Unable to determine the position of the downloaded part. The response has no Content-Range");
+            }
+            final long firstByte = contentRange[0];
+            final long lastByte = contentRange[1];
+
+            raf = new RandomAccessFile(destinationFile, "rw");
+            final FileChannel destinationChannel = raf.getChannel();
+            long position = firstByte;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int bytesRead;
+            while ((bytesRead = content.read(buffer)) > -1) {
+                byteBuffer.clear();
+                byteBuffer.limit(bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    position += destinationChannel.write(byteBuffer, position);
+                }
+            }
+
+            if (position != lastByte + 1) {
+                throw new AmazonClientException("Received " + (position - firstByte) + " bytes for the range ["
+                        + firstByte + ", " + lastByte + "] of " + getPartRequest.getKey());
+            }
+            return new long[] { firstByte, lastByte };
+        } catch (IOException e) {
+            content.abort();
             throw new AmazonClientException(
-                    "There is no object in S3 satisfying this request. The getObject method returned null");
+                    "Unable to store object contents to disk: " + e.getMessage(), e);
+        } finally {
+            IOUtils.closeQuietly(raf, LOG);
+            IOUtils.closeQuietly(content, LOG);
         }
-        return partFile;
     }
 }
@@ -71,7 +71,7 @@ public class MultipleFileDownloadImpl extends MultipleFileTransfer<Download> imp
     @Override
     public void waitForCompletion()
             throws AmazonClientException, AmazonServiceException, InterruptedException {
-        if (subTransfers.isEmpty())
+        if (subTransfers.isEmpty() && getState() == TransferState.Completed)
             return;
         super.waitForCompletion();
     }
@@ -93,6 +93,9 @@ public class MultipleFileDownloadImpl extends MultipleFileTransfer<Download> imp
          * then notify the listener.
          */
 
+        /* Stop starting new download jobs if the directory is still being listed. */
+        monitor.getFuture().cancel(true);
+
         /* First abort all the download jobs without notifying the state change listener.*/
         for (Transfer fileDownload : subTransfers) {
             ((DownloadImpl)fileDownload).abortWithoutNotifyingStateChangeListener();
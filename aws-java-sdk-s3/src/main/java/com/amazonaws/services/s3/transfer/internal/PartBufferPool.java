@@ -0,0 +1,234 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of reusable buffers into which a streamed upload is read one
+ * part at a time.
+ * <p>
+ * Buffers are allocated lazily, up to the capacity of the pool, and are
+ * handed back with {@link #release(ByteBuffer)} once their part has been
+ * uploaded. When every buffer is in use {@link #poll()} returns null, and
+ * reading from the source stream pauses until a part completes, so a single
+ * upload never holds more than the capacity times the buffer size in memory.
+ * <p>
+ * Buffers are polled and filled by one reader at a time, which must hand
+ * the pool over to the next reader through some synchronization; any thread
+ * may release them.
+ */
+final class PartBufferPool {
+
+    /** Size of the array used to copy stream data into direct buffers. */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final int capacity;
+    private final int bufferSize;
+    private final boolean direct;
+    private final BlockingQueue<ByteBuffer> free;
+
+    /** Number of buffers allocated so far; only touched by the reader. */
+    private int allocated;
+
+    /** Lazily created array used to fill direct buffers from a stream. */
+    private byte[] copyBuffer;
+
+    /**
+     * @param capacity
+     *            The maximum number of buffers in the pool.
+     * @param bufferSize
+     *            The size in bytes of each buffer.
+     * @param direct
+     *            Whether to allocate direct buffers outside of the Java heap.
+     */
+    PartBufferPool(int capacity, int bufferSize, boolean direct) {
+        this.capacity = capacity;
+        this.bufferSize = bufferSize;
+        this.direct = direct;
+        this.free = new ArrayBlockingQueue<ByteBuffer>(capacity);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Returns an empty buffer from the pool, allocating a new one if the pool
+     * has not yet reached its capacity, or null if every buffer is in use.
+     */
+    ByteBuffer poll() {
+        ByteBuffer buffer = free.poll();
+        if (buffer == null) {
+            if (allocated == capacity) {
+                return null;
+            }
+            allocated++;
+            buffer = direct ? ByteBuffer.allocateDirect(bufferSize)
+                    : ByteBuffer.allocate(bufferSize);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer taken from this pool so it can be filled again.
+     */
+    void release(ByteBuffer buffer) {
+        free.offer(buffer);
+    }
+
+    /**
+     * Reads from the given stream into the buffer until the buffer is full,
+     * the limit is reached or the stream ends, then flips the buffer so its
+     * content can be read.
+     *
+     * @return The number of bytes read into the buffer.
+     */
+    int fill(InputStream in, ByteBuffer buffer, long limit) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining() && total < limit) {
+            int len = (int) Math.min(buffer.remaining(), limit - total);
+            int read;
+            if (buffer.hasArray()) {
+                read = in.read(buffer.array(),
+                        buffer.arrayOffset() + buffer.position(), len);
+                if (read > 0) {
+                    buffer.position(buffer.position() + read);
+                }
+            } else {
+                if (copyBuffer == null) {
+                    copyBuffer = new byte[COPY_BUFFER_SIZE];
+                }
+                read = in.read(copyBuffer, 0, Math.min(len, copyBuffer.length));
+                if (read > 0) {
+                    buffer.put(copyBuffer, 0, read);
+                }
+            }
+            if (read == -1) {
+                break;
+            }
+            total += read;
+        }
+        buffer.flip();
+        return total;
+    }
+
+    /**
+     * Returns a stream over the content of the given filled buffers, which
+     * supports mark and reset to any position so that a request can be
+     * retried. The buffers themselves are left untouched.
+     */
+    static InputStream newInputStream(List<ByteBuffer> buffers) {
+        return new ByteBufferInputStream(buffers);
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer[] buffers;
+        private int current;
+        private int markedBuffer;
+        private int markedPosition;
+
+        ByteBufferInputStream(List<ByteBuffer> buffers) {
+            this.buffers = new ByteBuffer[buffers.size()];
+            for (int i = 0; i < this.buffers.length; i++) {
+                this.buffers[i] = buffers.get(i).duplicate();
+            }
+        }
+
+        /**
+         * Returns the buffer to read from next, or null at the end of the
+         * stream.
+         */
+        private ByteBuffer next() {
+            while (current < buffers.length && !buffers[current].hasRemaining()) {
+                current++;
+            }
+            return current < buffers.length ? buffers[current] : null;
+        }
+
+        @Override
+        public int read() {
+            ByteBuffer buffer = next();
+            return buffer == null ? -1 : buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            ByteBuffer buffer = next();
+            if (buffer == null) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = 0;
+            ByteBuffer buffer;
+            while (skipped < n && (buffer = next()) != null) {
+                int len = (int) Math.min(n - skipped, buffer.remaining());
+                buffer.position(buffer.position() + len);
+                skipped += len;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            long available = 0;
+            for (int i = current; i < buffers.length; i++) {
+                available += buffers[i].remaining();
+            }
+            return (int) Math.min(available, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public void mark(int readlimit) {
+            markedBuffer = current;
+            markedPosition = current < buffers.length ? buffers[current].position() : 0;
+        }
+
+        @Override
+        public void reset() {
+            for (int i = markedBuffer + 1; i < buffers.length; i++) {
+                buffers[i].position(0);
+            }
+            if (markedBuffer < buffers.length) {
+                buffers[markedBuffer].position(markedPosition);
+            }
+            current = markedBuffer;
+        }
+    }
+}
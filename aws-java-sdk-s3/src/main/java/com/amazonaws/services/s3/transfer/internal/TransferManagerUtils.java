@@ -136,6 +136,36 @@ public class TransferManagerUtils {
         return (contentLength > configuration.getMultipartUploadThreshold());
     }
 
+    /**
+     * Returns true if the input stream of the specified request should be
+     * read into a pool of part buffers and uploaded in parallel. This applies
+     * to streams without a file when stream upload buffers are configured,
+     * and the stream's length is either unknown or above the multipart upload
+     * threshold.
+     *
+     * @param putObjectRequest
+     *            The request containing all the details of the upload.
+     * @param configuration
+     *            Configuration settings controlling how transfer manager
+     *            processes requests.
+     * @param isUsingEncryption
+     *            True if the upload is encrypted on the client side.
+     *
+     * @return True if the stream of the specified request should be uploaded
+     *         through part buffers.
+     */
+    public static boolean shouldBufferStreamUpload(PutObjectRequest putObjectRequest,
+            TransferManagerConfiguration configuration, boolean isUsingEncryption) {
+        if (isUsingEncryption || configuration.getStreamUploadBufferCount() <= 0
+                || putObjectRequest.getInputStream() == null
+                || getRequestFile(putObjectRequest) != null
+                || configuration.getMinimumUploadPartSize() > Integer.MAX_VALUE) {
+            return false;
+        }
+        long contentLength = getContentLength(putObjectRequest);
+        return contentLength < 0 || contentLength > configuration.getMultipartUploadThreshold();
+    }
+
     /**
      * Convenience method for getting the file specified in a request.
      */
@@ -210,4 +240,31 @@ public class TransferManagerUtils {
         }
         return true;
     }
+
+    /**
+     * Returns true if an object that was not uploaded with a multipart upload
+     * can be downloaded in parallel with ranged GET requests, which is the
+     * case when it spans more than one download range.
+     *
+     * @param getObjectRequest
+     *            The request to check.
+     * @param objectLength
+     *            The length of the object.
+     * @param configuration
+     *            The transfer manager configuration holding the download
+     *            range size.
+     *
+     * @return True if this request can use parallel ranged downloads.
+     */
+    public static boolean isRangedDownloadParallelizable(final AmazonS3 s3, final GetObjectRequest getObjectRequest,
+            long objectLength, TransferManagerConfiguration configuration) {
+        ValidationUtils.assertNotNull(s3, "S3 client");
+        ValidationUtils.assertNotNull(getObjectRequest, "GetObjectRequest");
+
+        if (s3 instanceof AmazonS3Encryption || getObjectRequest.getRange() != null
+                || getObjectRequest.getPartNumber() != null || configuration.getDownloadRangeSize() <= 0) {
+            return false;
+        }
+        return objectLength > configuration.getDownloadRangeSize();
+    }
 }
@@ -15,9 +15,13 @@
 package com.amazonaws.services.s3.transfer.internal;
 
 import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
+import static com.amazonaws.services.s3.internal.Constants.MAXIMUM_UPLOAD_PARTS;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,10 +29,14 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.event.ProgressEventType;
 import com.amazonaws.event.ProgressListenerChain;
 import com.amazonaws.services.s3.AmazonS3;
@@ -74,6 +82,18 @@ public class UploadCallable implements Callable<UploadResult> {
 
     private PersistableUpload persistableUpload;
 
+    /**
+     * Set once a stream uploaded through part buffers has outgrown a single
+     * part and is being uploaded as a multipart upload.
+     */
+    private volatile boolean isBufferedMultipartUpload;
+
+    /**
+     * The multipart upload of a buffered stream left by {@link #call()} for
+     * {@link UploadMonitor} to start.
+     */
+    private volatile BufferedStreamUpload bufferedStreamUpload;
+
     public UploadCallable(TransferManager transferManager,
             ExecutorService threadPool, UploadImpl upload,
             PutObjectRequest origReq,
@@ -111,12 +131,16 @@ public class UploadCallable implements Callable<UploadResult> {
      * @return True if this UploadCallable is processing a multipart upload.
      */
     public boolean isMultipartUpload() {
-        return TransferManagerUtils.shouldUseMultipartUpload(origReq, configuration);
+        return isBufferedMultipartUpload
+                || TransferManagerUtils.shouldUseMultipartUpload(origReq, configuration);
     }
 
     public UploadResult call() throws Exception {
         upload.setState(TransferState.InProgress);
-        if ( isMultipartUpload() ) {
+        if (TransferManagerUtils.shouldBufferStreamUpload(origReq, configuration,
+                s3 instanceof AmazonS3Encryption)) {
+            return uploadBufferedStream();
+        } else if ( isMultipartUpload() ) {
             publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
             return uploadInParts();
         } else {
@@ -128,11 +152,15 @@ public class UploadCallable implements Callable<UploadResult> {
      * Uploads the given request in a single chunk and returns the result.
      */
     private UploadResult uploadInOneChunk() {
-        PutObjectResult putObjectResult = s3.putObject(origReq);
+        return uploadInOneChunk(origReq);
+    }
+
+    private UploadResult uploadInOneChunk(PutObjectRequest req) {
+        PutObjectResult putObjectResult = s3.putObject(req);
 
         UploadResult uploadResult = new UploadResult();
-        uploadResult.setBucketName(origReq.getBucketName());
-        uploadResult.setKey(origReq.getKey());
+        uploadResult.setBucketName(req.getBucketName());
+        uploadResult.setKey(req.getKey());
         uploadResult.setETag(putObjectResult.getETag());
         uploadResult.setVersionId(putObjectResult.getVersionId());
         return uploadResult;
@@ -255,6 +283,14 @@ public class UploadCallable implements Callable<UploadResult> {
             partETags.add(s3.uploadPart(uploadPartRequest).getPartETag());
         }
 
+        return completeMultipartUpload(partETags);
+    }
+
+    /**
+     * Completes the multipart upload with the given part ETags and returns
+     * the result.
+     */
+    private UploadResult completeMultipartUpload(List<PartETag> partETags) {
         CompleteMultipartUploadRequest req =
             new CompleteMultipartUploadRequest(
                 origReq.getBucketName(), origReq.getKey(), multipartUploadId,
@@ -272,6 +308,410 @@ public class UploadCallable implements Callable<UploadResult> {
         return uploadResult;
     }
 
+    /**
+     * Reads the request's input stream into a bounded pool of part buffers.
+     * Content that ends within the multipart upload threshold is uploaded in
+     * a single chunk and its result returned. Anything larger is initiated as
+     * a multipart upload and left to a {@link BufferedStreamUpload}, which
+     * {@link UploadMonitor} starts once it has made it the future of the
+     * upload; null is returned in that case.
+     */
+    private UploadResult uploadBufferedStream() throws Exception {
+        long contentLength = TransferManagerUtils.getContentLength(origReq);
+        int partSize = (int) Math.min(getOptimalPartSize(false), Integer.MAX_VALUE);
+        PartBufferPool pool = new PartBufferPool(
+                configuration.getStreamUploadBufferCount(), partSize,
+                configuration.isUseDirectStreamUploadBuffers());
+
+        InputStream input = origReq.getInputStream();
+        long remaining = contentLength < 0 ? Long.MAX_VALUE : contentLength;
+        List<ByteBuffer> filled = new ArrayList<ByteBuffer>();
+        boolean handedOff = false;
+        try {
+            // Buffer up to the multipart threshold before choosing how to upload
+            boolean hasMore = true;
+            long buffered = 0;
+            while (hasMore && buffered <= configuration.getMultipartUploadThreshold()) {
+                ByteBuffer buffer = pool.poll();
+                if (buffer == null) break;
+                filled.add(buffer);
+                int read = pool.fill(input, buffer, remaining);
+                remaining -= read;
+                buffered += read;
+                hasMore = read == partSize && remaining > 0;
+            }
+            if (!hasMore && buffered <= configuration.getMultipartUploadThreshold()) {
+                PutObjectRequest req = origReq.clone();
+                req.setInputStream(PartBufferPool.newInputStream(filled));
+                req.getMetadata().setContentLength(buffered);
+                return uploadInOneChunk(req);
+            }
+
+            isBufferedMultipartUpload = true;
+            publishProgress(listener, ProgressEventType.TRANSFER_STARTED_EVENT);
+            multipartUploadId = initiateMultipartUpload(origReq, false);
+            bufferedStreamUpload = new BufferedStreamUpload(pool, input, remaining, filled, hasMore);
+            handedOff = true;
+            return null;
+        } catch (Exception e) {
+            if (isBufferedMultipartUpload) {
+                publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                performAbortMultipartUpload();
+            }
+            throw e;
+        } finally {
+            if (!handedOff) {
+                closeQuietly(input);
+            }
+        }
+    }
+
+    private static void closeQuietly(InputStream input) {
+        try { input.close(); } catch (Exception e) {
+            log.warn("Unable to cleanly close input stream: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the multipart upload of a buffered stream that the last call to
+     * {@link #call()} left to be started, or null if there is none.
+     */
+    BufferedStreamUpload getBufferedStreamUpload() {
+        return bufferedStreamUpload;
+    }
+
+    /**
+     * The multipart upload of a stream read into a bounded pool of part
+     * buffers, which completes once its last part has been uploaded.
+     * <p>
+     * No thread of the pool ever waits on another task: reading is itself a
+     * task, which submits a part for each buffer it fills and stops as soon
+     * as every buffer is in use. The part that hands a buffer back to the
+     * pool resubmits the reader, and the last part to finish once the stream
+     * has ended completes the multipart upload. A single transfer manager
+     * thread can therefore run any number of concurrent stream uploads.
+     */
+    final class BufferedStreamUpload extends FutureTask<UploadResult> {
+        private final PartBufferPool pool;
+        private final InputStream input;
+        /** Bytes left to read from the input; only touched by the reader. */
+        private long remaining;
+        private final List<ByteBuffer> filled;
+        private UploadMonitor monitor;
+        /** Set once the upload has completed, failed or been canceled. */
+        private final AtomicBoolean finished = new AtomicBoolean();
+        /* The fields below are guarded by this. */
+        private final List<Future<?>> tasks = new ArrayList<Future<?>>();
+        private final List<PartETag> partETags = new ArrayList<PartETag>();
+        private int partNumber;
+        private int inflightParts;
+        private boolean reading;
+        private boolean ended;
+        private boolean inputClosed;
+
+        private BufferedStreamUpload(PartBufferPool pool, InputStream input,
+                long remaining, List<ByteBuffer> filled, boolean hasMore) {
+            super(new Callable<UploadResult>() {
+                public UploadResult call() {
+                    throw new IllegalStateException("A buffered stream upload is completed by its parts");
+                }
+            });
+            this.pool = pool;
+            this.input = input;
+            this.remaining = remaining;
+            this.filled = filled;
+            this.ended = !hasMore;
+            this.reading = hasMore;
+        }
+
+        /**
+         * Submits the parts already buffered and resumes reading the stream.
+         *
+         * @param monitor
+         *            The monitor to notify once the upload has completed.
+         */
+        void start(UploadMonitor monitor) {
+            this.monitor = monitor;
+            try {
+                for (ByteBuffer buffer : filled) {
+                    if (buffer.hasRemaining()) {
+                        submitPart(buffer);
+                    } else {
+                        // The stream ended exactly on a part boundary
+                        pool.release(buffer);
+                    }
+                }
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            } finally {
+                filled.clear();
+            }
+            final boolean complete;
+            synchronized (this) {
+                complete = ended && inflightParts == 0;
+            }
+            if (ended) {
+                closeInput();
+                if (complete) {
+                    complete();
+                }
+            } else {
+                submitReader();
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            finished.set(true);
+            // Nothing runs this future itself, its tasks are interrupted instead
+            final boolean canceled = super.cancel(false);
+            cancelTasks();
+            closeInputUnlessReading();
+            return canceled;
+        }
+
+        /**
+         * Submits the reader, which fills and submits parts for as long as
+         * the pool has free buffers.
+         */
+        private void submitReader() {
+            final Future<?> reader;
+            try {
+                reader = threadPool.submit(new Runnable() {
+                    public void run() {
+                        readParts();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    reading = false;
+                }
+                fail(e);
+                return;
+            }
+            track(reader);
+        }
+
+        private void readParts() {
+            boolean stopped = true;
+            try {
+                while (true) {
+                    final ByteBuffer buffer;
+                    synchronized (this) {
+                        if (finished.get()) {
+                            return;
+                        }
+                        buffer = pool.poll();
+                        if (buffer == null) {
+                            // The next part to finish resubmits the reader
+                            reading = false;
+                            stopped = false;
+                            return;
+                        }
+                    }
+                    if (threadPool.isShutdown()) {
+                        pool.release(buffer);
+                        throw new CancellationException("TransferManager has been shutdown");
+                    }
+                    int read = pool.fill(input, buffer, remaining);
+                    remaining -= read;
+                    boolean hasMore = read == pool.getBufferSize() && remaining > 0;
+                    if (read == 0) {
+                        // The stream ended exactly on a part boundary
+                        pool.release(buffer);
+                    } else {
+                        submitPart(buffer);
+                    }
+                    if (!hasMore) {
+                        final boolean complete;
+                        synchronized (this) {
+                            ended = true;
+                            complete = inflightParts == 0;
+                        }
+                        if (complete) {
+                            complete();
+                        }
+                        return;
+                    }
+                }
+            } catch (Throwable t) {
+                fail(t);
+            } finally {
+                if (stopped) {
+                    synchronized (this) {
+                        reading = false;
+                    }
+                    closeInput();
+                }
+            }
+        }
+
+        /**
+         * Submits the upload of the content of the given filled buffer as
+         * the next part.
+         */
+        private void submitPart(final ByteBuffer buffer) {
+            final int number;
+            synchronized (this) {
+                number = ++partNumber;
+                if (number <= MAXIMUM_UPLOAD_PARTS) {
+                    inflightParts++;
+                }
+            }
+            if (number > MAXIMUM_UPLOAD_PARTS) {
+                pool.release(buffer);
+                throw new AmazonClientException("Unable to upload stream with more than "
+                        + MAXIMUM_UPLOAD_PARTS + " parts of " + pool.getBufferSize()
+                        + " bytes. Increase the minimum upload part size.");
+            }
+            final UploadPartRequest req = newBufferedPartRequest(buffer, number);
+            final Future<?> part;
+            try {
+                part = threadPool.submit(new Runnable() {
+                    public void run() {
+                        uploadPart(req, buffer);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pool.release(buffer);
+                throw e;
+            }
+            track(part);
+        }
+
+        private void uploadPart(UploadPartRequest req, ByteBuffer buffer) {
+            final PartETag partETag;
+            try {
+                partETag = s3.uploadPart(req).getPartETag();
+            } catch (Throwable t) {
+                fail(new AmazonClientException(
+                        "Unable to complete multi-part upload. Individual part upload failed : "
+                                + t.getMessage(), t));
+                return;
+            } finally {
+                pool.release(buffer);
+            }
+
+            final boolean resumeReading;
+            final boolean complete;
+            synchronized (this) {
+                partETags.add(partETag);
+                inflightParts--;
+                resumeReading = !reading && !ended && !finished.get();
+                if (resumeReading) {
+                    reading = true;
+                }
+                complete = ended && inflightParts == 0;
+            }
+            if (resumeReading) {
+                submitReader();
+            } else if (complete) {
+                complete();
+            }
+        }
+
+        /**
+         * Completes the multipart upload once every part has been uploaded.
+         */
+        private void complete() {
+            final List<PartETag> eTags;
+            synchronized (this) {
+                eTags = new ArrayList<PartETag>(partETags);
+            }
+            Collections.sort(eTags, new Comparator<PartETag>() {
+                public int compare(PartETag a, PartETag b) {
+                    return a.getPartNumber() - b.getPartNumber();
+                }
+            });
+            final UploadResult result;
+            try {
+                result = completeMultipartUpload(eTags);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            monitor.uploadComplete();
+            set(result);
+        }
+
+        private void fail(Throwable t) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            cancelTasks();
+            closeInputUnlessReading();
+            publishProgress(listener, ProgressEventType.TRANSFER_FAILED_EVENT);
+            performAbortMultipartUpload();
+            upload.setState(TransferState.Failed);
+            setException(t);
+        }
+
+        private void track(Future<?> task) {
+            synchronized (this) {
+                tasks.add(task);
+                if (!finished.get()) {
+                    return;
+                }
+            }
+            task.cancel(true);
+        }
+
+        private synchronized void cancelTasks() {
+            for (Future<?> f : tasks) {
+                f.cancel(true);
+            }
+        }
+
+        /**
+         * Closes the input, unless the reader is running and will close it
+         * itself once it sees that the upload is done.
+         */
+        private void closeInputUnlessReading() {
+            synchronized (this) {
+                if (reading) {
+                    return;
+                }
+            }
+            closeInput();
+        }
+
+        private void closeInput() {
+            synchronized (this) {
+                if (inputClosed) {
+                    return;
+                }
+                inputClosed = true;
+            }
+            closeQuietly(input);
+        }
+    }
+
+    /**
+     * Returns a request to upload the content of the given filled buffer as
+     * a part of the multipart upload.
+     */
+    private UploadPartRequest newBufferedPartRequest(ByteBuffer buffer, int partNumber) {
+        final UploadPartRequest req = new UploadPartRequest()
+            .withBucketName(origReq.getBucketName())
+            .withKey(origReq.getKey())
+            .withUploadId(multipartUploadId)
+            .withInputStream(PartBufferPool.newInputStream(Collections.singletonList(buffer)))
+            .withPartNumber(partNumber)
+            .withPartSize(buffer.remaining());
+        TransferManager.appendMultipartUserAgent(req);
+
+        if (origReq.getSSECustomerKey() != null) req.setSSECustomerKey(origReq.getSSECustomerKey());
+
+        req.withGeneralProgressListener(origReq.getGeneralProgressListener())
+           .withRequestMetricCollector(origReq.getRequestMetricCollector())
+           ;
+        return req;
+    }
+
     /**
      * Submits a callable for each part to upload to our thread pool and records its corresponding Future.
      */
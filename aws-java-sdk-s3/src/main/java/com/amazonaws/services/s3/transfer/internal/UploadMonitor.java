@@ -117,7 +117,11 @@ public class UploadMonitor implements Callable<UploadResult>, TransferMonitor {
         UploadMonitor uploadMonitor = new UploadMonitor(manager, transfer,
                 threadPool, multipartUploadCallable, putObjectRequest,
                 progressListenerChain);
-        uploadMonitor.setFuture(threadPool.submit(uploadMonitor));
+        // The monitor replaces its own future with the one completing the
+        // upload, which mustn't happen before its own future has been set
+        synchronized (uploadMonitor) {
+            uploadMonitor.setFuture(threadPool.submit(uploadMonitor));
+        }
         return uploadMonitor;
     }
 
@@ -144,6 +148,19 @@ public class UploadMonitor implements Callable<UploadResult>, TransferMonitor {
              * request.
              */
             if (result == null) {
+                UploadCallable.BufferedStreamUpload streamUpload =
+                        multipartUploadCallable.getBufferedStreamUpload();
+                if (streamUpload != null) {
+                    // Synchronized with cancelFuture(), so an abort either
+                    // interrupts this thread or cancels the stream upload
+                    setFuture(streamUpload);
+                    if (Thread.interrupted()) {
+                        streamUpload.cancel(true);
+                    } else {
+                        streamUpload.start(this);
+                    }
+                    return result;
+                }
                 futures.addAll(multipartUploadCallable.getFutures());
                 setFuture(threadPool.submit(new CompleteMultipartUpload(
                         multipartUploadCallable.getMultipartUploadId(), s3,
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.amazonaws.util.StringUtils;
+
+public class CarriageReturnEscapingInputStreamTest {
+
+    /** Size of the buffer the stream reads the underlying stream into. */
+    private static final int BUFFER_SIZE = 8192;
+
+    @Test
+    public void carriageReturns_AreEscaped() throws IOException {
+        assertEquals("<Key>a&#013;b&#013;&#013;</Key>&#013;\n",
+                new String(readBulk(escaping(bytes("<Key>a\rb\r\r</Key>\r\n")), 100), StringUtils.UTF8));
+    }
+
+    @Test
+    public void documentWithoutCarriageReturns_IsUnchanged() throws IOException {
+        byte[] document = bytes("<ListBucketResult><Key>café ☃</Key></ListBucketResult>");
+        assertArrayEquals(document, readBulk(escaping(document), BUFFER_SIZE));
+    }
+
+    @Test
+    public void emptyDocument_IsEmpty() throws IOException {
+        assertEquals(-1, escaping(new byte[0]).read());
+        assertEquals(-1, escaping(new byte[0]).read(new byte[10], 0, 10));
+    }
+
+    @Test
+    public void carriageReturnsAtBufferBoundary_AreEscaped() throws IOException {
+        for (int offset = -2; offset <= 2; offset++) {
+            char[] chars = new char[2 * BUFFER_SIZE + 10];
+            Arrays.fill(chars, 'x');
+            chars[BUFFER_SIZE - 1 + offset] = '\r';
+            chars[2 * BUFFER_SIZE + offset] = '\r';
+            chars[chars.length - 1] = '\r';
+            byte[] document = bytes(new String(chars));
+
+            assertEscapedLikeSanitizeXmlDocument(document);
+        }
+    }
+
+    @Test
+    public void randomDocuments_AreEscapedLikeSanitizeXmlDocument() throws IOException {
+        Random random = new Random(42);
+        String alphabet = "<>/abc \r\n\ré☃";
+        for (int i = 0; i < 50; i++) {
+            StringBuilder document = new StringBuilder();
+            int length = random.nextInt(3 * BUFFER_SIZE);
+            for (int j = 0; j < length; j++) {
+                document.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            assertEscapedLikeSanitizeXmlDocument(bytes(document.toString()));
+        }
+    }
+
+    @Test
+    public void skip_CountsEscapedBytes() throws IOException {
+        InputStream in = escaping(bytes("a\rbc"));
+        assertEquals(4, in.skip(4));
+        assertEquals('1', in.read());
+        assertEquals('3', in.read());
+        assertEquals(';', in.read());
+        assertEquals('b', in.read());
+        assertEquals(1, in.skip(10));
+        assertEquals(-1, in.read());
+    }
+
+    /**
+     * Reads the escaped document with single byte reads, small bulk reads
+     * splitting escape sequences, and reads of whole buffers, from underlying
+     * streams returning chunks that do not line up with the buffer.
+     */
+    private static void assertEscapedLikeSanitizeXmlDocument(byte[] document) throws IOException {
+        byte[] expected = sanitizeXmlDocument(document);
+        for (int chunkSize : new int[] { 1, 7, BUFFER_SIZE - 1, Integer.MAX_VALUE }) {
+            assertArrayEquals(expected, readSingleBytes(escaping(chunked(document, chunkSize))));
+            for (int readSize : new int[] { 1, 4, 6, 1000, BUFFER_SIZE, 3 * BUFFER_SIZE }) {
+                assertArrayEquals(expected, readBulk(escaping(chunked(document, chunkSize)), readSize));
+            }
+        }
+    }
+
+    /**
+     * The carriage return escaping of the former
+     * XmlResponsesSaxParser#sanitizeXmlDocument, which read the whole
+     * document into a string.
+     */
+    private static byte[] sanitizeXmlDocument(byte[] document) throws IOException {
+        StringBuilder listingDocBuffer = new StringBuilder();
+        BufferedReader br = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(document), StringUtils.UTF8));
+        char[] buf = new char[8192];
+        int read;
+        while ((read = br.read(buf)) != -1) {
+            listingDocBuffer.append(buf, 0, read);
+        }
+        br.close();
+        return listingDocBuffer.toString().replaceAll("\r", "&#013;").getBytes(StringUtils.UTF8);
+    }
+
+    private static byte[] readSingleBytes(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readBulk(InputStream in, int readSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // Read into the middle of the array to check the offset is honored
+        byte[] b = new byte[readSize + 2];
+        int bytesRead;
+        while ((bytesRead = in.read(b, 1, readSize)) != -1) {
+            out.write(b, 1, bytesRead);
+        }
+        return out.toByteArray();
+    }
+
+    private static InputStream escaping(byte[] document) {
+        return new CarriageReturnEscapingInputStream(new ByteArrayInputStream(document));
+    }
+
+    private static InputStream escaping(InputStream in) {
+        return new CarriageReturnEscapingInputStream(in);
+    }
+
+    /**
+     * Returns a stream of the given document returning at most the given
+     * number of bytes per read.
+     */
+    private static InputStream chunked(byte[] document, final int chunkSize) {
+        return new FilterInputStream(new ByteArrayInputStream(document)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, chunkSize));
+            }
+        };
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StringUtils.UTF8);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static com.amazonaws.services.s3.internal.crypto.GHash.BLOCK_SIZE;
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks GHASH against the authentication tags computed by the AES/GCM
+ * cipher of the JCE.
+ */
+public class GHashTest {
+
+    private static final int TAG_LENGTH = 16;
+
+    private final Random random = new Random(42);
+    private SecretKeySpec key;
+    private byte[] iv;
+    private byte[] h;
+
+    @Before
+    public void setUp() throws Exception {
+        key = new SecretKeySpec(randomBytes(16), "AES");
+        iv = randomBytes(12);
+        h = encryptBlock(new byte[BLOCK_SIZE]);
+    }
+
+    @Test
+    public void tagMatchesJceForVariousLengths() throws Exception {
+        for (int length : new int[] { 0, 1, 15, 16, 17, 31, 32, 33, 1000, 65536 + 5 }) {
+            byte[] sealed = jceEncrypt(randomBytes(length));
+            byte[] ciphertext = Arrays.copyOf(sealed, length);
+            byte[] expectedTag = Arrays.copyOfRange(sealed, length, length + TAG_LENGTH);
+
+            GHash hash = new GHash(h);
+            hash.update(ciphertext, 0, ciphertext.length);
+
+            assertArrayEquals("length " + length, expectedTag, tag(hash.digest(), length));
+        }
+    }
+
+    @Test
+    public void chunkedUpdatesMatchSingleUpdate() throws Exception {
+        byte[] ciphertext = randomBytes(5000);
+        GHash whole = new GHash(h);
+        whole.update(ciphertext, 0, ciphertext.length);
+
+        GHash chunked = whole.newInstance();
+        int off = 0;
+        while (off < ciphertext.length) {
+            int len = Math.min(1 + random.nextInt(100), ciphertext.length - off);
+            chunked.update(ciphertext, off, len);
+            off += len;
+        }
+
+        assertArrayEquals(whole.digest(), chunked.digest());
+    }
+
+    @Test
+    public void segmentsCombineIntoHashOfWhole() throws Exception {
+        int blocks = 37;
+        int split = 12;
+        byte[] ciphertext = jceEncrypt(randomBytes(blocks * BLOCK_SIZE));
+        long[] hashSubkey = { GHash.toLong(h, 0), GHash.toLong(h, 8) };
+
+        GHash whole = new GHash(h);
+        whole.update(ciphertext, 0, blocks * BLOCK_SIZE);
+        GHash first = whole.newInstance();
+        first.update(ciphertext, 0, split * BLOCK_SIZE);
+        GHash second = whole.newInstance();
+        second.update(ciphertext, split * BLOCK_SIZE, (blocks - split) * BLOCK_SIZE);
+
+        // The hash of the first segment is multiplied by H once per block that follows it
+        long[] combined = GHash.multiply(first.digest(), GHash.power(hashSubkey, blocks - split));
+        long[] secondHash = second.digest();
+        combined[0] ^= secondHash[0];
+        combined[1] ^= secondHash[1];
+
+        assertArrayEquals(whole.digest(), combined);
+    }
+
+    @Test
+    public void powerIsRepeatedMultiplication() {
+        long[] x = { random.nextLong(), random.nextLong() };
+        long[] expected = { 0x8000000000000000L, 0 };
+        for (int n = 0; n < 20; n++) {
+            assertArrayEquals("x^" + n, expected, GHash.power(x, n));
+            expected = GHash.multiply(expected, x);
+        }
+    }
+
+    @Test
+    public void bytesRoundTrip() {
+        byte[] b = randomBytes(BLOCK_SIZE);
+        assertArrayEquals(b, GHash.toBytes(new long[] { GHash.toLong(b, 0), GHash.toLong(b, 8) }));
+    }
+
+    /**
+     * Completes the given hash of the ciphertext into the GCM tag, the way
+     * {@link RangedDecryptionContext} does.
+     */
+    private byte[] tag(long[] y, long ciphertextLength) throws Exception {
+        y[1] ^= ciphertextLength * 8;
+        byte[] tag = GHash.toBytes(GHash.multiply(y, new long[] { GHash.toLong(h, 0), GHash.toLong(h, 8) }));
+        byte[] j0 = new byte[BLOCK_SIZE];
+        System.arraycopy(iv, 0, j0, 0, iv.length);
+        j0[BLOCK_SIZE - 1] = 1;
+        byte[] encryptedJ0 = encryptBlock(j0);
+        for (int i = 0; i < tag.length; i++) {
+            tag[i] ^= encryptedJ0[i];
+        }
+        return tag;
+    }
+
+    private byte[] jceEncrypt(byte[] plaintext) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+        return cipher.doFinal(plaintext);
+    }
+
+    private byte[] encryptBlock(byte[] block) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key);
+        return cipher.doFinal(block);
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] b = new byte[length];
+        random.nextBytes(b);
+        return b;
+    }
+}
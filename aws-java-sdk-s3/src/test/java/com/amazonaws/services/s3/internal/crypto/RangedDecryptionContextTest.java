@@ -0,0 +1,386 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal.crypto;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.apache.http.client.methods.HttpGet;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.internal.S3Direct;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.CopyPartRequest;
+import com.amazonaws.services.s3.model.CopyPartResult;
+import com.amazonaws.services.s3.model.CryptoConfiguration;
+import com.amazonaws.services.s3.model.CryptoMode;
+import com.amazonaws.services.s3.model.EncryptedGetObjectRequest;
+import com.amazonaws.services.s3.model.EncryptionMaterials;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.StaticEncryptionMaterialsProvider;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.Base64;
+
+/**
+ * Decrypts objects encrypted by the AES/GCM cipher of the JCE in ranges, and
+ * checks the plaintext and the verification of the tag of the whole object.
+ * The content crypto material is built from the JCE cipher directly, since
+ * the crypto modules only use Bouncy Castle for AES/GCM.
+ */
+public class RangedDecryptionContextTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final int PLAINTEXT_LENGTH = 100003;
+    private static final int RANGE_SIZE = 16 * 1024;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Random random = new Random(42);
+    private final AtomicInteger materialsLookups = new AtomicInteger();
+    private final AtomicInteger materialLoads = new AtomicInteger();
+    private SecretKey cek;
+    private byte[] iv;
+    private byte[] plaintext;
+    private ObjectMetadata metadata;
+    private InMemoryS3Direct s3;
+    private S3CryptoModuleAE crypto;
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        SecretKey kek = new SecretKeySpec(randomBytes(16), "AES");
+        cek = new SecretKeySpec(randomBytes(16), "AES");
+        iv = randomBytes(12);
+        plaintext = randomBytes(PLAINTEXT_LENGTH);
+
+        Cipher gcm = Cipher.getInstance("AES/GCM/NoPadding");
+        gcm.init(Cipher.ENCRYPT_MODE, cek, new GCMParameterSpec(128, iv));
+        byte[] sealed = gcm.doFinal(plaintext);
+        Cipher wrap = Cipher.getInstance("AESWrap");
+        wrap.init(Cipher.WRAP_MODE, kek);
+
+        metadata = new ObjectMetadata();
+        metadata.setContentLength(sealed.length);
+        metadata.addUserMetadata(Headers.CRYPTO_KEY_V2, Base64.encodeAsString(wrap.wrap(cek)));
+        metadata.addUserMetadata(Headers.CRYPTO_IV, Base64.encodeAsString(iv));
+        metadata.addUserMetadata(Headers.MATERIALS_DESCRIPTION, "{}");
+        metadata.addUserMetadata(Headers.CRYPTO_KEYWRAP_ALGORITHM, "AESWrap");
+        metadata.addUserMetadata(Headers.CRYPTO_CEK_ALGORITHM, "AES/GCM/NoPadding");
+        metadata.addUserMetadata(Headers.CRYPTO_TAG_LENGTH, "128");
+
+        s3 = new InMemoryS3Direct(sealed);
+        crypto = new S3CryptoModuleAE(s3, new StaticEncryptionMaterialsProvider(new EncryptionMaterials(kek)) {
+            @Override
+            public EncryptionMaterials getEncryptionMaterials(Map<String, String> materialsDescription) {
+                materialsLookups.incrementAndGet();
+                return super.getEncryptionMaterials(materialsDescription);
+            }
+        }, authenticatedEncryption());
+        file = folder.newFile();
+    }
+
+    @Test
+    public void rangesDecryptToPlaintextAndTagIsVerified() throws Exception {
+        RangedDecryptionContext context = newContext();
+        assertEquals(PLAINTEXT_LENGTH, context.getPlaintextLength());
+
+        List<long[]> ranges = ranges(0, PLAINTEXT_LENGTH);
+        // Ranges complete in any order
+        Collections.shuffle(ranges, random);
+        for (long[] range : ranges) {
+            assertArrayEquals(range, context.download(rangeRequest(range), file));
+        }
+        verify(context);
+
+        assertArrayEquals(plaintext, readFile());
+    }
+
+    @Test
+    public void rangesAlreadyInFileAreHashedFromFile() throws Exception {
+        // As for a resumed download, only the ranges missing from the file
+        // are downloaded through the context
+        writeFile(Arrays.copyOf(plaintext, 2 * RANGE_SIZE));
+        RangedDecryptionContext context = newContext();
+        List<long[]> ranges = ranges(0, PLAINTEXT_LENGTH);
+        for (long[] range : ranges.subList(2, ranges.size() - 1)) {
+            context.download(rangeRequest(range), file);
+        }
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            long[] last = ranges.get(ranges.size() - 1);
+            raf.seek(last[0]);
+            raf.write(plaintext, (int) last[0], (int) (last[1] - last[0] + 1));
+        } finally {
+            raf.close();
+        }
+
+        verify(context);
+
+        assertArrayEquals(plaintext, readFile());
+    }
+
+    @Test
+    public void tamperedCiphertextFailsVerification() throws Exception {
+        s3.content[PLAINTEXT_LENGTH / 2] ^= 1;
+        RangedDecryptionContext context = newContext();
+        for (long[] range : ranges(0, PLAINTEXT_LENGTH)) {
+            context.download(rangeRequest(range), file);
+        }
+
+        try {
+            verify(context);
+            fail("Expected SecurityException");
+        } catch (SecurityException expected) {
+        }
+    }
+
+    @Test
+    public void tamperedTagFailsVerification() throws Exception {
+        s3.content[s3.content.length - 1] ^= 1;
+        RangedDecryptionContext context = newContext();
+        for (long[] range : ranges(0, PLAINTEXT_LENGTH)) {
+            context.download(rangeRequest(range), file);
+        }
+
+        try {
+            verify(context);
+            fail("Expected SecurityException");
+        } catch (SecurityException expected) {
+        }
+    }
+
+    @Test
+    public void keyIsOnlyLoadedOnFirstUse() {
+        RangedDecryptionContext context = newContext();
+        assertEquals(0, materialLoads.get());
+
+        context.initialize();
+        context.initialize();
+
+        assertEquals(1, materialLoads.get());
+        assertEquals(0, s3.getObjectCalls.get());
+    }
+
+    @Test
+    public void moduleOnlyInspectsMetadata() {
+        RangedDecryptionContext context = crypto.newRangedDecryptionContext(
+                new GetObjectRequest(BUCKET, KEY), metadata);
+
+        assertNotNull(context);
+        assertEquals(PLAINTEXT_LENGTH, context.getPlaintextLength());
+        assertEquals(0, materialsLookups.get());
+        assertEquals(0, s3.getObjectCalls.get());
+    }
+
+    @Test
+    public void unencryptedObjectIsNotDecryptedInRanges() {
+        ObjectMetadata plain = new ObjectMetadata();
+        plain.setContentLength(metadata.getContentLength());
+
+        assertNull(crypto.newRangedDecryptionContext(new GetObjectRequest(BUCKET, KEY), plain));
+        assertEquals(0, s3.getObjectCalls.get());
+    }
+
+    @Test
+    public void instructionFileIsNeverFetched() {
+        EncryptedGetObjectRequest request = new EncryptedGetObjectRequest(BUCKET, KEY)
+                .withInstructionFileSuffix("instruction");
+
+        assertNull(crypto.newRangedDecryptionContext(request, metadata));
+        assertEquals(0, s3.getObjectCalls.get());
+        assertEquals(0, materialsLookups.get());
+    }
+
+    @Test
+    public void cbcObjectIsNotDecryptedInRanges() {
+        metadata.addUserMetadata(Headers.CRYPTO_CEK_ALGORITHM, "AES/CBC/PKCS5Padding");
+
+        assertNull(crypto.newRangedDecryptionContext(new GetObjectRequest(BUCKET, KEY), metadata));
+        assertEquals(0, materialsLookups.get());
+    }
+
+    private RangedDecryptionContext newContext() {
+        return new RangedDecryptionContext(s3, new Callable<ContentCryptoMaterial>() {
+            @Override
+            public ContentCryptoMaterial call() throws Exception {
+                materialLoads.incrementAndGet();
+                Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                cipher.init(Cipher.DECRYPT_MODE, cek, new GCMParameterSpec(128, iv));
+                return new ContentCryptoMaterial(Collections.<String, String> emptyMap(), new byte[0], null,
+                        new CipherLite(cipher, ContentCryptoScheme.AES_GCM, cek, Cipher.DECRYPT_MODE));
+            }
+        }, metadata.getContentLength(), null);
+    }
+
+    /**
+     * Returns a configuration for authenticated encryption, which is set even
+     * if Bouncy Castle is not available.
+     */
+    private static CryptoConfiguration authenticatedEncryption() {
+        CryptoConfiguration config = new CryptoConfiguration();
+        try {
+            config.setCryptoMode(CryptoMode.AuthenticatedEncryption);
+        } catch (UnsupportedOperationException expected) {
+        }
+        return config.readOnly();
+    }
+
+    private void verify(RangedDecryptionContext context) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            context.verify(new GetObjectRequest(BUCKET, KEY), raf.getChannel());
+        } finally {
+            raf.close();
+        }
+    }
+
+    private static List<long[]> ranges(long first, long end) {
+        List<long[]> ranges = new ArrayList<long[]>();
+        for (long start = first; start < end; start += RANGE_SIZE) {
+            ranges.add(new long[] { start, Math.min(start + RANGE_SIZE, end) - 1 });
+        }
+        return ranges;
+    }
+
+    private static GetObjectRequest rangeRequest(long[] range) {
+        return new GetObjectRequest(BUCKET, KEY).withRange(range[0], range[1]);
+    }
+
+    private byte[] readFile() throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            byte[] b = new byte[(int) raf.length()];
+            raf.readFully(b);
+            return b;
+        } finally {
+            raf.close();
+        }
+    }
+
+    private void writeFile(byte[] b) throws Exception {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(b);
+        } finally {
+            out.close();
+        }
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] b = new byte[length];
+        random.nextBytes(b);
+        return b;
+    }
+
+    /** Serves ranges of a single object. */
+    private static class InMemoryS3Direct extends S3Direct {
+        private final byte[] content;
+        private final AtomicInteger getObjectCalls = new AtomicInteger();
+
+        InMemoryS3Direct(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public S3Object getObject(GetObjectRequest req) {
+            getObjectCalls.incrementAndGet();
+            long first = 0;
+            long last = content.length - 1;
+            if (req.getRange() != null) {
+                first = req.getRange()[0];
+                last = Math.min(req.getRange()[1], last);
+            }
+            S3Object object = new S3Object();
+            object.setBucketName(req.getBucketName());
+            object.setKey(req.getKey());
+            object.setObjectContent(new S3ObjectInputStream(
+                    new ByteArrayInputStream(content, (int) first, (int) (last - first + 1)),
+                    new HttpGet("http://localhost/" + req.getKey())));
+            return object;
+        }
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ObjectMetadata getObject(GetObjectRequest req, File dest) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CopyPartResult copyPart(CopyPartRequest req) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest req) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
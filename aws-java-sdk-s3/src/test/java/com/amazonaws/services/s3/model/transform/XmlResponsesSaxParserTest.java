@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.util.StringUtils;
+
+public class XmlResponsesSaxParserTest {
+
+    @Test
+    public void carriageReturnsInKeys_ArePreserved() throws IOException {
+        ObjectListing listing = parseListing(listing("a\rb", "c\r\nd"));
+
+        assertEquals(2, listing.getObjectSummaries().size());
+        assertEquals("a\rb", listing.getObjectSummaries().get(0).getKey());
+        assertEquals("c\r\nd", listing.getObjectSummaries().get(1).getKey());
+    }
+
+    @Test
+    public void consecutiveParsesOnOneThread_AreIndependent() throws IOException {
+        assertEquals("first", parseListing(listing("first")).getObjectSummaries().get(0).getKey());
+
+        ObjectListing listing = parseListing(listing("second", "third"));
+        assertEquals(2, listing.getObjectSummaries().size());
+        assertEquals("second", listing.getObjectSummaries().get(0).getKey());
+        assertEquals("third", listing.getObjectSummaries().get(1).getKey());
+    }
+
+    @Test
+    public void parseAfterMalformedDocument_Succeeds() throws Exception {
+        CountingHandler failed = new CountingHandler();
+        try {
+            new XmlResponsesSaxParser().parseXmlInputStream(failed,
+                    stream("<ListBucketResult><Contents><Key>broken</Contents>"));
+            fail("Expected the malformed document to fail");
+        } catch (AmazonClientException expected) {
+        }
+        int failedElements = failed.elements;
+
+        assertDocumentParsesAfterFailure(failed, failedElements);
+    }
+
+    @Test
+    public void parseAfterHandlerFailure_Succeeds() throws Exception {
+        CountingHandler failed = new CountingHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes)
+                    throws SAXException {
+                super.startElement(uri, localName, qName, attributes);
+                if ("Key".equals(localName)) {
+                    throw new SAXException("Handler failed");
+                }
+            }
+        };
+        try {
+            new XmlResponsesSaxParser().parseXmlInputStream(failed, stream(listing("a", "b")));
+            fail("Expected the handler failure");
+        } catch (AmazonClientException expected) {
+        }
+        int failedElements = failed.elements;
+
+        assertDocumentParsesAfterFailure(failed, failedElements);
+    }
+
+    @Test
+    public void parseAfterStreamFailure_Succeeds() throws Exception {
+        final byte[] document = listing("a", "b").getBytes(StringUtils.UTF8);
+        CountingHandler failed = new CountingHandler();
+        InputStream failing = new ByteArrayInputStream(document, 0, document.length / 2) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                int bytesRead = super.read(b, off, len);
+                if (bytesRead == -1) {
+                    throw new IllegalStateException("Connection reset");
+                }
+                return bytesRead;
+            }
+        };
+        try {
+            new XmlResponsesSaxParser().parseXmlInputStream(failed, failing);
+            fail("Expected the stream failure");
+        } catch (AmazonClientException expected) {
+        }
+        int failedElements = failed.elements;
+
+        assertDocumentParsesAfterFailure(failed, failedElements);
+    }
+
+    @Test(timeout = 30000)
+    public void concurrentParses_AreIndependent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ObjectListing>> futures = new ArrayList<Future<ObjectListing>>();
+            for (int i = 0; i < 200; i++) {
+                final String key = "key" + i;
+                futures.add(executor.submit(new Callable<ObjectListing>() {
+                    @Override
+                    public ObjectListing call() throws Exception {
+                        return parseListing(listing(key + "a", key + "b"));
+                    }
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                List<S3ObjectSummary> summaries = futures.get(i).get().getObjectSummaries();
+                assertEquals(2, summaries.size());
+                assertEquals("key" + i + "a", summaries.get(0).getKey());
+                assertEquals("key" + i + "b", summaries.get(1).getKey());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parses a document on the same thread after a failed parse, checking
+     * that it is parsed from its start and that none of its events reach the
+     * handler of the failed parse.
+     */
+    private static void assertDocumentParsesAfterFailure(CountingHandler failed, int failedElements)
+            throws Exception {
+        XMLReader reader = threadXmlReader();
+        assertNotSame(failed, reader.getContentHandler());
+        assertNotSame(failed, reader.getErrorHandler());
+
+        CountingHandler next = new CountingHandler();
+        new XmlResponsesSaxParser().parseXmlInputStream(next, stream(listing("c")));
+        assertEquals(12, next.elements);
+        assertEquals(failedElements, failed.elements);
+
+        ObjectListing listing = parseListing(listing("d"));
+        assertEquals(1, listing.getObjectSummaries().size());
+        assertEquals("d", listing.getObjectSummaries().get(0).getKey());
+        assertSame(reader, threadXmlReader());
+    }
+
+    /**
+     * Returns the reader the parsers of the current thread share.
+     */
+    @SuppressWarnings("unchecked")
+    private static XMLReader threadXmlReader() throws Exception {
+        Field field = XmlResponsesSaxParser.class.getDeclaredField("XML_READER");
+        field.setAccessible(true);
+        return ((ThreadLocal<XMLReader>) field.get(null)).get();
+    }
+
+    private static ObjectListing parseListing(String document) throws IOException {
+        return new XmlResponsesSaxParser()
+                .parseListBucketObjectsResponse(stream(document), false)
+                .getObjectListing();
+    }
+
+    private static String listing(String... keys) {
+        StringBuilder document = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                .append("<Name>bucket</Name><Prefix></Prefix><Marker></Marker>")
+                .append("<MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>");
+        for (String key : keys) {
+            document.append("<Contents><Key>").append(key).append("</Key>")
+                    .append("<LastModified>2016-01-01T00:00:00.000Z</LastModified>")
+                    .append("<ETag>&quot;etag&quot;</ETag><Size>1</Size>")
+                    .append("<StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        return document.append("</ListBucketResult>").toString();
+    }
+
+    private static InputStream stream(String document) {
+        return new ByteArrayInputStream(document.getBytes(StringUtils.UTF8));
+    }
+
+    private static class CountingHandler extends DefaultHandler {
+        int elements;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+            elements++;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.http.client.methods.HttpGet;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ListNextBatchOfObjectsRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+
+/**
+ * An Amazon S3 client that serves objects from memory and records the
+ * requests it receives.
+ */
+class InMemoryS3 extends AbstractAmazonS3 {
+
+    private static final Date LAST_MODIFIED = new Date(1000000000000L);
+
+    /** The stored objects, by bucket name and key, in the order they are listed. */
+    private final Map<String, StoredObject> objects = new TreeMap<String, StoredObject>();
+    private final List<GetObjectRequest> getObjectRequests = new ArrayList<GetObjectRequest>();
+    /** The parts of the multipart uploads in progress, by upload id and part number. */
+    private final Map<String, Map<Integer, byte[]>> uploads = new HashMap<String, Map<Integer, byte[]>>();
+    private int nextUploadId;
+    private int listPageSize = 1000;
+
+    /**
+     * Stores an object, as if it had been uploaded in parts of the given size,
+     * or with a single PUT if the part size is zero.
+     */
+    synchronized void putObject(String bucketName, String key, byte[] content, int partSize) {
+        String eTag = BinaryUtils.toHex(Md5Utils.computeMD5Hash(content));
+        if (partSize > 0) {
+            eTag += "-" + (content.length + partSize - 1) / partSize;
+        }
+        objects.put(bucketName + "/" + key, new StoredObject(content, partSize, eTag));
+    }
+
+    synchronized List<GetObjectRequest> getGetObjectRequests() {
+        return new ArrayList<GetObjectRequest>(getObjectRequests);
+    }
+
+    /**
+     * Returns the content of the given object.
+     */
+    synchronized byte[] getContent(String bucketName, String key) {
+        return getStoredObject(bucketName, key).content;
+    }
+
+    /**
+     * Returns the number of multipart uploads that have been initiated but
+     * neither completed nor aborted.
+     */
+    synchronized int getInProgressUploadCount() {
+        return uploads.size();
+    }
+
+    /**
+     * Sets the maximum number of keys and common prefixes in a page of an
+     * object listing.
+     */
+    synchronized void setListPageSize(int listPageSize) {
+        this.listPageSize = listPageSize;
+    }
+
+    @Override
+    public synchronized ObjectListing listObjects(ListObjectsRequest request) {
+        String bucketPrefix = request.getBucketName() + "/";
+        String prefix = request.getPrefix() == null ? "" : request.getPrefix();
+        String marker = request.getMarker() == null ? "" : request.getMarker();
+        int maxKeys = request.getMaxKeys() == null
+                ? listPageSize : Math.min(request.getMaxKeys(), listPageSize);
+
+        ObjectListing listing = new ObjectListing();
+        listing.setBucketName(request.getBucketName());
+        listing.setPrefix(request.getPrefix());
+        listing.setMarker(request.getMarker());
+        listing.setDelimiter(request.getDelimiter());
+        listing.setMaxKeys(maxKeys);
+        LinkedHashSet<String> commonPrefixes = new LinkedHashSet<String>();
+        int count = 0;
+        for (Map.Entry<String, StoredObject> entry : objects.entrySet()) {
+            if (!entry.getKey().startsWith(bucketPrefix + prefix)) {
+                continue;
+            }
+            String key = entry.getKey().substring(bucketPrefix.length());
+            // Keys under a common prefix are rolled up into that prefix
+            String name = key;
+            if (request.getDelimiter() != null) {
+                int end = key.indexOf(request.getDelimiter(), prefix.length());
+                if (end >= 0) {
+                    name = key.substring(0, end + request.getDelimiter().length());
+                }
+            }
+            if (name.compareTo(marker) <= 0 || commonPrefixes.contains(name)) {
+                continue;
+            }
+            if (count == maxKeys) {
+                listing.setTruncated(true);
+                break;
+            }
+            count++;
+            listing.setNextMarker(name);
+            if (!name.equals(key)) {
+                commonPrefixes.add(name);
+                continue;
+            }
+            S3ObjectSummary summary = new S3ObjectSummary();
+            summary.setBucketName(request.getBucketName());
+            summary.setKey(key);
+            summary.setSize(entry.getValue().content.length);
+            summary.setETag(entry.getValue().eTag);
+            summary.setLastModified(LAST_MODIFIED);
+            listing.getObjectSummaries().add(summary);
+        }
+        listing.setCommonPrefixes(new ArrayList<String>(commonPrefixes));
+        return listing;
+    }
+
+    @Override
+    public ObjectListing listNextBatchOfObjects(ListNextBatchOfObjectsRequest request) {
+        return listObjects(request.toListObjectsRequest());
+    }
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        byte[] content = read(request.getInputStream(), Long.MAX_VALUE);
+        putObject(request.getBucketName(), request.getKey(), content, 0);
+        PutObjectResult result = new PutObjectResult();
+        result.setETag(BinaryUtils.toHex(Md5Utils.computeMD5Hash(content)));
+        return result;
+    }
+
+    @Override
+    public synchronized InitiateMultipartUploadResult initiateMultipartUpload(
+            InitiateMultipartUploadRequest request) {
+        String uploadId = "upload-" + nextUploadId++;
+        uploads.put(uploadId, new TreeMap<Integer, byte[]>());
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        byte[] content = read(request.getInputStream(), request.getPartSize());
+        synchronized (this) {
+            getUpload(request.getUploadId()).put(request.getPartNumber(), content);
+        }
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag(BinaryUtils.toHex(Md5Utils.computeMD5Hash(content)));
+        return result;
+    }
+
+    @Override
+    public synchronized CompleteMultipartUploadResult completeMultipartUpload(
+            CompleteMultipartUploadRequest request) {
+        Map<Integer, byte[]> parts = getUpload(request.getUploadId());
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        int previous = 0;
+        for (PartETag partETag : request.getPartETags()) {
+            byte[] part = parts.get(partETag.getPartNumber());
+            if (part == null || partETag.getPartNumber() <= previous
+                    || !partETag.getETag().equals(BinaryUtils.toHex(Md5Utils.computeMD5Hash(part)))) {
+                AmazonServiceException e = new AmazonServiceException("Invalid part " + partETag.getPartNumber());
+                e.setStatusCode(400);
+                e.setErrorCode("InvalidPart");
+                throw e;
+            }
+            previous = partETag.getPartNumber();
+            content.write(part, 0, part.length);
+        }
+        uploads.remove(request.getUploadId());
+        putObject(request.getBucketName(), request.getKey(), content.toByteArray(),
+                parts.get(1).length);
+
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setETag(objects.get(request.getBucketName() + "/" + request.getKey()).eTag);
+        return result;
+    }
+
+    @Override
+    public synchronized void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        getUpload(request.getUploadId());
+        uploads.remove(request.getUploadId());
+    }
+
+    private Map<Integer, byte[]> getUpload(String uploadId) {
+        Map<Integer, byte[]> parts = uploads.get(uploadId);
+        if (parts == null) {
+            AmazonServiceException e = new AmazonServiceException("The specified upload does not exist.");
+            e.setStatusCode(404);
+            e.setErrorCode("NoSuchUpload");
+            throw e;
+        }
+        return parts;
+    }
+
+    private static byte[] read(InputStream in, long limit) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try {
+            int read;
+            while (out.size() < limit
+                    && (read = in.read(buffer, 0, (int) Math.min(buffer.length, limit - out.size()))) != -1) {
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to read the request content", e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public synchronized ObjectMetadata getObjectMetadata(GetObjectMetadataRequest request) {
+        StoredObject object = getStoredObject(request.getBucketName(), request.getKey());
+        if (request.getPartNumber() == null) {
+            return object.metadata(0, object.content.length - 1, false);
+        }
+        long[] range = object.partRange(request.getPartNumber());
+        return object.metadata(range[0], range[1], true);
+    }
+
+    @Override
+    public S3Object getObject(GetObjectRequest request) {
+        final StoredObject object;
+        synchronized (this) {
+            getObjectRequests.add(request);
+            object = getStoredObject(request.getBucketName(), request.getKey());
+        }
+        List<String> matchingETags = request.getMatchingETagConstraints();
+        if (matchingETags != null && !matchingETags.isEmpty() && !matchingETags.contains(object.eTag)) {
+            // The precondition failed
+            return null;
+        }
+        long first = 0;
+        long last = object.content.length - 1;
+        if (request.getPartNumber() != null) {
+            long[] range = object.partRange(request.getPartNumber());
+            first = range[0];
+            last = range[1];
+        } else if (request.getRange() != null) {
+            first = request.getRange()[0];
+            last = Math.min(request.getRange()[1], last);
+        }
+        S3Object s3Object = new S3Object();
+        s3Object.setBucketName(request.getBucketName());
+        s3Object.setKey(request.getKey());
+        s3Object.setObjectMetadata(object.metadata(first, last,
+                request.getPartNumber() != null || request.getRange() != null));
+        s3Object.setObjectContent(new S3ObjectInputStream(
+                new ByteArrayInputStream(object.content, (int) first, (int) (last - first + 1)),
+                new HttpGet("http://localhost/" + request.getKey())));
+        return s3Object;
+    }
+
+    private StoredObject getStoredObject(String bucketName, String key) {
+        StoredObject object = objects.get(bucketName + "/" + key);
+        if (object == null) {
+            AmazonServiceException e = new AmazonServiceException("The specified key does not exist.");
+            e.setStatusCode(404);
+            e.setErrorCode("NoSuchKey");
+            throw e;
+        }
+        return object;
+    }
+
+    private static final class StoredObject {
+        private final byte[] content;
+        private final int partSize;
+        private final String eTag;
+
+        private StoredObject(byte[] content, int partSize, String eTag) {
+            this.content = content;
+            this.partSize = partSize;
+            this.eTag = eTag;
+        }
+
+        private long[] partRange(int partNumber) {
+            if (partSize == 0) {
+                return new long[] { 0, content.length - 1 };
+            }
+            long first = (long) (partNumber - 1) * partSize;
+            return new long[] { first, Math.min(first + partSize, content.length) - 1 };
+        }
+
+        private ObjectMetadata metadata(long first, long last, boolean partial) {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(last - first + 1);
+            metadata.setLastModified(LAST_MODIFIED);
+            metadata.setHeader(Headers.ETAG, eTag);
+            if (partial) {
+                metadata.setHeader(Headers.CONTENT_RANGE, "bytes " + first + "-" + last + "/" + content.length);
+                if (partSize > 0) {
+                    metadata.setHeader(Headers.S3_PARTS_COUNT, (content.length + partSize - 1) / partSize);
+                }
+            }
+            return metadata;
+        }
+    }
+}
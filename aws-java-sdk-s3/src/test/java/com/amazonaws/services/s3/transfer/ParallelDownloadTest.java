@@ -0,0 +1,199 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.transfer.internal.DownloadImpl;
+import com.amazonaws.util.IOUtils;
+
+public class ParallelDownloadTest {
+
+    private static final String BUCKET = "bucket";
+    private static final int RANGE_SIZE = 1024;
+
+    private final InMemoryS3 s3 = new InMemoryS3();
+    private File directory;
+    private TransferManager tm;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = File.createTempFile("parallel-download", "");
+        directory.delete();
+        directory.mkdirs();
+    }
+
+    @After
+    public void tearDown() {
+        if (tm != null) {
+            tm.shutdownNow(false);
+        }
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    @Test(timeout = 10000)
+    public void downloadsOfNonMultipartObject_FetchRangesMatchingTheETag() throws Exception {
+        byte[] content = putObject("key", 10 * RANGE_SIZE + 100, 0);
+        tm = createTransferManager(4);
+
+        File file = new File(directory, "key");
+        tm.download(BUCKET, "key", file).waitForCompletion();
+
+        assertArrayEquals(content, readFile(file));
+        List<GetObjectRequest> requests = s3.getGetObjectRequests();
+        assertEquals(11, requests.size());
+        String eTag = s3.getObjectMetadata(BUCKET, "key").getETag();
+        for (GetObjectRequest request : requests) {
+            assertEquals(Collections.singletonList(eTag), request.getMatchingETagConstraints());
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void downloadOfMultipartObject_TracksTheLastFullyDownloadedPart() throws Exception {
+        byte[] content = putObject("key", 5 * RANGE_SIZE + 10, 2 * RANGE_SIZE);
+        tm = createTransferManager(4);
+
+        File file = new File(directory, "key");
+        Download download = tm.download(BUCKET, "key", file);
+        download.waitForCompletion();
+
+        assertArrayEquals(content, readFile(file));
+        assertEquals(3, s3.getGetObjectRequests().size());
+        @SuppressWarnings("deprecation")
+        Integer lastFullyDownloadedPartNumber = ((DownloadImpl) download).getLastFullyDownloadedPartNumber();
+        assertEquals(Integer.valueOf(3), lastFullyDownloadedPartNumber);
+    }
+
+    /**
+     * More downloads than threads in the pool must not deadlock it, even
+     * though every download has more ranges than the pool has threads.
+     */
+    @Test(timeout = 10000)
+    public void moreDownloadsThanPoolThreads_AllComplete() throws Exception {
+        tm = createTransferManager(2);
+        List<byte[]> contents = new ArrayList<byte[]>();
+        List<Download> downloads = new ArrayList<Download>();
+        for (int i = 0; i < 6; i++) {
+            contents.add(putObject("key" + i, 8 * RANGE_SIZE, 0));
+        }
+        for (int i = 0; i < 6; i++) {
+            downloads.add(tm.download(BUCKET, "key" + i, new File(directory, "key" + i)));
+        }
+        for (int i = 0; i < 6; i++) {
+            downloads.get(i).waitForCompletion();
+            assertArrayEquals(contents.get(i), readFile(new File(directory, "key" + i)));
+        }
+    }
+
+    /**
+     * A download paused while it was running in series is resumed in series,
+     * appending the missing bytes to the file, even when the object is now
+     * large enough to be downloaded in parallel.
+     */
+    @Test(timeout = 10000)
+    public void resumeOfSerialDownload_AppendsTheMissingBytes() throws Exception {
+        byte[] content = putObject("key", 10 * RANGE_SIZE, 0);
+        File file = new File(directory, "key");
+        writeFile(file, Arrays.copyOf(content, 3000));
+        long lastModified = s3.getObjectMetadata(BUCKET, "key").getLastModified().getTime();
+        PersistableDownload paused = new PersistableDownload(BUCKET, "key", null, null, null, false,
+                file.getAbsolutePath(), lastModified, null);
+        tm = createTransferManager(4);
+
+        Download download = tm.resumeDownload(
+                PersistableTransfer.<PersistableDownload> deserializeFrom(paused.serialize()));
+        download.waitForCompletion();
+
+        assertArrayEquals(content, readFile(file));
+        List<GetObjectRequest> requests = s3.getGetObjectRequests();
+        assertEquals(1, requests.size());
+        assertArrayEquals(new long[] { 3000, content.length - 1 }, requests.get(0).getRange());
+        assertNull(((DownloadImpl) download).getCompletedRanges());
+    }
+
+    @Test(timeout = 10000)
+    public void resumeOfParallelDownload_FetchesTheMissingRanges() throws Exception {
+        byte[] content = putObject("key", 10 * RANGE_SIZE, 0);
+        File file = new File(directory, "key");
+        byte[] partial = content.clone();
+        Arrays.fill(partial, 2 * RANGE_SIZE, 5 * RANGE_SIZE, (byte) 0);
+        writeFile(file, partial);
+        long lastModified = s3.getObjectMetadata(BUCKET, "key").getLastModified().getTime();
+        PersistableDownload paused = new PersistableDownload(BUCKET, "key", null, null, null, false,
+                file.getAbsolutePath(), lastModified, new long[][] {
+                        { 0, 2 * RANGE_SIZE - 1 }, { 5 * RANGE_SIZE, content.length - 1 } });
+        tm = createTransferManager(4);
+
+        tm.resumeDownload(PersistableTransfer.<PersistableDownload> deserializeFrom(paused.serialize()))
+                .waitForCompletion();
+
+        assertArrayEquals(content, readFile(file));
+        assertEquals(3, s3.getGetObjectRequests().size());
+    }
+
+    private TransferManager createTransferManager(int threads) {
+        TransferManager transferManager = new TransferManager(s3, Executors.newFixedThreadPool(threads));
+        TransferManagerConfiguration configuration = new TransferManagerConfiguration();
+        configuration.setDownloadRangeSize(RANGE_SIZE);
+        transferManager.setConfiguration(configuration);
+        return transferManager;
+    }
+
+    private byte[] putObject(String key, int length, int partSize) {
+        byte[] content = new byte[length];
+        new Random(key.hashCode()).nextBytes(content);
+        s3.putObject(BUCKET, key, content, partSize);
+        return content;
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            return IOUtils.toByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void writeFile(File file, byte[] content) throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+    }
+}
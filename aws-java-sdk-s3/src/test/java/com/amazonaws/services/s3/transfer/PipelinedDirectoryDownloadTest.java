@@ -0,0 +1,278 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListNextBatchOfObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.services.s3.transfer.internal.MultipleFileDownloadImpl;
+import com.amazonaws.util.IOUtils;
+
+public class PipelinedDirectoryDownloadTest {
+
+    private static final String BUCKET = "bucket";
+    private static final int PAGE_SIZE = 2;
+
+    private final Map<String, byte[]> contents = new HashMap<String, byte[]>();
+    /** Released by the tests to let the second page of a listing through. */
+    private final CountDownLatch secondPage = new CountDownLatch(1);
+    private final CountDownLatch firstDownload = new CountDownLatch(1);
+    private final AtomicInteger nextPages = new AtomicInteger();
+    private final AtomicInteger inflightGets = new AtomicInteger();
+    private final AtomicInteger maxInflightGets = new AtomicInteger();
+    private volatile boolean blockSecondPage;
+    private volatile boolean failSecondPage;
+    private volatile long getDelayMillis;
+
+    private final InMemoryS3 s3 = new InMemoryS3() {
+        @Override
+        public ObjectListing listNextBatchOfObjects(ListNextBatchOfObjectsRequest request) {
+            nextPages.incrementAndGet();
+            if (failSecondPage) {
+                throw new AmazonServiceException("Listing failed");
+            }
+            if (blockSecondPage) {
+                try {
+                    secondPage.await();
+                } catch (InterruptedException e) {
+                    throw new AmazonClientException("Interrupted", e);
+                }
+            }
+            return super.listNextBatchOfObjects(request);
+        }
+
+        @Override
+        public S3Object getObject(GetObjectRequest request) {
+            int inflight = inflightGets.incrementAndGet();
+            try {
+                int max;
+                while (inflight > (max = maxInflightGets.get())
+                        && !maxInflightGets.compareAndSet(max, inflight)) {
+                }
+                firstDownload.countDown();
+                if (getDelayMillis > 0) {
+                    Thread.sleep(getDelayMillis);
+                }
+                return super.getObject(request);
+            } catch (InterruptedException e) {
+                throw new AmazonClientException("Interrupted", e);
+            } finally {
+                inflightGets.decrementAndGet();
+            }
+        }
+    };
+
+    private File directory;
+    private TransferManager tm;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = File.createTempFile("pipelined-download", "");
+        directory.delete();
+        directory.mkdirs();
+        s3.setListPageSize(PAGE_SIZE);
+    }
+
+    @After
+    public void tearDown() {
+        secondPage.countDown();
+        if (tm != null) {
+            tm.shutdownNow(false);
+        }
+        delete(directory);
+    }
+
+    @Test(timeout = 10000)
+    public void directoryWithSubdirectories_DownloadsEveryObject() throws Exception {
+        putObjects("dir/a", 3);
+        putObjects("dir/sub/b", 3);
+        putObjects("dir/sub/deeper/c", 2);
+        putObjects("other/d", 1);
+        tm = createTransferManager(4, 2);
+
+        MultipleFileDownload download = tm.downloadDirectory(BUCKET, "dir/", directory);
+        download.waitForCompletion();
+
+        assertEquals(TransferState.Completed, download.getState());
+        assertEquals(contents.size() - 1, countFiles(directory));
+        for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+            if (entry.getKey().startsWith("dir/")) {
+                assertArrayEquals(entry.getValue(), readFile(new File(directory, entry.getKey())));
+            }
+        }
+        long totalSize = 0;
+        for (Map.Entry<String, byte[]> entry : contents.entrySet()) {
+            if (entry.getKey().startsWith("dir/")) {
+                totalSize += entry.getValue().length;
+            }
+        }
+        assertEquals(totalSize, download.getProgress().getTotalBytesToTransfer());
+    }
+
+    @Test(timeout = 10000)
+    public void downloadsStartWhileListingIsPaging() throws Exception {
+        putObjects("dir/a", 3 * PAGE_SIZE);
+        blockSecondPage = true;
+        tm = createTransferManager(4, 2);
+
+        MultipleFileDownload download = tm.downloadDirectory(BUCKET, "dir/", directory);
+        // The listing can't get past its first page until a download starts
+        assertTrue(firstDownload.await(5, TimeUnit.SECONDS));
+        assertFalse(download.isDone());
+        secondPage.countDown();
+        download.waitForCompletion();
+
+        assertEquals(TransferState.Completed, download.getState());
+        assertEquals(3 * PAGE_SIZE, countFiles(directory));
+    }
+
+    @Test(timeout = 10000)
+    public void listingFailure_IsThrownFromWaitForCompletion() throws Exception {
+        putObjects("dir/a", 3 * PAGE_SIZE);
+        failSecondPage = true;
+        tm = createTransferManager(4, 2);
+
+        MultipleFileDownload download = tm.downloadDirectory(BUCKET, "dir/", directory);
+        try {
+            download.waitForCompletion();
+            fail("Expected the listing failure");
+        } catch (AmazonServiceException expected) {
+            assertEquals("Listing failed", expected.getErrorMessage());
+        }
+        assertEquals(TransferState.Failed, download.getState());
+    }
+
+    @Test(timeout = 10000)
+    public void abortDuringListing_StopsListingAndDownloads() throws Exception {
+        putObjects("dir/a", 3 * PAGE_SIZE);
+        blockSecondPage = true;
+        tm = createTransferManager(4, 2);
+
+        MultipleFileDownload download = tm.downloadDirectory(BUCKET, "dir/", directory);
+        assertTrue(firstDownload.await(5, TimeUnit.SECONDS));
+        download.abort();
+        secondPage.countDown();
+        while (!download.isDone()) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(TransferState.Canceled, download.getState());
+        // The page being listed during the abort is the last one
+        assertEquals(1, nextPages.get());
+        for (GetObjectRequest request : s3.getGetObjectRequests()) {
+            assertTrue(request.getKey(), request.getKey().compareTo("dir/a" + PAGE_SIZE) < 0);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void inflightDownloads_AreBoundedByConfiguration() throws Exception {
+        putObjects("dir/a", 5);
+        putObjects("dir/sub/b", 5);
+        getDelayMillis = 20;
+        tm = createTransferManager(8, 2);
+
+        tm.downloadDirectory(BUCKET, "dir/", directory).waitForCompletion();
+
+        assertEquals(10, countFiles(directory));
+        assertTrue("Max in-flight downloads: " + maxInflightGets.get(), maxInflightGets.get() <= 2);
+    }
+
+    @Test(timeout = 10000)
+    public void cancelAfterCompletion_ReturnsFalse() throws Exception {
+        putObjects("dir/a", 2);
+        tm = createTransferManager(2, 2);
+
+        MultipleFileDownload download = tm.downloadDirectory(BUCKET, "dir/", directory);
+        download.waitForCompletion();
+
+        assertFalse(((MultipleFileDownloadImpl) download).getMonitor().getFuture().cancel(true));
+        assertSame(TransferState.Completed, download.getState());
+    }
+
+    private TransferManager createTransferManager(int threads, int maxInflightDownloads) {
+        TransferManager transferManager = new TransferManager(s3, Executors.newFixedThreadPool(threads));
+        TransferManagerConfiguration configuration = new TransferManagerConfiguration();
+        configuration.setPipelineDirectoryDownloads(true);
+        configuration.setDirectoryListingThreads(2);
+        configuration.setMaxInflightDirectoryDownloads(maxInflightDownloads);
+        transferManager.setConfiguration(configuration);
+        return transferManager;
+    }
+
+    private void putObjects(String keyPrefix, int count) {
+        for (int i = 0; i < count; i++) {
+            String key = keyPrefix + i;
+            byte[] content = new byte[100 + i];
+            new Random(key.hashCode()).nextBytes(content);
+            s3.putObject(BUCKET, key, content, 0);
+            contents.put(key, content);
+        }
+    }
+
+    private static int countFiles(File file) {
+        if (file.isFile()) {
+            return 1;
+        }
+        int count = 0;
+        for (File child : file.listFiles()) {
+            count += countFiles(child);
+        }
+        return count;
+    }
+
+    private static void delete(File file) {
+        if (file.isDirectory()) {
+            for (File child : file.listFiles()) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            return IOUtils.toByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+}
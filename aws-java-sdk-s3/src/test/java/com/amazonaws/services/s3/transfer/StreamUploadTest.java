@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+
+public class StreamUploadTest {
+
+    private static final String BUCKET = "bucket";
+    private static final int PART_SIZE = 1024;
+
+    private InMemoryS3 s3 = new InMemoryS3();
+    private TransferManager tm;
+
+    @After
+    public void tearDown() {
+        if (tm != null) {
+            tm.shutdownNow(false);
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void streamUploadsOnSingleThread_Complete() throws Exception {
+        tm = createTransferManager(1, 2);
+
+        byte[] content = content("key", 5 * PART_SIZE + 100);
+        upload("key", content).waitForCompletion();
+
+        assertArrayEquals(content, s3.getContent(BUCKET, "key"));
+        assertEquals(0, s3.getInProgressUploadCount());
+    }
+
+    @Test(timeout = 10000)
+    public void moreConcurrentStreamUploadsThanThreads_AllComplete() throws Exception {
+        tm = createTransferManager(2, 2);
+
+        List<byte[]> contents = new ArrayList<byte[]>();
+        List<Upload> uploads = new ArrayList<Upload>();
+        for (int i = 0; i < 6; i++) {
+            byte[] content = content("key" + i, 8 * PART_SIZE + i);
+            contents.add(content);
+            uploads.add(upload("key" + i, content));
+        }
+        for (Upload upload : uploads) {
+            upload.waitForCompletion();
+            assertEquals(TransferState.Completed, upload.getState());
+        }
+
+        for (int i = 0; i < 6; i++) {
+            assertArrayEquals(contents.get(i), s3.getContent(BUCKET, "key" + i));
+        }
+        assertEquals(0, s3.getInProgressUploadCount());
+    }
+
+    @Test(timeout = 10000)
+    public void streamEndingOnPartBoundary_UploadsFullPartsOnly() throws Exception {
+        tm = createTransferManager(2, 2);
+
+        byte[] content = content("key", 6 * PART_SIZE);
+        upload("key", content).waitForCompletion();
+
+        assertArrayEquals(content, s3.getContent(BUCKET, "key"));
+        assertEquals("6", s3.getObjectMetadata(BUCKET, "key").getETag().split("-")[1]);
+    }
+
+    @Test(timeout = 10000)
+    public void streamWithinThreshold_UploadsInOneChunk() throws Exception {
+        tm = createTransferManager(2, 4);
+
+        byte[] content = content("key", 2 * PART_SIZE);
+        upload("key", content).waitForCompletion();
+
+        assertArrayEquals(content, s3.getContent(BUCKET, "key"));
+        assertEquals(-1, s3.getObjectMetadata(BUCKET, "key").getETag().indexOf('-'));
+    }
+
+    @Test(timeout = 10000)
+    public void failedPart_FailsAndAbortsUpload() throws Exception {
+        s3 = new InMemoryS3() {
+            @Override
+            public UploadPartResult uploadPart(UploadPartRequest request) {
+                if (request.getPartNumber() == 4) {
+                    throw new AmazonServiceException("Part failed");
+                }
+                return super.uploadPart(request);
+            }
+        };
+        tm = createTransferManager(2, 2);
+
+        Upload upload = upload("key", content("key", 8 * PART_SIZE));
+        try {
+            upload.waitForCompletion();
+            fail("Expected the upload to fail");
+        } catch (AmazonClientException expected) {
+        }
+
+        assertEquals(TransferState.Failed, upload.getState());
+        assertEquals(0, s3.getInProgressUploadCount());
+    }
+
+    private TransferManager createTransferManager(int threads, int bufferCount) {
+        TransferManager transferManager = new TransferManager(s3, Executors.newFixedThreadPool(threads));
+        TransferManagerConfiguration configuration = new TransferManagerConfiguration();
+        configuration.setMinimumUploadPartSize(PART_SIZE);
+        configuration.setMultipartUploadThreshold((long) 2 * PART_SIZE);
+        configuration.setStreamUploadBufferCount(bufferCount);
+        transferManager.setConfiguration(configuration);
+        return transferManager;
+    }
+
+    /**
+     * Uploads the given content as a stream of unknown length.
+     */
+    private Upload upload(String key, byte[] content) {
+        return tm.upload(BUCKET, key, new ByteArrayInputStream(content), new ObjectMetadata());
+    }
+
+    private static byte[] content(String key, int length) {
+        byte[] content = new byte[length];
+        new Random(key.hashCode()).nextBytes(content);
+        return content;
+    }
+}
@@ -47,14 +47,15 @@ public class DescribeProductViewResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ProductViewSummary", targetDepth)) {
-                    context.nextToken();
-                    describeProductViewResult.setProductViewSummary(ProductViewSummaryJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ProvisioningArtifacts", targetDepth)) {
-                    context.nextToken();
-                    describeProductViewResult.setProvisioningArtifacts(new ListUnmarshaller<ProvisioningArtifact>(ProvisioningArtifactJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ProductViewSummary".equals(fieldName)) {
+                        context.nextToken();
+                        describeProductViewResult.setProductViewSummary(ProductViewSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ProvisioningArtifacts".equals(fieldName)) {
+                        context.nextToken();
+                        describeProductViewResult.setProvisioningArtifacts(provisioningArtifactsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeProductViewResultJsonUnmarshaller implements Unmarshaller<D
         return describeProductViewResult;
     }
 
+    private final Unmarshaller<java.util.List<ProvisioningArtifact>, JsonUnmarshallerContext> provisioningArtifactsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ProvisioningArtifact>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ProvisioningArtifact>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ProvisioningArtifact>(ProvisioningArtifactJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeProductViewResultJsonUnmarshaller instance;
 
     public static DescribeProductViewResultJsonUnmarshaller getInstance() {
@@ -47,20 +47,18 @@ public class DescribeProvisioningParametersResultJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ProvisioningArtifactParameters", targetDepth)) {
-                    context.nextToken();
-                    describeProvisioningParametersResult.setProvisioningArtifactParameters(new ListUnmarshaller<ProvisioningArtifactParameter>(
-                            ProvisioningArtifactParameterJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ConstraintSummaries", targetDepth)) {
-                    context.nextToken();
-                    describeProvisioningParametersResult.setConstraintSummaries(new ListUnmarshaller<ConstraintSummary>(ConstraintSummaryJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("UsageInstructions", targetDepth)) {
-                    context.nextToken();
-                    describeProvisioningParametersResult.setUsageInstructions(new ListUnmarshaller<UsageInstruction>(UsageInstructionJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ProvisioningArtifactParameters".equals(fieldName)) {
+                        context.nextToken();
+                        describeProvisioningParametersResult.setProvisioningArtifactParameters(provisioningArtifactParametersUnmarshaller.unmarshall(context));
+                    } else if ("ConstraintSummaries".equals(fieldName)) {
+                        context.nextToken();
+                        describeProvisioningParametersResult.setConstraintSummaries(constraintSummariesUnmarshaller.unmarshall(context));
+                    } else if ("UsageInstructions".equals(fieldName)) {
+                        context.nextToken();
+                        describeProvisioningParametersResult.setUsageInstructions(usageInstructionsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -74,6 +72,25 @@ public class DescribeProvisioningParametersResultJsonUnmarshaller implements Unm
         return describeProvisioningParametersResult;
     }
 
+    private final Unmarshaller<java.util.List<ProvisioningArtifactParameter>, JsonUnmarshallerContext> provisioningArtifactParametersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ProvisioningArtifactParameter>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ProvisioningArtifactParameter>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ProvisioningArtifactParameter>(ProvisioningArtifactParameterJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<ConstraintSummary>, JsonUnmarshallerContext> constraintSummariesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConstraintSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConstraintSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConstraintSummary>(ConstraintSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<UsageInstruction>, JsonUnmarshallerContext> usageInstructionsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<UsageInstruction>>() {
+        @Override
+        protected Unmarshaller<java.util.List<UsageInstruction>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<UsageInstruction>(UsageInstructionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeProvisioningParametersResultJsonUnmarshaller instance;
 
     public static DescribeProvisioningParametersResultJsonUnmarshaller getInstance() {
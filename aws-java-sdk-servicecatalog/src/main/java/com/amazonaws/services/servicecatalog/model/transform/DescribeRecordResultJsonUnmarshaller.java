@@ -47,17 +47,18 @@ public class DescribeRecordResultJsonUnmarshaller implements Unmarshaller<Descri
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordDetail", targetDepth)) {
-                    context.nextToken();
-                    describeRecordResult.setRecordDetail(RecordDetailJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("RecordOutputs", targetDepth)) {
-                    context.nextToken();
-                    describeRecordResult.setRecordOutputs(new ListUnmarshaller<RecordOutput>(RecordOutputJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    describeRecordResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordDetail".equals(fieldName)) {
+                        context.nextToken();
+                        describeRecordResult.setRecordDetail(RecordDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("RecordOutputs".equals(fieldName)) {
+                        context.nextToken();
+                        describeRecordResult.setRecordOutputs(recordOutputsUnmarshaller.unmarshall(context));
+                    } else if ("NextPageToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeRecordResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class DescribeRecordResultJsonUnmarshaller implements Unmarshaller<Descri
         return describeRecordResult;
     }
 
+    private final Unmarshaller<java.util.List<RecordOutput>, JsonUnmarshallerContext> recordOutputsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RecordOutput>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RecordOutput>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RecordOutput>(RecordOutputJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeRecordResultJsonUnmarshaller instance;
 
     public static DescribeRecordResultJsonUnmarshaller getInstance() {
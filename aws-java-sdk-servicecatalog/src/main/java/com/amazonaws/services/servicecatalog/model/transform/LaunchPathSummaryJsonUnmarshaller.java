@@ -47,22 +47,21 @@ public class LaunchPathSummaryJsonUnmarshaller implements Unmarshaller<LaunchPat
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    launchPathSummary.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConstraintSummaries", targetDepth)) {
-                    context.nextToken();
-                    launchPathSummary.setConstraintSummaries(new ListUnmarshaller<ConstraintSummary>(ConstraintSummaryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    launchPathSummary.setTags(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    launchPathSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        launchPathSummary.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConstraintSummaries".equals(fieldName)) {
+                        context.nextToken();
+                        launchPathSummary.setConstraintSummaries(constraintSummariesUnmarshaller.unmarshall(context));
+                    } else if ("Tags".equals(fieldName)) {
+                        context.nextToken();
+                        launchPathSummary.setTags(tagsUnmarshaller.unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        launchPathSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -76,6 +75,19 @@ public class LaunchPathSummaryJsonUnmarshaller implements Unmarshaller<LaunchPat
         return launchPathSummary;
     }
 
+    private final Unmarshaller<java.util.List<ConstraintSummary>, JsonUnmarshallerContext> constraintSummariesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ConstraintSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ConstraintSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ConstraintSummary>(ConstraintSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static LaunchPathSummaryJsonUnmarshaller instance;
 
     public static LaunchPathSummaryJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListLaunchPathsResultJsonUnmarshaller implements Unmarshaller<ListL
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("LaunchPathSummaries", targetDepth)) {
-                    context.nextToken();
-                    listLaunchPathsResult.setLaunchPathSummaries(new ListUnmarshaller<LaunchPathSummary>(LaunchPathSummaryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    listLaunchPathsResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("LaunchPathSummaries".equals(fieldName)) {
+                        context.nextToken();
+                        listLaunchPathsResult.setLaunchPathSummaries(launchPathSummariesUnmarshaller.unmarshall(context));
+                    } else if ("NextPageToken".equals(fieldName)) {
+                        context.nextToken();
+                        listLaunchPathsResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListLaunchPathsResultJsonUnmarshaller implements Unmarshaller<ListL
         return listLaunchPathsResult;
     }
 
+    private final Unmarshaller<java.util.List<LaunchPathSummary>, JsonUnmarshallerContext> launchPathSummariesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<LaunchPathSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<LaunchPathSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<LaunchPathSummary>(LaunchPathSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListLaunchPathsResultJsonUnmarshaller instance;
 
     public static ListLaunchPathsResultJsonUnmarshaller getInstance() {
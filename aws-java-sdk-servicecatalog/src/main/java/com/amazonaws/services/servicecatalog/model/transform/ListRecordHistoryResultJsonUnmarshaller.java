@@ -47,14 +47,15 @@ public class ListRecordHistoryResultJsonUnmarshaller implements Unmarshaller<Lis
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordDetails", targetDepth)) {
-                    context.nextToken();
-                    listRecordHistoryResult
-                            .setRecordDetails(new ListUnmarshaller<RecordDetail>(RecordDetailJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    listRecordHistoryResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordDetails".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordHistoryResult.setRecordDetails(recordDetailsUnmarshaller.unmarshall(context));
+                    } else if ("NextPageToken".equals(fieldName)) {
+                        context.nextToken();
+                        listRecordHistoryResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListRecordHistoryResultJsonUnmarshaller implements Unmarshaller<Lis
         return listRecordHistoryResult;
     }
 
+    private final Unmarshaller<java.util.List<RecordDetail>, JsonUnmarshallerContext> recordDetailsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RecordDetail>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RecordDetail>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RecordDetail>(RecordDetailJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListRecordHistoryResultJsonUnmarshaller instance;
 
     public static ListRecordHistoryResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class ParameterConstraintsJsonUnmarshaller implements Unmarshaller<Parame
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AllowedValues", targetDepth)) {
-                    context.nextToken();
-                    parameterConstraints.setAllowedValues(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AllowedValues".equals(fieldName)) {
+                        context.nextToken();
+                        parameterConstraints.setAllowedValues(allowedValuesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class ParameterConstraintsJsonUnmarshaller implements Unmarshaller<Parame
         return parameterConstraints;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> allowedValuesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ParameterConstraintsJsonUnmarshaller instance;
 
     public static ParameterConstraintsJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ProductViewAggregationValueJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    productViewAggregationValue.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ApproximateCount", targetDepth)) {
-                    context.nextToken();
-                    productViewAggregationValue.setApproximateCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        productViewAggregationValue.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ApproximateCount".equals(fieldName)) {
+                        context.nextToken();
+                        productViewAggregationValue.setApproximateCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,49 +47,42 @@ public class ProductViewSummaryJsonUnmarshaller implements Unmarshaller<ProductV
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ProductId", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setProductId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Owner", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ShortDescription", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setShortDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Distributor", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setDistributor(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HasDefaultPath", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setHasDefaultPath(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("SupportEmail", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setSupportEmail(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SupportDescription", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setSupportDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SupportUrl", targetDepth)) {
-                    context.nextToken();
-                    productViewSummary.setSupportUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ProductId".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setProductId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Owner".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ShortDescription".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setShortDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Distributor".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setDistributor(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HasDefaultPath".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setHasDefaultPath(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("SupportEmail".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setSupportEmail(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SupportDescription".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setSupportDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SupportUrl".equals(fieldName)) {
+                        context.nextToken();
+                        productViewSummary.setSupportUrl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,41 +47,36 @@ public class ProvisionedProductDetailJsonUnmarshaller implements Unmarshaller<Pr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    provisionedProductDetail.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Arn", targetDepth)) {
-                    context.nextToken();
-                    provisionedProductDetail.setArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    provisionedProductDetail.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Id", targetDepth)) {
-                    context.nextToken();
-                    provisionedProductDetail.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    provisionedProductDetail.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StatusMessage", targetDepth)) {
-                    context.nextToken();
-                    provisionedProductDetail.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedTime", targetDepth)) {
-                    context.nextToken();
-                    provisionedProductDetail.setCreatedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("IdempotencyToken", targetDepth)) {
-                    context.nextToken();
-                    provisionedProductDetail.setIdempotencyToken(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastRecordId", targetDepth)) {
-                    context.nextToken();
-                    provisionedProductDetail.setLastRecordId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedProductDetail.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Arn".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedProductDetail.setArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedProductDetail.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Id".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedProductDetail.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedProductDetail.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StatusMessage".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedProductDetail.setStatusMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedTime".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedProductDetail.setCreatedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("IdempotencyToken".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedProductDetail.setIdempotencyToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastRecordId".equals(fieldName)) {
+                        context.nextToken();
+                        provisionedProductDetail.setLastRecordId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
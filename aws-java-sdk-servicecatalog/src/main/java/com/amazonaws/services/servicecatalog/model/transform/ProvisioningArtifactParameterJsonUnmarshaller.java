@@ -47,29 +47,27 @@ public class ProvisioningArtifactParameterJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ParameterKey", targetDepth)) {
-                    context.nextToken();
-                    provisioningArtifactParameter.setParameterKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultValue", targetDepth)) {
-                    context.nextToken();
-                    provisioningArtifactParameter.setDefaultValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ParameterType", targetDepth)) {
-                    context.nextToken();
-                    provisioningArtifactParameter.setParameterType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IsNoEcho", targetDepth)) {
-                    context.nextToken();
-                    provisioningArtifactParameter.setIsNoEcho(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    provisioningArtifactParameter.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ParameterConstraints", targetDepth)) {
-                    context.nextToken();
-                    provisioningArtifactParameter.setParameterConstraints(ParameterConstraintsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ParameterKey".equals(fieldName)) {
+                        context.nextToken();
+                        provisioningArtifactParameter.setParameterKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DefaultValue".equals(fieldName)) {
+                        context.nextToken();
+                        provisioningArtifactParameter.setDefaultValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ParameterType".equals(fieldName)) {
+                        context.nextToken();
+                        provisioningArtifactParameter.setParameterType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IsNoEcho".equals(fieldName)) {
+                        context.nextToken();
+                        provisioningArtifactParameter.setIsNoEcho(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        provisioningArtifactParameter.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ParameterConstraints".equals(fieldName)) {
+                        context.nextToken();
+                        provisioningArtifactParameter.setParameterConstraints(ParameterConstraintsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,57 +47,48 @@ public class RecordDetailJsonUnmarshaller implements Unmarshaller<RecordDetail,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordId", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setRecordId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ProvisionedProductName", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setProvisionedProductName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedTime", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setCreatedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("UpdatedTime", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setUpdatedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ProvisionedProductType", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setProvisionedProductType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RecordType", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setRecordType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ProvisionedProductId", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setProvisionedProductId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ProductId", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setProductId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ProvisioningArtifactId", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setProvisioningArtifactId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PathId", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setPathId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RecordErrors", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setRecordErrors(new ListUnmarshaller<RecordError>(RecordErrorJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("RecordTags", targetDepth)) {
-                    context.nextToken();
-                    recordDetail.setRecordTags(new ListUnmarshaller<RecordTag>(RecordTagJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordId".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setRecordId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ProvisionedProductName".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setProvisionedProductName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedTime".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setCreatedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("UpdatedTime".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setUpdatedTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ProvisionedProductType".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setProvisionedProductType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RecordType".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setRecordType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ProvisionedProductId".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setProvisionedProductId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ProductId".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setProductId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ProvisioningArtifactId".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setProvisioningArtifactId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PathId".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setPathId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RecordErrors".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setRecordErrors(recordErrorsUnmarshaller.unmarshall(context));
+                    } else if ("RecordTags".equals(fieldName)) {
+                        context.nextToken();
+                        recordDetail.setRecordTags(recordTagsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -111,6 +102,19 @@ public class RecordDetailJsonUnmarshaller implements Unmarshaller<RecordDetail,
         return recordDetail;
     }
 
+    private final Unmarshaller<java.util.List<RecordError>, JsonUnmarshallerContext> recordErrorsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RecordError>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RecordError>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RecordError>(RecordErrorJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<RecordTag>, JsonUnmarshallerContext> recordTagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RecordTag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RecordTag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RecordTag>(RecordTagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static RecordDetailJsonUnmarshaller instance;
 
     public static RecordDetailJsonUnmarshaller getInstance() {
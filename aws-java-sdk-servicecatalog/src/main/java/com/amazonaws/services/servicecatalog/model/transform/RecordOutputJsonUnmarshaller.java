@@ -47,17 +47,18 @@ public class RecordOutputJsonUnmarshaller implements Unmarshaller<RecordOutput,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("OutputKey", targetDepth)) {
-                    context.nextToken();
-                    recordOutput.setOutputKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputValue", targetDepth)) {
-                    context.nextToken();
-                    recordOutput.setOutputValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    recordOutput.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("OutputKey".equals(fieldName)) {
+                        context.nextToken();
+                        recordOutput.setOutputKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputValue".equals(fieldName)) {
+                        context.nextToken();
+                        recordOutput.setOutputValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        recordOutput.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
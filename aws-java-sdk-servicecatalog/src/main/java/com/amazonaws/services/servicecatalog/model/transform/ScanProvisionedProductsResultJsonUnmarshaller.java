@@ -47,14 +47,15 @@ public class ScanProvisionedProductsResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ProvisionedProducts", targetDepth)) {
-                    context.nextToken();
-                    scanProvisionedProductsResult.setProvisionedProducts(new ListUnmarshaller<ProvisionedProductDetail>(
-                            ProvisionedProductDetailJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    scanProvisionedProductsResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ProvisionedProducts".equals(fieldName)) {
+                        context.nextToken();
+                        scanProvisionedProductsResult.setProvisionedProducts(provisionedProductsUnmarshaller.unmarshall(context));
+                    } else if ("NextPageToken".equals(fieldName)) {
+                        context.nextToken();
+                        scanProvisionedProductsResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ScanProvisionedProductsResultJsonUnmarshaller implements Unmarshall
         return scanProvisionedProductsResult;
     }
 
+    private final Unmarshaller<java.util.List<ProvisionedProductDetail>, JsonUnmarshallerContext> provisionedProductsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ProvisionedProductDetail>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ProvisionedProductDetail>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ProvisionedProductDetail>(ProvisionedProductDetailJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ScanProvisionedProductsResultJsonUnmarshaller instance;
 
     public static ScanProvisionedProductsResultJsonUnmarshaller getInstance() {
@@ -47,20 +47,18 @@ public class SearchProductsResultJsonUnmarshaller implements Unmarshaller<Search
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ProductViewSummaries", targetDepth)) {
-                    context.nextToken();
-                    searchProductsResult.setProductViewSummaries(new ListUnmarshaller<ProductViewSummary>(ProductViewSummaryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("ProductViewAggregations", targetDepth)) {
-                    context.nextToken();
-                    searchProductsResult.setProductViewAggregations(new MapUnmarshaller<String, java.util.List<ProductViewAggregationValue>>(context
-                            .getUnmarshaller(String.class), new ListUnmarshaller<ProductViewAggregationValue>(ProductViewAggregationValueJsonUnmarshaller
-                            .getInstance())).unmarshall(context));
-                }
-                if (context.testExpression("NextPageToken", targetDepth)) {
-                    context.nextToken();
-                    searchProductsResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ProductViewSummaries".equals(fieldName)) {
+                        context.nextToken();
+                        searchProductsResult.setProductViewSummaries(productViewSummariesUnmarshaller.unmarshall(context));
+                    } else if ("ProductViewAggregations".equals(fieldName)) {
+                        context.nextToken();
+                        searchProductsResult.setProductViewAggregations(productViewAggregationsUnmarshaller.unmarshall(context));
+                    } else if ("NextPageToken".equals(fieldName)) {
+                        context.nextToken();
+                        searchProductsResult.setNextPageToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -74,6 +72,21 @@ public class SearchProductsResultJsonUnmarshaller implements Unmarshaller<Search
         return searchProductsResult;
     }
 
+    private final Unmarshaller<java.util.List<ProductViewSummary>, JsonUnmarshallerContext> productViewSummariesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ProductViewSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ProductViewSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ProductViewSummary>(ProductViewSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.Map<String, java.util.List<ProductViewAggregationValue>>, JsonUnmarshallerContext> productViewAggregationsUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<ProductViewAggregationValue>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<ProductViewAggregationValue>>, JsonUnmarshallerContext> createUnmarshaller(
+                JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<ProductViewAggregationValue>>(context.getUnmarshaller(String.class),
+                    new ListUnmarshaller<ProductViewAggregationValue>(ProductViewAggregationValueJsonUnmarshaller.getInstance()));
+        }
+    };
+
     private static SearchProductsResultJsonUnmarshaller instance;
 
     public static SearchProductsResultJsonUnmarshaller getInstance() {
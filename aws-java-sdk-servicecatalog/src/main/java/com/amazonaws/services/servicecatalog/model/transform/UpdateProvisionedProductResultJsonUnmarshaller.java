@@ -47,9 +47,12 @@ public class UpdateProvisionedProductResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RecordDetail", targetDepth)) {
-                    context.nextToken();
-                    updateProvisionedProductResult.setRecordDetail(RecordDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RecordDetail".equals(fieldName)) {
+                        context.nextToken();
+                        updateProvisionedProductResult.setRecordDetail(RecordDetailJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
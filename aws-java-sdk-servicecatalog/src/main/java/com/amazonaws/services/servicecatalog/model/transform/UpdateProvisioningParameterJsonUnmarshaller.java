@@ -47,17 +47,18 @@ public class UpdateProvisioningParameterJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Key", targetDepth)) {
-                    context.nextToken();
-                    updateProvisioningParameter.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Value", targetDepth)) {
-                    context.nextToken();
-                    updateProvisioningParameter.setValue(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UsePreviousValue", targetDepth)) {
-                    context.nextToken();
-                    updateProvisioningParameter.setUsePreviousValue(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Key".equals(fieldName)) {
+                        context.nextToken();
+                        updateProvisioningParameter.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Value".equals(fieldName)) {
+                        context.nextToken();
+                        updateProvisioningParameter.setValue(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UsePreviousValue".equals(fieldName)) {
+                        context.nextToken();
+                        updateProvisioningParameter.setUsePreviousValue(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
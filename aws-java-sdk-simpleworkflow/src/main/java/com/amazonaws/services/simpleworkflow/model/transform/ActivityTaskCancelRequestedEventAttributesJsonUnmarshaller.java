@@ -48,13 +48,15 @@ public class ActivityTaskCancelRequestedEventAttributesJsonUnmarshaller implemen
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCancelRequestedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCancelRequestedEventAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskCancelRequestedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("activityId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskCancelRequestedEventAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
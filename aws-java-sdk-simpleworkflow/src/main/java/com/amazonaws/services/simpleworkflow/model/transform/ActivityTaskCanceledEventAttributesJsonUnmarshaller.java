@@ -47,21 +47,21 @@ public class ActivityTaskCanceledEventAttributesJsonUnmarshaller implements Unma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCanceledEventAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCanceledEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCanceledEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("latestCancelRequestedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCanceledEventAttributes.setLatestCancelRequestedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("details".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskCanceledEventAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("scheduledEventId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskCanceledEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("startedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskCanceledEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("latestCancelRequestedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskCanceledEventAttributes.setLatestCancelRequestedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class ActivityTaskCompletedEventAttributesJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCompletedEventAttributes.setResult(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCompletedEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskCompletedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskCompletedEventAttributes.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("scheduledEventId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskCompletedEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("startedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskCompletedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,49 +47,42 @@ public class ActivityTaskScheduledEventAttributesJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("activityType", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setActivityType(ActivityTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduleToStartTimeout", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setScheduleToStartTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduleToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setScheduleToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("startToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("heartbeatTimeout", targetDepth)) {
-                    context.nextToken();
-                    activityTaskScheduledEventAttributes.setHeartbeatTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("activityType".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setActivityType(ActivityTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("activityId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("control".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("scheduleToStartTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setScheduleToStartTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("scheduleToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setScheduleToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("startToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskList".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("taskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("heartbeatTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskScheduledEventAttributes.setHeartbeatTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
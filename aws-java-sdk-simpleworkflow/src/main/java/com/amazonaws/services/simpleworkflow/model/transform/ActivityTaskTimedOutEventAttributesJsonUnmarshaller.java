@@ -47,21 +47,21 @@ public class ActivityTaskTimedOutEventAttributesJsonUnmarshaller implements Unma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timeoutType", targetDepth)) {
-                    context.nextToken();
-                    activityTaskTimedOutEventAttributes.setTimeoutType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskTimedOutEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    activityTaskTimedOutEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    activityTaskTimedOutEventAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("timeoutType".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskTimedOutEventAttributes.setTimeoutType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("scheduledEventId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskTimedOutEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("startedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskTimedOutEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("details".equals(fieldName)) {
+                        context.nextToken();
+                        activityTaskTimedOutEventAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
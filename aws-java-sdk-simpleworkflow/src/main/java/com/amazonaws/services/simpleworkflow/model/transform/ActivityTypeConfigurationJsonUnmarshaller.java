@@ -47,29 +47,27 @@ public class ActivityTypeConfigurationJsonUnmarshaller implements Unmarshaller<A
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("defaultTaskStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration.setDefaultTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultTaskHeartbeatTimeout", targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration.setDefaultTaskHeartbeatTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultTaskList", targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration.setDefaultTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("defaultTaskPriority", targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration.setDefaultTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultTaskScheduleToStartTimeout", targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration.setDefaultTaskScheduleToStartTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultTaskScheduleToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    activityTypeConfiguration.setDefaultTaskScheduleToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("defaultTaskStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        activityTypeConfiguration.setDefaultTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultTaskHeartbeatTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        activityTypeConfiguration.setDefaultTaskHeartbeatTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultTaskList".equals(fieldName)) {
+                        context.nextToken();
+                        activityTypeConfiguration.setDefaultTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("defaultTaskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        activityTypeConfiguration.setDefaultTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultTaskScheduleToStartTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        activityTypeConfiguration.setDefaultTaskScheduleToStartTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultTaskScheduleToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        activityTypeConfiguration.setDefaultTaskScheduleToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CancelTimerDecisionAttributesJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timerId", targetDepth)) {
-                    context.nextToken();
-                    cancelTimerDecisionAttributes.setTimerId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("timerId".equals(fieldName)) {
+                        context.nextToken();
+                        cancelTimerDecisionAttributes.setTimerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class CancelTimerFailedEventAttributesJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timerId", targetDepth)) {
-                    context.nextToken();
-                    cancelTimerFailedEventAttributes.setTimerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    cancelTimerFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    cancelTimerFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("timerId".equals(fieldName)) {
+                        context.nextToken();
+                        cancelTimerFailedEventAttributes.setTimerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cause".equals(fieldName)) {
+                        context.nextToken();
+                        cancelTimerFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        cancelTimerFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,9 +48,12 @@ public class CancelWorkflowExecutionDecisionAttributesJsonUnmarshaller implement
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    cancelWorkflowExecutionDecisionAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("details".equals(fieldName)) {
+                        context.nextToken();
+                        cancelWorkflowExecutionDecisionAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,15 @@ public class CancelWorkflowExecutionFailedEventAttributesJsonUnmarshaller implem
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    cancelWorkflowExecutionFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    cancelWorkflowExecutionFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("cause".equals(fieldName)) {
+                        context.nextToken();
+                        cancelWorkflowExecutionFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        cancelWorkflowExecutionFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
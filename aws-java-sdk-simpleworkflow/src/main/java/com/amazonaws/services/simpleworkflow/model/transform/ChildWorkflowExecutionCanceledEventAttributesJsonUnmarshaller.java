@@ -48,25 +48,24 @@ public class ChildWorkflowExecutionCanceledEventAttributesJsonUnmarshaller imple
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCanceledEventAttributes.setWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCanceledEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCanceledEventAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCanceledEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCanceledEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowExecution".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionCanceledEventAttributes.setWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("workflowType".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionCanceledEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("details".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionCanceledEventAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("initiatedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionCanceledEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("startedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionCanceledEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
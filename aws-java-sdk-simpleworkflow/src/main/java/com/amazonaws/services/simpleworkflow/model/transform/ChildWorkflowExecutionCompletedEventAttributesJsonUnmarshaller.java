@@ -48,25 +48,25 @@ public class ChildWorkflowExecutionCompletedEventAttributesJsonUnmarshaller impl
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCompletedEventAttributes.setWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCompletedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCompletedEventAttributes.setResult(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCompletedEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionCompletedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowExecution".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionCompletedEventAttributes
+                                .setWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("workflowType".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionCompletedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionCompletedEventAttributes.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("initiatedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionCompletedEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("startedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionCompletedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
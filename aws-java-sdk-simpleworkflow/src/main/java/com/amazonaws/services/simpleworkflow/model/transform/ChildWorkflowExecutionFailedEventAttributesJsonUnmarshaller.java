@@ -48,29 +48,27 @@ public class ChildWorkflowExecutionFailedEventAttributesJsonUnmarshaller impleme
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes.setWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("reason", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes.setReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionFailedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowExecution".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionFailedEventAttributes.setWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("workflowType".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionFailedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("reason".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionFailedEventAttributes.setReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("details".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionFailedEventAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("initiatedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionFailedEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("startedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionFailedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,17 +48,18 @@ public class ChildWorkflowExecutionStartedEventAttributesJsonUnmarshaller implem
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionStartedEventAttributes.setWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionStartedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionStartedEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowExecution".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionStartedEventAttributes.setWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("workflowType".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionStartedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("initiatedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionStartedEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,21 +48,22 @@ public class ChildWorkflowExecutionTerminatedEventAttributesJsonUnmarshaller imp
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowExecution", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionTerminatedEventAttributes.setWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionTerminatedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionTerminatedEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    childWorkflowExecutionTerminatedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowExecution".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionTerminatedEventAttributes.setWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("workflowType".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionTerminatedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("initiatedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionTerminatedEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("startedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        childWorkflowExecutionTerminatedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,9 +48,12 @@ public class CompleteWorkflowExecutionDecisionAttributesJsonUnmarshaller impleme
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    completeWorkflowExecutionDecisionAttributes.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        completeWorkflowExecutionDecisionAttributes.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,13 +48,15 @@ public class CompleteWorkflowExecutionFailedEventAttributesJsonUnmarshaller impl
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    completeWorkflowExecutionFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    completeWorkflowExecutionFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("cause".equals(fieldName)) {
+                        context.nextToken();
+                        completeWorkflowExecutionFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        completeWorkflowExecutionFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,42 +48,37 @@ public class ContinueAsNewWorkflowExecutionDecisionAttributesJsonUnmarshaller im
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("executionStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("childPolicy", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("tagList", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes.setTagList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("workflowTypeVersion", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes.setWorkflowTypeVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lambdaRole", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionDecisionAttributes.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionDecisionAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("executionStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionDecisionAttributes.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(
+                                context));
+                    } else if ("taskList".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionDecisionAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("taskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionDecisionAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionDecisionAttributes.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("childPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionDecisionAttributes.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("tagList".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionDecisionAttributes.setTagList(tagListUnmarshaller.unmarshall(context));
+                    } else if ("workflowTypeVersion".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionDecisionAttributes.setWorkflowTypeVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lambdaRole".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionDecisionAttributes.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -97,6 +92,13 @@ public class ContinueAsNewWorkflowExecutionDecisionAttributesJsonUnmarshaller im
         return continueAsNewWorkflowExecutionDecisionAttributes;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> tagListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ContinueAsNewWorkflowExecutionDecisionAttributesJsonUnmarshaller instance;
 
     public static ContinueAsNewWorkflowExecutionDecisionAttributesJsonUnmarshaller getInstance() {
@@ -48,14 +48,16 @@ public class ContinueAsNewWorkflowExecutionFailedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    continueAsNewWorkflowExecutionFailedEventAttributes
-                            .setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("cause".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        continueAsNewWorkflowExecutionFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(
+                                context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
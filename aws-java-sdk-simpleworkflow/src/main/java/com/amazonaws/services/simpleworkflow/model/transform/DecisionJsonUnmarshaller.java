@@ -47,70 +47,61 @@ public class DecisionJsonUnmarshaller implements Unmarshaller<Decision, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("decisionType", targetDepth)) {
-                    context.nextToken();
-                    decision.setDecisionType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduleActivityTaskDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setScheduleActivityTaskDecisionAttributes(ScheduleActivityTaskDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("requestCancelActivityTaskDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setRequestCancelActivityTaskDecisionAttributes(RequestCancelActivityTaskDecisionAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("completeWorkflowExecutionDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setCompleteWorkflowExecutionDecisionAttributes(CompleteWorkflowExecutionDecisionAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("failWorkflowExecutionDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setFailWorkflowExecutionDecisionAttributes(FailWorkflowExecutionDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("cancelWorkflowExecutionDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setCancelWorkflowExecutionDecisionAttributes(CancelWorkflowExecutionDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("continueAsNewWorkflowExecutionDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setContinueAsNewWorkflowExecutionDecisionAttributes(ContinueAsNewWorkflowExecutionDecisionAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("recordMarkerDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setRecordMarkerDecisionAttributes(RecordMarkerDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("startTimerDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setStartTimerDecisionAttributes(StartTimerDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("cancelTimerDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setCancelTimerDecisionAttributes(CancelTimerDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("signalExternalWorkflowExecutionDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setSignalExternalWorkflowExecutionDecisionAttributes(SignalExternalWorkflowExecutionDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("requestCancelExternalWorkflowExecutionDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setRequestCancelExternalWorkflowExecutionDecisionAttributes(RequestCancelExternalWorkflowExecutionDecisionAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("startChildWorkflowExecutionDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setStartChildWorkflowExecutionDecisionAttributes(StartChildWorkflowExecutionDecisionAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("scheduleLambdaFunctionDecisionAttributes", targetDepth)) {
-                    context.nextToken();
-                    decision.setScheduleLambdaFunctionDecisionAttributes(ScheduleLambdaFunctionDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("decisionType".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setDecisionType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("scheduleActivityTaskDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setScheduleActivityTaskDecisionAttributes(ScheduleActivityTaskDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("requestCancelActivityTaskDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setRequestCancelActivityTaskDecisionAttributes(RequestCancelActivityTaskDecisionAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("completeWorkflowExecutionDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setCompleteWorkflowExecutionDecisionAttributes(CompleteWorkflowExecutionDecisionAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("failWorkflowExecutionDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setFailWorkflowExecutionDecisionAttributes(FailWorkflowExecutionDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("cancelWorkflowExecutionDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setCancelWorkflowExecutionDecisionAttributes(CancelWorkflowExecutionDecisionAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("continueAsNewWorkflowExecutionDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setContinueAsNewWorkflowExecutionDecisionAttributes(ContinueAsNewWorkflowExecutionDecisionAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("recordMarkerDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setRecordMarkerDecisionAttributes(RecordMarkerDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("startTimerDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setStartTimerDecisionAttributes(StartTimerDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("cancelTimerDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setCancelTimerDecisionAttributes(CancelTimerDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("signalExternalWorkflowExecutionDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setSignalExternalWorkflowExecutionDecisionAttributes(SignalExternalWorkflowExecutionDecisionAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("requestCancelExternalWorkflowExecutionDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setRequestCancelExternalWorkflowExecutionDecisionAttributes(RequestCancelExternalWorkflowExecutionDecisionAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("startChildWorkflowExecutionDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setStartChildWorkflowExecutionDecisionAttributes(StartChildWorkflowExecutionDecisionAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("scheduleLambdaFunctionDecisionAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        decision.setScheduleLambdaFunctionDecisionAttributes(ScheduleLambdaFunctionDecisionAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class DecisionTaskScheduledEventAttributesJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    decisionTaskScheduledEventAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    decisionTaskScheduledEventAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("startToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    decisionTaskScheduledEventAttributes.setStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("taskList".equals(fieldName)) {
+                        context.nextToken();
+                        decisionTaskScheduledEventAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("taskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        decisionTaskScheduledEventAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("startToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        decisionTaskScheduledEventAttributes.setStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class DecisionTaskStartedEventAttributesJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("identity", targetDepth)) {
-                    context.nextToken();
-                    decisionTaskStartedEventAttributes.setIdentity(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    decisionTaskStartedEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("identity".equals(fieldName)) {
+                        context.nextToken();
+                        decisionTaskStartedEventAttributes.setIdentity(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("scheduledEventId".equals(fieldName)) {
+                        context.nextToken();
+                        decisionTaskStartedEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
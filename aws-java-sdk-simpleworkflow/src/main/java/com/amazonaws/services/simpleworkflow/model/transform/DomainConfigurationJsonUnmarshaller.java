@@ -47,9 +47,12 @@ public class DomainConfigurationJsonUnmarshaller implements Unmarshaller<DomainC
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowExecutionRetentionPeriodInDays", targetDepth)) {
-                    context.nextToken();
-                    domainConfiguration.setWorkflowExecutionRetentionPeriodInDays(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowExecutionRetentionPeriodInDays".equals(fieldName)) {
+                        context.nextToken();
+                        domainConfiguration.setWorkflowExecutionRetentionPeriodInDays(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
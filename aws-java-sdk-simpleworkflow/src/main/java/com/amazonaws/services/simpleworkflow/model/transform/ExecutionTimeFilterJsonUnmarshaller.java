@@ -47,13 +47,15 @@ public class ExecutionTimeFilterJsonUnmarshaller implements Unmarshaller<Executi
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("oldestDate", targetDepth)) {
-                    context.nextToken();
-                    executionTimeFilter.setOldestDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("latestDate", targetDepth)) {
-                    context.nextToken();
-                    executionTimeFilter.setLatestDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("oldestDate".equals(fieldName)) {
+                        context.nextToken();
+                        executionTimeFilter.setOldestDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("latestDate".equals(fieldName)) {
+                        context.nextToken();
+                        executionTimeFilter.setLatestDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class FailWorkflowExecutionDecisionAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("reason", targetDepth)) {
-                    context.nextToken();
-                    failWorkflowExecutionDecisionAttributes.setReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    failWorkflowExecutionDecisionAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("reason".equals(fieldName)) {
+                        context.nextToken();
+                        failWorkflowExecutionDecisionAttributes.setReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("details".equals(fieldName)) {
+                        context.nextToken();
+                        failWorkflowExecutionDecisionAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
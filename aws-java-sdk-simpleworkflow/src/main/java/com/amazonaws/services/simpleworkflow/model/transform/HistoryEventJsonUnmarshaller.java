@@ -47,277 +47,231 @@ public class HistoryEventJsonUnmarshaller implements Unmarshaller<HistoryEvent,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("eventTimestamp", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setEventTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("eventType", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setEventType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("eventId", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("workflowExecutionStartedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setWorkflowExecutionStartedEventAttributes(WorkflowExecutionStartedEventAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("workflowExecutionCompletedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setWorkflowExecutionCompletedEventAttributes(WorkflowExecutionCompletedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("completeWorkflowExecutionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setCompleteWorkflowExecutionFailedEventAttributes(CompleteWorkflowExecutionFailedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("workflowExecutionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setWorkflowExecutionFailedEventAttributes(WorkflowExecutionFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("failWorkflowExecutionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setFailWorkflowExecutionFailedEventAttributes(FailWorkflowExecutionFailedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("workflowExecutionTimedOutEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setWorkflowExecutionTimedOutEventAttributes(WorkflowExecutionTimedOutEventAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("workflowExecutionCanceledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setWorkflowExecutionCanceledEventAttributes(WorkflowExecutionCanceledEventAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("cancelWorkflowExecutionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setCancelWorkflowExecutionFailedEventAttributes(CancelWorkflowExecutionFailedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("workflowExecutionContinuedAsNewEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setWorkflowExecutionContinuedAsNewEventAttributes(WorkflowExecutionContinuedAsNewEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("continueAsNewWorkflowExecutionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setContinueAsNewWorkflowExecutionFailedEventAttributes(ContinueAsNewWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowExecutionTerminatedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setWorkflowExecutionTerminatedEventAttributes(WorkflowExecutionTerminatedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("workflowExecutionCancelRequestedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setWorkflowExecutionCancelRequestedEventAttributes(WorkflowExecutionCancelRequestedEventAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskScheduledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setDecisionTaskScheduledEventAttributes(DecisionTaskScheduledEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskStartedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setDecisionTaskStartedEventAttributes(DecisionTaskStartedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setDecisionTaskCompletedEventAttributes(DecisionTaskCompletedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskTimedOutEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setDecisionTaskTimedOutEventAttributes(DecisionTaskTimedOutEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityTaskScheduledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setActivityTaskScheduledEventAttributes(ActivityTaskScheduledEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityTaskStartedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setActivityTaskStartedEventAttributes(ActivityTaskStartedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityTaskCompletedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setActivityTaskCompletedEventAttributes(ActivityTaskCompletedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityTaskFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setActivityTaskFailedEventAttributes(ActivityTaskFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityTaskTimedOutEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setActivityTaskTimedOutEventAttributes(ActivityTaskTimedOutEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityTaskCanceledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setActivityTaskCanceledEventAttributes(ActivityTaskCanceledEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityTaskCancelRequestedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setActivityTaskCancelRequestedEventAttributes(ActivityTaskCancelRequestedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("workflowExecutionSignaledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setWorkflowExecutionSignaledEventAttributes(WorkflowExecutionSignaledEventAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("markerRecordedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setMarkerRecordedEventAttributes(MarkerRecordedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("recordMarkerFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setRecordMarkerFailedEventAttributes(RecordMarkerFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("timerStartedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setTimerStartedEventAttributes(TimerStartedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("timerFiredEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setTimerFiredEventAttributes(TimerFiredEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("timerCanceledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setTimerCanceledEventAttributes(TimerCanceledEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("startChildWorkflowExecutionInitiatedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setStartChildWorkflowExecutionInitiatedEventAttributes(StartChildWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("childWorkflowExecutionStartedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setChildWorkflowExecutionStartedEventAttributes(ChildWorkflowExecutionStartedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("childWorkflowExecutionCompletedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setChildWorkflowExecutionCompletedEventAttributes(ChildWorkflowExecutionCompletedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("childWorkflowExecutionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setChildWorkflowExecutionFailedEventAttributes(ChildWorkflowExecutionFailedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("childWorkflowExecutionTimedOutEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setChildWorkflowExecutionTimedOutEventAttributes(ChildWorkflowExecutionTimedOutEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("childWorkflowExecutionCanceledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setChildWorkflowExecutionCanceledEventAttributes(ChildWorkflowExecutionCanceledEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("childWorkflowExecutionTerminatedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setChildWorkflowExecutionTerminatedEventAttributes(ChildWorkflowExecutionTerminatedEventAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("signalExternalWorkflowExecutionInitiatedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setSignalExternalWorkflowExecutionInitiatedEventAttributes(SignalExternalWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("externalWorkflowExecutionSignaledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setExternalWorkflowExecutionSignaledEventAttributes(ExternalWorkflowExecutionSignaledEventAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("signalExternalWorkflowExecutionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setSignalExternalWorkflowExecutionFailedEventAttributes(SignalExternalWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("externalWorkflowExecutionCancelRequestedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setExternalWorkflowExecutionCancelRequestedEventAttributes(ExternalWorkflowExecutionCancelRequestedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("requestCancelExternalWorkflowExecutionInitiatedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setRequestCancelExternalWorkflowExecutionInitiatedEventAttributes(RequestCancelExternalWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("requestCancelExternalWorkflowExecutionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setRequestCancelExternalWorkflowExecutionFailedEventAttributes(RequestCancelExternalWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                                    .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("scheduleActivityTaskFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setScheduleActivityTaskFailedEventAttributes(ScheduleActivityTaskFailedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("requestCancelActivityTaskFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setRequestCancelActivityTaskFailedEventAttributes(RequestCancelActivityTaskFailedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("startTimerFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setStartTimerFailedEventAttributes(StartTimerFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("cancelTimerFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setCancelTimerFailedEventAttributes(CancelTimerFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("startChildWorkflowExecutionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setStartChildWorkflowExecutionFailedEventAttributes(StartChildWorkflowExecutionFailedEventAttributesJsonUnmarshaller
-                            .getInstance().unmarshall(context));
-                }
-                if (context.testExpression("lambdaFunctionScheduledEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setLambdaFunctionScheduledEventAttributes(LambdaFunctionScheduledEventAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("lambdaFunctionStartedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent
-                            .setLambdaFunctionStartedEventAttributes(LambdaFunctionStartedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("lambdaFunctionCompletedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setLambdaFunctionCompletedEventAttributes(LambdaFunctionCompletedEventAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("lambdaFunctionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setLambdaFunctionFailedEventAttributes(LambdaFunctionFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("lambdaFunctionTimedOutEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setLambdaFunctionTimedOutEventAttributes(LambdaFunctionTimedOutEventAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("scheduleLambdaFunctionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setScheduleLambdaFunctionFailedEventAttributes(ScheduleLambdaFunctionFailedEventAttributesJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("startLambdaFunctionFailedEventAttributes", targetDepth)) {
-                    context.nextToken();
-                    historyEvent.setStartLambdaFunctionFailedEventAttributes(StartLambdaFunctionFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(
-                            context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("eventTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setEventTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("eventType".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setEventType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("eventId".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("workflowExecutionStartedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setWorkflowExecutionStartedEventAttributes(WorkflowExecutionStartedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("workflowExecutionCompletedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setWorkflowExecutionCompletedEventAttributes(WorkflowExecutionCompletedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("completeWorkflowExecutionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setCompleteWorkflowExecutionFailedEventAttributes(CompleteWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("workflowExecutionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setWorkflowExecutionFailedEventAttributes(WorkflowExecutionFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("failWorkflowExecutionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setFailWorkflowExecutionFailedEventAttributes(FailWorkflowExecutionFailedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("workflowExecutionTimedOutEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setWorkflowExecutionTimedOutEventAttributes(WorkflowExecutionTimedOutEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("workflowExecutionCanceledEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setWorkflowExecutionCanceledEventAttributes(WorkflowExecutionCanceledEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("cancelWorkflowExecutionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setCancelWorkflowExecutionFailedEventAttributes(CancelWorkflowExecutionFailedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("workflowExecutionContinuedAsNewEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setWorkflowExecutionContinuedAsNewEventAttributes(WorkflowExecutionContinuedAsNewEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("continueAsNewWorkflowExecutionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setContinueAsNewWorkflowExecutionFailedEventAttributes(ContinueAsNewWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("workflowExecutionTerminatedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setWorkflowExecutionTerminatedEventAttributes(WorkflowExecutionTerminatedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("workflowExecutionCancelRequestedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setWorkflowExecutionCancelRequestedEventAttributes(WorkflowExecutionCancelRequestedEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("decisionTaskScheduledEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setDecisionTaskScheduledEventAttributes(DecisionTaskScheduledEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("decisionTaskStartedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent
+                                .setDecisionTaskStartedEventAttributes(DecisionTaskStartedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("decisionTaskCompletedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setDecisionTaskCompletedEventAttributes(DecisionTaskCompletedEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("decisionTaskTimedOutEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setDecisionTaskTimedOutEventAttributes(DecisionTaskTimedOutEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("activityTaskScheduledEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setActivityTaskScheduledEventAttributes(ActivityTaskScheduledEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("activityTaskStartedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent
+                                .setActivityTaskStartedEventAttributes(ActivityTaskStartedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("activityTaskCompletedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setActivityTaskCompletedEventAttributes(ActivityTaskCompletedEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("activityTaskFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setActivityTaskFailedEventAttributes(ActivityTaskFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("activityTaskTimedOutEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setActivityTaskTimedOutEventAttributes(ActivityTaskTimedOutEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("activityTaskCanceledEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setActivityTaskCanceledEventAttributes(ActivityTaskCanceledEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("activityTaskCancelRequestedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setActivityTaskCancelRequestedEventAttributes(ActivityTaskCancelRequestedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("workflowExecutionSignaledEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setWorkflowExecutionSignaledEventAttributes(WorkflowExecutionSignaledEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("markerRecordedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setMarkerRecordedEventAttributes(MarkerRecordedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("recordMarkerFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setRecordMarkerFailedEventAttributes(RecordMarkerFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("timerStartedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setTimerStartedEventAttributes(TimerStartedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("timerFiredEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setTimerFiredEventAttributes(TimerFiredEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("timerCanceledEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setTimerCanceledEventAttributes(TimerCanceledEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("startChildWorkflowExecutionInitiatedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setStartChildWorkflowExecutionInitiatedEventAttributes(StartChildWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("childWorkflowExecutionStartedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setChildWorkflowExecutionStartedEventAttributes(ChildWorkflowExecutionStartedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("childWorkflowExecutionCompletedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setChildWorkflowExecutionCompletedEventAttributes(ChildWorkflowExecutionCompletedEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("childWorkflowExecutionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setChildWorkflowExecutionFailedEventAttributes(ChildWorkflowExecutionFailedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("childWorkflowExecutionTimedOutEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setChildWorkflowExecutionTimedOutEventAttributes(ChildWorkflowExecutionTimedOutEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("childWorkflowExecutionCanceledEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setChildWorkflowExecutionCanceledEventAttributes(ChildWorkflowExecutionCanceledEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("childWorkflowExecutionTerminatedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setChildWorkflowExecutionTerminatedEventAttributes(ChildWorkflowExecutionTerminatedEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("signalExternalWorkflowExecutionInitiatedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent
+                                .setSignalExternalWorkflowExecutionInitiatedEventAttributes(SignalExternalWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
+                                        .getInstance().unmarshall(context));
+                    } else if ("externalWorkflowExecutionSignaledEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setExternalWorkflowExecutionSignaledEventAttributes(ExternalWorkflowExecutionSignaledEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("signalExternalWorkflowExecutionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent
+                                .setSignalExternalWorkflowExecutionFailedEventAttributes(SignalExternalWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                        .getInstance().unmarshall(context));
+                    } else if ("externalWorkflowExecutionCancelRequestedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent
+                                .setExternalWorkflowExecutionCancelRequestedEventAttributes(ExternalWorkflowExecutionCancelRequestedEventAttributesJsonUnmarshaller
+                                        .getInstance().unmarshall(context));
+                    } else if ("requestCancelExternalWorkflowExecutionInitiatedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent
+                                .setRequestCancelExternalWorkflowExecutionInitiatedEventAttributes(RequestCancelExternalWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
+                                        .getInstance().unmarshall(context));
+                    } else if ("requestCancelExternalWorkflowExecutionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent
+                                .setRequestCancelExternalWorkflowExecutionFailedEventAttributes(RequestCancelExternalWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                        .getInstance().unmarshall(context));
+                    } else if ("scheduleActivityTaskFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setScheduleActivityTaskFailedEventAttributes(ScheduleActivityTaskFailedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("requestCancelActivityTaskFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setRequestCancelActivityTaskFailedEventAttributes(RequestCancelActivityTaskFailedEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("startTimerFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setStartTimerFailedEventAttributes(StartTimerFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("cancelTimerFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setCancelTimerFailedEventAttributes(CancelTimerFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("startChildWorkflowExecutionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setStartChildWorkflowExecutionFailedEventAttributes(StartChildWorkflowExecutionFailedEventAttributesJsonUnmarshaller
+                                .getInstance().unmarshall(context));
+                    } else if ("lambdaFunctionScheduledEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setLambdaFunctionScheduledEventAttributes(LambdaFunctionScheduledEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("lambdaFunctionStartedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setLambdaFunctionStartedEventAttributes(LambdaFunctionStartedEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("lambdaFunctionCompletedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setLambdaFunctionCompletedEventAttributes(LambdaFunctionCompletedEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("lambdaFunctionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setLambdaFunctionFailedEventAttributes(LambdaFunctionFailedEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("lambdaFunctionTimedOutEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setLambdaFunctionTimedOutEventAttributes(LambdaFunctionTimedOutEventAttributesJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("scheduleLambdaFunctionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setScheduleLambdaFunctionFailedEventAttributes(ScheduleLambdaFunctionFailedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("startLambdaFunctionFailedEventAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        historyEvent.setStartLambdaFunctionFailedEventAttributes(StartLambdaFunctionFailedEventAttributesJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
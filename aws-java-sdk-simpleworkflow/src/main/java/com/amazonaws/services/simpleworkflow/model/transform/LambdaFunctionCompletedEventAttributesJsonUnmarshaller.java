@@ -47,17 +47,18 @@ public class LambdaFunctionCompletedEventAttributesJsonUnmarshaller implements U
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionCompletedEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionCompletedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionCompletedEventAttributes.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("scheduledEventId".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionCompletedEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("startedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionCompletedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionCompletedEventAttributes.setResult(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
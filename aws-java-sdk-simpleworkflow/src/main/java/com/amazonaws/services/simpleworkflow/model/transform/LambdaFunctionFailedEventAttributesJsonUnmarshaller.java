@@ -47,21 +47,21 @@ public class LambdaFunctionFailedEventAttributesJsonUnmarshaller implements Unma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionFailedEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("startedEventId", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionFailedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("reason", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionFailedEventAttributes.setReason(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("details", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionFailedEventAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("scheduledEventId".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionFailedEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("startedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionFailedEventAttributes.setStartedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("reason".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionFailedEventAttributes.setReason(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("details".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionFailedEventAttributes.setDetails(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class LambdaFunctionScheduledEventAttributesJsonUnmarshaller implements U
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionScheduledEventAttributes.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionScheduledEventAttributes.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionScheduledEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("startToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionScheduledEventAttributes.setStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionScheduledEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionScheduledEventAttributes.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionScheduledEventAttributes.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionScheduledEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("startToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionScheduledEventAttributes.setStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionScheduledEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
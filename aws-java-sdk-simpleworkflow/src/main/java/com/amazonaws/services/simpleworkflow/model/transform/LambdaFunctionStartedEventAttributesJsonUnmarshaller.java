@@ -47,9 +47,12 @@ public class LambdaFunctionStartedEventAttributesJsonUnmarshaller implements Unm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("scheduledEventId", targetDepth)) {
-                    context.nextToken();
-                    lambdaFunctionStartedEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("scheduledEventId".equals(fieldName)) {
+                        context.nextToken();
+                        lambdaFunctionStartedEventAttributes.setScheduledEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
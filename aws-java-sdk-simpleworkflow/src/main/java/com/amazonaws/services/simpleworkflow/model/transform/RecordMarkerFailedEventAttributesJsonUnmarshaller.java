@@ -47,17 +47,18 @@ public class RecordMarkerFailedEventAttributesJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("markerName", targetDepth)) {
-                    context.nextToken();
-                    recordMarkerFailedEventAttributes.setMarkerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    recordMarkerFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    recordMarkerFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("markerName".equals(fieldName)) {
+                        context.nextToken();
+                        recordMarkerFailedEventAttributes.setMarkerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cause".equals(fieldName)) {
+                        context.nextToken();
+                        recordMarkerFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        recordMarkerFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
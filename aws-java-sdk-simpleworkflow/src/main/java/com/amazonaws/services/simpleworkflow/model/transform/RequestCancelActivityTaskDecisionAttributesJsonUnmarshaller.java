@@ -48,9 +48,12 @@ public class RequestCancelActivityTaskDecisionAttributesJsonUnmarshaller impleme
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelActivityTaskDecisionAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("activityId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelActivityTaskDecisionAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
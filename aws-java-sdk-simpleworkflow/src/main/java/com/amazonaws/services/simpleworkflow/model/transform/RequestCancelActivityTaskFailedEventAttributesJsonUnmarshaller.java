@@ -48,17 +48,18 @@ public class RequestCancelActivityTaskFailedEventAttributesJsonUnmarshaller impl
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelActivityTaskFailedEventAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    requestCancelActivityTaskFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelActivityTaskFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("activityId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelActivityTaskFailedEventAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cause".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelActivityTaskFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelActivityTaskFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
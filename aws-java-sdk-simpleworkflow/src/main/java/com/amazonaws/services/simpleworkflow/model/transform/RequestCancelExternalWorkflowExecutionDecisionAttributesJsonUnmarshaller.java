@@ -48,17 +48,18 @@ public class RequestCancelExternalWorkflowExecutionDecisionAttributesJsonUnmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionDecisionAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("runId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionDecisionAttributes.setRunId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionDecisionAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionDecisionAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("runId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionDecisionAttributes.setRunId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("control".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionDecisionAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
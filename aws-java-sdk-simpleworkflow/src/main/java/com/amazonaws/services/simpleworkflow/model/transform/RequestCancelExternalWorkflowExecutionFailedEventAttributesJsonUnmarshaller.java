@@ -48,30 +48,29 @@ public class RequestCancelExternalWorkflowExecutionFailedEventAttributesJsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("runId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes.setRunId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("initiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes.setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(
-                            context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionFailedEventAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionFailedEventAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("runId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionFailedEventAttributes.setRunId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cause".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("initiatedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionFailedEventAttributes
+                                .setInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class)
+                                .unmarshall(context));
+                    } else if ("control".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionFailedEventAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,22 +48,22 @@ public class RequestCancelExternalWorkflowExecutionInitiatedEventAttributesJsonU
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionInitiatedEventAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("runId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionInitiatedEventAttributes.setRunId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionInitiatedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class)
-                            .unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    requestCancelExternalWorkflowExecutionInitiatedEventAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionInitiatedEventAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("runId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionInitiatedEventAttributes.setRunId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionInitiatedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class)
+                                .unmarshall(context));
+                    } else if ("control".equals(fieldName)) {
+                        context.nextToken();
+                        requestCancelExternalWorkflowExecutionInitiatedEventAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,45 +47,39 @@ public class ScheduleActivityTaskDecisionAttributesJsonUnmarshaller implements U
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("activityType", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setActivityType(ActivityTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduleToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setScheduleToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("scheduleToStartTimeout", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setScheduleToStartTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("startToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("heartbeatTimeout", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskDecisionAttributes.setHeartbeatTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("activityType".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskDecisionAttributes.setActivityType(ActivityTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("activityId".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskDecisionAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("control".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskDecisionAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskDecisionAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("scheduleToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskDecisionAttributes.setScheduleToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskList".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskDecisionAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("taskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskDecisionAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("scheduleToStartTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskDecisionAttributes.setScheduleToStartTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("startToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskDecisionAttributes.setStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("heartbeatTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskDecisionAttributes.setHeartbeatTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,21 +48,21 @@ public class ScheduleActivityTaskFailedEventAttributesJsonUnmarshaller implement
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("activityType", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskFailedEventAttributes.setActivityType(ActivityTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("activityId", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskFailedEventAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    scheduleActivityTaskFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("activityType".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskFailedEventAttributes.setActivityType(ActivityTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("activityId".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskFailedEventAttributes.setActivityId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("cause".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskFailedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleActivityTaskFailedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,21 +48,21 @@ public class ScheduleLambdaFunctionDecisionAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    scheduleLambdaFunctionDecisionAttributes.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    scheduleLambdaFunctionDecisionAttributes.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    scheduleLambdaFunctionDecisionAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("startToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    scheduleLambdaFunctionDecisionAttributes.setStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleLambdaFunctionDecisionAttributes.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleLambdaFunctionDecisionAttributes.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleLambdaFunctionDecisionAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("startToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        scheduleLambdaFunctionDecisionAttributes.setStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -48,25 +48,24 @@ public class SignalExternalWorkflowExecutionDecisionAttributesJsonUnmarshaller i
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    signalExternalWorkflowExecutionDecisionAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("runId", targetDepth)) {
-                    context.nextToken();
-                    signalExternalWorkflowExecutionDecisionAttributes.setRunId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("signalName", targetDepth)) {
-                    context.nextToken();
-                    signalExternalWorkflowExecutionDecisionAttributes.setSignalName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    signalExternalWorkflowExecutionDecisionAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    signalExternalWorkflowExecutionDecisionAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowId".equals(fieldName)) {
+                        context.nextToken();
+                        signalExternalWorkflowExecutionDecisionAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("runId".equals(fieldName)) {
+                        context.nextToken();
+                        signalExternalWorkflowExecutionDecisionAttributes.setRunId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("signalName".equals(fieldName)) {
+                        context.nextToken();
+                        signalExternalWorkflowExecutionDecisionAttributes.setSignalName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        signalExternalWorkflowExecutionDecisionAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("control".equals(fieldName)) {
+                        context.nextToken();
+                        signalExternalWorkflowExecutionDecisionAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
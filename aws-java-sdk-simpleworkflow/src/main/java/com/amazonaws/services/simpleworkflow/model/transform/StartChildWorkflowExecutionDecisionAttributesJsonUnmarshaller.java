@@ -48,50 +48,43 @@ public class StartChildWorkflowExecutionDecisionAttributesJsonUnmarshaller imple
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("executionStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("childPolicy", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("tagList", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setTagList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("lambdaRole", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionDecisionAttributes.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowType".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("workflowId".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("control".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("executionStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes
+                                .setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskList".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("taskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("childPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("tagList".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes.setTagList(tagListUnmarshaller.unmarshall(context));
+                    } else if ("lambdaRole".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionDecisionAttributes.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -105,6 +98,13 @@ public class StartChildWorkflowExecutionDecisionAttributesJsonUnmarshaller imple
         return startChildWorkflowExecutionDecisionAttributes;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> tagListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static StartChildWorkflowExecutionDecisionAttributesJsonUnmarshaller instance;
 
     public static StartChildWorkflowExecutionDecisionAttributesJsonUnmarshaller getInstance() {
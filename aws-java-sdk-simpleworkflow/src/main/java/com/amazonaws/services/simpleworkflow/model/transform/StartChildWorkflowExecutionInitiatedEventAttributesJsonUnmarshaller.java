@@ -48,56 +48,48 @@ public class StartChildWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("workflowId", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("executionStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(
-                            context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes
-                            .setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("childPolicy", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("tagList", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setTagList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("lambdaRole", targetDepth)) {
-                    context.nextToken();
-                    startChildWorkflowExecutionInitiatedEventAttributes.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("workflowId".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setWorkflowId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("workflowType".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("control".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("executionStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(
+                                context));
+                    } else if ("taskList".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("taskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(
+                                context));
+                    } else if ("childPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class)
+                                .unmarshall(context));
+                    } else if ("tagList".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setTagList(tagListUnmarshaller.unmarshall(context));
+                    } else if ("lambdaRole".equals(fieldName)) {
+                        context.nextToken();
+                        startChildWorkflowExecutionInitiatedEventAttributes.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -111,6 +103,13 @@ public class StartChildWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller
         return startChildWorkflowExecutionInitiatedEventAttributes;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> tagListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static StartChildWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller instance;
 
     public static StartChildWorkflowExecutionInitiatedEventAttributesJsonUnmarshaller getInstance() {
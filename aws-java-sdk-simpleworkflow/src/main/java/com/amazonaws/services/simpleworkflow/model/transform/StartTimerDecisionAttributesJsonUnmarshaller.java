@@ -47,17 +47,18 @@ public class StartTimerDecisionAttributesJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("timerId", targetDepth)) {
-                    context.nextToken();
-                    startTimerDecisionAttributes.setTimerId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("control", targetDepth)) {
-                    context.nextToken();
-                    startTimerDecisionAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("startToFireTimeout", targetDepth)) {
-                    context.nextToken();
-                    startTimerDecisionAttributes.setStartToFireTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("timerId".equals(fieldName)) {
+                        context.nextToken();
+                        startTimerDecisionAttributes.setTimerId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("control".equals(fieldName)) {
+                        context.nextToken();
+                        startTimerDecisionAttributes.setControl(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("startToFireTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        startTimerDecisionAttributes.setStartToFireTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class TagFilterJsonUnmarshaller implements Unmarshaller<TagFilter, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("tag", targetDepth)) {
-                    context.nextToken();
-                    tagFilter.setTag(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("tag".equals(fieldName)) {
+                        context.nextToken();
+                        tagFilter.setTag(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
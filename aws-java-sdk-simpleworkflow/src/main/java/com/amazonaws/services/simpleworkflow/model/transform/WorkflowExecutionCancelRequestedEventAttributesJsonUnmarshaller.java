@@ -48,18 +48,19 @@ public class WorkflowExecutionCancelRequestedEventAttributesJsonUnmarshaller imp
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("externalWorkflowExecution", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionCancelRequestedEventAttributes.setExternalWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(
-                            context));
-                }
-                if (context.testExpression("externalInitiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionCancelRequestedEventAttributes.setExternalInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("cause", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionCancelRequestedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("externalWorkflowExecution".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionCancelRequestedEventAttributes.setExternalWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance()
+                                .unmarshall(context));
+                    } else if ("externalInitiatedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionCancelRequestedEventAttributes.setExternalInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("cause".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionCancelRequestedEventAttributes.setCause(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
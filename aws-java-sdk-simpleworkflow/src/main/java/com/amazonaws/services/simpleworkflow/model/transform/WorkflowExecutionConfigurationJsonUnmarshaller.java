@@ -47,29 +47,27 @@ public class WorkflowExecutionConfigurationJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("taskStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("executionStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("childPolicy", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("lambdaRole", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionConfiguration.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("taskStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionConfiguration.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("executionStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionConfiguration.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskList".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionConfiguration.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("taskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionConfiguration.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("childPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionConfiguration.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("lambdaRole".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionConfiguration.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
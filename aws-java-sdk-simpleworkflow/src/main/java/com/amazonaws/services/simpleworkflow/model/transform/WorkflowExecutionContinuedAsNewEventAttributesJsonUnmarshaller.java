@@ -48,50 +48,43 @@ public class WorkflowExecutionContinuedAsNewEventAttributesJsonUnmarshaller impl
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("decisionTaskCompletedEventId", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("newExecutionRunId", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setNewExecutionRunId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("executionStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("childPolicy", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("tagList", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setTagList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class))
-                            .unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("lambdaRole", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionContinuedAsNewEventAttributes.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("decisionTaskCompletedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setDecisionTaskCompletedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("newExecutionRunId".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setNewExecutionRunId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("executionStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class)
+                                .unmarshall(context));
+                    } else if ("taskList".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("taskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("childPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("tagList".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setTagList(tagListUnmarshaller.unmarshall(context));
+                    } else if ("workflowType".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("lambdaRole".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionContinuedAsNewEventAttributes.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -105,6 +98,13 @@ public class WorkflowExecutionContinuedAsNewEventAttributesJsonUnmarshaller impl
         return workflowExecutionContinuedAsNewEventAttributes;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> tagListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static WorkflowExecutionContinuedAsNewEventAttributesJsonUnmarshaller instance;
 
     public static WorkflowExecutionContinuedAsNewEventAttributesJsonUnmarshaller getInstance() {
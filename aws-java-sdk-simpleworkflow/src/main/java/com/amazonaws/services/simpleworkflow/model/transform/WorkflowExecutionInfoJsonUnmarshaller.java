@@ -47,41 +47,36 @@ public class WorkflowExecutionInfoJsonUnmarshaller implements Unmarshaller<Workf
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("execution", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("startTimestamp", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setStartTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("closeTimestamp", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setCloseTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("executionStatus", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setExecutionStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("closeStatus", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setCloseStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("parent", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setParent(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("tagList", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setTagList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("cancelRequested", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionInfo.setCancelRequested(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("execution".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionInfo.setExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("workflowType".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionInfo.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("startTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionInfo.setStartTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("closeTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionInfo.setCloseTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("executionStatus".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionInfo.setExecutionStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("closeStatus".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionInfo.setCloseStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("parent".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionInfo.setParent(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("tagList".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionInfo.setTagList(tagListUnmarshaller.unmarshall(context));
+                    } else if ("cancelRequested".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionInfo.setCancelRequested(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -95,6 +90,13 @@ public class WorkflowExecutionInfoJsonUnmarshaller implements Unmarshaller<Workf
         return workflowExecutionInfo;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> tagListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static WorkflowExecutionInfoJsonUnmarshaller instance;
 
     public static WorkflowExecutionInfoJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class WorkflowExecutionOpenCountsJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("openActivityTasks", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionOpenCounts.setOpenActivityTasks(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("openDecisionTasks", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionOpenCounts.setOpenDecisionTasks(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("openTimers", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionOpenCounts.setOpenTimers(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("openChildWorkflowExecutions", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionOpenCounts.setOpenChildWorkflowExecutions(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("openLambdaFunctions", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionOpenCounts.setOpenLambdaFunctions(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("openActivityTasks".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionOpenCounts.setOpenActivityTasks(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("openDecisionTasks".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionOpenCounts.setOpenDecisionTasks(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("openTimers".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionOpenCounts.setOpenTimers(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("openChildWorkflowExecutions".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionOpenCounts.setOpenChildWorkflowExecutions(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("openLambdaFunctions".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionOpenCounts.setOpenLambdaFunctions(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
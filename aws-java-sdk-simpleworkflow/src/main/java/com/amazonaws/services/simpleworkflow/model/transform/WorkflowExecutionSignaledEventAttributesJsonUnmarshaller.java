@@ -48,21 +48,22 @@ public class WorkflowExecutionSignaledEventAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("signalName", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionSignaledEventAttributes.setSignalName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionSignaledEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("externalWorkflowExecution", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionSignaledEventAttributes.setExternalWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("externalInitiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionSignaledEventAttributes.setExternalInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("signalName".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionSignaledEventAttributes.setSignalName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionSignaledEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("externalWorkflowExecution".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionSignaledEventAttributes.setExternalWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("externalInitiatedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionSignaledEventAttributes.setExternalInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,53 +47,45 @@ public class WorkflowExecutionStartedEventAttributesJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("input", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("executionStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("childPolicy", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("taskList", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("workflowType", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("tagList", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setTagList(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("taskPriority", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("continuedExecutionRunId", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setContinuedExecutionRunId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("parentWorkflowExecution", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setParentWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("parentInitiatedEventId", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setParentInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("lambdaRole", targetDepth)) {
-                    context.nextToken();
-                    workflowExecutionStartedEventAttributes.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("input".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setInput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("executionStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("childPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("taskList".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("workflowType".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setWorkflowType(WorkflowTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("tagList".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setTagList(tagListUnmarshaller.unmarshall(context));
+                    } else if ("taskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("continuedExecutionRunId".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setContinuedExecutionRunId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("parentWorkflowExecution".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setParentWorkflowExecution(WorkflowExecutionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("parentInitiatedEventId".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setParentInitiatedEventId(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("lambdaRole".equals(fieldName)) {
+                        context.nextToken();
+                        workflowExecutionStartedEventAttributes.setLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -107,6 +99,13 @@ public class WorkflowExecutionStartedEventAttributesJsonUnmarshaller implements
         return workflowExecutionStartedEventAttributes;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> tagListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static WorkflowExecutionStartedEventAttributesJsonUnmarshaller instance;
 
     public static WorkflowExecutionStartedEventAttributesJsonUnmarshaller getInstance() {
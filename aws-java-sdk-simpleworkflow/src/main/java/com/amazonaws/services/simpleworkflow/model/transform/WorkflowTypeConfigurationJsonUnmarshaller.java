@@ -47,29 +47,27 @@ public class WorkflowTypeConfigurationJsonUnmarshaller implements Unmarshaller<W
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("defaultTaskStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration.setDefaultTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultExecutionStartToCloseTimeout", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration.setDefaultExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultTaskList", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration.setDefaultTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("defaultTaskPriority", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration.setDefaultTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultChildPolicy", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration.setDefaultChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("defaultLambdaRole", targetDepth)) {
-                    context.nextToken();
-                    workflowTypeConfiguration.setDefaultLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("defaultTaskStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        workflowTypeConfiguration.setDefaultTaskStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultExecutionStartToCloseTimeout".equals(fieldName)) {
+                        context.nextToken();
+                        workflowTypeConfiguration.setDefaultExecutionStartToCloseTimeout(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultTaskList".equals(fieldName)) {
+                        context.nextToken();
+                        workflowTypeConfiguration.setDefaultTaskList(TaskListJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("defaultTaskPriority".equals(fieldName)) {
+                        context.nextToken();
+                        workflowTypeConfiguration.setDefaultTaskPriority(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultChildPolicy".equals(fieldName)) {
+                        context.nextToken();
+                        workflowTypeConfiguration.setDefaultChildPolicy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("defaultLambdaRole".equals(fieldName)) {
+                        context.nextToken();
+                        workflowTypeConfiguration.setDefaultLambdaRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,57 +47,48 @@ public class AddressJsonUnmarshaller implements Unmarshaller<Address, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AddressId", targetDepth)) {
-                    context.nextToken();
-                    address.setAddressId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    address.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Company", targetDepth)) {
-                    context.nextToken();
-                    address.setCompany(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Street1", targetDepth)) {
-                    context.nextToken();
-                    address.setStreet1(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Street2", targetDepth)) {
-                    context.nextToken();
-                    address.setStreet2(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Street3", targetDepth)) {
-                    context.nextToken();
-                    address.setStreet3(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("City", targetDepth)) {
-                    context.nextToken();
-                    address.setCity(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StateOrProvince", targetDepth)) {
-                    context.nextToken();
-                    address.setStateOrProvince(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PrefectureOrDistrict", targetDepth)) {
-                    context.nextToken();
-                    address.setPrefectureOrDistrict(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Landmark", targetDepth)) {
-                    context.nextToken();
-                    address.setLandmark(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Country", targetDepth)) {
-                    context.nextToken();
-                    address.setCountry(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PostalCode", targetDepth)) {
-                    context.nextToken();
-                    address.setPostalCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PhoneNumber", targetDepth)) {
-                    context.nextToken();
-                    address.setPhoneNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AddressId".equals(fieldName)) {
+                        context.nextToken();
+                        address.setAddressId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        address.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Company".equals(fieldName)) {
+                        context.nextToken();
+                        address.setCompany(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Street1".equals(fieldName)) {
+                        context.nextToken();
+                        address.setStreet1(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Street2".equals(fieldName)) {
+                        context.nextToken();
+                        address.setStreet2(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Street3".equals(fieldName)) {
+                        context.nextToken();
+                        address.setStreet3(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("City".equals(fieldName)) {
+                        context.nextToken();
+                        address.setCity(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StateOrProvince".equals(fieldName)) {
+                        context.nextToken();
+                        address.setStateOrProvince(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PrefectureOrDistrict".equals(fieldName)) {
+                        context.nextToken();
+                        address.setPrefectureOrDistrict(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Landmark".equals(fieldName)) {
+                        context.nextToken();
+                        address.setLandmark(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Country".equals(fieldName)) {
+                        context.nextToken();
+                        address.setCountry(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PostalCode".equals(fieldName)) {
+                        context.nextToken();
+                        address.setPostalCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PhoneNumber".equals(fieldName)) {
+                        context.nextToken();
+                        address.setPhoneNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateAddressResultJsonUnmarshaller implements Unmarshaller<CreateA
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AddressId", targetDepth)) {
-                    context.nextToken();
-                    createAddressResult.setAddressId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AddressId".equals(fieldName)) {
+                        context.nextToken();
+                        createAddressResult.setAddressId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class DataTransferJsonUnmarshaller implements Unmarshaller<DataTransfer,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BytesTransferred", targetDepth)) {
-                    context.nextToken();
-                    dataTransfer.setBytesTransferred(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("ObjectsTransferred", targetDepth)) {
-                    context.nextToken();
-                    dataTransfer.setObjectsTransferred(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TotalBytes", targetDepth)) {
-                    context.nextToken();
-                    dataTransfer.setTotalBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TotalObjects", targetDepth)) {
-                    context.nextToken();
-                    dataTransfer.setTotalObjects(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BytesTransferred".equals(fieldName)) {
+                        context.nextToken();
+                        dataTransfer.setBytesTransferred(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("ObjectsTransferred".equals(fieldName)) {
+                        context.nextToken();
+                        dataTransfer.setObjectsTransferred(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TotalBytes".equals(fieldName)) {
+                        context.nextToken();
+                        dataTransfer.setTotalBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TotalObjects".equals(fieldName)) {
+                        context.nextToken();
+                        dataTransfer.setTotalObjects(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DescribeAddressResultJsonUnmarshaller implements Unmarshaller<Descr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Address", targetDepth)) {
-                    context.nextToken();
-                    describeAddressResult.setAddress(AddressJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Address".equals(fieldName)) {
+                        context.nextToken();
+                        describeAddressResult.setAddress(AddressJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class DescribeAddressesResultJsonUnmarshaller implements Unmarshaller<Des
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Addresses", targetDepth)) {
-                    context.nextToken();
-                    describeAddressesResult.setAddresses(new ListUnmarshaller<Address>(AddressJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeAddressesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Addresses".equals(fieldName)) {
+                        context.nextToken();
+                        describeAddressesResult.setAddresses(addressesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeAddressesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeAddressesResultJsonUnmarshaller implements Unmarshaller<Des
         return describeAddressesResult;
     }
 
+    private final Unmarshaller<java.util.List<Address>, JsonUnmarshallerContext> addressesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Address>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Address>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Address>(AddressJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeAddressesResultJsonUnmarshaller instance;
 
     public static DescribeAddressesResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DescribeJobResultJsonUnmarshaller implements Unmarshaller<DescribeJ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobMetadata", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setJobMetadata(JobMetadataJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SubJobMetadata", targetDepth)) {
-                    context.nextToken();
-                    describeJobResult.setSubJobMetadata(new ListUnmarshaller<JobMetadata>(JobMetadataJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setJobMetadata(JobMetadataJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("SubJobMetadata".equals(fieldName)) {
+                        context.nextToken();
+                        describeJobResult.setSubJobMetadata(subJobMetadataUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeJobResultJsonUnmarshaller implements Unmarshaller<DescribeJ
         return describeJobResult;
     }
 
+    private final Unmarshaller<java.util.List<JobMetadata>, JsonUnmarshallerContext> subJobMetadataUnmarshaller = new CachingJsonUnmarshaller<java.util.List<JobMetadata>>() {
+        @Override
+        protected Unmarshaller<java.util.List<JobMetadata>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<JobMetadata>(JobMetadataJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeJobResultJsonUnmarshaller instance;
 
     public static DescribeJobResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class GetJobManifestResultJsonUnmarshaller implements Unmarshaller<GetJob
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ManifestURI", targetDepth)) {
-                    context.nextToken();
-                    getJobManifestResult.setManifestURI(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ManifestURI".equals(fieldName)) {
+                        context.nextToken();
+                        getJobManifestResult.setManifestURI(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
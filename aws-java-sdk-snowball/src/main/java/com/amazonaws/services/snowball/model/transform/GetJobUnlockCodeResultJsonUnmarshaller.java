@@ -47,9 +47,12 @@ public class GetJobUnlockCodeResultJsonUnmarshaller implements Unmarshaller<GetJ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("UnlockCode", targetDepth)) {
-                    context.nextToken();
-                    getJobUnlockCodeResult.setUnlockCode(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("UnlockCode".equals(fieldName)) {
+                        context.nextToken();
+                        getJobUnlockCodeResult.setUnlockCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
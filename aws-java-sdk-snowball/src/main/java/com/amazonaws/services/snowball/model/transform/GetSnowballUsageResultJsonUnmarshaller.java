@@ -47,13 +47,15 @@ public class GetSnowballUsageResultJsonUnmarshaller implements Unmarshaller<GetS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnowballLimit", targetDepth)) {
-                    context.nextToken();
-                    getSnowballUsageResult.setSnowballLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("SnowballsInUse", targetDepth)) {
-                    context.nextToken();
-                    getSnowballUsageResult.setSnowballsInUse(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SnowballLimit".equals(fieldName)) {
+                        context.nextToken();
+                        getSnowballUsageResult.setSnowballLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("SnowballsInUse".equals(fieldName)) {
+                        context.nextToken();
+                        getSnowballUsageResult.setSnowballsInUse(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class JobListEntryJsonUnmarshaller implements Unmarshaller<JobListEntry,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobId", targetDepth)) {
-                    context.nextToken();
-                    jobListEntry.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobState", targetDepth)) {
-                    context.nextToken();
-                    jobListEntry.setJobState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IsMaster", targetDepth)) {
-                    context.nextToken();
-                    jobListEntry.setIsMaster(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobId".equals(fieldName)) {
+                        context.nextToken();
+                        jobListEntry.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("JobState".equals(fieldName)) {
+                        context.nextToken();
+                        jobListEntry.setJobState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IsMaster".equals(fieldName)) {
+                        context.nextToken();
+                        jobListEntry.setIsMaster(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class JobLogsJsonUnmarshaller implements Unmarshaller<JobLogs, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobCompletionReportURI", targetDepth)) {
-                    context.nextToken();
-                    jobLogs.setJobCompletionReportURI(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobSuccessLogURI", targetDepth)) {
-                    context.nextToken();
-                    jobLogs.setJobSuccessLogURI(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobFailureLogURI", targetDepth)) {
-                    context.nextToken();
-                    jobLogs.setJobFailureLogURI(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobCompletionReportURI".equals(fieldName)) {
+                        context.nextToken();
+                        jobLogs.setJobCompletionReportURI(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("JobSuccessLogURI".equals(fieldName)) {
+                        context.nextToken();
+                        jobLogs.setJobSuccessLogURI(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("JobFailureLogURI".equals(fieldName)) {
+                        context.nextToken();
+                        jobLogs.setJobFailureLogURI(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,61 +47,51 @@ public class JobMetadataJsonUnmarshaller implements Unmarshaller<JobMetadata, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobId", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobState", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setJobState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobType", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setJobType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreationDate", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Resources", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setResources(JobResourceJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KmsKeyARN", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setKmsKeyARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RoleARN", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AddressId", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setAddressId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ShippingDetails", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setShippingDetails(ShippingDetailsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("SnowballCapacityPreference", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setSnowballCapacityPreference(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Notification", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setNotification(NotificationJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("DataTransferProgress", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setDataTransferProgress(DataTransferJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("JobLogInfo", targetDepth)) {
-                    context.nextToken();
-                    jobMetadata.setJobLogInfo(JobLogsJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobId".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setJobId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("JobState".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setJobState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("JobType".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setJobType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreationDate".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setCreationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Resources".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setResources(JobResourceJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KmsKeyARN".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setKmsKeyARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RoleARN".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setRoleARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AddressId".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setAddressId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ShippingDetails".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setShippingDetails(ShippingDetailsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("SnowballCapacityPreference".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setSnowballCapacityPreference(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Notification".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setNotification(NotificationJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("DataTransferProgress".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setDataTransferProgress(DataTransferJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("JobLogInfo".equals(fieldName)) {
+                        context.nextToken();
+                        jobMetadata.setJobLogInfo(JobLogsJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class JobResourceJsonUnmarshaller implements Unmarshaller<JobResource, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("S3Resources", targetDepth)) {
-                    context.nextToken();
-                    jobResource.setS3Resources(new ListUnmarshaller<S3Resource>(S3ResourceJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("S3Resources".equals(fieldName)) {
+                        context.nextToken();
+                        jobResource.setS3Resources(s3ResourcesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class JobResourceJsonUnmarshaller implements Unmarshaller<JobResource, Js
         return jobResource;
     }
 
+    private final Unmarshaller<java.util.List<S3Resource>, JsonUnmarshallerContext> s3ResourcesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<S3Resource>>() {
+        @Override
+        protected Unmarshaller<java.util.List<S3Resource>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<S3Resource>(S3ResourceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static JobResourceJsonUnmarshaller instance;
 
     public static JobResourceJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class KeyRangeJsonUnmarshaller implements Unmarshaller<KeyRange, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BeginMarker", targetDepth)) {
-                    context.nextToken();
-                    keyRange.setBeginMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("EndMarker", targetDepth)) {
-                    context.nextToken();
-                    keyRange.setEndMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BeginMarker".equals(fieldName)) {
+                        context.nextToken();
+                        keyRange.setBeginMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("EndMarker".equals(fieldName)) {
+                        context.nextToken();
+                        keyRange.setEndMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ListJobsResultJsonUnmarshaller implements Unmarshaller<ListJobsResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("JobListEntries", targetDepth)) {
-                    context.nextToken();
-                    listJobsResult.setJobListEntries(new ListUnmarshaller<JobListEntry>(JobListEntryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listJobsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("JobListEntries".equals(fieldName)) {
+                        context.nextToken();
+                        listJobsResult.setJobListEntries(jobListEntriesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listJobsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListJobsResultJsonUnmarshaller implements Unmarshaller<ListJobsResu
         return listJobsResult;
     }
 
+    private final Unmarshaller<java.util.List<JobListEntry>, JsonUnmarshallerContext> jobListEntriesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<JobListEntry>>() {
+        @Override
+        protected Unmarshaller<java.util.List<JobListEntry>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<JobListEntry>(JobListEntryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListJobsResultJsonUnmarshaller instance;
 
     public static ListJobsResultJsonUnmarshaller getInstance() {
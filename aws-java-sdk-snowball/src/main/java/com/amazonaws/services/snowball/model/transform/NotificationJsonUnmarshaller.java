@@ -47,17 +47,18 @@ public class NotificationJsonUnmarshaller implements Unmarshaller<Notification,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnsTopicARN", targetDepth)) {
-                    context.nextToken();
-                    notification.setSnsTopicARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("JobStatesToNotify", targetDepth)) {
-                    context.nextToken();
-                    notification.setJobStatesToNotify(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NotifyAll", targetDepth)) {
-                    context.nextToken();
-                    notification.setNotifyAll(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SnsTopicARN".equals(fieldName)) {
+                        context.nextToken();
+                        notification.setSnsTopicARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("JobStatesToNotify".equals(fieldName)) {
+                        context.nextToken();
+                        notification.setJobStatesToNotify(jobStatesToNotifyUnmarshaller.unmarshall(context));
+                    } else if ("NotifyAll".equals(fieldName)) {
+                        context.nextToken();
+                        notification.setNotifyAll(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class NotificationJsonUnmarshaller implements Unmarshaller<Notification,
         return notification;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> jobStatesToNotifyUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static NotificationJsonUnmarshaller instance;
 
     public static NotificationJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class S3ResourceJsonUnmarshaller implements Unmarshaller<S3Resource, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BucketArn", targetDepth)) {
-                    context.nextToken();
-                    s3Resource.setBucketArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("KeyRange", targetDepth)) {
-                    context.nextToken();
-                    s3Resource.setKeyRange(KeyRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BucketArn".equals(fieldName)) {
+                        context.nextToken();
+                        s3Resource.setBucketArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("KeyRange".equals(fieldName)) {
+                        context.nextToken();
+                        s3Resource.setKeyRange(KeyRangeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
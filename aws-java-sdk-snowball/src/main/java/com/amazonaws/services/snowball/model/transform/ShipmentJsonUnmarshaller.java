@@ -47,13 +47,15 @@ public class ShipmentJsonUnmarshaller implements Unmarshaller<Shipment, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    shipment.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TrackingNumber", targetDepth)) {
-                    context.nextToken();
-                    shipment.setTrackingNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        shipment.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TrackingNumber".equals(fieldName)) {
+                        context.nextToken();
+                        shipment.setTrackingNumber(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class ShippingDetailsJsonUnmarshaller implements Unmarshaller<ShippingDet
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ShippingOption", targetDepth)) {
-                    context.nextToken();
-                    shippingDetails.setShippingOption(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InboundShipment", targetDepth)) {
-                    context.nextToken();
-                    shippingDetails.setInboundShipment(ShipmentJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("OutboundShipment", targetDepth)) {
-                    context.nextToken();
-                    shippingDetails.setOutboundShipment(ShipmentJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ShippingOption".equals(fieldName)) {
+                        context.nextToken();
+                        shippingDetails.setShippingOption(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InboundShipment".equals(fieldName)) {
+                        context.nextToken();
+                        shippingDetails.setInboundShipment(ShipmentJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("OutboundShipment".equals(fieldName)) {
+                        context.nextToken();
+                        shippingDetails.setOutboundShipment(ShipmentJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -118,6 +118,17 @@ public class QueueBufferConfig {
      */
     private boolean flushOnShutdown = false;
 
+    /**
+     * If enabled, the number of receive batches pre-fetched and in flight is scaled between one and
+     * maxDoneReceiveBatches / maxInflightReceiveBatches according to the rate at which messages are
+     * consumed from the buffer, the latency of receive calls and the visibility timeout, so that
+     * pre-fetched messages are consumed before their visibility timeout expires.
+     */
+    private boolean adaptivePrefetching = ADAPTIVE_PREFETCHING_DEFAULT;
+
+    /** false */
+    public static final boolean ADAPTIVE_PREFETCHING_DEFAULT = false;
+
     public QueueBufferConfig(long maxBatchOpenMs, int maxInflightOutboundBatches, int maxInflightReceiveBatches,
             int maxDoneReceiveBatches, boolean paramLongPoll, long maxBatchSizeBytes, int visibilityTimeout,
             int longPollTimeout, int maxBatch) {
@@ -150,6 +161,7 @@ public class QueueBufferConfig {
         maxInflightOutboundBatches = other.maxInflightOutboundBatches;
         maxInflightReceiveBatches = other.maxInflightReceiveBatches;
         visibilityTimeoutSeconds = other.visibilityTimeoutSeconds;
+        adaptivePrefetching = other.adaptivePrefetching;
     }
 
     @Override
@@ -158,7 +170,8 @@ public class QueueBufferConfig {
                 + longPoll + ", maxInflightOutboundBatches=" + maxInflightOutboundBatches
                 + ", maxInflightReceiveBatches=" + maxInflightReceiveBatches + ", maxDoneReceiveBatches="
                 + maxDoneReceiveBatches + ", maxBatchSizeBytes=" + maxBatchSizeBytes + ", visibilityTimeoutSeconds="
-                + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds=" + longPollWaitTimeoutSeconds + "]";
+                + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds=" + longPollWaitTimeoutSeconds
+                + ", adaptivePrefetching=" + adaptivePrefetching + "]";
     }
 
     /**
@@ -473,6 +486,39 @@ public class QueueBufferConfig {
         return this;
     }
 
+    /**
+     * Returns whether adaptive prefetching is enabled. The default value is false.
+     * <p>
+     * If enabled, the number of receive batches pre-fetched and in flight is scaled between one and
+     * {@link #getMaxDoneReceiveBatches()} / {@link #getMaxInflightReceiveBatches()} according to the
+     * rate at which messages are consumed from the buffer, the latency of receive calls and the
+     * visibility timeout, so that pre-fetched messages are consumed before their visibility timeout
+     * expires.
+     */
+    public boolean isAdaptivePrefetching() {
+        return adaptivePrefetching;
+    }
+
+    /**
+     * Sets whether adaptive prefetching is enabled. The default value is false.
+     *
+     * @see #isAdaptivePrefetching()
+     */
+    public void setAdaptivePrefetching(boolean adaptivePrefetching) {
+        this.adaptivePrefetching = adaptivePrefetching;
+    }
+
+    /**
+     * Sets whether adaptive prefetching is enabled. The default value is false.
+     *
+     * @see #isAdaptivePrefetching()
+     * @return This object for method chaining.
+     */
+    public QueueBufferConfig withAdaptivePrefetching(boolean adaptivePrefetching) {
+        setAdaptivePrefetching(adaptivePrefetching);
+        return this;
+    }
+
     /**
      * this method checks the config for validity. If the config is deemed to be invalid, an
      * informative exception is thrown.
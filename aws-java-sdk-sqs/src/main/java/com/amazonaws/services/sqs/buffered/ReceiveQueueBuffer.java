@@ -19,8 +19,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -38,13 +42,15 @@ import com.amazonaws.services.sqs.model.ReceiveMessageResult;
  * The ReceiveQueueBuffer class is responsible for dequeueing of messages from a single SQS queue.
  * It uses the provided executor to pre-fetch messages from the server and keeps them in a buffer
  * which it uses to satisfy incoming requests. The number of requests pre-fetched and kept in the
- * buffer, as well as the maximum number of threads used to retrieve the messages are configurable.
+ * buffer, as well as the maximum number of threads used to retrieve the messages are configurable,
+ * and can be scaled to the rate at which messages are consumed (see
+ * {@link QueueBufferConfig#isAdaptivePrefetching()}).
  * <p>
- * Synchronization strategy: - Threads must hold the TaskSpawnSyncPoint object monitor to spawn a
- * new task or modify the number of inflight tasks - Threads must hold the monitor of the "futures"
- * list to modify the list - Threads must hold the monitor of the "finishedTasks" list to modify the
- * list - If you need to lock both futures and finishedTasks, lock futures first and finishedTasks
- * second
+ * Synchronization strategy: - Issued futures and finished batches are kept in concurrent queues,
+ * and the number of inflight batches is an atomic counter, so that no thread ever blocks on a
+ * monitor to receive a message - Futures are satisfied from the finished batches by one thread at
+ * a time: a thread that finds another one doing it records that there is more work to do, which
+ * the other thread picks up before it stops, instead of waiting for it
  */
 public class ReceiveQueueBuffer {
 
@@ -72,23 +78,22 @@ public class ReceiveQueueBuffer {
 
     private final AmazonSQS sqsClient;
 
-    private long bufferCounter = 0;
+    private final AtomicLong bufferCounter = new AtomicLong();
 
     /**
      * This buffer's queue visibility timeout. Used to detect expired message that should not be
-     * returned by the {@code receiveMessage} call. Synchronized by {@code receiveMessageLock}. -1
+     * returned by the {@code receiveMessage} call. Initialized under {@code taskSpawnSyncPoint}. -1
      * indicates that the time is uninitialized.
      */
     private volatile long visibilityTimeoutNanos = -1;
 
     /**
-     * Used as permits controlling the number of in flight receive batches. Synchronized by
-     * {@code taskSpawnSyncPoint}.
+     * Used as permits controlling the number of in flight receive batches.
      */
-    private volatile int inflightReceiveMessageBatches;
+    private final AtomicInteger inflightReceiveMessageBatches = new AtomicInteger();
 
     /**
-     * synchronize on this object to create new receive batches or modify inflight message count
+     * synchronize on this object to retrieve the visibility timeout of the queue
      */
     private final Object taskSpawnSyncPoint = new Object();
 
@@ -96,10 +101,22 @@ public class ReceiveQueueBuffer {
     volatile boolean shutDown = false;
 
     /** message delivery futures we gave out */
-    private final LinkedList<ReceiveMessageFuture> futures = new LinkedList<ReceiveMessageFuture>();
+    private final Queue<ReceiveMessageFuture> futures = new ConcurrentLinkedQueue<ReceiveMessageFuture>();
+
+    /** number of futures we gave out that are not satisfied yet */
+    private final AtomicInteger pendingFutures = new AtomicInteger();
 
     /** finished batches are stored in this list. */
-    private LinkedList<ReceiveMessageBatchTask> finishedTasks = new LinkedList<ReceiveMessageBatchTask>();
+    private final Queue<ReceiveMessageBatchTask> finishedTasks = new ConcurrentLinkedQueue<ReceiveMessageBatchTask>();
+
+    /**
+     * Number of requests to satisfy futures from the buffer since the thread currently doing so
+     * started; zero if no thread is doing so.
+     */
+    private final AtomicInteger satisfyRequests = new AtomicInteger();
+
+    /** Consumption rate and receive latency, used by adaptive prefetching. */
+    private final ConsumptionStatistics statistics = new ConsumptionStatistics();
 
     ReceiveQueueBuffer(AmazonSQS paramSQS, Executor paramExecutor, QueueBufferConfig paramConfig, String url) {
         config = paramConfig;
@@ -116,7 +133,7 @@ public class ReceiveQueueBuffer {
     public void shutdown() {
         shutDown = true;
         try {
-            while (inflightReceiveMessageBatches > 0)
+            while (inflightReceiveMessageBatches.get() > 0)
                 Thread.sleep(100);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -153,51 +170,54 @@ public class ReceiveQueueBuffer {
     }
 
     /**
-     * Creates and returns a new future object. Sleeps if the list of already-issued but as yet
-     * unsatisfied futures is over a throttle limit.
+     * Creates and returns a new future object.
      * 
      * @return never null
      */
     private ReceiveMessageFuture issueFuture(int size,
                                              QueueBufferCallback<ReceiveMessageRequest, ReceiveMessageResult> callback) {
-        synchronized (futures) {
-            ReceiveMessageFuture theFuture = new ReceiveMessageFuture(callback, size);
-            futures.addLast(theFuture);
-            return theFuture;
-        }
+        ReceiveMessageFuture theFuture = new ReceiveMessageFuture(callback, size);
+        pendingFutures.incrementAndGet();
+        futures.add(theFuture);
+        return theFuture;
     }
 
     /**
      * Attempts to satisfy some or all of the already-issued futures from the local buffer. If the
-     * buffer is empty or there are no futures, this method won't do anything.
+     * buffer is empty or there are no futures, this method won't do anything. If another thread is
+     * already doing so, this method returns right away and leaves it to that thread to go over the
+     * futures and buffer again.
      */
     private void satisfyFuturesFromBuffer() {
-        synchronized (futures) {
-            synchronized (finishedTasks) {
-                // attempt to satisfy futures until we run out of either futures or
-                // finished tasks
-                while ((!futures.isEmpty()) && (!finishedTasks.isEmpty())) {
-                    // Remove any expired tasks before attempting to fufill the future
-                    pruneExpiredTasks();
-                    // Fufill the future from a non expired task if there is one. There is still a
-                    // slight chance that the first task could have expired between the time we
-                    // pruned and the time we fufill the future
-                    if (!finishedTasks.isEmpty()) {
-                        fufillFuture(futures.poll());
-                    }
+        if (satisfyRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            // attempt to satisfy futures until we run out of either futures or
+            // finished tasks
+            while ((!futures.isEmpty()) && (!finishedTasks.isEmpty())) {
+                // Remove any expired tasks before attempting to fufill the future
+                pruneExpiredTasks();
+                // Fufill the future from a non expired task if there is one. There is still a
+                // slight chance that the first task could have expired between the time we
+                // pruned and the time we fufill the future
+                ReceiveMessageBatchTask task = finishedTasks.peek();
+                if (task != null) {
+                    pendingFutures.decrementAndGet();
+                    fufillFuture(futures.poll(), task);
                 }
             }
-        }
+            requests = satisfyRequests.addAndGet(-requests);
+        } while (requests != 0);
     }
 
     /**
-     * Fills the future with whatever results were received by the full batch currently at the head
-     * of the completed batch queue. Those results may be retrieved messages, or an exception. This
-     * method assumes that you are holding the finished tasks lock locks when invoking it. violate
-     * this assumption at your own peril
+     * Fills the future with whatever results were received by the given batch, currently at the
+     * head of the completed batch queue. Those results may be retrieved messages, or an exception.
+     * This method must only be invoked by the thread satisfying the futures.
      */
-    private void fufillFuture(ReceiveMessageFuture future) {
-        ReceiveMessageBatchTask task = finishedTasks.getFirst();
+    private void fufillFuture(ReceiveMessageFuture future, ReceiveMessageBatchTask task) {
         ReceiveMessageResult result = new ReceiveMessageResult();
         LinkedList<Message> messages = new LinkedList<Message>();
         result.setMessages(messages);
@@ -219,9 +239,10 @@ public class ReceiveQueueBuffer {
         // we may have just drained the batch.
         batchDone = batchDone || task.isEmpty() || (exception != null);
         if (batchDone) {
-            finishedTasks.removeFirst();
+            finishedTasks.remove(task);
         }
         result.setMessages(messages);
+        statistics.messagesConsumed(numRetrieved);
 
         // if after the above runs the exception is not null,
         // the finished batch has encountered an error, and we will
@@ -236,7 +257,7 @@ public class ReceiveQueueBuffer {
 
     /**
      * Prune any expired tasks that do not have an exception associated with them. This method
-     * assumes that you are holding the finishedTasks lock when invoking it
+     * must only be invoked by the thread satisfying the futures.
      */
     private void pruneExpiredTasks() {
         int numberExpiredTasksPruned = pruneHeadTasks(new Predicate<ReceiveQueueBuffer.ReceiveMessageBatchTask>() {
@@ -260,7 +281,7 @@ public class ReceiveQueueBuffer {
     /**
      * Prune all tasks at the beginning of the finishedTasks list that meet the given condition.
      * Once a task is found that does not meet the given condition the pruning stops. This method
-     * assumes that you are holding the finishedTasks lock when invoking it.
+     * must only be invoked by the thread satisfying the futures.
      * 
      * @param pruneCondition
      *            Condition on whether a task is eligible to be pruned
@@ -268,9 +289,10 @@ public class ReceiveQueueBuffer {
      */
     private int pruneHeadTasks(Predicate<ReceiveMessageBatchTask> pruneCondition) {
         int numberPruned = 0;
-        while (!finishedTasks.isEmpty()) {
-            if (pruneCondition.test(finishedTasks.getFirst())) {
-                finishedTasks.removeFirst();
+        ReceiveMessageBatchTask task;
+        while ((task = finishedTasks.peek()) != null) {
+            if (pruneCondition.test(task)) {
+                finishedTasks.remove(task);
                 numberPruned++;
             } else {
                 break;
@@ -288,22 +310,44 @@ public class ReceiveQueueBuffer {
             return;
         }
 
-        int desiredBatches = config.getMaxDoneReceiveBatches();
-        desiredBatches = desiredBatches < 1 ? 1 : desiredBatches;
+        initVisibilityTimeout();
 
-        synchronized (finishedTasks) {
-            if (finishedTasks.size() >= desiredBatches)
-                return;
+        int desiredBatches = desiredDoneReceiveBatches();
+
+        int finishedBatches = finishedTasks.size();
+        if (finishedBatches >= desiredBatches)
+            return;
 
-            // if we have some finished batches already, and
-            // existing inflight batches will bring us to the limit,
-            // don't spawn more. if our finished tasks cache is empty, we will
-            // always spawn a thread.
-            if (finishedTasks.size() > 0 && (finishedTasks.size() + inflightReceiveMessageBatches) >= desiredBatches) {
+        // if we have some finished batches already, and
+        // existing inflight batches will bring us to the limit,
+        // don't spawn more. if our finished tasks cache is empty, we will
+        // always spawn a thread.
+        if (finishedBatches > 0 && (finishedBatches + inflightReceiveMessageBatches.get()) >= desiredBatches) {
+            return;
+        }
+
+        int max = desiredInflightReceiveBatches();
+        int inflight;
+        do {
+            inflight = inflightReceiveMessageBatches.get();
+            if (inflight >= max) {
                 return;
             }
+        } while (!inflightReceiveMessageBatches.compareAndSet(inflight, inflight + 1));
+
+        ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this);
+        long batchNumber = bufferCounter.incrementAndGet();
+        if (log.isTraceEnabled()) {
+            log.trace("Spawned receive batch #" + batchNumber + " (" + (inflight + 1) + " of " + max
+                    + " inflight) for queue " + qUrl);
         }
+        executor.execute(task);
+    }
 
+    private void initVisibilityTimeout() {
+        if (visibilityTimeoutNanos != -1) {
+            return;
+        }
         synchronized (taskSpawnSyncPoint) {
             if (visibilityTimeoutNanos == -1) {
                 GetQueueAttributesRequest request = new GetQueueAttributesRequest().withQueueUrl(qUrl)
@@ -313,38 +357,64 @@ public class ReceiveQueueBuffer {
                         .get("VisibilityTimeout"));
                 visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(visibilityTimeoutSeconds, TimeUnit.SECONDS);
             }
+        }
+    }
 
-            int max = config.getMaxInflightReceiveBatches();
-            // must allow at least one inflight receive task, or receive won't
-            // work at all.
-            max = max > 0 ? max : 1;
-            int toSpawn = max - inflightReceiveMessageBatches;
-            if (toSpawn > 0) {
-                ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this);
-                ++inflightReceiveMessageBatches;
-                ++bufferCounter;
-                if (log.isTraceEnabled()) {
-                    log.trace("Spawned receive batch #" + bufferCounter + " (" + inflightReceiveMessageBatches + " of "
-                            + max + " inflight) for queue " + qUrl);
-                }
-                executor.execute(task);
-            }
+    /**
+     * Returns the number of finished batches to keep in the buffer. Without adaptive prefetching,
+     * this is the configured maximum. With adaptive prefetching, this is the number of batches
+     * needed to keep consumers busy for twice the latency of a receive call, but not more than they
+     * can consume within half the visibility timeout.
+     */
+    private int desiredDoneReceiveBatches() {
+        int max = config.getMaxDoneReceiveBatches();
+        max = max < 1 ? 1 : max;
+        if (!config.isAdaptivePrefetching()) {
+            return max;
         }
+        double messagesPerSecond = statistics.getMessagesPerSecond();
+        double visibilityTimeoutSeconds = config.getVisibilityTimeoutSeconds() > 0
+                ? config.getVisibilityTimeoutSeconds()
+                : visibilityTimeoutNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        double messages = Math.min(2 * messagesPerSecond * statistics.getReceiveSeconds(),
+                messagesPerSecond * visibilityTimeoutSeconds / 2);
+        return clamp(messages / batchSize(), max);
+    }
+
+    /**
+     * Returns the number of receive batches to keep in flight. Without adaptive prefetching, this
+     * is the configured maximum. With adaptive prefetching, this is enough batches to match the
+     * consumption rate, or to satisfy the futures waiting for messages.
+     */
+    private int desiredInflightReceiveBatches() {
+        int max = config.getMaxInflightReceiveBatches();
+        // must allow at least one inflight receive task, or receive won't
+        // work at all.
+        max = max > 0 ? max : 1;
+        if (!config.isAdaptivePrefetching()) {
+            return max;
+        }
+        double batches = statistics.getMessagesPerSecond() * statistics.getReceiveSeconds() / batchSize();
+        return clamp(Math.max(batches, pendingFutures.get()), max);
+    }
+
+    private int batchSize() {
+        return Math.max(1, config.getMaxBatchSize());
+    }
+
+    private static int clamp(double value, int max) {
+        return (int) Math.max(1, Math.min(max, Math.ceil(value)));
     }
 
     /**
      * This method is called by the batches after they have finished retrieving the messages.
      */
     void reportBatchFinished(ReceiveMessageBatchTask batch) {
-        synchronized (finishedTasks) {
-            finishedTasks.addLast(batch);
-            if (log.isTraceEnabled()) {
-                log.info("Queue " + qUrl + " now has " + finishedTasks.size() + " receive results cached ");
-            }
-        }
-        synchronized (taskSpawnSyncPoint) {
-            --inflightReceiveMessageBatches;
+        finishedTasks.add(batch);
+        if (log.isTraceEnabled()) {
+            log.trace("Queue " + qUrl + " now has " + finishedTasks.size() + " receive results cached ");
         }
+        inflightReceiveMessageBatches.decrementAndGet();
         satisfyFuturesFromBuffer();
         spawnMoreReceiveTasks();
     }
@@ -355,10 +425,7 @@ public class ReceiveQueueBuffer {
     public void clear() {
         boolean done = false;
         while (!done) {
-            ReceiveMessageBatchTask currentBatch = null;
-            synchronized (finishedTasks) {
-                currentBatch = finishedTasks.poll();
-            }
+            ReceiveMessageBatchTask currentBatch = finishedTasks.poll();
 
             if (currentBatch != null) {
                 currentBatch.clear();
@@ -369,6 +436,64 @@ public class ReceiveQueueBuffer {
         }
     }
 
+    /**
+     * Exponentially weighted moving averages of the rate at which messages are consumed from the
+     * buffer and of the latency of the receive calls that returned messages. Updates are not
+     * atomic; an occasional lost update only delays the averages slightly.
+     */
+    static class ConsumptionStatistics {
+        static final double WEIGHT = 0.25;
+
+        private final long rateIntervalNanos;
+        private final AtomicLong consumedInInterval = new AtomicLong();
+        private final AtomicLong intervalStartNanos = new AtomicLong(System.nanoTime());
+        private volatile double messagesPerSecond;
+        private volatile double receiveSeconds;
+
+        ConsumptionStatistics() {
+            this(TimeUnit.SECONDS.toNanos(1));
+        }
+
+        /**
+         * @param rateIntervalNanos
+         *            the minimum time over which consumed messages are counted before the rate
+         *            average is updated
+         */
+        ConsumptionStatistics(long rateIntervalNanos) {
+            this.rateIntervalNanos = rateIntervalNanos;
+        }
+
+        void messagesConsumed(int count) {
+            consumedInInterval.addAndGet(count);
+            updateRate();
+        }
+
+        void receiveCompleted(long durationNanos) {
+            double seconds = durationNanos / (double) TimeUnit.SECONDS.toNanos(1);
+            receiveSeconds = receiveSeconds == 0 ? seconds : WEIGHT * seconds + (1 - WEIGHT) * receiveSeconds;
+        }
+
+        double getMessagesPerSecond() {
+            updateRate();
+            return messagesPerSecond;
+        }
+
+        double getReceiveSeconds() {
+            return receiveSeconds;
+        }
+
+        private void updateRate() {
+            long start = intervalStartNanos.get();
+            long now = System.nanoTime();
+            long elapsed = now - start;
+            if (elapsed < rateIntervalNanos || !intervalStartNanos.compareAndSet(start, now)) {
+                return;
+            }
+            double rate = consumedInInterval.getAndSet(0) / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+            messagesPerSecond = WEIGHT * rate + (1 - WEIGHT) * messagesPerSecond;
+        }
+    }
+
     private class ReceiveMessageFuture extends QueueBufferFuture<ReceiveMessageRequest, ReceiveMessageResult> {
         /* how many messages did the request ask for */
         private int requestedSize;
@@ -512,7 +637,11 @@ public class ReceiveQueueBuffer {
                     request.withWaitTimeSeconds(config.getLongPollWaitTimeoutSeconds());
                 }
 
+                long startNano = System.nanoTime();
                 messages = sqsClient.receiveMessage(request).getMessages();
+                if (!messages.isEmpty()) {
+                    statistics.receiveCompleted(System.nanoTime() - startNano);
+                }
             } catch (AmazonClientException e) {
                 exception = e;
             } finally {
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.amazonaws.services.sqs.buffered.ReceiveQueueBuffer.ConsumptionStatistics;
+
+public class ConsumptionStatisticsTest {
+
+    private static final double DELTA = 1e-9;
+    private static final double WEIGHT = ConsumptionStatistics.WEIGHT;
+
+    @Test
+    public void firstReceiveLatencyIsTakenAsIs() {
+        ConsumptionStatistics statistics = new ConsumptionStatistics();
+        statistics.receiveCompleted(TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertEquals(0.2, statistics.getReceiveSeconds(), DELTA);
+    }
+
+    @Test
+    public void laterReceiveLatenciesAreAveraged() {
+        ConsumptionStatistics statistics = new ConsumptionStatistics();
+        statistics.receiveCompleted(TimeUnit.MILLISECONDS.toNanos(200));
+        statistics.receiveCompleted(TimeUnit.MILLISECONDS.toNanos(600));
+
+        assertEquals(WEIGHT * 0.6 + (1 - WEIGHT) * 0.2, statistics.getReceiveSeconds(), DELTA);
+    }
+
+    @Test
+    public void rateIsNotUpdatedWithinInterval() {
+        ConsumptionStatistics statistics = new ConsumptionStatistics(TimeUnit.HOURS.toNanos(1));
+        statistics.messagesConsumed(1000);
+
+        assertEquals(0, statistics.getMessagesPerSecond(), DELTA);
+    }
+
+    @Test
+    public void rateIsUpdatedOncePerInterval() throws InterruptedException {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(100);
+        long start = System.nanoTime();
+        ConsumptionStatistics statistics = new ConsumptionStatistics(intervalNanos);
+        statistics.messagesConsumed(100);
+        sleepAtLeast(intervalNanos);
+        statistics.messagesConsumed(100);
+        long elapsedNanos = System.nanoTime() - start;
+
+        double rate = statistics.getMessagesPerSecond();
+        // 200 messages over at least one interval, weighted into an average starting at zero
+        double upperBound = WEIGHT * 200 / (intervalNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        double lowerBound = WEIGHT * 200 / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        assertTrue("rate " + rate + " above " + upperBound, rate <= upperBound + DELTA);
+        assertTrue("rate " + rate + " below " + lowerBound, rate >= lowerBound - DELTA);
+    }
+
+    @Test
+    public void rateDecaysWhenNothingIsConsumed() throws InterruptedException {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(10);
+        ConsumptionStatistics statistics = new ConsumptionStatistics(intervalNanos);
+        statistics.messagesConsumed(100);
+        sleepAtLeast(intervalNanos);
+        double rate = statistics.getMessagesPerSecond();
+        assertTrue(rate > 0);
+
+        sleepAtLeast(intervalNanos);
+        assertEquals((1 - WEIGHT) * rate, statistics.getMessagesPerSecond(), DELTA);
+    }
+
+    private static void sleepAtLeast(long nanos) throws InterruptedException {
+        long deadline = System.nanoTime() + nanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
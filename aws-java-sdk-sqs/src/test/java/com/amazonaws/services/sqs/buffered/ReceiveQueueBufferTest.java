@@ -0,0 +1,207 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.sqs.AbstractAmazonSQS;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.GetQueueAttributesResult;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+
+public class ReceiveQueueBufferTest {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+    private static final int MESSAGES = 2000;
+    private static final int CONSUMERS = 16;
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private ExecutorService receiveExecutor;
+    private ExecutorService consumerExecutor;
+
+    @Before
+    public void setUp() {
+        receiveExecutor = Executors.newFixedThreadPool(8);
+        consumerExecutor = Executors.newFixedThreadPool(CONSUMERS);
+    }
+
+    @After
+    public void tearDown() {
+        receiveExecutor.shutdownNow();
+        consumerExecutor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentReceivesGetEveryMessageExactlyOnce() throws Exception {
+        assertConcurrentReceivesGetEveryMessageExactlyOnce(new QueueBufferConfig());
+    }
+
+    @Test
+    public void concurrentReceivesGetEveryMessageExactlyOnceWithAdaptivePrefetching() throws Exception {
+        assertConcurrentReceivesGetEveryMessageExactlyOnce(new QueueBufferConfig().withAdaptivePrefetching(true));
+    }
+
+    @Test
+    public void receiveFailureIsReportedToFuture() throws Exception {
+        final AmazonServiceException failure = new AmazonServiceException("receive failed");
+        StubSQS sqs = new StubSQS(MESSAGES) {
+            @Override
+            public ReceiveMessageResult receiveMessage(ReceiveMessageRequest request) {
+                throw failure;
+            }
+        };
+        ReceiveQueueBuffer buffer = new ReceiveQueueBuffer(sqs, receiveExecutor, new QueueBufferConfig(), QUEUE_URL);
+
+        try {
+            buffer.receiveMessageAsync(new ReceiveMessageRequest(QUEUE_URL), null).get(TIMEOUT_SECONDS,
+                    TimeUnit.SECONDS);
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+        buffer.shutdown();
+    }
+
+    @Test
+    public void adaptivePrefetchingKeepsOneReceiveInFlightForSequentialConsumer() throws Exception {
+        StubSQS sqs = new StubSQS(MESSAGES);
+        QueueBufferConfig config = new QueueBufferConfig().withAdaptivePrefetching(true)
+                .withMaxInflightReceiveBatches(10).withMaxDoneReceiveBatches(10);
+        ReceiveQueueBuffer buffer = new ReceiveQueueBuffer(sqs, receiveExecutor, config, QUEUE_URL);
+
+        for (int i = 0; i < 50; i++) {
+            ReceiveMessageResult result = buffer.receiveMessageAsync(
+                    new ReceiveMessageRequest(QUEUE_URL).withMaxNumberOfMessages(1), null).get(TIMEOUT_SECONDS,
+                    TimeUnit.SECONDS);
+            assertEquals(1, result.getMessages().size());
+        }
+        buffer.shutdown();
+
+        assertEquals(1, sqs.peakInflightReceives.get());
+    }
+
+    private void assertConcurrentReceivesGetEveryMessageExactlyOnce(QueueBufferConfig config) throws Exception {
+        StubSQS sqs = new StubSQS(MESSAGES);
+        final ReceiveQueueBuffer buffer = new ReceiveQueueBuffer(sqs, receiveExecutor, config, QUEUE_URL);
+        final Set<String> received = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final AtomicInteger receivedCount = new AtomicInteger();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+        List<Future<?>> consumers = new ArrayList<Future<?>>();
+        for (int i = 0; i < CONSUMERS; i++) {
+            final int maxMessages = 1 + i % 10;
+            consumers.add(consumerExecutor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    while (receivedCount.get() < MESSAGES && System.nanoTime() < deadline) {
+                        ReceiveMessageResult result = buffer.receiveMessageAsync(
+                                new ReceiveMessageRequest(QUEUE_URL).withMaxNumberOfMessages(maxMessages), null)
+                                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                        assertTrue(result.getMessages().size() <= maxMessages);
+                        for (Message message : result.getMessages()) {
+                            received.add(message.getMessageId());
+                            receivedCount.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }
+            }));
+        }
+        for (Future<?> consumer : consumers) {
+            consumer.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        buffer.shutdown();
+
+        assertEquals(MESSAGES, receivedCount.get());
+        assertEquals(MESSAGES, received.size());
+    }
+
+    /**
+     * Queue holding a fixed number of messages. Each receive call hands out the next messages,
+     * and returns an empty result once the queue is drained.
+     */
+    private static class StubSQS extends AbstractAmazonSQS {
+        private final int messages;
+        private final AtomicInteger nextMessage = new AtomicInteger();
+        private final AtomicInteger inflightReceives = new AtomicInteger();
+        final AtomicInteger peakInflightReceives = new AtomicInteger();
+
+        StubSQS(int messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public GetQueueAttributesResult getQueueAttributes(GetQueueAttributesRequest request) {
+            return new GetQueueAttributesResult().addAttributesEntry("VisibilityTimeout", "30");
+        }
+
+        @Override
+        public ReceiveMessageResult receiveMessage(ReceiveMessageRequest request) {
+            int inflight = inflightReceives.incrementAndGet();
+            try {
+                int peak;
+                while (inflight > (peak = peakInflightReceives.get())
+                        && !peakInflightReceives.compareAndSet(peak, inflight)) {
+                }
+                Thread.sleep(1);
+                List<Message> result = new ArrayList<Message>();
+                for (int i = 0; i < request.getMaxNumberOfMessages(); i++) {
+                    int id = nextMessage.getAndIncrement();
+                    if (id >= messages) {
+                        break;
+                    }
+                    result.add(new Message().withMessageId(Integer.toString(id)).withReceiptHandle("handle-" + id));
+                }
+                return new ReceiveMessageResult().withMessages(result);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonServiceException("interrupted", e);
+            } finally {
+                inflightReceives.decrementAndGet();
+            }
+        }
+
+        @Override
+        public ChangeMessageVisibilityBatchResult changeMessageVisibilityBatch(
+                ChangeMessageVisibilityBatchRequest request) {
+            return new ChangeMessageVisibilityBatchResult();
+        }
+    }
+}
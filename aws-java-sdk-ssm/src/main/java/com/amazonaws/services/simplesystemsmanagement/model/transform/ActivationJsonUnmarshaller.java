@@ -47,41 +47,36 @@ public class ActivationJsonUnmarshaller implements Unmarshaller<Activation, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ActivationId", targetDepth)) {
-                    context.nextToken();
-                    activation.setActivationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    activation.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultInstanceName", targetDepth)) {
-                    context.nextToken();
-                    activation.setDefaultInstanceName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IamRole", targetDepth)) {
-                    context.nextToken();
-                    activation.setIamRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrationLimit", targetDepth)) {
-                    context.nextToken();
-                    activation.setRegistrationLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrationsCount", targetDepth)) {
-                    context.nextToken();
-                    activation.setRegistrationsCount(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ExpirationDate", targetDepth)) {
-                    context.nextToken();
-                    activation.setExpirationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Expired", targetDepth)) {
-                    context.nextToken();
-                    activation.setExpired(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedDate", targetDepth)) {
-                    context.nextToken();
-                    activation.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ActivationId".equals(fieldName)) {
+                        context.nextToken();
+                        activation.setActivationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        activation.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DefaultInstanceName".equals(fieldName)) {
+                        context.nextToken();
+                        activation.setDefaultInstanceName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IamRole".equals(fieldName)) {
+                        context.nextToken();
+                        activation.setIamRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RegistrationLimit".equals(fieldName)) {
+                        context.nextToken();
+                        activation.setRegistrationLimit(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("RegistrationsCount".equals(fieldName)) {
+                        context.nextToken();
+                        activation.setRegistrationsCount(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ExpirationDate".equals(fieldName)) {
+                        context.nextToken();
+                        activation.setExpirationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Expired".equals(fieldName)) {
+                        context.nextToken();
+                        activation.setExpired(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("CreatedDate".equals(fieldName)) {
+                        context.nextToken();
+                        activation.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
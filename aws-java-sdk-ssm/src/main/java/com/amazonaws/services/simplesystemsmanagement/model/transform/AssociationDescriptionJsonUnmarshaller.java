@@ -47,26 +47,24 @@ public class AssociationDescriptionJsonUnmarshaller implements Unmarshaller<Asso
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    associationDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    associationDescription.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Date", targetDepth)) {
-                    context.nextToken();
-                    associationDescription.setDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    associationDescription.setStatus(AssociationStatusJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Parameters", targetDepth)) {
-                    context.nextToken();
-                    associationDescription.setParameters(new MapUnmarshaller<String, java.util.List<String>>(context.getUnmarshaller(String.class),
-                            new ListUnmarshaller<String>(context.getUnmarshaller(String.class))).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        associationDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        associationDescription.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Date".equals(fieldName)) {
+                        context.nextToken();
+                        associationDescription.setDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        associationDescription.setStatus(AssociationStatusJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Parameters".equals(fieldName)) {
+                        context.nextToken();
+                        associationDescription.setParameters(parametersUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -80,6 +78,14 @@ public class AssociationDescriptionJsonUnmarshaller implements Unmarshaller<Asso
         return associationDescription;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.List<String>>, JsonUnmarshallerContext> parametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<String>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<String>>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<String>>(context.getUnmarshaller(String.class), new ListUnmarshaller<String>(
+                    context.getUnmarshaller(String.class)));
+        }
+    };
+
     private static AssociationDescriptionJsonUnmarshaller instance;
 
     public static AssociationDescriptionJsonUnmarshaller getInstance() {
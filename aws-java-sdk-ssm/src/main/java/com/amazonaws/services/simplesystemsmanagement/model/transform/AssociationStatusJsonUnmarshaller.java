@@ -47,21 +47,21 @@ public class AssociationStatusJsonUnmarshaller implements Unmarshaller<Associati
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Date", targetDepth)) {
-                    context.nextToken();
-                    associationStatus.setDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    associationStatus.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    associationStatus.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AdditionalInfo", targetDepth)) {
-                    context.nextToken();
-                    associationStatus.setAdditionalInfo(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Date".equals(fieldName)) {
+                        context.nextToken();
+                        associationStatus.setDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        associationStatus.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        associationStatus.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AdditionalInfo".equals(fieldName)) {
+                        context.nextToken();
+                        associationStatus.setAdditionalInfo(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
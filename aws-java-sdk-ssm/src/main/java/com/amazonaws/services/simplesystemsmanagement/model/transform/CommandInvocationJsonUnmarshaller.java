@@ -47,45 +47,39 @@ public class CommandInvocationJsonUnmarshaller implements Unmarshaller<CommandIn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CommandId", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setCommandId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Comment", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setComment(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DocumentName", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setDocumentName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RequestedDateTime", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setRequestedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TraceOutput", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setTraceOutput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CommandPlugins", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setCommandPlugins(new ListUnmarshaller<CommandPlugin>(CommandPluginJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("ServiceRole", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NotificationConfig", targetDepth)) {
-                    context.nextToken();
-                    commandInvocation.setNotificationConfig(NotificationConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CommandId".equals(fieldName)) {
+                        context.nextToken();
+                        commandInvocation.setCommandId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        commandInvocation.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Comment".equals(fieldName)) {
+                        context.nextToken();
+                        commandInvocation.setComment(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DocumentName".equals(fieldName)) {
+                        context.nextToken();
+                        commandInvocation.setDocumentName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RequestedDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        commandInvocation.setRequestedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        commandInvocation.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TraceOutput".equals(fieldName)) {
+                        context.nextToken();
+                        commandInvocation.setTraceOutput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CommandPlugins".equals(fieldName)) {
+                        context.nextToken();
+                        commandInvocation.setCommandPlugins(commandPluginsUnmarshaller.unmarshall(context));
+                    } else if ("ServiceRole".equals(fieldName)) {
+                        context.nextToken();
+                        commandInvocation.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NotificationConfig".equals(fieldName)) {
+                        context.nextToken();
+                        commandInvocation.setNotificationConfig(NotificationConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -99,6 +93,13 @@ public class CommandInvocationJsonUnmarshaller implements Unmarshaller<CommandIn
         return commandInvocation;
     }
 
+    private final Unmarshaller<java.util.List<CommandPlugin>, JsonUnmarshallerContext> commandPluginsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CommandPlugin>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CommandPlugin>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CommandPlugin>(CommandPluginJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static CommandInvocationJsonUnmarshaller instance;
 
     public static CommandInvocationJsonUnmarshaller getInstance() {
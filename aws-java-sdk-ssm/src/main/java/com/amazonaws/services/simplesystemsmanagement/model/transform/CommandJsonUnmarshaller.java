@@ -47,54 +47,45 @@ public class CommandJsonUnmarshaller implements Unmarshaller<Command, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CommandId", targetDepth)) {
-                    context.nextToken();
-                    command.setCommandId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DocumentName", targetDepth)) {
-                    context.nextToken();
-                    command.setDocumentName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Comment", targetDepth)) {
-                    context.nextToken();
-                    command.setComment(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ExpiresAfter", targetDepth)) {
-                    context.nextToken();
-                    command.setExpiresAfter(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Parameters", targetDepth)) {
-                    context.nextToken();
-                    command.setParameters(new MapUnmarshaller<String, java.util.List<String>>(context.getUnmarshaller(String.class),
-                            new ListUnmarshaller<String>(context.getUnmarshaller(String.class))).unmarshall(context));
-                }
-                if (context.testExpression("InstanceIds", targetDepth)) {
-                    context.nextToken();
-                    command.setInstanceIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("RequestedDateTime", targetDepth)) {
-                    context.nextToken();
-                    command.setRequestedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    command.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputS3BucketName", targetDepth)) {
-                    context.nextToken();
-                    command.setOutputS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputS3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    command.setOutputS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ServiceRole", targetDepth)) {
-                    context.nextToken();
-                    command.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NotificationConfig", targetDepth)) {
-                    context.nextToken();
-                    command.setNotificationConfig(NotificationConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CommandId".equals(fieldName)) {
+                        context.nextToken();
+                        command.setCommandId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DocumentName".equals(fieldName)) {
+                        context.nextToken();
+                        command.setDocumentName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Comment".equals(fieldName)) {
+                        context.nextToken();
+                        command.setComment(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ExpiresAfter".equals(fieldName)) {
+                        context.nextToken();
+                        command.setExpiresAfter(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Parameters".equals(fieldName)) {
+                        context.nextToken();
+                        command.setParameters(parametersUnmarshaller.unmarshall(context));
+                    } else if ("InstanceIds".equals(fieldName)) {
+                        context.nextToken();
+                        command.setInstanceIds(instanceIdsUnmarshaller.unmarshall(context));
+                    } else if ("RequestedDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        command.setRequestedDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        command.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputS3BucketName".equals(fieldName)) {
+                        context.nextToken();
+                        command.setOutputS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputS3KeyPrefix".equals(fieldName)) {
+                        context.nextToken();
+                        command.setOutputS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ServiceRole".equals(fieldName)) {
+                        context.nextToken();
+                        command.setServiceRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NotificationConfig".equals(fieldName)) {
+                        context.nextToken();
+                        command.setNotificationConfig(NotificationConfigJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -108,6 +99,20 @@ public class CommandJsonUnmarshaller implements Unmarshaller<Command, JsonUnmars
         return command;
     }
 
+    private final Unmarshaller<java.util.Map<String, java.util.List<String>>, JsonUnmarshallerContext> parametersUnmarshaller = new CachingJsonUnmarshaller<java.util.Map<String, java.util.List<String>>>() {
+        @Override
+        protected Unmarshaller<java.util.Map<String, java.util.List<String>>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new MapUnmarshaller<String, java.util.List<String>>(context.getUnmarshaller(String.class), new ListUnmarshaller<String>(
+                    context.getUnmarshaller(String.class)));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> instanceIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CommandJsonUnmarshaller instance;
 
     public static CommandJsonUnmarshaller getInstance() {
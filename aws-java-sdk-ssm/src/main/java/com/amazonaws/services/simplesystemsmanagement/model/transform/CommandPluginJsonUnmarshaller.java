@@ -47,37 +47,33 @@ public class CommandPluginJsonUnmarshaller implements Unmarshaller<CommandPlugin
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ResponseCode", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setResponseCode(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ResponseStartDateTime", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setResponseStartDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ResponseFinishDateTime", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setResponseFinishDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Output", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setOutput(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputS3BucketName", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setOutputS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("OutputS3KeyPrefix", targetDepth)) {
-                    context.nextToken();
-                    commandPlugin.setOutputS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        commandPlugin.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        commandPlugin.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ResponseCode".equals(fieldName)) {
+                        context.nextToken();
+                        commandPlugin.setResponseCode(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ResponseStartDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        commandPlugin.setResponseStartDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ResponseFinishDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        commandPlugin.setResponseFinishDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Output".equals(fieldName)) {
+                        context.nextToken();
+                        commandPlugin.setOutput(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputS3BucketName".equals(fieldName)) {
+                        context.nextToken();
+                        commandPlugin.setOutputS3BucketName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("OutputS3KeyPrefix".equals(fieldName)) {
+                        context.nextToken();
+                        commandPlugin.setOutputS3KeyPrefix(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
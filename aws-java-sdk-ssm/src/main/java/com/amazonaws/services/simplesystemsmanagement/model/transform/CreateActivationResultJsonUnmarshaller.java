@@ -47,13 +47,15 @@ public class CreateActivationResultJsonUnmarshaller implements Unmarshaller<Crea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ActivationId", targetDepth)) {
-                    context.nextToken();
-                    createActivationResult.setActivationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ActivationCode", targetDepth)) {
-                    context.nextToken();
-                    createActivationResult.setActivationCode(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ActivationId".equals(fieldName)) {
+                        context.nextToken();
+                        createActivationResult.setActivationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ActivationCode".equals(fieldName)) {
+                        context.nextToken();
+                        createActivationResult.setActivationCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,15 +47,15 @@ public class CreateAssociationBatchResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Successful", targetDepth)) {
-                    context.nextToken();
-                    createAssociationBatchResult.setSuccessful(new ListUnmarshaller<AssociationDescription>(AssociationDescriptionJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Failed", targetDepth)) {
-                    context.nextToken();
-                    createAssociationBatchResult.setFailed(new ListUnmarshaller<FailedCreateAssociation>(FailedCreateAssociationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Successful".equals(fieldName)) {
+                        context.nextToken();
+                        createAssociationBatchResult.setSuccessful(successfulUnmarshaller.unmarshall(context));
+                    } else if ("Failed".equals(fieldName)) {
+                        context.nextToken();
+                        createAssociationBatchResult.setFailed(failedUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +69,19 @@ public class CreateAssociationBatchResultJsonUnmarshaller implements Unmarshalle
         return createAssociationBatchResult;
     }
 
+    private final Unmarshaller<java.util.List<AssociationDescription>, JsonUnmarshallerContext> successfulUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AssociationDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AssociationDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AssociationDescription>(AssociationDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<FailedCreateAssociation>, JsonUnmarshallerContext> failedUnmarshaller = new CachingJsonUnmarshaller<java.util.List<FailedCreateAssociation>>() {
+        @Override
+        protected Unmarshaller<java.util.List<FailedCreateAssociation>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<FailedCreateAssociation>(FailedCreateAssociationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static CreateAssociationBatchResultJsonUnmarshaller instance;
 
     public static CreateAssociationBatchResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class CreateDocumentResultJsonUnmarshaller implements Unmarshaller<Create
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DocumentDescription", targetDepth)) {
-                    context.nextToken();
-                    createDocumentResult.setDocumentDescription(DocumentDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DocumentDescription".equals(fieldName)) {
+                        context.nextToken();
+                        createDocumentResult.setDocumentDescription(DocumentDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class DescribeActivationsFilterJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FilterKey", targetDepth)) {
-                    context.nextToken();
-                    describeActivationsFilter.setFilterKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("FilterValues", targetDepth)) {
-                    context.nextToken();
-                    describeActivationsFilter.setFilterValues(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FilterKey".equals(fieldName)) {
+                        context.nextToken();
+                        describeActivationsFilter.setFilterKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("FilterValues".equals(fieldName)) {
+                        context.nextToken();
+                        describeActivationsFilter.setFilterValues(filterValuesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeActivationsFilterJsonUnmarshaller implements Unmarshaller<D
         return describeActivationsFilter;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> filterValuesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeActivationsFilterJsonUnmarshaller instance;
 
     public static DescribeActivationsFilterJsonUnmarshaller getInstance() {
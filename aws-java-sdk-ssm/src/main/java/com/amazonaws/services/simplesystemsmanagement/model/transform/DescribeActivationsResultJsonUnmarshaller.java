@@ -47,13 +47,15 @@ public class DescribeActivationsResultJsonUnmarshaller implements Unmarshaller<D
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ActivationList", targetDepth)) {
-                    context.nextToken();
-                    describeActivationsResult.setActivationList(new ListUnmarshaller<Activation>(ActivationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeActivationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ActivationList".equals(fieldName)) {
+                        context.nextToken();
+                        describeActivationsResult.setActivationList(activationListUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeActivationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeActivationsResultJsonUnmarshaller implements Unmarshaller<D
         return describeActivationsResult;
     }
 
+    private final Unmarshaller<java.util.List<Activation>, JsonUnmarshallerContext> activationListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Activation>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Activation>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Activation>(ActivationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeActivationsResultJsonUnmarshaller instance;
 
     public static DescribeActivationsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DescribeDocumentPermissionResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AccountIds", targetDepth)) {
-                    context.nextToken();
-                    describeDocumentPermissionResult.setAccountIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AccountIds".equals(fieldName)) {
+                        context.nextToken();
+                        describeDocumentPermissionResult.setAccountIds(accountIdsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeDocumentPermissionResultJsonUnmarshaller implements Unmarsh
         return describeDocumentPermissionResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> accountIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeDocumentPermissionResultJsonUnmarshaller instance;
 
     public static DescribeDocumentPermissionResultJsonUnmarshaller getInstance() {
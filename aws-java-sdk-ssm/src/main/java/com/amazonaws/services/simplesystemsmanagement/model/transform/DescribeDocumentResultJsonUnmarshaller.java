@@ -47,9 +47,12 @@ public class DescribeDocumentResultJsonUnmarshaller implements Unmarshaller<Desc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Document", targetDepth)) {
-                    context.nextToken();
-                    describeDocumentResult.setDocument(DocumentDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Document".equals(fieldName)) {
+                        context.nextToken();
+                        describeDocumentResult.setDocument(DocumentDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
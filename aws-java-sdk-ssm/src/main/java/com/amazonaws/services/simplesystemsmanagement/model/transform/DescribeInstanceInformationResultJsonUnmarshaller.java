@@ -47,14 +47,15 @@ public class DescribeInstanceInformationResultJsonUnmarshaller implements Unmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceInformationList", targetDepth)) {
-                    context.nextToken();
-                    describeInstanceInformationResult.setInstanceInformationList(new ListUnmarshaller<InstanceInformation>(InstanceInformationJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeInstanceInformationResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstanceInformationList".equals(fieldName)) {
+                        context.nextToken();
+                        describeInstanceInformationResult.setInstanceInformationList(instanceInformationListUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeInstanceInformationResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeInstanceInformationResultJsonUnmarshaller implements Unmars
         return describeInstanceInformationResult;
     }
 
+    private final Unmarshaller<java.util.List<InstanceInformation>, JsonUnmarshallerContext> instanceInformationListUnmarshaller = new CachingJsonUnmarshaller<java.util.List<InstanceInformation>>() {
+        @Override
+        protected Unmarshaller<java.util.List<InstanceInformation>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<InstanceInformation>(InstanceInformationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeInstanceInformationResultJsonUnmarshaller instance;
 
     public static DescribeInstanceInformationResultJsonUnmarshaller getInstance() {
@@ -47,46 +47,39 @@ public class DocumentDescriptionJsonUnmarshaller implements Unmarshaller<Documen
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Sha1", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setSha1(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Hash", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setHash(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HashType", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setHashType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Owner", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CreatedDate", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Status", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Parameters", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setParameters(new ListUnmarshaller<DocumentParameter>(DocumentParameterJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PlatformTypes", targetDepth)) {
-                    context.nextToken();
-                    documentDescription.setPlatformTypes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Sha1".equals(fieldName)) {
+                        context.nextToken();
+                        documentDescription.setSha1(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Hash".equals(fieldName)) {
+                        context.nextToken();
+                        documentDescription.setHash(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HashType".equals(fieldName)) {
+                        context.nextToken();
+                        documentDescription.setHashType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        documentDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Owner".equals(fieldName)) {
+                        context.nextToken();
+                        documentDescription.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CreatedDate".equals(fieldName)) {
+                        context.nextToken();
+                        documentDescription.setCreatedDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Status".equals(fieldName)) {
+                        context.nextToken();
+                        documentDescription.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        documentDescription.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Parameters".equals(fieldName)) {
+                        context.nextToken();
+                        documentDescription.setParameters(parametersUnmarshaller.unmarshall(context));
+                    } else if ("PlatformTypes".equals(fieldName)) {
+                        context.nextToken();
+                        documentDescription.setPlatformTypes(platformTypesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -100,6 +93,19 @@ public class DocumentDescriptionJsonUnmarshaller implements Unmarshaller<Documen
         return documentDescription;
     }
 
+    private final Unmarshaller<java.util.List<DocumentParameter>, JsonUnmarshallerContext> parametersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DocumentParameter>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DocumentParameter>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DocumentParameter>(DocumentParameterJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> platformTypesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DocumentDescriptionJsonUnmarshaller instance;
 
     public static DocumentDescriptionJsonUnmarshaller getInstance() {
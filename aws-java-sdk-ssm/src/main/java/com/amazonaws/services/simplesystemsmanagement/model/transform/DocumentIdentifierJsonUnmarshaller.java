@@ -47,17 +47,18 @@ public class DocumentIdentifierJsonUnmarshaller implements Unmarshaller<Document
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    documentIdentifier.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Owner", targetDepth)) {
-                    context.nextToken();
-                    documentIdentifier.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PlatformTypes", targetDepth)) {
-                    context.nextToken();
-                    documentIdentifier.setPlatformTypes(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        documentIdentifier.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Owner".equals(fieldName)) {
+                        context.nextToken();
+                        documentIdentifier.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PlatformTypes".equals(fieldName)) {
+                        context.nextToken();
+                        documentIdentifier.setPlatformTypes(platformTypesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class DocumentIdentifierJsonUnmarshaller implements Unmarshaller<Document
         return documentIdentifier;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> platformTypesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DocumentIdentifierJsonUnmarshaller instance;
 
     public static DocumentIdentifierJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class FailedCreateAssociationJsonUnmarshaller implements Unmarshaller<Fai
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Entry", targetDepth)) {
-                    context.nextToken();
-                    failedCreateAssociation.setEntry(CreateAssociationBatchRequestEntryJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Message", targetDepth)) {
-                    context.nextToken();
-                    failedCreateAssociation.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Fault", targetDepth)) {
-                    context.nextToken();
-                    failedCreateAssociation.setFault(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Entry".equals(fieldName)) {
+                        context.nextToken();
+                        failedCreateAssociation.setEntry(CreateAssociationBatchRequestEntryJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Message".equals(fieldName)) {
+                        context.nextToken();
+                        failedCreateAssociation.setMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Fault".equals(fieldName)) {
+                        context.nextToken();
+                        failedCreateAssociation.setFault(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
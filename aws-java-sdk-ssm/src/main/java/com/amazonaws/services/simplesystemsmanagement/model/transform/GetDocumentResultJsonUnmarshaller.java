@@ -47,13 +47,15 @@ public class GetDocumentResultJsonUnmarshaller implements Unmarshaller<GetDocume
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    getDocumentResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Content", targetDepth)) {
-                    context.nextToken();
-                    getDocumentResult.setContent(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        getDocumentResult.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Content".equals(fieldName)) {
+                        context.nextToken();
+                        getDocumentResult.setContent(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
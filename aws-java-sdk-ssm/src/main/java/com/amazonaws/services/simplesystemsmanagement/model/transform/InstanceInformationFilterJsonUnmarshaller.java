@@ -47,13 +47,15 @@ public class InstanceInformationFilterJsonUnmarshaller implements Unmarshaller<I
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("key", targetDepth)) {
-                    context.nextToken();
-                    instanceInformationFilter.setKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("valueSet", targetDepth)) {
-                    context.nextToken();
-                    instanceInformationFilter.setValueSet(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("key".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformationFilter.setKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("valueSet".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformationFilter.setValueSet(valueSetUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class InstanceInformationFilterJsonUnmarshaller implements Unmarshaller<I
         return instanceInformationFilter;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> valueSetUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static InstanceInformationFilterJsonUnmarshaller instance;
 
     public static InstanceInformationFilterJsonUnmarshaller getInstance() {
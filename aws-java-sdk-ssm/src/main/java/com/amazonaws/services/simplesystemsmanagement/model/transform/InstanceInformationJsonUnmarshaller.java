@@ -47,65 +47,54 @@ public class InstanceInformationJsonUnmarshaller implements Unmarshaller<Instanc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("InstanceId", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PingStatus", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setPingStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastPingDateTime", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setLastPingDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("AgentVersion", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setAgentVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IsLatestVersion", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setIsLatestVersion(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("PlatformType", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setPlatformType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PlatformName", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setPlatformName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PlatformVersion", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setPlatformVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ActivationId", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setActivationId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IamRole", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setIamRole(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrationDate", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setRegistrationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("ResourceType", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IPAddress", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setIPAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputerName", targetDepth)) {
-                    context.nextToken();
-                    instanceInformation.setComputerName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("InstanceId".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setInstanceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PingStatus".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setPingStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastPingDateTime".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setLastPingDateTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("AgentVersion".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setAgentVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IsLatestVersion".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setIsLatestVersion(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("PlatformType".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setPlatformType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PlatformName".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setPlatformName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PlatformVersion".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setPlatformVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ActivationId".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setActivationId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IamRole".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setIamRole(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RegistrationDate".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setRegistrationDate(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("ResourceType".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setResourceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IPAddress".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setIPAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputerName".equals(fieldName)) {
+                        context.nextToken();
+                        instanceInformation.setComputerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
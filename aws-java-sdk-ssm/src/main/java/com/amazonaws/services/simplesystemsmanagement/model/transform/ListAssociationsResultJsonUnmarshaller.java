@@ -47,13 +47,15 @@ public class ListAssociationsResultJsonUnmarshaller implements Unmarshaller<List
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Associations", targetDepth)) {
-                    context.nextToken();
-                    listAssociationsResult.setAssociations(new ListUnmarshaller<Association>(AssociationJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listAssociationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Associations".equals(fieldName)) {
+                        context.nextToken();
+                        listAssociationsResult.setAssociations(associationsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listAssociationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListAssociationsResultJsonUnmarshaller implements Unmarshaller<List
         return listAssociationsResult;
     }
 
+    private final Unmarshaller<java.util.List<Association>, JsonUnmarshallerContext> associationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Association>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Association>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Association>(AssociationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListAssociationsResultJsonUnmarshaller instance;
 
     public static ListAssociationsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListCommandInvocationsResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CommandInvocations", targetDepth)) {
-                    context.nextToken();
-                    listCommandInvocationsResult.setCommandInvocations(new ListUnmarshaller<CommandInvocation>(CommandInvocationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listCommandInvocationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CommandInvocations".equals(fieldName)) {
+                        context.nextToken();
+                        listCommandInvocationsResult.setCommandInvocations(commandInvocationsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listCommandInvocationsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListCommandInvocationsResultJsonUnmarshaller implements Unmarshalle
         return listCommandInvocationsResult;
     }
 
+    private final Unmarshaller<java.util.List<CommandInvocation>, JsonUnmarshallerContext> commandInvocationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CommandInvocation>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CommandInvocation>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CommandInvocation>(CommandInvocationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListCommandInvocationsResultJsonUnmarshaller instance;
 
     public static ListCommandInvocationsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListCommandsResultJsonUnmarshaller implements Unmarshaller<ListComm
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Commands", targetDepth)) {
-                    context.nextToken();
-                    listCommandsResult.setCommands(new ListUnmarshaller<Command>(CommandJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listCommandsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Commands".equals(fieldName)) {
+                        context.nextToken();
+                        listCommandsResult.setCommands(commandsUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listCommandsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListCommandsResultJsonUnmarshaller implements Unmarshaller<ListComm
         return listCommandsResult;
     }
 
+    private final Unmarshaller<java.util.List<Command>, JsonUnmarshallerContext> commandsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Command>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Command>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Command>(CommandJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListCommandsResultJsonUnmarshaller instance;
 
     public static ListCommandsResultJsonUnmarshaller getInstance() {
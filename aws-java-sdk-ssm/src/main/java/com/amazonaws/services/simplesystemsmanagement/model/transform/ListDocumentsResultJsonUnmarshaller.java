@@ -47,14 +47,15 @@ public class ListDocumentsResultJsonUnmarshaller implements Unmarshaller<ListDoc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DocumentIdentifiers", targetDepth)) {
-                    context.nextToken();
-                    listDocumentsResult.setDocumentIdentifiers(new ListUnmarshaller<DocumentIdentifier>(DocumentIdentifierJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    listDocumentsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DocumentIdentifiers".equals(fieldName)) {
+                        context.nextToken();
+                        listDocumentsResult.setDocumentIdentifiers(documentIdentifiersUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        listDocumentsResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListDocumentsResultJsonUnmarshaller implements Unmarshaller<ListDoc
         return listDocumentsResult;
     }
 
+    private final Unmarshaller<java.util.List<DocumentIdentifier>, JsonUnmarshallerContext> documentIdentifiersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<DocumentIdentifier>>() {
+        @Override
+        protected Unmarshaller<java.util.List<DocumentIdentifier>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<DocumentIdentifier>(DocumentIdentifierJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListDocumentsResultJsonUnmarshaller instance;
 
     public static ListDocumentsResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class NotificationConfigJsonUnmarshaller implements Unmarshaller<Notifica
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NotificationArn", targetDepth)) {
-                    context.nextToken();
-                    notificationConfig.setNotificationArn(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NotificationEvents", targetDepth)) {
-                    context.nextToken();
-                    notificationConfig.setNotificationEvents(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("NotificationType", targetDepth)) {
-                    context.nextToken();
-                    notificationConfig.setNotificationType(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NotificationArn".equals(fieldName)) {
+                        context.nextToken();
+                        notificationConfig.setNotificationArn(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NotificationEvents".equals(fieldName)) {
+                        context.nextToken();
+                        notificationConfig.setNotificationEvents(notificationEventsUnmarshaller.unmarshall(context));
+                    } else if ("NotificationType".equals(fieldName)) {
+                        context.nextToken();
+                        notificationConfig.setNotificationType(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class NotificationConfigJsonUnmarshaller implements Unmarshaller<Notifica
         return notificationConfig;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> notificationEventsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static NotificationConfigJsonUnmarshaller instance;
 
     public static NotificationConfigJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class SendCommandResultJsonUnmarshaller implements Unmarshaller<SendComma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Command", targetDepth)) {
-                    context.nextToken();
-                    sendCommandResult.setCommand(CommandJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Command".equals(fieldName)) {
+                        context.nextToken();
+                        sendCommandResult.setCommand(CommandJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class UpdateAssociationStatusResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("AssociationDescription", targetDepth)) {
-                    context.nextToken();
-                    updateAssociationStatusResult.setAssociationDescription(AssociationDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("AssociationDescription".equals(fieldName)) {
+                        context.nextToken();
+                        updateAssociationStatusResult.setAssociationDescription(AssociationDescriptionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
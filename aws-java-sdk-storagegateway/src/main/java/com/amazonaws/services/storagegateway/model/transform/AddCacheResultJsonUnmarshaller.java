@@ -47,9 +47,12 @@ public class AddCacheResultJsonUnmarshaller implements Unmarshaller<AddCacheResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    addCacheResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        addCacheResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class AddWorkingStorageResultJsonUnmarshaller implements Unmarshaller<Add
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    addWorkingStorageResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        addWorkingStorageResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,37 +47,33 @@ public class CachediSCSIVolumeJsonUnmarshaller implements Unmarshaller<CachediSC
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeId", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeStatus", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeProgress", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeProgress(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceSnapshotId", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setSourceSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeiSCSIAttributes", targetDepth)) {
-                    context.nextToken();
-                    cachediSCSIVolume.setVolumeiSCSIAttributes(VolumeiSCSIAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeARN".equals(fieldName)) {
+                        context.nextToken();
+                        cachediSCSIVolume.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeId".equals(fieldName)) {
+                        context.nextToken();
+                        cachediSCSIVolume.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeType".equals(fieldName)) {
+                        context.nextToken();
+                        cachediSCSIVolume.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeStatus".equals(fieldName)) {
+                        context.nextToken();
+                        cachediSCSIVolume.setVolumeStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        cachediSCSIVolume.setVolumeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("VolumeProgress".equals(fieldName)) {
+                        context.nextToken();
+                        cachediSCSIVolume.setVolumeProgress(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("SourceSnapshotId".equals(fieldName)) {
+                        context.nextToken();
+                        cachediSCSIVolume.setSourceSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeiSCSIAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        cachediSCSIVolume.setVolumeiSCSIAttributes(VolumeiSCSIAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CancelRetrievalResultJsonUnmarshaller implements Unmarshaller<Cance
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeARN", targetDepth)) {
-                    context.nextToken();
-                    cancelRetrievalResult.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TapeARN".equals(fieldName)) {
+                        context.nextToken();
+                        cancelRetrievalResult.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class ChapInfoJsonUnmarshaller implements Unmarshaller<ChapInfo, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    chapInfo.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecretToAuthenticateInitiator", targetDepth)) {
-                    context.nextToken();
-                    chapInfo.setSecretToAuthenticateInitiator(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InitiatorName", targetDepth)) {
-                    context.nextToken();
-                    chapInfo.setInitiatorName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SecretToAuthenticateTarget", targetDepth)) {
-                    context.nextToken();
-                    chapInfo.setSecretToAuthenticateTarget(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TargetARN".equals(fieldName)) {
+                        context.nextToken();
+                        chapInfo.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SecretToAuthenticateInitiator".equals(fieldName)) {
+                        context.nextToken();
+                        chapInfo.setSecretToAuthenticateInitiator(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InitiatorName".equals(fieldName)) {
+                        context.nextToken();
+                        chapInfo.setInitiatorName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SecretToAuthenticateTarget".equals(fieldName)) {
+                        context.nextToken();
+                        chapInfo.setSecretToAuthenticateTarget(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
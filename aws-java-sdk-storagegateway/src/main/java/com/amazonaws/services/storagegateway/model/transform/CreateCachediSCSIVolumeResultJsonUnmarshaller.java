@@ -47,13 +47,15 @@ public class CreateCachediSCSIVolumeResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    createCachediSCSIVolumeResult.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    createCachediSCSIVolumeResult.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeARN".equals(fieldName)) {
+                        context.nextToken();
+                        createCachediSCSIVolumeResult.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TargetARN".equals(fieldName)) {
+                        context.nextToken();
+                        createCachediSCSIVolumeResult.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
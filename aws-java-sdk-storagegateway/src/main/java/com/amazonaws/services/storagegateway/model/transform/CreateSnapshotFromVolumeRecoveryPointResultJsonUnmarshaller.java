@@ -48,17 +48,18 @@ public class CreateSnapshotFromVolumeRecoveryPointResultJsonUnmarshaller impleme
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SnapshotId", targetDepth)) {
-                    context.nextToken();
-                    createSnapshotFromVolumeRecoveryPointResult.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    createSnapshotFromVolumeRecoveryPointResult.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeRecoveryPointTime", targetDepth)) {
-                    context.nextToken();
-                    createSnapshotFromVolumeRecoveryPointResult.setVolumeRecoveryPointTime(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SnapshotId".equals(fieldName)) {
+                        context.nextToken();
+                        createSnapshotFromVolumeRecoveryPointResult.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeARN".equals(fieldName)) {
+                        context.nextToken();
+                        createSnapshotFromVolumeRecoveryPointResult.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeRecoveryPointTime".equals(fieldName)) {
+                        context.nextToken();
+                        createSnapshotFromVolumeRecoveryPointResult.setVolumeRecoveryPointTime(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class CreateSnapshotResultJsonUnmarshaller implements Unmarshaller<Create
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    createSnapshotResult.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SnapshotId", targetDepth)) {
-                    context.nextToken();
-                    createSnapshotResult.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeARN".equals(fieldName)) {
+                        context.nextToken();
+                        createSnapshotResult.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SnapshotId".equals(fieldName)) {
+                        context.nextToken();
+                        createSnapshotResult.setSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
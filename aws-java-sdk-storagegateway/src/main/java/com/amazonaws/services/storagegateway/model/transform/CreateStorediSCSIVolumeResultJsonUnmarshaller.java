@@ -47,17 +47,18 @@ public class CreateStorediSCSIVolumeResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    createStorediSCSIVolumeResult.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    createStorediSCSIVolumeResult.setVolumeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    createStorediSCSIVolumeResult.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeARN".equals(fieldName)) {
+                        context.nextToken();
+                        createStorediSCSIVolumeResult.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        createStorediSCSIVolumeResult.setVolumeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TargetARN".equals(fieldName)) {
+                        context.nextToken();
+                        createStorediSCSIVolumeResult.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class CreateTapesResultJsonUnmarshaller implements Unmarshaller<CreateTap
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeARNs", targetDepth)) {
-                    context.nextToken();
-                    createTapesResult.setTapeARNs(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TapeARNs".equals(fieldName)) {
+                        context.nextToken();
+                        createTapesResult.setTapeARNs(tapeARNsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class CreateTapesResultJsonUnmarshaller implements Unmarshaller<CreateTap
         return createTapesResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> tapeARNsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CreateTapesResultJsonUnmarshaller instance;
 
     public static CreateTapesResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class DeleteTapeArchiveResultJsonUnmarshaller implements Unmarshaller<Del
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeARN", targetDepth)) {
-                    context.nextToken();
-                    deleteTapeArchiveResult.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TapeARN".equals(fieldName)) {
+                        context.nextToken();
+                        deleteTapeArchiveResult.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,17 +47,18 @@ public class DescribeBandwidthRateLimitResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeBandwidthRateLimitResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("AverageUploadRateLimitInBitsPerSec", targetDepth)) {
-                    context.nextToken();
-                    describeBandwidthRateLimitResult.setAverageUploadRateLimitInBitsPerSec(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("AverageDownloadRateLimitInBitsPerSec", targetDepth)) {
-                    context.nextToken();
-                    describeBandwidthRateLimitResult.setAverageDownloadRateLimitInBitsPerSec(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeBandwidthRateLimitResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("AverageUploadRateLimitInBitsPerSec".equals(fieldName)) {
+                        context.nextToken();
+                        describeBandwidthRateLimitResult.setAverageUploadRateLimitInBitsPerSec(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("AverageDownloadRateLimitInBitsPerSec".equals(fieldName)) {
+                        context.nextToken();
+                        describeBandwidthRateLimitResult.setAverageDownloadRateLimitInBitsPerSec(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
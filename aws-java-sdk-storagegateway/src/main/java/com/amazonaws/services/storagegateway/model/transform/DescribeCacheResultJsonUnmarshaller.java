@@ -47,33 +47,30 @@ public class DescribeCacheResultJsonUnmarshaller implements Unmarshaller<Describ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskIds", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setDiskIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("CacheAllocatedInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setCacheAllocatedInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("CacheUsedPercentage", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setCacheUsedPercentage(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("CacheDirtyPercentage", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setCacheDirtyPercentage(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("CacheHitPercentage", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setCacheHitPercentage(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("CacheMissPercentage", targetDepth)) {
-                    context.nextToken();
-                    describeCacheResult.setCacheMissPercentage(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeCacheResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DiskIds".equals(fieldName)) {
+                        context.nextToken();
+                        describeCacheResult.setDiskIds(diskIdsUnmarshaller.unmarshall(context));
+                    } else if ("CacheAllocatedInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        describeCacheResult.setCacheAllocatedInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("CacheUsedPercentage".equals(fieldName)) {
+                        context.nextToken();
+                        describeCacheResult.setCacheUsedPercentage(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("CacheDirtyPercentage".equals(fieldName)) {
+                        context.nextToken();
+                        describeCacheResult.setCacheDirtyPercentage(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("CacheHitPercentage".equals(fieldName)) {
+                        context.nextToken();
+                        describeCacheResult.setCacheHitPercentage(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("CacheMissPercentage".equals(fieldName)) {
+                        context.nextToken();
+                        describeCacheResult.setCacheMissPercentage(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -87,6 +84,13 @@ public class DescribeCacheResultJsonUnmarshaller implements Unmarshaller<Describ
         return describeCacheResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> diskIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeCacheResultJsonUnmarshaller instance;
 
     public static DescribeCacheResultJsonUnmarshaller getInstance() {
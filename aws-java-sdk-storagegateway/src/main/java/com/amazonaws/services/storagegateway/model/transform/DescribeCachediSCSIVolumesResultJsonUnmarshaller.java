@@ -47,10 +47,12 @@ public class DescribeCachediSCSIVolumesResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("CachediSCSIVolumes", targetDepth)) {
-                    context.nextToken();
-                    describeCachediSCSIVolumesResult.setCachediSCSIVolumes(new ListUnmarshaller<CachediSCSIVolume>(CachediSCSIVolumeJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("CachediSCSIVolumes".equals(fieldName)) {
+                        context.nextToken();
+                        describeCachediSCSIVolumesResult.setCachediSCSIVolumes(cachediSCSIVolumesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeCachediSCSIVolumesResultJsonUnmarshaller implements Unmarsh
         return describeCachediSCSIVolumesResult;
     }
 
+    private final Unmarshaller<java.util.List<CachediSCSIVolume>, JsonUnmarshallerContext> cachediSCSIVolumesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CachediSCSIVolume>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CachediSCSIVolume>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CachediSCSIVolume>(CachediSCSIVolumeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeCachediSCSIVolumesResultJsonUnmarshaller instance;
 
     public static DescribeCachediSCSIVolumesResultJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class DescribeChapCredentialsResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ChapCredentials", targetDepth)) {
-                    context.nextToken();
-                    describeChapCredentialsResult
-                            .setChapCredentials(new ListUnmarshaller<ChapInfo>(ChapInfoJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ChapCredentials".equals(fieldName)) {
+                        context.nextToken();
+                        describeChapCredentialsResult.setChapCredentials(chapCredentialsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeChapCredentialsResultJsonUnmarshaller implements Unmarshall
         return describeChapCredentialsResult;
     }
 
+    private final Unmarshaller<java.util.List<ChapInfo>, JsonUnmarshallerContext> chapCredentialsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ChapInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ChapInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ChapInfo>(ChapInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeChapCredentialsResultJsonUnmarshaller instance;
 
     public static DescribeChapCredentialsResultJsonUnmarshaller getInstance() {
@@ -47,42 +47,36 @@ public class DescribeGatewayInformationResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayId", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayName", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayTimezone", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayTimezone(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayState", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayNetworkInterfaces", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayNetworkInterfaces(new ListUnmarshaller<NetworkInterface>(NetworkInterfaceJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("GatewayType", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setGatewayType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NextUpdateAvailabilityDate", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setNextUpdateAvailabilityDate(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("LastSoftwareUpdate", targetDepth)) {
-                    context.nextToken();
-                    describeGatewayInformationResult.setLastSoftwareUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeGatewayInformationResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayId".equals(fieldName)) {
+                        context.nextToken();
+                        describeGatewayInformationResult.setGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayName".equals(fieldName)) {
+                        context.nextToken();
+                        describeGatewayInformationResult.setGatewayName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayTimezone".equals(fieldName)) {
+                        context.nextToken();
+                        describeGatewayInformationResult.setGatewayTimezone(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayState".equals(fieldName)) {
+                        context.nextToken();
+                        describeGatewayInformationResult.setGatewayState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayNetworkInterfaces".equals(fieldName)) {
+                        context.nextToken();
+                        describeGatewayInformationResult.setGatewayNetworkInterfaces(gatewayNetworkInterfacesUnmarshaller.unmarshall(context));
+                    } else if ("GatewayType".equals(fieldName)) {
+                        context.nextToken();
+                        describeGatewayInformationResult.setGatewayType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NextUpdateAvailabilityDate".equals(fieldName)) {
+                        context.nextToken();
+                        describeGatewayInformationResult.setNextUpdateAvailabilityDate(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("LastSoftwareUpdate".equals(fieldName)) {
+                        context.nextToken();
+                        describeGatewayInformationResult.setLastSoftwareUpdate(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -96,6 +90,13 @@ public class DescribeGatewayInformationResultJsonUnmarshaller implements Unmarsh
         return describeGatewayInformationResult;
     }
 
+    private final Unmarshaller<java.util.List<NetworkInterface>, JsonUnmarshallerContext> gatewayNetworkInterfacesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<NetworkInterface>>() {
+        @Override
+        protected Unmarshaller<java.util.List<NetworkInterface>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<NetworkInterface>(NetworkInterfaceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeGatewayInformationResultJsonUnmarshaller instance;
 
     public static DescribeGatewayInformationResultJsonUnmarshaller getInstance() {
@@ -47,25 +47,24 @@ public class DescribeMaintenanceStartTimeResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeMaintenanceStartTimeResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HourOfDay", targetDepth)) {
-                    context.nextToken();
-                    describeMaintenanceStartTimeResult.setHourOfDay(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("MinuteOfHour", targetDepth)) {
-                    context.nextToken();
-                    describeMaintenanceStartTimeResult.setMinuteOfHour(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("DayOfWeek", targetDepth)) {
-                    context.nextToken();
-                    describeMaintenanceStartTimeResult.setDayOfWeek(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Timezone", targetDepth)) {
-                    context.nextToken();
-                    describeMaintenanceStartTimeResult.setTimezone(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeMaintenanceStartTimeResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HourOfDay".equals(fieldName)) {
+                        context.nextToken();
+                        describeMaintenanceStartTimeResult.setHourOfDay(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("MinuteOfHour".equals(fieldName)) {
+                        context.nextToken();
+                        describeMaintenanceStartTimeResult.setMinuteOfHour(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("DayOfWeek".equals(fieldName)) {
+                        context.nextToken();
+                        describeMaintenanceStartTimeResult.setDayOfWeek(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Timezone".equals(fieldName)) {
+                        context.nextToken();
+                        describeMaintenanceStartTimeResult.setTimezone(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class DescribeSnapshotScheduleResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotScheduleResult.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("StartAt", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotScheduleResult.setStartAt(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RecurrenceInHours", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotScheduleResult.setRecurrenceInHours(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotScheduleResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Timezone", targetDepth)) {
-                    context.nextToken();
-                    describeSnapshotScheduleResult.setTimezone(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeSnapshotScheduleResult.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("StartAt".equals(fieldName)) {
+                        context.nextToken();
+                        describeSnapshotScheduleResult.setStartAt(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("RecurrenceInHours".equals(fieldName)) {
+                        context.nextToken();
+                        describeSnapshotScheduleResult.setRecurrenceInHours(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        describeSnapshotScheduleResult.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Timezone".equals(fieldName)) {
+                        context.nextToken();
+                        describeSnapshotScheduleResult.setTimezone(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
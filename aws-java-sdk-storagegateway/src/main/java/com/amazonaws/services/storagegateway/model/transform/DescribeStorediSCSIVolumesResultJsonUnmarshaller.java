@@ -47,10 +47,12 @@ public class DescribeStorediSCSIVolumesResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StorediSCSIVolumes", targetDepth)) {
-                    context.nextToken();
-                    describeStorediSCSIVolumesResult.setStorediSCSIVolumes(new ListUnmarshaller<StorediSCSIVolume>(StorediSCSIVolumeJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StorediSCSIVolumes".equals(fieldName)) {
+                        context.nextToken();
+                        describeStorediSCSIVolumesResult.setStorediSCSIVolumes(storediSCSIVolumesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeStorediSCSIVolumesResultJsonUnmarshaller implements Unmarsh
         return describeStorediSCSIVolumesResult;
     }
 
+    private final Unmarshaller<java.util.List<StorediSCSIVolume>, JsonUnmarshallerContext> storediSCSIVolumesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<StorediSCSIVolume>>() {
+        @Override
+        protected Unmarshaller<java.util.List<StorediSCSIVolume>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<StorediSCSIVolume>(StorediSCSIVolumeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeStorediSCSIVolumesResultJsonUnmarshaller instance;
 
     public static DescribeStorediSCSIVolumesResultJsonUnmarshaller getInstance() {
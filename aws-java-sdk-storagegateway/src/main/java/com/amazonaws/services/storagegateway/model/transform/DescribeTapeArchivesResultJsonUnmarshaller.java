@@ -47,14 +47,15 @@ public class DescribeTapeArchivesResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeArchives", targetDepth)) {
-                    context.nextToken();
-                    describeTapeArchivesResult
-                            .setTapeArchives(new ListUnmarshaller<TapeArchive>(TapeArchiveJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeTapeArchivesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TapeArchives".equals(fieldName)) {
+                        context.nextToken();
+                        describeTapeArchivesResult.setTapeArchives(tapeArchivesUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeTapeArchivesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeTapeArchivesResultJsonUnmarshaller implements Unmarshaller<
         return describeTapeArchivesResult;
     }
 
+    private final Unmarshaller<java.util.List<TapeArchive>, JsonUnmarshallerContext> tapeArchivesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TapeArchive>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TapeArchive>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TapeArchive>(TapeArchiveJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTapeArchivesResultJsonUnmarshaller instance;
 
     public static DescribeTapeArchivesResultJsonUnmarshaller getInstance() {
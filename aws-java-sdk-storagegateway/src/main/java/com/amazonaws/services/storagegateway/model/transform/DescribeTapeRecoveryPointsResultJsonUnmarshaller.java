@@ -47,18 +47,18 @@ public class DescribeTapeRecoveryPointsResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeTapeRecoveryPointsResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeRecoveryPointInfos", targetDepth)) {
-                    context.nextToken();
-                    describeTapeRecoveryPointsResult.setTapeRecoveryPointInfos(new ListUnmarshaller<TapeRecoveryPointInfo>(
-                            TapeRecoveryPointInfoJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeTapeRecoveryPointsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeTapeRecoveryPointsResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TapeRecoveryPointInfos".equals(fieldName)) {
+                        context.nextToken();
+                        describeTapeRecoveryPointsResult.setTapeRecoveryPointInfos(tapeRecoveryPointInfosUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeTapeRecoveryPointsResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class DescribeTapeRecoveryPointsResultJsonUnmarshaller implements Unmarsh
         return describeTapeRecoveryPointsResult;
     }
 
+    private final Unmarshaller<java.util.List<TapeRecoveryPointInfo>, JsonUnmarshallerContext> tapeRecoveryPointInfosUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TapeRecoveryPointInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TapeRecoveryPointInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TapeRecoveryPointInfo>(TapeRecoveryPointInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTapeRecoveryPointsResultJsonUnmarshaller instance;
 
     public static DescribeTapeRecoveryPointsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DescribeTapesResultJsonUnmarshaller implements Unmarshaller<Describ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Tapes", targetDepth)) {
-                    context.nextToken();
-                    describeTapesResult.setTapes(new ListUnmarshaller<Tape>(TapeJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeTapesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Tapes".equals(fieldName)) {
+                        context.nextToken();
+                        describeTapesResult.setTapes(tapesUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeTapesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeTapesResultJsonUnmarshaller implements Unmarshaller<Describ
         return describeTapesResult;
     }
 
+    private final Unmarshaller<java.util.List<Tape>, JsonUnmarshallerContext> tapesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tape>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tape>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tape>(TapeJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTapesResultJsonUnmarshaller instance;
 
     public static DescribeTapesResultJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class DescribeUploadBufferResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeUploadBufferResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskIds", targetDepth)) {
-                    context.nextToken();
-                    describeUploadBufferResult.setDiskIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("UploadBufferUsedInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeUploadBufferResult.setUploadBufferUsedInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("UploadBufferAllocatedInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeUploadBufferResult.setUploadBufferAllocatedInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeUploadBufferResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DiskIds".equals(fieldName)) {
+                        context.nextToken();
+                        describeUploadBufferResult.setDiskIds(diskIdsUnmarshaller.unmarshall(context));
+                    } else if ("UploadBufferUsedInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        describeUploadBufferResult.setUploadBufferUsedInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("UploadBufferAllocatedInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        describeUploadBufferResult.setUploadBufferAllocatedInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +75,13 @@ public class DescribeUploadBufferResultJsonUnmarshaller implements Unmarshaller<
         return describeUploadBufferResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> diskIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeUploadBufferResultJsonUnmarshaller instance;
 
     public static DescribeUploadBufferResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class DescribeVTLDevicesResultJsonUnmarshaller implements Unmarshaller<De
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeVTLDevicesResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VTLDevices", targetDepth)) {
-                    context.nextToken();
-                    describeVTLDevicesResult.setVTLDevices(new ListUnmarshaller<VTLDevice>(VTLDeviceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    describeVTLDevicesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeVTLDevicesResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VTLDevices".equals(fieldName)) {
+                        context.nextToken();
+                        describeVTLDevicesResult.setVTLDevices(vTLDevicesUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        describeVTLDevicesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class DescribeVTLDevicesResultJsonUnmarshaller implements Unmarshaller<De
         return describeVTLDevicesResult;
     }
 
+    private final Unmarshaller<java.util.List<VTLDevice>, JsonUnmarshallerContext> vTLDevicesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<VTLDevice>>() {
+        @Override
+        protected Unmarshaller<java.util.List<VTLDevice>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<VTLDevice>(VTLDeviceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeVTLDevicesResultJsonUnmarshaller instance;
 
     public static DescribeVTLDevicesResultJsonUnmarshaller getInstance() {
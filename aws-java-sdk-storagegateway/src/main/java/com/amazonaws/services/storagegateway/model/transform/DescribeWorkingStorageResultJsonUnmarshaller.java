@@ -47,21 +47,21 @@ public class DescribeWorkingStorageResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    describeWorkingStorageResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskIds", targetDepth)) {
-                    context.nextToken();
-                    describeWorkingStorageResult.setDiskIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("WorkingStorageUsedInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeWorkingStorageResult.setWorkingStorageUsedInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("WorkingStorageAllocatedInBytes", targetDepth)) {
-                    context.nextToken();
-                    describeWorkingStorageResult.setWorkingStorageAllocatedInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkingStorageResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DiskIds".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkingStorageResult.setDiskIds(diskIdsUnmarshaller.unmarshall(context));
+                    } else if ("WorkingStorageUsedInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkingStorageResult.setWorkingStorageUsedInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("WorkingStorageAllocatedInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkingStorageResult.setWorkingStorageAllocatedInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +75,13 @@ public class DescribeWorkingStorageResultJsonUnmarshaller implements Unmarshalle
         return describeWorkingStorageResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> diskIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static DescribeWorkingStorageResultJsonUnmarshaller instance;
 
     public static DescribeWorkingStorageResultJsonUnmarshaller getInstance() {
@@ -47,21 +47,21 @@ public class DeviceiSCSIAttributesJsonUnmarshaller implements Unmarshaller<Devic
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    deviceiSCSIAttributes.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NetworkInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    deviceiSCSIAttributes.setNetworkInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NetworkInterfacePort", targetDepth)) {
-                    context.nextToken();
-                    deviceiSCSIAttributes.setNetworkInterfacePort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ChapEnabled", targetDepth)) {
-                    context.nextToken();
-                    deviceiSCSIAttributes.setChapEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TargetARN".equals(fieldName)) {
+                        context.nextToken();
+                        deviceiSCSIAttributes.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NetworkInterfaceId".equals(fieldName)) {
+                        context.nextToken();
+                        deviceiSCSIAttributes.setNetworkInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NetworkInterfacePort".equals(fieldName)) {
+                        context.nextToken();
+                        deviceiSCSIAttributes.setNetworkInterfacePort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ChapEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        deviceiSCSIAttributes.setChapEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
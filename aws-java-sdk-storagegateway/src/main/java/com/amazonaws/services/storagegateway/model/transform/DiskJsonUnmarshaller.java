@@ -47,33 +47,30 @@ public class DiskJsonUnmarshaller implements Unmarshaller<Disk, JsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DiskId", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskPath", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskPath(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskNode", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskNode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskStatus", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskAllocationType", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskAllocationType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DiskAllocationResource", targetDepth)) {
-                    context.nextToken();
-                    disk.setDiskAllocationResource(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DiskId".equals(fieldName)) {
+                        context.nextToken();
+                        disk.setDiskId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DiskPath".equals(fieldName)) {
+                        context.nextToken();
+                        disk.setDiskPath(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DiskNode".equals(fieldName)) {
+                        context.nextToken();
+                        disk.setDiskNode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DiskStatus".equals(fieldName)) {
+                        context.nextToken();
+                        disk.setDiskStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DiskSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        disk.setDiskSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("DiskAllocationType".equals(fieldName)) {
+                        context.nextToken();
+                        disk.setDiskAllocationType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DiskAllocationResource".equals(fieldName)) {
+                        context.nextToken();
+                        disk.setDiskAllocationResource(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class GatewayInfoJsonUnmarshaller implements Unmarshaller<GatewayInfo, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayId", targetDepth)) {
-                    context.nextToken();
-                    gatewayInfo.setGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    gatewayInfo.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayType", targetDepth)) {
-                    context.nextToken();
-                    gatewayInfo.setGatewayType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayOperationalState", targetDepth)) {
-                    context.nextToken();
-                    gatewayInfo.setGatewayOperationalState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayName", targetDepth)) {
-                    context.nextToken();
-                    gatewayInfo.setGatewayName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayId".equals(fieldName)) {
+                        context.nextToken();
+                        gatewayInfo.setGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        gatewayInfo.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayType".equals(fieldName)) {
+                        context.nextToken();
+                        gatewayInfo.setGatewayType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayOperationalState".equals(fieldName)) {
+                        context.nextToken();
+                        gatewayInfo.setGatewayOperationalState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayName".equals(fieldName)) {
+                        context.nextToken();
+                        gatewayInfo.setGatewayName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class ListGatewaysResultJsonUnmarshaller implements Unmarshaller<ListGate
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Gateways", targetDepth)) {
-                    context.nextToken();
-                    listGatewaysResult.setGateways(new ListUnmarshaller<GatewayInfo>(GatewayInfoJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listGatewaysResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Gateways".equals(fieldName)) {
+                        context.nextToken();
+                        listGatewaysResult.setGateways(gatewaysUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listGatewaysResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListGatewaysResultJsonUnmarshaller implements Unmarshaller<ListGate
         return listGatewaysResult;
     }
 
+    private final Unmarshaller<java.util.List<GatewayInfo>, JsonUnmarshallerContext> gatewaysUnmarshaller = new CachingJsonUnmarshaller<java.util.List<GatewayInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<GatewayInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<GatewayInfo>(GatewayInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListGatewaysResultJsonUnmarshaller instance;
 
     public static ListGatewaysResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListLocalDisksResultJsonUnmarshaller implements Unmarshaller<ListLo
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    listLocalDisksResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Disks", targetDepth)) {
-                    context.nextToken();
-                    listLocalDisksResult.setDisks(new ListUnmarshaller<Disk>(DiskJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        listLocalDisksResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Disks".equals(fieldName)) {
+                        context.nextToken();
+                        listLocalDisksResult.setDisks(disksUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListLocalDisksResultJsonUnmarshaller implements Unmarshaller<ListLo
         return listLocalDisksResult;
     }
 
+    private final Unmarshaller<java.util.List<Disk>, JsonUnmarshallerContext> disksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Disk>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Disk>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Disk>(DiskJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListLocalDisksResultJsonUnmarshaller instance;
 
     public static ListLocalDisksResultJsonUnmarshaller getInstance() {
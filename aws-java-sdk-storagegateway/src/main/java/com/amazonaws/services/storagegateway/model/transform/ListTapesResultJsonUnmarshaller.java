@@ -47,13 +47,15 @@ public class ListTapesResultJsonUnmarshaller implements Unmarshaller<ListTapesRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeInfos", targetDepth)) {
-                    context.nextToken();
-                    listTapesResult.setTapeInfos(new ListUnmarshaller<TapeInfo>(TapeInfoJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listTapesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TapeInfos".equals(fieldName)) {
+                        context.nextToken();
+                        listTapesResult.setTapeInfos(tapeInfosUnmarshaller.unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listTapesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListTapesResultJsonUnmarshaller implements Unmarshaller<ListTapesRe
         return listTapesResult;
     }
 
+    private final Unmarshaller<java.util.List<TapeInfo>, JsonUnmarshallerContext> tapeInfosUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TapeInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TapeInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TapeInfo>(TapeInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListTapesResultJsonUnmarshaller instance;
 
     public static ListTapesResultJsonUnmarshaller getInstance() {
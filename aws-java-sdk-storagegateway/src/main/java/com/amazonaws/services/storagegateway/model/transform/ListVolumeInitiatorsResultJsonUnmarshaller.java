@@ -47,9 +47,12 @@ public class ListVolumeInitiatorsResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Initiators", targetDepth)) {
-                    context.nextToken();
-                    listVolumeInitiatorsResult.setInitiators(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Initiators".equals(fieldName)) {
+                        context.nextToken();
+                        listVolumeInitiatorsResult.setInitiators(initiatorsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class ListVolumeInitiatorsResultJsonUnmarshaller implements Unmarshaller<
         return listVolumeInitiatorsResult;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> initiatorsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static ListVolumeInitiatorsResultJsonUnmarshaller instance;
 
     public static ListVolumeInitiatorsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListVolumeRecoveryPointsResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    listVolumeRecoveryPointsResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeRecoveryPointInfos", targetDepth)) {
-                    context.nextToken();
-                    listVolumeRecoveryPointsResult.setVolumeRecoveryPointInfos(new ListUnmarshaller<VolumeRecoveryPointInfo>(
-                            VolumeRecoveryPointInfoJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        listVolumeRecoveryPointsResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeRecoveryPointInfos".equals(fieldName)) {
+                        context.nextToken();
+                        listVolumeRecoveryPointsResult.setVolumeRecoveryPointInfos(volumeRecoveryPointInfosUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListVolumeRecoveryPointsResultJsonUnmarshaller implements Unmarshal
         return listVolumeRecoveryPointsResult;
     }
 
+    private final Unmarshaller<java.util.List<VolumeRecoveryPointInfo>, JsonUnmarshallerContext> volumeRecoveryPointInfosUnmarshaller = new CachingJsonUnmarshaller<java.util.List<VolumeRecoveryPointInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<VolumeRecoveryPointInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<VolumeRecoveryPointInfo>(VolumeRecoveryPointInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListVolumeRecoveryPointsResultJsonUnmarshaller instance;
 
     public static ListVolumeRecoveryPointsResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class ListVolumesResultJsonUnmarshaller implements Unmarshaller<ListVolum
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    listVolumesResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Marker", targetDepth)) {
-                    context.nextToken();
-                    listVolumesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeInfos", targetDepth)) {
-                    context.nextToken();
-                    listVolumesResult.setVolumeInfos(new ListUnmarshaller<VolumeInfo>(VolumeInfoJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        listVolumesResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Marker".equals(fieldName)) {
+                        context.nextToken();
+                        listVolumesResult.setMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeInfos".equals(fieldName)) {
+                        context.nextToken();
+                        listVolumesResult.setVolumeInfos(volumeInfosUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ListVolumesResultJsonUnmarshaller implements Unmarshaller<ListVolum
         return listVolumesResult;
     }
 
+    private final Unmarshaller<java.util.List<VolumeInfo>, JsonUnmarshallerContext> volumeInfosUnmarshaller = new CachingJsonUnmarshaller<java.util.List<VolumeInfo>>() {
+        @Override
+        protected Unmarshaller<java.util.List<VolumeInfo>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<VolumeInfo>(VolumeInfoJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListVolumesResultJsonUnmarshaller instance;
 
     public static ListVolumesResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class NetworkInterfaceJsonUnmarshaller implements Unmarshaller<NetworkInt
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Ipv4Address", targetDepth)) {
-                    context.nextToken();
-                    networkInterface.setIpv4Address(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MacAddress", targetDepth)) {
-                    context.nextToken();
-                    networkInterface.setMacAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Ipv6Address", targetDepth)) {
-                    context.nextToken();
-                    networkInterface.setIpv6Address(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Ipv4Address".equals(fieldName)) {
+                        context.nextToken();
+                        networkInterface.setIpv4Address(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MacAddress".equals(fieldName)) {
+                        context.nextToken();
+                        networkInterface.setMacAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Ipv6Address".equals(fieldName)) {
+                        context.nextToken();
+                        networkInterface.setIpv6Address(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
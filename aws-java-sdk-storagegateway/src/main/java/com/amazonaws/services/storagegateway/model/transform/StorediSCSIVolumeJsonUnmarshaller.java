@@ -47,45 +47,39 @@ public class StorediSCSIVolumeJsonUnmarshaller implements Unmarshaller<StorediSC
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeId", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeStatus", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeProgress", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeProgress(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeDiskId", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeDiskId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SourceSnapshotId", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setSourceSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PreservedExistingData", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setPreservedExistingData(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeiSCSIAttributes", targetDepth)) {
-                    context.nextToken();
-                    storediSCSIVolume.setVolumeiSCSIAttributes(VolumeiSCSIAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeARN".equals(fieldName)) {
+                        context.nextToken();
+                        storediSCSIVolume.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeId".equals(fieldName)) {
+                        context.nextToken();
+                        storediSCSIVolume.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeType".equals(fieldName)) {
+                        context.nextToken();
+                        storediSCSIVolume.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeStatus".equals(fieldName)) {
+                        context.nextToken();
+                        storediSCSIVolume.setVolumeStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        storediSCSIVolume.setVolumeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("VolumeProgress".equals(fieldName)) {
+                        context.nextToken();
+                        storediSCSIVolume.setVolumeProgress(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("VolumeDiskId".equals(fieldName)) {
+                        context.nextToken();
+                        storediSCSIVolume.setVolumeDiskId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SourceSnapshotId".equals(fieldName)) {
+                        context.nextToken();
+                        storediSCSIVolume.setSourceSnapshotId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PreservedExistingData".equals(fieldName)) {
+                        context.nextToken();
+                        storediSCSIVolume.setPreservedExistingData(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("VolumeiSCSIAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        storediSCSIVolume.setVolumeiSCSIAttributes(VolumeiSCSIAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class TapeArchiveJsonUnmarshaller implements Unmarshaller<TapeArchive, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeARN", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeBarcode", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setTapeBarcode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setTapeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("CompletionTime", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setCompletionTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("RetrievedTo", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setRetrievedTo(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeStatus", targetDepth)) {
-                    context.nextToken();
-                    tapeArchive.setTapeStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TapeARN".equals(fieldName)) {
+                        context.nextToken();
+                        tapeArchive.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TapeBarcode".equals(fieldName)) {
+                        context.nextToken();
+                        tapeArchive.setTapeBarcode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TapeSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        tapeArchive.setTapeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("CompletionTime".equals(fieldName)) {
+                        context.nextToken();
+                        tapeArchive.setCompletionTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("RetrievedTo".equals(fieldName)) {
+                        context.nextToken();
+                        tapeArchive.setRetrievedTo(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TapeStatus".equals(fieldName)) {
+                        context.nextToken();
+                        tapeArchive.setTapeStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class TapeInfoJsonUnmarshaller implements Unmarshaller<TapeInfo, JsonUnma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeARN", targetDepth)) {
-                    context.nextToken();
-                    tapeInfo.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeBarcode", targetDepth)) {
-                    context.nextToken();
-                    tapeInfo.setTapeBarcode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    tapeInfo.setTapeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeStatus", targetDepth)) {
-                    context.nextToken();
-                    tapeInfo.setTapeStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    tapeInfo.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TapeARN".equals(fieldName)) {
+                        context.nextToken();
+                        tapeInfo.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TapeBarcode".equals(fieldName)) {
+                        context.nextToken();
+                        tapeInfo.setTapeBarcode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TapeSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        tapeInfo.setTapeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TapeStatus".equals(fieldName)) {
+                        context.nextToken();
+                        tapeInfo.setTapeStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        tapeInfo.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
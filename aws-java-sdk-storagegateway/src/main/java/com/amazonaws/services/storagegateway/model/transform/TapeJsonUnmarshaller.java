@@ -47,29 +47,27 @@ public class TapeJsonUnmarshaller implements Unmarshaller<Tape, JsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeARN", targetDepth)) {
-                    context.nextToken();
-                    tape.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeBarcode", targetDepth)) {
-                    context.nextToken();
-                    tape.setTapeBarcode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    tape.setTapeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeStatus", targetDepth)) {
-                    context.nextToken();
-                    tape.setTapeStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VTLDevice", targetDepth)) {
-                    context.nextToken();
-                    tape.setVTLDevice(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Progress", targetDepth)) {
-                    context.nextToken();
-                    tape.setProgress(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TapeARN".equals(fieldName)) {
+                        context.nextToken();
+                        tape.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TapeBarcode".equals(fieldName)) {
+                        context.nextToken();
+                        tape.setTapeBarcode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TapeSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        tape.setTapeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TapeStatus".equals(fieldName)) {
+                        context.nextToken();
+                        tape.setTapeStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VTLDevice".equals(fieldName)) {
+                        context.nextToken();
+                        tape.setVTLDevice(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Progress".equals(fieldName)) {
+                        context.nextToken();
+                        tape.setProgress(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class TapeRecoveryPointInfoJsonUnmarshaller implements Unmarshaller<TapeR
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TapeARN", targetDepth)) {
-                    context.nextToken();
-                    tapeRecoveryPointInfo.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeRecoveryPointTime", targetDepth)) {
-                    context.nextToken();
-                    tapeRecoveryPointInfo.setTapeRecoveryPointTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    tapeRecoveryPointInfo.setTapeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TapeStatus", targetDepth)) {
-                    context.nextToken();
-                    tapeRecoveryPointInfo.setTapeStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TapeARN".equals(fieldName)) {
+                        context.nextToken();
+                        tapeRecoveryPointInfo.setTapeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("TapeRecoveryPointTime".equals(fieldName)) {
+                        context.nextToken();
+                        tapeRecoveryPointInfo.setTapeRecoveryPointTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("TapeSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        tapeRecoveryPointInfo.setTapeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TapeStatus".equals(fieldName)) {
+                        context.nextToken();
+                        tapeRecoveryPointInfo.setTapeStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
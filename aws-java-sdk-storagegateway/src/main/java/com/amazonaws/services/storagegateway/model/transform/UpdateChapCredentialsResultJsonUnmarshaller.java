@@ -47,13 +47,15 @@ public class UpdateChapCredentialsResultJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    updateChapCredentialsResult.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("InitiatorName", targetDepth)) {
-                    context.nextToken();
-                    updateChapCredentialsResult.setInitiatorName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TargetARN".equals(fieldName)) {
+                        context.nextToken();
+                        updateChapCredentialsResult.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("InitiatorName".equals(fieldName)) {
+                        context.nextToken();
+                        updateChapCredentialsResult.setInitiatorName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class UpdateGatewayInformationResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    updateGatewayInformationResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayName", targetDepth)) {
-                    context.nextToken();
-                    updateGatewayInformationResult.setGatewayName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        updateGatewayInformationResult.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayName".equals(fieldName)) {
+                        context.nextToken();
+                        updateGatewayInformationResult.setGatewayName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
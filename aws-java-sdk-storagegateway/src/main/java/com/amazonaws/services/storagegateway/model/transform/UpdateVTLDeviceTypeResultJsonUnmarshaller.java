@@ -47,9 +47,12 @@ public class UpdateVTLDeviceTypeResultJsonUnmarshaller implements Unmarshaller<U
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VTLDeviceARN", targetDepth)) {
-                    context.nextToken();
-                    updateVTLDeviceTypeResult.setVTLDeviceARN(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VTLDeviceARN".equals(fieldName)) {
+                        context.nextToken();
+                        updateVTLDeviceTypeResult.setVTLDeviceARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
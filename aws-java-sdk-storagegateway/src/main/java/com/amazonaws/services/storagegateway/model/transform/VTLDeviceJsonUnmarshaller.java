@@ -47,25 +47,24 @@ public class VTLDeviceJsonUnmarshaller implements Unmarshaller<VTLDevice, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VTLDeviceARN", targetDepth)) {
-                    context.nextToken();
-                    vTLDevice.setVTLDeviceARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VTLDeviceType", targetDepth)) {
-                    context.nextToken();
-                    vTLDevice.setVTLDeviceType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VTLDeviceVendor", targetDepth)) {
-                    context.nextToken();
-                    vTLDevice.setVTLDeviceVendor(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VTLDeviceProductIdentifier", targetDepth)) {
-                    context.nextToken();
-                    vTLDevice.setVTLDeviceProductIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DeviceiSCSIAttributes", targetDepth)) {
-                    context.nextToken();
-                    vTLDevice.setDeviceiSCSIAttributes(DeviceiSCSIAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VTLDeviceARN".equals(fieldName)) {
+                        context.nextToken();
+                        vTLDevice.setVTLDeviceARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VTLDeviceType".equals(fieldName)) {
+                        context.nextToken();
+                        vTLDevice.setVTLDeviceType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VTLDeviceVendor".equals(fieldName)) {
+                        context.nextToken();
+                        vTLDevice.setVTLDeviceVendor(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VTLDeviceProductIdentifier".equals(fieldName)) {
+                        context.nextToken();
+                        vTLDevice.setVTLDeviceProductIdentifier(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DeviceiSCSIAttributes".equals(fieldName)) {
+                        context.nextToken();
+                        vTLDevice.setDeviceiSCSIAttributes(DeviceiSCSIAttributesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class VolumeInfoJsonUnmarshaller implements Unmarshaller<VolumeInfo, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    volumeInfo.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeId", targetDepth)) {
-                    context.nextToken();
-                    volumeInfo.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayARN", targetDepth)) {
-                    context.nextToken();
-                    volumeInfo.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("GatewayId", targetDepth)) {
-                    context.nextToken();
-                    volumeInfo.setGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeType", targetDepth)) {
-                    context.nextToken();
-                    volumeInfo.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    volumeInfo.setVolumeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeARN".equals(fieldName)) {
+                        context.nextToken();
+                        volumeInfo.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeId".equals(fieldName)) {
+                        context.nextToken();
+                        volumeInfo.setVolumeId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayARN".equals(fieldName)) {
+                        context.nextToken();
+                        volumeInfo.setGatewayARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("GatewayId".equals(fieldName)) {
+                        context.nextToken();
+                        volumeInfo.setGatewayId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeType".equals(fieldName)) {
+                        context.nextToken();
+                        volumeInfo.setVolumeType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        volumeInfo.setVolumeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class VolumeRecoveryPointInfoJsonUnmarshaller implements Unmarshaller<Vol
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("VolumeARN", targetDepth)) {
-                    context.nextToken();
-                    volumeRecoveryPointInfo.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeSizeInBytes", targetDepth)) {
-                    context.nextToken();
-                    volumeRecoveryPointInfo.setVolumeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeUsageInBytes", targetDepth)) {
-                    context.nextToken();
-                    volumeRecoveryPointInfo.setVolumeUsageInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeRecoveryPointTime", targetDepth)) {
-                    context.nextToken();
-                    volumeRecoveryPointInfo.setVolumeRecoveryPointTime(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("VolumeARN".equals(fieldName)) {
+                        context.nextToken();
+                        volumeRecoveryPointInfo.setVolumeARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeSizeInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        volumeRecoveryPointInfo.setVolumeSizeInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("VolumeUsageInBytes".equals(fieldName)) {
+                        context.nextToken();
+                        volumeRecoveryPointInfo.setVolumeUsageInBytes(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("VolumeRecoveryPointTime".equals(fieldName)) {
+                        context.nextToken();
+                        volumeRecoveryPointInfo.setVolumeRecoveryPointTime(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
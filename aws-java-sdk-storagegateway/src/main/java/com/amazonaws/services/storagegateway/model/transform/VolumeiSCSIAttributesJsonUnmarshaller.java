@@ -47,25 +47,24 @@ public class VolumeiSCSIAttributesJsonUnmarshaller implements Unmarshaller<Volum
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("TargetARN", targetDepth)) {
-                    context.nextToken();
-                    volumeiSCSIAttributes.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NetworkInterfaceId", targetDepth)) {
-                    context.nextToken();
-                    volumeiSCSIAttributes.setNetworkInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("NetworkInterfacePort", targetDepth)) {
-                    context.nextToken();
-                    volumeiSCSIAttributes.setNetworkInterfacePort(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("LunNumber", targetDepth)) {
-                    context.nextToken();
-                    volumeiSCSIAttributes.setLunNumber(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("ChapEnabled", targetDepth)) {
-                    context.nextToken();
-                    volumeiSCSIAttributes.setChapEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("TargetARN".equals(fieldName)) {
+                        context.nextToken();
+                        volumeiSCSIAttributes.setTargetARN(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NetworkInterfaceId".equals(fieldName)) {
+                        context.nextToken();
+                        volumeiSCSIAttributes.setNetworkInterfaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("NetworkInterfacePort".equals(fieldName)) {
+                        context.nextToken();
+                        volumeiSCSIAttributes.setNetworkInterfacePort(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("LunNumber".equals(fieldName)) {
+                        context.nextToken();
+                        volumeiSCSIAttributes.setLunNumber(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("ChapEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        volumeiSCSIAttributes.setChapEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
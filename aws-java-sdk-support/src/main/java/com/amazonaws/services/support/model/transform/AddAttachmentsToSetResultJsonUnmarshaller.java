@@ -47,13 +47,15 @@ public class AddAttachmentsToSetResultJsonUnmarshaller implements Unmarshaller<A
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("attachmentSetId", targetDepth)) {
-                    context.nextToken();
-                    addAttachmentsToSetResult.setAttachmentSetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("expiryTime", targetDepth)) {
-                    context.nextToken();
-                    addAttachmentsToSetResult.setExpiryTime(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("attachmentSetId".equals(fieldName)) {
+                        context.nextToken();
+                        addAttachmentsToSetResult.setAttachmentSetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("expiryTime".equals(fieldName)) {
+                        context.nextToken();
+                        addAttachmentsToSetResult.setExpiryTime(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class AddCommunicationToCaseResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("result", targetDepth)) {
-                    context.nextToken();
-                    addCommunicationToCaseResult.setResult(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("result".equals(fieldName)) {
+                        context.nextToken();
+                        addCommunicationToCaseResult.setResult(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
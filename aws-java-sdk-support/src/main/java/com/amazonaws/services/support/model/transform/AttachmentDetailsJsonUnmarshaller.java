@@ -47,13 +47,15 @@ public class AttachmentDetailsJsonUnmarshaller implements Unmarshaller<Attachmen
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("attachmentId", targetDepth)) {
-                    context.nextToken();
-                    attachmentDetails.setAttachmentId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("fileName", targetDepth)) {
-                    context.nextToken();
-                    attachmentDetails.setFileName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("attachmentId".equals(fieldName)) {
+                        context.nextToken();
+                        attachmentDetails.setAttachmentId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("fileName".equals(fieldName)) {
+                        context.nextToken();
+                        attachmentDetails.setFileName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
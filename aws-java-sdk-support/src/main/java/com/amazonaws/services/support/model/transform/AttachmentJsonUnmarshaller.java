@@ -47,13 +47,15 @@ public class AttachmentJsonUnmarshaller implements Unmarshaller<Attachment, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("fileName", targetDepth)) {
-                    context.nextToken();
-                    attachment.setFileName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("data", targetDepth)) {
-                    context.nextToken();
-                    attachment.setData(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("fileName".equals(fieldName)) {
+                        context.nextToken();
+                        attachment.setFileName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("data".equals(fieldName)) {
+                        context.nextToken();
+                        attachment.setData(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,53 +47,45 @@ public class CaseDetailsJsonUnmarshaller implements Unmarshaller<CaseDetails, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("caseId", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setCaseId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("displayId", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setDisplayId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("subject", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setSubject(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("serviceCode", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setServiceCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("categoryCode", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setCategoryCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("severityCode", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setSeverityCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("submittedBy", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setSubmittedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("timeCreated", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setTimeCreated(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("recentCommunications", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setRecentCommunications(RecentCaseCommunicationsJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ccEmailAddresses", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setCcEmailAddresses(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("language", targetDepth)) {
-                    context.nextToken();
-                    caseDetails.setLanguage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("caseId".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setCaseId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("displayId".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setDisplayId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("subject".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setSubject(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("serviceCode".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setServiceCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("categoryCode".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setCategoryCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("severityCode".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setSeverityCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("submittedBy".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setSubmittedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("timeCreated".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setTimeCreated(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("recentCommunications".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setRecentCommunications(RecentCaseCommunicationsJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ccEmailAddresses".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setCcEmailAddresses(ccEmailAddressesUnmarshaller.unmarshall(context));
+                    } else if ("language".equals(fieldName)) {
+                        context.nextToken();
+                        caseDetails.setLanguage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -107,6 +99,13 @@ public class CaseDetailsJsonUnmarshaller implements Unmarshaller<CaseDetails, Js
         return caseDetails;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> ccEmailAddressesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static CaseDetailsJsonUnmarshaller instance;
 
     public static CaseDetailsJsonUnmarshaller getInstance() {
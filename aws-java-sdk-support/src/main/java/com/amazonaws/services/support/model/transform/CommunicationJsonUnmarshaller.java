@@ -47,26 +47,24 @@ public class CommunicationJsonUnmarshaller implements Unmarshaller<Communication
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("caseId", targetDepth)) {
-                    context.nextToken();
-                    communication.setCaseId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("body", targetDepth)) {
-                    context.nextToken();
-                    communication.setBody(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("submittedBy", targetDepth)) {
-                    context.nextToken();
-                    communication.setSubmittedBy(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("timeCreated", targetDepth)) {
-                    context.nextToken();
-                    communication.setTimeCreated(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("attachmentSet", targetDepth)) {
-                    context.nextToken();
-                    communication
-                            .setAttachmentSet(new ListUnmarshaller<AttachmentDetails>(AttachmentDetailsJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("caseId".equals(fieldName)) {
+                        context.nextToken();
+                        communication.setCaseId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("body".equals(fieldName)) {
+                        context.nextToken();
+                        communication.setBody(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("submittedBy".equals(fieldName)) {
+                        context.nextToken();
+                        communication.setSubmittedBy(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("timeCreated".equals(fieldName)) {
+                        context.nextToken();
+                        communication.setTimeCreated(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("attachmentSet".equals(fieldName)) {
+                        context.nextToken();
+                        communication.setAttachmentSet(attachmentSetUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -80,6 +78,13 @@ public class CommunicationJsonUnmarshaller implements Unmarshaller<Communication
         return communication;
     }
 
+    private final Unmarshaller<java.util.List<AttachmentDetails>, JsonUnmarshallerContext> attachmentSetUnmarshaller = new CachingJsonUnmarshaller<java.util.List<AttachmentDetails>>() {
+        @Override
+        protected Unmarshaller<java.util.List<AttachmentDetails>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<AttachmentDetails>(AttachmentDetailsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static CommunicationJsonUnmarshaller instance;
 
     public static CommunicationJsonUnmarshaller getInstance() {
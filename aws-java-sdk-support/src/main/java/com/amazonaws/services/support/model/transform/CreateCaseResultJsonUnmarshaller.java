@@ -47,9 +47,12 @@ public class CreateCaseResultJsonUnmarshaller implements Unmarshaller<CreateCase
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("caseId", targetDepth)) {
-                    context.nextToken();
-                    createCaseResult.setCaseId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("caseId".equals(fieldName)) {
+                        context.nextToken();
+                        createCaseResult.setCaseId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DescribeAttachmentResultJsonUnmarshaller implements Unmarshaller<De
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("attachment", targetDepth)) {
-                    context.nextToken();
-                    describeAttachmentResult.setAttachment(AttachmentJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("attachment".equals(fieldName)) {
+                        context.nextToken();
+                        describeAttachmentResult.setAttachment(AttachmentJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class DescribeCasesResultJsonUnmarshaller implements Unmarshaller<Describ
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("cases", targetDepth)) {
-                    context.nextToken();
-                    describeCasesResult.setCases(new ListUnmarshaller<CaseDetails>(CaseDetailsJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    describeCasesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("cases".equals(fieldName)) {
+                        context.nextToken();
+                        describeCasesResult.setCases(casesUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeCasesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeCasesResultJsonUnmarshaller implements Unmarshaller<Describ
         return describeCasesResult;
     }
 
+    private final Unmarshaller<java.util.List<CaseDetails>, JsonUnmarshallerContext> casesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<CaseDetails>>() {
+        @Override
+        protected Unmarshaller<java.util.List<CaseDetails>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<CaseDetails>(CaseDetailsJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeCasesResultJsonUnmarshaller instance;
 
     public static DescribeCasesResultJsonUnmarshaller getInstance() {
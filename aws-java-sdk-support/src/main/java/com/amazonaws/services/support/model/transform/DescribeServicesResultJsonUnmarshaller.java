@@ -47,9 +47,12 @@ public class DescribeServicesResultJsonUnmarshaller implements Unmarshaller<Desc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("services", targetDepth)) {
-                    context.nextToken();
-                    describeServicesResult.setServices(new ListUnmarshaller<Service>(ServiceJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("services".equals(fieldName)) {
+                        context.nextToken();
+                        describeServicesResult.setServices(servicesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -63,6 +66,13 @@ public class DescribeServicesResultJsonUnmarshaller implements Unmarshaller<Desc
         return describeServicesResult;
     }
 
+    private final Unmarshaller<java.util.List<Service>, JsonUnmarshallerContext> servicesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Service>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Service>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Service>(ServiceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeServicesResultJsonUnmarshaller instance;
 
     public static DescribeServicesResultJsonUnmarshaller getInstance() {
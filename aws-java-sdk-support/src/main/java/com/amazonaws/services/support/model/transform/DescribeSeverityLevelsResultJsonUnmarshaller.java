@@ -47,10 +47,12 @@ public class DescribeSeverityLevelsResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("severityLevels", targetDepth)) {
-                    context.nextToken();
-                    describeSeverityLevelsResult.setSeverityLevels(new ListUnmarshaller<SeverityLevel>(SeverityLevelJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("severityLevels".equals(fieldName)) {
+                        context.nextToken();
+                        describeSeverityLevelsResult.setSeverityLevels(severityLevelsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeSeverityLevelsResultJsonUnmarshaller implements Unmarshalle
         return describeSeverityLevelsResult;
     }
 
+    private final Unmarshaller<java.util.List<SeverityLevel>, JsonUnmarshallerContext> severityLevelsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SeverityLevel>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SeverityLevel>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SeverityLevel>(SeverityLevelJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeSeverityLevelsResultJsonUnmarshaller instance;
 
     public static DescribeSeverityLevelsResultJsonUnmarshaller getInstance() {
@@ -48,10 +48,12 @@ public class DescribeTrustedAdvisorCheckRefreshStatusesResultJsonUnmarshaller im
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("statuses", targetDepth)) {
-                    context.nextToken();
-                    describeTrustedAdvisorCheckRefreshStatusesResult.setStatuses(new ListUnmarshaller<TrustedAdvisorCheckRefreshStatus>(
-                            TrustedAdvisorCheckRefreshStatusJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("statuses".equals(fieldName)) {
+                        context.nextToken();
+                        describeTrustedAdvisorCheckRefreshStatusesResult.setStatuses(statusesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -65,6 +67,13 @@ public class DescribeTrustedAdvisorCheckRefreshStatusesResultJsonUnmarshaller im
         return describeTrustedAdvisorCheckRefreshStatusesResult;
     }
 
+    private final Unmarshaller<java.util.List<TrustedAdvisorCheckRefreshStatus>, JsonUnmarshallerContext> statusesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TrustedAdvisorCheckRefreshStatus>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TrustedAdvisorCheckRefreshStatus>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TrustedAdvisorCheckRefreshStatus>(TrustedAdvisorCheckRefreshStatusJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTrustedAdvisorCheckRefreshStatusesResultJsonUnmarshaller instance;
 
     public static DescribeTrustedAdvisorCheckRefreshStatusesResultJsonUnmarshaller getInstance() {
@@ -48,10 +48,12 @@ public class DescribeTrustedAdvisorCheckSummariesResultJsonUnmarshaller implemen
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("summaries", targetDepth)) {
-                    context.nextToken();
-                    describeTrustedAdvisorCheckSummariesResult.setSummaries(new ListUnmarshaller<TrustedAdvisorCheckSummary>(
-                            TrustedAdvisorCheckSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("summaries".equals(fieldName)) {
+                        context.nextToken();
+                        describeTrustedAdvisorCheckSummariesResult.setSummaries(summariesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -65,6 +67,13 @@ public class DescribeTrustedAdvisorCheckSummariesResultJsonUnmarshaller implemen
         return describeTrustedAdvisorCheckSummariesResult;
     }
 
+    private final Unmarshaller<java.util.List<TrustedAdvisorCheckSummary>, JsonUnmarshallerContext> summariesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TrustedAdvisorCheckSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TrustedAdvisorCheckSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TrustedAdvisorCheckSummary>(TrustedAdvisorCheckSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTrustedAdvisorCheckSummariesResultJsonUnmarshaller instance;
 
     public static DescribeTrustedAdvisorCheckSummariesResultJsonUnmarshaller getInstance() {
@@ -47,10 +47,12 @@ public class DescribeTrustedAdvisorChecksResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("checks", targetDepth)) {
-                    context.nextToken();
-                    describeTrustedAdvisorChecksResult.setChecks(new ListUnmarshaller<TrustedAdvisorCheckDescription>(
-                            TrustedAdvisorCheckDescriptionJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("checks".equals(fieldName)) {
+                        context.nextToken();
+                        describeTrustedAdvisorChecksResult.setChecks(checksUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class DescribeTrustedAdvisorChecksResultJsonUnmarshaller implements Unmar
         return describeTrustedAdvisorChecksResult;
     }
 
+    private final Unmarshaller<java.util.List<TrustedAdvisorCheckDescription>, JsonUnmarshallerContext> checksUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TrustedAdvisorCheckDescription>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TrustedAdvisorCheckDescription>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TrustedAdvisorCheckDescription>(TrustedAdvisorCheckDescriptionJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeTrustedAdvisorChecksResultJsonUnmarshaller instance;
 
     public static DescribeTrustedAdvisorChecksResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class RecentCaseCommunicationsJsonUnmarshaller implements Unmarshaller<Re
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("communications", targetDepth)) {
-                    context.nextToken();
-                    recentCaseCommunications.setCommunications(new ListUnmarshaller<Communication>(CommunicationJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("nextToken", targetDepth)) {
-                    context.nextToken();
-                    recentCaseCommunications.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("communications".equals(fieldName)) {
+                        context.nextToken();
+                        recentCaseCommunications.setCommunications(communicationsUnmarshaller.unmarshall(context));
+                    } else if ("nextToken".equals(fieldName)) {
+                        context.nextToken();
+                        recentCaseCommunications.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class RecentCaseCommunicationsJsonUnmarshaller implements Unmarshaller<Re
         return recentCaseCommunications;
     }
 
+    private final Unmarshaller<java.util.List<Communication>, JsonUnmarshallerContext> communicationsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Communication>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Communication>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Communication>(CommunicationJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static RecentCaseCommunicationsJsonUnmarshaller instance;
 
     public static RecentCaseCommunicationsJsonUnmarshaller getInstance() {
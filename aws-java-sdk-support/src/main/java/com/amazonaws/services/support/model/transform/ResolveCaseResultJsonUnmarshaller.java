@@ -47,13 +47,15 @@ public class ResolveCaseResultJsonUnmarshaller implements Unmarshaller<ResolveCa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("initialCaseStatus", targetDepth)) {
-                    context.nextToken();
-                    resolveCaseResult.setInitialCaseStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("finalCaseStatus", targetDepth)) {
-                    context.nextToken();
-                    resolveCaseResult.setFinalCaseStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("initialCaseStatus".equals(fieldName)) {
+                        context.nextToken();
+                        resolveCaseResult.setInitialCaseStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("finalCaseStatus".equals(fieldName)) {
+                        context.nextToken();
+                        resolveCaseResult.setFinalCaseStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
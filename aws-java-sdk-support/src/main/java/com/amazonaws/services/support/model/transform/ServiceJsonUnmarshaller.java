@@ -47,17 +47,18 @@ public class ServiceJsonUnmarshaller implements Unmarshaller<Service, JsonUnmars
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("code", targetDepth)) {
-                    context.nextToken();
-                    service.setCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    service.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("categories", targetDepth)) {
-                    context.nextToken();
-                    service.setCategories(new ListUnmarshaller<Category>(CategoryJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("code".equals(fieldName)) {
+                        context.nextToken();
+                        service.setCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        service.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("categories".equals(fieldName)) {
+                        context.nextToken();
+                        service.setCategories(categoriesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ServiceJsonUnmarshaller implements Unmarshaller<Service, JsonUnmars
         return service;
     }
 
+    private final Unmarshaller<java.util.List<Category>, JsonUnmarshallerContext> categoriesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Category>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Category>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Category>(CategoryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ServiceJsonUnmarshaller instance;
 
     public static ServiceJsonUnmarshaller getInstance() {
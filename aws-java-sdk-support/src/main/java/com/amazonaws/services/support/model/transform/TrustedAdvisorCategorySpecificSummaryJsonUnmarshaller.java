@@ -47,10 +47,13 @@ public class TrustedAdvisorCategorySpecificSummaryJsonUnmarshaller implements Un
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("costOptimizing", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCategorySpecificSummary.setCostOptimizing(TrustedAdvisorCostOptimizingSummaryJsonUnmarshaller.getInstance().unmarshall(
-                            context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("costOptimizing".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCategorySpecificSummary.setCostOptimizing(TrustedAdvisorCostOptimizingSummaryJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
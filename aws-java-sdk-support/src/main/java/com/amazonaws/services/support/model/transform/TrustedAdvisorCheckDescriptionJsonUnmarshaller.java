@@ -47,25 +47,24 @@ public class TrustedAdvisorCheckDescriptionJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("id", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckDescription.setId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("name", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("description", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckDescription.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("category", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckDescription.setCategory(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("metadata", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckDescription.setMetadata(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("id".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckDescription.setId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("name".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckDescription.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("description".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckDescription.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("category".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckDescription.setCategory(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("metadata".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckDescription.setMetadata(metadataUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class TrustedAdvisorCheckDescriptionJsonUnmarshaller implements Unmarshal
         return trustedAdvisorCheckDescription;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> metadataUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static TrustedAdvisorCheckDescriptionJsonUnmarshaller instance;
 
     public static TrustedAdvisorCheckDescriptionJsonUnmarshaller getInstance() {
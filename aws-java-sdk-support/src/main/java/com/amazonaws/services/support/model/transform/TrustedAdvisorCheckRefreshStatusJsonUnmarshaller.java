@@ -47,17 +47,18 @@ public class TrustedAdvisorCheckRefreshStatusJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("checkId", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckRefreshStatus.setCheckId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckRefreshStatus.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("millisUntilNextRefreshable", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckRefreshStatus.setMillisUntilNextRefreshable(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("checkId".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckRefreshStatus.setCheckId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckRefreshStatus.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("millisUntilNextRefreshable".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckRefreshStatus.setMillisUntilNextRefreshable(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
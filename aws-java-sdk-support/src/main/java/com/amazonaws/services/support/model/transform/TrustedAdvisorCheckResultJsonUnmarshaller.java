@@ -47,31 +47,28 @@ public class TrustedAdvisorCheckResultJsonUnmarshaller implements Unmarshaller<T
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("checkId", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult.setCheckId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("timestamp", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult.setTimestamp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourcesSummary", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult.setResourcesSummary(TrustedAdvisorResourcesSummaryJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("categorySpecificSummary", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult.setCategorySpecificSummary(TrustedAdvisorCategorySpecificSummaryJsonUnmarshaller.getInstance()
-                            .unmarshall(context));
-                }
-                if (context.testExpression("flaggedResources", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckResult.setFlaggedResources(new ListUnmarshaller<TrustedAdvisorResourceDetail>(
-                            TrustedAdvisorResourceDetailJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("checkId".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckResult.setCheckId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("timestamp".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckResult.setTimestamp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckResult.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourcesSummary".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckResult.setResourcesSummary(TrustedAdvisorResourcesSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("categorySpecificSummary".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckResult.setCategorySpecificSummary(TrustedAdvisorCategorySpecificSummaryJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    } else if ("flaggedResources".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckResult.setFlaggedResources(flaggedResourcesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -85,6 +82,13 @@ public class TrustedAdvisorCheckResultJsonUnmarshaller implements Unmarshaller<T
         return trustedAdvisorCheckResult;
     }
 
+    private final Unmarshaller<java.util.List<TrustedAdvisorResourceDetail>, JsonUnmarshallerContext> flaggedResourcesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<TrustedAdvisorResourceDetail>>() {
+        @Override
+        protected Unmarshaller<java.util.List<TrustedAdvisorResourceDetail>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<TrustedAdvisorResourceDetail>(TrustedAdvisorResourceDetailJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static TrustedAdvisorCheckResultJsonUnmarshaller instance;
 
     public static TrustedAdvisorCheckResultJsonUnmarshaller getInstance() {
@@ -47,30 +47,28 @@ public class TrustedAdvisorCheckSummaryJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("checkId", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary.setCheckId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("timestamp", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary.setTimestamp(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("hasFlaggedResources", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary.setHasFlaggedResources(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("resourcesSummary", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary.setResourcesSummary(TrustedAdvisorResourcesSummaryJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("categorySpecificSummary", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCheckSummary.setCategorySpecificSummary(TrustedAdvisorCategorySpecificSummaryJsonUnmarshaller.getInstance().unmarshall(
-                            context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("checkId".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckSummary.setCheckId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("timestamp".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckSummary.setTimestamp(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckSummary.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("hasFlaggedResources".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckSummary.setHasFlaggedResources(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("resourcesSummary".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckSummary.setResourcesSummary(TrustedAdvisorResourcesSummaryJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("categorySpecificSummary".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCheckSummary.setCategorySpecificSummary(TrustedAdvisorCategorySpecificSummaryJsonUnmarshaller.getInstance().unmarshall(
+                                context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class TrustedAdvisorCostOptimizingSummaryJsonUnmarshaller implements Unma
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("estimatedMonthlySavings", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCostOptimizingSummary.setEstimatedMonthlySavings(context.getUnmarshaller(Double.class).unmarshall(context));
-                }
-                if (context.testExpression("estimatedPercentMonthlySavings", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorCostOptimizingSummary.setEstimatedPercentMonthlySavings(context.getUnmarshaller(Double.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("estimatedMonthlySavings".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCostOptimizingSummary.setEstimatedMonthlySavings(context.getUnmarshaller(Double.class).unmarshall(context));
+                    } else if ("estimatedPercentMonthlySavings".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorCostOptimizingSummary.setEstimatedPercentMonthlySavings(context.getUnmarshaller(Double.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,25 +47,24 @@ public class TrustedAdvisorResourceDetailJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("status", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourceDetail.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("region", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourceDetail.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("resourceId", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourceDetail.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("isSuppressed", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourceDetail.setIsSuppressed(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("metadata", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourceDetail.setMetadata(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("status".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorResourceDetail.setStatus(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("region".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorResourceDetail.setRegion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("resourceId".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorResourceDetail.setResourceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("isSuppressed".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorResourceDetail.setIsSuppressed(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("metadata".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorResourceDetail.setMetadata(metadataUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class TrustedAdvisorResourceDetailJsonUnmarshaller implements Unmarshalle
         return trustedAdvisorResourceDetail;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> metadataUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static TrustedAdvisorResourceDetailJsonUnmarshaller instance;
 
     public static TrustedAdvisorResourceDetailJsonUnmarshaller getInstance() {
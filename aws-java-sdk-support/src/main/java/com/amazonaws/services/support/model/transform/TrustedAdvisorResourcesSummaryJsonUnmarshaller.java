@@ -47,21 +47,21 @@ public class TrustedAdvisorResourcesSummaryJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("resourcesProcessed", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourcesSummary.setResourcesProcessed(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("resourcesFlagged", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourcesSummary.setResourcesFlagged(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("resourcesIgnored", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourcesSummary.setResourcesIgnored(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("resourcesSuppressed", targetDepth)) {
-                    context.nextToken();
-                    trustedAdvisorResourcesSummary.setResourcesSuppressed(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("resourcesProcessed".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorResourcesSummary.setResourcesProcessed(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("resourcesFlagged".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorResourcesSummary.setResourcesFlagged(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("resourcesIgnored".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorResourcesSummary.setResourcesIgnored(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("resourcesSuppressed".equals(fieldName)) {
+                        context.nextToken();
+                        trustedAdvisorResourcesSummary.setResourcesSuppressed(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
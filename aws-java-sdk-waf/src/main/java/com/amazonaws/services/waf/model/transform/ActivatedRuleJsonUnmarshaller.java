@@ -47,17 +47,18 @@ public class ActivatedRuleJsonUnmarshaller implements Unmarshaller<ActivatedRule
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Priority", targetDepth)) {
-                    context.nextToken();
-                    activatedRule.setPriority(context.getUnmarshaller(Integer.class).unmarshall(context));
-                }
-                if (context.testExpression("RuleId", targetDepth)) {
-                    context.nextToken();
-                    activatedRule.setRuleId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    activatedRule.setAction(WafActionJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Priority".equals(fieldName)) {
+                        context.nextToken();
+                        activatedRule.setPriority(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    } else if ("RuleId".equals(fieldName)) {
+                        context.nextToken();
+                        activatedRule.setRuleId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        activatedRule.setAction(WafActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
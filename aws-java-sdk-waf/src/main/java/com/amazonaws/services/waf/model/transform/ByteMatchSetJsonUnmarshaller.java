@@ -47,17 +47,18 @@ public class ByteMatchSetJsonUnmarshaller implements Unmarshaller<ByteMatchSet,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ByteMatchSetId", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSet.setByteMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSet.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ByteMatchTuples", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSet.setByteMatchTuples(new ListUnmarshaller<ByteMatchTuple>(ByteMatchTupleJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ByteMatchSetId".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchSet.setByteMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchSet.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ByteMatchTuples".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchSet.setByteMatchTuples(byteMatchTuplesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class ByteMatchSetJsonUnmarshaller implements Unmarshaller<ByteMatchSet,
         return byteMatchSet;
     }
 
+    private final Unmarshaller<java.util.List<ByteMatchTuple>, JsonUnmarshallerContext> byteMatchTuplesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ByteMatchTuple>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ByteMatchTuple>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ByteMatchTuple>(ByteMatchTupleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ByteMatchSetJsonUnmarshaller instance;
 
     public static ByteMatchSetJsonUnmarshaller getInstance() {
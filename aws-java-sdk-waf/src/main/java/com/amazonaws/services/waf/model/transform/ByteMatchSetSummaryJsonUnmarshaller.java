@@ -47,13 +47,15 @@ public class ByteMatchSetSummaryJsonUnmarshaller implements Unmarshaller<ByteMat
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ByteMatchSetId", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSetSummary.setByteMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSetSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ByteMatchSetId".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchSetSummary.setByteMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchSetSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
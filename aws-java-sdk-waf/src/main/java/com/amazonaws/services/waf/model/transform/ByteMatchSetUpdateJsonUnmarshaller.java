@@ -47,13 +47,15 @@ public class ByteMatchSetUpdateJsonUnmarshaller implements Unmarshaller<ByteMatc
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSetUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ByteMatchTuple", targetDepth)) {
-                    context.nextToken();
-                    byteMatchSetUpdate.setByteMatchTuple(ByteMatchTupleJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchSetUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ByteMatchTuple".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchSetUpdate.setByteMatchTuple(ByteMatchTupleJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class ByteMatchTupleJsonUnmarshaller implements Unmarshaller<ByteMatchTup
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FieldToMatch", targetDepth)) {
-                    context.nextToken();
-                    byteMatchTuple.setFieldToMatch(FieldToMatchJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TargetString", targetDepth)) {
-                    context.nextToken();
-                    byteMatchTuple.setTargetString(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
-                }
-                if (context.testExpression("TextTransformation", targetDepth)) {
-                    context.nextToken();
-                    byteMatchTuple.setTextTransformation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("PositionalConstraint", targetDepth)) {
-                    context.nextToken();
-                    byteMatchTuple.setPositionalConstraint(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FieldToMatch".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchTuple.setFieldToMatch(FieldToMatchJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("TargetString".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchTuple.setTargetString(context.getUnmarshaller(java.nio.ByteBuffer.class).unmarshall(context));
+                    } else if ("TextTransformation".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchTuple.setTextTransformation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("PositionalConstraint".equals(fieldName)) {
+                        context.nextToken();
+                        byteMatchTuple.setPositionalConstraint(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
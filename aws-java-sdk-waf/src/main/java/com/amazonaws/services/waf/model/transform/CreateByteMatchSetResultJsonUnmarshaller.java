@@ -47,13 +47,15 @@ public class CreateByteMatchSetResultJsonUnmarshaller implements Unmarshaller<Cr
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ByteMatchSet", targetDepth)) {
-                    context.nextToken();
-                    createByteMatchSetResult.setByteMatchSet(ByteMatchSetJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createByteMatchSetResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ByteMatchSet".equals(fieldName)) {
+                        context.nextToken();
+                        createByteMatchSetResult.setByteMatchSet(ByteMatchSetJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ChangeToken".equals(fieldName)) {
+                        context.nextToken();
+                        createByteMatchSetResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class CreateIPSetResultJsonUnmarshaller implements Unmarshaller<CreateIPS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IPSet", targetDepth)) {
-                    context.nextToken();
-                    createIPSetResult.setIPSet(IPSetJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createIPSetResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IPSet".equals(fieldName)) {
+                        context.nextToken();
+                        createIPSetResult.setIPSet(IPSetJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ChangeToken".equals(fieldName)) {
+                        context.nextToken();
+                        createIPSetResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class CreateRuleResultJsonUnmarshaller implements Unmarshaller<CreateRule
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Rule", targetDepth)) {
-                    context.nextToken();
-                    createRuleResult.setRule(RuleJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createRuleResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Rule".equals(fieldName)) {
+                        context.nextToken();
+                        createRuleResult.setRule(RuleJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ChangeToken".equals(fieldName)) {
+                        context.nextToken();
+                        createRuleResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
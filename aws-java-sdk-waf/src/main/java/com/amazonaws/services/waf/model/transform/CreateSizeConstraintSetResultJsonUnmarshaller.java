@@ -47,13 +47,15 @@ public class CreateSizeConstraintSetResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SizeConstraintSet", targetDepth)) {
-                    context.nextToken();
-                    createSizeConstraintSetResult.setSizeConstraintSet(SizeConstraintSetJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createSizeConstraintSetResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SizeConstraintSet".equals(fieldName)) {
+                        context.nextToken();
+                        createSizeConstraintSetResult.setSizeConstraintSet(SizeConstraintSetJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ChangeToken".equals(fieldName)) {
+                        context.nextToken();
+                        createSizeConstraintSetResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class CreateSqlInjectionMatchSetResultJsonUnmarshaller implements Unmarsh
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SqlInjectionMatchSet", targetDepth)) {
-                    context.nextToken();
-                    createSqlInjectionMatchSetResult.setSqlInjectionMatchSet(SqlInjectionMatchSetJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    createSqlInjectionMatchSetResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SqlInjectionMatchSet".equals(fieldName)) {
+                        context.nextToken();
+                        createSqlInjectionMatchSetResult.setSqlInjectionMatchSet(SqlInjectionMatchSetJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ChangeToken".equals(fieldName)) {
+                        context.nextToken();
+                        createSqlInjectionMatchSetResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class DeleteRuleResultJsonUnmarshaller implements Unmarshaller<DeleteRule
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ChangeToken", targetDepth)) {
-                    context.nextToken();
-                    deleteRuleResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ChangeToken".equals(fieldName)) {
+                        context.nextToken();
+                        deleteRuleResult.setChangeToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
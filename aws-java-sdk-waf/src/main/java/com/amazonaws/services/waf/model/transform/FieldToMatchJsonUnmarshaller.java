@@ -47,13 +47,15 @@ public class FieldToMatchJsonUnmarshaller implements Unmarshaller<FieldToMatch,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    fieldToMatch.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Data", targetDepth)) {
-                    context.nextToken();
-                    fieldToMatch.setData(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        fieldToMatch.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Data".equals(fieldName)) {
+                        context.nextToken();
+                        fieldToMatch.setData(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
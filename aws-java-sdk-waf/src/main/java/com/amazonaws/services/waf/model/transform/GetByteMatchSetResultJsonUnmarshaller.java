@@ -47,9 +47,12 @@ public class GetByteMatchSetResultJsonUnmarshaller implements Unmarshaller<GetBy
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ByteMatchSet", targetDepth)) {
-                    context.nextToken();
-                    getByteMatchSetResult.setByteMatchSet(ByteMatchSetJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ByteMatchSet".equals(fieldName)) {
+                        context.nextToken();
+                        getByteMatchSetResult.setByteMatchSet(ByteMatchSetJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetIPSetResultJsonUnmarshaller implements Unmarshaller<GetIPSetResu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IPSet", targetDepth)) {
-                    context.nextToken();
-                    getIPSetResult.setIPSet(IPSetJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IPSet".equals(fieldName)) {
+                        context.nextToken();
+                        getIPSetResult.setIPSet(IPSetJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
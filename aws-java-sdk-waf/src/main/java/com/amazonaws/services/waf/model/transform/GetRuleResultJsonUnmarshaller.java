@@ -47,9 +47,12 @@ public class GetRuleResultJsonUnmarshaller implements Unmarshaller<GetRuleResult
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Rule", targetDepth)) {
-                    context.nextToken();
-                    getRuleResult.setRule(RuleJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Rule".equals(fieldName)) {
+                        context.nextToken();
+                        getRuleResult.setRule(RuleJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
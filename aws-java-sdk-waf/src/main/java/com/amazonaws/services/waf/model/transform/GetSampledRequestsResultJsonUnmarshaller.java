@@ -47,18 +47,18 @@ public class GetSampledRequestsResultJsonUnmarshaller implements Unmarshaller<Ge
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SampledRequests", targetDepth)) {
-                    context.nextToken();
-                    getSampledRequestsResult.setSampledRequests(new ListUnmarshaller<SampledHTTPRequest>(SampledHTTPRequestJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("PopulationSize", targetDepth)) {
-                    context.nextToken();
-                    getSampledRequestsResult.setPopulationSize(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("TimeWindow", targetDepth)) {
-                    context.nextToken();
-                    getSampledRequestsResult.setTimeWindow(TimeWindowJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SampledRequests".equals(fieldName)) {
+                        context.nextToken();
+                        getSampledRequestsResult.setSampledRequests(sampledRequestsUnmarshaller.unmarshall(context));
+                    } else if ("PopulationSize".equals(fieldName)) {
+                        context.nextToken();
+                        getSampledRequestsResult.setPopulationSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("TimeWindow".equals(fieldName)) {
+                        context.nextToken();
+                        getSampledRequestsResult.setTimeWindow(TimeWindowJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class GetSampledRequestsResultJsonUnmarshaller implements Unmarshaller<Ge
         return getSampledRequestsResult;
     }
 
+    private final Unmarshaller<java.util.List<SampledHTTPRequest>, JsonUnmarshallerContext> sampledRequestsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SampledHTTPRequest>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SampledHTTPRequest>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SampledHTTPRequest>(SampledHTTPRequestJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static GetSampledRequestsResultJsonUnmarshaller instance;
 
     public static GetSampledRequestsResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class GetSizeConstraintSetResultJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SizeConstraintSet", targetDepth)) {
-                    context.nextToken();
-                    getSizeConstraintSetResult.setSizeConstraintSet(SizeConstraintSetJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SizeConstraintSet".equals(fieldName)) {
+                        context.nextToken();
+                        getSizeConstraintSetResult.setSizeConstraintSet(SizeConstraintSetJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
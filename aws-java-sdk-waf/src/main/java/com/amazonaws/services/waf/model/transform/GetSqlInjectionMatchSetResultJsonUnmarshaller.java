@@ -47,9 +47,12 @@ public class GetSqlInjectionMatchSetResultJsonUnmarshaller implements Unmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SqlInjectionMatchSet", targetDepth)) {
-                    context.nextToken();
-                    getSqlInjectionMatchSetResult.setSqlInjectionMatchSet(SqlInjectionMatchSetJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SqlInjectionMatchSet".equals(fieldName)) {
+                        context.nextToken();
+                        getSqlInjectionMatchSetResult.setSqlInjectionMatchSet(SqlInjectionMatchSetJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetWebACLResultJsonUnmarshaller implements Unmarshaller<GetWebACLRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("WebACL", targetDepth)) {
-                    context.nextToken();
-                    getWebACLResult.setWebACL(WebACLJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("WebACL".equals(fieldName)) {
+                        context.nextToken();
+                        getWebACLResult.setWebACL(WebACLJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,9 +47,12 @@ public class GetXssMatchSetResultJsonUnmarshaller implements Unmarshaller<GetXss
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("XssMatchSet", targetDepth)) {
-                    context.nextToken();
-                    getXssMatchSetResult.setXssMatchSet(XssMatchSetJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("XssMatchSet".equals(fieldName)) {
+                        context.nextToken();
+                        getXssMatchSetResult.setXssMatchSet(XssMatchSetJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class HTTPRequestJsonUnmarshaller implements Unmarshaller<HTTPRequest, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("ClientIP", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setClientIP(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Country", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setCountry(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("URI", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setURI(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Method", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setMethod(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("HTTPVersion", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setHTTPVersion(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Headers", targetDepth)) {
-                    context.nextToken();
-                    hTTPRequest.setHeaders(new ListUnmarshaller<HTTPHeader>(HTTPHeaderJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("ClientIP".equals(fieldName)) {
+                        context.nextToken();
+                        hTTPRequest.setClientIP(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Country".equals(fieldName)) {
+                        context.nextToken();
+                        hTTPRequest.setCountry(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("URI".equals(fieldName)) {
+                        context.nextToken();
+                        hTTPRequest.setURI(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Method".equals(fieldName)) {
+                        context.nextToken();
+                        hTTPRequest.setMethod(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("HTTPVersion".equals(fieldName)) {
+                        context.nextToken();
+                        hTTPRequest.setHTTPVersion(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Headers".equals(fieldName)) {
+                        context.nextToken();
+                        hTTPRequest.setHeaders(headersUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -83,6 +81,13 @@ public class HTTPRequestJsonUnmarshaller implements Unmarshaller<HTTPRequest, Js
         return hTTPRequest;
     }
 
+    private final Unmarshaller<java.util.List<HTTPHeader>, JsonUnmarshallerContext> headersUnmarshaller = new CachingJsonUnmarshaller<java.util.List<HTTPHeader>>() {
+        @Override
+        protected Unmarshaller<java.util.List<HTTPHeader>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<HTTPHeader>(HTTPHeaderJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static HTTPRequestJsonUnmarshaller instance;
 
     public static HTTPRequestJsonUnmarshaller getInstance() {
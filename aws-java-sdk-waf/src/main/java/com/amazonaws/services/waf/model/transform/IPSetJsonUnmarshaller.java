@@ -47,17 +47,18 @@ public class IPSetJsonUnmarshaller implements Unmarshaller<IPSet, JsonUnmarshall
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("IPSetId", targetDepth)) {
-                    context.nextToken();
-                    iPSet.setIPSetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    iPSet.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IPSetDescriptors", targetDepth)) {
-                    context.nextToken();
-                    iPSet.setIPSetDescriptors(new ListUnmarshaller<IPSetDescriptor>(IPSetDescriptorJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("IPSetId".equals(fieldName)) {
+                        context.nextToken();
+                        iPSet.setIPSetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        iPSet.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IPSetDescriptors".equals(fieldName)) {
+                        context.nextToken();
+                        iPSet.setIPSetDescriptors(iPSetDescriptorsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class IPSetJsonUnmarshaller implements Unmarshaller<IPSet, JsonUnmarshall
         return iPSet;
     }
 
+    private final Unmarshaller<java.util.List<IPSetDescriptor>, JsonUnmarshallerContext> iPSetDescriptorsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<IPSetDescriptor>>() {
+        @Override
+        protected Unmarshaller<java.util.List<IPSetDescriptor>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<IPSetDescriptor>(IPSetDescriptorJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static IPSetJsonUnmarshaller instance;
 
     public static IPSetJsonUnmarshaller getInstance() {
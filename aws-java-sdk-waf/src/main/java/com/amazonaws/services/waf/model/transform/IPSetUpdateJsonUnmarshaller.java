@@ -47,13 +47,15 @@ public class IPSetUpdateJsonUnmarshaller implements Unmarshaller<IPSetUpdate, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    iPSetUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IPSetDescriptor", targetDepth)) {
-                    context.nextToken();
-                    iPSetUpdate.setIPSetDescriptor(IPSetDescriptorJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        iPSetUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IPSetDescriptor".equals(fieldName)) {
+                        context.nextToken();
+                        iPSetUpdate.setIPSetDescriptor(IPSetDescriptorJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
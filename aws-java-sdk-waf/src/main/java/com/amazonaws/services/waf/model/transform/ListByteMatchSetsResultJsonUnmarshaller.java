@@ -47,14 +47,15 @@ public class ListByteMatchSetsResultJsonUnmarshaller implements Unmarshaller<Lis
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listByteMatchSetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ByteMatchSets", targetDepth)) {
-                    context.nextToken();
-                    listByteMatchSetsResult.setByteMatchSets(new ListUnmarshaller<ByteMatchSetSummary>(ByteMatchSetSummaryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listByteMatchSetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ByteMatchSets".equals(fieldName)) {
+                        context.nextToken();
+                        listByteMatchSetsResult.setByteMatchSets(byteMatchSetsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListByteMatchSetsResultJsonUnmarshaller implements Unmarshaller<Lis
         return listByteMatchSetsResult;
     }
 
+    private final Unmarshaller<java.util.List<ByteMatchSetSummary>, JsonUnmarshallerContext> byteMatchSetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ByteMatchSetSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ByteMatchSetSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ByteMatchSetSummary>(ByteMatchSetSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListByteMatchSetsResultJsonUnmarshaller instance;
 
     public static ListByteMatchSetsResultJsonUnmarshaller getInstance() {
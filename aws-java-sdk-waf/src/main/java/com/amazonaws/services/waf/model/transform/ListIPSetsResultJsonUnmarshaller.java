@@ -47,13 +47,15 @@ public class ListIPSetsResultJsonUnmarshaller implements Unmarshaller<ListIPSets
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listIPSetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IPSets", targetDepth)) {
-                    context.nextToken();
-                    listIPSetsResult.setIPSets(new ListUnmarshaller<IPSetSummary>(IPSetSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listIPSetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IPSets".equals(fieldName)) {
+                        context.nextToken();
+                        listIPSetsResult.setIPSets(iPSetsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListIPSetsResultJsonUnmarshaller implements Unmarshaller<ListIPSets
         return listIPSetsResult;
     }
 
+    private final Unmarshaller<java.util.List<IPSetSummary>, JsonUnmarshallerContext> iPSetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<IPSetSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<IPSetSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<IPSetSummary>(IPSetSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListIPSetsResultJsonUnmarshaller instance;
 
     public static ListIPSetsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListRulesResultJsonUnmarshaller implements Unmarshaller<ListRulesRe
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listRulesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Rules", targetDepth)) {
-                    context.nextToken();
-                    listRulesResult.setRules(new ListUnmarshaller<RuleSummary>(RuleSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listRulesResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Rules".equals(fieldName)) {
+                        context.nextToken();
+                        listRulesResult.setRules(rulesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListRulesResultJsonUnmarshaller implements Unmarshaller<ListRulesRe
         return listRulesResult;
     }
 
+    private final Unmarshaller<java.util.List<RuleSummary>, JsonUnmarshallerContext> rulesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<RuleSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<RuleSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<RuleSummary>(RuleSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListRulesResultJsonUnmarshaller instance;
 
     public static ListRulesResultJsonUnmarshaller getInstance() {
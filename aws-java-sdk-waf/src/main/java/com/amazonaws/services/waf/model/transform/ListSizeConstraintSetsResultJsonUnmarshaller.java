@@ -47,14 +47,15 @@ public class ListSizeConstraintSetsResultJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listSizeConstraintSetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeConstraintSets", targetDepth)) {
-                    context.nextToken();
-                    listSizeConstraintSetsResult.setSizeConstraintSets(new ListUnmarshaller<SizeConstraintSetSummary>(SizeConstraintSetSummaryJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listSizeConstraintSetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizeConstraintSets".equals(fieldName)) {
+                        context.nextToken();
+                        listSizeConstraintSetsResult.setSizeConstraintSets(sizeConstraintSetsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListSizeConstraintSetsResultJsonUnmarshaller implements Unmarshalle
         return listSizeConstraintSetsResult;
     }
 
+    private final Unmarshaller<java.util.List<SizeConstraintSetSummary>, JsonUnmarshallerContext> sizeConstraintSetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SizeConstraintSetSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SizeConstraintSetSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SizeConstraintSetSummary>(SizeConstraintSetSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListSizeConstraintSetsResultJsonUnmarshaller instance;
 
     public static ListSizeConstraintSetsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListSqlInjectionMatchSetsResultJsonUnmarshaller implements Unmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listSqlInjectionMatchSetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SqlInjectionMatchSets", targetDepth)) {
-                    context.nextToken();
-                    listSqlInjectionMatchSetsResult.setSqlInjectionMatchSets(new ListUnmarshaller<SqlInjectionMatchSetSummary>(
-                            SqlInjectionMatchSetSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listSqlInjectionMatchSetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SqlInjectionMatchSets".equals(fieldName)) {
+                        context.nextToken();
+                        listSqlInjectionMatchSetsResult.setSqlInjectionMatchSets(sqlInjectionMatchSetsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListSqlInjectionMatchSetsResultJsonUnmarshaller implements Unmarsha
         return listSqlInjectionMatchSetsResult;
     }
 
+    private final Unmarshaller<java.util.List<SqlInjectionMatchSetSummary>, JsonUnmarshallerContext> sqlInjectionMatchSetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SqlInjectionMatchSetSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SqlInjectionMatchSetSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SqlInjectionMatchSetSummary>(SqlInjectionMatchSetSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListSqlInjectionMatchSetsResultJsonUnmarshaller instance;
 
     public static ListSqlInjectionMatchSetsResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class ListWebACLsResultJsonUnmarshaller implements Unmarshaller<ListWebAC
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listWebACLsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("WebACLs", targetDepth)) {
-                    context.nextToken();
-                    listWebACLsResult.setWebACLs(new ListUnmarshaller<WebACLSummary>(WebACLSummaryJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listWebACLsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("WebACLs".equals(fieldName)) {
+                        context.nextToken();
+                        listWebACLsResult.setWebACLs(webACLsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class ListWebACLsResultJsonUnmarshaller implements Unmarshaller<ListWebAC
         return listWebACLsResult;
     }
 
+    private final Unmarshaller<java.util.List<WebACLSummary>, JsonUnmarshallerContext> webACLsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<WebACLSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<WebACLSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<WebACLSummary>(WebACLSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListWebACLsResultJsonUnmarshaller instance;
 
     public static ListWebACLsResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class ListXssMatchSetsResultJsonUnmarshaller implements Unmarshaller<List
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("NextMarker", targetDepth)) {
-                    context.nextToken();
-                    listXssMatchSetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("XssMatchSets", targetDepth)) {
-                    context.nextToken();
-                    listXssMatchSetsResult.setXssMatchSets(new ListUnmarshaller<XssMatchSetSummary>(XssMatchSetSummaryJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("NextMarker".equals(fieldName)) {
+                        context.nextToken();
+                        listXssMatchSetsResult.setNextMarker(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("XssMatchSets".equals(fieldName)) {
+                        context.nextToken();
+                        listXssMatchSetsResult.setXssMatchSets(xssMatchSetsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class ListXssMatchSetsResultJsonUnmarshaller implements Unmarshaller<List
         return listXssMatchSetsResult;
     }
 
+    private final Unmarshaller<java.util.List<XssMatchSetSummary>, JsonUnmarshallerContext> xssMatchSetsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<XssMatchSetSummary>>() {
+        @Override
+        protected Unmarshaller<java.util.List<XssMatchSetSummary>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<XssMatchSetSummary>(XssMatchSetSummaryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static ListXssMatchSetsResultJsonUnmarshaller instance;
 
     public static ListXssMatchSetsResultJsonUnmarshaller getInstance() {
@@ -47,17 +47,18 @@ public class PredicateJsonUnmarshaller implements Unmarshaller<Predicate, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Negated", targetDepth)) {
-                    context.nextToken();
-                    predicate.setNegated(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("Type", targetDepth)) {
-                    context.nextToken();
-                    predicate.setType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DataId", targetDepth)) {
-                    context.nextToken();
-                    predicate.setDataId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Negated".equals(fieldName)) {
+                        context.nextToken();
+                        predicate.setNegated(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("Type".equals(fieldName)) {
+                        context.nextToken();
+                        predicate.setType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DataId".equals(fieldName)) {
+                        context.nextToken();
+                        predicate.setDataId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
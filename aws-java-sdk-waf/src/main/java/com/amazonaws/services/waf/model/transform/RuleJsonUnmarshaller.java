@@ -47,21 +47,21 @@ public class RuleJsonUnmarshaller implements Unmarshaller<Rule, JsonUnmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RuleId", targetDepth)) {
-                    context.nextToken();
-                    rule.setRuleId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    rule.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MetricName", targetDepth)) {
-                    context.nextToken();
-                    rule.setMetricName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Predicates", targetDepth)) {
-                    context.nextToken();
-                    rule.setPredicates(new ListUnmarshaller<Predicate>(PredicateJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RuleId".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setRuleId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MetricName".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setMetricName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Predicates".equals(fieldName)) {
+                        context.nextToken();
+                        rule.setPredicates(predicatesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -75,6 +75,13 @@ public class RuleJsonUnmarshaller implements Unmarshaller<Rule, JsonUnmarshaller
         return rule;
     }
 
+    private final Unmarshaller<java.util.List<Predicate>, JsonUnmarshallerContext> predicatesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Predicate>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Predicate>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Predicate>(PredicateJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static RuleJsonUnmarshaller instance;
 
     public static RuleJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class RuleUpdateJsonUnmarshaller implements Unmarshaller<RuleUpdate, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    ruleUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Predicate", targetDepth)) {
-                    context.nextToken();
-                    ruleUpdate.setPredicate(PredicateJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        ruleUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Predicate".equals(fieldName)) {
+                        context.nextToken();
+                        ruleUpdate.setPredicate(PredicateJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
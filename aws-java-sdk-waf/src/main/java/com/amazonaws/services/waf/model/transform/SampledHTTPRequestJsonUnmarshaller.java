@@ -47,21 +47,21 @@ public class SampledHTTPRequestJsonUnmarshaller implements Unmarshaller<SampledH
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Request", targetDepth)) {
-                    context.nextToken();
-                    sampledHTTPRequest.setRequest(HTTPRequestJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Weight", targetDepth)) {
-                    context.nextToken();
-                    sampledHTTPRequest.setWeight(context.getUnmarshaller(Long.class).unmarshall(context));
-                }
-                if (context.testExpression("Timestamp", targetDepth)) {
-                    context.nextToken();
-                    sampledHTTPRequest.setTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    sampledHTTPRequest.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Request".equals(fieldName)) {
+                        context.nextToken();
+                        sampledHTTPRequest.setRequest(HTTPRequestJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Weight".equals(fieldName)) {
+                        context.nextToken();
+                        sampledHTTPRequest.setWeight(context.getUnmarshaller(Long.class).unmarshall(context));
+                    } else if ("Timestamp".equals(fieldName)) {
+                        context.nextToken();
+                        sampledHTTPRequest.setTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        sampledHTTPRequest.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class SizeConstraintJsonUnmarshaller implements Unmarshaller<SizeConstrai
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FieldToMatch", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraint.setFieldToMatch(FieldToMatchJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TextTransformation", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraint.setTextTransformation(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComparisonOperator", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraint.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Size", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraint.setSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FieldToMatch".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraint.setFieldToMatch(FieldToMatchJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("TextTransformation".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraint.setTextTransformation(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComparisonOperator".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraint.setComparisonOperator(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Size".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraint.setSize(context.getUnmarshaller(Long.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
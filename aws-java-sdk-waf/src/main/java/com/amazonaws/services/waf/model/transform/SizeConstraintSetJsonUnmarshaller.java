@@ -47,18 +47,18 @@ public class SizeConstraintSetJsonUnmarshaller implements Unmarshaller<SizeConst
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SizeConstraintSetId", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSet.setSizeConstraintSetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSet.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeConstraints", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSet
-                            .setSizeConstraints(new ListUnmarshaller<SizeConstraint>(SizeConstraintJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SizeConstraintSetId".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraintSet.setSizeConstraintSetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraintSet.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizeConstraints".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraintSet.setSizeConstraints(sizeConstraintsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class SizeConstraintSetJsonUnmarshaller implements Unmarshaller<SizeConst
         return sizeConstraintSet;
     }
 
+    private final Unmarshaller<java.util.List<SizeConstraint>, JsonUnmarshallerContext> sizeConstraintsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SizeConstraint>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SizeConstraint>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SizeConstraint>(SizeConstraintJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static SizeConstraintSetJsonUnmarshaller instance;
 
     public static SizeConstraintSetJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class SizeConstraintSetSummaryJsonUnmarshaller implements Unmarshaller<Si
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SizeConstraintSetId", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSetSummary.setSizeConstraintSetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSetSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SizeConstraintSetId".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraintSetSummary.setSizeConstraintSetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraintSetSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class SizeConstraintSetUpdateJsonUnmarshaller implements Unmarshaller<Siz
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSetUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SizeConstraint", targetDepth)) {
-                    context.nextToken();
-                    sizeConstraintSetUpdate.setSizeConstraint(SizeConstraintJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraintSetUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SizeConstraint".equals(fieldName)) {
+                        context.nextToken();
+                        sizeConstraintSetUpdate.setSizeConstraint(SizeConstraintJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,18 +47,18 @@ public class SqlInjectionMatchSetJsonUnmarshaller implements Unmarshaller<SqlInj
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SqlInjectionMatchSetId", targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSet.setSqlInjectionMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSet.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SqlInjectionMatchTuples", targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSet.setSqlInjectionMatchTuples(new ListUnmarshaller<SqlInjectionMatchTuple>(SqlInjectionMatchTupleJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SqlInjectionMatchSetId".equals(fieldName)) {
+                        context.nextToken();
+                        sqlInjectionMatchSet.setSqlInjectionMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        sqlInjectionMatchSet.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SqlInjectionMatchTuples".equals(fieldName)) {
+                        context.nextToken();
+                        sqlInjectionMatchSet.setSqlInjectionMatchTuples(sqlInjectionMatchTuplesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -72,6 +72,13 @@ public class SqlInjectionMatchSetJsonUnmarshaller implements Unmarshaller<SqlInj
         return sqlInjectionMatchSet;
     }
 
+    private final Unmarshaller<java.util.List<SqlInjectionMatchTuple>, JsonUnmarshallerContext> sqlInjectionMatchTuplesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<SqlInjectionMatchTuple>>() {
+        @Override
+        protected Unmarshaller<java.util.List<SqlInjectionMatchTuple>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<SqlInjectionMatchTuple>(SqlInjectionMatchTupleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static SqlInjectionMatchSetJsonUnmarshaller instance;
 
     public static SqlInjectionMatchSetJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class SqlInjectionMatchSetSummaryJsonUnmarshaller implements Unmarshaller
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("SqlInjectionMatchSetId", targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSetSummary.setSqlInjectionMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSetSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("SqlInjectionMatchSetId".equals(fieldName)) {
+                        context.nextToken();
+                        sqlInjectionMatchSetSummary.setSqlInjectionMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        sqlInjectionMatchSetSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class SqlInjectionMatchSetUpdateJsonUnmarshaller implements Unmarshaller<
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSetUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SqlInjectionMatchTuple", targetDepth)) {
-                    context.nextToken();
-                    sqlInjectionMatchSetUpdate.setSqlInjectionMatchTuple(SqlInjectionMatchTupleJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        sqlInjectionMatchSetUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SqlInjectionMatchTuple".equals(fieldName)) {
+                        context.nextToken();
+                        sqlInjectionMatchSetUpdate.setSqlInjectionMatchTuple(SqlInjectionMatchTupleJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
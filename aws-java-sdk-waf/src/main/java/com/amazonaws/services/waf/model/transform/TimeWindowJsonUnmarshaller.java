@@ -47,13 +47,15 @@ public class TimeWindowJsonUnmarshaller implements Unmarshaller<TimeWindow, Json
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("StartTime", targetDepth)) {
-                    context.nextToken();
-                    timeWindow.setStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("EndTime", targetDepth)) {
-                    context.nextToken();
-                    timeWindow.setEndTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("StartTime".equals(fieldName)) {
+                        context.nextToken();
+                        timeWindow.setStartTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("EndTime".equals(fieldName)) {
+                        context.nextToken();
+                        timeWindow.setEndTime(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
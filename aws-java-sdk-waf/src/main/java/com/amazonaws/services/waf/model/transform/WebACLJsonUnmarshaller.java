@@ -47,25 +47,24 @@ public class WebACLJsonUnmarshaller implements Unmarshaller<WebACL, JsonUnmarsha
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("WebACLId", targetDepth)) {
-                    context.nextToken();
-                    webACL.setWebACLId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    webACL.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("MetricName", targetDepth)) {
-                    context.nextToken();
-                    webACL.setMetricName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultAction", targetDepth)) {
-                    context.nextToken();
-                    webACL.setDefaultAction(WafActionJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Rules", targetDepth)) {
-                    context.nextToken();
-                    webACL.setRules(new ListUnmarshaller<ActivatedRule>(ActivatedRuleJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("WebACLId".equals(fieldName)) {
+                        context.nextToken();
+                        webACL.setWebACLId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        webACL.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("MetricName".equals(fieldName)) {
+                        context.nextToken();
+                        webACL.setMetricName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DefaultAction".equals(fieldName)) {
+                        context.nextToken();
+                        webACL.setDefaultAction(WafActionJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Rules".equals(fieldName)) {
+                        context.nextToken();
+                        webACL.setRules(rulesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -79,6 +78,13 @@ public class WebACLJsonUnmarshaller implements Unmarshaller<WebACL, JsonUnmarsha
         return webACL;
     }
 
+    private final Unmarshaller<java.util.List<ActivatedRule>, JsonUnmarshallerContext> rulesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<ActivatedRule>>() {
+        @Override
+        protected Unmarshaller<java.util.List<ActivatedRule>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<ActivatedRule>(ActivatedRuleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static WebACLJsonUnmarshaller instance;
 
     public static WebACLJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class WebACLUpdateJsonUnmarshaller implements Unmarshaller<WebACLUpdate,
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    webACLUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ActivatedRule", targetDepth)) {
-                    context.nextToken();
-                    webACLUpdate.setActivatedRule(ActivatedRuleJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        webACLUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ActivatedRule".equals(fieldName)) {
+                        context.nextToken();
+                        webACLUpdate.setActivatedRule(ActivatedRuleJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
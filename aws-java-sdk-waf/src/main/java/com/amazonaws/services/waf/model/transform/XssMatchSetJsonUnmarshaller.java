@@ -47,17 +47,18 @@ public class XssMatchSetJsonUnmarshaller implements Unmarshaller<XssMatchSet, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("XssMatchSetId", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSet.setXssMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSet.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("XssMatchTuples", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSet.setXssMatchTuples(new ListUnmarshaller<XssMatchTuple>(XssMatchTupleJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("XssMatchSetId".equals(fieldName)) {
+                        context.nextToken();
+                        xssMatchSet.setXssMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        xssMatchSet.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("XssMatchTuples".equals(fieldName)) {
+                        context.nextToken();
+                        xssMatchSet.setXssMatchTuples(xssMatchTuplesUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -71,6 +72,13 @@ public class XssMatchSetJsonUnmarshaller implements Unmarshaller<XssMatchSet, Js
         return xssMatchSet;
     }
 
+    private final Unmarshaller<java.util.List<XssMatchTuple>, JsonUnmarshallerContext> xssMatchTuplesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<XssMatchTuple>>() {
+        @Override
+        protected Unmarshaller<java.util.List<XssMatchTuple>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<XssMatchTuple>(XssMatchTupleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static XssMatchSetJsonUnmarshaller instance;
 
     public static XssMatchSetJsonUnmarshaller getInstance() {
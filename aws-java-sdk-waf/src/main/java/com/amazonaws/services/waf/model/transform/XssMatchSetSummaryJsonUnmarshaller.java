@@ -47,13 +47,15 @@ public class XssMatchSetSummaryJsonUnmarshaller implements Unmarshaller<XssMatch
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("XssMatchSetId", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSetSummary.setXssMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSetSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("XssMatchSetId".equals(fieldName)) {
+                        context.nextToken();
+                        xssMatchSetSummary.setXssMatchSetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        xssMatchSetSummary.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
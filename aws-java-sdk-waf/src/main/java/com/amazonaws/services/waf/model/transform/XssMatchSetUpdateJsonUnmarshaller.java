@@ -47,13 +47,15 @@ public class XssMatchSetUpdateJsonUnmarshaller implements Unmarshaller<XssMatchS
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Action", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSetUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("XssMatchTuple", targetDepth)) {
-                    context.nextToken();
-                    xssMatchSetUpdate.setXssMatchTuple(XssMatchTupleJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Action".equals(fieldName)) {
+                        context.nextToken();
+                        xssMatchSetUpdate.setAction(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("XssMatchTuple".equals(fieldName)) {
+                        context.nextToken();
+                        xssMatchSetUpdate.setXssMatchTuple(XssMatchTupleJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,13 +47,15 @@ public class XssMatchTupleJsonUnmarshaller implements Unmarshaller<XssMatchTuple
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FieldToMatch", targetDepth)) {
-                    context.nextToken();
-                    xssMatchTuple.setFieldToMatch(FieldToMatchJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("TextTransformation", targetDepth)) {
-                    context.nextToken();
-                    xssMatchTuple.setTextTransformation(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FieldToMatch".equals(fieldName)) {
+                        context.nextToken();
+                        xssMatchTuple.setFieldToMatch(FieldToMatchJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("TextTransformation".equals(fieldName)) {
+                        context.nextToken();
+                        xssMatchTuple.setTextTransformation(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class CreateWorkspacesResultJsonUnmarshaller implements Unmarshaller<Crea
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedRequests", targetDepth)) {
-                    context.nextToken();
-                    createWorkspacesResult.setFailedRequests(new ListUnmarshaller<FailedCreateWorkspaceRequest>(FailedCreateWorkspaceRequestJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("PendingRequests", targetDepth)) {
-                    context.nextToken();
-                    createWorkspacesResult.setPendingRequests(new ListUnmarshaller<Workspace>(WorkspaceJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FailedRequests".equals(fieldName)) {
+                        context.nextToken();
+                        createWorkspacesResult.setFailedRequests(failedRequestsUnmarshaller.unmarshall(context));
+                    } else if ("PendingRequests".equals(fieldName)) {
+                        context.nextToken();
+                        createWorkspacesResult.setPendingRequests(pendingRequestsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,19 @@ public class CreateWorkspacesResultJsonUnmarshaller implements Unmarshaller<Crea
         return createWorkspacesResult;
     }
 
+    private final Unmarshaller<java.util.List<FailedCreateWorkspaceRequest>, JsonUnmarshallerContext> failedRequestsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<FailedCreateWorkspaceRequest>>() {
+        @Override
+        protected Unmarshaller<java.util.List<FailedCreateWorkspaceRequest>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<FailedCreateWorkspaceRequest>(FailedCreateWorkspaceRequestJsonUnmarshaller.getInstance());
+        }
+    };
+    private final Unmarshaller<java.util.List<Workspace>, JsonUnmarshallerContext> pendingRequestsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Workspace>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Workspace>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Workspace>(WorkspaceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static CreateWorkspacesResultJsonUnmarshaller instance;
 
     public static CreateWorkspacesResultJsonUnmarshaller getInstance() {
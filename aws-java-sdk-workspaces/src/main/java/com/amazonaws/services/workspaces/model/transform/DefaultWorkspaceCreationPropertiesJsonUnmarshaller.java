@@ -47,25 +47,24 @@ public class DefaultWorkspaceCreationPropertiesJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("EnableWorkDocs", targetDepth)) {
-                    context.nextToken();
-                    defaultWorkspaceCreationProperties.setEnableWorkDocs(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("EnableInternetAccess", targetDepth)) {
-                    context.nextToken();
-                    defaultWorkspaceCreationProperties.setEnableInternetAccess(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("DefaultOu", targetDepth)) {
-                    context.nextToken();
-                    defaultWorkspaceCreationProperties.setDefaultOu(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("CustomSecurityGroupId", targetDepth)) {
-                    context.nextToken();
-                    defaultWorkspaceCreationProperties.setCustomSecurityGroupId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserEnabledAsLocalAdministrator", targetDepth)) {
-                    context.nextToken();
-                    defaultWorkspaceCreationProperties.setUserEnabledAsLocalAdministrator(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("EnableWorkDocs".equals(fieldName)) {
+                        context.nextToken();
+                        defaultWorkspaceCreationProperties.setEnableWorkDocs(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("EnableInternetAccess".equals(fieldName)) {
+                        context.nextToken();
+                        defaultWorkspaceCreationProperties.setEnableInternetAccess(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("DefaultOu".equals(fieldName)) {
+                        context.nextToken();
+                        defaultWorkspaceCreationProperties.setDefaultOu(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("CustomSecurityGroupId".equals(fieldName)) {
+                        context.nextToken();
+                        defaultWorkspaceCreationProperties.setCustomSecurityGroupId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserEnabledAsLocalAdministrator".equals(fieldName)) {
+                        context.nextToken();
+                        defaultWorkspaceCreationProperties.setUserEnabledAsLocalAdministrator(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,14 +47,15 @@ public class DescribeWorkspaceBundlesResultJsonUnmarshaller implements Unmarshal
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Bundles", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspaceBundlesResult.setBundles(new ListUnmarshaller<WorkspaceBundle>(WorkspaceBundleJsonUnmarshaller.getInstance())
-                            .unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspaceBundlesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Bundles".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkspaceBundlesResult.setBundles(bundlesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkspaceBundlesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeWorkspaceBundlesResultJsonUnmarshaller implements Unmarshal
         return describeWorkspaceBundlesResult;
     }
 
+    private final Unmarshaller<java.util.List<WorkspaceBundle>, JsonUnmarshallerContext> bundlesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<WorkspaceBundle>>() {
+        @Override
+        protected Unmarshaller<java.util.List<WorkspaceBundle>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<WorkspaceBundle>(WorkspaceBundleJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeWorkspaceBundlesResultJsonUnmarshaller instance;
 
     public static DescribeWorkspaceBundlesResultJsonUnmarshaller getInstance() {
@@ -47,14 +47,15 @@ public class DescribeWorkspaceDirectoriesResultJsonUnmarshaller implements Unmar
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Directories", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspaceDirectoriesResult
-                            .setDirectories(new ListUnmarshaller<WorkspaceDirectory>(WorkspaceDirectoryJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspaceDirectoriesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Directories".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkspaceDirectoriesResult.setDirectories(directoriesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkspaceDirectoriesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -68,6 +69,13 @@ public class DescribeWorkspaceDirectoriesResultJsonUnmarshaller implements Unmar
         return describeWorkspaceDirectoriesResult;
     }
 
+    private final Unmarshaller<java.util.List<WorkspaceDirectory>, JsonUnmarshallerContext> directoriesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<WorkspaceDirectory>>() {
+        @Override
+        protected Unmarshaller<java.util.List<WorkspaceDirectory>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<WorkspaceDirectory>(WorkspaceDirectoryJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeWorkspaceDirectoriesResultJsonUnmarshaller instance;
 
     public static DescribeWorkspaceDirectoriesResultJsonUnmarshaller getInstance() {
@@ -48,14 +48,15 @@ public class DescribeWorkspacesConnectionStatusResultJsonUnmarshaller implements
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("WorkspacesConnectionStatus", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspacesConnectionStatusResult.setWorkspacesConnectionStatus(new ListUnmarshaller<WorkspaceConnectionStatus>(
-                            WorkspaceConnectionStatusJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspacesConnectionStatusResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("WorkspacesConnectionStatus".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkspacesConnectionStatusResult.setWorkspacesConnectionStatus(workspacesConnectionStatusUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkspacesConnectionStatusResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -69,6 +70,13 @@ public class DescribeWorkspacesConnectionStatusResultJsonUnmarshaller implements
         return describeWorkspacesConnectionStatusResult;
     }
 
+    private final Unmarshaller<java.util.List<WorkspaceConnectionStatus>, JsonUnmarshallerContext> workspacesConnectionStatusUnmarshaller = new CachingJsonUnmarshaller<java.util.List<WorkspaceConnectionStatus>>() {
+        @Override
+        protected Unmarshaller<java.util.List<WorkspaceConnectionStatus>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<WorkspaceConnectionStatus>(WorkspaceConnectionStatusJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeWorkspacesConnectionStatusResultJsonUnmarshaller instance;
 
     public static DescribeWorkspacesConnectionStatusResultJsonUnmarshaller getInstance() {
@@ -47,13 +47,15 @@ public class DescribeWorkspacesResultJsonUnmarshaller implements Unmarshaller<De
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Workspaces", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspacesResult.setWorkspaces(new ListUnmarshaller<Workspace>(WorkspaceJsonUnmarshaller.getInstance()).unmarshall(context));
-                }
-                if (context.testExpression("NextToken", targetDepth)) {
-                    context.nextToken();
-                    describeWorkspacesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Workspaces".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkspacesResult.setWorkspaces(workspacesUnmarshaller.unmarshall(context));
+                    } else if ("NextToken".equals(fieldName)) {
+                        context.nextToken();
+                        describeWorkspacesResult.setNextToken(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -67,6 +69,13 @@ public class DescribeWorkspacesResultJsonUnmarshaller implements Unmarshaller<De
         return describeWorkspacesResult;
     }
 
+    private final Unmarshaller<java.util.List<Workspace>, JsonUnmarshallerContext> workspacesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Workspace>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Workspace>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Workspace>(WorkspaceJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static DescribeWorkspacesResultJsonUnmarshaller instance;
 
     public static DescribeWorkspacesResultJsonUnmarshaller getInstance() {
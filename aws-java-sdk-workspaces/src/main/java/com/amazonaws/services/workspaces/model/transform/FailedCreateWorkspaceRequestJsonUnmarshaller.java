@@ -47,17 +47,18 @@ public class FailedCreateWorkspaceRequestJsonUnmarshaller implements Unmarshalle
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("WorkspaceRequest", targetDepth)) {
-                    context.nextToken();
-                    failedCreateWorkspaceRequest.setWorkspaceRequest(WorkspaceRequestJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    failedCreateWorkspaceRequest.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    failedCreateWorkspaceRequest.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("WorkspaceRequest".equals(fieldName)) {
+                        context.nextToken();
+                        failedCreateWorkspaceRequest.setWorkspaceRequest(WorkspaceRequestJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        failedCreateWorkspaceRequest.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        failedCreateWorkspaceRequest.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
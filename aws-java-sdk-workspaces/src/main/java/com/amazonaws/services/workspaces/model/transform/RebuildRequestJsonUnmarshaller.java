@@ -47,9 +47,12 @@ public class RebuildRequestJsonUnmarshaller implements Unmarshaller<RebuildReque
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("WorkspaceId", targetDepth)) {
-                    context.nextToken();
-                    rebuildRequest.setWorkspaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("WorkspaceId".equals(fieldName)) {
+                        context.nextToken();
+                        rebuildRequest.setWorkspaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,10 +47,12 @@ public class RebuildWorkspacesResultJsonUnmarshaller implements Unmarshaller<Reb
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("FailedRequests", targetDepth)) {
-                    context.nextToken();
-                    rebuildWorkspacesResult.setFailedRequests(new ListUnmarshaller<FailedWorkspaceChangeRequest>(FailedWorkspaceChangeRequestJsonUnmarshaller
-                            .getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("FailedRequests".equals(fieldName)) {
+                        context.nextToken();
+                        rebuildWorkspacesResult.setFailedRequests(failedRequestsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -64,6 +66,13 @@ public class RebuildWorkspacesResultJsonUnmarshaller implements Unmarshaller<Reb
         return rebuildWorkspacesResult;
     }
 
+    private final Unmarshaller<java.util.List<FailedWorkspaceChangeRequest>, JsonUnmarshallerContext> failedRequestsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<FailedWorkspaceChangeRequest>>() {
+        @Override
+        protected Unmarshaller<java.util.List<FailedWorkspaceChangeRequest>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<FailedWorkspaceChangeRequest>(FailedWorkspaceChangeRequestJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static RebuildWorkspacesResultJsonUnmarshaller instance;
 
     public static RebuildWorkspacesResultJsonUnmarshaller getInstance() {
@@ -47,9 +47,12 @@ public class UserStorageJsonUnmarshaller implements Unmarshaller<UserStorage, Js
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("Capacity", targetDepth)) {
-                    context.nextToken();
-                    userStorage.setCapacity(context.getUnmarshaller(String.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("Capacity".equals(fieldName)) {
+                        context.nextToken();
+                        userStorage.setCapacity(context.getUnmarshaller(String.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,29 +47,27 @@ public class WorkspaceBundleJsonUnmarshaller implements Unmarshaller<WorkspaceBu
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("BundleId", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setBundleId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Name", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Owner", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Description", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserStorage", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setUserStorage(UserStorageJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("ComputeType", targetDepth)) {
-                    context.nextToken();
-                    workspaceBundle.setComputeType(ComputeTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("BundleId".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceBundle.setBundleId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Name".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceBundle.setName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Owner".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceBundle.setOwner(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Description".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceBundle.setDescription(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserStorage".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceBundle.setUserStorage(UserStorageJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("ComputeType".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceBundle.setComputeType(ComputeTypeJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -47,21 +47,21 @@ public class WorkspaceConnectionStatusJsonUnmarshaller implements Unmarshaller<W
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("WorkspaceId", targetDepth)) {
-                    context.nextToken();
-                    workspaceConnectionStatus.setWorkspaceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConnectionState", targetDepth)) {
-                    context.nextToken();
-                    workspaceConnectionStatus.setConnectionState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ConnectionStateCheckTimestamp", targetDepth)) {
-                    context.nextToken();
-                    workspaceConnectionStatus.setConnectionStateCheckTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
-                }
-                if (context.testExpression("LastKnownUserConnectionTimestamp", targetDepth)) {
-                    context.nextToken();
-                    workspaceConnectionStatus.setLastKnownUserConnectionTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("WorkspaceId".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceConnectionStatus.setWorkspaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConnectionState".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceConnectionStatus.setConnectionState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ConnectionStateCheckTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceConnectionStatus.setConnectionStateCheckTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    } else if ("LastKnownUserConnectionTimestamp".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceConnectionStatus.setLastKnownUserConnectionTimestamp(context.getUnmarshaller(java.util.Date.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
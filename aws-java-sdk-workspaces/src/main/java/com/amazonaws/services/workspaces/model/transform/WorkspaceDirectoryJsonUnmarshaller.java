@@ -47,53 +47,45 @@ public class WorkspaceDirectoryJsonUnmarshaller implements Unmarshaller<Workspac
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("Alias", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setAlias(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DirectoryName", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setDirectoryName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RegistrationCode", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setRegistrationCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetIds", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setSubnetIds(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("DnsIpAddresses", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setDnsIpAddresses(new ListUnmarshaller<String>(context.getUnmarshaller(String.class)).unmarshall(context));
-                }
-                if (context.testExpression("CustomerUserName", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setCustomerUserName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IamRoleId", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setIamRoleId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DirectoryType", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setDirectoryType(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("WorkspaceSecurityGroupId", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setWorkspaceSecurityGroupId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("WorkspaceCreationProperties", targetDepth)) {
-                    context.nextToken();
-                    workspaceDirectory.setWorkspaceCreationProperties(DefaultWorkspaceCreationPropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryId".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("Alias".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setAlias(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DirectoryName".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setDirectoryName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RegistrationCode".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setRegistrationCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetIds".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setSubnetIds(subnetIdsUnmarshaller.unmarshall(context));
+                    } else if ("DnsIpAddresses".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setDnsIpAddresses(dnsIpAddressesUnmarshaller.unmarshall(context));
+                    } else if ("CustomerUserName".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setCustomerUserName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IamRoleId".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setIamRoleId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DirectoryType".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setDirectoryType(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("WorkspaceSecurityGroupId".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setWorkspaceSecurityGroupId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("WorkspaceCreationProperties".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceDirectory.setWorkspaceCreationProperties(DefaultWorkspaceCreationPropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -107,6 +99,19 @@ public class WorkspaceDirectoryJsonUnmarshaller implements Unmarshaller<Workspac
         return workspaceDirectory;
     }
 
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> subnetIdsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+    private final Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> dnsIpAddressesUnmarshaller = new CachingJsonUnmarshaller<java.util.List<String>>() {
+        @Override
+        protected Unmarshaller<java.util.List<String>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<String>(context.getUnmarshaller(String.class));
+        }
+    };
+
     private static WorkspaceDirectoryJsonUnmarshaller instance;
 
     public static WorkspaceDirectoryJsonUnmarshaller getInstance() {
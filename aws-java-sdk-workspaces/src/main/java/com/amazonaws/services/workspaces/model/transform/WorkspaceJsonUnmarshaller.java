@@ -47,61 +47,51 @@ public class WorkspaceJsonUnmarshaller implements Unmarshaller<Workspace, JsonUn
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("WorkspaceId", targetDepth)) {
-                    context.nextToken();
-                    workspace.setWorkspaceId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    workspace.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserName", targetDepth)) {
-                    context.nextToken();
-                    workspace.setUserName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("IpAddress", targetDepth)) {
-                    context.nextToken();
-                    workspace.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("State", targetDepth)) {
-                    context.nextToken();
-                    workspace.setState(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BundleId", targetDepth)) {
-                    context.nextToken();
-                    workspace.setBundleId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("SubnetId", targetDepth)) {
-                    context.nextToken();
-                    workspace.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorMessage", targetDepth)) {
-                    context.nextToken();
-                    workspace.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ErrorCode", targetDepth)) {
-                    context.nextToken();
-                    workspace.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("ComputerName", targetDepth)) {
-                    context.nextToken();
-                    workspace.setComputerName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeEncryptionKey", targetDepth)) {
-                    context.nextToken();
-                    workspace.setVolumeEncryptionKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserVolumeEncryptionEnabled", targetDepth)) {
-                    context.nextToken();
-                    workspace.setUserVolumeEncryptionEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RootVolumeEncryptionEnabled", targetDepth)) {
-                    context.nextToken();
-                    workspace.setRootVolumeEncryptionEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("WorkspaceProperties", targetDepth)) {
-                    context.nextToken();
-                    workspace.setWorkspaceProperties(WorkspacePropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("WorkspaceId".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setWorkspaceId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("DirectoryId".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserName".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setUserName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("IpAddress".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setIpAddress(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("State".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setState(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BundleId".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setBundleId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("SubnetId".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setSubnetId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorMessage".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setErrorMessage(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ErrorCode".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setErrorCode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("ComputerName".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setComputerName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeEncryptionKey".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setVolumeEncryptionKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserVolumeEncryptionEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setUserVolumeEncryptionEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("RootVolumeEncryptionEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setRootVolumeEncryptionEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("WorkspaceProperties".equals(fieldName)) {
+                        context.nextToken();
+                        workspace.setWorkspaceProperties(WorkspacePropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
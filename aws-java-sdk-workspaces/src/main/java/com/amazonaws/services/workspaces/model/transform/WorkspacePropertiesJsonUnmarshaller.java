@@ -47,13 +47,15 @@ public class WorkspacePropertiesJsonUnmarshaller implements Unmarshaller<Workspa
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("RunningMode", targetDepth)) {
-                    context.nextToken();
-                    workspaceProperties.setRunningMode(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("RunningModeAutoStopTimeoutInMinutes", targetDepth)) {
-                    context.nextToken();
-                    workspaceProperties.setRunningModeAutoStopTimeoutInMinutes(context.getUnmarshaller(Integer.class).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("RunningMode".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceProperties.setRunningMode(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("RunningModeAutoStopTimeoutInMinutes".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceProperties.setRunningModeAutoStopTimeoutInMinutes(context.getUnmarshaller(Integer.class).unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
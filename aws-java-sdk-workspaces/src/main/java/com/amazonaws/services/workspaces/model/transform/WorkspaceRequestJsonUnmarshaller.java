@@ -47,37 +47,33 @@ public class WorkspaceRequestJsonUnmarshaller implements Unmarshaller<WorkspaceR
                 break;
 
             if (token == FIELD_NAME || token == START_OBJECT) {
-                if (context.testExpression("DirectoryId", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserName", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setUserName(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("BundleId", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setBundleId(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("VolumeEncryptionKey", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setVolumeEncryptionKey(context.getUnmarshaller(String.class).unmarshall(context));
-                }
-                if (context.testExpression("UserVolumeEncryptionEnabled", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setUserVolumeEncryptionEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("RootVolumeEncryptionEnabled", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setRootVolumeEncryptionEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
-                }
-                if (context.testExpression("WorkspaceProperties", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setWorkspaceProperties(WorkspacePropertiesJsonUnmarshaller.getInstance().unmarshall(context));
-                }
-                if (context.testExpression("Tags", targetDepth)) {
-                    context.nextToken();
-                    workspaceRequest.setTags(new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance()).unmarshall(context));
+                if (context.getCurrentDepth() == targetDepth) {
+                    String fieldName = context.getCurrentParentElement();
+                    if ("DirectoryId".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceRequest.setDirectoryId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserName".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceRequest.setUserName(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("BundleId".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceRequest.setBundleId(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("VolumeEncryptionKey".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceRequest.setVolumeEncryptionKey(context.getUnmarshaller(String.class).unmarshall(context));
+                    } else if ("UserVolumeEncryptionEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceRequest.setUserVolumeEncryptionEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("RootVolumeEncryptionEnabled".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceRequest.setRootVolumeEncryptionEnabled(context.getUnmarshaller(Boolean.class).unmarshall(context));
+                    } else if ("WorkspaceProperties".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceRequest.setWorkspaceProperties(WorkspacePropertiesJsonUnmarshaller.getInstance().unmarshall(context));
+                    } else if ("Tags".equals(fieldName)) {
+                        context.nextToken();
+                        workspaceRequest.setTags(tagsUnmarshaller.unmarshall(context));
+                    }
                 }
             } else if (token == END_ARRAY || token == END_OBJECT) {
                 if (context.getLastParsedParentElement() == null || context.getLastParsedParentElement().equals(currentParentElement)) {
@@ -91,6 +87,13 @@ public class WorkspaceRequestJsonUnmarshaller implements Unmarshaller<WorkspaceR
         return workspaceRequest;
     }
 
+    private final Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> tagsUnmarshaller = new CachingJsonUnmarshaller<java.util.List<Tag>>() {
+        @Override
+        protected Unmarshaller<java.util.List<Tag>, JsonUnmarshallerContext> createUnmarshaller(JsonUnmarshallerContext context) {
+            return new ListUnmarshaller<Tag>(TagJsonUnmarshaller.getInstance());
+        }
+    };
+
     private static WorkspaceRequestJsonUnmarshaller instance;
 
     public static WorkspaceRequestJsonUnmarshaller getInstance() {